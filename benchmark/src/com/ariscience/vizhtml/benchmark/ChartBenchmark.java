@@ -0,0 +1,153 @@
+package com.ariscience.vizhtml.benchmark;
+
+import com.ariscience.vizhtml.ChartBase;
+import com.ariscience.vizhtml.error.InconsistentDataException;
+import com.ariscience.vizhtml.error.NullLabelException;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <pre>
+ * JMH benchmarks of the generate() paths of every chart
+ *
+ * Parameters: chart (see {@link ChartFactory#S_CHARTS}), points (total data points, 1e2 ... 1e7), series (1 ... 100)
+ * and info (with or without info strings). Reports throughput, the output size (outputBytes) and, with the gc
+ * profiler (-prof gc, used by the run target of benchmark/build.xml), the allocation rate per operation.
+ *
+ * The full parameter matrix takes many hours, select a subset with JMH options e.g.
+ * java -jar build/vizhtml-benchmarks.jar -p chart=plotly.LineChart -p points=1000000 -prof gc
+ * </pre>
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+public class ChartBenchmark {
+
+    /**
+     * chart name (package.class below com.ariscience.vizhtml)
+     */
+    @Param({"gchart.BarHorizontalChart", "gchart.BarVerticalChart", "gchart.BubbleChart", "gchart.HistogramChart",
+            "gchart.LineChart", "gchart.PieChart", "gchart.ScatterChart",
+            "plotly.BarHorizontalChart", "plotly.BarVerticalChart", "plotly.BubbleChart", "plotly.HeatmapChart",
+            "plotly.HistogramChart", "plotly.LineChart", "plotly.PieChart", "plotly.ScatterChart",
+            "plotly.ScatterChart3D",
+            "d3.Graph2D"})
+    public String chart;
+
+    /**
+     * total number of data points
+     */
+    @Param({"100", "10000", "1000000", "10000000"})
+    public int points;
+
+    /**
+     * number of series
+     */
+    @Param({"1", "10", "100"})
+    public int series;
+
+    /**
+     * true to add info strings
+     */
+    @Param({"false", "true"})
+    public boolean info;
+
+    /**
+     * the chart under test
+     */
+    private ChartBase m_chart;
+
+    /**
+     * Output size reported next to the throughput
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Output {
+
+        /**
+         * size of the generated page (chars for generateString, UTF-8 bytes for generateStream)
+         */
+        public long outputBytes;
+    }
+
+    /**
+     * Creates the chart (data generation is not measured)
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        m_chart = ChartFactory.create(chart, points, series, info);
+    }
+
+    /**
+     * Generates the page as String, the default path
+     *
+     * @param output output size counter
+     * @return the page (consumed by JMH)
+     * @throws NullLabelException        if label not specified
+     * @throws InconsistentDataException if data provided is inconsistent for chart type
+     */
+    @Benchmark
+    public String generateString(final Output output) throws NullLabelException, InconsistentDataException {
+        final String html = m_chart.generate();
+        output.outputBytes = html.length();
+        return html;
+    }
+
+    /**
+     * Generates the page as UTF-8 into a stream that only counts the bytes, the path used by batch jobs
+     *
+     * @param output output size counter
+     * @return number of bytes written (consumed by JMH)
+     * @throws NullLabelException        if label not specified
+     * @throws InconsistentDataException if data provided is inconsistent for chart type
+     * @throws IOException               never as the stream does not write anywhere
+     */
+    @Benchmark
+    public long generateStream(final Output output) throws NullLabelException, InconsistentDataException, IOException {
+        final CountingOutputStream out = new CountingOutputStream();
+        m_chart.generate(out);
+        output.outputBytes = out.m_count;
+        return out.m_count;
+    }
+
+    /**
+     * Stream that discards its bytes and counts them
+     */
+    private static final class CountingOutputStream extends OutputStream {
+
+        /**
+         * number of bytes written
+         */
+        private long m_count;
+
+        @Override
+        public void write(final int b) {
+            m_count++;
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length) {
+            m_count += length;
+        }
+    }
+}
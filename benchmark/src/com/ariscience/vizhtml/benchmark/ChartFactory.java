@@ -0,0 +1,235 @@
+package com.ariscience.vizhtml.benchmark;
+
+import com.ariscience.vizhtml.ChartBase;
+import com.ariscience.vizhtml.common.EdgeD;
+import com.ariscience.vizhtml.common.GraphD;
+import com.ariscience.vizhtml.common.Vertex;
+import com.ariscience.vizhtml.d3.Graph2D;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * <pre>
+ * Creates every chart of the gchart, plotly and d3 packages with generated data for the benchmarks
+ *
+ * points is the total number of data points, spread over the series (points / series values per series), so
+ * memory stays bounded for any combination of the benchmark parameters. Charts that only draw one series get all
+ * points in that series. Data is random but seeded, so every run generates the same pages.
+ * </pre>
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+public final class ChartFactory {
+
+    /**
+     * names of all charts (package.class below com.ariscience.vizhtml)
+     */
+    public static final String[] S_CHARTS = {
+            "gchart.BarHorizontalChart", "gchart.BarVerticalChart", "gchart.BubbleChart", "gchart.HistogramChart",
+            "gchart.LineChart", "gchart.PieChart", "gchart.ScatterChart",
+            "plotly.BarHorizontalChart", "plotly.BarVerticalChart", "plotly.BubbleChart", "plotly.HeatmapChart",
+            "plotly.HistogramChart", "plotly.LineChart", "plotly.PieChart", "plotly.ScatterChart",
+            "plotly.ScatterChart3D",
+            "d3.Graph2D"};
+
+    /**
+     * number of distinct info strings, repeated like the tooltips of real reports
+     */
+    private static final int S_DISTINCT_INFO = 50;
+
+    /**
+     * random seed of the generated data
+     */
+    private static final long S_SEED = 20210101L;
+
+    /**
+     * prevent external instantiation
+     */
+    private ChartFactory() {
+    }
+
+    /**
+     * Creates a chart with generated data
+     *
+     * @param chart chart name, one of {@link #S_CHARTS}
+     * @param points total number of data points
+     * @param series number of series (charts with a single series ignore it)
+     * @param info true to add an info (tooltip) string to every point where the chart supports it
+     * @return the chart ready to generate
+     */
+    public static ChartBase create(final String chart, final int points, final int series, final boolean info) {
+        final Random random = new Random(S_SEED);
+        final int length = Math.max(1, points / series);
+        switch (chart) {
+            case "gchart.BarHorizontalChart":
+                return new com.ariscience.vizhtml.gchart.BarHorizontalChart(labels("y", length), boxed(values(random, series, length)), seriesLabels(series));
+            case "gchart.BarVerticalChart":
+                return new com.ariscience.vizhtml.gchart.BarVerticalChart(labels("x", length), boxed(values(random, series, length)), seriesLabels(series));
+            case "gchart.BubbleChart":
+                return new com.ariscience.vizhtml.gchart.BubbleChart(labels("b", points), boxed(values(random, 1, points)),
+                        boxed(values(random, 1, points)), boxed(values(random, 1, points)), groupLabels(series, points));
+            case "gchart.HistogramChart":
+                return new com.ariscience.vizhtml.gchart.HistogramChart(labels("h", points), boxed(values(random, 1, points)));
+            case "gchart.LineChart":
+                return new com.ariscience.vizhtml.gchart.LineChart(labels("x", length), values(random, series, length), seriesLabels(series),
+                        info ? info(series, length) : null);
+            case "gchart.PieChart":
+                return new com.ariscience.vizhtml.gchart.PieChart(new String[][]{{"Label", "Value"}}, labels("p", points), boxed(values(random, 1, points)));
+            case "gchart.ScatterChart":
+                return new com.ariscience.vizhtml.gchart.ScatterChart(boxed(values(random, 1, points)), boxed(values(random, 1, points)));
+            case "plotly.BarHorizontalChart":
+                return new com.ariscience.vizhtml.plotly.BarHorizontalChart(labels("y", points), boxed(values(random, 1, points)), info(1, points, info));
+            case "plotly.BarVerticalChart":
+                return new com.ariscience.vizhtml.plotly.BarVerticalChart(labels("x", points), boxed(values(random, 1, points)), info(1, points, info));
+            case "plotly.BubbleChart": {
+                final com.ariscience.vizhtml.plotly.BubbleChart bubble = new com.ariscience.vizhtml.plotly.BubbleChart(values(random, 1, points),
+                        values(random, 1, points), values(random, 1, points));
+                bubble.set_info(info(1, points, info));
+                return bubble;
+            }
+            case "plotly.HeatmapChart":
+                return new com.ariscience.vizhtml.plotly.HeatmapChart(labels("x", length), labels("y", series), values(random, series, length),
+                        info ? info(series, length) : null);
+            case "plotly.HistogramChart":
+                return new com.ariscience.vizhtml.plotly.HistogramChart(boxed(values(random, series, length)), seriesLabels(series), info(series, length, info));
+            case "plotly.LineChart": {
+                final com.ariscience.vizhtml.plotly.LineChart line = new com.ariscience.vizhtml.plotly.LineChart(values(random, 1, points), values(random, 1, points));
+                line.set_info(info(1, points, info));
+                return line;
+            }
+            case "plotly.PieChart":
+                return new com.ariscience.vizhtml.plotly.PieChart(labels("p", points), boxed(values(random, 1, points)), info(1, points, info));
+            case "plotly.ScatterChart": {
+                final com.ariscience.vizhtml.plotly.ScatterChart scatter = new com.ariscience.vizhtml.plotly.ScatterChart(values(random, 1, points), values(random, 1, points));
+                scatter.set_info(info(1, points, info));
+                return scatter;
+            }
+            case "plotly.ScatterChart3D":
+                return new com.ariscience.vizhtml.plotly.ScatterChart3D(values(random, series, length), values(random, series, length),
+                        values(random, series, length), info(series, length, info));
+            case "d3.Graph2D":
+                return new Graph2D(graph(random, points, info));
+            default:
+                throw new IllegalArgumentException("Unknown chart " + chart);
+        }
+    }
+
+    /**
+     * @param random random source
+     * @param series number of series
+     * @param length values per series
+     * @return random values rounded to 2 decimals (like measured data)
+     */
+    private static double[][] values(final Random random, final int series, final int length) {
+        final double[][] values = new double[series][length];
+        for (int s = 0; s < series; s++) {
+            for (int i = 0; i < length; i++) {
+                values[s][i] = Math.round(random.nextGaussian() * 10000) / 100.0;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * @param values primitive values
+     * @return boxed copy of the values
+     */
+    private static Number[][] boxed(final double[][] values) {
+        final Number[][] boxed = new Number[values.length][];
+        for (int s = 0; s < values.length; s++) {
+            boxed[s] = new Number[values[s].length];
+            for (int i = 0; i < values[s].length; i++) {
+                boxed[s][i] = values[s][i];
+            }
+        }
+        return boxed;
+    }
+
+    /**
+     * @param prefix label prefix
+     * @param length number of labels
+     * @return single row of labels e.g. x0, x1 ...
+     */
+    private static String[][] labels(final String prefix, final int length) {
+        final String[][] labels = new String[1][length];
+        for (int i = 0; i < length; i++) {
+            labels[0][i] = prefix + i;
+        }
+        return labels;
+    }
+
+    /**
+     * @param series number of series
+     * @return series labels
+     */
+    private static String[] seriesLabels(final int series) {
+        return labels("Series ", series)[0];
+    }
+
+    /**
+     * @param groups number of groups
+     * @param length number of points
+     * @return group label of each point
+     */
+    private static String[] groupLabels(final int groups, final int length) {
+        final String[] labels = new String[length];
+        for (int i = 0; i < length; i++) {
+            labels[i] = "Group " + (i % groups);
+        }
+        return labels;
+    }
+
+    /**
+     * @param series number of series
+     * @param length info strings per series
+     * @return repetitive info strings
+     */
+    private static String[][] info(final int series, final int length) {
+        final String[][] info = new String[series][length];
+        for (int s = 0; s < series; s++) {
+            for (int i = 0; i < length; i++) {
+                info[s][i] = "Sample " + (i % S_DISTINCT_INFO) + " of batch " + s;
+            }
+        }
+        return info;
+    }
+
+    /**
+     * @param series number of series
+     * @param length info strings per series
+     * @param info false for empty info strings (charts that need info arrays)
+     * @return info strings
+     */
+    private static String[][] info(final int series, final int length, final boolean info) {
+        if (info) {
+            return info(series, length);
+        }
+        final String[][] empty = new String[series][length];
+        for (int s = 0; s < series; s++) {
+            Arrays.fill(empty[s], "");
+        }
+        return empty;
+    }
+
+    /**
+     * @param random random source
+     * @param vertices number of vertices
+     * @param info true for vertex information strings
+     * @return ring graph with a random chord per vertex
+     */
+    private static GraphD graph(final Random random, final int vertices, final boolean info) {
+        final GraphD graph = new GraphD("benchmark");
+        final Vertex[] vertex = new Vertex[vertices];
+        for (int i = 0; i < vertices; i++) {
+            vertex[i] = new Vertex(random.nextDouble() * 1000, random.nextDouble() * 1000, Double.NaN, 5,
+                    info ? "Vertex " + (i % S_DISTINCT_INFO) : "", null);
+            graph.addVertex(vertex[i]);
+        }
+        for (int i = 0; i < vertices; i++) {
+            graph.addEdge(new EdgeD(vertex[i], vertex[(i + 1) % vertices]), false);
+            graph.addEdge(new EdgeD(vertex[i], vertex[random.nextInt(vertices)]), false);
+        }
+        return graph;
+    }
+}
@@ -0,0 +1,759 @@
+(function(q,ga){"object"===typeof module&&"object"===typeof module.exports?module.exports=q.document?ga(q,!0):function(q){if(!q.document)throw Error("jQuery requires a window with a document");return ga(q)}:ga(q)})("undefined"!==typeof window?window:this,function(q,ga){function Da(a){var b="length"in a&&a.length,c=d.type(a);return"function"===c||d.isWindow(a)?!1:1===a.nodeType&&b?!0:"array"===c||0===b||"number"===typeof b&&0<b&&b-1 in a}function Ea(a,b,c){if(d.isFunction(b))return d.grep(a,function(a,
+d){return!!b.call(a,d,a)!==c});if(b.nodeType)return d.grep(a,function(a){return a===b!==c});if("string"===typeof b){if(Zb.test(b))return d.filter(b,a,c);b=d.filter(b,a)}return d.grep(a,function(a){return 0<=d.inArray(a,b)!==c})}function Ya(a,b){do a=a[b];while(a&&1!==a.nodeType);return a}function $b(a){var b=Za[a]={};d.each(a.match(K)||[],function(a,d){b[d]=!0});return b}function $a(){n.addEventListener?(n.removeEventListener("DOMContentLoaded",D,!1),q.removeEventListener("load",D,!1)):(n.detachEvent("onreadystatechange",
+D),q.detachEvent("onload",D))}function D(){if(n.addEventListener||"load"===event.type||"complete"===n.readyState)$a(),d.ready()}function ab(a,b,c){if(void 0===c&&1===a.nodeType)if(c="data-"+b.replace(ac,"-$1").toLowerCase(),c=a.getAttribute(c),"string"===typeof c){try{c="true"===c?!0:"false"===c?!1:"null"===c?null:+c+""===c?+c:bc.test(c)?d.parseJSON(c):c}catch(e){}d.data(a,b,c)}else c=void 0;return c}function Fa(a){for(var b in a)if(("data"!==b||!d.isEmptyObject(a[b]))&&"toJSON"!==b)return!1;return!0}
+function bb(a,b,c,e){if(d.acceptData(a)){var f=d.expando,g=a.nodeType,h=g?d.cache:a,k=g?a[f]:a[f]&&f;if(k&&h[k]&&(e||h[k].data)||void 0!==c||"string"!==typeof b){k||(k=g?a[f]=R.pop()||d.guid++:f);h[k]||(h[k]=g?{}:{toJSON:d.noop});if("object"===typeof b||"function"===typeof b)e?h[k]=d.extend(h[k],b):h[k].data=d.extend(h[k].data,b);a=h[k];e||(a.data||(a.data={}),a=a.data);void 0!==c&&(a[d.camelCase(b)]=c);"string"===typeof b?(c=a[b],null==c&&(c=a[d.camelCase(b)])):c=a;return c}}}function cb(a,b,c){if(d.acceptData(a)){var e,
+f,g=a.nodeType,h=g?d.cache:a,k=g?a[d.expando]:d.expando;if(h[k]){if(b&&(e=c?h[k]:h[k].data)){d.isArray(b)?b=b.concat(d.map(b,d.camelCase)):b in e?b=[b]:(b=d.camelCase(b),b=b in e?[b]:b.split(" "));for(f=b.length;f--;)delete e[b[f]];if(c?!Fa(e):!d.isEmptyObject(e))return}if(!c&&(delete h[k].data,!Fa(h[k])))return;g?d.cleanData([a],!0):p.deleteExpando||h!=h.window?delete h[k]:h[k]=null}}}function V(){return!0}function W(){return!1}function db(){try{return n.activeElement}catch(a){}}function eb(a){var b=
+fb.split("|");a=a.createDocumentFragment();if(a.createElement)for(;b.length;)a.createElement(b.pop());return a}function w(a,b){var c,e,f=0,g="undefined"!==typeof a.getElementsByTagName?a.getElementsByTagName(b||"*"):"undefined"!==typeof a.querySelectorAll?a.querySelectorAll(b||"*"):void 0;if(!g)for(g=[],c=a.childNodes||a;null!=(e=c[f]);f++)!b||d.nodeName(e,b)?g.push(e):d.merge(g,w(e,b));return void 0===b||b&&d.nodeName(a,b)?d.merge([a],g):g}function cc(a){Ga.test(a.type)&&(a.defaultChecked=a.checked)}
+function gb(a,b){return d.nodeName(a,"table")&&d.nodeName(11!==b.nodeType?b:b.firstChild,"tr")?a.getElementsByTagName("tbody")[0]||a.appendChild(a.ownerDocument.createElement("tbody")):a}function hb(a){a.type=(null!==d.find.attr(a,"type"))+"/"+a.type;return a}function ib(a){var b=dc.exec(a.type);b?a.type=b[1]:a.removeAttribute("type");return a}function Ha(a,b){for(var c,e=0;null!=(c=a[e]);e++)d._data(c,"globalEval",!b||d._data(b[e],"globalEval"))}function jb(a,b){if(1===b.nodeType&&d.hasData(a)){var c,
+e,f;e=d._data(a);var g=d._data(b,e),h=e.events;if(h)for(c in delete g.handle,g.events={},h)for(e=0,f=h[c].length;e<f;e++)d.event.add(b,c,h[c][e]);g.data&&(g.data=d.extend({},g.data))}}function kb(a,b){var c,e=d(b.createElement(a)).appendTo(b.body),f=q.getDefaultComputedStyle&&(c=q.getDefaultComputedStyle(e[0]))?c.display:d.css(e[0],"display");e.detach();return f}function pa(a){var b=n,c=lb[a];c||(c=kb(a,b),"none"!==c&&c||(ha=(ha||d("<iframe frameborder='0' width='0' height='0'/>")).appendTo(b.documentElement),
+b=(ha[0].contentWindow||ha[0].contentDocument).document,b.write(),b.close(),c=kb(a,b),ha.detach()),lb[a]=c);return c}function mb(a,b){return{get:function(){var c=a();if(null!=c)if(c)delete this.get;else return(this.get=b).apply(this,arguments)}}}function nb(a,b){if(b in a)return b;for(var c=b.charAt(0).toUpperCase()+b.slice(1),d=b,f=ob.length;f--;)if(b=ob[f]+c,b in a)return b;return d}function pb(a,b){for(var c,e,f,g=[],h=0,k=a.length;h<k;h++)e=a[h],e.style&&(g[h]=d._data(e,"olddisplay"),c=e.style.display,
+b?(g[h]||"none"!==c||(e.style.display=""),""===e.style.display&&ia(e)&&(g[h]=d._data(e,"olddisplay",pa(e.nodeName)))):(f=ia(e),(c&&"none"!==c||!f)&&d._data(e,"olddisplay",f?c:d.css(e,"display"))));for(h=0;h<k;h++)e=a[h],!e.style||b&&"none"!==e.style.display&&""!==e.style.display||(e.style.display=b?g[h]||"":"none");return a}function qb(a,b,c){return(a=ec.exec(b))?Math.max(0,a[1]-(c||0))+(a[2]||"px"):b}function rb(a,b,c,e,f){b=c===(e?"border":"content")?4:"width"===b?1:0;for(var g=0;4>b;b+=2)"margin"===
+c&&(g+=d.css(a,c+M[b],!0,f)),e?("content"===c&&(g-=d.css(a,"padding"+M[b],!0,f)),"margin"!==c&&(g-=d.css(a,"border"+M[b]+"Width",!0,f))):(g+=d.css(a,"padding"+M[b],!0,f),"padding"!==c&&(g+=d.css(a,"border"+M[b]+"Width",!0,f)));return g}function sb(a,b,c){var e=!0,f="width"===b?a.offsetWidth:a.offsetHeight,g=X(a),h=p.boxSizing&&"border-box"===d.css(a,"boxSizing",!1,g);if(0>=f||null==f){f=F(a,b,g);if(0>f||null==f)f=a.style[b];if(qa.test(f))return f;e=h&&(p.boxSizingReliable()||f===a.style[b]);f=parseFloat(f)||
+0}return f+rb(a,b,c||(h?"border":"content"),e,g)+"px"}function B(a,b,c,d,f){return new B.prototype.init(a,b,c,d,f)}function tb(){setTimeout(function(){Y=void 0});return Y=d.now()}function ra(a,b){var c,d={height:a},f=0;for(b=b?1:0;4>f;f+=2-b)c=M[f],d["margin"+c]=d["padding"+c]=a;b&&(d.opacity=d.width=a);return d}function ub(a,b,c){for(var d,f=(ja[b]||[]).concat(ja["*"]),g=0,h=f.length;g<h;g++)if(d=f[g].call(c,b,a))return d}function fc(a,b){var c,e,f,g,h;for(c in a)if(e=d.camelCase(c),f=b[e],g=a[c],
+d.isArray(g)&&(f=g[1],g=a[c]=g[0]),c!==e&&(a[e]=g,delete a[c]),(h=d.cssHooks[e])&&"expand"in h)for(c in g=h.expand(g),delete a[e],g)c in a||(a[c]=g[c],b[c]=f);else b[e]=f}function vb(a,b,c){var e,f=0,g=ca.length,h=d.Deferred().always(function(){delete k.elem}),k=function(){if(e)return!1;for(var b=Y||tb(),b=Math.max(0,l.startTime+l.duration-b),c=1-(b/l.duration||0),d=0,f=l.tweens.length;d<f;d++)l.tweens[d].run(c);h.notifyWith(a,[l,c,b]);if(1>c&&f)return b;h.resolveWith(a,[l]);return!1},l=h.promise({elem:a,
+props:d.extend({},b),opts:d.extend(!0,{specialEasing:{}},c),originalProperties:b,originalOptions:c,startTime:Y||tb(),duration:c.duration,tweens:[],createTween:function(b,c){var e=d.Tween(a,l.opts,b,c,l.opts.specialEasing[b]||l.opts.easing);l.tweens.push(e);return e},stop:function(b){var c=0,d=b?l.tweens.length:0;if(e)return this;for(e=!0;c<d;c++)l.tweens[c].run(1);b?h.resolveWith(a,[l,b]):h.rejectWith(a,[l,b]);return this}});c=l.props;for(fc(c,l.opts.specialEasing);f<g;f++)if(b=ca[f].call(l,a,c,l.opts))return b;
+d.map(c,ub,l);d.isFunction(l.opts.start)&&l.opts.start.call(a,l);d.fx.timer(d.extend(k,{elem:a,anim:l,queue:l.opts.queue}));return l.progress(l.opts.progress).done(l.opts.done,l.opts.complete).fail(l.opts.fail).always(l.opts.always)}function wb(a){return function(b,c){"string"!==typeof b&&(c=b,b="*");var e,f=0,g=b.toLowerCase().match(K)||[];if(d.isFunction(c))for(;e=g[f++];)"+"===e.charAt(0)?(e=e.slice(1)||"*",(a[e]=a[e]||[]).unshift(c)):(a[e]=a[e]||[]).push(c)}}function xb(a,b,c,e){function f(k){var l;
+g[k]=!0;d.each(a[k]||[],function(a,d){var k=d(b,c,e);if("string"===typeof k&&!h&&!g[k])return b.dataTypes.unshift(k),f(k),!1;if(h)return!(l=k)});return l}var g={},h=a===Ia;return f(b.dataTypes[0])||!g["*"]&&f("*")}function Ja(a,b){var c,e,f=d.ajaxSettings.flatOptions||{};for(e in b)void 0!==b[e]&&((f[e]?a:c||(c={}))[e]=b[e]);c&&d.extend(!0,a,c);return a}function Ka(a,b,c,e){var f;if(d.isArray(b))d.each(b,function(b,d){c||gc.test(a)?e(a,d):Ka(a+"["+("object"===typeof d?b:"")+"]",d,c,e)});else if(c||
+"object"!==d.type(b))e(a,b);else for(f in b)Ka(a+"["+f+"]",b[f],c,e)}function yb(){try{return new q.XMLHttpRequest}catch(a){}}function zb(a){return d.isWindow(a)?a:9===a.nodeType?a.defaultView||a.parentWindow:!1}var R=[],N=R.slice,Ab=R.concat,La=R.push,Bb=R.indexOf,sa={},hc=sa.toString,S=sa.hasOwnProperty,p={},d=function(a,b){return new d.fn.init(a,b)},ic=/^[\s\uFEFF\xA0]+|[\s\uFEFF\xA0]+$/g,jc=/^-ms-/,kc=/-([\da-z])/gi,lc=function(a,b){return b.toUpperCase()};d.fn=d.prototype={jquery:"1.11.3",constructor:d,
+selector:"",length:0,toArray:function(){return N.call(this)},get:function(a){return null!=a?0>a?this[a+this.length]:this[a]:N.call(this)},pushStack:function(a){a=d.merge(this.constructor(),a);a.prevObject=this;a.context=this.context;return a},each:function(a,b){return d.each(this,a,b)},map:function(a){return this.pushStack(d.map(this,function(b,c){return a.call(b,c,b)}))},slice:function(){return this.pushStack(N.apply(this,arguments))},first:function(){return this.eq(0)},last:function(){return this.eq(-1)},
+eq:function(a){var b=this.length;a=+a+(0>a?b:0);return this.pushStack(0<=a&&a<b?[this[a]]:[])},end:function(){return this.prevObject||this.constructor(null)},push:La,sort:R.sort,splice:R.splice};d.extend=d.fn.extend=function(){var a,b,c,e,f,g=arguments[0]||{},h=1,k=arguments.length,l=!1;"boolean"===typeof g&&(l=g,g=arguments[h]||{},h++);"object"===typeof g||d.isFunction(g)||(g={});h===k&&(g=this,h--);for(;h<k;h++)if(null!=(f=arguments[h]))for(e in f)a=g[e],c=f[e],g!==c&&(l&&c&&(d.isPlainObject(c)||
+(b=d.isArray(c)))?(b?(b=!1,a=a&&d.isArray(a)?a:[]):a=a&&d.isPlainObject(a)?a:{},g[e]=d.extend(l,a,c)):void 0!==c&&(g[e]=c));return g};d.extend({expando:"jQuery"+("1.11.3"+Math.random()).replace(/\D/g,""),isReady:!0,error:function(a){throw Error(a);},noop:function(){},isFunction:function(a){return"function"===d.type(a)},isArray:Array.isArray||function(a){return"array"===d.type(a)},isWindow:function(a){return null!=a&&a==a.window},isNumeric:function(a){return!d.isArray(a)&&0<=a-parseFloat(a)+1},isEmptyObject:function(a){for(var b in a)return!1;
+return!0},isPlainObject:function(a){var b;if(!a||"object"!==d.type(a)||a.nodeType||d.isWindow(a))return!1;try{if(a.constructor&&!S.call(a,"constructor")&&!S.call(a.constructor.prototype,"isPrototypeOf"))return!1}catch(c){return!1}if(p.ownLast)for(b in a)return S.call(a,b);for(b in a);return void 0===b||S.call(a,b)},type:function(a){return null==a?a+"":"object"===typeof a||"function"===typeof a?sa[hc.call(a)]||"object":typeof a},globalEval:function(a){a&&d.trim(a)&&(q.execScript||function(a){q.eval.call(q,
+a)})(a)},camelCase:function(a){return a.replace(jc,"ms-").replace(kc,lc)},nodeName:function(a,b){return a.nodeName&&a.nodeName.toLowerCase()===b.toLowerCase()},each:function(a,b,c){var d,f=0,g=a.length;d=Da(a);if(c)if(d)for(;f<g&&(d=b.apply(a[f],c),!1!==d);f++);else for(f in a){if(d=b.apply(a[f],c),!1===d)break}else if(d)for(;f<g&&(d=b.call(a[f],f,a[f]),!1!==d);f++);else for(f in a)if(d=b.call(a[f],f,a[f]),!1===d)break;return a},trim:function(a){return null==a?"":(a+"").replace(ic,"")},makeArray:function(a,
+b){var c=b||[];null!=a&&(Da(Object(a))?d.merge(c,"string"===typeof a?[a]:a):La.call(c,a));return c},inArray:function(a,b,c){var d;if(b){if(Bb)return Bb.call(b,a,c);d=b.length;for(c=c?0>c?Math.max(0,d+c):c:0;c<d;c++)if(c in b&&b[c]===a)return c}return-1},merge:function(a,b){for(var c=+b.length,d=0,f=a.length;d<c;)a[f++]=b[d++];if(c!==c)for(;void 0!==b[d];)a[f++]=b[d++];a.length=f;return a},grep:function(a,b,c){for(var d=[],f=0,g=a.length,h=!c;f<g;f++)c=!b(a[f],f),c!==h&&d.push(a[f]);return d},map:function(a,
+b,c){var d,f=0,g=a.length,h=[];if(Da(a))for(;f<g;f++)d=b(a[f],f,c),null!=d&&h.push(d);else for(f in a)d=b(a[f],f,c),null!=d&&h.push(d);return Ab.apply([],h)},guid:1,proxy:function(a,b){var c,e;"string"===typeof b&&(e=a[b],b=a,a=e);if(d.isFunction(a))return c=N.call(arguments,2),e=function(){return a.apply(b||this,c.concat(N.call(arguments)))},e.guid=a.guid=a.guid||d.guid++,e},now:function(){return+new Date},support:p});d.each("Boolean Number String Function Array Date RegExp Object Error".split(" "),
+function(a,b){sa["[object "+b+"]"]=b.toLowerCase()});var fa=function(a){function b(a,b,c,d){var e,f,g,h,k;(b?b.ownerDocument||b:E)!==C&&la(b);b=b||C;c=c||[];h=b.nodeType;if("string"!==typeof a||!a||1!==h&&9!==h&&11!==h)return c;if(!d&&T){if(11!==h&&(e=ra.exec(a)))if(g=e[1])if(9===h)if((f=b.getElementById(g))&&f.parentNode){if(f.id===g)return c.push(f),c}else return c;else{if(b.ownerDocument&&(f=b.ownerDocument.getElementById(g))&&L(b,f)&&f.id===g)return c.push(f),c}else{if(e[2])return da.apply(c,
+b.getElementsByTagName(a)),c;if((g=e[3])&&u.getElementsByClassName)return da.apply(c,b.getElementsByClassName(g)),c}if(u.qsa&&(!A||!A.test(a))){f=e=x;g=b;k=1!==h&&a;if(1===h&&"object"!==b.nodeName.toLowerCase()){h=ua(a);(e=b.getAttribute("id"))?f=e.replace(sa,"\\$&"):b.setAttribute("id",f);f="[id='"+f+"'] ";for(g=h.length;g--;)h[g]=f+p(h[g]);g=ca.test(a)&&t(b.parentNode)||b;k=h.join(",")}if(k)try{return da.apply(c,g.querySelectorAll(k)),c}catch(l){}finally{e||b.removeAttribute("id")}}}return Db(a.replace(O,
+"$1"),b,c,d)}function c(){function a(c,d){b.push(c+" ")>s.cacheLength&&delete a[b.shift()];return a[c+" "]=d}var b=[];return a}function d(a){a[x]=!0;return a}function f(a){var b=C.createElement("div");try{return!!a(b)}catch(c){return!1}finally{b.parentNode&&b.parentNode.removeChild(b)}}function g(a,b){for(var c=a.split("|"),d=a.length;d--;)s.attrHandle[c[d]]=b}function h(a,b){var c=b&&a,d=c&&1===a.nodeType&&1===b.nodeType&&(~b.sourceIndex||-2147483648)-(~a.sourceIndex||-2147483648);if(d)return d;
+if(c)for(;c=c.nextSibling;)if(c===b)return-1;return a?1:-1}function k(a){return function(b){return"input"===b.nodeName.toLowerCase()&&b.type===a}}function l(a){return function(b){var c=b.nodeName.toLowerCase();return("input"===c||"button"===c)&&b.type===a}}function r(a){return d(function(b){b=+b;return d(function(c,d){for(var e,f=a([],c.length,b),g=f.length;g--;)c[e=f[g]]&&(c[e]=!(d[e]=c[e]))})})}function t(a){return a&&"undefined"!==typeof a.getElementsByTagName&&a}function m(){}function p(a){for(var b=
+0,c=a.length,d="";b<c;b++)d+=a[b].value;return d}function n(a,b,c){var d=b.dir,e=c&&"parentNode"===d,f=R++;return b.first?function(b,c,f){for(;b=b[d];)if(1===b.nodeType||e)return a(b,c,f)}:function(b,c,g){var h,k,Ma=[I,f];if(g)for(;b=b[d];){if((1===b.nodeType||e)&&a(b,c,g))return!0}else for(;b=b[d];)if(1===b.nodeType||e){k=b[x]||(b[x]={});if((h=k[d])&&h[0]===I&&h[1]===f)return Ma[2]=h[2];k[d]=Ma;if(Ma[2]=a(b,c,g))return!0}}}function q(a){return 1<a.length?function(b,c,d){for(var e=a.length;e--;)if(!a[e](b,
+c,d))return!1;return!0}:a[0]}function w(a,b,c,d,e){for(var f,g=[],h=0,k=a.length,l=null!=b;h<k;h++)if(f=a[h])if(!c||c(f,d,e))g.push(f),l&&b.push(h);return g}function Na(a,c,f,g,h,k){g&&!g[x]&&(g=Na(g));h&&!h[x]&&(h=Na(h,k));return d(function(d,e,k,l){var m,r,t=[],p=[],s=e.length,z;if(!(z=d)){z=c||"*";for(var n=k.nodeType?[k]:k,Cb=[],q=0,y=n.length;q<y;q++)b(z,n[q],Cb);z=Cb}z=!a||!d&&c?z:w(z,t,a,k,l);n=f?h||(d?a:s||g)?[]:e:z;f&&f(z,n,k,l);if(g)for(m=w(n,p),g(m,[],k,l),k=m.length;k--;)if(r=m[k])n[p[k]]=
+!(z[p[k]]=r);if(d){if(h||a){if(h){m=[];for(k=n.length;k--;)(r=n[k])&&m.push(z[k]=r);h(null,n=[],m,l)}for(k=n.length;k--;)(r=n[k])&&-1<(m=h?ma(d,r):t[k])&&(d[m]=!(e[m]=r))}}else n=w(n===e?n.splice(s,n.length):n),h?h(null,e,n,l):da.apply(e,n)})}function B(a){var b,c,d,e=a.length,f=s.relative[a[0].type];c=f||s.relative[" "];for(var g=f?1:0,h=n(function(a){return a===b},c,!0),k=n(function(a){return-1<ma(b,a)},c,!0),l=[function(a,c,d){a=!f&&(d||c!==D)||((b=c).nodeType?h(a,c,d):k(a,c,d));b=null;return a}];g<
+e;g++)if(c=s.relative[a[g].type])l=[n(q(l),c)];else{c=s.filter[a[g].type].apply(null,a[g].matches);if(c[x]){for(d=++g;d<e&&!s.relative[a[d].type];d++);return Na(1<g&&q(l),1<g&&p(a.slice(0,g-1).concat({value:" "===a[g-2].type?"*":""})).replace(O,"$1"),c,g<d&&B(a.slice(g,d)),d<e&&B(a=a.slice(d)),d<e&&p(a))}l.push(c)}return q(l)}function H(a,c){var f=0<c.length,g=0<a.length,h=function(d,e,h,k,l){var m,r,t,p=0,n="0",z=d&&[],ka=[],q=D,y=d||g&&s.find.TAG("*",l),va=I+=null==q?1:Math.random()||.1,v=y.length;
+for(l&&(D=e!==C&&e);n!==v&&null!=(m=y[n]);n++){if(g&&m){for(r=0;t=a[r++];)if(t(m,e,h)){k.push(m);break}l&&(I=va)}f&&((m=!t&&m)&&p--,d&&z.push(m))}p+=n;if(f&&n!==p){for(r=0;t=c[r++];)t(z,ka,e,h);if(d){if(0<p)for(;n--;)z[n]||ka[n]||(ka[n]=aa.call(k));ka=w(ka)}da.apply(k,ka);l&&!d&&0<ka.length&&1<p+c.length&&b.uniqueSort(k)}l&&(I=va,D=q);return z};return f?d(h):h}var J,u,s,K,va,ua,Oa,Db,D,ea,ta,la,C,G,T,A,v,ya,L,x="sizzle"+1*new Date,E=a.document,I=0,R=0,N=c(),P=c(),Q=c(),M=function(a,b){a===b&&(ta=
+!0);return 0},X={}.hasOwnProperty,F=[],aa=F.pop,ba=F.push,da=F.push,U=F.slice,ma=function(a,b){for(var c=0,d=a.length;c<d;c++)if(a[c]===b)return c;return-1},W="(?:\\\\.|[\\w-]|[^\\x00-\\xa0])+".replace("w","w#"),Y="\\[[\\x20\\t\\r\\n\\f]*((?:\\\\.|[\\w-]|[^\\x00-\\xa0])+)(?:[\\x20\\t\\r\\n\\f]*([*^$|!~]?=)[\\x20\\t\\r\\n\\f]*(?:'((?:\\\\.|[^\\\\'])*)'|\"((?:\\\\.|[^\\\\\"])*)\"|("+W+"))|)[\\x20\\t\\r\\n\\f]*\\]",S=":((?:\\\\.|[\\w-]|[^\\x00-\\xa0])+)(?:\\((('((?:\\\\.|[^\\\\'])*)'|\"((?:\\\\.|[^\\\\\"])*)\")|((?:\\\\.|[^\\\\()[\\]]|"+
+Y+")*)|.*)\\)|)",fa=/[\x20\t\r\n\f]+/g,O=/^[\x20\t\r\n\f]+|((?:^|[^\\])(?:\\.)*)[\x20\t\r\n\f]+$/g,ga=/^[\x20\t\r\n\f]*,[\x20\t\r\n\f]*/,ha=/^[\x20\t\r\n\f]*([>+~]|[\x20\t\r\n\f])[\x20\t\r\n\f]*/,ia=/=[\x20\t\r\n\f]*([^\]'"]*?)[\x20\t\r\n\f]*\]/g,ja=new RegExp(S),na=new RegExp("^"+W+"$"),V={ID:/^#((?:\\.|[\w-]|[^\x00-\xa0])+)/,CLASS:/^\.((?:\\.|[\w-]|[^\x00-\xa0])+)/,TAG:new RegExp("^("+"(?:\\\\.|[\\w-]|[^\\x00-\\xa0])+".replace("w","w*")+")"),ATTR:new RegExp("^"+Y),PSEUDO:new RegExp("^"+S),CHILD:/^:(only|first|last|nth|nth-last)-(child|of-type)(?:\([\x20\t\r\n\f]*(even|odd|(([+-]|)(\d*)n|)[\x20\t\r\n\f]*(?:([+-]|)[\x20\t\r\n\f]*(\d+)|))[\x20\t\r\n\f]*\)|)/i,
+bool:/^(?:checked|selected|async|autofocus|autoplay|controls|defer|disabled|hidden|ismap|loop|multiple|open|readonly|required|scoped)$/i,needsContext:/^[\x20\t\r\n\f]*[>+~]|:(even|odd|eq|gt|lt|nth|first|last)(?:\([\x20\t\r\n\f]*((?:-\d)?\d*)[\x20\t\r\n\f]*\)|)(?=[^-]|$)/i},pa=/^(?:input|select|textarea|button)$/i,qa=/^h\d$/i,wa=/^[^{]+\{\s*\[native \w/,ra=/^(?:#([\w-]+)|(\w+)|\.([\w-]+))$/,ca=/[+~]/,sa=/'|\\/g,Z=/\\([\da-f]{1,6}[\x20\t\r\n\f]?|([\x20\t\r\n\f])|.)/ig,$=function(a,b,c){a="0x"+b-65536;
+return a!==a||c?b:0>a?String.fromCharCode(a+65536):String.fromCharCode(a>>10|55296,a&1023|56320)},oa=function(){la()};try{da.apply(F=U.call(E.childNodes),E.childNodes),F[E.childNodes.length].nodeType}catch(xa){da={apply:F.length?function(a,b){ba.apply(a,U.call(b))}:function(a,b){for(var c=a.length,d=0;a[c++]=b[d++];);a.length=c-1}}}u=b.support={};va=b.isXML=function(a){return(a=a&&(a.ownerDocument||a).documentElement)?"HTML"!==a.nodeName:!1};la=b.setDocument=function(a){var b=a?a.ownerDocument||a:
+E;if(b===C||9!==b.nodeType||!b.documentElement)return C;C=b;G=b.documentElement;(a=b.defaultView)&&a!==a.top&&(a.addEventListener?a.addEventListener("unload",oa,!1):a.attachEvent&&a.attachEvent("onunload",oa));T=!va(b);u.attributes=f(function(a){a.className="i";return!a.getAttribute("className")});u.getElementsByTagName=f(function(a){a.appendChild(b.createComment(""));return!a.getElementsByTagName("*").length});u.getElementsByClassName=wa.test(b.getElementsByClassName);u.getById=f(function(a){G.appendChild(a).id=
+x;return!b.getElementsByName||!b.getElementsByName(x).length});u.getById?(s.find.ID=function(a,b){if("undefined"!==typeof b.getElementById&&T){var c=b.getElementById(a);return c&&c.parentNode?[c]:[]}},s.filter.ID=function(a){var b=a.replace(Z,$);return function(a){return a.getAttribute("id")===b}}):(delete s.find.ID,s.filter.ID=function(a){var b=a.replace(Z,$);return function(a){return(a="undefined"!==typeof a.getAttributeNode&&a.getAttributeNode("id"))&&a.value===b}});s.find.TAG=u.getElementsByTagName?
+function(a,b){if("undefined"!==typeof b.getElementsByTagName)return b.getElementsByTagName(a);if(u.qsa)return b.querySelectorAll(a)}:function(a,b){var c,d=[],e=0,f=b.getElementsByTagName(a);if("*"===a){for(;c=f[e++];)1===c.nodeType&&d.push(c);return d}return f};s.find.CLASS=u.getElementsByClassName&&function(a,b){if(T)return b.getElementsByClassName(a)};v=[];A=[];if(u.qsa=wa.test(b.querySelectorAll))f(function(a){G.appendChild(a).innerHTML="<a id='"+x+"'></a><select id='"+x+"-\f]' msallowcapture=''><option selected=''></option></select>";
+a.querySelectorAll("[msallowcapture^='']").length&&A.push("[*^$]=[\\x20\\t\\r\\n\\f]*(?:''|\"\")");a.querySelectorAll("[selected]").length||A.push("\\[[\\x20\\t\\r\\n\\f]*(?:value|checked|selected|async|autofocus|autoplay|controls|defer|disabled|hidden|ismap|loop|multiple|open|readonly|required|scoped)");a.querySelectorAll("[id~="+x+"-]").length||A.push("~=");a.querySelectorAll(":checked").length||A.push(":checked");a.querySelectorAll("a#"+x+"+*").length||A.push(".#.+[+~]")}),f(function(a){var c=
+b.createElement("input");c.setAttribute("type","hidden");a.appendChild(c).setAttribute("name","D");a.querySelectorAll("[name=d]").length&&A.push("name[\\x20\\t\\r\\n\\f]*[*^$|!~]?=");a.querySelectorAll(":enabled").length||A.push(":enabled",":disabled");a.querySelectorAll("*,:x");A.push(",.*:")});(u.matchesSelector=wa.test(ya=G.matches||G.webkitMatchesSelector||G.mozMatchesSelector||G.oMatchesSelector||G.msMatchesSelector))&&f(function(a){u.disconnectedMatch=ya.call(a,"div");ya.call(a,"[s!='']:x");
+v.push("!=",S)});A=A.length&&new RegExp(A.join("|"));v=v.length&&new RegExp(v.join("|"));L=(a=wa.test(G.compareDocumentPosition))||wa.test(G.contains)?function(a,b){var c=9===a.nodeType?a.documentElement:a,d=b&&b.parentNode;return a===d||!!(d&&1===d.nodeType&&(c.contains?c.contains(d):a.compareDocumentPosition&&a.compareDocumentPosition(d)&16))}:function(a,b){if(b)for(;b=b.parentNode;)if(b===a)return!0;return!1};M=a?function(a,c){if(a===c)return ta=!0,0;var d=!a.compareDocumentPosition-!c.compareDocumentPosition;
+if(d)return d;d=(a.ownerDocument||a)===(c.ownerDocument||c)?a.compareDocumentPosition(c):1;return d&1||!u.sortDetached&&c.compareDocumentPosition(a)===d?a===b||a.ownerDocument===E&&L(E,a)?-1:c===b||c.ownerDocument===E&&L(E,c)?1:ea?ma(ea,a)-ma(ea,c):0:d&4?-1:1}:function(a,c){if(a===c)return ta=!0,0;var d,e=0;d=a.parentNode;var f=c.parentNode,g=[a],k=[c];if(!d||!f)return a===b?-1:c===b?1:d?-1:f?1:ea?ma(ea,a)-ma(ea,c):0;if(d===f)return h(a,c);for(d=a;d=d.parentNode;)g.unshift(d);for(d=c;d=d.parentNode;)k.unshift(d);
+for(;g[e]===k[e];)e++;return e?h(g[e],k[e]):g[e]===E?-1:k[e]===E?1:0};return b};b.matches=function(a,c){return b(a,null,null,c)};b.matchesSelector=function(a,c){(a.ownerDocument||a)!==C&&la(a);c=c.replace(ia,"='$1']");if(!(!u.matchesSelector||!T||v&&v.test(c)||A&&A.test(c)))try{var d=ya.call(a,c);if(d||u.disconnectedMatch||a.document&&11!==a.document.nodeType)return d}catch(e){}return 0<b(c,C,null,[a]).length};b.contains=function(a,b){(a.ownerDocument||a)!==C&&la(a);return L(a,b)};b.attr=function(a,
+b){(a.ownerDocument||a)!==C&&la(a);var c=s.attrHandle[b.toLowerCase()],c=c&&X.call(s.attrHandle,b.toLowerCase())?c(a,b,!T):void 0;return void 0!==c?c:u.attributes||!T?a.getAttribute(b):(c=a.getAttributeNode(b))&&c.specified?c.value:null};b.error=function(a){throw Error("Syntax error, unrecognized expression: "+a);};b.uniqueSort=function(a){var b,c=[],d=0,e=0;ta=!u.detectDuplicates;ea=!u.sortStable&&a.slice(0);a.sort(M);if(ta){for(;b=a[e++];)b===a[e]&&(d=c.push(e));for(;d--;)a.splice(c[d],1)}ea=null;
+return a};K=b.getText=function(a){var b,c="",d=0;b=a.nodeType;if(!b)for(;b=a[d++];)c+=K(b);else if(1===b||9===b||11===b){if("string"===typeof a.textContent)return a.textContent;for(a=a.firstChild;a;a=a.nextSibling)c+=K(a)}else if(3===b||4===b)return a.nodeValue;return c};s=b.selectors={cacheLength:50,createPseudo:d,match:V,attrHandle:{},find:{},relative:{">":{dir:"parentNode",first:!0}," ":{dir:"parentNode"},"+":{dir:"previousSibling",first:!0},"~":{dir:"previousSibling"}},preFilter:{ATTR:function(a){a[1]=
+a[1].replace(Z,$);a[3]=(a[3]||a[4]||a[5]||"").replace(Z,$);"~="===a[2]&&(a[3]=" "+a[3]+" ");return a.slice(0,4)},CHILD:function(a){a[1]=a[1].toLowerCase();"nth"===a[1].slice(0,3)?(a[3]||b.error(a[0]),a[4]=+(a[4]?a[5]+(a[6]||1):2*("even"===a[3]||"odd"===a[3])),a[5]=+(a[7]+a[8]||"odd"===a[3])):a[3]&&b.error(a[0]);return a},PSEUDO:function(a){var b,c=!a[6]&&a[2];if(V.CHILD.test(a[0]))return null;a[3]?a[2]=a[4]||a[5]||"":c&&ja.test(c)&&(b=ua(c,!0))&&(b=c.indexOf(")",c.length-b)-c.length)&&(a[0]=a[0].slice(0,
+b),a[2]=c.slice(0,b));return a.slice(0,3)}},filter:{TAG:function(a){var b=a.replace(Z,$).toLowerCase();return"*"===a?function(){return!0}:function(a){return a.nodeName&&a.nodeName.toLowerCase()===b}},CLASS:function(a){var b=N[a+" "];return b||(b=new RegExp("(^|[\\x20\\t\\r\\n\\f])"+a+"([\\x20\\t\\r\\n\\f]|$)"))&&N(a,function(a){return b.test("string"===typeof a.className&&a.className||"undefined"!==typeof a.getAttribute&&a.getAttribute("class")||"")})},ATTR:function(a,c,d){return function(e){e=b.attr(e,
+a);if(null==e)return"!="===c;if(!c)return!0;e+="";return"="===c?e===d:"!="===c?e!==d:"^="===c?d&&0===e.indexOf(d):"*="===c?d&&-1<e.indexOf(d):"$="===c?d&&e.slice(-d.length)===d:"~="===c?-1<(" "+e.replace(fa," ")+" ").indexOf(d):"|="===c?e===d||e.slice(0,d.length+1)===d+"-":!1}},CHILD:function(a,b,c,d,e){var f="nth"!==a.slice(0,3),g="last"!==a.slice(-4),h="of-type"===b;return 1===d&&0===e?function(a){return!!a.parentNode}:function(b,c,k){var l,m,r,t,p;c=f!==g?"nextSibling":"previousSibling";var n=
+b.parentNode,z=h&&b.nodeName.toLowerCase();k=!k&&!h;if(n){if(f){for(;c;){for(m=b;m=m[c];)if(h?m.nodeName.toLowerCase()===z:1===m.nodeType)return!1;p=c="only"===a&&!p&&"nextSibling"}return!0}p=[g?n.firstChild:n.lastChild];if(g&&k)for(k=n[x]||(n[x]={}),l=k[a]||[],t=l[0]===I&&l[1],r=l[0]===I&&l[2],m=t&&n.childNodes[t];m=++t&&m&&m[c]||(r=t=0)||p.pop();){if(1===m.nodeType&&++r&&m===b){k[a]=[I,t,r];break}}else if(k&&(l=(b[x]||(b[x]={}))[a])&&l[0]===I)r=l[1];else for(;(m=++t&&m&&m[c]||(r=t=0)||p.pop())&&
+((h?m.nodeName.toLowerCase()!==z:1!==m.nodeType)||!++r||(k&&((m[x]||(m[x]={}))[a]=[I,r]),m!==b)););r-=e;return r===d||0===r%d&&0<=r/d}}},PSEUDO:function(a,c){var f,g=s.pseudos[a]||s.setFilters[a.toLowerCase()]||b.error("unsupported pseudo: "+a);return g[x]?g(c):1<g.length?(f=[a,a,"",c],s.setFilters.hasOwnProperty(a.toLowerCase())?d(function(a,b){for(var d,e=g(a,c),f=e.length;f--;)d=ma(a,e[f]),a[d]=!(b[d]=e[f])}):function(a){return g(a,0,f)}):g}},pseudos:{not:d(function(a){var b=[],c=[],f=Oa(a.replace(O,
+"$1"));return f[x]?d(function(a,b,c,d){d=f(a,null,d,[]);for(var e=a.length;e--;)if(c=d[e])a[e]=!(b[e]=c)}):function(a,d,e){b[0]=a;f(b,null,e,c);b[0]=null;return!c.pop()}}),has:d(function(a){return function(c){return 0<b(a,c).length}}),contains:d(function(a){a=a.replace(Z,$);return function(b){return-1<(b.textContent||b.innerText||K(b)).indexOf(a)}}),lang:d(function(a){na.test(a||"")||b.error("unsupported lang: "+a);a=a.replace(Z,$).toLowerCase();return function(b){var c;do if(c=T?b.lang:b.getAttribute("xml:lang")||
+b.getAttribute("lang"))return c=c.toLowerCase(),c===a||0===c.indexOf(a+"-");while((b=b.parentNode)&&1===b.nodeType);return!1}}),target:function(b){var c=a.location&&a.location.hash;return c&&c.slice(1)===b.id},root:function(a){return a===G},focus:function(a){return a===C.activeElement&&(!C.hasFocus||C.hasFocus())&&!!(a.type||a.href||~a.tabIndex)},enabled:function(a){return!1===a.disabled},disabled:function(a){return!0===a.disabled},checked:function(a){var b=a.nodeName.toLowerCase();return"input"===
+b&&!!a.checked||"option"===b&&!!a.selected},selected:function(a){a.parentNode&&a.parentNode.selectedIndex;return!0===a.selected},empty:function(a){for(a=a.firstChild;a;a=a.nextSibling)if(6>a.nodeType)return!1;return!0},parent:function(a){return!s.pseudos.empty(a)},header:function(a){return qa.test(a.nodeName)},input:function(a){return pa.test(a.nodeName)},button:function(a){var b=a.nodeName.toLowerCase();return"input"===b&&"button"===a.type||"button"===b},text:function(a){var b;return"input"===a.nodeName.toLowerCase()&&
+"text"===a.type&&(null==(b=a.getAttribute("type"))||"text"===b.toLowerCase())},first:r(function(){return[0]}),last:r(function(a,b){return[b-1]}),eq:r(function(a,b,c){return[0>c?c+b:c]}),even:r(function(a,b){for(var c=0;c<b;c+=2)a.push(c);return a}),odd:r(function(a,b){for(var c=1;c<b;c+=2)a.push(c);return a}),lt:r(function(a,b,c){for(b=0>c?c+b:c;0<=--b;)a.push(b);return a}),gt:r(function(a,b,c){for(c=0>c?c+b:c;++c<b;)a.push(c);return a})}};s.pseudos.nth=s.pseudos.eq;for(J in{radio:!0,checkbox:!0,
+file:!0,password:!0,image:!0})s.pseudos[J]=k(J);for(J in{submit:!0,reset:!0})s.pseudos[J]=l(J);m.prototype=s.filters=s.pseudos;s.setFilters=new m;ua=b.tokenize=function(a,c){var d,e,f,g,h,k,l;if(h=P[a+" "])return c?0:h.slice(0);h=a;k=[];for(l=s.preFilter;h;){if(!d||(e=ga.exec(h)))e&&(h=h.slice(e[0].length)||h),k.push(f=[]);d=!1;if(e=ha.exec(h))d=e.shift(),f.push({value:d,type:e[0].replace(O," ")}),h=h.slice(d.length);for(g in s.filter)!(e=V[g].exec(h))||l[g]&&!(e=l[g](e))||(d=e.shift(),f.push({value:d,
+type:g,matches:e}),h=h.slice(d.length));if(!d)break}return c?h.length:h?b.error(a):P(a,k).slice(0)};Oa=b.compile=function(a,b){var c,d=[],e=[],f=Q[a+" "];if(!f){b||(b=ua(a));for(c=b.length;c--;)f=B(b[c]),f[x]?d.push(f):e.push(f);f=Q(a,H(e,d));f.selector=a}return f};Db=b.select=function(a,b,c,d){var e,f,g,h,k="function"===typeof a&&a,l=!d&&ua(a=k.selector||a);c=c||[];if(1===l.length){f=l[0]=l[0].slice(0);if(2<f.length&&"ID"===(g=f[0]).type&&u.getById&&9===b.nodeType&&T&&s.relative[f[1].type]){b=(s.find.ID(g.matches[0].replace(Z,
+$),b)||[])[0];if(!b)return c;k&&(b=b.parentNode);a=a.slice(f.shift().value.length)}for(e=V.needsContext.test(a)?0:f.length;e--;){g=f[e];if(s.relative[h=g.type])break;if(h=s.find[h])if(d=h(g.matches[0].replace(Z,$),ca.test(f[0].type)&&t(b.parentNode)||b)){f.splice(e,1);a=d.length&&p(f);if(!a)return da.apply(c,d),c;break}}}(k||Oa(a,l))(d,b,!T,c,ca.test(a)&&t(b.parentNode)||b);return c};u.sortStable=x.split("").sort(M).join("")===x;u.detectDuplicates=!!ta;la();u.sortDetached=f(function(a){return a.compareDocumentPosition(C.createElement("div"))&
+1});f(function(a){a.innerHTML="<a href='#'></a>";return"#"===a.firstChild.getAttribute("href")})||g("type|href|height|width",function(a,b,c){if(!c)return a.getAttribute(b,"type"===b.toLowerCase()?1:2)});u.attributes&&f(function(a){a.innerHTML="<input/>";a.firstChild.setAttribute("value","");return""===a.firstChild.getAttribute("value")})||g("value",function(a,b,c){if(!c&&"input"===a.nodeName.toLowerCase())return a.defaultValue});f(function(a){return null==a.getAttribute("disabled")})||g("checked|selected|async|autofocus|autoplay|controls|defer|disabled|hidden|ismap|loop|multiple|open|readonly|required|scoped",
+function(a,b,c){var d;if(!c)return!0===a[b]?b.toLowerCase():(d=a.getAttributeNode(b))&&d.specified?d.value:null});return b}(q);d.find=fa;d.expr=fa.selectors;d.expr[":"]=d.expr.pseudos;d.unique=fa.uniqueSort;d.text=fa.getText;d.isXMLDoc=fa.isXML;d.contains=fa.contains;var Eb=d.expr.match.needsContext,Fb=/^<(\w+)\s*\/?>(?:<\/\1>|)$/,Zb=/^.[^:#\[\.,]*$/;d.filter=function(a,b,c){var e=b[0];c&&(a=":not("+a+")");return 1===b.length&&1===e.nodeType?d.find.matchesSelector(e,a)?[e]:[]:d.find.matches(a,d.grep(b,
+function(a){return 1===a.nodeType}))};d.fn.extend({find:function(a){var b,c=[],e=this,f=e.length;if("string"!==typeof a)return this.pushStack(d(a).filter(function(){for(b=0;b<f;b++)if(d.contains(e[b],this))return!0}));for(b=0;b<f;b++)d.find(a,e[b],c);c=this.pushStack(1<f?d.unique(c):c);c.selector=this.selector?this.selector+" "+a:a;return c},filter:function(a){return this.pushStack(Ea(this,a||[],!1))},not:function(a){return this.pushStack(Ea(this,a||[],!0))},is:function(a){return!!Ea(this,"string"===
+typeof a&&Eb.test(a)?d(a):a||[],!1).length}});var na,n=q.document,mc=/^(?:\s*(<[\w\W]+>)[^>]*|#([\w-]*))$/;(d.fn.init=function(a,b){var c,e;if(!a)return this;if("string"===typeof a){c="<"===a.charAt(0)&&">"===a.charAt(a.length-1)&&3<=a.length?[null,a,null]:mc.exec(a);if(!c||!c[1]&&b)return!b||b.jquery?(b||na).find(a):this.constructor(b).find(a);if(c[1]){if(b=b instanceof d?b[0]:b,d.merge(this,d.parseHTML(c[1],b&&b.nodeType?b.ownerDocument||b:n,!0)),Fb.test(c[1])&&d.isPlainObject(b))for(c in b)if(d.isFunction(this[c]))this[c](b[c]);
+else this.attr(c,b[c])}else{if((e=n.getElementById(c[2]))&&e.parentNode){if(e.id!==c[2])return na.find(a);this.length=1;this[0]=e}this.context=n;this.selector=a}return this}if(a.nodeType)return this.context=this[0]=a,this.length=1,this;if(d.isFunction(a))return"undefined"!==typeof na.ready?na.ready(a):a(d);void 0!==a.selector&&(this.selector=a.selector,this.context=a.context);return d.makeArray(a,this)}).prototype=d.fn;na=d(n);var nc=/^(?:parents|prev(?:Until|All))/,oc={children:!0,contents:!0,next:!0,
+prev:!0};d.extend({dir:function(a,b,c){var e=[];for(a=a[b];a&&9!==a.nodeType&&(void 0===c||1!==a.nodeType||!d(a).is(c));)1===a.nodeType&&e.push(a),a=a[b];return e},sibling:function(a,b){for(var c=[];a;a=a.nextSibling)1===a.nodeType&&a!==b&&c.push(a);return c}});d.fn.extend({has:function(a){var b,c=d(a,this),e=c.length;return this.filter(function(){for(b=0;b<e;b++)if(d.contains(this,c[b]))return!0})},closest:function(a,b){for(var c,e=0,f=this.length,g=[],h=Eb.test(a)||"string"!==typeof a?d(a,b||this.context):
+0;e<f;e++)for(c=this[e];c&&c!==b;c=c.parentNode)if(11>c.nodeType&&(h?-1<h.index(c):1===c.nodeType&&d.find.matchesSelector(c,a))){g.push(c);break}return this.pushStack(1<g.length?d.unique(g):g)},index:function(a){return a?"string"===typeof a?d.inArray(this[0],d(a)):d.inArray(a.jquery?a[0]:a,this):this[0]&&this[0].parentNode?this.first().prevAll().length:-1},add:function(a,b){return this.pushStack(d.unique(d.merge(this.get(),d(a,b))))},addBack:function(a){return this.add(null==a?this.prevObject:this.prevObject.filter(a))}});
+d.each({parent:function(a){return(a=a.parentNode)&&11!==a.nodeType?a:null},parents:function(a){return d.dir(a,"parentNode")},parentsUntil:function(a,b,c){return d.dir(a,"parentNode",c)},next:function(a){return Ya(a,"nextSibling")},prev:function(a){return Ya(a,"previousSibling")},nextAll:function(a){return d.dir(a,"nextSibling")},prevAll:function(a){return d.dir(a,"previousSibling")},nextUntil:function(a,b,c){return d.dir(a,"nextSibling",c)},prevUntil:function(a,b,c){return d.dir(a,"previousSibling",
+c)},siblings:function(a){return d.sibling((a.parentNode||{}).firstChild,a)},children:function(a){return d.sibling(a.firstChild)},contents:function(a){return d.nodeName(a,"iframe")?a.contentDocument||a.contentWindow.document:d.merge([],a.childNodes)}},function(a,b){d.fn[a]=function(c,e){var f=d.map(this,b,c);"Until"!==a.slice(-5)&&(e=c);e&&"string"===typeof e&&(f=d.filter(e,f));1<this.length&&(oc[a]||(f=d.unique(f)),nc.test(a)&&(f=f.reverse()));return this.pushStack(f)}});var K=/\S+/g,Za={};d.Callbacks=
+function(a){a="string"===typeof a?Za[a]||$b(a):d.extend({},a);var b,c,e,f,g,h,k=[],l=!a.once&&[],r=function(d){c=a.memory&&d;e=!0;g=h||0;h=0;f=k.length;for(b=!0;k&&g<f;g++)if(!1===k[g].apply(d[0],d[1])&&a.stopOnFalse){c=!1;break}b=!1;k&&(l?l.length&&r(l.shift()):c?k=[]:t.disable())},t={add:function(){if(k){var e=k.length;(function y(b){d.each(b,function(b,c){var e=d.type(c);"function"===e?a.unique&&t.has(c)||k.push(c):c&&c.length&&"string"!==e&&y(c)})})(arguments);b?f=k.length:c&&(h=e,r(c))}return this},
+remove:function(){k&&d.each(arguments,function(a,c){for(var e;-1<(e=d.inArray(c,k,e));)k.splice(e,1),b&&(e<=f&&f--,e<=g&&g--)});return this},has:function(a){return a?-1<d.inArray(a,k):!(!k||!k.length)},empty:function(){k=[];f=0;return this},disable:function(){k=l=c=void 0;return this},disabled:function(){return!k},lock:function(){l=void 0;c||t.disable();return this},locked:function(){return!l},fireWith:function(a,c){!k||e&&!l||(c=c||[],c=[a,c.slice?c.slice():c],b?l.push(c):r(c));return this},fire:function(){t.fireWith(this,
+arguments);return this},fired:function(){return!!e}};return t};d.extend({Deferred:function(a){var b=[["resolve","done",d.Callbacks("once memory"),"resolved"],["reject","fail",d.Callbacks("once memory"),"rejected"],["notify","progress",d.Callbacks("memory")]],c="pending",e={state:function(){return c},always:function(){f.done(arguments).fail(arguments);return this},then:function(){var a=arguments;return d.Deferred(function(c){d.each(b,function(b,l){var r=d.isFunction(a[b])&&a[b];f[l[1]](function(){var a=
+r&&r.apply(this,arguments);if(a&&d.isFunction(a.promise))a.promise().done(c.resolve).fail(c.reject).progress(c.notify);else c[l[0]+"With"](this===e?c.promise():this,r?[a]:arguments)})});a=null}).promise()},promise:function(a){return null!=a?d.extend(a,e):e}},f={};e.pipe=e.then;d.each(b,function(a,d){var k=d[2],l=d[3];e[d[1]]=k.add;l&&k.add(function(){c=l},b[a^1][2].disable,b[2][2].lock);f[d[0]]=function(){f[d[0]+"With"](this===f?e:this,arguments);return this};f[d[0]+"With"]=k.fireWith});e.promise(f);
+a&&a.call(f,f);return f},when:function(a){var b=0,c=N.call(arguments),e=c.length,f=1!==e||a&&d.isFunction(a.promise)?e:0,g=1===f?a:d.Deferred(),h=function(a,b,c){return function(d){b[a]=this;c[a]=1<arguments.length?N.call(arguments):d;c===k?g.notifyWith(b,c):--f||g.resolveWith(b,c)}},k,l,r;if(1<e)for(k=Array(e),l=Array(e),r=Array(e);b<e;b++)c[b]&&d.isFunction(c[b].promise)?c[b].promise().done(h(b,r,c)).fail(g.reject).progress(h(b,l,k)):--f;f||g.resolveWith(r,c);return g.promise()}});var oa;d.fn.ready=
+function(a){d.ready.promise().done(a);return this};d.extend({isReady:!1,readyWait:1,holdReady:function(a){a?d.readyWait++:d.ready(!0)},ready:function(a){if(!0===a?!--d.readyWait:!d.isReady){if(!n.body)return setTimeout(d.ready);d.isReady=!0;!0!==a&&0<--d.readyWait||(oa.resolveWith(n,[d]),d.fn.triggerHandler&&(d(n).triggerHandler("ready"),d(n).off("ready")))}}});d.ready.promise=function(a){if(!oa)if(oa=d.Deferred(),"complete"===n.readyState)setTimeout(d.ready);else if(n.addEventListener)n.addEventListener("DOMContentLoaded",
+D,!1),q.addEventListener("load",D,!1);else{n.attachEvent("onreadystatechange",D);q.attachEvent("onload",D);var b=!1;try{b=null==q.frameElement&&n.documentElement}catch(c){}b&&b.doScroll&&function f(){if(!d.isReady){try{b.doScroll("left")}catch(a){return setTimeout(f,50)}$a();d.ready()}}()}return oa.promise(a)};for(var pc in d(p))break;p.ownLast="0"!==pc;p.inlineBlockNeedsLayout=!1;d(function(){var a,b,c;(b=n.getElementsByTagName("body")[0])&&b.style&&(a=n.createElement("div"),c=n.createElement("div"),
+c.style.cssText="position:absolute;border:0;width:0;height:0;top:0;left:-9999px",b.appendChild(c).appendChild(a),"undefined"!==typeof a.style.zoom&&(a.style.cssText="display:inline;margin:0;border:0;padding:1px;width:1px;zoom:1",p.inlineBlockNeedsLayout=a=3===a.offsetWidth)&&(b.style.zoom=1),b.removeChild(c))});(function(){var a=n.createElement("div");if(null==p.deleteExpando){p.deleteExpando=!0;try{delete a.test}catch(b){p.deleteExpando=!1}}})();d.acceptData=function(a){var b=d.noData[(a.nodeName+
+" ").toLowerCase()],c=+a.nodeType||1;return 1!==c&&9!==c?!1:!b||!0!==b&&a.getAttribute("classid")===b};var bc=/^(?:\{[\w\W]*\}|\[[\w\W]*\])$/,ac=/([A-Z])/g;d.extend({cache:{},noData:{"applet ":!0,"embed ":!0,"object ":"clsid:D27CDB6E-AE6D-11cf-96B8-444553540000"},hasData:function(a){a=a.nodeType?d.cache[a[d.expando]]:a[d.expando];return!!a&&!Fa(a)},data:function(a,b,c){return bb(a,b,c)},removeData:function(a,b){return cb(a,b)},_data:function(a,b,c){return bb(a,b,c,!0)},_removeData:function(a,b){return cb(a,
+b,!0)}});d.fn.extend({data:function(a,b){var c,e,f,g=this[0],h=g&&g.attributes;if(void 0===a){if(this.length&&(f=d.data(g),1===g.nodeType&&!d._data(g,"parsedAttrs"))){for(c=h.length;c--;)h[c]&&(e=h[c].name,0===e.indexOf("data-")&&(e=d.camelCase(e.slice(5)),ab(g,e,f[e])));d._data(g,"parsedAttrs",!0)}return f}return"object"===typeof a?this.each(function(){d.data(this,a)}):1<arguments.length?this.each(function(){d.data(this,a,b)}):g?ab(g,a,d.data(g,a)):void 0},removeData:function(a){return this.each(function(){d.removeData(this,
+a)})}});d.extend({queue:function(a,b,c){var e;if(a)return b=(b||"fx")+"queue",e=d._data(a,b),c&&(!e||d.isArray(c)?e=d._data(a,b,d.makeArray(c)):e.push(c)),e||[]},dequeue:function(a,b){b=b||"fx";var c=d.queue(a,b),e=c.length,f=c.shift(),g=d._queueHooks(a,b),h=function(){d.dequeue(a,b)};"inprogress"===f&&(f=c.shift(),e--);f&&("fx"===b&&c.unshift("inprogress"),delete g.stop,f.call(a,h,g));!e&&g&&g.empty.fire()},_queueHooks:function(a,b){var c=b+"queueHooks";return d._data(a,c)||d._data(a,c,{empty:d.Callbacks("once memory").add(function(){d._removeData(a,
+b+"queue");d._removeData(a,c)})})}});d.fn.extend({queue:function(a,b){var c=2;"string"!==typeof a&&(b=a,a="fx",c--);return arguments.length<c?d.queue(this[0],a):void 0===b?this:this.each(function(){var c=d.queue(this,a,b);d._queueHooks(this,a);"fx"===a&&"inprogress"!==c[0]&&d.dequeue(this,a)})},dequeue:function(a){return this.each(function(){d.dequeue(this,a)})},clearQueue:function(a){return this.queue(a||"fx",[])},promise:function(a,b){var c,e=1,f=d.Deferred(),g=this,h=this.length,k=function(){--e||
+f.resolveWith(g,[g])};"string"!==typeof a&&(b=a,a=void 0);for(a=a||"fx";h--;)(c=d._data(g[h],a+"queueHooks"))&&c.empty&&(e++,c.empty.add(k));k();return f.promise(b)}});var xa=/[+-]?(?:\d*\.|)\d+(?:[eE][+-]?\d+|)/.source,M=["Top","Right","Bottom","Left"],ia=function(a,b){a=b||a;return"none"===d.css(a,"display")||!d.contains(a.ownerDocument,a)},aa=d.access=function(a,b,c,e,f,g,h){var k=0,l=a.length,r=null==c;if("object"===d.type(c))for(k in f=!0,c)d.access(a,b,k,c[k],!0,g,h);else if(void 0!==e&&(f=
+!0,d.isFunction(e)||(h=!0),r&&(h?(b.call(a,e),b=null):(r=b,b=function(a,b,c){return r.call(d(a),c)})),b))for(;k<l;k++)b(a[k],c,h?e:e.call(a[k],k,b(a[k],c)));return f?a:r?b.call(a):l?b(a[0],c):g},Ga=/^(?:checkbox|radio)$/i;(function(){var a=n.createElement("input"),b=n.createElement("div"),c=n.createDocumentFragment();b.innerHTML="  <link/><table></table><a href='/a'>a</a><input type='checkbox'/>";p.leadingWhitespace=3===b.firstChild.nodeType;p.tbody=!b.getElementsByTagName("tbody").length;p.htmlSerialize=
+!!b.getElementsByTagName("link").length;p.html5Clone="<:nav></:nav>"!==n.createElement("nav").cloneNode(!0).outerHTML;a.type="checkbox";a.checked=!0;c.appendChild(a);p.appendChecked=a.checked;b.innerHTML="<textarea>x</textarea>";p.noCloneChecked=!!b.cloneNode(!0).lastChild.defaultValue;c.appendChild(b);b.innerHTML="<input type='radio' checked='checked' name='t'/>";p.checkClone=b.cloneNode(!0).cloneNode(!0).lastChild.checked;p.noCloneEvent=!0;b.attachEvent&&(b.attachEvent("onclick",function(){p.noCloneEvent=
+!1}),b.cloneNode(!0).click());if(null==p.deleteExpando){p.deleteExpando=!0;try{delete b.test}catch(d){p.deleteExpando=!1}}})();(function(){var a,b,c=n.createElement("div");for(a in{submit:!0,change:!0,focusin:!0})b="on"+a,(p[a+"Bubbles"]=b in q)||(c.setAttribute(b,"t"),p[a+"Bubbles"]=!1===c.attributes[b].expando)})();var Pa=/^(?:input|select|textarea)$/i,qc=/^key/,rc=/^(?:mouse|pointer|contextmenu)|click/,Gb=/^(?:focusinfocus|focusoutblur)$/,Hb=/^([^.]*)(?:\.(.+)|)$/;d.event={global:{},add:function(a,
+b,c,e,f){var g,h,k,l,r,p,m,n,q;if(k=d._data(a)){c.handler&&(l=c,c=l.handler,f=l.selector);c.guid||(c.guid=d.guid++);(h=k.events)||(h=k.events={});(r=k.handle)||(r=k.handle=function(a){return"undefined"===typeof d||a&&d.event.triggered===a.type?void 0:d.event.dispatch.apply(r.elem,arguments)},r.elem=a);b=(b||"").match(K)||[""];for(k=b.length;k--;)g=Hb.exec(b[k])||[],n=p=g[1],q=(g[2]||"").split(".").sort(),n&&(g=d.event.special[n]||{},n=(f?g.delegateType:g.bindType)||n,g=d.event.special[n]||{},p=d.extend({type:n,
+origType:p,data:e,handler:c,guid:c.guid,selector:f,needsContext:f&&d.expr.match.needsContext.test(f),namespace:q.join(".")},l),(m=h[n])||(m=h[n]=[],m.delegateCount=0,g.setup&&!1!==g.setup.call(a,e,q,r)||(a.addEventListener?a.addEventListener(n,r,!1):a.attachEvent&&a.attachEvent("on"+n,r))),g.add&&(g.add.call(a,p),p.handler.guid||(p.handler.guid=c.guid)),f?m.splice(m.delegateCount++,0,p):m.push(p),d.event.global[n]=!0);a=null}},remove:function(a,b,c,e,f){var g,h,k,l,r,n,m,p,q,w,B,F=d.hasData(a)&&d._data(a);
+if(F&&(n=F.events)){b=(b||"").match(K)||[""];for(r=b.length;r--;)if(k=Hb.exec(b[r])||[],q=B=k[1],w=(k[2]||"").split(".").sort(),q){m=d.event.special[q]||{};q=(e?m.delegateType:m.bindType)||q;p=n[q]||[];k=k[2]&&new RegExp("(^|\\.)"+w.join("\\.(?:.*\\.|)")+"(\\.|$)");for(l=g=p.length;g--;)h=p[g],!f&&B!==h.origType||c&&c.guid!==h.guid||k&&!k.test(h.namespace)||e&&e!==h.selector&&("**"!==e||!h.selector)||(p.splice(g,1),h.selector&&p.delegateCount--,m.remove&&m.remove.call(a,h));l&&!p.length&&(m.teardown&&
+!1!==m.teardown.call(a,w,F.handle)||d.removeEvent(a,q,F.handle),delete n[q])}else for(q in n)d.event.remove(a,q+b[r],c,e,!0);d.isEmptyObject(n)&&(delete F.handle,d._removeData(a,"events"))}},trigger:function(a,b,c,e){var f,g,h,k,l,r,p=[c||n],m=S.call(a,"type")?a.type:a;l=S.call(a,"namespace")?a.namespace.split("."):[];h=f=c=c||n;if(3!==c.nodeType&&8!==c.nodeType&&!Gb.test(m+d.event.triggered)&&(0<=m.indexOf(".")&&(l=m.split("."),m=l.shift(),l.sort()),g=0>m.indexOf(":")&&"on"+m,a=a[d.expando]?a:new d.Event(m,
+"object"===typeof a&&a),a.isTrigger=e?2:3,a.namespace=l.join("."),a.namespace_re=a.namespace?new RegExp("(^|\\.)"+l.join("\\.(?:.*\\.|)")+"(\\.|$)"):null,a.result=void 0,a.target||(a.target=c),b=null==b?[a]:d.makeArray(b,[a]),l=d.event.special[m]||{},e||!l.trigger||!1!==l.trigger.apply(c,b))){if(!e&&!l.noBubble&&!d.isWindow(c)){k=l.delegateType||m;Gb.test(k+m)||(h=h.parentNode);for(;h;h=h.parentNode)p.push(h),f=h;f===(c.ownerDocument||n)&&p.push(f.defaultView||f.parentWindow||q)}for(r=0;(h=p[r++])&&
+!a.isPropagationStopped();)a.type=1<r?k:l.bindType||m,(f=(d._data(h,"events")||{})[a.type]&&d._data(h,"handle"))&&f.apply(h,b),(f=g&&h[g])&&f.apply&&d.acceptData(h)&&(a.result=f.apply(h,b),!1===a.result&&a.preventDefault());a.type=m;if(!(e||a.isDefaultPrevented()||l._default&&!1!==l._default.apply(p.pop(),b))&&d.acceptData(c)&&g&&c[m]&&!d.isWindow(c)){(f=c[g])&&(c[g]=null);d.event.triggered=m;try{c[m]()}catch(z){}d.event.triggered=void 0;f&&(c[g]=f)}return a.result}},dispatch:function(a){a=d.event.fix(a);
+var b,c,e,f,g=[],h=N.call(arguments);b=(d._data(this,"events")||{})[a.type]||[];var k=d.event.special[a.type]||{};h[0]=a;a.delegateTarget=this;if(!k.preDispatch||!1!==k.preDispatch.call(this,a)){g=d.event.handlers.call(this,a,b);for(b=0;(e=g[b++])&&!a.isPropagationStopped();)for(a.currentTarget=e.elem,f=0;(c=e.handlers[f++])&&!a.isImmediatePropagationStopped();)if(!a.namespace_re||a.namespace_re.test(c.namespace))a.handleObj=c,a.data=c.data,c=((d.event.special[c.origType]||{}).handle||c.handler).apply(e.elem,
+h),void 0!==c&&!1===(a.result=c)&&(a.preventDefault(),a.stopPropagation());k.postDispatch&&k.postDispatch.call(this,a);return a.result}},handlers:function(a,b){var c,e,f,g,h=[],k=b.delegateCount,l=a.target;if(k&&l.nodeType&&(!a.button||"click"!==a.type))for(;l!=this;l=l.parentNode||this)if(1===l.nodeType&&(!0!==l.disabled||"click"!==a.type)){f=[];for(g=0;g<k;g++)e=b[g],c=e.selector+" ",void 0===f[c]&&(f[c]=e.needsContext?0<=d(c,this).index(l):d.find(c,this,null,[l]).length),f[c]&&f.push(e);f.length&&
+h.push({elem:l,handlers:f})}k<b.length&&h.push({elem:this,handlers:b.slice(k)});return h},fix:function(a){if(a[d.expando])return a;var b,c,e;b=a.type;var f=a,g=this.fixHooks[b];g||(this.fixHooks[b]=g=rc.test(b)?this.mouseHooks:qc.test(b)?this.keyHooks:{});e=g.props?this.props.concat(g.props):this.props;a=new d.Event(f);for(b=e.length;b--;)c=e[b],a[c]=f[c];a.target||(a.target=f.srcElement||n);3===a.target.nodeType&&(a.target=a.target.parentNode);a.metaKey=!!a.metaKey;return g.filter?g.filter(a,f):
+a},props:"altKey bubbles cancelable ctrlKey currentTarget eventPhase metaKey relatedTarget shiftKey target timeStamp view which".split(" "),fixHooks:{},keyHooks:{props:["char","charCode","key","keyCode"],filter:function(a,b){null==a.which&&(a.which=null!=b.charCode?b.charCode:b.keyCode);return a}},mouseHooks:{props:"button buttons clientX clientY fromElement offsetX offsetY pageX pageY screenX screenY toElement".split(" "),filter:function(a,b){var c,d,f=b.button,g=b.fromElement;null==a.pageX&&null!=
+b.clientX&&(c=a.target.ownerDocument||n,d=c.documentElement,c=c.body,a.pageX=b.clientX+(d&&d.scrollLeft||c&&c.scrollLeft||0)-(d&&d.clientLeft||c&&c.clientLeft||0),a.pageY=b.clientY+(d&&d.scrollTop||c&&c.scrollTop||0)-(d&&d.clientTop||c&&c.clientTop||0));!a.relatedTarget&&g&&(a.relatedTarget=g===a.target?b.toElement:g);a.which||void 0===f||(a.which=f&1?1:f&2?3:f&4?2:0);return a}},special:{load:{noBubble:!0},focus:{trigger:function(){if(this!==db()&&this.focus)try{return this.focus(),!1}catch(a){}},
+delegateType:"focusin"},blur:{trigger:function(){if(this===db()&&this.blur)return this.blur(),!1},delegateType:"focusout"},click:{trigger:function(){if(d.nodeName(this,"input")&&"checkbox"===this.type&&this.click)return this.click(),!1},_default:function(a){return d.nodeName(a.target,"a")}},beforeunload:{postDispatch:function(a){void 0!==a.result&&a.originalEvent&&(a.originalEvent.returnValue=a.result)}}},simulate:function(a,b,c,e){a=d.extend(new d.Event,c,{type:a,isSimulated:!0,originalEvent:{}});
+e?d.event.trigger(a,null,b):d.event.dispatch.call(b,a);a.isDefaultPrevented()&&c.preventDefault()}};d.removeEvent=n.removeEventListener?function(a,b,c){a.removeEventListener&&a.removeEventListener(b,c,!1)}:function(a,b,c){b="on"+b;a.detachEvent&&("undefined"===typeof a[b]&&(a[b]=null),a.detachEvent(b,c))};d.Event=function(a,b){if(!(this instanceof d.Event))return new d.Event(a,b);a&&a.type?(this.originalEvent=a,this.type=a.type,this.isDefaultPrevented=a.defaultPrevented||void 0===a.defaultPrevented&&
+!1===a.returnValue?V:W):this.type=a;b&&d.extend(this,b);this.timeStamp=a&&a.timeStamp||d.now();this[d.expando]=!0};d.Event.prototype={isDefaultPrevented:W,isPropagationStopped:W,isImmediatePropagationStopped:W,preventDefault:function(){var a=this.originalEvent;this.isDefaultPrevented=V;a&&(a.preventDefault?a.preventDefault():a.returnValue=!1)},stopPropagation:function(){var a=this.originalEvent;this.isPropagationStopped=V;a&&(a.stopPropagation&&a.stopPropagation(),a.cancelBubble=!0)},stopImmediatePropagation:function(){var a=
+this.originalEvent;this.isImmediatePropagationStopped=V;a&&a.stopImmediatePropagation&&a.stopImmediatePropagation();this.stopPropagation()}};d.each({mouseenter:"mouseover",mouseleave:"mouseout",pointerenter:"pointerover",pointerleave:"pointerout"},function(a,b){d.event.special[a]={delegateType:b,bindType:b,handle:function(a){var e,f=a.relatedTarget,g=a.handleObj;if(!f||f!==this&&!d.contains(this,f))a.type=g.origType,e=g.handler.apply(this,arguments),a.type=b;return e}}});p.submitBubbles||(d.event.special.submit=
+{setup:function(){if(d.nodeName(this,"form"))return!1;d.event.add(this,"click._submit keypress._submit",function(a){a=a.target;(a=d.nodeName(a,"input")||d.nodeName(a,"button")?a.form:void 0)&&!d._data(a,"submitBubbles")&&(d.event.add(a,"submit._submit",function(a){a._submit_bubble=!0}),d._data(a,"submitBubbles",!0))})},postDispatch:function(a){a._submit_bubble&&(delete a._submit_bubble,this.parentNode&&!a.isTrigger&&d.event.simulate("submit",this.parentNode,a,!0))},teardown:function(){if(d.nodeName(this,
+"form"))return!1;d.event.remove(this,"._submit")}});p.changeBubbles||(d.event.special.change={setup:function(){if(Pa.test(this.nodeName)){if("checkbox"===this.type||"radio"===this.type)d.event.add(this,"propertychange._change",function(a){"checked"===a.originalEvent.propertyName&&(this._just_changed=!0)}),d.event.add(this,"click._change",function(a){this._just_changed&&!a.isTrigger&&(this._just_changed=!1);d.event.simulate("change",this,a,!0)});return!1}d.event.add(this,"beforeactivate._change",function(a){a=
+a.target;Pa.test(a.nodeName)&&!d._data(a,"changeBubbles")&&(d.event.add(a,"change._change",function(a){!this.parentNode||a.isSimulated||a.isTrigger||d.event.simulate("change",this.parentNode,a,!0)}),d._data(a,"changeBubbles",!0))})},handle:function(a){var b=a.target;if(this!==b||a.isSimulated||a.isTrigger||"radio"!==b.type&&"checkbox"!==b.type)return a.handleObj.handler.apply(this,arguments)},teardown:function(){d.event.remove(this,"._change");return!Pa.test(this.nodeName)}});p.focusinBubbles||d.each({focus:"focusin",
+blur:"focusout"},function(a,b){var c=function(a){d.event.simulate(b,a.target,d.event.fix(a),!0)};d.event.special[b]={setup:function(){var e=this.ownerDocument||this,f=d._data(e,b);f||e.addEventListener(a,c,!0);d._data(e,b,(f||0)+1)},teardown:function(){var e=this.ownerDocument||this,f=d._data(e,b)-1;f?d._data(e,b,f):(e.removeEventListener(a,c,!0),d._removeData(e,b))}}});d.fn.extend({on:function(a,b,c,e,f){var g,h;if("object"===typeof a){"string"!==typeof b&&(c=c||b,b=void 0);for(g in a)this.on(g,
+b,c,a[g],f);return this}null==c&&null==e?(e=b,c=b=void 0):null==e&&("string"===typeof b?(e=c,c=void 0):(e=c,c=b,b=void 0));if(!1===e)e=W;else if(!e)return this;1===f&&(h=e,e=function(a){d().off(a);return h.apply(this,arguments)},e.guid=h.guid||(h.guid=d.guid++));return this.each(function(){d.event.add(this,a,e,c,b)})},one:function(a,b,c,d){return this.on(a,b,c,d,1)},off:function(a,b,c){var e;if(a&&a.preventDefault&&a.handleObj)return e=a.handleObj,d(a.delegateTarget).off(e.namespace?e.origType+"."+
+e.namespace:e.origType,e.selector,e.handler),this;if("object"===typeof a){for(e in a)this.off(e,b,a[e]);return this}if(!1===b||"function"===typeof b)c=b,b=void 0;!1===c&&(c=W);return this.each(function(){d.event.remove(this,a,c,b)})},trigger:function(a,b){return this.each(function(){d.event.trigger(a,b,this)})},triggerHandler:function(a,b){var c=this[0];if(c)return d.event.trigger(a,b,c,!0)}});var fb="abbr|article|aside|audio|bdi|canvas|data|datalist|details|figcaption|figure|footer|header|hgroup|mark|meter|nav|output|progress|section|summary|time|video",
+sc=/ jQuery\d+="(?:null|\d+)"/g,Ib=new RegExp("<(?:"+fb+")[\\s/>]","i"),Qa=/^\s+/,Jb=/<(?!area|br|col|embed|hr|img|input|link|meta|param)(([\w:]+)[^>]*)\/>/gi,Kb=/<([\w:]+)/,Lb=/<tbody/i,tc=/<|&#?\w+;/,uc=/<(?:script|style|link)/i,vc=/checked\s*(?:[^=]|=\s*.checked.)/i,Mb=/^$|\/(?:java|ecma)script/i,dc=/^true\/(.*)/,wc=/^\s*<!(?:\[CDATA\[|--)|(?:\]\]|--)>\s*$/g,H={option:[1,"<select multiple='multiple'>","</select>"],legend:[1,"<fieldset>","</fieldset>"],area:[1,"<map>","</map>"],param:[1,"<object>",
+"</object>"],thead:[1,"<table>","</table>"],tr:[2,"<table><tbody>","</tbody></table>"],col:[2,"<table><tbody></tbody><colgroup>","</colgroup></table>"],td:[3,"<table><tbody><tr>","</tr></tbody></table>"],_default:p.htmlSerialize?[0,"",""]:[1,"X<div>","</div>"]},Ra=eb(n).appendChild(n.createElement("div"));H.optgroup=H.option;H.tbody=H.tfoot=H.colgroup=H.caption=H.thead;H.th=H.td;d.extend({clone:function(a,b,c){var e,f,g,h,k,l=d.contains(a.ownerDocument,a);p.html5Clone||d.isXMLDoc(a)||!Ib.test("<"+
+a.nodeName+">")?g=a.cloneNode(!0):(Ra.innerHTML=a.outerHTML,Ra.removeChild(g=Ra.firstChild));if(!(p.noCloneEvent&&p.noCloneChecked||1!==a.nodeType&&11!==a.nodeType||d.isXMLDoc(a)))for(e=w(g),k=w(a),h=0;null!=(f=k[h]);++h)if(e[h]){var r=e[h],n=void 0,m=void 0,q=void 0;if(1===r.nodeType){n=r.nodeName.toLowerCase();if(!p.noCloneEvent&&r[d.expando]){q=d._data(r);for(m in q.events)d.removeEvent(r,m,q.handle);r.removeAttribute(d.expando)}if("script"===n&&r.text!==f.text)hb(r).text=f.text,ib(r);else if("object"===
+n)r.parentNode&&(r.outerHTML=f.outerHTML),p.html5Clone&&f.innerHTML&&!d.trim(r.innerHTML)&&(r.innerHTML=f.innerHTML);else if("input"===n&&Ga.test(f.type))r.defaultChecked=r.checked=f.checked,r.value!==f.value&&(r.value=f.value);else if("option"===n)r.defaultSelected=r.selected=f.defaultSelected;else if("input"===n||"textarea"===n)r.defaultValue=f.defaultValue}}if(b)if(c)for(k=k||w(a),e=e||w(g),h=0;null!=(f=k[h]);h++)jb(f,e[h]);else jb(a,g);e=w(g,"script");0<e.length&&Ha(e,!l&&w(a,"script"));return g},
+buildFragment:function(a,b,c,e){for(var f,g,h,k,l,r,n=a.length,m=eb(b),q=[],y=0;y<n;y++)if((g=a[y])||0===g)if("object"===d.type(g))d.merge(q,g.nodeType?[g]:g);else if(tc.test(g)){h=h||m.appendChild(b.createElement("div"));k=(Kb.exec(g)||["",""])[1].toLowerCase();r=H[k]||H._default;h.innerHTML=r[1]+g.replace(Jb,"<$1></$2>")+r[2];for(f=r[0];f--;)h=h.lastChild;!p.leadingWhitespace&&Qa.test(g)&&q.push(b.createTextNode(Qa.exec(g)[0]));if(!p.tbody)for(f=(g="table"!==k||Lb.test(g)?"<table>"!==r[1]||Lb.test(g)?
+0:h:h.firstChild)&&g.childNodes.length;f--;)d.nodeName(l=g.childNodes[f],"tbody")&&!l.childNodes.length&&g.removeChild(l);d.merge(q,h.childNodes);for(h.textContent="";h.firstChild;)h.removeChild(h.firstChild);h=m.lastChild}else q.push(b.createTextNode(g));h&&m.removeChild(h);p.appendChecked||d.grep(w(q,"input"),cc);for(y=0;g=q[y++];)if(!e||-1===d.inArray(g,e))if(a=d.contains(g.ownerDocument,g),h=w(m.appendChild(g),"script"),a&&Ha(h),c)for(f=0;g=h[f++];)Mb.test(g.type||"")&&c.push(g);return m},cleanData:function(a,
+b){for(var c,e,f,g,h=0,k=d.expando,l=d.cache,r=p.deleteExpando,n=d.event.special;null!=(c=a[h]);h++)if(b||d.acceptData(c))if(g=(f=c[k])&&l[f]){if(g.events)for(e in g.events)n[e]?d.event.remove(c,e):d.removeEvent(c,e,g.handle);l[f]&&(delete l[f],r?delete c[k]:"undefined"!==typeof c.removeAttribute?c.removeAttribute(k):c[k]=null,R.push(f))}}});d.fn.extend({text:function(a){return aa(this,function(a){return void 0===a?d.text(this):this.empty().append((this[0]&&this[0].ownerDocument||n).createTextNode(a))},
+null,a,arguments.length)},append:function(){return this.domManip(arguments,function(a){1!==this.nodeType&&11!==this.nodeType&&9!==this.nodeType||gb(this,a).appendChild(a)})},prepend:function(){return this.domManip(arguments,function(a){if(1===this.nodeType||11===this.nodeType||9===this.nodeType){var b=gb(this,a);b.insertBefore(a,b.firstChild)}})},before:function(){return this.domManip(arguments,function(a){this.parentNode&&this.parentNode.insertBefore(a,this)})},after:function(){return this.domManip(arguments,
+function(a){this.parentNode&&this.parentNode.insertBefore(a,this.nextSibling)})},remove:function(a,b){for(var c,e=a?d.filter(a,this):this,f=0;null!=(c=e[f]);f++)b||1!==c.nodeType||d.cleanData(w(c)),c.parentNode&&(b&&d.contains(c.ownerDocument,c)&&Ha(w(c,"script")),c.parentNode.removeChild(c));return this},empty:function(){for(var a,b=0;null!=(a=this[b]);b++){for(1===a.nodeType&&d.cleanData(w(a,!1));a.firstChild;)a.removeChild(a.firstChild);a.options&&d.nodeName(a,"select")&&(a.options.length=0)}return this},
+clone:function(a,b){a=null==a?!1:a;b=null==b?a:b;return this.map(function(){return d.clone(this,a,b)})},html:function(a){return aa(this,function(a){var c=this[0]||{},e=0,f=this.length;if(void 0===a)return 1===c.nodeType?c.innerHTML.replace(sc,""):void 0;if(!("string"!==typeof a||uc.test(a)||!p.htmlSerialize&&Ib.test(a)||!p.leadingWhitespace&&Qa.test(a)||H[(Kb.exec(a)||["",""])[1].toLowerCase()])){a=a.replace(Jb,"<$1></$2>");try{for(;e<f;e++)c=this[e]||{},1===c.nodeType&&(d.cleanData(w(c,!1)),c.innerHTML=
+a);c=0}catch(g){}}c&&this.empty().append(a)},null,a,arguments.length)},replaceWith:function(){var a=arguments[0];this.domManip(arguments,function(b){a=this.parentNode;d.cleanData(w(this));a&&a.replaceChild(b,this)});return a&&(a.length||a.nodeType)?this:this.remove()},detach:function(a){return this.remove(a,!0)},domManip:function(a,b){a=Ab.apply([],a);var c,e,f,g,h=0,k=this.length,l=this,r=k-1,n=a[0],m=d.isFunction(n);if(m||1<k&&"string"===typeof n&&!p.checkClone&&vc.test(n))return this.each(function(c){var d=
+l.eq(c);m&&(a[0]=n.call(this,c,d.html()));d.domManip(a,b)});if(k&&(g=d.buildFragment(a,this[0].ownerDocument,!1,this),c=g.firstChild,1===g.childNodes.length&&(g=c),c)){f=d.map(w(g,"script"),hb);for(e=f.length;h<k;h++)c=g,h!==r&&(c=d.clone(c,!0,!0),e&&d.merge(f,w(c,"script"))),b.call(this[h],c,h);if(e)for(g=f[f.length-1].ownerDocument,d.map(f,ib),h=0;h<e;h++)c=f[h],Mb.test(c.type||"")&&!d._data(c,"globalEval")&&d.contains(g,c)&&(c.src?d._evalUrl&&d._evalUrl(c.src):d.globalEval((c.text||c.textContent||
+c.innerHTML||"").replace(wc,"")));g=c=null}return this}});d.each({appendTo:"append",prependTo:"prepend",insertBefore:"before",insertAfter:"after",replaceAll:"replaceWith"},function(a,b){d.fn[a]=function(a){for(var e=0,f=[],g=d(a),h=g.length-1;e<=h;e++)a=e===h?this:this.clone(!0),d(g[e])[b](a),La.apply(f,a.get());return this.pushStack(f)}});var ha,lb={};(function(){var a;p.shrinkWrapBlocks=function(){if(null!=a)return a;a=!1;var b,c,d;if((c=n.getElementsByTagName("body")[0])&&c.style)return b=n.createElement("div"),
+d=n.createElement("div"),d.style.cssText="position:absolute;border:0;width:0;height:0;top:0;left:-9999px",c.appendChild(d).appendChild(b),"undefined"!==typeof b.style.zoom&&(b.style.cssText="-webkit-box-sizing:content-box;-moz-box-sizing:content-box;box-sizing:content-box;display:block;margin:0;border:0;padding:1px;width:1px;zoom:1",b.appendChild(n.createElement("div")).style.width="5px",a=3!==b.offsetWidth),c.removeChild(d),a}})();var Nb=/^margin/,qa=new RegExp("^("+xa+")(?!px)[a-z%]+$","i"),X,F,
+xc=/^(top|right|bottom|left)$/;q.getComputedStyle?(X=function(a){return a.ownerDocument.defaultView.opener?a.ownerDocument.defaultView.getComputedStyle(a,null):q.getComputedStyle(a,null)},F=function(a,b,c){var e,f,g=a.style;f=(c=c||X(a))?c.getPropertyValue(b)||c[b]:void 0;c&&(""!==f||d.contains(a.ownerDocument,a)||(f=d.style(a,b)),qa.test(f)&&Nb.test(b)&&(a=g.width,b=g.minWidth,e=g.maxWidth,g.minWidth=g.maxWidth=g.width=f,f=c.width,g.width=a,g.minWidth=b,g.maxWidth=e));return void 0===f?f:f+""}):
+n.documentElement.currentStyle&&(X=function(a){return a.currentStyle},F=function(a,b,c){var d,f,g,h=a.style;g=(c=c||X(a))?c[b]:void 0;null==g&&h&&h[b]&&(g=h[b]);if(qa.test(g)&&!xc.test(b)){c=h.left;if(f=(d=a.runtimeStyle)&&d.left)d.left=a.currentStyle.left;h.left="fontSize"===b?"1em":g;g=h.pixelLeft+"px";h.left=c;f&&(d.left=f)}return void 0===g?g:g+""||"auto"});(function(){function a(){var a,b,c,d;if((b=n.getElementsByTagName("body")[0])&&b.style){a=n.createElement("div");c=n.createElement("div");
+c.style.cssText="position:absolute;border:0;width:0;height:0;top:0;left:-9999px";b.appendChild(c).appendChild(a);a.style.cssText="-webkit-box-sizing:border-box;-moz-box-sizing:border-box;box-sizing:border-box;display:block;margin-top:1%;top:1%;border:1px;padding:1px;width:4px;position:absolute";e=f=!1;h=!0;q.getComputedStyle&&(e="1%"!==(q.getComputedStyle(a,null)||{}).top,f="4px"===(q.getComputedStyle(a,null)||{width:"4px"}).width,d=a.appendChild(n.createElement("div")),d.style.cssText=a.style.cssText=
+"-webkit-box-sizing:content-box;-moz-box-sizing:content-box;box-sizing:content-box;display:block;margin:0;border:0;padding:0",d.style.marginRight=d.style.width="0",a.style.width="1px",h=!parseFloat((q.getComputedStyle(d,null)||{}).marginRight),a.removeChild(d));a.innerHTML="<table><tr><td></td><td>t</td></tr></table>";d=a.getElementsByTagName("td");d[0].style.cssText="margin:0;border:0;padding:0;display:none";if(g=0===d[0].offsetHeight)d[0].style.display="",d[1].style.display="none",g=0===d[0].offsetHeight;
+b.removeChild(c)}}var b,c,e,f,g,h;b=n.createElement("div");b.innerHTML="  <link/><table></table><a href='/a'>a</a><input type='checkbox'/>";if(c=(c=b.getElementsByTagName("a")[0])&&c.style)c.cssText="float:left;opacity:.5",p.opacity="0.5"===c.opacity,p.cssFloat=!!c.cssFloat,b.style.backgroundClip="content-box",b.cloneNode(!0).style.backgroundClip="",p.clearCloneStyle="content-box"===b.style.backgroundClip,p.boxSizing=""===c.boxSizing||""===c.MozBoxSizing||""===c.WebkitBoxSizing,d.extend(p,{reliableHiddenOffsets:function(){null==
+g&&a();return g},boxSizingReliable:function(){null==f&&a();return f},pixelPosition:function(){null==e&&a();return e},reliableMarginRight:function(){null==h&&a();return h}})})();d.swap=function(a,b,c,d){var f,g={};for(f in b)g[f]=a.style[f],a.style[f]=b[f];c=c.apply(a,d||[]);for(f in b)a.style[f]=g[f];return c};var Sa=/alpha\([^)]*\)/i,yc=/opacity\s*=\s*([^)]*)/,zc=/^(none|table(?!-c[ea]).+)/,ec=new RegExp("^("+xa+")(.*)$","i"),Ac=new RegExp("^([+-])=("+xa+")","i"),Bc={position:"absolute",visibility:"hidden",
+display:"block"},Ob={letterSpacing:"0",fontWeight:"400"},ob=["Webkit","O","Moz","ms"];d.extend({cssHooks:{opacity:{get:function(a,b){if(b){var c=F(a,"opacity");return""===c?"1":c}}}},cssNumber:{columnCount:!0,fillOpacity:!0,flexGrow:!0,flexShrink:!0,fontWeight:!0,lineHeight:!0,opacity:!0,order:!0,orphans:!0,widows:!0,zIndex:!0,zoom:!0},cssProps:{"float":p.cssFloat?"cssFloat":"styleFloat"},style:function(a,b,c,e){if(a&&3!==a.nodeType&&8!==a.nodeType&&a.style){var f,g,h,k=d.camelCase(b),l=a.style;b=
+d.cssProps[k]||(d.cssProps[k]=nb(l,k));h=d.cssHooks[b]||d.cssHooks[k];if(void 0!==c){if(g=typeof c,"string"===g&&(f=Ac.exec(c))&&(c=(f[1]+1)*f[2]+parseFloat(d.css(a,b)),g="number"),null!=c&&c===c&&("number"!==g||d.cssNumber[k]||(c+="px"),p.clearCloneStyle||""!==c||0!==b.indexOf("background")||(l[b]="inherit"),!(h&&"set"in h)||void 0!==(c=h.set(a,c,e))))try{l[b]=c}catch(n){}}else return h&&"get"in h&&void 0!==(f=h.get(a,!1,e))?f:l[b]}},css:function(a,b,c,e){var f,g;g=d.camelCase(b);b=d.cssProps[g]||
+(d.cssProps[g]=nb(a.style,g));(g=d.cssHooks[b]||d.cssHooks[g])&&"get"in g&&(f=g.get(a,!0,c));void 0===f&&(f=F(a,b,e));"normal"===f&&b in Ob&&(f=Ob[b]);return""===c||c?(a=parseFloat(f),!0===c||d.isNumeric(a)?a||0:f):f}});d.each(["height","width"],function(a,b){d.cssHooks[b]={get:function(a,e,f){if(e)return zc.test(d.css(a,"display"))&&0===a.offsetWidth?d.swap(a,Bc,function(){return sb(a,b,f)}):sb(a,b,f)},set:function(a,e,f){var g=f&&X(a);return qb(a,e,f?rb(a,b,f,p.boxSizing&&"border-box"===d.css(a,
+"boxSizing",!1,g),g):0)}}});p.opacity||(d.cssHooks.opacity={get:function(a,b){return yc.test((b&&a.currentStyle?a.currentStyle.filter:a.style.filter)||"")?.01*parseFloat(RegExp.$1)+"":b?"1":""},set:function(a,b){var c=a.style,e=a.currentStyle,f=d.isNumeric(b)?"alpha(opacity="+100*b+")":"",g=e&&e.filter||c.filter||"";c.zoom=1;if((1<=b||""===b)&&""===d.trim(g.replace(Sa,""))&&c.removeAttribute&&(c.removeAttribute("filter"),""===b||e&&!e.filter))return;c.filter=Sa.test(g)?g.replace(Sa,f):g+" "+f}});
+d.cssHooks.marginRight=mb(p.reliableMarginRight,function(a,b){if(b)return d.swap(a,{display:"inline-block"},F,[a,"marginRight"])});d.each({margin:"",padding:"",border:"Width"},function(a,b){d.cssHooks[a+b]={expand:function(c){var d=0,f={};for(c="string"===typeof c?c.split(" "):[c];4>d;d++)f[a+M[d]+b]=c[d]||c[d-2]||c[0];return f}};Nb.test(a)||(d.cssHooks[a+b].set=qb)});d.fn.extend({css:function(a,b){return aa(this,function(a,b,f){var g,h={},k=0;if(d.isArray(b)){f=X(a);for(g=b.length;k<g;k++)h[b[k]]=
+d.css(a,b[k],!1,f);return h}return void 0!==f?d.style(a,b,f):d.css(a,b)},a,b,1<arguments.length)},show:function(){return pb(this,!0)},hide:function(){return pb(this)},toggle:function(a){return"boolean"===typeof a?a?this.show():this.hide():this.each(function(){ia(this)?d(this).show():d(this).hide()})}});d.Tween=B;B.prototype={constructor:B,init:function(a,b,c,e,f,g){this.elem=a;this.prop=c;this.easing=f||"swing";this.options=b;this.start=this.now=this.cur();this.end=e;this.unit=g||(d.cssNumber[c]?
+"":"px")},cur:function(){var a=B.propHooks[this.prop];return a&&a.get?a.get(this):B.propHooks._default.get(this)},run:function(a){var b,c=B.propHooks[this.prop];this.pos=this.options.duration?b=d.easing[this.easing](a,this.options.duration*a,0,1,this.options.duration):b=a;this.now=(this.end-this.start)*b+this.start;this.options.step&&this.options.step.call(this.elem,this.now,this);c&&c.set?c.set(this):B.propHooks._default.set(this);return this}};B.prototype.init.prototype=B.prototype;B.propHooks=
+{_default:{get:function(a){return null==a.elem[a.prop]||a.elem.style&&null!=a.elem.style[a.prop]?(a=d.css(a.elem,a.prop,""))&&"auto"!==a?a:0:a.elem[a.prop]},set:function(a){if(d.fx.step[a.prop])d.fx.step[a.prop](a);else a.elem.style&&(null!=a.elem.style[d.cssProps[a.prop]]||d.cssHooks[a.prop])?d.style(a.elem,a.prop,a.now+a.unit):a.elem[a.prop]=a.now}}};B.propHooks.scrollTop=B.propHooks.scrollLeft={set:function(a){a.elem.nodeType&&a.elem.parentNode&&(a.elem[a.prop]=a.now)}};d.easing={linear:function(a){return a},
+swing:function(a){return.5-Math.cos(a*Math.PI)/2}};d.fx=B.prototype.init;d.fx.step={};var Y,za,Cc=/^(?:toggle|show|hide)$/,Pb=new RegExp("^(?:([+-])=|)("+xa+")([a-z%]*)$","i"),Dc=/queueHooks$/,ca=[function(a,b,c){var e,f,g,h,k,l,n=this,q={},m=a.style,z=a.nodeType&&ia(a),y=d._data(a,"fxshow");c.queue||(h=d._queueHooks(a,"fx"),null==h.unqueued&&(h.unqueued=0,k=h.empty.fire,h.empty.fire=function(){h.unqueued||k()}),h.unqueued++,n.always(function(){n.always(function(){h.unqueued--;d.queue(a,"fx").length||
+h.empty.fire()})}));1===a.nodeType&&("height"in b||"width"in b)&&(c.overflow=[m.overflow,m.overflowX,m.overflowY],l=d.css(a,"display"),f="none"===l?d._data(a,"olddisplay")||pa(a.nodeName):l,"inline"===f&&"none"===d.css(a,"float")&&(p.inlineBlockNeedsLayout&&"inline"!==pa(a.nodeName)?m.zoom=1:m.display="inline-block"));c.overflow&&(m.overflow="hidden",p.shrinkWrapBlocks()||n.always(function(){m.overflow=c.overflow[0];m.overflowX=c.overflow[1];m.overflowY=c.overflow[2]}));for(e in b)if(f=b[e],Cc.exec(f)){delete b[e];
+g=g||"toggle"===f;if(f===(z?"hide":"show"))if("show"===f&&y&&void 0!==y[e])z=!0;else continue;q[e]=y&&y[e]||d.style(a,e)}else l=void 0;if(d.isEmptyObject(q))"inline"===("none"===l?pa(a.nodeName):l)&&(m.display=l);else for(e in y?"hidden"in y&&(z=y.hidden):y=d._data(a,"fxshow",{}),g&&(y.hidden=!z),z?d(a).show():n.done(function(){d(a).hide()}),n.done(function(){var b;d._removeData(a,"fxshow");for(b in q)d.style(a,b,q[b])}),q)b=ub(z?y[e]:0,e,n),e in y||(y[e]=b.start,z&&(b.end=b.start,b.start="width"===
+e||"height"===e?1:0))}],ja={"*":[function(a,b){var c=this.createTween(a,b),e=c.cur(),f=Pb.exec(b),g=f&&f[3]||(d.cssNumber[a]?"":"px"),h=(d.cssNumber[a]||"px"!==g&&+e)&&Pb.exec(d.css(c.elem,a)),k=1,l=20;if(h&&h[3]!==g){g=g||h[3];f=f||[];h=+e||1;do k=k||".5",h/=k,d.style(c.elem,a,h+g);while(k!==(k=c.cur()/e)&&1!==k&&--l)}f&&(h=c.start=+h||+e||0,c.unit=g,c.end=f[1]?h+(f[1]+1)*f[2]:+f[2]);return c}]};d.Animation=d.extend(vb,{tweener:function(a,b){d.isFunction(a)?(b=a,a=["*"]):a=a.split(" ");for(var c,
+e=0,f=a.length;e<f;e++)c=a[e],ja[c]=ja[c]||[],ja[c].unshift(b)},prefilter:function(a,b){b?ca.unshift(a):ca.push(a)}});d.speed=function(a,b,c){var e=a&&"object"===typeof a?d.extend({},a):{complete:c||!c&&b||d.isFunction(a)&&a,duration:a,easing:c&&b||b&&!d.isFunction(b)&&b};e.duration=d.fx.off?0:"number"===typeof e.duration?e.duration:e.duration in d.fx.speeds?d.fx.speeds[e.duration]:d.fx.speeds._default;if(null==e.queue||!0===e.queue)e.queue="fx";e.old=e.complete;e.complete=function(){d.isFunction(e.old)&&
+e.old.call(this);e.queue&&d.dequeue(this,e.queue)};return e};d.fn.extend({fadeTo:function(a,b,c,d){return this.filter(ia).css("opacity",0).show().end().animate({opacity:b},a,c,d)},animate:function(a,b,c,e){var f=d.isEmptyObject(a),g=d.speed(b,c,e);b=function(){var b=vb(this,d.extend({},a),g);(f||d._data(this,"finish"))&&b.stop(!0)};b.finish=b;return f||!1===g.queue?this.each(b):this.queue(g.queue,b)},stop:function(a,b,c){var e=function(a){var b=a.stop;delete a.stop;b(c)};"string"!==typeof a&&(c=b,
+b=a,a=void 0);b&&!1!==a&&this.queue(a||"fx",[]);return this.each(function(){var b=!0,g=null!=a&&a+"queueHooks",h=d.timers,k=d._data(this);if(g)k[g]&&k[g].stop&&e(k[g]);else for(g in k)k[g]&&k[g].stop&&Dc.test(g)&&e(k[g]);for(g=h.length;g--;)h[g].elem!==this||null!=a&&h[g].queue!==a||(h[g].anim.stop(c),b=!1,h.splice(g,1));!b&&c||d.dequeue(this,a)})},finish:function(a){!1!==a&&(a=a||"fx");return this.each(function(){var b,c=d._data(this),e=c[a+"queue"];b=c[a+"queueHooks"];var f=d.timers,g=e?e.length:
+0;c.finish=!0;d.queue(this,a,[]);b&&b.stop&&b.stop.call(this,!0);for(b=f.length;b--;)f[b].elem===this&&f[b].queue===a&&(f[b].anim.stop(!0),f.splice(b,1));for(b=0;b<g;b++)e[b]&&e[b].finish&&e[b].finish.call(this);delete c.finish})}});d.each(["toggle","show","hide"],function(a,b){var c=d.fn[b];d.fn[b]=function(a,d,g){return null==a||"boolean"===typeof a?c.apply(this,arguments):this.animate(ra(b,!0),a,d,g)}});d.each({slideDown:ra("show"),slideUp:ra("hide"),slideToggle:ra("toggle"),fadeIn:{opacity:"show"},
+fadeOut:{opacity:"hide"},fadeToggle:{opacity:"toggle"}},function(a,b){d.fn[a]=function(a,d,f){return this.animate(b,a,d,f)}});d.timers=[];d.fx.tick=function(){var a,b=d.timers,c=0;for(Y=d.now();c<b.length;c++)a=b[c],a()||b[c]!==a||b.splice(c--,1);b.length||d.fx.stop();Y=void 0};d.fx.timer=function(a){d.timers.push(a);a()?d.fx.start():d.timers.pop()};d.fx.interval=13;d.fx.start=function(){za||(za=setInterval(d.fx.tick,d.fx.interval))};d.fx.stop=function(){clearInterval(za);za=null};d.fx.speeds={slow:600,
+fast:200,_default:400};d.fn.delay=function(a,b){a=d.fx?d.fx.speeds[a]||a:a;return this.queue(b||"fx",function(b,d){var f=setTimeout(b,a);d.stop=function(){clearTimeout(f)}})};(function(){var a,b,c,d,f;b=n.createElement("div");b.setAttribute("className","t");b.innerHTML="  <link/><table></table><a href='/a'>a</a><input type='checkbox'/>";d=b.getElementsByTagName("a")[0];c=n.createElement("select");f=c.appendChild(n.createElement("option"));a=b.getElementsByTagName("input")[0];d.style.cssText="top:1px";
+p.getSetAttribute="t"!==b.className;p.style=/top/.test(d.getAttribute("style"));p.hrefNormalized="/a"===d.getAttribute("href");p.checkOn=!!a.value;p.optSelected=f.selected;p.enctype=!!n.createElement("form").enctype;c.disabled=!0;p.optDisabled=!f.disabled;a=n.createElement("input");a.setAttribute("value","");p.input=""===a.getAttribute("value");a.value="t";a.setAttribute("type","radio");p.radioValue="t"===a.value})();var Ec=/\r/g;d.fn.extend({val:function(a){var b,c,e,f=this[0];if(arguments.length)return e=
+d.isFunction(a),this.each(function(c){1===this.nodeType&&(c=e?a.call(this,c,d(this).val()):a,null==c?c="":"number"===typeof c?c+="":d.isArray(c)&&(c=d.map(c,function(a){return null==a?"":a+""})),b=d.valHooks[this.type]||d.valHooks[this.nodeName.toLowerCase()],b&&"set"in b&&void 0!==b.set(this,c,"value")||(this.value=c))});if(f){if((b=d.valHooks[f.type]||d.valHooks[f.nodeName.toLowerCase()])&&"get"in b&&void 0!==(c=b.get(f,"value")))return c;c=f.value;return"string"===typeof c?c.replace(Ec,""):null==
+c?"":c}}});d.extend({valHooks:{option:{get:function(a){var b=d.find.attr(a,"value");return null!=b?b:d.trim(d.text(a))}},select:{get:function(a){for(var b,c=a.options,e=a.selectedIndex,f=(a="select-one"===a.type||0>e)?null:[],g=a?e+1:c.length,h=0>e?g:a?e:0;h<g;h++)if(b=c[h],!(!b.selected&&h!==e||(p.optDisabled?b.disabled:null!==b.getAttribute("disabled"))||b.parentNode.disabled&&d.nodeName(b.parentNode,"optgroup"))){b=d(b).val();if(a)return b;f.push(b)}return f},set:function(a,b){for(var c,e,f=a.options,
+g=d.makeArray(b),h=f.length;h--;)if(e=f[h],0<=d.inArray(d.valHooks.option.get(e),g))try{e.selected=c=!0}catch(k){e.scrollHeight}else e.selected=!1;c||(a.selectedIndex=-1);return f}}}});d.each(["radio","checkbox"],function(){d.valHooks[this]={set:function(a,b){if(d.isArray(b))return a.checked=0<=d.inArray(d(a).val(),b)}};p.checkOn||(d.valHooks[this].get=function(a){return null===a.getAttribute("value")?"on":a.value})});var O,Qb,P=d.expr.attrHandle,Ta=/^(?:checked|selected)$/i,ba=p.getSetAttribute,
+Aa=p.input;d.fn.extend({attr:function(a,b){return aa(this,d.attr,a,b,1<arguments.length)},removeAttr:function(a){return this.each(function(){d.removeAttr(this,a)})}});d.extend({attr:function(a,b,c){var e,f,g=a.nodeType;if(a&&3!==g&&8!==g&&2!==g){if("undefined"===typeof a.getAttribute)return d.prop(a,b,c);1===g&&d.isXMLDoc(a)||(b=b.toLowerCase(),e=d.attrHooks[b]||(d.expr.match.bool.test(b)?Qb:O));if(void 0!==c)if(null===c)d.removeAttr(a,b);else{if(e&&"set"in e&&void 0!==(f=e.set(a,c,b)))return f;a.setAttribute(b,
+c+"");return c}else{if(e&&"get"in e&&null!==(f=e.get(a,b)))return f;f=d.find.attr(a,b);return null==f?void 0:f}}},removeAttr:function(a,b){var c,e,f=0,g=b&&b.match(K);if(g&&1===a.nodeType)for(;c=g[f++];)e=d.propFix[c]||c,d.expr.match.bool.test(c)?Aa&&ba||!Ta.test(c)?a[e]=!1:a[d.camelCase("default-"+c)]=a[e]=!1:d.attr(a,c,""),a.removeAttribute(ba?c:e)},attrHooks:{type:{set:function(a,b){if(!p.radioValue&&"radio"===b&&d.nodeName(a,"input")){var c=a.value;a.setAttribute("type",b);c&&(a.value=c);return b}}}}});
+Qb={set:function(a,b,c){!1===b?d.removeAttr(a,c):Aa&&ba||!Ta.test(c)?a.setAttribute(!ba&&d.propFix[c]||c,c):a[d.camelCase("default-"+c)]=a[c]=!0;return c}};d.each(d.expr.match.bool.source.match(/\w+/g),function(a,b){var c=P[b]||d.find.attr;P[b]=Aa&&ba||!Ta.test(b)?function(a,b,d){var h,k;d||(k=P[b],P[b]=h,h=null!=c(a,b,d)?b.toLowerCase():null,P[b]=k);return h}:function(a,b,c){if(!c)return a[d.camelCase("default-"+b)]?b.toLowerCase():null}});Aa&&ba||(d.attrHooks.value={set:function(a,b,c){if(d.nodeName(a,
+"input"))a.defaultValue=b;else return O&&O.set(a,b,c)}});ba||(O={set:function(a,b,c){var d=a.getAttributeNode(c);d||a.setAttributeNode(d=a.ownerDocument.createAttribute(c));d.value=b+="";if("value"===c||b===a.getAttribute(c))return b}},P.id=P.name=P.coords=function(a,b,c){var d;if(!c)return(d=a.getAttributeNode(b))&&""!==d.value?d.value:null},d.valHooks.button={get:function(a,b){var c=a.getAttributeNode(b);if(c&&c.specified)return c.value},set:O.set},d.attrHooks.contenteditable={set:function(a,b,
+c){O.set(a,""===b?!1:b,c)}},d.each(["width","height"],function(a,b){d.attrHooks[b]={set:function(a,d){if(""===d)return a.setAttribute(b,"auto"),d}}}));p.style||(d.attrHooks.style={get:function(a){return a.style.cssText||void 0},set:function(a,b){return a.style.cssText=b+""}});var Fc=/^(?:input|select|textarea|button|object)$/i,Gc=/^(?:a|area)$/i;d.fn.extend({prop:function(a,b){return aa(this,d.prop,a,b,1<arguments.length)},removeProp:function(a){a=d.propFix[a]||a;return this.each(function(){try{this[a]=
+void 0,delete this[a]}catch(b){}})}});d.extend({propFix:{"for":"htmlFor","class":"className"},prop:function(a,b,c){var e,f,g;g=a.nodeType;if(a&&3!==g&&8!==g&&2!==g){if(g=1!==g||!d.isXMLDoc(a))b=d.propFix[b]||b,f=d.propHooks[b];return void 0!==c?f&&"set"in f&&void 0!==(e=f.set(a,c,b))?e:a[b]=c:f&&"get"in f&&null!==(e=f.get(a,b))?e:a[b]}},propHooks:{tabIndex:{get:function(a){var b=d.find.attr(a,"tabindex");return b?parseInt(b,10):Fc.test(a.nodeName)||Gc.test(a.nodeName)&&a.href?0:-1}}}});p.hrefNormalized||
+d.each(["href","src"],function(a,b){d.propHooks[b]={get:function(a){return a.getAttribute(b,4)}}});p.optSelected||(d.propHooks.selected={get:function(a){if(a=a.parentNode)a.selectedIndex,a.parentNode&&a.parentNode.selectedIndex;return null}});d.each("tabIndex readOnly maxLength cellSpacing cellPadding rowSpan colSpan useMap frameBorder contentEditable".split(" "),function(){d.propFix[this.toLowerCase()]=this});p.enctype||(d.propFix.enctype="encoding");var Ua=/[\t\r\n\f]/g;d.fn.extend({addClass:function(a){var b,
+c,e,f,g,h=0,k=this.length;b="string"===typeof a&&a;if(d.isFunction(a))return this.each(function(b){d(this).addClass(a.call(this,b,this.className))});if(b)for(b=(a||"").match(K)||[];h<k;h++)if(c=this[h],e=1===c.nodeType&&(c.className?(" "+c.className+" ").replace(Ua," "):" ")){for(g=0;f=b[g++];)0>e.indexOf(" "+f+" ")&&(e+=f+" ");e=d.trim(e);c.className!==e&&(c.className=e)}return this},removeClass:function(a){var b,c,e,f,g,h=0,k=this.length;b=0===arguments.length||"string"===typeof a&&a;if(d.isFunction(a))return this.each(function(b){d(this).removeClass(a.call(this,
+b,this.className))});if(b)for(b=(a||"").match(K)||[];h<k;h++)if(c=this[h],e=1===c.nodeType&&(c.className?(" "+c.className+" ").replace(Ua," "):"")){for(g=0;f=b[g++];)for(;0<=e.indexOf(" "+f+" ");)e=e.replace(" "+f+" "," ");e=a?d.trim(e):"";c.className!==e&&(c.className=e)}return this},toggleClass:function(a,b){var c=typeof a;return"boolean"===typeof b&&"string"===c?b?this.addClass(a):this.removeClass(a):d.isFunction(a)?this.each(function(c){d(this).toggleClass(a.call(this,c,this.className,b),b)}):
+this.each(function(){if("string"===c)for(var b,f=0,g=d(this),h=a.match(K)||[];b=h[f++];)g.hasClass(b)?g.removeClass(b):g.addClass(b);else if("undefined"===c||"boolean"===c)this.className&&d._data(this,"__className__",this.className),this.className=this.className||!1===a?"":d._data(this,"__className__")||""})},hasClass:function(a){a=" "+a+" ";for(var b=0,c=this.length;b<c;b++)if(1===this[b].nodeType&&0<=(" "+this[b].className+" ").replace(Ua," ").indexOf(a))return!0;return!1}});d.each("blur focus focusin focusout load resize scroll unload click dblclick mousedown mouseup mousemove mouseover mouseout mouseenter mouseleave change select submit keydown keypress keyup error contextmenu".split(" "),
+function(a,b){d.fn[b]=function(a,d){return 0<arguments.length?this.on(b,null,a,d):this.trigger(b)}});d.fn.extend({hover:function(a,b){return this.mouseenter(a).mouseleave(b||a)},bind:function(a,b,c){return this.on(a,null,b,c)},unbind:function(a,b){return this.off(a,null,b)},delegate:function(a,b,c,d){return this.on(b,a,c,d)},undelegate:function(a,b,c){return 1===arguments.length?this.off(a,"**"):this.off(b,a||"**",c)}});var Va=d.now(),Wa=/\?/,Hc=/(,)|(\[|{)|(}|])|"(?:[^"\\\r\n]|\\["\\\/bfnrt]|\\u[\da-fA-F]{4})*"\s*:?|true|false|null|-?(?!0\d)\d+(?:\.\d+|)(?:[eE][+-]?\d+|)/g;
+d.parseJSON=function(a){if(q.JSON&&q.JSON.parse)return q.JSON.parse(a+"");var b,c=null,e=d.trim(a+"");return e&&!d.trim(e.replace(Hc,function(a,d,e,k){b&&d&&(c=0);if(0===c)return a;b=e||d;c+=!k-!e;return""}))?Function("return "+e)():d.error("Invalid JSON: "+a)};d.parseXML=function(a){var b,c;if(!a||"string"!==typeof a)return null;try{q.DOMParser?(c=new DOMParser,b=c.parseFromString(a,"text/xml")):(b=new ActiveXObject("Microsoft.XMLDOM"),b.async="false",b.loadXML(a))}catch(e){b=void 0}b&&b.documentElement&&
+!b.getElementsByTagName("parsererror").length||d.error("Invalid XML: "+a);return b};var U,Q,Ic=/#.*$/,Rb=/([?&])_=[^&]*/,Jc=/^(.*?):[ \t]*([^\r\n]*)\r?$/mg,Kc=/^(?:GET|HEAD)$/,Lc=/^\/\//,Sb=/^([\w.+-]+:)(?:\/\/(?:[^\/?#]*@|)([^\/?#:]*)(?::(\d+)|)|)/,Tb={},Ia={},Ub="*/".concat("*");try{Q=location.href}catch(Sc){Q=n.createElement("a"),Q.href="",Q=Q.href}U=Sb.exec(Q.toLowerCase())||[];d.extend({active:0,lastModified:{},etag:{},ajaxSettings:{url:Q,type:"GET",isLocal:/^(?:about|app|app-storage|.+-extension|file|res|widget):$/.test(U[1]),
+global:!0,processData:!0,async:!0,contentType:"application/x-www-form-urlencoded; charset=UTF-8",accepts:{"*":Ub,text:"text/plain",html:"text/html",xml:"application/xml, text/xml",json:"application/json, text/javascript"},contents:{xml:/xml/,html:/html/,json:/json/},responseFields:{xml:"responseXML",text:"responseText",json:"responseJSON"},converters:{"* text":String,"text html":!0,"text json":d.parseJSON,"text xml":d.parseXML},flatOptions:{url:!0,context:!0}},ajaxSetup:function(a,b){return b?Ja(Ja(a,
+d.ajaxSettings),b):Ja(d.ajaxSettings,a)},ajaxPrefilter:wb(Tb),ajaxTransport:wb(Ia),ajax:function(a,b){function c(a,b,c,e){var f,p,t,u;u=b;if(2!==J){J=2;k&&clearTimeout(k);n=void 0;h=e||"";s.readyState=0<a?4:0;e=200<=a&&300>a||304===a;if(c){t=m;for(var C=s,G,H,A,v,D=t.contents,L=t.dataTypes;"*"===L[0];)L.shift(),void 0===H&&(H=t.mimeType||C.getResponseHeader("Content-Type"));if(H)for(v in D)if(D[v]&&D[v].test(H)){L.unshift(v);break}if(L[0]in c)A=L[0];else{for(v in c){if(!L[0]||t.converters[v+" "+L[0]]){A=
+v;break}G||(G=v)}A=A||G}A?(A!==L[0]&&L.unshift(A),t=c[A]):t=void 0}a:{c=m;G=t;H=s;A=e;var x,E,I,C={},D=c.dataTypes.slice();if(D[1])for(E in c.converters)C[E.toLowerCase()]=c.converters[E];for(v=D.shift();v;)if(c.responseFields[v]&&(H[c.responseFields[v]]=G),!I&&A&&c.dataFilter&&(G=c.dataFilter(G,c.dataType)),I=v,v=D.shift())if("*"===v)v=I;else if("*"!==I&&I!==v){E=C[I+" "+v]||C["* "+v];if(!E)for(x in C)if(t=x.split(" "),t[1]===v&&(E=C[I+" "+t[0]]||C["* "+t[0]])){!0===E?E=C[x]:!0!==C[x]&&(v=t[0],D.unshift(t[1]));
+break}if(!0!==E)if(E&&c["throws"])G=E(G);else try{G=E(G)}catch(K){t={state:"parsererror",error:E?K:"No conversion from "+I+" to "+v};break a}}t={state:"success",data:G}}if(e)m.ifModified&&((u=s.getResponseHeader("Last-Modified"))&&(d.lastModified[g]=u),(u=s.getResponseHeader("etag"))&&(d.etag[g]=u)),204===a||"HEAD"===m.type?u="nocontent":304===a?u="notmodified":(u=t.state,f=t.data,p=t.error,e=!p);else if(p=u,a||!u)u="error",0>a&&(a=0);s.status=a;s.statusText=(b||u)+"";e?w.resolveWith(q,[f,u,s]):w.rejectWith(q,
+[s,u,p]);s.statusCode(B);B=void 0;l&&y.trigger(e?"ajaxSuccess":"ajaxError",[s,m,e?f:p]);F.fireWith(q,[s,u]);l&&(y.trigger("ajaxComplete",[s,m]),--d.active||d.event.trigger("ajaxStop"))}}"object"===typeof a&&(b=a,a=void 0);b=b||{};var e,f,g,h,k,l,n,p,m=d.ajaxSetup({},b),q=m.context||m,y=m.context&&(q.nodeType||q.jquery)?d(q):d.event,w=d.Deferred(),F=d.Callbacks("once memory"),B=m.statusCode||{},H={},D={},J=0,u="canceled",s={readyState:0,getResponseHeader:function(a){var b;if(2===J){if(!p)for(p={};b=
+Jc.exec(h);)p[b[1].toLowerCase()]=b[2];b=p[a.toLowerCase()]}return null==b?null:b},getAllResponseHeaders:function(){return 2===J?h:null},setRequestHeader:function(a,b){var c=a.toLowerCase();J||(a=D[c]=D[c]||a,H[a]=b);return this},overrideMimeType:function(a){J||(m.mimeType=a);return this},statusCode:function(a){var b;if(a)if(2>J)for(b in a)B[b]=[B[b],a[b]];else s.always(a[s.status]);return this},abort:function(a){a=a||u;n&&n.abort(a);c(0,a);return this}};w.promise(s).complete=F.add;s.success=s.done;
+s.error=s.fail;m.url=((a||m.url||Q)+"").replace(Ic,"").replace(Lc,U[1]+"//");m.type=b.method||b.type||m.method||m.type;m.dataTypes=d.trim(m.dataType||"*").toLowerCase().match(K)||[""];null==m.crossDomain&&(e=Sb.exec(m.url.toLowerCase()),m.crossDomain=!(!e||e[1]===U[1]&&e[2]===U[2]&&(e[3]||("http:"===e[1]?"80":"443"))===(U[3]||("http:"===U[1]?"80":"443"))));m.data&&m.processData&&"string"!==typeof m.data&&(m.data=d.param(m.data,m.traditional));xb(Tb,m,b,s);if(2===J)return s;(l=d.event&&m.global)&&
+0===d.active++&&d.event.trigger("ajaxStart");m.type=m.type.toUpperCase();m.hasContent=!Kc.test(m.type);g=m.url;m.hasContent||(m.data&&(g=m.url+=(Wa.test(g)?"&":"?")+m.data,delete m.data),!1===m.cache&&(m.url=Rb.test(g)?g.replace(Rb,"$1_="+Va++):g+(Wa.test(g)?"&":"?")+"_="+Va++));m.ifModified&&(d.lastModified[g]&&s.setRequestHeader("If-Modified-Since",d.lastModified[g]),d.etag[g]&&s.setRequestHeader("If-None-Match",d.etag[g]));(m.data&&m.hasContent&&!1!==m.contentType||b.contentType)&&s.setRequestHeader("Content-Type",
+m.contentType);s.setRequestHeader("Accept",m.dataTypes[0]&&m.accepts[m.dataTypes[0]]?m.accepts[m.dataTypes[0]]+("*"!==m.dataTypes[0]?", "+Ub+"; q=0.01":""):m.accepts["*"]);for(f in m.headers)s.setRequestHeader(f,m.headers[f]);if(m.beforeSend&&(!1===m.beforeSend.call(q,s,m)||2===J))return s.abort();u="abort";for(f in{success:1,error:1,complete:1})s[f](m[f]);if(n=xb(Ia,m,b,s)){s.readyState=1;l&&y.trigger("ajaxSend",[s,m]);m.async&&0<m.timeout&&(k=setTimeout(function(){s.abort("timeout")},m.timeout));
+try{J=1,n.send(H,c)}catch(M){if(2>J)c(-1,M);else throw M;}}else c(-1,"No Transport");return s},getJSON:function(a,b,c){return d.get(a,b,c,"json")},getScript:function(a,b){return d.get(a,void 0,b,"script")}});d.each(["get","post"],function(a,b){d[b]=function(a,e,f,g){d.isFunction(e)&&(g=g||f,f=e,e=void 0);return d.ajax({url:a,type:b,dataType:g,data:e,success:f})}});d._evalUrl=function(a){return d.ajax({url:a,type:"GET",dataType:"script",async:!1,global:!1,"throws":!0})};d.fn.extend({wrapAll:function(a){if(d.isFunction(a))return this.each(function(b){d(this).wrapAll(a.call(this,
+b))});if(this[0]){var b=d(a,this[0].ownerDocument).eq(0).clone(!0);this[0].parentNode&&b.insertBefore(this[0]);b.map(function(){for(var a=this;a.firstChild&&1===a.firstChild.nodeType;)a=a.firstChild;return a}).append(this)}return this},wrapInner:function(a){return d.isFunction(a)?this.each(function(b){d(this).wrapInner(a.call(this,b))}):this.each(function(){var b=d(this),c=b.contents();c.length?c.wrapAll(a):b.append(a)})},wrap:function(a){var b=d.isFunction(a);return this.each(function(c){d(this).wrapAll(b?
+a.call(this,c):a)})},unwrap:function(){return this.parent().each(function(){d.nodeName(this,"body")||d(this).replaceWith(this.childNodes)}).end()}});d.expr.filters.hidden=function(a){return 0>=a.offsetWidth&&0>=a.offsetHeight||!p.reliableHiddenOffsets()&&"none"===(a.style&&a.style.display||d.css(a,"display"))};d.expr.filters.visible=function(a){return!d.expr.filters.hidden(a)};var Mc=/%20/g,gc=/\[\]$/,Vb=/\r?\n/g,Nc=/^(?:submit|button|image|reset|file)$/i,Oc=/^(?:input|select|textarea|keygen)/i;d.param=
+function(a,b){var c,e=[],f=function(a,b){b=d.isFunction(b)?b():null==b?"":b;e[e.length]=encodeURIComponent(a)+"="+encodeURIComponent(b)};void 0===b&&(b=d.ajaxSettings&&d.ajaxSettings.traditional);if(d.isArray(a)||a.jquery&&!d.isPlainObject(a))d.each(a,function(){f(this.name,this.value)});else for(c in a)Ka(c,a[c],b,f);return e.join("&").replace(Mc,"+")};d.fn.extend({serialize:function(){return d.param(this.serializeArray())},serializeArray:function(){return this.map(function(){var a=d.prop(this,"elements");
+return a?d.makeArray(a):this}).filter(function(){var a=this.type;return this.name&&!d(this).is(":disabled")&&Oc.test(this.nodeName)&&!Nc.test(a)&&(this.checked||!Ga.test(a))}).map(function(a,b){var c=d(this).val();return null==c?null:d.isArray(c)?d.map(c,function(a){return{name:b.name,value:a.replace(Vb,"\r\n")}}):{name:b.name,value:c.replace(Vb,"\r\n")}}).get()}});d.ajaxSettings.xhr=void 0!==q.ActiveXObject?function(){var a;if(!(a=!this.isLocal&&/^(get|post|head|put|delete|options)$/i.test(this.type)&&
+yb()))a:{try{a=new q.ActiveXObject("Microsoft.XMLHTTP");break a}catch(b){}a=void 0}return a}:yb;var Pc=0,Ba={},Ca=d.ajaxSettings.xhr();q.attachEvent&&q.attachEvent("onunload",function(){for(var a in Ba)Ba[a](void 0,!0)});p.cors=!!Ca&&"withCredentials"in Ca;(Ca=p.ajax=!!Ca)&&d.ajaxTransport(function(a){if(!a.crossDomain||p.cors){var b;return{send:function(c,e){var f,g=a.xhr(),h=++Pc;g.open(a.type,a.url,a.async,a.username,a.password);if(a.xhrFields)for(f in a.xhrFields)g[f]=a.xhrFields[f];a.mimeType&&
+g.overrideMimeType&&g.overrideMimeType(a.mimeType);a.crossDomain||c["X-Requested-With"]||(c["X-Requested-With"]="XMLHttpRequest");for(f in c)void 0!==c[f]&&g.setRequestHeader(f,c[f]+"");g.send(a.hasContent&&a.data||null);b=function(c,f){var n,p,m;if(b&&(f||4===g.readyState))if(delete Ba[h],b=void 0,g.onreadystatechange=d.noop,f)4!==g.readyState&&g.abort();else{m={};n=g.status;"string"===typeof g.responseText&&(m.text=g.responseText);try{p=g.statusText}catch(q){p=""}n||!a.isLocal||a.crossDomain?1223===
+n&&(n=204):n=m.text?200:404}m&&e(n,p,m,g.getAllResponseHeaders())};a.async?4===g.readyState?setTimeout(b):g.onreadystatechange=Ba[h]=b:b()},abort:function(){b&&b(void 0,!0)}}}});d.ajaxSetup({accepts:{script:"text/javascript, application/javascript, application/ecmascript, application/x-ecmascript"},contents:{script:/(?:java|ecma)script/},converters:{"text script":function(a){d.globalEval(a);return a}}});d.ajaxPrefilter("script",function(a){void 0===a.cache&&(a.cache=!1);a.crossDomain&&(a.type="GET",
+a.global=!1)});d.ajaxTransport("script",function(a){if(a.crossDomain){var b,c=n.head||d("head")[0]||n.documentElement;return{send:function(d,f){b=n.createElement("script");b.async=!0;a.scriptCharset&&(b.charset=a.scriptCharset);b.src=a.url;b.onload=b.onreadystatechange=function(a,c){if(c||!b.readyState||/loaded|complete/.test(b.readyState))b.onload=b.onreadystatechange=null,b.parentNode&&b.parentNode.removeChild(b),b=null,c||f(200,"success")};c.insertBefore(b,c.firstChild)},abort:function(){if(b)b.onload(void 0,
+!0)}}}});var Wb=[],Xa=/(=)\?(?=&|$)|\?\?/;d.ajaxSetup({jsonp:"callback",jsonpCallback:function(){var a=Wb.pop()||d.expando+"_"+Va++;this[a]=!0;return a}});d.ajaxPrefilter("json jsonp",function(a,b,c){var e,f,g,h=!1!==a.jsonp&&(Xa.test(a.url)?"url":"string"===typeof a.data&&!(a.contentType||"").indexOf("application/x-www-form-urlencoded")&&Xa.test(a.data)&&"data");if(h||"jsonp"===a.dataTypes[0])return e=a.jsonpCallback=d.isFunction(a.jsonpCallback)?a.jsonpCallback():a.jsonpCallback,h?a[h]=a[h].replace(Xa,
+"$1"+e):!1!==a.jsonp&&(a.url+=(Wa.test(a.url)?"&":"?")+a.jsonp+"="+e),a.converters["script json"]=function(){g||d.error(e+" was not called");return g[0]},a.dataTypes[0]="json",f=q[e],q[e]=function(){g=arguments},c.always(function(){q[e]=f;a[e]&&(a.jsonpCallback=b.jsonpCallback,Wb.push(e));g&&d.isFunction(f)&&f(g[0]);g=f=void 0}),"script"});d.parseHTML=function(a,b,c){if(!a||"string"!==typeof a)return null;"boolean"===typeof b&&(c=b,b=!1);b=b||n;var e=Fb.exec(a);c=!c&&[];if(e)return[b.createElement(e[1])];
+e=d.buildFragment([a],b,c);c&&c.length&&d(c).remove();return d.merge([],e.childNodes)};var Xb=d.fn.load;d.fn.load=function(a,b,c){if("string"!==typeof a&&Xb)return Xb.apply(this,arguments);var e,f,g,h=this,k=a.indexOf(" ");0<=k&&(e=d.trim(a.slice(k,a.length)),a=a.slice(0,k));d.isFunction(b)?(c=b,b=void 0):b&&"object"===typeof b&&(g="POST");0<h.length&&d.ajax({url:a,type:g,dataType:"html",data:b}).done(function(a){f=arguments;h.html(e?d("<div>").append(d.parseHTML(a)).find(e):a)}).complete(c&&function(a,
+b){h.each(c,f||[a.responseText,b,a])});return this};d.each("ajaxStart ajaxStop ajaxComplete ajaxError ajaxSuccess ajaxSend".split(" "),function(a,b){d.fn[b]=function(a){return this.on(b,a)}});d.expr.filters.animated=function(a){return d.grep(d.timers,function(b){return a===b.elem}).length};var Yb=q.document.documentElement;d.offset={setOffset:function(a,b,c){var e,f,g,h=d.css(a,"position"),k=d(a),l={};"static"===h&&(a.style.position="relative");g=k.offset();f=d.css(a,"top");e=d.css(a,"left");("absolute"===
+h||"fixed"===h)&&-1<d.inArray("auto",[f,e])?(e=k.position(),f=e.top,e=e.left):(f=parseFloat(f)||0,e=parseFloat(e)||0);d.isFunction(b)&&(b=b.call(a,c,g));null!=b.top&&(l.top=b.top-g.top+f);null!=b.left&&(l.left=b.left-g.left+e);"using"in b?b.using.call(a,l):k.css(l)}};d.fn.extend({offset:function(a){if(arguments.length)return void 0===a?this:this.each(function(b){d.offset.setOffset(this,a,b)});var b,c,e={top:0,left:0},f=(c=this[0])&&c.ownerDocument;if(f){b=f.documentElement;if(!d.contains(b,c))return e;
+"undefined"!==typeof c.getBoundingClientRect&&(e=c.getBoundingClientRect());c=zb(f);return{top:e.top+(c.pageYOffset||b.scrollTop)-(b.clientTop||0),left:e.left+(c.pageXOffset||b.scrollLeft)-(b.clientLeft||0)}}},position:function(){if(this[0]){var a,b,c={top:0,left:0},e=this[0];"fixed"===d.css(e,"position")?b=e.getBoundingClientRect():(a=this.offsetParent(),b=this.offset(),d.nodeName(a[0],"html")||(c=a.offset()),c.top+=d.css(a[0],"borderTopWidth",!0),c.left+=d.css(a[0],"borderLeftWidth",!0));return{top:b.top-
+c.top-d.css(e,"marginTop",!0),left:b.left-c.left-d.css(e,"marginLeft",!0)}}},offsetParent:function(){return this.map(function(){for(var a=this.offsetParent||Yb;a&&!d.nodeName(a,"html")&&"static"===d.css(a,"position");)a=a.offsetParent;return a||Yb})}});d.each({scrollLeft:"pageXOffset",scrollTop:"pageYOffset"},function(a,b){var c=/Y/.test(b);d.fn[a]=function(e){return aa(this,function(a,e,h){var k=zb(a);if(void 0===h)return k?b in k?k[b]:k.document.documentElement[e]:a[e];k?k.scrollTo(c?d(k).scrollLeft():
+h,c?h:d(k).scrollTop()):a[e]=h},a,e,arguments.length,null)}});d.each(["top","left"],function(a,b){d.cssHooks[b]=mb(p.pixelPosition,function(a,e){if(e)return e=F(a,b),qa.test(e)?d(a).position()[b]+"px":e})});d.each({Height:"height",Width:"width"},function(a,b){d.each({padding:"inner"+a,content:b,"":"outer"+a},function(c,e){d.fn[e]=function(e,g){var h=arguments.length&&(c||"boolean"!==typeof e),k=c||(!0===e||!0===g?"margin":"border");return aa(this,function(b,c,e){return d.isWindow(b)?b.document.documentElement["client"+
+a]:9===b.nodeType?(c=b.documentElement,Math.max(b.body["scroll"+a],c["scroll"+a],b.body["offset"+a],c["offset"+a],c["client"+a])):void 0===e?d.css(b,c,k):d.style(b,c,e,k)},b,h?e:void 0,h,null)}})});d.fn.size=function(){return this.length};d.fn.andSelf=d.fn.addBack;"function"===typeof define&&define.amd&&define("jquery",[],function(){return d});var Qc=q.jQuery,Rc=q.$;d.noConflict=function(a){q.$===d&&(q.$=Rc);a&&q.jQuery===d&&(q.jQuery=Qc);return d};"undefined"===typeof ga&&(q.jQuery=q.$=d);return d});
+(function(l,u){u(l.MMTF=l.MMTF||{})})(this,function(l){function u(a,b,c){for(var f=0,d=c.length;f<d;f++){var e=c.charCodeAt(f);if(128>e)a.setUint8(b++,e>>>0&127|0);else if(2048>e)a.setUint8(b++,e>>>6&31|192),a.setUint8(b++,e>>>0&63|128);else if(65536>e)a.setUint8(b++,e>>>12&15|224),a.setUint8(b++,e>>>6&63|128),a.setUint8(b++,e>>>0&63|128);else if(1114112>e)a.setUint8(b++,e>>>18&7|240),a.setUint8(b++,e>>>12&63|128),a.setUint8(b++,e>>>6&63|128),a.setUint8(b++,e>>>0&63|128);else throw Error("bad codepoint "+
+e);}}function I(a){for(var b=0,c=0,f=a.length;c<f;c++){var d=a.charCodeAt(c);if(128>d)b+=1;else if(2048>d)b+=2;else if(65536>d)b+=3;else if(1114112>d)b+=4;else throw Error("bad codepoint "+d);}return b}function z(a,b,c){var f=typeof a;if("string"===f){var d=I(a);if(32>d)return b.setUint8(c,d|160),u(b,c+1,a),1+d;if(256>d)return b.setUint8(c,217),b.setUint8(c+1,d),u(b,c+2,a),2+d;if(65536>d)return b.setUint8(c,218),b.setUint16(c+1,d),u(b,c+3,a),3+d;if(4294967296>d)return b.setUint8(c,219),b.setUint32(c+
+1,d),u(b,c+5,a),5+d}if(a instanceof Uint8Array){var d=a.byteLength,e=new Uint8Array(b.buffer);if(256>d)return b.setUint8(c,196),b.setUint8(c+1,d),e.set(a,c+2),2+d;if(65536>d)return b.setUint8(c,197),b.setUint16(c+1,d),e.set(a,c+3),3+d;if(4294967296>d)return b.setUint8(c,198),b.setUint32(c+1,d),e.set(a,c+5),5+d}if("number"===f){if(!isFinite(a))throw Error("Number not finite: "+a);if(Math.floor(a)!==a)return b.setUint8(c,203),b.setFloat64(c+1,a),9;if(0<=a){if(128>a)return b.setUint8(c,a),1;if(256>a)return b.setUint8(c,
+204),b.setUint8(c+1,a),2;if(65536>a)return b.setUint8(c,205),b.setUint16(c+1,a),3;if(4294967296>a)return b.setUint8(c,206),b.setUint32(c+1,a),5;throw Error("Number too big 0x"+a.toString(16));}if(-32<=a)return b.setInt8(c,a),1;if(-128<=a)return b.setUint8(c,208),b.setInt8(c+1,a),2;if(-32768<=a)return b.setUint8(c,209),b.setInt16(c+1,a),3;if(-2147483648<=a)return b.setUint8(c,210),b.setInt32(c+1,a),5;throw Error("Number too small -0x"+(-a).toString(16).substr(1));}if(null===a)return b.setUint8(c,192),
+1;if("boolean"===f)return b.setUint8(c,a?195:194),1;if("object"===f){f=0;if(e=Array.isArray(a))d=a.length;else var g=Object.keys(a),d=g.length;16>d?(b.setUint8(c,d|(e?144:128)),f=1):65536>d?(b.setUint8(c,e?220:222),b.setUint16(c+1,d),f=3):4294967296>d&&(b.setUint8(c,e?221:223),b.setUint32(c+1,d),f=5);if(e)for(e=0;e<d;e++)f+=z(a[e],b,c+f);else for(e=0;e<d;e++)var h=g[e],f=f+z(h,b,c+f),f=f+z(a[h],b,c+f);return f}throw Error("Unknown type "+f);}function A(a){var b=typeof a;if("string"===b){var c=I(a);
+if(32>c)return 1+c;if(256>c)return 2+c;if(65536>c)return 3+c;if(4294967296>c)return 5+c}if(a instanceof Uint8Array){c=a.byteLength;if(256>c)return 2+c;if(65536>c)return 3+c;if(4294967296>c)return 5+c}if("number"===b){if(Math.floor(a)!==a)return 9;if(0<=a){if(128>a)return 1;if(256>a)return 2;if(65536>a)return 3;if(4294967296>a)return 5;throw Error("Number too big 0x"+a.toString(16));}if(-32<=a)return 1;if(-128<=a)return 2;if(-32768<=a)return 3;if(-2147483648<=a)return 5;throw Error("Number too small -0x"+
+a.toString(16).substr(1));}if("boolean"===b||null===a)return 1;if("object"===b){b=0;if(Array.isArray(a))for(var c=a.length,f=0;f<c;f++)b+=A(a[f]);else for(var d=Object.keys(a),c=d.length,f=0;f<c;f++)var e=d[f],b=b+(A(e)+A(a[e]));if(16>c)return 1+b;if(65536>c)return 3+b;if(4294967296>c)return 5+b;throw Error("Array or object too long 0x"+c.toString(16));}throw Error("Unknown type "+b);}function J(a){var b=new ArrayBuffer(A(a)),c=new DataView(b);z(a,c,0);return new Uint8Array(b)}function m(a,b,c){return b?
+new a(b.buffer,b.byteOffset,b.byteLength/(c||1)):void 0}function B(a,b){var c=a.length/2;b||(b=new Int16Array(c));for(var f=0,d=0;f<c;++f,d+=2)b[f]=a[d]<<8^a[d+1]<<0;return b}function p(a,b){var c=a.length/4;b||(b=new Int32Array(c));for(var f=0,d=0;f<c;++f,d+=4)b[f]=a[d]<<24^a[d+1]<<16^a[d+2]<<8^a[d+3]<<0;return b}function q(a,b){var c=a.length;b||(b=new Uint8Array(4*c));for(var f=m(DataView,b),d=0;d<c;++d)f.setInt32(4*d,a[d]);return m(Uint8Array,b)}function w(a,b,c){var f=a.length;b=1/b;c||(c=new Float32Array(f));
+for(var d=0;d<f;++d)c[d]=a[d]*b;return c}function K(a,b,c){var f=a.length;c||(c=new Int32Array(f));for(var d=0;d<f;++d)c[d]=Math.round(a[d]*b);return c}function C(a,b){var c,f;if(!b){var d=0;c=0;for(f=a.length;c<f;c+=2)d+=a[c+1];b=new a.constructor(d)}c=d=0;for(f=a.length;c<f;c+=2)for(var e=a[c],g=a[c+1],h=0;h<g;++h)b[d]=e,++d;return b}function E(a){if(0===a.length)return new Int32Array;var b,c,f=2;b=1;for(c=a.length;b<c;++b)a[b-1]!==a[b]&&(f+=2);var f=new Int32Array(f),d=0,e=1;b=1;for(c=a.length;b<
+c;++b)a[b-1]!==a[b]?(f[d]=a[b-1],f[d+1]=e,e=1,d+=2):++e;f[d]=a[a.length-1];f[d+1]=e;return f}function N(a,b){var c=a.length;b||(b=new a.constructor(c));c&&(b[0]=a[0]);for(var f=1;f<c;++f)b[f]=a[f]+b[f-1];return b}function O(a,b){var c=a.length;b||(b=new a.constructor(c));b[0]=a[0];for(var f=1;f<c;++f)b[f]=a[f]-a[f-1];return b}function x(a,b){var c=a instanceof Int8Array?127:32767,f=-c-1,d=a.length,e,g;if(!b){for(e=g=0;e<d;++e)a[e]<c&&a[e]>f&&++g;b=new Int32Array(g)}for(g=e=0;e<d;){for(var h=0;a[e]===
+c||a[e]===f;)h+=a[e],++e;h+=a[e];++e;b[g]=h;++g}return b}function $(a){var b=m(DataView,a),c=b.getInt32(0),b=b.getInt32(4),f=a.subarray(8,12);a=a.subarray(12);return[c,a,b,f]}function r(a,b,c,f){var d=new ArrayBuffer(12+f.byteLength),e=new Uint8Array(d),d=new DataView(d);d.setInt32(0,a);d.setInt32(4,b);c&&e.set(c,8);e.set(f,12);return e}function P(a){var b=a.length;a=m(Uint8Array,a);return r(2,b,void 0,a)}function Q(a){var b=a.length;a=q(a);return r(4,b,void 0,a)}function R(a,b){var c=a.length/b,
+f=q([b]),d=m(Uint8Array,a);return r(5,c,f,d)}function S(a){var b=a.length;a=q(E(a));return r(6,b,void 0,a)}function D(a){var b=a.length;a=q(E(O(a)));return r(8,b,void 0,a)}function aa(a,b){var c=a.length,f=q([b]),d=q(E(K(a,b)));return r(9,c,f,d)}function v(a,b){var c=a.length,f=q([b]),d,e=O(K(a,b),void 0),g,h=e.length;for(g=d=0;g<h;++g){var k=e[g];0===k?++d:d=32767===k||-32768===k?d+2:0<k?d+Math.ceil(k/32767):d+Math.ceil(k/-32768)}d=new Int16Array(d);var F=0;for(g=0;g<h;++g){k=e[g];if(0<=k)for(;32767<=
+k;)d[F]=32767,++F,k-=32767;else for(;-32768>=k;)d[F]=-32768,++F,k-=-32768;d[F]=k;++F}e=void 0;g=d.length;e||(e=new Uint8Array(2*g));h=m(DataView,e);for(k=0;k<g;++k)h.setInt16(2*k,d[k]);d=m(Uint8Array,e);return r(10,c,f,d)}function T(a){var b={};U.forEach(function(c){void 0!==a[c]&&(b[c]=a[c])});a.bondAtomList&&(b.bondAtomList=Q(a.bondAtomList));a.bondOrderList&&(b.bondOrderList=P(a.bondOrderList));b.xCoordList=v(a.xCoordList,1E3);b.yCoordList=v(a.yCoordList,1E3);b.zCoordList=v(a.zCoordList,1E3);a.bFactorList&&
+(b.bFactorList=v(a.bFactorList,100));a.atomIdList&&(b.atomIdList=D(a.atomIdList));a.altLocList&&(b.altLocList=S(a.altLocList));a.occupancyList&&(b.occupancyList=aa(a.occupancyList,100));b.groupIdList=D(a.groupIdList);b.groupTypeList=Q(a.groupTypeList);a.secStructList&&(b.secStructList=P(a.secStructList,1));a.insCodeList&&(b.insCodeList=S(a.insCodeList));a.sequenceIndexList&&(b.sequenceIndexList=D(a.sequenceIndexList));b.chainIdList=R(a.chainIdList,4);a.chainNameList&&(b.chainNameList=R(a.chainNameList,
+4));return b}function V(a){function b(a){for(var b={},c=0;c<a;c++){var d=e();b[d]=e()}return b}function c(b){var c=a.subarray(g,g+b);g+=b;return c}function f(b){var c=a.subarray(g,g+b);g+=b;if(65535<b){b=[];for(var d=0;d<c.length;d+=65535)b.push(String.fromCharCode.apply(null,c.subarray(d,d+65535)));return b.join("")}return String.fromCharCode.apply(null,c)}function d(a){for(var b=Array(a),c=0;c<a;c++)b[c]=e();return b}function e(){var e=a[g];if(0===(e&128))return g++,e;if(128===(e&240))return g++,
+b(e&15);if(144===(e&240))return g++,d(e&15);if(160===(e&224))return g++,f(e&31);if(224===(e&224))return e=h.getInt8(g),g++,e;switch(e){case 192:return g++,null;case 194:return g++,!1;case 195:return g++,!0;case 196:return e=h.getUint8(g+1),g+=2,c(e);case 197:return e=h.getUint16(g+1),g+=3,c(e);case 198:return e=h.getUint32(g+1),g+=5,c(e);case 202:return e=h.getFloat32(g+1),g+=5,e;case 203:return e=h.getFloat64(g+1),g+=9,e;case 204:return e=a[g+1],g+=2,e;case 205:return e=h.getUint16(g+1),g+=3,e;case 206:return e=
+h.getUint32(g+1),g+=5,e;case 208:return e=h.getInt8(g+1),g+=2,e;case 209:return e=h.getInt16(g+1),g+=3,e;case 210:return e=h.getInt32(g+1),g+=5,e;case 217:return e=h.getUint8(g+1),g+=2,f(e);case 218:return e=h.getUint16(g+1),g+=3,f(e);case 219:return e=h.getUint32(g+1),g+=5,f(e);case 220:return e=h.getUint16(g+1),g+=3,d(e);case 221:return e=h.getUint32(g+1),g+=5,d(e);case 222:return e=h.getUint16(g+1),g+=3,b(e);case 223:return e=h.getUint32(g+1),g+=5,b(e)}throw Error("Unknown type 0x"+e.toString(16));
+}var g=0,h=new DataView(a.buffer);return e()}function ba(a,b,c,f){switch(a){case 1:f=void 0;c=b.length;f||(f=new Float32Array(c/4));a=m(DataView,f);b=m(DataView,b);var d=0,e=0;for(c/=4;d<c;++d,e+=4)a.setFloat32(e,b.getFloat32(e),!0);return f;case 2:return m(Int8Array,b);case 3:return B(b);case 4:return p(b);case 5:return m(Uint8Array,b);case 6:return C(p(b),new Uint8Array(c));case 7:return C(p(b));case 8:return f=p(b),N(C(f),void 0);case 9:return a=p(b),f=p(f)[0],w(C(a,m(Int32Array,void 0,4)),f,void 0);
+case 10:return a=B(b),f=p(f)[0],a=x(a,m(Int32Array,void 0,4)),b=m(Float32Array,a,4),w(N(a,m(Int32Array,b,4)),f,b);case 11:return w(B(b),p(f)[0]);case 12:return a=B(b),f=p(f)[0],w(x(a,m(Int32Array,void 0,4)),f,void 0);case 13:return a=m(Int8Array,b),f=p(f)[0],w(x(a,m(Int32Array,void 0,4)),f,void 0);case 14:return x(B(b));case 15:return x(m(Int8Array,b))}}function W(a,b){b=b||{};var c=b.ignoreFields,f={};ca.forEach(function(b){var e=c?-1!==c.indexOf(b):!1,g=a[b];e||void 0===g||(f[b]=g instanceof Uint8Array?
+ba.apply(null,$(g)):g)});return f}function X(a){return String.fromCharCode.apply(null,a).replace(/\0/g,"")}function Y(a,b){a instanceof ArrayBuffer&&(a=new Uint8Array(a));var c;c=a instanceof Uint8Array?V(a):a;return W(c,b)}function Z(a,b,c,f){var d=new XMLHttpRequest;d.addEventListener("load",function(){try{var a=Y(d.response);c(a)}catch(b){f(b)}},!0);d.addEventListener("error",f,!0);d.responseType="arraybuffer";d.open("GET",b+a.toUpperCase());d.send()}var U="mmtfVersion mmtfProducer unitCell spaceGroup structureId title depositionDate releaseDate experimentalMethods resolution rFree rWork bioAssemblyList ncsOperatorList entityList groupList numBonds numAtoms numGroups numChains numModels groupsPerChain chainsPerModel".split(" "),
+ca=U.concat("xCoordList yCoordList zCoordList groupIdList groupTypeList chainIdList bFactorList atomIdList altLocList occupancyList secStructList insCodeList sequenceIndexList chainNameList bondAtomList bondOrderList".split(" "));l.encode=function(a){return J(T(a))};l.decode=Y;l.traverse=function(a,b,c){c=c||{};c=c.firstModelOnly;var f=b.onModel,d=b.onChain,e=b.onGroup,g=b.onAtom;b=b.onBond;var h=0,k=0,m=0,l=0,p=0,q=-1,r=a.chainNameList,u=a.secStructList,B=a.insCodeList,w=a.sequenceIndexList,x=a.atomIdList,
+z=a.bFactorList,A=a.altLocList,C=a.occupancyList,v=a.bondAtomList,E=a.bondOrderList,D,I,L,n,s;D=0;for(I=a.chainsPerModel.length;D<I&&!(c&&0<h);++D){var G=a.chainsPerModel[h];f&&f({chainCount:G,modelIndex:h});for(p=0;p<G;++p){var H=a.groupsPerChain[k];d&&(L=X(a.chainIdList.subarray(4*k,4*k+4)),n=null,r&&(n=X(r.subarray(4*k,4*k+4))),d({groupCount:H,chainIndex:k,modelIndex:h,chainId:L,chainName:n}));for(L=0;L<H;++L){var t=a.groupList[a.groupTypeList[m]],M=t.atomNameList.length;if(e){n=null;u&&(n=u[m]);
+s=null;a.insCodeList&&(s=String.fromCharCode(B[m]));var y=null;w&&(y=w[m]);e({atomCount:M,groupIndex:m,chainIndex:k,modelIndex:h,groupId:a.groupIdList[m],groupType:a.groupTypeList[m],groupName:t.groupName,singleLetterCode:t.singleLetterCode,chemCompType:t.chemCompType,secStruct:n,insCode:s,sequenceIndex:y})}for(n=0;n<M;++n){if(g){s=null;x&&(s=x[l]);y=null;z&&(y=z[l]);var J=null;A&&(J=String.fromCharCode(A[l]));var K=null;C&&(K=C[l]);g({atomIndex:l,groupIndex:m,chainIndex:k,modelIndex:h,atomId:s,element:t.elementList[n],
+atomName:t.atomNameList[n],formalCharge:t.formalChargeList[n],xCoord:a.xCoordList[l],yCoord:a.yCoordList[l],zCoord:a.zCoordList[l],bFactor:y,altLoc:J,occupancy:K})}l+=1}if(b)for(y=t.bondAtomList,n=0,s=t.bondOrderList.length;n<s;++n)b({atomIndex1:l-M+y[2*n],atomIndex2:l-M+y[2*n+1],bondOrder:t.bondOrderList[n]});m+=1}k+=1}p=q+1;q=l-1;if(b&&v)for(n=0,s=v.length;n<s;n+=2)G=v[n],H=v[n+1],(G>=p&&G<=q||H>=p&&H<=q)&&b({atomIndex1:G,atomIndex2:H,bondOrder:E?E[n/2]:null});h+=1}};l.fetch=function(a,b,c){Z(a,
+"http://mmtf.rcsb.org/v1.0/full/",b,c)};l.fetchReduced=function(a,b,c){Z(a,"http://mmtf.rcsb.org/v1.0/reduced/",b,c)};l.version="v1.0.0";l.fetchUrl="http://mmtf.rcsb.org/v1.0/full/";l.fetchReducedUrl="http://mmtf.rcsb.org/v1.0/reduced/";l.encodeMsgpack=J;l.encodeMmtf=T;l.decodeMsgpack=V;l.decodeMmtf=W;Object.defineProperty(l,"__esModule",{value:!0})});
+(function(P){"object"===typeof exports&&"undefined"!==typeof module?module.exports=P():"function"===typeof define&&define.amd?define("pako",[],P):("undefined"!==typeof window?window:"undefined"!==typeof global?global:"undefined"!==typeof self?self:this).pako=P()})(function(){return function p(u,c,F){function x(g,m){if(!c[g]){if(!u[g]){var h="function"==typeof require&&require;if(!m&&h)return h(g,!0);if(f)return f(g,!0);h=Error("Cannot find module '"+g+"'");throw h.code="MODULE_NOT_FOUND",h;}h=c[g]=
+{exports:{}};u[g][0].call(h.exports,function(h){var f=u[g][1][h];return x(f?f:h)},h,h.exports,p,u,c,F)}return c[g].exports}for(var f="function"==typeof require&&require,h=0;h<F.length;h++)x(F[h]);return x}({1:[function(p,u,c){p="undefined"!==typeof Uint8Array&&"undefined"!==typeof Uint16Array&&"undefined"!==typeof Int32Array;c.assign=function(f){for(var h=Array.prototype.slice.call(arguments,1);h.length;){var g=h.shift();if(g){if("object"!==typeof g)throw new TypeError(g+"must be non-object");for(var m in g)g.hasOwnProperty(m)&&
+(f[m]=g[m])}}return f};c.shrinkBuf=function(f,h){if(f.length===h)return f;if(f.subarray)return f.subarray(0,h);f.length=h;return f};var F={arraySet:function(f,h,g,m,c){if(h.subarray&&f.subarray)f.set(h.subarray(g,g+m),c);else for(var B=0;B<m;B++)f[c+B]=h[g+B]},flattenChunks:function(f){var h,g,m,c,B;h=m=0;for(g=f.length;h<g;h++)m+=f[h].length;B=new Uint8Array(m);h=m=0;for(g=f.length;h<g;h++)c=f[h],B.set(c,m),m+=c.length;return B}},x={arraySet:function(f,h,g,m,c){for(var B=0;B<m;B++)f[c+B]=h[g+B]},
+flattenChunks:function(f){return[].concat.apply([],f)}};c.setTyped=function(f){f?(c.Buf8=Uint8Array,c.Buf16=Uint16Array,c.Buf32=Int32Array,c.assign(c,F)):(c.Buf8=Array,c.Buf16=Array,c.Buf32=Array,c.assign(c,x))};c.setTyped(p)},{}],2:[function(p,u,c){function F(g,m){if(65537>m&&(g.subarray&&h||!g.subarray&&f))return String.fromCharCode.apply(null,x.shrinkBuf(g,m));for(var E="",c=0;c<m;c++)E+=String.fromCharCode(g[c]);return E}var x=p("./common"),f=!0,h=!0;try{String.fromCharCode.apply(null,[0])}catch(g){f=
+!1}try{String.fromCharCode.apply(null,new Uint8Array(1))}catch(m){h=!1}var y=new x.Buf8(256);for(p=0;256>p;p++)y[p]=252<=p?6:248<=p?5:240<=p?4:224<=p?3:192<=p?2:1;y[254]=y[254]=1;c.string2buf=function(h){var g,f,m,t,C,c=h.length,b=0;for(t=0;t<c;t++)f=h.charCodeAt(t),55296===(f&64512)&&t+1<c&&(m=h.charCodeAt(t+1),56320===(m&64512)&&(f=65536+(f-55296<<10)+(m-56320),t++)),b+=128>f?1:2048>f?2:65536>f?3:4;g=new x.Buf8(b);for(t=C=0;C<b;t++)f=h.charCodeAt(t),55296===(f&64512)&&t+1<c&&(m=h.charCodeAt(t+1),
+56320===(m&64512)&&(f=65536+(f-55296<<10)+(m-56320),t++)),128>f?g[C++]=f:(2048>f?g[C++]=192|f>>>6:(65536>f?g[C++]=224|f>>>12:(g[C++]=240|f>>>18,g[C++]=128|f>>>12&63),g[C++]=128|f>>>6&63),g[C++]=128|f&63);return g};c.buf2binstring=function(f){return F(f,f.length)};c.binstring2buf=function(f){for(var g=new x.Buf8(f.length),h=0,m=g.length;h<m;h++)g[h]=f.charCodeAt(h);return g};c.buf2string=function(f,g){var h,m,t,c,s=g||f.length,b=Array(2*s);for(h=m=0;h<s;)if(t=f[h++],128>t)b[m++]=t;else if(c=y[t],4<
+c)b[m++]=65533,h+=c-1;else{for(t&=2===c?31:3===c?15:7;1<c&&h<s;)t=t<<6|f[h++]&63,c--;1<c?b[m++]=65533:65536>t?b[m++]=t:(t-=65536,b[m++]=55296|t>>10&1023,b[m++]=56320|t&1023)}return F(b,m)};c.utf8border=function(f,h){var g;h=h||f.length;h>f.length&&(h=f.length);for(g=h-1;0<=g&&128===(f[g]&192);)g--;return 0>g||0===g?h:g+y[f[g]]>h?g:h}},{"./common":1}],3:[function(p,u,c){u.exports=function(c,p,f,h){var g=c&65535|0;c=c>>>16&65535|0;for(var m=0;0!==f;){m=2E3<f?2E3:f;f-=m;do g=g+p[h++]|0,c=c+g|0;while(--m);
+g%=65521;c%=65521}return g|c<<16|0}},{}],4:[function(p,u,c){u.exports={Z_NO_FLUSH:0,Z_PARTIAL_FLUSH:1,Z_SYNC_FLUSH:2,Z_FULL_FLUSH:3,Z_FINISH:4,Z_BLOCK:5,Z_TREES:6,Z_OK:0,Z_STREAM_END:1,Z_NEED_DICT:2,Z_ERRNO:-1,Z_STREAM_ERROR:-2,Z_DATA_ERROR:-3,Z_BUF_ERROR:-5,Z_NO_COMPRESSION:0,Z_BEST_SPEED:1,Z_BEST_COMPRESSION:9,Z_DEFAULT_COMPRESSION:-1,Z_FILTERED:1,Z_HUFFMAN_ONLY:2,Z_RLE:3,Z_FIXED:4,Z_DEFAULT_STRATEGY:0,Z_BINARY:0,Z_TEXT:1,Z_UNKNOWN:2,Z_DEFLATED:8}},{}],5:[function(p,u,c){var F=function(){for(var c,
+f=[],h=0;256>h;h++){c=h;for(var g=0;8>g;g++)c=c&1?3988292384^c>>>1:c>>>1;f[h]=c}return f}();u.exports=function(c,f,h,g){h=g+h;for(c^=-1;g<h;g++)c=c>>>8^F[(c^f[g])&255];return c^-1}},{}],6:[function(p,u,c){u.exports=function(){this.os=this.xflags=this.time=this.text=0;this.extra=null;this.extra_len=0;this.comment=this.name="";this.hcrc=0;this.done=!1}},{}],7:[function(p,u,c){u.exports=function(c,p){var f,h,g,m,y,B,u,E,M,t,C,s,b,D,a,K,L,v,q,k,n,d,e,A;f=c.state;h=c.next_in;e=c.input;g=h+(c.avail_in-
+5);m=c.next_out;A=c.output;y=m-(p-c.avail_out);B=m+(c.avail_out-257);u=f.dmax;E=f.wsize;M=f.whave;t=f.wnext;C=f.window;s=f.hold;b=f.bits;D=f.lencode;a=f.distcode;K=(1<<f.lenbits)-1;L=(1<<f.distbits)-1;a:do b:for(15>b&&(s+=e[h++]<<b,b+=8,s+=e[h++]<<b,b+=8),v=D[s&K];;){q=v>>>24;s>>>=q;b-=q;q=v>>>16&255;if(0===q)A[m++]=v&65535;else if(q&16){k=v&65535;if(q&=15)b<q&&(s+=e[h++]<<b,b+=8),k+=s&(1<<q)-1,s>>>=q,b-=q;15>b&&(s+=e[h++]<<b,b+=8,s+=e[h++]<<b,b+=8);v=a[s&L];c:for(;;){q=v>>>24;s>>>=q;b-=q;q=v>>>16&
+255;if(q&16){v&=65535;q&=15;b<q&&(s+=e[h++]<<b,b+=8,b<q&&(s+=e[h++]<<b,b+=8));v+=s&(1<<q)-1;if(v>u){c.msg="invalid distance too far back";f.mode=30;break a}s>>>=q;b-=q;q=m-y;if(v>q){q=v-q;if(q>M&&f.sane){c.msg="invalid distance too far back";f.mode=30;break a}n=0;d=C;if(0===t){if(n+=E-q,q<k){k-=q;do A[m++]=C[n++];while(--q);n=m-v;d=A}}else if(t<q){if(n+=E+t-q,q-=t,q<k){k-=q;do A[m++]=C[n++];while(--q);n=0;if(t<k){q=t;k-=q;do A[m++]=C[n++];while(--q);n=m-v;d=A}}}else if(n+=t-q,q<k){k-=q;do A[m++]=
+C[n++];while(--q);n=m-v;d=A}for(;2<k;)A[m++]=d[n++],A[m++]=d[n++],A[m++]=d[n++],k-=3;k&&(A[m++]=d[n++],1<k&&(A[m++]=d[n++]))}else{n=m-v;do A[m++]=A[n++],A[m++]=A[n++],A[m++]=A[n++],k-=3;while(2<k);k&&(A[m++]=A[n++],1<k&&(A[m++]=A[n++]))}}else if(0===(q&64)){v=a[(v&65535)+(s&(1<<q)-1)];continue c}else{c.msg="invalid distance code";f.mode=30;break a}break}}else if(0===(q&64)){v=D[(v&65535)+(s&(1<<q)-1)];continue b}else{q&32?f.mode=12:(c.msg="invalid literal/length code",f.mode=30);break a}break}while(h<
+g&&m<B);k=b>>3;h-=k;b-=k<<3;c.next_in=h;c.next_out=m;c.avail_in=h<g?5+(g-h):5-(h-g);c.avail_out=m<B?257+(B-m):257-(m-B);f.hold=s&(1<<b)-1;f.bits=b}},{}],8:[function(p,u,c){function F(b){return(b>>>24&255)+(b>>>8&65280)+((b&65280)<<8)+((b&255)<<24)}function x(){this.mode=0;this.last=!1;this.wrap=0;this.havedict=!1;this.total=this.check=this.dmax=this.flags=0;this.head=null;this.wnext=this.whave=this.wsize=this.wbits=0;this.window=null;this.extra=this.offset=this.length=this.bits=this.hold=0;this.distcode=
+this.lencode=null;this.have=this.ndist=this.nlen=this.ncode=this.distbits=this.lenbits=0;this.next=null;this.lens=new y.Buf16(320);this.work=new y.Buf16(288);this.distdyn=this.lendyn=null;this.was=this.back=this.sane=0}function f(b){var c;if(!b||!b.state)return-2;c=b.state;b.total_in=b.total_out=c.total=0;b.msg="";c.wrap&&(b.adler=c.wrap&1);c.mode=1;c.last=0;c.havedict=0;c.dmax=32768;c.head=null;c.hold=0;c.bits=0;c.lencode=c.lendyn=new y.Buf32(852);c.distcode=c.distdyn=new y.Buf32(592);c.sane=1;c.back=
+-1;return 0}function h(b){var c;if(!b||!b.state)return-2;c=b.state;c.wsize=0;c.whave=0;c.wnext=0;return f(b)}function g(b,c){var a,f;if(!b||!b.state)return-2;f=b.state;0>c?(a=0,c=-c):(a=(c>>4)+1,48>c&&(c&=15));if(c&&(8>c||15<c))return-2;null!==f.window&&f.wbits!==c&&(f.window=null);f.wrap=a;f.wbits=c;return h(b)}function m(b,c){var a;if(!b)return-2;a=new x;b.state=a;a.window=null;a=g(b,c);0!==a&&(b.state=null);return a}var y=p("../utils/common"),B=p("./adler32"),I=p("./crc32"),E=p("./inffast"),M=
+p("./inftrees"),t=!0,C,s;c.inflateReset=h;c.inflateReset2=g;c.inflateResetKeep=f;c.inflateInit=function(b){return m(b,15)};c.inflateInit2=m;c.inflate=function(b,c){var a,f,h,g,m,k,n,d,e,p,z,l,r,u;l=0;var w,G,x,N,J,H=new y.Buf8(4),R=[16,17,18,0,8,7,9,6,10,5,11,4,12,3,13,2,14,1,15];if(!b||!b.state||!b.output||!b.input&&0!==b.avail_in)return-2;a=b.state;12===a.mode&&(a.mode=13);m=b.next_out;h=b.output;n=b.avail_out;g=b.next_in;f=b.input;k=b.avail_in;d=a.hold;e=a.bits;p=k;z=n;J=0;a:for(;;)switch(a.mode){case 1:if(0===
+a.wrap){a.mode=13;break}for(;16>e;){if(0===k)break a;k--;d+=f[g++]<<e;e+=8}if(a.wrap&2&&35615===d){a.check=0;H[0]=d&255;H[1]=d>>>8&255;a.check=I(a.check,H,2,0);e=d=0;a.mode=2;break}a.flags=0;a.head&&(a.head.done=!1);if(!(a.wrap&1)||(((d&255)<<8)+(d>>8))%31){b.msg="incorrect header check";a.mode=30;break}if(8!==(d&15)){b.msg="unknown compression method";a.mode=30;break}d>>>=4;e-=4;r=(d&15)+8;if(0===a.wbits)a.wbits=r;else if(r>a.wbits){b.msg="invalid window size";a.mode=30;break}a.dmax=1<<r;b.adler=
+a.check=1;a.mode=d&512?10:12;e=d=0;break;case 2:for(;16>e;){if(0===k)break a;k--;d+=f[g++]<<e;e+=8}a.flags=d;if(8!==(a.flags&255)){b.msg="unknown compression method";a.mode=30;break}if(a.flags&57344){b.msg="unknown header flags set";a.mode=30;break}a.head&&(a.head.text=d>>8&1);a.flags&512&&(H[0]=d&255,H[1]=d>>>8&255,a.check=I(a.check,H,2,0));e=d=0;a.mode=3;case 3:for(;32>e;){if(0===k)break a;k--;d+=f[g++]<<e;e+=8}a.head&&(a.head.time=d);a.flags&512&&(H[0]=d&255,H[1]=d>>>8&255,H[2]=d>>>16&255,H[3]=
+d>>>24&255,a.check=I(a.check,H,4,0));e=d=0;a.mode=4;case 4:for(;16>e;){if(0===k)break a;k--;d+=f[g++]<<e;e+=8}a.head&&(a.head.xflags=d&255,a.head.os=d>>8);a.flags&512&&(H[0]=d&255,H[1]=d>>>8&255,a.check=I(a.check,H,2,0));e=d=0;a.mode=5;case 5:if(a.flags&1024){for(;16>e;){if(0===k)break a;k--;d+=f[g++]<<e;e+=8}a.length=d;a.head&&(a.head.extra_len=d);a.flags&512&&(H[0]=d&255,H[1]=d>>>8&255,a.check=I(a.check,H,2,0));e=d=0}else a.head&&(a.head.extra=null);a.mode=6;case 6:if(a.flags&1024&&(l=a.length,
+l>k&&(l=k),l&&(a.head&&(r=a.head.extra_len-a.length,a.head.extra||(a.head.extra=Array(a.head.extra_len)),y.arraySet(a.head.extra,f,g,l,r)),a.flags&512&&(a.check=I(a.check,f,l,g)),k-=l,g+=l,a.length-=l),a.length))break a;a.length=0;a.mode=7;case 7:if(a.flags&2048){if(0===k)break a;l=0;do r=f[g+l++],a.head&&r&&65536>a.length&&(a.head.name+=String.fromCharCode(r));while(r&&l<k);a.flags&512&&(a.check=I(a.check,f,l,g));k-=l;g+=l;if(r)break a}else a.head&&(a.head.name=null);a.length=0;a.mode=8;case 8:if(a.flags&
+4096){if(0===k)break a;l=0;do r=f[g+l++],a.head&&r&&65536>a.length&&(a.head.comment+=String.fromCharCode(r));while(r&&l<k);a.flags&512&&(a.check=I(a.check,f,l,g));k-=l;g+=l;if(r)break a}else a.head&&(a.head.comment=null);a.mode=9;case 9:if(a.flags&512){for(;16>e;){if(0===k)break a;k--;d+=f[g++]<<e;e+=8}if(d!==(a.check&65535)){b.msg="header crc mismatch";a.mode=30;break}e=d=0}a.head&&(a.head.hcrc=a.flags>>9&1,a.head.done=!0);b.adler=a.check=0;a.mode=12;break;case 10:for(;32>e;){if(0===k)break a;k--;
+d+=f[g++]<<e;e+=8}b.adler=a.check=F(d);e=d=0;a.mode=11;case 11:if(0===a.havedict)return b.next_out=m,b.avail_out=n,b.next_in=g,b.avail_in=k,a.hold=d,a.bits=e,2;b.adler=a.check=1;a.mode=12;case 12:if(5===c||6===c)break a;case 13:if(a.last){d>>>=e&7;e-=e&7;a.mode=27;break}for(;3>e;){if(0===k)break a;k--;d+=f[g++]<<e;e+=8}a.last=d&1;d>>>=1;e-=1;switch(d&3){case 0:a.mode=14;break;case 1:l=a;if(t){r=void 0;C=new y.Buf32(512);s=new y.Buf32(32);for(r=0;144>r;)l.lens[r++]=8;for(;256>r;)l.lens[r++]=9;for(;280>
+r;)l.lens[r++]=7;for(;288>r;)l.lens[r++]=8;M(1,l.lens,0,288,C,0,l.work,{bits:9});for(r=0;32>r;)l.lens[r++]=5;M(2,l.lens,0,32,s,0,l.work,{bits:5});t=!1}l.lencode=C;l.lenbits=9;l.distcode=s;l.distbits=5;a.mode=20;if(6===c){d>>>=2;e-=2;break a}break;case 2:a.mode=17;break;case 3:b.msg="invalid block type",a.mode=30}d>>>=2;e-=2;break;case 14:d>>>=e&7;for(e-=e&7;32>e;){if(0===k)break a;k--;d+=f[g++]<<e;e+=8}if((d&65535)!==(d>>>16^65535)){b.msg="invalid stored block lengths";a.mode=30;break}a.length=d&
+65535;e=d=0;a.mode=15;if(6===c)break a;case 15:a.mode=16;case 16:if(l=a.length){l>k&&(l=k);l>n&&(l=n);if(0===l)break a;y.arraySet(h,f,g,l,m);k-=l;g+=l;n-=l;m+=l;a.length-=l;break}a.mode=12;break;case 17:for(;14>e;){if(0===k)break a;k--;d+=f[g++]<<e;e+=8}a.nlen=(d&31)+257;d>>>=5;e-=5;a.ndist=(d&31)+1;d>>>=5;e-=5;a.ncode=(d&15)+4;d>>>=4;e-=4;if(286<a.nlen||30<a.ndist){b.msg="too many length or distance symbols";a.mode=30;break}a.have=0;a.mode=18;case 18:for(;a.have<a.ncode;){for(;3>e;){if(0===k)break a;
+k--;d+=f[g++]<<e;e+=8}a.lens[R[a.have++]]=d&7;d>>>=3;e-=3}for(;19>a.have;)a.lens[R[a.have++]]=0;a.lencode=a.lendyn;a.lenbits=7;l={bits:a.lenbits};J=M(0,a.lens,0,19,a.lencode,0,a.work,l);a.lenbits=l.bits;if(J){b.msg="invalid code lengths set";a.mode=30;break}a.have=0;a.mode=19;case 19:for(;a.have<a.nlen+a.ndist;){for(;;){l=a.lencode[d&(1<<a.lenbits)-1];w=l>>>24;G=l>>>16&255;x=l&65535;if(w<=e)break;if(0===k)break a;k--;d+=f[g++]<<e;e+=8}if(16>x)d>>>=w,e-=w,a.lens[a.have++]=x;else{if(16===x){for(l=w+
+2;e<l;){if(0===k)break a;k--;d+=f[g++]<<e;e+=8}d>>>=w;e-=w;if(0===a.have){b.msg="invalid bit length repeat";a.mode=30;break}r=a.lens[a.have-1];l=3+(d&3);d>>>=2;e-=2}else if(17===x){for(l=w+3;e<l;){if(0===k)break a;k--;d+=f[g++]<<e;e+=8}d>>>=w;e-=w;r=0;l=3+(d&7);d>>>=3;e-=3}else{for(l=w+7;e<l;){if(0===k)break a;k--;d+=f[g++]<<e;e+=8}d>>>=w;e-=w;r=0;l=11+(d&127);d>>>=7;e-=7}if(a.have+l>a.nlen+a.ndist){b.msg="invalid bit length repeat";a.mode=30;break}for(;l--;)a.lens[a.have++]=r}}if(30===a.mode)break;
+if(0===a.lens[256]){b.msg="invalid code -- missing end-of-block";a.mode=30;break}a.lenbits=9;l={bits:a.lenbits};J=M(1,a.lens,0,a.nlen,a.lencode,0,a.work,l);a.lenbits=l.bits;if(J){b.msg="invalid literal/lengths set";a.mode=30;break}a.distbits=6;a.distcode=a.distdyn;l={bits:a.distbits};J=M(2,a.lens,a.nlen,a.ndist,a.distcode,0,a.work,l);a.distbits=l.bits;if(J){b.msg="invalid distances set";a.mode=30;break}a.mode=20;if(6===c)break a;case 20:a.mode=21;case 21:if(6<=k&&258<=n){b.next_out=m;b.avail_out=
+n;b.next_in=g;b.avail_in=k;a.hold=d;a.bits=e;E(b,z);m=b.next_out;h=b.output;n=b.avail_out;g=b.next_in;f=b.input;k=b.avail_in;d=a.hold;e=a.bits;12===a.mode&&(a.back=-1);break}for(a.back=0;;){l=a.lencode[d&(1<<a.lenbits)-1];w=l>>>24;G=l>>>16&255;x=l&65535;if(w<=e)break;if(0===k)break a;k--;d+=f[g++]<<e;e+=8}if(G&&0===(G&240)){r=w;u=G;for(N=x;;){l=a.lencode[N+((d&(1<<r+u)-1)>>r)];w=l>>>24;G=l>>>16&255;x=l&65535;if(r+w<=e)break;if(0===k)break a;k--;d+=f[g++]<<e;e+=8}d>>>=r;e-=r;a.back+=r}d>>>=w;e-=w;
+a.back+=w;a.length=x;if(0===G){a.mode=26;break}if(G&32){a.back=-1;a.mode=12;break}if(G&64){b.msg="invalid literal/length code";a.mode=30;break}a.extra=G&15;a.mode=22;case 22:if(a.extra){for(l=a.extra;e<l;){if(0===k)break a;k--;d+=f[g++]<<e;e+=8}a.length+=d&(1<<a.extra)-1;d>>>=a.extra;e-=a.extra;a.back+=a.extra}a.was=a.length;a.mode=23;case 23:for(;;){l=a.distcode[d&(1<<a.distbits)-1];w=l>>>24;G=l>>>16&255;x=l&65535;if(w<=e)break;if(0===k)break a;k--;d+=f[g++]<<e;e+=8}if(0===(G&240)){r=w;u=G;for(N=
+x;;){l=a.distcode[N+((d&(1<<r+u)-1)>>r)];w=l>>>24;G=l>>>16&255;x=l&65535;if(r+w<=e)break;if(0===k)break a;k--;d+=f[g++]<<e;e+=8}d>>>=r;e-=r;a.back+=r}d>>>=w;e-=w;a.back+=w;if(G&64){b.msg="invalid distance code";a.mode=30;break}a.offset=x;a.extra=G&15;a.mode=24;case 24:if(a.extra){for(l=a.extra;e<l;){if(0===k)break a;k--;d+=f[g++]<<e;e+=8}a.offset+=d&(1<<a.extra)-1;d>>>=a.extra;e-=a.extra;a.back+=a.extra}if(a.offset>a.dmax){b.msg="invalid distance too far back";a.mode=30;break}a.mode=25;case 25:if(0===
+n)break a;l=z-n;if(a.offset>l){l=a.offset-l;if(l>a.whave&&a.sane){b.msg="invalid distance too far back";a.mode=30;break}l>a.wnext?(l-=a.wnext,r=a.wsize-l):r=a.wnext-l;l>a.length&&(l=a.length);u=a.window}else u=h,r=m-a.offset,l=a.length;l>n&&(l=n);n-=l;a.length-=l;do h[m++]=u[r++];while(--l);0===a.length&&(a.mode=21);break;case 26:if(0===n)break a;h[m++]=a.length;n--;a.mode=21;break;case 27:if(a.wrap){for(;32>e;){if(0===k)break a;k--;d|=f[g++]<<e;e+=8}z-=n;b.total_out+=z;a.total+=z;z&&(b.adler=a.check=
+a.flags?I(a.check,h,z,m-z):B(a.check,h,z,m-z));z=n;if((a.flags?d:F(d))!==a.check){b.msg="incorrect data check";a.mode=30;break}e=d=0}a.mode=28;case 28:if(a.wrap&&a.flags){for(;32>e;){if(0===k)break a;k--;d+=f[g++]<<e;e+=8}if(d!==(a.total&4294967295)){b.msg="incorrect length check";a.mode=30;break}e=d=0}a.mode=29;case 29:J=1;break a;case 30:J=-3;break a;case 31:return-4;default:return-2}b.next_out=m;b.avail_out=n;b.next_in=g;b.avail_in=k;a.hold=d;a.bits=e;if(a.wsize||z!==b.avail_out&&30>a.mode&&(27>
+a.mode||4!==c))f=b.output,g=b.next_out,m=z-b.avail_out,n=b.state,null===n.window&&(n.wsize=1<<n.wbits,n.wnext=0,n.whave=0,n.window=new y.Buf8(n.wsize)),m>=n.wsize?(y.arraySet(n.window,f,g-n.wsize,n.wsize,0),n.wnext=0,n.whave=n.wsize):(k=n.wsize-n.wnext,k>m&&(k=m),y.arraySet(n.window,f,g-m,k,n.wnext),(m-=k)?(y.arraySet(n.window,f,g-m,m,0),n.wnext=m,n.whave=n.wsize):(n.wnext+=k,n.wnext===n.wsize&&(n.wnext=0),n.whave<n.wsize&&(n.whave+=k)));p-=b.avail_in;z-=b.avail_out;b.total_in+=p;b.total_out+=z;a.total+=
+z;a.wrap&&z&&(b.adler=a.check=a.flags?I(a.check,h,z,b.next_out-z):B(a.check,h,z,b.next_out-z));b.data_type=a.bits+(a.last?64:0)+(12===a.mode?128:0)+(20===a.mode||15===a.mode?256:0);(0===p&&0===z||4===c)&&0===J&&(J=-5);return J};c.inflateEnd=function(b){if(!b||!b.state)return-2;var c=b.state;c.window&&(c.window=null);b.state=null;return 0};c.inflateGetHeader=function(b,c){var a;if(!b||!b.state)return-2;a=b.state;if(0===(a.wrap&2))return-2;a.head=c;c.done=!1;return 0};c.inflateInfo="pako inflate (from Nodeca project)"},
+{"../utils/common":1,"./adler32":3,"./crc32":5,"./inffast":7,"./inftrees":9}],9:[function(p,u,c){var F=p("../utils/common"),x=[3,4,5,6,7,8,9,10,11,13,15,17,19,23,27,31,35,43,51,59,67,83,99,115,131,163,195,227,258,0,0],f=[16,16,16,16,16,16,16,16,17,17,17,17,18,18,18,18,19,19,19,19,20,20,20,20,21,21,21,21,16,72,78],h=[1,2,3,4,5,7,9,13,17,25,33,49,65,97,129,193,257,385,513,769,1025,1537,2049,3073,4097,6145,8193,12289,16385,24577,0,0],g=[16,16,16,16,17,17,18,18,19,19,20,20,21,21,22,22,23,23,24,24,25,
+25,26,26,27,27,28,28,29,29,64,64];u.exports=function(c,p,u,I,E,M,t,C){for(var s=C.bits,b=0,D=0,a=0,K=0,L=0,v=0,q=0,k=0,n=0,d=0,e,A,z=null,l=0,r,O=new F.Buf16(16),v=new F.Buf16(16),w=null,G=0,Q,N,J,b=0;15>=b;b++)O[b]=0;for(D=0;D<I;D++)O[p[u+D]]++;L=s;for(K=15;1<=K&&0===O[K];K--);L>K&&(L=K);if(0===K)return E[M++]=20971520,E[M++]=20971520,C.bits=1,0;for(a=1;a<K&&0===O[a];a++);L<a&&(L=a);for(b=k=1;15>=b;b++)if(k<<=1,k-=O[b],0>k)return-1;if(0<k&&(0===c||1!==K))return-1;v[1]=0;for(b=1;15>b;b++)v[b+1]=v[b]+
+O[b];for(D=0;D<I;D++)0!==p[u+D]&&(t[v[p[u+D]]++]=D);0===c?(z=w=t,r=19):1===c?(z=x,l-=257,w=f,G-=257,r=256):(z=h,w=g,r=-1);D=d=0;b=a;s=M;v=L;q=0;A=-1;n=1<<L;I=n-1;if(1===c&&852<n||2===c&&592<n)return 1;for(var H=0;;){H++;Q=b-q;t[D]<r?(N=0,J=t[D]):t[D]>r?(N=w[G+t[D]],J=z[l+t[D]]):(N=96,J=0);k=1<<b-q;a=e=1<<v;do e-=k,E[s+(d>>q)+e]=Q<<24|N<<16|J|0;while(0!==e);for(k=1<<b-1;d&k;)k>>=1;0!==k?(d&=k-1,d+=k):d=0;D++;if(0===--O[b]){if(b===K)break;b=p[u+t[D]]}if(b>L&&(d&I)!==A){0===q&&(q=L);s+=a;v=b-q;for(k=
+1<<v;v+q<K;){k-=O[v+q];if(0>=k)break;v++;k<<=1}n+=1<<v;if(1===c&&852<n||2===c&&592<n)return 1;A=d&I;E[A]=L<<24|v<<16|s-M|0}}0!==d&&(E[s+d]=b-q<<24|4194304);C.bits=L;return 0}},{"../utils/common":1}],10:[function(p,u,c){u.exports={2:"need dictionary",1:"stream end",0:"","-1":"file error","-2":"stream error","-3":"data error","-4":"insufficient memory","-5":"buffer error","-6":"incompatible version"}},{}],11:[function(p,u,c){u.exports=function(){this.input=null;this.total_in=this.avail_in=this.next_in=
+0;this.output=null;this.total_out=this.avail_out=this.next_out=0;this.msg="";this.state=null;this.data_type=2;this.adler=0}},{}],"/lib/inflate.js":[function(p,u,c){function F(c,f){var g=new E(f);g.push(c,!0);if(g.err)throw g.msg;return g.result}var x=p("./zlib/inflate.js"),f=p("./utils/common"),h=p("./utils/strings"),g=p("./zlib/constants"),m=p("./zlib/messages"),y=p("./zlib/zstream"),B=p("./zlib/gzheader"),I=Object.prototype.toString,E=function(c){var h=this.options=f.assign({chunkSize:16384,windowBits:0,
+to:""},c||{});h.raw&&0<=h.windowBits&&16>h.windowBits&&(h.windowBits=-h.windowBits,0===h.windowBits&&(h.windowBits=-15));!(0<=h.windowBits&&16>h.windowBits)||c&&c.windowBits||(h.windowBits+=32);15<h.windowBits&&48>h.windowBits&&0===(h.windowBits&15)&&(h.windowBits|=15);this.err=0;this.msg="";this.ended=!1;this.chunks=[];this.strm=new y;this.strm.avail_out=0;c=x.inflateInit2(this.strm,h.windowBits);if(c!==g.Z_OK)throw Error(m[c]);this.header=new B;x.inflateGetHeader(this.strm,this.header)};E.prototype.push=
+function(c,m){var p=this.strm,s=this.options.chunkSize,b,u,a,y,B;if(this.ended)return!1;u=m===~~m?m:!0===m?g.Z_FINISH:g.Z_NO_FLUSH;"string"===typeof c?p.input=h.binstring2buf(c):"[object ArrayBuffer]"===I.call(c)?p.input=new Uint8Array(c):p.input=c;p.next_in=0;p.avail_in=p.input.length;do{0===p.avail_out&&(p.output=new f.Buf8(s),p.next_out=0,p.avail_out=s);b=x.inflate(p,g.Z_NO_FLUSH);if(b!==g.Z_STREAM_END&&b!==g.Z_OK)return this.onEnd(b),this.ended=!0,!1;if(p.next_out&&(0===p.avail_out||b===g.Z_STREAM_END||
+0===p.avail_in&&(u===g.Z_FINISH||u===g.Z_SYNC_FLUSH)))if("string"===this.options.to)a=h.utf8border(p.output,p.next_out),y=p.next_out-a,B=h.buf2string(p.output,a),p.next_out=y,p.avail_out=s-y,y&&f.arraySet(p.output,p.output,a,y,0),this.onData(B);else this.onData(f.shrinkBuf(p.output,p.next_out))}while(0<p.avail_in&&b!==g.Z_STREAM_END);b===g.Z_STREAM_END&&(u=g.Z_FINISH);if(u===g.Z_FINISH)return b=x.inflateEnd(this.strm),this.onEnd(b),this.ended=!0,b===g.Z_OK;u===g.Z_SYNC_FLUSH&&(this.onEnd(g.Z_OK),
+p.avail_out=0);return!0};E.prototype.onData=function(c){this.chunks.push(c)};E.prototype.onEnd=function(c){c===g.Z_OK&&(this.result="string"===this.options.to?this.chunks.join(""):f.flattenChunks(this.chunks));this.chunks=[];this.err=c;this.msg=this.strm.msg};c.Inflate=E;c.inflate=F;c.inflateRaw=function(c,f){f=f||{};f.raw=!0;return F(c,f)};c.ungzip=F},{"./utils/common":1,"./utils/strings":2,"./zlib/constants":4,"./zlib/gzheader":6,"./zlib/inflate.js":8,"./zlib/messages":10,"./zlib/zstream":11}]},
+{},[])("/lib/inflate.js")});
+$3Dmol=function(b){return b.$3Dmol||{}}(window);"object"===typeof module&&"object"===typeof module.exports&&(module.exports=$3Dmol);$.get("https://3dmol.csb.pitt.edu/track/report.cgi");String.prototype.startsWith||(String.prototype.startsWith=function(b){return 0===this.lastIndexOf(b,0)});String.prototype.endsWith||(String.prototype.endsWith=function(b){return-1!==this.indexOf(b,this.length-b.length)});
+$.ajaxTransport("+binary",function(b,c,d){if(window.FormData&&(b.dataType&&"binary"==b.dataType||b.data&&(window.ArrayBuffer&&b.data instanceof ArrayBuffer||window.Blob&&b.data instanceof Blob)))return{send:function(c,d){var w=new XMLHttpRequest,q=b.url,n=b.type,m=b.async||!0,B=b.responseType||"blob",u=b.data||null,y=b.username||null,s=b.password||null;w.addEventListener("load",function(){var c={};c[b.dataType]=w.response;d(w.status,w.statusText,c,w.getAllResponseHeaders())});w.open(n,q,m,y,s);for(var f in c)w.setRequestHeader(f,
+c[f]);w.responseType=B;w.send(u)},abort:function(){d.abort()}}});$3Dmol.createViewer=function(b,c){"string"===$.type(b)&&(b=$("#"+b));if(b){c=c||{};try{return new $3Dmol.GLViewer(b,c)}catch(d){throw"error creating viewer: "+d;}}};$3Dmol.viewers={};$3Dmol.getbin=function(b,c){$.ajax({url:b,type:"GET",dataType:"binary",responseType:"arraybuffer",processData:!1}).done(function(b,l,g){c(b)}).fail(function(b,c){console.log(c)})};
+$3Dmol.download=function(b,c,d,l){var g="",w="",w="",q=c.addModel();if("mmtf:"===b.substr(0,5)){w=d&&d.pdbUri?d.pdbUri:"https://mmtf.rcsb.org/v1.0/full/";b=b.substr(5).toUpperCase();var n=w+b;d&&"undefined"===typeof d.noComputeSecondaryStructure&&(d.noComputeSecondaryStructure=!0);$3Dmol.getbin(n,function(b){q.addMolData(b,"mmtf",d);c.zoomTo();c.render();l&&l(q)})}else{if("pdb:"===b.substr(0,4)){g="mmtf";d&&d.format&&(g=d.format);d&&"undefined"===typeof d.noComputeSecondaryStructure&&(d.noComputeSecondaryStructure=
+!0);b=b.substr(4).toUpperCase();if(!b.match(/^[1-9][A-Za-z0-9]{3}$/)){alert("Wrong PDB ID");return}"mmtf"==g?(w=d&&d.mmtfUri?d.mmtfUri:"https://mmtf.rcsb.org/v1.0/full/",n=w+b.toUpperCase()):(w=d&&d.pdbUri?d.pdbUri:"https://files.rcsb.org/view/",n=w+b+"."+g)}else if("cid:"==b.substr(0,4)){g="sdf";b=b.substr(4);if(!b.match(/^[0-9]+$/)){alert("Wrong Compound ID");return}n="https://pubchem.ncbi.nlm.nih.gov/rest/pug/compound/cid/"+b+"/SDF?record_type=3d"}else"url:"==b.substr(0,4)&&(g=n=b.substr(4));b=
+function(b){q.addMolData(b,g,d);c.zoomTo();c.render();l&&l(q)};"mmtf"==g?$3Dmol.getbin(n,b):$.get(n,b).fail(function(b){console.log("fetch of "+n+" failed: "+b.statusText)})}return q};$3Dmol.SurfaceType={VDW:1,MS:2,SAS:3,SES:4};$3Dmol.mergeGeos=function(b,c){var d=c.geometry;void 0!==d&&b.geometryGroups.push(d.geometryGroups[0])};$3Dmol.multiLineString=function(b){return b.toString().replace(/^[^\/]+\/\*!?/,"").replace(/\*\/[^\/]+$/,"")};$3Dmol.syncSurface=!1;
+if(0<=window.navigator.userAgent.indexOf("MSIE ")||0<=window.navigator.userAgent.indexOf("Trident/"))$3Dmol.syncSurface=!0;
+$3Dmol.specStringToObject=function(b){if("object"===typeof b||"undefined"===typeof b||null==b)return b;b=b.replace(/%7E/,"~");var c=function(b){return $.isNumeric(b)?Math.floor(parseFloat(b))==parseInt(b)?parseFloat(b):0<=b.indexOf(".")?parseFloat(b):parseInt(b):"true"===b?!0:"false"===b?!1:b},d={};if("all"===b)return d;b=b.split(";");for(var l=0;l<b.length;l++){var g=b[l].split(":"),w=g[0],q={};if(g=g[1])if(g=g.replace(/~/g,"="),-1!==g.indexOf("="))for(var g=g.split(","),n=0;n<g.length;n++){var m=
+g[n].split("=",2);q[m[0]]=c(m[1])}else q=-1!==g.indexOf(",")?g.split(","):c(g);d[w]=q}return d};
+$3Dmol.getExtent=function(b,c){var d,l,g,w,q,n,m,B,u,y,s=!c;d=l=g=9999;w=q=n=-9999;m=B=u=y=0;if(0===b.length)return[[0,0,0],[0,0,0],[0,0,0]];for(var f=0;f<b.length;f++){var p=b[f];if("undefined"!==typeof p&&isFinite(p.x)&&isFinite(p.y)&&isFinite(p.z)&&(y++,m+=p.x,B+=p.y,u+=p.z,d=d<p.x?d:p.x,l=l<p.y?l:p.y,g=g<p.z?g:p.z,w=w>p.x?w:p.x,q=q>p.y?q:p.y,n=n>p.z?n:p.z,p.symmetries&&s))for(var h=0;h<p.symmetries.length;h++)y++,m+=p.symmetries[h].x,B+=p.symmetries[h].y,u+=p.symmetries[h].z,d=d<p.symmetries[h].x?
+d:p.symmetries[h].x,l=l<p.symmetries[h].y?l:p.symmetries[h].y,g=g<p.symmetries[h].z?g:p.symmetries[h].z,w=w>p.symmetries[h].x?w:p.symmetries[h].x,q=q>p.symmetries[h].y?q:p.symmetries[h].y,n=n>p.symmetries[h].z?n:p.symmetries[h].z}return[[d,l,g],[w,q,n],[m/y,B/y,u/y]]};$3Dmol.getAtomProperty=function(b,c){var d=null;b.properties&&"undefined"!=typeof b.properties[c]?d=b.properties[c]:"undefined"!=typeof b[c]&&(d=b[c]);return d};
+$3Dmol.getPropertyRange=function(b,c){for(var d=Number.POSITIVE_INFINITY,l=Number.NEGATIVE_INFINITY,g=0,w=b.length;g<w;g++){var q=$3Dmol.getAtomProperty(b[g],c);null!=q&&(q<d&&(d=q),q>l&&(l=q))}isFinite(d)||isFinite(l)?isFinite(d)?isFinite(l)||(l=d):d=l:d=l=0;return[d,l]};"function"===typeof define&&define.amd&&define("$3Dmol",$3Dmol);var $3Dmol=$3Dmol||{};$3Dmol.Math={clamp:function(b,c,d){return Math.min(Math.max(b,c),d)},degToRad:function(){var b=Math.PI/180;return function(c){return c*b}}()};
+$3Dmol.Quaternion=function(b,c,d,l){this.x=b||0;this.y=c||0;this.z=d||0;this.w=void 0!==l?l:1};
+$3Dmol.Quaternion.prototype={constructor:$3Dmol.Quaternion,set:function(b,c,d,l){this.x=b;this.y=c;this.z=d;this.w=l;return this},copy:function(b){this.x=b.x;this.y=b.y;this.z=b.z;this.w=b.w;return this},conjugate:function(){this.x*=-1;this.y*=-1;this.z*=-1;return this},inverse:function(){return this.conjugate().normalize()},length:function(){return Math.sqrt(this.x*this.x+this.y*this.y+this.z*this.z+this.w*this.w)},normalize:function(){var b=this.length();0===b?(this.z=this.y=this.x=0,this.w=1):
+(b=1/b,this.x*=b,this.y*=b,this.z*=b,this.w*=b);return this},multiply:function(b){return this.multiplyQuaternions(this,b)},multiplyScalar:function(b){this.x*=b;this.y*=b;this.z*=b;this.w*=b;return this},multiplyQuaternions:function(b,c){var d=b.x,l=b.y,g=b.z,w=b.w,q=c.x,n=c.y,m=c.z,B=c.w;this.x=d*B+w*q+l*m-g*n;this.y=l*B+w*n+g*q-d*m;this.z=g*B+w*m+d*n-l*q;this.w=w*B-d*q-l*n-g*m;return this},sub:function(b){this.x-=b.x;this.y-=b.y;this.z-=b.z;this.w-=b.w;return this},clone:function(){return new $3Dmol.Quaternion(this.x,
+this.y,this.z,this.w)}};$3Dmol.Vector2=function(b,c){this.x=b||0;this.y=c||0};$3Dmol.Vector2.prototype={constructor:$3Dmol.Vector2,set:function(b,c){this.x=b;this.y=c;return this},subVectors:function(b,c){this.x=b.x-c.x;this.y=b.y-c.y;return this},copy:function(b){this.x=b.x;this.y=b.y;return this},clone:function(){return new $3Dmol.Vector2(this.x,this.y)}};$3Dmol.Vector3=function(b,c,d){this.x=b||0;this.y=c||0;this.z=d||0};
+$3Dmol.Vector3.prototype={constructor:$3Dmol.Vector3,set:function(b,c,d){this.x=b;this.y=c;this.z=d;return this},copy:function(b){this.x=b.x;this.y=b.y;this.z=b.z;return this},add:function(b){this.x+=b.x;this.y+=b.y;this.z+=b.z;return this},addVectors:function(b,c){this.x=b.x+c.x;this.y=b.y+c.y;this.z=b.z+c.z;return this},sub:function(b){this.x-=b.x;this.y-=b.y;this.z-=b.z;return this},subVectors:function(b,c){this.x=b.x-c.x;this.y=b.y-c.y;this.z=b.z-c.z;return this},multiplyScalar:function(b){this.x*=
+b;this.y*=b;this.z*=b;return this},divideScalar:function(b){0!==b?(this.x/=b,this.y/=b,this.z/=b):this.z=this.y=this.x=0;return this},max:function(b){this.x=Math.max(this.x,b.x);this.y=Math.max(this.y,b.y);this.z=Math.max(this.z,b.z);return this},min:function(b){this.x=Math.min(this.x,b.x);this.y=Math.min(this.y,b.y);this.z=Math.min(this.z,b.z);return this},distanceTo:function(b){return Math.sqrt(this.distanceToSquared(b))},distanceToSquared:function(b){var c=this.x-b.x,d=this.y-b.y;b=this.z-b.z;
+return c*c+d*d+b*b},applyMatrix4:function(b){var c=this.x,d=this.y,l=this.z;b=b.elements;this.x=b[0]*c+b[4]*d+b[8]*l+b[12];this.y=b[1]*c+b[5]*d+b[9]*l+b[13];this.z=b[2]*c+b[6]*d+b[10]*l+b[14];return this},applyProjection:function(b){var c=this.x,d=this.y,l=this.z;b=b.elements;var g=b[3]*c+b[7]*d+b[11]*l+b[15];this.x=(b[0]*c+b[4]*d+b[8]*l+b[12])/g;this.y=(b[1]*c+b[5]*d+b[9]*l+b[13])/g;this.z=(b[2]*c+b[6]*d+b[10]*l+b[14])/g;return this},applyQuaternion:function(b){var c=this.x,d=this.y,l=this.z,g=b.x,
+w=b.y,q=b.z,n,m,B;n=2*(d*q-l*w);m=2*(l*g-c*q);B=2*(c*w-d*g);this.x=c+b.w*n+(m*q-B*w);this.y=d+b.w*m+(B*g-n*q);this.z=l+b.w*B+(n*w-m*g);return this},negate:function(){return this.multiplyScalar(-1)},dot:function(b){return this.x*b.x+this.y*b.y+this.z*b.z},length:function(){return Math.sqrt(this.x*this.x+this.y*this.y+this.z*this.z)},lengthSq:function(){return this.x*this.x+this.y*this.y+this.z*this.z},normalize:function(){return this.divideScalar(this.length())},cross:function(b){var c=this.x,d=this.y,
+l=this.z;this.x=d*b.z-l*b.y;this.y=l*b.x-c*b.z;this.z=c*b.y-d*b.x;return this},crossVectors:function(b,c){this.x=b.y*c.z-b.z*c.y;this.y=b.z*c.x-b.x*c.z;this.z=b.x*c.y-b.y*c.x;return this},getPositionFromMatrix:function(b){this.x=b.elements[12];this.y=b.elements[13];this.z=b.elements[14];return this},setEulerFromRotationMatrix:function(b,c){var d=b.elements,l=d[0],g=d[4],w=d[8],q=d[5],n=d[9],m=d[6],d=d[10];void 0===c||"XYZ"===c?(this.y=Math.asin($3Dmol.Math.clamp(w,-1,1)),.99999>Math.abs(w)?(this.x=
+Math.atan2(-n,d),this.z=Math.atan2(-g,l)):(this.x=Math.atan2(m,q),this.z=0)):console.error("Error with vector's setEulerFromRotationMatrix: Unknown order: "+c);return this},rotateAboutVector:function(b,c){b.normalize();var d=Math.cos(c),l=Math.sin(c),g=this.clone().multiplyScalar(d),l=b.clone().cross(this).multiplyScalar(l),d=b.clone().multiplyScalar(b.clone().dot(this)).multiplyScalar(1-d),g=g.add(l).add(d);this.x=g.x;this.y=g.y;this.z=g.z;return this},clone:function(){return new $3Dmol.Vector3(this.x,
+this.y,this.z)}};$3Dmol.Matrix3=function(b,c,d,l,g,w,q,n,m){this.elements=new Float32Array(9);this.set(void 0!==b?b:1,c||0,d||0,l||0,void 0!==g?g:1,w||0,q||0,n||0,void 0!==m?m:1)};
+$3Dmol.Matrix3.prototype={constructor:$3Dmol.Matrix3,set:function(b,c,d,l,g,w,q,n,m){var B=this.elements;B[0]=b;B[3]=c;B[6]=d;B[1]=l;B[4]=g;B[7]=w;B[2]=q;B[5]=n;B[8]=m;return this},identity:function(){this.set(1,0,0,0,1,0,0,0,1);return this},copy:function(b){b=b.elements;this.set(b[0],b[3],b[6],b[1],b[4],b[7],b[2],b[5],b[8])},multiplyScalar:function(b){var c=this.elements;c[0]*=b;c[3]*=b;c[6]*=b;c[1]*=b;c[4]*=b;c[7]*=b;c[2]*=b;c[5]*=b;c[8]*=b;return this},getInverse:function(b,c){var d=b.elements,
+l=this.elements;l[0]=d[10]*d[5]-d[6]*d[9];l[1]=-d[10]*d[1]+d[2]*d[9];l[2]=d[6]*d[1]-d[2]*d[5];l[3]=-d[10]*d[4]+d[6]*d[8];l[4]=d[10]*d[0]-d[2]*d[8];l[5]=-d[6]*d[0]+d[2]*d[4];l[6]=d[9]*d[4]-d[5]*d[8];l[7]=-d[9]*d[0]+d[1]*d[8];l[8]=d[5]*d[0]-d[1]*d[4];d=d[0]*l[0]+d[1]*l[3]+d[2]*l[6];if(0===d){if(c)throw Error("Matrix3.getInverse(): can't invert matrix, determinant is 0");console.warn("Matrix3.getInverse(): can't invert matrix, determinant is 0");this.identity();return this}this.multiplyScalar(1/d);return this},
+getDeterminant:function(){var b=this.elements;return b[0]*b[4]*b[8]+b[1]*b[5]*b[6]+b[2]*b[3]*b[7]-b[2]*b[4]*b[6]-b[1]*b[3]*b[8]-b[0]*b[5]*b[7]},transpose:function(){var b,c=this.elements;b=c[1];c[1]=c[3];c[3]=b;b=c[2];c[2]=c[6];c[6]=b;b=c[5];c[5]=c[7];c[7]=b;return this},clone:function(){var b=this.elements;return new $3Dmol.Matrix3(b[0],b[3],b[6],b[1],b[4],b[7],b[2],b[5],b[8])}};
+$3Dmol.Matrix4=function(b,c,d,l,g,w,q,n,m,B,u,y,s,f,p,h){if("undefined"===typeof c&&"undefined"!==typeof b)this.elements=new Float32Array(b);else{var F=this.elements=new Float32Array(16);F[0]=void 0!==b?b:1;F[4]=c||0;F[8]=d||0;F[12]=l||0;F[1]=g||0;F[5]=void 0!==w?w:1;F[9]=q||0;F[13]=n||0;F[2]=m||0;F[6]=B||0;F[10]=void 0!==u?u:1;F[14]=y||0;F[3]=s||0;F[7]=f||0;F[11]=p||0;F[15]=void 0!==h?h:1}};
+$3Dmol.Matrix4.prototype={constructor:$3Dmol.Matrix4,set:function(b,c,d,l,g,w,q,n,m,B,u,y,s,f,p,h){var F=this.elements;F[0]=b;F[4]=c;F[8]=d;F[12]=l;F[1]=g;F[5]=w;F[9]=q;F[13]=n;F[2]=m;F[6]=B;F[10]=u;F[14]=y;F[3]=s;F[7]=f;F[11]=p;F[15]=h;return this},identity:function(){this.set(1,0,0,0,0,1,0,0,0,0,1,0,0,0,0,1);return this},copy:function(b){b=b.elements;this.set(b[0],b[4],b[8],b[12],b[1],b[5],b[9],b[13],b[2],b[6],b[10],b[14],b[3],b[7],b[11],b[15]);return this},matrix3FromTopLeft:function(){var b=this.elements;
+return new $3Dmol.Matrix3(b[0],b[4],b[8],b[1],b[5],b[9],b[2],b[6],b[10])},setRotationFromEuler:function(b,c){var d=this.elements,l=b.x,g=b.y,w=b.z,q=Math.cos(l),l=Math.sin(l),n=Math.cos(g),g=Math.sin(g),m=Math.cos(w),w=Math.sin(w);if(void 0===c||"XYZ"===c){var B=q*m,u=q*w,y=l*m,s=l*w;d[0]=n*m;d[4]=-n*w;d[8]=g;d[1]=u+y*g;d[5]=B-s*g;d[9]=-l*n;d[2]=s-B*g;d[6]=y+u*g;d[10]=q*n}else console.error("Error with matrix4 setRotationFromEuler. Order: "+c);return this},setRotationFromQuaternion:function(b){var c=
+this.elements,d=b.x,l=b.y,g=b.z,w=b.w,q=d+d,n=l+l,m=g+g;b=d*q;var B=d*n,d=d*m,u=l*n,l=l*m,g=g*m,q=w*q,n=w*n,w=w*m;c[0]=1-(u+g);c[4]=B-w;c[8]=d+n;c[1]=B+w;c[5]=1-(b+g);c[9]=l-q;c[2]=d-n;c[6]=l+q;c[10]=1-(b+u);return this},lookAt:function(){var b=new $3Dmol.Vector3,c=new $3Dmol.Vector3,d=new $3Dmol.Vector3;return function(l,g,w){var q=this.elements;d.subVectors(l,g).normalize();0===d.length()&&(d.z=1);b.crossVectors(w,d).normalize();0===b.length()&&(d.x+=1E-4,b.crossVectors(w,d).normalize());c.crossVectors(d,
+b);q[0]=b.x;q[4]=c.x;q[8]=d.x;q[1]=b.y;q[5]=c.y;q[9]=d.y;q[2]=b.z;q[6]=c.z;q[10]=d.z;return this}}(),multiplyMatrices:function(b,c){var d=b.elements,l=c.elements,g=this.elements,w=d[0],q=d[4],n=d[8],m=d[12],B=d[1],u=d[5],y=d[9],s=d[13],f=d[2],p=d[6],h=d[10],F=d[14],M=d[3],x=d[7],e=d[11],d=d[15],H=l[0],t=l[4],C=l[8],z=l[12],I=l[1],K=l[5],J=l[9],A=l[13],O=l[2],E=l[6],N=l[10],L=l[14],Q=l[3],G=l[7],P=l[11],l=l[15];g[0]=w*H+q*I+n*O+m*Q;g[4]=w*t+q*K+n*E+m*G;g[8]=w*C+q*J+n*N+m*P;g[12]=w*z+q*A+n*L+m*l;g[1]=
+B*H+u*I+y*O+s*Q;g[5]=B*t+u*K+y*E+s*G;g[9]=B*C+u*J+y*N+s*P;g[13]=B*z+u*A+y*L+s*l;g[2]=f*H+p*I+h*O+F*Q;g[6]=f*t+p*K+h*E+F*G;g[10]=f*C+p*J+h*N+F*P;g[14]=f*z+p*A+h*L+F*l;g[3]=M*H+x*I+e*O+d*Q;g[7]=M*t+x*K+e*E+d*G;g[11]=M*C+x*J+e*N+d*P;g[15]=M*z+x*A+e*L+d*l;return this},multiplyScalar:function(b){var c=this.elements;c[0]*=b;c[4]*=b;c[8]*=b;c[12]*=b;c[1]*=b;c[5]*=b;c[9]*=b;c[13]*=b;c[2]*=b;c[6]*=b;c[10]*=b;c[14]*=b;c[3]*=b;c[7]*=b;c[11]*=b;c[15]*=b;return this},makeTranslation:function(b,c,d){this.set(1,
+0,0,b,0,1,0,c,0,0,1,d,0,0,0,1);return this},transpose:function(){var b=this.elements,c;c=b[1];b[1]=b[4];b[4]=c;c=b[2];b[2]=b[8];b[8]=c;c=b[6];b[6]=b[9];b[9]=c;c=b[3];b[3]=b[12];b[12]=c;c=b[7];b[7]=b[13];b[13]=c;c=b[11];b[11]=b[14];b[14]=c;return this},getPosition:function(){var b=new $3Dmol.Vector3;return function(){console.warn("DEPRECATED: Matrix4's .getPosition() has been removed. Use Vector3.getPositionFromMatrix( matrix ) instead.");var c=this.elements;return b.set(c[12],c[13],c[14])}}(),setPosition:function(b){var c=
+this.elements;c[12]=b.x;c[13]=b.y;c[14]=b.z;return this},getInverse:function(b,c){var d=this.elements,l=b.elements,g=l[0],w=l[4],q=l[8],n=l[12],m=l[1],B=l[5],u=l[9],y=l[13],s=l[2],f=l[6],p=l[10],h=l[14],F=l[3],M=l[7],x=l[11],e=l[15];d[0]=u*h*M-y*p*M+y*f*x-B*h*x-u*f*e+B*p*e;d[4]=n*p*M-q*h*M-n*f*x+w*h*x+q*f*e-w*p*e;d[8]=q*y*M-n*u*M+n*B*x-w*y*x-q*B*e+w*u*e;d[12]=n*u*f-q*y*f-n*B*p+w*y*p+q*B*h-w*u*h;d[1]=y*p*F-u*h*F-y*s*x+m*h*x+u*s*e-m*p*e;d[5]=q*h*F-n*p*F+n*s*x-g*h*x-q*s*e+g*p*e;d[9]=n*u*F-q*y*F-n*m*
+x+g*y*x+q*m*e-g*u*e;d[13]=q*y*s-n*u*s+n*m*p-g*y*p-q*m*h+g*u*h;d[2]=B*h*F-y*f*F+y*s*M-m*h*M-B*s*e+m*f*e;d[6]=n*f*F-w*h*F-n*s*M+g*h*M+w*s*e-g*f*e;d[10]=w*y*F-n*B*F+n*m*M-g*y*M-w*m*e+g*B*e;d[14]=n*B*s-w*y*s-n*m*f+g*y*f+w*m*h-g*B*h;d[3]=u*f*F-B*p*F-u*s*M+m*p*M+B*s*x-m*f*x;d[7]=w*p*F-q*f*F+q*s*M-g*p*M-w*s*x+g*f*x;d[11]=q*B*F-w*u*F-q*m*M+g*u*M+w*m*x-g*B*x;d[15]=w*u*s-q*B*s+q*m*f-g*u*f-w*m*p+g*B*p;d=l[0]*d[0]+l[1]*d[4]+l[2]*d[8]+l[3]*d[12];if(0===d){if(c)throw Error("Matrix4.getInverse(): can't invert matrix, determinant is 0");
+console.warn("Matrix4.getInverse(): can't invert matrix, determinant is 0");this.identity();return this}this.multiplyScalar(1/d);return this},isReflected:function(){return 0>this.matrix3FromTopLeft().getDeterminant()},compose:function(){var b=new $3Dmol.Matrix4,c=new $3Dmol.Matrix4;return function(d,l,g){var w=this.elements;b.identity();b.setRotationFromQuaternion(l);c.makeScale(g.x,g.y,g.z);this.multiplyMatrices(b,c);w[12]=d.x;w[13]=d.y;w[14]=d.z;return this}}(),decompose:function(){var b=new $3Dmol.Vector3,
+c=new $3Dmol.Vector3,d=new $3Dmol.Vector3,l=new $3Dmol.Matrix4;return function(g,w,q){var n=this.elements;b.set(n[0],n[1],n[2]);c.set(n[4],n[5],n[6]);d.set(n[8],n[9],n[10]);g=g instanceof $3Dmol.Vector3?g:new $3Dmol.Vector3;w=w instanceof $3Dmol.Quaternion?w:new $3Dmol.Quaternion;q=q instanceof $3Dmol.Vector3?q:new $3Dmol.Vector3;q.x=b.length();q.y=c.length();q.z=d.length();g.x=n[12];g.y=n[13];g.z=n[14];l.copy(this);l.elements[0]/=q.x;l.elements[1]/=q.x;l.elements[2]/=q.x;l.elements[4]/=q.y;l.elements[5]/=
+q.y;l.elements[6]/=q.y;l.elements[8]/=q.z;l.elements[9]/=q.z;l.elements[10]/=q.z;w.setFromRotationMatrix(l);return[g,w,q]}}(),scale:function(b){var c=this.elements,d=b.x,l=b.y;b=b.z;c[0]*=d;c[4]*=l;c[8]*=b;c[1]*=d;c[5]*=l;c[9]*=b;c[2]*=d;c[6]*=l;c[10]*=b;c[3]*=d;c[7]*=l;c[11]*=b;return this},getMaxScaleOnAxis:function(){var b=this.elements;return Math.sqrt(Math.max(b[0]*b[0]+b[1]*b[1]+b[2]*b[2],Math.max(b[4]*b[4]+b[5]*b[5]+b[6]*b[6],b[8]*b[8]+b[9]*b[9]+b[10]*b[10])))},makeFrustum:function(b,c,d,l,
+g,w){var q=this.elements;q[0]=2*g/(c-b);q[4]=0;q[8]=(c+b)/(c-b);q[12]=0;q[1]=0;q[5]=2*g/(l-d);q[9]=(l+d)/(l-d);q[13]=0;q[2]=0;q[6]=0;q[10]=-(w+g)/(w-g);q[14]=-2*w*g/(w-g);q[3]=0;q[7]=0;q[11]=-1;q[15]=0;return this},makePerspective:function(b,c,d,l){b=d*Math.tan($3Dmol.Math.degToRad(.5*b));var g=-b;return this.makeFrustum(g*c,b*c,g,b,d,l)},makeOrthographic:function(b,c,d,l,g,w){var q=this.elements,n=1/(c-b),m=1/(d-l),B=1/(w-g);q[0]=2*n;q[4]=0;q[8]=0;q[12]=-((c+b)*n);q[1]=0;q[5]=2*m;q[9]=0;q[13]=-((d+
+l)*m);q[2]=0;q[6]=0;q[10]=-2*B;q[14]=-((w+g)*B);q[3]=0;q[7]=0;q[11]=0;q[15]=1;return this},isEqual:function(b){b=b.elements;var c=this.elements;return c[0]==b[0]&&c[4]==b[4]&&c[8]==b[8]&&c[12]==b[12]&&c[1]==b[1]&&c[5]==b[5]&&c[9]==b[9]&&c[13]==b[13]&&c[2]==b[2]&&c[6]==b[6]&&c[10]==b[10]&&c[14]==b[14]&&c[3]==b[3]&&c[7]==b[7]&&c[11]==b[11]&&c[15]==b[15]?!0:!1},clone:function(){var b=this.elements;return new $3Dmol.Matrix4(b[0],b[4],b[8],b[12],b[1],b[5],b[9],b[13],b[2],b[6],b[10],b[14],b[3],b[7],b[11],
+b[15])},isIdentity:function(){var b=this.elements;return 1==b[0]&&0==b[4]&&0==b[8]&&0==b[12]&&0==b[1]&&1==b[5]&&0==b[9]&&0==b[13]&&0==b[2]&&0==b[6]&&1==b[10]&&0==b[14]&&0==b[3]&&0==b[7]&&0==b[11]&&1==b[15]?!0:!1}};$3Dmol.Ray=function(b,c){this.origin=void 0!==b?b:new $3Dmol.Vector3;this.direction=void 0!==c?c:new $3Dmol.Vector3};
+$3Dmol.Ray.prototype={constructor:$3Dmol.Ray,set:function(b,c){this.origin.copy(b);this.direction.copy(c);return this},copy:function(b){this.origin.copy(b.origin);this.direction.copy(b.direction);return this},at:function(b,c){return(c||new $3Dmol.Vector3).copy(this.direction).multiplyScalar(b).add(this.origin)},recast:function(){var b=new $3Dmol.Vector3;return function(c){this.origin.copy(this.at(c,b));return this}}(),closestPointToPoint:function(b,c){var d=c||new $3Dmol.Vector3;d.subVectors(b,this.origin);
+var l=d.dot(this.direction);return d.copy(this.direction).multiplyScalar(l).add(this.origin)},distanceToPoint:function(b){var c=new $3Dmol.Vector3;return function(b){var l=c.subVectors(b,this.origin).dot(this.direction);c.copy(this.direction).multiplyScalar(l).add(this.origin);return c.distanceTo(b)}}(),isIntersectionCylinder:function(){},isIntersectionSphere:function(b){return this.distanceToPoint(b.center)<=b.radius},isIntersectionPlane:function(b){return 0!==b.normal.dot(this.direction)||0===b.distanceToPoint(this.origin)?
+!0:!1},distanceToPlane:function(b){var c=b.normal.dot(this.direction);if(0===c){if(0===b.distanceToPoint(this.origin))return 0}else return-(this.origin.dot(b.normal)+b.constant)/c},intersectPlane:function(b,c){var d=this.distanceToPlane(b);return void 0===d?void 0:this.at(d,c)},applyMatrix4:function(b){this.direction.add(this.origin).applyMatrix4(b);this.origin.applyMatrix4(b);this.direction.sub(this.origin);return this},equals:function(b){return b.origin.equals(this.origin)&&b.direction.equals(this.direction)},
+clone:function(){return(new $3Dmol.Ray).copy(this)}};$3Dmol.Sphere=function(b,c){this.center=void 0!==b?b:new $3Dmol.Vector3;this.radius=void 0!==c?c:0};
+$3Dmol.Sphere.prototype={constructor:$3Dmol.Sphere,set:function(b,c){this.center.copy(b);this.radius=c;return this},copy:function(b){this.center.copy(b.center);this.radius=b.radius;return this},applyMatrix4:function(b){this.center.applyMatrix4(b);this.radius*=b.getMaxScaleOnAxis();return this},translate:function(b){this.center.add(b);return this},equals:function(b){return b.center.equals(this.center)&&b.radius===this.radius},clone:function(){return(new $3Dmol.Sphere).copy(this)}};
+$3Dmol.Cylinder=function(b,c,d){this.c1=void 0!==b?b:new $3Dmol.Vector3;this.c2=void 0!==c?c:new $3Dmol.Vector3;this.direction=(new $3Dmol.Vector3).subVectors(this.c2,this.c1).normalize();this.radius=void 0!==d?d:0};
+$3Dmol.Cylinder.prototype={constructor:$3Dmol.Cylinder,copy:function(b){this.c1.copy(b.c1);this.c2.copy(b.c2);this.direction.copy(b.direction);this.radius=b.radius;return this},lengthSq:function(){var b=new $3Dmol.Vector3;return function(){return b.subVectors(this.c2,this.c1).lengthSq()}}(),applyMatrix4:function(b){this.direction.add(this.c1).applyMatrix4(b);this.c1.applyMatrix4(b);this.c2.applyMatrix4(b);this.direction.sub(this.c1).normalize();this.radius*=b.getMaxScaleOnAxis();return this}};
+$3Dmol.Triangle=function(b,c,d){this.a=void 0!==b?b:new $3Dmol.Vector3;this.b=void 0!==c?c:new $3Dmol.Vector3;this.c=void 0!==d?d:new $3Dmol.Vector3};
+$3Dmol.Triangle.prototype={constructor:$3Dmol.Triangle,copy:function(b){this.a.copy(b.a);this.b.copy(b.b);this.c.copy(b.c);return this},applyMatrix4:function(b){this.a.applyMatrix4(b);this.b.applyMatrix4(b);this.c.applyMatrix4(b);return this},getNormal:function(){var b=new $3Dmol.Vector3;return function(){var c=this.a.clone();c.sub(this.b);b.subVectors(this.c,this.b);c.cross(b);c.normalize();return c}}()};
+$3Dmol.EventDispatcher=function(){var b={};this.addEventListener=function(c,d){void 0===b[c]&&(b[c]=[]);-1===b[c].indexOf(d)&&b[c].push(d)};this.removeEventListener=function(c,d){var l=b[c].indexOf(d);-1!==l&&b[c].splice(l,1)};this.dispatchEvent=function(c){var d=b[c.type];if(void 0!==d){c.target=this;for(var l=0,g=d.length;l<g;l++)d[l].call(this,c)}}};$3Dmol.Color=function(b){return 1<arguments.length?(this.r=arguments[0]||0,this.g=arguments[1]||0,this.b=arguments[2]||0,this):this.set(b)};
+$3Dmol.Color.prototype={constructor:$3Dmol.Color,r:0,g:0,b:0,set:function(b){if(b instanceof $3Dmol.Color)return b.clone();"number"===typeof b?this.setHex(b):"object"===typeof b&&"r"in b&&"g"in b&&"b"in b&&(this.r=b.r,this.g=b.g,this.b=b.b)},setHex:function(b){b=Math.floor(b);this.r=(b>>16&255)/255;this.g=(b>>8&255)/255;this.b=(b&255)/255;return this},getHex:function(){var b=Math.round(255*this.r),c=Math.round(255*this.g),d=Math.round(255*this.b);return b<<16|c<<8|d},clone:function(){return new $3Dmol.Color(this.r,
+this.g,this.b)},copy:function(b){this.r=b.r;this.g=b.g;this.b=b.b;return this},scaled:function(){var b={};b.r=Math.round(255*this.r);b.g=Math.round(255*this.g);b.b=Math.round(255*this.b);b.a=1;return b}};
+$3Dmol.Object3D=function(){this.id=$3Dmol.Object3DIDCount++;this.name="";this.parent=void 0;this.children=[];this.position=new $3Dmol.Vector3;this.rotation=new $3Dmol.Vector3;this.matrix=new $3Dmol.Matrix4;this.matrixWorld=new $3Dmol.Matrix4;this.quaternion=new $3Dmol.Quaternion;this.eulerOrder="XYZ";this.up=new $3Dmol.Vector3(0,1,0);this.scale=new $3Dmol.Vector3(1,1,1);this.rotationAutoUpdate=this.matrixWorldNeedsUpdate=this.matrixAutoUpdate=!0;this.useQuaternion=!1;this.visible=!0};
+$3Dmol.Object3D.prototype={constructor:$3Dmol.Object3D,lookAt:function(b){this.matrix.lookAt(b,this.position,this.up);this.rotationAutoUpdate&&(!0===this.useQuaternion?this.quaternion.copy(this.matrix.decompose()[1]):this.rotation.setEulerFromRotationMatrix(this.matrix,this.eulerOrder))},add:function(b){if(b===this)console.error("Can't add $3Dmol.Object3D to itself");else{b.parent=this;this.children.push(b);for(var c=this;void 0!==c.parent;)c=c.parent;void 0!==c&&c instanceof $3Dmol.Scene&&c.__addObject(b)}},
+remove:function(b){var c=this.children.indexOf(b);if(-1!==c){b.parent=void 0;this.children.splice(c,1);for(c=this;void 0!==c.parent;)c=c.parent;void 0!==c&&c instanceof $3Dmol.Scene&&c.__removeObject(b)}},updateMatrix:function(){this.matrix.setPosition(this.position);!1===this.useQuaternion?this.matrix.setRotationFromEuler(this.rotation,this.eulerOrder):this.matrix.setRotationFromQuaternion(this.quaternion);1===this.scale.x&&1===this.scale.y&&1===this.scale.z||this.matrix.scale(this.scale);this.matrixWorldNeedsUpdate=
+!0},updateMatrixWorld:function(b){!0===this.matrixAutoUpdate&&this.updateMatrix();if(!0===this.matrixWorldNeedsUpdate||!0===b)void 0===this.parent?this.matrixWorld.copy(this.matrix):this.matrixWorld.multiplyMatrices(this.parent.matrixWorld,this.matrix);this.matrixWorldNeedsUpdate=!1;for(b=0;b<this.children.length;b++)this.children[b].updateMatrixWorld(!0)},clone:function(b){void 0===b&&(b=new $3Dmol.Object3D);b.name=this.name;b.up.copy(this.up);b.position.copy(this.position);b.rotation.copy(this.rotation);
+b.eulerOrder=this.eulerOrder;b.scale.copy(this.scale);b.rotationAutoUpdate=this.rotationAutoUpdate;b.matrix.copy(this.matrix);b.matrixWorld.copy(this.matrixWorld);b.quaternion.copy(this.quaternion);b.matrixAutoUpdate=this.matrixAutoUpdate;b.matrixWorldNeedsUpdate=this.matrixWorldNeedsUpdate;b.useQuaternion=this.useQuaternion;b.visible=this.visible;for(var c=0;c<this.children.length;c++)b.add(this.children[c].clone());return b},setVisible:function(b){this.visible=b;for(var c=0;c<this.children.length;c++)this.children[c].setVisible(b)}};
+$3Dmol.Object3DIDCount=0;
+$3Dmol.Geometry=function(){var b=function(b){this.id=b||0;this.lineArray=this.radiusArray=this.faceArray=this.normalArray=this.colorArray=this.vertexArray=null;this.lineidx=this.faceidx=this.vertices=0};b.prototype.setColors=function(b){var c=this.vertexArray,d=this.colorArray;if(c.length!=d.length)console.log("Cannot re-color geometry group due to mismatched lengths.");else for(var q=0;q<c.length;q+=3){var n=b(c[q],c[q+1],c[q+2]);n instanceof $3Dmol.Color||(n=$3Dmol.CC.color(n));d[q]=n.r;d[q+1]=
+n.g;d[q+2]=n.b}};b.prototype.getNumVertices=function(){return this.vertices};b.prototype.getVertices=function(){return this.vertexArray};b.prototype.getCentroid=function(){for(var b=new $3Dmol.Vector3,c,d,q,n=0;n<this.vertices;++n)c=3*n,d=this.vertexArray[c],q=this.vertexArray[c+1],c=this.vertexArray[c+2],b.x+=d,b.y+=q,b.z+=c;b.divideScalar(this.vertices);return b};b.prototype.setNormals=function(){var b=this.faceArray,c=this.vertexArray,d=this.normalArray;if(this.vertices&&this.faceidx)for(var q,
+n,m,B,u,y,s=0;s<b.length/3;++s)q=3*b[3*s],n=3*b[3*s+1],m=3*b[3*s+2],B=new $3Dmol.Vector3(c[q],c[q+1],c[q+2]),u=new $3Dmol.Vector3(c[n],c[n+1],c[n+2]),y=new $3Dmol.Vector3(c[m],c[m+1],c[m+2]),B.subVectors(B,u),y.subVectors(y,u),y.cross(B),B=y,B.normalize(),d[q]+=B.x,d[n]+=B.x,d[m]+=B.x,d[q+1]+=B.y,d[n+1]+=B.y,d[m+1]+=B.y,d[q+2]+=B.z,d[n+2]+=B.z,d[m+2]+=B.z};b.prototype.setLineIndices=function(){if(this.faceidx){var b=this.faceArray,c=this.lineArray=new Uint16Array(2*this.faceidx);this.lineidx=2*this.faceidx;
+for(var d=0;d<this.faceidx/3;++d){var q=3*d,n=2*q,m=b[q],B=b[q+1],q=b[q+2];c[n]=m;c[n+1]=B;c[n+2]=m;c[n+3]=q;c[n+4]=B;c[n+5]=q}}};b.prototype.truncateArrayBuffers=function(b,c){b=!0===b?!0:!1;var d=this.colorArray,q=this.normalArray,n=this.faceArray,m=this.lineArray,B=this.radiusArray;this.vertexArray=this.vertexArray.subarray(0,3*this.vertices);this.colorArray=d.subarray(0,3*this.vertices);b?(this.normalArray=q.subarray(0,3*this.vertices),this.faceArray=n.subarray(0,this.faceidx),this.lineArray=
+0<this.lineidx?m.subarray(0,this.lineidx):new Uint16Array(0)):(this.normalArray=new Float32Array(0),this.faceArray=new Uint16Array(0),this.lineArray=new Uint16Array(0));B&&(this.radiusArray=B.subarray(0,this.vertices));c&&(this.normalArray&&(this.normalArray=new Float32Array(this.normalArray)),this.faceArray&&(this.faceArray=new Uint16Array(this.faceArray)),this.lineArray&&(this.lineArray=new Uint16Array(this.lineArray)),this.vertexArray&&(this.vertexArray=new Float32Array(this.vertexArray)),this.colorArray&&
+(this.colorArray=new Float32Array(this.colorArray)),this.radiusArray&&(this.radiusArray=new Float32Array(this.radiusArray)));this.__inittedArrays=!0};var c=function(c){var d=new b(c.geometryGroups.length);c.geometryGroups.push(d);c.groups=c.geometryGroups.length;d.vertexArray=new Float32Array(196605);d.colorArray=new Float32Array(196605);c.mesh&&(d.normalArray=new Float32Array(196605),d.faceArray=new Uint16Array(393210),d.lineArray=new Uint16Array(393210));c.radii&&(d.radiusArray=new Float32Array(65535));
+d.useOffset=c.offset;return d},d=function(b,c,d){$3Dmol.EventDispatcher.call(this);this.id=$3Dmol.GeometryIDCount++;this.name="";this.hasTangents=!1;this.dynamic=!0;this.mesh=!0===b?!0:!1;this.radii=c||!1;this.offset=d||!1;this.buffersNeedUpdate=this.colorsNeedUpdate=this.normalsNeedUpdate=this.elementsNeedUpdate=this.verticesNeedUpdate=!1;this.geometryGroups=[];this.groups=0};d.prototype={constructor:d,updateGeoGroup:function(b){var d=0<this.groups?this.geometryGroups[this.groups-1]:null;if(!d||
+d.vertices+(b||0)>d.vertexArray.length/3)d=c(this);return d},addGeoGroup:function(){return c(this)},setUpNormals:function(b){b=b||!1;for(var c=0;c<this.groups;c++)this.geometryGroups[c].setNormals(b)},setColors:function(b){for(var c=this.geometryGroups.length,d=0;d<c;d++)this.geometryGroups[d].setColors(b)},setUpWireframe:function(){for(var b=0;b<this.groups;b++)this.geometryGroups[b].setLineIndices()},initTypedArrays:function(){for(var b=0;b<this.groups;b++){var c=this.geometryGroups[b];!0!==c.__inittedArrays&&
+c.truncateArrayBuffers(this.mesh,!1)}},dispose:function(){this.dispatchEvent({type:"dispose"})}};return d}();Object.defineProperty($3Dmol.Geometry.prototype,"vertices",{get:function(){for(var b=0,c=0;c<this.groups;c++)b+=this.geometryGroups[c].vertices;return b}});$3Dmol.GeometryIDCount=0;
+$3Dmol.Raycaster=function(){var b=function(b,c,d,p){this.ray=new $3Dmol.Ray(b,c);0<this.ray.direction.lengthSq()&&this.ray.direction.normalize();this.near=p||0;this.far=d||Infinity},c=new $3Dmol.Sphere,d=new $3Dmol.Cylinder,l=new $3Dmol.Triangle,g=new $3Dmol.Vector3,w=new $3Dmol.Vector3,q=new $3Dmol.Vector3,n=new $3Dmol.Vector3;new $3Dmol.Ray;new $3Dmol.Vector3;var m=new $3Dmol.Vector3;new $3Dmol.Matrix4;var B=function(b,c){return b.distance-c.distance},u=function(b){return Math.min(Math.max(b,-1),
+1)};b.prototype.precision=1E-4;b.prototype.linePrecision=.2;b.prototype.set=function(b,c){this.ray.set(b,c)};b.prototype.intersectObjects=function(b,s){for(var f=[],p=0,h=s.length;p<h;p++)a:{var F=b,M=s[p],x=f;m.getPositionFromMatrix(F.matrixWorld);if(void 0!==M.intersectionShape){var e=M.intersectionShape,H=this.linePrecision,H=H*F.matrixWorld.getMaxScaleOnAxis(),H=H*H;if(void 0!==M.boundingSphere&&M.boundingSphere instanceof $3Dmol.Sphere&&(c.copy(M.boundingSphere),c.applyMatrix4(F.matrixWorld),
+!this.ray.isIntersectionSphere(c)))break a;for(var t=void 0,C=void 0,z=void 0,I=void 0,K=void 0,J=z=void 0,A=void 0,O=void 0,E=void 0,N=E=z=I=void 0,t=0,C=e.triangle.length;t<C;t++)e.triangle[t]instanceof $3Dmol.Triangle&&(l.copy(e.triangle[t]),l.applyMatrix4(F.matrixWorld),z=l.getNormal(),I=this.ray.direction.dot(z),0<=I||(g.subVectors(l.a,this.ray.origin),J=z.dot(g)/I,0>J||(w.copy(this.ray.direction).multiplyScalar(J).add(this.ray.origin),w.sub(l.a),q.copy(l.b).sub(l.a),n.copy(l.c).sub(l.a),I=q.dot(n),
+O=q.lengthSq(),z=n.lengthSq(),z=(O*w.dot(n)-I*w.dot(q))/(O*z-I*I),0>z||1<z||(I=(w.dot(q)-z*I)/O,0>I||1<I||1<I+z||x.push({clickable:M,distance:J})))));t=0;for(C=e.cylinder.length;t<C;t++)e.cylinder[t]instanceof $3Dmol.Cylinder&&(d.copy(e.cylinder[t]),d.applyMatrix4(F.matrixWorld),g.subVectors(d.c1,this.ray.origin),K=g.dot(d.direction),z=g.dot(this.ray.direction),I=u(this.ray.direction.dot(d.direction)),O=1-I*I,0!==O&&(E=(I*z-K)/O,N=(z-I*K)/O,w.copy(d.direction).multiplyScalar(E).add(d.c1),q.copy(this.ray.direction).multiplyScalar(N).add(this.ray.origin),
+A=n.subVectors(w,q).lengthSq(),E=d.radius*d.radius,A<=E&&(E=(I*K-z)*(I*K-z)-O*(g.lengthSq()-K*K-E),z=0>=E?J=Math.sqrt(A):J=(z-I*K-Math.sqrt(E))/O,I=I*z-K,0>I||I*I>d.lengthSq()||0>z||x.push({clickable:M,distance:J}))));t=0;for(C=e.line.length;t<C;t+=2)w.copy(e.line[t]),w.applyMatrix4(F.matrixWorld),q.copy(e.line[t+1]),q.applyMatrix4(F.matrixWorld),n.subVectors(q,w),J=n.lengthSq(),n.normalize(),g.subVectors(w,this.ray.origin),K=g.dot(n),z=g.dot(this.ray.direction),I=u(this.ray.direction.dot(n)),O=1-
+I*I,0!==O&&(E=(I*z-K)/O,N=(z-I*K)/O,w.add(n.multiplyScalar(E)),q.copy(this.ray.direction).multiplyScalar(N).add(this.ray.origin),A=n.subVectors(q,w).lengthSq(),A<H&&E*E<J&&x.push({clickable:M,distance:N}));t=0;for(C=e.sphere.length;t<C;t++)if(e.sphere[t]instanceof $3Dmol.Sphere&&(c.copy(e.sphere[t]),c.applyMatrix4(F.matrixWorld),this.ray.isIntersectionSphere(c))){w.subVectors(c.center,this.ray.origin);F=w.dot(this.ray.direction);E=F*F-(w.lengthSq()-c.radius*c.radius);if(0>F)break a;J=0>=E?F:F-Math.sqrt(E);
+x.push({clickable:M,distance:J});break a}}}f.sort(B);return f};return b}();$3Dmol.Projector=function(){new $3Dmol.Matrix4;var b=new $3Dmol.Matrix4;this.projectVector=function(c,d){d.matrixWorldInverse.getInverse(d.matrixWorld);b.multiplyMatrices(d.projectionMatrix,d.matrixWorldInverse);return c.applyProjection(b)};this.unprojectVector=function(c,d){d.projectionMatrixInverse.getInverse(d.projectionMatrix);b.multiplyMatrices(d.matrixWorld,d.projectionMatrixInverse);return c.applyProjection(b)}};
+$3Dmol.Camera=function(b,c,d,l,g){$3Dmol.Object3D.call(this);this.fov=void 0!==b?b:50;this.aspect=void 0!==c?c:1;this.near=void 0!==d?d:.1;this.far=void 0!==l?l:2E3;this.projectionMatrix=new $3Dmol.Matrix4;this.projectionMatrixInverse=new $3Dmol.Matrix4;this.matrixWorldInverse=new $3Dmol.Matrix4;this.right=this.position.z*Math.tan(Math.PI/180*b);this.left=-this.right;this.top=this.right/this.aspect;this.bottom=-this.top;this.ortho=!!g;this.updateProjectionMatrix()};$3Dmol.Camera.prototype=Object.create($3Dmol.Object3D.prototype);
+$3Dmol.Camera.prototype.lookAt=function(b){this.matrix.lookAt(this.position,b,this.up);this.rotationAutoUpdate&&(!1===this.useQuaternion?this.rotation.setEulerFromRotationMatrix(this.matrix,this.eulerOrder):this.quaternion.copy(this.matrix.decompose()[1]))};
+$3Dmol.Camera.prototype.updateProjectionMatrix=function(){this.ortho?this.projectionMatrix.makeOrthographic(this.left,this.right,this.top,this.bottom,this.near,this.far):this.projectionMatrix.makePerspective(this.fov,this.aspect,this.near,this.far);this.projectionMatrixInverse.getInverse(this.projectionMatrix)};
+$3Dmol.SpritePlugin=function(){function b(b,c){return b.z!==c.z?c.z-b.z:c.id-b.id}var c,d,l,g,w,q,n,m,B,u;this.init=function(b){c=b.context;d=b;l=b.getPrecision();g=new Float32Array(16);w=new Uint16Array(6);b=0;g[b++]=-1;g[b++]=-1;g[b++]=0;g[b++]=0;g[b++]=1;g[b++]=-1;g[b++]=1;g[b++]=0;g[b++]=1;g[b++]=1;g[b++]=1;g[b++]=1;g[b++]=-1;g[b++]=1;g[b++]=0;g[b++]=1;b=0;w[b++]=0;w[b++]=1;w[b++]=2;w[b++]=0;w[b++]=2;w[b++]=3;q=c.createBuffer();n=c.createBuffer();c.bindBuffer(c.ARRAY_BUFFER,q);c.bufferData(c.ARRAY_BUFFER,
+g,c.STATIC_DRAW);c.bindBuffer(c.ELEMENT_ARRAY_BUFFER,n);c.bufferData(c.ELEMENT_ARRAY_BUFFER,w,c.STATIC_DRAW);b=$3Dmol.ShaderLib.sprite;var s=l,f=c.createProgram(),p=c.createShader(c.FRAGMENT_SHADER),h=c.createShader(c.VERTEX_SHADER),s="precision "+s+" float;\n";c.shaderSource(p,s+b.fragmentShader);c.shaderSource(h,s+b.vertexShader);c.compileShader(p);c.compileShader(h);c.getShaderParameter(p,c.COMPILE_STATUS)&&c.getShaderParameter(h,c.COMPILE_STATUS)?(c.attachShader(f,p),c.attachShader(f,h),c.linkProgram(f),
+c.getProgramParameter(f,c.LINK_STATUS)||console.error("Could not initialize shader"),b=f):(console.error(c.getShaderInfoLog(p)),console.error("could not initialize shader"),b=null);m=b;B={};u={};B.position=c.getAttribLocation(m,"position");B.uv=c.getAttribLocation(m,"uv");u.uvOffset=c.getUniformLocation(m,"uvOffset");u.uvScale=c.getUniformLocation(m,"uvScale");u.rotation=c.getUniformLocation(m,"rotation");u.scale=c.getUniformLocation(m,"scale");u.alignment=c.getUniformLocation(m,"alignment");u.color=
+c.getUniformLocation(m,"color");u.map=c.getUniformLocation(m,"map");u.opacity=c.getUniformLocation(m,"opacity");u.useScreenCoordinates=c.getUniformLocation(m,"useScreenCoordinates");u.screenPosition=c.getUniformLocation(m,"screenPosition");u.modelViewMatrix=c.getUniformLocation(m,"modelViewMatrix");u.projectionMatrix=c.getUniformLocation(m,"projectionMatrix");u.fogType=c.getUniformLocation(m,"fogType");u.fogDensity=c.getUniformLocation(m,"fogDensity");u.fogNear=c.getUniformLocation(m,"fogNear");u.fogFar=
+c.getUniformLocation(m,"fogFar");u.fogColor=c.getUniformLocation(m,"fogColor");u.alphaTest=c.getUniformLocation(m,"alphaTest")};this.render=function(y,s,f,p){var h=y.__webglSprites,F=h.length;if(F){var M=B,x=u,e=.5*f,H=.5*p;c.useProgram(m);c.enableVertexAttribArray(M.position);c.enableVertexAttribArray(M.uv);c.disable(c.CULL_FACE);c.enable(c.BLEND);c.bindBuffer(c.ARRAY_BUFFER,q);c.vertexAttribPointer(M.position,2,c.FLOAT,!1,16,0);c.vertexAttribPointer(M.uv,2,c.FLOAT,!1,16,8);c.bindBuffer(c.ELEMENT_ARRAY_BUFFER,
+n);c.uniformMatrix4fv(x.projectionMatrix,!1,s.projectionMatrix.elements);c.activeTexture(c.TEXTURE0);c.uniform1i(x.map,0);var t=M=0;(M=y.fog)?(c.uniform3f(x.fogColor,M.color.r,M.color.g,M.color.b),c.uniform1f(x.fogNear,M.near),c.uniform1f(x.fogFar,M.far),c.uniform1i(x.fogType,1),t=M=1):(c.uniform1i(x.fogType,0),t=M=0);var C,z,g,l=[];for(C=0;C<F;C++)z=h[C],g=z.material,z.visible&&0!==g.opacity&&(g.useScreenCoordinates?z.z=-z.position.z:(z._modelViewMatrix.multiplyMatrices(s.matrixWorldInverse,z.matrixWorld),
+z.z=-z._modelViewMatrix.elements[14]));h.sort(b);for(C=0;C<F;C++)z=h[C],g=z.material,z.visible&&0!==g.opacity&&g.map&&g.map.image&&g.map.image.width&&(c.uniform1f(x.alphaTest,g.alphaTest),s=g.map.image.height,l[0]=g.map.image.width*d.devicePixelRatio/f,l[1]=s*d.devicePixelRatio/p,!0===g.useScreenCoordinates?(c.uniform1i(x.useScreenCoordinates,1),c.uniform3f(x.screenPosition,(z.position.x*d.devicePixelRatio-e)/e,(H-z.position.y*d.devicePixelRatio)/H,Math.max(0,Math.min(1,z.position.z)))):(c.uniform1i(x.useScreenCoordinates,
+0),c.uniformMatrix4fv(x.modelViewMatrix,!1,z._modelViewMatrix.elements)),s=y.fog&&g.fog?t:0,M!==s&&(c.uniform1i(x.fogType,s),M=s),s=1/(g.scaleByViewport?p:1),l[0]=l[0]*s*z.scale.x,l[1]=l[1]*s*z.scale.y,c.uniform2f(x.uvScale,g.uvScale.x,g.uvScale.y),c.uniform2f(x.uvOffset,g.uvOffset.x,g.uvOffset.y),c.uniform2f(x.alignment,g.alignment.x,g.alignment.y),c.uniform1f(x.opacity,g.opacity),c.uniform3f(x.color,g.color.r,g.color.g,g.color.b),c.uniform1f(x.rotation,z.rotation),c.uniform2fv(x.scale,l),d.setDepthTest(g.depthTest),
+d.setDepthWrite(g.depthWrite),d.setTexture(g.map,0),c.drawElements(c.TRIANGLES,6,c.UNSIGNED_SHORT,0));c.enable(c.CULL_FACE)}}};$3Dmol.Light=function(b,c){$3Dmol.Object3D.call(this);this.color=new $3Dmol.Color(b);this.position=new $3Dmol.Vector3(0,1,0);this.target=new $3Dmol.Object3D;this.intensity=void 0!==c?c:1;this.onlyShadow=this.castShadow=!1};$3Dmol.Light.prototype=Object.create($3Dmol.Object3D.prototype);
+$3Dmol.Material=function(){$3Dmol.EventDispatcher.call(this);this.id=$3Dmol.MaterialIdCount++;this.name="";this.side=$3Dmol.FrontSide;this.opacity=1;this.transparent=!1;this.stencilTest=this.depthWrite=this.depthTest=!0;this.polygonOffset=!1;this.alphaTest=this.polygonOffsetUnits=this.polygonOffsetFactor=0;this.needsUpdate=this.visible=!0};
+$3Dmol.Material.prototype.setValues=function(b){if(void 0!==b)for(var c in b){var d=b[c];if(void 0===d)console.warn("$3Dmol.Material: '"+c+"' parameter is undefined.");else if(c in this){var l=this[c];l instanceof $3Dmol.Color&&d instanceof $3Dmol.Color?l.copy(d):l instanceof $3Dmol.Color?l.set(d):l instanceof $3Dmol.Vector3&&d instanceof $3Dmol.Vector3?l.copy(d):this[c]=d}}};
+$3Dmol.Material.prototype.clone=function(b){void 0===b&&(b=new $3Dmol.Material);b.name=this.name;b.side=this.side;b.opacity=this.opacity;b.transparent=this.transparent;b.depthTest=this.depthTest;b.depthWrite=this.depthWrite;b.stencilTest=this.stencilTest;b.polygonOffset=this.polygonOffset;b.polygonOffsetFactor=this.polygonOffsetFactor;b.polygonOffsetUnits=this.polygonOffsetUnits;b.alphaTest=this.alphaTest;b.overdraw=this.overdraw;b.visible=this.visible;return b};
+$3Dmol.Material.prototype.dispose=function(){this.dispatchEvent({type:"dispose"})};$3Dmol.MaterialIdCount=0;$3Dmol.LineBasicMaterial=function(b){$3Dmol.Material.call(this);this.color=new $3Dmol.Color(16777215);this.linewidth=1;this.linejoin=this.linecap="round";this.vertexColors=!1;this.fog=!0;this.shaderID="basic";this.setValues(b)};$3Dmol.LineBasicMaterial.prototype=Object.create($3Dmol.Material.prototype);
+$3Dmol.LineBasicMaterial.prototype.clone=function(){var b=new $3Dmol.LineBasicMaterial;$3Dmol.Material.prototype.clone.call(this,b);b.color.copy(this.color);return b};
+$3Dmol.MeshLambertMaterial=function(b){$3Dmol.Material.call(this);this.color=new $3Dmol.Color(16777215);this.ambient=new $3Dmol.Color(1048575);this.emissive=new $3Dmol.Color(0);this.wrapAround=!1;this.wrapRGB=new $3Dmol.Vector3(1,1,1);this.envMap=this.specularMap=this.lightMap=this.map=null;this.reflectivity=1;this.refractionRatio=.98;this.fog=!0;this.wireframe=!1;this.wireframeLinewidth=1;this.wireframeLinejoin=this.wireframeLinecap="round";this.shading=$3Dmol.SmoothShading;this.shaderID="lambert";
+this.vertexColors=$3Dmol.NoColors;this.skinning=!1;this.setValues(b)};$3Dmol.MeshLambertMaterial.prototype=Object.create($3Dmol.Material.prototype);
+$3Dmol.MeshLambertMaterial.prototype.clone=function(b){"undefined"===typeof b&&(b=new $3Dmol.MeshLambertMaterial);$3Dmol.Material.prototype.clone.call(this,b);b.color.copy(this.color);b.ambient.copy(this.ambient);b.emissive.copy(this.emissive);b.wrapAround=this.wrapAround;b.wrapRGB.copy(this.wrapRGB);b.map=this.map;b.lightMap=this.lightMap;b.specularMap=this.specularMap;b.envMap=this.envMap;b.combine=this.combine;b.reflectivity=this.reflectivity;b.refractionRatio=this.refractionRatio;b.fog=this.fog;
+b.shading=this.shading;b.shaderID=this.shaderID;b.vertexColors=this.vertexColors;b.skinning=this.skinning;b.morphTargets=this.morphTargets;b.morphNormals=this.morphNormals;return b};$3Dmol.MeshDoubleLambertMaterial=function(b){$3Dmol.MeshLambertMaterial.call(this,b);this.shaderID="lambertdouble";this.side=$3Dmol.DoubleSide};$3Dmol.MeshDoubleLambertMaterial.prototype=Object.create($3Dmol.MeshLambertMaterial.prototype);
+$3Dmol.MeshDoubleLambertMaterial.prototype.clone=function(){var b=new $3Dmol.MeshDoubleLambertMaterial;$3Dmol.MeshLambertMaterial.prototype.clone.call(this,b);return b};$3Dmol.MeshOutlineMaterial=function(b){$3Dmol.Material.call(this);b=b||{};this.fog=!0;this.shaderID="outline";this.wireframe=!1;this.outlineColor=b.color||new $3Dmol.Color(0,0,0);this.outlineWidth=b.width||.1;this.outlinePushback=b.pushback||1};$3Dmol.MeshOutlineMaterial.prototype=Object.create($3Dmol.Material.prototype);
+$3Dmol.MeshOutlineMaterial.prototype.clone=function(b){"undefined"===typeof b&&(b=new $3Dmol.MeshOutlineMaterial);$3Dmol.Material.prototype.clone.call(this,b);b.fog=this.fog;b.shaderID=this.shaderID;b.wireframe=this.wireframe;return b};
+$3Dmol.ImposterMaterial=function(b){$3Dmol.Material.call(this);this.color=new $3Dmol.Color(16777215);this.ambient=new $3Dmol.Color(1048575);this.emissive=new $3Dmol.Color(0);this.imposter=!0;this.wrapAround=!1;this.wrapRGB=new $3Dmol.Vector3(1,1,1);this.envMap=this.specularMap=this.lightMap=this.map=null;this.reflectivity=1;this.refractionRatio=.98;this.fog=!0;this.wireframe=!1;this.wireframeLinewidth=1;this.wireframeLinejoin=this.wireframeLinecap="round";this.shading=$3Dmol.SmoothShading;this.shaderID=
+null;this.vertexColors=$3Dmol.NoColors;this.skinning=!1;this.setValues(b)};$3Dmol.ImposterMaterial.prototype=Object.create($3Dmol.Material.prototype);
+$3Dmol.ImposterMaterial.prototype.clone=function(){var b=new $3Dmol.ImposterMaterial;$3Dmol.Material.prototype.clone.call(this,b);b.color.copy(this.color);b.ambient.copy(this.ambient);b.emissive.copy(this.emissive);b.wrapAround=this.wrapAround;b.wrapRGB.copy(this.wrapRGB);b.map=this.map;b.lightMap=this.lightMap;b.specularMap=this.specularMap;b.envMap=this.envMap;b.combine=this.combine;b.reflectivity=this.reflectivity;b.refractionRatio=this.refractionRatio;b.fog=this.fog;b.shading=this.shading;b.shaderID=
+this.shaderID;b.vertexColors=this.vertexColors;b.skinning=this.skinning;b.morphTargets=this.morphTargets;b.morphNormals=this.morphNormals;return b};$3Dmol.SphereImposterMaterial=function(b){$3Dmol.ImposterMaterial.call(this);this.shaderID="sphereimposter";this.setValues(b)};$3Dmol.SphereImposterMaterial.prototype=Object.create($3Dmol.ImposterMaterial.prototype);
+$3Dmol.SphereImposterMaterial.prototype.clone=function(){var b=new $3Dmol.SphereImposterMaterial;$3Dmol.ImposterMaterial.prototype.clone.call(this,b);return b};$3Dmol.SphereImposterOutlineMaterial=function(b){$3Dmol.ImposterMaterial.call(this);b=b||{};this.shaderID="sphereimposteroutline";this.outlineColor=b.color||new $3Dmol.Color(0,0,0);this.outlineWidth=b.width||.1;this.outlinePushback=b.pushback||1;this.setValues(b)};$3Dmol.SphereImposterOutlineMaterial.prototype=Object.create($3Dmol.ImposterMaterial.prototype);
+$3Dmol.SphereImposterOutlineMaterial.prototype.clone=function(){var b=new $3Dmol.SphereImposterOutlineMaterial;$3Dmol.ImposterMaterial.prototype.clone.call(this,b);b.outlineColor=this.outlineColor;b.outlineWidth=this.outlineWidth;b.outlinePushback=this.outlinePushback;return b};$3Dmol.StickImposterMaterial=function(b){$3Dmol.ImposterMaterial.call(this);this.shaderID="stickimposter";this.setValues(b)};$3Dmol.StickImposterMaterial.prototype=Object.create($3Dmol.ImposterMaterial.prototype);
+$3Dmol.StickImposterMaterial.prototype.clone=function(){var b=new $3Dmol.StickImposterOutlineMaterial;$3Dmol.ImposterMaterial.prototype.clone.call(this,b);return b};$3Dmol.StickImposterOutlineMaterial=function(b){$3Dmol.ImposterMaterial.call(this);b=b||{};this.shaderID="stickimposteroutline";this.outlineColor=b.color||new $3Dmol.Color(0,0,0);this.outlineWidth=b.width||.1;this.outlinePushback=b.pushback||1;this.setValues(b)};$3Dmol.StickImposterOutlineMaterial.prototype=Object.create($3Dmol.ImposterMaterial.prototype);
+$3Dmol.StickImposterOutlineMaterial.prototype.clone=function(){var b=new $3Dmol.StickImposterOutlineMaterial;$3Dmol.ImposterMaterial.prototype.clone.call(this,b);b.outlineColor=this.outlineColor;b.outlineWidth=this.outlineWidth;b.outlinePushback=this.outlinePushback;return b};
+$3Dmol.InstancedMaterial=function(b){$3Dmol.Material.call(this);this.color=new $3Dmol.Color(16777215);this.ambient=new $3Dmol.Color(1048575);this.emissive=new $3Dmol.Color(0);this.wrapAround=!1;this.wrapRGB=new $3Dmol.Vector3(1,1,1);this.envMap=this.specularMap=this.lightMap=this.map=null;this.reflectivity=1;this.refractionRatio=.98;this.fog=!0;this.wireframe=!1;this.wireframeLinewidth=1;this.wireframeLinejoin=this.wireframeLinecap="round";this.shading=$3Dmol.SmoothShading;this.shaderID="instanced";
+this.vertexColors=$3Dmol.NoColors;this.skinning=!1;this.sphere=null;this.setValues(b)};$3Dmol.InstancedMaterial.prototype=Object.create($3Dmol.Material.prototype);
+$3Dmol.InstancedMaterial.prototype.clone=function(){var b=new $3Dmol.InstancedMaterial;$3Dmol.Material.prototype.clone.call(this,b);b.color.copy(this.color);b.ambient.copy(this.ambient);b.emissive.copy(this.emissive);b.wrapAround=this.wrapAround;b.wrapRGB.copy(this.wrapRGB);b.map=this.map;b.lightMap=this.lightMap;b.specularMap=this.specularMap;b.envMap=this.envMap;b.combine=this.combine;b.reflectivity=this.reflectivity;b.refractionRatio=this.refractionRatio;b.fog=this.fog;b.shading=this.shading;b.shaderID=
+this.shaderID;b.vertexColors=this.vertexColors;b.skinning=this.skinning;b.morphTargets=this.morphTargets;b.morphNormals=this.morphNormals;b.sphere=this.sphere;return b};
+$3Dmol.SpriteMaterial=function(b){$3Dmol.Material.call(this);this.color=new $3Dmol.Color(16777215);this.map=new $3Dmol.Texture;this.useScreenCoordinates=!0;this.depthTest=!this.useScreenCoordinates;this.sizeAttenuation=!this.useScreenCoordinates;this.scaleByViewPort=!this.sizeAttenuation;this.alignment=$3Dmol.SpriteAlignment.center.clone();this.fog=!1;this.uvOffset=new $3Dmol.Vector2(0,0);this.uvScale=new $3Dmol.Vector2(1,1);this.setValues(b);b=b||{};void 0===b.depthTest&&(this.depthTest=!this.useScreenCoordinates);
+void 0===b.sizeAttenuation&&(this.sizeAttenuation=!this.useScreenCoordinates);void 0===b.scaleByViewPort&&(this.scaleByViewPort=!this.sizeAttenuation)};$3Dmol.SpriteMaterial.prototype=Object.create($3Dmol.Material.prototype);
+$3Dmol.SpriteMaterial.prototype.clone=function(){var b=new $3Dmol.SpriteMaterial;$3Dmol.Material.prototype.clone.call(this,b);b.color.copy(this.color);b.map=this.map;b.useScreenCoordinates=useScreenCoordinates;b.sizeAttenuation=this.sizeAttenuation;b.scaleByViewport=this.scaleByViewPort;b.alignment.copy(this.alignment);b.uvOffset.copy(this.uvOffset);return b};$3Dmol.SpriteAlignment={};$3Dmol.SpriteAlignment.topLeft=new $3Dmol.Vector2(1,-1);$3Dmol.SpriteAlignment.topCenter=new $3Dmol.Vector2(0,-1);
+$3Dmol.SpriteAlignment.topRight=new $3Dmol.Vector2(-1,-1);$3Dmol.SpriteAlignment.centerLeft=new $3Dmol.Vector2(1,0);$3Dmol.SpriteAlignment.center=new $3Dmol.Vector2(0,0);$3Dmol.SpriteAlignment.centerRight=new $3Dmol.Vector2(-1,0);$3Dmol.SpriteAlignment.bottomLeft=new $3Dmol.Vector2(1,1);$3Dmol.SpriteAlignment.bottomCenter=new $3Dmol.Vector2(0,1);$3Dmol.SpriteAlignment.bottomRight=new $3Dmol.Vector2(-1,1);
+$3Dmol.Texture=function(b){$3Dmol.EventDispatcher.call(this);this.id=$3Dmol.TextureIdCount++;this.name="";this.image=b;this.mipmaps=[];this.mapping=new $3Dmol.UVMapping;this.wrapT=this.wrapS=$3Dmol.ClampToEdgeWrapping;this.magFilter=$3Dmol.LinearFilter;this.minFilter=$3Dmol.LinearMipMapLinearFilter;this.anisotropy=1;this.format=$3Dmol.RGBAFormat;this.type=$3Dmol.UnsignedByteType;this.offset=new $3Dmol.Vector2(0,0);this.repeat=new $3Dmol.Vector2(1,1);this.generateMipmaps=!0;this.premultiplyAlpha=!1;
+this.flipY=!0;this.unpackAlignment=4;this.needsUpdate=!1;this.onUpdate=null};
+$3Dmol.Texture.prototype={constructor:$3Dmol.Texture,clone:function(b){void 0===b&&(b=new $3Dmol.Texture);b.image=this.image;b.mipmaps=this.mipmaps.slice(0);b.mapping=this.mapping;b.wrapS=this.wrapS;b.wrapT=this.wrapT;b.magFilter=this.magFilter;b.minFilter=this.minFilter;b.anisotropy=this.anisotropy;b.format=this.format;b.type=this.type;b.offset.copy(this.offset);b.repeat.copy(this.repeat);b.generateMipmaps=this.generateMipmaps;b.premultiplyAlpha=this.premultiplyAlpha;b.flipY=this.flipY;b.unpackAlignment=
+this.unpackAlignment;return b},dispose:function(){this.dispatchEvent({type:"dispose"})}};$3Dmol.TextureIdCount=0;$3Dmol.FrontSide=0;$3Dmol.BackSide=1;$3Dmol.DoubleSide=2;$3Dmol.NoShading=0;$3Dmol.FlatShading=1;$3Dmol.SmoothShading=2;$3Dmol.NoColors=0;$3Dmol.FaceColors=1;$3Dmol.VertexColors=2;$3Dmol.MultiplyOperation=0;$3Dmol.MixOperation=1;$3Dmol.AddOperation=2;$3Dmol.UVMapping=function(){};$3Dmol.ClampToEdgeWrapping=1001;$3Dmol.LinearFilter=1006;$3Dmol.LinearMipMapLinearFilter=1008;
+$3Dmol.UnsignedByteType=1009;$3Dmol.RGBAFormat=1021;$3Dmol.Line=function(b,c,d){$3Dmol.Object3D.call(this);this.geometry=b;this.material=void 0!==c?c:new $3Dmol.LineBasicMaterial({color:16777215*Math.random()});this.type=void 0!==d?d:$3Dmol.LineStrip};$3Dmol.LineStrip=0;$3Dmol.LinePieces=1;$3Dmol.Line.prototype=Object.create($3Dmol.Object3D.prototype);
+$3Dmol.Line.prototype.clone=function(b){void 0===b&&(b=new $3Dmol.Line(this.geometry,this.material,this.type));$3Dmol.Object3D.prototype.clone.call(this,b);return b};$3Dmol.Mesh=function(b,c){$3Dmol.Object3D.call(this);this.geometry=b;this.material=void 0!==c?c:new $3Dmol.MeshBasicMaterial({color:16777215*Math.random(),wireframe:!0})};$3Dmol.Mesh.prototype=Object.create($3Dmol.Object3D.prototype);
+$3Dmol.Mesh.prototype.clone=function(b){void 0===b&&(b=new $3Dmol.Mesh(this.geometry,this.material));$3Dmol.Object3D.prototype.clone.call(this,b);return b};$3Dmol.Sprite=function(b){$3Dmol.Object3D.call(this);this.material=void 0!==b?b:new $3Dmol.SpriteMaterial;this.rotation3d=this.rotation;this.rotation=0};$3Dmol.Sprite.prototype=Object.create($3Dmol.Object3D.prototype);
+$3Dmol.Sprite.prototype.updateMatrix=function(){this.matrix.setPosition(this.position);this.rotation3d.set(0,0,this.rotation);this.matrix.setRotationFromEuler(this.rotation3d);1===this.scale.x&&1===this.scale.y||this.matrix.scale(this.scale);this.matrixWorldNeedsUpdate=!0};$3Dmol.Sprite.prototype.clone=function(b){void 0===b&&(b=new $3Dmol.Sprite(this.material));$3Dmol.Object3D.prototype.clone.call(this,b);return b};
+$3Dmol.Renderer=function(b){function c(b){S[b]||(D.enableVertexAttribArray(b),S[b]=!0)}function d(b,c){var d;"fragment"===b?d=D.createShader(D.FRAGMENT_SHADER):"vertex"===b&&(d=D.createShader(D.VERTEX_SHADER));D.shaderSource(d,c);D.compileShader(d);return D.getShaderParameter(d,D.COMPILE_STATUS)?d:(console.error(D.getShaderInfoLog(d)),console.error("could not initialize shader"),null)}function l(b,c,d,f,A,s,p,E){var u,q,m;c?(q=b.length-1,E=c=-1):(q=0,c=b.length,E=1);for(var y=q;y!==c;y+=E)if(u=b[y],
+u.render&&(q=u.object,m=u.buffer,u=u[d])){p&&e.setBlending(!0);e.setDepthTest(u.depthTest);e.setDepthWrite(u.depthWrite);var t=u.polygonOffset;null!==t&&(t?D.enable(D.POLYGON_OFFSET_FILL):D.disable(D.POLYGON_OFFSET_FILL));t=q._modelViewMatrix.isReflected();e.setMaterialFaces(u,t);e.renderBuffer(f,A,s,u,m,q);if(x||u.outline)"sphereimposter"==u.shaderID?e.renderBuffer(f,A,s,F,m,q):"stickimposter"==u.shaderID?e.renderBuffer(f,A,s,M,m,q):u.wireframe||"basic"===u.shaderID||0===u.opacity||e.renderBuffer(f,
+A,s,h,m,q)}}function g(b){return 0===(b&b-1)}function w(b){return b===$3Dmol.UnsignedByteType?D.UNSIGNED_BYTE:b===$3Dmol.RGBAFormat?D.RGBA:0}b=b||{};var q=void 0!==b.canvas?b.canvas:document.createElement("canvas"),n=void 0!==b.precision?b.precision:"highp",m=void 0!==b.alpha?b.alpha:!0,B=void 0!==b.premultipliedAlpha?b.premultipliedAlpha:!0,u=void 0!==b.antialias?b.antialias:!1,y=void 0!==b.stencil?b.stencil:!0,s=void 0!==b.preserveDrawingBuffer?b.preserveDrawingBuffer:!1,f=void 0!==b.clearColor?
+new $3Dmol.Color(b.clearColor):new $3Dmol.Color(0),p=void 0!==b.clearAlpha?b.clearAlpha:0,h=new $3Dmol.MeshOutlineMaterial(b.outline),F=new $3Dmol.SphereImposterOutlineMaterial(b.outline),M=new $3Dmol.StickImposterOutlineMaterial(b.outline),x=!!b.outline;this.domElement=q;this.context=null;this.devicePixelRatio=void 0!==b.devicePixelRatio?b.devicePixelRatio:void 0!==self.devicePixelRatio?self.devicePixelRatio:1;q.id=b.id;this.autoUpdateScene=this.autoUpdateObjects=this.sortObjects=this.autoClearStencil=
+this.autoClearDepth=this.autoClearColor=this.autoClear=!0;this.renderPluginsPost=[];this.info={memory:{programs:0,geometries:0,textures:0},render:{calls:0,vertices:0,faces:0,points:0}};var e=this,H=[],t=0,C=null,z=-1,I=null,K=null,J=0,A=-1,O=-1,E=-1,N=-1,L=null,Q=0,G=0,P=0,R=0,S={},X=new $3Dmol.Matrix4,T=new $3Dmol.Vector3,Y=new $3Dmol.Vector3,V=!0,W=[],U=[],D;try{if(!(D=q.getContext("experimental-webgl",{alpha:m,premultipliedAlpha:B,antialias:u,stencil:y,preserveDrawingBuffer:s}))&&!(D=q.getContext("webgl",
+{alpha:m,premultipliedAlpha:B,antialias:u,stencil:y,preserveDrawingBuffer:s})))throw"Error creating WebGL context.";}catch(Z){console.error(Z)}D.clearColor(0,0,0,1);D.clearDepth(1);D.clearStencil(0);D.enable(D.DEPTH_TEST);D.depthFunc(D.LEQUAL);D.frontFace(D.CCW);D.cullFace(D.BACK);D.enable(D.CULL_FACE);D.enable(D.BLEND);D.blendEquation(D.FUNC_ADD);D.blendFunc(D.SRC_ALPHA,D.ONE_MINUS_SRC_ALPHA);D.clearColor(f.r,f.g,f.b,p);this.context=D;var aa=D.getExtension("ANGLE_instanced_arrays"),ga=D.getExtension("EXT_frag_depth");
+this.supportedExtensions=function(){return{supportsAIA:Boolean(aa),supportsImposters:Boolean(ga)}};this.getContext=function(){return D};this.getPrecision=function(){return n};this.setClearColorHex=function(b,c){f.setHex(b);p=c;D.clearColor(f.r,f.g,f.b,p)};this.enableOutline=function(b){h=new $3Dmol.MeshOutlineMaterial(b);F=new $3Dmol.SphereImposterOutlineMaterial(b);M=new $3Dmol.StickImposterOutlineMaterial(b);x=!0};this.disableOutline=function(){x=!1};this.setSize=function(b,c){Q=q.width=b*this.devicePixelRatio;
+G=q.height=c*this.devicePixelRatio;q.style.width=b+"px";q.style.height=c+"px";D.viewport(0,0,D.drawingBufferWidth,D.drawingBufferHeight)};this.clear=function(b,c,d){var e=0;if(void 0===b||b)e|=D.COLOR_BUFFER_BIT;if(void 0===c||c)e|=D.DEPTH_BUFFER_BIT;if(void 0===d||d)e|=D.STENCIL_BUFFER_BIT;D.clear(e)};this.clearTarget=function(b,c,d){this.clear(b,c,d)};this.setMaterialFaces=function(b,c){var d=b.side===$3Dmol.DoubleSide,e=b.side===$3Dmol.BackSide,e=c?!e:e;A!==d&&(d?D.disable(D.CULL_FACE):D.enable(D.CULL_FACE),
+A=d);O!==e&&(e?D.frontFace(D.CW):D.frontFace(D.CCW),O=e)};this.setDepthTest=function(b){E!==b&&(b?D.enable(D.DEPTH_TEST):D.disable(D.DEPTH_TEST),E=b)};this.setDepthWrite=function(b){N!==b&&(D.depthMask(b),N=b)};this.setBlending=function(b){b?(D.enable(D.BLEND),D.blendEquationSeparate(D.FUNC_ADD,D.FUNC_ADD),D.blendFuncSeparate(D.SRC_ALPHA,D.ONE_MINUS_SRC_ALPHA,D.ONE,D.ONE_MINUS_SRC_ALPHA)):D.disable(D.BLEND)};this.addPostPlugin=function(b){b.init(this);this.renderPluginsPost.push(b)};var da=function(b){b=
+b.target;b.removeEventListener("dispose",da);b.__webglInit=void 0;void 0!==b.__webglVertexBuffer&&D.deleteBuffer(b.__webglVertexBuffer);void 0!==b.__webglColorBuffer&&D.deleteBuffer(b.__webglColorBuffer);if(void 0!==b.geometryGroups)for(var c=0,d=b.groups;c<d;c++){var f=b.geometryGroups[c];void 0!==f.__webglVertexBuffer&&D.deleteBuffer(f.__webglVertexBuffer);void 0!==f.__webglColorBuffer&&D.deleteBuffer(f.__webglColorBuffer);void 0!==f.__webglNormalBuffer&&D.deleteBuffer(f.__webglNormalBuffer);void 0!==
+f.__webglFaceBuffer&&D.deleteBuffer(f.__webglFaceBuffer);void 0!==f.__webglLineBuffer&&D.deleteBuffer(f.__webglLineBuffer)}e.info.memory.geometries--},fa=function(b){b=b.target;b.removeEventListener("dispose",fa);b.image&&b.image.__webglTextureCube?D.deleteTexture(b.image.__webglTextureCube):b.__webglInit&&(b.__webglInit=!1,D.deleteTexture(b.__webglTexture));e.info.memory.textures--},ea=function(b){b=b.target;b.removeEventListener("dispose",ea);ca(b)},ca=function(b){var c=b.program;if(void 0!==c){b.program=
+void 0;var d,f,A=!1;b=0;for(d=H.length;b<d;b++)if(f=H[b],f.program===c){f.usedTimes--;0===f.usedTimes&&(A=!0);break}if(!0===A){A=[];b=0;for(d=H.length;b<d;b++)f=H[b],f.program!==c&&A.push(f);H=A;D.deleteProgram(c);e.info.memory.programs--}}};this.initMaterial=function(b,c,f,A){b.addEventListener("dispose",ea);if(c=b.shaderID)c=$3Dmol.ShaderLib[c],b.vertexShader=c.vertexShader,b.fragmentShader=c.fragmentShader,b.uniforms=$3Dmol.ShaderUtils.clone(c.uniforms);var s;a:{var p=b.fragmentShader;A=b.vertexShader;
+f=b.uniforms;var u={wireframe:b.wireframe,fragdepth:b.imposter},h,E;c=[];c.push(p);c.push(A);for(h in u)c.push(h),c.push(u[h]);c=c.join();h=0;for(E=H.length;h<E;h++){var q=H[h];if(q.code===c){q.usedTimes++;s=q.program;break a}}h=D.createProgram();q="precision "+n+" float;";E=""+q;u=[u.fragdepth?"#extension GL_EXT_frag_depth: enable":"",u.wireframe?"#define WIREFRAME 1":"",q].join("\n");p=d("fragment",u+p);A=d("vertex",E+A);D.attachShader(h,A);D.attachShader(h,p);D.linkProgram(h);D.getProgramParameter(h,
+D.LINK_STATUS)||console.error("Could not initialize shader");h.uniforms={};h.attributes={};A=["viewMatrix","modelViewMatrix","projectionMatrix","normalMatrix"];for(s in f)A.push(s);for(s=0;s<A.length;s++)f=A[s],h.uniforms[f]=D.getUniformLocation(h,f);A="position normal color lineDistance offset radius".split(" ");for(s=0;s<A.length;s++)f=A[s],h.attributes[f]=D.getAttribLocation(h,f);h.id=t++;H.push({program:h,code:c,usedTimes:1});e.info.memory.programs=H.length;s=h}b.program=s};this.renderBuffer=
+function(b,d,f,A,s,p){if(A.visible){var h;A.needsUpdate&&(A.program&&ca(A),e.initMaterial(A,d,f,p),A.needsUpdate=!1);var u=!1,E=A.program,q=E.uniforms;h=A.uniforms;E!=C&&(D.useProgram(E),C=E,u=!0);A.id!=z&&(z=A.id,u=!0);b!=K&&(K=b,u=!0);D.uniformMatrix4fv(q.projectionMatrix,!1,b.projectionMatrix.elements);D.uniformMatrix4fv(q.modelViewMatrix,!1,p._modelViewMatrix.elements);D.uniformMatrix3fv(q.normalMatrix,!1,p._normalMatrix.elements);if(u){h.fogColor.value=f.color;h.fogNear.value=f.near;h.fogFar.value=
+f.far;if(A.shaderID.startsWith("lambert")||"instanced"===A.shaderID||A.shaderID.endsWith("imposter")){D.uniformMatrix4fv(q.viewMatrix,!1,b.matrixWorldInverse.elements);if(V){var m,x,y=0,F=0,t=0;b=0;for(f=d.length;b<f;b++)if(u=d[b],m=u.color,x=u.intensity,u instanceof $3Dmol.Light&&(y++,Y.getPositionFromMatrix(u.matrixWorld),T.getPositionFromMatrix(u.target.matrixWorld),Y.sub(T),Y.normalize(),0!==Y.x||0!==Y.y||0!==Y.z))U[t]=Y.x,U[t+1]=Y.y,U[t+2]=Y.z,W[t]=m.r*x,W[t+1]=m.g*x,W[t+2]=m.b*x,t+=3,F++;V=
+!1}h.directionalLightColor.value=W;h.directionalLightDirection.value=U}else A.shaderID.endsWith("outline")?(h.outlineColor.value=A.outlineColor,h.outlineWidth.value=A.outlineWidth,h.outlinePushback.value=A.outlinePushback):"sphereimposter"===A.shaderID&&(D.uniformMatrix4fv(q.viewMatrix,!1,b.matrixWorldInverse.elements),D.uniformMatrix3fv(q.normalMatrix,!1,p._normalMatrix.elements),h.directionalLightColor.value=W,h.directionalLightDirection.value=U);h.opacity.value=A.opacity;for(var n in h)q[n]&&(d=
+h[n].type,b=h[n].value,f=q[n],"f"===d?D.uniform1f(f,b):"fv"===d?D.uniform3fv(f,b):"c"===d?D.uniform3f(f,b.r,b.g,b.b):"f4"===d&&D.uniform4f(f,b[0],b[1],b[2],b[3]))}h=E.attributes;q=!1;E=16777215*s.id+2*E.id+(A.wireframe?1:0);E!==I&&(I=E,q=!0);if(q){for(var H in S)S[H]&&(D.disableVertexAttribArray(H),S[H]=!1);0<=h.position&&(D.bindBuffer(D.ARRAY_BUFFER,s.__webglVertexBuffer),c(h.position),D.vertexAttribPointer(h.position,3,D.FLOAT,!1,0,0));0<=h.color&&(D.bindBuffer(D.ARRAY_BUFFER,s.__webglColorBuffer),
+c(h.color),D.vertexAttribPointer(h.color,3,D.FLOAT,!1,0,0));0<=h.normal&&(D.bindBuffer(D.ARRAY_BUFFER,s.__webglNormalBuffer),c(h.normal),D.vertexAttribPointer(h.normal,3,D.FLOAT,!1,0,0));0<=h.offset&&(D.bindBuffer(D.ARRAY_BUFFER,s.__webglOffsetBuffer),c(h.offset),D.vertexAttribPointer(h.offset,3,D.FLOAT,!1,0,0));0<=h.radius&&(D.bindBuffer(D.ARRAY_BUFFER,s.__webglRadiusBuffer),c(h.radius),D.vertexAttribPointer(h.radius,1,D.FLOAT,!1,0,0))}var g;p instanceof $3Dmol.Mesh?("instanced"===A.shaderID?(g=
+A.sphere.geometryGroups[0],q&&(D.bindBuffer(D.ARRAY_BUFFER,s.__webglVertexBuffer),D.bufferData(D.ARRAY_BUFFER,g.vertexArray,D.STATIC_DRAW),D.bindBuffer(D.ARRAY_BUFFER,s.__webglNormalBuffer),D.bufferData(D.ARRAY_BUFFER,g.normalArray,D.STATIC_DRAW),D.bindBuffer(D.ELEMENT_ARRAY_BUFFER,s.__webglFaceBuffer),D.bufferData(D.ELEMENT_ARRAY_BUFFER,g.faceArray,D.STATIC_DRAW)),g=g.faceidx,aa.vertexAttribDivisorANGLE(h.offset,1),aa.vertexAttribDivisorANGLE(h.radius,1),aa.vertexAttribDivisorANGLE(h.color,1),aa.drawElementsInstancedANGLE(D.TRIANGLES,
+g,D.UNSIGNED_SHORT,0,s.radiusArray.length),aa.vertexAttribDivisorANGLE(h.offset,0),aa.vertexAttribDivisorANGLE(h.radius,0),aa.vertexAttribDivisorANGLE(h.color,0)):A.wireframe?(p=s.lineidx,A=A.wireframeLinewidth,A!==L&&(D.lineWidth(A),L=A),q&&D.bindBuffer(D.ELEMENT_ARRAY_BUFFER,s.__webglLineBuffer),D.drawElements(D.LINES,p,D.UNSIGNED_SHORT,0)):(g=s.faceidx,q&&D.bindBuffer(D.ELEMENT_ARRAY_BUFFER,s.__webglFaceBuffer),D.drawElements(D.TRIANGLES,g,D.UNSIGNED_SHORT,0)),e.info.render.calls++,e.info.render.vertices+=
+g,e.info.render.faces+=g/3):p instanceof $3Dmol.Line&&(p=s.vertices,s=A.linewidth,s!==L&&(D.lineWidth(s),L=s),D.drawArrays(D.LINES,0,p),e.info.render.calls++)}};this.render=function(b,c,d){if(!1===c instanceof $3Dmol.Camera)console.error("$3Dmol.Renderer.render: camera is not an instance of $3Dmol.Camera.");else{var f,s,h,p,u=b.__lights,q=b.fog;z=-1;V=!0;this.autoUpdateScene&&b.updateMatrixWorld();void 0===c.parent&&c.updateMatrixWorld();c.matrixWorldInverse.getInverse(c.matrixWorld);X.multiplyMatrices(c.projectionMatrix,
+c.matrixWorldInverse);this.autoUpdateObjects&&this.initWebGLObjects(b);e.info.render.calls=0;e.info.render.vertices=0;e.info.render.faces=0;e.info.render.points=0;P=Q;R=G;(this.autoClear||d)&&this.clear(this.autoClearColor,this.autoClearDepth,this.autoClearStencil);p=b.__webglObjects;d=0;for(f=p.length;d<f;d++)if(s=p[d],h=s.object,s.render=!1,h.visible){h._modelViewMatrix.multiplyMatrices(c.matrixWorldInverse,h.matrixWorld);h._normalMatrix.getInverse(h._modelViewMatrix);h._normalMatrix.transpose();
+h=s;var m=h.object.material;m.transparent?(h.opaque=null,h.transparent=m,m.wireframe||(m=m.clone(),m.opacity=0,h.blank=m)):(h.opaque=m,h.transparent=null);s.render=!0}this.setBlending(!1);l(b.__webglObjects,!0,"opaque",c,u,q,!1,null);l(b.__webglObjects,!0,"blank",c,u,q,!0,null);l(b.__webglObjects,!1,"transparent",c,u,q,!0,null);u=this.renderPluginsPost;I=-1;K=C=null;O=z=A=E=N=-1;if(u.length)for(q=0,d=u.length;q<d;q++)V=!0,u[q].render(b,c,P,R),I=-1,K=C=null,O=z=A=E=N=-1;this.setDepthTest(!0);this.setDepthWrite(!0)}};
+this.initWebGLObjects=function(b){b.__webglObjects||(b.__webglObjects=[],b.__webglObjectsImmediate=[],b.__webglSprites=[],b.__webglFlares=[]);if(b.__objectsAdded.length){for(;b.__objectsAdded.length;){var c=b.__objectsAdded[0],d=b,A=void 0,f=void 0,h=void 0,s=void 0;if(!c.__webglInit&&(c.__webglInit=!0,c._modelViewMatrix=new $3Dmol.Matrix4,c._normalMatrix=new $3Dmol.Matrix3,void 0!==c.geometry&&void 0===c.geometry.__webglInit&&(c.geometry.__webglInit=!0,c.geometry.addEventListener("dispose",da)),
+c instanceof $3Dmol.Mesh||c instanceof $3Dmol.Line))for(h=c.geometry,A=0,f=h.geometryGroups.length;A<f;A++)s=h.geometryGroups[A],s.id=J++,s.__webglVertexBuffer||(c instanceof $3Dmol.Mesh?(s.radiusArray&&(s.__webglRadiusBuffer=D.createBuffer()),s.useOffset&&(s.__webglOffsetBuffer=D.createBuffer()),s.__webglVertexBuffer=D.createBuffer(),s.__webglNormalBuffer=D.createBuffer(),s.__webglColorBuffer=D.createBuffer(),s.__webglFaceBuffer=D.createBuffer(),s.__webglLineBuffer=D.createBuffer(),e.info.memory.geometries++,
+h.elementsNeedUpdate=!0,h.normalsNeedUpdate=!0):c instanceof $3Dmol.Line&&(s.__webglVertexBuffer=D.createBuffer(),s.__webglColorBuffer=D.createBuffer(),e.info.memory.geometries++),h.verticesNeedUpdate=!0,h.colorsNeedUpdate=!0);if(!c.__webglActive){if(c instanceof $3Dmol.Mesh||c instanceof $3Dmol.Line)for(h=c.geometry,A=0,f=h.geometryGroups.length;A<f;A++)s=h.geometryGroups[A],d.__webglObjects.push({buffer:s,object:c,opaque:null,transparent:null});else c instanceof $3Dmol.Sprite&&d.__webglSprites.push(c);
+c.__webglActive=!0}b.__objectsAdded.splice(0,1)}I=-1}for(;b.__objectsRemoved.length;){c=b.__objectsRemoved[0];d=b;if(c instanceof $3Dmol.Mesh||c instanceof $3Dmol.Line)for(d=d.__webglObjects,A=c,f=d.length-1;0<=f;--f)d[f].object===A&&d.splice(f,1);else if(c instanceof $3Dmol.Sprite)for(d=d.__webglSprites,A=c,f=d.length-1;0<=f;--f)d[f]===A&&d.splice(f,1);c.__webglActive=!1;b.__objectsRemoved.splice(0,1)}c=0;for(d=b.__webglObjects.length;c<d;c++)if(f=b.__webglObjects[c].object,A=f.geometry,s=void 0,
+f instanceof $3Dmol.Mesh||f instanceof $3Dmol.Line){f=0;for(h=A.geometryGroups.length;f<h;f++)if(s=A.geometryGroups[f],A.verticesNeedUpdate||A.elementsNeedUpdate||A.colorsNeedUpdate||A.normalsNeedUpdate){var p=D.STATIC_DRAW,u=s.vertexArray,E=s.colorArray;void 0!==s.__webglOffsetBuffer?D.bindBuffer(D.ARRAY_BUFFER,s.__webglOffsetBuffer):D.bindBuffer(D.ARRAY_BUFFER,s.__webglVertexBuffer);D.bufferData(D.ARRAY_BUFFER,u,p);D.bindBuffer(D.ARRAY_BUFFER,s.__webglColorBuffer);D.bufferData(D.ARRAY_BUFFER,E,
+p);s.normalArray&&void 0!==s.__webglNormalBuffer&&(u=s.normalArray,D.bindBuffer(D.ARRAY_BUFFER,s.__webglNormalBuffer),D.bufferData(D.ARRAY_BUFFER,u,p));s.radiusArray&&void 0!==s.__webglRadiusBuffer&&(D.bindBuffer(D.ARRAY_BUFFER,s.__webglRadiusBuffer),D.bufferData(D.ARRAY_BUFFER,s.radiusArray,p));s.faceArray&&void 0!==s.__webglFaceBuffer&&(u=s.faceArray,D.bindBuffer(D.ELEMENT_ARRAY_BUFFER,s.__webglFaceBuffer),D.bufferData(D.ELEMENT_ARRAY_BUFFER,u,p));s.lineArray&&void 0!==s.__webglLineBuffer&&(u=s.lineArray,
+D.bindBuffer(D.ELEMENT_ARRAY_BUFFER,s.__webglLineBuffer),D.bufferData(D.ELEMENT_ARRAY_BUFFER,u,p))}A.verticesNeedUpdate=!1;A.elementsNeedUpdate=!1;A.normalsNeedUpdate=!1;A.colorsNeedUpdate=!1;A.buffersNeedUpdate=!1}};this.setTexture=function(b,c){if(b.needsUpdate){b.__webglInit||(b.__webglInit=!0,b.addEventListener("dispose",fa),b.__webglTexture=D.createTexture(),e.info.memory.textures++);D.activeTexture(D.TEXTURE0+c);D.bindTexture(D.TEXTURE_2D,b.__webglTexture);D.pixelStorei(D.UNPACK_FLIP_Y_WEBGL,
+b.flipY);D.pixelStorei(D.UNPACK_PREMULTIPLY_ALPHA_WEBGL,b.premultiplyAlpha);D.pixelStorei(D.UNPACK_ALIGNMENT,b.unpackAlignment);var d=b.image,d=g(d.width)&&g(d.height),A=w(b.format),f=w(b.type),s=D.TEXTURE_2D;d?(D.texParameteri(s,D.TEXTURE_WRAP_S,w(b.wrapS)),D.texParameteri(s,D.TEXTURE_WRAP_T,w(b.wrapT)),D.texParameteri(s,D.TEXTURE_MAG_FILTER,w(b.magFilter)),D.texParameteri(s,D.TEXTURE_MIN_FILTER,w(b.minFilter))):(D.texParameteri(s,D.TEXTURE_WRAP_S,D.CLAMP_TO_EDGE),D.texParameteri(s,D.TEXTURE_WRAP_T,
+D.CLAMP_TO_EDGE),D.texParameteri(s,D.TEXTURE_MAG_FILTER,D.LINEAR),D.texParameteri(s,D.TEXTURE_MIN_FILTER,D.LINEAR));var h=b.mipmaps;if(0<h.length&&d){for(var p=0,u=h.length;p<u;p++)s=h[p],D.texImage2D(D.TEXTURE_2D,p,A,A,f,s);b.generateMipmaps=!1}else D.texImage2D(D.TEXTURE_2D,0,A,A,f,b.image);b.generateMipmaps&&d&&D.generateMipmap(D.TEXTURE_2D);b.needsUpdate=!1;if(b.onUpdate)b.onUpdate()}else D.activeTexture(D.TEXTURE0+c),D.bindTexture(D.TEXTURE_2D,b.__webglTexture)};this.addPostPlugin(new $3Dmol.SpritePlugin)};
+$3Dmol.Scene=function(){$3Dmol.Object3D.call(this);this.overrideMaterial=this.fog=null;this.matrixAutoUpdate=!1;this.__objects=[];this.__lights=[];this.__objectsAdded=[];this.__objectsRemoved=[]};$3Dmol.Scene.prototype=Object.create($3Dmol.Object3D.prototype);
+$3Dmol.Scene.prototype.__addObject=function(b){b instanceof $3Dmol.Light?(-1===this.__lights.indexOf(b)&&this.__lights.push(b),b.target&&void 0===b.target.parent&&this.add(b.target)):-1===this.__objects.indexOf(b)&&(this.__objects.push(b),this.__objectsAdded.push(b),-1!==this.__objectsRemoved.indexOf(b)&&this.__objectsRemoved.splice(c,1));for(var c=0;c<b.children.length;c++)this.__addObject(b.children[c])};
+$3Dmol.Scene.prototype.__removeObject=function(b){var c;b instanceof $3Dmol.Light?(c=this.__lights.indexOf(b),-1!==c&&this.__lights.splice(c,1)):(c=this.__objects.indexOf(b),-1!==c&&(this.__objects.splice(c,1),this.__objectsRemoved.push(b),-1!==this.__objectsAdded.indexOf(b)&&this.__objectsAdded.splice(c,1)));for(c=0;c<b.children.length;c++)this.__removeObject(b.children[c])};$3Dmol.Fog=function(b,c,d){this.name="";this.color=new $3Dmol.Color(b);this.near=void 0!==c?c:1;this.far=void 0!==d?d:1E3};
+$3Dmol.Fog.prototype.clone=function(){return new $3Dmol.Fog(this.color.getHex(),this.near,this.far)};$3Dmol.ShaderUtils={clone:function(b){var c,d={};for(c in b){d[c]={};d[c].type=b[c].type;var l=b[c].value;l instanceof $3Dmol.Color?d[c].value=l.clone():"number"===typeof l?d[c].value=l:l instanceof Array?d[c].value=[]:console.error("Error copying shader uniforms from ShaderLib: unknown type for uniform")}return d},stickimposterFragmentShader:"uniform float opacity;\nuniform mat4 projectionMatrix;\nuniform vec3 fogColor;\nuniform float fogNear;\nuniform float fogFar;\nvarying vec3 vLight;\nvarying vec3 vColor;\nvarying vec3 cposition;\nvarying vec3 p1;\nvarying vec3 p2;\nvarying float r;\nvoid main() {\n    vec3 color = abs(vColor);\n    vec3 pos = cposition;\n    vec3 p = pos;\n    vec3 v = normalize(pos);\n    vec3 pa = p1;\n    vec3 va = normalize(p2-p1);\n    vec3 tmp1 = v-(dot(v,va)*va);\n    vec3 deltap = p-pa;\n    float A = dot(tmp1,tmp1);\n    if(A == 0.0) discard;\n    vec3 tmp2 = deltap-(dot(deltap,va)*va);\n    float B = 2.0*dot(tmp1, tmp2);\n    float C = dot(tmp2,tmp2)-r*r;\n    float det = (B*B) - (4.0*A*C);\n    if(det < 0.0) discard;\n    float sqrtDet = sqrt(det);\n    float posT = (-B+sqrtDet)/(2.0*A);\n    float negT = (-B-sqrtDet)/(2.0*A);\n    float intersectionT = min(posT,negT);\n    vec3 qi = p+v*intersectionT;\n    float dotp1 = dot(va,qi-p1);\n    float dotp2 = dot(va,qi-p2);\n    vec3 norm;\n    if( dotp1 < 0.0 || dotp2 > 0.0) {\n       vec3 cp;\n       if( dotp1 < 0.0) {        cp = p1;\n       } else {\n          cp = p2;\n       }\n       vec3 diff = p-cp;\n       A = dot(v,v);\n       B = dot(diff,v)*2.0;\n       C = dot(diff,diff)-r*r;\n       det = (B*B) - (4.0*C);\n       if(det < 0.0) discard;\n       sqrtDet = sqrt(det);\n       posT = (-B+sqrtDet)/(2.0);\n       negT = (-B-sqrtDet)/(2.0);\n       float t = min(posT,negT);\n       qi = p+v*t;\n       norm = normalize(qi-cp);\n    } else {\n       norm = normalize(qi-(dotp1*va + p1));\n    }\n    vec4 clipPos = projectionMatrix * vec4(qi, 1.0);\n    float ndcDepth = clipPos.z / clipPos.w;\n    float depth = ((gl_DepthRange.diff * ndcDepth) + gl_DepthRange.near + gl_DepthRange.far) / 2.0;\n    gl_FragDepthEXT = depth;"};
+$3Dmol.ShaderLib={basic:{fragmentShader:"uniform mat4 viewMatrix;\nuniform float opacity;\nuniform vec3 fogColor;\nuniform float fogNear;\nuniform float fogFar;\nvarying vec3 vColor;\nvoid main() {\n    gl_FragColor = vec4( vColor, opacity );\n    float depth = gl_FragCoord.z / gl_FragCoord.w;\n    float fogFactor = smoothstep( fogNear, fogFar, depth );\n    gl_FragColor = mix( gl_FragColor, vec4( fogColor, gl_FragColor.w ), fogFactor );\n}",vertexShader:"uniform mat4 modelViewMatrix;\nuniform mat4 projectionMatrix;\nuniform mat4 viewMatrix;\nuniform mat3 normalMatrix;\nattribute vec3 position;\nattribute vec3 color;\nvarying vec3 vColor;\nvoid main() {\n    vColor = color;\n    vec4 mvPosition = modelViewMatrix * vec4( position, 1.0 );\n    gl_Position = projectionMatrix * mvPosition;\n}",
+uniforms:{opacity:{type:"f",value:1},fogColor:{type:"c",value:new $3Dmol.Color(1,1,1)},fogNear:{type:"f",value:1},fogFar:{type:"f",value:2E3}}},sphereimposter:{fragmentShader:"uniform mat4 viewMatrix;\nuniform float opacity;\nuniform mat4 projectionMatrix;\nuniform vec3 fogColor;\nuniform float fogNear;\nuniform float fogFar;\nuniform float uDepth;\nuniform vec3 directionalLightColor[ 1 ];\nvarying vec3 vColor;\nvarying vec2 mapping;\nvarying float rval;\nvarying vec3 vLight;\nvarying vec3 center;\nvoid main() {\n    float lensqr = dot(mapping,mapping);\n    float rsqr = rval*rval;\n    if(lensqr > rsqr)\n       discard;\n    float z = sqrt(rsqr-lensqr);\n    vec3 cameraPos = center+ vec3(mapping.x,mapping.y,z);\n    vec4 clipPos = projectionMatrix * vec4(cameraPos, 1.0);\n    float ndcDepth = clipPos.z / clipPos.w;\n    gl_FragDepthEXT = ((gl_DepthRange.diff * ndcDepth) + gl_DepthRange.near + gl_DepthRange.far) / 2.0;\n    vec3 norm = normalize(vec3(mapping.x,mapping.y,z));\n    float dotProduct = dot( norm, vLight );\n    vec3 directionalLightWeighting = vec3( max( dotProduct, 0.0 ) );\n    vec3 vLight = directionalLightColor[ 0 ] * directionalLightWeighting;\n    gl_FragColor = vec4(vLight*vColor, opacity*opacity );\n    float fogFactor = smoothstep( fogNear, fogFar, gl_FragDepthEXT/gl_FragCoord.w );\n    gl_FragColor = mix( gl_FragColor, vec4( fogColor, gl_FragColor.w ), fogFactor );\n}",
+vertexShader:"uniform mat4 modelViewMatrix;\nuniform mat4 projectionMatrix;\nuniform mat4 viewMatrix;\nuniform mat3 normalMatrix;\nuniform vec3 directionalLightColor[ 1 ];\nuniform vec3 directionalLightDirection[ 1 ];\nattribute vec3 position;\nattribute vec3 normal;\nattribute vec3 color;\nvarying vec2 mapping;\nvarying vec3 vColor;\nvarying float rval;\nvarying vec3 vLight;\nvarying vec3 center;\nvoid main() {\n    vColor = color;\n    vec4 mvPosition = modelViewMatrix * vec4( position, 1.0 );\n    center = mvPosition.xyz;\n    vec4 projPosition = projectionMatrix * mvPosition;\n    vec4 adjust = projectionMatrix* vec4(normal,0.0); adjust.z = 0.0; adjust.w = 0.0;\n    vec4 lDirection = viewMatrix * vec4( directionalLightDirection[ 0 ], 0.0 );\n    vLight = normalize( lDirection.xyz );\n    mapping = normal.xy;\n    rval = abs(normal.x);\n    gl_Position = projPosition+adjust;\n}",
+uniforms:{opacity:{type:"f",value:1},fogColor:{type:"c",value:new $3Dmol.Color(1,1,1)},fogNear:{type:"f",value:1},fogFar:{type:"f",value:2E3},directionalLightColor:{type:"fv",value:[]},directionalLightDirection:{type:"fv",value:[]}}},lambert:{fragmentShader:"uniform mat4 viewMatrix;\nuniform float opacity;\nuniform vec3 fogColor;\nuniform float fogNear;\nuniform float fogFar;\nvarying vec3 vLightFront;\nvarying vec3 vColor;\nvoid main() {\n    gl_FragColor = vec4( vec3 ( 1.0 ), opacity );\n    #ifndef WIREFRAME\n    gl_FragColor.xyz *= vLightFront;\n    #endif\n    gl_FragColor = gl_FragColor * vec4( vColor, opacity );\n    float depth = gl_FragCoord.z / gl_FragCoord.w;\n    float fogFactor = smoothstep( fogNear, fogFar, depth );\n    gl_FragColor = mix( gl_FragColor, vec4( fogColor, gl_FragColor.w ), fogFactor );\n}",
+vertexShader:"uniform mat4 modelViewMatrix;\nuniform mat4 projectionMatrix;\nuniform mat4 viewMatrix;\nuniform mat3 normalMatrix;\nuniform vec3 directionalLightColor[ 1 ];\nuniform vec3 directionalLightDirection[ 1 ];\nattribute vec3 position;\nattribute vec3 normal;\nattribute vec3 color;\nvarying vec3 vColor;\nvarying vec3 vLightFront;\nvoid main() {\n    vColor = color;\n    vec3 objectNormal = normal;\n    vec3 transformedNormal = normalMatrix * objectNormal;\n    vec4 mvPosition = modelViewMatrix * vec4( position, 1.0 );\n    vLightFront = vec3( 0.0 );\n    transformedNormal = normalize( transformedNormal );\n    vec4 lDirection = viewMatrix * vec4( directionalLightDirection[ 0 ], 0.0 );\n    vec3 dirVector = normalize( lDirection.xyz );\n    float dotProduct = dot( transformedNormal, dirVector );\n    vec3 directionalLightWeighting = vec3( max( dotProduct, 0.0 ) );\n    vLightFront += directionalLightColor[ 0 ] * directionalLightWeighting;\n    gl_Position = projectionMatrix * mvPosition;\n}",
+uniforms:{opacity:{type:"f",value:1},fogColor:{type:"c",value:new $3Dmol.Color(1,1,1)},fogNear:{type:"f",value:1},fogFar:{type:"f",value:2E3},directionalLightColor:{type:"fv",value:[]},directionalLightDirection:{type:"fv",value:[]}}},instanced:{fragmentShader:"uniform mat4 viewMatrix;\nuniform float opacity;\nuniform vec3 fogColor;\nuniform float fogNear;\nuniform float fogFar;\nvarying vec3 vLightFront;\nvarying vec3 vColor;\nvoid main() {\n    gl_FragColor = vec4( vec3 ( 1.0 ), opacity );\n    #ifndef WIREFRAME\n    gl_FragColor.xyz *= vLightFront;\n    #endif\n    gl_FragColor = gl_FragColor * vec4( vColor, opacity );\n    float depth = gl_FragCoord.z / gl_FragCoord.w;\n    float fogFactor = smoothstep( fogNear, fogFar, depth );\n    gl_FragColor = mix( gl_FragColor, vec4( fogColor, gl_FragColor.w ), fogFactor );\n}",
+vertexShader:"uniform mat4 modelViewMatrix;\nuniform mat4 projectionMatrix;\nuniform mat4 viewMatrix;\nuniform mat3 normalMatrix;\nuniform vec3 directionalLightColor[ 1 ];\nuniform vec3 directionalLightDirection[ 1 ];\nattribute vec3 offset;\nattribute vec3 position;\nattribute vec3 normal;\nattribute vec3 color;\nattribute float radius;\nvarying vec3 vColor;\nvarying vec3 vLightFront;\nvoid main() {\n    vColor = color;\n    vec3 objectNormal = normal;\n    vec3 transformedNormal = normalMatrix * objectNormal;\n    vec4 mvPosition = modelViewMatrix * vec4( position * radius + offset, 1.0 );\n    vLightFront = vec3( 0.0 );\n    transformedNormal = normalize( transformedNormal );\n    vec4 lDirection = viewMatrix * vec4( directionalLightDirection[ 0 ], 0.0 );\n    vec3 dirVector = normalize( lDirection.xyz );\n    float dotProduct = dot( transformedNormal, dirVector );\n    vec3 directionalLightWeighting = vec3( max( dotProduct, 0.0 ) );\n    vLightFront += directionalLightColor[ 0 ] * directionalLightWeighting;\n    gl_Position = projectionMatrix * mvPosition;\n}",
+uniforms:{opacity:{type:"f",value:1},fogColor:{type:"c",value:new $3Dmol.Color(1,1,1)},fogNear:{type:"f",value:1},fogFar:{type:"f",value:2E3},directionalLightColor:{type:"fv",value:[]},directionalLightDirection:{type:"fv",value:[]}}},outline:{fragmentShader:"uniform float opacity;\nuniform vec3 outlineColor;\nuniform vec3 fogColor;\nuniform float fogNear;\nuniform float fogFar;\nvoid main() {\n    gl_FragColor = vec4( outlineColor, 1 );\n}",vertexShader:"uniform mat4 modelViewMatrix;\nuniform mat4 projectionMatrix;\nuniform float outlineWidth;\nuniform float outlinePushback;\nattribute vec3 position;\nattribute vec3 normal;\nattribute vec3 color;\nvoid main() {\n    vec4 norm = modelViewMatrix*vec4(normalize(normal),0.0);\n    vec4 mvPosition = modelViewMatrix * vec4( position, 1.0 );\n    mvPosition.xy += norm.xy*outlineWidth;\n    gl_Position = projectionMatrix * mvPosition;\n    mvPosition.z -= outlinePushback;\n    vec4 pushpos = projectionMatrix*mvPosition;\n    gl_Position.z = gl_Position.w*pushpos.z/pushpos.w;\n}",
+uniforms:{opacity:{type:"f",value:1},outlineColor:{type:"c",value:new $3Dmol.Color(0,0,0)},fogColor:{type:"c",value:new $3Dmol.Color(1,1,1)},fogNear:{type:"f",value:1},fogFar:{type:"f",value:2E3},outlineWidth:{type:"f",value:.1},outlinePushback:{type:"f",value:1}}},sphereimposteroutline:{fragmentShader:"uniform float opacity;\nuniform vec3 outlineColor;\nuniform vec3 fogColor;\nuniform float fogNear;\nuniform float fogFar;\nuniform mat4 projectionMatrix;\nvarying vec2 mapping;\nvarying float rval;\nvarying vec3 center;\nuniform float outlinePushback;\nvoid main() {\n    float lensqr = dot(mapping,mapping);\n    float rsqr = rval*rval;\n    if(lensqr > rsqr)\n       discard;\n    float z = sqrt(rsqr-lensqr);\n    vec3 cameraPos = center+ vec3(mapping.x,mapping.y,z-outlinePushback);\n    vec4 clipPos = projectionMatrix * vec4(cameraPos, 1.0);\n    float ndcDepth = clipPos.z / clipPos.w;\n    gl_FragDepthEXT = ((gl_DepthRange.diff * ndcDepth) + gl_DepthRange.near + gl_DepthRange.far) / 2.0;\n    gl_FragColor = vec4(outlineColor, 1 );\n}",
+vertexShader:"uniform mat4 modelViewMatrix;\nuniform mat4 projectionMatrix;\nuniform float outlineWidth;\nuniform float outlinePushback;\nattribute vec3 position;\nattribute vec3 normal;\nattribute vec3 color;\nvarying vec2 mapping;\nvarying float rval;\nvarying vec3 center;\nvoid main() {\n    vec4 mvPosition = modelViewMatrix * vec4( position, 1.0 );\n    center = mvPosition.xyz;\n    vec4 projPosition = projectionMatrix * mvPosition;\n    vec2 norm = normal.xy + vec2(sign(normal.x)*outlineWidth,sign(normal.y)*outlineWidth);\n    vec4 adjust = projectionMatrix* vec4(norm,normal.z,0.0); adjust.z = 0.0; adjust.w = 0.0;\n    mapping = norm.xy;\n    rval = abs(norm.x);\n    gl_Position = projPosition+adjust;\n}",
+uniforms:{opacity:{type:"f",value:1},outlineColor:{type:"c",value:new $3Dmol.Color(0,0,0)},fogColor:{type:"c",value:new $3Dmol.Color(1,1,1)},fogNear:{type:"f",value:1},fogFar:{type:"f",value:2E3},outlineWidth:{type:"f",value:.1},outlinePushback:{type:"f",value:1}}},stickimposter:{fragmentShader:[$3Dmol.ShaderUtils.stickimposterFragmentShader,"    float dotProduct = dot( norm, vLight );\n    vec3 light = vec3( max( dotProduct, 0.0 ) );\n    gl_FragColor = vec4(light*color, opacity*opacity );\n    float fogFactor = smoothstep( fogNear, fogFar, depth );\n    gl_FragColor = mix( gl_FragColor, vec4( fogColor, gl_FragColor.w ), fogFactor );\n}"].join("\n"),
+vertexShader:"uniform mat4 modelViewMatrix;\nuniform mat4 projectionMatrix;\nuniform mat4 viewMatrix;\nuniform mat3 normalMatrix;\nuniform vec3 directionalLightColor[ 1 ];\nuniform vec3 directionalLightDirection[ 1 ];\nattribute vec3 position;\nattribute vec3 normal;\nattribute vec3 color;\nattribute float radius;\nvarying vec3 vColor;\nvarying vec3 vLight;\nvarying vec3 cposition;\nvarying vec3 p1;\nvarying vec3 p2;\nvarying float r;\nvoid main() {\n    vColor = color; vColor.z = abs(vColor.z);\n    r = abs(radius);\n    vec4 to = modelViewMatrix*vec4(normal, 1.0);\n    vec4 pt = modelViewMatrix*vec4(position, 1.0);\n    vec4 mvPosition = pt;\n    p1 = pt.xyz; p2 = to.xyz;\n    vec3 norm = to.xyz-pt.xyz;\n    float mult = 1.1;\n    if(length(p1) > length(p2)) {\n       mvPosition = to;\n    }\n    vec3 n = normalize(mvPosition.xyz);\n    if(color.z >= 0.0) {\n       vec3 pnorm = normalize(p1);\n       float t = dot(mvPosition.xyz-p1,n)/dot(pnorm,n);\n       mvPosition.xyz = p1+t*pnorm;\n    } else {\n       vec3 pnorm = normalize(p2);\n       float t = dot(mvPosition.xyz-p2,n)/dot(pnorm,n);\n       mvPosition.xyz = p2+t*pnorm;\n       mult *= -1.0;\n    }\n    vec3 cr = normalize(cross(mvPosition.xyz,norm))*radius;\n    vec3 doublecr = normalize(cross(mvPosition.xyz,cr))*radius;\n    mvPosition.xy +=  mult*(cr + doublecr).xy;\n    cposition = mvPosition.xyz;\n    gl_Position = projectionMatrix * mvPosition;\n    vec4 lDirection = viewMatrix * vec4( directionalLightDirection[ 0 ], 0.0 );\n    vLight = normalize( lDirection.xyz )*directionalLightColor[0];\n}",
+uniforms:{opacity:{type:"f",value:1},fogColor:{type:"c",value:new $3Dmol.Color(1,1,1)},fogNear:{type:"f",value:1},fogFar:{type:"f",value:2E3},directionalLightColor:{type:"fv",value:[]},directionalLightDirection:{type:"fv",value:[]}}},stickimposteroutline:{fragmentShader:$3Dmol.ShaderUtils.stickimposterFragmentShader+"gl_FragColor = vec4(color,1.0);}",vertexShader:"uniform mat4 modelViewMatrix;\nuniform mat4 projectionMatrix;\nuniform mat4 viewMatrix;\nuniform mat3 normalMatrix;\nuniform vec3 directionalLightColor[ 1 ];\nuniform vec3 directionalLightDirection[ 1 ];\nuniform vec3 outlineColor;\nuniform float outlineWidth;\nuniform float outlinePushback;\nattribute vec3 position;\nattribute vec3 normal;\nattribute vec3 color;\nattribute float radius;\nvarying vec3 vColor;\nvarying vec3 vLight;\nvarying vec3 cposition;\nvarying vec3 p1;\nvarying vec3 p2;\nvarying float r;\nvoid main() {\n    vColor = outlineColor;\n    float rad = radius+sign(radius)*outlineWidth;\n    r = abs(rad);\n    vec4 to = modelViewMatrix*vec4(normal, 1.0);\n    vec4 pt = modelViewMatrix*vec4(position, 1.0);\n    to.xyz += normalize(to.xyz)*outlinePushback;\n    pt.xyz += normalize(pt.xyz)*outlinePushback;\n    vec4 mvPosition = pt;\n    p1 = pt.xyz; p2 = to.xyz;\n    vec3 norm = to.xyz-pt.xyz;\n    float mult = 1.1;\n    if(length(p1) > length(p2)) {\n       mvPosition = to;\n    }\n    vec3 n = normalize(mvPosition.xyz);\n    if(color.z >= 0.0) {\n       vec3 pnorm = normalize(p1);\n       float t = dot(mvPosition.xyz-p1,n)/dot(pnorm,n);\n       mvPosition.xyz = p1+t*pnorm;\n    } else {\n       vec3 pnorm = normalize(p2);\n       float t = dot(mvPosition.xyz-p2,n)/dot(pnorm,n);\n       mvPosition.xyz = p2+t*pnorm;\n       mult *= -1.0;\n    }\n    vec3 cr = normalize(cross(mvPosition.xyz,norm))*rad;\n    vec3 doublecr = normalize(cross(mvPosition.xyz,cr))*rad;\n    mvPosition.xy +=  mult*(cr + doublecr).xy;\n    cposition = mvPosition.xyz;\n    gl_Position = projectionMatrix * mvPosition;\n    vLight = vec3(1.0,1.0,1.0);\n}",
+uniforms:{opacity:{type:"f",value:1},fogColor:{type:"c",value:new $3Dmol.Color(1,1,1)},fogNear:{type:"f",value:1},fogFar:{type:"f",value:2E3},outlineColor:{type:"c",value:new $3Dmol.Color(0,0,0)},outlineWidth:{type:"f",value:.1},outlinePushback:{type:"f",value:1}}},lambertdouble:{fragmentShader:"uniform mat4 viewMatrix;\nuniform float opacity;\nuniform vec3 fogColor;\nuniform float fogNear;\nuniform float fogFar;\nvarying vec3 vLightFront;\nvarying vec3 vLightBack;\nvarying vec3 vColor;\nvoid main() {\n    gl_FragColor = vec4( vec3 ( 1.0 ), opacity );\n    #ifndef WIREFRAME\n    if ( gl_FrontFacing )\n       gl_FragColor.xyz *= vLightFront;\n    else\n       gl_FragColor.xyz *= vLightBack;\n    #endif\n    gl_FragColor = gl_FragColor * vec4( vColor, opacity );\n    float depth = gl_FragCoord.z / gl_FragCoord.w;\n    float fogFactor = smoothstep( fogNear, fogFar, depth );\n    gl_FragColor = mix( gl_FragColor, vec4( fogColor, gl_FragColor.w ), fogFactor );\n}",
+vertexShader:"uniform mat4 modelViewMatrix;\nuniform mat4 projectionMatrix;\nuniform mat4 viewMatrix;\nuniform mat3 normalMatrix;\nuniform vec3 directionalLightColor[ 1 ];\nuniform vec3 directionalLightDirection[ 1 ];\nattribute vec3 position;\nattribute vec3 normal;\nattribute vec3 color;\nvarying vec3 vColor;\nvarying vec3 vLightFront;\nvarying vec3 vLightBack;\nvoid main() {\n    vColor = color;\n    vec3 objectNormal = normal;\n    vec3 transformedNormal = normalMatrix * objectNormal;\n    vec4 mvPosition = modelViewMatrix * vec4( position, 1.0 );\n    vLightFront = vec3( 0.0 );\n    vLightBack = vec3( 0.0 );\n    transformedNormal = normalize( transformedNormal );\n    vec4 lDirection = viewMatrix * vec4( directionalLightDirection[ 0 ], 0.0 );\n    vec3 dirVector = normalize( lDirection.xyz );\n    float dotProduct = dot( transformedNormal, dirVector );\n    vec3 directionalLightWeighting = vec3( max( dotProduct, 0.0 ) );\n    vec3 directionalLightWeightingBack = vec3( max( -dotProduct, 0.0 ) );\n    vLightFront += directionalLightColor[ 0 ] * directionalLightWeighting;\n    vLightBack += directionalLightColor[ 0 ] * directionalLightWeightingBack;\n    gl_Position = projectionMatrix * mvPosition;\n}",
+uniforms:{opacity:{type:"f",value:1},fogColor:{type:"c",value:new $3Dmol.Color(1,1,1)},fogNear:{type:"f",value:1},fogFar:{type:"f",value:2E3},directionalLightColor:{type:"fv",value:[]},directionalLightDirection:{type:"fv",value:[]}}},sprite:{fragmentShader:"uniform vec3 color;\nuniform sampler2D map;\nuniform float opacity;\nuniform int fogType;\nuniform vec3 fogColor;\nuniform float fogDensity;\nuniform float fogNear;\nuniform float fogFar;\nuniform float alphaTest;\nvarying vec2 vUV;\nvoid main() {\n    vec4 texture = texture2D(map, vUV);\n    if (texture.a < alphaTest) discard;\n    gl_FragColor = vec4(color * texture.xyz, texture.a * opacity);\n    if (fogType > 0) {\n        float depth = gl_FragCoord.z / gl_FragCoord.w;\n        float fogFactor = 0.0;\n        if (fogType == 1) {\n            fogFactor = smoothstep(fogNear, fogFar, depth);\n        }\n        else {\n            const float LOG2 = 1.442695;\n            float fogFactor = exp2(- fogDensity * fogDensity * depth * depth * LOG2);\n            fogFactor = 1.0 - clamp(fogFactor, 0.0, 1.0);\n        }\n        gl_FragColor = mix(gl_FragColor, vec4(fogColor, gl_FragColor.w), fogFactor);\n    }\n}",
+vertexShader:"uniform int useScreenCoordinates;\nuniform vec3 screenPosition;\nuniform mat4 modelViewMatrix;\nuniform mat4 projectionMatrix;\nuniform float rotation;\nuniform vec2 scale;\nuniform vec2 alignment;\nuniform vec2 uvOffset;\nuniform vec2 uvScale;\nattribute vec2 position;\nattribute vec2 uv;\nvarying vec2 vUV;\nvoid main() {\n    vUV = uvOffset + uv * uvScale;\n    vec2 alignedPosition = position + alignment;\n    vec2 rotatedPosition;\n    rotatedPosition.x = ( cos(rotation) * alignedPosition.x - sin(rotation) * alignedPosition.y ) * scale.x;\n    rotatedPosition.y = ( sin(rotation) * alignedPosition.x + cos(rotation) * alignedPosition.y ) * scale.y;\n    vec4 finalPosition;\n    if(useScreenCoordinates != 0) {\n        finalPosition = vec4(screenPosition.xy + rotatedPosition, screenPosition.z, 1.0);\n    }\n    else {\n        finalPosition = projectionMatrix * modelViewMatrix * vec4(0.0, 0.0, 0.0, 1.0); finalPosition /= finalPosition.w;\n        finalPosition.xy += rotatedPosition; \n    }\n    gl_Position = finalPosition;\n}",
+uniforms:{}}};"undefined"===typeof console&&(console={log:function(){}});
+$3Dmol.ProteinSurface=function(){var b=0,c=0,d=0,l=2,g=0,w=0,q=0,n=0,m=null,B=null,u=null,y=0,s=0,f=0,p=0,h=0,F=0,M={H:1.2,Li:1.82,Na:2.27,K:2.75,C:1.7,N:1.55,O:1.52,F:1.47,P:1.8,S:1.8,CL:1.75,BR:1.85,SE:1.9,ZN:1.39,CU:1.4,NI:1.63,X:2},x=function(b){return b.elem&&"undefined"!=typeof M[b.elem]?b.elem:"X"},e={},H={},t,C,z=[new Int32Array([1,0,0]),new Int32Array([-1,0,0]),new Int32Array([0,1,0]),new Int32Array([0,-1,0]),new Int32Array([0,0,1]),new Int32Array([0,0,-1]),new Int32Array([1,1,0]),new Int32Array([1,
+-1,0]),new Int32Array([-1,1,0]),new Int32Array([-1,-1,0]),new Int32Array([1,0,1]),new Int32Array([1,0,-1]),new Int32Array([-1,0,1]),new Int32Array([-1,0,-1]),new Int32Array([0,1,1]),new Int32Array([0,1,-1]),new Int32Array([0,-1,1]),new Int32Array([0,-1,-1]),new Int32Array([1,1,1]),new Int32Array([1,1,-1]),new Int32Array([1,-1,1]),new Int32Array([-1,1,1]),new Int32Array([1,-1,-1]),new Int32Array([-1,-1,1]),new Int32Array([-1,1,-1]),new Int32Array([-1,-1,-1])];this.getFacesAndVertices=function(f){var s=
+{},A,e;A=0;for(e=f.length;A<e;A++)s[f[A]]=!0;f=C;A=0;for(e=f.length;A<e;A++)f[A].x=f[A].x/l-b,f[A].y=f[A].y/l-c,f[A].z=f[A].z/l-d;var h=[];A=0;for(e=t.length;A<e;A+=3){var p=t[A],q=t[A+1],x=t[A+2],y=f[q].atomid,F=f[x].atomid,n=f[p].atomid;y<n&&(n=y);F<n&&(n=F);s[n]&&p!==q&&q!==x&&p!==x&&(h.push(p),h.push(q),h.push(x))}u=B=m=null;return{vertices:f,faces:h}};this.initparm=function(e,x,A){1E6<A&&(l=1);A=1/l*5.5;y=e[0][0];p=e[1][0];s=e[0][1];h=e[1][1];f=e[0][2];F=e[1][2];x?(y-=1.4+A,s-=1.4+A,f-=1.4+A,
+p+=1.4+A,h+=1.4+A,F+=1.4+A):(y-=A,s-=A,f-=A,p+=A,h+=A,F+=A);y=Math.floor(y*l)/l;s=Math.floor(s*l)/l;f=Math.floor(f*l)/l;p=Math.ceil(p*l)/l;h=Math.ceil(h*l)/l;F=Math.ceil(F*l)/l;b=-y;c=-s;d=-f;q=Math.ceil(l*(p-y))+1;w=Math.ceil(l*(h-s))+1;g=Math.ceil(l*(F-f))+1;this.boundingatom(x);n=1.4*l;m=new Uint8Array(q*w*g);B=new Float64Array(q*w*g);u=new Int32Array(q*w*g)};this.boundingatom=function(b){var c=[],d,f;flagradius=b;for(var s in M)if(M.hasOwnProperty(s))for(f=M[s],c[s]=b?(f+1.4)*l+.5:f*l+.5,f=c[s]*
+c[s],H[s]=Math.floor(c[s])+1,e[s]=new Int32Array(H[s]*H[s]),j=indx=0;j<H[s];j++)for(k=0;k<H[s];k++)d=j*j+k*k,d>f?e[s][indx]=-1:(d=Math.sqrt(f-d),e[s][indx]=Math.floor(d)),indx++};this.fillvoxels=function(b,c){var d,f;d=0;for(f=m.length;d<f;d++)m[d]=0,B[d]=-1,u[d]=-1;for(d in c)f=b[c[d]],void 0!==f&&this.fillAtom(f,b);d=0;for(f=m.length;d<f;d++)m[d]&1&&(m[d]|=2)};this.fillAtom=function(f,s){var A,h,p,y,t,F,n,C,z,M,B,I,Y,V,W,U,D;A=Math.floor(.5+l*(f.x+b));h=Math.floor(.5+l*(f.y+c));p=Math.floor(.5+
+l*(f.z+d));var Z=x(f),aa=0,ga=w*g;M=0;for(D=H[Z];M<D;M++)for(B=0;B<D;B++){if(-1!=e[Z][aa])for(V=-1;2>V;V++)for(W=-1;2>W;W++)for(U=-1;2>U;U++)if(0!==V&&0!==W&&0!==U)for(n=V*M,z=U*B,I=0;I<=e[Z][aa];I++)C=I*W,y=A+n,t=h+C,Y=p+z,0>y||0>t||0>Y||y>=q||t>=w||Y>=g||(Y=y*ga+t*g+Y,m[Y]&1?(F=s[u[Y]],F.serial!=f.serial&&(y=A+n-Math.floor(.5+l*(F.x+b)),t=h+C-Math.floor(.5+l*(F.y+c)),F=p+z-Math.floor(.5+l*(F.z+d)),n*n+C*C+z*z<y*y+t*t+F*F&&(u[Y]=f.serial))):(m[Y]|=1,u[Y]=f.serial));aa++}};this.fillvoxelswaals=function(b,
+c){var d,f;d=0;for(f=m.length;d<f;d++)m[d]&=-3;for(d in c)f=b[c[d]],void 0!==f&&this.fillAtomWaals(f,b)};this.fillAtomWaals=function(f,s){var A,h,p,y,t,F,n=0,C,z,M,B,I,Y,V,W,U,D,Z;A=Math.floor(.5+l*(f.x+b));h=Math.floor(.5+l*(f.y+c));p=Math.floor(.5+l*(f.z+d));var aa=x(f),ga=w*g;I=0;for(Z=H[aa];I<Z;I++)for(Y=0;Y<Z;Y++){if(-1!=e[aa][n])for(W=-1;2>W;W++)for(U=-1;2>U;U++)for(D=-1;2>D;D++)if(0!==W&&0!==U&&0!==D)for(C=W*I,M=D*Y,V=0;V<=e[aa][n];V++)z=V*U,y=A+C,t=h+z,B=p+M,0>y||0>t||0>B||y>=q||t>=w||B>=
+g||(B=y*ga+t*g+B,m[B]&2?(F=s[u[B]],F.serial!=f.serial&&(y=A+C-Math.floor(.5+l*(F.x+b)),t=h+z-Math.floor(.5+l*(F.y+c)),F=p+M-Math.floor(.5+l*(F.z+d)),C*C+z*z+M*M<y*y+t*t+F*F&&(u[B]=f.serial))):(m[B]|=2,u[B]=f.serial));n++}};this.buildboundary=function(){var b=w*g;for(i=0;i<q;i++)for(j=0;j<g;j++)for(k=0;k<w;k++){var c=i*b+k*g+j;if(m[c]&1)for(var d=0;26>d;){var f=i+z[d][0],s=j+z[d][2],e=k+z[d][1];if(-1<f&&f<q&&-1<e&&e<w&&-1<s&&s<g&&!(m[f*b+e*g+s]&1)){m[c]|=4;break}else d++}}};var I=function(b,c,d){var f=
+new Int32Array(b*c*d*3);this.set=function(b,s,e,h){b=3*((b*c+s)*d+e);f[b]=h.ix;f[b+1]=h.iy;f[b+2]=h.iz};this.get=function(b,s,e){b=3*((b*c+s)*d+e);return{ix:f[b],iy:f[b+1],iz:f[b+2]}}};this.fastdistancemap=function(){var b,c,d,f=new I(q,w,g),s=w*g,e=n*n,h=[];d=[];var p;for(b=0;b<q;b++)for(c=0;c<w;c++)for(d=0;d<g;d++)if(p=b*s+c*g+d,m[p]&=-3,m[p]&1&&m[p]&4){var u={ix:b,iy:c,iz:d};f.set(b,c,d,u);h.push(u);B[p]=0;m[p]|=2;m[p]&=-5}do for(d=this.fastoneshell(h,f),h=[],b=0,c=d.length;b<c;b++)p=s*d[b].ix+
+g*d[b].iy+d[b].iz,m[p]&=-5,B[p]<=1.0404*e&&h.push({ix:d[b].ix,iy:d[b].iy,iz:d[b].iz});while(0!==h.length);b=l-.5;0>b&&(b=0);e-=.5/(.1+b);for(b=0;b<q;b++)for(c=0;c<w;c++)for(d=0;d<g;d++)p=b*s+c*g+d,m[p]&=-5,m[p]&1&&(!(m[p]&2)||m[p]&2&&B[p]>=e)&&(m[p]|=4)};this.fastoneshell=function(b,c){var d,f,s,e,h,p,u,y,F,t,x,C=[];if(0===b.length)return C;tnv={ix:-1,iy:-1,iz:-1};var n=w*g;u=0;for(F=b.length;u<F;u++)for(d=b[u].ix,f=b[u].iy,s=b[u].iz,t=c.get(d,f,s),y=0;6>y;y++)tnv.ix=d+z[y][0],tnv.iy=f+z[y][1],tnv.iz=
+s+z[y][2],tnv.ix<q&&-1<tnv.ix&&tnv.iy<w&&-1<tnv.iy&&tnv.iz<g&&-1<tnv.iz&&(x=tnv.ix*n+g*tnv.iy+tnv.iz,m[x]&1&&!(m[x]&2)?(c.set(tnv.ix,tnv.iy,s+z[y][2],t),e=tnv.ix-t.ix,h=tnv.iy-t.iy,p=tnv.iz-t.iz,e=e*e+h*h+p*p,B[x]=e,m[x]|=2,m[x]|=4,C.push({ix:tnv.ix,iy:tnv.iy,iz:tnv.iz})):m[x]&1&&m[x]&2&&(e=tnv.ix-t.ix,h=tnv.iy-t.iy,p=tnv.iz-t.iz,e=e*e+h*h+p*p,e<B[x]&&(c.set(tnv.ix,tnv.iy,tnv.iz,t),B[x]=e,m[x]&4||(m[x]|=4,C.push({ix:tnv.ix,iy:tnv.iy,iz:tnv.iz})))));u=0;for(F=b.length;u<F;u++)for(d=b[u].ix,f=b[u].iy,
+s=b[u].iz,t=c.get(d,f,s),y=6;18>y;y++)tnv.ix=d+z[y][0],tnv.iy=f+z[y][1],tnv.iz=s+z[y][2],tnv.ix<q&&-1<tnv.ix&&tnv.iy<w&&-1<tnv.iy&&tnv.iz<g&&-1<tnv.iz&&(x=tnv.ix*n+g*tnv.iy+tnv.iz,m[x]&1&&!(m[x]&2)?(c.set(tnv.ix,tnv.iy,s+z[y][2],t),e=tnv.ix-t.ix,h=tnv.iy-t.iy,p=tnv.iz-t.iz,e=e*e+h*h+p*p,B[x]=e,m[x]|=2,m[x]|=4,C.push({ix:tnv.ix,iy:tnv.iy,iz:tnv.iz})):m[x]&1&&m[x]&2&&(e=tnv.ix-t.ix,h=tnv.iy-t.iy,p=tnv.iz-t.iz,e=e*e+h*h+p*p,e<B[x]&&(c.set(tnv.ix,tnv.iy,tnv.iz,t),B[x]=e,m[x]&4||(m[x]|=4,C.push({ix:tnv.ix,
+iy:tnv.iy,iz:tnv.iz})))));u=0;for(F=b.length;u<F;u++)for(d=b[u].ix,f=b[u].iy,s=b[u].iz,t=c.get(d,f,s),y=18;26>y;y++)tnv.ix=d+z[y][0],tnv.iy=f+z[y][1],tnv.iz=s+z[y][2],tnv.ix<q&&-1<tnv.ix&&tnv.iy<w&&-1<tnv.iy&&tnv.iz<g&&-1<tnv.iz&&(x=tnv.ix*n+g*tnv.iy+tnv.iz,m[x]&1&&!(m[x]&2)?(c.set(tnv.ix,tnv.iy,s+z[y][2],t),e=tnv.ix-t.ix,h=tnv.iy-t.iy,p=tnv.iz-t.iz,e=e*e+h*h+p*p,B[x]=e,m[x]|=2,m[x]|=4,C.push({ix:tnv.ix,iy:tnv.iy,iz:tnv.iz})):m[x]&1&&m[x]&2&&(e=tnv.ix-t.ix,h=tnv.iy-t.iy,p=tnv.iz-t.iz,e=e*e+h*h+p*
+p,e<B[x]&&(c.set(tnv.ix,tnv.iy,tnv.iz,t),B[x]=e,m[x]&4||(m[x]|=4,C.push({ix:tnv.ix,iy:tnv.iy,iz:tnv.iz})))));return C};this.marchingcubeinit=function(b){for(var c=0,d=m.length;c<d;c++)1==b?m[c]&=-5:4==b?(m[c]&=-3,m[c]&4&&(m[c]|=2),m[c]&=-5):2==b?m[c]&4&&m[c]&2?m[c]&=-5:m[c]&4&&!(m[c]&2)&&(m[c]|=2):3==b&&(m[c]&=-5)};this.marchingcube=function(b){this.marchingcubeinit(b);C=[];t=[];$3Dmol.MarchingCube.march(m,C,t,{smooth:1,nX:q,nY:w,nZ:g});b=w*g;for(var c=0,d=C.length;c<d;c++)C[c].atomid=u[C[c].x*b+
+g*C[c].y+C[c].z];$3Dmol.MarchingCube.laplacianSmooth(1,C,t)}};
+$3Dmol.autoload=function(b){void 0!==$(".viewer_3Dmoljs")[0]&&($3Dmol.autoinit=!0);if($3Dmol.autoinit){b=void 0!=b?b:null;$3Dmol.viewers={};var c=0;$(".viewer_3Dmoljs").each(function(){var d=$(this),l=[];"static"==d.css("position")&&d.css("position","relative");var g="function"===typeof window[d.data("callback")]?window[d.data("callback")]:null,w=null;d.data("pdb")?(l.push("https://files.rcsb.org/view/"+d.data("pdb")+".pdb"),w="pdb"):d.data("cid")?(w="sdf",l.push("https://pubchem.ncbi.nlm.nih.gov/rest/pug/compound/cid/"+
+d.data("cid")+"/SDF?record_type=3d")):d.data("href")&&l.push(d.data("href"));var q=d.data(),n;for(n in q)"pdb"===n.substring(0,3)&&"pdb"!==n?l.push("https://files.rcsb.org/view/"+q[n]+".pdb"):"href"===n.substring(0,4)&&"href"!==n?l.push(q[n]):"cid"===n.substring(0,3)&&"cid"!==n&&l.push("https://pubchem.ncbi.nlm.nih.gov/rest/pug/compound/cid/"+q[n]+"/SDF?record_type=3d");var m={};d.data("options")&&(m=$3Dmol.specStringToObject(d.data("options")));var q=$3Dmol.CC.color(d.data("backgroundcolor")),B=
+{line:{}};d.data("style")&&(B=$3Dmol.specStringToObject(d.data("style")));var u={};d.data("select")&&(u=$3Dmol.specStringToObject(d.data("select")));var y=[],s=[],f=[],p=d.data(),h=/style(.+)/,F=/surface(.*)/,M=/labelres(.*)/,x=[],e;for(e in p)p.hasOwnProperty(e)&&x.push(e);x.sort();for(n=0;n<x.length;n++){e=x[n];var H=h.exec(e);if(H){var H="select"+H[1],H=$3Dmol.specStringToObject(p[H]),t=$3Dmol.specStringToObject(p[e]);y.push([H,t])}if(H=F.exec(e))H="select"+H[1],H=$3Dmol.specStringToObject(p[H]),
+t=$3Dmol.specStringToObject(p[e]),s.push([H,t]);if(H=M.exec(e))H="select"+H[1],H=$3Dmol.specStringToObject(p[H]),t=$3Dmol.specStringToObject(p[e]),f.push([H,t])}var C=function(b){b.setStyle(u,B);for(var c=0;c<y.length;c++){var d=y[c][0]||{},e=y[c][1]||{line:{}};b.setStyle(d,e)}for(c=0;c<s.length;c++)d=s[c][0]||{},e=s[c][1]||{},b.addSurface($3Dmol.SurfaceType.VDW,e,d,d);for(c=0;c<f.length;c++)d=f[c][0]||{},e=f[c][1]||{},b.addResLabels(d,e);b.zoomTo();b.render()},z=b;try{null==z&&(z=$3Dmol.viewers[this.id||
+c++]=$3Dmol.createViewer(d,{defaultcolors:$3Dmol.rasmolElementColors})),z.setBackgroundColor(q)}catch(I){console.log(I),window.location="http://get.webgl.org"}if(0!=l.length)for(n=0;n<l.length;n++)val=n,uri=l[n],(w=d.data("type")||d.data("datatype")||w)||(w=uri.substr(uri.lastIndexOf(".")+1)),$.get(uri,function(b){z.addModel(b,w,m);C(z);g&&val==l.length-1&&g(z)},"text");else d.data("element")&&(n=$("#"+d.data("element")).val()||"",w=d.data("type")||d.data("datatype"),w||(console.log("Warning: No type specified for embedded viewer with moldata from "+
+d.data("element")+"\n assuming type 'pdb'"),w="pdb"),z.addModel(n,w,m)),C(z),g&&g(z)})}};$(document).ready(function(){$3Dmol.autoload()});(function(){$3Dmol.elementColors.greenCarbon.C=65280;$3Dmol.elementColors.cyanCarbon.C=65535;$3Dmol.elementColors.magentaCarbon.C=16711935;$3Dmol.elementColors.yellowCarbon.C=16776960;$3Dmol.elementColors.whiteCarbon.C=16777215;$3Dmol.elementColors.orangeCarbon.C=16737792;$3Dmol.elementColors.purpleCarbon.C=8388736;$3Dmol.elementColors.blueCarbon.C=255});
+$3Dmol.CC={cache:{0:new $3Dmol.Color(0)},color:function color_(c){if(!c)return this.cache[0];if("undefined"!==typeof this.cache[c])return this.cache[c];if(c&&c.constructor===Array)return c.map(color_,this);c=this.getHex(c);if("number"===typeof c){var d=new $3Dmol.Color(c);return this.cache[c]=d}return c},colorTab:{white:16777215,silver:12632256,gray:8421504,grey:8421504,black:0,red:16711680,maroon:8388608,yellow:16776960,orange:16737792,olive:8421376,lime:65280,green:32768,aqua:65535,cyan:65535,teal:32896,
+blue:255,navy:128,fuchsia:16711935,magenta:16711935,purple:8388736},getHex:function(b){return isNaN(parseInt(b))?"string"===typeof b?(b=b.trim(),4==b.length&&"#"==b[0]&&(b="#"+b[1]+b[1]+b[2]+b[2]+b[3]+b[3]),7==b.length&&"#"==b[0]?parseInt(b.substring(1),16):this.colorTab[b.toLowerCase()]||0):b:parseInt(b)}};$3Dmol.CC=$3Dmol.CC;$3Dmol.CC.color=$3Dmol.CC.color;$3Dmol.ssColors=$3Dmol.ssColors||{};$3Dmol.ssColors.pyMol={h:16711680,s:16776960,c:65280};$3Dmol.ssColors.Jmol={h:16711808,s:16762880,c:16777215};
+$3Dmol.elementColors=$3Dmol.elementColors||{};$3Dmol.elementColors.defaultColor=16716947;
+$3Dmol.elementColors.Jmol={H:16777215,He:14286847,HE:14286847,Li:13402367,LI:13402367,B:16758197,C:9474192,N:3166456,O:16715021,F:9494608,Na:11230450,NA:11230450,Mg:9109248,MG:9109248,Al:12560038,AL:12560038,Si:1578E4,SI:1578E4,P:16744448,S:16777008,Cl:2093087,CL:2093087,Ca:4062976,CA:4062976,Ti:12567239,TI:12567239,Cr:9083335,CR:9083335,Mn:10255047,MN:10255047,Fe:14706227,FE:14706227,Ni:5296208,NI:5296208,Cu:13140019,CU:13140019,Zn:8224944,ZN:8224944,Br:10889513,BR:10889513,Ag:12632256,AG:12632256,
+I:9699476,Ba:51456,BA:51456,Au:16765219,AU:16765219};
+$3Dmol.elementColors.rasmol={H:16777215,He:16761035,HE:16761035,Li:11674146,LI:11674146,B:65280,C:13158600,N:9408511,O:15728640,F:14329120,Na:255,NA:255,Mg:2263842,MG:2263842,Al:8421520,AL:8421520,Si:14329120,SI:14329120,P:16753920,S:16762930,Cl:65280,CL:65280,Ca:8421520,CA:8421520,Ti:8421520,TI:8421520,Cr:8421520,CR:8421520,Mn:8421520,MN:8421520,Fe:16753920,FE:16753920,Ni:10824234,NI:10824234,Cu:10824234,CU:10824234,Zn:10824234,ZN:10824234,Br:10824234,BR:10824234,Ag:8421520,AG:8421520,I:10494192,
+Ba:16753920,BA:16753920,Au:14329120,AU:14329120};$3Dmol.elementColors.defaultColors=$3Dmol.elementColors.rasmol;$3Dmol.elementColors.greenCarbon=$.extend({},$3Dmol.elementColors.defaultColors);$3Dmol.elementColors.greenCarbon.C=65280;$3Dmol.elementColors.cyanCarbon=$.extend({},$3Dmol.elementColors.defaultColors);$3Dmol.elementColors.cyanCarbon.C=65535;$3Dmol.elementColors.magentaCarbon=$.extend({},$3Dmol.elementColors.defaultColors);$3Dmol.elementColors.magentaCarbon.C=16711935;
+$3Dmol.elementColors.yellowCarbon=$.extend({},$3Dmol.elementColors.defaultColors);$3Dmol.elementColors.yellowCarbon.C=16776960;$3Dmol.elementColors.whiteCarbon=$.extend({},$3Dmol.elementColors.defaultColors);$3Dmol.elementColors.whiteCarbon.C=16777215;$3Dmol.elementColors.orangeCarbon=$.extend({},$3Dmol.elementColors.defaultColors);$3Dmol.elementColors.orangeCarbon.C=16737792;$3Dmol.elementColors.purpleCarbon=$.extend({},$3Dmol.elementColors.defaultColors);$3Dmol.elementColors.purpleCarbon.C=8388736;
+$3Dmol.elementColors.blueCarbon=$.extend({},$3Dmol.elementColors.defaultColors);$3Dmol.elementColors.blueCarbon.C=255;$3Dmol.residues={};$3Dmol.residues.amino={Ala:13158600,Arg:1334015,Asn:56540,Asp:15075850,Cys:15132160,Gln:56540,Glu:15075850,Gly:15461355,His:8553170,Ile:1016335,Leu:1016335,Lys:1334015,Met:15132160,Phe:3289770,Pro:14456450,Ser:16422400,Thr:16422400,Trp:11819700,Tyr:3289770,Val:1016335,Asx:16738740,Glx:16738740,other:12492910};
+$3Dmol.residues.shapely={Ala:9240460,Arg:124,Asn:16743536,Asp:10485826,Cys:16777072,Gln:16731212,Glu:6684672,Gly:16777215,His:7368959,Ile:19456,Leu:4546117,Lys:4671416,Met:12099650,Phe:5459026,Pro:5395026,Ser:16740418,Thr:12078080,Trp:5195264,Tyr:9203788,Val:16747775,Asx:16711935,Glx:16711935,other:16711935};$3Dmol.residues.nucleic={A:10526975,G:16740464,I:8454143,C:16747595,T:10551200,U:16744576};$3Dmol.chains={};
+$3Dmol.chains.atom={A:12636415,B:11599792,C:16761032,D:16777088,E:16761087,F:11596016,G:16765040,H:15761536,I:16113331,J:49151,K:13458524,L:6737322,M:10145074,N:15631086,O:52945,P:65407,Q:3978097,R:139,S:12433259,T:25600,U:8388608,V:8421376,W:8388736,X:32896,Y:12092939,Z:11674146};
+$3Dmol.chains.hetatm={A:9478351,B:8441752,C:13602992,D:13619056,E:13603023,F:8437952,G:13607008,H:12603504,I:12955267,J:42959,K:11881548,L:5682578,M:9090346,N:12481214,O:46753,P:53103,Q:3447649,R:187,S:10854235,T:37888,U:11534336,V:11579392,W:11534512,X:45232,Y:15250963,Z:12726834};
+$3Dmol.builtinColorSchemes={ssPyMol:{prop:"ss",map:$3Dmol.ssColors.pyMol},ssJmol:{prop:"ss",map:$3Dmol.ssColors.Jmol},Jmol:{prop:"elem",map:$3Dmol.elementColors.Jmol},"default":{prop:"elem",map:$3Dmol.elementColors.defaultColors},greenCarbon:{prop:"elem",map:$3Dmol.elementColors.greenCarbon},cyanCarbon:{prop:"elem",map:$3Dmol.elementColors.cyanCarbon},magentaCarbon:{prop:"elem",map:$3Dmol.elementColors.magentaCarbon},yellowCarbon:{prop:"elem",map:$3Dmol.elementColors.yellowCarbon},whiteCarbon:{prop:"elem",
+map:$3Dmol.elementColors.whiteCarbon},orangeCarbon:{prop:"elem",map:$3Dmol.elementColors.orangeCarbon},purpleCarbon:{prop:"elem",map:$3Dmol.elementColors.purpleCarbon},blueCarbon:{prop:"elem",map:$3Dmol.elementColors.blueCarbon},amino:{prop:"resAmino",map:$3Dmol.residues.amino},shapely:{prop:"resShapely",map:$3Dmol.residues.shapely},nucleic:{prop:"resNucleic",map:$3Dmol.residues.nucleic},chain:{prop:"chain",map:$3Dmol.chains.atom},chainHetatm:{prop:"chain",map:$3Dmol.chains.hetatm}};
+$3Dmol.getColorFromStyle=function(b,c){var d=c.colorscheme;"undefined"!=typeof $3Dmol.builtinColorSchemes[d]&&(d=$3Dmol.builtinColorSchemes[d]);var l=b.color;"undefined"!=typeof c.color&&"spectrum"!=c.color&&(l=c.color);if("undefined"!=typeof d)if("undefined"!=typeof $3Dmol.builtinColorSchemes[d])"undefined"!=typeof d[b[d.prop]]&&(l=d.map[b[d.prop]]);else if("undefined"!=typeof $3Dmol.elementColors[d])d=$3Dmol.elementColors[d],"undefined"!=typeof d[b[d.prop]]&&(l=d.map[b[d.prop]]);else if("undefined"!=
+typeof d[b[d.prop]])l=d.map[b[d.prop]];else if("undefined"!=typeof d.prop&&"undefined"!=typeof d.gradient){var g=d.prop,w=d.gradient;"undefined"!=typeof $3Dmol.Gradient.builtinGradients[w]&&(w=new $3Dmol.Gradient.builtinGradients[w](d.min,d.max,d.mid));d=w.range()||[-1,1];g=$3Dmol.getAtomProperty(b,g);null!=g&&(l=w.valueToHex(g,d))}else"undefined"!=typeof d.prop&&"undefined"!=typeof d.map?(g=d.prop,g=$3Dmol.getAtomProperty(b,g),"undefined"!=typeof d.map[g]&&(l=d.map[g])):"undefined"!=typeof c.colorscheme[b.elem]?
+l=c.colorscheme[b.elem]:console.log("Could not interpret colorscheme "+d);else"undefined"!=typeof c.colorfunc&&(l=c.colorfunc(b));return $3Dmol.CC.color(l)};$3Dmol=$3Dmol||{};
+$3Dmol.drawCartoon=function(){var b=function(b,c){var d=[],h=b,h=[];h.push(b[0]);var u,q,x,e,y,t;u=1;for(q=b.length-1;u<q;u++)e=b[u],y=b[u+1],e.smoothen?(y=new $3Dmol.Vector3((e.x+y.x)/2,(e.y+y.y)/2,(e.z+y.z)/2),y.atom=e.atom,h.push(y)):h.push(e);h.push(b[b.length-1]);u=-1;for(q=h.length;u<=q-3;u++)if(x=h[-1===u?0:u],e=h[u+1],y=h[u+2],t=h[u===q-3?q-1:u+3],x=(new $3Dmol.Vector3).subVectors(y,x).multiplyScalar(.5),t=(new $3Dmol.Vector3).subVectors(t,e).multiplyScalar(.5),!y.skip)for(var m=0;m<c;m++){var n=
+1/c*m,n=new $3Dmol.Vector3(e.x+n*x.x+n*n*(-3*e.x+3*y.x-2*x.x-t.x)+n*n*n*(2*e.x-2*y.x+x.x+t.x),e.y+n*x.y+n*n*(-3*e.y+3*y.y-2*x.y-t.y)+n*n*n*(2*e.y-2*y.y+x.y+t.y),e.z+n*x.z+n*n*(-3*e.z+3*y.z-2*x.z-t.z)+n*n*n*(2*e.z-2*y.z+x.z+t.z));n.atom=m<c/2?e.atom:y.atom;d.push(n)}d.push(h[h.length-1]);return d},c=function(b,c,d,h,u,y){var x,e,q,t;u=0;for(y=c.length;u<y;u++){t=Math.round(u*(h.length-1)/y);q=$3Dmol.CC.color(h[t]);geoGroup=b.updateGeoGroup(2);var m=geoGroup.vertexArray,n=geoGroup.colorArray;t=geoGroup.faceArray;
+x=geoGroup.vertices;e=3*x;m[e]=c[u].x;m[e+1]=c[u].y;m[e+2]=c[u].z;m[e+3]=d[u].x;m[e+4]=d[u].y;m[e+5]=d[u].z;for(m=0;6>m;++m)n[e+3*m]=q.r,n[e+1+3*m]=q.g,n[e+2+3*m]=q.b;0<u&&(x=[x,x+1,x-1,x-2],e=geoGroup.faceidx,t[e]=x[0],t[e+1]=x[1],t[e+2]=x[3],t[e+3]=x[1],t[e+4]=x[2],t[e+5]=x[3],geoGroup.faceidx+=6);geoGroup.vertices+=2}},d=function(c,d,p,h,u){0!==d.length&&(u=void 0===u?5:u,h=new $3Dmol.Geometry,b(d,u),d=new $3Dmol.LineBasicMaterial({linewidth:p}),d.vertexColors=!0,d=new $3Dmol.Line(h,d),d.type=
+$3Dmol.LineStrip,c.add(d))},l=function(d,f,p,h,u,y,x){x&&"default"!==x||(x="rectangle");if("edged"===x){var e;if(!(2>f.length)){var q;q=f[0];f=f[f.length-1];e=h||axisDIV;q=b(q,e);f=b(f,e);if(u){e=[];var t,m,n,g,l;x=[[0,2,-6,-8],[-4,-2,6,4],[7,-1,-5,3],[-3,5,1,-7]];var B,A,w,E,N,L,Q,G,P;L=0;for(Q=q.length;L<Q;L++){w=Math.round(L*(p.length-1)/Q);w=$3Dmol.CC.color(p[w]);e.push(m=q[L]);e.push(m);e.push(n=f[L]);e.push(n);L<Q-1&&(t=q[L+1].clone().sub(q[L]),t=f[L].clone().sub(q[L]).cross(t).normalize().multiplyScalar(u));
+e.push(g=q[L].clone().add(t));e.push(g);e.push(l=f[L].clone().add(t));e.push(l);void 0!==m.atom&&(E=m.atom);y=d.updateGeoGroup(8);G=y.vertexArray;P=y.colorArray;h=y.faceArray;B=y.vertices;A=3*B;G[A]=m.x;G[A+1]=m.y;G[A+2]=m.z;G[A+3]=m.x;G[A+4]=m.y;G[A+5]=m.z;G[A+6]=n.x;G[A+7]=n.y;G[A+8]=n.z;G[A+9]=n.x;G[A+10]=n.y;G[A+11]=n.z;G[A+12]=g.x;G[A+13]=g.y;G[A+14]=g.z;G[A+15]=g.x;G[A+16]=g.y;G[A+17]=g.z;G[A+18]=l.x;G[A+19]=l.y;G[A+20]=l.z;G[A+21]=l.x;G[A+22]=l.y;G[A+23]=l.z;for(G=0;8>G;++G)P[A+3*G]=w.r,P[A+
+1+3*G]=w.g,P[A+2+3*G]=w.b;if(0<L)for(A=void 0!==N&&void 0!==E&&N.serial!==E.serial,G=0;4>G;G++)if(P=[B+x[G][0],B+x[G][1],B+x[G][2],B+x[G][3]],n=y.faceidx,h[n]=P[0],h[n+1]=P[1],h[n+2]=P[3],h[n+3]=P[1],h[n+4]=P[2],h[n+5]=P[3],y.faceidx+=6,E.clickable||N.clickable){l=e[P[3]].clone();n=e[P[0]].clone();var R=e[P[2]].clone();g=e[P[1]].clone();l.atom=e[P[3]].atom||null;R.atom=e[P[2]].atom||null;n.atom=e[P[0]].atom||null;g.atom=e[P[1]].atom||null;if(A){var S=l.clone().add(n).multiplyScalar(.5),X=R.clone().add(g).multiplyScalar(.5),
+T=l.clone().add(g).multiplyScalar(.5);0===G%2?(N.clickable&&(P=new $3Dmol.Triangle(S,T,l),m=new $3Dmol.Triangle(X,R,T),l=new $3Dmol.Triangle(T,R,l),N.intersectionShape.triangle.push(P),N.intersectionShape.triangle.push(m),N.intersectionShape.triangle.push(l)),E.clickable&&(P=new $3Dmol.Triangle(n,g,T),m=new $3Dmol.Triangle(g,X,T),l=new $3Dmol.Triangle(n,T,S),E.intersectionShape.triangle.push(P),E.intersectionShape.triangle.push(m),E.intersectionShape.triangle.push(l))):(E.clickable&&(P=new $3Dmol.Triangle(S,
+T,l),m=new $3Dmol.Triangle(X,R,T),l=new $3Dmol.Triangle(T,R,l),E.intersectionShape.triangle.push(P),E.intersectionShape.triangle.push(m),E.intersectionShape.triangle.push(l)),N.clickable&&(P=new $3Dmol.Triangle(n,g,T),m=new $3Dmol.Triangle(g,X,T),l=new $3Dmol.Triangle(n,T,S),N.intersectionShape.triangle.push(P),N.intersectionShape.triangle.push(m),N.intersectionShape.triangle.push(l)))}else E.clickable&&(P=new $3Dmol.Triangle(n,g,l),m=new $3Dmol.Triangle(g,R,l),E.intersectionShape.triangle.push(P),
+E.intersectionShape.triangle.push(m))}y.vertices+=8;N=E}p=e.length-8;y=d.updateGeoGroup(8);G=y.vertexArray;P=y.colorArray;h=y.faceArray;B=y.vertices;A=3*B;n=y.faceidx;for(L=0;4>L;L++)e.push(e[2*L]),e.push(e[p+2*L]),u=e[2*L],d=e[p+2*L],G[A+6*L]=u.x,G[A+1+6*L]=u.y,G[A+2+6*L]=u.z,G[A+3+6*L]=d.x,G[A+4+6*L]=d.y,G[A+5+6*L]=d.z,P[A+6*L]=w.r,P[A+1+6*L]=w.g,P[A+2+6*L]=w.b,P[A+3+6*L]=w.r,P[A+4+6*L]=w.g,P[A+5+6*L]=w.b;P=[B,B+2,B+6,B+4];m=[B+1,B+5,B+7,B+3];h[n]=P[0];h[n+1]=P[1];h[n+2]=P[3];h[n+3]=P[1];h[n+4]=
+P[2];h[n+5]=P[3];h[n+6]=m[0];h[n+7]=m[1];h[n+8]=m[3];h[n+9]=m[1];h[n+10]=m[2];h[n+11]=m[3];y.faceidx+=12;y.vertices+=8}else c(d,q,f,p,e,y)}}else if("rectangle"===x||"oval"===x||"parabola"===x)if(w=x,E=f.length,!(2>E||2>f[0].length)){h=h||axisDIV;for(N=0;N<E;N++)f[N]=b(f[N],h);t=f[0].length;if(u){y=[];h=[];x=[];for(G=0;G<E;G++)y.push(.25+1.5*Math.sqrt((E-1)*G-Math.pow(G,2))/(E-1)),h.push(.5),x.push(2*(Math.pow(G/E,2)-G/E)+.6);Q=[];for(G=0;G<2*E-1;G++)Q[G]=[G,G+1,G+1-2*E,G-2*E];Q[2*E-1]=[G,G+1-2*E,
+G+1-4*E,G-2*E];d=d.updateGeoGroup(2*E*t);for(N=0;N<t;N++){G=Math.round(N*(p.length-1)/t);m=$3Dmol.CC.color(p[G]);A=e;P=L;e=[];L=[];n=[];void 0!==f[0][N].atom&&(B=f[0][N].atom,"oval"===w?q=y:"rectangle"===w?q=h:"parabola"===w&&(q=x));q||(q=h);for(G=0;G<E;G++)g=N<t-1?f[G][N+1].clone().sub(f[G][N]):f[G][N-1].clone().sub(f[G][N]).negate(),l=G<E-1?f[G+1][N].clone().sub(f[G][N]):f[G-1][N].clone().sub(f[G][N]).negate(),n[G]=l.cross(g).normalize().multiplyScalar(u*q[G]);for(G=0;G<E;G++)e[G]=f[G][N].clone().add(n[G].clone().negate());
+for(G=0;G<E;G++)L[G]=f[G][N].clone().add(n[G]);R=d.vertexArray;S=d.colorArray;g=d.faceArray;n=d.vertices;l=3*n;for(G=0;G<E;G++)R[l+3*G+0]=e[G].x,R[l+3*G+1]=e[G].y,R[l+3*G+2]=e[G].z;for(G=0;G<E;G++)R[l+3*G+0+3*E]=L[E-1-G].x,R[l+3*G+1+3*E]=L[E-1-G].y,R[l+3*G+2+3*E]=L[E-1-G].z;for(G=0;G<2*E;++G)S[l+3*G+0]=m.r,S[l+3*G+1]=m.g,S[l+3*G+2]=m.b;if(0<N){for(G=0;G<2*E;G++)l=[n+Q[G][0],n+Q[G][1],n+Q[G][2],n+Q[G][3]],m=d.faceidx,g[m]=l[0],g[m+1]=l[1],g[m+2]=l[3],g[m+3]=l[1],g[m+4]=l[2],g[m+5]=l[3],d.faceidx+=
+6;if(B.clickable)for(G in m=[],m.push(new $3Dmol.Triangle(A[0],e[0],e[E-1])),m.push(new $3Dmol.Triangle(A[0],e[E-1],A[E-1])),m.push(new $3Dmol.Triangle(A[E-1],e[E-1],L[E-1])),m.push(new $3Dmol.Triangle(A[E-1],L[E-1],P[E-1])),m.push(new $3Dmol.Triangle(L[0],P[0],P[E-1])),m.push(new $3Dmol.Triangle(L[E-1],L[0],P[E-1])),m.push(new $3Dmol.Triangle(e[0],A[0],P[0])),m.push(new $3Dmol.Triangle(L[0],e[0],P[0])),m)B.intersectionShape.triangle.push(m[G])}d.vertices+=2*E}g=d.faceArray;n=d.vertices;for(N=0;N<
+E-1;N++)l=[N,N+1,2*E-2-N,2*E-1-N],m=d.faceidx,g[m]=l[0],g[m+1]=l[1],g[m+2]=l[3],g[m+3]=l[1],g[m+4]=l[2],g[m+5]=l[3],d.faceidx+=6;for(N=0;N<E-1;N++)l=[n-1-N,n-2-N,n-2*E+N+1,n-2*E+N],m=d.faceidx,g[m]=l[0],g[m+1]=l[1],g[m+2]=l[3],g[m+3]=l[1],g[m+4]=l[2],g[m+5]=l[3],d.faceidx+=6}else c(d,f[0],f[E-1],p,h,y)}},g=function(b,c){if(b&&c&&b.chain===c.chain){if(b.reschain===c.reschain&&(b.resi===c.resi||b.resi===c.resi-1))return!0;if(b.resi<c.resi){var d=b.x-c.x,h=b.y-c.y,u=b.z-c.z;if(16>d*d+h*h+u*u)return!0}}return!1},
+w=function(b,c,d,h,u){null!=c&&0!=c.vertices&&(u&&(c.initTypedArrays(),c.setUpNormals()),u=new $3Dmol.MeshDoubleLambertMaterial,u.vertexColors=$3Dmol.FaceColors,"number"===typeof d&&0<=d&&1>d&&(u.transparent=!0,u.opacity=d),u.outline=h,c=new $3Dmol.Mesh(c,u),b.add(c))},q={C:!0,CA:!0,O:!0,P:!0,OP2:!0,O2P:!0,"O5'":!0,"O3'":!0,"C5'":!0,"C2'":!0,"O5*":!0,"O3*":!0,"C5*":!0,"C2*":!0,N1:!0,N3:!0},n={DA:!0,DG:!0,A:!0,G:!0},m={DT:!0,DC:!0,U:!0,C:!0,T:!0},B={DA:!0,DG:!0,A:!0,G:!0,DT:!0,DC:!0,U:!0,C:!0,T:!0},
+u=function(b,c,u,h,F,M,x){M=M||5;x=x||5;var e,H,t,C,z,I,K,J,A,O,E,N,L,Q,G,P,R=new $3Dmol.Geometry(!0),S=new $3Dmol.Geometry(!0),X=[],T=[],Y=1,V=!1,W={};for(C in $3Dmol.Gradient.builtinGradients)$3Dmol.Gradient.builtinGradients.hasOwnProperty(C)&&(W[C]=new $3Dmol.Gradient.builtinGradients[C](u[0],u[1]));var U=function(b,c){return u&&"spectrum"===c.color?c.colorscheme in W?W[c.colorscheme].valueToHex(b.resi):W.sinebow.valueToHex(b.resi):$3Dmol.getColorFromStyle(b,c).getHex()};for(J=0;J<M;J++)T[J]=[];
+var D=e=!1;J=0;var Z=[];for(J in c){C=c[J];if("C"===C.elem&&"CA"===C.atom){var aa=g(t,C);aa&&"s"===C.ss?e=!0:e&&(t&&H&&t.style.cartoon.arrows&&H.style.cartoon.arrows&&(t.ss="arrow end",H.ss="arrow start"),e=!1);aa&&"h"===t.ss?(!D&&C.style.cartoon.tubes&&(C.ss="tube start"),D=!0):D&&"tube start"!==t.ss&&(H&&H.style.cartoon.tubes&&(H.ss="tube end"),D=!1);H=t;t=C}C&&C.atom in q&&Z.push(C)}c=function(c){for(var f=0;!K&&f<M;f++)d(b,T[f],1,X,x,Y);h&&0<T[0].length&&l(S,T,X,x,K,Y,T.style);if(c){for(var e=
+[],f=0;f<M;f++)e[f]=T[f][T[f].length-1];var u=X[X.length-1]}T=[];for(f=0;f<M;f++)T[f]=[];X=[];if(c){for(f=0;f<M;f++)T[f].push(e[f]);X.push(u)}w(b,S,Y,V,!0);w(b,R,Y,V,!1);S=new $3Dmol.Geometry(!0);R=new $3Dmol.Geometry(!0)};t=void 0;for(H=0;H<Z.length;H++)if(C=Z[H],J=C.resn.trim(),D=J in B,Y=1,e=C.style.cartoon,t&&t.style.cartoon&&(Y=t.style.cartoon.opacity),t&&t.style.cartoon&&t.style.cartoon.outline&&(V=t.style.cartoon.outline),!t||!t.style.cartoon||C.style.cartoon&&t.style.cartoon.opacity==C.style.cartoon.opacity||
+c(t.chain==C.chain),T.length&&T[0].length>3E4/M/x/2&&c(!0),"trace"===e.style)!C.hetflag&&("C"===C.elem&&"CA"===C.atom||D&&"P"===C.atom)&&(I=U(C,e),K=$.isNumeric(e.thickness)?e.thickness:.4,g(t,C)&&(I==z?(z=$3Dmol.CC.color(I),$3Dmol.GLDraw.drawCylinder(R,t,C,K,z,2,2)):(e=(new $3Dmol.Vector3).addVectors(t,C).multiplyScalar(.5),z=$3Dmol.CC.color(z),J=$3Dmol.CC.color(I),$3Dmol.GLDraw.drawCylinder(R,t,e,K,z,2,0),$3Dmol.GLDraw.drawCylinder(R,e,C,K,J,0,2))),t=C,z=I);else{if(C&&"C"===C.elem&&"CA"===C.atom||
+D&&("P"===C.atom||0==C.atom.indexOf("O5"))){if(P)if("tube end"===C.ss)P=!1,J=new $3Dmol.Vector3(C.x,C.y,C.z),$3Dmol.GLDraw.drawCylinder(R,G,J,2,$3Dmol.CC.color(z),1,1),C.ss="h";else continue;if(t&&(!g(t,C)||"tube start"===t.ss)){"tube start"===t.ss&&(P=!0,G=new $3Dmol.Vector3(t.x,t.y,t.z),t.ss="h");Q&&(J=N?(new $3Dmol.Vector3).addVectors(t,N).multiplyScalar(.5):new $3Dmol.Vector3(t.x,t.y,t.z),$3Dmol.GLDraw.drawCylinder(R,J,Q,.4,$3Dmol.CC.color(Q.color),0,2),y(T,M,!F,N,L,E,t,Z,H),X.push(I),Q=J=null);
+for(J=0;!K&&J<M;J++)d(b,T[J],1,X,x,Y);h&&0<T[0].length&&l(S,T,X,x,K,Y,T.style);T=[];for(J=0;J<M;J++)T[J]=[];X=[]}if(void 0===t||t.rescode!=C.rescode||t.resi!=C.resi)Q&&(J=(new $3Dmol.Vector3).addVectors(t,C).multiplyScalar(.5),t=J.clone().sub(Q).multiplyScalar(.02),J.add(t),$3Dmol.GLDraw.drawCylinder(R,J,Q,.4,$3Dmol.CC.color(Q.color),0,2),Q=J=null),I=U(C,e),X.push(I),K=$.isNumeric(e.thickness)?e.thickness:.4,t=C,A=new $3Dmol.Vector3(t.x,t.y,t.z),A.resi=t.resi,z=I;!0!==C.clickable||void 0!==C.intersectionShape&&
+void 0!==C.intersectionShape.triangle||(C.intersectionShape={sphere:null,cylinder:[],line:[],triangle:[]})}else if(t&&"C"===t.elem&&"CA"===t.atom&&"O"===C.atom||D&&"P"===t.atom&&("OP2"===C.atom||"O2P"===C.atom)||D&&0==t.atom.indexOf("O5")&&0==C.atom.indexOf("C5")){if(O=new $3Dmol.Vector3(C.x,C.y,C.z),O.resi=C.resi,"OP2"===C.atom||"O2P"===C.atom)L=new $3Dmol.Vector3(C.x,C.y,C.z)}else if(D&&0==C.atom.indexOf("O3"))N=new $3Dmol.Vector3(C.x,C.y,C.z);else if("N1"===C.atom&&J in n||"N3"===C.atom&&J in m)Q=
+new $3Dmol.Vector3(C.x,C.y,C.z),Q.color=$3Dmol.getColorFromStyle(C,e).getHex();O&&A&&O.resi===A.resi&&(y(T,M,!F,A,O,E,t,Z,H),E=O,O=A=null,X.push(I))}Q&&(J=N?(new $3Dmol.Vector3).addVectors(t,N).multiplyScalar(.5):new $3Dmol.Vector3(t.x,t.y,t.z),$3Dmol.GLDraw.drawCylinder(R,J,Q,.4,$3Dmol.CC.color(Q.color),0,2),y(T,M,!F,N,L,E,t,Z,H),X.push(I));c()},y=function(b,c,d,h,u,m,y,e,n){var q;if(h&&u&&y){var g=u.sub(h);g.normalize();var l=e[n];for(n+=1;n<e.length&&(l=e[n],l.atom!=y.atom);n++);l=l?new $3Dmol.Vector3(l.x,
+l.y,l.z):new $3Dmol.Vector3(0,0,0);l.sub(h);"arrow start"===y.ss&&(n=l.clone().multiplyScalar(.3).cross(u),h.add(n),n=l.clone().cross(g).normalize(),g.rotateAboutVector(n,.43));y.style.cartoon.ribbon?n=y.style.cartoon.thickness||.4:y.style.cartoon.width?n=y.style.cartoon.width:"c"===y.ss?n="P"===y.atom?.8:.5:"arrow start"===y.ss?(n=1.3,q=!0):n="arrow end"===y.ss?.5:"h"===y.ss&&y.style.cartoon.tubes||"tube start"===y.ss?.5:1.3;null!=m&&0>g.dot(m)&&g.negate();g.multiplyScalar(n);for(n=0;n<c;n++)m=-1+
+2*n/(c-1),m=new $3Dmol.Vector3(h.x+m*g.x,h.y+m*g.y,h.z+m*g.z),m.atom=y,d&&"s"===y.ss&&(m.smoothen=!0),b[n].push(m);if(q)for(g.multiplyScalar(2),n=0;n<c;n++)m=-1+2*n/(c-1),m=new $3Dmol.Vector3(h.x+m*g.x,h.y+m*g.y,h.z+m*g.z),m.atom=y,m.smoothen=!1,m.skip=!0,b[n].push(m);c=y.style.cartoon.style||"default";b.style?b.style!=c&&(console.log("Warning: a cartoon chain's strand-style is ambiguous"),b.style="default"):b.style=c;if("arrow start"===y.ss||"arrow end"===y.ss)y.ss="s";return q}};return function(b,
+c,d,h){h=parseInt(5*parseFloat(h))||5;u(b,c,d,!0,!1,h,h)}}();$3Dmol=$3Dmol||{};
+$3Dmol.GLDraw=function(){var b={},c=function(){var b=new $3Dmol.Vector3;return function(c){b.set(c[0],c[1],c[2]);var d=b.x,g=b.y,u=b.z,y=Math.sqrt(d*d+g*g);1E-4>y?(c=0,y=1):(c=-d/y,y=g/y);g=-c*d+y*g;d=Math.sqrt(g*g+u*u);1E-4>d?(u=0,g=1):(u/=d,g/=d);d=new Float32Array(9);d[0]=y;d[1]=c;d[2]=0;d[3]=-c*g;d[4]=y*g;d[5]=u;d[6]=c*u;d[7]=-y*u;d[8]=g;return d}}(),d=function(){var b=[],c=Math.pow(2,4),d,g=Math.pow(2,2),u=c/g,y;b[0]=new $3Dmol.Vector3(-1,0,0);b[u]=new $3Dmol.Vector3(0,0,1);b[2*u]=new $3Dmol.Vector3(1,
+0,0);b[3*u]=new $3Dmol.Vector3(0,0,-1);for(d=3;4>=d;d++){g=Math.pow(2,d-1);u=c/g;for(y=0;y<g-1;y++)b[u/2+y*u]=b[y*u].clone().add(b[(y+1)*u]).normalize();y=g-1;b[u/2+y*u]=b[y*u].clone().add(b[0]).normalize()}return b}(),l={cache:{},getVerticesForRadius:function(b,c,m){if(void 0!==typeof this.chache&&void 0!==this.cache[b]&&void 0!==this.cache[b][c+m])return this.cache[b][c+m];new $3Dmol.Vector3(0,1,0);for(var g=d.length,u=[],y=[],s,f=0;f<g;f++)u.push(d[f].clone().multiplyScalar(b)),u.push(d[f].clone().multiplyScalar(b)),
+s=d[f].clone().normalize(),y.push(s),y.push(s);var f=[],p=2*Math.PI,h=Math.PI,l,w,x=!1,e=!1;for(w=0;10>=w;w++){var x=0===w||10===w?!0:!1,e=5===w?!0:!1,H=[],t=[];for(l=0;l<=g;l++)if(e){var C=l<g?2*l:0;t.push(C+1);H.push(C)}else{s=l/g;var z=w/10;x&&0!==l?x&&H.push(u.length-1):l<g?(C=new $3Dmol.Vector3,C.x=-b*Math.cos(0+s*p)*Math.sin(0+z*h),C.y=1==c?0:b*Math.cos(0+z*h),C.z=b*Math.sin(0+s*p)*Math.sin(0+z*h),1E-5>Math.abs(C.x)&&(C.x=0),1E-5>Math.abs(C.y)&&(C.y=0),1E-5>Math.abs(C.z)&&(C.z=0),s=1===c?new $3Dmol.Vector3(0,
+Math.cos(0+z*h),0):new $3Dmol.Vector3(C.x,C.y,C.z),s.normalize(),u.push(C),y.push(s),H.push(u.length-1)):H.push(u.length-g)}e&&f.push(t);f.push(H)}g={vertices:u,normals:y,verticesRows:f,w:g,h:10};this.cache[b]={};return this.cache[b][c+m]=g}};this.caps={NONE:0,FLAT:1,ROUND:2};var g=0;b.drawCylinder=function(b,d,m,w,u,y,s){if(d&&m){g++;var f=s||y;u=u||{r:0,g:0,b:0};var p=[m.x,m.y,m.z];p[0]-=d.x;p[1]-=d.y;p[2]-=d.z;var p=c(p),h=l.getVerticesForRadius(w,s,"to"),F=h.w,M=h.h,x=f?M*F+2:2*F;b=b.updateGeoGroup(x);
+var e=h.vertices,H=h.normals,h=h.verticesRows,t=h[M/2],C=h[M/2+1],z=b.vertices,I,K,J,A,O,E,N=b.vertexArray,L=b.normalArray,Q=b.colorArray,G=b.faceArray;for(J=0;J<F;++J)K=2*J,A=p[0]*e[K].x+p[3]*e[K].y+p[6]*e[K].z,O=p[1]*e[K].x+p[4]*e[K].y+p[7]*e[K].z,E=p[5]*e[K].y+p[8]*e[K].z,I=3*(z+K),K=b.faceidx,N[I]=A+d.x,N[I+1]=O+d.y,N[I+2]=E+d.z,N[I+3]=A+m.x,N[I+4]=O+m.y,N[I+5]=E+m.z,L[I]=A,L[I+3]=A,L[I+1]=O,L[I+4]=O,L[I+2]=E,L[I+5]=E,Q[I]=u.r,Q[I+3]=u.r,Q[I+1]=u.g,Q[I+4]=u.g,Q[I+2]=u.b,Q[I+5]=u.b,G[K]=C[J]+z,
+G[K+1]=C[J+1]+z,G[K+2]=t[J]+z,G[K+3]=t[J]+z,G[K+4]=C[J+1]+z,G[K+5]=t[J+1]+z,b.faceidx+=6;if(f){var f=y?M+1:M/2+1,P,R,S,X,T,Y,V,W,U,D,Z,aa,ga,da,fa,ea;for(O=s?0:M/2;O<f;O++)if(O!==M/2)for(t=O<=M/2?m:d,A=l.getVerticesForRadius(w,s,"to"),K=l.getVerticesForRadius(w,y,"from"),t===m?(e=A.vertices,H=A.normals,h=A.verticesRows):t==d&&(e=K.vertices,H=K.normals,h=K.verticesRows),A=0;A<F;A++)K=b.faceidx,C=h[O][A+1],ga=3*(C+z),J=h[O][A],da=3*(J+z),E=h[O+1][A],fa=3*(E+z),I=h[O+1][A+1],ea=3*(I+z),P=p[0]*e[C].x+
+p[3]*e[C].y+p[6]*e[C].z,R=p[0]*e[J].x+p[3]*e[J].y+p[6]*e[J].z,S=p[0]*e[E].x+p[3]*e[E].y+p[6]*e[E].z,X=p[0]*e[I].x+p[3]*e[I].y+p[6]*e[I].z,T=p[1]*e[C].x+p[4]*e[C].y+p[7]*e[C].z,Y=p[1]*e[J].x+p[4]*e[J].y+p[7]*e[J].z,V=p[1]*e[E].x+p[4]*e[E].y+p[7]*e[E].z,W=p[1]*e[I].x+p[4]*e[I].y+p[7]*e[I].z,U=p[5]*e[C].y+p[8]*e[C].z,D=p[5]*e[J].y+p[8]*e[J].z,Z=p[5]*e[E].y+p[8]*e[E].z,aa=p[5]*e[I].y+p[8]*e[I].z,N[ga]=P+t.x,N[da]=R+t.x,N[fa]=S+t.x,N[ea]=X+t.x,N[ga+1]=T+t.y,N[da+1]=Y+t.y,N[fa+1]=V+t.y,N[ea+1]=W+t.y,N[ga+
+2]=U+t.z,N[da+2]=D+t.z,N[fa+2]=Z+t.z,N[ea+2]=aa+t.z,Q[ga]=u.r,Q[da]=u.r,Q[fa]=u.r,Q[ea]=u.r,Q[ga+1]=u.g,Q[da+1]=u.g,Q[fa+1]=u.g,Q[ea+1]=u.g,Q[ga+2]=u.b,Q[da+2]=u.b,Q[fa+2]=u.b,Q[ea+2]=u.b,P=p[0]*H[C].x+p[3]*H[C].y+p[6]*H[C].z,R=p[0]*H[J].x+p[3]*H[J].y+p[6]*H[J].z,S=p[0]*H[E].x+p[3]*H[E].y+p[6]*H[E].z,X=p[0]*H[I].x+p[3]*H[I].y+p[6]*H[I].z,T=p[1]*H[C].x+p[4]*H[C].y+p[7]*H[C].z,Y=p[1]*H[J].x+p[4]*H[J].y+p[7]*H[J].z,V=p[1]*H[E].x+p[4]*H[E].y+p[7]*H[E].z,W=p[1]*H[I].x+p[4]*H[I].y+p[7]*H[I].z,U=p[5]*H[C].y+
+p[8]*H[C].z,D=p[5]*H[J].y+p[8]*H[J].z,Z=p[5]*H[E].y+p[8]*H[E].z,aa=p[5]*H[I].y+p[8]*H[I].z,0===O?(L[ga]=P,L[fa]=S,L[ea]=X,L[ga+1]=T,L[fa+1]=V,L[ea+1]=W,L[ga+2]=U,L[fa+2]=Z,L[ea+2]=aa,G[K]=C+z,G[K+1]=E+z,G[K+2]=I+z,b.faceidx+=3):O===f-1?(L[ga]=P,L[da]=R,L[fa]=S,L[ga+1]=T,L[da+1]=Y,L[fa+1]=V,L[ga+2]=U,L[da+2]=D,L[fa+2]=Z,G[K]=C+z,G[K+1]=J+z,G[K+2]=E+z,b.faceidx+=3):(L[ga]=P,L[da]=R,L[ea]=X,L[ga+1]=T,L[da+1]=Y,L[ea+1]=W,L[ga+2]=U,L[da+2]=D,L[ea+2]=aa,L[da]=R,L[fa]=S,L[ea]=X,L[da+1]=Y,L[fa+1]=V,L[ea+
+1]=W,L[da+2]=D,L[fa+2]=Z,L[ea+2]=aa,G[K]=C+z,G[K+1]=J+z,G[K+2]=I+z,G[K+3]=J+z,G[K+4]=E+z,G[K+5]=I+z,b.faceidx+=6)}b.vertices+=x}};b.drawCone=function(b,n,m,g,u){if(n&&m){u=u||{r:0,g:0,b:0};var y=[m.x,m.y,m.z];y.x-=n.x;y.y-=n.y;y.z-=n.z;var s=c(y),f=d.length;b=b.updateGeoGroup(f+2);var p=b.vertices,h,l,w,x=b.vertexArray,e=b.normalArray,H=b.colorArray,t=b.faceArray;h=3*p;y=(new $3Dmol.Vector3(y[0],y[1],y[2])).normalize();x[h]=n.x;x[h+1]=n.y;x[h+2]=n.z;e[h]=-y.x;e[h+1]=-y.y;e[h+2]=-y.z;H[h]=u.r;H[h+
+1]=u.g;H[h+2]=u.b;x[h+3]=m.x;x[h+4]=m.y;x[h+5]=m.z;e[h+3]=y.x;e[h+4]=y.y;e[h+5]=y.z;H[h+3]=u.r;H[h+4]=u.g;H[h+5]=u.b;h+=6;for(m=0;m<f;++m)w=d[m].clone(),w.multiplyScalar(g),y=s[0]*w.x+s[3]*w.y+s[6]*w.z,l=s[1]*w.x+s[4]*w.y+s[7]*w.z,w=s[5]*w.y+s[8]*w.z,x[h]=y+n.x,x[h+1]=l+n.y,x[h+2]=w+n.z,e[h]=y,e[h+1]=l,e[h+2]=w,H[h]=u.r,H[h+1]=u.g,H[h+2]=u.b,h+=3;b.vertices+=f+2;n=b.faceidx;for(m=0;m<f;m++)g=p+2+m,u=p+2+(m+1)%f,t[n]=g,t[n+1]=u,t[n+2]=p,n+=3,t[n]=g,t[n+1]=u,t[n+2]=p+1,n+=3;b.faceidx+=6*f}};var w={cache:{},
+getVerticesForRadius:function(b){if("undefined"!==typeof this.cache[b])return this.cache[b];var c={vertices:[],verticesRows:[],normals:[]},d=16,g=10;1>b&&(d=10,g=8);var u=2*Math.PI,y=Math.PI,s,f;for(f=0;f<=g;f++){var p=[];for(s=0;s<=d;s++){var h=s/d,l=f/g,w={};w.x=-b*Math.cos(0+h*u)*Math.sin(0+l*y);w.y=b*Math.cos(0+l*y);w.z=b*Math.sin(0+h*u)*Math.sin(0+l*y);h=new $3Dmol.Vector3(w.x,w.y,w.z);h.normalize();c.vertices.push(w);c.normals.push(h);p.push(c.vertices.length-1)}c.verticesRows.push(p)}return this.cache[b]=
+c}};b.drawSphere=function(b,c,d,g){new $3Dmol.Vector3(c.x,c.y,c.z);var u=w.getVerticesForRadius(d),y=u.vertices,s=u.normals;b=b.updateGeoGroup(y.length);for(var f=b.vertices,p=b.vertexArray,h=b.colorArray,l=b.faceArray,M=b.lineArray,x=b.normalArray,e=0,H=y.length;e<H;++e){var t=3*(f+e),C=y[e];p[t]=C.x+c.x;p[t+1]=C.y+c.y;p[t+2]=C.z+c.z;h[t]=g.r;h[t+1]=g.g;h[t+2]=g.b}b.vertices+=y.length;u=u.verticesRows;p=u.length-1;for(g=0;g<p;g++)for(h=u[g].length-1,c=0;c<h;c++){var e=b.faceidx,H=b.lineidx,t=u[g][c+
+1]+f,C=3*t,z=u[g][c]+f,I=3*z,K=u[g+1][c]+f,J=3*K,A=u[g+1][c+1]+f,O=3*A,E=s[t-f],N=s[z-f],L=s[K-f],Q=s[A-f];Math.abs(y[t-f].y)===d?(x[C]=E.x,x[J]=L.x,x[O]=Q.x,x[C+1]=E.y,x[J+1]=L.y,x[O+1]=Q.y,x[C+2]=E.z,x[J+2]=L.z,x[O+2]=Q.z,l[e]=t,l[e+1]=K,l[e+2]=A,M[H]=t,M[H+1]=K,M[H+2]=t,M[H+3]=A,M[H+4]=K,M[H+5]=A,b.faceidx+=3,b.lineidx+=6):Math.abs(y[K-f].y)===d?(x[C]=E.x,x[I]=N.x,x[J]=L.x,x[C+1]=E.y,x[I+1]=N.y,x[J+1]=L.y,x[C+2]=E.z,x[I+2]=N.z,x[J+2]=L.z,l[e]=t,l[e+1]=z,l[e+2]=K,M[H]=t,M[H+1]=z,M[H+2]=t,M[H+3]=
+K,M[H+4]=z,M[H+5]=K,b.faceidx+=3,b.lineidx+=6):(x[C]=E.x,x[I]=N.x,x[O]=Q.x,x[C+1]=E.y,x[I+1]=N.y,x[O+1]=Q.y,x[C+2]=E.z,x[I+2]=N.z,x[O+2]=Q.z,x[I]=N.x,x[J]=L.x,x[O]=Q.x,x[I+1]=N.y,x[J+1]=L.y,x[O+1]=Q.y,x[I+2]=N.z,x[J+2]=L.z,x[O+2]=Q.z,l[e]=t,l[e+1]=z,l[e+2]=A,l[e+3]=z,l[e+4]=K,l[e+5]=A,M[H]=t,M[H+1]=z,M[H+2]=t,M[H+3]=A,M[H+4]=z,M[H+5]=K,M[H+6]=K,M[H+7]=A,b.faceidx+=6,b.lineidx+=8)}};return b}();$3Dmol=$3Dmol||{};
+$3Dmol.GLModel=function(){function b(w,q){var n=[],m=[],B=!1,u=null,y=null,s=null,f={},p=new $3Dmol.Matrix4,h=!0,F=$3Dmol.elementColors.defaultColor,M=q?q:$3Dmol.elementColors.defaultColors,x=function(b,c){var f=1.5;"undefined"!=typeof c.radius?f=c.radius:d[b.elem]&&(f=d[b.elem]);"undefined"!=typeof c.scale&&(f*=c.scale);return f},e=function(b,c,d){var f=new $3Dmol.Vector3(b.x,b.y,b.z),e=(new $3Dmol.Vector3(c.x,c.y,c.z)).clone(),h=null;e.sub(f);1===b.bonds.length?1===c.bonds.length?(h=e.clone(),1E-4<
+Math.abs(h.x)?h.y+=1:h.x+=1):(d=(d+1)%c.bonds.length,b=c.bonds[d],b=n[b],b=new $3Dmol.Vector3(b.x,b.y,b.z),b=b.clone(),b.sub(f),h=b.clone(),h.cross(e)):(d=(d+1)%b.bonds.length,b=b.bonds[d],b=n[b],b=new $3Dmol.Vector3(b.x,b.y,b.z),b=b.clone(),b.sub(f),h=b.clone(),h.cross(e));.01>h.lengthSq()&&(h=e.clone(),1E-4<Math.abs(h.x)?h.y+=1:h.x+=1);h.cross(e);h.normalize();return h},H=function(b,c,d,f,e,h){b[d]=f.x;b[d+1]=f.y;b[d+2]=f.z;c[d]=h.r;c[d+1]=h.g;c[d+2]=h.b;b[d+3]=e.x;b[d+4]=e.y;b[d+5]=e.z;c[d+3]=
+h.r;c[d+4]=h.g;c[d+5]=h.b},t=function(b,c){if(b.style.sphere){var d=b.style.sphere;if(!d.hidden){var f=$3Dmol.getColorFromStyle(b,d),d=x(b,d);if((!0===b.clickable||b.hoverable)&&void 0!==b.intersectionShape){var e=new $3Dmol.Vector3(b.x,b.y,b.z);b.intersectionShape.sphere.push(new $3Dmol.Sphere(e,d))}$3Dmol.GLDraw.drawSphere(c,b,d,f)}}},C=function(b,c){if(b.style.sphere){var d=b.style.sphere;if(!d.hidden){var f=x(b,d),e=$3Dmol.getColorFromStyle(b,d),d=c.updateGeoGroup(1),h=d.vertices,u=3*h,s=d.vertexArray,
+p=d.colorArray,y=d.radiusArray;s[u]=b.x;s[u+1]=b.y;s[u+2]=b.z;p=d.colorArray;p[u]=e.r;p[u+1]=e.g;p[u+2]=e.b;y[h]=f;!0!==b.clickable&&!b.hoverable||void 0===b.intersectionShape||(e=new $3Dmol.Vector3(b.x,b.y,b.z),b.intersectionShape.sphere.push(new $3Dmol.Sphere(e,f)));d.vertices+=1}}},z=function(b,c,d,f){b=b.updateGeoGroup(4);for(var e=b.vertices,h=3*e,u=b.vertexArray,s=b.colorArray,p=0;4>p;p++)u[h+3*p]=c.x,u[h+3*p+1]=c.y,u[h+3*p+2]=c.z;c=b.normalArray;s=b.colorArray;for(p=0;4>p;p++)s[h+3*p]=f.r,
+s[h+3*p+1]=f.g,s[h+3*p+2]=f.b;c[h+0]=-d;c[h+1]=d;c[h+2]=0;c[h+3]=-d;c[h+4]=-d;c[h+5]=0;c[h+6]=d;c[h+7]=-d;c[h+8]=0;c[h+9]=d;c[h+10]=d;c[h+11]=0;b.vertices+=4;d=b.faceArray;f=b.faceidx;d[f+0]=e;d[f+1]=e+1;d[f+2]=e+2;d[f+3]=e+2;d[f+4]=e+3;d[f+5]=e;b.faceidx+=6},I=function(b,c){if(b.style.sphere){var d=b.style.sphere;if(!d.hidden){var f=x(b,d),d=$3Dmol.getColorFromStyle(b,d);if((!0===b.clickable||b.hoverable)&&void 0!==b.intersectionShape){var e=new $3Dmol.Vector3(b.x,b.y,b.z);b.intersectionShape.sphere.push(new $3Dmol.Sphere(e,
+f))}z(c,b,f,d)}}},K=function(b,c,d,f,e,h,u){b=b.updateGeoGroup(4);h=b.vertices;u=b.vertexArray;var s=b.colorArray,p=b.radiusArray,y=b.normalArray,m=e.r,g=e.g;e=e.b;for(var n=3*h,t=0;4>t;t++){u[n]=c.x;y[n]=d.x;s[n]=m;n++;u[n]=c.y;y[n]=d.y;s[n]=g;n++;u[n]=c.z;y[n]=d.z;if(2>t)s[n]=e;else{var x=n,l=-e;0==l&&(l=-1E-4);s[x]=l}n++}b.vertices+=4;p[h]=-f;p[h+1]=f;p[h+2]=-f;p[h+3]=f;c=b.faceArray;d=b.faceidx;c[d+0]=h;c[d+1]=h+1;c[d+2]=h+2;c[d+3]=h+2;c[d+4]=h+3;c[d+5]=h;b.faceidx+=6};this.getCrystData=function(){return f.cryst?
+f.cryst:null};this.getSymmetries=function(){"undefined"==typeof f.symmetries&&(f.symmetries=[p]);return f.symmetries};this.setSymmetries=function(b){f.symmetries="undefined"==typeof b?[p]:b};this.getID=function(){return w};this.getFrames=function(){return m};this.setFrame=function(b){0!=m.length&&(n=0<=b&&b<m.length?m[b]:m[m.length-1],u=null)};this.addFrame=function(b){m.push(b)};this.vibrate=function(b,c){c=c||1;b=b||10;b--;for(var d=1;d<=b;d++){for(var f=[],e=0;e<n.length;e++){var h=new $3Dmol.Vector3($3Dmol.getAtomProperty(n[e],
+"dx"),$3Dmol.getAtomProperty(n[e],"dy"),$3Dmol.getAtomProperty(n[e],"dz")),u=new $3Dmol.Vector3(n[e].x,n[e].y,n[e].z);h.multiplyScalar(d*c/b);u.add(h);var h={},s;for(s in n[e])h[s]=n[e][s];h.x=u.x;h.y=u.y;h.z=u.z;f.push(h)}m.push(f)}m.unshift(n)};this.setAtomDefaults=function(b){for(var d=0;d<b.length;d++){var f=b[d];f&&(f.style=f.style||c,f.color=f.color||M[f.elem]||F,f.model=w,f.clickable||f.hoverable)&&(f.intersectionShape={sphere:[],cylinder:[],line:[],triangle:[]})}};this.addMolData=function(b,
+c,d){d=d||{};b=$3Dmol.GLModel.parseMolData(b,c,d);h=!d.duplicateAssemblyAtoms;(c=b.modelData)&&(f=Array.isArray(c)?c[0]:c);if(0==m.length){for(c=0;c<b.length;c++)0!=b[c].length&&m.push(b[c]);m[0]&&(n=m[0])}else if(d.frames)for(c=0;c<b.length;c++)m.push(b[c]);else for(c=0;c<b.length;c++)this.addAtoms(b[c]);for(c=0;c<m.length;c++)this.setAtomDefaults(m[c],w);d.vibrate&&d.vibrate.frames&&d.vibrate.amplitude&&this.vibrate(d.vibrate.frames,d.vibrate.amplitude);d.style&&this.setStyle({},d.style)};this.setDontDuplicateAtoms=
+function(b){h=b};this.setModelData=function(b){f=b};this.atomIsSelected=function(b,c){if("undefined"===typeof c)return!0;var d=!!c.invert,f=!0,e;for(e in c)if("and"==e||"or"==e||"not"==e)if("not"==e){if(this.atomIsSelected(b,c[e])){f=!1;break}}else if("and"==e)for(var h=c[e],u=0;u<h.length;u++){if(!this.atomIsSelected(b,h[u])){f=!1;break}}else{if("or"==e){f=c[e];h=!0;for(u=0;u<f.length;u++)if(this.atomIsSelected(b,f[u])){h=!0;break}else h=!1;f=h}}else if("predicate"===e){if(!c.predicate(b)){f=!1;
+break}}else if("properties"==e&&b[e])for(var s in c.properties){if("undefined"===typeof b.properties[s]){f=!1;break}if(b.properties[s]!=c.properties[s]){f=!1;break}}else if(c.hasOwnProperty(e)&&"props"!=e&&"invert"!=e&&"model"!=e&&"byres"!=e&&"expand"!=e&&"within"!=e&&"and"!=e&&"or"!=e&&"not"!=e){if("undefined"===typeof b[e]){f=!1;break}h=!1;if("bonds"===e){if(u=c[e],u!=b.bonds.length){f=!1;break}}else if($.isArray(c[e])){for(var p=c[e],u=0;u<p.length;u++)if(b[e]==p[u]){h=!0;break}if(!h){f=!1;break}}else if(u=
+c[e],b[e]!=u){f=!1;break}}return d?!f:f};this.selectedAtoms=function(b,c){var d=[];b=b||{};c||(c=n);for(var f=c.length,e=0;e<f;e++){var h=c[e];h&&this.atomIsSelected(h,b)&&d.push(h)}if(b.hasOwnProperty("expand")){var u;u=parseFloat(b.expand);if(0>=u)u=d;else{e=$3Dmol.getExtent(d);h=[[],[],[]];for(f=0;3>f;f++)h[0][f]=e[0][f]-u,h[1][f]=e[1][f]+u,h[2][f]=e[2][f];u=[];for(f=0;f<n.length;f++){var s=n[f].x,p=n[f].y,y=n[f].z;s>=h[0][0]&&s<=h[1][0]&&p>=h[0][1]&&p<=h[1][1]&&y>=h[0][2]&&y<=h[1][2]&&(s>=e[0][0]&&
+s<=e[1][0]&&p>=e[0][1]&&p<=e[1][1]&&y>=e[0][2]&&y<=e[1][2]||u.push(n[f]))}}s=d.length;for(e=0;e<u.length;e++)for(var m=0;m<s;m++)h=J(u[e],d[m]),f=Math.pow(b.expand,2),h<f&&0<h&&d.push(u[e])}if(b.hasOwnProperty("within")&&b.within.hasOwnProperty("sel")&&b.within.hasOwnProperty("distance")){s=this.selectedAtoms(b.within.sel,n);u={};for(e=0;e<s.length;e++)for(m=0;m<d.length;m++)h=J(s[e],d[m]),f=Math.pow(parseFloat(b.within.distance),2),h<f&&0<h&&(u[m]=1);e=[];if(b.within.invert)for(m=0;m<d.length;m++)u[m]||
+e.push(d[m]);else for(m in u)e.push(d[m]);d=e}if(b.hasOwnProperty("byres"))for(f={},u=[],s=[],e=0;e<d.length;e++)if(h=d[e],p=h.chain,y=h.resi,void 0===f[p]&&(f[p]={}),h.hasOwnProperty("resi")&&void 0===f[p][y])for(f[p][y]=!0,s.push(h);0<s.length;)if(h=s.pop(),p=h.chain,y=h.resi,void 0===u[h.index])for(u[h.index]=!0,m=0;m<h.bonds.length;m++){var g=n[h.bonds[m]];void 0===u[g.index]&&g.hasOwnProperty("resi")&&g.chain==p&&g.resi==y&&(s.push(g),d.push(g))}return d};var J=function(b,c){var d=c.y-b.y,f=
+c.z-b.z;return Math.pow(c.x-b.x,2)+Math.pow(d,2)+Math.pow(f,2)};this.addAtoms=function(b){u=null;var d=n.length,f=[],e;for(e=0;e<b.length;e++)"undefined"==typeof b[e].index&&(b[e].index=e),"undefined"==typeof b[e].serial&&(b[e].serial=e),f[b[e].index]=d+e;for(e=0;e<b.length;e++){var d=b[e],h=f[d.index],s=$.extend(!1,{},d);s.index=h;s.bonds=[];s.bondOrder=[];s.model=w;s.style=s.style||c;"undefined"==typeof s.color&&(s.color=M[s.elem]||F);for(var h=d.bonds?d.bonds.length:0,p=0;p<h;p++){var y=f[d.bonds[p]];
+"undefined"!=typeof y&&(s.bonds.push(y),s.bondOrder.push(d.bondOrder?d.bondOrder[p]:1))}n.push(s)}};this.removeAtoms=function(b){u=null;var c=[],d;for(d=0;d<b.length;d++)c[b[d].index]=!0;b=[];for(d=0;d<n.length;d++){var e=n[d];c[e.index]||b.push(e)}n=[];this.addAtoms(b)};this.setStyle=function(b,c,d){"undefined"===typeof c&&"undefined"==typeof d&&(c=b,b={});for(var e in b)-1===l.indexOf(e)&&console.log("Unknown selector "+e);for(e in c)-1===g.indexOf(e)&&console.log("Unknown style "+e);var f=!1,h=
+function(h){for(var u=s.selectedAtoms(b,h),p=0;p<h.length;p++)h[p]&&(h[p].capDrawn=!1);for(p=0;p<u.length;p++){f=!0;if(u[p].clickable||u[p].hoverable)u[p].intersectionShape={sphere:[],cylinder:[],line:[],triangle:[]};d||(u[p].style={});for(e in c)if(c.hasOwnProperty(e)){u[p].style[e]=u[p].style[e]||{};for(var y in c[e])u[p].style[e][y]=c[e][y]}}},s=this;h(n);for(var p=0;p<m.length;p++)h(m[p]);f&&(u=null)};this.setClickable=function(b,c,d){for(var e in b)-1===l.indexOf(e)&&console.log("Unknown selector "+
+e);c=!!c;if(d&&"function"!=typeof d)console.log("Callback is not a function");else{e=this.selectedAtoms(b,n);var f=e.length;for(b=0;b<f;b++)e[b].intersectionShape={sphere:[],cylinder:[],line:[],triangle:[]},e[b].clickable=c,d&&(e[b].callback=d);0<f&&(u=null)}};this.setHoverable=function(b,c,d,e){for(var f in b)-1===l.indexOf(f)&&console.log("Unknown selector "+f);c=!!c;if(d&&"function"!=typeof d)console.log("Hover_callback is not a function");else if(e&&"function"!=typeof e)console.log("Unhover_callback is not a function");
+else{f=this.selectedAtoms(b,n);var h=f.length;for(b=0;b<h;b++)f[b].intersectionShape={sphere:[],cylinder:[],line:[],triangle:[]},f[b].hoverable=c,d&&(f[b].hover_callback=d),e&&(f[b].unhover_callback=e);0<h&&(u=null)}};this.setColorByElement=function(b,c){var d;if(d=null!==u)d=s,d=c&&d?JSON.stringify(c)==JSON.stringify(d):c==d;if(!d){s=c;var e=this.selectedAtoms(b,e);0<e.length&&(u=null);for(d=0;d<e.length;d++){var f=e[d];"undefined"!==typeof c[f.elem]&&(f.color=c[f.elem])}}};this.setColorByProperty=
+function(b,c,d,e){var f,h=this.selectedAtoms(b,h);s=null;0<h.length&&(u=null);"undefined"!=typeof $3Dmol.Gradient.builtinGradients[d]&&(d=new $3Dmol.Gradient.builtinGradients[d]);e||(e=d.range());e||(e=$3Dmol.getPropertyRange(h,c));for(b=0;b<h.length;b++)f=h[b],null!=$3Dmol.getAtomProperty(f,c)&&(f.color=d.valueToHex(parseFloat(f.properties[c]),e))};this.setColorByFunction=function(b,c){var d=this.selectedAtoms(b,d);if("function"===typeof c)for(s=null,0<d.length&&(u=null),i=0;i<d.length;i++)a=d[i],
+a.color=c(a)};this.toCDObject=function(b){var c={a:[],b:[]};b&&(c.s=[]);for(var d=0;d<n.length;d++){var e={},f=n[d];e.x=f.x;e.y=f.y;e.z=f.z;"C"!=f.elem&&(e.l=f.elem);if(b){for(var h=0;h<c.s.length&&JSON.stringify(f.style)!==JSON.stringify(c.s[h]);)h++;h===c.s.length&&c.s.push(f.style);0!==h&&(e.s=h)}c.a.push(e);for(e=0;e<f.bonds.length;e++){var h=d,u=f.bonds[e];h>=u||(h={b:h,e:u},u=f.bondOrder[e],1!=u&&(h.o=u),c.b.push(h))}}return c};this.globj=function(b,c){if(null===u){var d=n,s=c,s=s||{},p=new $3Dmol.Object3D,
+m=[],g={},l={},q=t,w=null,F=null;s.supportsImposters?(q=I,w=new $3Dmol.Geometry(!0),w.imposter=!0,F=new $3Dmol.Geometry(!0,!0),F.imposter=!0,F.sphereGeometry=w,F.drawnCaps={}):(s.supportsAIA?(q=C,w=new $3Dmol.Geometry(!1,!0,!0),w.instanced=!0):w=new $3Dmol.Geometry(!0),F=new $3Dmol.Geometry(!0));var M,J,V,W,U={},D=[Number.POSITIVE_INFINITY,Number.NEGATIVE_INFINITY];M=0;for(V=d.length;M<V;M++){var Z=d[M];if(Z&&Z.style){(Z.clickable||Z.hoverable)&&void 0===Z.intersectionShape&&(Z.intersectionShape=
+{sphere:[],cylinder:[],line:[],triangle:[]});W={line:void 0,cross:void 0,stick:void 0,sphere:void 0};for(J in W)W[J]=Z.style[J]?Z.style[J].opacity?parseFloat(Z.style[J].opacity):1:void 0,U[J]?void 0!=W[J]&&U[J]!=W[J]&&(console.log("Warning: "+J+" opacity is ambiguous"),U[J]=1):U[J]=W[J];q(Z,w);var aa=Z,ga=l;if(aa.style.cross){var da=aa.style.cross;if(!da.hidden){var fa=da.linewidth||1;ga[fa]||(ga[fa]=new $3Dmol.Geometry);var ea=ga[fa].updateGeoGroup(6),ca=x(aa,da),Ea=[[ca,0,0],[-ca,0,0],[0,ca,0],
+[0,-ca,0],[0,0,ca],[0,0,-ca]],oa=aa.clickable||aa.hoverable;oa&&void 0===aa.intersectionShape&&(aa.intersectionShape={sphere:[],cylinder:[],line:[]});for(var na=$3Dmol.getColorFromStyle(aa,da),xa=ea.vertexArray,Ha=ea.colorArray,pa=0;6>pa;pa++){var La=3*ea.vertices;ea.vertices++;xa[La]=aa.x+Ea[pa][0];xa[La+1]=aa.y+Ea[pa][1];xa[La+2]=aa.z+Ea[pa][2];Ha[La]=na.r;Ha[La+1]=na.g;Ha[La+2]=na.b;if(oa){var Ma=new $3Dmol.Vector3(Ea[pa][0],Ea[pa][1],Ea[pa][2]);Ma.multiplyScalar(.1);Ma.set(Ma.x+aa.x,Ma.y+aa.y,
+Ma.z+aa.z);aa.intersectionShape.line.push(Ma)}}}}var ha=Z,ab=d,Za=g;if(ha.style.line){var Qa=ha.style.line;if(!Qa.hidden){var va=void 0,Ca=void 0,Ra=void 0,Na=void 0,bb=Qa.linewidth||1;Za[bb]||(Za[bb]=new $3Dmol.Geometry);for(var qa=Za[bb].updateGeoGroup(6*ha.bonds.length),ma=qa.vertexArray,ra=qa.colorArray,Sa=0;Sa<ha.bonds.length;Sa++){var Ta=ab[ha.bonds[Sa]];if(Ta.style.line&&!(ha.serial>=Ta.serial)){var Oa=new $3Dmol.Vector3(ha.x,ha.y,ha.z),cb=new $3Dmol.Vector3(Ta.x,Ta.y,Ta.z),fb=Oa.clone().add(cb).multiplyScalar(.5),
+Bb=!1;if(ha.clickable||ha.hoverable)void 0===ha.intersectionShape&&(ha.intersectionShape={sphere:[],cylinder:[],line:[],triangle:[]}),ha.intersectionShape.line.push(Oa),ha.intersectionShape.line.push(fb),Ta.intersectionShape.line.push(fb),Ta.intersectionShape.line.push(cb);var ya=$3Dmol.getColorFromStyle(ha,ha.style.line),Ua=$3Dmol.getColorFromStyle(Ta,Ta.style.line);if(ha.bondStyles&&ha.bondStyles[Sa]){var $a=ha.bondStyles[Sa];if(!$a.iswire)continue;$a.radius&&(bondR=$a.radius);$a.singleBond&&(Bb=
+!0);"undefined"!=typeof $a.color1&&(ya=$3Dmol.CC.color($a.color1));"undefined"!=typeof $a.color2&&(Ua=$3Dmol.CC.color($a.color2))}var sa=3*qa.vertices;if(1<ha.bondOrder[Sa]&&4>ha.bondOrder[Sa]&&!Bb){var gb=e(ha,Ta,Sa),Pa=cb.clone();Pa.sub(Oa);if(2==ha.bondOrder[Sa])if(gb.multiplyScalar(.1),va=Oa.clone(),va.add(gb),Ca=Oa.clone(),Ca.sub(gb),Ra=va.clone(),Ra.add(Pa),Na=Ca.clone(),Na.add(Pa),ya==Ua)qa.vertices+=4,H(ma,ra,sa,va,Ra,ya),H(ma,ra,sa+6,Ca,Na,ya);else{qa.vertices+=8;Pa.multiplyScalar(.5);var db=
+va.clone();db.add(Pa);var eb=Ca.clone();eb.add(Pa);H(ma,ra,sa,va,db,ya);H(ma,ra,sa+6,db,Ra,Ua);H(ma,ra,sa+12,Ca,eb,ya);H(ma,ra,sa+18,eb,Na,Ua)}else 3==ha.bondOrder[Sa]&&(gb.multiplyScalar(.1),va=Oa.clone(),va.add(gb),Ca=Oa.clone(),Ca.sub(gb),Ra=va.clone(),Ra.add(Pa),Na=Ca.clone(),Na.add(Pa),ya==Ua?(qa.vertices+=6,H(ma,ra,sa,Oa,cb,ya),H(ma,ra,sa+6,va,Ra,ya),H(ma,ra,sa+12,Ca,Na,ya)):(qa.vertices+=12,Pa.multiplyScalar(.5),db=va.clone(),db.add(Pa),eb=Ca.clone(),eb.add(Pa),H(ma,ra,sa,Oa,fb,ya),H(ma,ra,
+sa+6,fb,cb,Ua),H(ma,ra,sa+12,va,db,ya),H(ma,ra,sa+18,db,Ra,Ua),H(ma,ra,sa+24,Ca,eb,ya),H(ma,ra,sa+30,eb,Na,Ua)))}else ya==Ua?(qa.vertices+=2,H(ma,ra,sa,Oa,cb,ya)):(qa.vertices+=4,H(ma,ra,sa,Oa,fb,ya),H(ma,ra,sa+6,fb,cb,Ua))}}}}var ba=Z,Hb=d,ka=F;if(ba.style.stick){var ob=ba.style.stick;if(!ob.hidden){var jb=ob.radius||.25,Da=jb,Cb=ob.singleBonds||!1,kb=0,lb=0,ta=$3Dmol.getColorFromStyle(ba,ob),ua=void 0,Ia=void 0;!ba.capDrawn&&4>ba.bonds.length&&(kb=2);var la=$3Dmol.GLDraw.drawCylinder;ka.imposter&&
+(la=K);for(var wa=0;wa<ba.bonds.length;wa++){var ja=Hb[ba.bonds[wa]];if(ba.serial<ja.serial){var Db=ja.style;if(Db.stick){var Va=$3Dmol.getColorFromStyle(ja,Db.stick),Da=jb,mb=Cb;if(ba.bondStyles&&ba.bondStyles[wa]){var Ja=ba.bondStyles[wa];if(Ja.iswire)continue;Ja.radius&&(Da=Ja.radius);Ja.singleBond&&(mb=!0);"undefined"!=typeof Ja.color1&&(ta=$3Dmol.CC.color(Ja.color1));"undefined"!=typeof Ja.color2&&(Va=$3Dmol.CC.color(Ja.color2))}var za=new $3Dmol.Vector3(ba.x,ba.y,ba.z),Ka=new $3Dmol.Vector3(ja.x,
+ja.y,ja.z);if(1===ba.bondOrder[wa]||mb){if(!ja.capDrawn&&4>ja.bonds.length&&(lb=2),ta!=Va?(ua=(new $3Dmol.Vector3).addVectors(za,Ka).multiplyScalar(.5),la(ka,za,ua,Da,ta,kb,0),la(ka,ua,Ka,Da,Va,0,lb)):la(ka,za,Ka,Da,ta,kb,lb),ba.clickable||ja.clickable){ua=(new $3Dmol.Vector3).addVectors(za,Ka).multiplyScalar(.5);if(ba.clickable||ba.hoverable){var Ib=new $3Dmol.Cylinder(za,ua,Da),Jb=new $3Dmol.Sphere(za,Da);ba.intersectionShape.cylinder.push(Ib);ba.intersectionShape.sphere.push(Jb)}if(ja.clickable||
+ja.hoverable){var Kb=new $3Dmol.Cylinder(Ka,ua,Da),Lb=new $3Dmol.Sphere(Ka,Da);ja.intersectionShape.cylinder.push(Kb);ja.intersectionShape.sphere.push(Lb)}}}else if(1<ba.bondOrder[wa]){var Xa=0,Ya=0;Da!=jb&&(Ya=Xa=2);var hb=Ka.clone(),Wa=null;hb.sub(za);var ia,Aa,Ba,Fa,Ga,Wa=e(ba,ja,wa);if(2==ba.bondOrder[wa]){if(ia=Da/2.5,Wa=e(ba,ja,wa),Wa.multiplyScalar(1.5*ia),Aa=za.clone(),Aa.add(Wa),Ba=za.clone(),Ba.sub(Wa),Fa=Aa.clone(),Fa.add(hb),Ga=Ba.clone(),Ga.add(hb),ta!=Va?(ua=(new $3Dmol.Vector3).addVectors(Aa,
+Fa).multiplyScalar(.5),Ia=(new $3Dmol.Vector3).addVectors(Ba,Ga).multiplyScalar(.5),la(ka,Aa,ua,ia,ta,Xa,0),la(ka,ua,Fa,ia,Va,0,Ya),la(ka,Ba,Ia,ia,ta,Xa,0),la(ka,Ia,Ga,ia,Va,0,Ya)):(la(ka,Aa,Fa,ia,ta,Xa,Ya),la(ka,Ba,Ga,ia,ta,Xa,Ya)),ba.clickable||ja.clickable){ua=(new $3Dmol.Vector3).addVectors(Aa,Fa).multiplyScalar(.5);Ia=(new $3Dmol.Vector3).addVectors(Ba,Ga).multiplyScalar(.5);if(ba.clickable||ba.hoverable){var sb=new $3Dmol.Cylinder(Aa,ua,ia),tb=new $3Dmol.Cylinder(Ba,Ia,ia);ba.intersectionShape.cylinder.push(sb);
+ba.intersectionShape.cylinder.push(tb)}if(ja.clickable||ja.hoverable){var ub=new $3Dmol.Cylinder(Fa,ua,ia),vb=new $3Dmol.Cylinder(Ga,Ia,ia);ja.intersectionShape.cylinder.push(ub);ja.intersectionShape.cylinder.push(vb)}}}else if(3==ba.bondOrder[wa]&&(ia=Da/4,Wa.cross(hb),Wa.normalize(),Wa.multiplyScalar(3*ia),Aa=za.clone(),Aa.add(Wa),Ba=za.clone(),Ba.sub(Wa),Fa=Aa.clone(),Fa.add(hb),Ga=Ba.clone(),Ga.add(hb),ta!=Va?(ua=(new $3Dmol.Vector3).addVectors(Aa,Fa).multiplyScalar(.5),Ia=(new $3Dmol.Vector3).addVectors(Ba,
+Ga).multiplyScalar(.5),mp3=(new $3Dmol.Vector3).addVectors(za,Ka).multiplyScalar(.5),la(ka,Aa,ua,ia,ta,Xa,0),la(ka,ua,Fa,ia,Va,0,Ya),la(ka,za,mp3,ia,ta,kb,0),la(ka,mp3,Ka,ia,Va,0,lb),la(ka,Ba,Ia,ia,ta,Xa,0),la(ka,Ia,Ga,ia,Va,0,Ya)):(la(ka,Aa,Fa,ia,ta,Xa,Ya),la(ka,za,Ka,ia,ta,kb,lb),la(ka,Ba,Ga,ia,ta,Xa,Ya)),ba.clickable||ja.clickable)){ua=(new $3Dmol.Vector3).addVectors(Aa,Fa).multiplyScalar(.5);Ia=(new $3Dmol.Vector3).addVectors(Ba,Ga).multiplyScalar(.5);mp3=(new $3Dmol.Vector3).addVectors(za,Ka).multiplyScalar(.5);
+if(ba.clickable||ba.hoverable){var sb=new $3Dmol.Cylinder(Aa.clone(),ua.clone(),ia),tb=new $3Dmol.Cylinder(Ba.clone(),Ia.clone(),ia),Mb=new $3Dmol.Cylinder(za.clone(),mp3.clone(),ia);ba.intersectionShape.cylinder.push(sb);ba.intersectionShape.cylinder.push(tb);ba.intersectionShape.cylinder.push(Mb)}if(ja.clickable||ja.hoverable){var ub=new $3Dmol.Cylinder(Fa.clone(),ua.clone(),ia),vb=new $3Dmol.Cylinder(Ga.clone(),Ia.clone(),ia),Nb=new $3Dmol.Cylinder(Ka.clone(),mp3.clone(),ia);ja.intersectionShape.cylinder.push(ub);
+ja.intersectionShape.cylinder.push(vb);ja.intersectionShape.cylinder.push(Nb)}}}}}}for(var wb=!1,xb=0,Eb=!1,wa=0;wa<ba.bonds.length;wa++)mb=Cb,ba.bondStyles&&ba.bondStyles[wa]&&(Ja=ba.bondStyles[wa],Ja.singleBond&&(mb=!0),Ja.radius&&Ja.radius!=jb&&(Eb=!0)),(mb||1==ba.bondOrder[wa])&&xb++;Eb?0<xb&&(wb=!0):0==xb&&0<ba.bonds.length&&(wb=!0);wb&&(Da=jb,ka.imposter?z(ka.sphereGeometry,ba,Da,ta):$3Dmol.GLDraw.drawSphere(ka,ba,Da,ta))}}"undefined"===typeof Z.style.cartoon||Z.style.cartoon.hidden||("spectrum"!==
+Z.style.cartoon.color||"number"!==typeof Z.resi||Z.hetflag||(Z.resi<D[0]&&(D[0]=Z.resi),Z.resi>D[1]&&(D[1]=Z.resi)),m.push(Z))}}0<m.length&&$3Dmol.drawCartoon(p,m,D);if(w&&0<w.vertices){w.initTypedArrays();var ib=null;if(w.imposter)ib=new $3Dmol.SphereImposterMaterial({ambient:0,vertexColors:!0,reflectivity:0});else if(w.instanced){var nb=new $3Dmol.Geometry(!0);$3Dmol.GLDraw.drawSphere(nb,{x:0,y:0,z:0},1,new $3Dmol.Color(.5,.5,.5));nb.initTypedArrays();ib=new $3Dmol.InstancedMaterial({sphereMaterial:new $3Dmol.MeshLambertMaterial({ambient:0,
+vertexColors:!0,reflectivity:0}),sphere:nb})}else ib=new $3Dmol.MeshLambertMaterial({ambient:0,vertexColors:!0,reflectivity:0});1>U.sphere&&0<=U.sphere&&(ib.transparent=!0,ib.opacity=U.sphere);nb=new $3Dmol.Mesh(w,ib);p.add(nb)}if(0<F.vertices){if(F.imposter){var Ob=new $3Dmol.StickImposterMaterial({ambient:0,vertexColors:!0,reflectivity:0});F.initTypedArrays();var Fb=new $3Dmol.Mesh(F,Ob)}else{var pb=new $3Dmol.MeshLambertMaterial({vertexColors:!0,ambient:0,reflectivity:0});1>U.stick&&0<=U.stick&&
+(pb.transparent=!0,pb.opacity=U.stick);F.initTypedArrays();pb.wireframe&&F.setUpWireframe();Fb=new $3Dmol.Mesh(F,pb)}p.add(Fb)}for(M in g)if(g.hasOwnProperty(M)){var yb=M,zb=new $3Dmol.LineBasicMaterial({linewidth:yb,vertexColors:!0});1>U.line&&0<=U.line&&(zb.transparent=!0,zb.opacity=U.line);g[M].initTypedArrays();var Pb=new $3Dmol.Line(g[M],zb,$3Dmol.LinePieces);p.add(Pb)}for(M in l)if(l.hasOwnProperty(M)){var yb=M,Ab=new $3Dmol.LineBasicMaterial({linewidth:yb,vertexColors:!0});1>U.cross&&0<=U.cross&&
+(Ab.transparent=!0,Ab.opacity=U.cross);l[M].initTypedArrays();var Qb=new $3Dmol.Line(l[M],Ab,$3Dmol.LinePieces);p.add(Qb)}if(h&&f.symmetries&&0<f.symmetries.length){var Gb=new $3Dmol.Object3D,qb;for(qb=0;qb<f.symmetries.length;qb++){var rb=new $3Dmol.Object3D,rb=p.clone();rb.matrix.copy(f.symmetries[qb]);rb.matrixAutoUpdate=!1;Gb.add(rb)}u=Gb}else u=p;y&&(b.remove(y),y=null);y=u.clone();B&&(y.setVisible(!1),u.setVisible(!1));b.add(y)}};this.removegl=function(b){y&&(void 0!==y.geometry&&y.geometry.dispose(),
+void 0!==y.material&&y.material.dispose(),b.remove(y),y=null);u=null};this.hide=function(){B=!0;y&&y.setVisible(!1);u&&u.setVisible(!1)};this.show=function(){B=!1;y&&y.setVisible(!0);u&&u.setVisible(!0)};this.addResLabels=function(b,c,d){var e=this.selectedAtoms(b,e);b={};for(var f=0;f<e.length;f++){var h=e[f],u=h.chain,s=h.resn+""+h.resi;b[u]||(b[u]={});b[u][s]||(b[u][s]=[]);b[u][s].push(h)}d=$.extend(!0,{},d);for(u in b)if(b.hasOwnProperty(u)){var p=b[u];for(s in p)if(p.hasOwnProperty(s)){for(var e=
+p[s],y=new $3Dmol.Vector3(0,0,0),f=0;f<e.length;f++)h=e[f],y.x+=h.x,y.y+=h.y,y.z+=h.z;y.divideScalar(e.length);d.position=y;c.addLabel(s,d)}}};this.setCoordinates=function(c,d){d=d||"";if(!c)return[];if(/\.gz$/.test(d)){d=d.replace(/\.gz$/,"");try{c=pako.inflate(c,{to:"string"})}catch(e){console.log(e)}}if("mdcrd"==d||"inpcrd"==d||"pdb"==d){m=[];for(var f=n.length,h=b.parseCrd(c,d),u=0;u<h.length;){for(var s=[],p=0;p<f;p++){var y={},g;for(g in n[p])y[g]=n[p][g];s[p]=y;s[p].x=h[u++];s[p].y=h[u++];
+s[p].z=h[u++]}m.push(s)}n=m[0];return m}return[]};this.addAtomSpecs=function(b){for(var c=0;c<b.length;c++)-1==l.indexOf(b[c])&&l.push(b[c])}}var c={line:{}},d={H:1.2,Li:1.82,LI:1.82,Na:2.27,NA:2.27,K:2.75,C:1.7,N:1.55,O:1.52,F:1.47,P:1.8,S:1.8,CL:1.75,Cl:1.75,BR:1.85,Br:1.85,SE:1.9,Se:1.9,ZN:1.39,Zn:1.39,CU:1.4,Cu:1.4,NI:1.63,Ni:1.63},l="resn x y z color surfaceColor elem hetflag chain resi icode rescode serial atom bonds ss singleBonds bondOrder properties b pdbline clickable callback invert reflectivity altLoc".split(" ").concat("model bonds predicate invert byres expand within and or not".split(" ")),
+g="line cross stick sphere cartoon colorfunc".split(" ");b.parseCrd=function(b,c){var d=[],m=0;if("pdb"==c)for(var g=b.indexOf("\nATOM");-1!=g;){for(;"\nATOM"==b.slice(g,g+5)||"\nHETATM"==b.slice(g,g+7);)d[m++]=parseFloat(b.slice(g+31,g+39)),d[m++]=parseFloat(b.slice(g+39,g+47)),d[m++]=parseFloat(b.slice(g+47,g+55)),g=b.indexOf("\n",g+54),"\nTER"==b.slice(g,g+4)&&(g=b.indexOf("\n",g+5));g=b.indexOf("\nATOM",g)}else g=b.indexOf("\n"),"inpcrd"==c&&(g=b.indexOf("\n",g+1)),b=b.slice(g+1),d=b.match(/\S+/g).map(parseFloat);
+return d};b.parseMolData=function(b,c,d){c=c||"";if(!b)return[];if(/\.gz$/.test(c)){c=c.replace(/\.gz$/,"");try{b=pako.inflate(b,{to:"string"})}catch(g){console.log(g)}}"undefined"==typeof $3Dmol.Parsers[c]&&(c=c.split(".").pop(),"undefined"==typeof $3Dmol.Parsers[c]&&(console.log("Unknown format: "+c),c=b.match(/^@<TRIPOS>MOLECULE/gm)?"mol2":b.match(/^HETATM/gm)||b.match(/^ATOM/gm)?"pdb":b.match(/^.*\n.*\n.\s*(\d+)\s+(\d+)/gm)?"sdf":b.match(/^%VERSION\s+\VERSION_STAMP/gm)?"prmtop":"xyz",console.log("Best guess: "+
+c)));return(0,$3Dmol.Parsers[c])(b,d)};b.setAtomDefaults=function(b,d){for(var g=0;g<b.length;g++){var m=b[g];m&&(m.style=m.style||c,m.color=m.color||ElementColors[m.elem]||defaultColor,m.model=d,m.clickable||m.hoverable)&&(m.intersectionShape={sphere:[],cylinder:[],line:[],triangle:[]})}};return b}();
+$3Dmol.GLShape=function(){function b(b){b=b||{};$3Dmol.ShapeIDCount++;this.boundingSphere=new $3Dmol.Sphere;this.intersectionShape={sphere:[],cylinder:[],line:[],triangle:[]};l(this,b);var w=[],q=null,n=null,m=new $3Dmol.Geometry(!0),B=new $3Dmol.Geometry(!0);this.updateStyle=function(c){for(var d in c)b[d]=c[d];l(this,b)};this.addCustom=function(b){b.vertexArr=b.vertexArr||[];b.faceArr=b.faceArr||[];b.normalArr=b.normalArr||[];c(this,m,b)};this.addSphere=function(b){b.center=b.center||{x:0,y:0,z:0};
+b.radius=b.radius?$3Dmol.Math.clamp(b.radius,0,Infinity):1.5;b.color=$3Dmol.CC.color(b.color);this.intersectionShape.sphere.push(new $3Dmol.Sphere(b.center,b.radius));$3Dmol.GLDraw.drawSphere(m,b.center,b.radius,b.color);w.push({centroid:new $3Dmol.Vector3(b.center.x,b.center.y,b.center.z)});b=m.updateGeoGroup(0);d(this.boundingSphere,w,b.vertexArray)};this.addCylinder=function(b){b.start=b.start||{};b.end=b.end||{};var c=new $3Dmol.Vector3(b.start.x||0,b.start.y||0,b.start.z||0),s=new $3Dmol.Vector3(b.end.x,
+b.end.y||0,b.end.z||0);"undefined"==typeof s.x&&(s.x=3);var f=b.radius||.1,p=$3Dmol.CC.color(b.color);this.intersectionShape.cylinder.push(new $3Dmol.Cylinder(c,s,f));$3Dmol.GLDraw.drawCylinder(m,c,s,f,p,b.fromCap,b.toCap);b=new $3Dmol.Vector3;w.push({centroid:b.addVectors(c,s).multiplyScalar(.5)});c=m.updateGeoGroup(0);d(this.boundingSphere,w,c.vertexArray)};this.addDashedCylinder=function(b){console.log("addDashedCylinder");b.start=b.start||{};b.end=b.end||{};b.dashLength=b.dashLength||.25;b.gapLength=
+b.gapLength||.25;var c=new $3Dmol.Vector3(b.start.x||0,b.start.y||0,b.start.z||0),s=new $3Dmol.Vector3(b.end.x,b.end.y||0,b.end.z||0);"undefined"==typeof s.x&&(s.x=3);for(var f=b.radius||.1,p=$3Dmol.CC.color(b.color),h=Math.sqrt(Math.pow(c.x-s.x,2)+Math.pow(c.y-s.y,2)+Math.pow(c.z-s.z,2)),g=h/(b.gapLength+b.dashLength),n=new $3Dmol.Vector3(b.start.x||0,b.start.y||0,b.start.z||0),x=new $3Dmol.Vector3(b.end.x,b.end.y||0,b.end.z||0),e=new $3Dmol.Vector3((s.x-c.x)/(h/b.gapLength),(s.y-c.y)/(h/b.gapLength),
+(s.z-c.z)/(h/b.gapLength)),h=new $3Dmol.Vector3((s.x-c.x)/(h/b.dashLength),(s.y-c.y)/(h/b.dashLength),(s.z-c.z)/(h/b.dashLength)),l=0;l<g;l++)x=new $3Dmol.Vector3(n.x+h.x,n.y+h.y,n.z+h.z),this.intersectionShape.cylinder.push(new $3Dmol.Cylinder(n,x,f)),$3Dmol.GLDraw.drawCylinder(m,n,x,f,p,b.fromCap,b.toCap),n=new $3Dmol.Vector3(x.x+e.x,x.y+e.y,x.z+e.z);b=new $3Dmol.Vector3;w.push({centroid:b.addVectors(c,s).multiplyScalar(.5)});c=m.updateGeoGroup(0);d(this.boundingSphere,w,c.vertexArray)};this.addLine=
+function(b){b.start=b.start||{};b.end=b.end||{};var c=new $3Dmol.Vector3(b.start.x||0,b.start.y||0,b.start.z||0),d=new $3Dmol.Vector3(b.end.x,b.end.y||0,b.end.z||0);"undefined"==typeof d.x&&(d.x=3);b=m.updateGeoGroup(2);var f=b.vertices,p=3*f,h=b.vertexArray;h[p]=c.x;h[p+1]=c.y;h[p+2]=c.z;h[p+3]=d.x;h[p+4]=d.y;h[p+5]=d.z;b.vertices+=2;c=b.lineArray;d=b.lineidx;c[d]=f;c[d+1]=f+1;b.lineidx+=2};this.addArrow=function(b){b.start=b.start||{};b.end=b.end||{};b.start=new $3Dmol.Vector3(b.start.x||0,b.start.y||
+0,b.start.z||0);if(b.dir instanceof $3Dmol.Vector3&&b.length instanceof number){var c=b.dir.clone().multiplyScalar(b.length).add(start);b.end=c}else b.end=new $3Dmol.Vector3(b.end.x,b.end.y||0,b.end.z||0),"undefined"==typeof b.end.x&&(b.end.x=3);b.radius=b.radius||.1;b.radiusRatio=b.radiusRatio||1.618034;b.mid=0<b.mid&&1>b.mid?b.mid:.618034;var s=b.start,f=b.end,p=b.radius,h=b.radiusRatio,g=b.mid;if(s&&f){var c=m.updateGeoGroup(51),n=f.clone();n.sub(s).multiplyScalar(g);var x=s.clone().add(n),g=n.clone().negate();
+this.intersectionShape.cylinder.push(new $3Dmol.Cylinder(s.clone(),x.clone(),p));this.intersectionShape.sphere.push(new $3Dmol.Sphere(s.clone(),p));var e=[];e[0]=n.clone();1E-4<Math.abs(e[0].x)?e[0].y+=1:e[0].x+=1;e[0].cross(n);e[0].normalize();e[0]=e[0];e[4]=e[0].clone();e[4].crossVectors(e[0],n);e[4].normalize();e[8]=e[0].clone().negate();e[12]=e[4].clone().negate();e[2]=e[0].clone().add(e[4]).normalize();e[6]=e[4].clone().add(e[8]).normalize();e[10]=e[8].clone().add(e[12]).normalize();e[14]=e[12].clone().add(e[0]).normalize();
+e[1]=e[0].clone().add(e[2]).normalize();e[3]=e[2].clone().add(e[4]).normalize();e[5]=e[4].clone().add(e[6]).normalize();e[7]=e[6].clone().add(e[8]).normalize();e[9]=e[8].clone().add(e[10]).normalize();e[11]=e[10].clone().add(e[12]).normalize();e[13]=e[12].clone().add(e[14]).normalize();e[15]=e[14].clone().add(e[0]).normalize();var l=c.vertices,t=c.vertexArray,q=c.faceArray,z=c.normalArray,B=c.lineArray,K,J,A;J=0;for(A=e.length;J<A;++J){K=3*(l+3*J);var O=e[J].clone().multiplyScalar(p).add(s),E=e[J].clone().multiplyScalar(p).add(x),
+N=e[J].clone().multiplyScalar(p*h).add(x);t[K]=O.x;t[K+1]=O.y;t[K+2]=O.z;t[K+3]=E.x;t[K+4]=E.y;t[K+5]=E.z;t[K+6]=N.x;t[K+7]=N.y;t[K+8]=N.z;0<J&&(K=new $3Dmol.Vector3(t[K-3],t[K-2],t[K-1]),O=f.clone(),E=x.clone(),N=new $3Dmol.Vector3(N.x,N.y,N.z),this.intersectionShape.triangle.push(new $3Dmol.Triangle(N,O,K)),this.intersectionShape.triangle.push(new $3Dmol.Triangle(K.clone(),E,N.clone())))}c.vertices+=48;K=3*c.vertices;t[K]=s.x;t[K+1]=s.y;t[K+2]=s.z;t[K+3]=x.x;t[K+4]=x.y;t[K+5]=x.z;t[K+6]=f.x;t[K+
+7]=f.y;t[K+8]=f.z;c.vertices+=3;var L,Q,G,P,R,S,X,T,Y=c.vertices-3,V=c.vertices-2,W=c.vertices-1,U=3*Y,D=3*V,Z=3*W;J=0;for(A=e.length-1;J<A;++J)L=l+3*J,s=c.faceidx,f=c.lineidx,p=L,K=3*p,h=L+1,O=3*h,x=L+2,E=3*x,t=L+4,Q=3*t,N=L+5,G=3*N,L+=3,P=3*L,R=S=e[J],X=T=e[J+1],z[K]=R.x,z[O]=S.x,z[P]=T.x,z[K+1]=R.y,z[O+1]=S.y,z[P+1]=T.y,z[K+2]=R.z,z[O+2]=S.z,z[P+2]=T.z,z[O]=S.x,z[Q]=X.x,z[P]=T.x,z[O+1]=S.y,z[Q+1]=X.y,z[P+1]=T.y,z[O+2]=S.z,z[Q+2]=X.z,z[P+2]=T.z,z[E]=S.x,z[G]=X.x,z[E+1]=S.y,z[G+1]=X.y,z[E+2]=S.z,
+z[G+2]=X.z,q[s]=p,q[s+1]=h,q[s+2]=L,q[s+3]=h,q[s+4]=t,q[s+5]=L,q[s+6]=p,q[s+7]=L,q[s+8]=Y,q[s+9]=x,q[s+10]=V,q[s+11]=N,q[s+12]=x,q[s+13]=W,q[s+14]=N,B[f]=p,B[f+1]=h,B[f+2]=p,B[f+3]=L,B[f+4]=t,B[f+5]=L,B[f+6]=p,B[f+7]=L,B[f+8]=x,B[f+9]=h,B[f+10]=x,B[f+11]=N,B[f+12]=t,B[f+13]=N,B[f+14]=x,B[f+15]=W,B[f+16]=x,B[f+17]=N,B[f+18]=W,B[f+19]=N,c.faceidx+=15,c.lineidx+=20;l=[l+45,l+46,l+1,l,l+47,l+2];s=c.faceidx;f=c.lineidx;p=l[0];K=3*p;h=l[1];O=3*h;x=l[4];E=3*x;t=l[2];Q=3*t;N=l[5];G=3*N;L=l[3];P=3*L;R=S=e[15];
+X=T=e[0];z[K]=R.x;z[O]=S.x;z[P]=T.x;z[K+1]=R.y;z[O+1]=S.y;z[P+1]=T.y;z[K+2]=R.z;z[O+2]=S.z;z[P+2]=T.z;z[O]=S.x;z[Q]=X.x;z[P]=T.x;z[O+1]=S.y;z[Q+1]=X.y;z[P+1]=T.y;z[O+2]=S.z;z[Q+2]=X.z;z[P+2]=T.z;z[E]=S.x;z[G]=X.x;z[E+1]=S.y;z[G+1]=X.y;z[E+2]=S.z;z[G+2]=X.z;n.normalize();g.normalize();z[U]=g.x;z[D]=z[Z]=n.x;z[U+1]=g.y;z[D+1]=z[Z+1]=n.y;z[U+2]=g.z;z[D+2]=z[Z+2]=n.z;q[s]=p;q[s+1]=h;q[s+2]=L;q[s+3]=h;q[s+4]=t;q[s+5]=L;q[s+6]=p;q[s+7]=L;q[s+8]=Y;q[s+9]=x;q[s+10]=V;q[s+11]=N;q[s+12]=x;q[s+13]=W;q[s+14]=
+N;B[f]=p;B[f+1]=h;B[f+2]=p;B[f+3]=L;B[f+4]=t;B[f+5]=L;B[f+6]=p;B[f+7]=L;B[f+8]=x;B[f+9]=h;B[f+10]=x;B[f+11]=N;B[f+12]=t;B[f+13]=N;B[f+14]=x;B[f+15]=W;B[f+16]=x;B[f+17]=N;B[f+18]=W;B[f+19]=N;c.faceidx+=15;c.lineidx+=20}c=new $3Dmol.Vector3;w.push({centroid:c.addVectors(b.start,b.end).multiplyScalar(.5)});b=m.updateGeoGroup(0);d(this.boundingSphere,w,b.vertexArray)};this.addIsosurface=function(b,d,s){var f=void 0!==d.isoval&&"number"===typeof d.isoval?d.isoval:0,p=d.voxel?!0:!1,h=void 0===d.smoothness?
+1:d.smoothness,g=b.size.x,n=b.size.y,l=b.size.z,e=new Int16Array(g*n*l),q=b.data,t,w;t=0;for(w=e.length;t<w;++t)e[t]=-1;e=new Uint8Array(g*n*l);t=0;for(w=q.length;t<w;++t)0<(0<=f?q[t]-f:f-q[t])&&(e[t]|=2);f=[];q=[];$3Dmol.MarchingCube.march(e,f,q,{fulltable:!0,voxel:p,unitCube:b.unit,origin:b.origin,matrix:b.matrix,nX:g,nY:n,nZ:l});!p&&0<h&&$3Dmol.MarchingCube.laplacianSmooth(h,f,q);p=[];h=[];g=[];if(void 0!==d.selectedRegion){n=d.selectedRegion[0];l=d.selectedRegion[0];e=d.selectedRegion[0];w=d.selectedRegion[0];
+var B=d.selectedRegion[0],I=d.selectedRegion[0];for(t=0;t<d.selectedRegion.length;t++)d.selectedRegion[t].x>n.x?n=d.selectedRegion[t]:d.selectedRegion[t].x<w.x&&(w=d.selectedRegion[t]),d.selectedRegion[t].y>l.y?l=d.selectedRegion[t]:d.selectedRegion[t].y<B.y&&(B=d.selectedRegion[t]),d.selectedRegion[t].z>e.z?e=d.selectedRegion[t]:d.selectedRegion[t].z<I.z&&(I=d.selectedRegion[t]);t=d.radius;n.x+=t;w.x-=t;B.y-=t;l.y+=t;I.z-=t;e.z+=t;for(t=0;t<f.length;t++){var K;if(K=f[t].x>w.x&&f[t].x<n.x&&f[t].y>
+B.y&&f[t].y<l.y&&f[t].z>I.z&&f[t].z<e.z)a:{K=f[t];for(var J=d.selectedRegion,A=d.radius,O=0;O<J.length;O++){var E=J[O],N=K;if(Math.sqrt(Math.pow(E.x-N.x,2)+Math.pow(E.y-N.y,2)+Math.pow(E.z-N.z,2))<=A){K=!0;break a}}K=!1}K?(p.push(h.length),h.push(f[t])):p.push(-1)}for(t=0;t+2<q.length;t+=3)-1!==p[q[t]]&&-1!==p[q[t+1]]&&-1!==p[q[t+2]]&&(g.push(q[t]-(q[t]-p[q[t]])),g.push(q[t+1]-(q[t+1]-p[q[t+1]])),g.push(q[t+2]-(q[t+2]-p[q[t+2]])));f=h;q=g}c(this,m,{vertexArr:f,faceArr:q,normalArr:[],clickable:d.clickable,
+hoverable:d.hoverable});this.updateStyle(d);t=new $3Dmol.Vector3(b.origin.x,b.origin.y,b.origin.z);q=new $3Dmol.Vector3(b.size.x*b.unit.x,b.size.y*b.unit.y,b.size.z*b.unit.z);b=new $3Dmol.Vector3(0,0,0);d=t.clone();q=t.clone().add(q);for(t=0;t<f.length;t++)b.add(f[t]),d.max(f[t]),q.min(f[t]);b.divideScalar(f.length);t=b.distanceTo(q);f=b.distanceTo(d);this.boundingSphere.center=b;this.boundingSphere.radius=Math.max(t,f);"function"==typeof s&&s()};this.addVolumetricData=function(b,c,d){b=new $3Dmol.VolumeData(b,
+c);this.addIsosurface(b,d)};this.globj=function(b){n&&(b.remove(n),n=null);if(!this.hidden){var c=m.updateGeoGroup(0);0<c.vertices&&c.truncateArrayBuffers(!0,!0);m.initTypedArrays();if("undefined"!=typeof this.color){(c=this.color)||$3Dmol.CC.color(c);m.colorsNeedUpdate=!0;var d,f,p;c.constructor!==Array&&(d=c.r,f=c.g,p=c.b);for(var h in m.geometryGroups)for(var g=m.geometryGroups[h],l=g.colorArray,x=0,g=g.vertices;x<g;++x)c.constructor===Array&&(p=c[x],d=p.r,f=p.g,p=p.b),l[3*x]=d,l[3*x+1]=f,l[3*
+x+2]=p}q=new $3Dmol.Object3D;d=null;d=this.side==$3Dmol.DoubleSide?new $3Dmol.MeshDoubleLambertMaterial({wireframe:this.wireframe,side:this.side,transparent:1>this.opacity?!0:!1,opacity:this.opacity,wireframeLinewidth:this.linewidth}):new $3Dmol.MeshLambertMaterial({wireframe:this.wireframe,side:this.side,transparent:1>this.opacity?!0:!1,opacity:this.opacity,wireframeLinewidth:this.linewidth});d=new $3Dmol.Mesh(m,d);q.add(d);d=new $3Dmol.LineBasicMaterial({linewidth:this.linewidth,color:this.color});
+d=new $3Dmol.Line(B,d,$3Dmol.LinePieces);q.add(d);n=q.clone();b.add(n)}};this.removegl=function(b){n&&(void 0!==n.geometry&&n.geometry.dispose(),void 0!==n.material&&n.material.dispose(),b.remove(n),n=null);q=null}}var c=function(b,c,l){var n=l.faceArr;0!==l.vertexArr.length&&0!==n.length||console.warn("Error adding custom shape component: No vertices and/or face indices supplied!");n=l.color;"undefined"==typeof n&&(n=b.color);for(var n=$3Dmol.CC.color(n),m=$3Dmol.splitMesh(l),B=0,u=m.length;B<u;B++){var y=
+b,s=c,f=m[B],p=m[B].colorArr?m[B].colorArr:n,h=l.clickable,F=s.addGeoGroup(),M=f.vertexArr,x=f.normalArr,f=f.faceArr;F.vertices=M.length;F.faceidx=f.length;var e=void 0,H=void 0,t=void 0,C=void 0,z=H=void 0,I=void 0,K=F.vertexArray,t=F.colorArray;if(p.constructor!==Array)var J=p.r,A=p.g,C=p.b;z=0;for(I=F.vertices;z<I;++z)e=3*z,H=M[z],K[e]=H.x,K[e+1]=H.y,K[e+2]=H.z,p.constructor===Array&&(H=p[z],J=H.r,A=H.g,C=H.b),t[e]=J,t[e+1]=A,t[e+2]=C;if(h)for(z=0,I=F.faceidx/3;z<I;++z){var e=3*z,t=f[e],C=f[e+
+1],H=f[e+2],e=new $3Dmol.Vector3,p=new $3Dmol.Vector3,O=new $3Dmol.Vector3;y.intersectionShape.triangle.push(new $3Dmol.Triangle(e.copy(M[t]),p.copy(M[C]),O.copy(M[H])))}if(h){z=new $3Dmol.Vector3(0,0,0);for(A=I=0;A<s.geometryGroups.length;A++)z.add(s.geometryGroups[A].getCentroid()),I++;z.divideScalar(I);d(y.boundingSphere,{centroid:z},K)}F.faceArray=new Uint16Array(f);F.truncateArrayBuffers(!0,!0);if(x.length<F.vertices)F.setNormals();else for(y=F.normalArray=new Float32Array(3*F.vertices),s=void 0,
+z=0,I=F.vertices;z<I;++z)e=3*z,s=x[z],y[e]=s.x,y[e+1]=s.y,y[e+2]=s.z;F.setLineIndices();F.lineidx=F.lineArray.length}},d=function(b,c,d){b.center.set(0,0,0);var n,m;if(0<c.length){n=0;for(m=c.length;n<m;++n)b.center.add(c[n].centroid);b.center.divideScalar(c.length)}c=b.radius*b.radius;n=0;for(m=d.length/3;n<m;n++){var l=b.center.distanceToSquared({x:d[3*n],y:d[3*n+1],z:d[3*n+2]});c=Math.max(c,l)}b.radius=Math.sqrt(c)},l=function(b,c){"undefined"!=typeof c.color?(b.color=c.color||new $3Dmol.Color,
+c.color instanceof $3Dmol.Color||(b.color=$3Dmol.CC.color(c.color))):b.color=$3Dmol.CC.color(0);b.wireframe=c.wireframe?!0:!1;b.opacity=c.alpha?$3Dmol.Math.clamp(c.alpha,0,1):1;"undefined"!=typeof c.opacity&&(b.opacity=$3Dmol.Math.clamp(c.opacity,0,1));b.side=void 0!==c.side?c.side:$3Dmol.DoubleSide;b.linewidth="undefined"==typeof c.linewidth?1:c.linewidth;b.clickable=c.clickable?!0:!1;b.callback="function"===typeof c.callback?c.callback:null;b.hoverable=c.hoverable?!0:!1;b.hover_callback="function"===
+typeof c.hover_callback?c.hover_callback:null;b.unhover_callback="function"===typeof c.unhover_callback?c.unhover_callback:null;b.hidden=c.hidden};Object.defineProperty(b.prototype,"position",{get:function(){return this.boundingSphere.center}});Object.defineProperty(b.prototype,"x",{get:function(){return this.boundingSphere.center.x}});Object.defineProperty(b.prototype,"y",{get:function(){return this.boundingSphere.center.y}});Object.defineProperty(b.prototype,"z",{get:function(){return this.boundingSphere.center.z}});
+return b}();$3Dmol.ShapeIDCount=0;
+$3Dmol.splitMesh=function(b){if(64E3>b.vertexArr.length)return[b];var c=[{vertexArr:[],normalArr:[],faceArr:[]}];b.colorArr&&(c.colorArr=[]);for(var d=[],l=[],g=0,w=b.faceArr,q=0,n=w.length;q<n;q+=3){for(var m=c[g],B=0;3>B;B++){var u=w[q+B];d[u]!==g&&(d[u]=g,l[u]=m.vertexArr.length,m.vertexArr.push(b.vertexArr[u]),b.normalArr&&b.normalArr[u]&&m.normalArr.push(b.normalArr[u]),b.colorArr&&b.colorArr[u]&&m.colorArr.push(b.colorArr[u]));m.faceArr.push(l[u])}64E3<=m.vertexArr.length&&(c.push({vertexArr:[],
+normalArr:[],faceArr:[]}),b.colorArr&&(c.colorArr=[]),g++)}return c};
+$3Dmol.GLViewer=function(){return function(b,c){function d(b){var c=[];"undefined"===typeof b&&(b={});var d=[],e;if("undefined"===typeof b.model)for(e=0;e<f.length;e++)f[e]&&d.push(f[e]);else d=b.model,$.isArray(d)||(d=[d]);for(e=0;e<d.length;e++)c=c.concat(d[e].selectedAtoms(b));return c}function l(b,c,d,e,h){var p=[];if("undefined"===typeof c.model)for(s=0;s<f.length;s++)f[s]&&p.push(f[s]);else p=c.model,$.isArray(p)||(p=[p]);for(var s=0;s<p.length;s++)if(p[s])if("number"===typeof p[s])f[p[s]][b](c,
+d,e,h);else p[s][b](c,d,e,h)}function g(b){var c=new $3Dmol.MeshLambertMaterial;c.vertexColors=$3Dmol.VertexColors;for(var d in b)"color"!==d&&"map"!==d&&b.hasOwnProperty(d)&&(c[d]=b[d]);void 0!==b.opacity&&(c.transparent=1===b.opacity?!1:!0);return c}c=c||{};var w=c.callback,q=c.defaultcolors;q||(q=$3Dmol.elementColors.defaultColors);var n=c.nomouse,m=0;c.backgroundColor=c.backgroundColor||"#ffffff";void 0!=typeof c.backgroundColor&&(m=$3Dmol.CC.color(c.backgroundColor).getHex());var B=0;void 0!=
+typeof c.camerax&&(B=parseFloat(c.camerax));var u=this,y=b,s=null,f=[],p={},h=[],F=[],M=[],x=[],e=[],H=null,t=500;void 0!=typeof c.hoverDuration&&(t=c.hoverDuration);var C=y.width(),z=y.height(),I=C/z,K=[],J=new $3Dmol.Renderer({antialias:!0,preserveDrawingBuffer:!0,premultipliedAlpha:!1,id:c.id});J.domElement.style.width="100%";J.domElement.style.height="100%";J.domElement.style.padding="0";J.domElement.style.position="absolute";J.domElement.style.top="0px";J.domElement.style.left="0px";J.domElement.style.zIndex=
+"0";var A=new $3Dmol.Camera(20,I,1,800,c.orthographic);A.position=new $3Dmol.Vector3(B,0,150);var O=new $3Dmol.Vector3;A.lookAt(O);var E=new $3Dmol.Raycaster(new $3Dmol.Vector3(0,0,0),new $3Dmol.Vector3(0,0,0)),N=new $3Dmol.Projector,L=new $3Dmol.Vector3(0,0,0),Q=null,G=null,P=null,R=-50,S=50,X=new $3Dmol.Quaternion(0,0,0,1),T=new $3Dmol.Quaternion(0,0,0,1),Y=!1,V=!1,W=0,U=0,D=0,Z=0,aa=0,ga=0,da=0,fa=function(){var b=0,c;for(c in p)p.hasOwnProperty(c)&&c>b&&(b=c);return b+1},ea=function(){var b=A.position.z-
+G.position.z;1>b&&(b=1);A.near=b+R;1>A.near&&(A.near=1);A.far=b+S;A.near+1>A.far&&(A.far=A.near+1);A.fov=20;A.right=b*Math.tan(Math.PI/180*20);A.left=-A.right;A.top=A.right/I;A.bottom=-A.top;A.updateProjectionMatrix();Q.fog.near=A.near+.4*(A.far-A.near);Q.fog.far=A.far;c.disableFog&&(Q.fog.near=Q.fog.far)},ca=function(b){if(Q&&(ea(),J.render(Q,A),!b&&0<K.length)){b=u.getView();for(var c=0;c<K.length;c++)K[c].setView(b,!0)}};(function(){Q=new $3Dmol.Scene;Q.fog=new $3Dmol.Fog(m,100,200);P=new $3Dmol.Object3D;
+G=new $3Dmol.Object3D;G.useQuaternion=!0;G.quaternion=new $3Dmol.Quaternion(0,0,0,1);G.add(P);Q.add(G);var b=new $3Dmol.Light(16777215);b.position=(new $3Dmol.Vector3(.2,.2,1)).normalize();b.intensity=1;Q.add(b)})();J.setClearColorHex(m,1);Q.fog.color=$3Dmol.CC.color(m);var Ea=function(b,c,d){L.set(b,c,-1);N.unprojectVector(L,A);L.sub(A.position).normalize();E.set(A.position,L);b=[];b=E.intersectObjects(P,e);void 0===b[0]&&(H.unhover_callback(H,u,d,y),H=null);void 0!==b[0]&&b[0].clickable!==H&&(H.unhover_callback(H,
+u,d,y),H=null)},oa=function(b){var c=b.originalEvent.targetTouches[0].pageX-b.originalEvent.targetTouches[1].pageX;b=b.originalEvent.targetTouches[0].pageY-b.originalEvent.targetTouches[1].pageY;return Math.sqrt(c*c+b*b)},na=function(b){var c=b.pageX,d=b.pageY;b.originalEvent.targetTouches&&b.originalEvent.targetTouches[0]?(c=b.originalEvent.targetTouches[0].pageX,d=b.originalEvent.targetTouches[0].pageY):b.originalEvent.changedTouches&&b.originalEvent.changedTouches[0]&&(c=b.originalEvent.changedTouches[0].pageX,
+d=b.originalEvent.changedTouches[0].pageY);return[c,d]},xa=function(b,c){var d=b/C,e=c/z,f=G.quaternion,h=new $3Dmol.Vector3(0,0,G.position.z);N.projectVector(h,A);h.x+=2*d;h.y-=2*e;N.unprojectVector(h,A);h.z=0;h.applyQuaternion(f);return h};$("body").bind("mouseup touchend",function(b){if(V&&Q){var c=na(b),d=c[0],c=c[1];if(d==W&&c==U){var e=$("canvas",y).offset(),d=(d-e.left)/C*2-1,c=2*-((c-e.top)/z)+1;0!=x.length&&(L.set(d,c,-1),N.unprojectVector(L,A),L.sub(A.position).normalize(),E.set(A.position,
+L),d=[],d=E.intersectObjects(P,x),d.length&&(d=d[0].clickable,void 0!==d.callback&&"function"===typeof d.callback&&d.callback(d,u,b,y)))}}V=!1});var Ha,pa=this._handleMouseDown=function(b){b.preventDefault();if(Q){var c=na(b),d=c[0],c=c[1];void 0!==d&&(V=!0,Ha=b.which,W=d,U=c,D=0,b.originalEvent.targetTouches&&2==b.originalEvent.targetTouches.length&&(D=oa(b)),X=G.quaternion,aa=G.position.z,Z=P.position.clone(),ga=R,da=S)}},La=this._handleMouseScroll=function(b){b.preventDefault();if(Q){var c=.85*
+(150-G.position.z),d=1;b.originalEvent.ctrlKey&&(d=-1);b.originalEvent.detail?G.position.z+=d*c*b.originalEvent.detail/10:b.originalEvent.wheelDelta&&(G.position.z-=d*c*b.originalEvent.wheelDelta/400);150<G.position.z&&(G.position.z=149.85);ca()}};this.pngURI=function(){return $("canvas",y)[0].toDataURL("image/png")};this.setHoverDuration=function(b){t=b};var Ma,ha=this._handleMouseMove=function(b){clearTimeout(Ma);var c=$("canvas",y).offset(),d=(na(b)[0]-c.left)/C*2-1,f=2*-((na(b)[1]-c.top)/z)+1;
+null!==H&&Ea(d,f,b);Ma=setTimeout(function(){if(0!=e.length){L.set(d,f,-1);N.unprojectVector(L,A);L.sub(A.position).normalize();E.set(A.position,L);var c=[],c=E.intersectObjects(P,e);c.length?(H=c=c[0].clickable,void 0!==c.hover_callback&&"function"===typeof c.hover_callback&&c.hover_callback(c,u,b,y)):H=null}},t);C=y.width();z=y.height();b.preventDefault();if(Q&&V){var c=0,h=na(b),p=h[0],s=h[1];if(void 0!==p){var h=(p-W)/C,g=(s-U)/z;0!=D&&b.originalEvent.targetTouches&&2==b.originalEvent.targetTouches.length?
+(g=oa(b),c=2,g=2*(g-D)/(C+z),console.log("pinch "+D+" dy "+g)):b.originalEvent.targetTouches&&3==b.originalEvent.targetTouches.length&&(c=1);var m=Math.sqrt(h*h+g*g);3==c||3==Ha&&b.ctrlKey?(R=ga+100*h,S=da+100*g):2==c||3==Ha||b.shiftKey?(c=.85*(150-G.position.z),80>c&&(c=80),G.position.z=aa+g*c,150<G.position.z&&(G.position.z=149.85)):1==c||2==Ha||b.ctrlKey?(c=xa(p-W,s-U),P.position.addVectors(Z,c)):0!==c&&1!=Ha||0===m||(c=Math.sin(m*Math.PI)/m,T.x=Math.cos(m*Math.PI),T.y=0,T.z=c*h,T.w=-c*g,G.quaternion=
+new $3Dmol.Quaternion(1,0,0,0),G.quaternion.multiply(T),G.quaternion.multiply(X));ca()}}},ab=function(b){y=b;C=y.width();z=y.height();I=C/z;J.setSize(C,z);y.append(J.domElement);s=$(J.domElement);n||(s.bind("mousedown touchstart",pa),s.bind("DOMMouseScroll mousewheel",La),s.bind("mousemove touchmove",ha),s.bind("contextmenu",function(b){b.preventDefault()}))};ab(y);this.setContainer=function(b){"string"===$.type(b)&&(b=$("#"+b));b||(b=y);ab(b);return this};this.setBackgroundColor=function(b,c){if("undefined"==
+typeof c)c=1;else if(0>c||1<c)c=1;var d=$3Dmol.CC.color(b);Q.fog.color=d;m=d.getHex();J.setClearColorHex(d.getHex(),c);ca();return this};this.setProjection=function(b){A.ortho="orthographic"===b;ea()};this.setViewStyle=function(b){if("outline"===b.style){var c={};b.color&&(c.color=$3Dmol.CC.color(b.color));b.width&&(c.width=b.width);J.enableOutline(c)}else J.disableOutline();return this};c.style&&this.setViewStyle(c);this.setWidth=function(b){C=b||C;J.setSize(C,z);return this};this.setHeight=function(b){z=
+b||z;J.setSize(C,z);return this};this.resize=function(){C=y.width();z=y.height();I=C/z;J.setSize(C,z);A.aspect=I;A.updateProjectionMatrix();ca();return this};$(window).resize(this.resize);this.getModel=function(b){return b in f?f[b]:0==f.length?null:f[f.length-1]};this.rotate=function(b,c,d,e){d=void 0!==d?d:0;"undefined"===typeof c&&(c="y");var f=Math.PI*b/180;b=Math.sin(f/2);var f=Math.cos(f/2),h=0,p=0,s=0;"x"==c&&(h=b);"y"==c&&(p=b);"z"==c&&(s=b);c=(new $3Dmol.Quaternion(h,p,s,f)).normalize();
+d?(c=(new $3Dmol.Quaternion).copy(G.quaternion).multiply(c),Qa(d,e,P.position,G.position.z,c,O)):(G.quaternion.multiply(c),ca());return this};this.surfacesFinished=function(){for(var b in p)if(!p[b][0].done)return!1;return!0};this.getView=function(){if(!P)return[0,0,0,0,0,0,0,1];var b=P.position,c=G.quaternion;return[b.x,b.y,b.z,G.position.z,c.x,c.y,c.z,c.w]};this.setView=function(b,c){if(void 0===b||!(b instanceof Array||8!==b.length)||!P||!G)return this;P.position.x=b[0];P.position.y=b[1];P.position.z=
+b[2];G.position.z=b[3];G.quaternion.x=b[4];G.quaternion.y=b[5];G.quaternion.z=b[6];G.quaternion.w=b[7];"undefined"!=typeof b[8]&&(G.position.x=b[8],G.position.y=b[9]);ca(c);return this};this.render=function(b){x.splice(0,x.length);e.splice(0,e.length);var c,d;c=0;for(d=f.length;c<d;c++){var s=f[c];if(s){var g=s.selectedAtoms({clickable:!0}),s=s.selectedAtoms({hoverable:!0});Array.prototype.push.apply(e,s);Array.prototype.push.apply(x,g)}}c=0;for(d=h.length;c<d;c++)(g=h[c])&&g.clickable&&x.push(g),
+g&&g.hoverable&&e.push(g);c=this.getView();g=J.supportedExtensions();for(d=0;d<f.length;d++)f[d]&&f[d].globj(P,g);for(d=0;d<h.length;d++)h[d]&&h[d].globj(P,g);for(d in p)if(p.hasOwnProperty(d))for(s=p[d],g=0;g<s.length;g++)if(s.hasOwnProperty(g)){var m=s[g].geo;if(!s[g].finished){m.verticesNeedUpdate=!0;m.elementsNeedUpdate=!0;m.normalsNeedUpdate=!0;m.colorsNeedUpdate=!0;m.buffersNeedUpdate=!0;m.boundingSphere=null;s[g].done&&(s[g].finished=!0);s[g].lastGL&&P.remove(s[g].lastGL);var n=null,n=s[g].mat instanceof
+$3Dmol.LineBasicMaterial?new $3Dmol.Line(m,s[g].mat):new $3Dmol.Mesh(m,s[g].mat);n.visible=s[g].mat.transparent&&0==s[g].mat.opacity?!1:!0;if(1<s[g].symmetries.length||1==s[g].symmetries.length&&!s[g].symmetries[g].isIdentity()){for(var l=new $3Dmol.Object3D,m=0;m<s[g].symmetries.length;m++){var u=n.clone();u.matrix=s[g].symmetries[m];u.matrixAutoUpdate=!1;l.add(u)}s[g].lastGL=l;P.add(l)}else s[g].lastGL=n,P.add(n)}}this.setView(c);"function"===typeof b&&b();return this};this.autoload=function(b,
+c){$3Dmol.autoload(b,c)};this.selectedAtoms=function(b){return d(b)};this.pdbData=function(b){b=d(b);for(var c="",e=0,f=b.length;e<f;++e)c+=b[e].pdbline+"\n";return c};var Za=function(b,c,d){if(1==d)return c;if(0==d)return b;var e=b.x*c.x+b.y*c.y+b.z*c.z+b.w*c.w;if(.9995<e)return b=new $3Dmol.Quaternion(b.x+d*(c.x-b.x),b.y+d*(c.y-b.y),b.z+d*(c.z-b.z),b.w+d*(c.w-b.w)),b.normalize(),b;0>e&&(c=c.clone().multiplyScalar(-1),e=-e);1<e?e=1:-1>e&&(e=-1);d*=Math.acos(e);c=c.clone();c.sub(b.clone().multiplyScalar(e));
+c.normalize();e=Math.cos(d);d=Math.sin(d);b=new $3Dmol.Quaternion(b.x*e+c.x*d,b.y*e+c.y*d,b.z*e+c.z*d,b.w*e+c.w*d);b.normalize();return b},Qa=function(b,c,d,e,f,h){var s=Math.ceil(b/20);1>s&&(s=1);b=P.position.clone();var p=G.position.z,g=G.quaternion.clone(),m=O.clone();if(c){s=Array(s);c=s.length;for(var n=0;n<c;n++){var l=(n+1)/c,u={mpos:b,rz:p,rot:g};d&&(u.mpos=d.clone().sub(b).multiplyScalar(l).add(b));"undefined"!=typeof e&&null!=e&&(u.rz=p+l*(e-p));f&&(u.rot=Za(g,f,l));h&&(u.cam=h.clone().sub(m).multiplyScalar(l).add(m));
+s[n]=u}var t=0,y=function(){var b=s[t];t+=1;b.mpos&&(P.position=b.mpos);b.rz&&(G.position.z=b.rz);b.rot&&(G.quaternion=b.rot);b.cam&&A.lookAt(b.cam);t<s.length&&setTimeout(y,20);ca()}}else{var x,q,F,w,l=1/s;d&&(x=d.clone().sub(b).multiplyScalar(l));"undefined"!=typeof e&&null!=e&&(q=l*(e-p));f&&(u=Za(g,f,l),F=g.clone().inverse().multiply(u));h&&(w=h.clone().sub(m).multiplyScalar(l));t=0;y=function(){t+=1;x&&P.position.add(x);q&&(G.position.z+=q);F&&G.quaternion.multiply(F);w&&(O.add(w),A.lookAt(O));
+t<s&&setTimeout(y,20);ca()}}setTimeout(y,20)};this.zoom=function(b,c,d){c=void 0!==c?c:0;b=150-(150-G.position.z)/(b||2);0<c?Qa(c,d,P.position,b,G.quaternion,O):(G.position.z=b,ca());return this};this.translate=function(b,c,d,e){d=void 0!==d?d:0;b/=C;c/=z;var f=new $3Dmol.Vector3(0,0,-150);N.projectVector(f,A);f.x-=b;f.y-=c;N.unprojectVector(f,A);f.z=0;b=O.clone().add(f);0<d?Qa(d,e,P.position,G.position.z,G.quaternion,b):(O=b,A.lookAt(O),ca());return this};this.fitSlab=function(b){b=b||{};b=d(b);
+var c=$3Dmol.getExtent(b);b=c[1][0]-c[0][0];var e=c[1][1]-c[0][1],c=c[1][2]-c[0][2];b=Math.sqrt(b*b+e*e+c*c);5>b&&(b=5);R=-b/1.9;S=b/2;return this};this.center=function(b,c,e){c=void 0!==c?c:0;var f;b=b||{};var s=d(b),p=$3Dmol.getExtent(s);$.isEmptyObject(b)?($.each(h,function(b,c){if(c&&c.boundingSphere&&c.boundingSphere.center){var d=c.boundingSphere.center,e=c.boundingSphere.radius;0<e?(s.push(new $3Dmol.Vector3(d.x+e,d.y,d.z)),s.push(new $3Dmol.Vector3(d.x-e,d.y,d.z)),s.push(new $3Dmol.Vector3(d.x,
+d.y+e,d.z)),s.push(new $3Dmol.Vector3(d.x,d.y-e,d.z)),s.push(new $3Dmol.Vector3(d.x,d.y,d.z+e)),s.push(new $3Dmol.Vector3(d.x,d.y,d.z-e))):s.push(d)}}),p=$3Dmol.getExtent(s),b=s,f=p):(b=d({}),f=$3Dmol.getExtent(b));b=new $3Dmol.Vector3(p[2][0],p[2][1],p[2][2]);var g=f[1][0]-f[0][0],m=f[1][1]-f[0][1];f=f[1][2]-f[0][2];g=Math.sqrt(g*g+m*m+f*f);5>g&&(g=5);R=-g/1.9;S=g/2;g=p[1][0]-p[0][0];m=p[1][1]-p[0][1];f=p[1][2]-p[0][2];g=Math.sqrt(g*g+m*m+f*f);5>g&&(g=5);p=25;for(g=0;g<s.length;g++)s[g]&&(m=b.distanceToSquared(s[g]),
+m>p&&(p=m));g=2*Math.sqrt(p);b=b.clone().multiplyScalar(-1);0<c?Qa(c,e,b,G.position.z,G.quaternion,O):(P.position=b,ca());return this};this.zoomTo=function(b,c,e){c=void 0!==c?c:0;var f;b=b||{};var s=d(b),p=$3Dmol.getExtent(s);$.isEmptyObject(b)?($.each(h,function(b,c){if(c&&c.boundingSphere&&c.boundingSphere.center){var d=c.boundingSphere.center,e=c.boundingSphere.radius;0<e?(s.push(new $3Dmol.Vector3(d.x+e,d.y,d.z)),s.push(new $3Dmol.Vector3(d.x-e,d.y,d.z)),s.push(new $3Dmol.Vector3(d.x,d.y+e,d.z)),
+s.push(new $3Dmol.Vector3(d.x,d.y-e,d.z)),s.push(new $3Dmol.Vector3(d.x,d.y,d.z+e)),s.push(new $3Dmol.Vector3(d.x,d.y,d.z-e))):s.push(d)}}),p=$3Dmol.getExtent(s),b=s,f=p):(b=d({}),f=$3Dmol.getExtent(b));b=new $3Dmol.Vector3(p[2][0],p[2][1],p[2][2]);var g=f[1][0]-f[0][0],m=f[1][1]-f[0][1];f=f[1][2]-f[0][2];g=Math.sqrt(g*g+m*m+f*f);5>g&&(g=5);R=-g/1.9;S=g/2;g=p[1][0]-p[0][0];m=p[1][1]-p[0][1];f=p[1][2]-p[0][2];g=Math.sqrt(g*g+m*m+f*f);5>g&&(g=5);p=25;for(g=0;g<s.length;g++)s[g]&&(m=b.distanceToSquared(s[g]),
+m>p&&(p=m));g=2*Math.sqrt(p);b=b.clone().multiplyScalar(-1);p=-(.5*g/Math.tan(Math.PI/180*A.fov/2)-150);0<c?Qa(c,e,b,p,G.quaternion,O):(P.position=b,G.position.z=p,ca());return this};this.setSlab=function(b,c){R=b;S=c};this.getSlab=function(b){return{near:R,far:S}};this.addLabel=function(b,c,e){c=c||{};e&&(e=$3Dmol.getExtent(d(e)),c.position={x:e[2][0],y:e[2][1],z:e[2][2]});b=new $3Dmol.Label(b,c);b.setContext();P.add(b.sprite);c.fixed&&M.push(F.length);F.push(b);ca();return b};this.addResLabels=
+function(b,c){l("addResLabels",b,this,c);return this};this.removeLabel=function(b){for(var c=0;c<F.length;c++)if(F[c]==b){F.splice(c,1);b.dispose();P.remove(b.sprite);break}return this};this.removeAllLabels=function(){for(var b=0;b<F.length;b++)P.remove(F[b].sprite);F.splice(0,F.length);return this};this.setLabelStyle=function(b,c){P.remove(b.sprite);b.dispose();b.stylespec=c;b.setContext();P.add(b.sprite);ca();return b};this.setLabelText=function(b,c){P.remove(b.sprite);b.dispose();b.text=c;b.setContext();
+P.add(b.sprite);ca();return b};this.addShape=function(b){b=b||{};b=new $3Dmol.GLShape(b);b.shapePosition=h.length;h.push(b);return b};this.removeShape=function(b){if(!b)return this;b.removegl(P);for(delete h[b.shapePosition];0<h.length&&"undefined"===typeof h[h.length-1];)h.pop();return this};this.removeAllShapes=function(){for(var b=0;b<h.length;b++)h[b].removegl(P);h.splice(0,h.length);return this};this.addSphere=function(b){b=b||{};var c=new $3Dmol.GLShape(b);c.shapePosition=h.length;c.addSphere(b);
+h.push(c);return c};this.addArrow=function(b){b=b||{};var c=new $3Dmol.GLShape(b);c.shapePosition=h.length;c.addArrow(b);h.push(c);return c};this.addCylinder=function(b){b=b||{};var c=new $3Dmol.GLShape(b);c.shapePosition=h.length;b.dashed?c.addDashedCylinder(b):c.addCylinder(b);h.push(c);return c};this.addLine=function(b){b=b||{};b.wireframe=!0;var c=new $3Dmol.GLShape(b);c.shapePosition=h.length;if(b.dashed){b.dashLength=b.dashLength||.5;b.gapLength=b.gapLength||.5;b.start=b.start||{};b.end=b.end||
+{};var d=new $3Dmol.Vector3(b.start.x||0,b.start.y||0,b.start.z||0),e=new $3Dmol.Vector3(b.end.x,b.end.y||0,b.end.z||0),f=new $3Dmol.Vector3,s=new $3Dmol.Vector3,p=new $3Dmol.Vector3,g,m,n=d.clone(),l=0;f.subVectors(e,d);g=f.length();f.normalize();s=f.clone();p=f.clone();s.multiplyScalar(b.dashLength);p.multiplyScalar(b.gapLength);f=s.length();for(m=p.length();l<g;){if(l+f>g){b.start=d;b.end=e;c.addLine(b);break}n.addVectors(d,s);b.start=d;b.end=n;c.addLine(b);d=n.clone();l+=f;n.addVectors(d,p);d=
+n.clone();l+=m}}else c.addLine(b);h.push(c);return c};this.addUnitCell=function(b){var c=new $3Dmol.GLShape({wireframe:!0});c.shapePosition=h.length;var d=b.getCrystData();if(d){if(d.matrix)b=d.matrix;else{b=d.a;var e=d.b,f=d.c,s=d.alpha,p=d.beta,d=d.gamma,s=s*Math.PI/180,p=p*Math.PI/180,d=d*Math.PI/180,g;g=Math.cos(p);s=(Math.cos(s)-Math.cos(p)*Math.cos(d))/Math.sin(d);p=Math.sqrt(Math.max(0,1-g*g-s*s));b=new $3Dmol.Matrix4(b,e*Math.cos(d),f*g,0,0,e*Math.sin(d),f*s,0,0,0,f*p,0,0,0,0,1)}e=[new $3Dmol.Vector3(0,
+0,0),new $3Dmol.Vector3(1,0,0),new $3Dmol.Vector3(0,1,0),new $3Dmol.Vector3(0,0,1),new $3Dmol.Vector3(1,1,0),new $3Dmol.Vector3(0,1,1),new $3Dmol.Vector3(1,0,1),new $3Dmol.Vector3(1,1,1)];for(f=0;f<e.length;f++)e[f]=e[f].applyMatrix4(b);c.addLine({start:e[0],end:e[1]});c.addLine({start:e[0],end:e[2]});c.addLine({start:e[1],end:e[4]});c.addLine({start:e[2],end:e[4]});c.addLine({start:e[0],end:e[3]});c.addLine({start:e[3],end:e[5]});c.addLine({start:e[2],end:e[5]});c.addLine({start:e[1],end:e[6]});
+c.addLine({start:e[4],end:e[7]});c.addLine({start:e[6],end:e[7]});c.addLine({start:e[3],end:e[6]});c.addLine({start:e[5],end:e[7]})}h.push(c);return c};this.addCustom=function(b){b=b||{};var c=new $3Dmol.GLShape(b);c.shapePosition=h.length;c.addCustom(b);h.push(c);return c};this.addVolumetricData=function(b,c,d){d=d||{};var e=new $3Dmol.GLShape(d);e.shapePosition=h.length;e.addVolumetricData(b,c,d);h.push(e);return e};this.addIsosurface=function(b,c,d){c=c||{};var e=new $3Dmol.GLShape(c);e.shapePosition=
+h.length;e.addIsosurface(b,c,d);h.push(e);return e};this.enableFog=function(b){b?Q.fog=new $3Dmol.Fog(m,100,200):(c.disableFog=!0,ca())};this.setFrame=function(b){for(var c=0;c<f.length;c++)f[c].setFrame(b);return this};this.getFrames=function(){for(var b=0,c=0;c<f.length;c++)f[c].getFrames().length>b&&(b=f[c].getFrames().length);return b};this.animate=function(b){Y=!0;var c=100,d="forward",e=0;b=b||{};b.interval&&(c=b.interval);b.loop&&(d=b.loop);b.reps&&(e=b.reps);var f=this.getFrames(),h=this,
+s=0,p=1,g=0,m=f*e,n=setInterval(function(){var b=d;"forward"==b?(h.setFrame(s),s=(s+p)%f):"backward"==b?(h.setFrame(f-1-s),s=(s+p)%f):(h.setFrame(s),s+=p,p*=0==s%(f-1)?-1:1);h.render();++g!=m&&h.isAnimated()||clearInterval(n)},c);return this};this.stopAnimate=function(){Y=!1;return this};this.isAnimated=function(){return Y};this.addModel=function(b,c,d){var e=new $3Dmol.GLModel(f.length,q);e.addMolData(b,c,d);f.push(e);return e};this.addModels=function(b,c,d){d=d||{};d.multimodel=!0;d.frames=!0;b=
+$3Dmol.GLModel.parseMolData(b,c,d);for(c=0;c<b.length;c++){var e=new $3Dmol.GLModel(f.length,q);e.setAtomDefaults(b[c]);e.addFrame(b[c]);e.setFrame(0);b.modelData&&e.setModelData(b.modelData[c]);e.setDontDuplicateAtoms(!d.duplicateAssemblyAtoms);f.push(e)}return f};this.addModelsAsFrames=function(b,c,d){d=d||{};d.multimodel=!0;d.frames=!0;var e=new $3Dmol.GLModel(f.length,q);e.addMolData(b,c,d);f.push(e);return e};this.addAsOneMolecule=function(b,c,d){d=d||{};d.multimodel=!0;d.onemol=!0;var e=new $3Dmol.GLModel(f.length,
+q);e.addMolData(b,c,d);f.push(e);return e};this.removeModel=function(b){if(b){b.removegl(P);for(delete f[b.getID()];0<f.length&&"undefined"===typeof f[f.length-1];)f.pop();return this}};this.removeAllModels=function(){for(var b=0;b<f.length;b++)f[b].removegl(P);f.splice(0,f.length);return this};this.exportJSON=function(b,c){var d={};d.m=void 0===c?f.map(function(c){return c.toCDObject(b)}):[model[c].toCDObject()];return JSON.stringify(d)};this.createModelFrom=function(b,c){for(var d=new $3Dmol.GLModel(f.length,
+q),e=0;e<f.length;e++)if(f[e]){var h=f[e].selectedAtoms(b);d.addAtoms(h);c&&f[e].removeAtoms(h)}f.push(d);return d};this.setStyle=function(b,c){"undefined"===typeof c&&(c=b,b={});l("setStyle",b,c,!1);return this};this.addStyle=function(b,c){"undefined"===typeof c&&(c=b,b={});l("setStyle",b,c,!0);return this};this.setClickable=function(b,c,d){l("setClickable",b,c,d);return this};this.setHoverable=function(b,c,d,e){l("setHoverable",b,c,d,e);return this};this.vibrate=function(b,c){l("vibrate",b,c);return this};
+this.setColorByProperty=function(b,c,d,e){l("setColorByProperty",b,c,d,e);return this};this.setColorByElement=function(b,c){l("setColorByElement",b,c);return this};var va=function(b,c){for(var d=[],e=0;e<b.length;e++){var f=b[e];"undefined"!=typeof f&&(f.x<c[0][0]||f.x>c[1][0]||f.y<c[0][1]||f.y>c[1][1]||f.z<c[0][2]||f.z>c[1][2]||d.push(f))}return d},Ca=function(b){return(b[1][0]-b[0][0])*(b[1][1]-b[0][1])*(b[1][2]-b[0][2])},Ra=function(b,c,d){for(var e=[],f={},h=0,s=c.length;h<s;h++)f[c[h].index]=
+h;var p=function(b){for(var c=[],d=0,e=b.length;d<e;d++)b[d].index in f&&c.push(f[b[d].index]);return c},g=function(b){var c=[];c[0]=[b[0][0],b[0][1],b[0][2]];c[1]=[b[1][0],b[1][1],b[1][2]];return c},m=function(b){if(64E3>Ca(b))return[b];var c=b[1][0]-b[0][0],d=b[1][1]-b[0][1],e=b[1][2]-b[0][2],d=c>d&&c>e?0:d>c&&d>e?1:2,e=g(b),c=g(b);b=(b[1][d]-b[0][d])/2+b[0][d];e[1][d]=b;c[0][d]=b;b=m(e);c=m(c);return b.concat(c)};b=m(b);h=0;for(s=b.length;h<s;h++){var n=g(b[h]);n[0][0]-=6;n[0][1]-=6;n[0][2]-=6;
+n[1][0]+=6;n[1][1]+=6;n[1][2]+=6;var n=va(c,n),l=va(d,b[h]);e.push({extent:b[h],atoms:p(n),toshow:p(l)})}return e},Na=function(b,c,d){for(var e=new $3Dmol.Geometry(!0),f=e.updateGeoGroup(0),h=[],s=0,p=b.length;s<p;s++){var g=b[s];g&&("undefined"!=typeof g.surfaceColor?h[s]=g.surfaceColor:g.color&&(h[s]=$3Dmol.CC.color(g.color)))}var m=f.vertexArray,g=c.vertices,s,p;s=0;for(p=g.length;s<p;s++)b=3*f.vertices,m[b]=g[s].x,m[b+1]=g[s].y,m[b+2]=g[s].z,f.vertices++;m=f.colorArray;if(d.voldata&&d.volscheme){var h=
+d.volscheme,n=d.voldata,l=h.range()||[-1,1];s=0;for(p=g.length;s<p;s++){b=n.getVal(g[s].x,g[s].y,g[s].z);var u=$3Dmol.CC.color(h.valueToHex(b,l));b=3*s;m[b]=u.r;m[b+1]=u.g;m[b+2]=u.b}}else if(0<h.length)for(s=0,p=g.length;s<p;s++)n=g[s].atomid,b=3*s,m[b]=h[n].r,m[b+1]=h[n].g,m[b+2]=h[n].b;c=c.faces;f.faceidx=c.length;e.initTypedArrays();var g=f.vertexArray,m=f.normalArray,t;s=0;for(p=c.length;s<p;s+=3)h=c[s+1],n=c[s+2],b=3*c[s],h*=3,n*=3,l=new $3Dmol.Vector3(g[b],g[b+1],g[b+2]),u=new $3Dmol.Vector3(g[h],
+g[h+1],g[h+2]),t=new $3Dmol.Vector3(g[n],g[n+1],g[n+2]),t.subVectors(t,u),l.subVectors(l,u),t.cross(l),l=t,l.normalize(),m[b]+=l.x,m[h]+=l.x,m[n]+=l.x,m[b+1]+=l.y,m[h+1]+=l.y,m[n+1]+=l.y,m[b+2]+=l.z,m[h+2]+=l.z,m[n+2]+=l.z;f.faceArray=new Uint16Array(c);d=new $3Dmol.Mesh(e,d);d.doubleSided=!0;return d};this.addMesh=function(b){b={geo:b.geometry,mat:b.material,done:!0,finished:!1};var c=fa();p[c]=b;return c};var bb=function(b){var c=[];$.each(b,function(b,d){c[b]=$.extend({},d)});return c},qa={VDW:$3Dmol.SurfaceType.VDW,
+MS:$3Dmol.SurfaceType.MS,SAS:$3Dmol.SurfaceType.SAS,SES:$3Dmol.SurfaceType.SES};this.addSurface=function(b,c,e,h,s,m){var n=fa();"string"==typeof b?void 0!==qa[b]?b=qa[b]:console.log("Surface type : "+b+" is not recognized"):void 0===b&&console.log("Surface type : "+b+" is not recognized");var l=null,t=null;e=bb(d(e));var l=h?bb(d(h)):e,y=!1;for(h=0;h<f.length;h++)if(f[h]){var x=f[h].getSymmetries();if(1<x.length||1==x.length&&!x[0].isIdentity()){y=!0;break}}x=function(e,f,h){t=s?bb(d(s)):h;var p,
+g=$3Dmol.getExtent(h,!0),l,y;c.map&&c.map.prop&&(l=c.map.prop,y=c.map.scheme||c.map.gradient||new $3Dmol.Gradient.RWB,(p=y.range())||(p=$3Dmol.getPropertyRange(h,l)),c.colorscheme={prop:l,gradient:y});l=0;for(y=f.length;l<y;l++)p=f[l],p.surfaceColor=$3Dmol.getColorFromStyle(p,c);var x=Ca(g),F=Ra(g,f,h);if(t&&t.length&&0<t.length){var w=$3Dmol.getExtent(t,!0);F.sort(function(b,c){var d=function(b,c){var d=b.extent,e=d[1][1]-d[0][1],f=d[1][2]-d[0][2],d=d[1][0]-d[0][0]-c[2][0],e=e-c[2][1],f=f-c[2][2];
+return d*d+e*e+f*f},e=d(b,w),d=d(c,w);return e-d})}var B=[];l=0;for(y=f.length;l<y;l++)p=f[l],B[l]={x:p.x,y:p.y,z:p.z,serial:l,elem:p.elem};if($3Dmol.syncSurface)setTimeout(function la(c){if(c>=F.length)m&&"function"==typeof m&&m(n);else{var d,h=b,s=F[c].extent,p=F[c].atoms;d=F[c].toshow;var g=new $3Dmol.ProteinSurface;g.initparm(s,1===h?!1:!0,x);g.fillvoxels(B,p);g.buildboundary();if(h==$3Dmol.SurfaceType.SES||h==$3Dmol.SurfaceType.MS)g.fastdistancemap(),g.boundingatom(!1),g.fillvoxelswaals(B,p);
+g.marchingcube(h);d=g.getFacesAndVertices(d);h=$3Dmol.splitMesh({vertexArr:d.vertices,faceArr:d.faces});s=0;for(p=h.length;s<p;s++)d={vertices:h[s].vertexArr,faces:h[s].faceArr},d=Na(f,d,q),$3Dmol.mergeGeos(e.geo,d);u.render();setTimeout(la,1,c+1)}},1,0);else{h=[];0>b&&(b=0);l=0;for(y=4;l<y;l++)g=new Worker($3Dmol.SurfaceWorker),h.push(g),g.postMessage({type:-1,atoms:B,volume:x});var z=0,g=function(b){b=$3Dmol.splitMesh({vertexArr:b.data.vertices,faceArr:b.data.faces});for(var c=0,d=b.length;c<d;c++){var h=
+Na(f,{vertices:b[c].vertexArr,faces:b[c].faceArr},q);$3Dmol.mergeGeos(e.geo,h)}u.render();z++;z==F.length&&(e.done=!0,m&&"function"==typeof m&&m(n))};y=function(b){console.log(b.message+" ("+b.filename+":"+b.lineno+")")};for(l=0;l<F.length;l++)p=h[l%h.length],p.onmessage=g,p.onerror=y,p.postMessage({type:b,expandedExtent:F[l].extent,extendedAtoms:F[l].atoms,atomsToShow:F[l].toshow})}};c=c||{};var q=g(c),F=[];if(y){var y={},w={};for(h=0;h<f.length;h++)y[h]=[],w[h]=[];for(h=0;h<l.length;h++)y[l[h].model].push(l[h]);
+for(h=0;h<e.length;h++)w[e[h].model].push(e[h]);for(h=0;h<f.length;h++)0<w[h].length&&(F.push({geo:new $3Dmol.Geometry(!0),mat:q,done:!1,finished:!1,symmetries:f[h].getSymmetries()}),x(F[h],y[h],w[h]))}else F.push({geo:new $3Dmol.Geometry(!0),mat:q,done:!1,finished:!1,symmetries:[new $3Dmol.Matrix4]}),x(F[F.length-1],l,e);p[n]=F;return n};this.setSurfaceMaterialStyle=function(b,c){if(p[b])for(var d=p[b],e=0;e<d.length;e++){var f=d[e].mat=g(c);d[e].mat.side=$3Dmol.FrontSide;if(c.color){d[e].mat.color=
+c.color;d[e].geo.colorsNeedUpdate=!0;var h=$3Dmol.CC.color(c.color);d[e].geo.setColors(function(){return h})}else if(f.voldata&&f.volscheme){var s=f.volscheme,m=f.voldata,l=s.range()||[-1,1];d[e].geo.setColors(function(b,c,d){b=m.getVal(b,c,d);return $3Dmol.CC.color(s.valueToHex(b,l))})}d[e].finished=!1}return this};this.removeSurface=function(b){for(var c=p[b],d=0;d<c.length;d++)c[d]&&c[d].lastGL&&(void 0!==c[d].geo&&c[d].geo.dispose(),void 0!==c[d].mat&&c[d].mat.dispose(),P.remove(c[d].lastGL));
+delete p[b];ca();return this};this.removeAllSurfaces=function(){for(var b in p)if(p.hasOwnProperty(b)){for(var c=p[b],d=0;d<c.length;d++)c[d]&&c[d].lastGL&&(void 0!==c[d].geo&&c[d].geo.dispose(),void 0!==c[d].mat&&c[d].mat.dispose(),P.remove(c[d].lastGL));delete p[b]}ca();return this};this.jmolMoveTo=function(){var b=P.position,b="center { "+-b.x+" "+-b.y+" "+-b.z+" }; ",c=G.quaternion;return b+="moveto .5 quaternion { "+c.x+" "+c.y+" "+c.z+" "+c.w+" };"};this.clear=function(){this.removeAllSurfaces();
+this.removeAllModels();this.removeAllLabels();this.removeAllShapes();ca();return this};this.mapAtomProperties=function(b,c){c=c||{};var e=d(c);if("function"==typeof b)for(var h=0,s=e.length;h<s;h++){var p=e[h];b(p)}else for(h=0,s=e.length;h<s;h++)for(var p=e[h],g=0,m=b.length;g<m;g++){var l=b[g];if(l.props)for(var n in l.props)if(l.props.hasOwnProperty(n)){var u;a:{u=p;var t=l;"undefined"===typeof t&&(t={});var y=[],x=void 0;if("undefined"===typeof t.model)for(x=0;x<f.length;x++)f[x]&&y.push(f[x]);
+else y=t.model,$.isArray(y)||(y=[y]);for(x=0;x<y.length;x++)if(y[x].atomIsSelected(u,t)){u=!0;break a}u=!1}u&&(p.properties||(p.properties={}),p.properties[n]=l.props[n])}}return this};this.linkViewer=function(b){K.push(b);return this};try{"function"===typeof w&&w(this)}catch(ma){console.log("error with glviewer callback: "+ma)}}}();$3Dmol.glmolViewer=$3Dmol.GLViewer;$3Dmol=$3Dmol||{};$3Dmol.Gradient=function(b,c){};$3Dmol.Gradient.valueToHex=function(b,c){};$3Dmol.Gradient.range=function(){};
+$3Dmol.Gradient.RWB=function(b,c,d){"undefined"==typeof c&&$.isArray(b)&&2<=b.length&&(c=b[1],b=b[0]);this.valueToHex=function(l,g){var w,q;l*=1;g?(w=g[0],q=g[1]):(w=b,q=c);if(void 0===l)return 16777215;q>w?(l<w&&(l=w),l>q&&(l=q)):(l>w&&(l=w),l<q&&(l=q));var n=(q+w)/2,n=g&&"undefined"!=typeof g[2]?g[2]:"undefined"!=typeof d?d:(w+q)/2;if(w<q)return l<=n?(w=Math.floor(255*Math.sqrt((l-w)/(n-w))),w=16711680+256*w+w):(w=Math.floor(255*Math.sqrt(1-(l-n)/(q-n))),w=65536*w+256*w+255),w;if(w>q)return l<=
+n?(w=Math.floor(255*Math.sqrt(1-(l-n)/(q-n))),w=65536*w+256*w+255):(w=Math.floor(255*Math.sqrt((l-w)/(n-w))),w=16711680+256*w+w),w};this.range=function(){return"undefined"!=typeof b&&"undefined"!=typeof c?[b,c]:null}};
+$3Dmol.Gradient.ROYGB=function(b,c){"undefined"==typeof c&&$.isArray(b)&&2<=b.length&&(c=b[1],b=b[0]);this.valueToHex=function(d,l){var g,w;d*=1;l?(g=l[0],w=l[1]):(g=b,w=c);if("undefined"==typeof d)return 16777215;if(w>g)d<g&&(d=g),d>w&&(d=w);else{d>g&&(d=g);d<w&&(d=w);d=g-d;var q=g;g=w;w=q}var q=(g+w)/2,n=(g+q)/2,m=(q+w)/2;d<n?(g=Math.floor(255*Math.sqrt((d-g)/(n-g))),g=256*g+16711680):d<q?(g=Math.floor(255*Math.sqrt(1-(d-n)/(q-n))),g=65536*g+65280):d<m?(g=Math.floor(255*Math.sqrt((d-q)/(m-q))),
+g=65280+1*g):(g=Math.floor(255*Math.sqrt(1-(d-m)/(w-m))),g=256*g+255);return g};this.range=function(){return"undefined"!=typeof b&&"undefined"!=typeof c?[b,c]:null}};
+$3Dmol.Gradient.Sinebow=function(b,c){var d=1;"undefined"==typeof c&&$.isArray(b)&&2<=b.length&&(c=b[1],b=b[0]);c<b&&(d=-1,b*=-1,c*=-1);this.valueToHex=function(l,g){var w,q;l*=d;g?(w=g[0],q=g[1]):(w=b,q=c);if("undefined"==typeof l)return 16777215;q>w?(l<w&&(l=w),l>q&&(l=q)):(l>w&&(l=w),l<q&&(l=q));var n=(l-w)/(q-w)*5/6+.5;w=Math.sin(Math.PI*n);w*=255*w;q=Math.sin(Math.PI*(n+1/3));q*=255*q;n=Math.sin(Math.PI*(n+2/3));return 65536*Math.floor(w)+256*Math.floor(255*n*n)+1*Math.floor(q)};this.range=function(){return"undefined"!=
+typeof b&&"undefined"!=typeof c?[b,c]:null}};$3Dmol.Gradient.builtinGradients={rwb:$3Dmol.Gradient.RWB,roygb:$3Dmol.Gradient.ROYGB,sinebow:$3Dmol.Gradient.Sinebow};$3Dmol.LabelCount=0;$3Dmol.Label=function(b,c){this.id=$3Dmol.LabelCount++;this.stylespec=c||{};this.canvas=document.createElement("canvas");this.canvas.width=134;this.canvas.height=35;this.context=this.canvas.getContext("2d");this.sprite=new $3Dmol.Sprite;this.text=b};
+$3Dmol.Label.prototype={constructor:$3Dmol.Label,getStyle:function(){return this.stylespec},setContext:function(){var b=function(b,d,l){"undefined"!=typeof b&&(l=b instanceof $3Dmol.Color?b.scaled():$3Dmol.CC.color(b).scaled());"undefined"!=typeof d&&(l.a=parseFloat(d));return l};return function(){var c=this.stylespec,d="undefined"==typeof c.useScreen?!1:c.useScreen,l=c.showBackground;if("0"===l||"false"===l)l=!1;"undefined"==typeof l&&(l=!0);var g=c.font?c.font:"sans-serif",w=parseInt(c.fontSize)?
+parseInt(c.fontSize):18,q=b(c.fontColor,c.fontOpacity,{r:255,g:255,b:255,a:1}),n=c.padding?c.padding:4,m=c.borderThickness?c.borderThickness:0,B=b(c.backgroundColor,c.backgroundOpacity,{r:0,g:0,b:0,a:1}),u=b(c.borderColor,c.borderOpacity,B),y=c.position?c.position:{x:-10,y:1,z:1},s=void 0!==c.inFront?c.inFront:!0;if("false"===s||"0"===s)s=!1;var f=c.alignment||$3Dmol.SpriteAlignment.topLeft;"string"==typeof f&&f in $3Dmol.SpriteAlignment&&(f=$3Dmol.SpriteAlignment[f]);var p="";c.bold&&(p="bold ");
+this.context.font=p+w+"px  "+g;var h=this.context.measureText(this.text).width;l||(m=0);var F=h+2.5*m+2*n,M=1.25*w+2*m+2*n;if(c.backgroundImage){var p=c.backgroundImage,x=c.backgroundWidth?c.backgroundWidth:p.width,e=c.backgroundHeight?c.backgroundHeight:p.height;x>F&&(F=x);e>M&&(M=e)}this.canvas.width=F;this.canvas.height=M;this.context.clearRect(0,0,this.canvas.width,this.canvas.height);p="";c.bold&&(p="bold ");this.context.font=p+w+"px  "+g;this.context.fillStyle="rgba("+B.r+","+B.g+","+B.b+","+
+B.a+")";this.context.strokeStyle="rgba("+u.r+","+u.g+","+u.b+","+u.a+")";this.context.lineWidth=m;l&&(l=this.context,B=g=m,F-=2*m,M-=2*m,u=0<m,l.beginPath(),l.moveTo(g+6,B),l.lineTo(g+F-6,B),l.quadraticCurveTo(g+F,B,g+F,B+6),l.lineTo(g+F,B+M-6),l.quadraticCurveTo(g+F,B+M,g+F-6,B+M),l.lineTo(g+6,B+M),l.quadraticCurveTo(g,B+M,g,B+M-6),l.lineTo(g,B+6),l.quadraticCurveTo(g,B,g+6,B),l.closePath(),l.fill(),u&&l.stroke());c.backgroundImage&&(p=c.backgroundImage,x=c.backgroundWidth?c.backgroundWidth:p.width,
+e=c.backgroundHeight?c.backgroundHeight:p.height,this.context.drawImage(p,0,0,x,e));this.context.fillStyle="rgba("+q.r+","+q.g+","+q.b+","+q.a+")";this.context.fillText(this.text,m+n,w+m+n,h);c=new $3Dmol.Texture(this.canvas);c.needsUpdate=!0;this.sprite.material=new $3Dmol.SpriteMaterial({map:c,useScreenCoordinates:d,alignment:f,depthTest:!s});this.sprite.scale.set(1,1,1);this.sprite.position.set(y.x,y.y,y.z)}}(),dispose:function(){void 0!==this.sprite.material.map&&this.sprite.material.map.dispose();
+void 0!==this.sprite.material&&this.sprite.material.dispose()}};$3Dmol=$3Dmol||{};
+$3Dmol.MarchingCubeInitializer=function(){var b={march:function(b,q,n,m){var B=!!m.fulltable,u=m.hasOwnProperty("origin")&&m.origin.hasOwnProperty("x")?m.origin:{x:0,y:0,z:0},y=!!m.voxel,s=m.matrix,f=m.nX||0,p=m.nY||0,h=m.nZ||0,F=m.scale||1,M=null,M=m.unitCube?m.unitCube:{x:F,y:F,z:F},x=new Int32Array(f*p*h);m=0;for(F=x.length;m<F;++m)x[m]=-1;var F=function(b,c,d,e,f,g){var m={x:0,y:0,z:0},l=f;e&1<<f||!(e&1<<g)||(l=g);l&1&&d++;l&2&&c++;l&4&&b++;s?(m=new $3Dmol.Vector3(b,c,d),m=m.applyMatrix4(s),m=
+{x:m.x,y:m.y,z:m.z}):(m.x=u.x+M.x*b,m.y=u.y+M.y*c,m.z=u.z+M.z*d);b=(p*b+c)*h+d;if(y)return q.push(m),q.length-1;0>x[b]&&(x[b]=q.length,q.push(m));return x[b]},e=new Int32Array(12),H=B?l:c,B=B?g:d;for(m=0;m<f-1;++m)for(var t=0;t<p-1;++t)for(var C=0;C<h-1;++C){for(var z=0,I=0;8>I;++I)z|=!!(b[(p*(m+((I&4)>>2))+t+((I&2)>>1))*h+C+(I&1)]&2)<<I;if(0!==z&&255!==z){var K=H[z];if(0!==K)for(I=B[z],K&1&&(e[0]=F(m,t,C,z,0,1)),K&2&&(e[1]=F(m,t,C,z,1,3)),K&4&&(e[2]=F(m,t,C,z,3,2)),K&8&&(e[3]=F(m,t,C,z,2,0)),K&16&&
+(e[4]=F(m,t,C,z,4,5)),K&32&&(e[5]=F(m,t,C,z,5,7)),K&64&&(e[6]=F(m,t,C,z,7,6)),K&128&&(e[7]=F(m,t,C,z,6,4)),K&256&&(e[8]=F(m,t,C,z,0,4)),K&512&&(e[9]=F(m,t,C,z,1,5)),K&1024&&(e[10]=F(m,t,C,z,3,7)),K&2048&&(e[11]=F(m,t,C,z,2,6)),z=0;z<I.length;z+=3){var K=e[I[z]],J=e[I[z+1]],A=e[I[z+2]];y&&3<=z&&(q.push(q[K]),K=q.length-1,q.push(q[J]),J=q.length-1,q.push(q[A]),A=q.length-1);n.push(K);n.push(J);n.push(A)}}}},laplacianSmooth:function(b,c,d){var g=Array(c.length),l,u,y,s;l=0;for(u=c.length;l<u;l++)g[l]=
+{x:0,y:0,z:0};var f=Array(20),p;for(l=0;20>l;l++)f[l]=Array(c.length);l=0;for(u=c.length;l<u;l++)f[0][l]=0;l=0;for(u=d.length/3;l<u;l++){var h=3*l,F=3*l+1,M=3*l+2;p=!0;y=0;for(s=f[0][d[h]];y<s;y++)if(d[F]==f[y+1][d[h]]){p=!1;break}p&&(f[0][d[h]]++,f[f[0][d[h]]][d[h]]=d[F]);p=!0;y=0;for(s=f[0][d[h]];y<s;y++)if(d[M]==f[y+1][d[h]]){p=!1;break}p&&(f[0][d[h]]++,f[f[0][d[h]]][d[h]]=d[M]);p=!0;y=0;for(s=f[0][d[F]];y<s;y++)if(d[h]==f[y+1][d[F]]){p=!1;break}p&&(f[0][d[F]]++,f[f[0][d[F]]][d[F]]=d[h]);p=!0;
+y=0;for(s=f[0][d[F]];y<s;y++)if(d[M]==f[y+1][d[F]]){p=!1;break}p&&(f[0][d[F]]++,f[f[0][d[F]]][d[F]]=d[M]);p=!0;for(y=0;y<f[0][d[M]];y++)if(d[h]==f[y+1][d[M]]){p=!1;break}p&&(f[0][d[M]]++,f[f[0][d[M]]][d[M]]=d[h]);p=!0;y=0;for(s=f[0][d[M]];y<s;y++)if(d[F]==f[y+1][d[M]]){p=!1;break}p&&(f[0][d[M]]++,f[f[0][d[M]]][d[M]]=d[F])}for(d=0;d<b;d++){l=0;for(u=c.length;l<u;l++)if(3>f[0][l])g[l].x=c[l].x,g[l].y=c[l].y,g[l].z=c[l].z;else if(3==f[0][l]||4==f[0][l]){g[l].x=0;g[l].y=0;y=g[l].z=0;for(s=f[0][l];y<s;y++)g[l].x+=
+c[f[y+1][l]].x,g[l].y+=c[f[y+1][l]].y,g[l].z+=c[f[y+1][l]].z;g[l].x+=.5*c[l].x;g[l].y+=.5*c[l].y;g[l].z+=.5*c[l].z;g[l].x/=.5+f[0][l];g[l].y/=.5+f[0][l];g[l].z/=.5+f[0][l]}else{g[l].x=0;g[l].y=0;y=g[l].z=0;for(s=f[0][l];y<s;y++)g[l].x+=c[f[y+1][l]].x,g[l].y+=c[f[y+1][l]].y,g[l].z+=c[f[y+1][l]].z;g[l].x+=1*c[l].x;g[l].y+=1*c[l].y;g[l].z+=1*c[l].z;g[l].x/=1+f[0][l];g[l].y/=1+f[0][l];g[l].z/=1+f[0][l]}l=0;for(u=c.length;l<u;l++)c[l].x=g[l].x,c[l].y=g[l].y,c[l].z=g[l].z}},edgeTable:[0,0,0,0,0,0,0,2816,
+0,0,0,1792,0,3328,3584,3840,0,0,0,138,0,21,0,134,0,0,0,652,0,2067,3865,3600,0,0,0,42,0,0,0,294,0,0,21,28,0,3875,1049,3360,0,168,162,170,0,645,2475,2210,0,687,293,172,4010,3747,3497,3232,0,0,0,0,0,69,0,900,0,0,0,1792,138,131,1608,1920,0,81,0,2074,84,85,84,86,0,81,0,3676,330,1105,1881,1616,0,0,0,42,0,69,0,502,0,0,21,3580,138,2035,1273,1520,2816,104,2337,106,840,581,367,102,2816,3695,3429,3180,1898,1635,1385,1120,0,0,0,0,0,0,0,3910,0,0,69,588,42,2083,41,2880,0,0,0,1722,0,2293,4095,3830,0,255,757,764,
+2538,2291,3065,2800,0,0,81,338,0,3925,1119,3414,84,855,85,340,2130,2899,89,2384,1792,712,194,1162,4036,3781,3535,3270,708,719,197,204,3018,2755,2505,2240,0,0,0,0,168,420,168,1958,162,162,676,2988,170,163,680,928,3328,3096,3328,3642,52,53,1855,1590,2340,2111,2869,2620,298,51,825,560,3584,3584,3090,3482,1668,1941,1183,1430,146,2975,2069,2460,154,915,153,400,3840,3592,3329,3082,1796,1541,1295,1030,2818,2575,2309,2060,778,515,265,0]},c=new Uint32Array(b.edgeTable),d=b.triTable=[[],[],[],[],[],[],[],[11,
+9,8],[],[],[],[8,10,9],[],[10,8,11],[9,11,10],[8,10,9,8,11,10],[],[],[],[1,7,3],[],[4,2,0],[],[2,1,7],[],[],[],[2,7,3,2,9,7],[],[1,4,11,1,0,4],[3,8,0,11,9,4,11,10,9],[4,11,9,11,10,9],[],[],[],[5,3,1],[],[],[],[2,5,8,2,1,5],[],[],[2,4,0],[3,2,4],[],[0,9,1,8,10,5,8,11,10],[3,4,0,3,10,4],[5,8,10,8,11,10],[],[3,5,7],[7,1,5],[1,7,3,1,5,7],[],[9,2,0,9,7,2],[0,3,8,1,7,11,1,5,7],[11,1,7,1,5,7],[],[9,1,0,5,3,2,5,7,3],[8,2,5,8,0,2],[2,5,3,5,7,3],[3,9,1,3,8,9,7,11,10,7,10,5],[9,1,0,10,7,11,10,5,7],[3,8,0,7,
+10,5,7,11,10],[11,5,7,11,10,5],[],[],[],[],[],[0,6,2],[],[7,2,9,7,9,8],[],[],[],[8,10,9],[7,1,3],[7,1,0],[6,9,3,6,10,9],[7,10,8,10,9,8],[],[6,0,4],[],[11,1,4,11,3,1],[2,4,6],[2,0,4,2,4,6],[2,4,6],[1,4,2,4,6,2],[],[6,0,4],[],[2,11,3,6,9,4,6,10,9],[8,6,1,8,1,3],[10,0,6,0,4,6],[8,0,3,9,6,10,9,4,6],[10,4,6,10,9,4],[],[],[],[5,3,1],[],[0,6,2],[],[7,4,8,5,2,1,5,6,2],[],[],[2,4,0],[7,4,8,2,11,3,10,5,6],[7,1,3],[5,6,10,0,9,1,8,7,4],[5,6,10,7,0,3,7,4,0],[10,5,6,4,8,7],[9,11,8],[3,5,6],[0,5,11,0,11,8],[6,3,
+5,3,1,5],[3,9,6,3,8,9],[9,6,0,6,2,0],[0,3,8,2,5,6,2,1,5],[1,6,2,1,5,6],[9,11,8],[1,0,9,6,10,5,11,3,2],[6,10,5,2,8,0,2,11,8],[3,2,11,10,5,6],[10,5,6,9,3,8,9,1,3],[0,9,1,5,6,10],[8,0,3,10,5,6],[10,5,6],[],[],[],[],[],[],[],[1,10,2,9,11,6,9,8,11],[],[],[6,0,2],[3,6,9,3,2,6],[3,5,1],[0,5,1,0,11,5],[0,3,5],[6,9,11,9,8,11],[],[],[],[4,5,9,7,1,10,7,3,1],[],[11,6,7,2,4,5,2,0,4],[11,6,7,8,0,3,1,10,2,9,4,5],[6,7,11,1,10,2,9,4,5],[],[4,1,0,4,5,1,6,7,3,6,3,2],[9,4,5,0,6,7,0,2,6],[4,5,9,6,3,2,6,7,3],[6,7,11,5,
+3,8,5,1,3],[6,7,11,4,1,0,4,5,1],[4,5,9,3,8,0,11,6,7],[9,4,5,7,11,6],[],[],[0,6,4],[8,6,4,8,1,6],[],[0,10,2,0,9,10,4,8,11,4,11,6],[10,2,1,6,0,3,6,4,0],[10,2,1,11,4,8,11,6,4],[4,2,6],[1,0,9,2,4,8,2,6,4],[2,4,0,2,6,4],[8,2,4,2,6,4],[11,4,1,11,6,4],[0,9,1,4,11,6,4,8,11],[3,6,0,6,4,0],[8,6,4,8,11,6],[10,8,9],[6,3,9,6,7,3],[6,7,1],[10,7,1,7,3,1],[7,11,6,8,10,2,8,9,10],[11,6,7,10,0,9,10,2,0],[2,1,10,7,11,6,8,0,3],[1,10,2,6,7,11],[7,2,6,7,9,2],[1,0,9,3,6,7,3,2,6],[7,0,6,0,2,6],[2,7,3,2,6,7],[7,11,6,3,9,1,
+3,8,9],[9,1,0,11,6,7],[0,3,8,11,6,7],[11,6,7],[],[],[],[],[5,3,7],[8,5,2,8,7,5],[5,3,7],[1,10,2,5,8,7,5,9,8],[1,7,5],[1,7,5],[9,2,7,9,7,5],[11,3,2,8,5,9,8,7,5],[1,3,7,1,7,5],[0,7,1,7,5,1],[9,3,5,3,7,5],[9,7,5,9,8,7],[8,10,11],[3,4,10,3,10,11],[8,10,11],[5,9,4,1,11,3,1,10,11],[2,4,5],[5,2,4,2,0,4],[0,3,8,5,9,4,10,2,1],[2,1,10,9,4,5],[2,8,5,2,11,8],[3,2,11,1,4,5,1,0,4],[9,4,5,8,2,11,8,0,2],[11,3,2,9,4,5],[8,5,3,5,1,3],[5,0,4,5,1,0],[3,8,0,4,5,9],[9,4,5],[11,9,10],[11,9,10],[1,11,4,1,10,11],[8,7,4,11,
+1,10,11,3,1],[2,7,9,2,9,10],[4,8,7,0,10,2,0,9,10],[2,1,10,0,7,4,0,3,7],[10,2,1,8,7,4],[1,7,4],[3,2,11,4,8,7,9,1,0],[11,4,2,4,0,2],[2,11,3,7,4,8],[4,1,7,1,3,7],[1,0,9,8,7,4],[3,4,0,3,7,4],[8,7,4],[8,9,10,8,10,11],[3,9,11,9,10,11],[0,10,8,10,11,8],[10,3,1,10,11,3],[2,8,10,8,9,10],[9,2,0,9,10,2],[8,0,3,1,10,2],[10,2,1],[1,11,9,11,8,9],[11,3,2,0,9,1],[11,0,2,11,8,0],[11,3,2],[8,1,3,8,9,1],[9,1,0],[8,0,3],[]],l=[0,265,515,778,2060,2309,2575,2822,1030,1295,1541,1804,3082,3331,3593,3840,400,153,915,666,
+2460,2197,2975,2710,1430,1183,1941,1692,3482,3219,3993,3728,560,825,51,314,2620,2869,2111,2358,1590,1855,1077,1340,3642,3891,3129,3376,928,681,419,170,2988,2725,2479,2214,1958,1711,1445,1196,4010,3747,3497,3232,2240,2505,2755,3018,204,453,719,966,3270,3535,3781,4044,1226,1475,1737,1984,2384,2137,2899,2650,348,85,863,598,3414,3167,3925,3676,1370,1107,1881,1616,2800,3065,2291,2554,764,1013,255,502,3830,4095,3317,3580,1786,2035,1273,1520,2912,2665,2403,2154,876,613,367,102,3942,3695,3429,3180,1898,1635,
+1385,1120,1120,1385,1635,1898,3180,3429,3695,3942,102,367,613,876,2154,2403,2665,2912,1520,1273,2035,1786,3580,3317,4095,3830,502,255,1013,764,2554,2291,3065,2800,1616,1881,1107,1370,3676,3925,3167,3414,598,863,85,348,2650,2899,2137,2384,1984,1737,1475,1226,4044,3781,3535,3270,966,719,453,204,3018,2755,2505,2240,3232,3497,3747,4010,1196,1445,1711,1958,2214,2479,2725,2988,170,419,681,928,3376,3129,3891,3642,1340,1077,1855,1590,2358,2111,2869,2620,314,51,825,560,3728,3993,3219,3482,1692,1941,1183,1430,
+2710,2975,2197,2460,666,915,153,400,3840,3593,3331,3082,1804,1541,1295,1030,2822,2575,2309,2060,778,515,265,0],g=[[],[8,3,0],[9,0,1],[8,3,1,8,1,9],[11,2,3],[11,2,0,11,0,8],[11,2,3,0,1,9],[2,1,11,1,9,11,11,9,8],[10,1,2],[8,3,0,1,2,10],[9,0,2,9,2,10],[3,2,8,2,10,8,8,10,9],[10,1,3,10,3,11],[1,0,10,0,8,10,10,8,11],[0,3,9,3,11,9,9,11,10],[8,10,9,8,11,10],[8,4,7],[3,0,4,3,4,7],[1,9,0,8,4,7],[9,4,1,4,7,1,1,7,3],[2,3,11,7,8,4],[7,11,4,11,2,4,4,2,0],[3,11,2,4,7,8,9,0,1],[2,7,11,2,1,7,1,4,7,1,9,4],[10,1,2,
+8,4,7],[2,10,1,0,4,7,0,7,3],[4,7,8,0,2,10,0,10,9],[2,7,3,2,9,7,7,9,4,2,10,9],[8,4,7,11,10,1,11,1,3],[11,4,7,1,4,11,1,11,10,1,0,4],[3,8,0,7,11,4,11,9,4,11,10,9],[7,11,4,4,11,9,11,10,9],[9,5,4],[3,0,8,4,9,5],[5,4,0,5,0,1],[4,8,5,8,3,5,5,3,1],[11,2,3,9,5,4],[9,5,4,8,11,2,8,2,0],[3,11,2,1,5,4,1,4,0],[8,5,4,2,5,8,2,8,11,2,1,5],[2,10,1,9,5,4],[0,8,3,5,4,9,10,1,2],[10,5,2,5,4,2,2,4,0],[3,4,8,3,2,4,2,5,4,2,10,5],[5,4,9,1,3,11,1,11,10],[0,9,1,4,8,5,8,10,5,8,11,10],[3,4,0,3,10,4,4,10,5,3,11,10],[4,8,5,5,8,
+10,8,11,10],[9,5,7,9,7,8],[0,9,3,9,5,3,3,5,7],[8,0,7,0,1,7,7,1,5],[1,7,3,1,5,7],[11,2,3,8,9,5,8,5,7],[9,2,0,9,7,2,2,7,11,9,5,7],[0,3,8,2,1,11,1,7,11,1,5,7],[2,1,11,11,1,7,1,5,7],[1,2,10,5,7,8,5,8,9],[9,1,0,10,5,2,5,3,2,5,7,3],[5,2,10,8,2,5,8,5,7,8,0,2],[10,5,2,2,5,3,5,7,3],[3,9,1,3,8,9,7,11,10,7,10,5],[9,1,0,10,7,11,10,5,7],[3,8,0,7,10,5,7,11,10],[11,5,7,11,10,5],[11,7,6],[0,8,3,11,7,6],[9,0,1,11,7,6],[7,6,11,3,1,9,3,9,8],[2,3,7,2,7,6],[8,7,0,7,6,0,0,6,2],[1,9,0,3,7,6,3,6,2],[7,6,2,7,2,9,2,1,9,7,
+9,8],[1,2,10,6,11,7],[2,10,1,7,6,11,8,3,0],[11,7,6,10,9,0,10,0,2],[7,6,11,3,2,8,8,2,10,8,10,9],[6,10,7,10,1,7,7,1,3],[6,10,1,6,1,7,7,1,0,7,0,8],[9,0,3,6,9,3,6,10,9,6,3,7],[6,10,7,7,10,8,10,9,8],[8,4,6,8,6,11],[11,3,6,3,0,6,6,0,4],[0,1,9,4,6,11,4,11,8],[1,9,4,11,1,4,11,3,1,11,4,6],[3,8,2,8,4,2,2,4,6],[2,0,4,2,4,6],[1,9,0,3,8,2,2,8,4,2,4,6],[9,4,1,1,4,2,4,6,2],[10,1,2,11,8,4,11,4,6],[10,1,2,11,3,6,6,3,0,6,0,4],[0,2,10,0,10,9,4,11,8,4,6,11],[2,11,3,6,9,4,6,10,9],[8,4,6,8,6,1,6,10,1,8,1,3],[1,0,10,10,
+0,6,0,4,6],[8,0,3,9,6,10,9,4,6],[10,4,6,10,9,4],[9,5,4,7,6,11],[4,9,5,3,0,8,11,7,6],[6,11,7,4,0,1,4,1,5],[6,11,7,4,8,5,5,8,3,5,3,1],[4,9,5,6,2,3,6,3,7],[9,5,4,8,7,0,0,7,6,0,6,2],[4,0,1,4,1,5,6,3,7,6,2,3],[7,4,8,5,2,1,5,6,2],[6,11,7,1,2,10,9,5,4],[11,7,6,8,3,0,1,2,10,9,5,4],[11,7,6,10,5,2,2,5,4,2,4,0],[7,4,8,2,11,3,10,5,6],[4,9,5,6,10,7,7,10,1,7,1,3],[5,6,10,0,9,1,8,7,4],[5,6,10,7,0,3,7,4,0],[10,5,6,4,8,7],[5,6,9,6,11,9,9,11,8],[0,9,5,0,5,3,3,5,6,3,6,11],[0,1,5,0,5,11,5,6,11,0,11,8],[11,3,6,6,3,5,
+3,1,5],[9,5,6,3,9,6,3,8,9,3,6,2],[5,6,9,9,6,0,6,2,0],[0,3,8,2,5,6,2,1,5],[1,6,2,1,5,6],[1,2,10,5,6,9,9,6,11,9,11,8],[1,0,9,6,10,5,11,3,2],[6,10,5,2,8,0,2,11,8],[3,2,11,10,5,6],[10,5,6,9,3,8,9,1,3],[0,9,1,5,6,10],[8,0,3,10,5,6],[10,5,6],[10,6,5],[8,3,0,10,6,5],[0,1,9,5,10,6],[10,6,5,9,8,3,9,3,1],[3,11,2,10,6,5],[6,5,10,2,0,8,2,8,11],[1,9,0,6,5,10,11,2,3],[1,10,2,5,9,6,9,11,6,9,8,11],[1,2,6,1,6,5],[0,8,3,2,6,5,2,5,1],[5,9,6,9,0,6,6,0,2],[9,6,5,3,6,9,3,9,8,3,2,6],[11,6,3,6,5,3,3,5,1],[0,5,1,0,11,5,5,
+11,6,0,8,11],[0,5,9,0,3,5,3,6,5,3,11,6],[5,9,6,6,9,11,9,8,11],[10,6,5,4,7,8],[5,10,6,7,3,0,7,0,4],[5,10,6,0,1,9,8,4,7],[4,5,9,6,7,10,7,1,10,7,3,1],[7,8,4,2,3,11,10,6,5],[11,6,7,10,2,5,2,4,5,2,0,4],[11,6,7,8,0,3,1,10,2,9,4,5],[6,7,11,1,10,2,9,4,5],[7,8,4,5,1,2,5,2,6],[4,1,0,4,5,1,6,7,3,6,3,2],[9,4,5,8,0,7,0,6,7,0,2,6],[4,5,9,6,3,2,6,7,3],[6,7,11,4,5,8,5,3,8,5,1,3],[6,7,11,4,1,0,4,5,1],[4,5,9,3,8,0,11,6,7],[9,4,5,7,11,6],[10,6,4,10,4,9],[8,3,0,9,10,6,9,6,4],[1,10,0,10,6,0,0,6,4],[8,6,4,8,1,6,6,1,10,
+8,3,1],[2,3,11,6,4,9,6,9,10],[0,10,2,0,9,10,4,8,11,4,11,6],[10,2,1,11,6,3,6,0,3,6,4,0],[10,2,1,11,4,8,11,6,4],[9,1,4,1,2,4,4,2,6],[1,0,9,3,2,8,2,4,8,2,6,4],[2,4,0,2,6,4],[3,2,8,8,2,4,2,6,4],[1,4,9,11,4,1,11,1,3,11,6,4],[0,9,1,4,11,6,4,8,11],[11,6,3,3,6,0,6,4,0],[8,6,4,8,11,6],[6,7,10,7,8,10,10,8,9],[9,3,0,6,3,9,6,9,10,6,7,3],[6,1,10,6,7,1,7,0,1,7,8,0],[6,7,10,10,7,1,7,3,1],[7,11,6,3,8,2,8,10,2,8,9,10],[11,6,7,10,0,9,10,2,0],[2,1,10,7,11,6,8,0,3],[1,10,2,6,7,11],[7,2,6,7,9,2,2,9,1,7,8,9],[1,0,9,3,
+6,7,3,2,6],[8,0,7,7,0,6,0,2,6],[2,7,3,2,6,7],[7,11,6,3,9,1,3,8,9],[9,1,0,11,6,7],[0,3,8,11,6,7],[11,6,7],[11,7,5,11,5,10],[3,0,8,7,5,10,7,10,11],[9,0,1,10,11,7,10,7,5],[3,1,9,3,9,8,7,10,11,7,5,10],[10,2,5,2,3,5,5,3,7],[5,10,2,8,5,2,8,7,5,8,2,0],[9,0,1,10,2,5,5,2,3,5,3,7],[1,10,2,5,8,7,5,9,8],[2,11,1,11,7,1,1,7,5],[0,8,3,2,11,1,1,11,7,1,7,5],[9,0,2,9,2,7,2,11,7,9,7,5],[11,3,2,8,5,9,8,7,5],[1,3,7,1,7,5],[8,7,0,0,7,1,7,5,1],[0,3,9,9,3,5,3,7,5],[9,7,5,9,8,7],[4,5,8,5,10,8,8,10,11],[3,0,4,3,4,10,4,5,10,
+3,10,11],[0,1,9,4,5,8,8,5,10,8,10,11],[5,9,4,1,11,3,1,10,11],[3,8,4,3,4,2,2,4,5,2,5,10],[10,2,5,5,2,4,2,0,4],[0,3,8,5,9,4,10,2,1],[2,1,10,9,4,5],[8,4,5,2,8,5,2,11,8,2,5,1],[3,2,11,1,4,5,1,0,4],[9,4,5,8,2,11,8,0,2],[11,3,2,9,4,5],[4,5,8,8,5,3,5,1,3],[5,0,4,5,1,0],[3,8,0,4,5,9],[9,4,5],[7,4,11,4,9,11,11,9,10],[3,0,8,7,4,11,11,4,9,11,9,10],[11,7,4,1,11,4,1,10,11,1,4,0],[8,7,4,11,1,10,11,3,1],[2,3,7,2,7,9,7,4,9,2,9,10],[4,8,7,0,10,2,0,9,10],[2,1,10,0,7,4,0,3,7],[10,2,1,8,7,4],[2,11,7,2,7,1,1,7,4,1,4,
+9],[3,2,11,4,8,7,9,1,0],[7,4,11,11,4,2,4,0,2],[2,11,3,7,4,8],[9,1,4,4,1,7,1,3,7],[1,0,9,8,7,4],[3,4,0,3,7,4],[8,7,4],[8,9,10,8,10,11],[0,9,3,3,9,11,9,10,11],[1,10,0,0,10,8,10,11,8],[10,3,1,10,11,3],[3,8,2,2,8,10,8,9,10],[9,2,0,9,10,2],[8,0,3,1,10,2],[10,2,1],[2,11,1,1,11,9,11,8,9],[11,3,2,0,9,1],[11,0,2,11,8,0],[11,3,2],[8,1,3,8,9,1],[9,1,0],[8,0,3],[]];return b};$3Dmol.MarchingCube=$3Dmol.MarchingCubeInitializer();
+$3Dmol.Parsers=function(){var b={},c=function(b){for(var c=0,d=b.length;c<d;c++)b[c].index||(b[c].index=c);for(var d={},f=0;f<b.length;f++){var c=b[f],g=Math.floor(c.x/4.95),h=Math.floor(c.y/4.95),l=Math.floor(c.z/4.95);d[g]||(d[g]={});d[g][h]||(d[g][h]={});d[g][h][l]||(d[g][h][l]=[]);d[g][h][l].push(c)}b=[{x:0,y:0,z:1},{x:0,y:1,z:-1},{x:0,y:1,z:0},{x:0,y:1,z:1},{x:1,y:-1,z:-1},{x:1,y:-1,z:0},{x:1,y:-1,z:1},{x:1,y:0,z:-1},{x:1,y:0,z:0},{x:1,y:0,z:1},{x:1,y:1,z:-1},{x:1,y:1,z:0},{x:1,y:1,z:1}];for(g in d)for(h in g=
+parseInt(g),d[g])for(l in h=parseInt(h),d[g][h]){l=parseInt(l);f=d[g][h][l];for(c=0;c<f.length;c++)for(var m=f[c],n=c+1;n<f.length;n++){var e=f[n];q(m,e)&&-1==m.bonds.indexOf(e.index)&&(m.bonds.push(e.index),m.bondOrder.push(1),e.bonds.push(m.index),e.bondOrder.push(1))}for(c=0;c<b.length;c++)if(n=b[c],d[g+n.x]&&d[g+n.x][h+n.y]&&d[g+n.x][h+n.y][l+n.z])for(m=f,n=d[g+n.x][h+n.y][l+n.z],e=0;e<m.length;e++)for(var w=m[e],t=0;t<n.length;t++){var C=n[t];if(q(w,C)){var z=w.bonds.indexOf(C.index),B=C.bonds.indexOf(w.index);
+-1==z&&-1==B?(w.bonds.push(C.index),w.bondOrder.push(1),C.bonds.push(w.index),C.bondOrder.push(1)):-1==z?(w.bonds.push(C.index),w.bondOrder.push(C.bondOrder[B])):-1==B&&(C.bonds.push(w.index),C.bondOrder.push(w.bondOrder[z]))}}}},d=function(b){var d=[],g=[],f,p;f=0;for(p=b.length;f<p;f++){var h=b[f];h.index=f;h.hetflag?g.push(h):d.push(h)}c(g);d.sort(function(b,c){return b.chain!=c.chain?b.chain<c.chain?-1:1:b.resi-c.resi});var g=b=-1,l;f=0;for(p=d.length;f<p;f++){h=d[f];h.resi!==b&&(b=h.resi,l||
+g++,l=!1);h.reschain=g;for(var m=f+1;m<d.length;m++){var n=d[m];if(n.chain!=h.chain)break;if(1<n.resi-h.resi)break;q(h,n)&&(-1===h.bonds.indexOf(n.index)&&(h.bonds.push(n.index),h.bondOrder.push(1),n.bonds.push(h.index),n.bondOrder.push(1)),h.resi!==n.resi&&(l=!0))}}},l=function(b){var c=[],d,f;d=0;for(f=b.length;d<f;d++){b[d].index=d;var g=b[d];g.hetflag||"N"!==g.atom&&"O"!==g.atom||(c.push(g),g.hbondOther=null,g.hbondDistanceSq=Number.POSITIVE_INFINITY)}c.sort(function(b,c){return b.z-c.z});d=0;
+for(f=c.length;d<f;d++)for(g=c[d],b=d+1;b<f;b++){var h=c[b],l=h.z-g.z;if(3.2<l)break;if(h.atom!=g.atom){var m=Math.abs(h.y-g.y);if(!(3.2<m)){var n=Math.abs(h.x-g.x);3.2<n||(l=n*n+m*m+l*l,10.24<l||h.chain==g.chain&&4>Math.abs(h.resi-g.resi)||(l<g.hbondDistanceSq&&(g.hbondOther=h,g.hbondDistanceSq=l),l<h.hbondDistanceSq&&(h.hbondOther=g,h.hbondDistanceSq=l)))}}}},g=function(b){l(b);var c={},d,f,g,h,m;d=0;for(f=b.length;d<f;d++)h=b[d],"undefined"===typeof c[h.chain]&&(c[h.chain]=[]),isFinite(h.hbondDistanceSq)&&
+(m=h.hbondOther,"undefined"===typeof c[m.chain]&&(c[m.chain]=[]),4===Math.abs(m.resi-h.resi)&&(c[h.chain][h.resi]="h"));for(g in c)for(d=1;d<c[g].length-1;d++)f=c[g][d-1],h=c[g][d+1],m=c[g][d],"h"==f&&f==h&&m!=f&&(c[g][d]=f);d=0;for(f=b.length;d<f;d++)h=b[d],isFinite(h.hbondDistanceSq)&&"h"!=c[h.chain][h.resi]&&"h"!=h.ss&&(c[h.chain][h.resi]="maybesheet");d=0;for(f=b.length;d<f;d++)if(h=b[d],isFinite(h.hbondDistanceSq)&&"maybesheet"==c[h.chain][h.resi]){m=h.hbondOther;var n=c[m.chain][m.resi];if("maybesheet"==
+n||"s"==n)c[h.chain][h.resi]="s",c[m.chain][m.resi]="s"}for(g in c){for(d=1;d<c[g].length-1;d++)f=c[g][d-1],h=c[g][d+1],m=c[g][d],"s"==f&&f==h&&m!=f&&(c[g][d]=f);for(d=0;d<c[g].length;d++)m=c[g][d],"h"!=m&&"s"!=m||c[g][d-1]==m||c[g][d+1]==m||delete c[g][d]}d=0;for(f=b.length;d<f;d++)h=b[d],m=c[h.chain][h.resi],"undefined"!=typeof m&&"maybesheet"!=m&&(h.ss=m,c[h.chain][h.resi-1]!=m&&(h.ssbegin=!0),c[h.chain][h.resi+1]!=m&&(h.ssend=!0))};b.vasp=b.VASP=function(b,c){var d=[[]],f,g,h,l,m=b.replace(/^\s+/,
+"").split(/[\n\r]/);if(3>m.length)return d;if(m[1].match(/\d+/))f=parseFloat(m[1]);else return console.log("Warning: second line of the vasp structure file must be a number"),d;if(0>f)return console.log("Warning: Vasp implementation for negative lattice lengths is not yet available"),d;g=new Float32Array(m[2].replace(/^\s+/,"").split(/\s+/));h=new Float32Array(m[3].replace(/^\s+/,"").split(/\s+/));l=new Float32Array(m[4].replace(/^\s+/,"").split(/\s+/));var n=new $3Dmol.Matrix4(g[0],g[1],g[2],0,h[0],
+h[1],h[2],0,l[0],l[1],l[2],0,0,0,0,1);n.multiplyScalar(f);d.modelData=[{symmetries:[],cryst:{matrix:n}}];var n=m[5].replace(/\s+/,"").replace(/\s+$/,"").split(/\s+/),e=new Int16Array(m[6].replace(/^\s+/,"").split(/\s+/)),q=m[7].replace(/\s+/,"");if(q.match(/C/))q="cartesian";else if(q.match(/D/))q="direct";else return console.log("Warning: Unknown vasp mode in POSCAR file: mode must be either C(artesian) or D(irect)"),d;if(n.length!=e.length)return console.log("Warning: declaration of atomary species wrong:"),
+console.log(n),console.log(e),d;m.splice(0,8);for(var t=0,w=0,z=n.length;w<z;w++){for(var B=n[w],K=0,J=e[w];K<J;K++){var A=new Float32Array(m[t+K].replace(/^\s+/,"").split(/\s+/));atom={};atom.elem=B;"cartesian"==q?(atom.x=f*A[0],atom.y=f*A[1],atom.z=f*A[2]):(atom.x=f*(A[0]*g[0]+A[1]*h[0]+A[2]*l[0]),atom.y=f*(A[0]*g[1]+A[1]*h[1]+A[2]*l[1]),atom.z=f*(A[0]*g[2]+A[1]*h[2]+A[2]*l[2]));atom.bonds=[];d[0].push(atom)}t+=e[w]}return d};b.cube=b.CUBE=function(b,d){var g=[[]],f=b.replace(/^\s+/,"").split(/\n\r|\r+/);
+if(6>f.length)return g;for(var l=f[2].replace(/^\s+/,"").replace(/\s+/g," ").split(" "),h=Math.abs(parseFloat(l[0])),l=f[3].replace(/^\s+/,"").replace(/\s+/g," ").split(" "),l=0<parseFloat(l[0])?.529177:1,f=f.splice(6,h),h=g[g.length-1].length,m=h+f.length,n=h;n<m;++n){var x={};x.serial=n;var e=f[n-h].replace(/^\s+/,"").replace(/\s+/g," ").split(" ");6==e[0]?x.elem="C":1==e[0]?x.elem="H":8==e[0]?x.elem="O":17==e[0]&&(x.elem="Cl");x.x=parseFloat(e[2])*l;x.y=parseFloat(e[3])*l;x.z=parseFloat(e[4])*
+l;x.hetflag=!0;x.bonds=[];x.bondOrder=[];x.properties={};g[g.length-1].push(x)}for(n=0;n<g.length;n++)c(g[n]);return g};b.xyz=b.XYZ=function(b,d){for(var g=[[]],f=b.split(/\r?\n|\r/);0<f.length&&!(3>f.length);){var l=parseInt(f[0]);if(isNaN(l)||0>=l)break;if(f.length<l+2)break;for(var h=2,m=g[g.length-1].length,l=m+l;m<l;m++){var n=f[h++].replace(/^\s+/,"").replace(/\s+/g," ").split(" "),x={};x.serial=m;var e=n[0];x.atom=x.elem=e[0].toUpperCase()+e.substr(1).toLowerCase();x.x=parseFloat(n[1]);x.y=
+parseFloat(n[2]);x.z=parseFloat(n[3]);x.hetflag=!0;x.bonds=[];x.bondOrder=[];x.properties={};g[g.length-1][m]=x;7<=n.length&&(x.dx=parseFloat(n[4]),x.dy=parseFloat(n[5]),x.dz=parseFloat(n[6]))}if(d.multimodel)g.push([]),f.splice(0,h);else break}for(m=0;m<g.length;m++)c(g[m]);if(d.onemol)for(f=g,g=[],g.push(f[0]),m=1;m<f.length;m++)for(h=g[0].length,l=0;l<f[m].length;l++){n=f[m][l];for(x=0;x<n.bonds.length;x++)n.bonds[x]+=h;n.index=g[0].length;n.serial=g[0].length;g[0].push(n)}return g};b.sdf=b.SDF=
+function(b,c){var d=[[]],f=!1;"undefined"!==typeof c.keepH&&(f=!c.keepH);for(var g=b.split(/\r?\n|\r/);0<g.length&&!(4>g.length);){var h=parseInt(g[3].substr(0,3));if(isNaN(h)||0>=h)break;var l=parseInt(g[3].substr(3,3)),m=4;if(g.length<4+h+l)break;for(var n=[],e=d[d.length-1].length,q=e+h,t,h=e;h<q;h++,m++){t=g[m];var w={},z=t.substr(31,3).replace(/ /g,"");w.atom=w.elem=z[0].toUpperCase()+z.substr(1).toLowerCase();"H"==w.elem&&f||(w.serial=h,n[h]=d[d.length-1].length,w.x=parseFloat(t.substr(0,10)),
+w.y=parseFloat(t.substr(10,10)),w.z=parseFloat(t.substr(20,10)),w.hetflag=!0,w.bonds=[],w.bondOrder=[],w.properties={},w.index=d[d.length-1].length,d[d.length-1].push(w))}for(h=0;h<l;h++,m++)t=g[m],q=n[parseInt(t.substr(0,3))-1+e],w=n[parseInt(t.substr(3,3))-1+e],t=parseInt(t.substr(6,3)),"undefined"!=typeof q&&"undefined"!=typeof w&&(d[d.length-1][q].bonds.push(w),d[d.length-1][q].bondOrder.push(t),d[d.length-1][w].bonds.push(q),d[d.length-1][w].bondOrder.push(t));if(c.multimodel){for(c.onemol||
+d.push([]);"$$$$"!=g[m];)m++;g.splice(0,++m)}else break}return d};b.cdjson=b.json=function(b,c){var d=[[]];"string"===typeof b&&(b=JSON.parse(b));for(var f=b.m,g=f[0].a,h=f[0].b,l=f[0].s,m=void 0!==c&&void 0!==c.parseStyle?c.parseStyle:void 0!==l,f=d[d.length-1].length,n=0;n<g.length;n++){var e=g[n],q={};q.id=e.i;q.x=e.x;q.y=e.y;q.z=e.z||0;q.bonds=[];q.bondOrder=[];var t=e.l||"C";q.elem=t[0].toUpperCase()+t.substr(1).toLowerCase();q.serial=d[d.length-1].length;m&&(q.style=l[e.s||0]);d[d.length-1].push(q)}for(n=
+0;n<h.length;n++)m=h[n],g=m.b+f,l=m.e+f,m=m.o||1,e=d[d.length-1][g],q=d[d.length-1][l],e.bonds.push(l),e.bondOrder.push(m),q.bonds.push(g),q.bondOrder.push(m);return d};b.mcif=b.cif=function(b,d){function l(b,c){for(var d=[],e=0,f=0;f<b.length;){for(;b.substr(f,c.length)!==c&&f<b.length;){if("'"===b[f])for(f++;f<b.length&&"'"!==b[f];)f++;else if('"'===b[f])for(f++;f<b.length&&'"'!==b[f];)f++;f++}d.push(b.substr(e,f-e));e=f+=c.length}return d}for(var f=[],m=!d.doAssembly,h=!d.duplicateAssemblyAtoms,
+q=f.modelData=[],w=b.split(/\r?\n|\r/),x=[],e=!1,H=0;H<w.length;H++){var t=w[H].split("#")[0];e?";"===t[0]&&(e=!1):";"===t[0]&&(e=!0);if(e||""!==t){if(!e&&(t=t.trim(),"_"===t[0])){var C=t.split(/\s/)[0].indexOf(".");-1<C&&(t[C]="_",t=t.substr(0,C)+"_"+t.substr(C+1))}x.push(t)}}for(H=0;H<x.length;){w=function(b){var c=b.match("-");b=b.replace(/[-xyz]/g,"");b=b.split("/");var d;d=void 0===b[1]?1:parseInt(b[1]);return(""===b[0]?1:parseInt(b[0]))/d*(c?-1:1)};for(C=function(b,c,d){return{x:J[0][0]*b+J[0][1]*
+c+J[0][2]*d,y:J[1][0]*b+J[1][1]*c+J[1][2]*d,z:J[2][0]*b+J[2][1]*c+J[2][2]*d}};!x[H].startsWith("data_")||"data_global"===x[H];)H++;H++;for(e={};H<x.length&&!x[H].startsWith("data_");)if(void 0===x[H][0])H++;else if("_"===x[H][0]){var z=x[H].split(/\s/)[0].toLowerCase(),t=e[z]=e[z]||[],B=x[H].substr(x[H].indexOf(z)+z.length);if(""===B)if(H++,";"===x[H][0]){B=x[H].substr(1);for(H++;";"!==x[H];)B=B+"\n"+x[H],H++;t.push(B)}else t.push(x[H]);else t.push(B.trim());H++}else if("loop_"===x[H].substr(0,5)){H++;
+for(B=[];""===x[H]||"_"===x[H][0];)""!==x[H]&&(z=x[H].split(/\s/)[0].toLowerCase(),t=e[z]=e[z]||[],B.push(t)),H++;for(z=0;H<x.length&&"_"!==x[H][0]&&!x[H].startsWith("loop_")&&!x[H].startsWith("data_");){for(var t=l(x[H]," "),K=0;K<t.length;K++)""!==t[K]&&(B[z].push(t[K]),z=(z+1)%B.length);H++}}else H++;q.push({symmetries:[]});f.push([]);var B=void 0!==e._atom_site_id?e._atom_site_id.length:e._atom_site_label.length,J;if(void 0!==e._cell_length_a){var t=parseFloat(e._cell_length_a),z=parseFloat(e._cell_length_b),
+K=parseFloat(e._cell_length_c),A=parseFloat(e._cell_angle_alpha)||90,O=parseFloat(e._cell_angle_beta)||90,E=parseFloat(e._cell_angle_gamma)||90,N=O*Math.PI/180,L=E*Math.PI/180,Q=Math.cos(A*Math.PI/180),N=Math.cos(N),G=Math.cos(L),L=Math.sin(L);J=[[t,z*G,K*N],[0,z*L,K*(Q-N*G)/L],[0,0,K*Math.sqrt(1-Q*Q-N*N-G*G+2*Q*N*G)/L]];q[q.length-1].cryst={a:t,b:z,c:K,alpha:A,beta:O,gamma:E}}for(t=0;t<B;t++)if(void 0===e._atom_site_group_pdb||"TER"!==e._atom_site_group_pdb[t])z={},void 0!==e._atom_site_cartn_x?
+(z.x=parseFloat(e._atom_site_cartn_x[t]),z.y=parseFloat(e._atom_site_cartn_y[t]),z.z=parseFloat(e._atom_site_cartn_z[t])):(K=C(parseFloat(e._atom_site_fract_x[t]),parseFloat(e._atom_site_fract_y[t]),parseFloat(e._atom_site_fract_z[t])),z.x=K.x,z.y=K.y,z.z=K.z),z.chain=e._atom_site_auth_asym_id?e._atom_site_auth_asym_id[t]:void 0,z.resi=e._atom_site_auth_seq_id?parseInt(e._atom_site_auth_seq_id[t]):void 0,z.resn=e._atom_site_auth_comp_id?e._atom_site_auth_comp_id[t].trim():void 0,z.atom=e._atom_site_auth_atom_id?
+e._atom_site_auth_atom_id[t].replace(/"/gm,""):void 0,z.hetflag=!e._atom_site_group_pdb||"HETA"===e._atom_site_group_pdb[t]||"HETATM"===e._atom_site_group_pdb[t],K=e._atom_site_type_symbol[t],z.elem=K[0].toUpperCase()+K.substr(1).toLowerCase(),z.bonds=[],z.ss="c",z.serial=t,z.bondOrder=[],z.properties={},f[f.length-1].push(z);if(void 0!==e._pdbx_struct_oper_list_id&&!m){for(t=0;t<e._pdbx_struct_oper_list_id.length;t++){var C=parseFloat(e["_pdbx_struct_oper_list_matrix[1][1]"][t]),B=parseFloat(e["_pdbx_struct_oper_list_matrix[1][2]"][t]),
+z=parseFloat(e["_pdbx_struct_oper_list_matrix[1][3]"][t]),K=parseFloat(e["_pdbx_struct_oper_list_vector[1]"][t]),A=parseFloat(e["_pdbx_struct_oper_list_matrix[2][1]"][t]),O=parseFloat(e["_pdbx_struct_oper_list_matrix[2][2]"][t]),E=parseFloat(e["_pdbx_struct_oper_list_matrix[2][3]"][t]),Q=parseFloat(e["_pdbx_struct_oper_list_vector[2]"][t]),L=parseFloat(e["_pdbx_struct_oper_list_matrix[3][1]"][t]),N=parseFloat(e["_pdbx_struct_oper_list_matrix[3][2]"][t]),G=parseFloat(e["_pdbx_struct_oper_list_matrix[3][3]"][t]),
+P=parseFloat(e["_pdbx_struct_oper_list_vector[3]"][t]),C=new $3Dmol.Matrix4(C,B,z,K,A,O,E,Q,L,N,G,P);q[q.length-1].symmetries.push(C)}for(t=0;t<f.length;t++)n(q[q.length-1].symmetries,h,f[t])}if(void 0!==e._symmetry_equiv_pos_as_xyz)for(t=0;t<e._symmetry_equiv_pos_as_xyz.length;t++){B=e._symmetry_equiv_pos_as_xyz[t].replace(/["' ]/g,"").split(",").map(function(b){return b.replace(/-/g,"+-")});C=new $3Dmol.Matrix4(0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,1);for(z=0;3>z;z++)for(K=B[z].split("+"),A=0;A<K.length;A++)O=
+K[A],""!==O&&(E=w(O),O.match("x")?C.elements[z+0]=E:O.match("y")?C.elements[z+4]=E:O.match("z")?C.elements[z+8]=E:C.elements[z+12]=E);B=new $3Dmol.Matrix4(J[0][0],J[0][1],J[0][2],0,J[1][0],J[1][1],J[1][2],0,J[2][0],J[2][1],J[2][2],0);z=(new $3Dmol.Matrix4).getInverse(B,!0);C=(new $3Dmol.Matrix4).multiplyMatrices(C,z);C=(new $3Dmol.Matrix4).multiplyMatrices(B,C);q[q.length-1].symmetries.push(C)}}for(t=0;t<f.length;t++)c(f[t]),g(f[t]),n(q[t].symmetries,h,f[t]);return f};b.mol2=b.MOL2=function(b,c){var d=
+[[]],f=!1;"undefined"!==typeof c.keepH&&(f=!c.keepH);for(var g=b.substr(h,b.length).split(/\r?\n|\r/);0<g.length;){var h=b.search(/@<TRIPOS>MOLECULE/),l=b.search(/@<TRIPOS>ATOM/);if(-1==h||-1==l)break;var h=[],m=g[2].replace(/^\s+/,"").replace(/\s+/g," ").split(" "),n=parseInt(m[0]),l=0;1<m.length&&(l=parseInt(m[1]));var e=4,q;for(q=3;q<g.length;q++)if("@<TRIPOS>ATOM"==g[q]){e=q+1;break}q=d[d.length-1].length;for(n=q+n;q<n;q++){var m=g[e++],m=m.replace(/^\s+/,"").replace(/\s+/g," ").split(" "),t=
+{},w=m[5].split(".")[0];t.atom=t.elem=w[0].toUpperCase()+w.substr(1).toLowerCase();if("H"!=t.elem||!f){var w=d[d.length-1].length,z=parseInt(m[0]);t.serial=z;t.x=parseFloat(m[2]);t.y=parseFloat(m[3]);t.z=parseFloat(m[4]);t.atom=m[5];m=parseFloat(m[8]);t.index=w;t.bonds=[];t.bondOrder=[];t.properties={charge:m,partialCharge:m};h[z]=w;d[d.length-1].push(t)}}for(q=!1;e<g.length;)if("@<TRIPOS>BOND"==g[e++]){q=!0;break}if(q&&l)for(q=0;q<l;q++)m=g[e++],m=m.replace(/^\s+/,"").replace(/\s+/g," ").split(" "),
+n=parseInt(m[1]),fromAtom=d[d.length-1][h[n]],t=parseInt(m[2]),toAtom=d[d.length-1][h[t]],m=parseInt(m[3]),isNaN(m)&&(m=1),void 0!==fromAtom&&void 0!==toAtom&&(fromAtom.bonds.push(h[t]),fromAtom.bondOrder.push(m),toAtom.bonds.push(h[n]),toAtom.bondOrder.push(m));if(c.multimodel)c.onemol||d.push([]),g.splice(0,e),b=g.join("\n");else break}return d};var w={H:.37,He:.32,Li:1.34,Be:.9,B:.82,C:.77,N:.75,O:.73,F:.71,Ne:.69,Na:1.54,Mg:1.3,Al:1.18,Si:1.11,P:1.06,S:1.02,Cl:.99,Ar:.97,K:1.96,Ca:1.74,Sc:1.44,
+Ti:1.56,V:1.25,Mn:1.39,Fe:1.25,Co:1.26,Ni:1.21,Cu:1.38,Zn:1.31,Ga:1.26,Ge:1.22,Se:1.16,Br:1.14,Kr:1.1,Rb:2.11,Sr:1.92,Y:1.62,Zr:1.48,Nb:1.37,Mo:1.45,Tc:1.56,Ru:1.26,Rh:1.35,Pd:1.31,Ag:1.53,Cd:1.48,In:1.44,Sn:1.41,Sb:1.38,Te:1.35,I:1.33,Xe:1.3,Cs:2.25,Ba:1.98,Lu:1.6,Hf:1.5,Ta:1.38,W:1.46,Re:1.59,Os:1.44,Ir:1.37,Pt:1.28,Au:1.44,Hg:1.49,Tl:1.48,Pb:1.47,Bi:1.46,Rn:1.45},q=function(b,c){var d=(w[b.elem]||1.6)+(w[c.elem]||1.6),d=d+.25,d=d*d,f=b.x-c.x,f=f*f;if(f>d)return!1;var g=b.y-c.y,g=g*g;if(g>d)return!1;
+var h=b.z-c.z,h=h*h;if(h>d)return!1;f=f+g+h;return isNaN(f)?!1:.5>f?!1:f>d?!1:b.altLoc!=c.altLoc&&" "!=b.altLoc&&" "!=c.altLoc?!1:!0},n=function(b,c,d){var f=d.length,g=f,h,l;if(!c)for(c=0;c<b.length;c++){if(!b[c].isIdentity()){var m=new $3Dmol.Vector3;for(l=0;l<f;l++){var n=[];for(h=0;h<d[l].bonds.length;h++)n.push(d[l].bonds[h]+g);m.set(d[l].x,d[l].y,d[l].z);m.applyMatrix4(b[c]);h={};for(var e in d[l])h[e]=d[l][e];h.x=m.x;h.y=m.y;h.z=m.z;h.bonds=n;d.push(h)}g=d.length}}else if(1<b.length)for(c=
+0;c<d.length;c++){f=[];for(h=0;h<b.length;h++)b[h].isIdentity()||(g=new $3Dmol.Vector3,g.set(d[c].x,d[c].y,d[c].z),g.applyMatrix4(b[h]),f.push(g));d[c].symmetries=f}};b.pdb=b.PDB=b.pdbqt=b.PDBQT=function(b,c){var l=[],f={};l.modelData=[];for(var m=b.split(/\r?\n|\r/);0<m.length;){for(var h=m,q=f,m=[],B=!c.keepH,x=!!c.noSecondaryStructure,e=!c.noComputeSecondaryStructure,H=!c.doAssembly,t=!c.duplicateAssemblyAtoms,C=c.altLoc?c.altLoc:"A",z={symmetries:[]},I=void 0,K=[],J=[],A=void 0,O=void 0,E=void 0,
+N={},A=0;A<h.length;A++){var E=h[A].replace(/^\s*/,""),L=E.substr(0,6);if(0==L.indexOf("END")){K=h.slice(A+1);if("END"==L)for(var Q in q)q.hasOwnProperty(Q)&&delete q[Q];break}else if("ATOM  "==L||"HETATM"==L){var G,P,R,S,X,T,Y,V,W,U;U=E.substr(16,1);if(" "==U||U==C||"*"==C)W=parseInt(E.substr(6,5)),I=E.substr(12,4).replace(/ /g,""),G=E.substr(17,3).replace(/ /g,""),P=E.substr(21,1),R=parseInt(E.substr(22,4)),S=E.substr(26,1),X=parseFloat(E.substr(30,8)),T=parseFloat(E.substr(38,8)),Y=parseFloat(E.substr(46,
+8)),O=parseFloat(E.substr(60,8)),V=E.substr(76,2).replace(/ /g,""),""===V||"undefined"===typeof w[V]?(V=E.substr(12,2).replace(/ /g,""),0<V.length&&"H"==V[0]&&"Hg"!=V&&(V="H"),1<V.length&&(V=V[0].toUpperCase()+V.substr(1).toLowerCase(),"undefined"===typeof w[V]?V=V[0]:"A"==E[0]&&"Ca"==V&&(V="C"))):V=V[0].toUpperCase()+V.substr(1).toLowerCase(),"H"==V&&B||(L="H"==L[0]?!0:!1,J[W]=m.length,m.push({resn:G,x:X,y:T,z:Y,elem:V,hetflag:L,altLoc:U,chain:P,resi:R,icode:S,rescode:R+(" "!=S?"^"+S:""),serial:W,
+atom:I,bonds:[],ss:"c",bondOrder:[],properties:{},b:O,pdbline:E}))}else if("SHEET "==L){O=E.substr(21,1);I=parseInt(E.substr(22,4));E.substr(32,1);E=parseInt(E.substr(33,4));O in q||(q[O]={});q[O][I]="s1";for(I+=1;I<E;I++)q[O][I]="s";q[O][E]="s2"}else if("CONECT"==L)for(O=parseInt(E.substr(6,5)),I=J[O],G=m[I],P=[11,16,21,26],O=0;4>O;O++){if(R=parseInt(E.substr(P[O],5)),R=J[R],S=m[R],void 0!==G&&void 0!==S)if(N[[I,R]])for(N[[I,R]]+=1,S=0;S<G.bonds.length;S++)G.bonds[S]==R&&(X=N[[I,R]],G.bondOrder[S]=
+4<=X?1:X);else if(N[[I,R]]=1,0==G.bonds.length||G.bonds[G.bonds.length-1]!=R)G.bonds.push(R),G.bondOrder.push(1)}else if("HELIX "==L){O=E.substr(19,1);I=parseInt(E.substr(21,4));E.substr(31,1);E=parseInt(E.substr(33,4));O in q||(q[O]={});q[O][I]="h1";for(I+=1;I<E;I++)q[O][I]="h";q[O][E]="h2"}else if(H||"REMARK"!=L||"BIOMT"!=E.substr(13,5))"CRYST1"==L?(I=parseFloat(E.substr(7,8)),O=parseFloat(E.substr(16,8)),G=parseFloat(E.substr(25,8)),P=parseFloat(E.substr(34,6)),R=parseFloat(E.substr(41,6)),E=parseFloat(E.substr(48,
+6)),z.cryst={a:I,b:O,c:G,alpha:P,beta:R,gamma:E}):"ANISOU"==L&&(W=parseInt(E.substr(6,5)),O=m[J[W]])&&(E=E.substr(30).trim().split(/\s+/),E={u11:parseInt(E[0]),u22:parseInt(E[1]),u33:parseInt(E[2]),u12:parseInt(E[3]),u13:parseInt(E[4]),u23:parseInt(E[5])},O.uMat=E);else{I=new $3Dmol.Matrix4;for(O=1;3>=O;O++)if(E=h[A].replace(/^\s*/,""),parseInt(E.substr(18,1))==O)I.elements[O-1]=parseFloat(E.substr(23,10)),I.elements[O-1+4]=parseFloat(E.substr(33,10)),I.elements[O-1+8]=parseFloat(E.substr(43,10)),
+I.elements[O-1+12]=parseFloat(E.substr(53)),A++;else for(;"BIOMT"==E.substr(13,5);)A++,E=h[A].replace(/^\s*/,"");I.elements[3]=0;I.elements[7]=0;I.elements[11]=0;I.elements[15]=1;z.symmetries.push(I);A--}}(new Date).getTime();A=m;h=0;for(B=A.length;h<B;h++)for(C=A[h],N=0;N<C.bonds.length;N++)E=A[C.bonds[N]],O=J[C.serial],E&&O&&0>E.bonds.indexOf(O)&&(E.bonds.push(O),E.bondOrder.push(C.bondOrder[N]));d(m);H||n(z.symmetries,t,m);e&&!x&&((new Date).getTime(),g(m));(new Date).getTime();a:{x=q;e=void 0;
+for(e in x){x=!1;break a}x=!0}if(!x)for(A=0;A<m.length;A++)I=m[A],void 0!==I&&I.chain in q&&I.resi in q[I.chain]&&(x=q[I.chain][I.resi],I.ss=x[0],1<x.length&&("1"==x[1]?I.ssbegin=!0:"2"==x[1]&&(I.ssend=!0)));m=[m,z,K];q=m[0];z=m[1];m=m[2];if(0!=q.length){if(c.multimodel&&c.onemol&&0<l.length)for(z=l[0].length,K=0;K<q.length;K++){x=q[K];x.index=K;for(e=0;e<x.bonds.length;e++)x.bonds[e]+=z;l[0].push(x)}else l.modelData.push(z),l.push(q);if(!c.multimodel)break}}return l};b.pqr=b.PQR=function(b,c){var l=
+[[]],f,m=!c.noSecondaryStructure;l.modelData=[{symmetries:[]}];var h=[],n=b.split(/\r?\n|\r/),q,x;for(q=0;q<n.length;q++)if(x=n[q].replace(/^\s*/,""),f=x.substr(0,6),0==f.indexOf("END"))if(c.multimodel)c.onemol||l.push([]);else break;else if("ATOM  "==f||"HETATM"==f){var e,w=parseInt(x.substr(6,5));f=x.substr(12,4).replace(/ /g,"");var t=x.substr(17,3),C=x.substr(21,1),z=parseInt(x.substr(22,4));e=x.substr(30).trim().split(/\s+/);var B=parseFloat(e[0]),K=parseFloat(e[1]),J=parseFloat(e[2]),A=parseFloat(e[3]),
+O=parseFloat(e[4]),E=f[0];1<f.length&&f[1].toUpperCase()!=f[1]&&(E=f.substr(0,2));e="H"==x[0]?!0:!1;h[w]=l[l.length-1].length;l[l.length-1].push({resn:t,x:B,y:K,z:J,elem:E,hetflag:e,chain:C,resi:z,serial:w,atom:f,bonds:[],ss:"c",bondOrder:[],properties:{charge:A,partialCharge:A,radius:O},pdbline:x})}else if("CONECT"==f)for(f=parseInt(x.substr(6,5)),w=l[l.length-1][h[f]],f=0;4>f;f++)t=parseInt(x.substr([11,16,21,26][f],5)),C=l[l.length-1][h[t]],void 0!==w&&void 0!==C&&(w.bonds.push(h[t]),w.bondOrder.push(1));
+for(q=0;q<l.length;q++)d(l[q]),m&&g(l[q]);return l};var m=function(b){return String.fromCharCode.apply(null,b).replace(/\0/g,"")},B=function(b){return 2==b?"h":3==b?"s":"c"};b.mmtf=b.MMTF=function(b,c){var d=!c.keepH,f=c.altLoc?c.altLoc:"A",l=!!c.noSecondaryStructure,h=!c.noComputeSecondaryStructure,q=!c.doAssembly,w=!c.duplicateAssemblyAtoms,x=c.assemblyIndex?c.assemblyIndex:0,e=MMTF.decode(b),H=[[]],t=H.modelData=[],C=0,z=0,I=0,K=0,J=e.secStructList,A=e.insCodeList,O=e.bFactorList,E=e.altLocList,
+N=e.occupancyList,L=e.bondAtomList,Q=e.bondOrderList,G=e.numModels;if(0==G)return H;c.multimodel||(G=1);var P,R,S,X,T=[];if(!q&&e.bioAssemblyList&&0<e.bioAssemblyList.length)for(X=e.bioAssemblyList[x].transformList,x=0,P=X.length;x<P;x++){var Y=new $3Dmol.Matrix4(X[x].matrix);Y.transpose();T.push(Y)}for(X=Y=0;X<G;X++){var V=e.chainsPerModel[X],W=H[H.length-1],U=[];t.push({symmetries:T});for(x=0;x<V;++x){var D=e.groupsPerChain[z],Z=m(e.chainIdList.subarray(4*z,4*z+4));e.chainNameList&&(Z=m(e.chainNameList.subarray(4*
+z,4*z+4)));var aa=I,ga="";for(P=0;P<D;++P){var da=e.groupList[e.groupTypeList[I]];S=da.atomNameList.length;var fa=0,ea=!1,ca=!1;if(J){fa=J[I];R=B(fa);if(0==I||R!=ga)ea=!0;var ga=R,Ea=I+1;if(Ea>=J.length||B(J[Ea]!=R))ca=!0}e.insCodeList&&String.fromCharCode(A[I]);var oa=e.groupIdList[I],na=da.groupName,Ea=K;for(R=0;R<S;++R){var xa=da.elementList[R];if(!d||"H"!=xa){var Ha="";O&&(Ha=O[K]);var pa="";E&&E[K]&&(pa=String.fromCharCode(E[K]));var La="";N&&(La=N[K]);if(""==pa||pa==f||"*"==f){var Ma=e.atomIdList[K],
+ha=da.atomNameList[R],ab=0;da.atomChargeList&&(ab=da.atomChargeList[R]);var Za=e.xCoordList[K],Qa=e.yCoordList[K],va=e.zCoordList[K];U[K]=W.length;W.push({resn:na,x:Za,y:Qa,z:va,elem:xa,hetflag:0>fa,chain:Z,resi:oa,icode:pa,rescode:oa+(" "!=pa?"^"+pa:""),serial:Ma,altLoc:pa,index:K,atom:ha,bonds:[],ss:B(fa),ssbegin:ea,ssend:ca,bondOrder:[],properties:{charge:ab,occupancy:La},b:Ha})}}K+=1}fa=da.bondAtomList;R=0;for(S=da.bondOrderList.length;R<S;++R)ca=Ea+fa[2*R],oa=Ea+fa[2*R+1],ea=da.bondOrderList[R],
+ca=U[ca],oa=U[oa],na=W[ca],xa=W[oa],na&&xa&&(na.bonds.push(oa),na.bondOrder.push(ea),xa.bonds.push(ca),xa.bondOrder.push(ea));I+=1}I=aa;for(P=0;P<D;++P)I+=1;z+=1}if(L)for(R=Y,S=L.length;R<S;R+=2){ca=L[R];oa=L[R+1];ea=Q?Q[R/2]:1;if(ca>=K){Y=R;break}ca=U[ca];oa=U[oa];na=W[ca];xa=W[oa];na&&xa&&(na.bonds.push(oa),na.bondOrder.push(ea),xa.bonds.push(ca),xa.bondOrder.push(ea))}c.multimodel&&(c.onemol||H.push([]));if(!q)for(P=0;P<H.length;P++)n(t[C].symmetries,w,H[P]);C+=1}h&&!l&&g(H);return H};b.prmtop=
+b.PRMTOP=function(b,c){function d(b){var c=l.indexOf(m.filter(function(c){return c.includes(b)})[0]);if(Number.isInteger(c)&&0<c){for(;!l[c].includes("FORMAT");)c++;return c}return-1}function f(b){var c=l[b].match(/\((\d*)\S*/),d=l[b].match(/[a-zA-Z](\d*)\)\s*/);null==d&&(d=l[b].match(/[a-zA-Z](\d*)\.\d*\)\s*/));return[c[1],d[1]]}var g=[],h=0,l=b.split(/\r?\n|\r/);if(0<l.length&&l[0].includes("VERSION")){var m=l.filter(function(b){return b.includes("POINTERS")||b.includes("ATOM_NAME")||b.includes("CHARGE")||
+b.includes("RADII")||b.includes("BONDS_INC_HYDROGEN")||b.includes("BONDS_WITHOUT_HYDROGEN")}),n=d("POINTERS");if(-1==n)return[];var e=f(n),q=parseInt(l[n+1].slice(0,e[1]));if(isNaN(q)||0>=q)return[];n=d("ATOM_NAME");if(-1==n)return[];var e=f(n),t=e[0];for(i=0;i<q/e[0];i++){i==parseInt(q/e[0])&&(t=q%e[0]);for(j=0;j<t;j++){var w={};w.serial=h;w.x=0;w.y=0;w.z=0;w.atom=l[n+1].slice(e[1]*j,e[1]*(j+1));w.elem=l[n+1].slice(e[1]*j,e[1]*j+1);w.properties={charge:"",radii:""};w.bonds=[];w.bondOrder=[];g.push(w);
+h++}n++}n=d("CHARGE");if(-1!=n)for(e=f(n),h=0,t=e[0],i=0;i<q/e[0];i++){i==parseInt(q/e[0])&&(t=q%e[0]);for(j=0;j<t;j++)g[h].properties.charge=l[n+1].slice(e[1]*j,e[1]*(j+1)),h++;n++}n=d("RADII");if(-1!=n)for(e=f(n),h=0,t=e[0],i=0;i<q/e[0];i++){i==parseInt(q/e[0])&&(t=q%e[0]);for(j=0;j<t;j++)g[h].properties.radii=l[n+1].slice(e[1]*j,e[1]*(j+1)),h++;n++}n=d("BONDS_WITHOUT_HYDROGEN");if(-1!=n){var e=f(n),h=0,t=e[0],z;for(i=0;i<q/e[0];i++){i==parseInt(q/e[0])&&(t=q%e[0]);for(j=0;j<t;j++)0==h%3&&(z=parseInt(l[n+
+1].slice(e[1]*j,e[1]*(j+1))/3+1)),1==h%3&&g[z].bonds.push(parseInt(l[n+1].slice(e[1]*j,e[1]*(j+1))/3+1)),h++;n++}}n=d("BONDS_INC_HYDROGEN");if(-1!=n)for(e=f(n),h=0,t=e[0],i=0;i<q/e[0];i++){i==parseInt(q/e[0])&&(t=q%e[0]);for(j=0;j<t;j++)0==h%3&&(z=parseInt(l[n+1].slice(e[1]*j,e[1]*(j+1))/3+1)),1==h%3&&g[z].bonds.push(parseInt(l[n+1].slice(e[1]*j,e[1]*(j+1))/3+1)),h++;n++}}else return[];return[g]};b.gro=b.GRO=function(b,d){for(var g=[],f=b.split(/\r?\n|\r/);0<f.length&&!(3>f.length);){var l=parseInt(f[1]);
+if(isNaN(l)||0>=l)break;if(f.length<l+3)break;g.push([]);for(var h=2,m=g[g.length-1].length,l=m+l;m<l;m++){var n=f[h++],q={};q.serial=m;q.atom=n.slice(10,15).trim();97<=q.atom.charCodeAt(1)&&122>=q.atom.charCodeAt(1)?q.elem=q.atom.slice(0,2):q.elem=q.atom[0];q.x=parseFloat(n.slice(20,28));q.y=parseFloat(n.slice(28,36));q.z=parseFloat(n.slice(36,44));q.resi=n.slice(5,10);q.bonds=[];q.bondOrder=[];q.properties={};44<n.length&&(q.dx=parseFloat(n.slice(44,52)),q.dy=parseFloat(n.slice(52,60)),q.dz=parseFloat(n.slice(60,
+68)));g[g.length-1][m]=q}f.splice(0,++h)}for(m=0;m<g.length;m++)c(g[m]);return g};return b}();$3Dmol=$3Dmol||{};
+$3Dmol.partialCharges={"ALA:N":-.15,"ALA:CA":.1,"ALA:CB":0,"ALA:C":.6,"ALA:O":-.55,"ARG:N":-.15,"ARG:CA":.1,"ARG:CB":0,"ARG:CG":0,"ARG:CD":.1,"ARG:NE":-.1,"ARG:CZ":.5,"ARG:NH1":.25,"ARG:NH2":.25,"ARG:C":.6,"ARG:O":-.55,"ASN:N":-.15,"ASN:CA":.1,"ASN:CB":0,"ASN:CG":.55,"ASN:OD1":-.55,"ASN:ND2":0,"ASN:C":.6,"ASN:O":-.55,"ASP:N":-.15,"ASP:CA":.1,"ASP:CB":0,"ASP:CG":.14,"ASP:OD1":-.57,"ASP:OD2":-.57,"ASP:C":.6,"ASP:O":-.55,"CYS:N":-.15,"CYS:CA":.1,"CYS:CB":.19,"CYS:SG":-.19,"CYS:C":.6,"CYS:O":-.55,"GLN:N":-.15,
+"GLN:CA":.1,"GLN:CB":0,"GLN:CG":0,"GLN:CD":.55,"GLN:OE1":-.55,"GLN:NE2":0,"GLN:C":.6,"GLN:O":-.55,"GLU:N":-.15,"GLU:CA":.1,"GLU:CB":0,"GLU:CG":0,"GLU:CD":.14,"GLU:OE1":-.57,"GLU:OE2":-.57,"GLU:C":.6,"GLU:O":-.55,"GLY:N":-.15,"GLY:CA":.1,"GLY:C":.6,"GLY:O":-.55,"HIS:N":-.15,"HIS:CA":.1,"HIS:CB":0,"HIS:CG":.1,"HIS:ND1":-.1,"HIS:CD2":.1,"HIS:NE2":-.4,"HIS:CE1":.3,"HIS:C":.6,"HIS:O":-.55,"ILE:N":-.15,"ILE:CA":.1,"ILE:CB":0,"ILE:CG2":0,"ILE:CG1":0,"ILE:CD":0,"ILE:C":.6,"ILE:O":-.55,"LEU:N":-.15,"LEU:CA":.1,
+"LEU:CB":0,"LEU:CG":0,"LEU:CD1":0,"LEU:CD2":0,"LEU:C":.6,"LEU:O":-.55,"LYS:N":-.15,"LYS:CA":.1,"LYS:CB":0,"LYS:CG":0,"LYS:CD":0,"LYS:CE":.25,"LYS:NZ":.75,"LYS:C":.6,"LYS:O":-.55,"MET:N":-.15,"MET:CA":.1,"MET:CB":0,"MET:CG":.06,"MET:SD":-.12,"MET:CE":.06,"MET:C":.6,"MET:O":-.55,"PHE:N":-.15,"PHE:CA":.1,"PHE:CB":0,"PHE:CG":0,"PHE:CD1":0,"PHE:CD2":0,"PHE:CE1":0,"PHE:CE2":0,"PHE:CZ":0,"PHE:C":.6,"PHE:O":-.55,"PRO:N":-.25,"PRO:CD":.1,"PRO:CA":.1,"PRO:CB":0,"PRO:CG":0,"PRO:C":.6,"PRO:O":-.55,"SER:N":-.15,
+"SER:CA":.1,"SER:CB":.25,"SER:OG":-.25,"SER:C":.6,"SER:O":-.55,"THR:N":-.15,"THR:CA":.1,"THR:CB":.25,"THR:OG1":-.25,"THR:CG2":0,"THR:C":.6,"THR:O":-.55,"TRP:N":-.15,"TRP:CA":.1,"TRP:CB":0,"TRP:CG":-.03,"TRP:CD2":.1,"TRP:CE2":-.04,"TRP:CE3":-.03,"TRP:CD1":.06,"TRP:NE1":-.06,"TRP:CZ2":0,"TRP:CZ3":0,"TRP:CH2":0,"TRP:C":.6,"TRP:O":-.55,"TYR:N":-.15,"TYR:CA":.1,"TYR:CB":0,"TYR:CG":0,"TYR:CD1":0,"TYR:CE1":0,"TYR:CD2":0,"TYR:CE2":0,"TYR:CZ":.25,"TYR:OH":-.25,"TYR:C":.6,"TYR:O":-.55,"VAL:N":-.15,"VAL:CA":.1,
+"VAL:CB":0,"VAL:CG1":0,"VAL:CG2":0,"VAL:C":.6,"VAL:O":-.55};$3Dmol.applyPartialCharges=function(b,c){c&&"undefined"!==typeof b.partialCharge||b.resn&&b.atom&&(b.properties.partialCharge=$3Dmol.partialCharges[b.resn+":"+b.atom])};(function(){});
+$3Dmol.VolumeData=function(b,c,d){this.unit={x:1,y:1,z:1};this.origin={x:0,y:0,z:0};this.size={x:0,y:0,z:0};this.data=new Float32Array([]);this.matrix=null;c=c.toLowerCase();if(/\.gz$/.test(c)){c=c.replace(/\.gz$/,"");try{b=this[c]&&this[c].isbinary?pako.inflate(b):(new TextDecoder("utf-8")).decode(pako.inflate(b))}catch(l){console.log(l)}}if(this[c])this[c](b);if(d){if(d.negate)for(b=0,c=this.data.length;b<c;b++)this.data[b]=-this.data[b];if(d.normalize){var g=0;b=0;for(c=this.data.length;b<c;b++)g+=
+this.data[b];d=g/this.data.length;console.log("computed mean: "+d);b=g=0;for(c=this.data.length;b<c;b++)var w=this.data[b]-d,g=g+w*w;g/=this.data.length;console.log("Computed variance: "+g);b=0;for(c=this.data.length;b<c;b++)this.data[b]=(this.data[b]-d)/g}}};
+$3Dmol.VolumeData.prototype.getVal=function(b,c,d){b-=this.origin.x;c-=this.origin.y;d-=this.origin.z;b/=this.unit.x;c/=this.unit.y;d/=this.unit.z;b=Math.round(b);c=Math.round(c);d=Math.round(d);return 0>b||b>=this.size.x||0>c||c>=this.size.y||0>d||d>=this.size.z?0:this.data[b*this.size.y*this.size.z+c*this.size.z+d]};
+$3Dmol.VolumeData.prototype.getCoordinates=function(b){var c=b/(this.size.y*this.size.z),d=b%(this.size.y*this.size.z);b%=this.size.z;c*=this.unit.x;d*=this.unit.y;b*=this.unit.z;c+=this.origin.x;d+=this.origin.y;b+=this.origin.z;return{x:c,y:d,z:b}};
+$3Dmol.VolumeData.prototype.vasp=function(b){var c=b.replace(/^\s+/,"").split(/[\n\r]/),d=$3Dmol.Parsers.vasp(b)[0].length;if(0==d)console.log("No good formating of CHG or CHGCAR file, not atomic information provided in the file."),this.data=[];else{var l=parseFloat(c[1]),g;g=c[2].replace(/^\s+/,"").split(/\s+/);b=(new $3Dmol.Vector3(parseFloat(g[0]),parseFloat(g[1]),parseFloat(g[2]))).multiplyScalar(1.889725992*l);g=c[3].replace(/^\s+/,"").split(/\s+/);var w=(new $3Dmol.Vector3(parseFloat(g[0]),
+parseFloat(g[1]),parseFloat(g[2]))).multiplyScalar(1.889725992*l);g=c[4].replace(/^\s+/,"").split(/\s+/);g=(new $3Dmol.Vector3(parseFloat(g[0]),parseFloat(g[1]),parseFloat(g[2]))).multiplyScalar(1.889725992*l);l=b.x*(w.y*g.z-g.y*w.z)-w.x*(b.y*g.z-g.y*b.z)+g.x*(b.y*w.z-w.y*b.z);l=Math.abs(l)/Math.pow(1.889725992,3);l=1/l;c.splice(0,8+d+1);var q=c[0].replace(/^\s+/,"").replace(/\s+/g," ").split(" "),d=Math.abs(q[0]),n=Math.abs(q[1]),q=Math.abs(q[2]),m=this.origin=new $3Dmol.Vector3(0,0,0);this.size=
+{x:d,y:n,z:q};this.unit=new $3Dmol.Vector3(b.x,w.y,g.z);b=b.multiplyScalar(1/(1.889725992*d));w=w.multiplyScalar(1/(1.889725992*n));g=g.multiplyScalar(1/(1.889725992*q));if(0!=b.y||0!=b.z||0!=w.x||0!=w.z||0!=g.x||0!=g.y)this.matrix=new $3Dmol.Matrix4(b.x,w.x,g.x,0,b.y,w.y,g.y,0,b.z,w.z,g.z,0,0,0,0,1),this.matrix=this.matrix.multiplyMatrices(this.matrix,(new $3Dmol.Matrix4).makeTranslation(m.x,m.y,m.z)),this.origin=new $3Dmol.Vector3(0,0,0),this.unit=new $3Dmol.Vector3(1,1,1);c.splice(0,1);c=c.join(" ");
+c=c.replace(/^\s+/,"");c=c.split(/[\s\r]+/);c.splice(d*n*q+1);c=new Float32Array(c);for(b=0;b<c.length;b++)c[b]=c[b]*l*.036749309;this.data=c}};
+$3Dmol.VolumeData.prototype.dx=function(b){b=b.split(/[\n\r]+/);var c,d,l=/gridpositions\s+counts\s+(\d+)\s+(\d+)\s+(\d+)/,g=/^origin\s+(\S+)\s+(\S+)\s+(\S+)/,w=/^delta\s+(\S+)\s+(\S+)\s+(\S+)/,q=/data follows/;for(c=0;c<b.length;c++){var n=b[c];if(d=l.exec(n)){var m=parseInt(d[1]),B=parseInt(d[2]);d=parseInt(d[3]);this.size={x:m,y:B,z:d}}else if(d=w.exec(n)){m=parseFloat(d[1]);0==parseFloat(d[2])&&0==parseFloat(d[3])||console.log("Non-orthogonal delta matrix not currently supported in dx format");
+c+=1;n=b[c];d=w.exec(n);if(null==d){console.log("Parse error in dx delta matrix");return}B=parseFloat(d[2]);0==parseFloat(d[1])&&0==parseFloat(d[3])||console.log("Non-orthogonal delta matrix not currently supported in dx format");c+=1;n=b[c];d=w.exec(n);if(null==d){console.log("Parse error in dx delta matrix");return}n=parseFloat(d[3]);0==parseFloat(d[1])&&0==parseFloat(d[2])||console.log("Non-orthogonal delta matrix not currently supported in dx format");this.unit=new $3Dmol.Vector3(m,B,n)}else if(d=
+g.exec(n))m=parseFloat(d[1]),B=parseFloat(d[2]),d=parseFloat(d[3]),this.origin=new $3Dmol.Vector3(m,B,d);else if(q.exec(n))break}c+=1;this.size&&this.origin&&this.unit&&this.size?(b=b.splice(c).join(" "),b=b.split(/[\s\r]+/),this.data=new Float32Array(b)):console.log("Error parsing dx format")};
+$3Dmol.VolumeData.prototype.cube=function(b){b=b.replace(/^\s+/,"").split(/[\n\r]+/);if(!(6>b.length)){var c=b[2].replace(/^\s+/,"").replace(/\s+/g," ").split(" "),d=parseFloat(c[0]),l=Math.abs(d),g=this.origin=new $3Dmol.Vector3(parseFloat(c[1]),parseFloat(c[2]),parseFloat(c[3])),c=b[3].replace(/^\s+/,"").replace(/\s+/g," ").split(" "),w=0<c[0]?.529177:1;g.multiplyScalar(w);var q=Math.abs(c[0]),n=(new $3Dmol.Vector3(parseFloat(c[1]),parseFloat(c[2]),parseFloat(c[3]))).multiplyScalar(w),c=b[4].replace(/^\s+/,
+"").replace(/\s+/g," ").split(" "),m=Math.abs(c[0]),B=(new $3Dmol.Vector3(parseFloat(c[1]),parseFloat(c[2]),parseFloat(c[3]))).multiplyScalar(w),c=b[5].replace(/^\s+/,"").replace(/\s+/g," ").split(" "),u=Math.abs(c[0]),c=(new $3Dmol.Vector3(parseFloat(c[1]),parseFloat(c[2]),parseFloat(c[3]))).multiplyScalar(w);this.size={x:q,y:m,z:u};this.unit=new $3Dmol.Vector3(n.x,B.y,c.z);if(0!=n.y||0!=n.z||0!=B.x||0!=B.z||0!=c.x||0!=c.y)this.matrix=new $3Dmol.Matrix4(n.x,B.x,c.x,0,n.y,B.y,c.y,0,n.z,B.z,c.z,0,
+0,0,0,1),this.matrix=this.matrix.multiplyMatrices(this.matrix,(new $3Dmol.Matrix4).makeTranslation(g.x,g.y,g.z)),this.origin=new $3Dmol.Vector3(0,0,0),this.unit=new $3Dmol.Vector3(1,1,1);g=6;0>d&&g++;b=b.splice(l+g).join(" ");b=b.replace(/^\s+/,"");b=b.split(/[\s\r]+/);this.data=new Float32Array(b)}};
+$3Dmol.VolumeData.prototype.ccp4=function(b){var c,d,l,g,w,q,n,m,B,u,y,s,f,p,h,F,M,x,e,H,t,C,z,I,K;b=new Int8Array(b);C=new Int32Array(b.buffer,0,56);var J=new Float32Array(b.buffer,0,56);d=new DataView(b.buffer);String.fromCharCode(d.getUint8(208),d.getUint8(209),d.getUint8(210),d.getUint8(211));c=[d.getUint8(212),d.getUint8(213)];if(17===c[0]&&17===c[1])for(c=b.byteLength,g=0;g<c;g+=4)d.setFloat32(g,d.getFloat32(g),!0);d=C[0];c=C[1];l=C[2];g=C[4];w=C[5];q=C[6];n=C[7];m=C[8];B=C[9];u=J[10];y=J[11];
+s=J[12];f=J[13];p=J[14];h=J[15];F=C[16];M=C[17];x=C[18];e=J[19];H=J[20];t=J[21];C=C[23];z=J[49];I=J[50];K=J[51];console.log("Map has min,mean,average,rmsddv: "+e+","+H+","+t+","+J[54]);J=[u,0,0];y=[y*Math.cos(Math.PI/180*h),y*Math.sin(Math.PI/180*h),0];f=[s*Math.cos(Math.PI/180*p),s*(Math.cos(Math.PI/180*f)-Math.cos(Math.PI/180*h)*Math.cos(Math.PI/180*p))/Math.sin(Math.PI/180*h),0];f[2]=Math.sqrt(s*s*Math.sin(Math.PI/180*p)*Math.sin(Math.PI/180*p)-f[1]*f[1]);J=[0,J,y,f];n=[0,n,m,B];F=[0,F,M,x];this.matrix=
+new $3Dmol.Matrix4;this.matrix.set(J[F[1]][0]/n[F[1]],J[F[2]][0]/n[F[2]],J[F[3]][0]/n[F[3]],0,J[F[1]][1]/n[F[1]],J[F[2]][1]/n[F[2]],J[F[3]][1]/n[F[3]],0,J[F[1]][2]/n[F[1]],J[F[2]][2]/n[F[2]],J[F[3]][2]/n[F[3]],0,0,0,0,1);this.matrix=this.matrix.multiplyMatrices(this.matrix,(new $3Dmol.Matrix4).makeTranslation(g+z,w+I,q+K));this.origin=new $3Dmol.Vector3(0,0,0);this.unit=new $3Dmol.Vector3(1,1,1);this.size={x:d,y:c,z:l};b=new Float32Array(b.buffer,1024+C);this.data=new Float32Array(d*c*l);for(g=0;g<
+d;g++)for(w=0;w<c;w++)for(q=0;q<l;q++)this.data[(g*c+w)*l+q]=b[(q*c+w)*d+g]};$3Dmol.VolumeData.prototype.ccp4.isbinary=!0;
+$3Dmol.workerString=function(){self.onmessage=function(b){b=b.data;var c=b.type;if(0>c)self.atomData=b.atoms,self.volume=b.volume,self.ps=new ProteinSurface;else{var d=self.ps;d.initparm(b.expandedExtent,1==c?!1:!0,self.volume);d.fillvoxels(self.atomData,b.extendedAtoms);d.buildboundary();if(4===c||2===c)d.fastdistancemap(),d.boundingatom(!1),d.fillvoxelswaals(self.atomData,b.extendedAtoms);d.marchingcube(c);b=d.getFacesAndVertices(b.atomsToShow);self.postMessage(b)}}}.toString().replace(/(^.*?\{|\}$)/g,
+"");$3Dmol.workerString+="; var ProteinSurface="+$3Dmol.ProteinSurface.toString().replace(/[a-zA-Z_$]{1}[0-9a-zA-Z_$]*.MarchingCube./g,"MarchingCube.");$3Dmol.workerString+=",MarchingCube=("+$3Dmol.MarchingCubeInitializer.toString()+")();";$3Dmol.SurfaceWorker=window.URL?window.URL.createObjectURL(new Blob([$3Dmol.workerString],{type:"text/javascript"})):{postMessage:function(){}};$3Dmol.workerString=$3Dmol.workerString;$3Dmol.SurfaceWorker=$3Dmol.SurfaceWorker;
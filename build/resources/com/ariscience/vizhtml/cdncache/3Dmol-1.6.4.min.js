@@ -0,0 +1,32 @@
+/*!
+ * jQuery JavaScript Library v3.6.0
+ * https://jquery.com/
+ *
+ * Includes Sizzle.js
+ * https://sizzlejs.com/
+ *
+ * Copyright OpenJS Foundation and other contributors
+ * Released under the MIT license
+ * https://jquery.org/license
+ *
+ * Date: 2021-03-02T17:08Z
+ */
+!function(e,t){"use strict";"object"==typeof module&&"object"==typeof module.exports?module.exports=e.document?t(e,!0):function(e){if(!e.document)throw new Error("jQuery requires a window with a document");return t(e)}:t(e)}("undefined"!=typeof window?window:this,(function(e,t){"use strict";var r=[],o=Object.getPrototypeOf,i=r.slice,n=r.flat?function(e){return r.flat.call(e)}:function(e){return r.concat.apply([],e)},a=r.push,s=r.indexOf,l={},c=l.toString,u=l.hasOwnProperty,h=u.toString,f=h.call(Object),d={},p=function(e){return"function"==typeof e&&"number"!=typeof e.nodeType&&"function"!=typeof e.item},m=function(e){return null!=e&&e===e.window},v=e.document,g={type:!0,src:!0,nonce:!0,noModule:!0};function y(e,t,r){var o,i,n=(r=r||v).createElement("script");if(n.text=e,t)for(o in g)(i=t[o]||t.getAttribute&&t.getAttribute(o))&&n.setAttribute(o,i);r.head.appendChild(n).parentNode.removeChild(n)}function b(e){return null==e?e+"":"object"==typeof e||"function"==typeof e?l[c.call(e)]||"object":typeof e}var x="3.6.0",w=function(e,t){return new w.fn.init(e,t)};function D(e){var t=!!e&&"length"in e&&e.length,r=b(e);return!p(e)&&!m(e)&&("array"===r||0===t||"number"==typeof t&&t>0&&t-1 in e)}w.fn=w.prototype={jquery:x,constructor:w,length:0,toArray:function(){return i.call(this)},get:function(e){return null==e?i.call(this):e<0?this[e+this.length]:this[e]},pushStack:function(e){var t=w.merge(this.constructor(),e);return t.prevObject=this,t},each:function(e){return w.each(this,e)},map:function(e){return this.pushStack(w.map(this,(function(t,r){return e.call(t,r,t)})))},slice:function(){return this.pushStack(i.apply(this,arguments))},first:function(){return this.eq(0)},last:function(){return this.eq(-1)},even:function(){return this.pushStack(w.grep(this,(function(e,t){return(t+1)%2})))},odd:function(){return this.pushStack(w.grep(this,(function(e,t){return t%2})))},eq:function(e){var t=this.length,r=+e+(e<0?t:0);return this.pushStack(r>=0&&r<t?[this[r]]:[])},end:function(){return this.prevObject||this.constructor()},push:a,sort:r.sort,splice:r.splice},w.extend=w.fn.extend=function(){var e,t,r,o,i,n,a=arguments[0]||{},s=1,l=arguments.length,c=!1;for("boolean"==typeof a&&(c=a,a=arguments[s]||{},s++),"object"==typeof a||p(a)||(a={}),s===l&&(a=this,s--);s<l;s++)if(null!=(e=arguments[s]))for(t in e)o=e[t],"__proto__"!==t&&a!==o&&(c&&o&&(w.isPlainObject(o)||(i=Array.isArray(o)))?(r=a[t],n=i&&!Array.isArray(r)?[]:i||w.isPlainObject(r)?r:{},i=!1,a[t]=w.extend(c,n,o)):void 0!==o&&(a[t]=o));return a},w.extend({expando:"jQuery"+(x+Math.random()).replace(/\D/g,""),isReady:!0,error:function(e){throw new Error(e)},noop:function(){},isPlainObject:function(e){var t,r;return!(!e||"[object Object]"!==c.call(e))&&(!(t=o(e))||"function"==typeof(r=u.call(t,"constructor")&&t.constructor)&&h.call(r)===f)},isEmptyObject:function(e){var t;for(t in e)return!1;return!0},globalEval:function(e,t,r){y(e,{nonce:t&&t.nonce},r)},each:function(e,t){var r,o=0;if(D(e))for(r=e.length;o<r&&!1!==t.call(e[o],o,e[o]);o++);else for(o in e)if(!1===t.call(e[o],o,e[o]))break;return e},makeArray:function(e,t){var r=t||[];return null!=e&&(D(Object(e))?w.merge(r,"string"==typeof e?[e]:e):a.call(r,e)),r},inArray:function(e,t,r){return null==t?-1:s.call(t,e,r)},merge:function(e,t){for(var r=+t.length,o=0,i=e.length;o<r;o++)e[i++]=t[o];return e.length=i,e},grep:function(e,t,r){for(var o=[],i=0,n=e.length,a=!r;i<n;i++)!t(e[i],i)!==a&&o.push(e[i]);return o},map:function(e,t,r){var o,i,a=0,s=[];if(D(e))for(o=e.length;a<o;a++)null!=(i=t(e[a],a,r))&&s.push(i);else for(a in e)null!=(i=t(e[a],a,r))&&s.push(i);return n(s)},guid:1,support:d}),"function"==typeof Symbol&&(w.fn[Symbol.iterator]=r[Symbol.iterator]),w.each("Boolean Number String Function Array Date RegExp Object Error Symbol".split(" "),(function(e,t){l["[object "+t+"]"]=t.toLowerCase()}));var C=
+/*!
+ * Sizzle CSS Selector Engine v2.3.6
+ * https://sizzlejs.com/
+ *
+ * Copyright JS Foundation and other contributors
+ * Released under the MIT license
+ * https://js.foundation/
+ *
+ * Date: 2021-02-16
+ */
+function(e){var t,r,o,i,n,a,s,l,c,u,h,f,d,p,m,v,g,y,b,x="sizzle"+1*new Date,w=e.document,D=0,C=0,A=le(),S=le(),$=le(),M=le(),_=function(e,t){return e===t&&(h=!0),0},T={}.hasOwnProperty,z=[],E=z.pop,L=z.push,F=z.push,I=z.slice,R=function(e,t){for(var r=0,o=e.length;r<o;r++)if(e[r]===t)return r;return-1},O="checked|selected|async|autofocus|autoplay|controls|defer|disabled|hidden|ismap|loop|multiple|open|readonly|required|scoped",k="[\\x20\\t\\r\\n\\f]",N="(?:\\\\[\\da-fA-F]{1,6}[\\x20\\t\\r\\n\\f]?|\\\\[^\\r\\n\\f]|[\\w-]|[^\0-\\x7f])+",P="\\[[\\x20\\t\\r\\n\\f]*("+N+")(?:"+k+"*([*^$|!~]?=)"+k+"*(?:'((?:\\\\.|[^\\\\'])*)'|\"((?:\\\\.|[^\\\\\"])*)\"|("+N+"))|)"+k+"*\\]",V=":("+N+")(?:\\((('((?:\\\\.|[^\\\\'])*)'|\"((?:\\\\.|[^\\\\\"])*)\")|((?:\\\\.|[^\\\\()[\\]]|"+P+")*)|.*)\\)|)",U=new RegExp(k+"+","g"),B=new RegExp("^[\\x20\\t\\r\\n\\f]+|((?:^|[^\\\\])(?:\\\\.)*)[\\x20\\t\\r\\n\\f]+$","g"),j=new RegExp("^[\\x20\\t\\r\\n\\f]*,[\\x20\\t\\r\\n\\f]*"),G=new RegExp("^[\\x20\\t\\r\\n\\f]*([>+~]|[\\x20\\t\\r\\n\\f])[\\x20\\t\\r\\n\\f]*"),H=new RegExp(k+"|>"),q=new RegExp(V),W=new RegExp("^"+N+"$"),Y={ID:new RegExp("^#("+N+")"),CLASS:new RegExp("^\\.("+N+")"),TAG:new RegExp("^("+N+"|[*])"),ATTR:new RegExp("^"+P),PSEUDO:new RegExp("^"+V),CHILD:new RegExp("^:(only|first|last|nth|nth-last)-(child|of-type)(?:\\([\\x20\\t\\r\\n\\f]*(even|odd|(([+-]|)(\\d*)n|)[\\x20\\t\\r\\n\\f]*(?:([+-]|)[\\x20\\t\\r\\n\\f]*(\\d+)|))[\\x20\\t\\r\\n\\f]*\\)|)","i"),bool:new RegExp("^(?:"+O+")$","i"),needsContext:new RegExp("^[\\x20\\t\\r\\n\\f]*[>+~]|:(even|odd|eq|gt|lt|nth|first|last)(?:\\([\\x20\\t\\r\\n\\f]*((?:-\\d)?\\d*)[\\x20\\t\\r\\n\\f]*\\)|)(?=[^-]|$)","i")},X=/HTML$/i,Z=/^(?:input|select|textarea|button)$/i,Q=/^h\d$/i,K=/^[^{]+\{\s*\[native \w/,J=/^(?:#([\w-]+)|(\w+)|\.([\w-]+))$/,ee=/[+~]/,te=new RegExp("\\\\[\\da-fA-F]{1,6}[\\x20\\t\\r\\n\\f]?|\\\\([^\\r\\n\\f])","g"),re=function(e,t){var r="0x"+e.slice(1)-65536;return t||(r<0?String.fromCharCode(r+65536):String.fromCharCode(r>>10|55296,1023&r|56320))},oe=/([\0-\x1f\x7f]|^-?\d)|^-$|[^\0-\x1f\x7f-\uFFFF\w-]/g,ie=function(e,t){return t?"\0"===e?"�":e.slice(0,-1)+"\\"+e.charCodeAt(e.length-1).toString(16)+" ":"\\"+e},ne=function(){f()},ae=xe((function(e){return!0===e.disabled&&"fieldset"===e.nodeName.toLowerCase()}),{dir:"parentNode",next:"legend"});try{F.apply(z=I.call(w.childNodes),w.childNodes),z[w.childNodes.length].nodeType}catch(e){F={apply:z.length?function(e,t){L.apply(e,I.call(t))}:function(e,t){for(var r=e.length,o=0;e[r++]=t[o++];);e.length=r-1}}}function se(e,t,o,i){var n,s,c,u,h,p,g,y=t&&t.ownerDocument,w=t?t.nodeType:9;if(o=o||[],"string"!=typeof e||!e||1!==w&&9!==w&&11!==w)return o;if(!i&&(f(t),t=t||d,m)){if(11!==w&&(h=J.exec(e)))if(n=h[1]){if(9===w){if(!(c=t.getElementById(n)))return o;if(c.id===n)return o.push(c),o}else if(y&&(c=y.getElementById(n))&&b(t,c)&&c.id===n)return o.push(c),o}else{if(h[2])return F.apply(o,t.getElementsByTagName(e)),o;if((n=h[3])&&r.getElementsByClassName&&t.getElementsByClassName)return F.apply(o,t.getElementsByClassName(n)),o}if(r.qsa&&!M[e+" "]&&(!v||!v.test(e))&&(1!==w||"object"!==t.nodeName.toLowerCase())){if(g=e,y=t,1===w&&(H.test(e)||G.test(e))){for((y=ee.test(e)&&ge(t.parentNode)||t)===t&&r.scope||((u=t.getAttribute("id"))?u=u.replace(oe,ie):t.setAttribute("id",u=x)),s=(p=a(e)).length;s--;)p[s]=(u?"#"+u:":scope")+" "+be(p[s]);g=p.join(",")}try{return F.apply(o,y.querySelectorAll(g)),o}catch(t){M(e,!0)}finally{u===x&&t.removeAttribute("id")}}}return l(e.replace(B,"$1"),t,o,i)}function le(){var e=[];return function t(r,i){return e.push(r+" ")>o.cacheLength&&delete t[e.shift()],t[r+" "]=i}}function ce(e){return e[x]=!0,e}function ue(e){var t=d.createElement("fieldset");try{return!!e(t)}catch(e){return!1}finally{t.parentNode&&t.parentNode.removeChild(t),t=null}}function he(e,t){for(var r=e.split("|"),i=r.length;i--;)o.attrHandle[r[i]]=t}function fe(e,t){var r=t&&e,o=r&&1===e.nodeType&&1===t.nodeType&&e.sourceIndex-t.sourceIndex;if(o)return o;if(r)for(;r=r.nextSibling;)if(r===t)return-1;return e?1:-1}function de(e){return function(t){return"input"===t.nodeName.toLowerCase()&&t.type===e}}function pe(e){return function(t){var r=t.nodeName.toLowerCase();return("input"===r||"button"===r)&&t.type===e}}function me(e){return function(t){return"form"in t?t.parentNode&&!1===t.disabled?"label"in t?"label"in t.parentNode?t.parentNode.disabled===e:t.disabled===e:t.isDisabled===e||t.isDisabled!==!e&&ae(t)===e:t.disabled===e:"label"in t&&t.disabled===e}}function ve(e){return ce((function(t){return t=+t,ce((function(r,o){for(var i,n=e([],r.length,t),a=n.length;a--;)r[i=n[a]]&&(r[i]=!(o[i]=r[i]))}))}))}function ge(e){return e&&void 0!==e.getElementsByTagName&&e}for(t in r=se.support={},n=se.isXML=function(e){var t=e&&e.namespaceURI,r=e&&(e.ownerDocument||e).documentElement;return!X.test(t||r&&r.nodeName||"HTML")},f=se.setDocument=function(e){var t,i,a=e?e.ownerDocument||e:w;return a!=d&&9===a.nodeType&&a.documentElement?(p=(d=a).documentElement,m=!n(d),w!=d&&(i=d.defaultView)&&i.top!==i&&(i.addEventListener?i.addEventListener("unload",ne,!1):i.attachEvent&&i.attachEvent("onunload",ne)),r.scope=ue((function(e){return p.appendChild(e).appendChild(d.createElement("div")),void 0!==e.querySelectorAll&&!e.querySelectorAll(":scope fieldset div").length})),r.attributes=ue((function(e){return e.className="i",!e.getAttribute("className")})),r.getElementsByTagName=ue((function(e){return e.appendChild(d.createComment("")),!e.getElementsByTagName("*").length})),r.getElementsByClassName=K.test(d.getElementsByClassName),r.getById=ue((function(e){return p.appendChild(e).id=x,!d.getElementsByName||!d.getElementsByName(x).length})),r.getById?(o.filter.ID=function(e){var t=e.replace(te,re);return function(e){return e.getAttribute("id")===t}},o.find.ID=function(e,t){if(void 0!==t.getElementById&&m){var r=t.getElementById(e);return r?[r]:[]}}):(o.filter.ID=function(e){var t=e.replace(te,re);return function(e){var r=void 0!==e.getAttributeNode&&e.getAttributeNode("id");return r&&r.value===t}},o.find.ID=function(e,t){if(void 0!==t.getElementById&&m){var r,o,i,n=t.getElementById(e);if(n){if((r=n.getAttributeNode("id"))&&r.value===e)return[n];for(i=t.getElementsByName(e),o=0;n=i[o++];)if((r=n.getAttributeNode("id"))&&r.value===e)return[n]}return[]}}),o.find.TAG=r.getElementsByTagName?function(e,t){return void 0!==t.getElementsByTagName?t.getElementsByTagName(e):r.qsa?t.querySelectorAll(e):void 0}:function(e,t){var r,o=[],i=0,n=t.getElementsByTagName(e);if("*"===e){for(;r=n[i++];)1===r.nodeType&&o.push(r);return o}return n},o.find.CLASS=r.getElementsByClassName&&function(e,t){if(void 0!==t.getElementsByClassName&&m)return t.getElementsByClassName(e)},g=[],v=[],(r.qsa=K.test(d.querySelectorAll))&&(ue((function(e){var t;p.appendChild(e).innerHTML="<a id='"+x+"'></a><select id='"+x+"-\r\\' msallowcapture=''><option selected=''></option></select>",e.querySelectorAll("[msallowcapture^='']").length&&v.push("[*^$]=[\\x20\\t\\r\\n\\f]*(?:''|\"\")"),e.querySelectorAll("[selected]").length||v.push("\\[[\\x20\\t\\r\\n\\f]*(?:value|"+O+")"),e.querySelectorAll("[id~="+x+"-]").length||v.push("~="),(t=d.createElement("input")).setAttribute("name",""),e.appendChild(t),e.querySelectorAll("[name='']").length||v.push("\\[[\\x20\\t\\r\\n\\f]*name[\\x20\\t\\r\\n\\f]*=[\\x20\\t\\r\\n\\f]*(?:''|\"\")"),e.querySelectorAll(":checked").length||v.push(":checked"),e.querySelectorAll("a#"+x+"+*").length||v.push(".#.+[+~]"),e.querySelectorAll("\\\f"),v.push("[\\r\\n\\f]")})),ue((function(e){e.innerHTML="<a href='' disabled='disabled'></a><select disabled='disabled'><option/></select>";var t=d.createElement("input");t.setAttribute("type","hidden"),e.appendChild(t).setAttribute("name","D"),e.querySelectorAll("[name=d]").length&&v.push("name[\\x20\\t\\r\\n\\f]*[*^$|!~]?="),2!==e.querySelectorAll(":enabled").length&&v.push(":enabled",":disabled"),p.appendChild(e).disabled=!0,2!==e.querySelectorAll(":disabled").length&&v.push(":enabled",":disabled"),e.querySelectorAll("*,:x"),v.push(",.*:")}))),(r.matchesSelector=K.test(y=p.matches||p.webkitMatchesSelector||p.mozMatchesSelector||p.oMatchesSelector||p.msMatchesSelector))&&ue((function(e){r.disconnectedMatch=y.call(e,"*"),y.call(e,"[s!='']:x"),g.push("!=",V)})),v=v.length&&new RegExp(v.join("|")),g=g.length&&new RegExp(g.join("|")),t=K.test(p.compareDocumentPosition),b=t||K.test(p.contains)?function(e,t){var r=9===e.nodeType?e.documentElement:e,o=t&&t.parentNode;return e===o||!(!o||1!==o.nodeType||!(r.contains?r.contains(o):e.compareDocumentPosition&&16&e.compareDocumentPosition(o)))}:function(e,t){if(t)for(;t=t.parentNode;)if(t===e)return!0;return!1},_=t?function(e,t){if(e===t)return h=!0,0;var o=!e.compareDocumentPosition-!t.compareDocumentPosition;return o||(1&(o=(e.ownerDocument||e)==(t.ownerDocument||t)?e.compareDocumentPosition(t):1)||!r.sortDetached&&t.compareDocumentPosition(e)===o?e==d||e.ownerDocument==w&&b(w,e)?-1:t==d||t.ownerDocument==w&&b(w,t)?1:u?R(u,e)-R(u,t):0:4&o?-1:1)}:function(e,t){if(e===t)return h=!0,0;var r,o=0,i=e.parentNode,n=t.parentNode,a=[e],s=[t];if(!i||!n)return e==d?-1:t==d?1:i?-1:n?1:u?R(u,e)-R(u,t):0;if(i===n)return fe(e,t);for(r=e;r=r.parentNode;)a.unshift(r);for(r=t;r=r.parentNode;)s.unshift(r);for(;a[o]===s[o];)o++;return o?fe(a[o],s[o]):a[o]==w?-1:s[o]==w?1:0},d):d},se.matches=function(e,t){return se(e,null,null,t)},se.matchesSelector=function(e,t){if(f(e),r.matchesSelector&&m&&!M[t+" "]&&(!g||!g.test(t))&&(!v||!v.test(t)))try{var o=y.call(e,t);if(o||r.disconnectedMatch||e.document&&11!==e.document.nodeType)return o}catch(e){M(t,!0)}return se(t,d,null,[e]).length>0},se.contains=function(e,t){return(e.ownerDocument||e)!=d&&f(e),b(e,t)},se.attr=function(e,t){(e.ownerDocument||e)!=d&&f(e);var i=o.attrHandle[t.toLowerCase()],n=i&&T.call(o.attrHandle,t.toLowerCase())?i(e,t,!m):void 0;return void 0!==n?n:r.attributes||!m?e.getAttribute(t):(n=e.getAttributeNode(t))&&n.specified?n.value:null},se.escape=function(e){return(e+"").replace(oe,ie)},se.error=function(e){throw new Error("Syntax error, unrecognized expression: "+e)},se.uniqueSort=function(e){var t,o=[],i=0,n=0;if(h=!r.detectDuplicates,u=!r.sortStable&&e.slice(0),e.sort(_),h){for(;t=e[n++];)t===e[n]&&(i=o.push(n));for(;i--;)e.splice(o[i],1)}return u=null,e},i=se.getText=function(e){var t,r="",o=0,n=e.nodeType;if(n){if(1===n||9===n||11===n){if("string"==typeof e.textContent)return e.textContent;for(e=e.firstChild;e;e=e.nextSibling)r+=i(e)}else if(3===n||4===n)return e.nodeValue}else for(;t=e[o++];)r+=i(t);return r},(o=se.selectors={cacheLength:50,createPseudo:ce,match:Y,attrHandle:{},find:{},relative:{">":{dir:"parentNode",first:!0}," ":{dir:"parentNode"},"+":{dir:"previousSibling",first:!0},"~":{dir:"previousSibling"}},preFilter:{ATTR:function(e){return e[1]=e[1].replace(te,re),e[3]=(e[3]||e[4]||e[5]||"").replace(te,re),"~="===e[2]&&(e[3]=" "+e[3]+" "),e.slice(0,4)},CHILD:function(e){return e[1]=e[1].toLowerCase(),"nth"===e[1].slice(0,3)?(e[3]||se.error(e[0]),e[4]=+(e[4]?e[5]+(e[6]||1):2*("even"===e[3]||"odd"===e[3])),e[5]=+(e[7]+e[8]||"odd"===e[3])):e[3]&&se.error(e[0]),e},PSEUDO:function(e){var t,r=!e[6]&&e[2];return Y.CHILD.test(e[0])?null:(e[3]?e[2]=e[4]||e[5]||"":r&&q.test(r)&&(t=a(r,!0))&&(t=r.indexOf(")",r.length-t)-r.length)&&(e[0]=e[0].slice(0,t),e[2]=r.slice(0,t)),e.slice(0,3))}},filter:{TAG:function(e){var t=e.replace(te,re).toLowerCase();return"*"===e?function(){return!0}:function(e){return e.nodeName&&e.nodeName.toLowerCase()===t}},CLASS:function(e){var t=A[e+" "];return t||(t=new RegExp("(^|[\\x20\\t\\r\\n\\f])"+e+"("+k+"|$)"))&&A(e,(function(e){return t.test("string"==typeof e.className&&e.className||void 0!==e.getAttribute&&e.getAttribute("class")||"")}))},ATTR:function(e,t,r){return function(o){var i=se.attr(o,e);return null==i?"!="===t:!t||(i+="","="===t?i===r:"!="===t?i!==r:"^="===t?r&&0===i.indexOf(r):"*="===t?r&&i.indexOf(r)>-1:"$="===t?r&&i.slice(-r.length)===r:"~="===t?(" "+i.replace(U," ")+" ").indexOf(r)>-1:"|="===t&&(i===r||i.slice(0,r.length+1)===r+"-"))}},CHILD:function(e,t,r,o,i){var n="nth"!==e.slice(0,3),a="last"!==e.slice(-4),s="of-type"===t;return 1===o&&0===i?function(e){return!!e.parentNode}:function(t,r,l){var c,u,h,f,d,p,m=n!==a?"nextSibling":"previousSibling",v=t.parentNode,g=s&&t.nodeName.toLowerCase(),y=!l&&!s,b=!1;if(v){if(n){for(;m;){for(f=t;f=f[m];)if(s?f.nodeName.toLowerCase()===g:1===f.nodeType)return!1;p=m="only"===e&&!p&&"nextSibling"}return!0}if(p=[a?v.firstChild:v.lastChild],a&&y){for(b=(d=(c=(u=(h=(f=v)[x]||(f[x]={}))[f.uniqueID]||(h[f.uniqueID]={}))[e]||[])[0]===D&&c[1])&&c[2],f=d&&v.childNodes[d];f=++d&&f&&f[m]||(b=d=0)||p.pop();)if(1===f.nodeType&&++b&&f===t){u[e]=[D,d,b];break}}else if(y&&(b=d=(c=(u=(h=(f=t)[x]||(f[x]={}))[f.uniqueID]||(h[f.uniqueID]={}))[e]||[])[0]===D&&c[1]),!1===b)for(;(f=++d&&f&&f[m]||(b=d=0)||p.pop())&&((s?f.nodeName.toLowerCase()!==g:1!==f.nodeType)||!++b||(y&&((u=(h=f[x]||(f[x]={}))[f.uniqueID]||(h[f.uniqueID]={}))[e]=[D,b]),f!==t)););return(b-=i)===o||b%o==0&&b/o>=0}}},PSEUDO:function(e,t){var r,i=o.pseudos[e]||o.setFilters[e.toLowerCase()]||se.error("unsupported pseudo: "+e);return i[x]?i(t):i.length>1?(r=[e,e,"",t],o.setFilters.hasOwnProperty(e.toLowerCase())?ce((function(e,r){for(var o,n=i(e,t),a=n.length;a--;)e[o=R(e,n[a])]=!(r[o]=n[a])})):function(e){return i(e,0,r)}):i}},pseudos:{not:ce((function(e){var t=[],r=[],o=s(e.replace(B,"$1"));return o[x]?ce((function(e,t,r,i){for(var n,a=o(e,null,i,[]),s=e.length;s--;)(n=a[s])&&(e[s]=!(t[s]=n))})):function(e,i,n){return t[0]=e,o(t,null,n,r),t[0]=null,!r.pop()}})),has:ce((function(e){return function(t){return se(e,t).length>0}})),contains:ce((function(e){return e=e.replace(te,re),function(t){return(t.textContent||i(t)).indexOf(e)>-1}})),lang:ce((function(e){return W.test(e||"")||se.error("unsupported lang: "+e),e=e.replace(te,re).toLowerCase(),function(t){var r;do{if(r=m?t.lang:t.getAttribute("xml:lang")||t.getAttribute("lang"))return(r=r.toLowerCase())===e||0===r.indexOf(e+"-")}while((t=t.parentNode)&&1===t.nodeType);return!1}})),target:function(t){var r=e.location&&e.location.hash;return r&&r.slice(1)===t.id},root:function(e){return e===p},focus:function(e){return e===d.activeElement&&(!d.hasFocus||d.hasFocus())&&!!(e.type||e.href||~e.tabIndex)},enabled:me(!1),disabled:me(!0),checked:function(e){var t=e.nodeName.toLowerCase();return"input"===t&&!!e.checked||"option"===t&&!!e.selected},selected:function(e){return e.parentNode&&e.parentNode.selectedIndex,!0===e.selected},empty:function(e){for(e=e.firstChild;e;e=e.nextSibling)if(e.nodeType<6)return!1;return!0},parent:function(e){return!o.pseudos.empty(e)},header:function(e){return Q.test(e.nodeName)},input:function(e){return Z.test(e.nodeName)},button:function(e){var t=e.nodeName.toLowerCase();return"input"===t&&"button"===e.type||"button"===t},text:function(e){var t;return"input"===e.nodeName.toLowerCase()&&"text"===e.type&&(null==(t=e.getAttribute("type"))||"text"===t.toLowerCase())},first:ve((function(){return[0]})),last:ve((function(e,t){return[t-1]})),eq:ve((function(e,t,r){return[r<0?r+t:r]})),even:ve((function(e,t){for(var r=0;r<t;r+=2)e.push(r);return e})),odd:ve((function(e,t){for(var r=1;r<t;r+=2)e.push(r);return e})),lt:ve((function(e,t,r){for(var o=r<0?r+t:r>t?t:r;--o>=0;)e.push(o);return e})),gt:ve((function(e,t,r){for(var o=r<0?r+t:r;++o<t;)e.push(o);return e}))}}).pseudos.nth=o.pseudos.eq,{radio:!0,checkbox:!0,file:!0,password:!0,image:!0})o.pseudos[t]=de(t);for(t in{submit:!0,reset:!0})o.pseudos[t]=pe(t);function ye(){}function be(e){for(var t=0,r=e.length,o="";t<r;t++)o+=e[t].value;return o}function xe(e,t,r){var o=t.dir,i=t.next,n=i||o,a=r&&"parentNode"===n,s=C++;return t.first?function(t,r,i){for(;t=t[o];)if(1===t.nodeType||a)return e(t,r,i);return!1}:function(t,r,l){var c,u,h,f=[D,s];if(l){for(;t=t[o];)if((1===t.nodeType||a)&&e(t,r,l))return!0}else for(;t=t[o];)if(1===t.nodeType||a)if(u=(h=t[x]||(t[x]={}))[t.uniqueID]||(h[t.uniqueID]={}),i&&i===t.nodeName.toLowerCase())t=t[o]||t;else{if((c=u[n])&&c[0]===D&&c[1]===s)return f[2]=c[2];if(u[n]=f,f[2]=e(t,r,l))return!0}return!1}}function we(e){return e.length>1?function(t,r,o){for(var i=e.length;i--;)if(!e[i](t,r,o))return!1;return!0}:e[0]}function De(e,t,r,o,i){for(var n,a=[],s=0,l=e.length,c=null!=t;s<l;s++)(n=e[s])&&(r&&!r(n,o,i)||(a.push(n),c&&t.push(s)));return a}function Ce(e,t,r,o,i,n){return o&&!o[x]&&(o=Ce(o)),i&&!i[x]&&(i=Ce(i,n)),ce((function(n,a,s,l){var c,u,h,f=[],d=[],p=a.length,m=n||function(e,t,r){for(var o=0,i=t.length;o<i;o++)se(e,t[o],r);return r}(t||"*",s.nodeType?[s]:s,[]),v=!e||!n&&t?m:De(m,f,e,s,l),g=r?i||(n?e:p||o)?[]:a:v;if(r&&r(v,g,s,l),o)for(c=De(g,d),o(c,[],s,l),u=c.length;u--;)(h=c[u])&&(g[d[u]]=!(v[d[u]]=h));if(n){if(i||e){if(i){for(c=[],u=g.length;u--;)(h=g[u])&&c.push(v[u]=h);i(null,g=[],c,l)}for(u=g.length;u--;)(h=g[u])&&(c=i?R(n,h):f[u])>-1&&(n[c]=!(a[c]=h))}}else g=De(g===a?g.splice(p,g.length):g),i?i(null,a,g,l):F.apply(a,g)}))}function Ae(e){for(var t,r,i,n=e.length,a=o.relative[e[0].type],s=a||o.relative[" "],l=a?1:0,u=xe((function(e){return e===t}),s,!0),h=xe((function(e){return R(t,e)>-1}),s,!0),f=[function(e,r,o){var i=!a&&(o||r!==c)||((t=r).nodeType?u(e,r,o):h(e,r,o));return t=null,i}];l<n;l++)if(r=o.relative[e[l].type])f=[xe(we(f),r)];else{if((r=o.filter[e[l].type].apply(null,e[l].matches))[x]){for(i=++l;i<n&&!o.relative[e[i].type];i++);return Ce(l>1&&we(f),l>1&&be(e.slice(0,l-1).concat({value:" "===e[l-2].type?"*":""})).replace(B,"$1"),r,l<i&&Ae(e.slice(l,i)),i<n&&Ae(e=e.slice(i)),i<n&&be(e))}f.push(r)}return we(f)}return ye.prototype=o.filters=o.pseudos,o.setFilters=new ye,a=se.tokenize=function(e,t){var r,i,n,a,s,l,c,u=S[e+" "];if(u)return t?0:u.slice(0);for(s=e,l=[],c=o.preFilter;s;){for(a in r&&!(i=j.exec(s))||(i&&(s=s.slice(i[0].length)||s),l.push(n=[])),r=!1,(i=G.exec(s))&&(r=i.shift(),n.push({value:r,type:i[0].replace(B," ")}),s=s.slice(r.length)),o.filter)!(i=Y[a].exec(s))||c[a]&&!(i=c[a](i))||(r=i.shift(),n.push({value:r,type:a,matches:i}),s=s.slice(r.length));if(!r)break}return t?s.length:s?se.error(e):S(e,l).slice(0)},s=se.compile=function(e,t){var r,i=[],n=[],s=$[e+" "];if(!s){for(t||(t=a(e)),r=t.length;r--;)(s=Ae(t[r]))[x]?i.push(s):n.push(s);(s=$(e,function(e,t){var r=t.length>0,i=e.length>0,n=function(n,a,s,l,u){var h,p,v,g=0,y="0",b=n&&[],x=[],w=c,C=n||i&&o.find.TAG("*",u),A=D+=null==w?1:Math.random()||.1,S=C.length;for(u&&(c=a==d||a||u);y!==S&&null!=(h=C[y]);y++){if(i&&h){for(p=0,a||h.ownerDocument==d||(f(h),s=!m);v=e[p++];)if(v(h,a||d,s)){l.push(h);break}u&&(D=A)}r&&((h=!v&&h)&&g--,n&&b.push(h))}if(g+=y,r&&y!==g){for(p=0;v=t[p++];)v(b,x,a,s);if(n){if(g>0)for(;y--;)b[y]||x[y]||(x[y]=E.call(l));x=De(x)}F.apply(l,x),u&&!n&&x.length>0&&g+t.length>1&&se.uniqueSort(l)}return u&&(D=A,c=w),b};return r?ce(n):n}(n,i))).selector=e}return s},l=se.select=function(e,t,r,i){var n,l,c,u,h,f="function"==typeof e&&e,d=!i&&a(e=f.selector||e);if(r=r||[],1===d.length){if((l=d[0]=d[0].slice(0)).length>2&&"ID"===(c=l[0]).type&&9===t.nodeType&&m&&o.relative[l[1].type]){if(!(t=(o.find.ID(c.matches[0].replace(te,re),t)||[])[0]))return r;f&&(t=t.parentNode),e=e.slice(l.shift().value.length)}for(n=Y.needsContext.test(e)?0:l.length;n--&&(c=l[n],!o.relative[u=c.type]);)if((h=o.find[u])&&(i=h(c.matches[0].replace(te,re),ee.test(l[0].type)&&ge(t.parentNode)||t))){if(l.splice(n,1),!(e=i.length&&be(l)))return F.apply(r,i),r;break}}return(f||s(e,d))(i,t,!m,r,!t||ee.test(e)&&ge(t.parentNode)||t),r},r.sortStable=x.split("").sort(_).join("")===x,r.detectDuplicates=!!h,f(),r.sortDetached=ue((function(e){return 1&e.compareDocumentPosition(d.createElement("fieldset"))})),ue((function(e){return e.innerHTML="<a href='#'></a>","#"===e.firstChild.getAttribute("href")}))||he("type|href|height|width",(function(e,t,r){if(!r)return e.getAttribute(t,"type"===t.toLowerCase()?1:2)})),r.attributes&&ue((function(e){return e.innerHTML="<input/>",e.firstChild.setAttribute("value",""),""===e.firstChild.getAttribute("value")}))||he("value",(function(e,t,r){if(!r&&"input"===e.nodeName.toLowerCase())return e.defaultValue})),ue((function(e){return null==e.getAttribute("disabled")}))||he(O,(function(e,t,r){var o;if(!r)return!0===e[t]?t.toLowerCase():(o=e.getAttributeNode(t))&&o.specified?o.value:null})),se}(e);w.find=C,w.expr=C.selectors,w.expr[":"]=w.expr.pseudos,w.uniqueSort=w.unique=C.uniqueSort,w.text=C.getText,w.isXMLDoc=C.isXML,w.contains=C.contains,w.escapeSelector=C.escape;var A=function(e,t,r){for(var o=[],i=void 0!==r;(e=e[t])&&9!==e.nodeType;)if(1===e.nodeType){if(i&&w(e).is(r))break;o.push(e)}return o},S=function(e,t){for(var r=[];e;e=e.nextSibling)1===e.nodeType&&e!==t&&r.push(e);return r},$=w.expr.match.needsContext;function M(e,t){return e.nodeName&&e.nodeName.toLowerCase()===t.toLowerCase()}var _=/^<([a-z][^\/\0>:\x20\t\r\n\f]*)[\x20\t\r\n\f]*\/?>(?:<\/\1>|)$/i;function T(e,t,r){return p(t)?w.grep(e,(function(e,o){return!!t.call(e,o,e)!==r})):t.nodeType?w.grep(e,(function(e){return e===t!==r})):"string"!=typeof t?w.grep(e,(function(e){return s.call(t,e)>-1!==r})):w.filter(t,e,r)}w.filter=function(e,t,r){var o=t[0];return r&&(e=":not("+e+")"),1===t.length&&1===o.nodeType?w.find.matchesSelector(o,e)?[o]:[]:w.find.matches(e,w.grep(t,(function(e){return 1===e.nodeType})))},w.fn.extend({find:function(e){var t,r,o=this.length,i=this;if("string"!=typeof e)return this.pushStack(w(e).filter((function(){for(t=0;t<o;t++)if(w.contains(i[t],this))return!0})));for(r=this.pushStack([]),t=0;t<o;t++)w.find(e,i[t],r);return o>1?w.uniqueSort(r):r},filter:function(e){return this.pushStack(T(this,e||[],!1))},not:function(e){return this.pushStack(T(this,e||[],!0))},is:function(e){return!!T(this,"string"==typeof e&&$.test(e)?w(e):e||[],!1).length}});var z,E=/^(?:\s*(<[\w\W]+>)[^>]*|#([\w-]+))$/;(w.fn.init=function(e,t,r){var o,i;if(!e)return this;if(r=r||z,"string"==typeof e){if(!(o="<"===e[0]&&">"===e[e.length-1]&&e.length>=3?[null,e,null]:E.exec(e))||!o[1]&&t)return!t||t.jquery?(t||r).find(e):this.constructor(t).find(e);if(o[1]){if(t=t instanceof w?t[0]:t,w.merge(this,w.parseHTML(o[1],t&&t.nodeType?t.ownerDocument||t:v,!0)),_.test(o[1])&&w.isPlainObject(t))for(o in t)p(this[o])?this[o](t[o]):this.attr(o,t[o]);return this}return(i=v.getElementById(o[2]))&&(this[0]=i,this.length=1),this}return e.nodeType?(this[0]=e,this.length=1,this):p(e)?void 0!==r.ready?r.ready(e):e(w):w.makeArray(e,this)}).prototype=w.fn,z=w(v);var L=/^(?:parents|prev(?:Until|All))/,F={children:!0,contents:!0,next:!0,prev:!0};function I(e,t){for(;(e=e[t])&&1!==e.nodeType;);return e}w.fn.extend({has:function(e){var t=w(e,this),r=t.length;return this.filter((function(){for(var e=0;e<r;e++)if(w.contains(this,t[e]))return!0}))},closest:function(e,t){var r,o=0,i=this.length,n=[],a="string"!=typeof e&&w(e);if(!$.test(e))for(;o<i;o++)for(r=this[o];r&&r!==t;r=r.parentNode)if(r.nodeType<11&&(a?a.index(r)>-1:1===r.nodeType&&w.find.matchesSelector(r,e))){n.push(r);break}return this.pushStack(n.length>1?w.uniqueSort(n):n)},index:function(e){return e?"string"==typeof e?s.call(w(e),this[0]):s.call(this,e.jquery?e[0]:e):this[0]&&this[0].parentNode?this.first().prevAll().length:-1},add:function(e,t){return this.pushStack(w.uniqueSort(w.merge(this.get(),w(e,t))))},addBack:function(e){return this.add(null==e?this.prevObject:this.prevObject.filter(e))}}),w.each({parent:function(e){var t=e.parentNode;return t&&11!==t.nodeType?t:null},parents:function(e){return A(e,"parentNode")},parentsUntil:function(e,t,r){return A(e,"parentNode",r)},next:function(e){return I(e,"nextSibling")},prev:function(e){return I(e,"previousSibling")},nextAll:function(e){return A(e,"nextSibling")},prevAll:function(e){return A(e,"previousSibling")},nextUntil:function(e,t,r){return A(e,"nextSibling",r)},prevUntil:function(e,t,r){return A(e,"previousSibling",r)},siblings:function(e){return S((e.parentNode||{}).firstChild,e)},children:function(e){return S(e.firstChild)},contents:function(e){return null!=e.contentDocument&&o(e.contentDocument)?e.contentDocument:(M(e,"template")&&(e=e.content||e),w.merge([],e.childNodes))}},(function(e,t){w.fn[e]=function(r,o){var i=w.map(this,t,r);return"Until"!==e.slice(-5)&&(o=r),o&&"string"==typeof o&&(i=w.filter(o,i)),this.length>1&&(F[e]||w.uniqueSort(i),L.test(e)&&i.reverse()),this.pushStack(i)}}));var R=/[^\x20\t\r\n\f]+/g;function O(e){return e}function k(e){throw e}function N(e,t,r,o){var i;try{e&&p(i=e.promise)?i.call(e).done(t).fail(r):e&&p(i=e.then)?i.call(e,t,r):t.apply(void 0,[e].slice(o))}catch(e){r.apply(void 0,[e])}}w.Callbacks=function(e){e="string"==typeof e?function(e){var t={};return w.each(e.match(R)||[],(function(e,r){t[r]=!0})),t}(e):w.extend({},e);var t,r,o,i,n=[],a=[],s=-1,l=function(){for(i=i||e.once,o=t=!0;a.length;s=-1)for(r=a.shift();++s<n.length;)!1===n[s].apply(r[0],r[1])&&e.stopOnFalse&&(s=n.length,r=!1);e.memory||(r=!1),t=!1,i&&(n=r?[]:"")},c={add:function(){return n&&(r&&!t&&(s=n.length-1,a.push(r)),function t(r){w.each(r,(function(r,o){p(o)?e.unique&&c.has(o)||n.push(o):o&&o.length&&"string"!==b(o)&&t(o)}))}(arguments),r&&!t&&l()),this},remove:function(){return w.each(arguments,(function(e,t){for(var r;(r=w.inArray(t,n,r))>-1;)n.splice(r,1),r<=s&&s--})),this},has:function(e){return e?w.inArray(e,n)>-1:n.length>0},empty:function(){return n&&(n=[]),this},disable:function(){return i=a=[],n=r="",this},disabled:function(){return!n},lock:function(){return i=a=[],r||t||(n=r=""),this},locked:function(){return!!i},fireWith:function(e,r){return i||(r=[e,(r=r||[]).slice?r.slice():r],a.push(r),t||l()),this},fire:function(){return c.fireWith(this,arguments),this},fired:function(){return!!o}};return c},w.extend({Deferred:function(t){var r=[["notify","progress",w.Callbacks("memory"),w.Callbacks("memory"),2],["resolve","done",w.Callbacks("once memory"),w.Callbacks("once memory"),0,"resolved"],["reject","fail",w.Callbacks("once memory"),w.Callbacks("once memory"),1,"rejected"]],o="pending",i={state:function(){return o},always:function(){return n.done(arguments).fail(arguments),this},catch:function(e){return i.then(null,e)},pipe:function(){var e=arguments;return w.Deferred((function(t){w.each(r,(function(r,o){var i=p(e[o[4]])&&e[o[4]];n[o[1]]((function(){var e=i&&i.apply(this,arguments);e&&p(e.promise)?e.promise().progress(t.notify).done(t.resolve).fail(t.reject):t[o[0]+"With"](this,i?[e]:arguments)}))})),e=null})).promise()},then:function(t,o,i){var n=0;function a(t,r,o,i){return function(){var s=this,l=arguments,c=function(){var e,c;if(!(t<n)){if((e=o.apply(s,l))===r.promise())throw new TypeError("Thenable self-resolution");c=e&&("object"==typeof e||"function"==typeof e)&&e.then,p(c)?i?c.call(e,a(n,r,O,i),a(n,r,k,i)):(n++,c.call(e,a(n,r,O,i),a(n,r,k,i),a(n,r,O,r.notifyWith))):(o!==O&&(s=void 0,l=[e]),(i||r.resolveWith)(s,l))}},u=i?c:function(){try{c()}catch(e){w.Deferred.exceptionHook&&w.Deferred.exceptionHook(e,u.stackTrace),t+1>=n&&(o!==k&&(s=void 0,l=[e]),r.rejectWith(s,l))}};t?u():(w.Deferred.getStackHook&&(u.stackTrace=w.Deferred.getStackHook()),e.setTimeout(u))}}return w.Deferred((function(e){r[0][3].add(a(0,e,p(i)?i:O,e.notifyWith)),r[1][3].add(a(0,e,p(t)?t:O)),r[2][3].add(a(0,e,p(o)?o:k))})).promise()},promise:function(e){return null!=e?w.extend(e,i):i}},n={};return w.each(r,(function(e,t){var a=t[2],s=t[5];i[t[1]]=a.add,s&&a.add((function(){o=s}),r[3-e][2].disable,r[3-e][3].disable,r[0][2].lock,r[0][3].lock),a.add(t[3].fire),n[t[0]]=function(){return n[t[0]+"With"](this===n?void 0:this,arguments),this},n[t[0]+"With"]=a.fireWith})),i.promise(n),t&&t.call(n,n),n},when:function(e){var t=arguments.length,r=t,o=Array(r),n=i.call(arguments),a=w.Deferred(),s=function(e){return function(r){o[e]=this,n[e]=arguments.length>1?i.call(arguments):r,--t||a.resolveWith(o,n)}};if(t<=1&&(N(e,a.done(s(r)).resolve,a.reject,!t),"pending"===a.state()||p(n[r]&&n[r].then)))return a.then();for(;r--;)N(n[r],s(r),a.reject);return a.promise()}});var P=/^(Eval|Internal|Range|Reference|Syntax|Type|URI)Error$/;w.Deferred.exceptionHook=function(t,r){e.console&&e.console.warn&&t&&P.test(t.name)&&e.console.warn("jQuery.Deferred exception: "+t.message,t.stack,r)},w.readyException=function(t){e.setTimeout((function(){throw t}))};var V=w.Deferred();function U(){v.removeEventListener("DOMContentLoaded",U),e.removeEventListener("load",U),w.ready()}w.fn.ready=function(e){return V.then(e).catch((function(e){w.readyException(e)})),this},w.extend({isReady:!1,readyWait:1,ready:function(e){(!0===e?--w.readyWait:w.isReady)||(w.isReady=!0,!0!==e&&--w.readyWait>0||V.resolveWith(v,[w]))}}),w.ready.then=V.then,"complete"===v.readyState||"loading"!==v.readyState&&!v.documentElement.doScroll?e.setTimeout(w.ready):(v.addEventListener("DOMContentLoaded",U),e.addEventListener("load",U));var B=function(e,t,r,o,i,n,a){var s=0,l=e.length,c=null==r;if("object"===b(r))for(s in i=!0,r)B(e,t,s,r[s],!0,n,a);else if(void 0!==o&&(i=!0,p(o)||(a=!0),c&&(a?(t.call(e,o),t=null):(c=t,t=function(e,t,r){return c.call(w(e),r)})),t))for(;s<l;s++)t(e[s],r,a?o:o.call(e[s],s,t(e[s],r)));return i?e:c?t.call(e):l?t(e[0],r):n},j=/^-ms-/,G=/-([a-z])/g;function H(e,t){return t.toUpperCase()}function q(e){return e.replace(j,"ms-").replace(G,H)}var W=function(e){return 1===e.nodeType||9===e.nodeType||!+e.nodeType};function Y(){this.expando=w.expando+Y.uid++}Y.uid=1,Y.prototype={cache:function(e){var t=e[this.expando];return t||(t={},W(e)&&(e.nodeType?e[this.expando]=t:Object.defineProperty(e,this.expando,{value:t,configurable:!0}))),t},set:function(e,t,r){var o,i=this.cache(e);if("string"==typeof t)i[q(t)]=r;else for(o in t)i[q(o)]=t[o];return i},get:function(e,t){return void 0===t?this.cache(e):e[this.expando]&&e[this.expando][q(t)]},access:function(e,t,r){return void 0===t||t&&"string"==typeof t&&void 0===r?this.get(e,t):(this.set(e,t,r),void 0!==r?r:t)},remove:function(e,t){var r,o=e[this.expando];if(void 0!==o){if(void 0!==t){r=(t=Array.isArray(t)?t.map(q):(t=q(t))in o?[t]:t.match(R)||[]).length;for(;r--;)delete o[t[r]]}(void 0===t||w.isEmptyObject(o))&&(e.nodeType?e[this.expando]=void 0:delete e[this.expando])}},hasData:function(e){var t=e[this.expando];return void 0!==t&&!w.isEmptyObject(t)}};var X=new Y,Z=new Y,Q=/^(?:\{[\w\W]*\}|\[[\w\W]*\])$/,K=/[A-Z]/g;function J(e,t,r){var o;if(void 0===r&&1===e.nodeType)if(o="data-"+t.replace(K,"-$&").toLowerCase(),"string"==typeof(r=e.getAttribute(o))){try{r=function(e){return"true"===e||"false"!==e&&("null"===e?null:e===+e+""?+e:Q.test(e)?JSON.parse(e):e)}(r)}catch(e){}Z.set(e,t,r)}else r=void 0;return r}w.extend({hasData:function(e){return Z.hasData(e)||X.hasData(e)},data:function(e,t,r){return Z.access(e,t,r)},removeData:function(e,t){Z.remove(e,t)},_data:function(e,t,r){return X.access(e,t,r)},_removeData:function(e,t){X.remove(e,t)}}),w.fn.extend({data:function(e,t){var r,o,i,n=this[0],a=n&&n.attributes;if(void 0===e){if(this.length&&(i=Z.get(n),1===n.nodeType&&!X.get(n,"hasDataAttrs"))){for(r=a.length;r--;)a[r]&&0===(o=a[r].name).indexOf("data-")&&(o=q(o.slice(5)),J(n,o,i[o]));X.set(n,"hasDataAttrs",!0)}return i}return"object"==typeof e?this.each((function(){Z.set(this,e)})):B(this,(function(t){var r;if(n&&void 0===t)return void 0!==(r=Z.get(n,e))||void 0!==(r=J(n,e))?r:void 0;this.each((function(){Z.set(this,e,t)}))}),null,t,arguments.length>1,null,!0)},removeData:function(e){return this.each((function(){Z.remove(this,e)}))}}),w.extend({queue:function(e,t,r){var o;if(e)return t=(t||"fx")+"queue",o=X.get(e,t),r&&(!o||Array.isArray(r)?o=X.access(e,t,w.makeArray(r)):o.push(r)),o||[]},dequeue:function(e,t){t=t||"fx";var r=w.queue(e,t),o=r.length,i=r.shift(),n=w._queueHooks(e,t);"inprogress"===i&&(i=r.shift(),o--),i&&("fx"===t&&r.unshift("inprogress"),delete n.stop,i.call(e,(function(){w.dequeue(e,t)}),n)),!o&&n&&n.empty.fire()},_queueHooks:function(e,t){var r=t+"queueHooks";return X.get(e,r)||X.access(e,r,{empty:w.Callbacks("once memory").add((function(){X.remove(e,[t+"queue",r])}))})}}),w.fn.extend({queue:function(e,t){var r=2;return"string"!=typeof e&&(t=e,e="fx",r--),arguments.length<r?w.queue(this[0],e):void 0===t?this:this.each((function(){var r=w.queue(this,e,t);w._queueHooks(this,e),"fx"===e&&"inprogress"!==r[0]&&w.dequeue(this,e)}))},dequeue:function(e){return this.each((function(){w.dequeue(this,e)}))},clearQueue:function(e){return this.queue(e||"fx",[])},promise:function(e,t){var r,o=1,i=w.Deferred(),n=this,a=this.length,s=function(){--o||i.resolveWith(n,[n])};for("string"!=typeof e&&(t=e,e=void 0),e=e||"fx";a--;)(r=X.get(n[a],e+"queueHooks"))&&r.empty&&(o++,r.empty.add(s));return s(),i.promise(t)}});var ee=/[+-]?(?:\d*\.|)\d+(?:[eE][+-]?\d+|)/.source,te=new RegExp("^(?:([+-])=|)("+ee+")([a-z%]*)$","i"),re=["Top","Right","Bottom","Left"],oe=v.documentElement,ie=function(e){return w.contains(e.ownerDocument,e)},ne={composed:!0};oe.getRootNode&&(ie=function(e){return w.contains(e.ownerDocument,e)||e.getRootNode(ne)===e.ownerDocument});var ae=function(e,t){return"none"===(e=t||e).style.display||""===e.style.display&&ie(e)&&"none"===w.css(e,"display")};function se(e,t,r,o){var i,n,a=20,s=o?function(){return o.cur()}:function(){return w.css(e,t,"")},l=s(),c=r&&r[3]||(w.cssNumber[t]?"":"px"),u=e.nodeType&&(w.cssNumber[t]||"px"!==c&&+l)&&te.exec(w.css(e,t));if(u&&u[3]!==c){for(l/=2,c=c||u[3],u=+l||1;a--;)w.style(e,t,u+c),(1-n)*(1-(n=s()/l||.5))<=0&&(a=0),u/=n;u*=2,w.style(e,t,u+c),r=r||[]}return r&&(u=+u||+l||0,i=r[1]?u+(r[1]+1)*r[2]:+r[2],o&&(o.unit=c,o.start=u,o.end=i)),i}var le={};function ce(e){var t,r=e.ownerDocument,o=e.nodeName,i=le[o];return i||(t=r.body.appendChild(r.createElement(o)),i=w.css(t,"display"),t.parentNode.removeChild(t),"none"===i&&(i="block"),le[o]=i,i)}function ue(e,t){for(var r,o,i=[],n=0,a=e.length;n<a;n++)(o=e[n]).style&&(r=o.style.display,t?("none"===r&&(i[n]=X.get(o,"display")||null,i[n]||(o.style.display="")),""===o.style.display&&ae(o)&&(i[n]=ce(o))):"none"!==r&&(i[n]="none",X.set(o,"display",r)));for(n=0;n<a;n++)null!=i[n]&&(e[n].style.display=i[n]);return e}w.fn.extend({show:function(){return ue(this,!0)},hide:function(){return ue(this)},toggle:function(e){return"boolean"==typeof e?e?this.show():this.hide():this.each((function(){ae(this)?w(this).show():w(this).hide()}))}});var he,fe,de=/^(?:checkbox|radio)$/i,pe=/<([a-z][^\/\0>\x20\t\r\n\f]*)/i,me=/^$|^module$|\/(?:java|ecma)script/i;he=v.createDocumentFragment().appendChild(v.createElement("div")),(fe=v.createElement("input")).setAttribute("type","radio"),fe.setAttribute("checked","checked"),fe.setAttribute("name","t"),he.appendChild(fe),d.checkClone=he.cloneNode(!0).cloneNode(!0).lastChild.checked,he.innerHTML="<textarea>x</textarea>",d.noCloneChecked=!!he.cloneNode(!0).lastChild.defaultValue,he.innerHTML="<option></option>",d.option=!!he.lastChild;var ve={thead:[1,"<table>","</table>"],col:[2,"<table><colgroup>","</colgroup></table>"],tr:[2,"<table><tbody>","</tbody></table>"],td:[3,"<table><tbody><tr>","</tr></tbody></table>"],_default:[0,"",""]};function ge(e,t){var r;return r=void 0!==e.getElementsByTagName?e.getElementsByTagName(t||"*"):void 0!==e.querySelectorAll?e.querySelectorAll(t||"*"):[],void 0===t||t&&M(e,t)?w.merge([e],r):r}function ye(e,t){for(var r=0,o=e.length;r<o;r++)X.set(e[r],"globalEval",!t||X.get(t[r],"globalEval"))}ve.tbody=ve.tfoot=ve.colgroup=ve.caption=ve.thead,ve.th=ve.td,d.option||(ve.optgroup=ve.option=[1,"<select multiple='multiple'>","</select>"]);var be=/<|&#?\w+;/;function xe(e,t,r,o,i){for(var n,a,s,l,c,u,h=t.createDocumentFragment(),f=[],d=0,p=e.length;d<p;d++)if((n=e[d])||0===n)if("object"===b(n))w.merge(f,n.nodeType?[n]:n);else if(be.test(n)){for(a=a||h.appendChild(t.createElement("div")),s=(pe.exec(n)||["",""])[1].toLowerCase(),l=ve[s]||ve._default,a.innerHTML=l[1]+w.htmlPrefilter(n)+l[2],u=l[0];u--;)a=a.lastChild;w.merge(f,a.childNodes),(a=h.firstChild).textContent=""}else f.push(t.createTextNode(n));for(h.textContent="",d=0;n=f[d++];)if(o&&w.inArray(n,o)>-1)i&&i.push(n);else if(c=ie(n),a=ge(h.appendChild(n),"script"),c&&ye(a),r)for(u=0;n=a[u++];)me.test(n.type||"")&&r.push(n);return h}var we=/^([^.]*)(?:\.(.+)|)/;function De(){return!0}function Ce(){return!1}function Ae(e,t){return e===function(){try{return v.activeElement}catch(e){}}()==("focus"===t)}function Se(e,t,r,o,i,n){var a,s;if("object"==typeof t){for(s in"string"!=typeof r&&(o=o||r,r=void 0),t)Se(e,s,r,o,t[s],n);return e}if(null==o&&null==i?(i=r,o=r=void 0):null==i&&("string"==typeof r?(i=o,o=void 0):(i=o,o=r,r=void 0)),!1===i)i=Ce;else if(!i)return e;return 1===n&&(a=i,(i=function(e){return w().off(e),a.apply(this,arguments)}).guid=a.guid||(a.guid=w.guid++)),e.each((function(){w.event.add(this,t,i,o,r)}))}function $e(e,t,r){r?(X.set(e,t,!1),w.event.add(e,t,{namespace:!1,handler:function(e){var o,n,a=X.get(this,t);if(1&e.isTrigger&&this[t]){if(a.length)(w.event.special[t]||{}).delegateType&&e.stopPropagation();else if(a=i.call(arguments),X.set(this,t,a),o=r(this,t),this[t](),a!==(n=X.get(this,t))||o?X.set(this,t,!1):n={},a!==n)return e.stopImmediatePropagation(),e.preventDefault(),n&&n.value}else a.length&&(X.set(this,t,{value:w.event.trigger(w.extend(a[0],w.Event.prototype),a.slice(1),this)}),e.stopImmediatePropagation())}})):void 0===X.get(e,t)&&w.event.add(e,t,De)}w.event={global:{},add:function(e,t,r,o,i){var n,a,s,l,c,u,h,f,d,p,m,v=X.get(e);if(W(e))for(r.handler&&(r=(n=r).handler,i=n.selector),i&&w.find.matchesSelector(oe,i),r.guid||(r.guid=w.guid++),(l=v.events)||(l=v.events=Object.create(null)),(a=v.handle)||(a=v.handle=function(t){return void 0!==w&&w.event.triggered!==t.type?w.event.dispatch.apply(e,arguments):void 0}),c=(t=(t||"").match(R)||[""]).length;c--;)d=m=(s=we.exec(t[c])||[])[1],p=(s[2]||"").split(".").sort(),d&&(h=w.event.special[d]||{},d=(i?h.delegateType:h.bindType)||d,h=w.event.special[d]||{},u=w.extend({type:d,origType:m,data:o,handler:r,guid:r.guid,selector:i,needsContext:i&&w.expr.match.needsContext.test(i),namespace:p.join(".")},n),(f=l[d])||((f=l[d]=[]).delegateCount=0,h.setup&&!1!==h.setup.call(e,o,p,a)||e.addEventListener&&e.addEventListener(d,a)),h.add&&(h.add.call(e,u),u.handler.guid||(u.handler.guid=r.guid)),i?f.splice(f.delegateCount++,0,u):f.push(u),w.event.global[d]=!0)},remove:function(e,t,r,o,i){var n,a,s,l,c,u,h,f,d,p,m,v=X.hasData(e)&&X.get(e);if(v&&(l=v.events)){for(c=(t=(t||"").match(R)||[""]).length;c--;)if(d=m=(s=we.exec(t[c])||[])[1],p=(s[2]||"").split(".").sort(),d){for(h=w.event.special[d]||{},f=l[d=(o?h.delegateType:h.bindType)||d]||[],s=s[2]&&new RegExp("(^|\\.)"+p.join("\\.(?:.*\\.|)")+"(\\.|$)"),a=n=f.length;n--;)u=f[n],!i&&m!==u.origType||r&&r.guid!==u.guid||s&&!s.test(u.namespace)||o&&o!==u.selector&&("**"!==o||!u.selector)||(f.splice(n,1),u.selector&&f.delegateCount--,h.remove&&h.remove.call(e,u));a&&!f.length&&(h.teardown&&!1!==h.teardown.call(e,p,v.handle)||w.removeEvent(e,d,v.handle),delete l[d])}else for(d in l)w.event.remove(e,d+t[c],r,o,!0);w.isEmptyObject(l)&&X.remove(e,"handle events")}},dispatch:function(e){var t,r,o,i,n,a,s=new Array(arguments.length),l=w.event.fix(e),c=(X.get(this,"events")||Object.create(null))[l.type]||[],u=w.event.special[l.type]||{};for(s[0]=l,t=1;t<arguments.length;t++)s[t]=arguments[t];if(l.delegateTarget=this,!u.preDispatch||!1!==u.preDispatch.call(this,l)){for(a=w.event.handlers.call(this,l,c),t=0;(i=a[t++])&&!l.isPropagationStopped();)for(l.currentTarget=i.elem,r=0;(n=i.handlers[r++])&&!l.isImmediatePropagationStopped();)l.rnamespace&&!1!==n.namespace&&!l.rnamespace.test(n.namespace)||(l.handleObj=n,l.data=n.data,void 0!==(o=((w.event.special[n.origType]||{}).handle||n.handler).apply(i.elem,s))&&!1===(l.result=o)&&(l.preventDefault(),l.stopPropagation()));return u.postDispatch&&u.postDispatch.call(this,l),l.result}},handlers:function(e,t){var r,o,i,n,a,s=[],l=t.delegateCount,c=e.target;if(l&&c.nodeType&&!("click"===e.type&&e.button>=1))for(;c!==this;c=c.parentNode||this)if(1===c.nodeType&&("click"!==e.type||!0!==c.disabled)){for(n=[],a={},r=0;r<l;r++)void 0===a[i=(o=t[r]).selector+" "]&&(a[i]=o.needsContext?w(i,this).index(c)>-1:w.find(i,this,null,[c]).length),a[i]&&n.push(o);n.length&&s.push({elem:c,handlers:n})}return c=this,l<t.length&&s.push({elem:c,handlers:t.slice(l)}),s},addProp:function(e,t){Object.defineProperty(w.Event.prototype,e,{enumerable:!0,configurable:!0,get:p(t)?function(){if(this.originalEvent)return t(this.originalEvent)}:function(){if(this.originalEvent)return this.originalEvent[e]},set:function(t){Object.defineProperty(this,e,{enumerable:!0,configurable:!0,writable:!0,value:t})}})},fix:function(e){return e[w.expando]?e:new w.Event(e)},special:{load:{noBubble:!0},click:{setup:function(e){var t=this||e;return de.test(t.type)&&t.click&&M(t,"input")&&$e(t,"click",De),!1},trigger:function(e){var t=this||e;return de.test(t.type)&&t.click&&M(t,"input")&&$e(t,"click"),!0},_default:function(e){var t=e.target;return de.test(t.type)&&t.click&&M(t,"input")&&X.get(t,"click")||M(t,"a")}},beforeunload:{postDispatch:function(e){void 0!==e.result&&e.originalEvent&&(e.originalEvent.returnValue=e.result)}}}},w.removeEvent=function(e,t,r){e.removeEventListener&&e.removeEventListener(t,r)},w.Event=function(e,t){if(!(this instanceof w.Event))return new w.Event(e,t);e&&e.type?(this.originalEvent=e,this.type=e.type,this.isDefaultPrevented=e.defaultPrevented||void 0===e.defaultPrevented&&!1===e.returnValue?De:Ce,this.target=e.target&&3===e.target.nodeType?e.target.parentNode:e.target,this.currentTarget=e.currentTarget,this.relatedTarget=e.relatedTarget):this.type=e,t&&w.extend(this,t),this.timeStamp=e&&e.timeStamp||Date.now(),this[w.expando]=!0},w.Event.prototype={constructor:w.Event,isDefaultPrevented:Ce,isPropagationStopped:Ce,isImmediatePropagationStopped:Ce,isSimulated:!1,preventDefault:function(){var e=this.originalEvent;this.isDefaultPrevented=De,e&&!this.isSimulated&&e.preventDefault()},stopPropagation:function(){var e=this.originalEvent;this.isPropagationStopped=De,e&&!this.isSimulated&&e.stopPropagation()},stopImmediatePropagation:function(){var e=this.originalEvent;this.isImmediatePropagationStopped=De,e&&!this.isSimulated&&e.stopImmediatePropagation(),this.stopPropagation()}},w.each({altKey:!0,bubbles:!0,cancelable:!0,changedTouches:!0,ctrlKey:!0,detail:!0,eventPhase:!0,metaKey:!0,pageX:!0,pageY:!0,shiftKey:!0,view:!0,char:!0,code:!0,charCode:!0,key:!0,keyCode:!0,button:!0,buttons:!0,clientX:!0,clientY:!0,offsetX:!0,offsetY:!0,pointerId:!0,pointerType:!0,screenX:!0,screenY:!0,targetTouches:!0,toElement:!0,touches:!0,which:!0},w.event.addProp),w.each({focus:"focusin",blur:"focusout"},(function(e,t){w.event.special[e]={setup:function(){return $e(this,e,Ae),!1},trigger:function(){return $e(this,e),!0},_default:function(){return!0},delegateType:t}})),w.each({mouseenter:"mouseover",mouseleave:"mouseout",pointerenter:"pointerover",pointerleave:"pointerout"},(function(e,t){w.event.special[e]={delegateType:t,bindType:t,handle:function(e){var r,o=this,i=e.relatedTarget,n=e.handleObj;return i&&(i===o||w.contains(o,i))||(e.type=n.origType,r=n.handler.apply(this,arguments),e.type=t),r}}})),w.fn.extend({on:function(e,t,r,o){return Se(this,e,t,r,o)},one:function(e,t,r,o){return Se(this,e,t,r,o,1)},off:function(e,t,r){var o,i;if(e&&e.preventDefault&&e.handleObj)return o=e.handleObj,w(e.delegateTarget).off(o.namespace?o.origType+"."+o.namespace:o.origType,o.selector,o.handler),this;if("object"==typeof e){for(i in e)this.off(i,t,e[i]);return this}return!1!==t&&"function"!=typeof t||(r=t,t=void 0),!1===r&&(r=Ce),this.each((function(){w.event.remove(this,e,r,t)}))}});var Me=/<script|<style|<link/i,_e=/checked\s*(?:[^=]|=\s*.checked.)/i,Te=/^\s*<!(?:\[CDATA\[|--)|(?:\]\]|--)>\s*$/g;function ze(e,t){return M(e,"table")&&M(11!==t.nodeType?t:t.firstChild,"tr")&&w(e).children("tbody")[0]||e}function Ee(e){return e.type=(null!==e.getAttribute("type"))+"/"+e.type,e}function Le(e){return"true/"===(e.type||"").slice(0,5)?e.type=e.type.slice(5):e.removeAttribute("type"),e}function Fe(e,t){var r,o,i,n,a,s;if(1===t.nodeType){if(X.hasData(e)&&(s=X.get(e).events))for(i in X.remove(t,"handle events"),s)for(r=0,o=s[i].length;r<o;r++)w.event.add(t,i,s[i][r]);Z.hasData(e)&&(n=Z.access(e),a=w.extend({},n),Z.set(t,a))}}function Ie(e,t){var r=t.nodeName.toLowerCase();"input"===r&&de.test(e.type)?t.checked=e.checked:"input"!==r&&"textarea"!==r||(t.defaultValue=e.defaultValue)}function Re(e,t,r,o){t=n(t);var i,a,s,l,c,u,h=0,f=e.length,m=f-1,v=t[0],g=p(v);if(g||f>1&&"string"==typeof v&&!d.checkClone&&_e.test(v))return e.each((function(i){var n=e.eq(i);g&&(t[0]=v.call(this,i,n.html())),Re(n,t,r,o)}));if(f&&(a=(i=xe(t,e[0].ownerDocument,!1,e,o)).firstChild,1===i.childNodes.length&&(i=a),a||o)){for(l=(s=w.map(ge(i,"script"),Ee)).length;h<f;h++)c=i,h!==m&&(c=w.clone(c,!0,!0),l&&w.merge(s,ge(c,"script"))),r.call(e[h],c,h);if(l)for(u=s[s.length-1].ownerDocument,w.map(s,Le),h=0;h<l;h++)c=s[h],me.test(c.type||"")&&!X.access(c,"globalEval")&&w.contains(u,c)&&(c.src&&"module"!==(c.type||"").toLowerCase()?w._evalUrl&&!c.noModule&&w._evalUrl(c.src,{nonce:c.nonce||c.getAttribute("nonce")},u):y(c.textContent.replace(Te,""),c,u))}return e}function Oe(e,t,r){for(var o,i=t?w.filter(t,e):e,n=0;null!=(o=i[n]);n++)r||1!==o.nodeType||w.cleanData(ge(o)),o.parentNode&&(r&&ie(o)&&ye(ge(o,"script")),o.parentNode.removeChild(o));return e}w.extend({htmlPrefilter:function(e){return e},clone:function(e,t,r){var o,i,n,a,s=e.cloneNode(!0),l=ie(e);if(!(d.noCloneChecked||1!==e.nodeType&&11!==e.nodeType||w.isXMLDoc(e)))for(a=ge(s),o=0,i=(n=ge(e)).length;o<i;o++)Ie(n[o],a[o]);if(t)if(r)for(n=n||ge(e),a=a||ge(s),o=0,i=n.length;o<i;o++)Fe(n[o],a[o]);else Fe(e,s);return(a=ge(s,"script")).length>0&&ye(a,!l&&ge(e,"script")),s},cleanData:function(e){for(var t,r,o,i=w.event.special,n=0;void 0!==(r=e[n]);n++)if(W(r)){if(t=r[X.expando]){if(t.events)for(o in t.events)i[o]?w.event.remove(r,o):w.removeEvent(r,o,t.handle);r[X.expando]=void 0}r[Z.expando]&&(r[Z.expando]=void 0)}}}),w.fn.extend({detach:function(e){return Oe(this,e,!0)},remove:function(e){return Oe(this,e)},text:function(e){return B(this,(function(e){return void 0===e?w.text(this):this.empty().each((function(){1!==this.nodeType&&11!==this.nodeType&&9!==this.nodeType||(this.textContent=e)}))}),null,e,arguments.length)},append:function(){return Re(this,arguments,(function(e){1!==this.nodeType&&11!==this.nodeType&&9!==this.nodeType||ze(this,e).appendChild(e)}))},prepend:function(){return Re(this,arguments,(function(e){if(1===this.nodeType||11===this.nodeType||9===this.nodeType){var t=ze(this,e);t.insertBefore(e,t.firstChild)}}))},before:function(){return Re(this,arguments,(function(e){this.parentNode&&this.parentNode.insertBefore(e,this)}))},after:function(){return Re(this,arguments,(function(e){this.parentNode&&this.parentNode.insertBefore(e,this.nextSibling)}))},empty:function(){for(var e,t=0;null!=(e=this[t]);t++)1===e.nodeType&&(w.cleanData(ge(e,!1)),e.textContent="");return this},clone:function(e,t){return e=null!=e&&e,t=null==t?e:t,this.map((function(){return w.clone(this,e,t)}))},html:function(e){return B(this,(function(e){var t=this[0]||{},r=0,o=this.length;if(void 0===e&&1===t.nodeType)return t.innerHTML;if("string"==typeof e&&!Me.test(e)&&!ve[(pe.exec(e)||["",""])[1].toLowerCase()]){e=w.htmlPrefilter(e);try{for(;r<o;r++)1===(t=this[r]||{}).nodeType&&(w.cleanData(ge(t,!1)),t.innerHTML=e);t=0}catch(e){}}t&&this.empty().append(e)}),null,e,arguments.length)},replaceWith:function(){var e=[];return Re(this,arguments,(function(t){var r=this.parentNode;w.inArray(this,e)<0&&(w.cleanData(ge(this)),r&&r.replaceChild(t,this))}),e)}}),w.each({appendTo:"append",prependTo:"prepend",insertBefore:"before",insertAfter:"after",replaceAll:"replaceWith"},(function(e,t){w.fn[e]=function(e){for(var r,o=[],i=w(e),n=i.length-1,s=0;s<=n;s++)r=s===n?this:this.clone(!0),w(i[s])[t](r),a.apply(o,r.get());return this.pushStack(o)}}));var ke=new RegExp("^("+ee+")(?!px)[a-z%]+$","i"),Ne=function(t){var r=t.ownerDocument.defaultView;return r&&r.opener||(r=e),r.getComputedStyle(t)},Pe=function(e,t,r){var o,i,n={};for(i in t)n[i]=e.style[i],e.style[i]=t[i];for(i in o=r.call(e),t)e.style[i]=n[i];return o},Ve=new RegExp(re.join("|"),"i");function Ue(e,t,r){var o,i,n,a,s=e.style;return(r=r||Ne(e))&&(""!==(a=r.getPropertyValue(t)||r[t])||ie(e)||(a=w.style(e,t)),!d.pixelBoxStyles()&&ke.test(a)&&Ve.test(t)&&(o=s.width,i=s.minWidth,n=s.maxWidth,s.minWidth=s.maxWidth=s.width=a,a=r.width,s.width=o,s.minWidth=i,s.maxWidth=n)),void 0!==a?a+"":a}function Be(e,t){return{get:function(){if(!e())return(this.get=t).apply(this,arguments);delete this.get}}}!function(){function t(){if(u){c.style.cssText="position:absolute;left:-11111px;width:60px;margin-top:1px;padding:0;border:0",u.style.cssText="position:relative;display:block;box-sizing:border-box;overflow:scroll;margin:auto;border:1px;padding:1px;width:60%;top:1%",oe.appendChild(c).appendChild(u);var t=e.getComputedStyle(u);o="1%"!==t.top,l=12===r(t.marginLeft),u.style.right="60%",a=36===r(t.right),i=36===r(t.width),u.style.position="absolute",n=12===r(u.offsetWidth/3),oe.removeChild(c),u=null}}function r(e){return Math.round(parseFloat(e))}var o,i,n,a,s,l,c=v.createElement("div"),u=v.createElement("div");u.style&&(u.style.backgroundClip="content-box",u.cloneNode(!0).style.backgroundClip="",d.clearCloneStyle="content-box"===u.style.backgroundClip,w.extend(d,{boxSizingReliable:function(){return t(),i},pixelBoxStyles:function(){return t(),a},pixelPosition:function(){return t(),o},reliableMarginLeft:function(){return t(),l},scrollboxSize:function(){return t(),n},reliableTrDimensions:function(){var t,r,o,i;return null==s&&(t=v.createElement("table"),r=v.createElement("tr"),o=v.createElement("div"),t.style.cssText="position:absolute;left:-11111px;border-collapse:separate",r.style.cssText="border:1px solid",r.style.height="1px",o.style.height="9px",o.style.display="block",oe.appendChild(t).appendChild(r).appendChild(o),i=e.getComputedStyle(r),s=parseInt(i.height,10)+parseInt(i.borderTopWidth,10)+parseInt(i.borderBottomWidth,10)===r.offsetHeight,oe.removeChild(t)),s}}))}();var je=["Webkit","Moz","ms"],Ge=v.createElement("div").style,He={};function qe(e){var t=w.cssProps[e]||He[e];return t||(e in Ge?e:He[e]=function(e){for(var t=e[0].toUpperCase()+e.slice(1),r=je.length;r--;)if((e=je[r]+t)in Ge)return e}(e)||e)}var We=/^(none|table(?!-c[ea]).+)/,Ye=/^--/,Xe={position:"absolute",visibility:"hidden",display:"block"},Ze={letterSpacing:"0",fontWeight:"400"};function Qe(e,t,r){var o=te.exec(t);return o?Math.max(0,o[2]-(r||0))+(o[3]||"px"):t}function Ke(e,t,r,o,i,n){var a="width"===t?1:0,s=0,l=0;if(r===(o?"border":"content"))return 0;for(;a<4;a+=2)"margin"===r&&(l+=w.css(e,r+re[a],!0,i)),o?("content"===r&&(l-=w.css(e,"padding"+re[a],!0,i)),"margin"!==r&&(l-=w.css(e,"border"+re[a]+"Width",!0,i))):(l+=w.css(e,"padding"+re[a],!0,i),"padding"!==r?l+=w.css(e,"border"+re[a]+"Width",!0,i):s+=w.css(e,"border"+re[a]+"Width",!0,i));return!o&&n>=0&&(l+=Math.max(0,Math.ceil(e["offset"+t[0].toUpperCase()+t.slice(1)]-n-l-s-.5))||0),l}function Je(e,t,r){var o=Ne(e),i=(!d.boxSizingReliable()||r)&&"border-box"===w.css(e,"boxSizing",!1,o),n=i,a=Ue(e,t,o),s="offset"+t[0].toUpperCase()+t.slice(1);if(ke.test(a)){if(!r)return a;a="auto"}return(!d.boxSizingReliable()&&i||!d.reliableTrDimensions()&&M(e,"tr")||"auto"===a||!parseFloat(a)&&"inline"===w.css(e,"display",!1,o))&&e.getClientRects().length&&(i="border-box"===w.css(e,"boxSizing",!1,o),(n=s in e)&&(a=e[s])),(a=parseFloat(a)||0)+Ke(e,t,r||(i?"border":"content"),n,o,a)+"px"}function et(e,t,r,o,i){return new et.prototype.init(e,t,r,o,i)}w.extend({cssHooks:{opacity:{get:function(e,t){if(t){var r=Ue(e,"opacity");return""===r?"1":r}}}},cssNumber:{animationIterationCount:!0,columnCount:!0,fillOpacity:!0,flexGrow:!0,flexShrink:!0,fontWeight:!0,gridArea:!0,gridColumn:!0,gridColumnEnd:!0,gridColumnStart:!0,gridRow:!0,gridRowEnd:!0,gridRowStart:!0,lineHeight:!0,opacity:!0,order:!0,orphans:!0,widows:!0,zIndex:!0,zoom:!0},cssProps:{},style:function(e,t,r,o){if(e&&3!==e.nodeType&&8!==e.nodeType&&e.style){var i,n,a,s=q(t),l=Ye.test(t),c=e.style;if(l||(t=qe(s)),a=w.cssHooks[t]||w.cssHooks[s],void 0===r)return a&&"get"in a&&void 0!==(i=a.get(e,!1,o))?i:c[t];"string"===(n=typeof r)&&(i=te.exec(r))&&i[1]&&(r=se(e,t,i),n="number"),null!=r&&r==r&&("number"!==n||l||(r+=i&&i[3]||(w.cssNumber[s]?"":"px")),d.clearCloneStyle||""!==r||0!==t.indexOf("background")||(c[t]="inherit"),a&&"set"in a&&void 0===(r=a.set(e,r,o))||(l?c.setProperty(t,r):c[t]=r))}},css:function(e,t,r,o){var i,n,a,s=q(t);return Ye.test(t)||(t=qe(s)),(a=w.cssHooks[t]||w.cssHooks[s])&&"get"in a&&(i=a.get(e,!0,r)),void 0===i&&(i=Ue(e,t,o)),"normal"===i&&t in Ze&&(i=Ze[t]),""===r||r?(n=parseFloat(i),!0===r||isFinite(n)?n||0:i):i}}),w.each(["height","width"],(function(e,t){w.cssHooks[t]={get:function(e,r,o){if(r)return!We.test(w.css(e,"display"))||e.getClientRects().length&&e.getBoundingClientRect().width?Je(e,t,o):Pe(e,Xe,(function(){return Je(e,t,o)}))},set:function(e,r,o){var i,n=Ne(e),a=!d.scrollboxSize()&&"absolute"===n.position,s=(a||o)&&"border-box"===w.css(e,"boxSizing",!1,n),l=o?Ke(e,t,o,s,n):0;return s&&a&&(l-=Math.ceil(e["offset"+t[0].toUpperCase()+t.slice(1)]-parseFloat(n[t])-Ke(e,t,"border",!1,n)-.5)),l&&(i=te.exec(r))&&"px"!==(i[3]||"px")&&(e.style[t]=r,r=w.css(e,t)),Qe(0,r,l)}}})),w.cssHooks.marginLeft=Be(d.reliableMarginLeft,(function(e,t){if(t)return(parseFloat(Ue(e,"marginLeft"))||e.getBoundingClientRect().left-Pe(e,{marginLeft:0},(function(){return e.getBoundingClientRect().left})))+"px"})),w.each({margin:"",padding:"",border:"Width"},(function(e,t){w.cssHooks[e+t]={expand:function(r){for(var o=0,i={},n="string"==typeof r?r.split(" "):[r];o<4;o++)i[e+re[o]+t]=n[o]||n[o-2]||n[0];return i}},"margin"!==e&&(w.cssHooks[e+t].set=Qe)})),w.fn.extend({css:function(e,t){return B(this,(function(e,t,r){var o,i,n={},a=0;if(Array.isArray(t)){for(o=Ne(e),i=t.length;a<i;a++)n[t[a]]=w.css(e,t[a],!1,o);return n}return void 0!==r?w.style(e,t,r):w.css(e,t)}),e,t,arguments.length>1)}}),w.Tween=et,et.prototype={constructor:et,init:function(e,t,r,o,i,n){this.elem=e,this.prop=r,this.easing=i||w.easing._default,this.options=t,this.start=this.now=this.cur(),this.end=o,this.unit=n||(w.cssNumber[r]?"":"px")},cur:function(){var e=et.propHooks[this.prop];return e&&e.get?e.get(this):et.propHooks._default.get(this)},run:function(e){var t,r=et.propHooks[this.prop];return this.options.duration?this.pos=t=w.easing[this.easing](e,this.options.duration*e,0,1,this.options.duration):this.pos=t=e,this.now=(this.end-this.start)*t+this.start,this.options.step&&this.options.step.call(this.elem,this.now,this),r&&r.set?r.set(this):et.propHooks._default.set(this),this}},et.prototype.init.prototype=et.prototype,et.propHooks={_default:{get:function(e){var t;return 1!==e.elem.nodeType||null!=e.elem[e.prop]&&null==e.elem.style[e.prop]?e.elem[e.prop]:(t=w.css(e.elem,e.prop,""))&&"auto"!==t?t:0},set:function(e){w.fx.step[e.prop]?w.fx.step[e.prop](e):1!==e.elem.nodeType||!w.cssHooks[e.prop]&&null==e.elem.style[qe(e.prop)]?e.elem[e.prop]=e.now:w.style(e.elem,e.prop,e.now+e.unit)}}},et.propHooks.scrollTop=et.propHooks.scrollLeft={set:function(e){e.elem.nodeType&&e.elem.parentNode&&(e.elem[e.prop]=e.now)}},w.easing={linear:function(e){return e},swing:function(e){return.5-Math.cos(e*Math.PI)/2},_default:"swing"},w.fx=et.prototype.init,w.fx.step={};var tt,rt,ot=/^(?:toggle|show|hide)$/,it=/queueHooks$/;function nt(){rt&&(!1===v.hidden&&e.requestAnimationFrame?e.requestAnimationFrame(nt):e.setTimeout(nt,w.fx.interval),w.fx.tick())}function at(){return e.setTimeout((function(){tt=void 0})),tt=Date.now()}function st(e,t){var r,o=0,i={height:e};for(t=t?1:0;o<4;o+=2-t)i["margin"+(r=re[o])]=i["padding"+r]=e;return t&&(i.opacity=i.width=e),i}function lt(e,t,r){for(var o,i=(ct.tweeners[t]||[]).concat(ct.tweeners["*"]),n=0,a=i.length;n<a;n++)if(o=i[n].call(r,t,e))return o}function ct(e,t,r){var o,i,n=0,a=ct.prefilters.length,s=w.Deferred().always((function(){delete l.elem})),l=function(){if(i)return!1;for(var t=tt||at(),r=Math.max(0,c.startTime+c.duration-t),o=1-(r/c.duration||0),n=0,a=c.tweens.length;n<a;n++)c.tweens[n].run(o);return s.notifyWith(e,[c,o,r]),o<1&&a?r:(a||s.notifyWith(e,[c,1,0]),s.resolveWith(e,[c]),!1)},c=s.promise({elem:e,props:w.extend({},t),opts:w.extend(!0,{specialEasing:{},easing:w.easing._default},r),originalProperties:t,originalOptions:r,startTime:tt||at(),duration:r.duration,tweens:[],createTween:function(t,r){var o=w.Tween(e,c.opts,t,r,c.opts.specialEasing[t]||c.opts.easing);return c.tweens.push(o),o},stop:function(t){var r=0,o=t?c.tweens.length:0;if(i)return this;for(i=!0;r<o;r++)c.tweens[r].run(1);return t?(s.notifyWith(e,[c,1,0]),s.resolveWith(e,[c,t])):s.rejectWith(e,[c,t]),this}}),u=c.props;for(!function(e,t){var r,o,i,n,a;for(r in e)if(i=t[o=q(r)],n=e[r],Array.isArray(n)&&(i=n[1],n=e[r]=n[0]),r!==o&&(e[o]=n,delete e[r]),(a=w.cssHooks[o])&&"expand"in a)for(r in n=a.expand(n),delete e[o],n)r in e||(e[r]=n[r],t[r]=i);else t[o]=i}(u,c.opts.specialEasing);n<a;n++)if(o=ct.prefilters[n].call(c,e,u,c.opts))return p(o.stop)&&(w._queueHooks(c.elem,c.opts.queue).stop=o.stop.bind(o)),o;return w.map(u,lt,c),p(c.opts.start)&&c.opts.start.call(e,c),c.progress(c.opts.progress).done(c.opts.done,c.opts.complete).fail(c.opts.fail).always(c.opts.always),w.fx.timer(w.extend(l,{elem:e,anim:c,queue:c.opts.queue})),c}w.Animation=w.extend(ct,{tweeners:{"*":[function(e,t){var r=this.createTween(e,t);return se(r.elem,e,te.exec(t),r),r}]},tweener:function(e,t){p(e)?(t=e,e=["*"]):e=e.match(R);for(var r,o=0,i=e.length;o<i;o++)r=e[o],ct.tweeners[r]=ct.tweeners[r]||[],ct.tweeners[r].unshift(t)},prefilters:[function(e,t,r){var o,i,n,a,s,l,c,u,h="width"in t||"height"in t,f=this,d={},p=e.style,m=e.nodeType&&ae(e),v=X.get(e,"fxshow");for(o in r.queue||(null==(a=w._queueHooks(e,"fx")).unqueued&&(a.unqueued=0,s=a.empty.fire,a.empty.fire=function(){a.unqueued||s()}),a.unqueued++,f.always((function(){f.always((function(){a.unqueued--,w.queue(e,"fx").length||a.empty.fire()}))}))),t)if(i=t[o],ot.test(i)){if(delete t[o],n=n||"toggle"===i,i===(m?"hide":"show")){if("show"!==i||!v||void 0===v[o])continue;m=!0}d[o]=v&&v[o]||w.style(e,o)}if((l=!w.isEmptyObject(t))||!w.isEmptyObject(d))for(o in h&&1===e.nodeType&&(r.overflow=[p.overflow,p.overflowX,p.overflowY],null==(c=v&&v.display)&&(c=X.get(e,"display")),"none"===(u=w.css(e,"display"))&&(c?u=c:(ue([e],!0),c=e.style.display||c,u=w.css(e,"display"),ue([e]))),("inline"===u||"inline-block"===u&&null!=c)&&"none"===w.css(e,"float")&&(l||(f.done((function(){p.display=c})),null==c&&(u=p.display,c="none"===u?"":u)),p.display="inline-block")),r.overflow&&(p.overflow="hidden",f.always((function(){p.overflow=r.overflow[0],p.overflowX=r.overflow[1],p.overflowY=r.overflow[2]}))),l=!1,d)l||(v?"hidden"in v&&(m=v.hidden):v=X.access(e,"fxshow",{display:c}),n&&(v.hidden=!m),m&&ue([e],!0),f.done((function(){for(o in m||ue([e]),X.remove(e,"fxshow"),d)w.style(e,o,d[o])}))),l=lt(m?v[o]:0,o,f),o in v||(v[o]=l.start,m&&(l.end=l.start,l.start=0))}],prefilter:function(e,t){t?ct.prefilters.unshift(e):ct.prefilters.push(e)}}),w.speed=function(e,t,r){var o=e&&"object"==typeof e?w.extend({},e):{complete:r||!r&&t||p(e)&&e,duration:e,easing:r&&t||t&&!p(t)&&t};return w.fx.off?o.duration=0:"number"!=typeof o.duration&&(o.duration in w.fx.speeds?o.duration=w.fx.speeds[o.duration]:o.duration=w.fx.speeds._default),null!=o.queue&&!0!==o.queue||(o.queue="fx"),o.old=o.complete,o.complete=function(){p(o.old)&&o.old.call(this),o.queue&&w.dequeue(this,o.queue)},o},w.fn.extend({fadeTo:function(e,t,r,o){return this.filter(ae).css("opacity",0).show().end().animate({opacity:t},e,r,o)},animate:function(e,t,r,o){var i=w.isEmptyObject(e),n=w.speed(t,r,o),a=function(){var t=ct(this,w.extend({},e),n);(i||X.get(this,"finish"))&&t.stop(!0)};return a.finish=a,i||!1===n.queue?this.each(a):this.queue(n.queue,a)},stop:function(e,t,r){var o=function(e){var t=e.stop;delete e.stop,t(r)};return"string"!=typeof e&&(r=t,t=e,e=void 0),t&&this.queue(e||"fx",[]),this.each((function(){var t=!0,i=null!=e&&e+"queueHooks",n=w.timers,a=X.get(this);if(i)a[i]&&a[i].stop&&o(a[i]);else for(i in a)a[i]&&a[i].stop&&it.test(i)&&o(a[i]);for(i=n.length;i--;)n[i].elem!==this||null!=e&&n[i].queue!==e||(n[i].anim.stop(r),t=!1,n.splice(i,1));!t&&r||w.dequeue(this,e)}))},finish:function(e){return!1!==e&&(e=e||"fx"),this.each((function(){var t,r=X.get(this),o=r[e+"queue"],i=r[e+"queueHooks"],n=w.timers,a=o?o.length:0;for(r.finish=!0,w.queue(this,e,[]),i&&i.stop&&i.stop.call(this,!0),t=n.length;t--;)n[t].elem===this&&n[t].queue===e&&(n[t].anim.stop(!0),n.splice(t,1));for(t=0;t<a;t++)o[t]&&o[t].finish&&o[t].finish.call(this);delete r.finish}))}}),w.each(["toggle","show","hide"],(function(e,t){var r=w.fn[t];w.fn[t]=function(e,o,i){return null==e||"boolean"==typeof e?r.apply(this,arguments):this.animate(st(t,!0),e,o,i)}})),w.each({slideDown:st("show"),slideUp:st("hide"),slideToggle:st("toggle"),fadeIn:{opacity:"show"},fadeOut:{opacity:"hide"},fadeToggle:{opacity:"toggle"}},(function(e,t){w.fn[e]=function(e,r,o){return this.animate(t,e,r,o)}})),w.timers=[],w.fx.tick=function(){var e,t=0,r=w.timers;for(tt=Date.now();t<r.length;t++)(e=r[t])()||r[t]!==e||r.splice(t--,1);r.length||w.fx.stop(),tt=void 0},w.fx.timer=function(e){w.timers.push(e),w.fx.start()},w.fx.interval=13,w.fx.start=function(){rt||(rt=!0,nt())},w.fx.stop=function(){rt=null},w.fx.speeds={slow:600,fast:200,_default:400},w.fn.delay=function(t,r){return t=w.fx&&w.fx.speeds[t]||t,r=r||"fx",this.queue(r,(function(r,o){var i=e.setTimeout(r,t);o.stop=function(){e.clearTimeout(i)}}))},function(){var e=v.createElement("input"),t=v.createElement("select").appendChild(v.createElement("option"));e.type="checkbox",d.checkOn=""!==e.value,d.optSelected=t.selected,(e=v.createElement("input")).value="t",e.type="radio",d.radioValue="t"===e.value}();var ut,ht=w.expr.attrHandle;w.fn.extend({attr:function(e,t){return B(this,w.attr,e,t,arguments.length>1)},removeAttr:function(e){return this.each((function(){w.removeAttr(this,e)}))}}),w.extend({attr:function(e,t,r){var o,i,n=e.nodeType;if(3!==n&&8!==n&&2!==n)return void 0===e.getAttribute?w.prop(e,t,r):(1===n&&w.isXMLDoc(e)||(i=w.attrHooks[t.toLowerCase()]||(w.expr.match.bool.test(t)?ut:void 0)),void 0!==r?null===r?void w.removeAttr(e,t):i&&"set"in i&&void 0!==(o=i.set(e,r,t))?o:(e.setAttribute(t,r+""),r):i&&"get"in i&&null!==(o=i.get(e,t))?o:null==(o=w.find.attr(e,t))?void 0:o)},attrHooks:{type:{set:function(e,t){if(!d.radioValue&&"radio"===t&&M(e,"input")){var r=e.value;return e.setAttribute("type",t),r&&(e.value=r),t}}}},removeAttr:function(e,t){var r,o=0,i=t&&t.match(R);if(i&&1===e.nodeType)for(;r=i[o++];)e.removeAttribute(r)}}),ut={set:function(e,t,r){return!1===t?w.removeAttr(e,r):e.setAttribute(r,r),r}},w.each(w.expr.match.bool.source.match(/\w+/g),(function(e,t){var r=ht[t]||w.find.attr;ht[t]=function(e,t,o){var i,n,a=t.toLowerCase();return o||(n=ht[a],ht[a]=i,i=null!=r(e,t,o)?a:null,ht[a]=n),i}}));var ft=/^(?:input|select|textarea|button)$/i,dt=/^(?:a|area)$/i;function pt(e){return(e.match(R)||[]).join(" ")}function mt(e){return e.getAttribute&&e.getAttribute("class")||""}function vt(e){return Array.isArray(e)?e:"string"==typeof e&&e.match(R)||[]}w.fn.extend({prop:function(e,t){return B(this,w.prop,e,t,arguments.length>1)},removeProp:function(e){return this.each((function(){delete this[w.propFix[e]||e]}))}}),w.extend({prop:function(e,t,r){var o,i,n=e.nodeType;if(3!==n&&8!==n&&2!==n)return 1===n&&w.isXMLDoc(e)||(t=w.propFix[t]||t,i=w.propHooks[t]),void 0!==r?i&&"set"in i&&void 0!==(o=i.set(e,r,t))?o:e[t]=r:i&&"get"in i&&null!==(o=i.get(e,t))?o:e[t]},propHooks:{tabIndex:{get:function(e){var t=w.find.attr(e,"tabindex");return t?parseInt(t,10):ft.test(e.nodeName)||dt.test(e.nodeName)&&e.href?0:-1}}},propFix:{for:"htmlFor",class:"className"}}),d.optSelected||(w.propHooks.selected={get:function(e){var t=e.parentNode;return t&&t.parentNode&&t.parentNode.selectedIndex,null},set:function(e){var t=e.parentNode;t&&(t.selectedIndex,t.parentNode&&t.parentNode.selectedIndex)}}),w.each(["tabIndex","readOnly","maxLength","cellSpacing","cellPadding","rowSpan","colSpan","useMap","frameBorder","contentEditable"],(function(){w.propFix[this.toLowerCase()]=this})),w.fn.extend({addClass:function(e){var t,r,o,i,n,a,s,l=0;if(p(e))return this.each((function(t){w(this).addClass(e.call(this,t,mt(this)))}));if((t=vt(e)).length)for(;r=this[l++];)if(i=mt(r),o=1===r.nodeType&&" "+pt(i)+" "){for(a=0;n=t[a++];)o.indexOf(" "+n+" ")<0&&(o+=n+" ");i!==(s=pt(o))&&r.setAttribute("class",s)}return this},removeClass:function(e){var t,r,o,i,n,a,s,l=0;if(p(e))return this.each((function(t){w(this).removeClass(e.call(this,t,mt(this)))}));if(!arguments.length)return this.attr("class","");if((t=vt(e)).length)for(;r=this[l++];)if(i=mt(r),o=1===r.nodeType&&" "+pt(i)+" "){for(a=0;n=t[a++];)for(;o.indexOf(" "+n+" ")>-1;)o=o.replace(" "+n+" "," ");i!==(s=pt(o))&&r.setAttribute("class",s)}return this},toggleClass:function(e,t){var r=typeof e,o="string"===r||Array.isArray(e);return"boolean"==typeof t&&o?t?this.addClass(e):this.removeClass(e):p(e)?this.each((function(r){w(this).toggleClass(e.call(this,r,mt(this),t),t)})):this.each((function(){var t,i,n,a;if(o)for(i=0,n=w(this),a=vt(e);t=a[i++];)n.hasClass(t)?n.removeClass(t):n.addClass(t);else void 0!==e&&"boolean"!==r||((t=mt(this))&&X.set(this,"__className__",t),this.setAttribute&&this.setAttribute("class",t||!1===e?"":X.get(this,"__className__")||""))}))},hasClass:function(e){var t,r,o=0;for(t=" "+e+" ";r=this[o++];)if(1===r.nodeType&&(" "+pt(mt(r))+" ").indexOf(t)>-1)return!0;return!1}});var gt=/\r/g;w.fn.extend({val:function(e){var t,r,o,i=this[0];return arguments.length?(o=p(e),this.each((function(r){var i;1===this.nodeType&&(null==(i=o?e.call(this,r,w(this).val()):e)?i="":"number"==typeof i?i+="":Array.isArray(i)&&(i=w.map(i,(function(e){return null==e?"":e+""}))),(t=w.valHooks[this.type]||w.valHooks[this.nodeName.toLowerCase()])&&"set"in t&&void 0!==t.set(this,i,"value")||(this.value=i))}))):i?(t=w.valHooks[i.type]||w.valHooks[i.nodeName.toLowerCase()])&&"get"in t&&void 0!==(r=t.get(i,"value"))?r:"string"==typeof(r=i.value)?r.replace(gt,""):null==r?"":r:void 0}}),w.extend({valHooks:{option:{get:function(e){var t=w.find.attr(e,"value");return null!=t?t:pt(w.text(e))}},select:{get:function(e){var t,r,o,i=e.options,n=e.selectedIndex,a="select-one"===e.type,s=a?null:[],l=a?n+1:i.length;for(o=n<0?l:a?n:0;o<l;o++)if(((r=i[o]).selected||o===n)&&!r.disabled&&(!r.parentNode.disabled||!M(r.parentNode,"optgroup"))){if(t=w(r).val(),a)return t;s.push(t)}return s},set:function(e,t){for(var r,o,i=e.options,n=w.makeArray(t),a=i.length;a--;)((o=i[a]).selected=w.inArray(w.valHooks.option.get(o),n)>-1)&&(r=!0);return r||(e.selectedIndex=-1),n}}}}),w.each(["radio","checkbox"],(function(){w.valHooks[this]={set:function(e,t){if(Array.isArray(t))return e.checked=w.inArray(w(e).val(),t)>-1}},d.checkOn||(w.valHooks[this].get=function(e){return null===e.getAttribute("value")?"on":e.value})})),d.focusin="onfocusin"in e;var yt=/^(?:focusinfocus|focusoutblur)$/,bt=function(e){e.stopPropagation()};w.extend(w.event,{trigger:function(t,r,o,i){var n,a,s,l,c,h,f,d,g=[o||v],y=u.call(t,"type")?t.type:t,b=u.call(t,"namespace")?t.namespace.split("."):[];if(a=d=s=o=o||v,3!==o.nodeType&&8!==o.nodeType&&!yt.test(y+w.event.triggered)&&(y.indexOf(".")>-1&&(b=y.split("."),y=b.shift(),b.sort()),c=y.indexOf(":")<0&&"on"+y,(t=t[w.expando]?t:new w.Event(y,"object"==typeof t&&t)).isTrigger=i?2:3,t.namespace=b.join("."),t.rnamespace=t.namespace?new RegExp("(^|\\.)"+b.join("\\.(?:.*\\.|)")+"(\\.|$)"):null,t.result=void 0,t.target||(t.target=o),r=null==r?[t]:w.makeArray(r,[t]),f=w.event.special[y]||{},i||!f.trigger||!1!==f.trigger.apply(o,r))){if(!i&&!f.noBubble&&!m(o)){for(l=f.delegateType||y,yt.test(l+y)||(a=a.parentNode);a;a=a.parentNode)g.push(a),s=a;s===(o.ownerDocument||v)&&g.push(s.defaultView||s.parentWindow||e)}for(n=0;(a=g[n++])&&!t.isPropagationStopped();)d=a,t.type=n>1?l:f.bindType||y,(h=(X.get(a,"events")||Object.create(null))[t.type]&&X.get(a,"handle"))&&h.apply(a,r),(h=c&&a[c])&&h.apply&&W(a)&&(t.result=h.apply(a,r),!1===t.result&&t.preventDefault());return t.type=y,i||t.isDefaultPrevented()||f._default&&!1!==f._default.apply(g.pop(),r)||!W(o)||c&&p(o[y])&&!m(o)&&((s=o[c])&&(o[c]=null),w.event.triggered=y,t.isPropagationStopped()&&d.addEventListener(y,bt),o[y](),t.isPropagationStopped()&&d.removeEventListener(y,bt),w.event.triggered=void 0,s&&(o[c]=s)),t.result}},simulate:function(e,t,r){var o=w.extend(new w.Event,r,{type:e,isSimulated:!0});w.event.trigger(o,null,t)}}),w.fn.extend({trigger:function(e,t){return this.each((function(){w.event.trigger(e,t,this)}))},triggerHandler:function(e,t){var r=this[0];if(r)return w.event.trigger(e,t,r,!0)}}),d.focusin||w.each({focus:"focusin",blur:"focusout"},(function(e,t){var r=function(e){w.event.simulate(t,e.target,w.event.fix(e))};w.event.special[t]={setup:function(){var o=this.ownerDocument||this.document||this,i=X.access(o,t);i||o.addEventListener(e,r,!0),X.access(o,t,(i||0)+1)},teardown:function(){var o=this.ownerDocument||this.document||this,i=X.access(o,t)-1;i?X.access(o,t,i):(o.removeEventListener(e,r,!0),X.remove(o,t))}}}));var xt=e.location,wt={guid:Date.now()},Dt=/\?/;w.parseXML=function(t){var r,o;if(!t||"string"!=typeof t)return null;try{r=(new e.DOMParser).parseFromString(t,"text/xml")}catch(e){}return o=r&&r.getElementsByTagName("parsererror")[0],r&&!o||w.error("Invalid XML: "+(o?w.map(o.childNodes,(function(e){return e.textContent})).join("\n"):t)),r};var Ct=/\[\]$/,At=/\r?\n/g,St=/^(?:submit|button|image|reset|file)$/i,$t=/^(?:input|select|textarea|keygen)/i;function Mt(e,t,r,o){var i;if(Array.isArray(t))w.each(t,(function(t,i){r||Ct.test(e)?o(e,i):Mt(e+"["+("object"==typeof i&&null!=i?t:"")+"]",i,r,o)}));else if(r||"object"!==b(t))o(e,t);else for(i in t)Mt(e+"["+i+"]",t[i],r,o)}w.param=function(e,t){var r,o=[],i=function(e,t){var r=p(t)?t():t;o[o.length]=encodeURIComponent(e)+"="+encodeURIComponent(null==r?"":r)};if(null==e)return"";if(Array.isArray(e)||e.jquery&&!w.isPlainObject(e))w.each(e,(function(){i(this.name,this.value)}));else for(r in e)Mt(r,e[r],t,i);return o.join("&")},w.fn.extend({serialize:function(){return w.param(this.serializeArray())},serializeArray:function(){return this.map((function(){var e=w.prop(this,"elements");return e?w.makeArray(e):this})).filter((function(){var e=this.type;return this.name&&!w(this).is(":disabled")&&$t.test(this.nodeName)&&!St.test(e)&&(this.checked||!de.test(e))})).map((function(e,t){var r=w(this).val();return null==r?null:Array.isArray(r)?w.map(r,(function(e){return{name:t.name,value:e.replace(At,"\r\n")}})):{name:t.name,value:r.replace(At,"\r\n")}})).get()}});var _t=/%20/g,Tt=/#.*$/,zt=/([?&])_=[^&]*/,Et=/^(.*?):[ \t]*([^\r\n]*)$/gm,Lt=/^(?:GET|HEAD)$/,Ft=/^\/\//,It={},Rt={},Ot="*/".concat("*"),kt=v.createElement("a");function Nt(e){return function(t,r){"string"!=typeof t&&(r=t,t="*");var o,i=0,n=t.toLowerCase().match(R)||[];if(p(r))for(;o=n[i++];)"+"===o[0]?(o=o.slice(1)||"*",(e[o]=e[o]||[]).unshift(r)):(e[o]=e[o]||[]).push(r)}}function Pt(e,t,r,o){var i={},n=e===Rt;function a(s){var l;return i[s]=!0,w.each(e[s]||[],(function(e,s){var c=s(t,r,o);return"string"!=typeof c||n||i[c]?n?!(l=c):void 0:(t.dataTypes.unshift(c),a(c),!1)})),l}return a(t.dataTypes[0])||!i["*"]&&a("*")}function Vt(e,t){var r,o,i=w.ajaxSettings.flatOptions||{};for(r in t)void 0!==t[r]&&((i[r]?e:o||(o={}))[r]=t[r]);return o&&w.extend(!0,e,o),e}kt.href=xt.href,w.extend({active:0,lastModified:{},etag:{},ajaxSettings:{url:xt.href,type:"GET",isLocal:/^(?:about|app|app-storage|.+-extension|file|res|widget):$/.test(xt.protocol),global:!0,processData:!0,async:!0,contentType:"application/x-www-form-urlencoded; charset=UTF-8",accepts:{"*":Ot,text:"text/plain",html:"text/html",xml:"application/xml, text/xml",json:"application/json, text/javascript"},contents:{xml:/\bxml\b/,html:/\bhtml/,json:/\bjson\b/},responseFields:{xml:"responseXML",text:"responseText",json:"responseJSON"},converters:{"* text":String,"text html":!0,"text json":JSON.parse,"text xml":w.parseXML},flatOptions:{url:!0,context:!0}},ajaxSetup:function(e,t){return t?Vt(Vt(e,w.ajaxSettings),t):Vt(w.ajaxSettings,e)},ajaxPrefilter:Nt(It),ajaxTransport:Nt(Rt),ajax:function(t,r){"object"==typeof t&&(r=t,t=void 0),r=r||{};var o,i,n,a,s,l,c,u,h,f,d=w.ajaxSetup({},r),p=d.context||d,m=d.context&&(p.nodeType||p.jquery)?w(p):w.event,g=w.Deferred(),y=w.Callbacks("once memory"),b=d.statusCode||{},x={},D={},C="canceled",A={readyState:0,getResponseHeader:function(e){var t;if(c){if(!a)for(a={};t=Et.exec(n);)a[t[1].toLowerCase()+" "]=(a[t[1].toLowerCase()+" "]||[]).concat(t[2]);t=a[e.toLowerCase()+" "]}return null==t?null:t.join(", ")},getAllResponseHeaders:function(){return c?n:null},setRequestHeader:function(e,t){return null==c&&(e=D[e.toLowerCase()]=D[e.toLowerCase()]||e,x[e]=t),this},overrideMimeType:function(e){return null==c&&(d.mimeType=e),this},statusCode:function(e){var t;if(e)if(c)A.always(e[A.status]);else for(t in e)b[t]=[b[t],e[t]];return this},abort:function(e){var t=e||C;return o&&o.abort(t),S(0,t),this}};if(g.promise(A),d.url=((t||d.url||xt.href)+"").replace(Ft,xt.protocol+"//"),d.type=r.method||r.type||d.method||d.type,d.dataTypes=(d.dataType||"*").toLowerCase().match(R)||[""],null==d.crossDomain){l=v.createElement("a");try{l.href=d.url,l.href=l.href,d.crossDomain=kt.protocol+"//"+kt.host!=l.protocol+"//"+l.host}catch(e){d.crossDomain=!0}}if(d.data&&d.processData&&"string"!=typeof d.data&&(d.data=w.param(d.data,d.traditional)),Pt(It,d,r,A),c)return A;for(h in(u=w.event&&d.global)&&0==w.active++&&w.event.trigger("ajaxStart"),d.type=d.type.toUpperCase(),d.hasContent=!Lt.test(d.type),i=d.url.replace(Tt,""),d.hasContent?d.data&&d.processData&&0===(d.contentType||"").indexOf("application/x-www-form-urlencoded")&&(d.data=d.data.replace(_t,"+")):(f=d.url.slice(i.length),d.data&&(d.processData||"string"==typeof d.data)&&(i+=(Dt.test(i)?"&":"?")+d.data,delete d.data),!1===d.cache&&(i=i.replace(zt,"$1"),f=(Dt.test(i)?"&":"?")+"_="+wt.guid+++f),d.url=i+f),d.ifModified&&(w.lastModified[i]&&A.setRequestHeader("If-Modified-Since",w.lastModified[i]),w.etag[i]&&A.setRequestHeader("If-None-Match",w.etag[i])),(d.data&&d.hasContent&&!1!==d.contentType||r.contentType)&&A.setRequestHeader("Content-Type",d.contentType),A.setRequestHeader("Accept",d.dataTypes[0]&&d.accepts[d.dataTypes[0]]?d.accepts[d.dataTypes[0]]+("*"!==d.dataTypes[0]?", "+Ot+"; q=0.01":""):d.accepts["*"]),d.headers)A.setRequestHeader(h,d.headers[h]);if(d.beforeSend&&(!1===d.beforeSend.call(p,A,d)||c))return A.abort();if(C="abort",y.add(d.complete),A.done(d.success),A.fail(d.error),o=Pt(Rt,d,r,A)){if(A.readyState=1,u&&m.trigger("ajaxSend",[A,d]),c)return A;d.async&&d.timeout>0&&(s=e.setTimeout((function(){A.abort("timeout")}),d.timeout));try{c=!1,o.send(x,S)}catch(e){if(c)throw e;S(-1,e)}}else S(-1,"No Transport");function S(t,r,a,l){var h,f,v,x,D,C=r;c||(c=!0,s&&e.clearTimeout(s),o=void 0,n=l||"",A.readyState=t>0?4:0,h=t>=200&&t<300||304===t,a&&(x=function(e,t,r){for(var o,i,n,a,s=e.contents,l=e.dataTypes;"*"===l[0];)l.shift(),void 0===o&&(o=e.mimeType||t.getResponseHeader("Content-Type"));if(o)for(i in s)if(s[i]&&s[i].test(o)){l.unshift(i);break}if(l[0]in r)n=l[0];else{for(i in r){if(!l[0]||e.converters[i+" "+l[0]]){n=i;break}a||(a=i)}n=n||a}if(n)return n!==l[0]&&l.unshift(n),r[n]}(d,A,a)),!h&&w.inArray("script",d.dataTypes)>-1&&w.inArray("json",d.dataTypes)<0&&(d.converters["text script"]=function(){}),x=function(e,t,r,o){var i,n,a,s,l,c={},u=e.dataTypes.slice();if(u[1])for(a in e.converters)c[a.toLowerCase()]=e.converters[a];for(n=u.shift();n;)if(e.responseFields[n]&&(r[e.responseFields[n]]=t),!l&&o&&e.dataFilter&&(t=e.dataFilter(t,e.dataType)),l=n,n=u.shift())if("*"===n)n=l;else if("*"!==l&&l!==n){if(!(a=c[l+" "+n]||c["* "+n]))for(i in c)if((s=i.split(" "))[1]===n&&(a=c[l+" "+s[0]]||c["* "+s[0]])){!0===a?a=c[i]:!0!==c[i]&&(n=s[0],u.unshift(s[1]));break}if(!0!==a)if(a&&e.throws)t=a(t);else try{t=a(t)}catch(e){return{state:"parsererror",error:a?e:"No conversion from "+l+" to "+n}}}return{state:"success",data:t}}(d,x,A,h),h?(d.ifModified&&((D=A.getResponseHeader("Last-Modified"))&&(w.lastModified[i]=D),(D=A.getResponseHeader("etag"))&&(w.etag[i]=D)),204===t||"HEAD"===d.type?C="nocontent":304===t?C="notmodified":(C=x.state,f=x.data,h=!(v=x.error))):(v=C,!t&&C||(C="error",t<0&&(t=0))),A.status=t,A.statusText=(r||C)+"",h?g.resolveWith(p,[f,C,A]):g.rejectWith(p,[A,C,v]),A.statusCode(b),b=void 0,u&&m.trigger(h?"ajaxSuccess":"ajaxError",[A,d,h?f:v]),y.fireWith(p,[A,C]),u&&(m.trigger("ajaxComplete",[A,d]),--w.active||w.event.trigger("ajaxStop")))}return A},getJSON:function(e,t,r){return w.get(e,t,r,"json")},getScript:function(e,t){return w.get(e,void 0,t,"script")}}),w.each(["get","post"],(function(e,t){w[t]=function(e,r,o,i){return p(r)&&(i=i||o,o=r,r=void 0),w.ajax(w.extend({url:e,type:t,dataType:i,data:r,success:o},w.isPlainObject(e)&&e))}})),w.ajaxPrefilter((function(e){var t;for(t in e.headers)"content-type"===t.toLowerCase()&&(e.contentType=e.headers[t]||"")})),w._evalUrl=function(e,t,r){return w.ajax({url:e,type:"GET",dataType:"script",cache:!0,async:!1,global:!1,converters:{"text script":function(){}},dataFilter:function(e){w.globalEval(e,t,r)}})},w.fn.extend({wrapAll:function(e){var t;return this[0]&&(p(e)&&(e=e.call(this[0])),t=w(e,this[0].ownerDocument).eq(0).clone(!0),this[0].parentNode&&t.insertBefore(this[0]),t.map((function(){for(var e=this;e.firstElementChild;)e=e.firstElementChild;return e})).append(this)),this},wrapInner:function(e){return p(e)?this.each((function(t){w(this).wrapInner(e.call(this,t))})):this.each((function(){var t=w(this),r=t.contents();r.length?r.wrapAll(e):t.append(e)}))},wrap:function(e){var t=p(e);return this.each((function(r){w(this).wrapAll(t?e.call(this,r):e)}))},unwrap:function(e){return this.parent(e).not("body").each((function(){w(this).replaceWith(this.childNodes)})),this}}),w.expr.pseudos.hidden=function(e){return!w.expr.pseudos.visible(e)},w.expr.pseudos.visible=function(e){return!!(e.offsetWidth||e.offsetHeight||e.getClientRects().length)},w.ajaxSettings.xhr=function(){try{return new e.XMLHttpRequest}catch(e){}};var Ut={0:200,1223:204},Bt=w.ajaxSettings.xhr();d.cors=!!Bt&&"withCredentials"in Bt,d.ajax=Bt=!!Bt,w.ajaxTransport((function(t){var r,o;if(d.cors||Bt&&!t.crossDomain)return{send:function(i,n){var a,s=t.xhr();if(s.open(t.type,t.url,t.async,t.username,t.password),t.xhrFields)for(a in t.xhrFields)s[a]=t.xhrFields[a];for(a in t.mimeType&&s.overrideMimeType&&s.overrideMimeType(t.mimeType),t.crossDomain||i["X-Requested-With"]||(i["X-Requested-With"]="XMLHttpRequest"),i)s.setRequestHeader(a,i[a]);r=function(e){return function(){r&&(r=o=s.onload=s.onerror=s.onabort=s.ontimeout=s.onreadystatechange=null,"abort"===e?s.abort():"error"===e?"number"!=typeof s.status?n(0,"error"):n(s.status,s.statusText):n(Ut[s.status]||s.status,s.statusText,"text"!==(s.responseType||"text")||"string"!=typeof s.responseText?{binary:s.response}:{text:s.responseText},s.getAllResponseHeaders()))}},s.onload=r(),o=s.onerror=s.ontimeout=r("error"),void 0!==s.onabort?s.onabort=o:s.onreadystatechange=function(){4===s.readyState&&e.setTimeout((function(){r&&o()}))},r=r("abort");try{s.send(t.hasContent&&t.data||null)}catch(e){if(r)throw e}},abort:function(){r&&r()}}})),w.ajaxPrefilter((function(e){e.crossDomain&&(e.contents.script=!1)})),w.ajaxSetup({accepts:{script:"text/javascript, application/javascript, application/ecmascript, application/x-ecmascript"},contents:{script:/\b(?:java|ecma)script\b/},converters:{"text script":function(e){return w.globalEval(e),e}}}),w.ajaxPrefilter("script",(function(e){void 0===e.cache&&(e.cache=!1),e.crossDomain&&(e.type="GET")})),w.ajaxTransport("script",(function(e){var t,r;if(e.crossDomain||e.scriptAttrs)return{send:function(o,i){t=w("<script>").attr(e.scriptAttrs||{}).prop({charset:e.scriptCharset,src:e.url}).on("load error",r=function(e){t.remove(),r=null,e&&i("error"===e.type?404:200,e.type)}),v.head.appendChild(t[0])},abort:function(){r&&r()}}}));var jt,Gt=[],Ht=/(=)\?(?=&|$)|\?\?/;w.ajaxSetup({jsonp:"callback",jsonpCallback:function(){var e=Gt.pop()||w.expando+"_"+wt.guid++;return this[e]=!0,e}}),w.ajaxPrefilter("json jsonp",(function(t,r,o){var i,n,a,s=!1!==t.jsonp&&(Ht.test(t.url)?"url":"string"==typeof t.data&&0===(t.contentType||"").indexOf("application/x-www-form-urlencoded")&&Ht.test(t.data)&&"data");if(s||"jsonp"===t.dataTypes[0])return i=t.jsonpCallback=p(t.jsonpCallback)?t.jsonpCallback():t.jsonpCallback,s?t[s]=t[s].replace(Ht,"$1"+i):!1!==t.jsonp&&(t.url+=(Dt.test(t.url)?"&":"?")+t.jsonp+"="+i),t.converters["script json"]=function(){return a||w.error(i+" was not called"),a[0]},t.dataTypes[0]="json",n=e[i],e[i]=function(){a=arguments},o.always((function(){void 0===n?w(e).removeProp(i):e[i]=n,t[i]&&(t.jsonpCallback=r.jsonpCallback,Gt.push(i)),a&&p(n)&&n(a[0]),a=n=void 0})),"script"})),d.createHTMLDocument=((jt=v.implementation.createHTMLDocument("").body).innerHTML="<form></form><form></form>",2===jt.childNodes.length),w.parseHTML=function(e,t,r){return"string"!=typeof e?[]:("boolean"==typeof t&&(r=t,t=!1),t||(d.createHTMLDocument?((o=(t=v.implementation.createHTMLDocument("")).createElement("base")).href=v.location.href,t.head.appendChild(o)):t=v),n=!r&&[],(i=_.exec(e))?[t.createElement(i[1])]:(i=xe([e],t,n),n&&n.length&&w(n).remove(),w.merge([],i.childNodes)));var o,i,n},w.fn.load=function(e,t,r){var o,i,n,a=this,s=e.indexOf(" ");return s>-1&&(o=pt(e.slice(s)),e=e.slice(0,s)),p(t)?(r=t,t=void 0):t&&"object"==typeof t&&(i="POST"),a.length>0&&w.ajax({url:e,type:i||"GET",dataType:"html",data:t}).done((function(e){n=arguments,a.html(o?w("<div>").append(w.parseHTML(e)).find(o):e)})).always(r&&function(e,t){a.each((function(){r.apply(this,n||[e.responseText,t,e])}))}),this},w.expr.pseudos.animated=function(e){return w.grep(w.timers,(function(t){return e===t.elem})).length},w.offset={setOffset:function(e,t,r){var o,i,n,a,s,l,c=w.css(e,"position"),u=w(e),h={};"static"===c&&(e.style.position="relative"),s=u.offset(),n=w.css(e,"top"),l=w.css(e,"left"),("absolute"===c||"fixed"===c)&&(n+l).indexOf("auto")>-1?(a=(o=u.position()).top,i=o.left):(a=parseFloat(n)||0,i=parseFloat(l)||0),p(t)&&(t=t.call(e,r,w.extend({},s))),null!=t.top&&(h.top=t.top-s.top+a),null!=t.left&&(h.left=t.left-s.left+i),"using"in t?t.using.call(e,h):u.css(h)}},w.fn.extend({offset:function(e){if(arguments.length)return void 0===e?this:this.each((function(t){w.offset.setOffset(this,e,t)}));var t,r,o=this[0];return o?o.getClientRects().length?(t=o.getBoundingClientRect(),r=o.ownerDocument.defaultView,{top:t.top+r.pageYOffset,left:t.left+r.pageXOffset}):{top:0,left:0}:void 0},position:function(){if(this[0]){var e,t,r,o=this[0],i={top:0,left:0};if("fixed"===w.css(o,"position"))t=o.getBoundingClientRect();else{for(t=this.offset(),r=o.ownerDocument,e=o.offsetParent||r.documentElement;e&&(e===r.body||e===r.documentElement)&&"static"===w.css(e,"position");)e=e.parentNode;e&&e!==o&&1===e.nodeType&&((i=w(e).offset()).top+=w.css(e,"borderTopWidth",!0),i.left+=w.css(e,"borderLeftWidth",!0))}return{top:t.top-i.top-w.css(o,"marginTop",!0),left:t.left-i.left-w.css(o,"marginLeft",!0)}}},offsetParent:function(){return this.map((function(){for(var e=this.offsetParent;e&&"static"===w.css(e,"position");)e=e.offsetParent;return e||oe}))}}),w.each({scrollLeft:"pageXOffset",scrollTop:"pageYOffset"},(function(e,t){var r="pageYOffset"===t;w.fn[e]=function(o){return B(this,(function(e,o,i){var n;if(m(e)?n=e:9===e.nodeType&&(n=e.defaultView),void 0===i)return n?n[t]:e[o];n?n.scrollTo(r?n.pageXOffset:i,r?i:n.pageYOffset):e[o]=i}),e,o,arguments.length)}})),w.each(["top","left"],(function(e,t){w.cssHooks[t]=Be(d.pixelPosition,(function(e,r){if(r)return r=Ue(e,t),ke.test(r)?w(e).position()[t]+"px":r}))})),w.each({Height:"height",Width:"width"},(function(e,t){w.each({padding:"inner"+e,content:t,"":"outer"+e},(function(r,o){w.fn[o]=function(i,n){var a=arguments.length&&(r||"boolean"!=typeof i),s=r||(!0===i||!0===n?"margin":"border");return B(this,(function(t,r,i){var n;return m(t)?0===o.indexOf("outer")?t["inner"+e]:t.document.documentElement["client"+e]:9===t.nodeType?(n=t.documentElement,Math.max(t.body["scroll"+e],n["scroll"+e],t.body["offset"+e],n["offset"+e],n["client"+e])):void 0===i?w.css(t,r,s):w.style(t,r,i,s)}),t,a?i:void 0,a)}}))})),w.each(["ajaxStart","ajaxStop","ajaxComplete","ajaxError","ajaxSuccess","ajaxSend"],(function(e,t){w.fn[t]=function(e){return this.on(t,e)}})),w.fn.extend({bind:function(e,t,r){return this.on(e,null,t,r)},unbind:function(e,t){return this.off(e,null,t)},delegate:function(e,t,r,o){return this.on(t,e,r,o)},undelegate:function(e,t,r){return 1===arguments.length?this.off(e,"**"):this.off(t,e||"**",r)},hover:function(e,t){return this.mouseenter(e).mouseleave(t||e)}}),w.each("blur focus focusin focusout resize scroll click dblclick mousedown mouseup mousemove mouseover mouseout mouseenter mouseleave change select submit keydown keypress keyup contextmenu".split(" "),(function(e,t){w.fn[t]=function(e,r){return arguments.length>0?this.on(t,null,e,r):this.trigger(t)}}));var qt=/^[\s\uFEFF\xA0]+|[\s\uFEFF\xA0]+$/g;w.proxy=function(e,t){var r,o,n;if("string"==typeof t&&(r=e[t],t=e,e=r),p(e))return o=i.call(arguments,2),(n=function(){return e.apply(t||this,o.concat(i.call(arguments)))}).guid=e.guid=e.guid||w.guid++,n},w.holdReady=function(e){e?w.readyWait++:w.ready(!0)},w.isArray=Array.isArray,w.parseJSON=JSON.parse,w.nodeName=M,w.isFunction=p,w.isWindow=m,w.camelCase=q,w.type=b,w.now=Date.now,w.isNumeric=function(e){var t=w.type(e);return("number"===t||"string"===t)&&!isNaN(e-parseFloat(e))},w.trim=function(e){return null==e?"":(e+"").replace(qt,"")},"function"==typeof define&&define.amd&&define("jquery",[],(function(){return w}));var Wt=e.jQuery,Yt=e.$;return w.noConflict=function(t){return e.$===w&&(e.$=Yt),t&&e.jQuery===w&&(e.jQuery=Wt),w},void 0===t&&(e.jQuery=e.$=w),w})),function(e,t){!function(e){"use strict";function t(e,t,r){e.byteLength;for(var o=0,i=r.length;o<i;o++){var n=r.charCodeAt(o);if(n<128)e.setUint8(t++,n>>>0&127|0);else if(n<2048)e.setUint8(t++,n>>>6&31|192),e.setUint8(t++,n>>>0&63|128);else if(n<65536)e.setUint8(t++,n>>>12&15|224),e.setUint8(t++,n>>>6&63|128),e.setUint8(t++,n>>>0&63|128);else{if(!(n<1114112))throw new Error("bad codepoint "+n);e.setUint8(t++,n>>>18&7|240),e.setUint8(t++,n>>>12&63|128),e.setUint8(t++,n>>>6&63|128),e.setUint8(t++,n>>>0&63|128)}}}function r(e){for(var t=0,r=0,o=e.length;r<o;r++){var i=e.charCodeAt(r);if(i<128)t+=1;else if(i<2048)t+=2;else if(i<65536)t+=3;else{if(!(i<1114112))throw new Error("bad codepoint "+i);t+=4}}return t}function o(e,i,n){var a=typeof e;if("string"===a){if((s=r(e))<32)return i.setUint8(n,160|s),t(i,n+1,e),1+s;if(s<256)return i.setUint8(n,217),i.setUint8(n+1,s),t(i,n+2,e),2+s;if(s<65536)return i.setUint8(n,218),i.setUint16(n+1,s),t(i,n+3,e),3+s;if(s<4294967296)return i.setUint8(n,219),i.setUint32(n+1,s),t(i,n+5,e),5+s}if(e instanceof Uint8Array){var s=e.byteLength,l=new Uint8Array(i.buffer);if(s<256)return i.setUint8(n,196),i.setUint8(n+1,s),l.set(e,n+2),2+s;if(s<65536)return i.setUint8(n,197),i.setUint16(n+1,s),l.set(e,n+3),3+s;if(s<4294967296)return i.setUint8(n,198),i.setUint32(n+1,s),l.set(e,n+5),5+s}if("number"===a){if(!isFinite(e))throw new Error("Number not finite: "+e);if(Math.floor(e)!==e)return i.setUint8(n,203),i.setFloat64(n+1,e),9;if(e>=0){if(e<128)return i.setUint8(n,e),1;if(e<256)return i.setUint8(n,204),i.setUint8(n+1,e),2;if(e<65536)return i.setUint8(n,205),i.setUint16(n+1,e),3;if(e<4294967296)return i.setUint8(n,206),i.setUint32(n+1,e),5;throw new Error("Number too big 0x"+e.toString(16))}if(e>=-32)return i.setInt8(n,e),1;if(e>=-128)return i.setUint8(n,208),i.setInt8(n+1,e),2;if(e>=-32768)return i.setUint8(n,209),i.setInt16(n+1,e),3;if(e>=-2147483648)return i.setUint8(n,210),i.setInt32(n+1,e),5;throw new Error("Number too small -0x"+(-e).toString(16).substr(1))}if(null===e)return i.setUint8(n,192),1;if("boolean"===a)return i.setUint8(n,e?195:194),1;if("object"===a){var c=0,u=Array.isArray(e);if(u)s=e.length;else{var h=Object.keys(e);s=h.length}if(s<16?(i.setUint8(n,s|(u?144:128)),c=1):s<65536?(i.setUint8(n,u?220:222),i.setUint16(n+1,s),c=3):s<4294967296&&(i.setUint8(n,u?221:223),i.setUint32(n+1,s),c=5),u)for(var f=0;f<s;f++)c+=o(e[f],i,n+c);else for(f=0;f<s;f++){var d=h[f];c+=o(d,i,n+c),c+=o(e[d],i,n+c)}return c}throw new Error("Unknown type "+a)}function i(e){var t=typeof e;if("string"===t){if((o=r(e))<32)return 1+o;if(o<256)return 2+o;if(o<65536)return 3+o;if(o<4294967296)return 5+o}if(e instanceof Uint8Array){if((o=e.byteLength)<256)return 2+o;if(o<65536)return 3+o;if(o<4294967296)return 5+o}if("number"===t){if(Math.floor(e)!==e)return 9;if(e>=0){if(e<128)return 1;if(e<256)return 2;if(e<65536)return 3;if(e<4294967296)return 5;throw new Error("Number too big 0x"+e.toString(16))}if(e>=-32)return 1;if(e>=-128)return 2;if(e>=-32768)return 3;if(e>=-2147483648)return 5;throw new Error("Number too small -0x"+e.toString(16).substr(1))}if("boolean"===t||null===e)return 1;if("object"===t){var o,n=0;if(Array.isArray(e)){o=e.length;for(var a=0;a<o;a++)n+=i(e[a])}else{var s=Object.keys(e);o=s.length;for(a=0;a<o;a++){var l=s[a];n+=i(l)+i(e[l])}}if(o<16)return 1+n;if(o<65536)return 3+n;if(o<4294967296)return 5+n;throw new Error("Array or object too long 0x"+o.toString(16))}throw new Error("Unknown type "+t)}function n(e){var t=new ArrayBuffer(i(e));return o(e,new DataView(t),0),new Uint8Array(t)}var a=["mmtfVersion","mmtfProducer","unitCell","spaceGroup","structureId","title","depositionDate","releaseDate","experimentalMethods","resolution","rFree","rWork","bioAssemblyList","ncsOperatorList","entityList","groupList","numBonds","numAtoms","numGroups","numChains","numModels","groupsPerChain","chainsPerModel"],s=["xCoordList","yCoordList","zCoordList","groupIdList","groupTypeList","chainIdList","bFactorList","atomIdList","altLocList","occupancyList","secStructList","insCodeList","sequenceIndexList","chainNameList","bondAtomList","bondOrderList"],l=a.concat(s);function c(e,t,r){return t?new e(t.buffer,t.byteOffset,t.byteLength/(r||1)):void 0}function u(e){return c(DataView,e)}function h(e){return c(Uint8Array,e)}function f(e){return c(Int8Array,e)}function d(e){return c(Int32Array,e,4)}function p(e){return c(Float32Array,e,4)}function m(e,t){var r=e.length/2;t||(t=new Int16Array(r));for(var o=0,i=0;o<r;++o,i+=2)t[o]=e[i]<<8^e[i+1]<<0;return t}function v(e,t){var r=e.length;t||(t=new Uint8Array(2*r));for(var o=u(t),i=0;i<r;++i)o.setInt16(2*i,e[i]);return h(t)}function g(e,t){var r=e.length/4;t||(t=new Int32Array(r));for(var o=0,i=0;o<r;++o,i+=4)t[o]=e[i]<<24^e[i+1]<<16^e[i+2]<<8^e[i+3]<<0;return t}function y(e,t){var r=e.length;t||(t=new Uint8Array(4*r));for(var o=u(t),i=0;i<r;++i)o.setInt32(4*i,e[i]);return h(t)}function b(e,t){var r=e.length;t||(t=new Float32Array(r/4));for(var o=u(t),i=u(e),n=0,a=0,s=r/4;n<s;++n,a+=4)o.setFloat32(a,i.getFloat32(a),!0);return t}function x(e,t,r){var o=e.length,i=1/t;r||(r=new Float32Array(o));for(var n=0;n<o;++n)r[n]=e[n]*i;return r}function w(e,t,r){var o=e.length;r||(r=new Int32Array(o));for(var i=0;i<o;++i)r[i]=Math.round(e[i]*t);return r}function D(e,t){var r,o;if(!t){var i=0;for(r=0,o=e.length;r<o;r+=2)i+=e[r+1];t=new e.constructor(i)}var n=0;for(r=0,o=e.length;r<o;r+=2)for(var a=e[r],s=e[r+1],l=0;l<s;++l)t[n]=a,++n;return t}function C(e){if(0===e.length)return new Int32Array;var t,r,o=2;for(t=1,r=e.length;t<r;++t)e[t-1]!==e[t]&&(o+=2);var i=new Int32Array(o),n=0,a=1;for(t=1,r=e.length;t<r;++t)e[t-1]!==e[t]?(i[n]=e[t-1],i[n+1]=a,a=1,n+=2):++a;return i[n]=e[e.length-1],i[n+1]=a,i}function A(e,t){var r=e.length;t||(t=new e.constructor(r)),r&&(t[0]=e[0]);for(var o=1;o<r;++o)t[o]=e[o]+t[o-1];return t}function S(e,t){var r=e.length;t||(t=new e.constructor(r)),t[0]=e[0];for(var o=1;o<r;++o)t[o]=e[o]-e[o-1];return t}function $(e,t){var r,o,i=e instanceof Int8Array?127:32767,n=-i-1,a=e.length;if(!t){var s=0;for(r=0;r<a;++r)e[r]<i&&e[r]>n&&++s;t=new Int32Array(s)}for(r=0,o=0;r<a;){for(var l=0;e[r]===i||e[r]===n;)l+=e[r],++r;l+=e[r],++r,t[o]=l,++o}return t}function M(e,t){var r,o=t?127:32767,i=-o-1,n=e.length,a=0;for(r=0;r<n;++r){0===(c=e[r])?++a:a+=c===o||c===i?2:c>0?Math.ceil(c/o):Math.ceil(c/i)}var s=t?new Int8Array(a):new Int16Array(a),l=0;for(r=0;r<n;++r){var c;if((c=e[r])>=0)for(;c>=o;)s[l]=o,++l,c-=o;else for(;c<=i;)s[l]=i,++l,c-=i;s[l]=c,++l}return s}function _(e,t){return A(D(e),t)}function T(e){return C(S(e))}function z(e,t,r){return x(D(e,d(r)),t,r)}function E(e,t){return C(w(e,t))}function L(e,t,r){return x(A(e,d(r)),t,r)}function F(e,t,r){return S(w(e,t),r)}function I(e,t,r){return x($(e,d(r)),t,r)}function R(e,t,r){var o=$(e,d(r));return L(o,t,p(o))}function O(e,t,r){return M(F(e,t),r)}function k(e){var t=u(e),r=t.getInt32(0),o=t.getInt32(4),i=e.subarray(8,12);return[r,e=e.subarray(12),o,i]}function N(e,t,r,o){var i=new ArrayBuffer(12+o.byteLength),n=new Uint8Array(i),a=new DataView(i);return a.setInt32(0,e),a.setInt32(4,t),r&&n.set(r,8),n.set(o,12),n}function P(e){return N(2,e.length,void 0,h(e))}function V(e){return N(4,e.length,void 0,y(e))}function U(e,t){return N(5,e.length/t,y([t]),h(e))}function B(e){return N(6,e.length,void 0,y(C(e)))}function j(e){return N(8,e.length,void 0,y(T(e)))}function G(e,t){return N(9,e.length,y([t]),y(E(e,t)))}function H(e,t){return N(10,e.length,y([t]),v(O(e,t)))}function q(e){var t={};return a.forEach((function(r){void 0!==e[r]&&(t[r]=e[r])})),e.bondAtomList&&(t.bondAtomList=V(e.bondAtomList)),e.bondOrderList&&(t.bondOrderList=P(e.bondOrderList)),t.xCoordList=H(e.xCoordList,1e3),t.yCoordList=H(e.yCoordList,1e3),t.zCoordList=H(e.zCoordList,1e3),e.bFactorList&&(t.bFactorList=H(e.bFactorList,100)),e.atomIdList&&(t.atomIdList=j(e.atomIdList)),e.altLocList&&(t.altLocList=B(e.altLocList)),e.occupancyList&&(t.occupancyList=G(e.occupancyList,100)),t.groupIdList=j(e.groupIdList),t.groupTypeList=V(e.groupTypeList),e.secStructList&&(t.secStructList=P(e.secStructList)),e.insCodeList&&(t.insCodeList=B(e.insCodeList)),e.sequenceIndexList&&(t.sequenceIndexList=j(e.sequenceIndexList)),t.chainIdList=U(e.chainIdList,4),e.chainNameList&&(t.chainNameList=U(e.chainNameList,4)),t}function W(e){var t=0,r=new DataView(e.buffer);function o(e){for(var t={},r=0;r<e;r++){t[s()]=s()}return t}function i(r){var o=e.subarray(t,t+r);return t+=r,o}function n(r){var o=e.subarray(t,t+r);t+=r;var i=65535;if(r>i){for(var n=[],a=0;a<o.length;a+=i)n.push(String.fromCharCode.apply(null,o.subarray(a,a+i)));return n.join("")}return String.fromCharCode.apply(null,o)}function a(e){for(var t=new Array(e),r=0;r<e;r++)t[r]=s();return t}function s(){var s,l,c=e[t];if(0==(128&c))return t++,c;if(128==(240&c))return t++,o(l=15&c);if(144==(240&c))return t++,a(l=15&c);if(160==(224&c))return t++,n(l=31&c);if(224==(224&c))return s=r.getInt8(t),t++,s;switch(c){case 192:return t++,null;case 194:return t++,!1;case 195:return t++,!0;case 196:return l=r.getUint8(t+1),t+=2,i(l);case 197:return l=r.getUint16(t+1),t+=3,i(l);case 198:return l=r.getUint32(t+1),t+=5,i(l);case 202:return s=r.getFloat32(t+1),t+=5,s;case 203:return s=r.getFloat64(t+1),t+=9,s;case 204:return s=e[t+1],t+=2,s;case 205:return s=r.getUint16(t+1),t+=3,s;case 206:return s=r.getUint32(t+1),t+=5,s;case 208:return s=r.getInt8(t+1),t+=2,s;case 209:return s=r.getInt16(t+1),t+=3,s;case 210:return s=r.getInt32(t+1),t+=5,s;case 217:return l=r.getUint8(t+1),t+=2,n(l);case 218:return l=r.getUint16(t+1),t+=3,n(l);case 219:return l=r.getUint32(t+1),t+=5,n(l);case 220:return l=r.getUint16(t+1),t+=3,a(l);case 221:return l=r.getUint32(t+1),t+=5,a(l);case 222:return l=r.getUint16(t+1),t+=3,o(l);case 223:return l=r.getUint32(t+1),t+=5,o(l)}throw new Error("Unknown type 0x"+c.toString(16))}return s()}function Y(e,t,r,o){switch(e){case 1:return b(t);case 2:return f(t);case 3:return m(t);case 4:return g(t);case 5:return h(t);case 6:return D(g(t),new Uint8Array(r));case 7:return D(g(t));case 8:return _(g(t));case 9:return z(g(t),g(o)[0]);case 10:return R(m(t),g(o)[0]);case 11:return x(m(t),g(o)[0]);case 12:return I(m(t),g(o)[0]);case 13:return I(f(t),g(o)[0]);case 14:return $(m(t));case 15:return $(f(t))}}function X(e,t){var r=(t=t||{}).ignoreFields,o={};return l.forEach((function(t){var i=!!r&&-1!==r.indexOf(t),n=e[t];i||void 0===n||(n instanceof Uint8Array?o[t]=Y.apply(null,k(n)):o[t]=n)})),o}function Z(e){return String.fromCharCode.apply(null,e).replace(/\0/g,"")}function Q(e,t,r){var o,i,n,a,s,l,c=(r=r||{}).firstModelOnly,u=t.onModel,h=t.onChain,f=t.onGroup,d=t.onAtom,p=t.onBond,m=0,v=0,g=0,y=0,b=0,x=-1,w=e.chainNameList,D=e.secStructList,C=e.insCodeList,A=e.sequenceIndexList,S=e.atomIdList,$=e.bFactorList,M=e.altLocList,_=e.occupancyList,T=e.bondAtomList,z=e.bondOrderList;for(o=0,i=e.chainsPerModel.length;o<i&&!(c&&m>0);++o){var E=e.chainsPerModel[m];for(u&&u({chainCount:E,modelIndex:m}),n=0;n<E;++n){var L=e.groupsPerChain[v];if(h){var F=Z(e.chainIdList.subarray(4*v,4*v+4)),I=null;w&&(I=Z(w.subarray(4*v,4*v+4))),h({groupCount:L,chainIndex:v,modelIndex:m,chainId:F,chainName:I})}for(a=0;a<L;++a){var R=e.groupList[e.groupTypeList[g]],O=R.atomNameList.length;if(f){var k=null;D&&(k=D[g]);var N=null;e.insCodeList&&(N=String.fromCharCode(C[g]));var P=null;A&&(P=A[g]),f({atomCount:O,groupIndex:g,chainIndex:v,modelIndex:m,groupId:e.groupIdList[g],groupType:e.groupTypeList[g],groupName:R.groupName,singleLetterCode:R.singleLetterCode,chemCompType:R.chemCompType,secStruct:k,insCode:N,sequenceIndex:P})}for(s=0;s<O;++s){if(d){var V=null;S&&(V=S[y]);var U=null;$&&(U=$[y]);var B=null;M&&(B=String.fromCharCode(M[y]));var j=null;_&&(j=_[y]),d({atomIndex:y,groupIndex:g,chainIndex:v,modelIndex:m,atomId:V,element:R.elementList[s],atomName:R.atomNameList[s],formalCharge:R.formalChargeList[s],xCoord:e.xCoordList[y],yCoord:e.yCoordList[y],zCoord:e.zCoordList[y],bFactor:U,altLoc:B,occupancy:j})}y+=1}if(p){var G=R.bondAtomList;for(s=0,l=R.bondOrderList.length;s<l;++s)p({atomIndex1:y-O+G[2*s],atomIndex2:y-O+G[2*s+1],bondOrder:R.bondOrderList[s]})}g+=1}v+=1}if(b=x+1,x=y-1,p&&T)for(s=0,l=T.length;s<l;s+=2){var H=T[s],q=T[s+1];(H>=b&&H<=x||q>=b&&q<=x)&&p({atomIndex1:H,atomIndex2:q,bondOrder:z?z[s/2]:null})}m+=1}}var K="v1.0.0",J="http://mmtf.rcsb.org/v1.0/",ee=J+"full/",te=J+"reduced/";function re(e){return n(q(e))}function oe(e,t){return e instanceof ArrayBuffer&&(e=new Uint8Array(e)),X(e instanceof Uint8Array?W(e):e,t)}function ie(e,t,r,o){var i=new XMLHttpRequest;function n(){try{var e=oe(i.response);r(e)}catch(e){o(e)}}i.addEventListener("load",n,!0),i.addEventListener("error",o,!0),i.responseType="arraybuffer",i.open("GET",t+e.toUpperCase()),i.send()}function ne(e,t,r){ie(e,ee,t,r)}function ae(e,t,r){ie(e,te,t,r)}e.encode=re,e.decode=oe,e.traverse=Q,e.fetch=ne,e.fetchReduced=ae,e.version=K,e.fetchUrl=ee,e.fetchReducedUrl=te,e.encodeMsgpack=n,e.encodeMmtf=q,e.decodeMsgpack=W,e.decodeMmtf=X,Object.defineProperty(e,"__esModule",{value:!0})}(e.MMTF=e.MMTF||{})}(this),function(e){if("object"==typeof exports&&"undefined"!=typeof module)module.exports=e();else if("function"==typeof define&&define.amd)define([],e);else{("undefined"!=typeof window?window:"undefined"!=typeof global?global:"undefined"!=typeof self?self:this).pako=e()}}((function(){return function e(t,r,o){function i(a,s){if(!r[a]){if(!t[a]){var l="function"==typeof require&&require;if(!s&&l)return l(a,!0);if(n)return n(a,!0);var c=new Error("Cannot find module '"+a+"'");throw c.code="MODULE_NOT_FOUND",c}var u=r[a]={exports:{}};t[a][0].call(u.exports,(function(e){return i(t[a][1][e]||e)}),u,u.exports,e,t,r,o)}return r[a].exports}for(var n="function"==typeof require&&require,a=0;a<o.length;a++)i(o[a]);return i}({1:[function(e,t,r){"use strict";var o="undefined"!=typeof Uint8Array&&"undefined"!=typeof Uint16Array&&"undefined"!=typeof Int32Array;function i(e,t){return Object.prototype.hasOwnProperty.call(e,t)}r.assign=function(e){for(var t=Array.prototype.slice.call(arguments,1);t.length;){var r=t.shift();if(r){if("object"!=typeof r)throw new TypeError(r+"must be non-object");for(var o in r)i(r,o)&&(e[o]=r[o])}}return e},r.shrinkBuf=function(e,t){return e.length===t?e:e.subarray?e.subarray(0,t):(e.length=t,e)};var n={arraySet:function(e,t,r,o,i){if(t.subarray&&e.subarray)e.set(t.subarray(r,r+o),i);else for(var n=0;n<o;n++)e[i+n]=t[r+n]},flattenChunks:function(e){var t,r,o,i,n,a;for(o=0,t=0,r=e.length;t<r;t++)o+=e[t].length;for(a=new Uint8Array(o),i=0,t=0,r=e.length;t<r;t++)n=e[t],a.set(n,i),i+=n.length;return a}},a={arraySet:function(e,t,r,o,i){for(var n=0;n<o;n++)e[i+n]=t[r+n]},flattenChunks:function(e){return[].concat.apply([],e)}};r.setTyped=function(e){e?(r.Buf8=Uint8Array,r.Buf16=Uint16Array,r.Buf32=Int32Array,r.assign(r,n)):(r.Buf8=Array,r.Buf16=Array,r.Buf32=Array,r.assign(r,a))},r.setTyped(o)},{}],2:[function(e,t,r){"use strict";var o=e("./common"),i=!0,n=!0;try{String.fromCharCode.apply(null,[0])}catch(e){i=!1}try{String.fromCharCode.apply(null,new Uint8Array(1))}catch(e){n=!1}for(var a=new o.Buf8(256),s=0;s<256;s++)a[s]=s>=252?6:s>=248?5:s>=240?4:s>=224?3:s>=192?2:1;function l(e,t){if(t<65534&&(e.subarray&&n||!e.subarray&&i))return String.fromCharCode.apply(null,o.shrinkBuf(e,t));for(var r="",a=0;a<t;a++)r+=String.fromCharCode(e[a]);return r}a[254]=a[254]=1,r.string2buf=function(e){var t,r,i,n,a,s=e.length,l=0;for(n=0;n<s;n++)55296==(64512&(r=e.charCodeAt(n)))&&n+1<s&&56320==(64512&(i=e.charCodeAt(n+1)))&&(r=65536+(r-55296<<10)+(i-56320),n++),l+=r<128?1:r<2048?2:r<65536?3:4;for(t=new o.Buf8(l),a=0,n=0;a<l;n++)55296==(64512&(r=e.charCodeAt(n)))&&n+1<s&&56320==(64512&(i=e.charCodeAt(n+1)))&&(r=65536+(r-55296<<10)+(i-56320),n++),r<128?t[a++]=r:r<2048?(t[a++]=192|r>>>6,t[a++]=128|63&r):r<65536?(t[a++]=224|r>>>12,t[a++]=128|r>>>6&63,t[a++]=128|63&r):(t[a++]=240|r>>>18,t[a++]=128|r>>>12&63,t[a++]=128|r>>>6&63,t[a++]=128|63&r);return t},r.buf2binstring=function(e){return l(e,e.length)},r.binstring2buf=function(e){for(var t=new o.Buf8(e.length),r=0,i=t.length;r<i;r++)t[r]=e.charCodeAt(r);return t},r.buf2string=function(e,t){var r,o,i,n,s=t||e.length,c=new Array(2*s);for(o=0,r=0;r<s;)if((i=e[r++])<128)c[o++]=i;else if((n=a[i])>4)c[o++]=65533,r+=n-1;else{for(i&=2===n?31:3===n?15:7;n>1&&r<s;)i=i<<6|63&e[r++],n--;n>1?c[o++]=65533:i<65536?c[o++]=i:(i-=65536,c[o++]=55296|i>>10&1023,c[o++]=56320|1023&i)}return l(c,o)},r.utf8border=function(e,t){var r;for((t=t||e.length)>e.length&&(t=e.length),r=t-1;r>=0&&128==(192&e[r]);)r--;return r<0||0===r?t:r+a[e[r]]>t?r:t}},{"./common":1}],3:[function(e,t,r){"use strict";t.exports=function(e,t,r,o){for(var i=65535&e|0,n=e>>>16&65535|0,a=0;0!==r;){r-=a=r>2e3?2e3:r;do{n=n+(i=i+t[o++]|0)|0}while(--a);i%=65521,n%=65521}return i|n<<16|0}},{}],4:[function(e,t,r){"use strict";t.exports={Z_NO_FLUSH:0,Z_PARTIAL_FLUSH:1,Z_SYNC_FLUSH:2,Z_FULL_FLUSH:3,Z_FINISH:4,Z_BLOCK:5,Z_TREES:6,Z_OK:0,Z_STREAM_END:1,Z_NEED_DICT:2,Z_ERRNO:-1,Z_STREAM_ERROR:-2,Z_DATA_ERROR:-3,Z_BUF_ERROR:-5,Z_NO_COMPRESSION:0,Z_BEST_SPEED:1,Z_BEST_COMPRESSION:9,Z_DEFAULT_COMPRESSION:-1,Z_FILTERED:1,Z_HUFFMAN_ONLY:2,Z_RLE:3,Z_FIXED:4,Z_DEFAULT_STRATEGY:0,Z_BINARY:0,Z_TEXT:1,Z_UNKNOWN:2,Z_DEFLATED:8}},{}],5:[function(e,t,r){"use strict";var o=function(){for(var e,t=[],r=0;r<256;r++){e=r;for(var o=0;o<8;o++)e=1&e?3988292384^e>>>1:e>>>1;t[r]=e}return t}();t.exports=function(e,t,r,i){var n=o,a=i+r;e^=-1;for(var s=i;s<a;s++)e=e>>>8^n[255&(e^t[s])];return-1^e}},{}],6:[function(e,t,r){"use strict";t.exports=function(){this.text=0,this.time=0,this.xflags=0,this.os=0,this.extra=null,this.extra_len=0,this.name="",this.comment="",this.hcrc=0,this.done=!1}},{}],7:[function(e,t,r){"use strict";t.exports=function(e,t){var r,o,i,n,a,s,l,c,u,h,f,d,p,m,v,g,y,b,x,w,D,C,A,S,$;r=e.state,o=e.next_in,S=e.input,i=o+(e.avail_in-5),n=e.next_out,$=e.output,a=n-(t-e.avail_out),s=n+(e.avail_out-257),l=r.dmax,c=r.wsize,u=r.whave,h=r.wnext,f=r.window,d=r.hold,p=r.bits,m=r.lencode,v=r.distcode,g=(1<<r.lenbits)-1,y=(1<<r.distbits)-1;e:do{p<15&&(d+=S[o++]<<p,p+=8,d+=S[o++]<<p,p+=8),b=m[d&g];t:for(;;){if(d>>>=x=b>>>24,p-=x,0===(x=b>>>16&255))$[n++]=65535&b;else{if(!(16&x)){if(0==(64&x)){b=m[(65535&b)+(d&(1<<x)-1)];continue t}if(32&x){r.mode=12;break e}e.msg="invalid literal/length code",r.mode=30;break e}w=65535&b,(x&=15)&&(p<x&&(d+=S[o++]<<p,p+=8),w+=d&(1<<x)-1,d>>>=x,p-=x),p<15&&(d+=S[o++]<<p,p+=8,d+=S[o++]<<p,p+=8),b=v[d&y];r:for(;;){if(d>>>=x=b>>>24,p-=x,!(16&(x=b>>>16&255))){if(0==(64&x)){b=v[(65535&b)+(d&(1<<x)-1)];continue r}e.msg="invalid distance code",r.mode=30;break e}if(D=65535&b,p<(x&=15)&&(d+=S[o++]<<p,(p+=8)<x&&(d+=S[o++]<<p,p+=8)),(D+=d&(1<<x)-1)>l){e.msg="invalid distance too far back",r.mode=30;break e}if(d>>>=x,p-=x,D>(x=n-a)){if((x=D-x)>u&&r.sane){e.msg="invalid distance too far back",r.mode=30;break e}if(C=0,A=f,0===h){if(C+=c-x,x<w){w-=x;do{$[n++]=f[C++]}while(--x);C=n-D,A=$}}else if(h<x){if(C+=c+h-x,(x-=h)<w){w-=x;do{$[n++]=f[C++]}while(--x);if(C=0,h<w){w-=x=h;do{$[n++]=f[C++]}while(--x);C=n-D,A=$}}}else if(C+=h-x,x<w){w-=x;do{$[n++]=f[C++]}while(--x);C=n-D,A=$}for(;w>2;)$[n++]=A[C++],$[n++]=A[C++],$[n++]=A[C++],w-=3;w&&($[n++]=A[C++],w>1&&($[n++]=A[C++]))}else{C=n-D;do{$[n++]=$[C++],$[n++]=$[C++],$[n++]=$[C++],w-=3}while(w>2);w&&($[n++]=$[C++],w>1&&($[n++]=$[C++]))}break}}break}}while(o<i&&n<s);o-=w=p>>3,d&=(1<<(p-=w<<3))-1,e.next_in=o,e.next_out=n,e.avail_in=o<i?i-o+5:5-(o-i),e.avail_out=n<s?s-n+257:257-(n-s),r.hold=d,r.bits=p}},{}],8:[function(e,t,r){"use strict";var o=e("../utils/common"),i=e("./adler32"),n=e("./crc32"),a=e("./inffast"),s=e("./inftrees"),l=-2,c=12,u=30;function h(e){return(e>>>24&255)+(e>>>8&65280)+((65280&e)<<8)+((255&e)<<24)}function f(){this.mode=0,this.last=!1,this.wrap=0,this.havedict=!1,this.flags=0,this.dmax=0,this.check=0,this.total=0,this.head=null,this.wbits=0,this.wsize=0,this.whave=0,this.wnext=0,this.window=null,this.hold=0,this.bits=0,this.length=0,this.offset=0,this.extra=0,this.lencode=null,this.distcode=null,this.lenbits=0,this.distbits=0,this.ncode=0,this.nlen=0,this.ndist=0,this.have=0,this.next=null,this.lens=new o.Buf16(320),this.work=new o.Buf16(288),this.lendyn=null,this.distdyn=null,this.sane=0,this.back=0,this.was=0}function d(e){var t;return e&&e.state?(t=e.state,e.total_in=e.total_out=t.total=0,e.msg="",t.wrap&&(e.adler=1&t.wrap),t.mode=1,t.last=0,t.havedict=0,t.dmax=32768,t.head=null,t.hold=0,t.bits=0,t.lencode=t.lendyn=new o.Buf32(852),t.distcode=t.distdyn=new o.Buf32(592),t.sane=1,t.back=-1,0):l}function p(e){var t;return e&&e.state?((t=e.state).wsize=0,t.whave=0,t.wnext=0,d(e)):l}function m(e,t){var r,o;return e&&e.state?(o=e.state,t<0?(r=0,t=-t):(r=1+(t>>4),t<48&&(t&=15)),t&&(t<8||t>15)?l:(null!==o.window&&o.wbits!==t&&(o.window=null),o.wrap=r,o.wbits=t,p(e))):l}function v(e,t){var r,o;return e?(o=new f,e.state=o,o.window=null,0!==(r=m(e,t))&&(e.state=null),r):l}var g,y,b=!0;function x(e){if(b){var t;for(g=new o.Buf32(512),y=new o.Buf32(32),t=0;t<144;)e.lens[t++]=8;for(;t<256;)e.lens[t++]=9;for(;t<280;)e.lens[t++]=7;for(;t<288;)e.lens[t++]=8;for(s(1,e.lens,0,288,g,0,e.work,{bits:9}),t=0;t<32;)e.lens[t++]=5;s(2,e.lens,0,32,y,0,e.work,{bits:5}),b=!1}e.lencode=g,e.lenbits=9,e.distcode=y,e.distbits=5}function w(e,t,r,i){var n,a=e.state;return null===a.window&&(a.wsize=1<<a.wbits,a.wnext=0,a.whave=0,a.window=new o.Buf8(a.wsize)),i>=a.wsize?(o.arraySet(a.window,t,r-a.wsize,a.wsize,0),a.wnext=0,a.whave=a.wsize):((n=a.wsize-a.wnext)>i&&(n=i),o.arraySet(a.window,t,r-i,n,a.wnext),(i-=n)?(o.arraySet(a.window,t,r-i,i,0),a.wnext=i,a.whave=a.wsize):(a.wnext+=n,a.wnext===a.wsize&&(a.wnext=0),a.whave<a.wsize&&(a.whave+=n))),0}r.inflateReset=p,r.inflateReset2=m,r.inflateResetKeep=d,r.inflateInit=function(e){return v(e,15)},r.inflateInit2=v,r.inflate=function(e,t){var r,f,d,p,m,v,g,y,b,D,C,A,S,$,M,_,T,z,E,L,F,I,R,O,k=0,N=new o.Buf8(4),P=[16,17,18,0,8,7,9,6,10,5,11,4,12,3,13,2,14,1,15];if(!e||!e.state||!e.output||!e.input&&0!==e.avail_in)return l;(r=e.state).mode===c&&(r.mode=13),m=e.next_out,d=e.output,g=e.avail_out,p=e.next_in,f=e.input,v=e.avail_in,y=r.hold,b=r.bits,D=v,C=g,I=0;e:for(;;)switch(r.mode){case 1:if(0===r.wrap){r.mode=13;break}for(;b<16;){if(0===v)break e;v--,y+=f[p++]<<b,b+=8}if(2&r.wrap&&35615===y){r.check=0,N[0]=255&y,N[1]=y>>>8&255,r.check=n(r.check,N,2,0),y=0,b=0,r.mode=2;break}if(r.flags=0,r.head&&(r.head.done=!1),!(1&r.wrap)||(((255&y)<<8)+(y>>8))%31){e.msg="incorrect header check",r.mode=u;break}if(8!=(15&y)){e.msg="unknown compression method",r.mode=u;break}if(b-=4,F=8+(15&(y>>>=4)),0===r.wbits)r.wbits=F;else if(F>r.wbits){e.msg="invalid window size",r.mode=u;break}r.dmax=1<<F,e.adler=r.check=1,r.mode=512&y?10:c,y=0,b=0;break;case 2:for(;b<16;){if(0===v)break e;v--,y+=f[p++]<<b,b+=8}if(r.flags=y,8!=(255&r.flags)){e.msg="unknown compression method",r.mode=u;break}if(57344&r.flags){e.msg="unknown header flags set",r.mode=u;break}r.head&&(r.head.text=y>>8&1),512&r.flags&&(N[0]=255&y,N[1]=y>>>8&255,r.check=n(r.check,N,2,0)),y=0,b=0,r.mode=3;case 3:for(;b<32;){if(0===v)break e;v--,y+=f[p++]<<b,b+=8}r.head&&(r.head.time=y),512&r.flags&&(N[0]=255&y,N[1]=y>>>8&255,N[2]=y>>>16&255,N[3]=y>>>24&255,r.check=n(r.check,N,4,0)),y=0,b=0,r.mode=4;case 4:for(;b<16;){if(0===v)break e;v--,y+=f[p++]<<b,b+=8}r.head&&(r.head.xflags=255&y,r.head.os=y>>8),512&r.flags&&(N[0]=255&y,N[1]=y>>>8&255,r.check=n(r.check,N,2,0)),y=0,b=0,r.mode=5;case 5:if(1024&r.flags){for(;b<16;){if(0===v)break e;v--,y+=f[p++]<<b,b+=8}r.length=y,r.head&&(r.head.extra_len=y),512&r.flags&&(N[0]=255&y,N[1]=y>>>8&255,r.check=n(r.check,N,2,0)),y=0,b=0}else r.head&&(r.head.extra=null);r.mode=6;case 6:if(1024&r.flags&&((A=r.length)>v&&(A=v),A&&(r.head&&(F=r.head.extra_len-r.length,r.head.extra||(r.head.extra=new Array(r.head.extra_len)),o.arraySet(r.head.extra,f,p,A,F)),512&r.flags&&(r.check=n(r.check,f,A,p)),v-=A,p+=A,r.length-=A),r.length))break e;r.length=0,r.mode=7;case 7:if(2048&r.flags){if(0===v)break e;A=0;do{F=f[p+A++],r.head&&F&&r.length<65536&&(r.head.name+=String.fromCharCode(F))}while(F&&A<v);if(512&r.flags&&(r.check=n(r.check,f,A,p)),v-=A,p+=A,F)break e}else r.head&&(r.head.name=null);r.length=0,r.mode=8;case 8:if(4096&r.flags){if(0===v)break e;A=0;do{F=f[p+A++],r.head&&F&&r.length<65536&&(r.head.comment+=String.fromCharCode(F))}while(F&&A<v);if(512&r.flags&&(r.check=n(r.check,f,A,p)),v-=A,p+=A,F)break e}else r.head&&(r.head.comment=null);r.mode=9;case 9:if(512&r.flags){for(;b<16;){if(0===v)break e;v--,y+=f[p++]<<b,b+=8}if(y!==(65535&r.check)){e.msg="header crc mismatch",r.mode=u;break}y=0,b=0}r.head&&(r.head.hcrc=r.flags>>9&1,r.head.done=!0),e.adler=r.check=0,r.mode=c;break;case 10:for(;b<32;){if(0===v)break e;v--,y+=f[p++]<<b,b+=8}e.adler=r.check=h(y),y=0,b=0,r.mode=11;case 11:if(0===r.havedict)return e.next_out=m,e.avail_out=g,e.next_in=p,e.avail_in=v,r.hold=y,r.bits=b,2;e.adler=r.check=1,r.mode=c;case c:if(5===t||6===t)break e;case 13:if(r.last){y>>>=7&b,b-=7&b,r.mode=27;break}for(;b<3;){if(0===v)break e;v--,y+=f[p++]<<b,b+=8}switch(r.last=1&y,b-=1,3&(y>>>=1)){case 0:r.mode=14;break;case 1:if(x(r),r.mode=20,6===t){y>>>=2,b-=2;break e}break;case 2:r.mode=17;break;case 3:e.msg="invalid block type",r.mode=u}y>>>=2,b-=2;break;case 14:for(y>>>=7&b,b-=7&b;b<32;){if(0===v)break e;v--,y+=f[p++]<<b,b+=8}if((65535&y)!=(y>>>16^65535)){e.msg="invalid stored block lengths",r.mode=u;break}if(r.length=65535&y,y=0,b=0,r.mode=15,6===t)break e;case 15:r.mode=16;case 16:if(A=r.length){if(A>v&&(A=v),A>g&&(A=g),0===A)break e;o.arraySet(d,f,p,A,m),v-=A,p+=A,g-=A,m+=A,r.length-=A;break}r.mode=c;break;case 17:for(;b<14;){if(0===v)break e;v--,y+=f[p++]<<b,b+=8}if(r.nlen=257+(31&y),y>>>=5,b-=5,r.ndist=1+(31&y),y>>>=5,b-=5,r.ncode=4+(15&y),y>>>=4,b-=4,r.nlen>286||r.ndist>30){e.msg="too many length or distance symbols",r.mode=u;break}r.have=0,r.mode=18;case 18:for(;r.have<r.ncode;){for(;b<3;){if(0===v)break e;v--,y+=f[p++]<<b,b+=8}r.lens[P[r.have++]]=7&y,y>>>=3,b-=3}for(;r.have<19;)r.lens[P[r.have++]]=0;if(r.lencode=r.lendyn,r.lenbits=7,R={bits:r.lenbits},I=s(0,r.lens,0,19,r.lencode,0,r.work,R),r.lenbits=R.bits,I){e.msg="invalid code lengths set",r.mode=u;break}r.have=0,r.mode=19;case 19:for(;r.have<r.nlen+r.ndist;){for(;_=(k=r.lencode[y&(1<<r.lenbits)-1])>>>16&255,T=65535&k,!((M=k>>>24)<=b);){if(0===v)break e;v--,y+=f[p++]<<b,b+=8}if(T<16)y>>>=M,b-=M,r.lens[r.have++]=T;else{if(16===T){for(O=M+2;b<O;){if(0===v)break e;v--,y+=f[p++]<<b,b+=8}if(y>>>=M,b-=M,0===r.have){e.msg="invalid bit length repeat",r.mode=u;break}F=r.lens[r.have-1],A=3+(3&y),y>>>=2,b-=2}else if(17===T){for(O=M+3;b<O;){if(0===v)break e;v--,y+=f[p++]<<b,b+=8}b-=M,F=0,A=3+(7&(y>>>=M)),y>>>=3,b-=3}else{for(O=M+7;b<O;){if(0===v)break e;v--,y+=f[p++]<<b,b+=8}b-=M,F=0,A=11+(127&(y>>>=M)),y>>>=7,b-=7}if(r.have+A>r.nlen+r.ndist){e.msg="invalid bit length repeat",r.mode=u;break}for(;A--;)r.lens[r.have++]=F}}if(r.mode===u)break;if(0===r.lens[256]){e.msg="invalid code -- missing end-of-block",r.mode=u;break}if(r.lenbits=9,R={bits:r.lenbits},I=s(1,r.lens,0,r.nlen,r.lencode,0,r.work,R),r.lenbits=R.bits,I){e.msg="invalid literal/lengths set",r.mode=u;break}if(r.distbits=6,r.distcode=r.distdyn,R={bits:r.distbits},I=s(2,r.lens,r.nlen,r.ndist,r.distcode,0,r.work,R),r.distbits=R.bits,I){e.msg="invalid distances set",r.mode=u;break}if(r.mode=20,6===t)break e;case 20:r.mode=21;case 21:if(v>=6&&g>=258){e.next_out=m,e.avail_out=g,e.next_in=p,e.avail_in=v,r.hold=y,r.bits=b,a(e,C),m=e.next_out,d=e.output,g=e.avail_out,p=e.next_in,f=e.input,v=e.avail_in,y=r.hold,b=r.bits,r.mode===c&&(r.back=-1);break}for(r.back=0;_=(k=r.lencode[y&(1<<r.lenbits)-1])>>>16&255,T=65535&k,!((M=k>>>24)<=b);){if(0===v)break e;v--,y+=f[p++]<<b,b+=8}if(_&&0==(240&_)){for(z=M,E=_,L=T;_=(k=r.lencode[L+((y&(1<<z+E)-1)>>z)])>>>16&255,T=65535&k,!(z+(M=k>>>24)<=b);){if(0===v)break e;v--,y+=f[p++]<<b,b+=8}y>>>=z,b-=z,r.back+=z}if(y>>>=M,b-=M,r.back+=M,r.length=T,0===_){r.mode=26;break}if(32&_){r.back=-1,r.mode=c;break}if(64&_){e.msg="invalid literal/length code",r.mode=u;break}r.extra=15&_,r.mode=22;case 22:if(r.extra){for(O=r.extra;b<O;){if(0===v)break e;v--,y+=f[p++]<<b,b+=8}r.length+=y&(1<<r.extra)-1,y>>>=r.extra,b-=r.extra,r.back+=r.extra}r.was=r.length,r.mode=23;case 23:for(;_=(k=r.distcode[y&(1<<r.distbits)-1])>>>16&255,T=65535&k,!((M=k>>>24)<=b);){if(0===v)break e;v--,y+=f[p++]<<b,b+=8}if(0==(240&_)){for(z=M,E=_,L=T;_=(k=r.distcode[L+((y&(1<<z+E)-1)>>z)])>>>16&255,T=65535&k,!(z+(M=k>>>24)<=b);){if(0===v)break e;v--,y+=f[p++]<<b,b+=8}y>>>=z,b-=z,r.back+=z}if(y>>>=M,b-=M,r.back+=M,64&_){e.msg="invalid distance code",r.mode=u;break}r.offset=T,r.extra=15&_,r.mode=24;case 24:if(r.extra){for(O=r.extra;b<O;){if(0===v)break e;v--,y+=f[p++]<<b,b+=8}r.offset+=y&(1<<r.extra)-1,y>>>=r.extra,b-=r.extra,r.back+=r.extra}if(r.offset>r.dmax){e.msg="invalid distance too far back",r.mode=u;break}r.mode=25;case 25:if(0===g)break e;if(A=C-g,r.offset>A){if((A=r.offset-A)>r.whave&&r.sane){e.msg="invalid distance too far back",r.mode=u;break}A>r.wnext?(A-=r.wnext,S=r.wsize-A):S=r.wnext-A,A>r.length&&(A=r.length),$=r.window}else $=d,S=m-r.offset,A=r.length;A>g&&(A=g),g-=A,r.length-=A;do{d[m++]=$[S++]}while(--A);0===r.length&&(r.mode=21);break;case 26:if(0===g)break e;d[m++]=r.length,g--,r.mode=21;break;case 27:if(r.wrap){for(;b<32;){if(0===v)break e;v--,y|=f[p++]<<b,b+=8}if(C-=g,e.total_out+=C,r.total+=C,C&&(e.adler=r.check=r.flags?n(r.check,d,C,m-C):i(r.check,d,C,m-C)),C=g,(r.flags?y:h(y))!==r.check){e.msg="incorrect data check",r.mode=u;break}y=0,b=0}r.mode=28;case 28:if(r.wrap&&r.flags){for(;b<32;){if(0===v)break e;v--,y+=f[p++]<<b,b+=8}if(y!==(4294967295&r.total)){e.msg="incorrect length check",r.mode=u;break}y=0,b=0}r.mode=29;case 29:I=1;break e;case u:I=-3;break e;case 31:return-4;case 32:default:return l}return e.next_out=m,e.avail_out=g,e.next_in=p,e.avail_in=v,r.hold=y,r.bits=b,(r.wsize||C!==e.avail_out&&r.mode<u&&(r.mode<27||4!==t))&&w(e,e.output,e.next_out,C-e.avail_out)?(r.mode=31,-4):(D-=e.avail_in,C-=e.avail_out,e.total_in+=D,e.total_out+=C,r.total+=C,r.wrap&&C&&(e.adler=r.check=r.flags?n(r.check,d,C,e.next_out-C):i(r.check,d,C,e.next_out-C)),e.data_type=r.bits+(r.last?64:0)+(r.mode===c?128:0)+(20===r.mode||15===r.mode?256:0),(0===D&&0===C||4===t)&&0===I&&(I=-5),I)},r.inflateEnd=function(e){if(!e||!e.state)return l;var t=e.state;return t.window&&(t.window=null),e.state=null,0},r.inflateGetHeader=function(e,t){var r;return e&&e.state?0==(2&(r=e.state).wrap)?l:(r.head=t,t.done=!1,0):l},r.inflateSetDictionary=function(e,t){var r,o=t.length;return e&&e.state?0!==(r=e.state).wrap&&11!==r.mode?l:11===r.mode&&i(1,t,o,0)!==r.check?-3:w(e,t,o,o)?(r.mode=31,-4):(r.havedict=1,0):l},r.inflateInfo="pako inflate (from Nodeca project)"},{"../utils/common":1,"./adler32":3,"./crc32":5,"./inffast":7,"./inftrees":9}],9:[function(e,t,r){"use strict";var o=e("../utils/common"),i=15,n=[3,4,5,6,7,8,9,10,11,13,15,17,19,23,27,31,35,43,51,59,67,83,99,115,131,163,195,227,258,0,0],a=[16,16,16,16,16,16,16,16,17,17,17,17,18,18,18,18,19,19,19,19,20,20,20,20,21,21,21,21,16,72,78],s=[1,2,3,4,5,7,9,13,17,25,33,49,65,97,129,193,257,385,513,769,1025,1537,2049,3073,4097,6145,8193,12289,16385,24577,0,0],l=[16,16,16,16,17,17,18,18,19,19,20,20,21,21,22,22,23,23,24,24,25,25,26,26,27,27,28,28,29,29,64,64];t.exports=function(e,t,r,c,u,h,f,d){var p,m,v,g,y,b,x,w,D,C=d.bits,A=0,S=0,$=0,M=0,_=0,T=0,z=0,E=0,L=0,F=0,I=null,R=0,O=new o.Buf16(16),k=new o.Buf16(16),N=null,P=0;for(A=0;A<=i;A++)O[A]=0;for(S=0;S<c;S++)O[t[r+S]]++;for(_=C,M=i;M>=1&&0===O[M];M--);if(_>M&&(_=M),0===M)return u[h++]=20971520,u[h++]=20971520,d.bits=1,0;for($=1;$<M&&0===O[$];$++);for(_<$&&(_=$),E=1,A=1;A<=i;A++)if(E<<=1,(E-=O[A])<0)return-1;if(E>0&&(0===e||1!==M))return-1;for(k[1]=0,A=1;A<i;A++)k[A+1]=k[A]+O[A];for(S=0;S<c;S++)0!==t[r+S]&&(f[k[t[r+S]]++]=S);if(0===e?(I=N=f,b=19):1===e?(I=n,R-=257,N=a,P-=257,b=256):(I=s,N=l,b=-1),F=0,S=0,A=$,y=h,T=_,z=0,v=-1,g=(L=1<<_)-1,1===e&&L>852||2===e&&L>592)return 1;for(;;){x=A-z,f[S]<b?(w=0,D=f[S]):f[S]>b?(w=N[P+f[S]],D=I[R+f[S]]):(w=96,D=0),p=1<<A-z,$=m=1<<T;do{u[y+(F>>z)+(m-=p)]=x<<24|w<<16|D|0}while(0!==m);for(p=1<<A-1;F&p;)p>>=1;if(0!==p?(F&=p-1,F+=p):F=0,S++,0==--O[A]){if(A===M)break;A=t[r+f[S]]}if(A>_&&(F&g)!==v){for(0===z&&(z=_),y+=$,E=1<<(T=A-z);T+z<M&&!((E-=O[T+z])<=0);)T++,E<<=1;if(L+=1<<T,1===e&&L>852||2===e&&L>592)return 1;u[v=F&g]=_<<24|T<<16|y-h|0}}return 0!==F&&(u[y+F]=A-z<<24|64<<16|0),d.bits=_,0}},{"../utils/common":1}],10:[function(e,t,r){"use strict";t.exports={2:"need dictionary",1:"stream end",0:"","-1":"file error","-2":"stream error","-3":"data error","-4":"insufficient memory","-5":"buffer error","-6":"incompatible version"}},{}],11:[function(e,t,r){"use strict";t.exports=function(){this.input=null,this.next_in=0,this.avail_in=0,this.total_in=0,this.output=null,this.next_out=0,this.avail_out=0,this.total_out=0,this.msg="",this.state=null,this.data_type=2,this.adler=0}},{}],"/lib/inflate.js":[function(e,t,r){"use strict";var o=e("./zlib/inflate"),i=e("./utils/common"),n=e("./utils/strings"),a=e("./zlib/constants"),s=e("./zlib/messages"),l=e("./zlib/zstream"),c=e("./zlib/gzheader"),u=Object.prototype.toString;function h(e){if(!(this instanceof h))return new h(e);this.options=i.assign({chunkSize:16384,windowBits:0,to:""},e||{});var t=this.options;t.raw&&t.windowBits>=0&&t.windowBits<16&&(t.windowBits=-t.windowBits,0===t.windowBits&&(t.windowBits=-15)),!(t.windowBits>=0&&t.windowBits<16)||e&&e.windowBits||(t.windowBits+=32),t.windowBits>15&&t.windowBits<48&&0==(15&t.windowBits)&&(t.windowBits|=15),this.err=0,this.msg="",this.ended=!1,this.chunks=[],this.strm=new l,this.strm.avail_out=0;var r=o.inflateInit2(this.strm,t.windowBits);if(r!==a.Z_OK)throw new Error(s[r]);if(this.header=new c,o.inflateGetHeader(this.strm,this.header),t.dictionary&&("string"==typeof t.dictionary?t.dictionary=n.string2buf(t.dictionary):"[object ArrayBuffer]"===u.call(t.dictionary)&&(t.dictionary=new Uint8Array(t.dictionary)),t.raw&&(r=o.inflateSetDictionary(this.strm,t.dictionary))!==a.Z_OK))throw new Error(s[r])}function f(e,t){var r=new h(t);if(r.push(e,!0),r.err)throw r.msg||s[r.err];return r.result}h.prototype.push=function(e,t){var r,s,l,c,h,f=this.strm,d=this.options.chunkSize,p=this.options.dictionary,m=!1;if(this.ended)return!1;s=t===~~t?t:!0===t?a.Z_FINISH:a.Z_NO_FLUSH,"string"==typeof e?f.input=n.binstring2buf(e):"[object ArrayBuffer]"===u.call(e)?f.input=new Uint8Array(e):f.input=e,f.next_in=0,f.avail_in=f.input.length;do{if(0===f.avail_out&&(f.output=new i.Buf8(d),f.next_out=0,f.avail_out=d),(r=o.inflate(f,a.Z_NO_FLUSH))===a.Z_NEED_DICT&&p&&(r=o.inflateSetDictionary(this.strm,p)),r===a.Z_BUF_ERROR&&!0===m&&(r=a.Z_OK,m=!1),r!==a.Z_STREAM_END&&r!==a.Z_OK)return this.onEnd(r),this.ended=!0,!1;f.next_out&&(0!==f.avail_out&&r!==a.Z_STREAM_END&&(0!==f.avail_in||s!==a.Z_FINISH&&s!==a.Z_SYNC_FLUSH)||("string"===this.options.to?(l=n.utf8border(f.output,f.next_out),c=f.next_out-l,h=n.buf2string(f.output,l),f.next_out=c,f.avail_out=d-c,c&&i.arraySet(f.output,f.output,l,c,0),this.onData(h)):this.onData(i.shrinkBuf(f.output,f.next_out)))),0===f.avail_in&&0===f.avail_out&&(m=!0)}while((f.avail_in>0||0===f.avail_out)&&r!==a.Z_STREAM_END);return r===a.Z_STREAM_END&&(s=a.Z_FINISH),s===a.Z_FINISH?(r=o.inflateEnd(this.strm),this.onEnd(r),this.ended=!0,r===a.Z_OK):s!==a.Z_SYNC_FLUSH||(this.onEnd(a.Z_OK),f.avail_out=0,!0)},h.prototype.onData=function(e){this.chunks.push(e)},h.prototype.onEnd=function(e){e===a.Z_OK&&("string"===this.options.to?this.result=this.chunks.join(""):this.result=i.flattenChunks(this.chunks)),this.chunks=[],this.err=e,this.msg=this.strm.msg},r.Inflate=h,r.inflate=f,r.inflateRaw=function(e,t){return(t=t||{}).raw=!0,f(e,t)},r.ungzip=f},{"./utils/common":1,"./utils/strings":2,"./zlib/constants":4,"./zlib/gzheader":6,"./zlib/inflate":8,"./zlib/messages":10,"./zlib/zstream":11}]},{},[])("/lib/inflate.js")})),
+/**
+ * netcdfjs - Read and explore NetCDF files
+ * @version v1.0.0
+ * @link https://github.com/cheminfo-js/netcdfjs
+ * @license MIT
+ */
+function(e,t){"object"==typeof exports&&"object"==typeof module?module.exports=t():"function"==typeof define&&define.amd?define([],t):"object"==typeof exports?exports.netcdfjs=t():e.netcdfjs=t()}("undefined"!=typeof self?self:this,(function(){return function(e){var t={};function r(o){if(t[o])return t[o].exports;var i=t[o]={i:o,l:!1,exports:{}};return e[o].call(i.exports,i,i.exports,r),i.l=!0,i.exports}return r.m=e,r.c=t,r.d=function(e,t,o){r.o(e,t)||Object.defineProperty(e,t,{enumerable:!0,get:o})},r.r=function(e){"undefined"!=typeof Symbol&&Symbol.toStringTag&&Object.defineProperty(e,Symbol.toStringTag,{value:"Module"}),Object.defineProperty(e,"__esModule",{value:!0})},r.t=function(e,t){if(1&t&&(e=r(e)),8&t)return e;if(4&t&&"object"==typeof e&&e&&e.__esModule)return e;var o=Object.create(null);if(r.r(o),Object.defineProperty(o,"default",{enumerable:!0,value:e}),2&t&&"string"!=typeof e)for(var i in e)r.d(o,i,function(t){return e[t]}.bind(null,i));return o},r.n=function(e){var t=e&&e.__esModule?function(){return e.default}:function(){return e};return r.d(t,"a",t),t},r.o=function(e,t){return Object.prototype.hasOwnProperty.call(e,t)},r.p="",r(r.s=3)}([function(e,t,r){"use strict";function o(e){e.offset%4!=0&&e.skip(4-e.offset%4)}e.exports.notNetcdf=function(e,t){if(e)throw new TypeError("Not a valid NetCDF v3.x file: ".concat(t))},e.exports.padding=o,e.exports.readName=function(e){var t=e.readUint32(),r=e.readChars(t);return o(e),r}},function(e,t,r){!function(e){var t,r,o,i=String.fromCharCode;function n(e){for(var t,r,o=[],i=0,n=e.length;i<n;)(t=e.charCodeAt(i++))>=55296&&t<=56319&&i<n?56320==(64512&(r=e.charCodeAt(i++)))?o.push(((1023&t)<<10)+(1023&r)+65536):(o.push(t),i--):o.push(t);return o}function a(e){if(e>=55296&&e<=57343)throw Error("Lone surrogate U+"+e.toString(16).toUpperCase()+" is not a scalar value")}function s(e,t){return i(e>>t&63|128)}function l(e){if(0==(4294967168&e))return i(e);var t="";return 0==(4294965248&e)?t=i(e>>6&31|192):0==(4294901760&e)?(a(e),t=i(e>>12&15|224),t+=s(e,6)):0==(4292870144&e)&&(t=i(e>>18&7|240),t+=s(e,12),t+=s(e,6)),t+=i(63&e|128)}function c(){if(o>=r)throw Error("Invalid byte index");var e=255&t[o];if(o++,128==(192&e))return 63&e;throw Error("Invalid continuation byte")}function u(){var e,i;if(o>r)throw Error("Invalid byte index");if(o==r)return!1;if(e=255&t[o],o++,0==(128&e))return e;if(192==(224&e)){if((i=(31&e)<<6|c())>=128)return i;throw Error("Invalid continuation byte")}if(224==(240&e)){if((i=(15&e)<<12|c()<<6|c())>=2048)return a(i),i;throw Error("Invalid continuation byte")}if(240==(248&e)&&(i=(7&e)<<18|c()<<12|c()<<6|c())>=65536&&i<=1114111)return i;throw Error("Invalid UTF-8 detected")}e.version="3.0.0",e.encode=function(e){for(var t=n(e),r=t.length,o=-1,i="";++o<r;)i+=l(t[o]);return i},e.decode=function(e){t=n(e),r=t.length,o=0;for(var a,s=[];!1!==(a=u());)s.push(a);return function(e){for(var t,r=e.length,o=-1,n="";++o<r;)(t=e[o])>65535&&(n+=i((t-=65536)>>>10&1023|55296),t=56320|1023&t),n+=i(t);return n}(s)}}(t)},function(e,t,r){"use strict";const o=r(0).notNetcdf,i={BYTE:1,CHAR:2,SHORT:3,INT:4,FLOAT:5,DOUBLE:6};function n(e,t){if(1!==e){for(var r=new Array(e),o=0;o<e;o++)r[o]=t();return r}return t()}e.exports=i,e.exports.num2str=function(e){switch(Number(e)){case i.BYTE:return"byte";case i.CHAR:return"char";case i.SHORT:return"short";case i.INT:return"int";case i.FLOAT:return"float";case i.DOUBLE:return"double";default:return"undefined"}},e.exports.num2bytes=function(e){switch(Number(e)){case i.BYTE:case i.CHAR:return 1;case i.SHORT:return 2;case i.INT:case i.FLOAT:return 4;case i.DOUBLE:return 8;default:return-1}},e.exports.str2num=function(e){switch(String(e)){case"byte":return i.BYTE;case"char":return i.CHAR;case"short":return i.SHORT;case"int":return i.INT;case"float":return i.FLOAT;case"double":return i.DOUBLE;default:return-1}},e.exports.readType=function(e,t,r){switch(t){case i.BYTE:return e.readBytes(r);case i.CHAR:return function(e){if(0===e.charCodeAt(e.length-1))return e.substring(0,e.length-1);return e}(e.readChars(r));case i.SHORT:return n(r,e.readInt16.bind(e));case i.INT:return n(r,e.readInt32.bind(e));case i.FLOAT:return n(r,e.readFloat32.bind(e));case i.DOUBLE:return n(r,e.readFloat64.bind(e));default:return void o(!0,"non valid type ".concat(t))}}},function(e,t,r){"use strict";const{IOBuffer:o}=r(4),i=r(0),n=r(5),a=r(6),s=r(7);e.exports=class{constructor(e){const t=new o(e);t.setBigEndian(),i.notNetcdf("CDF"!==t.readChars(3),"should start with CDF");const r=t.readByte();i.notNetcdf(r>2,"unknown version"),this.header=a(t,r),this.buffer=t}get version(){return 1===this.header.version?"classic format":"64-bit offset format"}get recordDimension(){return this.header.recordDimension}get dimensions(){return this.header.dimensions}get globalAttributes(){return this.header.globalAttributes}getAttribute(e){const t=this.globalAttributes.find((t=>t.name===e));return t?t.value:null}getDataVariableAsString(e){const t=this.getDataVariable(e);return t?t.join(""):null}get variables(){return this.header.variables}toString(){return s.call(this)}getDataVariable(e){let t;return t="string"==typeof e?this.header.variables.find((function(t){return t.name===e})):e,i.notNetcdf(void 0===t,"variable not found: ".concat(e)),this.buffer.seek(t.offset),t.record?n.record(this.buffer,t,this.header.recordDimension):n.nonRecord(this.buffer,t)}dataVariableExists(e){return void 0!==this.header.variables.find((function(t){return t.name===e}))}attributeExists(e){return void 0!==this.globalAttributes.find((t=>t.name===e))}}},function(e,t,r){"use strict";r.r(t),r.d(t,"IOBuffer",(function(){return i}));var o=r(1);class i{constructor(){let e=arguments.length>0&&void 0!==arguments[0]?arguments[0]:8192,t=arguments.length>1&&void 0!==arguments[1]?arguments[1]:{},r=!1;"number"==typeof e?e=new ArrayBuffer(e):(r=!0,this.lastWrittenByte=e.byteLength);const o=t.offset?t.offset>>>0:0,n=e.byteLength-o;let a=o;(ArrayBuffer.isView(e)||e instanceof i)&&(e.byteLength!==e.buffer.byteLength&&(a=e.byteOffset+o),e=e.buffer),this.lastWrittenByte=r?n:0,this.buffer=e,this.length=n,this.byteLength=n,this.byteOffset=a,this.offset=0,this.littleEndian=!0,this._data=new DataView(this.buffer,a,n),this._mark=0,this._marks=[]}available(){let e=arguments.length>0&&void 0!==arguments[0]?arguments[0]:1;return this.offset+e<=this.length}isLittleEndian(){return this.littleEndian}setLittleEndian(){return this.littleEndian=!0,this}isBigEndian(){return!this.littleEndian}setBigEndian(){return this.littleEndian=!1,this}skip(){let e=arguments.length>0&&void 0!==arguments[0]?arguments[0]:1;return this.offset+=e,this}seek(e){return this.offset=e,this}mark(){return this._mark=this.offset,this}reset(){return this.offset=this._mark,this}pushMark(){return this._marks.push(this.offset),this}popMark(){const e=this._marks.pop();if(void 0===e)throw new Error("Mark stack empty");return this.seek(e),this}rewind(){return this.offset=0,this}ensureAvailable(){let e=arguments.length>0&&void 0!==arguments[0]?arguments[0]:1;if(!this.available(e)){const t=2*(this.offset+e),r=new Uint8Array(t);r.set(new Uint8Array(this.buffer)),this.buffer=r.buffer,this.length=this.byteLength=t,this._data=new DataView(this.buffer)}return this}readBoolean(){return 0!==this.readUint8()}readInt8(){return this._data.getInt8(this.offset++)}readUint8(){return this._data.getUint8(this.offset++)}readByte(){return this.readUint8()}readBytes(){let e=arguments.length>0&&void 0!==arguments[0]?arguments[0]:1;const t=new Uint8Array(e);for(let r=0;r<e;r++)t[r]=this.readByte();return t}readInt16(){const e=this._data.getInt16(this.offset,this.littleEndian);return this.offset+=2,e}readUint16(){const e=this._data.getUint16(this.offset,this.littleEndian);return this.offset+=2,e}readInt32(){const e=this._data.getInt32(this.offset,this.littleEndian);return this.offset+=4,e}readUint32(){const e=this._data.getUint32(this.offset,this.littleEndian);return this.offset+=4,e}readFloat32(){const e=this._data.getFloat32(this.offset,this.littleEndian);return this.offset+=4,e}readFloat64(){const e=this._data.getFloat64(this.offset,this.littleEndian);return this.offset+=8,e}readChar(){return String.fromCharCode(this.readInt8())}readChars(){let e=arguments.length>0&&void 0!==arguments[0]?arguments[0]:1,t="";for(let r=0;r<e;r++)t+=this.readChar();return t}readUtf8(){let e=arguments.length>0&&void 0!==arguments[0]?arguments[0]:1;const t=this.readChars(e);return Object(o.decode)(t)}writeBoolean(e){return this.writeUint8(e?255:0),this}writeInt8(e){return this.ensureAvailable(1),this._data.setInt8(this.offset++,e),this._updateLastWrittenByte(),this}writeUint8(e){return this.ensureAvailable(1),this._data.setUint8(this.offset++,e),this._updateLastWrittenByte(),this}writeByte(e){return this.writeUint8(e)}writeBytes(e){this.ensureAvailable(e.length);for(let t=0;t<e.length;t++)this._data.setUint8(this.offset++,e[t]);return this._updateLastWrittenByte(),this}writeInt16(e){return this.ensureAvailable(2),this._data.setInt16(this.offset,e,this.littleEndian),this.offset+=2,this._updateLastWrittenByte(),this}writeUint16(e){return this.ensureAvailable(2),this._data.setUint16(this.offset,e,this.littleEndian),this.offset+=2,this._updateLastWrittenByte(),this}writeInt32(e){return this.ensureAvailable(4),this._data.setInt32(this.offset,e,this.littleEndian),this.offset+=4,this._updateLastWrittenByte(),this}writeUint32(e){return this.ensureAvailable(4),this._data.setUint32(this.offset,e,this.littleEndian),this.offset+=4,this._updateLastWrittenByte(),this}writeFloat32(e){return this.ensureAvailable(4),this._data.setFloat32(this.offset,e,this.littleEndian),this.offset+=4,this._updateLastWrittenByte(),this}writeFloat64(e){return this.ensureAvailable(8),this._data.setFloat64(this.offset,e,this.littleEndian),this.offset+=8,this._updateLastWrittenByte(),this}writeChar(e){return this.writeUint8(e.charCodeAt(0))}writeChars(e){for(let t=0;t<e.length;t++)this.writeUint8(e.charCodeAt(t));return this}writeUtf8(e){const t=Object(o.encode)(e);return this.writeChars(t)}toArray(){return new Uint8Array(this.buffer,this.byteOffset,this.lastWrittenByte)}_updateLastWrittenByte(){this.offset>this.lastWrittenByte&&(this.lastWrittenByte=this.offset)}}},function(e,t,r){"use strict";const o=r(2);e.exports.nonRecord=function(e,t){const r=o.str2num(t.type);for(var i=t.size/o.num2bytes(r),n=new Array(i),a=0;a<i;a++)n[a]=o.readType(e,r,1);return n},e.exports.record=function(e,t,r){const i=o.str2num(t.type),n=t.size?t.size/o.num2bytes(i):1;var a=r.length,s=new Array(a);const l=r.recordStep;for(var c=0;c<a;c++){var u=e.offset;s[c]=o.readType(e,i,n),e.seek(u+l)}return s}},function(e,t,r){"use strict";const o=r(0),i=r(2);function n(e){const t=e.readUint32();if(0===t)return o.notNetcdf(0!==e.readUint32(),"wrong empty tag for list of attributes"),[];{o.notNetcdf(12!==t,"wrong tag for list of attributes");const u=e.readUint32();for(var r=new Array(u),n=0;n<u;n++){var a=o.readName(e),s=e.readUint32();o.notNetcdf(s<1||s>6,"non valid type ".concat(s));var l=e.readUint32(),c=i.readType(e,s,l);o.padding(e),r[n]={name:a,type:i.num2str(s),value:c}}}return r}e.exports=function(e,t){var r={recordDimension:{length:e.readUint32()}};r.version=t;var a=function(e){var t,r;const i=e.readUint32();if(0===i)return o.notNetcdf(0!==e.readUint32(),"wrong empty tag for list of dimensions"),[];{o.notNetcdf(10!==i,"wrong tag for list of dimensions");const l=e.readUint32();for(var n=new Array(l),a=0;a<l;a++){var s=o.readName(e);const i=e.readUint32();0===i&&(t=a,r=s),n[a]={name:s,size:i}}}return{dimensions:n,recordId:t,recordName:r}}(e);r.recordDimension.id=a.recordId,r.recordDimension.name=a.recordName,r.dimensions=a.dimensions,r.globalAttributes=n(e);var s=function(e,t,r){const a=e.readUint32();var s=0;if(0===a)return o.notNetcdf(0!==e.readUint32(),"wrong empty tag for list of variables"),[];{o.notNetcdf(11!==a,"wrong tag for list of variables");const v=e.readUint32();for(var l=new Array(v),c=0;c<v;c++){var u=o.readName(e);const a=e.readUint32();for(var h=new Array(a),f=0;f<a;f++)h[f]=e.readUint32();var d=n(e),p=e.readUint32();o.notNetcdf(p<1&&p>6,"non valid type ".concat(p));const v=e.readUint32();var m=e.readUint32();2===r&&(o.notNetcdf(m>0,"offsets larger than 4GB not supported"),m=e.readUint32());let g=!1;void 0!==t&&h[0]===t&&(s+=v,g=!0),l[c]={name:u,dimensions:h,attributes:d,type:i.num2str(p),size:v,offset:m,record:g}}}return{variables:l,recordStep:s}}(e,a.recordId,t);return r.variables=s.variables,r.recordDimension.recordStep=s.recordStep,r}},function(e,t,r){"use strict";e.exports=function(){let e=[];e.push("DIMENSIONS");for(let t of this.dimensions)e.push("  ".concat(t.name.padEnd(30)," = size: ").concat(t.size));e.push(""),e.push("GLOBAL ATTRIBUTES");for(let t of this.globalAttributes)e.push("  ".concat(t.name.padEnd(30)," = ").concat(t.value));let t=JSON.parse(JSON.stringify(this.variables));e.push(""),e.push("VARIABLES:");for(let r of t){r.value=this.getDataVariable(r);let t=JSON.stringify(r.value);t.length>50&&(t=t.substring(0,50)),isNaN(r.value.length)||(t+=" (length: ".concat(r.value.length,")")),e.push("  ".concat(r.name.padEnd(30)," = ").concat(t))}return e.join("\n")}}])})),$3Dmol=function(e){return e.$3Dmol||{}}(window),"object"==typeof module&&"object"==typeof module.exports&&(module.exports=$3Dmol),$3Dmol.notrack,String.prototype.startsWith||(String.prototype.startsWith=function(e){return 0===this.lastIndexOf(e,0)}),String.prototype.endsWith||(String.prototype.endsWith=function(e){return-1!==this.indexOf(e,this.length-e.length)}),$.ajaxTransport("+binary",(function(e,t,r){if(window.FormData&&(e.dataType&&"binary"==e.dataType||e.data&&(window.ArrayBuffer&&e.data instanceof ArrayBuffer||window.Blob&&e.data instanceof Blob)))return{send:function(t,r){var o=new XMLHttpRequest,i=e.url,n=e.type,a=e.async||!0,s=e.responseType||"blob",l=e.data||null,c=e.username||null,u=e.password||null,h=function(){var t={};t[e.dataType]=o.response,r(o.status,o.statusText,t,o.getAllResponseHeaders())};for(var f in o.addEventListener("load",h),o.addEventListener("error",h),o.addEventListener("abort",h),o.open(n,i,a,c,u),t)o.setRequestHeader(f,t[f]);o.responseType=s,o.send(l)},abort:function(){r.abort()}}})),$3Dmol.createViewer=function(e,t,r){if("string"==typeof e&&(e=$("#"+e)),e){t=t||{},r=r||{};try{return new $3Dmol.GLViewer(e,t,r)}catch(e){throw"error creating viewer: "+e}return null}},$3Dmol.createViewerGrid=function(e,t,r){if("string"==typeof e&&(e=$("#"+e)),e){t=t||{},r=r||{};var o=[],i=document.createElement("canvas");r.rows=t.rows,r.cols=t.cols,r.control_all=null!=t.control_all&&t.control_all,$(e).append($(i));try{for(var n=0;n<t.rows;n++){for(var a=[],s=0;s<t.cols;s++){r.row=n,r.col=s,r.canvas=i,r.viewers=o,r.control_all=t.control_all;var l=$3Dmol.createViewer(e,r);a.push(l)}o.unshift(a)}}catch(e){throw"error creating viewer grid: "+e}return o}},$3Dmol.viewers={},$3Dmol.getbin=function(e,t,r,o){var i=new Promise((function(t,i){r=null==r?"GET":r,$.ajax({url:e,dataType:"binary",method:r,data:o,responseType:"arraybuffer",processData:!1}).done((function(e){t(e)})).fail((function(e,t){console.log(t),i()}))}));return t?i.then(t):i},$3Dmol.base64ToArray=function(e){for(var t=window.atob(e),r=t.length,o=new Uint8Array(r),i=0;i<r;i++)o[i]=t.charCodeAt(i);return o},$3Dmol.download=function(e,t,r,o){var i="",n="",a="",s="",l=null,c=t.addModel();if("mmtf:"===e.substr(0,5))n=r&&r.pdbUri?r.pdbUri:"https://mmtf.rcsb.org/v1.0/full/",e=e.substr(5).toUpperCase(),s=n+e,r&&void 0===r.noComputeSecondaryStructure&&(r.noComputeSecondaryStructure=!0),l=new Promise((function(e){$3Dmol.getbin(s).then((function(o){c.addMolData(o,"mmtf",r),t.zoomTo(),t.render(),e(c)}),(function(){console.log("fetch of "+s+" failed.")}))}));else{if("pdb:"===e.substr(0,4)){if(i="mmtf",r&&r.format&&(i=r.format),r&&void 0===r.noComputeSecondaryStructure&&(r.noComputeSecondaryStructure=!0),!(e=e.substr(4).toUpperCase()).match(/^[1-9][A-Za-z0-9]{3}$/))return void alert("Wrong PDB ID");"mmtf"==i?(a=r&&r.mmtfUri?r.mmtfUri:"https://mmtf.rcsb.org/v1.0/full/",s=a+e.toUpperCase()):(n=r&&r.pdbUri?r.pdbUri:"https://files.rcsb.org/view/",s=n+e+"."+i)}else if("cid:"==e.substr(0,4)){if(i="sdf",!(e=e.substr(4)).match(/^[0-9]+$/))return void alert("Wrong Compound ID");s="https://pubchem.ncbi.nlm.nih.gov/rest/pug/compound/cid/"+e+"/SDF?record_type=3d"}else"url:"==e.substr(0,4)&&(s=e.substr(4),i=s);var u=function(e){c.addMolData(e,i,r),t.zoomTo(),t.render()};l=new Promise((function(t){"mmtf"==i?$3Dmol.getbin(s).then((function(e){u(e),t(c)})).catch((function(){n=r&&r.pdbUri?r.pdbUri:"https://files.rcsb.org/view/",s=n+e+"."+i,console.log("falling back to pdb format"),$.get(s,(function(e){u(e),t(c)})).fail((function(e){u(""),t(c),console.log("fetch of "+s+" failed: "+e.statusText)}))})):$.get(s,(function(e){u(e),t(c)})).fail((function(e){u(""),t(c),console.log("fetch of "+s+" failed: "+e.statusText)}))}))}return o?(l.then((function(e){o(e)})),c):l},$3Dmol.SurfaceType={VDW:1,MS:2,SAS:3,SES:4},$3Dmol.mergeGeos=function(e,t){var r=t.geometry;void 0!==r&&e.geometryGroups.push(r.geometryGroups[0])},$3Dmol.multiLineString=function(e){return e.toString().replace(/^[^\/]+\/\*!?/,"").replace(/\*\/[^\/]+$/,"")},$3Dmol.syncSurface=!1,(window.navigator.userAgent.indexOf("MSIE ")>=0||window.navigator.userAgent.indexOf("Trident/")>=0)&&($3Dmol.syncSurface=!0),$3Dmol.specStringToObject=function(e){if("object"==typeof e)return e;if(void 0===e||null==e)return e;var t=function(e){return $3Dmol.isNumeric(e)?Math.floor(parseFloat(e))==parseInt(e)||e.indexOf(".")>=0?parseFloat(e):parseInt(e):"true"===e||"false"!==e&&e},r={};if("all"===(e=e.replace(/%7E/,"~")))return r;for(var o=e.split(";"),i=0;i<o.length;i++){var n=o[i].split(":"),a=n[0],s={},l=n[1];if(l)if(-1!==(l=l.replace(/~/g,"=")).indexOf("="))for(var c=l.split(","),u=0;u<c.length;u++){var h=c[u].split("=",2);s[h[0]]=t(h[1])}else s=-1!==l.indexOf(",")?l.split(","):t(l);r[a]=s}return r},$3Dmol.getExtent=function(e,t){var r,o,i,n,a,s,l,c,u,h,f=!t;if(r=o=i=9999,n=a=s=-9999,l=c=u=h=0,0===e.length)return[[0,0,0],[0,0,0],[0,0,0]];for(var d=0;d<e.length;d++){var p=e[d];if(void 0!==p&&isFinite(p.x)&&isFinite(p.y)&&isFinite(p.z)&&(h++,l+=p.x,c+=p.y,u+=p.z,r=r<p.x?r:p.x,o=o<p.y?o:p.y,i=i<p.z?i:p.z,n=n>p.x?n:p.x,a=a>p.y?a:p.y,s=s>p.z?s:p.z,p.symmetries&&f))for(var m=0;m<p.symmetries.length;m++)h++,l+=p.symmetries[m].x,c+=p.symmetries[m].y,u+=p.symmetries[m].z,r=r<p.symmetries[m].x?r:p.symmetries[m].x,o=o<p.symmetries[m].y?o:p.symmetries[m].y,i=i<p.symmetries[m].z?i:p.symmetries[m].z,n=n>p.symmetries[m].x?n:p.symmetries[m].x,a=a>p.symmetries[m].y?a:p.symmetries[m].y,s=s>p.symmetries[m].z?s:p.symmetries[m].z}return[[r,o,i],[n,a,s],[l/h,c/h,u/h]]},$3Dmol.getAtomProperty=function(e,t){var r=null;return e.properties&&void 0!==e.properties[t]?r=e.properties[t]:void 0!==e[t]&&(r=e[t]),r},$3Dmol.getPropertyRange=function(e,t){for(var r=Number.POSITIVE_INFINITY,o=Number.NEGATIVE_INFINITY,i=0,n=e.length;i<n;i++){var a=e[i],s=$3Dmol.getAtomProperty(a,t);null!=s&&(s<r&&(r=s),s>o&&(o=s))}return isFinite(r)||isFinite(o)?isFinite(r)?isFinite(o)||(o=r):r=o:r=o=0,[r,o]},"function"==typeof define&&define.amd&&define("$3Dmol",[],(function(){return $3Dmol})),$3Dmol.createStereoViewer=function(e){var t=this;if("string"==typeof e&&(e=$("#"+e)),e){var r=$3Dmol.createViewerGrid(e,{rows:1,cols:2,control_all:!0});this.glviewer1=r[0][0],this.glviewer2=r[0][1],this.glviewer1.setAutoEyeSeparation(!1),this.glviewer2.setAutoEyeSeparation(!0),this.glviewer1.linkViewer(this.glviewer2),this.glviewer2.linkViewer(this.glviewer1);for(var o=Object.getOwnPropertyNames(this.glviewer1).filter((function(e){return"function"==typeof t.glviewer1[e]})),i=0;i<o.length;i++)this[o[i]]=function(e){return function(){var t=this.glviewer1[e].apply(this.glviewer1,arguments),r=this.glviewer2[e].apply(this.glviewer2,arguments);return[t,r]}}(o[i]);this.setCoordinates=function(e,t,r){for(var o=0;o<e.length;o++)e[o].setCoordinates(t,r)},this.surfacesFinished=function(){return this.glviewer1.surfacesFinished()&&this.glviewer2.surfacesFinished()},this.isAnimated=function(){return this.glviewer1.isAnimated()||this.glviewer2.isAnimated()},this.render=function(e){this.glviewer1.render(),this.glviewer2.render(),e&&e(this)},this.getCanvas=function(){return this.glviewer1.getCanvas()}}},$3Dmol.extend=function(e,t){for(var r in t)t.hasOwnProperty(r)&&void 0!==t[r]&&(e[r]=t[r]);return e},$3Dmol.deepCopy=function(e){let t,r,o;if(null==e)return{};if("object"!=typeof e||null===e)return e;for(o in t=Array.isArray(e)?[]:{},e)r=e[o],t[o]=$3Dmol.deepCopy(r);return t},$3Dmol.isNumeric=function(e){var t=typeof e;return("number"===t||"string"===t)&&!isNaN(e-parseFloat(e))},$3Dmol.isEmptyObject=function(e){var t;for(t in e)return!1;return!0},$3Dmol.makeFunction=function(callback){return callback&&"string"==typeof callback&&(callback=eval("("+callback+")")),callback&&"function"!=typeof callback?null:callback},$3Dmol.adjustVolumeStyle=function(e){e&&(!e.volformat||e.voldata instanceof $3Dmol.VolumeData||(e.voldata=new $3Dmol.VolumeData(e.voldata,e.volformat)),e.volscheme&&(e.volscheme=$3Dmol.Gradient.getGradient(e.volscheme)))};var $3Dmol=$3Dmol||{};$3Dmol.Math={clamp:function(e,t,r){return Math.min(Math.max(e,t),r)},degToRad:function(){var e=Math.PI/180;return function(t){return t*e}}()},$3Dmol.Quaternion=function(e,t,r,o){this.x=e||0,this.y=t||0,this.z=r||0,this.w=void 0!==o?o:1},$3Dmol.Quaternion.prototype={constructor:$3Dmol.Quaternion,set:function(e,t,r,o){return this.x=e,this.y=t,this.z=r,this.w=o,this},copy:function(e){return this.x=e.x,this.y=e.y,this.z=e.z,this.w=e.w,this},conjugate:function(){return this.x*=-1,this.y*=-1,this.z*=-1,this},inverse:function(){return this.conjugate().normalize()},length:function(){return Math.sqrt(this.x*this.x+this.y*this.y+this.z*this.z+this.w*this.w)},lengthxyz:function(){return Math.sqrt(this.x*this.x+this.y*this.y+this.z*this.z)},normalize:function(){var e=this.length();return 0===e?(this.x=0,this.y=0,this.z=0,this.w=1):(e=1/e,this.x*=e,this.y*=e,this.z*=e,this.w*=e),this},multiply:function(e){return this.multiplyQuaternions(this,e)},multiplyScalar:function(e){return this.x*=e,this.y*=e,this.z*=e,this.w*=e,this},multiplyQuaternions:function(e,t){var r=e.x,o=e.y,i=e.z,n=e.w,a=t.x,s=t.y,l=t.z,c=t.w;return this.x=r*c+n*a+o*l-i*s,this.y=o*c+n*s+i*a-r*l,this.z=i*c+n*l+r*s-o*a,this.w=n*c-r*a-o*s-i*l,this},sub:function(e){return this.x-=e.x,this.y-=e.y,this.z-=e.z,this.w-=e.w,this},clone:function(){return new $3Dmol.Quaternion(this.x,this.y,this.z,this.w)},setFromEuler:function(e){var t=Math.cos(e.x/2),r=Math.cos(e.y/2),o=Math.cos(e.z/2),i=Math.sin(e.x/2),n=Math.sin(e.y/2),a=Math.sin(e.z/2);return this.x=i*r*o+t*n*a,this.y=t*n*o-i*r*a,this.z=t*r*a+i*n*o,this.w=t*r*o-i*n*a,this}},$3Dmol.Vector2=function(e,t){this.x=e||0,this.y=t||0},$3Dmol.Vector2.prototype={constructor:$3Dmol.Vector2,set:function(e,t){return this.x=e,this.y=t,this},subVectors:function(e,t){return this.x=e.x-t.x,this.y=e.y-t.y,this},copy:function(e){return this.x=e.x,this.y=e.y,this},clone:function(){return new $3Dmol.Vector2(this.x,this.y)}},$3Dmol.Vector3=function(e,t,r){this.x=e||0,this.y=t||0,this.z=r||0},$3Dmol.Vector3.prototype={constructor:$3Dmol.Vector3,set:function(e,t,r){return this.x=e,this.y=t,this.z=r,this},copy:function(e){return this.x=e.x,this.y=e.y,this.z=e.z,this},add:function(e){return this.x+=e.x,this.y+=e.y,this.z+=e.z,this},addVectors:function(e,t){return this.x=e.x+t.x,this.y=e.y+t.y,this.z=e.z+t.z,this},multiplyVectors:function(e,t){return this.x=e.x*t.x,this.y=e.y*t.y,this.z=e.z*t.z,this},sub:function(e){return this.x-=e.x,this.y-=e.y,this.z-=e.z,this},subVectors:function(e,t){return this.x=e.x-t.x,this.y=e.y-t.y,this.z=e.z-t.z,this},multiplyScalar:function(e){return this.x*=e,this.y*=e,this.z*=e,this},divideScalar:function(e){return 0!==e?(this.x/=e,this.y/=e,this.z/=e):(this.x=0,this.y=0,this.z=0),this},max:function(e){return this.x=Math.max(this.x,e.x),this.y=Math.max(this.y,e.y),this.z=Math.max(this.z,e.z),this},min:function(e){return this.x=Math.min(this.x,e.x),this.y=Math.min(this.y,e.y),this.z=Math.min(this.z,e.z),this},distanceTo:function(e){return Math.sqrt(this.distanceToSquared(e))},distanceToSquared:function(e){var t=this.x-e.x,r=this.y-e.y,o=this.z-e.z;return t*t+r*r+o*o},applyMatrix3:function(e){var t=this.x,r=this.y,o=this.z,i=e.elements;return this.x=i[0]*t+i[3]*r+i[6]*o,this.y=i[1]*t+i[4]*r+i[7]*o,this.z=i[2]*t+i[5]*r+i[8]*o,this},applyMatrix4:function(e){var t=this.x,r=this.y,o=this.z,i=e.elements;return this.x=i[0]*t+i[4]*r+i[8]*o+i[12],this.y=i[1]*t+i[5]*r+i[9]*o+i[13],this.z=i[2]*t+i[6]*r+i[10]*o+i[14],this},applyProjection:function(e){var t=this.x,r=this.y,o=this.z,i=e.elements,n=i[3]*t+i[7]*r+i[11]*o+i[15];return this.x=(i[0]*t+i[4]*r+i[8]*o+i[12])/n,this.y=(i[1]*t+i[5]*r+i[9]*o+i[13])/n,this.z=(i[2]*t+i[6]*r+i[10]*o+i[14])/n,this},applyQuaternion:function(e){var t=this.x,r=this.y,o=this.z,i=e.x,n=e.y,a=e.z,s=e.w,l={};l.x=2*(r*a-o*n),l.y=2*(o*i-t*a),l.z=2*(t*n-r*i);var c={};return c.x=l.y*a-l.z*n,c.y=l.z*i-l.x*a,c.z=l.x*n-l.y*i,this.x=t+s*l.x+c.x,this.y=r+s*l.y+c.y,this.z=o+s*l.z+c.z,this},negate:function(){return this.multiplyScalar(-1)},dot:function(e){return this.x*e.x+this.y*e.y+this.z*e.z},length:function(){return Math.sqrt(this.x*this.x+this.y*this.y+this.z*this.z)},lengthSq:function(){return this.x*this.x+this.y*this.y+this.z*this.z},normalize:function(){return this.divideScalar(this.length())},cross:function(e){var t=this.x,r=this.y,o=this.z;return this.x=r*e.z-o*e.y,this.y=o*e.x-t*e.z,this.z=t*e.y-r*e.x,this},crossVectors:function(e,t){return this.x=e.y*t.z-e.z*t.y,this.y=e.z*t.x-e.x*t.z,this.z=e.x*t.y-e.y*t.x,this},getPositionFromMatrix:function(e){return this.x=e.elements[12],this.y=e.elements[13],this.z=e.elements[14],this},setEulerFromRotationMatrix:function(e,t){var r=e.elements,o=r[0],i=r[4],n=r[8],a=r[5],s=r[9],l=r[6],c=r[10];return void 0===t||"XYZ"===t?(this.y=Math.asin($3Dmol.Math.clamp(n,-1,1)),Math.abs(n)<.99999?(this.x=Math.atan2(-s,c),this.z=Math.atan2(-i,o)):(this.x=Math.atan2(l,a),this.z=0)):console.error("Error with vector's setEulerFromRotationMatrix: Unknown order: "+t),this},rotateAboutVector:function(e,t){e.normalize();var r=Math.cos(t),o=Math.sin(t),i=this.clone().multiplyScalar(r),n=e.clone().cross(this).multiplyScalar(o),a=e.clone().multiplyScalar(e.clone().dot(this)).multiplyScalar(1-r),s=i.add(n).add(a);return this.x=s.x,this.y=s.y,this.z=s.z,this},setFromMatrixPosition:function(e){var t=e.elements;return this.x=t[12],this.y=t[13],this.z=t[14],this},transformDirection:function(e){var t=this.x,r=this.y,o=this.z,i=e.elements;return this.x=i[0]*t+i[4]*r+i[8]*o,this.y=i[1]*t+i[5]*r+i[9]*o,this.z=i[2]*t+i[6]*r+i[10]*o,this.normalize()},clone:function(){return new $3Dmol.Vector3(this.x,this.y,this.z)}},$3Dmol.Matrix3=function(e,t,r,o,i,n,a,s,l){this.elements=new Float32Array(9),this.set(void 0!==e?e:1,t||0,r||0,o||0,void 0!==i?i:1,n||0,a||0,s||0,void 0!==l?l:1)},$3Dmol.square=function(e){return e*e},$3Dmol.conversionMatrix3=function(e,t,r,o,i,n){o=o*Math.PI/180,i=i*Math.PI/180,n=n*Math.PI/180;let a=$3Dmol.square,s=Math.cos(o),l=Math.cos(i),c=Math.cos(n),u=Math.sin(n);return new $3Dmol.Matrix3(e,t*c,r*l,0,t*u,r*(s-l*c)/u,0,0,r*Math.sqrt(1-a(s)-a(l)-a(c)+2*s*l*c)/u)},$3Dmol.Matrix3.prototype={constructor:$3Dmol.Matrix3,set:function(e,t,r,o,i,n,a,s,l){var c=this.elements;return c[0]=e,c[3]=t,c[6]=r,c[1]=o,c[4]=i,c[7]=n,c[2]=a,c[5]=s,c[8]=l,this},identity:function(){return this.set(1,0,0,0,1,0,0,0,1),this},copy:function(e){var t=e.elements;this.set(t[0],t[3],t[6],t[1],t[4],t[7],t[2],t[5],t[8])},multiplyScalar:function(e){var t=this.elements;return t[0]*=e,t[3]*=e,t[6]*=e,t[1]*=e,t[4]*=e,t[7]*=e,t[2]*=e,t[5]*=e,t[8]*=e,this},getInverse3:function(e){let t=e.elements,r=this.elements;r[0]=t[4]*t[8]-t[5]*t[7],r[3]=t[6]*t[5]-t[3]*t[8],r[6]=t[3]*t[7]-t[6]*t[4],r[1]=t[7]*t[2]-t[1]*t[8],r[4]=t[0]*t[8]-t[6]*t[2],r[7]=t[1]*t[6]-t[0]*t[7],r[2]=t[1]*t[5]-t[2]*t[4],r[5]=t[2]*t[3]-t[0]*t[5],r[8]=t[0]*t[4]-t[1]*t[3];let o=t[0]*r[0]+t[3]*r[1]+t[6]*r[2];return this.multiplyScalar(1/o),this},getInverse:function(e,t){var r=e.elements,o=this.elements;o[0]=r[10]*r[5]-r[6]*r[9],o[1]=-r[10]*r[1]+r[2]*r[9],o[2]=r[6]*r[1]-r[2]*r[5],o[3]=-r[10]*r[4]+r[6]*r[8],o[4]=r[10]*r[0]-r[2]*r[8],o[5]=-r[6]*r[0]+r[2]*r[4],o[6]=r[9]*r[4]-r[5]*r[8],o[7]=-r[9]*r[0]+r[1]*r[8],o[8]=r[5]*r[0]-r[1]*r[4];var i=r[0]*o[0]+r[1]*o[3]+r[2]*o[6];if(0===i){var n="Matrix3.getInverse(): can't invert matrix, determinant is 0";if(t)throw new Error(n);return console.warn(n),this.identity(),this}return this.multiplyScalar(1/i),this},getDeterminant:function(){var e=this.elements;return e[0]*e[4]*e[8]+e[1]*e[5]*e[6]+e[2]*e[3]*e[7]-e[2]*e[4]*e[6]-e[1]*e[3]*e[8]-e[0]*e[5]*e[7]},getMatrix4:function(){var e=this.elements;return new $3Dmol.Matrix4(e[0],e[3],e[6],0,e[1],e[4],e[7],0,e[2],e[5],e[8],0)},transpose:function(){var e,t=this.elements;return e=t[1],t[1]=t[3],t[3]=e,e=t[2],t[2]=t[6],t[6]=e,e=t[5],t[5]=t[7],t[7]=e,this},clone:function(){var e=this.elements;return new $3Dmol.Matrix3(e[0],e[3],e[6],e[1],e[4],e[7],e[2],e[5],e[8])}},$3Dmol.Matrix4=function(e,t,r,o,i,n,a,s,l,c,u,h,f,d,p,m){if(void 0===t&&void 0!==e)this.elements=new Float32Array(e);else{var v=this.elements=new Float32Array(16);v[0]=void 0!==e?e:1,v[4]=t||0,v[8]=r||0,v[12]=o||0,v[1]=i||0,v[5]=void 0!==n?n:1,v[9]=a||0,v[13]=s||0,v[2]=l||0,v[6]=c||0,v[10]=void 0!==u?u:1,v[14]=h||0,v[3]=f||0,v[7]=d||0,v[11]=p||0,v[15]=void 0!==m?m:1}},$3Dmol.Matrix4.prototype={constructor:$3Dmol.Matrix4,set:function(e,t,r,o,i,n,a,s,l,c,u,h,f,d,p,m){var v=this.elements;return v[0]=e,v[4]=t,v[8]=r,v[12]=o,v[1]=i,v[5]=n,v[9]=a,v[13]=s,v[2]=l,v[6]=c,v[10]=u,v[14]=h,v[3]=f,v[7]=d,v[11]=p,v[15]=m,this},identity:function(){return this.set(1,0,0,0,0,1,0,0,0,0,1,0,0,0,0,1),this},copy:function(e){var t=e.elements;return this.set(t[0],t[4],t[8],t[12],t[1],t[5],t[9],t[13],t[2],t[6],t[10],t[14],t[3],t[7],t[11],t[15]),this},matrix3FromTopLeft:function(){var e=this.elements;return new $3Dmol.Matrix3(e[0],e[4],e[8],e[1],e[5],e[9],e[2],e[6],e[10])},setRotationFromEuler:function(e,t){var r=this.elements,o=e.x,i=e.y,n=e.z,a=Math.cos(o),s=Math.sin(o),l=Math.cos(i),c=Math.sin(i),u=Math.cos(n),h=Math.sin(n);if(void 0===t||"XYZ"===t){var f=a*u,d=a*h,p=s*u,m=s*h;r[0]=l*u,r[4]=-l*h,r[8]=c,r[1]=d+p*c,r[5]=f-m*c,r[9]=-s*l,r[2]=m-f*c,r[6]=p+d*c,r[10]=a*l}else console.error("Error with matrix4 setRotationFromEuler. Order: "+t);return this},setRotationFromQuaternion:function(e){var t=this.elements,r=e.x,o=e.y,i=e.z,n=e.w,a=r+r,s=o+o,l=i+i,c=r*a,u=r*s,h=r*l,f=o*s,d=o*l,p=i*l,m=n*a,v=n*s,g=n*l;return t[0]=1-(f+p),t[4]=u-g,t[8]=h+v,t[1]=u+g,t[5]=1-(c+p),t[9]=d-m,t[2]=h-v,t[6]=d+m,t[10]=1-(c+f),this},lookAt:function(){var e=new $3Dmol.Vector3,t=new $3Dmol.Vector3,r=new $3Dmol.Vector3;return function(o,i,n){var a=this.elements;return r.subVectors(o,i).normalize(),0===r.length()&&(r.z=1),e.crossVectors(n,r).normalize(),0===e.length()&&(r.x+=1e-4,e.crossVectors(n,r).normalize()),t.crossVectors(r,e),a[0]=e.x,a[4]=t.x,a[8]=r.x,a[1]=e.y,a[5]=t.y,a[9]=r.y,a[2]=e.z,a[6]=t.z,a[10]=r.z,this}}(),multiplyMatrices:function(e,t){var r=e.elements,o=t.elements,i=this.elements,n=r[0],a=r[4],s=r[8],l=r[12],c=r[1],u=r[5],h=r[9],f=r[13],d=r[2],p=r[6],m=r[10],v=r[14],g=r[3],y=r[7],b=r[11],x=r[15],w=o[0],D=o[4],C=o[8],A=o[12],S=o[1],$=o[5],M=o[9],_=o[13],T=o[2],z=o[6],E=o[10],L=o[14],F=o[3],I=o[7],R=o[11],O=o[15];return i[0]=n*w+a*S+s*T+l*F,i[4]=n*D+a*$+s*z+l*I,i[8]=n*C+a*M+s*E+l*R,i[12]=n*A+a*_+s*L+l*O,i[1]=c*w+u*S+h*T+f*F,i[5]=c*D+u*$+h*z+f*I,i[9]=c*C+u*M+h*E+f*R,i[13]=c*A+u*_+h*L+f*O,i[2]=d*w+p*S+m*T+v*F,i[6]=d*D+p*$+m*z+v*I,i[10]=d*C+p*M+m*E+v*R,i[14]=d*A+p*_+m*L+v*O,i[3]=g*w+y*S+b*T+x*F,i[7]=g*D+y*$+b*z+x*I,i[11]=g*C+y*M+b*E+x*R,i[15]=g*A+y*_+b*L+x*O,this},multiplyScalar:function(e){var t=this.elements;return t[0]*=e,t[4]*=e,t[8]*=e,t[12]*=e,t[1]*=e,t[5]*=e,t[9]*=e,t[13]*=e,t[2]*=e,t[6]*=e,t[10]*=e,t[14]*=e,t[3]*=e,t[7]*=e,t[11]*=e,t[15]*=e,this},makeTranslation:function(e,t,r){return this.set(1,0,0,e,0,1,0,t,0,0,1,r,0,0,0,1),this},snap:function(e){e||(e=4);let t=Math.pow(10,4),r=this.elements;for(let e=0;e<16;e++){let o=Math.round(r[e]);o==Math.round(r[e]*t)/t&&(r[e]=o)}return this},transpose:function(){var e,t=this.elements;return e=t[1],t[1]=t[4],t[4]=e,e=t[2],t[2]=t[8],t[8]=e,e=t[6],t[6]=t[9],t[9]=e,e=t[3],t[3]=t[12],t[12]=e,e=t[7],t[7]=t[13],t[13]=e,e=t[11],t[11]=t[14],t[14]=e,this},getPosition:function(){var e=new $3Dmol.Vector3;return function(){console.warn("DEPRECATED: Matrix4's .getPosition() has been removed. Use Vector3.getPositionFromMatrix( matrix ) instead.");var t=this.elements;return e.set(t[12],t[13],t[14])}}(),setPosition:function(e){var t=this.elements;return t[12]=e.x,t[13]=e.y,t[14]=e.z,this},translate:function(e){var t=this.elements;return t[12]+=e.x,t[13]+=e.y,t[14]+=e.z,this},getInverse:function(e,t){var r=this.elements,o=e.elements,i=o[0],n=o[4],a=o[8],s=o[12],l=o[1],c=o[5],u=o[9],h=o[13],f=o[2],d=o[6],p=o[10],m=o[14],v=o[3],g=o[7],y=o[11],b=o[15];r[0]=u*m*g-h*p*g+h*d*y-c*m*y-u*d*b+c*p*b,r[4]=s*p*g-a*m*g-s*d*y+n*m*y+a*d*b-n*p*b,r[8]=a*h*g-s*u*g+s*c*y-n*h*y-a*c*b+n*u*b,r[12]=s*u*d-a*h*d-s*c*p+n*h*p+a*c*m-n*u*m,r[1]=h*p*v-u*m*v-h*f*y+l*m*y+u*f*b-l*p*b,r[5]=a*m*v-s*p*v+s*f*y-i*m*y-a*f*b+i*p*b,r[9]=s*u*v-a*h*v-s*l*y+i*h*y+a*l*b-i*u*b,r[13]=a*h*f-s*u*f+s*l*p-i*h*p-a*l*m+i*u*m,r[2]=c*m*v-h*d*v+h*f*g-l*m*g-c*f*b+l*d*b,r[6]=s*d*v-n*m*v-s*f*g+i*m*g+n*f*b-i*d*b,r[10]=n*h*v-s*c*v+s*l*g-i*h*g-n*l*b+i*c*b,r[14]=s*c*f-n*h*f-s*l*d+i*h*d+n*l*m-i*c*m,r[3]=u*d*v-c*p*v-u*f*g+l*p*g+c*f*y-l*d*y,r[7]=n*p*v-a*d*v+a*f*g-i*p*g-n*f*y+i*d*y,r[11]=a*c*v-n*u*v-a*l*g+i*u*g+n*l*y-i*c*y,r[15]=n*u*f-a*c*f+a*l*d-i*u*d-n*l*p+i*c*p;var x=o[0]*r[0]+o[1]*r[4]+o[2]*r[8]+o[3]*r[12];if(0===x){var w="Matrix4.getInverse(): can't invert matrix, determinant is 0";if(t)throw new Error(w);return console.warn(w),this.identity(),this}return this.multiplyScalar(1/x),this},isReflected:function(){let e=this.elements,t=e[0],r=e[4],o=e[8],i=e[1],n=e[5],a=e[9],s=e[2],l=e[6],c=e[10];return t*n*c+i*l*o+s*r*a-s*n*o-i*r*c-t*l*a<0},compose:function(){var e=new $3Dmol.Matrix4,t=new $3Dmol.Matrix4;return function(r,o,i){var n=this.elements;return e.identity(),e.setRotationFromQuaternion(o),t.makeScale(i.x,i.y,i.z),this.multiplyMatrices(e,t),n[12]=r.x,n[13]=r.y,n[14]=r.z,this}}(),getScale:function(){var e=new $3Dmol.Vector3,t=new $3Dmol.Vector3,r=new $3Dmol.Vector3;return function(o){var i=this.elements;return o=o instanceof $3Dmol.Vector3?o:new $3Dmol.Vector3,e.set(i[0],i[1],i[2]),t.set(i[4],i[5],i[6]),r.set(i[8],i[9],i[10]),o.x=e.length(),o.y=t.length(),o.z=r.length(),o}}(),decompose:function(){var e=new $3Dmol.Vector3,t=new $3Dmol.Vector3,r=new $3Dmol.Vector3,o=new $3Dmol.Matrix4;return function(i,n,a){var s=this.elements;return e.set(s[0],s[1],s[2]),t.set(s[4],s[5],s[6]),r.set(s[8],s[9],s[10]),i=i instanceof $3Dmol.Vector3?i:new $3Dmol.Vector3,n=n instanceof $3Dmol.Quaternion?n:new $3Dmol.Quaternion,(a=a instanceof $3Dmol.Vector3?a:new $3Dmol.Vector3).x=e.length(),a.y=t.length(),a.z=r.length(),i.x=s[12],i.y=s[13],i.z=s[14],o.copy(this),o.elements[0]/=a.x,o.elements[1]/=a.x,o.elements[2]/=a.x,o.elements[4]/=a.y,o.elements[5]/=a.y,o.elements[6]/=a.y,o.elements[8]/=a.z,o.elements[9]/=a.z,o.elements[10]/=a.z,n.setFromRotationMatrix(o),[i,n,a]}}(),scale:function(e){var t=this.elements,r=e.x,o=e.y,i=e.z;return t[0]*=r,t[4]*=o,t[8]*=i,t[1]*=r,t[5]*=o,t[9]*=i,t[2]*=r,t[6]*=o,t[10]*=i,t[3]*=r,t[7]*=o,t[11]*=i,this},getMaxScaleOnAxis:function(){var e=this.elements,t=e[0]*e[0]+e[1]*e[1]+e[2]*e[2],r=e[4]*e[4]+e[5]*e[5]+e[6]*e[6],o=e[8]*e[8]+e[9]*e[9]+e[10]*e[10];return Math.sqrt(Math.max(t,Math.max(r,o)))},makeFrustum:function(e,t,r,o,i,n){var a=this.elements,s=2*i/(t-e),l=2*i/(o-r),c=(t+e)/(t-e),u=(o+r)/(o-r),h=-(n+i)/(n-i),f=-2*n*i/(n-i);return a[0]=s,a[4]=0,a[8]=c,a[12]=0,a[1]=0,a[5]=l,a[9]=u,a[13]=0,a[2]=0,a[6]=0,a[10]=h,a[14]=f,a[3]=0,a[7]=0,a[11]=-1,a[15]=0,this},makePerspective:function(e,t,r,o){var i=r*Math.tan($3Dmol.Math.degToRad(.5*e)),n=-i,a=n*t,s=i*t;return this.makeFrustum(a,s,n,i,r,o)},makeOrthographic:function(e,t,r,o,i,n){var a=this.elements,s=1/(t-e),l=1/(r-o),c=1/(n-i),u=(t+e)*s,h=(r+o)*l,f=(n+i)*c;return a[0]=2*s,a[4]=0,a[8]=0,a[12]=-u,a[1]=0,a[5]=2*l,a[9]=0,a[13]=-h,a[2]=0,a[6]=0,a[10]=-2*c,a[14]=-f,a[3]=0,a[7]=0,a[11]=0,a[15]=1,this},isEqual:function(e){var t=e.elements,r=this.elements;return r[0]==t[0]&&r[4]==t[4]&&r[8]==t[8]&&r[12]==t[12]&&r[1]==t[1]&&r[5]==t[5]&&r[9]==t[9]&&r[13]==t[13]&&r[2]==t[2]&&r[6]==t[6]&&r[10]==t[10]&&r[14]==t[14]&&r[3]==t[3]&&r[7]==t[7]&&r[11]==t[11]&&r[15]==t[15]},clone:function(){var e=this.elements;return new $3Dmol.Matrix4(e[0],e[4],e[8],e[12],e[1],e[5],e[9],e[13],e[2],e[6],e[10],e[14],e[3],e[7],e[11],e[15])},isIdentity:function(){var e=this.elements;return 1==e[0]&&0==e[4]&&0==e[8]&&0==e[12]&&0==e[1]&&1==e[5]&&0==e[9]&&0==e[13]&&0==e[2]&&0==e[6]&&1==e[10]&&0==e[14]&&0==e[3]&&0==e[7]&&0==e[11]&&1==e[15]},isNearlyIdentity:function(e){return this.clone().snap(e).isIdentity()}},$3Dmol.Vector3.prototype.unproject=function(){var e=new $3Dmol.Matrix4;return function(t){return e.multiplyMatrices(t.matrixWorld,e.getInverse(t.projectionMatrix)),this.applyMatrix4(e)}}(),$3Dmol.Ray=function(e,t){this.origin=void 0!==e?e:new $3Dmol.Vector3,this.direction=void 0!==t?t:new $3Dmol.Vector3},$3Dmol.Ray.prototype={constructor:$3Dmol.Ray,set:function(e,t){return this.origin.copy(e),this.direction.copy(t),this},copy:function(e){return this.origin.copy(e.origin),this.direction.copy(e.direction),this},at:function(e,t){return(t||new $3Dmol.Vector3).copy(this.direction).multiplyScalar(e).add(this.origin)},recast:function(){var e=new $3Dmol.Vector3;return function(t){return this.origin.copy(this.at(t,e)),this}}(),closestPointToPoint:function(e,t){var r=t||new $3Dmol.Vector3;r.subVectors(e,this.origin);var o=r.dot(this.direction);return r.copy(this.direction).multiplyScalar(o).add(this.origin)},distanceToPoint:function(){var e=new $3Dmol.Vector3;return function(t){var r=e.subVectors(t,this.origin).dot(this.direction);return e.copy(this.direction).multiplyScalar(r).add(this.origin),e.distanceTo(t)}}(),isIntersectionCylinder:function(){},isIntersectionSphere:function(e){return this.distanceToPoint(e.center)<=e.radius},isIntersectionPlane:function(e){return 0!==e.normal.dot(this.direction)||0===e.distanceToPoint(this.origin)},distanceToPlane:function(e){var t=e.normal.dot(this.direction);return 0===t?0===e.distanceToPoint(this.origin)?0:void 0:-(this.origin.dot(e.normal)+e.constant)/t},intersectPlane:function(e,t){var r=this.distanceToPlane(e);if(void 0!==r)return this.at(r,t)},applyMatrix4:function(e){return this.direction.add(this.origin).applyMatrix4(e),this.origin.applyMatrix4(e),this.direction.sub(this.origin),this},equals:function(e){return e.origin.equals(this.origin)&&e.direction.equals(this.direction)},clone:function(){return(new $3Dmol.Ray).copy(this)}},$3Dmol.Sphere=function(e,t){this.center=void 0!==e?e:new $3Dmol.Vector3,this.radius=void 0!==t?t:0},$3Dmol.Sphere.prototype={constructor:$3Dmol.Sphere,set:function(e,t){return this.center.copy(e),this.radius=t,this},copy:function(e){return this.center.copy(e.center),this.radius=e.radius,this},applyMatrix4:function(e){return this.center.applyMatrix4(e),this.radius=this.radius*e.getMaxScaleOnAxis(),this},translate:function(e){return this.center.add(e),this},equals:function(e){return e.center.equals(this.center)&&e.radius===this.radius},clone:function(){return(new $3Dmol.Sphere).copy(this)}},$3Dmol.Cylinder=function(e,t,r){this.c1=void 0!==e?e:new $3Dmol.Vector3,this.c2=void 0!==t?t:new $3Dmol.Vector3,this.direction=(new $3Dmol.Vector3).subVectors(this.c2,this.c1).normalize(),this.radius=void 0!==r?r:0},$3Dmol.Cylinder.prototype={constructor:$3Dmol.Cylinder,copy:function(e){return this.c1.copy(e.c1),this.c2.copy(e.c2),this.direction.copy(e.direction),this.radius=e.radius,this},lengthSq:function(){var e=new $3Dmol.Vector3;return function(){return e.subVectors(this.c2,this.c1).lengthSq()}}(),applyMatrix4:function(e){return this.direction.add(this.c1).applyMatrix4(e),this.c1.applyMatrix4(e),this.c2.applyMatrix4(e),this.direction.sub(this.c1).normalize(),this.radius=this.radius*e.getMaxScaleOnAxis(),this}},$3Dmol.Triangle=function(e,t,r){this.a=void 0!==e?e:new $3Dmol.Vector3,this.b=void 0!==t?t:new $3Dmol.Vector3,this.c=void 0!==r?r:new $3Dmol.Vector3},$3Dmol.Triangle.prototype={constructor:$3Dmol.Triangle,copy:function(e){return this.a.copy(e.a),this.b.copy(e.b),this.c.copy(e.c),this},applyMatrix4:function(e){return this.a.applyMatrix4(e),this.b.applyMatrix4(e),this.c.applyMatrix4(e),this},getNormal:function(){var e=new $3Dmol.Vector3;return function(){var t=this.a.clone();return t.sub(this.b),e.subVectors(this.c,this.b),t.cross(e),t.normalize(),t}}()},$3Dmol.EventDispatcher=function(){var e={};this.addEventListener=function(t,r){void 0===e[t]&&(e[t]=[]),-1===e[t].indexOf(r)&&e[t].push(r)},this.removeEventListener=function(t,r){var o=e[t].indexOf(r);-1!==o&&e[t].splice(o,1)},this.dispatchEvent=function(t){var r=e[t.type];if(void 0!==r){t.target=this;for(var o=0,i=r.length;o<i;o++)r[o].call(this,t)}}},$3Dmol.Color=function(e){return arguments.length>1?(this.r=arguments[0]||0,this.g=arguments[1]||0,this.b=arguments[2]||0,this):this.set(e)},$3Dmol.Color.prototype={constructor:$3Dmol.Color,r:0,g:0,b:0,set:function(e){if(e instanceof $3Dmol.Color)return e.clone();"number"==typeof e?this.setHex(e):"object"==typeof e&&"r"in e&&"g"in e&&"b"in e&&(this.r=e.r,this.g=e.g,this.b=e.b)},setHex:function(e){return e=Math.floor(e),this.r=(e>>16&255)/255,this.g=(e>>8&255)/255,this.b=(255&e)/255,this},getHex:function(){return Math.round(255*this.r)<<16|Math.round(255*this.g)<<8|Math.round(255*this.b)},clone:function(){return new $3Dmol.Color(this.r,this.g,this.b)},copy:function(e){return this.r=e.r,this.g=e.g,this.b=e.b,this},scaled:function(){var e={};return e.r=Math.round(255*this.r),e.g=Math.round(255*this.g),e.b=Math.round(255*this.b),e.a=1,e}},$3Dmol.Object3D=function(){this.id=$3Dmol.Object3DIDCount++,this.name="",this.parent=void 0,this.children=[],this.position=new $3Dmol.Vector3,this.rotation=new $3Dmol.Vector3,this.matrix=new $3Dmol.Matrix4,this.matrixWorld=new $3Dmol.Matrix4,this.quaternion=new $3Dmol.Quaternion,this.eulerOrder="XYZ",this.up=new $3Dmol.Vector3(0,1,0),this.scale=new $3Dmol.Vector3(1,1,1),this.matrixAutoUpdate=!0,this.matrixWorldNeedsUpdate=!0,this.rotationAutoUpdate=!0,this.useQuaternion=!1,this.visible=!0},$3Dmol.Object3D.prototype={constructor:$3Dmol.Object3D,lookAt:function(e){this.matrix.lookAt(e,this.position,this.up),this.rotationAutoUpdate&&(!0===this.useQuaternion?this.quaternion.copy(this.matrix.decompose()[1]):this.rotation.setEulerFromRotationMatrix(this.matrix,this.eulerOrder))},add:function(e){if(e!==this){e.parent=this,this.children.push(e);for(var t=this;void 0!==t.parent;)t=t.parent;void 0!==t&&t instanceof $3Dmol.Scene&&t.__addObject(e)}else console.error("Can't add $3Dmol.Object3D to itself")},remove:function(e){var t=this.children.indexOf(e);if(-1!==t){e.parent=void 0,this.children.splice(t,1);for(var r=this;void 0!==r.parent;)r=r.parent;void 0!==r&&r instanceof $3Dmol.Scene&&r.__removeObject(e)}},vrml:function(e){e||(e=" ");var t=2*Math.atan2(this.quaternion.lengthxyz(),this.quaternion.w),r=0,o=0,i=0;if(0!=t){let e=Math.sin(t/2);r=this.quaternion.x/e,o=this.quaternion.y/e,i=this.quaternion.z/e}var n=e+"Transform {\n"+e+" center "+this.position.x+" "+this.position.y+" "+this.position.z+"\n"+e+" rotation "+r+" "+o+" "+i+" "+t+"\n"+e+" children [\n";this.geometry&&(n+=this.geometry.vrml(e,this.material));for(var a=0;a<this.children.length;a++)n+=this.children[a].vrml(e+" ")+",\n";return n+=" ]\n",n+="}"},updateMatrix:function(){this.matrix.setPosition(this.position),!1===this.useQuaternion?this.matrix.setRotationFromEuler(this.rotation,this.eulerOrder):this.matrix.setRotationFromQuaternion(this.quaternion),1===this.scale.x&&1===this.scale.y&&1===this.scale.z||this.matrix.scale(this.scale),this.matrixWorldNeedsUpdate=!0},updateMatrixWorld:function(e){!0===this.matrixAutoUpdate&&this.updateMatrix(),!0!==this.matrixWorldNeedsUpdate&&!0!==e||(void 0===this.parent?this.matrixWorld.copy(this.matrix):this.matrixWorld.multiplyMatrices(this.parent.matrixWorld,this.matrix)),this.matrixWorldNeedsUpdate=!1;for(var t=0;t<this.children.length;t++)this.children[t].updateMatrixWorld(!0)},clone:function(e){void 0===e&&(e=new $3Dmol.Object3D),e.name=this.name,e.up.copy(this.up),e.position.copy(this.position),e.rotation.copy(this.rotation),e.eulerOrder=this.eulerOrder,e.scale.copy(this.scale),e.rotationAutoUpdate=this.rotationAutoUpdate,e.matrix.copy(this.matrix),e.matrixWorld.copy(this.matrixWorld),e.quaternion.copy(this.quaternion),e.matrixAutoUpdate=this.matrixAutoUpdate,e.matrixWorldNeedsUpdate=this.matrixWorldNeedsUpdate,e.useQuaternion=this.useQuaternion,e.visible=this.visible;for(var t=0;t<this.children.length;t++){var r=this.children[t];e.add(r.clone())}return e},setVisible:function(e){this.visible=e;for(var t=0;t<this.children.length;t++){this.children[t].setVisible(e)}}},$3Dmol.Object3DIDCount=0,$3Dmol.Geometry=function(){var e=65535,t=function(e){this.id=e||0,this.vertexArray=null,this.colorArray=null,this.normalArray=null,this.faceArray=null,this.radiusArray=null,this.lineArray=null,this.vertices=0,this.faceidx=0,this.lineidx=0};t.prototype.setColors=function(e){var t=this.vertexArray,r=this.colorArray;if(t.length==r.length)for(var o=0;o<t.length;o+=3){var i=e(t[o],t[o+1],t[o+2]);i instanceof $3Dmol.Color||(i=$3Dmol.CC.color(i)),r[o]=i.r,r[o+1]=i.g,r[o+2]=i.b}else console.log("Cannot re-color geometry group due to mismatched lengths.")},t.prototype.getNumVertices=function(){return this.vertices},t.prototype.getVertices=function(){return this.vertexArray},t.prototype.getCentroid=function(){for(var e,t,r,o,i=new $3Dmol.Vector3,n=0;n<this.vertices;++n)e=3*n,t=this.vertexArray[e],r=this.vertexArray[e+1],o=this.vertexArray[e+2],i.x+=t,i.y+=r,i.z+=o;return i.divideScalar(this.vertices),i},t.prototype.setNormals=function(){var e=this.faceArray,t=this.vertexArray,r=this.normalArray;if(this.vertices&&this.faceidx)for(var o,i,n,a,s,l,c,u=0;u<e.length/3;++u)o=3*e[3*u],i=3*e[3*u+1],n=3*e[3*u+2],a=new $3Dmol.Vector3(t[o],t[o+1],t[o+2]),s=new $3Dmol.Vector3(t[i],t[i+1],t[i+2]),l=new $3Dmol.Vector3(t[n],t[n+1],t[n+2]),a.subVectors(a,s),l.subVectors(l,s),l.cross(a),(c=l).normalize(),r[o]+=c.x,r[i]+=c.x,r[n]+=c.x,r[o+1]+=c.y,r[i+1]+=c.y,r[n+1]+=c.y,r[o+2]+=c.z,r[i+2]+=c.z,r[n+2]+=c.z},t.prototype.setLineIndices=function(){if(this.faceidx&&(!this.lineArray||this.lineArray.length!=2*this.faceidx||this.lineidx!=2*this.faceidx)){var e=this.faceArray,t=this.lineArray=new Uint16Array(2*this.faceidx);this.lineidx=2*this.faceidx;for(var r=0;r<this.faceidx/3;++r){var o=3*r,i=2*o,n=e[o],a=e[o+1],s=e[o+2];t[i]=n,t[i+1]=a,t[i+2]=n,t[i+3]=s,t[i+4]=a,t[i+5]=s}}},t.prototype.vrml=function(e,t){var r="";r+=e+"Shape {\n"+e+" appearance Appearance {\n"+e+"  material Material {\n"+e+"   diffuseColor "+t.color.r+" "+t.color.g+" "+t.color.b+"\n",t.transparent&&(r+=e+"   transparency "+(1-t.opacity)+"\n"),r+=e+"  }\n",r+=e+" }\n";var o=e;if(e+=" ",t instanceof $3Dmol.LineBasicMaterial){let t,o,i;r+=e+"geometry IndexedLineSet {\n"+e+" colorPerVertex TRUE\n"+e+" coord Coordinate {\n"+e+"  point [\n";for(let n=0;n<this.vertices;++n){let a=3*n;t=this.vertexArray[a],o=this.vertexArray[a+1],i=this.vertexArray[a+2],r+=e+"   "+t+" "+o+" "+i+",\n"}if(r+=e+"  ]\n",r+=e+" }\n",this.colorArray){r+=e+" color Color {\n"+e+"  color [\n";for(let n=0;n<this.vertices;++n){let a=3*n;t=this.colorArray[a],o=this.colorArray[a+1],i=this.colorArray[a+2],r+=e+"   "+t+" "+o+" "+i+",\n"}r+=e+"  ]\n",r+=e+" }\n"}r+=e+" coordIndex [\n";for(let t=0;t<this.vertices;t+=2)r+=e+"  "+t+", "+(t+1)+", -1,\n";r+=e+" ]\n",r+=e+"}\n"}else{let t,o,n;r+=e+"geometry IndexedFaceSet {\n"+e+" colorPerVertex TRUE\n"+e+" normalPerVertex TRUE\n"+e+" solid FALSE\n",r+=e+" coord Coordinate {\n"+e+"  point [\n";for(let i=0;i<this.vertices;++i){let a=3*i;t=this.vertexArray[a],o=this.vertexArray[a+1],n=this.vertexArray[a+2],r+=e+"   "+t+" "+o+" "+n+",\n"}r+=e+"  ]\n",r+=e+" }\n",r+=e+" normal Normal {\n"+e+"  vector [\n";for(let i=0;i<this.vertices;++i){let a=3*i;t=this.normalArray[a],o=this.normalArray[a+1],n=this.normalArray[a+2],r+=e+"   "+t+" "+o+" "+n+",\n"}if(r+=e+"  ]\n",r+=e+" }\n",this.colorArray){r+=e+" color Color {\n"+e+"  color [\n";for(let i=0;i<this.vertices;++i){let a=3*i;t=this.colorArray[a],o=this.colorArray[a+1],n=this.colorArray[a+2],r+=e+"   "+t+" "+o+" "+n+",\n"}r+=e+"  ]\n",r+=e+" }\n"}r+=e+" coordIndex [\n";for(var i=0;i<this.faceidx;i+=3)t=this.faceArray[i],o=this.faceArray[i+1],n=this.faceArray[i+2],r+=e+"  "+t+", "+o+", "+n+", -1,\n";r+=e+" ]\n",r+=e+"}\n"}return r+=o+"}"},t.prototype.truncateArrayBuffers=function(e,t){e=!0===e;var r=this.vertexArray,o=this.colorArray,i=this.normalArray,n=this.faceArray,a=this.lineArray,s=this.radiusArray;this.vertexArray=r.subarray(0,3*this.vertices),this.colorArray=o.subarray(0,3*this.vertices),e?(this.normalArray=i.subarray(0,3*this.vertices),this.faceArray=n.subarray(0,this.faceidx),this.lineidx>0?this.lineArray=a.subarray(0,this.lineidx):this.lineArray=new Uint16Array(0)):(this.normalArray=new Float32Array(0),this.faceArray=new Uint16Array(0),this.lineArray=new Uint16Array(0)),s&&(this.radiusArray=s.subarray(0,this.vertices)),t&&(this.normalArray&&(this.normalArray=new Float32Array(this.normalArray)),this.faceArray&&(this.faceArray=new Uint16Array(this.faceArray)),this.lineArray&&(this.lineArray=new Uint16Array(this.lineArray)),this.vertexArray&&(this.vertexArray=new Float32Array(this.vertexArray)),this.colorArray&&(this.colorArray=new Float32Array(this.colorArray)),this.radiusArray&&(this.radiusArray=new Float32Array(this.radiusArray))),this.__inittedArrays=!0};var r=function(r){var o=new t(r.geometryGroups.length);return r.geometryGroups.push(o),r.groups=r.geometryGroups.length,o.vertexArray=new Float32Array(196605),o.colorArray=new Float32Array(196605),r.mesh&&(o.normalArray=new Float32Array(196605),o.faceArray=new Uint16Array(393210),o.lineArray=new Uint16Array(393210)),r.radii&&(o.radiusArray=new Float32Array(e)),o.useOffset=r.offset,o},o=function(e,t,r){$3Dmol.EventDispatcher.call(this),this.id=$3Dmol.GeometryIDCount++,this.name="",this.hasTangents=!1,this.dynamic=!0,this.mesh=!0===e,this.radii=t||!1,this.offset=r||!1,this.verticesNeedUpdate=!1,this.elementsNeedUpdate=!1,this.normalsNeedUpdate=!1,this.colorsNeedUpdate=!1,this.buffersNeedUpdate=!1,this.geometryGroups=[],this.groups=0};return o.prototype={constructor:o,updateGeoGroup:function(e){e=e||0;var t=this.groups>0?this.geometryGroups[this.groups-1]:null;return(!t||t.vertices+e>t.vertexArray.length/3)&&(t=r(this)),t},vrml:function(e,t){for(var r="",o=this.geometryGroups.length,i=0;i<o;i++){r+=this.geometryGroups[i].vrml(e,t)+",\n"}return r},addGeoGroup:function(){return r(this)},setUpNormals:function(e){e=e||!1;for(var t=0;t<this.groups;t++){this.geometryGroups[t].setNormals(e)}},setColors:function(e){for(var t=this.geometryGroups.length,r=0;r<t;r++){this.geometryGroups[r].setColors(e)}},setUpWireframe:function(){for(var e=0;e<this.groups;e++){this.geometryGroups[e].setLineIndices()}},initTypedArrays:function(){for(var e=0;e<this.groups;e++){var t=this.geometryGroups[e];!0!==t.__inittedArrays&&t.truncateArrayBuffers(this.mesh,!1)}},dispose:function(){this.dispatchEvent({type:"dispose"})}},o}(),Object.defineProperty($3Dmol.Geometry.prototype,"vertices",{get:function(){for(var e=0,t=0;t<this.groups;t++)e+=this.geometryGroups[t].vertices;return e}}),$3Dmol.GeometryIDCount=0,$3Dmol.Raycaster=function(){var e,t=function(e,t,r,o){this.ray=new $3Dmol.Ray(e,t),this.ray.direction.lengthSq()>0&&this.ray.direction.normalize(),this.near=o||0,this.far=r||1/0},r=new $3Dmol.Sphere,o=new $3Dmol.Cylinder,i=new $3Dmol.Triangle,n=new $3Dmol.Vector3,a=new $3Dmol.Vector3,s=new $3Dmol.Vector3,l=new $3Dmol.Vector3,c=new $3Dmol.Vector3,u=function(e,t){return e.distance-t.distance},h=function(e){return Math.min(Math.max(e,-1),1)},f=function(e,t,u,f){if(c.getPositionFromMatrix(e.matrixWorld),void 0===t.intersectionShape)return f;var d,p,m,v,g,y,b,x,w,D,C,A,S,$,M=t.intersectionShape,_=u.linePrecision,T=(_*=e.matrixWorld.getMaxScaleOnAxis())*_;if(void 0!==t.boundingSphere&&t.boundingSphere instanceof $3Dmol.Sphere&&(r.copy(t.boundingSphere),r.applyMatrix4(e.matrixWorld),!u.ray.isIntersectionSphere(r)))return f;for(d=0,p=M.triangle.length;d<p;d++)if(M.triangle[d]instanceof $3Dmol.Triangle){if(i.copy(M.triangle[d]),i.applyMatrix4(e.matrixWorld),m=i.getNormal(),(v=u.ray.direction.dot(m))>=0)continue;if(n.subVectors(i.a,u.ray.origin),(b=m.dot(n)/v)<0)continue;a.copy(u.ray.direction).multiplyScalar(b).add(u.ray.origin),a.sub(i.a),s.copy(i.b).sub(i.a),l.copy(i.c).sub(i.a);var z=s.dot(l),E=s.lengthSq(),L=l.lengthSq();if((A=(E*a.dot(l)-z*a.dot(s))/(E*L-z*z))<0||A>1)continue;if((C=(a.dot(s)-A*z)/E)<0||C>1||C+A>1)continue;f.push({clickable:t,distance:b})}for(d=0,p=M.cylinder.length;d<p;d++)if(M.cylinder[d]instanceof $3Dmol.Cylinder){if(o.copy(M.cylinder[d]),o.applyMatrix4(e.matrixWorld),n.subVectors(o.c1,u.ray.origin),g=n.dot(o.direction),y=n.dot(u.ray.direction),0===(w=1-(v=h(u.ray.direction.dot(o.direction)))*v))continue;S=(v*y-g)/w,$=(y-v*g)/w,a.copy(o.direction).multiplyScalar(S).add(o.c1),s.copy(u.ray.direction).multiplyScalar($).add(u.ray.origin),x=l.subVectors(a,s).lengthSq();var F=o.radius*o.radius;if(x<=F){if((C=v*(A=b=(D=(v*g-y)*(v*g-y)-w*(n.lengthSq()-g*g-F))<=0?Math.sqrt(x):(y-v*g-Math.sqrt(D))/w)-g)<0||C*C>o.lengthSq()||A<0)continue;f.push({clickable:t,distance:b})}}for(d=0,p=M.line.length;d<p;d+=2){a.copy(M.line[d]),a.applyMatrix4(e.matrixWorld),s.copy(M.line[d+1]),s.applyMatrix4(e.matrixWorld),l.subVectors(s,a);var I=l.lengthSq();l.normalize(),n.subVectors(a,u.ray.origin);var R=n.dot(l);y=n.dot(u.ray.direction),0!==(w=1-(v=h(u.ray.direction.dot(l)))*v)&&(S=(v*y-R)/w,$=(y-v*R)/w,a.add(l.multiplyScalar(S)),s.copy(u.ray.direction).multiplyScalar($).add(u.ray.origin),(x=l.subVectors(s,a).lengthSq())<T&&S*S<I&&f.push({clickable:t,distance:$}))}for(d=0,p=M.sphere.length;d<p;d++)if(M.sphere[d]instanceof $3Dmol.Sphere&&(r.copy(M.sphere[d]),r.applyMatrix4(e.matrixWorld),u.ray.isIntersectionSphere(r))){a.subVectors(r.center,u.ray.origin);var O=a.dot(u.ray.direction);if(D=O*O-(a.lengthSq()-r.radius*r.radius),O<0)return f;b=D<=0?O:O-Math.sqrt(D),f.push({clickable:t,distance:b})}return f};return t.prototype.precision=1e-4,t.prototype.linePrecision=.2,t.prototype.set=function(e,t){this.ray.set(e,t)},t.prototype.setFromCamera=(e=new $3Dmol.Matrix4,function(t,r){r.ortho?(this.ray.origin.set(t.x,t.y,(r.near+r.far)/(r.near-r.far)).unproject(r),this.ray.direction.set(0,0,-1).transformDirection(r.matrixWorld)):(this.ray.origin.setFromMatrixPosition(r.matrixWorld),this.ray.direction.set(t.x,t.y,t.z),r.projectionMatrixInverse.getInverse(r.projectionMatrix),e.multiplyMatrices(r.matrixWorld,r.projectionMatrixInverse),this.ray.direction.applyProjection(e),this.ray.direction.sub(this.ray.origin).normalize())}),t.prototype.intersectObjects=function(e,t){for(var r=[],o=0,i=t.length;o<i;o++)f(e,t[o],this,r);return r.sort(u),r},t}(),$3Dmol.Projector=function(){let e=new $3Dmol.Matrix4;this.projectVector=function(t,r){return r.matrixWorldInverse.getInverse(r.matrixWorld),e.multiplyMatrices(r.projectionMatrix,r.matrixWorldInverse),t.applyProjection(e)},this.unprojectVector=function(t,r){return r.projectionMatrixInverse.getInverse(r.projectionMatrix),e.multiplyMatrices(r.matrixWorld,r.projectionMatrixInverse),t.applyProjection(e)}},$3Dmol.Camera=function(e,t,r,o,i){$3Dmol.Object3D.call(this),this.fov=void 0!==e?e:50,this.aspect=void 0!==t?t:1,this.near=void 0!==r?r:.1,this.far=void 0!==o?o:2e3,this.projectionMatrix=new $3Dmol.Matrix4,this.projectionMatrixInverse=new $3Dmol.Matrix4,this.matrixWorldInverse=new $3Dmol.Matrix4;var n=this.position.z;this.right=n*Math.tan(Math.PI/180*e),this.left=-this.right,this.top=this.right/this.aspect,this.bottom=-this.top,this.ortho=!!i,this.updateProjectionMatrix()},$3Dmol.Camera.prototype=Object.create($3Dmol.Object3D.prototype),$3Dmol.Camera.prototype.lookAt=function(e){this.matrix.lookAt(this.position,e,this.up),this.rotationAutoUpdate&&(!1===this.useQuaternion?this.rotation.setEulerFromRotationMatrix(this.matrix,this.eulerOrder):this.quaternion.copy(this.matrix.decompose()[1]))},$3Dmol.Camera.prototype.updateProjectionMatrix=function(){this.ortho?this.projectionMatrix.makeOrthographic(this.left,this.right,this.top,this.bottom,this.near,this.far):this.projectionMatrix.makePerspective(this.fov,this.aspect,this.near,this.far),this.projectionMatrixInverse.getInverse(this.projectionMatrix)},$3Dmol.SpritePlugin=function(){var e,t,r,o={};function i(e,t){return e.z!==t.z?t.z-e.z:t.id-e.id}this.init=function(i){e=i.context,t=i,r=i.getPrecision(),o.vertices=new Float32Array(16),o.faces=new Uint16Array(6);var n=0;o.vertices[n++]=-1,o.vertices[n++]=-1,o.vertices[n++]=0,o.vertices[n++]=0,o.vertices[n++]=1,o.vertices[n++]=-1,o.vertices[n++]=1,o.vertices[n++]=0,o.vertices[n++]=1,o.vertices[n++]=1,o.vertices[n++]=1,o.vertices[n++]=1,o.vertices[n++]=-1,o.vertices[n++]=1,o.vertices[n++]=0,o.vertices[n++]=1,n=0,o.faces[n++]=0,o.faces[n++]=1,o.faces[n++]=2,o.faces[n++]=0,o.faces[n++]=2,o.faces[n++]=3,o.vertexBuffer=e.createBuffer(),o.elementBuffer=e.createBuffer(),e.bindBuffer(e.ARRAY_BUFFER,o.vertexBuffer),e.bufferData(e.ARRAY_BUFFER,o.vertices,e.STATIC_DRAW),e.bindBuffer(e.ELEMENT_ARRAY_BUFFER,o.elementBuffer),e.bufferData(e.ELEMENT_ARRAY_BUFFER,o.faces,e.STATIC_DRAW),o.program=function(t,r){var o=e.createProgram(),i=e.createShader(e.FRAGMENT_SHADER),n=e.createShader(e.VERTEX_SHADER),a="precision "+r+" float;\n";if(e.shaderSource(i,a+t.fragmentShader),e.shaderSource(n,a+t.vertexShader),e.compileShader(i),e.compileShader(n),!e.getShaderParameter(i,e.COMPILE_STATUS)||!e.getShaderParameter(n,e.COMPILE_STATUS))return console.error(e.getShaderInfoLog(i)),console.error("could not initialize shader"),null;e.attachShader(o,i),e.attachShader(o,n),e.linkProgram(o),e.getProgramParameter(o,e.LINK_STATUS)||console.error("Could not initialize shader");return o}($3Dmol.ShaderLib.sprite,r),o.attributes={},o.uniforms={},o.attributes.position=e.getAttribLocation(o.program,"position"),o.attributes.uv=e.getAttribLocation(o.program,"uv"),o.uniforms.uvOffset=e.getUniformLocation(o.program,"uvOffset"),o.uniforms.uvScale=e.getUniformLocation(o.program,"uvScale"),o.uniforms.rotation=e.getUniformLocation(o.program,"rotation"),o.uniforms.scale=e.getUniformLocation(o.program,"scale"),o.uniforms.alignment=e.getUniformLocation(o.program,"alignment"),o.uniforms.color=e.getUniformLocation(o.program,"color"),o.uniforms.map=e.getUniformLocation(o.program,"map"),o.uniforms.opacity=e.getUniformLocation(o.program,"opacity"),o.uniforms.useScreenCoordinates=e.getUniformLocation(o.program,"useScreenCoordinates"),o.uniforms.screenPosition=e.getUniformLocation(o.program,"screenPosition"),o.uniforms.modelViewMatrix=e.getUniformLocation(o.program,"modelViewMatrix"),o.uniforms.projectionMatrix=e.getUniformLocation(o.program,"projectionMatrix"),o.uniforms.fogType=e.getUniformLocation(o.program,"fogType"),o.uniforms.fogDensity=e.getUniformLocation(o.program,"fogDensity"),o.uniforms.fogNear=e.getUniformLocation(o.program,"fogNear"),o.uniforms.fogFar=e.getUniformLocation(o.program,"fogFar"),o.uniforms.fogColor=e.getUniformLocation(o.program,"fogColor"),o.uniforms.alphaTest=e.getUniformLocation(o.program,"alphaTest")},this.render=function(r,n,a,s,l){let c=[];r.__webglSprites.forEach((e=>{(l&&0==e.material.depthTest||!l&&e.material.depthTest)&&c.push(e)}));let u=c.length;if(u){var h=o.attributes,f=o.uniforms,d=.5*a,p=.5*s;e.useProgram(o.program),e.enableVertexAttribArray(h.position),e.enableVertexAttribArray(h.uv),e.disable(e.CULL_FACE),e.enable(e.BLEND),e.bindBuffer(e.ARRAY_BUFFER,o.vertexBuffer),e.vertexAttribPointer(h.position,2,e.FLOAT,!1,16,0),e.vertexAttribPointer(h.uv,2,e.FLOAT,!1,16,8),e.bindBuffer(e.ELEMENT_ARRAY_BUFFER,o.elementBuffer),e.uniformMatrix4fv(f.projectionMatrix,!1,n.projectionMatrix.elements),e.activeTexture(e.TEXTURE0),e.uniform1i(f.map,0);var m=0,v=0,g=r.fog;g?(e.uniform3f(f.fogColor,g.color.r,g.color.g,g.color.b),e.uniform1f(f.fogNear,g.near),e.uniform1f(f.fogFar,g.far),e.uniform1i(f.fogType,1),m=1,v=1):(e.uniform1i(f.fogType,0),m=0,v=0);var y,b,x,w,D,C=[];for(y=0;y<u;y++)(0!=(x=(b=c[y]).material).depthTest||l)&&b.visible&&0!==x.opacity&&(x.useScreenCoordinates?b.z=-b.position.z:(b._modelViewMatrix.multiplyMatrices(n.matrixWorldInverse,b.matrixWorld),b.z=-b._modelViewMatrix.elements[14]));for(c.sort(i),y=0;y<u;y++)if(x=(b=c[y]).material,b.visible&&0!==x.opacity&&x.map&&x.map.image&&x.map.image.width){e.uniform1f(f.alphaTest,x.alphaTest);var A=x.map.image.width,S=x.map.image.height;C[0]=A*t.devicePixelRatio/a,C[1]=S*t.devicePixelRatio/s,!0===x.useScreenCoordinates?(e.uniform1i(f.useScreenCoordinates,1),e.uniform3f(f.screenPosition,(b.position.x*t.devicePixelRatio-d)/d,(p-b.position.y*t.devicePixelRatio)/p,Math.max(0,Math.min(1,b.position.z)))):(e.uniform1i(f.useScreenCoordinates,0),e.uniformMatrix4fv(f.modelViewMatrix,!1,b._modelViewMatrix.elements)),m!==(D=r.fog&&x.fog?v:0)&&(e.uniform1i(f.fogType,D),m=D),w=1/(x.scaleByViewport?s:1),C[0]*=w*b.scale.x,C[1]*=w*b.scale.y,e.uniform2f(f.uvScale,x.uvScale.x,x.uvScale.y),e.uniform2f(f.uvOffset,x.uvOffset.x,x.uvOffset.y),e.uniform2f(f.alignment,x.alignment.x,x.alignment.y),e.uniform1f(f.opacity,x.opacity),e.uniform3f(f.color,x.color.r,x.color.g,x.color.b),e.uniform1f(f.rotation,b.rotation),e.uniform2fv(f.scale,C),t.setDepthTest(x.depthTest),t.setDepthWrite(x.depthWrite),t.setTexture(x.map,0),e.drawElements(e.TRIANGLES,6,e.UNSIGNED_SHORT,0)}e.enable(e.CULL_FACE)}}},$3Dmol.Light=function(e,t){$3Dmol.Object3D.call(this),this.color=new $3Dmol.Color(e),this.position=new $3Dmol.Vector3(0,1,0),this.target=new $3Dmol.Object3D,this.intensity=void 0!==t?t:1,this.castShadow=!1,this.onlyShadow=!1},$3Dmol.Light.prototype=Object.create($3Dmol.Object3D.prototype),$3Dmol.Material=function(){$3Dmol.EventDispatcher.call(this),this.id=$3Dmol.MaterialIdCount++,this.name="",this.side=$3Dmol.FrontSide,this.opacity=1,this.transparent=!1,this.depthTest=!0,this.depthWrite=!0,this.stencilTest=!0,this.polygonOffset=!1,this.polygonOffsetFactor=0,this.polygonOffsetUnits=0,this.alphaTest=0,this.visible=!0,this.needsUpdate=!0},$3Dmol.Material.prototype.setValues=function(e){if(void 0!==e)for(var t in e){var r=e[t];if(void 0!==r){if(t in this){var o=this[t];o instanceof $3Dmol.Color&&r instanceof $3Dmol.Color?o.copy(r):o instanceof $3Dmol.Color?o.set(r):o instanceof $3Dmol.Vector3&&r instanceof $3Dmol.Vector3?o.copy(r):this[t]=r}}else console.warn("$3Dmol.Material: '"+t+"' parameter is undefined.")}},$3Dmol.Material.prototype.clone=function(e){return void 0===e&&(e=new $3Dmol.Material),e.name=this.name,e.side=this.side,e.opacity=this.opacity,e.transparent=this.transparent,e.depthTest=this.depthTest,e.depthWrite=this.depthWrite,e.stencilTest=this.stencilTest,e.polygonOffset=this.polygonOffset,e.polygonOffsetFactor=this.polygonOffsetFactor,e.polygonOffsetUnits=this.polygonOffsetUnits,e.alphaTest=this.alphaTest,e.overdraw=this.overdraw,e.visible=this.visible,e},$3Dmol.Material.prototype.dispose=function(){this.dispatchEvent({type:"dispose"})},$3Dmol.MaterialIdCount=0,$3Dmol.LineBasicMaterial=function(e){$3Dmol.Material.call(this),this.color=new $3Dmol.Color(16777215),this.linewidth=1,this.linecap="round",this.linejoin="round",this.vertexColors=!1,this.fog=!0,this.shaderID="basic",this.setValues(e)},$3Dmol.LineBasicMaterial.prototype=Object.create($3Dmol.Material.prototype),$3Dmol.LineBasicMaterial.prototype.clone=function(){var e=new $3Dmol.LineBasicMaterial;return $3Dmol.Material.prototype.clone.call(this,e),e.color.copy(this.color),e},$3Dmol.MeshLambertMaterial=function(e){$3Dmol.Material.call(this),this.color=new $3Dmol.Color(16777215),this.ambient=new $3Dmol.Color(1048575),this.emissive=new $3Dmol.Color(0),this.wrapAround=!1,this.wrapRGB=new $3Dmol.Vector3(1,1,1),this.map=null,this.lightMap=null,this.specularMap=null,this.envMap=null,this.reflectivity=1,this.refractionRatio=.98,this.fog=!0,this.wireframe=!1,this.wireframeLinewidth=1,this.wireframeLinecap="round",this.wireframeLinejoin="round",this.shading=$3Dmol.SmoothShading,this.shaderID="lambert",this.vertexColors=$3Dmol.NoColors,this.skinning=!1,this.setValues(e)},$3Dmol.MeshLambertMaterial.prototype=Object.create($3Dmol.Material.prototype),$3Dmol.MeshLambertMaterial.prototype.clone=function(e){return void 0===e&&(e=new $3Dmol.MeshLambertMaterial),$3Dmol.Material.prototype.clone.call(this,e),e.color.copy(this.color),e.ambient.copy(this.ambient),e.emissive.copy(this.emissive),e.wrapAround=this.wrapAround,e.wrapRGB.copy(this.wrapRGB),e.map=this.map,e.lightMap=this.lightMap,e.specularMap=this.specularMap,e.envMap=this.envMap,e.combine=this.combine,e.reflectivity=this.reflectivity,e.refractionRatio=this.refractionRatio,e.fog=this.fog,e.shading=this.shading,e.shaderID=this.shaderID,e.vertexColors=this.vertexColors,e.skinning=this.skinning,e.morphTargets=this.morphTargets,e.morphNormals=this.morphNormals,e},$3Dmol.MeshDoubleLambertMaterial=function(e){$3Dmol.MeshLambertMaterial.call(this,e),this.shaderID="lambertdouble",this.side=$3Dmol.DoubleSide},$3Dmol.MeshDoubleLambertMaterial.prototype=Object.create($3Dmol.MeshLambertMaterial.prototype),$3Dmol.MeshDoubleLambertMaterial.prototype.clone=function(){var e=new $3Dmol.MeshDoubleLambertMaterial;return $3Dmol.MeshLambertMaterial.prototype.clone.call(this,e),e},$3Dmol.MeshOutlineMaterial=function(e){$3Dmol.Material.call(this),e=e||{},this.fog=!0,this.shaderID="outline",this.wireframe=!1,this.outlineColor=e.color||new $3Dmol.Color(0,0,0),this.outlineWidth=e.width||.1,this.outlinePushback=e.pushback||1},$3Dmol.MeshOutlineMaterial.prototype=Object.create($3Dmol.Material.prototype),$3Dmol.MeshOutlineMaterial.prototype.clone=function(e){return void 0===e&&(e=new $3Dmol.MeshOutlineMaterial),$3Dmol.Material.prototype.clone.call(this,e),e.fog=this.fog,e.shaderID=this.shaderID,e.wireframe=this.wireframe,e},$3Dmol.ImposterMaterial=function(e){$3Dmol.Material.call(this),this.color=new $3Dmol.Color(16777215),this.ambient=new $3Dmol.Color(1048575),this.emissive=new $3Dmol.Color(0),this.imposter=!0,this.wrapAround=!1,this.wrapRGB=new $3Dmol.Vector3(1,1,1),this.map=null,this.lightMap=null,this.specularMap=null,this.envMap=null,this.reflectivity=1,this.refractionRatio=.98,this.fog=!0,this.wireframe=!1,this.wireframeLinewidth=1,this.wireframeLinecap="round",this.wireframeLinejoin="round",this.shading=$3Dmol.SmoothShading,this.shaderID=null,this.vertexColors=$3Dmol.NoColors,this.skinning=!1,this.setValues(e)},$3Dmol.ImposterMaterial.prototype=Object.create($3Dmol.Material.prototype),$3Dmol.ImposterMaterial.prototype.clone=function(){var e=new $3Dmol.ImposterMaterial;return $3Dmol.Material.prototype.clone.call(this,e),e.color.copy(this.color),e.ambient.copy(this.ambient),e.emissive.copy(this.emissive),e.wrapAround=this.wrapAround,e.wrapRGB.copy(this.wrapRGB),e.map=this.map,e.lightMap=this.lightMap,e.specularMap=this.specularMap,e.envMap=this.envMap,e.combine=this.combine,e.reflectivity=this.reflectivity,e.refractionRatio=this.refractionRatio,e.fog=this.fog,e.shading=this.shading,e.shaderID=this.shaderID,e.vertexColors=this.vertexColors,e.skinning=this.skinning,e.morphTargets=this.morphTargets,e.morphNormals=this.morphNormals,e},$3Dmol.SphereImposterMaterial=function(e){$3Dmol.ImposterMaterial.call(this),this.shaderID="sphereimposter",this.setValues(e)},$3Dmol.SphereImposterMaterial.prototype=Object.create($3Dmol.ImposterMaterial.prototype),$3Dmol.SphereImposterMaterial.prototype.clone=function(){var e=new $3Dmol.SphereImposterMaterial;return $3Dmol.ImposterMaterial.prototype.clone.call(this,e),e},$3Dmol.SphereImposterOutlineMaterial=function(e){$3Dmol.ImposterMaterial.call(this),e=e||{},this.shaderID="sphereimposteroutline",this.outlineColor=e.color||new $3Dmol.Color(0,0,0),this.outlineWidth=e.width||.1,this.outlinePushback=e.pushback||1,this.setValues(e)},$3Dmol.SphereImposterOutlineMaterial.prototype=Object.create($3Dmol.ImposterMaterial.prototype),$3Dmol.SphereImposterOutlineMaterial.prototype.clone=function(){var e=new $3Dmol.SphereImposterOutlineMaterial;return $3Dmol.ImposterMaterial.prototype.clone.call(this,e),e.outlineColor=this.outlineColor,e.outlineWidth=this.outlineWidth,e.outlinePushback=this.outlinePushback,e},$3Dmol.StickImposterMaterial=function(e){$3Dmol.ImposterMaterial.call(this),this.shaderID="stickimposter",this.setValues(e)},$3Dmol.StickImposterMaterial.prototype=Object.create($3Dmol.ImposterMaterial.prototype),$3Dmol.StickImposterMaterial.prototype.clone=function(){var e=new $3Dmol.StickImposterMaterial;return $3Dmol.ImposterMaterial.prototype.clone.call(this,e),e},$3Dmol.StickImposterOutlineMaterial=function(e){$3Dmol.ImposterMaterial.call(this),e=e||{},this.shaderID="stickimposteroutline",this.outlineColor=e.color||new $3Dmol.Color(0,0,0),this.outlineWidth=e.width||.1,this.outlinePushback=e.pushback||1,this.setValues(e)},$3Dmol.StickImposterOutlineMaterial.prototype=Object.create($3Dmol.ImposterMaterial.prototype),$3Dmol.StickImposterOutlineMaterial.prototype.clone=function(){var e=new $3Dmol.StickImposterOutlineMaterial;return $3Dmol.ImposterMaterial.prototype.clone.call(this,e),e.outlineColor=this.outlineColor,e.outlineWidth=this.outlineWidth,e.outlinePushback=this.outlinePushback,e},$3Dmol.InstancedMaterial=function(e){$3Dmol.Material.call(this),this.color=new $3Dmol.Color(16777215),this.ambient=new $3Dmol.Color(1048575),this.emissive=new $3Dmol.Color(0),this.wrapAround=!1,this.wrapRGB=new $3Dmol.Vector3(1,1,1),this.map=null,this.lightMap=null,this.specularMap=null,this.envMap=null,this.reflectivity=1,this.refractionRatio=.98,this.fog=!0,this.wireframe=!1,this.wireframeLinewidth=1,this.wireframeLinecap="round",this.wireframeLinejoin="round",this.shading=$3Dmol.SmoothShading,this.shaderID="instanced",this.vertexColors=$3Dmol.NoColors,this.skinning=!1,this.sphere=null,this.setValues(e)},$3Dmol.InstancedMaterial.prototype=Object.create($3Dmol.Material.prototype),$3Dmol.InstancedMaterial.prototype.clone=function(){var e=new $3Dmol.InstancedMaterial;return $3Dmol.Material.prototype.clone.call(this,e),e.color.copy(this.color),e.ambient.copy(this.ambient),e.emissive.copy(this.emissive),e.wrapAround=this.wrapAround,e.wrapRGB.copy(this.wrapRGB),e.map=this.map,e.lightMap=this.lightMap,e.specularMap=this.specularMap,e.envMap=this.envMap,e.combine=this.combine,e.reflectivity=this.reflectivity,e.refractionRatio=this.refractionRatio,e.fog=this.fog,e.shading=this.shading,e.shaderID=this.shaderID,e.vertexColors=this.vertexColors,e.skinning=this.skinning,e.morphTargets=this.morphTargets,e.morphNormals=this.morphNormals,e.sphere=this.sphere,e},$3Dmol.VolumetricMaterial=function(e){$3Dmol.Material.call(this),this.transparent=!1,this.volumetric=!0,this.color=new $3Dmol.Color(16777215),this.transferfn=null,this.map=null,this.volumetric=!0,this.extent=[],this.maxdepth=100,this.unit=0,this.texmatrix=null,this.transfermin=-1,this.transfermax=1,this.subsamples=5,this.shaderID="volumetric",this.side=$3Dmol.FrontSide,this.setValues(e)},$3Dmol.VolumetricMaterial.prototype=Object.create($3Dmol.Material.prototype),$3Dmol.VolumetricMaterial.prototype.clone=function(){var e=Object.assign(new $3Dmol.VolumetricMaterial,this);return $3Dmol.Material.prototype.clone.call(this,e),e},$3Dmol.SpriteMaterial=function(e){$3Dmol.Material.call(this),this.color=new $3Dmol.Color(16777215),this.map=new $3Dmol.Texture,this.useScreenCoordinates=!0,this.depthTest=!this.useScreenCoordinates,this.sizeAttenuation=!this.useScreenCoordinates,this.scaleByViewPort=!this.sizeAttenuation,this.alignment=$3Dmol.SpriteAlignment.center.clone(),this.fog=!1,this.uvOffset=new $3Dmol.Vector2(0,0),this.uvScale=new $3Dmol.Vector2(1,1),this.setValues(e),void 0===(e=e||{}).depthTest&&(this.depthTest=!this.useScreenCoordinates),void 0===e.sizeAttenuation&&(this.sizeAttenuation=!this.useScreenCoordinates),void 0===e.scaleByViewPort&&(this.scaleByViewPort=!this.sizeAttenuation)},$3Dmol.SpriteMaterial.prototype=Object.create($3Dmol.Material.prototype),$3Dmol.SpriteMaterial.prototype.clone=function(){var e=new $3Dmol.SpriteMaterial;return $3Dmol.Material.prototype.clone.call(this,e),e.color.copy(this.color),e.map=this.map,e.useScreenCoordinates=this.useScreenCoordinates,e.sizeAttenuation=this.sizeAttenuation,e.scaleByViewport=this.scaleByViewPort,e.alignment.copy(this.alignment),e.uvOffset.copy(this.uvOffset),e},$3Dmol.SpriteAlignment={},$3Dmol.SpriteAlignment.topLeft=new $3Dmol.Vector2(1,-1),$3Dmol.SpriteAlignment.topCenter=new $3Dmol.Vector2(0,-1),$3Dmol.SpriteAlignment.topRight=new $3Dmol.Vector2(-1,-1),$3Dmol.SpriteAlignment.centerLeft=new $3Dmol.Vector2(1,0),$3Dmol.SpriteAlignment.center=new $3Dmol.Vector2(0,0),$3Dmol.SpriteAlignment.centerRight=new $3Dmol.Vector2(-1,0),$3Dmol.SpriteAlignment.bottomLeft=new $3Dmol.Vector2(1,1),$3Dmol.SpriteAlignment.bottomCenter=new $3Dmol.Vector2(0,1),$3Dmol.SpriteAlignment.bottomRight=new $3Dmol.Vector2(-1,1),$3Dmol.Texture=function(e,t){$3Dmol.EventDispatcher.call(this),this.id=$3Dmol.TextureIdCount++,this.name="",this.image=e,this.mapping=new $3Dmol.UVMapping,this.wrapS=$3Dmol.ClampToEdgeWrapping,this.wrapT=$3Dmol.ClampToEdgeWrapping,this.anisotropy=1,t?(this.format=$3Dmol.RFormat,this.type=$3Dmol.FloatType,this.premultiplyAlpha=!1,this.flipY=!1,this.unpackAlignment=1,this.magFilter=$3Dmol.NearestFilter,this.minFilter=$3Dmol.NearestFilter):(this.format=$3Dmol.RGBAFormat,this.type=$3Dmol.UnsignedByteType,this.offset=new $3Dmol.Vector2(0,0),this.repeat=new $3Dmol.Vector2(1,1),this.premultiplyAlpha=!1,this.flipY=!0,this.unpackAlignment=4,this.magFilter=$3Dmol.LinearFilter,this.minFilter=$3Dmol.LinearMipMapLinearFilter),this.needsUpdate=!1,this.onUpdate=null},$3Dmol.Texture.prototype={constructor:$3Dmol.Texture,clone:function(e){return void 0===e&&(e=new $3Dmol.Texture),e.image=this.image,e.mapping=this.mapping,e.wrapS=this.wrapS,e.wrapT=this.wrapT,e.magFilter=this.magFilter,e.minFilter=this.minFilter,e.anisotropy=this.anisotropy,e.format=this.format,e.type=this.type,e.offset.copy(this.offset),e.repeat.copy(this.repeat),e.premultiplyAlpha=this.premultiplyAlpha,e.flipY=this.flipY,e.unpackAlignment=this.unpackAlignment,e},dispose:function(){this.dispatchEvent({type:"dispose"})}},$3Dmol.TextureIdCount=0,$3Dmol.FrontSide=0,$3Dmol.BackSide=1,$3Dmol.DoubleSide=2,$3Dmol.NoShading=0,$3Dmol.FlatShading=1,$3Dmol.SmoothShading=2,$3Dmol.NoColors=0,$3Dmol.FaceColors=1,$3Dmol.VertexColors=2,$3Dmol.MultiplyOperation=0,$3Dmol.MixOperation=1,$3Dmol.AddOperation=2,$3Dmol.UVMapping=function(){},$3Dmol.ClampToEdgeWrapping=1001,$3Dmol.LinearFilter=1006,$3Dmol.NearestFilter=1007,$3Dmol.LinearMipMapLinearFilter=1008,$3Dmol.UnsignedByteType=1009,$3Dmol.FloatType=1010,$3Dmol.RGBAFormat=1021,$3Dmol.RFormat=1022,$3Dmol.R32Format=1023,$3Dmol.Line=function(e,t,r){$3Dmol.Object3D.call(this),this.geometry=e,this.material=void 0!==t?t:new $3Dmol.LineBasicMaterial({color:16777215*Math.random()}),this.type=void 0!==r?r:$3Dmol.LineStrip},$3Dmol.LineStrip=0,$3Dmol.LinePieces=1,$3Dmol.Line.prototype=Object.create($3Dmol.Object3D.prototype),$3Dmol.Line.prototype.clone=function(e){return void 0===e&&(e=new $3Dmol.Line(this.geometry,this.material,this.type)),$3Dmol.Object3D.prototype.clone.call(this,e),e},$3Dmol.Mesh=function(e,t){$3Dmol.Object3D.call(this),this.geometry=e,this.material=void 0!==t?t:new $3Dmol.MeshBasicMaterial({color:16777215*Math.random(),wireframe:!0})},$3Dmol.Mesh.prototype=Object.create($3Dmol.Object3D.prototype),$3Dmol.Mesh.prototype.clone=function(e){return void 0===e&&(e=new $3Dmol.Mesh(this.geometry,this.material)),$3Dmol.Object3D.prototype.clone.call(this,e),e},$3Dmol.Sprite=function(e){$3Dmol.Object3D.call(this),this.material=void 0!==e?e:new $3Dmol.SpriteMaterial,this.rotation3d=this.rotation,this.rotation=0},$3Dmol.Sprite.prototype=Object.create($3Dmol.Object3D.prototype),$3Dmol.Sprite.prototype.updateMatrix=function(){this.matrix.setPosition(this.position),this.rotation3d.set(0,0,this.rotation),this.matrix.setRotationFromEuler(this.rotation3d),1===this.scale.x&&1===this.scale.y||this.matrix.scale(this.scale),this.matrixWorldNeedsUpdate=!0},$3Dmol.Sprite.prototype.clone=function(e){return void 0===e&&(e=new $3Dmol.Sprite(this.material)),$3Dmol.Object3D.prototype.clone.call(this,e),e},$3Dmol.Renderer=function(e){e=e||{},this.row=e.row,this.col=e.col,this.rows=e.rows,this.cols=e.cols;var t=void 0!==e.canvas?e.canvas:document.createElement("canvas"),r=void 0!==e.precision?e.precision:"highp",o=void 0===e.alpha||e.alpha,i=void 0===e.premultipliedAlpha||e.premultipliedAlpha,n=void 0!==e.antialias&&e.antialias,a=void 0===e.stencil||e.stencil,s=void 0!==e.preserveDrawingBuffer&&e.preserveDrawingBuffer,l=void 0!==e.clearColor?new $3Dmol.Color(e.clearColor):new $3Dmol.Color(0),c=void 0!==e.clearAlpha?e.clearAlpha:0,u=new $3Dmol.MeshOutlineMaterial(e.outline),h=new $3Dmol.SphereImposterOutlineMaterial(e.outline),f=new $3Dmol.StickImposterOutlineMaterial(e.outline),d=!!e.outline;this.domElement=t,this.context=null,this.devicePixelRatio=1,t.id=e.id,this.autoClear=!0,this.autoClearColor=!0,this.autoClearDepth=!0,this.autoClearStencil=!0,this.sortObjects=!0,this.autoUpdateObjects=!0,this.autoUpdateScene=!0,this.info={memory:{programs:0,geometries:0,textures:0},render:{calls:0,vertices:0,faces:0,points:0}};var p,m=this,v=[],g=0,y=1,b=null,x=-1,w=null,D=null,C=0,A=-1,S=-1,$=-1,M=-1,_=null,T=0,z=0,E=0,L=0,F={},I=new $3Dmol.Matrix4,R=new $3Dmol.Vector3,O=new $3Dmol.Matrix4,k=new $3Dmol.Matrix4,N=new $3Dmol.Matrix4,P=new $3Dmol.Vector3,V=!0,U={ambient:[0,0,0],directional:{length:0,colors:[],positions:[]},point:{length:0,colors:[],positions:[],distances:[]},spot:{length:0,colors:[],positions:[],distances:[],directions:[],anglesCos:[],exponents:[]},hemi:{length:0,skyColors:[],groundColors:[],positions:[]}},B=new $3Dmol.SpritePlugin,j=null,G=null,H=null,q=null,W=null,Y=null;!function(){try{if(!(p=t.getContext("webgl2",{alpha:o,premultipliedAlpha:i,antialias:!1,stencil:a,preserveDrawingBuffer:s}))&&!(p=t.getContext("experimental-webgl",{alpha:o,premultipliedAlpha:i,antialias:!1,stencil:a,preserveDrawingBuffer:s}))&&!(p=t.getContext("webgl",{alpha:o,premultipliedAlpha:i,antialias:!1,stencil:a,preserveDrawingBuffer:s})))throw"Error creating WebGL context.";var e=p.getParameter(p.VERSION);y=parseInt(e[6])}catch(e){console.error(e)}}(),p.clearColor(0,0,0,1),p.clearDepth(1),p.clearStencil(0),p.enable(p.DEPTH_TEST),p.depthFunc(p.LEQUAL),p.frontFace(p.CCW),p.cullFace(p.BACK),p.enable(p.CULL_FACE),p.enable(p.BLEND),p.blendEquation(p.FUNC_ADD),p.blendFunc(p.SRC_ALPHA,p.ONE_MINUS_SRC_ALPHA),p.clearColor(l.r,l.g,l.b,c),this.context=p;var X=p.getExtension("ANGLE_instanced_arrays"),Z=p.getExtension("EXT_frag_depth"),Q=p.getExtension("OES_texture_float_linear"),K=p.getExtension("EXT_color_buffer_float");function J(e){F[e]||(p.enableVertexAttribArray(e),F[e]=!0)}function ee(e){e!==_&&(p.lineWidth(e),_=e)}this.supportedExtensions=function(){return{supportsAIA:Boolean(X),supportsImposters:Boolean(Z)||!De()}},this.getContext=function(){return p},this.getPrecision=function(){return r},this.setClearColorHex=function(e,t){l.setHex(e),c=t,p.clearColor(l.r,l.g,l.b,c)},this.enableOutline=function(e){u=new $3Dmol.MeshOutlineMaterial(e),h=new $3Dmol.SphereImposterOutlineMaterial(e),f=new $3Dmol.StickImposterOutlineMaterial(e),d=!0},this.disableOutline=function(){d=!1},this.setViewport=function(){if(null!=this.rows&&null!=this.cols&&null!=this.row&&null!=this.col){var e=t.width/this.cols,r=t.height/this.rows;T=e,z=r,p.enable(p.SCISSOR_TEST),p.scissor(e*this.col,r*this.row,e,r),p.viewport(e*this.col,r*this.row,e,r)}},this.setSize=function(e,r){if(this.devicePixelRatio=void 0!==window.devicePixelRatio?window.devicePixelRatio:1,n&&(this.devicePixelRatio*=2),null!=this.rows&&null!=this.cols&&null!=this.row&&null!=this.col){var o=e/this.cols,i=r/this.rows;t.width=e*this.devicePixelRatio,t.height=r*this.devicePixelRatio,T=o*this.devicePixelRatio,z=i*this.devicePixelRatio,t.style.width=e+"px",t.style.height=r+"px",this.setViewport()}else T=t.width=e*this.devicePixelRatio,z=t.height=r*this.devicePixelRatio,t.style.width=e+"px",t.style.height=r+"px",p.viewport(0,0,p.drawingBufferWidth,p.drawingBufferHeight);this.initFrameBuffer()},this.clear=function(e,t,r){var o=0;(void 0===e||e)&&(o|=p.COLOR_BUFFER_BIT),(void 0===t||t)&&(o|=p.DEPTH_BUFFER_BIT),(void 0===r||r)&&(o|=p.STENCIL_BUFFER_BIT),p.clear(o)},this.clearTarget=function(e,t,r){this.clear(e,t,r)},this.setMaterialFaces=function(e,t){var r=e.side===$3Dmol.DoubleSide,o=e.side===$3Dmol.BackSide;e.imposter||(o=t?!o:o),A!==r&&(r?p.disable(p.CULL_FACE):p.enable(p.CULL_FACE),A=r),S!==o&&(o?p.frontFace(p.CW):p.frontFace(p.CCW),S=o),p.cullFace(p.BACK)},this.setDepthTest=function(e){$!==e&&(e?p.enable(p.DEPTH_TEST):p.disable(p.DEPTH_TEST),$=e)},this.setDepthWrite=function(e){M!==e&&(p.depthMask(e),M=e)},this.setBlending=function(e){e?(p.enable(p.BLEND),p.blendEquationSeparate(p.FUNC_ADD,p.FUNC_ADD),p.blendFuncSeparate(p.SRC_ALPHA,p.ONE_MINUS_SRC_ALPHA,p.ONE,p.ONE_MINUS_SRC_ALPHA)):p.disable(p.BLEND),e};var te=function(e){var t=e.program;if(void 0!==t){var r,o,i;e.program=void 0;var n=!1;for(r=0,o=v.length;r<o;r++)if((i=v[r]).program===t){i.usedTimes--,0===i.usedTimes&&(n=!0);break}if(!0===n){var a=[];for(r=0,o=v.length;r<o;r++)(i=v[r]).program!==t&&a.push(i);v=a,p.deleteProgram(t),m.info.memory.programs--}}},re=function(e){var t=e.target;t.removeEventListener("dispose",re),function(e){if(e.__webglInit=void 0,void 0!==e.__webglVertexBuffer&&p.deleteBuffer(e.__webglVertexBuffer),void 0!==e.__webglColorBuffer&&p.deleteBuffer(e.__webglColorBuffer),void 0!==e.geometryGroups)for(var t=0,r=e.groups;t<r;t++){var o=e.geometryGroups[t];void 0!==o.__webglVertexBuffer&&p.deleteBuffer(o.__webglVertexBuffer),void 0!==o.__webglColorBuffer&&p.deleteBuffer(o.__webglColorBuffer),void 0!==o.__webglNormalBuffer&&p.deleteBuffer(o.__webglNormalBuffer),void 0!==o.__webglFaceBuffer&&p.deleteBuffer(o.__webglFaceBuffer),void 0!==o.__webglLineBuffer&&p.deleteBuffer(o.__webglLineBuffer)}}(t),m.info.memory.geometries--},oe=function(e){var t=e.target;t.removeEventListener("dispose",oe),function(e){if(e.image&&e.image.__webglTextureCube)p.deleteTexture(e.image.__webglTextureCube);else{if(!e.__webglInit)return;e.__webglInit=!1,p.deleteTexture(e.__webglTexture)}}(t),m.info.memory.textures--},ie=function(e){var t=e.target;t.removeEventListener("dispose",ie),te(t)};function ne(e,t){var r;return De()||t.startsWith("#version")||(t=t.replace(/gl_FragDepthEXT/g,"gl_FragDepth"),t="#version 300 es\n"+(t=(t=(t=(t=(t="fragment"==e?t.replace(/varying/g,"in"):t.replace(/varying/g,"out")).replace(/attribute/g,"in")).replace(/texture2D/g,"texture")).replace(/\/\/DEFINEFRAGCOLOR/g,"out vec4 glFragColor;")).replace(/gl_FragColor/g,"glFragColor"))),"fragment"===e?r=p.createShader(p.FRAGMENT_SHADER):"vertex"===e&&(r=p.createShader(p.VERTEX_SHADER)),p.shaderSource(r,t),p.compileShader(r),p.getShaderParameter(r,p.COMPILE_STATUS)?r:(console.error(p.getShaderInfoLog(r)),console.error("could not initialize shader"),null)}function ae(e,t,o,i){var n,a,s,l,c=[];for(n in c.push(e),c.push(t),i)c.push(n),c.push(i[n]);for(l=c.join(),n=0,a=v.length;n<a;n++){var u=v[n];if(u.code===l)return u.usedTimes++,u.program}if(De()&&i.volumetric)throw new Error("Volumetric rendering requires webgl2 which is not supported by your hardware.");s=p.createProgram();var h,f,d,y="precision "+r+" float;",b=[i.volumetric?"#version 300 es":"",y].join("\n"),x=ne("fragment",[i.volumetric?"#version 300 es":"",i.fragdepth&&De()?"#extension GL_EXT_frag_depth: enable":"",i.wireframe?"#define WIREFRAME 1":"",y].join("\n")+e),w=ne("vertex",b+t);for(f in p.attachShader(s,w),p.attachShader(s,x),p.linkProgram(s),p.getProgramParameter(s,p.LINK_STATUS)||console.error("Could not initialize shader"),s.uniforms={},s.attributes={},h=["viewMatrix","modelViewMatrix","projectionMatrix","normalMatrix"],o)h.push(f);for(d=0;d<h.length;d++){var D=h[d];s.uniforms[D]=p.getUniformLocation(s,D)}for(h=["position","normal","color","lineDistance","offset","radius"],d=0;d<h.length;d++){var C=h[d];s.attributes[C]=p.getAttribLocation(s,C)}return s.id=g++,v.push({program:s,code:l,usedTimes:1}),m.info.memory.programs=v.length,s}function se(e,t,r,o,i,n){o.needsUpdate&&(o.program&&te(o),m.initMaterial(o,t,r,i),o.needsUpdate=!1);var a=!1,s=o.program,l=s.uniforms,c=o.uniforms;if(s!=b&&(p.useProgram(s),b=s,a=!0),o.id!=x&&(x=o.id,a=!0),e!=D&&(D=e,a=!0),p.uniformMatrix4fv(l.projectionMatrix,!1,e.projectionMatrix.elements),p.uniformMatrix4fv(l.modelViewMatrix,!1,i._modelViewMatrix.elements),p.uniformMatrix3fv(l.normalMatrix,!1,i._normalMatrix.elements),a){if(c.fogColor.value=r.color,c.fogNear.value=r.near,c.fogFar.value=r.far,o.shaderID.startsWith("lambert")||"instanced"===o.shaderID||o.shaderID.endsWith("imposter"))p.uniformMatrix4fv(l.viewMatrix,!1,e.matrixWorldInverse.elements),V&&(!function(e,t){var r,o,i,n,a,s=0,l=0,c=0,u=U,h=u.directional.colors,f=u.directional.positions,d=0,p=0;for(r=0,o=t.length;r<o;r++)if(n=(i=t[r]).color,a=i.intensity,i.distance,i instanceof $3Dmol.Light){if(P.getPositionFromMatrix(i.matrixWorld),R.getPositionFromMatrix(i.target.matrixWorld),P.sub(R),P.normalize(),0===P.x&&0===P.y&&0===P.z)continue;f[p]=P.x,f[p+1]=P.y,f[p+2]=P.z,h[p]=n.r*a,h[p+1]=n.g*a,h[p+2]=n.b*a,p+=3,d++}u.ambient[0]=s,u.ambient[1]=l,u.ambient[2]=c,u.directional.length=d}(0,t),V=!1),c.directionalLightColor.value=U.directional.colors,c.directionalLightDirection.value=U.directional.positions;else if(o.shaderID.endsWith("outline"))c.outlineColor.value=o.outlineColor,c.outlineWidth.value=o.outlineWidth,c.outlinePushback.value=o.outlinePushback;else if("sphereimposter"===o.shaderID)p.uniformMatrix4fv(l.viewMatrix,!1,e.matrixWorldInverse.elements),c.directionalLightColor.value=U.directional.colors,c.directionalLightDirection.value=U.directional.positions;else if("volumetric"===o.shaderID){i._modelViewMatrix.getScale(P),O.getInverse(i._modelViewMatrix),k.getInverse(e.projectionMatrix),N.multiplyMatrices(i.material.texmatrix,O),p.uniformMatrix4fv(l.textmat,!1,N.elements),p.uniformMatrix4fv(l.projinv,!1,k.elements);let t=Math.min(Math.min(P.x,P.y),P.z);c.step.value=i.material.unit*t,c.maxdepth.value=i.material.maxdepth*t,c.transfermax.value=i.material.transfermax,c.transfermin.value=i.material.transfermin,c.subsamples.value=i.material.subsamples,n.setTexture(i.material.transferfn,4,!1),n.setTexture(i.material.map,3,!0),p.activeTexture(p.TEXTURE5),p.bindTexture(p.TEXTURE_2D,Y)}c.opacity.value=o.opacity,function(e,t){var r,o,i,n;for(r in t)e[r]&&(o=t[r].type,i=t[r].value,n=e[r],"f"===o?p.uniform1f(n,i):"i"===o?p.uniform1i(n,i):"fv"===o?p.uniform3fv(n,i):"c"===o?p.uniform3f(n,i.r,i.g,i.b):"f4"===o&&p.uniform4f(n,i[0],i[1],i[2],i[3]))}(l,c)}return s}function le(e,t,r,o,i,n,a){var s,l,c,v,g,y,b,x;t?(g=e.length-1,y=-1,b=-1):(g=0,y=e.length,b=1);for(var w=g;w!==y;w+=b)if((s=e[w]).render){if(l=s.object,c=s.buffer,!(v=s[r]))continue;a&&m.setBlending(!0),m.setDepthTest(v.depthTest),m.setDepthWrite(v.depthWrite),x=v.polygonOffset,v.polygonOffsetFactor,v.polygonOffsetUnits,null!==x&&(x?p.enable(p.POLYGON_OFFSET_FILL):p.disable(p.POLYGON_OFFSET_FILL));var D=l._modelViewMatrix.isReflected();m.setMaterialFaces(v,D),m.renderBuffer(o,i,n,v,c,l),(d||v.outline)&&("sphereimposter"==v.shaderID?m.renderBuffer(o,i,n,h,c,l):"stickimposter"==v.shaderID?m.renderBuffer(o,i,n,f,c,l):v.wireframe||"basic"===v.shaderID||0===v.opacity||m.renderBuffer(o,i,n,u,c,l))}}function ce(e,t,r){w=-1,b=null,D=null,-1,M=-1,$=-1,A=-1,x=-1,S=-1,V=!0,B.render(e,t,E,L,r),w=-1,b=null,D=null,-1,M=-1,$=-1,A=-1,x=-1,S=-1}function ue(e,t){var r,o,i,n;if(!e.__webglInit&&(e.__webglInit=!0,e._modelViewMatrix=new $3Dmol.Matrix4,e._normalMatrix=new $3Dmol.Matrix3,void 0!==e.geometry&&void 0===e.geometry.__webglInit&&(e.geometry.__webglInit=!0,e.geometry.addEventListener("dispose",re)),e instanceof $3Dmol.Mesh||e instanceof $3Dmol.Line))for(i=e.geometry,e.material,r=0,o=i.geometryGroups.length;r<o;r++)(n=i.geometryGroups[r]).id=C++,n.__webglVertexBuffer||(e instanceof $3Dmol.Mesh?(me(n),i.elementsNeedUpdate=!0,i.normalsNeedUpdate=!0):e instanceof $3Dmol.Line&&ve(n),i.verticesNeedUpdate=!0,i.colorsNeedUpdate=!0);if(!e.__webglActive){if(e instanceof $3Dmol.Mesh||e instanceof $3Dmol.Line)for(r=0,o=(i=e.geometry).geometryGroups.length;r<o;r++)n=i.geometryGroups[r],ge(t.__webglObjects,n,e);else e instanceof $3Dmol.Sprite&&t.__webglSprites.push(e);e.__webglActive=!0}}function he(e){var t,r=e.geometry;if(e instanceof $3Dmol.Mesh||e instanceof $3Dmol.Line){for(var o=0,i=r.geometryGroups.length;o<i;o++)t=r.geometryGroups[o],(r.verticesNeedUpdate||r.elementsNeedUpdate||r.colorsNeedUpdate||r.normalsNeedUpdate)&&pe(t,p.STATIC_DRAW);r.verticesNeedUpdate=!1,r.elementsNeedUpdate=!1,r.normalsNeedUpdate=!1,r.colorsNeedUpdate=!1,r.buffersNeedUpdate=!1}}function fe(e,t){e instanceof $3Dmol.Mesh||e instanceof $3Dmol.Line?function(e,t){for(var r=e.length-1;r>=0;--r)e[r].object===t&&e.splice(r,1)}(t.__webglObjects,e):e instanceof $3Dmol.Sprite&&function(e,t){for(var r=e.length-1;r>=0;--r)e[r]===t&&e.splice(r,1)}(t.__webglSprites,e),e.__webglActive=!1}function de(e){var t=e.object.material;if(t.volumetric)e.opaque=null,e.transparent=null,e.volumetric=t;else if(t.transparent){if(e.opaque=null,e.volumetric=null,e.transparent=t,!t.wireframe){var r=t.clone();r.opacity=0,e.blank=r}}else e.opaque=t,e.transparent=null,e.volumetric=null}function pe(e,t){var r=e.vertexArray,o=e.colorArray;if(void 0!==e.__webglOffsetBuffer?(p.bindBuffer(p.ARRAY_BUFFER,e.__webglOffsetBuffer),p.bufferData(p.ARRAY_BUFFER,r,t)):(p.bindBuffer(p.ARRAY_BUFFER,e.__webglVertexBuffer),p.bufferData(p.ARRAY_BUFFER,r,t)),p.bindBuffer(p.ARRAY_BUFFER,e.__webglColorBuffer),p.bufferData(p.ARRAY_BUFFER,o,t),e.normalArray&&void 0!==e.__webglNormalBuffer){var i=e.normalArray;p.bindBuffer(p.ARRAY_BUFFER,e.__webglNormalBuffer),p.bufferData(p.ARRAY_BUFFER,i,t)}if(e.radiusArray&&void 0!==e.__webglRadiusBuffer&&(p.bindBuffer(p.ARRAY_BUFFER,e.__webglRadiusBuffer),p.bufferData(p.ARRAY_BUFFER,e.radiusArray,t)),e.faceArray&&void 0!==e.__webglFaceBuffer){var n=e.faceArray;p.bindBuffer(p.ELEMENT_ARRAY_BUFFER,e.__webglFaceBuffer),p.bufferData(p.ELEMENT_ARRAY_BUFFER,n,t)}if(e.lineArray&&void 0!==e.__webglLineBuffer){var a=e.lineArray;p.bindBuffer(p.ELEMENT_ARRAY_BUFFER,e.__webglLineBuffer),p.bufferData(p.ELEMENT_ARRAY_BUFFER,a,t)}}function me(e){e.radiusArray&&(e.__webglRadiusBuffer=p.createBuffer()),e.useOffset&&(e.__webglOffsetBuffer=p.createBuffer()),e.__webglVertexBuffer=p.createBuffer(),e.__webglNormalBuffer=p.createBuffer(),e.__webglColorBuffer=p.createBuffer(),e.__webglFaceBuffer=p.createBuffer(),e.__webglLineBuffer=p.createBuffer(),m.info.memory.geometries++}function ve(e){e.__webglVertexBuffer=p.createBuffer(),e.__webglColorBuffer=p.createBuffer(),m.info.memory.geometries++}function ge(e,t,r){e.push({buffer:t,object:r,opaque:null,transparent:null})}function ye(e,t){e._modelViewMatrix.multiplyMatrices(t.matrixWorldInverse,e.matrixWorld),e._normalMatrix.getInverse(e._modelViewMatrix),e._normalMatrix.transpose()}function be(){return p.LINEAR}function xe(e,t){e==p.TEXTURE_2D?(p.texParameteri(e,p.TEXTURE_WRAP_S,p.CLAMP_TO_EDGE),p.texParameteri(e,p.TEXTURE_WRAP_T,p.CLAMP_TO_EDGE),p.texParameteri(e,p.TEXTURE_MAG_FILTER,be(t.magFilter)),p.texParameteri(e,p.TEXTURE_MIN_FILTER,be(t.minFilter))):(p.texParameteri(e,p.TEXTURE_WRAP_S,p.CLAMP_TO_EDGE),p.texParameteri(e,p.TEXTURE_WRAP_T,p.CLAMP_TO_EDGE),p.texParameteri(e,p.TEXTURE_WRAP_R,p.CLAMP_TO_EDGE),K&&Q?(p.texParameteri(e,p.TEXTURE_MAG_FILTER,p.LINEAR),p.texParameteri(e,p.TEXTURE_MIN_FILTER,p.LINEAR)):(p.texParameteri(e,p.TEXTURE_MAG_FILTER,p.NEAREST),p.texParameteri(e,p.TEXTURE_MIN_FILTER,p.NEAREST)))}function we(e){return e===$3Dmol.UnsignedByteType?p.UNSIGNED_BYTE:e===$3Dmol.RGBAFormat?p.RGBA:e===$3Dmol.NearestFilter?p.NEAREST:0}function De(){return 1==y}this.initMaterial=function(e){var t,r;if(e.addEventListener("dispose",ie),r=e.shaderID){var o=$3Dmol.ShaderLib[r];e.vertexShader=o.vertexShader,e.fragmentShader=o.fragmentShader,e.uniforms=$3Dmol.ShaderUtils.clone(o.uniforms)}t={wireframe:e.wireframe,fragdepth:e.imposter,volumetric:e.volumetric},e.program=ae(e.fragmentShader,e.vertexShader,e.uniforms,t)},this.renderBuffer=function(e,t,r,o,i,n){if(o.visible){var a,s;s=(a=se(e,t,r,o,n,this)).attributes;var l,c,u=!1,h=o.wireframe?1:0,f=16777215*i.id+2*a.id+h;if(f!==w&&(w=f,u=!0),u&&(!function(){for(let e in F)F[e]&&(p.disableVertexAttribArray(e),F[e]=!1)}(),s.position>=0&&(p.bindBuffer(p.ARRAY_BUFFER,i.__webglVertexBuffer),J(s.position),p.vertexAttribPointer(s.position,3,p.FLOAT,!1,0,0)),s.color>=0&&(p.bindBuffer(p.ARRAY_BUFFER,i.__webglColorBuffer),J(s.color),p.vertexAttribPointer(s.color,3,p.FLOAT,!1,0,0)),s.normal>=0&&(p.bindBuffer(p.ARRAY_BUFFER,i.__webglNormalBuffer),J(s.normal),p.vertexAttribPointer(s.normal,3,p.FLOAT,!1,0,0)),s.offset>=0&&(p.bindBuffer(p.ARRAY_BUFFER,i.__webglOffsetBuffer),J(s.offset),p.vertexAttribPointer(s.offset,3,p.FLOAT,!1,0,0)),s.radius>=0&&(p.bindBuffer(p.ARRAY_BUFFER,i.__webglRadiusBuffer),J(s.radius),p.vertexAttribPointer(s.radius,1,p.FLOAT,!1,0,0))),n instanceof $3Dmol.Mesh){if("instanced"===o.shaderID){var d=o.sphere.geometryGroups[0];u&&(p.bindBuffer(p.ARRAY_BUFFER,i.__webglVertexBuffer),p.bufferData(p.ARRAY_BUFFER,d.vertexArray,p.STATIC_DRAW),p.bindBuffer(p.ARRAY_BUFFER,i.__webglNormalBuffer),p.bufferData(p.ARRAY_BUFFER,d.normalArray,p.STATIC_DRAW),p.bindBuffer(p.ELEMENT_ARRAY_BUFFER,i.__webglFaceBuffer),p.bufferData(p.ELEMENT_ARRAY_BUFFER,d.faceArray,p.STATIC_DRAW)),l=d.faceidx,X.vertexAttribDivisorANGLE(s.offset,1),X.vertexAttribDivisorANGLE(s.radius,1),X.vertexAttribDivisorANGLE(s.color,1),X.drawElementsInstancedANGLE(p.TRIANGLES,l,p.UNSIGNED_SHORT,0,i.radiusArray.length),X.vertexAttribDivisorANGLE(s.offset,0),X.vertexAttribDivisorANGLE(s.radius,0),X.vertexAttribDivisorANGLE(s.color,0)}else o.wireframe?(c=i.lineidx,ee(o.wireframeLinewidth),u&&p.bindBuffer(p.ELEMENT_ARRAY_BUFFER,i.__webglLineBuffer),p.drawElements(p.LINES,c,p.UNSIGNED_SHORT,0)):(l=i.faceidx,u&&p.bindBuffer(p.ELEMENT_ARRAY_BUFFER,i.__webglFaceBuffer),p.drawElements(p.TRIANGLES,l,p.UNSIGNED_SHORT,0));m.info.render.calls++,m.info.render.vertices+=l,m.info.render.faces+=l/3}else n instanceof $3Dmol.Line&&(c=i.vertices,ee(o.linewidth),p.drawArrays(p.LINES,0,c),m.info.render.calls++)}},this.render=function(e,t,r){if(t instanceof $3Dmol.Camera!=!1){var o,i,n,a,s,u=e.__lights,h=e.fog;x=-1,V=!0,this.autoUpdateScene&&e.updateMatrixWorld(),void 0===t.parent&&t.updateMatrixWorld(),t.matrixWorldInverse.getInverse(t.matrixWorld),I.multiplyMatrices(t.projectionMatrix,t.matrixWorldInverse),this.autoUpdateObjects&&this.initWebGLObjects(e),m.info.render.calls=0,m.info.render.vertices=0,m.info.render.faces=0,m.info.render.points=0,E=T,L=z,this.setViewport(),this.setFrameBuffer(),(this.autoClear||r)&&(p.clearColor(l.r,l.g,l.b,c),this.clear(this.autoClearColor,this.autoClearDepth,this.autoClearStencil));var f=!1;for(o=0,i=(s=e.__webglObjects).length;o<i;o++)a=(n=s[o]).object,n.render=!1,a.visible&&(ye(a,t),de(n),n.render=!0,n.volumetric&&(f=!0));this.setBlending(!1),le(e.__webglObjects,!0,"opaque",t,u,h,!1),ce(e,t,!1),le(e.__webglObjects,!0,"blank",t,u,h,!0),le(e.__webglObjects,!1,"transparent",t,u,h,!0),f&&q&&(this.reinitFrameBuffer(),le(e.__webglObjects,!1,"volumetric",t,u,h,!0)),this.renderFrameBuffertoScreen(),this.setDepthTest(!0),this.setDepthWrite(!0),ce(e,t,!0)}else console.error("$3Dmol.Renderer.render: camera is not an instance of $3Dmol.Camera.")},this.reinitFrameBuffer=function(){De()||(q=p.createFramebuffer(),p.bindFramebuffer(p.FRAMEBUFFER,q),p.framebufferTexture2D(p.FRAMEBUFFER,p.COLOR_ATTACHMENT0,p.TEXTURE_2D,W,0))},this.setFrameBuffer=function(){if(De()||!q)return;let e=T,t=z;p.enable(p.SCISSOR_TEST),p.scissor(0,0,e,t),p.viewport(0,0,e,t),p.bindTexture(p.TEXTURE_2D,W),p.texImage2D(p.TEXTURE_2D,0,p.RGBA,e,t,0,p.RGBA,p.UNSIGNED_BYTE,null),p.texParameteri(p.TEXTURE_2D,p.TEXTURE_MIN_FILTER,p.LINEAR),p.texParameteri(p.TEXTURE_2D,p.TEXTURE_MAG_FILTER,p.LINEAR),p.texParameteri(p.TEXTURE_2D,p.TEXTURE_WRAP_S,p.CLAMP_TO_EDGE),p.texParameteri(p.TEXTURE_2D,p.TEXTURE_WRAP_T,p.CLAMP_TO_EDGE),p.bindTexture(p.TEXTURE_2D,Y),p.texImage2D(p.TEXTURE_2D,0,p.DEPTH_COMPONENT32F,e,t,0,p.DEPTH_COMPONENT,p.FLOAT,null),p.texParameteri(p.TEXTURE_2D,p.TEXTURE_MIN_FILTER,p.NEAREST),p.texParameteri(p.TEXTURE_2D,p.TEXTURE_MAG_FILTER,p.NEAREST),p.texParameteri(p.TEXTURE_2D,p.TEXTURE_WRAP_S,p.CLAMP_TO_EDGE),p.texParameteri(p.TEXTURE_2D,p.TEXTURE_WRAP_T,p.CLAMP_TO_EDGE),p.bindFramebuffer(p.FRAMEBUFFER,q),p.framebufferTexture2D(p.FRAMEBUFFER,p.COLOR_ATTACHMENT0,p.TEXTURE_2D,W,0),p.framebufferTexture2D(p.FRAMEBUFFER,p.DEPTH_ATTACHMENT,p.TEXTURE_2D,Y,0)},this.initFrameBuffer=function(){if(De())return;let e=T,t=z;p.enable(p.SCISSOR_TEST),p.scissor(0,0,e,t),p.viewport(0,0,e,t),W=p.createTexture(),Y=p.createTexture(),q=p.createFramebuffer();var r=$3Dmol.ShaderLib.screen;j=ae(r.fragmentShader,r.vertexShader,r.uniforms,{}),G=p.getAttribLocation(j,"vertexPosition");H=p.createBuffer(),p.bindBuffer(p.ARRAY_BUFFER,H),p.bufferData(p.ARRAY_BUFFER,new Float32Array([1,1,-1,1,-1,-1,-1,-1,1,-1,1,1]),p.STATIC_DRAW)},this.renderFrameBuffertoScreen=function(){De()||null===q||(this.setViewport(),p.bindFramebuffer(p.FRAMEBUFFER,null),p.clear(p.COLOR_BUFFER_BIT|p.DEPTH_BUFFER_BIT),p.frontFace(p.CCW),p.cullFace(p.BACK),p.useProgram(j),b=j,this.setDepthTest(-1),this.setDepthWrite(-1),p.bindBuffer(p.ARRAY_BUFFER,H),p.enableVertexAttribArray(G),p.vertexAttribPointer(G,2,p.FLOAT,!1,0,0),p.activeTexture(p.TEXTURE0),p.bindTexture(p.TEXTURE_2D,W),p.drawArrays(p.TRIANGLES,0,6))},this.initWebGLObjects=function(e){if(e.__webglObjects||(e.__webglObjects=[],e.__webglObjectsImmediate=[],e.__webglSprites=[],e.__webglFlares=[]),e.__objectsAdded.length){for(;e.__objectsAdded.length;)ue(e.__objectsAdded[0],e),e.__objectsAdded.splice(0,1);w=-1}for(;e.__objectsRemoved.length;)fe(e.__objectsRemoved[0],e),e.__objectsRemoved.splice(0,1);for(var t=0,r=e.__webglObjects.length;t<r;t++)he(e.__webglObjects[t].object)},this.getYRatio=function(){return void 0!==this.rows&&void 0!==this.row?this.rows:1},this.getXRatio=function(){return void 0!==this.cols&&void 0!==this.col?this.cols:1},this.getAspect=function(e,r){null!=e&&null!=r||(e=t.width,r=t.height);var o=e/r;null!=this.rows&&null!=this.cols&&null!=this.row&&null!=this.col&&(o=e/this.cols/(r/this.rows));return o},this.setTexture=function(e,t,r){if(e.needsUpdate){e.__webglInit||(e.__webglInit=!0,e.addEventListener("dispose",oe),e.__webglTexture=p.createTexture(),m.info.memory.textures++),p.activeTexture(p.TEXTURE0+t);var o=r?p.TEXTURE_3D:p.TEXTURE_2D;p.bindTexture(o,e.__webglTexture),p.pixelStorei(p.UNPACK_FLIP_Y_WEBGL,e.flipY),p.pixelStorei(p.UNPACK_PREMULTIPLY_ALPHA_WEBGL,e.premultiplyAlpha),p.pixelStorei(p.UNPACK_ALIGNMENT,e.unpackAlignment),p.pixelStorei(p.PACK_ALIGNMENT,e.unpackAlignment);var i=we(e.format),n=we(e.type);if(r)xe(p.TEXTURE_3D,e),p.texImage3D(p.TEXTURE_3D,0,p.R32F,e.image.size.z,e.image.size.y,e.image.size.x,0,p.RED,p.FLOAT,e.image.data);else{var a=e.image,s=a.width,l=a.height;void 0===s&&(s=a.length,i==p.RGBA&&(s/=4),l=1),xe(p.TEXTURE_2D,e),De()?p.texImage2D(p.TEXTURE_2D,0,i,i,n,e.image):p.texImage2D(p.TEXTURE_2D,0,i,s,l,0,i,n,e.image)}e.needsUpdate=!1,e.onUpdate&&e.onUpdate()}else p.activeTexture(p.TEXTURE0+t),r?p.bindTexture(p.TEXTURE_3D,e.__webglTexture):p.bindTexture(p.TEXTURE_2D,e.__webglTexture)},this.supportsVolumetric=function(){return!De()},B.init(this)},$3Dmol.Scene=function(){$3Dmol.Object3D.call(this),this.fog=null,this.overrideMaterial=null,this.matrixAutoUpdate=!1,this.__objects=[],this.__lights=[],this.__objectsAdded=[],this.__objectsRemoved=[]},$3Dmol.Scene.prototype=Object.create($3Dmol.Object3D.prototype),$3Dmol.Scene.prototype.__addObject=function(e){if(e instanceof $3Dmol.Light)-1===this.__lights.indexOf(e)&&this.__lights.push(e),e.target&&void 0===e.target.parent&&this.add(e.target);else if(-1===this.__objects.indexOf(e)){this.__objects.push(e),this.__objectsAdded.push(e);var t=this.__objectsRemoved.indexOf(e);-1!==t&&this.__objectsRemoved.splice(t,1)}for(var r=0;r<e.children.length;r++)this.__addObject(e.children[r])},$3Dmol.Scene.prototype.__removeObject=function(e){var t;e instanceof $3Dmol.Light?-1!==(t=this.__lights.indexOf(e))&&this.__lights.splice(t,1):-1!==(t=this.__objects.indexOf(e))&&(this.__objects.splice(t,1),this.__objectsRemoved.push(e),-1!==this.__objectsAdded.indexOf(e)&&this.__objectsAdded.splice(t,1));for(var r=0;r<e.children.length;r++)this.__removeObject(e.children[r])},$3Dmol.Fog=function(e,t,r){this.name="",this.color=new $3Dmol.Color(e),this.near=void 0!==t?t:1,this.far=void 0!==r?r:1e3},$3Dmol.Fog.prototype.clone=function(){return new $3Dmol.Fog(this.color.getHex(),this.near,this.far)},$3Dmol.ShaderUtils={clone:function(e){var t,r={};for(t in e){r[t]={},r[t].type=e[t].type;var o=e[t].value;o instanceof $3Dmol.Color?r[t].value=o.clone():"number"==typeof o?r[t].value=o:o instanceof Array?r[t].value=[]:console.error("Error copying shader uniforms from ShaderLib: unknown type for uniform")}return r},stickimposterFragmentShader:["uniform float opacity;","uniform mat4 projectionMatrix;","uniform vec3 fogColor;","uniform float fogNear;","uniform float fogFar;","varying vec3 vLight;","varying vec3 vColor;","varying vec3 cposition;","varying vec3 p1;","varying vec3 p2;","varying float r;","//DEFINEFRAGCOLOR","void main() {","    vec3 color = abs(vColor);","    vec3 pos = cposition;","    vec3 p = pos;","    vec3 v = normalize(pos);","    vec3 pa = p1;","    vec3 va = normalize(p2-p1);","    vec3 tmp1 = v-(dot(v,va)*va);","    vec3 deltap = p-pa;","    float A = dot(tmp1,tmp1);","    if(A == 0.0) discard;","    vec3 tmp2 = deltap-(dot(deltap,va)*va);","    float B = 2.0*dot(tmp1, tmp2);","    float C = dot(tmp2,tmp2)-r*r;","    float det = (B*B) - (4.0*A*C);","    if(det < 0.0) discard;","    float sqrtDet = sqrt(det);","    float posT = (-B+sqrtDet)/(2.0*A);","    float negT = (-B-sqrtDet)/(2.0*A);","    float intersectionT = min(posT,negT);","    vec3 qi = p+v*intersectionT;","    float dotp1 = dot(va,qi-p1);","    float dotp2 = dot(va,qi-p2);","    vec3 norm;","    if( dotp1 < 0.0 || dotp2 > 0.0) {","       vec3 cp;","       if( dotp1 < 0.0) {        cp = p1;","       } else {","          cp = p2;","       }","       vec3 diff = p-cp;","       A = dot(v,v);","       B = dot(diff,v)*2.0;","       C = dot(diff,diff)-r*r;","       det = (B*B) - (4.0*C);","       if(det < 0.0) discard;","       sqrtDet = sqrt(det);","       posT = (-B+sqrtDet)/(2.0);","       negT = (-B-sqrtDet)/(2.0);","       float t = min(posT,negT);","       qi = p+v*t;","       norm = normalize(qi-cp);","    } else {","       norm = normalize(qi-(dotp1*va + p1));","    }","    vec4 clipPos = projectionMatrix * vec4(qi, 1.0);","    float ndcDepth = clipPos.z / clipPos.w;","    float depth = ((gl_DepthRange.diff * ndcDepth) + gl_DepthRange.near + gl_DepthRange.far) / 2.0;","    gl_FragDepthEXT = depth;"].join("\n")},$3Dmol.ShaderLib={basic:{fragmentShader:["uniform mat4 viewMatrix;","uniform float opacity;","uniform vec3 fogColor;","uniform float fogNear;","uniform float fogFar;","varying vec3 vColor;","//DEFINEFRAGCOLOR","void main() {","    gl_FragColor = vec4( vColor, opacity );","    float depth = gl_FragCoord.z / gl_FragCoord.w;","    float fogFactor = smoothstep( fogNear, fogFar, depth );","    gl_FragColor = mix( gl_FragColor, vec4( fogColor, gl_FragColor.w ), fogFactor );","}"].join("\n"),vertexShader:["uniform mat4 modelViewMatrix;","uniform mat4 projectionMatrix;","uniform mat4 viewMatrix;","uniform mat3 normalMatrix;","attribute vec3 position;","attribute vec3 color;","varying vec3 vColor;","void main() {","    vColor = color;","    vec4 mvPosition = modelViewMatrix * vec4( position, 1.0 );","    gl_Position = projectionMatrix * mvPosition;","}"].join("\n"),uniforms:{opacity:{type:"f",value:1},fogColor:{type:"c",value:new $3Dmol.Color(1,1,1)},fogNear:{type:"f",value:1},fogFar:{type:"f",value:2e3}}},sphereimposter:{fragmentShader:["uniform mat4 viewMatrix;","uniform float opacity;","uniform mat4 projectionMatrix;","uniform vec3 fogColor;","uniform float fogNear;","uniform float fogFar;","uniform float uDepth;","uniform vec3 directionalLightColor[ 1 ];","varying vec3 vColor;","varying vec2 mapping;","varying float rval;","varying vec3 vLight;","varying vec3 center;","//DEFINEFRAGCOLOR","void main() {","    float lensqr = dot(mapping,mapping);","    float rsqr = rval*rval;","    if(lensqr > rsqr)","       discard;","    float z = sqrt(rsqr-lensqr);","    vec3 cameraPos = center+ vec3(mapping.x,mapping.y,z);","    vec4 clipPos = projectionMatrix * vec4(cameraPos, 1.0);","    float ndcDepth = clipPos.z / clipPos.w;","    gl_FragDepthEXT = ((gl_DepthRange.diff * ndcDepth) + gl_DepthRange.near + gl_DepthRange.far) / 2.0;","    vec3 norm = normalize(vec3(mapping.x,mapping.y,z));","    float dotProduct = dot( norm, vLight );","    vec3 directionalLightWeighting = vec3( max( dotProduct, 0.0 ) );","    vec3 vLight = directionalLightColor[ 0 ] * directionalLightWeighting;","    gl_FragColor = vec4(vLight*vColor, opacity*opacity );","    float fogFactor = smoothstep( fogNear, fogFar, gl_FragDepthEXT/gl_FragCoord.w );","    gl_FragColor = mix( gl_FragColor, vec4( fogColor, gl_FragColor.w ), fogFactor );","}"].join("\n"),vertexShader:["uniform mat4 modelViewMatrix;","uniform mat4 projectionMatrix;","uniform mat4 viewMatrix;","uniform mat3 normalMatrix;","uniform vec3 directionalLightColor[ 1 ];","uniform vec3 directionalLightDirection[ 1 ];","attribute vec3 position;","attribute vec3 normal;","attribute vec3 color;","varying vec2 mapping;","varying vec3 vColor;","varying float rval;","varying vec3 vLight;","varying vec3 center;","void main() {","    vColor = color;","    vec4 mvPosition = modelViewMatrix * vec4( position, 1.0 );","    center = mvPosition.xyz;","    vec4 projPosition = projectionMatrix * mvPosition;","    vec4 adjust = projectionMatrix* vec4(normal,0.0); adjust.z = 0.0; adjust.w = 0.0;","    vec4 lDirection = viewMatrix * vec4( directionalLightDirection[ 0 ], 0.0 );","    vLight = normalize( lDirection.xyz );","    mapping = normal.xy;","    rval = abs(normal.x);","    gl_Position = projPosition+adjust;","}"].join("\n"),uniforms:{opacity:{type:"f",value:1},fogColor:{type:"c",value:new $3Dmol.Color(1,1,1)},fogNear:{type:"f",value:1},fogFar:{type:"f",value:2e3},directionalLightColor:{type:"fv",value:[]},directionalLightDirection:{type:"fv",value:[]}}},lambert:{fragmentShader:["uniform mat4 viewMatrix;","uniform float opacity;","uniform vec3 fogColor;","uniform float fogNear;","uniform float fogFar;","varying vec3 vLightFront;","varying vec3 vColor;","//DEFINEFRAGCOLOR","void main() {","    gl_FragColor = vec4( vec3 ( 1.0 ), opacity );","    #ifndef WIREFRAME","    gl_FragColor.xyz *= vLightFront;","    #endif","    gl_FragColor = gl_FragColor * vec4( vColor, opacity );","    float depth = gl_FragCoord.z / gl_FragCoord.w;","    float fogFactor = smoothstep( fogNear, fogFar, depth );","    gl_FragColor = mix( gl_FragColor, vec4( fogColor, gl_FragColor.w ), fogFactor );","}"].join("\n"),vertexShader:["uniform mat4 modelViewMatrix;","uniform mat4 projectionMatrix;","uniform mat4 viewMatrix;","uniform mat3 normalMatrix;","uniform vec3 directionalLightColor[ 1 ];","uniform vec3 directionalLightDirection[ 1 ];","attribute vec3 position;","attribute vec3 normal;","attribute vec3 color;","varying vec3 vColor;","varying vec3 vLightFront;","void main() {","    vColor = color;","    vec3 objectNormal = normal;","    vec3 transformedNormal = normalMatrix * objectNormal;","    vec4 mvPosition = modelViewMatrix * vec4( position, 1.0 );","    vLightFront = vec3( 0.0 );","    transformedNormal = normalize( transformedNormal );","    vec4 lDirection = viewMatrix * vec4( directionalLightDirection[ 0 ], 0.0 );","    vec3 dirVector = normalize( lDirection.xyz );","    float dotProduct = dot( transformedNormal, dirVector );","    vec3 directionalLightWeighting = vec3( max( dotProduct, 0.0 ) );","    vLightFront += directionalLightColor[ 0 ] * directionalLightWeighting;","    gl_Position = projectionMatrix * mvPosition;","}"].join("\n"),uniforms:{opacity:{type:"f",value:1},fogColor:{type:"c",value:new $3Dmol.Color(1,1,1)},fogNear:{type:"f",value:1},fogFar:{type:"f",value:2e3},directionalLightColor:{type:"fv",value:[]},directionalLightDirection:{type:"fv",value:[]}}},instanced:{fragmentShader:["uniform mat4 viewMatrix;","uniform float opacity;","uniform vec3 fogColor;","uniform float fogNear;","uniform float fogFar;","varying vec3 vLightFront;","varying vec3 vColor;","//DEFINEFRAGCOLOR","void main() {","    gl_FragColor = vec4( vec3 ( 1.0 ), opacity );","    #ifndef WIREFRAME","    gl_FragColor.xyz *= vLightFront;","    #endif","    gl_FragColor = gl_FragColor * vec4( vColor, opacity );","    float depth = gl_FragCoord.z / gl_FragCoord.w;","    float fogFactor = smoothstep( fogNear, fogFar, depth );","    gl_FragColor = mix( gl_FragColor, vec4( fogColor, gl_FragColor.w ), fogFactor );","}"].join("\n"),vertexShader:["uniform mat4 modelViewMatrix;","uniform mat4 projectionMatrix;","uniform mat4 viewMatrix;","uniform mat3 normalMatrix;","uniform vec3 directionalLightColor[ 1 ];","uniform vec3 directionalLightDirection[ 1 ];","attribute vec3 offset;","attribute vec3 position;","attribute vec3 normal;","attribute vec3 color;","attribute float radius;","varying vec3 vColor;","varying vec3 vLightFront;","void main() {","    vColor = color;","    vec3 objectNormal = normal;","    vec3 transformedNormal = normalMatrix * objectNormal;","    vec4 mvPosition = modelViewMatrix * vec4( position * radius + offset, 1.0 );","    vLightFront = vec3( 0.0 );","    transformedNormal = normalize( transformedNormal );","    vec4 lDirection = viewMatrix * vec4( directionalLightDirection[ 0 ], 0.0 );","    vec3 dirVector = normalize( lDirection.xyz );","    float dotProduct = dot( transformedNormal, dirVector );","    vec3 directionalLightWeighting = vec3( max( dotProduct, 0.0 ) );","    vLightFront += directionalLightColor[ 0 ] * directionalLightWeighting;","    gl_Position = projectionMatrix * mvPosition;","}"].join("\n"),uniforms:{opacity:{type:"f",value:1},fogColor:{type:"c",value:new $3Dmol.Color(1,1,1)},fogNear:{type:"f",value:1},fogFar:{type:"f",value:2e3},directionalLightColor:{type:"fv",value:[]},directionalLightDirection:{type:"fv",value:[]}}},outline:{fragmentShader:["uniform float opacity;","uniform vec3 outlineColor;","uniform vec3 fogColor;","uniform float fogNear;","uniform float fogFar;","//DEFINEFRAGCOLOR","void main() {","    gl_FragColor = vec4( outlineColor, 1 );","}"].join("\n"),vertexShader:["uniform mat4 modelViewMatrix;","uniform mat4 projectionMatrix;","uniform float outlineWidth;","uniform float outlinePushback;","attribute vec3 position;","attribute vec3 normal;","attribute vec3 color;","void main() {","    vec4 norm = modelViewMatrix*vec4(normalize(normal),0.0);","    vec4 mvPosition = modelViewMatrix * vec4( position, 1.0 );","    mvPosition.xy += norm.xy*outlineWidth;","    gl_Position = projectionMatrix * mvPosition;","    mvPosition.z -= outlinePushback;","    vec4 pushpos = projectionMatrix*mvPosition;","    gl_Position.z = gl_Position.w*pushpos.z/pushpos.w;","}"].join("\n"),uniforms:{opacity:{type:"f",value:1},outlineColor:{type:"c",value:new $3Dmol.Color(0,0,0)},fogColor:{type:"c",value:new $3Dmol.Color(1,1,1)},fogNear:{type:"f",value:1},fogFar:{type:"f",value:2e3},outlineWidth:{type:"f",value:.1},outlinePushback:{type:"f",value:1}}},sphereimposteroutline:{fragmentShader:["uniform float opacity;","uniform vec3 outlineColor;","uniform vec3 fogColor;","uniform float fogNear;","uniform float fogFar;","uniform mat4 projectionMatrix;","varying vec2 mapping;","varying float rval;","varying vec3 center;","uniform float outlinePushback;","//DEFINEFRAGCOLOR","void main() {","    float lensqr = dot(mapping,mapping);","    float rsqr = rval*rval;","    if(lensqr > rsqr)","       discard;","    float z = sqrt(rsqr-lensqr);","    vec3 cameraPos = center+ vec3(mapping.x,mapping.y,z-outlinePushback);","    vec4 clipPos = projectionMatrix * vec4(cameraPos, 1.0);","    float ndcDepth = clipPos.z / clipPos.w;","    gl_FragDepthEXT = ((gl_DepthRange.diff * ndcDepth) + gl_DepthRange.near + gl_DepthRange.far) / 2.0;","    gl_FragColor = vec4(outlineColor, 1 );","}"].join("\n"),vertexShader:["uniform mat4 modelViewMatrix;","uniform mat4 projectionMatrix;","uniform float outlineWidth;","uniform float outlinePushback;","attribute vec3 position;","attribute vec3 normal;","attribute vec3 color;","varying vec2 mapping;","varying float rval;","varying vec3 center;","void main() {","    vec4 mvPosition = modelViewMatrix * vec4( position, 1.0 );","    center = mvPosition.xyz;","    vec4 projPosition = projectionMatrix * mvPosition;","    vec2 norm = normal.xy + vec2(sign(normal.x)*outlineWidth,sign(normal.y)*outlineWidth);","    vec4 adjust = projectionMatrix* vec4(norm,normal.z,0.0); adjust.z = 0.0; adjust.w = 0.0;","    mapping = norm.xy;","    rval = abs(norm.x);","    gl_Position = projPosition+adjust;","}"].join("\n"),uniforms:{opacity:{type:"f",value:1},outlineColor:{type:"c",value:new $3Dmol.Color(0,0,0)},fogColor:{type:"c",value:new $3Dmol.Color(1,1,1)},fogNear:{type:"f",value:1},fogFar:{type:"f",value:2e3},outlineWidth:{type:"f",value:.1},outlinePushback:{type:"f",value:1}}},stickimposter:{fragmentShader:[$3Dmol.ShaderUtils.stickimposterFragmentShader,"    float dotProduct = dot( norm, vLight );","    vec3 light = vec3( max( dotProduct, 0.0 ) );","    gl_FragColor = vec4(light*color, opacity*opacity );","    float fogFactor = smoothstep( fogNear, fogFar, depth );","    gl_FragColor = mix( gl_FragColor, vec4( fogColor, gl_FragColor.w ), fogFactor );","}"].join("\n"),vertexShader:["uniform mat4 modelViewMatrix;","uniform mat4 projectionMatrix;","uniform mat4 viewMatrix;","uniform mat3 normalMatrix;","uniform vec3 directionalLightColor[ 1 ];","uniform vec3 directionalLightDirection[ 1 ];","attribute vec3 position;","attribute vec3 normal;","attribute vec3 color;","attribute float radius;","varying vec3 vColor;","varying vec3 vLight;","varying vec3 cposition;","varying vec3 p1;","varying vec3 p2;","varying float r;","void main() {","    vColor = color; vColor.z = abs(vColor.z);","    r = abs(radius);","    vec4 to = modelViewMatrix*vec4(normal, 1.0);","    vec4 pt = modelViewMatrix*vec4(position, 1.0);","    vec4 mvPosition = pt;","    p1 = pt.xyz; p2 = to.xyz;","    vec3 norm = to.xyz-pt.xyz;","    float mult = 1.1;","    if(length(p1) > length(p2)) {","       mvPosition = to;","    }","    vec3 n = normalize(mvPosition.xyz);","    if(color.z >= 0.0) {","       vec3 pnorm = normalize(p1);","       float t = dot(mvPosition.xyz-p1,n)/dot(pnorm,n);","       mvPosition.xyz = p1+t*pnorm;","    } else {","       vec3 pnorm = normalize(p2);","       float t = dot(mvPosition.xyz-p2,n)/dot(pnorm,n);","       mvPosition.xyz = p2+t*pnorm;","       mult *= -1.0;","    }","    vec3 cr = normalize(cross(mvPosition.xyz,norm))*radius;","    vec3 doublecr = normalize(cross(mvPosition.xyz,cr))*radius;","    mvPosition.xy +=  mult*(cr + doublecr).xy;","    cposition = mvPosition.xyz;","    gl_Position = projectionMatrix * mvPosition;","    vec4 lDirection = viewMatrix * vec4( directionalLightDirection[ 0 ], 0.0 );","    vLight = normalize( lDirection.xyz )*directionalLightColor[0];","}"].join("\n"),uniforms:{opacity:{type:"f",value:1},fogColor:{type:"c",value:new $3Dmol.Color(1,1,1)},fogNear:{type:"f",value:1},fogFar:{type:"f",value:2e3},directionalLightColor:{type:"fv",value:[]},directionalLightDirection:{type:"fv",value:[]}}},stickimposteroutline:{fragmentShader:$3Dmol.ShaderUtils.stickimposterFragmentShader+"gl_FragColor = vec4(color,1.0);}",vertexShader:["uniform mat4 modelViewMatrix;","uniform mat4 projectionMatrix;","uniform mat4 viewMatrix;","uniform mat3 normalMatrix;","uniform vec3 directionalLightColor[ 1 ];","uniform vec3 directionalLightDirection[ 1 ];","uniform vec3 outlineColor;","uniform float outlineWidth;","uniform float outlinePushback;","attribute vec3 position;","attribute vec3 normal;","attribute vec3 color;","attribute float radius;","varying vec3 vColor;","varying vec3 vLight;","varying vec3 cposition;","varying vec3 p1;","varying vec3 p2;","varying float r;","void main() {","    vColor = outlineColor;","    float rad = radius+sign(radius)*outlineWidth;","    r = abs(rad);","    vec4 to = modelViewMatrix*vec4(normal, 1.0);","    vec4 pt = modelViewMatrix*vec4(position, 1.0);","    to.xyz += normalize(to.xyz)*outlinePushback;","    pt.xyz += normalize(pt.xyz)*outlinePushback;","    vec4 mvPosition = pt;","    p1 = pt.xyz; p2 = to.xyz;","    vec3 norm = to.xyz-pt.xyz;","    float mult = 1.1;","    if(length(p1) > length(p2)) {","       mvPosition = to;","    }","    vec3 n = normalize(mvPosition.xyz);","    if(color.z >= 0.0) {","       vec3 pnorm = normalize(p1);","       float t = dot(mvPosition.xyz-p1,n)/dot(pnorm,n);","       mvPosition.xyz = p1+t*pnorm;","    } else {","       vec3 pnorm = normalize(p2);","       float t = dot(mvPosition.xyz-p2,n)/dot(pnorm,n);","       mvPosition.xyz = p2+t*pnorm;","       mult *= -1.0;","    }","    vec3 cr = normalize(cross(mvPosition.xyz,norm))*rad;","    vec3 doublecr = normalize(cross(mvPosition.xyz,cr))*rad;","    mvPosition.xy +=  mult*(cr + doublecr).xy;","    cposition = mvPosition.xyz;","    gl_Position = projectionMatrix * mvPosition;","    vLight = vec3(1.0,1.0,1.0);","}"].join("\n"),uniforms:{opacity:{type:"f",value:1},fogColor:{type:"c",value:new $3Dmol.Color(1,1,1)},fogNear:{type:"f",value:1},fogFar:{type:"f",value:2e3},outlineColor:{type:"c",value:new $3Dmol.Color(0,0,0)},outlineWidth:{type:"f",value:.1},outlinePushback:{type:"f",value:1}}},lambertdouble:{fragmentShader:["uniform mat4 viewMatrix;","uniform float opacity;","uniform vec3 fogColor;","uniform float fogNear;","uniform float fogFar;","varying vec3 vLightFront;","varying vec3 vLightBack;","varying vec3 vColor;","//DEFINEFRAGCOLOR","void main() {","    gl_FragColor = vec4( vec3 ( 1.0 ), opacity );","    #ifndef WIREFRAME","    if ( gl_FrontFacing )","       gl_FragColor.xyz *= vLightFront;","    else","       gl_FragColor.xyz *= vLightBack;","    #endif","    gl_FragColor = gl_FragColor * vec4( vColor, opacity );","    float depth = gl_FragCoord.z / gl_FragCoord.w;","    float fogFactor = smoothstep( fogNear, fogFar, depth );","    gl_FragColor = mix( gl_FragColor, vec4( fogColor, gl_FragColor.w ), fogFactor );","}"].join("\n"),vertexShader:["uniform mat4 modelViewMatrix;","uniform mat4 projectionMatrix;","uniform mat4 viewMatrix;","uniform mat3 normalMatrix;","uniform vec3 directionalLightColor[ 1 ];","uniform vec3 directionalLightDirection[ 1 ];","attribute vec3 position;","attribute vec3 normal;","attribute vec3 color;","varying vec3 vColor;","varying vec3 vLightFront;","varying vec3 vLightBack;","void main() {","    vColor = color;","    vec3 objectNormal = normal;","    vec3 transformedNormal = normalMatrix * objectNormal;","    vec4 mvPosition = modelViewMatrix * vec4( position, 1.0 );","    vLightFront = vec3( 0.0 );","    vLightBack = vec3( 0.0 );","    transformedNormal = normalize( transformedNormal );","    vec4 lDirection = viewMatrix * vec4( directionalLightDirection[ 0 ], 0.0 );","    vec3 dirVector = normalize( lDirection.xyz );","    float dotProduct = dot( transformedNormal, dirVector );","    vec3 directionalLightWeighting = vec3( max( dotProduct, 0.0 ) );","    vec3 directionalLightWeightingBack = vec3( max( -dotProduct, 0.0 ) );","    vLightFront += directionalLightColor[ 0 ] * directionalLightWeighting;","    vLightBack += directionalLightColor[ 0 ] * directionalLightWeightingBack;","    gl_Position = projectionMatrix * mvPosition;","}"].join("\n"),uniforms:{opacity:{type:"f",value:1},fogColor:{type:"c",value:new $3Dmol.Color(1,1,1)},fogNear:{type:"f",value:1},fogFar:{type:"f",value:2e3},directionalLightColor:{type:"fv",value:[]},directionalLightDirection:{type:"fv",value:[]}}},sprite:{fragmentShader:["uniform vec3 color;","uniform sampler2D map;","uniform float opacity;","uniform int fogType;","uniform vec3 fogColor;","uniform float fogDensity;","uniform float fogNear;","uniform float fogFar;","uniform float alphaTest;","varying vec2 vUV;","//DEFINEFRAGCOLOR","void main() {","    vec4 texture = texture2D(map, vUV);","    if (texture.a < alphaTest) discard;","    gl_FragColor = vec4(color * texture.xyz, texture.a * opacity);","    if (fogType > 0) {","        float depth = gl_FragCoord.z / gl_FragCoord.w;","        float fogFactor = 0.0;","        if (fogType == 1) {","            fogFactor = smoothstep(fogNear, fogFar, depth);","        }","        else {","            const float LOG2 = 1.442695;","            float fogFactor = exp2(- fogDensity * fogDensity * depth * depth * LOG2);","            fogFactor = 1.0 - clamp(fogFactor, 0.0, 1.0);","        }","        gl_FragColor = mix(gl_FragColor, vec4(fogColor, gl_FragColor.w), fogFactor);","    }","}"].join("\n"),vertexShader:["uniform int useScreenCoordinates;","uniform vec3 screenPosition;","uniform mat4 modelViewMatrix;","uniform mat4 projectionMatrix;","uniform float rotation;","uniform vec2 scale;","uniform vec2 alignment;","uniform vec2 uvOffset;","uniform vec2 uvScale;","attribute vec2 position;","attribute vec2 uv;","varying vec2 vUV;","void main() {","    vUV = uvOffset + uv * uvScale;","    vec2 alignedPosition = position + alignment;","    vec2 rotatedPosition;","    rotatedPosition.x = ( cos(rotation) * alignedPosition.x - sin(rotation) * alignedPosition.y ) * scale.x;","    rotatedPosition.y = ( sin(rotation) * alignedPosition.x + cos(rotation) * alignedPosition.y ) * scale.y;","    vec4 finalPosition;","    if(useScreenCoordinates != 0) {","        finalPosition = vec4(screenPosition.xy + rotatedPosition, screenPosition.z, 1.0);","    }","    else {","        finalPosition = projectionMatrix * modelViewMatrix * vec4(0.0, 0.0, 0.0, 1.0); finalPosition /= finalPosition.w;","        finalPosition.xy += rotatedPosition; ","    }","    gl_Position = finalPosition;","}"].join("\n"),uniforms:{}},volumetric:{fragmentShader:["uniform highp sampler3D data;","uniform highp sampler2D colormap;","uniform highp sampler2D depthmap;","uniform mat4 textmat;","uniform mat4 projinv;","uniform mat4 projectionMatrix;","uniform float step;","uniform float subsamples;","uniform float maxdepth;","uniform float transfermin;","uniform float transfermax;","in  vec4 mvPosition;","out vec4 color;","void main(void) {","   vec4 pos = mvPosition;","   bool seengood = false;","   float i = 0.0;","   color = vec4(1,1,1,0);","   float increment = 1.0/subsamples;","   float maxsteps = (maxdepth*subsamples/step);","   vec4 maxpos = vec4(pos.x,pos.y,pos.z-maxdepth,1.0);","   maxpos = projectionMatrix*maxpos;","   vec4 startp = projectionMatrix*pos;","   maxpos /= maxpos.w;","   startp /= startp.w;","   maxpos = vec4(startp.x,startp.y,maxpos.z,1.0);","   maxpos = projinv*maxpos;","   maxpos /= maxpos.w;","   float incr = step/subsamples;","   vec2 tpos = startp.xy/2.0+0.5;","   float depth = texture(depthmap, tpos).r;","   vec4 direction = maxpos-pos;","   for( i = 0.0; i <= maxsteps; i++) {","      vec4 pt = (pos+(i/maxsteps)*direction);","      vec4 ppt = projectionMatrix*pt;","      float ptdepth = ppt.z/ppt.w;","      ptdepth = ((gl_DepthRange.diff * ptdepth) + gl_DepthRange.near + gl_DepthRange.far) / 2.0;","      if(ptdepth > depth) break;","      pt = textmat*pt;","      if(pt.x >= -0.01 && pt.y >= -0.01 && pt.z >= -0.01 && pt.x <= 1.01 && pt.y <= 1.01 && pt.z <= 1.01) {","         seengood = true;","      } else if(seengood) {","         break;","      }","      float val = texture(data, pt.zyx).r;","      if(isinf(val)) continue;","      float cval = (val-transfermin)/(transfermax-transfermin);","      vec4 val_color = texture(colormap, vec2(cval,0.5));","      color.rgb = color.rgb*color.a + (1.0-color.a)*val_color.a*val_color.rgb;","      color.a += (1.0 - color.a) * val_color.a; ","      if(color.a > 0.0) color.rgb /= color.a;","    }","}"].join("\n"),vertexShader:["uniform mat4 modelViewMatrix;","uniform mat4 projectionMatrix;","uniform mat4 viewMatrix;","in vec3 position;","out vec4 mvPosition;","void main() {","    mvPosition = modelViewMatrix * vec4( position, 1.0 );","    gl_Position = projectionMatrix*mvPosition;","}"].join("\n"),uniforms:{opacity:{type:"f",value:1},fogColor:{type:"c",value:new $3Dmol.Color(1,1,1)},fogNear:{type:"f",value:1},fogFar:{type:"f",value:2e3},data:{type:"i",value:3},colormap:{type:"i",value:4},depthmap:{type:"i",value:5},step:{type:"f",value:1},maxdepth:{type:"f",value:100},subsamples:{type:"f",value:5},textmat:{type:"mat4",value:[]},projinv:{type:"mat4",value:[]},transfermin:{type:"f",value:-.2},transfermax:{type:"f",value:.2}}},screen:{fragmentShader:["uniform sampler2D colormap;","varying highp vec2 vTexCoords;","uniform vec2 dimensions;","//DEFINEFRAGCOLOR","void main (void) {","   gl_FragColor = texture2D(colormap, vTexCoords);","}"].join("\n"),vertexShader:["attribute vec2 vertexPosition;","varying highp vec2 vTexCoords;","const vec2 scale = vec2(0.5, 0.5);","void main() {","   vTexCoords  = vertexPosition * scale + scale; // scale vertex attribute to [0,1] range","   gl_Position = vec4(vertexPosition, 0.0, 1.0);","}"].join("\n"),uniforms:{}},screenaa:{fragmentShader:["uniform sampler2D colormap;","varying highp vec2 vTexCoords;","uniform vec2 dimensions;","// Basic FXAA implementation based on the code on geeks3d.com ","#define FXAA_REDUCE_MIN   (1.0/ 128.0)","#define FXAA_REDUCE_MUL   (1.0 / 8.0)","#define FXAA_SPAN_MAX     8.0","vec4 applyFXAA(vec2 fragCoord, sampler2D tex)","{","    vec4 color;","    vec2 inverseVP = vec2(1.0 / dimensions.x, 1.0 / dimensions.y);","    vec3 rgbNW = texture2D(tex, fragCoord + vec2(-1.0, -1.0) * inverseVP).xyz;","    vec3 rgbNE = texture2D(tex, fragCoord + vec2(1.0, -1.0) * inverseVP).xyz;","    vec3 rgbSW = texture2D(tex, fragCoord + vec2(-1.0, 1.0) * inverseVP).xyz;","    vec3 rgbSE = texture2D(tex, fragCoord + vec2(1.0, 1.0) * inverseVP).xyz;","    vec3 rgbM  = texture2D(tex, fragCoord  * inverseVP).xyz;","    vec3 luma = vec3(0.299, 0.587, 0.114);","    float lumaNW = dot(rgbNW, luma);","    float lumaNE = dot(rgbNE, luma);","    float lumaSW = dot(rgbSW, luma);","    float lumaSE = dot(rgbSE, luma);","    float lumaM  = dot(rgbM,  luma);","    float lumaMin = min(lumaM, min(min(lumaNW, lumaNE), min(lumaSW, lumaSE)));","    float lumaMax = max(lumaM, max(max(lumaNW, lumaNE), max(lumaSW, lumaSE)));","    vec2 dir;","    dir.x = -((lumaNW + lumaNE) - (lumaSW + lumaSE));","    dir.y =  ((lumaNW + lumaSW) - (lumaNE + lumaSE));","    float dirReduce = max((lumaNW + lumaNE + lumaSW + lumaSE) *","                        (0.25 * FXAA_REDUCE_MUL), FXAA_REDUCE_MIN);","    float rcpDirMin = 1.0 / (min(abs(dir.x), abs(dir.y)) + dirReduce);","    dir = min(vec2(FXAA_SPAN_MAX, FXAA_SPAN_MAX),","            max(vec2(-FXAA_SPAN_MAX, -FXAA_SPAN_MAX),","            dir * rcpDirMin)) * inverseVP;","    vec3 rgbA = 0.5 * (","        texture2D(tex, fragCoord + dir * (1.0 / 3.0 - 0.5)).xyz +","        texture2D(tex, fragCoord  + dir * (2.0 / 3.0 - 0.5)).xyz);","    vec3 rgbB = rgbA * 0.5 + 0.25 * (","        texture2D(tex, fragCoord  + dir * -0.5).xyz +","        texture2D(tex, fragCoord  + dir * 0.5).xyz);","    float lumaB = dot(rgbB, luma);","    if ((lumaB < lumaMin) || (lumaB > lumaMax))","        color = vec4(rgbA, 1.0);","    else","        color = vec4(rgbB, 1.0);","    return color;","}","//DEFINEFRAGCOLOR","void main (void) {","   gl_FragColor = applyFXAA(vTexCoords, colormap);","}"].join("\n"),vertexShader:["attribute vec2 vertexPosition;","varying highp vec2 vTexCoords;","const vec2 scale = vec2(0.5, 0.5);","void main() {","   vTexCoords  = vertexPosition * scale + scale; // scale vertex attribute to [0,1] range","   gl_Position = vec4(vertexPosition, 0.0, 1.0);","}"].join("\n"),uniforms:{}}},"undefined"==typeof console&&(console={log:function(){}}),$3Dmol.ProteinSurface=function(){var e,t,r=0,o=0,i=0,n=1.4,a=2,s=0,l=0,c=0,u=0,h=null,f=null,d=null,p=0,m=0,v=0,g=0,y=0,b=0,x={H:1.2,Li:1.82,Na:2.27,K:2.75,C:1.7,N:1.55,O:1.52,F:1.47,P:1.8,S:1.8,CL:1.75,BR:1.85,SE:1.9,ZN:1.39,CU:1.4,NI:1.63,X:2},w=function(e){return e.elem&&void 0!==x[e.elem]?e.elem:"X"},D={},C={},A=[new Int32Array([1,0,0]),new Int32Array([-1,0,0]),new Int32Array([0,1,0]),new Int32Array([0,-1,0]),new Int32Array([0,0,1]),new Int32Array([0,0,-1]),new Int32Array([1,1,0]),new Int32Array([1,-1,0]),new Int32Array([-1,1,0]),new Int32Array([-1,-1,0]),new Int32Array([1,0,1]),new Int32Array([1,0,-1]),new Int32Array([-1,0,1]),new Int32Array([-1,0,-1]),new Int32Array([0,1,1]),new Int32Array([0,1,-1]),new Int32Array([0,-1,1]),new Int32Array([0,-1,-1]),new Int32Array([1,1,1]),new Int32Array([1,1,-1]),new Int32Array([1,-1,1]),new Int32Array([-1,1,1]),new Int32Array([1,-1,-1]),new Int32Array([-1,-1,1]),new Int32Array([-1,1,-1]),new Int32Array([-1,-1,-1])];this.getFacesAndVertices=function(n){var s={};for(let e=0,t=n.length;e<t;e++)s[n[e]]=!0;var l=t;for(let e=0,t=l.length;e<t;e++)l[e].x=l[e].x/a-r,l[e].y=l[e].y/a-o,l[e].z=l[e].z/a-i;var c=[];for(let t=0,r=e.length;t<r;t+=3){var u=e[t],p=e[t+1],m=e[t+2],v=l[u].atomid,g=l[p].atomid,y=l[m].atomid,b=v;g<b&&(b=g),y<b&&(b=y),s[b]&&(u!==p&&p!==m&&u!==m&&(c.push(u),c.push(p),c.push(m)))}return h=null,f=null,d=null,{vertices:l,faces:c}},this.initparm=function(e,t,x){x>1e6&&(a=1);var w=1/a*5.5;p=e[0][0],g=e[1][0],m=e[0][1],y=e[1][1],v=e[0][2],b=e[1][2],t?(p-=n+w,m-=n+w,v-=n+w,g+=n+w,y+=n+w,b+=n+w):(p-=w,m-=w,v-=w,g+=w,y+=w,b+=w),p=Math.floor(p*a)/a,m=Math.floor(m*a)/a,v=Math.floor(v*a)/a,g=Math.ceil(g*a)/a,y=Math.ceil(y*a)/a,b=Math.ceil(b*a)/a,r=-p,o=-m,i=-v,c=Math.ceil(a*(g-p))+1,l=Math.ceil(a*(y-m))+1,s=Math.ceil(a*(b-v))+1,this.boundingatom(t),u=n*a,h=new Uint8Array(c*l*s),f=new Float64Array(c*l*s),d=new Int32Array(c*l*s)},this.boundingatom=function(e){var t,r,o,i=[];for(var s in x)if(x.hasOwnProperty(s)){var l=x[s];i[s]=e?(l+n)*a+.5:l*a+.5,o=i[s]*i[s],C[s]=Math.floor(i[s])+1,D[s]=new Int32Array(C[s]*C[s]);var c=0;for(let e=0;e<C[s];e++)for(let i=0;i<C[s];i++)(t=e*e+i*i)>o?D[s][c]=-1:(r=Math.sqrt(o-t),D[s][c]=Math.floor(r)),c++}},this.fillvoxels=function(e,t){for(let e=0,t=h.length;e<t;e++)h[e]=0,f[e]=-1,d[e]=-1;for(let o in t){var r=e[t[o]];void 0!==r&&this.fillAtom(r,e)}for(let e=0,t=h.length;e<t;e++)1&h[e]&&(h[e]|=2)},this.fillAtom=function(e,t){var n,u,f,p,m,v,g,y,b,x,A,S,$,M,_,T,z,E,L;n=Math.floor(.5+a*(e.x+r)),u=Math.floor(.5+a*(e.y+o)),f=Math.floor(.5+a*(e.z+i));var F=w(e),I=0,R=l*s;for(x=0,L=C[F];x<L;x++)for(A=0;A<L;A++){if(-1!=D[F][I])for(T=-1;T<2;T++)for(z=-1;z<2;z++)for(E=-1;E<2;E++)if(0!==T&&0!==z&&0!==E)for(g=T*x,b=E*A,S=0;S<=D[F][I];S++)if(M=u+(y=S*z),_=f+b,!(($=n+g)<0||M<0||_<0||$>=c||M>=l||_>=s)){var O=$*R+M*s+_;if(1&h[O]){var k=t[d[O]];k.serial!=e.serial&&g*g+y*y+b*b<(p=n+g-Math.floor(.5+a*(k.x+r)))*p+(m=u+y-Math.floor(.5+a*(k.y+o)))*m+(v=f+b-Math.floor(.5+a*(k.z+i)))*v&&(d[O]=e.serial)}else h[O]|=1,d[O]=e.serial}I++}},this.fillvoxelswaals=function(e,t){for(let e=0,t=h.length;e<t;e++)h[e]&=-3;for(let r in t){let o=e[t[r]];void 0!==o&&this.fillAtomWaals(o,e)}},this.fillAtomWaals=function(e,t){var n,u,f,p,m,v,g,y,b,x,A,S,$,M,_,T,z,E,L,F=0;n=Math.floor(.5+a*(e.x+r)),u=Math.floor(.5+a*(e.y+o)),f=Math.floor(.5+a*(e.z+i));var I=w(e),R=l*s;for($=0,L=C[I];$<L;$++)for(M=0;M<L;M++){if(-1!=D[I][F])for(T=-1;T<2;T++)for(z=-1;z<2;z++)for(E=-1;E<2;E++)if(0!==T&&0!==z&&0!==E)for(g=T*$,b=E*M,_=0;_<=D[I][F];_++)if(A=u+(y=_*z),S=f+b,!((x=n+g)<0||A<0||S<0||x>=c||A>=l||S>=s)){var O=x*R+A*s+S;if(2&h[O]){var k=t[d[O]];k.serial!=e.serial&&g*g+y*y+b*b<(p=n+g-Math.floor(.5+a*(k.x+r)))*p+(m=u+y-Math.floor(.5+a*(k.y+o)))*m+(v=f+b-Math.floor(.5+a*(k.z+i)))*v&&(d[O]=e.serial)}else h[O]|=2,d[O]=e.serial}F++}},this.buildboundary=function(){var e=l*s;for(let a=0;a<c;a++)for(let u=0;u<s;u++)for(let f=0;f<l;f++){var t=a*e+f*s+u;if(1&h[t])for(var r=0;r<26;){var o=a+A[r][0],i=u+A[r][2],n=f+A[r][1];if(o>-1&&o<c&&n>-1&&n<l&&i>-1&&i<s&&!(1&h[o*e+n*s+i])){h[t]|=4;break}r++}}};var S=function(e,t,r){var o=new Int32Array(e*t*r*3);this.set=function(e,i,n,a){var s=3*((e*t+i)*r+n);o[s]=a.ix,o[s+1]=a.iy,o[s+2]=a.iz},this.get=function(e,i,n){var a=3*((e*t+i)*r+n);return{ix:o[a],iy:o[a+1],iz:o[a+2]}}};this.fastdistancemap=function(){var e,t,r,o,i,n=new S(c,l,s),d=l*s,p=u*u,m=[],v=[];for(e=0;e<c;e++)for(t=0;t<l;t++)for(r=0;r<s;r++)if(h[i=e*d+t*s+r]&=-3,1&h[i]&&4&h[i]){var g={ix:e,iy:t,iz:r};n.set(e,t,r,g),m.push(g),f[i]=0,h[i]|=2,h[i]&=-5}do{for(v=this.fastoneshell(m,n),m=[],e=0,o=v.length;e<o;e++)i=d*v[e].ix+s*v[e].iy+v[e].iz,h[i]&=-5,f[i]<=1.0404*p&&m.push({ix:v[e].ix,iy:v[e].iy,iz:v[e].iz})}while(0!==m.length);m=[],v=[],n=null;var y=a-.5;y<0&&(y=0);var b=p-.5/(.1+y);for(e=0;e<c;e++)for(t=0;t<l;t++)for(r=0;r<s;r++)h[i=e*d+t*s+r]&=-5,1&h[i]&&(2&h[i]&&!(2&h[i]&&f[i]>=b)||(h[i]|=4))},this.fastoneshell=function(e,t){var r,o,i,n,a,u,d,p,m,v,g,y,b=[];if(0===e.length)return b;var x={ix:-1,iy:-1,iz:-1},w=l*s;for(d=0,m=e.length;d<m;d++)for(r=e[d].ix,o=e[d].iy,i=e[d].iz,g=t.get(r,o,i),p=0;p<6;p++)x.ix=r+A[p][0],x.iy=o+A[p][1],x.iz=i+A[p][2],x.ix<c&&x.ix>-1&&x.iy<l&&x.iy>-1&&x.iz<s&&x.iz>-1&&(y=x.ix*w+s*x.iy+x.iz,1&h[y]&&!(2&h[y])?(t.set(x.ix,x.iy,i+A[p][2],g),v=(n=x.ix-g.ix)*n+(a=x.iy-g.iy)*a+(u=x.iz-g.iz)*u,f[y]=v,h[y]|=2,h[y]|=4,b.push({ix:x.ix,iy:x.iy,iz:x.iz})):1&h[y]&&2&h[y]&&(v=(n=x.ix-g.ix)*n+(a=x.iy-g.iy)*a+(u=x.iz-g.iz)*u)<f[y]&&(t.set(x.ix,x.iy,x.iz,g),f[y]=v,4&h[y]||(h[y]|=4,b.push({ix:x.ix,iy:x.iy,iz:x.iz}))));for(d=0,m=e.length;d<m;d++)for(r=e[d].ix,o=e[d].iy,i=e[d].iz,g=t.get(r,o,i),p=6;p<18;p++)x.ix=r+A[p][0],x.iy=o+A[p][1],x.iz=i+A[p][2],x.ix<c&&x.ix>-1&&x.iy<l&&x.iy>-1&&x.iz<s&&x.iz>-1&&(y=x.ix*w+s*x.iy+x.iz,1&h[y]&&!(2&h[y])?(t.set(x.ix,x.iy,i+A[p][2],g),v=(n=x.ix-g.ix)*n+(a=x.iy-g.iy)*a+(u=x.iz-g.iz)*u,f[y]=v,h[y]|=2,h[y]|=4,b.push({ix:x.ix,iy:x.iy,iz:x.iz})):1&h[y]&&2&h[y]&&(v=(n=x.ix-g.ix)*n+(a=x.iy-g.iy)*a+(u=x.iz-g.iz)*u)<f[y]&&(t.set(x.ix,x.iy,x.iz,g),f[y]=v,4&h[y]||(h[y]|=4,b.push({ix:x.ix,iy:x.iy,iz:x.iz}))));for(d=0,m=e.length;d<m;d++)for(r=e[d].ix,o=e[d].iy,i=e[d].iz,g=t.get(r,o,i),p=18;p<26;p++)x.ix=r+A[p][0],x.iy=o+A[p][1],x.iz=i+A[p][2],x.ix<c&&x.ix>-1&&x.iy<l&&x.iy>-1&&x.iz<s&&x.iz>-1&&(y=x.ix*w+s*x.iy+x.iz,1&h[y]&&!(2&h[y])?(t.set(x.ix,x.iy,i+A[p][2],g),v=(n=x.ix-g.ix)*n+(a=x.iy-g.iy)*a+(u=x.iz-g.iz)*u,f[y]=v,h[y]|=2,h[y]|=4,b.push({ix:x.ix,iy:x.iy,iz:x.iz})):1&h[y]&&2&h[y]&&(v=(n=x.ix-g.ix)*n+(a=x.iy-g.iy)*a+(u=x.iz-g.iz)*u)<f[y]&&(t.set(x.ix,x.iy,x.iz,g),f[y]=v,4&h[y]||(h[y]|=4,b.push({ix:x.ix,iy:x.iy,iz:x.iz}))));return b},this.marchingcubeinit=function(e){for(var t=0,r=h.length;t<r;t++)1==e?h[t]&=-5:4==e?(h[t]&=-3,4&h[t]&&(h[t]|=2),h[t]&=-5):2==e?4&h[t]&&2&h[t]?h[t]&=-5:4&h[t]&&!(2&h[t])&&(h[t]|=2):3==e&&(h[t]&=-5)},this.marchingcube=function(r){this.marchingcubeinit(r),t=[],e=[],$3Dmol.MarchingCube.march(h,t,e,{smooth:1,nX:c,nY:l,nZ:s});for(var o=l*s,i=0,n=t.length;i<n;i++)t[i].atomid=d[t[i].x*o+s*t[i].y+t[i].z];$3Dmol.MarchingCube.laplacianSmooth(1,t,e)}},$3Dmol.autoload=function(viewer,callback){var i,dataname,type;if(void 0!==$(".viewer_3Dmoljs")[0]&&($3Dmol.autoinit=!0),$3Dmol.autoinit){viewer=null!=viewer?viewer:null,$3Dmol.viewers={};var nviewers=0;$(".viewer_3Dmoljs").each((function(){var viewerdiv=$(this),datauri=[],datatypes=[],uri="";"static"==viewerdiv.css("position")&&viewerdiv.css("position","relative"),type=null,viewerdiv.data("pdb")?(datauri.push("https://files.rcsb.org/view/"+viewerdiv.data("pdb")+".pdb"),datatypes.push("pdb")):viewerdiv.data("cid")?(datatypes.push("sdf"),datauri.push("https://pubchem.ncbi.nlm.nih.gov/rest/pug/compound/cid/"+viewerdiv.data("cid")+"/SDF?record_type=3d")):(viewerdiv.data("href")||viewerdiv.data("url"))&&(uri=viewerdiv.data("href"),datauri.push(uri),type=uri.substr(uri.lastIndexOf(".")+1),datatypes.push(type));var divdata=viewerdiv.data();for(i in divdata)"pdb"===i.substring(0,3)&&"pdb"!==i?(datauri.push("https://files.rcsb.org/view/"+divdata[i]+".pdb"),datatypes.push("pdb")):"href"===i.substring(0,4)&&"href"!==i?(uri=divdata[i],datauri.push(uri),datatypes.push(uri.substr(uri.lastIndexOf(".")+1))):"cid"===i.substring(0,3)&&"cid"!==i&&(datauri.push("https://pubchem.ncbi.nlm.nih.gov/rest/pug/compound/cid/"+divdata[i]+"/SDF?record_type=3d"),datatypes.push("sdf"));var options={};viewerdiv.data("options")&&(options=$3Dmol.specStringToObject(viewerdiv.data("options")));var bgcolor=$3Dmol.CC.color(viewerdiv.data("backgroundcolor")),bgalpha=viewerdiv.data("backgroundalpha");bgalpha=null==bgalpha?1:parseFloat(bgalpha);var style={line:{}};viewerdiv.data("style")&&(style=$3Dmol.specStringToObject(viewerdiv.data("style")));var select={};viewerdiv.data("select")&&(select=$3Dmol.specStringToObject(viewerdiv.data("select")));var selectstylelist=[],surfaces=[],labels=[],zoomto={},d=viewerdiv.data(),stylere=/style(.+)/,surfre=/surface(.*)/,reslabre=/labelres(.*)/,keys=[];for(dataname in d)Object.prototype.hasOwnProperty.call(d,dataname)&&keys.push(dataname);for(keys.sort(),i=0;i<keys.length;i++){dataname=keys[i];var m=stylere.exec(dataname),selname,newsel,styleobj;m&&(selname="select"+m[1],newsel=$3Dmol.specStringToObject(d[selname]),styleobj=$3Dmol.specStringToObject(d[dataname]),selectstylelist.push([newsel,styleobj])),m=surfre.exec(dataname),m&&(selname="select"+m[1],newsel=$3Dmol.specStringToObject(d[selname]),styleobj=$3Dmol.specStringToObject(d[dataname]),surfaces.push([newsel,styleobj])),m=reslabre.exec(dataname),m&&(selname="select"+m[1],newsel=$3Dmol.specStringToObject(d[selname]),styleobj=$3Dmol.specStringToObject(d[dataname]),labels.push([newsel,styleobj])),"zoomto"==dataname&&(zoomto=$3Dmol.specStringToObject(d[dataname]))}var applyStyles=function(e){var t,r;for(e.setStyle(select,style),i=0;i<selectstylelist.length;i++)t=selectstylelist[i][0]||{},r=selectstylelist[i][1]||{line:{}},e.setStyle(t,r);for(i=0;i<surfaces.length;i++)t=surfaces[i][0]||{},r=surfaces[i][1]||{},e.addSurface($3Dmol.SurfaceType.VDW,r,t,t);for(i=0;i<labels.length;i++)t=labels[i][0]||{},r=labels[i][1]||{},e.addResLabels(t,r);e.zoomTo(zoomto),e.render()},glviewer=viewer;try{if(null==glviewer){var config=viewerdiv.data("config")||{};config.defaultcolors=config.defaultcolors||$3Dmol.rasmolElementColors,void 0===config.backgroundColor&&(config.backgroundColor=bgcolor),void 0===config.backgroundAlpha&&(config.backgroundAlpha=bgalpha),glviewer=$3Dmol.viewers[this.id||nviewers++]=$3Dmol.createViewer(viewerdiv,config)}else glviewer.setBackgroundColor(bgcolor,bgalpha)}catch(e){console.log(e),viewerdiv.text("WebGL appears to be disabled.")}if(0!=datauri.length){i=0;var process=function(moldata){uri=datauri[i];var type=viewerdiv.data("type")||viewerdiv.data("datatype")||datatypes[i];if(glviewer.addModel(moldata,type,options),i+=1,i<datauri.length)$.get(datauri[i],process,"text");else{if(applyStyles(glviewer),viewerdiv.data("callback")){var runres=eval(viewerdiv.data("callback"));"function"==typeof runres&&runres(glviewer)}callback&&callback(glviewer)}};$.get(datauri[0],process,"text")}else{if(viewerdiv.data("element")){var moldata=$("#"+viewerdiv.data("element")).val()||"";type=viewerdiv.data("type")||viewerdiv.data("datatype"),type||(console.log("Warning: No type specified for embedded viewer with moldata from "+viewerdiv.data("element")+"\n assuming type 'pdb'"),type="pdb"),glviewer.addModel(moldata,type,options)}if(applyStyles(glviewer),viewerdiv.data("callback")){var runres=eval(viewerdiv.data("callback"));"function"==typeof runres&&runres(glviewer)}callback&&callback(glviewer)}}))}},$(document).ready((function(){$3Dmol.autoload()}));var htmlColors=$3Dmol.htmlColors={aliceblue:15792383,antiquewhite:16444375,aqua:65535,aquamarine:8388564,azure:15794175,beige:16119260,bisque:16770244,black:0,blanchedalmond:16772045,blue:255,blueviolet:9055202,brown:10824234,burlywood:14596231,cadetblue:6266528,chartreuse:8388352,chocolate:13789470,coral:16744272,cornflowerblue:6591981,cornsilk:16775388,crimson:14423100,cyan:65535,darkblue:139,darkcyan:35723,darkgoldenrod:12092939,darkgray:11119017,darkgrey:11119017,darkgreen:25600,darkkhaki:12433259,darkmagenta:9109643,darkolivegreen:5597999,darkorange:16747520,darkorchid:10040012,darkred:9109504,darksalmon:15308410,darkseagreen:9419919,darkslateblue:4734347,darkslategray:3100495,darkslategrey:3100495,darkturquoise:52945,darkviolet:9699539,deeppink:16716947,deepskyblue:49151,dimgray:6908265,dimgrey:6908265,dodgerblue:2003199,firebrick:11674146,floralwhite:16775920,forestgreen:2263842,fuchsia:16711935,gainsboro:14474460,ghostwhite:16316671,gold:16766720,goldenrod:14329120,gray:8421504,grey:8421504,green:32768,greenyellow:11403055,honeydew:15794160,hotpink:16738740,indianred:13458524,indigo:4915330,ivory:16777200,khaki:15787660,lavender:15132410,lavenderblush:16773365,lawngreen:8190976,lemonchiffon:16775885,lightblue:11393254,lightcoral:15761536,lightcyan:14745599,lightgoldenrodyellow:16448210,lightgray:13882323,lightgrey:13882323,lightgreen:9498256,lightpink:16758465,lightsalmon:16752762,lightseagreen:2142890,lightskyblue:8900346,lightslategray:7833753,lightslategrey:7833753,lightsteelblue:11584734,lightyellow:16777184,lime:65280,limegreen:3329330,linen:16445670,magenta:16711935,maroon:8388608,mediumaquamarine:6737322,mediumblue:205,mediumorchid:12211667,mediumpurple:9662683,mediumseagreen:3978097,mediumslateblue:8087790,mediumspringgreen:64154,mediumturquoise:4772300,mediumvioletred:13047173,midnightblue:1644912,mintcream:16121850,mistyrose:16770273,moccasin:16770229,navajowhite:16768685,navy:128,oldlace:16643558,olive:8421376,olivedrab:7048739,orange:16753920,orangered:16729344,orchid:14315734,palegoldenrod:15657130,palegreen:10025880,paleturquoise:11529966,palevioletred:14381203,papayawhip:16773077,peachpuff:16767673,peru:13468991,pink:16761035,plum:14524637,powderblue:11591910,purple:8388736,rebeccapurple:6697881,red:16711680,rosybrown:12357519,royalblue:4286945,saddlebrown:9127187,salmon:16416882,sandybrown:16032864,seagreen:3050327,seashell:16774638,sienna:10506797,silver:12632256,skyblue:8900331,slateblue:6970061,slategray:7372944,slategrey:7372944,snow:16775930,springgreen:65407,steelblue:4620980,tan:13808780,teal:32896,thistle:14204888,tomato:16737095,turquoise:4251856,violet:15631086,wheat:16113331,white:16777215,whitesmoke:16119285,yellow:16776960,yellowgreen:10145074};$3Dmol.CC={rgbRegEx:/rgb(a?)\(\s*([^ ,\)\t]+)\s*,\s*([^ ,\)\t]+)\s*,\s*([^ ,\)\t]+)/i,cache:{0:new $3Dmol.Color(0)},color:function e(t){if(!t)return this.cache[0];if(void 0!==this.cache[t])return this.cache[t];if(t&&t.constructor===Array)return t.map(e,this);if("number"==typeof(t=this.getHex(t))){var r=new $3Dmol.Color(t);return this.cache[t]=r,r}return t},getHex:function(e){if(!isNaN(parseInt(e)))return parseInt(e);if("string"==typeof e){if(4==(e=e.trim()).length&&"#"==e[0]&&(e="#"+e[1]+e[1]+e[2]+e[2]+e[3]+e[3]),7==e.length&&"#"==e[0])return parseInt(e.substring(1),16);let t=this.rgbRegEx.exec(e);if(t){""!=t[1]&&console.log("WARNING: Opacity value in rgba ignored.  Specify separately as opacity attribute.");let e=0;for(let r=2;r<5;r++){e*=256;let o=t[r].endsWith("%")?255*parseFloat(t[r])/100:parseFloat(t[r]);e+=Math.round(o)}return e}return htmlColors[e.toLowerCase()]||0}return e}},$3Dmol.CC=$3Dmol.CC,$3Dmol.CC.color=$3Dmol.CC.color,$3Dmol.ssColors=$3Dmol.ssColors||{},$3Dmol.ssColors.pyMol={h:16711680,s:16776960,c:65280},$3Dmol.ssColors.Jmol={h:16711808,s:16762880,c:16777215},$3Dmol.elementColors=$3Dmol.elementColors||{},$3Dmol.elementColors.defaultColor=16716947,$3Dmol.elementColors.Jmol={H:16777215,He:14286847,HE:14286847,Li:13402367,LI:13402367,Be:12779264,BE:12779264,B:16758197,C:9474192,N:3166456,O:16715021,F:9494608,Ne:11789301,NE:11789301,Na:11230450,NA:11230450,Mg:9109248,MG:9109248,Al:12560038,AL:12560038,Si:1578e4,SI:1578e4,P:16744448,S:16777008,Cl:2093087,CL:2093087,Ar:8442339,AR:8442339,K:9388244,Ca:4062976,CA:4062976,Sc:15132390,SC:15132390,Ti:12567239,TI:12567239,V:10921643,Cr:9083335,CR:9083335,Mn:10255047,MN:10255047,Fe:14706227,FE:14706227,Co:15765664,CO:15765664,Ni:5296208,NI:5296208,Cu:13140019,CU:13140019,Zn:8224944,ZN:8224944,Ga:12750735,GA:12750735,Ge:6721423,GE:6721423,As:12419299,AS:12419299,Se:16752896,SE:16752896,Br:10889513,BR:10889513,Kr:6076625,KR:6076625,Rb:7351984,RB:7351984,Sr:65280,SR:65280,Y:9764863,Zr:9756896,ZR:9756896,Nb:7586505,NB:7586505,Mo:5551541,MO:5551541,Tc:3907230,TC:3907230,Ru:2396047,RU:2396047,Rh:687500,RH:687500,Pd:27013,PD:27013,Ag:12632256,AG:12632256,Cd:16767375,CD:16767375,In:10909043,IN:10909043,Sn:6717568,SN:6717568,Sb:10380213,SB:10380213,Te:13924864,TE:13924864,I:9699476,Xe:4366e3,XE:4366e3,Cs:5707663,CS:5707663,Ba:51456,BA:51456,La:7394559,LA:7394559,Ce:16777159,CE:16777159,Pr:14286791,PR:14286791,Nd:13107143,ND:13107143,Pm:10747847,PM:10747847,Sm:9437127,SM:9437127,Eu:6422471,EU:6422471,Gd:4587463,GD:4587463,Tb:3211207,TB:3211207,Dy:2097095,DY:2097095,Ho:65436,HO:65436,Er:58997,ER:58997,Tm:54354,TM:54354,Yb:48952,YB:48952,Lu:43812,LU:43812,Hf:5096191,HF:5096191,Ta:5089023,TA:5089023,W:2200790,Re:2522539,RE:2522539,Os:2516630,OS:2516630,Ir:1528967,IR:1528967,Pt:13684960,PT:13684960,Au:16765219,AU:16765219,Hg:12105936,HG:12105936,Tl:10900557,TL:10900557,Pb:5724513,PB:5724513,Bi:10375093,BI:10375093,Po:11230208,PO:11230208,At:7688005,AT:7688005,Rn:4358806,RN:4358806,Fr:4325478,FR:4325478,Ra:32e3,RA:32e3,Ac:7384058,AC:7384058,Th:47871,TH:47871,Pa:41471,PA:41471,U:36863,Np:33023,NP:33023,Pu:27647,PU:27647,Am:5528818,AM:5528818,Cm:7888099,CM:7888099,Bk:9064419,BK:9064419,Cf:10565332,CF:10565332,Es:11739092,ES:11739092,Fm:11739066,FM:11739066,Md:11734438,MD:11734438,No:12389767,NO:12389767,Lr:13041766,LR:13041766,Rf:13369433,RF:13369433,Db:13697103,DB:13697103,Sg:14221381,SG:14221381,Bh:14680120,BH:14680120,Hs:15073326,HS:15073326,Mt:15400998,MT:15400998},$3Dmol.elementColors.rasmol={H:16777215,He:16761035,HE:16761035,Li:11674146,LI:11674146,B:65280,C:13158600,N:9408511,O:15728640,F:14329120,Na:255,NA:255,Mg:2263842,MG:2263842,Al:8421520,AL:8421520,Si:14329120,SI:14329120,P:16753920,S:16762930,Cl:65280,CL:65280,Ca:8421520,CA:8421520,Ti:8421520,TI:8421520,Cr:8421520,CR:8421520,Mn:8421520,MN:8421520,Fe:16753920,FE:16753920,Ni:10824234,NI:10824234,Cu:10824234,CU:10824234,Zn:10824234,ZN:10824234,Br:10824234,BR:10824234,Ag:8421520,AG:8421520,I:10494192,Ba:16753920,BA:16753920,Au:14329120,AU:14329120},$3Dmol.elementColors.defaultColors=$3Dmol.elementColors.rasmol,$3Dmol.elementColors.greenCarbon=$3Dmol.extend({},$3Dmol.elementColors.defaultColors),$3Dmol.elementColors.greenCarbon.C=65280,$3Dmol.elementColors.cyanCarbon=$3Dmol.extend({},$3Dmol.elementColors.defaultColors),$3Dmol.elementColors.cyanCarbon.C=65535,$3Dmol.elementColors.magentaCarbon=$3Dmol.extend({},$3Dmol.elementColors.defaultColors),$3Dmol.elementColors.magentaCarbon.C=16711935,$3Dmol.elementColors.yellowCarbon=$3Dmol.extend({},$3Dmol.elementColors.defaultColors),$3Dmol.elementColors.yellowCarbon.C=16776960,$3Dmol.elementColors.whiteCarbon=$3Dmol.extend({},$3Dmol.elementColors.defaultColors),$3Dmol.elementColors.whiteCarbon.C=16777215,$3Dmol.elementColors.orangeCarbon=$3Dmol.extend({},$3Dmol.elementColors.defaultColors),$3Dmol.elementColors.orangeCarbon.C=16753920,$3Dmol.elementColors.purpleCarbon=$3Dmol.extend({},$3Dmol.elementColors.defaultColors),$3Dmol.elementColors.purpleCarbon.C=8388736,$3Dmol.elementColors.blueCarbon=$3Dmol.extend({},$3Dmol.elementColors.defaultColors),$3Dmol.elementColors.blueCarbon.C=255,$3Dmol.residues={},$3Dmol.residues.amino={ALA:13158600,ARG:1334015,ASN:56540,ASP:15075850,CYS:15132160,GLN:56540,GLU:15075850,GLY:15461355,HIS:8553170,ILE:1016335,LEU:1016335,LYS:1334015,MET:15132160,PHE:3289770,PRO:14456450,SER:16422400,THR:16422400,TRP:11819700,TYR:3289770,VAL:1016335,ASX:16738740,GLX:16738740},$3Dmol.residues.shapely={ALA:9240460,ARG:124,ASN:16743536,ASP:10485826,CYS:16777072,GLN:16731212,GLU:6684672,GLY:16777215,HIS:7368959,ILE:19456,LEU:4546117,LYS:4671416,MET:12099650,PHE:5459026,PRO:5395026,SER:16740418,THR:12078080,TRP:5195264,TYR:9203788,VAL:16747775,ASX:16711935,GLX:16711935},$3Dmol.residues.nucleic={A:10526975,G:16740464,I:8454143,C:16747595,T:10551200,U:16744576},$3Dmol.chains={},$3Dmol.chains.atom={A:12636415,B:11599792,C:16761032,D:16777088,E:16761087,F:11596016,G:16765040,H:15761536,I:16113331,J:49151,K:13458524,L:6737322,M:10145074,N:15631086,O:52945,P:65407,Q:3978097,R:139,S:12433259,T:25600,U:8388608,V:8421376,W:8388736,X:32896,Y:12092939,Z:11674146},$3Dmol.chains.hetatm={A:9478351,B:8441752,C:13602992,D:13619056,E:13603023,F:8437952,G:13607008,H:12603504,I:12955267,J:42959,K:11881548,L:5682578,M:9090346,N:12481214,O:46753,P:53103,Q:3447649,R:187,S:10854235,T:37888,U:11534336,V:11579392,W:11534512,X:45232,Y:15250963,Z:12726834},$3Dmol.builtinColorSchemes={ssPyMol:{prop:"ss",map:$3Dmol.ssColors.pyMol},ssJmol:{prop:"ss",map:$3Dmol.ssColors.Jmol},Jmol:{prop:"elem",map:$3Dmol.elementColors.Jmol},greenCarbon:{prop:"elem",map:$3Dmol.elementColors.greenCarbon},default:{prop:"elem",map:$3Dmol.elementColors.defaultColors},amino:{prop:"resn",map:$3Dmol.residues.amino},shapely:{prop:"resn",map:$3Dmol.residues.shapely},nucleic:{prop:"resn",map:$3Dmol.residues.nucleic},chain:{prop:"chain",map:$3Dmol.chains.atom},chainHetatm:{prop:"chain",map:$3Dmol.chains.hetatm}},$3Dmol.getColorFromStyle=function(e,t){var r=t.colorscheme;if(void 0!==$3Dmol.builtinColorSchemes[r])r=$3Dmol.builtinColorSchemes[r];else if("string"==typeof r&&r.endsWith("Carbon")){var o=r.substring(0,r.lastIndexOf("Carbon")).toLowerCase();if(void 0!==htmlColors[o]){var i=$3Dmol.extend({},$3Dmol.elementColors.defaultColors);i.C=htmlColors[o],$3Dmol.builtinColorSchemes[r]={prop:"elem",map:i},r=$3Dmol.builtinColorSchemes[r]}}var n,a,s=e.color;if(void 0!==t.color&&"spectrum"!=t.color&&(s=t.color),void 0!==r)if(void 0!==$3Dmol.elementColors[r])void 0!==(r=$3Dmol.elementColors[r])[e[r.prop]]&&(s=r.map[e[r.prop]]);else if(void 0!==r[e[r.prop]])s=r.map[e[r.prop]];else if(void 0!==r.prop&&void 0!==r.gradient){n=r.prop;var l=r.gradient;void 0!==$3Dmol.Gradient.builtinGradients[l]&&(l=new $3Dmol.Gradient.builtinGradients[l](r.min,r.max,r.mid));var c=l.range()||[-1,1];null!=(a=$3Dmol.getAtomProperty(e,n))&&(s=l.valueToHex(a,c))}else void 0!==r.prop&&void 0!==r.map?(n=r.prop,a=$3Dmol.getAtomProperty(e,n),void 0!==r.map[a]&&(s=r.map[a])):void 0!==t.colorscheme[e.elem]?s=t.colorscheme[e.elem]:console.log("Could not interpret colorscheme "+r);else void 0!==t.colorfunc&&(s=t.colorfunc(e));return $3Dmol.CC.color(s)};var $3Dmol=$3Dmol||{};$3Dmol.subdivide_spline=function(e,t){var r,o,i,n,a,s,l,c,u,h=[],f=e;for((f=[]).push(e[0]),r=1,o=e.length-1;r<o;r++)if(a=e[r],s=e[r+1],a.smoothen){var d=new $3Dmol.Vector3((a.x+s.x)/2,(a.y+s.y)/2,(a.z+s.z)/2);d.atom=a.atom,f.push(d)}else f.push(a);for(f.push(e[e.length-1]),r=-1,i=f.length;r<=i-3;r++)if(n=f[-1===r?0:r],a=f[r+1],s=f[r+2],l=f[r===i-3?i-1:r+3],c=(new $3Dmol.Vector3).subVectors(s,n).multiplyScalar(.5),u=(new $3Dmol.Vector3).subVectors(l,a).multiplyScalar(.5),!s.skip)for(var p=0;p<t;p++){var m=1/t*p,v=a.x+m*c.x+m*m*(-3*a.x+3*s.x-2*c.x-u.x)+m*m*m*(2*a.x-2*s.x+c.x+u.x),g=a.y+m*c.y+m*m*(-3*a.y+3*s.y-2*c.y-u.y)+m*m*m*(2*a.y-2*s.y+c.y+u.y),y=a.z+m*c.z+m*m*(-3*a.z+3*s.z-2*c.z-u.z)+m*m*m*(2*a.z-2*s.z+c.z+u.z),b=new $3Dmol.Vector3(v,g,y);b.atom=p<t/2?a.atom:s.atom,h.push(b)}return h.push(f[f.length-1]),h},$3Dmol.drawCartoon=function(){var e=function(e,t,r,o){for(var i,n,a,s,l=0,c=t.length;l<c;l++){s=Math.round(l*(o.length-1)/c),a=$3Dmol.CC.color(o[s]);var u=e.updateGeoGroup(2),h=u.vertexArray,f=u.colorArray,d=u.faceArray;h[n=3*(i=u.vertices)]=t[l].x,h[n+1]=t[l].y,h[n+2]=t[l].z,h[n+3]=r[l].x,h[n+4]=r[l].y,h[n+5]=r[l].z;for(var p=0;p<6;++p)f[n+3*p]=a.r,f[n+1+3*p]=a.g,f[n+2+3*p]=a.b;if(l>0){var m=[i,i+1,i-1,i-2],v=u.faceidx;d[v]=m[0],d[v+1]=m[1],d[v+2]=m[3],d[v+3]=m[1],d[v+4]=m[2],d[v+5]=m[3],u.faceidx+=6}u.vertices+=2}},t=function(e,t,r,o,i){if(0!==t.length){i=void 0===i?5:i;var n=new $3Dmol.Geometry,a=new $3Dmol.LineBasicMaterial({linewidth:r});a.vertexColors=!0;var s=new $3Dmol.Line(n,a);s.type=$3Dmol.LineStrip,e.add(s)}},r=function(t,r,o,i,n,a,s){s&&"default"!==s||(s="rectangle"),"edged"===s?function(t,r,o,i,n,a){if(!(r.length<2)){var s,l;if(s=r[0],l=r[r.length-1],s=$3Dmol.subdivide_spline(s,i),l=$3Dmol.subdivide_spline(l,i),!n)return e(t,s,l,o);var c,u,h,f,d,p,m,v,g,y,b,x,w,D,C,A,S,$,M,_,T,z,E=[],L=[[0,2,-6,-8],[-4,-2,6,4],[7,-1,-5,3],[-3,5,1,-7]];for(w=0,D=s.length;w<D;w++){if(y=Math.round(w*(o.length-1)/D),g=$3Dmol.CC.color(o[y]),E.push(u=s[w]),E.push(u),E.push(h=l[w]),E.push(h),w<D-1){var F=s[w+1].clone().sub(s[w]);c=l[w].clone().sub(s[w]).cross(F).normalize().multiplyScalar(n)}for(E.push(f=s[w].clone().add(c)),E.push(f),E.push(d=l[w].clone().add(c)),E.push(d),void 0!==u.atom&&(b=u.atom),_=(M=t.updateGeoGroup(8)).vertexArray,T=M.colorArray,z=M.faceArray,_[m=3*(p=M.vertices)]=u.x,_[m+1]=u.y,_[m+2]=u.z,_[m+3]=u.x,_[m+4]=u.y,_[m+5]=u.z,_[m+6]=h.x,_[m+7]=h.y,_[m+8]=h.z,_[m+9]=h.x,_[m+10]=h.y,_[m+11]=h.z,_[m+12]=f.x,_[m+13]=f.y,_[m+14]=f.z,_[m+15]=f.x,_[m+16]=f.y,_[m+17]=f.z,_[m+18]=d.x,_[m+19]=d.y,_[m+20]=d.z,_[m+21]=d.x,_[m+22]=d.y,_[m+23]=d.z,C=0;C<8;++C)T[m+3*C]=g.r,T[m+1+3*C]=g.g,T[m+2+3*C]=g.b;if(w>0){var I=void 0!==x&&void 0!==b&&x.serial!==b.serial;for(C=0;C<4;C++){var R=[p+L[C][0],p+L[C][1],p+L[C][2],p+L[C][3]];if(z[v=M.faceidx]=R[0],z[v+1]=R[1],z[v+2]=R[3],z[v+3]=R[1],z[v+4]=R[2],z[v+5]=R[3],M.faceidx+=6,b.clickable||x.clickable||b.hoverable||x.hoverable){var O=E[R[3]].clone(),k=E[R[0]].clone(),N=E[R[2]].clone(),P=E[R[1]].clone();if(O.atom=E[R[3]].atom||null,N.atom=E[R[2]].atom||null,k.atom=E[R[0]].atom||null,P.atom=E[R[1]].atom||null,I){var V=O.clone().add(k).multiplyScalar(.5),U=N.clone().add(P).multiplyScalar(.5),B=O.clone().add(P).multiplyScalar(.5);C%2==0?((x.clickable||x.hoverable)&&(A=new $3Dmol.Triangle(V,B,O),S=new $3Dmol.Triangle(U,N,B),$=new $3Dmol.Triangle(B,N,O),x.intersectionShape.triangle.push(A),x.intersectionShape.triangle.push(S),x.intersectionShape.triangle.push($)),(b.clickable||b.hoverable)&&(A=new $3Dmol.Triangle(k,P,B),S=new $3Dmol.Triangle(P,U,B),$=new $3Dmol.Triangle(k,B,V),b.intersectionShape.triangle.push(A),b.intersectionShape.triangle.push(S),b.intersectionShape.triangle.push($))):((b.clickable||b.hoverable)&&(A=new $3Dmol.Triangle(V,B,O),S=new $3Dmol.Triangle(U,N,B),$=new $3Dmol.Triangle(B,N,O),b.intersectionShape.triangle.push(A),b.intersectionShape.triangle.push(S),b.intersectionShape.triangle.push($)),(x.clickable||x.hoverable)&&(A=new $3Dmol.Triangle(k,P,B),S=new $3Dmol.Triangle(P,U,B),$=new $3Dmol.Triangle(k,B,V),x.intersectionShape.triangle.push(A),x.intersectionShape.triangle.push(S),x.intersectionShape.triangle.push($)))}else(b.clickable||b.hoverable)&&(A=new $3Dmol.Triangle(k,P,O),S=new $3Dmol.Triangle(P,N,O),b.intersectionShape.triangle.push(A),b.intersectionShape.triangle.push(S))}}}M.vertices+=8,x=b}var j=E.length-8;for(_=(M=t.updateGeoGroup(8)).vertexArray,T=M.colorArray,z=M.faceArray,m=3*(p=M.vertices),v=M.faceidx,w=0;w<4;w++){E.push(E[2*w]),E.push(E[j+2*w]);var G=E[2*w],H=E[j+2*w];_[m+6*w]=G.x,_[m+1+6*w]=G.y,_[m+2+6*w]=G.z,_[m+3+6*w]=H.x,_[m+4+6*w]=H.y,_[m+5+6*w]=H.z,T[m+6*w]=g.r,T[m+1+6*w]=g.g,T[m+2+6*w]=g.b,T[m+3+6*w]=g.r,T[m+4+6*w]=g.g,T[m+5+6*w]=g.b}j+=8,A=[p,p+2,p+6,p+4],S=[p+1,p+5,p+7,p+3],z[v]=A[0],z[v+1]=A[1],z[v+2]=A[3],z[v+3]=A[1],z[v+4]=A[2],z[v+5]=A[3],z[v+6]=S[0],z[v+7]=S[1],z[v+8]=S[3],z[v+9]=S[1],z[v+10]=S[2],z[v+11]=S[3],M.faceidx+=12,M.vertices+=8}}(t,r,o,i,n):"rectangle"!==s&&"oval"!==s&&"parabola"!==s||function(t,r,o,i,n,a,s){var l,c,u,h;if(!((u=r.length)<2||r[0].length<2)){for(l=0;l<u;l++)r[l]=$3Dmol.subdivide_spline(r[l],i);if(h=r[0].length,!n)return e(t,r[0],r[u-1],o);var f,d,p,m,v,g,y=[],b=[],x=[];for(c=0;c<u;c++)y.push(.25+1.5*Math.sqrt((u-1)*c-Math.pow(c,2))/(u-1)),b.push(.5),x.push(2*(Math.pow(c/u,2)-c/u)+.6);var w,D,C,A,S,$,M=[];for(c=0;c<2*u-1;c++)M[c]=[c,c+1,c+1-2*u,c-2*u];M[2*u-1]=[c,c+1-2*u,c+1-4*u,c-2*u];var _,T,z,E,L=t.updateGeoGroup(2*u*h);for(l=0;l<h;l++){var F,I;for($=Math.round(l*(o.length-1)/h),S=$3Dmol.CC.color(o[$]),v=p,g=m,p=[],m=[],f=[],void 0!==r[0][l].atom&&(A=r[0][l].atom,"oval"===s?d=y:"rectangle"===s?d=b:"parabola"===s&&(d=x)),d||(d=b),c=0;c<u;c++)F=l<h-1?r[c][l+1].clone().sub(r[c][l]):r[c][l-1].clone().sub(r[c][l]).negate(),I=c<u-1?r[c+1][l].clone().sub(r[c][l]):r[c-1][l].clone().sub(r[c][l]).negate(),f[c]=I.cross(F).normalize().multiplyScalar(n*d[c]);for(c=0;c<u;c++)p[c]=r[c][l].clone().add(f[c].clone().negate());for(c=0;c<u;c++)m[c]=r[c][l].clone().add(f[c]);for(_=L.vertexArray,T=L.colorArray,z=L.faceArray,D=3*(w=L.vertices),c=0;c<u;c++)_[D+3*c+0]=p[c].x,_[D+3*c+1]=p[c].y,_[D+3*c+2]=p[c].z;for(c=0;c<u;c++)_[D+3*c+0+3*u]=m[u-1-c].x,_[D+3*c+1+3*u]=m[u-1-c].y,_[D+3*c+2+3*u]=m[u-1-c].z;for(c=0;c<2*u;++c)T[D+3*c+0]=S.r,T[D+3*c+1]=S.g,T[D+3*c+2]=S.b;if(l>0){for(c=0;c<2*u;c++)E=[w+M[c][0],w+M[c][1],w+M[c][2],w+M[c][3]],z[C=L.faceidx]=E[0],z[C+1]=E[1],z[C+2]=E[3],z[C+3]=E[1],z[C+4]=E[2],z[C+5]=E[3],L.faceidx+=6;if(A.clickable||A.hoverable){var R=[];for(c in R.push(new $3Dmol.Triangle(v[0],p[0],p[u-1])),R.push(new $3Dmol.Triangle(v[0],p[u-1],v[u-1])),R.push(new $3Dmol.Triangle(v[u-1],p[u-1],m[u-1])),R.push(new $3Dmol.Triangle(v[u-1],m[u-1],g[u-1])),R.push(new $3Dmol.Triangle(m[0],g[0],g[u-1])),R.push(new $3Dmol.Triangle(m[u-1],m[0],g[u-1])),R.push(new $3Dmol.Triangle(p[0],v[0],g[0])),R.push(new $3Dmol.Triangle(m[0],p[0],g[0])),R)A.intersectionShape.triangle.push(R[c])}}L.vertices+=2*u}for(_=L.vertexArray,T=L.colorArray,z=L.faceArray,D=3*(w=L.vertices),C=L.faceidx,l=0;l<u-1;l++)E=[l,l+1,2*u-2-l,2*u-1-l],z[C=L.faceidx]=E[0],z[C+1]=E[1],z[C+2]=E[3],z[C+3]=E[1],z[C+4]=E[2],z[C+5]=E[3],L.faceidx+=6;for(l=0;l<u-1;l++)E=[w-1-l,w-2-l,w-2*u+l+1,w-2*u+l],z[C=L.faceidx]=E[0],z[C+1]=E[1],z[C+2]=E[3],z[C+3]=E[1],z[C+4]=E[2],z[C+5]=E[3],L.faceidx+=6}}(t,r,o,i,n,0,s)},o=function(e){return e&&"C"===e.elem&&"CA"===e.atom},i=function(e,t){if(e&&t&&e.chain===t.chain){if(!(e.hetflag||t.hetflag||e.reschain!==t.reschain||e.resi!==t.resi&&e.resi!==t.resi-1))return!0;if(e.resi<t.resi){var r=e.x-t.x,o=e.y-t.y,i=e.z-t.z,n=r*r+o*o+i*i;if("CA"==e.atom&&"CA"==t.atom&&n<16)return!0;if(("P"==e.atom||"P"==t.atom)&&n<64)return!0}}return!1},n=function(e,t,r,o,i){if(null!=t&&0!=t.vertices){i&&(t.initTypedArrays(),t.setUpNormals());var n=new $3Dmol.MeshDoubleLambertMaterial;n.vertexColors=$3Dmol.FaceColors,"number"==typeof r&&r>=0&&r<1&&(n.transparent=!0,n.opacity=r),n.outline=o;var a=new $3Dmol.Mesh(t,n);e.add(a)}},a=function(e,t,r,o,i,n,a,s,l){var c,u,h,f,d,p;if(o&&i&&a){var m=i.sub(o);m.normalize();var v=s[l];for(u=l+1;u<s.length&&(v=s[u]).atom!=a.atom;u++);if((v=v?new $3Dmol.Vector3(v.x,v.y,v.z):new $3Dmol.Vector3(0,0,0)).sub(o),"arrow start"===a.ss){var g=v.clone().multiplyScalar(.3).cross(i);o.add(g);var y=v.clone().cross(m).normalize();m.rotateAboutVector(y,.43)}for(a.style.cartoon.ribbon?c=a.style.cartoon.thickness||.4:a.style.cartoon.width?c=a.style.cartoon.width:"c"===a.ss?c="P"===a.atom?.8:.5:"arrow start"===a.ss?(c=1.3,d=!0):c="arrow end"===a.ss||"h"===a.ss&&a.style.cartoon.tubes||"tube start"===a.ss?.5:1.3,null!=n&&m.dot(n)<0&&m.negate(),m.multiplyScalar(c),u=0;u<t;u++)h=2*u/(t-1)-1,(f=new $3Dmol.Vector3(o.x+h*m.x,o.y+h*m.y,o.z+h*m.z)).atom=a,r&&"s"===a.ss&&(f.smoothen=!0),e[u].push(f);if(d)for(m.multiplyScalar(2),u=0;u<t;u++)h=2*u/(t-1)-1,(f=new $3Dmol.Vector3(o.x+h*m.x,o.y+h*m.y,o.z+h*m.z)).atom=a,f.smoothen=!1,f.skip=!0,e[u].push(f);return p=a.style.cartoon.style||"default",e.style?e.style!=p&&(console.log("Warning: a cartoon chain's strand-style is ambiguous"),e.style="default"):e.style=p,"arrow start"!==a.ss&&"arrow end"!==a.ss||(a.ss="s"),d}},s={C:!0,CA:!0,O:!0,P:!0,OP2:!0,O2P:!0,"O5'":!0,"O3'":!0,"C5'":!0,"C2'":!0,"O5*":!0,"O3*":!0,"C5*":!0,"C2*":!0,N1:!0,N3:!0},l={DA:!0,DG:!0,A:!0,G:!0},c={DT:!0,DC:!0,U:!0,C:!0,T:!0},u={DA:!0,DG:!0,A:!0,G:!0,DT:!0,DC:!0,U:!0,C:!0,T:!0};return function(e,h,f,d){!function(e,h,f,d,p,m,v){var g,y,b,x,w,D,C,A,S,$,M,_,T,z,E,L,F,I;m=m||5,v=v||5;var R=new $3Dmol.Geometry(!0),O=new $3Dmol.Geometry(!0),k=[],N=[],P=1,V=!1,U={};for(var B in $3Dmol.Gradient.builtinGradients)$3Dmol.Gradient.builtinGradients.hasOwnProperty(B)&&(U[B]=new $3Dmol.Gradient.builtinGradients[B](f[1],f[0]));var j=function(e,t){return f&&"spectrum"===t.color?t.colorscheme in U?U[t.colorscheme].valueToHex(e.resi):U.sinebow.valueToHex(e.resi):$3Dmol.getColorFromStyle(e,t).getHex()};for(A=0;A<m;A++)N[A]=[];var G=!1,H=!1,q=[];for(A in h){if("C"===(x=h[A]).elem&&"CA"===x.atom){var W=i(b,x);W&&"s"===x.ss?G=!0:G&&(b&&y&&b.style.cartoon.arrows&&y.style.cartoon.arrows&&(b.ss="arrow end",y.ss="arrow start"),G=!1),W&&("h"===b.ss||"tube start"==b.ss)&&b.style.cartoon.tubes?!H&&"tube start"!=b.ss&&x.style.cartoon.tubes&&(x.ss="tube start",H=!0):H&&("tube start"===b.ss?b.ss="tube end":y&&y.style.cartoon.tubes&&(y.ss="tube end"),H=!1),y=b,b=x}x&&x.atom in s&&q.push(x)}H&&b.style.cartoon.tubes&&(b.ss="tube end",H=!1);var Y=function(o){for(var i=0;!C&&i<m;i++)t(e,N[i],1,0,v);d&&N[0].length>0&&r(O,N,k,v,C,0,N.style);var a=[],s=null;if(o){for(i=0;i<m;i++)a[i]=N[i][N[i].length-1];s=k[k.length-1]}for(N=[],i=0;i<m;i++)N[i]=[];if(k=[],o){for(i=0;i<m;i++)N[i].push(a[i]);k.push(s)}n(e,O,P,V,!0),n(e,R,P,V,!1),O=new $3Dmol.Geometry(!0),R=new $3Dmol.Geometry(!0)};b=void 0;for(var X=0;X<q.length;X++){var Z=(x=q[X]).resn.trim(),Q=Z in u;if(P=1,g=x.style.cartoon,b&&b.style.cartoon&&(P=b.style.cartoon.opacity),b&&b.style.cartoon&&b.style.cartoon.outline&&(V=b.style.cartoon.outline),!b||!b.style.cartoon||x.style.cartoon&&b.style.cartoon.opacity==x.style.cartoon.opacity||Y(b.chain==x.chain),N.length&&N[0].length>3e4/m/v/2&&Y(!0),"trace"===g.style){if(x.hetflag);else if("C"===x.elem&&"CA"===x.atom||Q&&"P"===x.atom){if(D=j(x,g),C=$3Dmol.isNumeric(g.thickness)?g.thickness:.4,i(b,x))if(D==w){var K=$3Dmol.CC.color(D);$3Dmol.GLDraw.drawCylinder(R,b,x,C,K,2,2)}else{var J=(new $3Dmol.Vector3).addVectors(b,x).multiplyScalar(.5),ee=$3Dmol.CC.color(w),te=$3Dmol.CC.color(D);$3Dmol.GLDraw.drawCylinder(R,b,J,C,ee,2,0),$3Dmol.GLDraw.drawCylinder(R,J,x,C,te,0,2)}if((!0===x.clickable||x.hoverable)&&void 0!==x.intersectionShape){var re=new $3Dmol.Vector3(x.x,x.y,x.z);x.intersectionShape.sphere.push(new $3Dmol.Sphere(re,C))}b=x,w=D}}else{if(o(x)||Q&&("P"===x.atom||0==x.atom.indexOf("O5"))){if(I)if("tube end"===x.ss)I=!1,F=new $3Dmol.Vector3(x.x,x.y,x.z),$3Dmol.GLDraw.drawCylinder(R,L,F,2,$3Dmol.CC.color(w),1,1),x.ss="h";else{if(b.chain==x.chain&&"tube end"!==b.ss)continue;I=!1,b.ss="h",F=new $3Dmol.Vector3(b.x,b.y,b.z),$3Dmol.GLDraw.drawCylinder(R,L,F,2,$3Dmol.CC.color(w),1,1)}if(b&&(!i(b,x)||"tube start"===b.ss)){for("tube start"===b.ss&&(I=!0,L=new $3Dmol.Vector3(b.x,b.y,b.z),b.ss="h"),E&&(z=_?(new $3Dmol.Vector3).addVectors(b,_).multiplyScalar(.5):new $3Dmol.Vector3(b.x,b.y,b.z),$3Dmol.GLDraw.drawCylinder(R,z,E,.4,$3Dmol.CC.color(E.color),0,2),a(N,m,!p,_,T,M,b,q,X),k.push(D),z=null,E=null),A=0;!C&&A<m;A++)t(e,N[A],1,0,v);for(d&&N[0].length>0&&r(O,N,k,v,C,0,N.style),N=[],A=0;A<m;A++)N[A]=[];k=[]}if(void 0===b||b.rescode!=x.rescode||b.resi!=x.resi){if(E){var oe=(z=(new $3Dmol.Vector3).addVectors(b,x).multiplyScalar(.5)).clone().sub(E).multiplyScalar(.02);z.add(oe),$3Dmol.GLDraw.drawCylinder(R,z,E,.4,$3Dmol.CC.color(E.color),0,2),z=null,E=null}D=j(x,g),k.push(D),C=$3Dmol.isNumeric(g.thickness)?g.thickness:.4,b=x,(S=new $3Dmol.Vector3(b.x,b.y,b.z)).resi=b.resi,w=D}!0!==x.clickable&&!0!==x.hoverable||void 0!==x.intersectionShape&&void 0!==x.intersectionShape.triangle||(x.intersectionShape={sphere:null,cylinder:[],line:[],triangle:[]})}else o(b)&&"O"===x.atom||Q&&"P"===b.atom&&("OP2"===x.atom||"O2P"===x.atom)||Q&&0==b.atom.indexOf("O5")&&0==x.atom.indexOf("C5")?(($=new $3Dmol.Vector3(x.x,x.y,x.z)).resi=x.resi,"OP2"!==x.atom&&"O2P"!==x.atom||(T=new $3Dmol.Vector3(x.x,x.y,x.z))):Q&&0==x.atom.indexOf("O3")?_=new $3Dmol.Vector3(x.x,x.y,x.z):("N1"===x.atom&&Z in l||"N3"===x.atom&&Z in c)&&((E=new $3Dmol.Vector3(x.x,x.y,x.z)).color=$3Dmol.getColorFromStyle(x,g).getHex());$&&S&&$.resi===S.resi&&(a(N,m,!p,S,$,M,b,q,X),M=$,S=null,$=null,k.push(D))}}E&&(z=_?(new $3Dmol.Vector3).addVectors(b,_).multiplyScalar(.5):new $3Dmol.Vector3(b.x,b.y,b.z),$3Dmol.GLDraw.drawCylinder(R,z,E,.4,$3Dmol.CC.color(E.color),0,2),a(N,m,!p,_,T,M,b,q,X),k.push(D)),Y()}(e,h,f,!0,!1,d=d||5,d)}}();var $3Dmol=$3Dmol||{};$3Dmol.CAP={NONE:0,FLAT:1,ROUND:2},$3Dmol.GLDraw=function(){var e,t={},r=(e=new $3Dmol.Vector3,function(t){e.set(t[0],t[1],t[2]);var r,o,i,n,a,s=e.x,l=e.y,c=e.z,u=Math.sqrt(s*s+l*l);u<1e-4?(o=0,i=1):(o=-s/u,i=l/u),l=-o*s+i*l,(r=Math.sqrt(l*l+c*c))<1e-4?(n=0,a=1):(n=c/r,a=l/r);var h=new Float32Array(9);return h[0]=i,h[1]=o,h[2]=0,h[3]=-o*a,h[4]=i*a,h[5]=n,h[6]=o*n,h[7]=-i*n,h[8]=a,h}),o=function(){var e,t=[],r=Math.pow(2,4),o=2,i=Math.pow(2,o),n=r/i;for(t[0]=new $3Dmol.Vector3(-1,0,0),t[n]=new $3Dmol.Vector3(0,0,1),t[2*n]=new $3Dmol.Vector3(1,0,0),t[3*n]=new $3Dmol.Vector3(0,0,-1),o=3;o<=4;o++){for(n=r/(i=Math.pow(2,o-1)),e=0;e<i-1;e++)t[n/2+e*n]=t[e*n].clone().add(t[(e+1)*n]).normalize();t[n/2+(e=i-1)*n]=t[e*n].clone().add(t[0]).normalize()}return t}(),i={cache:{},getVerticesForRadius:function(e,t,r){if(void 0!==typeof this.chache&&void 0!==this.cache[e]&&void 0!==this.cache[e][t+r])return this.cache[e][t+r];for(var i,n=o.length,a=[],s=[],l=0;l<n;l++)a.push(o[l].clone().multiplyScalar(e)),a.push(o[l].clone().multiplyScalar(e)),i=o[l].clone().normalize(),s.push(i),s.push(i);var c=[],u=10,h=n;var f,d,p=2*Math.PI,m=Math.PI,v=!1,g=!1;for(d=0;d<=u;d++){v=0===d||d===u,g=5===d;var y=[],b=[];for(f=0;f<=h;f++)if(g){var x=f<h?2*f:0;b.push(x+1),y.push(x)}else{var w=f/h,D=d/u;if(v&&0!==f)v&&y.push(a.length-1);else if(f<h){var C=new $3Dmol.Vector3;C.x=-e*Math.cos(0+w*p)*Math.sin(0+D*m),C.y=1==t?0:e*Math.cos(0+D*m),C.z=e*Math.sin(0+w*p)*Math.sin(0+D*m),Math.abs(C.x)<1e-5&&(C.x=0),Math.abs(C.y)<1e-5&&(C.y=0),Math.abs(C.z)<1e-5&&(C.z=0),t==$3Dmol.CAP.FLAT?(i=new $3Dmol.Vector3(0,Math.cos(0+D*m),0)).normalize():(i=new $3Dmol.Vector3(C.x,C.y,C.z)).normalize(),a.push(C),s.push(i),y.push(a.length-1)}else y.push(a.length-h)}g&&c.push(b),c.push(y)}var A={vertices:a,normals:s,verticesRows:c,w:h,h:u};return e in this.cache||(this.cache[e]={}),this.cache[e][t+r]=A,A}};t.drawCylinder=function(e,t,o,n,a,s,l){if(t&&o){0;var c=l||s;a=a||{r:0,g:0,b:0};var u=[o.x,o.y,o.z];u[0]-=t.x,u[1]-=t.y,u[2]-=t.z;var h,f,d,p,m,v,g=r(u),y=i.getVerticesForRadius(n,l,"to"),b=y.w,x=y.h,w=c?x*b+2:2*b,D=e.updateGeoGroup(w),C=y.vertices,A=y.normals,S=y.verticesRows,$=S[x/2],M=S[x/2+1],_=D.vertices,T=D.vertexArray,z=D.normalArray,E=D.colorArray,L=D.faceArray;for(d=0;d<b;++d){var F=2*d;p=g[0]*C[F].x+g[3]*C[F].y+g[6]*C[F].z,m=g[1]*C[F].x+g[4]*C[F].y+g[7]*C[F].z,v=g[5]*C[F].y+g[8]*C[F].z,h=3*(_+F),f=D.faceidx,T[h]=p+t.x,T[h+1]=m+t.y,T[h+2]=v+t.z,T[h+3]=p+o.x,T[h+4]=m+o.y,T[h+5]=v+o.z,z[h]=p,z[h+3]=p,z[h+1]=m,z[h+4]=m,z[h+2]=v,z[h+5]=v,E[h]=a.r,E[h+3]=a.r,E[h+1]=a.g,E[h+4]=a.g,E[h+2]=a.b,E[h+5]=a.b,L[f]=M[d]+_,L[f+1]=M[d+1]+_,L[f+2]=$[d]+_,L[f+3]=$[d]+_,L[f+4]=M[d+1]+_,L[f+5]=$[d+1]+_,D.faceidx+=6}if(c){var I,R,O,k,N,P,V,U,B,j,G,H,q,W,Y,X,Z,Q,K,J,ee,te,re,oe,ie,ne,ae,se,le,ce,ue,he,fe=s?x+1:x/2+1;for(m=l?0:x/2;m<fe;m++)if(m!==x/2){var de=m<=x/2?o:t,pe=i.getVerticesForRadius(n,l,"to"),me=i.getVerticesForRadius(n,s,"from");for(de===o?(C=pe.vertices,A=pe.normals,S=pe.verticesRows):de==t&&(C=me.vertices,A=me.normals,S=me.verticesRows),p=0;p<b;p++)f=D.faceidx,le=3*((I=S[m][p+1])+_),ce=3*((R=S[m][p])+_),ue=3*((O=S[m+1][p])+_),he=3*((k=S[m+1][p+1])+_),N=g[0]*C[I].x+g[3]*C[I].y+g[6]*C[I].z,P=g[0]*C[R].x+g[3]*C[R].y+g[6]*C[R].z,V=g[0]*C[O].x+g[3]*C[O].y+g[6]*C[O].z,U=g[0]*C[k].x+g[3]*C[k].y+g[6]*C[k].z,B=g[1]*C[I].x+g[4]*C[I].y+g[7]*C[I].z,j=g[1]*C[R].x+g[4]*C[R].y+g[7]*C[R].z,G=g[1]*C[O].x+g[4]*C[O].y+g[7]*C[O].z,H=g[1]*C[k].x+g[4]*C[k].y+g[7]*C[k].z,q=g[5]*C[I].y+g[8]*C[I].z,W=g[5]*C[R].y+g[8]*C[R].z,Y=g[5]*C[O].y+g[8]*C[O].z,X=g[5]*C[k].y+g[8]*C[k].z,T[le]=N+de.x,T[ce]=P+de.x,T[ue]=V+de.x,T[he]=U+de.x,T[le+1]=B+de.y,T[ce+1]=j+de.y,T[ue+1]=G+de.y,T[he+1]=H+de.y,T[le+2]=q+de.z,T[ce+2]=W+de.z,T[ue+2]=Y+de.z,T[he+2]=X+de.z,E[le]=a.r,E[ce]=a.r,E[ue]=a.r,E[he]=a.r,E[le+1]=a.g,E[ce+1]=a.g,E[ue+1]=a.g,E[he+1]=a.g,E[le+2]=a.b,E[ce+2]=a.b,E[ue+2]=a.b,E[he+2]=a.b,Z=g[0]*A[I].x+g[3]*A[I].y+g[6]*A[I].z,Q=g[0]*A[R].x+g[3]*A[R].y+g[6]*A[R].z,K=g[0]*A[O].x+g[3]*A[O].y+g[6]*A[O].z,J=g[0]*A[k].x+g[3]*A[k].y+g[6]*A[k].z,ee=g[1]*A[I].x+g[4]*A[I].y+g[7]*A[I].z,te=g[1]*A[R].x+g[4]*A[R].y+g[7]*A[R].z,re=g[1]*A[O].x+g[4]*A[O].y+g[7]*A[O].z,oe=g[1]*A[k].x+g[4]*A[k].y+g[7]*A[k].z,ie=g[5]*A[I].y+g[8]*A[I].z,ne=g[5]*A[R].y+g[8]*A[R].z,ae=g[5]*A[O].y+g[8]*A[O].z,se=g[5]*A[k].y+g[8]*A[k].z,0===m?(z[le]=Z,z[ue]=K,z[he]=J,z[le+1]=ee,z[ue+1]=re,z[he+1]=oe,z[le+2]=ie,z[ue+2]=ae,z[he+2]=se,L[f]=I+_,L[f+1]=O+_,L[f+2]=k+_,D.faceidx+=3):m===fe-1?(z[le]=Z,z[ce]=Q,z[ue]=K,z[le+1]=ee,z[ce+1]=te,z[ue+1]=re,z[le+2]=ie,z[ce+2]=ne,z[ue+2]=ae,L[f]=I+_,L[f+1]=R+_,L[f+2]=O+_,D.faceidx+=3):(z[le]=Z,z[ce]=Q,z[he]=J,z[le+1]=ee,z[ce+1]=te,z[he+1]=oe,z[le+2]=ie,z[ce+2]=ne,z[he+2]=se,z[ce]=Q,z[ue]=K,z[he]=J,z[ce+1]=te,z[ue+1]=re,z[he+1]=oe,z[ce+2]=ne,z[ue+2]=ae,z[he+2]=se,L[f]=I+_,L[f+1]=R+_,L[f+2]=k+_,L[f+3]=R+_,L[f+4]=O+_,L[f+5]=k+_,D.faceidx+=6)}}D.vertices+=w}},t.drawCone=function(e,t,i,n,a){if(t&&i){a=a||{r:0,g:0,b:0};var s=[i.x,i.y,i.z];s.x-=t.x,s.y-=t.y,s.z-=t.z;var l,c,u,h,f,d,p=r(s),m=o.length,v=o,g=m+2,y=e.updateGeoGroup(g),b=y.vertices,x=y.vertexArray,w=y.normalArray,D=y.colorArray,C=y.faceArray;l=3*b;var A=new $3Dmol.Vector3(s[0],s[1],s[2]).normalize();for(x[l]=t.x,x[l+1]=t.y,x[l+2]=t.z,w[l]=-A.x,w[l+1]=-A.y,w[l+2]=-A.z,D[l]=a.r,D[l+1]=a.g,D[l+2]=a.b,x[l+3]=i.x,x[l+4]=i.y,x[l+5]=i.z,w[l+3]=A.x,w[l+4]=A.y,w[l+5]=A.z,D[l+3]=a.r,D[l+4]=a.g,D[l+5]=a.b,l+=6,u=0;u<m;++u){var S=v[u].clone();S.multiplyScalar(n),h=p[0]*S.x+p[3]*S.y+p[6]*S.z,f=p[1]*S.x+p[4]*S.y+p[7]*S.z,d=p[5]*S.y+p[8]*S.z,x[l]=h+t.x,x[l+1]=f+t.y,x[l+2]=d+t.z,w[l]=h,w[l+1]=f,w[l+2]=d,D[l]=a.r,D[l+1]=a.g,D[l+2]=a.b,l+=3}for(y.vertices+=m+2,c=y.faceidx,u=0;u<m;u++){var $=b+2+u,M=b+2+(u+1)%m;C[c]=$,C[c+1]=M,C[c+2]=b,C[c+=3]=$,C[c+1]=M,C[c+2]=b+1,c+=3}y.faceidx+=6*m}};var n={cache:{},getVerticesForRadius:function(e){if(void 0!==this.cache[e])return this.cache[e];var t={vertices:[],verticesRows:[],normals:[]},r=16,o=10;e<1&&(r=10,o=8);var i,n,a=2*Math.PI,s=Math.PI;for(n=0;n<=o;n++){var l=[];for(i=0;i<=r;i++){var c=i/r,u=n/o,h={};h.x=-e*Math.cos(0+c*a)*Math.sin(0+u*s),h.y=e*Math.cos(0+u*s),h.z=e*Math.sin(0+c*a)*Math.sin(0+u*s);var f=new $3Dmol.Vector3(h.x,h.y,h.z);f.normalize(),t.vertices.push(h),t.normals.push(f),l.push(t.vertices.length-1)}t.verticesRows.push(l)}return this.cache[e]=t,t}};return t.drawSphere=function(e,t,r,o){for(var i,a,s=n.getVerticesForRadius(r),l=s.vertices,c=s.normals,u=e.updateGeoGroup(l.length),h=u.vertices,f=u.vertexArray,d=u.colorArray,p=u.faceArray,m=u.lineArray,v=u.normalArray,g=0,y=l.length;g<y;++g){var b=3*(h+g),x=l[g];f[b]=x.x+t.x,f[b+1]=x.y+t.y,f[b+2]=x.z+t.z,d[b]=o.r,d[b+1]=o.g,d[b+2]=o.b}u.vertices+=l.length;var w=s.verticesRows,D=w.length-1;for(a=0;a<D;a++){var C=w[a].length-1;for(i=0;i<C;i++){var A=u.faceidx,S=u.lineidx,$=w[a][i+1]+h,M=3*$,_=w[a][i]+h,T=3*_,z=w[a+1][i]+h,E=3*z,L=w[a+1][i+1]+h,F=3*L,I=c[$-h],R=c[_-h],O=c[z-h],k=c[L-h];Math.abs(l[$-h].y)===r?(v[M]=I.x,v[E]=O.x,v[F]=k.x,v[M+1]=I.y,v[E+1]=O.y,v[F+1]=k.y,v[M+2]=I.z,v[E+2]=O.z,v[F+2]=k.z,p[A]=$,p[A+1]=z,p[A+2]=L,m[S]=$,m[S+1]=z,m[S+2]=$,m[S+3]=L,m[S+4]=z,m[S+5]=L,u.faceidx+=3,u.lineidx+=6):Math.abs(l[z-h].y)===r?(v[M]=I.x,v[T]=R.x,v[E]=O.x,v[M+1]=I.y,v[T+1]=R.y,v[E+1]=O.y,v[M+2]=I.z,v[T+2]=R.z,v[E+2]=O.z,p[A]=$,p[A+1]=_,p[A+2]=z,m[S]=$,m[S+1]=_,m[S+2]=$,m[S+3]=z,m[S+4]=_,m[S+5]=z,u.faceidx+=3,u.lineidx+=6):(v[M]=I.x,v[T]=R.x,v[F]=k.x,v[M+1]=I.y,v[T+1]=R.y,v[F+1]=k.y,v[M+2]=I.z,v[T+2]=R.z,v[F+2]=k.z,v[T]=R.x,v[E]=O.x,v[F]=k.x,v[T+1]=R.y,v[E+1]=O.y,v[F+1]=k.y,v[T+2]=R.z,v[E+2]=O.z,v[F+2]=k.z,p[A]=$,p[A+1]=_,p[A+2]=L,p[A+3]=_,p[A+4]=z,p[A+5]=L,m[S]=$,m[S+1]=_,m[S+2]=$,m[S+3]=L,m[S+4]=_,m[S+5]=z,m[S+6]=z,m[S+7]=L,u.faceidx+=6,u.lineidx+=8)}}},t}();var $3Dmol=$3Dmol||{};$3Dmol.GLModel=function(){var e={line:{}},t={H:1.2,He:1.4,Li:1.82,Be:1.53,B:1.92,C:1.7,N:1.55,O:1.52,F:1.47,Ne:1.54,Na:2.27,Mg:1.73,Al:1.84,Si:2.1,P:1.8,S:1.8,Cl:1.75,Ar:1.88,K:2.75,Ca:2.31,Ni:1.63,Cu:1.4,Zn:1.39,Ga:1.87,Ge:2.11,As:1.85,Se:1.9,Br:1.85,Kr:2.02,Rb:3.03,Sr:2.49,Pd:1.63,Ag:1.72,Cd:1.58,In:1.93,Sn:2.17,Sb:2.06,Te:2.06,I:1.98,Xe:2.16,Cs:3.43,Ba:2.68,Pt:1.75,Au:1.66,Hg:1.55,Tl:1.96,Pb:2.02,Bi:2.07,Po:1.97,At:2.02,Rn:2.2,Fr:3.48,Ra:2.83,U:1.86};n.validElements=["H","Li","LI","Na","NA","K","C","N","O","F","P","S","CL","Cl","BR","Br","SE","Se","ZN","Zn","CU","Cu","NI","Ni"],n.validAtomSpecs={resn:{type:"string",valid:!0},x:{type:"number",valid:!1,step:.1},y:{type:"number",valid:!1,step:.1},z:{type:"number",valid:!1,step:.1},color:{type:"color",gui:!0},surfaceColor:{type:"color",gui:!0},elem:{type:"element",gui:!0},hetflag:{type:"boolean",valid:!1},chain:{type:"string",gui:!0},resi:{type:"number",gui:!0},icode:{type:"number",valid:!1,step:.1},rescode:{type:"number",valid:!1,step:.1},serial:{type:"number",valid:!1,step:.1},atom:{type:"string",valid:!1},bonds:{type:"array",valid:!1},ss:{type:"string",valid:!1},singleBonds:{type:"boolean",valid:!1},bondOrder:{type:"array",valid:!1},properties:{type:"properties",valid:!1},b:{type:"number",valid:!1,step:.1},pdbline:{type:"string",valid:!1},clickable:{type:"boolean",valid:!1},callback:{type:"function",valid:!1},invert:{type:"boolean",valid:!1},reflectivity:{type:"number",gui:!0,step:.1},altLoc:{type:"invalid",valid:!1},sym:{type:"number",gui:!1}};n.validAtomSelectionSpecs=$3Dmol.extend(n.validAtomSpecs,{model:{type:"string",valid:!1},bonds:{type:"string",valid:!1},predicate:{type:"string",valid:!1},invert:{type:"string",valid:!1},byres:{type:"string",valid:!1},expand:{type:"string",valid:!1},within:{type:"string",valid:!1},and:{type:"string",valid:!1},or:{type:"string",valid:!1},not:{type:"string",valid:!1}});var r={hidden:{type:"boolean",gui:!0},linewidth:{type:"number",gui:!0,step:.1,default:1},colorscheme:{type:"colorscheme",gui:!0},color:{type:"color",gui:!0}},o={hidden:{type:"boolean",gui:!0},linewidth:{type:"number",gui:!1,step:.1,default:1,min:0},colorscheme:{type:"colorscheme",gui:!0},color:{type:"color",gui:!0},radius:{type:"number",gui:!0,step:.1,default:1,min:.1},scale:{type:"number",gui:!0,step:.1,default:1,min:0}},i={hidden:{type:"boolean",gui:!0},singleBonds:{type:"boolean",gui:!0},colorscheme:{type:"colorscheme",gui:!0},color:{type:"color",gui:!0},radius:{type:"number",gui:!0,step:.1,default:1.5,min:0},scale:{type:"number",gui:!0,step:.1,default:1,min:.1}};n.validAtomStyleSpecs={line:{validItems:r,gui:!0},cross:{validItems:o,gui:!0},stick:{validItems:{hidden:{type:"boolean",gui:!0},colorscheme:{type:"colorscheme",gui:!0},color:{type:"color",gui:!0},radius:{type:"number",gui:!0,step:.1,default:.25,min:.1},singleBonds:{type:"boolean",gui:!0}},gui:!0},sphere:{validItems:i,gui:!0},cartoon:{validItems:{style:{validItems:["trace","oval","rectangle","parabola","edged"],gui:!0},color:{type:"color",gui:!0},arrows:{type:"boolean",gui:!0},ribbon:{type:"boolean",gui:!0},hidden:{type:"boolean",gui:!0},tubes:{type:"boolean",gui:!0},thickness:{type:"number",gui:!0,step:.1,default:1,min:0},width:{type:"number",gui:!0,step:.1,default:1,min:0},opacity:{type:"number",gui:!0,step:.1,default:1,min:0,max:1}},gui:!0},colorfunc:{validItems:null,valid:!1},clicksphere:{validItems:i}},n.validSurfaceSpecs={opacity:{type:"number",gui:!0,step:.1,default:1,min:0,max:1},colorscheme:{type:"colorscheme",gui:!0},color:{type:"color",gui:!0},voldata:{type:"number",gui:!1},volscheme:{type:"number",gui:!1},map:{type:"number",gui:!1}},n.validLabelResSpecs={font:{type:"string",gui:!0},fontSize:{type:"number",gui:!0,step:1,default:12,min:1},fontColor:{type:"color",gui:!0},fontOpacity:{type:"number",gui:!0,step:.1,default:1,min:0,max:1},borderThickness:{type:"number",gui:!0,step:.1,default:1,min:0},borderColor:{type:"color",gui:!0},borderOpacity:{type:"number",gui:!0,step:.1,default:1,min:0,max:1},backgroundColor:{type:"color",gui:!0},backgroundOpacity:{type:"number",gui:!0,step:.1,default:1,min:0,max:1},position:{type:"array",valid:!1},inFront:{type:"boolean",gui:!0},showBackground:{type:"boolean",gui:!0},fixed:{type:"boolean",gui:!0},alignment:{validItems:["topLeft","topCenter","topRight","centerLeft","center","centerRight","bottomLeft","bottomCenter","bottomRight"],gui:!0},scale:{type:"boolean",gui:!1}};function n(r,o){var i=[],a=[],s=null,l=null,c=r,u=!1,h=null,f=null,d=null,p={},m=null,v=new $3Dmol.Matrix4,g=!0,y=$3Dmol.elementColors.defaultColor,b=(o=o||{}).defaultcolors?o.defaultcolors:$3Dmol.elementColors.defaultColors,x=o.defaultSphereRadius?o.defaultSphereRadius:1.5,w=o.cartoonQuality?o.cartoonQuality:5,D=function(e,r){var o=x;if(void 0!==r.radius)o=r.radius;else if(t[e.elem])o=t[e.elem];else if(e.elem.length>1){let r=e.elem;r[1]=r[1].toLowerCase(),t[r]&&(o=t[r])}return void 0!==r.scale&&(o*=r.scale),o},C=function(e,t){if(e.style.cross){var r=e.style.cross;if(!r.hidden){var o=r.linewidth||1;t[o]||(t[o]=new $3Dmol.Geometry);var i=t[o].updateGeoGroup(6),n=D(e,r),a=[[n,0,0],[-n,0,0],[0,n,0],[0,-n,0],[0,0,n],[0,0,-n]],s=e.clickable||e.hoverable;s&&void 0===e.intersectionShape&&(e.intersectionShape={sphere:[],cylinder:[],line:[]});for(var l=$3Dmol.getColorFromStyle(e,r),c=i.vertexArray,u=i.colorArray,h=0;h<6;h++){var f=3*i.vertices;if(i.vertices++,c[f]=e.x+a[h][0],c[f+1]=e.y+a[h][1],c[f+2]=e.z+a[h][2],u[f]=l.r,u[f+1]=l.g,u[f+2]=l.b,s){var d=new $3Dmol.Vector3(a[h][0],a[h][1],a[h][2]);d.multiplyScalar(.1),d.set(d.x+e.x,d.y+e.y,d.z+e.z),e.intersectionShape.line.push(d)}}}}},A=function(e,t,r){var o,n,a,s,l,c=new $3Dmol.Vector3(e.x,e.y,e.z),u=new $3Dmol.Vector3(t.x,t.y,t.z).clone(),h=null;u.sub(c);var f=function(e,t){for(var r=null,o=-1,f=0,d=e.bonds.length;f<d;f++)if(e.bonds[f]!=t.index){n=e.bonds[f],a=i[n],s=new $3Dmol.Vector3(a.x,a.y,a.z),(l=s.clone()).sub(c),(h=l.clone()).cross(u);var p=h.lengthSq();if(p>o&&(r=h,(o=p)>.1))return r}return r};if(1===e.bonds.length)1===t.bonds.length?(h=u.clone(),Math.abs(h.x)>1e-4?h.y+=1:h.x+=1):(o=(r+1)%t.bonds.length,n=t.bonds[o],a=i[n],s=new $3Dmol.Vector3(a.x,a.y,a.z),(l=s.clone()).sub(c),(h=l.clone()).cross(u));else if((h=f(e,t)).lengthSq()<.01){var d=f(t,e);null!=d&&(h=d)}return h.lengthSq()<.01&&(h=u.clone(),Math.abs(h.x)>1e-4?h.y+=1:h.x+=1),h.cross(u),h.normalize(),h},S=function(e,t,r,o,i,n){e[r]=o.x,e[r+1]=o.y,e[r+2]=o.z,t[r]=n.r,t[r+1]=n.g,t[r+2]=n.b,e[r+3]=i.x,e[r+4]=i.y,e[r+5]=i.z,t[r+3]=n.r,t[r+4]=n.g,t[r+5]=n.b},M=function(e,t,r){if(e.style.line){var o=e.style.line;if(!o.hidden){var i,n,a,s,l=o.linewidth||1;r[l]||(r[l]=new $3Dmol.Geometry);for(var c=r[l].updateGeoGroup(6*e.bonds.length),u=c.vertexArray,h=c.colorArray,f=0;f<e.bonds.length;f++){var d=t[e.bonds[f]];if(d.style.line&&!(e.index>=d.index)){var p=new $3Dmol.Vector3(e.x,e.y,e.z),m=new $3Dmol.Vector3(d.x,d.y,d.z),v=p.clone().add(m).multiplyScalar(.5),g=!1,y=e.clickable||e.hoverable,b=d.clickable||d.hoverable;(y||b)&&(y&&(void 0===e.intersectionShape&&(e.intersectionShape={sphere:[],cylinder:[],line:[],triangle:[]}),e.intersectionShape.line.push(p),e.intersectionShape.line.push(v)),b&&(void 0===d.intersectionShape&&(d.intersectionShape={sphere:[],cylinder:[],line:[],triangle:[]}),d.intersectionShape.line.push(v),d.intersectionShape.line.push(m)));var x=$3Dmol.getColorFromStyle(e,e.style.line),w=$3Dmol.getColorFromStyle(d,d.style.line);if(e.bondStyles&&e.bondStyles[f]){var D=e.bondStyles[f];if(!D.iswire)continue;D.singleBond&&(g=!0),void 0!==D.color1&&(x=$3Dmol.CC.color(D.color1)),void 0!==D.color2&&(w=$3Dmol.CC.color(D.color2))}var C,$,M=3*c.vertices;if(e.bondOrder[f]>1&&e.bondOrder[f]<4&&!g){var _=A(e,d,f),T=m.clone();T.sub(p),2==e.bondOrder[f]?(_.multiplyScalar(.1),(i=p.clone()).add(_),(n=p.clone()).sub(_),(a=i.clone()).add(T),(s=n.clone()).add(T),x==w?(c.vertices+=4,S(u,h,M,i,a,x),S(u,h,M+6,n,s,x)):(c.vertices+=8,T.multiplyScalar(.5),(C=i.clone()).add(T),($=n.clone()).add(T),S(u,h,M,i,C,x),S(u,h,M+6,C,a,w),S(u,h,M+12,n,$,x),S(u,h,M+18,$,s,w))):3==e.bondOrder[f]&&(_.multiplyScalar(.1),(i=p.clone()).add(_),(n=p.clone()).sub(_),(a=i.clone()).add(T),(s=n.clone()).add(T),x==w?(c.vertices+=6,S(u,h,M,p,m,x),S(u,h,M+6,i,a,x),S(u,h,M+12,n,s,x)):(c.vertices+=12,T.multiplyScalar(.5),(C=i.clone()).add(T),($=n.clone()).add(T),S(u,h,M,p,v,x),S(u,h,M+6,v,m,w),S(u,h,M+12,i,C,x),S(u,h,M+18,C,a,w),S(u,h,M+24,n,$,x),S(u,h,M+30,$,s,w)))}else x==w?(c.vertices+=2,S(u,h,M,p,m,x)):(c.vertices+=4,S(u,h,M,p,v,x),S(u,h,M+6,v,m,w))}}}}},_=function(e,t){if(e.style.sphere){var r=e.style.sphere;if(!r.hidden){var o=$3Dmol.getColorFromStyle(e,r),i=D(e,r);if((!0===e.clickable||e.hoverable)&&void 0!==e.intersectionShape){var n=new $3Dmol.Vector3(e.x,e.y,e.z);e.intersectionShape.sphere.push(new $3Dmol.Sphere(n,i))}$3Dmol.GLDraw.drawSphere(t,e,i,o)}}},T=function(e){if(e.style.clicksphere){var t=e.style.clicksphere;if(!t.hidden){var r=D(e,t);if((!0===e.clickable||e.hoverable)&&void 0!==e.intersectionShape){var o=new $3Dmol.Vector3(e.x,e.y,e.z);e.intersectionShape.sphere.push(new $3Dmol.Sphere(o,r))}}}},z=function(e,t){if(e.style.sphere){var r=e.style.sphere;if(!r.hidden){var o=D(e,r),i=$3Dmol.getColorFromStyle(e,r),n=t.updateGeoGroup(1),a=n.vertices,s=3*a,l=n.vertexArray,c=n.colorArray,u=n.radiusArray;if(l[s]=e.x,l[s+1]=e.y,l[s+2]=e.z,c[s]=i.r,c[s+1]=i.g,c[s+2]=i.b,u[a]=o,(!0===e.clickable||e.hoverable)&&void 0!==e.intersectionShape){var h=new $3Dmol.Vector3(e.x,e.y,e.z);e.intersectionShape.sphere.push(new $3Dmol.Sphere(h,o))}n.vertices+=1}}},E=function(e,t,r,o){var i,n=e.updateGeoGroup(4),a=n.vertices,s=3*a,l=n.vertexArray,c=n.colorArray;for(i=0;i<4;i++)l[s+3*i]=t.x,l[s+3*i+1]=t.y,l[s+3*i+2]=t.z;var u=n.normalArray;for(i=0;i<4;i++)c[s+3*i]=o.r,c[s+3*i+1]=o.g,c[s+3*i+2]=o.b;u[s+0]=-r,u[s+1]=r,u[s+2]=0,u[s+3]=-r,u[s+4]=-r,u[s+5]=0,u[s+6]=r,u[s+7]=-r,u[s+8]=0,u[s+9]=r,u[s+10]=r,u[s+11]=0,n.vertices+=4;var h=n.faceArray,f=n.faceidx;h[f+0]=a,h[f+1]=a+1,h[f+2]=a+2,h[f+3]=a+2,h[f+4]=a+3,h[f+5]=a,n.faceidx+=6},L=function(e,t){if(e.style.sphere){var r=e.style.sphere;if(!r.hidden){var o=D(e,r),i=$3Dmol.getColorFromStyle(e,r);if((!0===e.clickable||e.hoverable)&&void 0!==e.intersectionShape){var n=new $3Dmol.Vector3(e.x,e.y,e.z);e.intersectionShape.sphere.push(new $3Dmol.Sphere(n,o))}E(t,e,o,i)}}},F=function(e,t,r,o,i){for(var n,a=e.updateGeoGroup(4),s=a.vertices,l=3*s,c=a.vertexArray,u=a.colorArray,h=a.radiusArray,f=a.normalArray,d=i.r,p=i.g,m=i.b,v=l,g=0;g<4;g++)c[v]=t.x,f[v]=r.x,u[v]=d,c[++v]=t.y,f[v]=r.y,u[v]=p,c[++v]=t.z,f[v]=r.z,u[v]=g<2?m:(n=void 0,0==(n=-m)&&(n=-1e-4),n),v++;a.vertices+=4,h[s]=-o,h[s+1]=o,h[s+2]=-o,h[s+3]=o;var y=a.faceArray,b=a.faceidx;y[b+0]=s,y[b+1]=s+1,y[b+2]=s+2,y[b+3]=s+2,y[b+4]=s+3,y[b+5]=s,a.faceidx+=6},I=function(e,t,r){if(e.style.stick){var o=e.style.stick;if(!o.hidden){var i,n,a,s,l,c,u,h,f,d,p,m,v,g,y=o.radius||.25,b=y,x=o.singleBonds||!1,w=0,D=0,C=$3Dmol.getColorFromStyle(e,o);!e.capDrawn&&e.bonds.length<4&&(w=2);var S=$3Dmol.GLDraw.drawCylinder;for(r.imposter&&(S=F),a=0;a<e.bonds.length;a++){var $=t[e.bonds[a]];if(m=v=g=null,e.index<$.index){var M=$.style;if(!M.stick||M.stick.hidden)continue;var _=$3Dmol.getColorFromStyle($,M.stick);if(b=y,s=x,e.bondStyles&&e.bondStyles[a]){if((l=e.bondStyles[a]).iswire)continue;l.radius&&(b=l.radius),l.singleBond&&(s=!0),void 0!==l.color1&&(C=$3Dmol.CC.color(l.color1)),void 0!==l.color2&&(_=$3Dmol.CC.color(l.color2))}var T=new $3Dmol.Vector3(e.x,e.y,e.z),z=new $3Dmol.Vector3($.x,$.y,$.z);if(1===e.bondOrder[a]||s||e.bondOrder[a]>3){if(!$.capDrawn&&$.bonds.length<4&&(D=2),C!=_?(S(r,T,m=(new $3Dmol.Vector3).addVectors(T,z).multiplyScalar(.5),b,C,w,0),S(r,m,z,b,_,0,D)):S(r,T,z,b,C,w,D),i=e.clickable||e.hoverable,n=$.clickable||$.hoverable,i||n){if(m||(m=(new $3Dmol.Vector3).addVectors(T,z).multiplyScalar(.5)),i){var L=new $3Dmol.Cylinder(T,m,b),I=new $3Dmol.Sphere(T,b);e.intersectionShape.cylinder.push(L),e.intersectionShape.sphere.push(I)}if(n){var R=new $3Dmol.Cylinder(z,m,b),O=new $3Dmol.Sphere(z,b);$.intersectionShape.cylinder.push(R),$.intersectionShape.sphere.push(O)}}}else if(e.bondOrder[a]>1){var k=0,N=0;b!=y&&(k=2,N=2);var P,V,U,B,j,G=z.clone(),H=null;G.sub(T),H=A(e,$,a),2==e.bondOrder[a]?(P=b/2.5,H.multiplyScalar(1.5*P),(V=T.clone()).add(H),(U=T.clone()).sub(H),(B=V.clone()).add(G),(j=U.clone()).add(G),C!=_?(m=(new $3Dmol.Vector3).addVectors(V,B).multiplyScalar(.5),v=(new $3Dmol.Vector3).addVectors(U,j).multiplyScalar(.5),S(r,V,m,P,C,k,0),S(r,m,B,P,_,0,N),S(r,U,v,P,C,k,0),S(r,v,j,P,_,0,N)):(S(r,V,B,P,C,k,N),S(r,U,j,P,C,k,N)),i=e.clickable||e.hoverable,n=$.clickable||$.hoverable,(i||n)&&(m||(m=(new $3Dmol.Vector3).addVectors(V,B).multiplyScalar(.5)),v||(v=(new $3Dmol.Vector3).addVectors(U,j).multiplyScalar(.5)),i&&(c=new $3Dmol.Cylinder(V,m,P),u=new $3Dmol.Cylinder(U,v,P),e.intersectionShape.cylinder.push(c),e.intersectionShape.cylinder.push(u)),n&&(f=new $3Dmol.Cylinder(B,m,P),d=new $3Dmol.Cylinder(j,v,P),$.intersectionShape.cylinder.push(f),$.intersectionShape.cylinder.push(d)))):3==e.bondOrder[a]&&(P=b/4,H.cross(G),H.normalize(),H.multiplyScalar(3*P),(V=T.clone()).add(H),(U=T.clone()).sub(H),(B=V.clone()).add(G),(j=U.clone()).add(G),C!=_?(m=(new $3Dmol.Vector3).addVectors(V,B).multiplyScalar(.5),v=(new $3Dmol.Vector3).addVectors(U,j).multiplyScalar(.5),g=(new $3Dmol.Vector3).addVectors(T,z).multiplyScalar(.5),S(r,V,m,P,C,k,0),S(r,m,B,P,_,0,N),S(r,T,g,P,C,w,0),S(r,g,z,P,_,0,D),S(r,U,v,P,C,k,0),S(r,v,j,P,_,0,N)):(S(r,V,B,P,C,k,N),S(r,T,z,P,C,w,D),S(r,U,j,P,C,k,N)),i=e.clickable||e.hoverable,n=$.clickable||$.hoverable,(i||n)&&(m||(m=(new $3Dmol.Vector3).addVectors(V,B).multiplyScalar(.5)),v||(v=(new $3Dmol.Vector3).addVectors(U,j).multiplyScalar(.5)),g||(g=(new $3Dmol.Vector3).addVectors(T,z).multiplyScalar(.5)),i&&(c=new $3Dmol.Cylinder(V.clone(),m.clone(),P),u=new $3Dmol.Cylinder(U.clone(),v.clone(),P),h=new $3Dmol.Cylinder(T.clone(),g.clone(),P),e.intersectionShape.cylinder.push(c),e.intersectionShape.cylinder.push(u),e.intersectionShape.cylinder.push(h)),n&&(f=new $3Dmol.Cylinder(B.clone(),m.clone(),P),d=new $3Dmol.Cylinder(j.clone(),v.clone(),P),p=new $3Dmol.Cylinder(z.clone(),g.clone(),P),$.intersectionShape.cylinder.push(f),$.intersectionShape.cylinder.push(d),$.intersectionShape.cylinder.push(p))))}}}var q=!1,W=0,Y=!1;for(a=0;a<e.bonds.length;a++)s=x,e.bondStyles&&e.bondStyles[a]&&((l=e.bondStyles[a]).singleBond&&(s=!0),l.radius&&l.radius!=y&&(Y=!0)),(s||1==e.bondOrder[a])&&W++;Y?W>0&&(q=!0):0==W&&e.bonds.length>0&&(q=!0),q&&(b=y,r.imposter?E(r.sphereGeometry,e,b,C):$3Dmol.GLDraw.drawSphere(r,e,b,C))}}},R=function(e,t){t=t||{};var r,o,i,n,a=new $3Dmol.Object3D,s=[],l={},c={},u=_,h=null,f=null;t.supportsImposters?(u=L,(h=new $3Dmol.Geometry(!0)).imposter=!0,(f=new $3Dmol.Geometry(!0,!0)).imposter=!0,f.sphereGeometry=new $3Dmol.Geometry(!0),f.sphereGeometry.imposter=!0,f.drawnCaps={}):t.supportsAIA?(u=z,(h=new $3Dmol.Geometry(!1,!0,!0)).instanced=!0,f=new $3Dmol.Geometry(!0)):(h=new $3Dmol.Geometry(!0),f=new $3Dmol.Geometry(!0));var d,m={},v=[Number.POSITIVE_INFINITY,Number.NEGATIVE_INFINITY];for(r=0,i=e.length;r<i;r++){var y=e[r];if(y&&y.style){for(o in(y.clickable||y.hoverable)&&void 0===y.intersectionShape&&(y.intersectionShape={sphere:[],cylinder:[],line:[],triangle:[]}),n={line:void 0,cross:void 0,stick:void 0,sphere:void 0})y.style[o]?y.style[o].opacity?n[o]=parseFloat(y.style[o].opacity):n[o]=1:n[o]=void 0,m[o]?null!=n[o]&&m[o]!=n[o]&&(console.log("Warning: "+o+" opacity is ambiguous"),m[o]=1):m[o]=n[o];u(y,h),T(y),C(y,c),M(y,e,l),I(y,e,f),void 0===y.style.cartoon||y.style.cartoon.hidden||("spectrum"!==y.style.cartoon.color||"number"!=typeof y.resi||y.hetflag||(y.resi<v[0]&&(v[0]=y.resi),y.resi>v[1]&&(v[1]=y.resi)),s.push(y))}}if(s.length>0&&$3Dmol.drawCartoon(a,s,v,w),h&&h.vertices>0){h.initTypedArrays();var b=null,x=null;h.imposter?b=new $3Dmol.SphereImposterMaterial({ambient:0,vertexColors:!0,reflectivity:0}):h.instanced?(x=new $3Dmol.Geometry(!0),$3Dmol.GLDraw.drawSphere(x,{x:0,y:0,z:0},1,new $3Dmol.Color(.5,.5,.5)),x.initTypedArrays(),b=new $3Dmol.InstancedMaterial({sphereMaterial:new $3Dmol.MeshLambertMaterial({ambient:0,vertexColors:!0,reflectivity:0}),sphere:x})):b=new $3Dmol.MeshLambertMaterial({ambient:0,vertexColors:!0,reflectivity:0}),m.sphere<1&&m.sphere>=0&&(b.transparent=!0,b.opacity=m.sphere),x=new $3Dmol.Mesh(h,b),a.add(x)}if(f.vertices>0){var D=null,A=null,S=f.sphereGeometry;S&&void 0!==S.vertices&&0!=S.vertices||(S=null),f.initTypedArrays(),S&&S.initTypedArrays();var $={ambient:0,vertexColors:!0,reflectivity:0};f.imposter?(D=new $3Dmol.StickImposterMaterial($),A=new $3Dmol.SphereImposterMaterial($)):(D=new $3Dmol.MeshLambertMaterial($),A=new $3Dmol.MeshLambertMaterial($),D.wireframe&&(f.setUpWireframe(),S&&S.setUpWireframe())),m.stick<1&&m.stick>=0&&(D.transparent=!0,D.opacity=m.stick,A.transparent=!0,A.opacity=m.stick);var E=new $3Dmol.Mesh(f,D);if(a.add(E),S){var F=new $3Dmol.Mesh(S,A);a.add(F)}}for(r in l)if(l.hasOwnProperty(r)){d=r;var R=new $3Dmol.LineBasicMaterial({linewidth:d,vertexColors:!0});m.line<1&&m.line>=0&&(R.transparent=!0,R.opacity=m.line),l[r].initTypedArrays();var O=new $3Dmol.Line(l[r],R,$3Dmol.LinePieces);a.add(O)}for(r in c)if(c.hasOwnProperty(r)){d=r;var k=new $3Dmol.LineBasicMaterial({linewidth:d,vertexColors:!0});m.cross<1&&m.cross>=0&&(k.transparent=!0,k.opacity=m.cross),c[r].initTypedArrays();var N=new $3Dmol.Line(c[r],k,$3Dmol.LinePieces);a.add(N)}if(g&&p.symmetries&&p.symmetries.length>0){var P,V=new $3Dmol.Object3D;for(P=0;P<p.symmetries.length;P++){var U=new $3Dmol.Object3D;(U=a.clone()).matrix.copy(p.symmetries[P]),U.matrixAutoUpdate=!1,V.add(U)}return V}return a};this.getInternalState=function(){return{atoms:i,frames:a}},this.setInternalState=function(e){i=e.atoms,a=e.frames,h=null},this.getCrystData=function(){if(p.cryst){if(!p.cryst.matrix){const e=p.cryst;p.cryst.matrix=$3Dmol.conversionMatrix3(e.a,e.b,e.c,e.alpha,e.beta,e.gamma)}return p.cryst}return null},this.setCrystData=function(e,t,r,o,i,n){e=e||1,t=t||1,r=r||1,o=o||90,i=i||90,n=n||90;const a=$3Dmol.conversionMatrix3(e,t,r,o,i,n);p.cryst={a:e,b:t,c:r,alpha:o,beta:i,gamma:n,matrix:a}},this.setCrystMatrix=function(e){e=e||new $3Dmol.Matrix3(1,0,0,0,1,0,0,0,1),p.cryst={matrix:e}},this.getSymmetries=function(){return void 0===p.symmetries&&(p.symmetries=[v]),p.symmetries},this.setSymmetries=function(e){p.symmetries=void 0===e?[v]:e},this.getID=function(){return c},this.getNumFrames=function(){return null!=a.numFrames?a.numFrames:a.length};var O=function(e,t,r,o){var i=t-e;return i<-r?t+o:i>r?t-o:t};this.setFrame=function(e,t){var r=this.getNumFrames();let o=this;return new Promise((function(n,c){if(0==r&&n(),(e<0||e>=r)&&(e=r-1),null!=a.url){var u=a.url;$3Dmol.getbin(u+"/traj/frame/"+e+"/"+a.path,null,"POST").then((function(e){for(var t=new Float32Array(e,44),r=0,o=0;o<i.length;o++)i[o].x=t[r++],i[o].y=t[r++],i[o].z=t[r++];s&&l&&function(){if(s&&l)for(var e=s[0],t=s[1],r=s[2],o=.9*e,n=.9*t,a=.9*r,c=0;c<l.length;c++)for(var u=l[c],h=1;h<u.length;h++){var f=i[u[h][0]],d=i[u[h][1]];f.x=O(d.x,f.x,o,e),f.y=O(d.y,f.y,n,t),f.z=O(d.z,f.z,a,r)}}(),n()})).catch(c)}else i=a[e],n();h=null,m&&e<m.length&&(p=m[e],o.unitCellObjects&&t&&(t.removeUnitCell(o),t.addUnitCell(o)))}))},this.addFrame=function(e){a.push(e)},this.vibrate=function(e,t,r,o,n){t=t||1;var s=0,l=e=e||10;r&&(s=-e,l=e),void 0!==a&&void 0!==a.origIndex?this.setFrame(a.origIndex):this.setFrame(0),s<l&&(a=[]),r&&(a.origIndex=e);for(var c=s;c<l;c++){var u=[],h=a.length;if(0!=c||n){for(var f=0;f<i.length;f++){var d=$3Dmol.getAtomProperty(i[f],"dx"),p=$3Dmol.getAtomProperty(i[f],"dy"),m=$3Dmol.getAtomProperty(i[f],"dz"),v=new $3Dmol.Vector3(d,p,m),g=new $3Dmol.Vector3(i[f].x,i[f].y,i[f].z),y=c*t/e;v.multiplyScalar(y),g.add(v);var b={};for(var x in i[f])b[x]=i[f][x];if(b.x=g.x,b.y=g.y,b.z=g.z,u.push(b),o&&n){var w=$3Dmol.extend({},n),D=new $3Dmol.Vector3(d,p,m);if(D.multiplyScalar(t),D.add(g),w.start=g,w.end=D,w.frame=h,!w.color){var C=b.style.sphere;C||(C=b.style.stick),C||(C=b.style.line),w.color=$3Dmol.getColorFromStyle(b,C)}o.addArrow(w)}}a.push(u)}else a.push(i)}},this.setAtomDefaults=function(t){for(var r=0;r<t.length;r++){var o=t[r];o&&(o.style=o.style||$3Dmol.deepCopy(e),o.color=o.color||b[o.elem]||y,o.model=c,(o.clickable||o.hoverable)&&(o.intersectionShape={sphere:[],cylinder:[],line:[],triangle:[]}))}},this.addMolData=function(e,t,r){r=r||{};var o=$3Dmol.GLModel.parseMolData(e,t,r);g=!r.duplicateAssemblyAtoms;var n=o.modelData;if(n&&(Array.isArray(n)?(p=n[0],r.frames&&(m=n)):p=n),s=o.box?o.box:null,0==a.length){for(let e=0;e<o.length;e++)0!=o[e].length&&a.push(o[e]);a[0]&&(i=a[0])}else if(r.frames)for(let e=0;e<o.length;e++)a.push(o[e]);else for(var l=0;l<o.length;l++)this.addAtoms(o[l]);for(let e=0;e<a.length;e++)this.setAtomDefaults(a[e],c);r.vibrate&&r.vibrate.frames&&r.vibrate.amplitude&&this.vibrate(r.vibrate.frames,r.vibrate.amplitude),r.style&&this.setStyle({},r.style)},this.setDontDuplicateAtoms=function(e){g=e},this.setModelData=function(e){p=e};var k=function(e,t){if(e==t)return!0;if("string"==typeof t&&"number"==typeof e){var r=t.match(/(-?\d+)\s*-\s*(-?\d+)/);if(r){var o=parseInt(r[1]),i=parseInt(r[2]);if(r&&e>=o&&e<=i)return!0}}return!1};const N=function(e,t){if("object"!=typeof e)return e;if(e.__cache_created)return e;const r={};for(const o in e){const i=e[o];if(Array.isArray(i)){r[o]=[];for(let e=0;e<i.length;e++)r[o].push(N(i[e],t))}else r[o]="object"==typeof i&&"properties"!=o?N(i,t):i;if("and"==o||"or"==o){const e=[];for(const i of r[o]){const r=new Set;for(const e of t.selectedAtoms(i))r.add(e.index);e.push(r)}if("and"==o){const t=function(e,t){const r=new Set;for(const o of t)e.has(o)&&r.add(o);return r};let i=new Set(e[0]);for(const r of e.splice(1))i=t(i,r);r[o].__cached_results=i}else if("or"==o){const t=new Set;for(const r of e)for(const e of r)t.add(e);r[o].__cached_results=t}}}return r.__cache_created=!0,r};this.atomIsSelected=function(e,t){if(void 0===t)return!0;var r=!!t.invert,o=!0;for(var i in t)if("and"==i||"or"==i||"not"==i){if("not"==i){if(this.atomIsSelected(e,t[i])){o=!1;break}}else if(void 0===t[i].__cached_results&&(t=N(t,this)),!(o=t[i].__cached_results.has(e.index)))break}else if("predicate"===i){if(!t.predicate(e)){o=!1;break}}else if("properties"==i&&e[i]){for(var n in t.properties)if(!n.startsWith("__cache")){if(void 0===e.properties[n]){o=!1;break}if(e.properties[n]!=t.properties[n]){o=!1;break}}}else if(t.hasOwnProperty(i)&&"props"!=i&&"invert"!=i&&"model"!=i&&"byres"!=i&&"expand"!=i&&"within"!=i&&"and"!=i&&"or"!=i&&"not"!=i&&!i.startsWith("__cache")){if(void 0===e[i]){o=!1;break}var a=!1;if("bonds"===i){if(t[i]!=e.bonds.length){o=!1;break}}else if(Array.isArray(t[i])){var s=t[i],l=e[i];for(let e=0;e<s.length;e++)if(k(l,s[e])){a=!0;break}if(!a){o=!1;break}}else{let r=t[i];if(!k(e[i],r)){o=!1;break}}}return r?!o:o};const P=function(e,t){var r=t.x-e.x,o=t.y-e.y,i=t.z-e.z;return r*r+o*o+i*i};this.selectedAtoms=function(e,t){var r=[];e=N(e||{},this),t||(t=i);for(var o=t.length,n=0;n<o;n++){var a=t[n];a&&this.atomIsSelected(a,e)&&r.push(a)}if(e.hasOwnProperty("expand")){const t=parseFloat(e.expand);let o=function(e,t){if(t<=0)return e;for(var r=$3Dmol.getExtent(e),o=[[],[],[]],n=0;n<3;n++)o[0][n]=r[0][n]-t,o[1][n]=r[1][n]+t,o[2][n]=r[2][n];var a=[];for(let e=0;e<i.length;e++){var s=i[e].x,l=i[e].y,c=i[e].z;s>=o[0][0]&&s<=o[1][0]&&l>=o[0][1]&&l<=o[1][1]&&c>=o[0][2]&&c<=o[1][2]&&(s>=r[0][0]&&s<=r[1][0]&&l>=r[0][1]&&l<=r[1][1]&&c>=r[0][2]&&c<=r[1][2]||a.push(i[e]))}return a}(r,t),n=r.length;const a=t*t;for(let e=0;e<o.length;e++)for(let t=0;t<n;t++){var s=P(o[e],r[t]);s<a&&s>0&&r.push(o[e])}}if(e.hasOwnProperty("within")&&e.within.hasOwnProperty("sel")&&e.within.hasOwnProperty("distance")){var l=this.selectedAtoms(e.within.sel,i),c={};const t=parseFloat(e.within.distance),o=t*t;for(let e=0;e<l.length;e++)for(let t=0;t<r.length;t++){let i=P(l[e],r[t]);i<o&&i>0&&(c[t]=1)}var u=[];if(e.within.invert)for(let e=0;e<r.length;e++)c[e]||u.push(r[e]);else for(let e in c)u.push(r[e]);r=u}if(e.hasOwnProperty("byres")){var h={},f=[],d=[];for(let e=0;e<r.length;e++){let t=r[e];var p=t.chain,m=t.resi;if(void 0===h[p]&&(h[p]={}),t.hasOwnProperty("resi")&&void 0===h[p][m])for(h[p][m]=!0,d.push(t);d.length>0;)if(t=d.pop(),p=t.chain,m=t.resi,void 0===f[t.index]){f[t.index]=!0;for(var v=0;v<t.bonds.length;v++){var g=i[t.bonds[v]];void 0===f[g.index]&&g.hasOwnProperty("resi")&&g.chain==p&&g.resi==m&&(d.push(g),r.push(g))}}}}return r},this.addAtoms=function(t){h=null;var r,o=i.length,n=[];for(r=0;r<t.length;r++)void 0===t[r].index&&(t[r].index=r),void 0===t[r].serial&&(t[r].serial=r),n[t[r].index]=o+r;for(r=0;r<t.length;r++){var a=t[r],s=n[a.index],l=$3Dmol.extend({},a);l.index=s,l.bonds=[],l.bondOrder=[],l.model=c,l.style=l.style||$3Dmol.deepCopy(e),void 0===l.color&&(l.color=b[l.elem]||y);for(var u=a.bonds?a.bonds.length:0,f=0;f<u;f++){var d=n[a.bonds[f]];void 0!==d&&(l.bonds.push(d),l.bondOrder.push(a.bondOrder?a.bondOrder[f]:1))}i.push(l)}},this.removeAtoms=function(e){h=null;var t,r=[];for(t=0;t<e.length;t++)r[e[t].index]=!0;var o=[];for(t=0;t<i.length;t++){var n=i[t];r[n.index]||o.push(n)}i=[],this.addAtoms(o)},this.setStyle=function(e,t,r){var o;for(o in void 0===t&&void 0===r&&(t=e,e={}),e)n.validAtomSelectionSpecs.hasOwnProperty(o)||console.log("Unknown selector "+o);for(o in t)n.validAtomStyleSpecs.hasOwnProperty(o)||console.log("Unknown style "+o);var s=!1,l=this,c=function(o){var i=l.selectedAtoms(e,o);for(let e=0;e<o.length;e++)o[e]&&(o[e].capDrawn=!1);for(let e=0;e<i.length;e++){s=!0,(i[e].clickable||i[e].hoverable)&&(i[e].intersectionShape={sphere:[],cylinder:[],line:[],triangle:[]}),r||(i[e].style={});for(let r in t)t.hasOwnProperty(r)&&(i[e].style[r]=i[e].style[r]||{},Object.assign(i[e].style[r],t[r]))}};c(i);for(var u=0;u<a.length;u++)a[u]!==i&&c(a[u]);s&&(h=null)},this.setClickable=function(e,t,r){var o;for(o in e)n.validAtomSelectionSpecs.hasOwnProperty(o)||console.log("Unknown selector "+o);if(t=!!t,null!==(r=$3Dmol.makeFunction(r))){var a,s=this.selectedAtoms(e,i),l=s.length;for(a=0;a<l;a++)s[a].intersectionShape={sphere:[],cylinder:[],line:[],triangle:[]},s[a].clickable=t,r&&(s[a].callback=r);l>0&&(h=null)}else console.log("Callback is not a function")},this.setHoverable=function(e,t,r,o){var a;for(a in e)n.validAtomSelectionSpecs.hasOwnProperty(a)||console.log("Unknown selector "+a);if(t=!!t,r=$3Dmol.makeFunction(r),o=$3Dmol.makeFunction(o),null!==r)if(null!==o){var s,l=this.selectedAtoms(e,i),c=l.length;for(s=0;s<c;s++)l[s].intersectionShape={sphere:[],cylinder:[],line:[],triangle:[]},l[s].hoverable=t,r&&(l[s].hover_callback=r),o&&(l[s].unhover_callback=o);c>0&&(h=null)}else console.log("Unhover_callback is not a function");else console.log("Hover_callback is not a function")},this.setColorByElement=function(e,t){if(null===h||!function(e,t){return e&&t?JSON.stringify(e)==JSON.stringify(t):e==t}(t,d)){d=t;var r=this.selectedAtoms(e,r);r.length>0&&(h=null);for(var o=0;o<r.length;o++){var i=r[o];void 0!==t[i.elem]&&(i.color=t[i.elem])}}},this.setColorByProperty=function(e,t,r,o){var i,n,a=this.selectedAtoms(e,a);for(d=null,a.length>0&&(h=null),void 0!==$3Dmol.Gradient.builtinGradients[r]&&(r=new $3Dmol.Gradient.builtinGradients[r]),o||(o=r.range()),o||(o=$3Dmol.getPropertyRange(a,t)),i=0;i<a.length;i++){n=a[i],null!=$3Dmol.getAtomProperty(n,t)&&(n.color=r.valueToHex(parseFloat(n.properties[t]),o))}},this.setColorByFunction=function(e,t){var r=this.selectedAtoms(e,r);if("function"==typeof t){d=null,r.length>0&&(h=null);for(let e=0;e<r.length;e++){let o=r[e];o.color=t(o)}}},this.toCDObject=function(e){var t={a:[],b:[]};e&&(t.s=[]);for(var r=0;r<i.length;r++){var o={},n=i[r];if(o.x=n.x,o.y=n.y,o.z=n.z,"C"!=n.elem&&(o.l=n.elem),e){for(var a=0;a<t.s.length&&JSON.stringify(n.style)!==JSON.stringify(t.s[a]);)a++;a===t.s.length&&t.s.push(n.style),0!==a&&(o.s=a)}t.a.push(o);for(var s=0;s<n.bonds.length;s++){var l=r,c=n.bonds[s];if(!(l>=c)){var u={b:l,e:c},h=n.bondOrder[s];1!=h&&(u.o=h),t.b.push(u)}}}return t},this.globj=function(e,t){(null===h||t.regen)&&(h=R(i,t),f&&(e.remove(f),f=null),f=h.clone(),u&&(f.setVisible(!1),h.setVisible(!1)),e.add(f))},this.exportVRML=function(){return R(i,{supportsImposters:!1,supportsAIA:!1}).vrml()},this.removegl=function(e){f&&(void 0!==f.geometry&&f.geometry.dispose(),void 0!==f.material&&f.material.dispose(),e.remove(f),f=null),h=null},this.hide=function(){u=!0,f&&f.setVisible(!1),h&&h.setVisible(!1)},this.show=function(){u=!1,f&&f.setVisible(!0),h&&h.setVisible(!0)},this.addPropertyLabels=function(e,t,r,o){for(var i=this.selectedAtoms(t,i),n=$3Dmol.deepCopy(o),a=0;a<i.length;a++){var s=i[a],l=null;void 0!==s[e]?l=String(s[e]):(s.properties[e],l=String(s.properties[e])),null!=l&&(n.position=s,r.addLabel(l,n))}},this.addResLabels=function(e,t,r,o){var n=[],s=function(o,i){for(var a=o.selectedAtoms(e,a),s={},l=0;l<a.length;l++){var c=a[l],u=c.chain,h=c.resn+""+c.resi;s[u]||(s[u]={}),s[u][h]||(s[u][h]=[]),s[u][h].push(c)}var f=$3Dmol.deepCopy(r);for(let e in s)if(s.hasOwnProperty(e)){var d=s[e];for(let e in d)if(d.hasOwnProperty(e)){let r=d[e],o=new $3Dmol.Vector3(0,0,0);for(let e=0;e<r.length;e++){let t=r[e];o.x+=t.x,o.y+=t.y,o.z+=t.z}o.divideScalar(r.length),f.position=o,f.frame=i;let a=t.addLabel(e,f,void 0,!0);n.push(a)}}};if(o){var l=this.getNumFrames();let e=i;for(let e=0;e<l;e++)a[e]&&(i=a[e],s(this,e));i=e}else s(this);return n};this.setCoordinatesFromURL=function(e,t){a=[];var r=this;return s&&function(){l=[];var e=new Int8Array(i.length);e.fill(0);for(var t=function(r,o,n){n.push([r,o]);var a=i[r];e[r]=1;for(var s=0;s<a.bonds.length;s++){var l=a.bonds[s];i[l]&&!e[l]&&t(l,r,n)}},r=0;r<i.length;r++)if(i[r]&&!e[r]){var o=[];t(r,-1,o),l.push(o)}}(),new Promise((function(o,n){e.startsWith("http://")||(e="http://"+e),$.get(e+"/traj/numframes/"+t,(function(s){isNaN(parseInt(s))||(a.push(i),a.numFrames=s,a.url=e,a.path=t,r.setFrame(0).then((function(){o()})).catch(n))}))}))},this.setCoordinates=function(e,t){if(!e)return[];if(/\.gz$/.test(t=t||"")){t=t.replace(/\.gz$/,"");try{e=pako.inflate(e,{to:"string"})}catch(e){console.log(e)}}if({mdcrd:"",inpcrd:"",pdb:"",netcdf:""}.hasOwnProperty(t)){a=[];for(var r=i.length,o=n.parseCrd(e,t),s=0;s<o.length;){for(var l=[],c=0;c<r;c++){var u={};for(var h in i[c])u[h]=i[c][h];l[c]=u,l[c].x=o[s++],l[c].y=o[s++],l[c].z=o[s++]}a.push(l)}return i=a[0],a}return[]},this.addAtomSpecs=function(e){for(var t=0;t<e.length;t++)n.validAtomSelectionSpecs.hasOwnProperty(e[t])||(n.validAtomSelectionSpecs[e[t]]={})}}return n.parseCrd=function(e,t){var r=[],o=0;if("pdb"==t)for(var i=e.indexOf("\nATOM");-1!=i;){for(;"\nATOM"==e.slice(i,i+5)||"\nHETATM"==e.slice(i,i+7);)r[o++]=parseFloat(e.slice(i+31,i+39)),r[o++]=parseFloat(e.slice(i+39,i+47)),r[o++]=parseFloat(e.slice(i+47,i+55)),i=e.indexOf("\n",i+54),"\nTER"==e.slice(i,i+4)&&(i=e.indexOf("\n",i+5));i=e.indexOf("\nATOM",i)}else if("netcdf"==t){var n=new netcdfjs(e);r=[].concat.apply([],n.getDataVariable("coordinates"))}else{let o=e.indexOf("\n");"inpcrd"==t&&(o=e.indexOf("\n",o+1)),r=(e=e.slice(o+1)).match(/\S+/g).map(parseFloat)}return r},n.parseMolData=function(e,t,r){if(!e)return[];if(/\.gz$/.test(t=t||"")){t=t.replace(/\.gz$/,"");try{e=pako.inflate(e,{to:"string"})}catch(e){console.log(e)}}return void 0===$3Dmol.Parsers[t]&&(t=t.split(".").pop(),void 0===$3Dmol.Parsers[t]&&(console.log("Unknown format: "+t),t=e instanceof Uint8Array?"mmtf":e.match(/^@<TRIPOS>MOLECULE/gm)?"mol2":e.match(/^data_/gm)&&e.match(/^loop_/gm)?"cif":e.match(/^HETATM/gm)||e.match(/^ATOM/gm)?"pdb":e.match(/ITEM: TIMESTEP/gm)?"lammpstrj":e.match(/^.*\n.*\n.\s*(\d+)\s+(\d+)/gm)?"sdf":e.match(/^%VERSION\s+\VERSION_STAMP/gm)?"prmtop":"xyz",console.log("Best guess: "+t))),(0,$3Dmol.Parsers[t])(e,r)},n}(),$3Dmol.GLShape=function(){var e=function(e){var t=e.updateGeoGroup(0);t.vertices>0&&t.truncateArrayBuffers(!0,!0)},t=function(e,t,r,o){e.center.set(0,0,0);let i=1/0,n=1/0,a=1/0,s=-1/0,l=-1/0,c=-1/0;e.box&&(i=e.box.min.x,s=e.box.max.x,n=e.box.min.y,l=e.box.max.y,a=e.box.min.z,c=e.box.max.z);for(let e=0,t=o;e<t;e++){var u=r[3*e],h=r[3*e+1],f=r[3*e+2];u<i&&(i=u),h<n&&(n=h),f<a&&(a=f),u>s&&(s=u),h>l&&(l=h),f>c&&(c=f)}e.center.set((s+i)/2,(l+n)/2,(c+a)/2),e.radius=e.center.distanceTo({x:s,y:l,z:c}),e.box={min:{x:i,y:n,z:a},max:{x:s,y:l,z:c}}},r=function(e,r,o,i,n){var a,s,l,c,u,h,f,d,p,m=r.addGeoGroup(),v=o.vertexArr,g=o.normalArr,y=o.faceArr;m.vertices=v.length,m.faceidx=y.length;var b=m.vertexArray,x=m.colorArray;for(i.constructor!==Array&&(d=i.r,p=i.g,c=i.b),h=0,f=m.vertices;h<f;++h)a=3*h,s=v[h],b[a]=s.x,b[a+1]=s.y,b[a+2]=s.z,i.constructor===Array&&(d=(u=i[h]).r,p=u.g,c=u.b),x[a]=d,x[a+1]=p,x[a+2]=c;if(n)for(h=0,f=m.faceidx/3;h<f;++h){l=y[a=3*h],c=y[a+1],u=y[a+2];var w=new $3Dmol.Vector3,D=new $3Dmol.Vector3,C=new $3Dmol.Vector3;e.intersectionShape.triangle.push(new $3Dmol.Triangle(w.copy(v[l]),D.copy(v[c]),C.copy(v[u])))}if(n){var A=new $3Dmol.Vector3(0,0,0),S=0;for(let e=0;e<r.geometryGroups.length;e++)A.add(r.geometryGroups[e].getCentroid()),S++;A.divideScalar(S),t(e.boundingSphere,0,b,m.vertices)}if(m.faceArray=new Uint16Array(y),m.truncateArrayBuffers(!0,!0),g.length<m.vertices)m.setNormals();else{var $,M=m.normalArray=new Float32Array(3*m.vertices);for(h=0,f=m.vertices;h<f;++h)a=3*h,$=g[h],M[a]=$.x,M[a+1]=$.y,M[a+2]=$.z}m.setLineIndices(),m.lineidx=m.lineArray.length},o=function(e,t,o){var i=o,n=i.vertexArr,a=i.faceArr;0!==n.length&&0!==a.length||console.warn("Error adding custom shape component: No vertices and/or face indices supplied!");var s=o.color;void 0===s&&(s=e.color),s=$3Dmol.CC.color(s);for(var l=$3Dmol.splitMesh(i),c=0,u=l.length;c<u;c++)r(e,t,l[c],l[c].colorArr?l[c].colorArr:s,o.clickable)},i=function(e,t){void 0!==t.color?(e.color=t.color||new $3Dmol.Color,t.color instanceof $3Dmol.Color||(e.color=$3Dmol.CC.color(t.color))):e.color=$3Dmol.CC.color(0),e.wireframe=!!t.wireframe,e.opacity=t.alpha?$3Dmol.Math.clamp(t.alpha,0,1):1,void 0!==t.opacity&&(e.opacity=$3Dmol.Math.clamp(t.opacity,0,1)),e.side=void 0!==t.side?t.side:$3Dmol.DoubleSide,e.linewidth=void 0===t.linewidth?1:t.linewidth,e.clickable=!!t.clickable,e.callback=$3Dmol.makeFunction(t.callback),e.hoverable=!!t.hoverable,e.hover_callback=$3Dmol.makeFunction(t.hover_callback),e.unhover_callback=$3Dmol.makeFunction(t.unhover_callback),e.hidden=t.hidden,e.frame=t.frame};function n(r){r=r||{},$3Dmol.ShapeIDCount++,this.boundingSphere=new $3Dmol.Sphere,this.intersectionShape={sphere:[],cylinder:[],line:[],triangle:[]},i(this,r);var n=[],a=null,s=null,l=new $3Dmol.Geometry(!0),c=new $3Dmol.Geometry(!0);this.updateStyle=function(e){for(var t in e)r[t]=e[t];if(i(this,r),e.voldata&&e.volscheme){$3Dmol.adjustVolumeStyle(e);const t=e.volscheme,r=e.voldata,o=$3Dmol.CC,i=t.range()||[-1,1];l.setColors((function(e,n,a){let s=r.getVal(e,n,a);return o.color(t.valueToHex(s,i))})),delete this.color}},this.addCustom=function(e){e.vertexArr=e.vertexArr||[],e.faceArr=e.faceArr||[],e.normalArr=e.normalArr||[],o(this,l,e)},this.addSphere=function(e){e.center=e.center||{x:0,y:0,z:0},e.radius=e.radius?$3Dmol.Math.clamp(e.radius,0,1/0):1.5,e.color=$3Dmol.CC.color(e.color),this.intersectionShape.sphere.push(new $3Dmol.Sphere(e.center,e.radius)),$3Dmol.GLDraw.drawSphere(l,e.center,e.radius,e.color),n.push({centroid:new $3Dmol.Vector3(e.center.x,e.center.y,e.center.z)});var r=l.updateGeoGroup(0);t(this.boundingSphere,0,r.vertexArray,r.vertices)},this.addBox=function(e){var r=e.dimensions||{w:1,h:1,d:1},i=r.w;"number"==typeof r.w&&(i={x:r.w,y:0,z:0});var a=r.h;"number"==typeof r.h&&(a={x:0,y:r.h,z:0});var s=r.d;"number"==typeof r.d&&(s={x:0,y:0,z:r.d});var c=e.corner;null==c&&(c=void 0!==e.center?{x:e.center.x-.5*(i.x+a.x+s.x),y:e.center.y-.5*(i.y+a.y+s.y),z:e.center.z-.5*(i.z+a.z+s.z)}:{x:0,y:0,z:0});var u=[{x:c.x,y:c.y,z:c.z},{x:c.x+i.x,y:c.y+i.y,z:c.z+i.z},{x:c.x+a.x,y:c.y+a.y,z:c.z+a.z},{x:c.x+i.x+a.x,y:c.y+i.y+a.y,z:c.z+i.z+a.z},{x:c.x+s.x,y:c.y+s.y,z:c.z+s.z},{x:c.x+i.x+s.x,y:c.y+i.y+s.y,z:c.z+i.z+s.z},{x:c.x+a.x+s.x,y:c.y+a.y+s.y,z:c.z+a.z+s.z},{x:c.x+i.x+a.x+s.x,y:c.y+i.y+a.y+s.y,z:c.z+i.z+a.z+s.z}],h=[],f=[];h.splice(h.length,0,u[0],u[1],u[2],u[3]),f.splice(f.length,0,0,2,1,1,2,3);var d=4;h.splice(h.length,0,u[2],u[3],u[6],u[7]),f.splice(f.length,0,d+0,d+2,d+1,d+1,d+2,d+3),d+=4,h.splice(h.length,0,u[4],u[5],u[0],u[1]),f.splice(f.length,0,d+0,d+2,d+1,d+1,d+2,d+3),d+=4,h.splice(h.length,0,u[6],u[7],u[4],u[5]),f.splice(f.length,0,d+0,d+2,d+1,d+1,d+2,d+3),d+=4,h.splice(h.length,0,u[3],u[1],u[7],u[5]),f.splice(f.length,0,d+0,d+2,d+1,d+1,d+2,d+3),d+=4,h.splice(h.length,0,u[2],u[6],u[0],u[4]),f.splice(f.length,0,d+0,d+2,d+1,d+1,d+2,d+3),d+=4;var p=$3Dmol.extend({},e);p.vertexArr=h,p.faceArr=f,p.normalArr=[],o(this,l,p);var m=new $3Dmol.Vector3;n.push({centroid:m.addVectors(u[0],u[7]).multiplyScalar(.5)});var v=l.updateGeoGroup(0);t(this.boundingSphere,0,v.vertexArray,v.vertices)},this.addCylinder=function(e){e.start=e.start||{},e.end=e.end||{};var r=new $3Dmol.Vector3(e.start.x||0,e.start.y||0,e.start.z||0),o=new $3Dmol.Vector3(e.end.x,e.end.y||0,e.end.z||0);void 0===o.x&&(o.x=3);var i=e.radius||.1,a=$3Dmol.CC.color(e.color);this.intersectionShape.cylinder.push(new $3Dmol.Cylinder(r,o,i)),$3Dmol.GLDraw.drawCylinder(l,r,o,i,a,e.fromCap,e.toCap);var s=new $3Dmol.Vector3;n.push({centroid:s.addVectors(r,o).multiplyScalar(.5)});var c=l.updateGeoGroup(0);t(this.boundingSphere,0,c.vertexArray,c.vertices)},this.addDashedCylinder=function(e){e.start=e.start||{},e.end=e.end||{},e.dashLength=e.dashLength||.25,e.gapLength=e.gapLength||.25;var r=new $3Dmol.Vector3(e.start.x||0,e.start.y||0,e.start.z||0),o=new $3Dmol.Vector3(e.end.x,e.end.y||0,e.end.z||0);void 0===o.x&&(o.x=3);for(var i=e.radius||.1,a=$3Dmol.CC.color(e.color),s=Math.sqrt(Math.pow(r.x-o.x,2)+Math.pow(r.y-o.y,2)+Math.pow(r.z-o.z,2)),c=s/(e.gapLength+e.dashLength),u=new $3Dmol.Vector3(e.start.x||0,e.start.y||0,e.start.z||0),h=new $3Dmol.Vector3(e.end.x,e.end.y||0,e.end.z||0),f=new $3Dmol.Vector3((o.x-r.x)/(s/e.gapLength),(o.y-r.y)/(s/e.gapLength),(o.z-r.z)/(s/e.gapLength)),d=new $3Dmol.Vector3((o.x-r.x)/(s/e.dashLength),(o.y-r.y)/(s/e.dashLength),(o.z-r.z)/(s/e.dashLength)),p=0;p<c;p++)h=new $3Dmol.Vector3(u.x+d.x,u.y+d.y,u.z+d.z),this.intersectionShape.cylinder.push(new $3Dmol.Cylinder(u,h,i)),$3Dmol.GLDraw.drawCylinder(l,u,h,i,a,e.fromCap,e.toCap),u=new $3Dmol.Vector3(h.x+f.x,h.y+f.y,h.z+f.z);var m=new $3Dmol.Vector3;n.push({centroid:m.addVectors(r,o).multiplyScalar(.5)});var v=l.updateGeoGroup(0);t(this.boundingSphere,0,v.vertexArray,v.vertices)},this.addCurve=function(e){e.points=e.points||[],e.smooth=e.smooth||10,void 0===e.fromCap&&(e.fromCap=2),void 0===e.toCap&&(e.toCap=2);var t=$3Dmol.subdivide_spline(e.points,e.smooth);if(t.length<3)console.log("Too few points in addCurve");else{var r=e.radius||.1,o=$3Dmol.CC.color(e.color),i=0,n=t.length-1,a=t[0].distanceTo(t[1]),s=Math.ceil(2*r/a);if(e.toArrow){let e={start:t[n-=s],end:t[t.length-1],radius:r,color:o,mid:1e-4};this.addArrow(e)}if(e.fromArrow){let e={start:t[i+=s],end:t[0],radius:r,color:o,mid:1e-4};this.addArrow(e)}for(var l=Math.ceil(t.length/2),c={radius:r,color:o,fromCap:2,toCap:2},u=i;u<n;u++)c.start=t[u],c.end=t[u+1],c.fromCap=2,c.toCap=2,u<l?(c.fromCap=2,c.toCap=0):u>l?(c.fromCap=0,c.toCap=2):(c.fromCap=2,c.toCap=2),this.addCylinder(c)}},this.addLine=function(e){e.start=e.start||{},e.end=e.end||{};var r=new $3Dmol.Vector3(e.start.x||0,e.start.y||0,e.start.z||0),o=new $3Dmol.Vector3(e.end.x,e.end.y||0,e.end.z||0);void 0===o.x&&(o.x=3);var i=l.updateGeoGroup(2),a=i.vertices,s=3*a,c=i.vertexArray;c[s]=r.x,c[s+1]=r.y,c[s+2]=r.z,c[s+3]=o.x,c[s+4]=o.y,c[s+5]=o.z,i.vertices+=2;var u=i.lineArray,h=i.lineidx;u[h]=a,u[h+1]=a+1,i.lineidx+=2;var f=new $3Dmol.Vector3;n.push({centroid:f.addVectors(r,o).multiplyScalar(.5)}),i=l.updateGeoGroup(0),t(this.boundingSphere,0,i.vertexArray,i.vertices)},this.addArrow=function(e){if(e.start=e.start||{},e.end=e.end||{},e.start=new $3Dmol.Vector3(e.start.x||0,e.start.y||0,e.start.z||0),e.dir instanceof $3Dmol.Vector3&&"number"==typeof e.length){var r=e.dir.clone().multiplyScalar(e.length).add(e.start);e.end=r}else e.end=new $3Dmol.Vector3(e.end.x,e.end.y||0,e.end.z||0),void 0===e.end.x&&(e.end.x=3);e.radius=e.radius||.1,e.radiusRatio=e.radiusRatio||1.618034,e.mid=0<e.mid&&e.mid<1?e.mid:.618034,function(e,t,r){var o=r.start,i=r.end,n=r.radius,a=r.radiusRatio,s=r.mid,l=r.midpos;if(o&&i){var c=t.updateGeoGroup(51),u=i.clone().sub(o);if(l){let e=u.length();s=l>0?l/e:(e+l)/e}u.multiplyScalar(s);var h=o.clone().add(u),f=u.clone().negate();e.intersectionShape.cylinder.push(new $3Dmol.Cylinder(o.clone(),h.clone(),n)),e.intersectionShape.sphere.push(new $3Dmol.Sphere(o.clone(),n));var d=[];d[0]=u.clone(),Math.abs(d[0].x)>1e-4?d[0].y+=1:d[0].x+=1,d[0].cross(u),d[0].normalize(),d[0]=d[0],d[4]=d[0].clone(),d[4].crossVectors(d[0],u),d[4].normalize(),d[8]=d[0].clone().negate(),d[12]=d[4].clone().negate(),d[2]=d[0].clone().add(d[4]).normalize(),d[6]=d[4].clone().add(d[8]).normalize(),d[10]=d[8].clone().add(d[12]).normalize(),d[14]=d[12].clone().add(d[0]).normalize(),d[1]=d[0].clone().add(d[2]).normalize(),d[3]=d[2].clone().add(d[4]).normalize(),d[5]=d[4].clone().add(d[6]).normalize(),d[7]=d[6].clone().add(d[8]).normalize(),d[9]=d[8].clone().add(d[10]).normalize(),d[11]=d[10].clone().add(d[12]).normalize(),d[13]=d[12].clone().add(d[14]).normalize(),d[15]=d[14].clone().add(d[0]).normalize();var p,m,v,g,y,b,x,w,D,C,A,S,$,M,_,T,z,E,L,F,I,R,O=c.vertices,k=c.vertexArray,N=c.faceArray,P=c.normalArray,V=c.lineArray;for(m=0,v=d.length;m<v;++m){p=3*(O+3*m);var U=d[m].clone().multiplyScalar(n).add(o),B=d[m].clone().multiplyScalar(n).add(h),j=d[m].clone().multiplyScalar(n*a).add(h);if(k[p]=U.x,k[p+1]=U.y,k[p+2]=U.z,k[p+3]=B.x,k[p+4]=B.y,k[p+5]=B.z,k[p+6]=j.x,k[p+7]=j.y,k[p+8]=j.z,m>0){var G=k[p-3],H=k[p-2],q=k[p-1],W=new $3Dmol.Vector3(G,H,q),Y=i.clone(),X=h.clone(),Z=new $3Dmol.Vector3(j.x,j.y,j.z);e.intersectionShape.triangle.push(new $3Dmol.Triangle(Z,Y,W)),e.intersectionShape.triangle.push(new $3Dmol.Triangle(W.clone(),X,Z.clone()))}}c.vertices+=48,k[p=3*c.vertices]=o.x,k[p+1]=o.y,k[p+2]=o.z,k[p+3]=h.x,k[p+4]=h.y,k[p+5]=h.z,k[p+6]=i.x,k[p+7]=i.y,k[p+8]=i.z,c.vertices+=3;var Q=c.vertices-3,K=c.vertices-2,J=c.vertices-1,ee=3*Q,te=3*K,re=3*J;for(m=0,v=d.length-1;m<v;++m){var oe=O+3*m;p=3*oe,y=c.faceidx,b=c.lineidx,$=3*(x=oe),M=3*(w=oe+1),_=3*(D=oe+2),T=3*(C=oe+4),z=3*(A=oe+5),E=3*(S=oe+3),d[m],d[m],d[m+1],d[m+1],L=F=d[m],I=R=d[m+1],P[$]=L.x,P[M]=F.x,P[E]=R.x,P[$+1]=L.y,P[M+1]=F.y,P[E+1]=R.y,P[$+2]=L.z,P[M+2]=F.z,P[E+2]=R.z,P[M]=F.x,P[T]=I.x,P[E]=R.x,P[M+1]=F.y,P[T+1]=I.y,P[E+1]=R.y,P[M+2]=F.z,P[T+2]=I.z,P[E+2]=R.z,P[_]=F.x,P[z]=I.x,P[_+1]=F.y,P[z+1]=I.y,P[_+2]=F.z,P[z+2]=I.z,N[y]=x,N[y+1]=w,N[y+2]=S,N[y+3]=w,N[y+4]=C,N[y+5]=S,N[y+6]=x,N[y+7]=S,N[y+8]=Q,N[y+9]=D,N[y+10]=K,N[y+11]=A,N[y+12]=D,N[y+13]=J,N[y+14]=A,V[b]=x,V[b+1]=w,V[b+2]=x,V[b+3]=S,V[b+4]=C,V[b+5]=S,V[b+6]=x,V[b+7]=S,V[b+8]=D,V[b+9]=w,V[b+10]=D,V[b+11]=A,V[b+12]=C,V[b+13]=A,V[b+14]=D,V[b+15]=J,V[b+16]=D,V[b+17]=A,V[b+18]=J,V[b+19]=A,c.faceidx+=15,c.lineidx+=20}g=[O+45,O+46,O+1,O,O+47,O+2],d[15],d[15],d[0],d[0],y=c.faceidx,b=c.lineidx,$=3*(x=g[0]),M=3*(w=g[1]),_=3*(D=g[4]),T=3*(C=g[2]),z=3*(A=g[5]),E=3*(S=g[3]),L=F=d[15],I=R=d[0],P[$]=L.x,P[M]=F.x,P[E]=R.x,P[$+1]=L.y,P[M+1]=F.y,P[E+1]=R.y,P[$+2]=L.z,P[M+2]=F.z,P[E+2]=R.z,P[M]=F.x,P[T]=I.x,P[E]=R.x,P[M+1]=F.y,P[T+1]=I.y,P[E+1]=R.y,P[M+2]=F.z,P[T+2]=I.z,P[E+2]=R.z,P[_]=F.x,P[z]=I.x,P[_+1]=F.y,P[z+1]=I.y,P[_+2]=F.z,P[z+2]=I.z,u.normalize(),f.normalize(),P[ee]=f.x,P[te]=P[re]=u.x,P[ee+1]=f.y,P[te+1]=P[re+1]=u.y,P[ee+2]=f.z,P[te+2]=P[re+2]=u.z,N[y]=x,N[y+1]=w,N[y+2]=S,N[y+3]=w,N[y+4]=C,N[y+5]=S,N[y+6]=x,N[y+7]=S,N[y+8]=Q,N[y+9]=D,N[y+10]=K,N[y+11]=A,N[y+12]=D,N[y+13]=J,N[y+14]=A,V[b]=x,V[b+1]=w,V[b+2]=x,V[b+3]=S,V[b+4]=C,V[b+5]=S,V[b+6]=x,V[b+7]=S,V[b+8]=D,V[b+9]=w,V[b+10]=D,V[b+11]=A,V[b+12]=C,V[b+13]=A,V[b+14]=D,V[b+15]=J,V[b+16]=D,V[b+17]=A,V[b+18]=J,V[b+19]=A,c.faceidx+=15,c.lineidx+=20}}(this,l,e);var o=new $3Dmol.Vector3;n.push({centroid:o.addVectors(e.start,e.end).multiplyScalar(.5)});var i=l.updateGeoGroup(0);t(this.boundingSphere,0,i.vertexArray,i.vertices)};var u=function(e,t,r){for(var o=0;o<t.length;o++)if(i=t[o],n=e,Math.sqrt(Math.pow(i.x-n.x,2)+Math.pow(i.y-n.y,2)+Math.pow(i.z-n.z,2))<=r)return!0;var i,n;return!1};this.addIsosurface=function(e,t,r){var i,n,a=void 0!==t.isoval&&"number"==typeof t.isoval?t.isoval:0,s=!!t.voxel,c=void 0===t.smoothness?1:t.smoothness,h=e.size.x,f=e.size.y,d=e.size.z,p=new Int16Array(h*f*d),m=e.data;for(i=0,n=p.length;i<n;++i)p[i]=-1;var v=new Uint8Array(h*f*d);for(i=0,n=m.length;i<n;++i){(a>=0?m[i]-a:a-m[i])>0&&(v[i]|=2)}var g=[],y=[];$3Dmol.MarchingCube.march(v,g,y,{fulltable:!0,voxel:s,unitCube:e.unit,origin:e.origin,matrix:e.matrix,nX:h,nY:f,nZ:d}),!s&&c>0&&$3Dmol.MarchingCube.laplacianSmooth(c,g,y);var b=[],x=[],w=[];if(t.selectedRegion&&void 0===t.coords&&(t.coords=t.selectedRegion),void 0!==t.coords){var D=t.coords[0].x,C=t.coords[0].y,A=t.coords[0].z,S=t.coords[0].x,$=t.coords[0].y,M=t.coords[0].z;for(let e=0;e<t.coords.length;e++)t.coords[e].x>D?D=t.coords[e].x:t.coords[e].x<S&&(S=t.coords[e].x),t.coords[e].y>C?C=t.coords[e].y:t.coords[e].y<$&&($=t.coords[e].y),t.coords[e].z>A?A=t.coords[e].z:t.coords[e].z<M&&(M=t.coords[e].z);var _=2;void 0!==t.radius&&(_=t.radius),void 0!==t.selectedOffset&&(_=t.selectedOffset),void 0!==t.seldist&&(_=t.seldist),S-=_,D+=_,$-=_,C+=_,M-=_,A+=_;for(let e=0;e<g.length;e++)g[e].x>S&&g[e].x<D&&g[e].y>$&&g[e].y<C&&g[e].z>M&&g[e].z<A&&u(g[e],t.coords,_)?(b.push(x.length),x.push(g[e])):b.push(-1);for(let e=0;e+2<y.length;e+=3)-1!==b[y[e]]&&-1!==b[y[e+1]]&&-1!==b[y[e+2]]&&(w.push(y[e]-(y[e]-b[y[e]])),w.push(y[e+1]-(y[e+1]-b[y[e+1]])),w.push(y[e+2]-(y[e+2]-b[y[e+2]])));g=x,y=w}o(this,l,{vertexArr:g,faceArr:y,normalArr:[],clickable:t.clickable,hoverable:t.hoverable}),this.updateStyle(t);var T=new $3Dmol.Vector3(e.origin.x,e.origin.y,e.origin.z),z=new $3Dmol.Vector3(e.size.x*e.unit.x,e.size.y*e.unit.y,e.size.z*e.unit.z),E=new $3Dmol.Vector3(0,0,0),L=T.clone(),F=T.clone().add(z);for(let e=0;e<g.length;e++)E.add(g[e]),L.max(g[e]),F.min(g[e]);E.divideScalar(g.length);var I=E.distanceTo(F),R=E.distanceTo(L);this.boundingSphere.center=E,this.boundingSphere.radius=Math.max(I,R),"function"==typeof r&&r()},this.addVolumetricData=function(e,t,r){e=new $3Dmol.VolumeData(e,t),this.addIsosurface(e,r)},this.finalize=function(){return e(l),l.initTypedArrays(),l},this.globj=function(t){if(s&&(t.remove(s),s=null),!this.hidden){e(l),l.initTypedArrays(),this.wireframe&&l.setUpWireframe(),void 0!==this.color&&function(e,t){var r,o,i;for(var n in t=t||$3Dmol.CC.color(t),e.colorsNeedUpdate=!0,t.constructor!==Array&&(r=t.r,o=t.g,i=t.b),e.geometryGroups)for(var a=e.geometryGroups[n],s=a.colorArray,l=0,c=a.vertices;l<c;++l){if(t.constructor===Array){var u=t[l];r=u.r,o=u.g,i=u.b}s[3*l]=r,s[3*l+1]=o,s[3*l+2]=i}}(l,this.color),a=new $3Dmol.Object3D;var r=null;r=this.side==$3Dmol.DoubleSide?new $3Dmol.MeshDoubleLambertMaterial({wireframe:this.wireframe,side:this.side,transparent:this.opacity<1,opacity:this.opacity,wireframeLinewidth:this.linewidth,vertexColors:$3Dmol.VertexColors}):new $3Dmol.MeshLambertMaterial({wireframe:this.wireframe,side:this.side,transparent:this.opacity<1,opacity:this.opacity,wireframeLinewidth:this.linewidth,vertexColors:$3Dmol.VertexColors});var o=new $3Dmol.Mesh(l,r);a.add(o);var i=new $3Dmol.LineBasicMaterial({linewidth:this.linewidth,color:this.color}),n=new $3Dmol.Line(c,i,$3Dmol.LinePieces);a.add(n),s=a.clone(),t.add(s)}},this.removegl=function(e){s&&(void 0!==s.geometry&&s.geometry.dispose(),void 0!==s.material&&s.material.dispose(),e.remove(s),s=null),a=null}}return Object.defineProperty(n.prototype,"position",{get:function(){return this.boundingSphere.center}}),Object.defineProperty(n.prototype,"x",{get:function(){return this.boundingSphere.center.x}}),Object.defineProperty(n.prototype,"y",{get:function(){return this.boundingSphere.center.y}}),Object.defineProperty(n.prototype,"z",{get:function(){return this.boundingSphere.center.z}}),n}(),$3Dmol.ShapeIDCount=0,$3Dmol.splitMesh=function(e){if(e.vertexArr.length<64e3)return[e];var t=[{vertexArr:[],normalArr:[],faceArr:[]}];e.colorArr&&(t.colorArr=[]);var r=[],o=[],i=0,n=e.faceArr;for(let s=0,l=n.length;s<l;s+=3){let l=t[i];for(let t=0;t<3;t++){var a=n[s+t];r[a]!==i&&(r[a]=i,o[a]=l.vertexArr.length,l.vertexArr.push(e.vertexArr[a]),e.normalArr&&e.normalArr[a]&&l.normalArr.push(e.normalArr[a]),e.colorArr&&e.colorArr[a]&&l.colorArr.push(e.colorArr[a])),l.faceArr.push(o[a])}l.vertexArr.length>=64e3&&(t.push({vertexArr:[],normalArr:[],faceArr:[]}),e.colorArr&&(t.colorArr=[]),i++)}return t},$3Dmol.GLViewer=function(e,t){var r=(t=t||{}).callback,o=t.defaultcolors;o||(o=$3Dmol.elementColors.defaultColors);var i=t.nomouse,n=0;t.backgroundColor=t.backgroundColor||"#ffffff",null!=typeof t.backgroundColor&&(n=$3Dmol.CC.color(t.backgroundColor).getHex()),t.backgroundAlpha=null==t.backgroundAlpha?1:t.backgroundAlpha;var a=0;null!=typeof t.camerax&&(a=parseFloat(t.camerax));var s=this,l=$(e),c=null,u=[],h={},f=[],d=[],p=[],m=[],v=[],g=null,y=500,b=0;null!=t.hoverDuration&&(y=t.hoverDuration),void 0===t.antialias&&(t.antialias=!0),void 0===t.cartoonQuality&&(t.cartoonQuality=5);var x=function(){let e=l[0],t=e.getBoundingClientRect();if(0==t.width&&0==t.height&&"none"===e.style.display){let r=e.style.position,o=e.style.visibility;e.style.display="block",e.style.visibility="hidden",e.style.position="absolute",t=e.getBoundingClientRect(),e.style.display="none",e.style.visibility=o,e.style.position=r}return t},w=function(){return x().width},D=function(){return x().height},C=w(),A=D(),S=null,M=null,_=150,T=20,z=[],E=new $3Dmol.Renderer({antialias:t.antialias,preserveDrawingBuffer:!0,premultipliedAlpha:!1,id:t.id,row:t.row,col:t.col,rows:t.rows,cols:t.cols,canvas:t.canvas,containerWidth:C,containerHeight:A});E.domElement.style.width="100%",E.domElement.style.height="100%",E.domElement.style.padding="0",E.domElement.style.position="absolute",E.domElement.style.top="0px",E.domElement.style.left="0px",E.domElement.style.zIndex="0";var L=t.row,F=t.col,I=t.cols,R=t.rows,O=t.viewers,k=t.control_all,N=E.getAspect(C,A),P=new $3Dmol.Camera(T,N,1,800,t.orthographic);P.position=new $3Dmol.Vector3(a,0,_);var V=new $3Dmol.Vector3;P.lookAt(V);var U=new $3Dmol.Raycaster(new $3Dmol.Vector3(0,0,0),new $3Dmol.Vector3(0,0,0)),B=new $3Dmol.Projector,j=null,G=null,H=null,q=-50,W=50,Y=new $3Dmol.Quaternion(0,0,0,1),X=new $3Dmol.Quaternion(0,0,0,1),Z=0,Q=new Set,K=!1,J=0,ee=0,te=0,re=0,oe=0,ie=0,ne=0,ae=function(){--Z<0&&(Z=0)},se=function(){Z++},le=function(){var e=0;for(var t in h)if(h.hasOwnProperty(t)){var r=parseInt(t);isNaN(r)||(t=r),t>e&&(e=t)}return e+1},ce=function(){var e=P.position.z-G.position.z;e<1&&(e=1),P.near=e+q,P.near<1&&(P.near=1),P.far=e+W,P.near+1>P.far&&(P.far=P.near+1),P.fov=T,P.right=e*Math.tan(Math.PI/180*T),P.left=-P.right,P.top=P.right/N,P.bottom=-P.top,P.updateProjectionMatrix(),j.fog.near=P.near+.4*(P.far-P.near),j.fog.far=P.far,t.disableFog&&(j.fog.near=j.fog.far)},ue=function(e){if(E.setViewport(),j&&(ce(),E.render(j,P),S&&S(s.getView()),!e&&z.length>0))for(var t=s.getView(),r=0;r<z.length;r++)z[r].setView(t,!0)};!function(){(j=new $3Dmol.Scene).fog=new $3Dmol.Fog(n,100,200),H=new $3Dmol.Object3D,(G=new $3Dmol.Object3D).useQuaternion=!0,G.quaternion=new $3Dmol.Quaternion(0,0,0,1),G.add(H),j.add(G);var e=new $3Dmol.Light(16777215);e.position=new $3Dmol.Vector3(.2,.2,1).normalize(),e.intensity=1,j.add(e)}(),E.setClearColorHex(n,t.backgroundAlpha),j.fog.color=$3Dmol.CC.color(n);let he=this.targetedObjects=function(e,t,r){var o={x:e,y:t,z:-1};return Array.isArray(r)||(r=this.selectedAtoms(r)),0==r.length?[]:(U.setFromCamera(o,P),U.intersectObjects(H,r))};var fe=function(){let e=c.get(0),t=e.getBoundingClientRect(),r=e.ownerDocument,o=r.documentElement,i=r.defaultView;return{top:t.top+i.pageYOffset-o.clientTop,left:t.left+i.pageXOffset-o.clientLeft}};this.modelToScreen=function(e){let t=!1;Array.isArray(e)||(e=[e],t=!0);let r=[],o=fe();return e.forEach((e=>{let t=new $3Dmol.Vector3(e.x,e.y,e.z);t.applyMatrix4(H.matrixWorld),B.projectVector(t,P);let i=C*(t.x+1)/2+o.left,n=-A*(t.y-1)/2+o.top;r.push({x:i,y:n})})),t&&(r=r[0]),r};var de=function(e,t){g!=e&&(g&&("function"!=typeof g.unhover_callback&&(g.unhover_callback=$3Dmol.makeFunction(g.unhover_callback)),g.unhover_callback(g,s,t,l)),g=e,e&&void 0!==e.hover_callback&&("function"!=typeof e.hover_callback&&(e.hover_callback=$3Dmol.makeFunction(e.hover_callback)),"function"==typeof e.hover_callback&&e.hover_callback(e,s,t,l)))},pe=function(e){var t=e.originalEvent.targetTouches[0].pageX-e.originalEvent.targetTouches[1].pageX,r=e.originalEvent.targetTouches[0].pageY-e.originalEvent.targetTouches[1].pageY;return Math.sqrt(t*t+r*r)},me=function(e){var t=e.pageX;return null==t&&(t=e.originalEvent.pageX),e.originalEvent.targetTouches&&e.originalEvent.targetTouches[0]?t=e.originalEvent.targetTouches[0].pageX:e.originalEvent.changedTouches&&e.originalEvent.changedTouches[0]&&(t=e.originalEvent.changedTouches[0].pageX),t},ve=function(e){var t=e.pageY;return null==t&&(t=e.originalEvent.pageY),e.originalEvent.targetTouches&&e.originalEvent.targetTouches[0]?t=e.originalEvent.targetTouches[0].pageY:e.originalEvent.changedTouches&&e.originalEvent.changedTouches[0]&&(t=e.originalEvent.changedTouches[0].pageY),t},ge=this.screenOffsetToModel=function(e,t,r){var o=e/C,i=t/A,n=void 0===r?G.position.z:r,a=G.quaternion,s=new $3Dmol.Vector3(0,0,n);return B.projectVector(s,P),s.x+=2*o,s.y-=2*i,B.unprojectVector(s,P),s.z=0,s.applyQuaternion(a),s};this.screenToModelDistance=function(e,t){let r=fe(),o=new $3Dmol.Vector3(t.x,t.y,t.z);o.applyMatrix4(H.matrixWorld);let i=o.clone();B.projectVector(o,P);let n=new $3Dmol.Vector3(2*(e.x-r.left)/C-1,2*(e.y-r.top)/-A+1,o.z);return B.unprojectVector(n,P),n.distanceTo(i)};var ye=function(e,t){if(null!=O&&!k){var r=C/I,o=A/R,i=fe(),n=e-i.left,a=t-i.top,s=R-Math.floor(a/o)-1,l=Math.floor(n/r);if(s!=L||l!=F)return!1}return!0};$("body").bind("mouseup touchend",(function(e){if(K&&j){var t=me(e),r=ve(e);if(t==J&&r==ee){var o=fe();!function(e,t,r){let o=he(e,t,m);if(o.length){var i=o[0].clickable;void 0!==i.callback&&("function"!=typeof i.callback&&(i.callback=$3Dmol.makeFunction(i.callback)),"function"==typeof i.callback&&i.callback(i,s,r,l))}}((t-o.left)/C*2-1,-(r-o.top)/A*2+1,e)}}K=!1}));var be,xe=function(e){if(t.lowerZoomLimit&&t.lowerZoomLimit>0){var r=_-t.lowerZoomLimit;e>r&&(e=r)}if(t.upperZoomLimit&&t.upperZoomLimit>0){var o=_-t.upperZoomLimit;e<o&&(e=o)}return e>_&&(e=.999*_),e};this.setViewChangeCallback=function(e){"function"!=typeof e&&null!=e||(S=e)},this.setStateChangeCallback=function(e){"function"!=typeof e&&null!=e||(M=e)},this.getInternalState=function(){var e={models:[],surfaces:[],shapes:[],labels:[]};for(let t=0;t<u.length;t++)u[t]&&(e.models[t]=u[t].getInternalState());return e},this.setInternalState=function(e){this.clear();var t=e.models;for(let e=0;e<t.length;e++)t[e]&&(u[e]=new $3Dmol.GLModel(e),u[e].setInternalState(t[e]));this.render()},this.setZoomLimits=function(e,r){void 0!==e&&(t.lowerZoomLimit=e),r&&(t.upperZoomLimit=r),G.position.z=xe(G.position.z),ue()},this.setCameraParameters=function(e){void 0!==e.fov&&(T=e.fov,P.fov=T),void 0!==e.z&&(_=e.z,P.z=_)};var we,De=this._handleMouseDown=function(e){if(e.preventDefault(),j){var t=me(e),r=ve(e);void 0!==t&&(K=!0,be=e.which,J=t,ee=r,te=0,e.originalEvent.targetTouches&&2==e.originalEvent.targetTouches.length&&(te=pe(e)),Y=G.quaternion.clone(),oe=G.position.z,re=H.position.clone(),ie=q,ne=W)}},Ce=this._handleMouseScroll=function(e){if(e.preventDefault(),j){var t=me(e),r=ve(e);if(void 0!==t&&ye(t,r)){var o=.85*(_-G.position.z),i=1;e.originalEvent.ctrlKey&&(i=-1),e.originalEvent.detail?G.position.z+=i*o*e.originalEvent.detail/10:e.originalEvent.wheelDelta&&(G.position.z-=i*o*e.originalEvent.wheelDelta/400),G.position.z=xe(G.position.z),ue()}}};this.pngURI=function(){return this.getCanvas().toDataURL("image/png")},this.getCanvas=function(){return c.get(0)},this.getRenderer=function(){return E},this.setHoverDuration=function(e){y=e};var Ae=this._handleMouseMove=function(e){clearTimeout(we);var t=fe(),r=(me(e)-t.left)/C*2-1,o=-(ve(e)-t.top)/A*2+1;if(null!==g&&function(e,t){let r=he(e,t,v);0!=r.length&&void 0!==r[0]||de(null),void 0!==r[0]&&r[0].clickable!==g&&de(null)}(r,o),v.length>0&&(we=setTimeout((function(){!function(e,t){if(0==v.length)return;let r=he(e,t,v);if(r.length){var o=r[0].clickable;de(o),g=o}else de(null)}(r,o)}),y)),e.preventDefault(),j&&K){var i=0,n=me(e),a=ve(e);if(void 0!==n&&ye(n,a)){var s=(n-J)/C,l=(a-ee)/A;0!=te&&e.originalEvent.targetTouches&&2==e.originalEvent.targetTouches.length?(i=2,l=2*(pe(e)-te)/(C+A)):e.originalEvent.targetTouches&&3==e.originalEvent.targetTouches.length&&(i=1);var c=E.getXRatio(),u=E.getYRatio();s*=c,l*=u;var h,f=Math.sqrt(s*s+l*l);if(3==i||3==be&&e.ctrlKey)q=ie+100*s,W=ne-100*l;else if(2==i||3==be||e.shiftKey)(h=.85*(_-G.position.z))<80&&(h=80),G.position.z=oe+l*h,G.position.z=xe(G.position.z);else if(1==i||2==be||e.ctrlKey){var d=ge(c*(n-J),u*(a-ee));H.position.addVectors(re,d)}else if((0===i||1==be)&&0!==f){var p=Math.sin(f*Math.PI)/f;X.x=Math.cos(f*Math.PI),X.y=0,X.z=p*s,X.w=-p*l,G.quaternion.set(1,0,0,0),G.quaternion.multiply(X),G.quaternion.multiply(Y)}ue()}}},Se=function(e){l=e,C=w(),A=D(),N=E.getAspect(C,A),E.setSize(C,A),l.append(E.domElement),c=$(E.domElement),i||(c.bind("mousedown touchstart",De),c.bind("DOMMouseScroll mousewheel",Ce),c.bind("mousemove touchmove",Ae),c.bind("contextmenu",(function(e){e.preventDefault()})))};Se(l),this.setContainer=function(e){return"string"==typeof e&&(e=$("#"+e)),e||(e=l),Se(e),this},this.setBackgroundColor=function(e,t){(void 0===t||t<0||t>1)&&(t=1);var r=$3Dmol.CC.color(e);return j.fog.color=r,n=r.getHex(),E.setClearColorHex(r.getHex(),t),ue(),this},this.setProjection=function(e){P.ortho="orthographic"===e,ce()},this.setViewStyle=function(e){if("outline"===e.style){var t={};e.color&&(t.color=$3Dmol.CC.color(e.color)),e.width&&(t.width=e.width),E.enableOutline(t)}else E.disableOutline();return this},t.style&&this.setViewStyle(t),this.setWidth=function(e){return C=e||C,E.setSize(C,A),this},this.setHeight=function(e){return A=e||A,E.setSize(C,A),this},this.resize=function(){return C=w(),A=D(),N=E.getAspect(C,A),E.setSize(C,A),P.aspect=N,P.updateProjectionMatrix(),ue(),this},$(window).resize(this.resize),void 0!==typeof window.ResizeObserver&&new window.ResizeObserver(this.resize).observe(l[0]),this.getModel=function(e){return void 0===e?0==u.length?null:u[u.length-1]:e instanceof $3Dmol.GLModel?e:e in u?u[e]:0==u.length?null:u[u.length-1]};var $e,Me=function(e,t,r){if(1==r)return t;if(0==r)return e;var o=e.x*t.x+e.y*t.y+e.z*t.z+e.w*t.w;if(o>.9995){var i=new $3Dmol.Quaternion(e.x+r*(t.x-e.x),e.y+r*(t.y-e.y),e.z+r*(t.z-e.z),e.w+r*(t.w-e.w));return i.normalize(),i}o<0&&(t=t.clone().multiplyScalar(-1),o=-o),o>1?o=1:o<-1&&(o=-1);var n=Math.acos(o)*r,a=t.clone();a.sub(e.clone().multiplyScalar(o)),a.normalize();var s=Math.cos(n),l=Math.sin(n),c=new $3Dmol.Quaternion(e.x*s+a.x*l,e.y*s+a.y*l,e.z*s+a.z*l,e.w*s+a.w*l);return c.normalize(),c};this.spin=function(e,t){if(clearInterval($e),void 0===e&&(e="y"),"boolean"==typeof e){if(!e)return;e="y"}"number"!=typeof t&&(t=1),Array.isArray(e)&&(e={x:e[0],y:e[1],z:e[2]});var r=this;$e=setInterval((function(){r.rotate(1*t,e)}),25)};var _e=function(e,t,r,o,i,n){var a=Math.ceil(e/20);a<1&&(a=1),se();var s={mpos:H.position.clone(),rz:G.position.z,rot:G.quaternion.clone(),cam:V.clone()};if(t){for(var l=(a=new Array(a)).length,c=0;c<l;c++){let e=(c+1)/l,t={mpos:s.mpos,rz:s.rz,rot:s.rot};r&&(t.mpos=r.clone().sub(s.mpos).multiplyScalar(e).add(s.mpos)),void 0!==o&&null!=o&&(t.rz=s.rz+e*(o-s.rz)),i&&(t.rot=Me(s.rot,i,e)),n&&(t.cam=n.clone().sub(s.cam).multiplyScalar(e).add(s.cam)),a[c]=t}let e=0,t=function(){var r=a[e];e+=1,r.mpos&&(H.position=r.mpos),r.rz&&(G.position.z=r.rz),r.rot&&(G.quaternion=r.rot),r.cam&&P.lookAt(r.cam),e<a.length?setTimeout(t,20):ae(),ue()};setTimeout(t,20)}else{var u={};let e=1/a;if(r&&(u.mpos=r.clone().sub(s.mpos).multiplyScalar(e)),void 0!==o&&null!=o&&(u.rz=e*(o-s.rz)),i){var h=Me(s.rot,i,e);u.rot=s.rot.clone().inverse().multiply(h)}n&&(u.cam=n.clone().sub(s.cam).multiplyScalar(e));let t=0,l=function(){t+=1,u.mpos&&H.position.add(u.mpos),u.rz&&(G.position.z+=u.rz),u.rot&&G.quaternion.multiply(u.rot),u.cam&&(V.add(u.cam),P.lookAt(V)),t<a?setTimeout(l,20):ae(),ue()};setTimeout(l,20)}};function Te(e){var t=[];if(void 0===e||void 0===e.model)for(let e=0;e<u.length;e++)u[e]&&t.push(u[e]);else{t=e.model,Array.isArray(t)||(t=[t]);for(let e=0;e<t.length;e++)if("number"==typeof t[e]){var r=t[e];r<0&&(r+=u.length),t[e]=u[r]}}return t}function ze(e){var t=[];void 0===e&&(e={});for(var r=Te(e),o=0;o<r.length;o++)t=t.concat(r[o].selectedAtoms(e));return t}function Ee(e,t){void 0===t&&(t={});for(var r=Te(t),o=0;o<r.length;o++)if(r[o].atomIsSelected(e,t))return!0;return!1}this.rotate=function(e,t,r,o){if(r=void 0!==r?r:0,void 0===t&&(t="y"),"x"==t?t={x:1,y:0,z:0}:"y"==t?t={x:0,y:1,z:0}:"z"==t&&(t={x:0,y:0,z:1}),"vx"==t?t={vx:1,vy:0,vz:0}:"vy"==t?t={vx:0,vy:1,vz:0}:"vz"==t&&(t={vx:0,vy:0,vz:1}),void 0!==t.vx){var i=new $3Dmol.Vector3(t.vx,t.vy,t.vz);i.applyQuaternion(G.quaternion),t={x:i.x,y:i.y,z:i.z}}var n=function(e){var r,o,i,n=Math.sin(e/2),a=Math.cos(e/2);return r=t.x*n,o=t.y*n,i=t.z*n,new $3Dmol.Quaternion(r,o,i,a).normalize()}(Math.PI*e/180);if(r){var a=(new $3Dmol.Quaternion).copy(G.quaternion).multiply(n);_e(r,o,H.position,G.position.z,a,V)}else G.quaternion.multiply(n),ue();return this},this.surfacesFinished=function(){for(var e in h)if(!h[e][0].done)return!1;return!0},this.getView=function(){if(!H)return[0,0,0,0,0,0,0,1];var e=H.position,t=G.quaternion;return[e.x,e.y,e.z,G.position.z,t.x,t.y,t.z,t.w]},this.setView=function(e,t){return void 0!==e&&(e instanceof Array||8!==e.length)&&H&&G?(H.position.x=e[0],H.position.y=e[1],H.position.z=e[2],G.position.z=e[3],G.quaternion.x=e[4],G.quaternion.y=e[5],G.quaternion.z=e[6],G.quaternion.w=e[7],void 0!==e[8]&&(G.position.x=e[8],G.position.y=e[9]),ue(t),this):this},this.render=function(e,t){E.setViewport(),function(){m.splice(0,m.length),v.splice(0,v.length);for(let t=0,r=u.length;t<r;t++){var e=u[t];if(e){let t=e.selectedAtoms({clickable:!0}),r=e.selectedAtoms({hoverable:!0});for(let e=0;e<r.length;e++)v.push(r[e]);for(let e=0;e<t.length;e++)m.push(t[e])}}for(let e=0,t=f.length;e<t;e++){let t=f[e];t&&t.clickable&&m.push(t),t&&t.hoverable&&v.push(t)}}();var r,o,i=this.getView();for(M&&M(this.getInternalState()),t||(t=E.supportedExtensions()),r=0;r<u.length;r++)u[r]&&u[r].globj(H,t);for(r=0;r<f.length;r++)f[r]&&(void 0===f[r].frame||b<0||f[r].frame<0||f[r].frame==b?f[r].globj(H,t):f[r].removegl(H));for(r=0;r<d.length;r++)d[r]&&void 0!==d[r].frame&&d[r].frame>=0&&(H.remove(d[r].sprite),(b<0||d[r].frame==b)&&H.add(d[r].sprite));for(r in h)if(h.hasOwnProperty(r)){var n=h[r];for(o=0;o<n.length;o++)if(n.hasOwnProperty(o)){var a=n[o].geo;if(!n[o].finished||t.regen){a.verticesNeedUpdate=!0,a.elementsNeedUpdate=!0,a.normalsNeedUpdate=!0,a.colorsNeedUpdate=!0,a.buffersNeedUpdate=!0,a.boundingSphere=null,n[o].done&&(n[o].finished=!0),n[o].lastGL&&H.remove(n[o].lastGL);var s=null;if(s=n[o].mat instanceof $3Dmol.LineBasicMaterial?new $3Dmol.Line(a,n[o].mat):new $3Dmol.Mesh(a,n[o].mat),n[o].mat.transparent&&0==n[o].mat.opacity?s.visible=!1:s.visible=!0,n[o].symmetries.length>1||1==n[o].symmetries.length&&!n[o].symmetries[o].isIdentity()){var l,c=new $3Dmol.Object3D;for(l=0;l<n[o].symmetries.length;l++){var p=s.clone();p.matrix=n[o].symmetries[l],p.matrixAutoUpdate=!1,c.add(p)}n[o].lastGL=c,H.add(c)}else n[o].lastGL=s,H.add(s)}}}return this.setView(i),"function"==typeof e&&e(this),this},this.selectedAtoms=function(e){return ze(e)},this.getUniqueValues=function(e,t){void 0===t&&(t={});var r=ze(t),o={};for(var i in r)r[i].hasOwnProperty(e)&&(o[r[i][e]]=!0);return Object.keys(o)},this.pdbData=function(e){for(var t=ze(e),r="",o=0,i=t.length;o<i;++o)r+=t[o].pdbline+"\n";return r},this.zoom=function(e,t,r){e=e||2,t=void 0!==t?t:0;var o=(_-G.position.z)/e,i=_-o;return t>0?_e(t,r,H.position,xe(i),G.quaternion,V):(G.position.z=xe(i),ue()),this},this.translate=function(e,t,r,o){r=void 0!==r?r:0;var i=e/C,n=t/A,a=new $3Dmol.Vector3(0,0,-_);B.projectVector(a,P),a.x-=i,a.y-=n,B.unprojectVector(a,P),a.z=0;var s=V.clone().add(a);return r>0?_e(r,o,H.position,G.position.z,G.quaternion,s):(V=s,P.lookAt(V),ue()),this},this.translateScene=function(e,t,r,o){r=void 0!==r?r:0;var i=ge(e,t),n=H.position.clone().add(i);return r>0?_e(r,o,H.position,G.position.z,G.quaternion,V):(H.position=n,ue()),this},this.fitSlab=function(e){var t=ze(e=e||{}),r=$3Dmol.getExtent(t),o=r[1][0]-r[0][0],i=r[1][1]-r[0][1],n=r[1][2]-r[0][2],a=Math.sqrt(o*o+i*i+n*n);return a<5&&(a=5),q=-a/1.9,W=a/2,this},this.center=function(e,t,r){var o,i;t=void 0!==t?t:0;var n=ze(e=e||{}),a=$3Dmol.getExtent(n);$3Dmol.isEmptyObject(e)?(f.forEach((e=>{if(e&&e.boundingSphere&&e.boundingSphere.center){var t=e.boundingSphere.center,r=e.boundingSphere.radius;r>0?(n.push(new $3Dmol.Vector3(t.x+r,t.y,t.z)),n.push(new $3Dmol.Vector3(t.x-r,t.y,t.z)),n.push(new $3Dmol.Vector3(t.x,t.y+r,t.z)),n.push(new $3Dmol.Vector3(t.x,t.y-r,t.z)),n.push(new $3Dmol.Vector3(t.x,t.y,t.z+r)),n.push(new $3Dmol.Vector3(t.x,t.y,t.z-r))):n.push(t)}})),a=$3Dmol.getExtent(n),o=n,i=a):(o=ze({}),i=$3Dmol.getExtent(o));var s=new $3Dmol.Vector3(a[2][0],a[2][1],a[2][2]),l=i[1][0]-i[0][0],c=i[1][1]-i[0][1],u=i[1][2]-i[0][2],h=Math.sqrt(l*l+c*c+u*u);h<5&&(h=5),q=-h/1.9,W=h/2,l=a[1][0]-a[0][0],c=a[1][1]-a[0][1],u=a[1][2]-a[0][2],(h=Math.sqrt(l*l+c*c+u*u))<5&&(h=5);for(var d=25,p=0;p<n.length;p++)if(n[p]){var m=s.distanceToSquared(n[p]);m>d&&(d=m)}h=2*Math.sqrt(d);var v=s.clone().multiplyScalar(-1);return t>0?_e(t,r,v,G.position.z,G.quaternion,V):(H.position=v,ue()),this},this.zoomTo=function(e,r,o){r=void 0!==r?r:0;let i=ze(e=e||{}),n=$3Dmol.getExtent(i),a=n;if($3Dmol.isEmptyObject(e)){let e=i&&i.length;if(f.forEach((e=>{if(e&&e.boundingSphere)if(e.boundingSphere.box){let t=e.boundingSphere.box;i.push(new $3Dmol.Vector3(t.min.x,t.min.y,t.min.z)),i.push(new $3Dmol.Vector3(t.max.x,t.max.y,t.max.z))}else if(e.boundingSphere.center){var t=e.boundingSphere.center,r=e.boundingSphere.radius;r>0?(i.push(new $3Dmol.Vector3(t.x+r,t.y,t.z)),i.push(new $3Dmol.Vector3(t.x-r,t.y,t.z)),i.push(new $3Dmol.Vector3(t.x,t.y+r,t.z)),i.push(new $3Dmol.Vector3(t.x,t.y-r,t.z)),i.push(new $3Dmol.Vector3(t.x,t.y,t.z+r)),i.push(new $3Dmol.Vector3(t.x,t.y,t.z-r))):i.push(t)}})),a=$3Dmol.getExtent(i),!e)for(let e=0;e<3;e++)n[2][e]=(a[0][e]+a[1][e])/2}else{let e=ze({});a=$3Dmol.getExtent(e)}var s=new $3Dmol.Vector3(n[2][0],n[2][1],n[2][2]),l=a[1][0]-a[0][0],c=a[1][1]-a[0][1],u=a[1][2]-a[0][2],h=Math.sqrt(l*l+c*c+u*u);h<5&&(h=5),q=-h/1.9,W=h/2,0===Object.keys(e).length&&(q=-999999,W=999999);var d=t.minimumZoomToDistance||5;l=n[1][0]-n[0][0],c=n[1][1]-n[0][1],u=n[1][2]-n[0][2],(h=Math.sqrt(l*l+c*c+u*u))<d&&(h=d);for(var p=d*d,m=0;m<i.length;m++)if(i[m]){var v=s.distanceToSquared(i[m]);v>p&&(p=v)}h=2*Math.sqrt(p);var g=s.clone().multiplyScalar(-1),y=-(.5*h/Math.tan(Math.PI/180*P.fov/2)-_);return y=xe(y),r>0?_e(r,o,g,y,G.quaternion,V):(H.position=g,G.position.z=y,ue()),this},this.setSlab=function(e,t){q=e,W=t},this.getSlab=function(){return{near:q,far:W}},this.addLabel=function(e,t,r,o){if(t=t||{},r){var i=$3Dmol.getExtent(ze(r));t.position={x:i[2][0],y:i[2][1],z:i[2][2]}}var n=new $3Dmol.Label(e,t);return n.setContext(),H.add(n.sprite),t.fixed&&p.push(d.length),d.push(n),o||ue(),n},this.addResLabels=function(e,t,r){let o=d.length;return Fe("addResLabels",e,this,t,r),ue(),d.slice(o)},this.addPropertyLabels=function(e,t,r){return Fe("addPropertyLabels",e,t,this,r),ue(),this},this.removeLabel=function(e){for(var t=0;t<d.length;t++)if(d[t]==e){d.splice(t,1),e.dispose(),H.remove(e.sprite);break}return ue(),this},this.removeAllLabels=function(){for(var e=0;e<d.length;e++)d[e]&&d[e].sprite&&H.remove(d[e].sprite);return d.splice(0,d.length),ue(),this},this.setLabelStyle=function(e,t){return H.remove(e.sprite),e.dispose(),e.stylespec=t,e.setContext(),H.add(e.sprite),ue(),e},this.setLabelText=function(e,t){return H.remove(e.sprite),e.dispose(),e.text=t,e.setContext(),H.add(e.sprite),ue(),e},this.addShape=function(e){e=e||{};var t=new $3Dmol.GLShape(e);return t.shapePosition=f.length,f.push(t),t},this.removeShape=function(e){if(!e)return this;for(e.removegl(H),delete f[e.shapePosition];f.length>0&&void 0===f[f.length-1];)f.pop();return this},this.removeAllShapes=function(){for(var e=0;e<f.length;e++){var t=f[e];t&&t.removegl(H)}return f.splice(0,f.length),this};var Le=function(e){if(e.hasOwnProperty("x")&&e.hasOwnProperty("y")&&e.hasOwnProperty("z"))return e;var t=ze(e);if(0==t.length)return{x:0,y:0,z:0};var r=$3Dmol.getExtent(t);return{x:r[0][0]+(r[1][0]-r[0][0])/2,y:r[0][1]+(r[1][1]-r[0][1])/2,z:r[0][2]+(r[1][2]-r[0][2])/2}};function Fe(e,t,r,o,i,n,a){for(var s=Te(t),l=0;l<s.length;l++)s[l][e](t,r,o,i,n,a)}this.addSphere=function(e){(e=e||{}).center=Le(e.center);var t=new $3Dmol.GLShape(e);return t.shapePosition=f.length,t.addSphere(e),f.push(t),t.finalize(),t},this.addBox=function(e){null!=(e=e||{}).corner&&(e.corner=Le(e.corner)),null!=e.center&&(e.center=Le(e.center));var t=new $3Dmol.GLShape(e);return t.shapePosition=f.length,t.addBox(e),f.push(t),t.finalize(),t},this.addArrow=function(e){(e=e||{}).start=Le(e.start),e.end=Le(e.end);var t=new $3Dmol.GLShape(e);return t.shapePosition=f.length,t.addArrow(e),f.push(t),t.finalize(),t},this.addCylinder=function(e){(e=e||{}).start=Le(e.start),e.end=Le(e.end);var t=new $3Dmol.GLShape(e);return t.shapePosition=f.length,e.dashed?t.addDashedCylinder(e):t.addCylinder(e),f.push(t),t.finalize(),t},this.addCurve=function(e){e=e||{};var t=new $3Dmol.GLShape(e);return t.shapePosition=f.length,t.addCurve(e),f.push(t),t.finalize(),t},this.addLine=function(e){(e=e||{}).start=Le(e.start),e.end=Le(e.end),e.wireframe=!0;var t=new $3Dmol.GLShape(e);return t.shapePosition=f.length,e.dashed?t=function(e,t){e.dashLength=e.dashLength||.5,e.gapLength=e.gapLength||.5,e.start=e.start||{},e.end=e.end||{};var r,o,i,n=new $3Dmol.Vector3(e.start.x||0,e.start.y||0,e.start.z||0),a=new $3Dmol.Vector3(e.end.x,e.end.y||0,e.end.z||0),s=new $3Dmol.Vector3,l=new $3Dmol.Vector3,c=new $3Dmol.Vector3,u=n.clone(),h=0;for(s.subVectors(a,n),r=s.length(),s.normalize(),l=s.clone(),c=s.clone(),l.multiplyScalar(e.dashLength),c.multiplyScalar(e.gapLength),o=l.length(),i=c.length();h<r;){if(h+o>r){e.start=n,e.end=a,t.addLine(e);break}u.addVectors(n,l),e.start=n,e.end=u,t.addLine(e),n=u.clone(),h+=o,u.addVectors(n,c),n=u.clone(),h+=i}return t.finalize(),t}(e,t):t.addLine(e),f.push(t),t.finalize(),t},this.addUnitCell=function(e,t){e=this.getModel(e),(t=t||{alabel:"a",blabel:"b",clabel:"c"}).box=t.box||{},t.astyle=t.astyle||{color:"red",radius:.1,midpos:-1},t.bstyle=t.bstyle||{color:"green",radius:.1,midpos:-1},t.cstyle=t.cstyle||{color:"blue",radius:.1,midpos:-1},t.alabelstyle=t.alabelstyle||{fontColor:"red",showBackground:!1,alignment:"center",inFront:!1},t.blabelstyle=t.blabelstyle||{fontColor:"green",showBackground:!1,alignment:"center",inFront:!1},t.clabelstyle=t.clabelstyle||{fontColor:"blue",showBackground:!1,alignment:"center",inFront:!1},e.unitCellObjects&&this.removeUnitCell(e),e.unitCellObjects={shapes:[],labels:[]};var r=e.getCrystData(),o=null;if(r){if(r.matrix)o=r.matrix;else{var i,n,a,s=r.a,l=r.b,c=r.c,u=r.alpha,h=r.beta,d=r.gamma;u=u*Math.PI/180,h=h*Math.PI/180,d=d*Math.PI/180,i=Math.cos(h),n=(Math.cos(u)-Math.cos(h)*Math.cos(d))/Math.sin(d),a=Math.sqrt(Math.max(0,1-i*i-n*n)),o=new $3Dmol.Matrix3(s,l*Math.cos(d),c*i,0,l*Math.sin(d),c*n,0,0,c*a)}var p=[new $3Dmol.Vector3(0,0,0),new $3Dmol.Vector3(1,0,0),new $3Dmol.Vector3(0,1,0),new $3Dmol.Vector3(0,0,1),new $3Dmol.Vector3(1,1,0),new $3Dmol.Vector3(0,1,1),new $3Dmol.Vector3(1,0,1),new $3Dmol.Vector3(1,1,1)];if(r.matrix4)for(let e=0;e<p.length;e++)r.size&&p[e].multiplyVectors(p[e],r.size),p[e]=p[e].applyMatrix4(r.matrix4);else for(let e=0;e<p.length;e++)p[e]=p[e].applyMatrix3(o);if(t.box&&!t.box.hidden){t.box.wireframe=!0;var m=new $3Dmol.GLShape(t.box);m.shapePosition=f.length,m.addLine({start:p[0],end:p[1]}),m.addLine({start:p[0],end:p[2]}),m.addLine({start:p[1],end:p[4]}),m.addLine({start:p[2],end:p[4]}),m.addLine({start:p[0],end:p[3]}),m.addLine({start:p[3],end:p[5]}),m.addLine({start:p[2],end:p[5]}),m.addLine({start:p[1],end:p[6]}),m.addLine({start:p[4],end:p[7]}),m.addLine({start:p[6],end:p[7]}),m.addLine({start:p[3],end:p[6]}),m.addLine({start:p[5],end:p[7]}),f.push(m),e.unitCellObjects.shapes.push(m),m.finalize()}if(!t.astyle.hidden){t.astyle.start=p[0],t.astyle.end=p[1];let r=this.addArrow(t.astyle);e.unitCellObjects.shapes.push(r)}if(!t.bstyle.hidden){t.bstyle.start=p[0],t.bstyle.end=p[2];let r=this.addArrow(t.bstyle);e.unitCellObjects.shapes.push(r)}if(!t.cstyle.hidden){t.cstyle.start=p[0],t.cstyle.end=p[3];let r=this.addArrow(t.cstyle);e.unitCellObjects.shapes.push(r)}if(t.alabel){t.alabelstyle.position=p[1];let r=this.addLabel(t.alabel,t.alabelstyle);e.unitCellObjects.labels.push(r)}if(t.blabel){t.blabelstyle.position=p[2];let r=this.addLabel(t.blabel,t.blabelstyle);e.unitCellObjects.labels.push(r)}if(t.clabel){t.clabelstyle.position=p[3];let r=this.addLabel(t.clabel,t.clabelstyle);e.unitCellObjects.labels.push(r)}}},this.removeUnitCell=function(e){if((e=this.getModel(e)).unitCellObjects){let t=this;e.unitCellObjects.shapes.forEach((function(e){t.removeShape(e)})),e.unitCellObjects.labels.forEach((function(e){t.removeLabel(e)}))}delete e.unitCellObjects},this.replicateUnitCell=function(e,t,r,o){e=e||3,t=t||e,r=r||t;let i=(o=this.getModel(o)).getCrystData();if(i){const n=o.selectedAtoms({}),a=i.matrix;let s=function(e){return e%2==0?-e/2:Math.ceil(e/2)};for(let i=0;i<e;i++)for(let e=0;e<t;e++)for(let t=0;t<r;t++){if(0==i&&0==e&&0==t)continue;let r=new $3Dmol.Vector3(s(i),s(e),s(t));r.applyMatrix3(a);let l=[];for(let e=0;e<n.length;e++){let t={};for(let r in n[e])t[r]=n[e][r];t.x+=r.x,t.y+=r.y,t.z+=r.z,l.push(t)}o.addAtoms(l)}}},this.addCustom=function(e){e=e||{};var t=new $3Dmol.GLShape(e);return t.shapePosition=f.length,t.addCustom(e),f.push(t),t.finalize(),t},this.addVolumetricData=function(e,t,r){r=r||{};var o=new $3Dmol.VolumeData(e,t);return r.transferfn?this.addVolumetricRender(o,r):this.addIsosurface(o,r)},this.addIsosurface=function(e,t,r){t=t||{};var o=new $3Dmol.GLShape(t);return o.shapePosition=f.length,o.addIsosurface(e,t,r),f.push(o),o},this.addVolumetricRender=function(e,t){t=t||{};var r=new $3Dmol.GLVolumetricRender(e,t);return r.shapePosition=f.length,f.push(r),r},this.hasVolumetricRender=function(){return E.supportsVolumetric()},this.enableFog=function(e){e?j.fog=new $3Dmol.Fog(n,100,200):(t.disableFog=!0,ue())},this.setFrame=function(e){b=e;let t=this;return new Promise((function(r){var o=u.map((function(r){return r.setFrame(e,t)}));Promise.all(o).then((function(){r()}))}))},this.getFrame=function(){return b},this.getNumFrames=function(){var e=0;for(let t=0;t<u.length;t++)u[t].getNumFrames()>e&&(e=u[t].getNumFrames());for(let t=0;t<f.length;t++)f[t].frame&&f[t].frame>=e&&(e=f[t].frame+1);for(let t=0;t<d.length;t++)d[t].frame&&d[t].frame>=e&&(e=d[t].frame+1);return e},this.animate=function(e){se();var t=100,r="forward",o=0;(e=e||{}).interval&&(t=e.interval),e.loop&&(r=e.loop),e.reps&&(o=e.reps);var i=this.getNumFrames(),n=this,a=0,s=1;e.step&&(o/=s=e.step);var l,c,u=0,h=i*o,f=new Date,d=function(e){f=new Date,"forward"==e?n.setFrame(a).then((function(){a=(a+s)%i,l()})):"backward"==e?n.setFrame(i-1-a).then((function(){a=(a+s)%i,l()})):n.setFrame(a).then((function(){s*=(a+=s)%(i-1)==0?-1:1,l()}))};return l=function(){if(n.render(),++u!=h&&n.isAnimated()){var e=t-(new Date-f);e=e>0?e:0,Q.delete(c),c=setTimeout(d,e,r),Q.add(c)}else clearTimeout(c),Q.delete(c),ae()},c=setTimeout(d,0,r),Q.add(c),this},this.stopAnimate=function(){return Z=0,Q.forEach((function(e){clearTimeout(e)})),Q=new Set,this},this.isAnimated=function(){return Z>0},this.addModel=function(e,r,i){i&&!i.defaultcolors?(i.defaultcolors=o,i.cartoonQuality=t.cartoonQuality):void 0===i&&(i={defaultcolors:o,cartoonQuality:t.cartoonQuality});var n=new $3Dmol.GLModel(u.length,i);return n.addMolData(e,r,i),u.push(n),n},this.addModels=function(e,t,r){(r=r||{}).multimodel=!0,r.frames=!0;for(var i=$3Dmol.GLModel.parseMolData(e,t,r),n=0;n<i.length;n++){var a=new $3Dmol.GLModel(u.length,o);a.setAtomDefaults(i[n]),a.addFrame(i[n]),a.setFrame(0),i.modelData&&a.setModelData(i.modelData[n]),a.setDontDuplicateAtoms(!r.duplicateAssemblyAtoms),u.push(a)}return u},this.addModelsAsFrames=function(e,t,r){(r=r||{}).multimodel=!0,r.frames=!0;var i=new $3Dmol.GLModel(u.length,o);return i.addMolData(e,t,r),u.push(i),i},this.addAsOneMolecule=function(e,t,r){(r=r||{}).multimodel=!0,r.onemol=!0;var i=new $3Dmol.GLModel(u.length,o);return i.addMolData(e,t,r),u.push(i),i},this.removeModel=function(e){if(e=this.getModel(e)){for(e.removegl(H),delete u[e.getID()];u.length>0&&void 0===u[u.length-1];)u.pop();return this}},this.removeAllModels=function(){for(var e=0;e<u.length;e++){var t=u[e];t&&t.removegl(H)}return u.splice(0,u.length),this},this.exportJSON=function(e,t){var r={};return r.m=void 0===t?u.map((function(t){return t.toCDObject(e)})):[u[t].toCDObject()],JSON.stringify(r)},this.exportVRML=function(){var e=H;Fe("removegl",H),H=new $3Dmol.Object3D,this.render(null,{supportsImposters:!1,supportsAIA:!1,regen:!0});var t="#VRML V2.0 utf8\n"+H.vrml()+"\n";return Fe("removegl",H),H=e,t},this.createModelFrom=function(e,t){for(var r=new $3Dmol.GLModel(u.length,o),i=0;i<u.length;i++)if(u[i]){var n=u[i].selectedAtoms(e);r.addAtoms(n),t&&u[i].removeAtoms(n)}return u.push(r),r},this.setStyle=function(e,t){return void 0===t&&(t=e,e={}),Fe("setStyle",e,t,!1),this},this.addStyle=function(e,t){return void 0===t&&(t=e,e={}),Fe("setStyle",e,t,!0),this},this.setClickable=function(e,t,r){return Fe("setClickable",e,t,r),this},this.setHoverable=function(e,t,r,o){return Fe("setHoverable",e,t,r,o),this},this.vibrate=function(e,t,r,o){return Fe("vibrate",e,t,r,this,o),this},this.setColorByProperty=function(e,t,r,o){return Fe("setColorByProperty",e,t,r,o),this},this.setColorByElement=function(e,t){return Fe("setColorByElement",e,t),this};var Ie=function(e,t){for(var r=[],o=0;o<e.length;o++){var i=e[o];void 0!==i&&(i.x<t[0][0]||i.x>t[1][0]||i.y<t[0][1]||i.y>t[1][1]||i.z<t[0][2]||i.z>t[1][2]||r.push(i))}return r},Re=function(e){return(e[1][0]-e[0][0])*(e[1][1]-e[0][1])*(e[1][2]-e[0][2])},Oe=function(e,t,r){var o=new $3Dmol.Geometry(!0),i=o.updateGeoGroup(0),n=[];for(let t=0,r=e.length;t<r;t++){var a=e[t];a&&(void 0!==a.surfaceColor?n[t]=a.surfaceColor:a.color&&(n[t]=$3Dmol.CC.color(a.color)))}var s=i.vertexArray,l=t.vertices;for(let e=0,t=l.length;e<t;e++){let t=3*i.vertices;s[t]=l[e].x,s[t+1]=l[e].y,s[t+2]=l[e].z,i.vertices++}var c=i.colorArray;if(r.voldata&&r.volscheme){var u=r.volscheme,h=r.voldata,f=u.range()||[-1,1];for(let e=0,t=l.length;e<t;e++){let t=h.getVal(l[e].x,l[e].y,l[e].z),r=$3Dmol.CC.color(u.valueToHex(t,f)),o=3*e;c[o]=r.r,c[o+1]=r.g,c[o+2]=r.b}}else if(n.length>0)for(let e=0,t=l.length;e<t;e++){let t=l[e].atomid,r=3*e;c[r]=n[t].r,c[r+1]=n[t].g,c[r+2]=n[t].b}var d=t.faces;i.faceidx=d.length,o.initTypedArrays();var p,m,v,g,y=i.vertexArray,b=i.normalArray;for(let e=0,t=d.length;e<t;e+=3){var x=3*d[e],w=3*d[e+1],D=3*d[e+2];p=new $3Dmol.Vector3(y[x],y[x+1],y[x+2]),m=new $3Dmol.Vector3(y[w],y[w+1],y[w+2]),(v=new $3Dmol.Vector3(y[D],y[D+1],y[D+2])).subVectors(v,m),p.subVectors(p,m),v.cross(p),(g=v).normalize(),b[x]+=g.x,b[w]+=g.x,b[D]+=g.x,b[x+1]+=g.y,b[w+1]+=g.y,b[D+1]+=g.y,b[x+2]+=g.z,b[w+2]+=g.z,b[D+2]+=g.z}i.faceArray=new Uint16Array(d);var C=new $3Dmol.Mesh(o,r);return C.doubleSided=!0,C};function ke(e){var t=new $3Dmol.MeshLambertMaterial;for(var r in t.vertexColors=$3Dmol.VertexColors,e)"color"===r||"map"===r||e.hasOwnProperty(r)&&(t[r]=e[r]);return void 0!==e.opacity&&(1===e.opacity?t.transparent=!1:t.transparent=!0),t}this.addMesh=function(e){var t={geo:e.geometry,mat:e.material,done:!0,finished:!1},r=le();return h[r]=t,r};var Ne=function(e){var t=[];let r=e.length;for(let o=0;o<r;o++)t[o]=$3Dmol.extend({},e[o]);return t},Pe={VDW:$3Dmol.SurfaceType.VDW,MS:$3Dmol.SurfaceType.MS,SAS:$3Dmol.SurfaceType.SAS,SES:$3Dmol.SurfaceType.SES};this.addSurface=function(e,t,r,o,i,n){var a=le(),l=null;"string"==typeof e?void 0!==Pe[e]?e=Pe[e]:console.log("Surface type : "+e+" is not recognized"):void 0===e&&(e=$3Dmol.SurfaceType.VDW);var c=null,f=null,d=Ne(ze(r));c=o?Ne(ze(o)):d,$3Dmol.adjustVolumeStyle(t);var p,m=!1;for(p=0;p<u.length;p++)if(u[p]){var v=u[p].getSymmetries();if(v.length>1||1==v.length&&!v[0].isIdentity()){m=!0;break}}var g=function(r,o,n){var c;f=i?Ne(ze(i)):n;var u=$3Dmol.getExtent(n,!0);if(t.map&&t.map.prop){var h=t.map.prop,d=t.map.scheme||t.map.gradient||new $3Dmol.Gradient.RWB,p=d.range();p||(p=$3Dmol.getPropertyRange(n,h)),t.colorscheme={prop:h,gradient:d}}for(let e=0,r=o.length;e<r;e++)(c=o[e]).surfaceColor=$3Dmol.getColorFromStyle(c,t);var m=Re(u),v=function(e,t,r){for(var o=[],i={},n=0,a=t.length;n<a;n++)i[t[n].index]=n;var s=function(e){for(var t=[],r=0,o=e.length;r<o;r++)e[r].index in i&&t.push(i[e[r].index]);return t},l=function(e){var t=[];return t[0]=[e[0][0],e[0][1],e[0][2]],t[1]=[e[1][0],e[1][1],e[1][2]],t},c=function(e){if(Re(e)<64e3)return[e];var t,r=e[1][0]-e[0][0],o=e[1][1]-e[0][1],i=e[1][2]-e[0][2];t=r>o&&r>i?0:o>r&&o>i?1:2;var n=l(e),a=l(e),s=(e[1][t]-e[0][t])/2+e[0][t];n[1][t]=s,a[0][t]=s;var u=c(n),h=c(a);return u.concat(h)},u=c(e);for(let e=0,i=u.length;e<i;e++){let i=l(u[e]);i[0][0]-=6,i[0][1]-=6,i[0][2]-=6,i[1][0]+=6,i[1][1]+=6,i[1][2]+=6;var h=Ie(t,i),f=Ie(r,u[e]);o.push({extent:u[e],atoms:s(h),toshow:s(f)})}return o}(u,o,n);if(f&&f.length&&f.length>0){var g=$3Dmol.getExtent(f,!0);v.sort((function(e,t){var r=function(e,t){var r=e.extent,o=r[1][0]-r[0][0],i=r[1][1]-r[0][1],n=r[1][2]-r[0][2],a=o-t[2][0];a*=a;var s=i-t[2][1];s*=s;var l=n-t[2][2];return a+s+(l*=l)};return r(e,g)-r(t,g)}))}var y=[];for(let e=0,t=o.length;e<t;e++)c=o[e],y[e]={x:c.x,y:c.y,z:c.z,serial:e,elem:c.elem};if($3Dmol.syncSurface){var b=function(t){return new Promise((function(i){for(var n=function(e,t,r,o,i,n){var a=new $3Dmol.ProteinSurface;return a.initparm(t,1!==e,n),a.fillvoxels(i,r),a.buildboundary(),e!=$3Dmol.SurfaceType.SES&&e!=$3Dmol.SurfaceType.MS||(a.fastdistancemap(),a.boundingatom(!1),a.fillvoxelswaals(i,r)),a.marchingcube(e),a.getFacesAndVertices(o)}(e,v[t].extent,v[t].atoms,v[t].toshow,y,m),a=$3Dmol.splitMesh({vertexArr:n.vertices,faceArr:n.faces}),c=0,u=a.length;c<u;c++){n={vertices:a[c].vertexArr,faces:a[c].faceArr};var h=Oe(o,n,l);$3Dmol.mergeGeos(r.geo,h)}s.render(),i()}))},x=[];for(let e=0;e<v.length;e++)x.push(b(e));return Promise.all(x).then((function(){return r.done=!0,Promise.resolve(a)}))}var w=[];e<0&&(e=0);for(let e=0,t=4;e<t;e++){var D=new Worker($3Dmol.SurfaceWorker);w.push(D),D.postMessage({type:-1,atoms:y,volume:m})}return new Promise((function(t,i){var n=0,c=function(e){for(var i=$3Dmol.splitMesh({vertexArr:e.data.vertices,faceArr:e.data.faces}),c=0,u=i.length;c<u;c++){var h={vertices:i[c].vertexArr,faces:i[c].faceArr},f=Oe(o,h,l);$3Dmol.mergeGeos(r.geo,f)}s.render(),++n==v.length&&(r.done=!0,t(a))},u=function(e){console.log(e.message+" ("+e.filename+":"+e.lineno+")"),i(e)};for(let t=0;t<v.length;t++){var h=w[t%w.length];h.onmessage=c,h.onerror=u,h.postMessage({type:e,expandedExtent:v[t].extent,extendedAtoms:v[t].atoms,atomsToShow:v[t].toshow})}}))};l=ke(t=t||{});var y=[],b=null;if(m){var x={},w={};for(p=0;p<u.length;p++)x[p]=[],w[p]=[];for(p=0;p<c.length;p++)x[c[p].model].push(c[p]);for(p=0;p<d.length;p++)w[d[p].model].push(d[p]);var D=[];for(p=0;p<u.length;p++)w[p].length>0&&(y.push({geo:new $3Dmol.Geometry(!0),mat:l,done:!1,finished:!1,symmetries:u[p].getSymmetries()}),D.push(g(y[p],x[p],w[p])));b=Promise.all(D)}else y.push({geo:new $3Dmol.Geometry(!0),mat:l,done:!1,finished:!1,symmetries:[new $3Dmol.Matrix4]}),b=g(y[y.length-1],c,d);return h[a]=y,b.surfid=a,n&&"function"==typeof n?(b.then((function(e){n(e)})),a):b},this.setSurfaceMaterialStyle=function(e,t){if($3Dmol.adjustVolumeStyle(t),h[e])for(var r=h[e],o=0;o<r.length;o++){var i=r[o].mat=ke(t);if(r[o].mat.side=$3Dmol.FrontSide,t.color){r[o].mat.color=t.color,r[o].geo.colorsNeedUpdate=!0;const e=$3Dmol.CC.color(t.color);r[o].geo.setColors((function(){return e}))}else if(i.voldata&&i.volscheme){const e=i.volscheme,t=i.voldata,n=$3Dmol.CC,a=e.range()||[-1,1];r[o].geo.setColors((function(r,o,i){let s=t.getVal(r,o,i);return n.color(e.valueToHex(s,a))}))}r[o].finished=!1}return this},this.removeSurface=function(e){for(var t=h[e],r=0;r<t.length;r++)t[r]&&t[r].lastGL&&(void 0!==t[r].geo&&t[r].geo.dispose(),void 0!==t[r].mat&&t[r].mat.dispose(),H.remove(t[r].lastGL));return delete h[e],ue(),this},this.removeAllSurfaces=function(){for(var e in h)if(h.hasOwnProperty(e)){for(var t=h[e],r=0;r<t.length;r++)t[r]&&t[r].lastGL&&(void 0!==t[r].geo&&t[r].geo.dispose(),void 0!==t[r].mat&&t[r].mat.dispose(),H.remove(t[r].lastGL));delete h[e]}return ue(),this},this.jmolMoveTo=function(){var e=H.position,t="center { "+-e.x+" "+-e.y+" "+-e.z+" }; ",r=G.quaternion;return t+="moveto .5 quaternion { "+r.x+" "+r.y+" "+r.z+" "+r.w+" };"},this.clear=function(){return this.removeAllSurfaces(),this.removeAllModels(),this.removeAllLabels(),this.removeAllShapes(),ue(),this},this.mapAtomProperties=function(e,t){var r=ze(t=t||{});if("function"==typeof e)for(let t=0,o=r.length;t<o;t++)e(r[t]);else for(let t=0,n=r.length;t<n;t++){var o=r[t];for(let t=0,r=e.length;t<r;t++){let r=e[t];if(r.props)for(var i in r.props)r.props.hasOwnProperty(i)&&Ee(o,r)&&(o.properties||(o.properties={}),o.properties[i]=r.props[i])}}return this},this.linkViewer=function(e){return z.push(e),this};try{"function"==typeof r&&r(this)}catch(e){console.log("error with glviewer callback: "+e)}this.getPerceivedDistance=function(){return _-G.position.z},this.setPerceivedDistance=function(e){G.position.z=_-e},this.setAutoEyeSeparation=function(e){var t=this.getPerceivedDistance();return e||P.position.x>0?P.position.x=t*Math.tan(Math.PI/180*5):P.position.x=-t*Math.tan(Math.PI/180*5),P.lookAt(new $3Dmol.Vector3(0,0,G.position.z)),P.position.x},this.setDefaultCartoonQuality=function(e){t.cartoonQuality=e}},$3Dmol.glmolViewer=$3Dmol.GLViewer;var $3Dmol=$3Dmol||{};$3Dmol.Gradient=function(){},$3Dmol.Gradient.valueToHex=function(){},$3Dmol.Gradient.range=function(){},$3Dmol.Gradient.normalizeValue=function(e,t,r){return t>=e?(r<e&&(r=e),r>t&&(r=t),{lo:e,hi:t,val:r}):(r>e&&(r=e),r<t&&(r=t),{lo:t,hi:e,val:r=e-r+t})},$3Dmol.Gradient.getGradient=function(e){if(e instanceof $3Dmol.Gradient)return e;if(void 0!==e.gradient&&$3Dmol.Gradient.builtinGradients[e.gradient]){let t=void 0===e.min?-1:e.min,r=void 0===e.max?1:e.max;return void 0===e.mid?new $3Dmol.Gradient.builtinGradients[e.gradient](t,r):new $3Dmol.Gradient.builtinGradients[e.gradient](t,r,e.mid)}return e},$3Dmol.Gradient.RWB=function(e,t,r){void 0===t&&Array.isArray(e)&&e.length>=2&&(t=e[1],e=e[0]),this.valueToHex=function(o,i){var n,a;if(o*=1,i?(n=i[0],a=i[1]):(n=e,a=t),void 0===o)return 16777215;var s=$3Dmol.Gradient.normalizeValue(n,a,o);n=s.lo;var l,c=((a=s.hi)+n)/2;return(o=s.val)<=(c=i&&void 0!==i[2]?i[2]:void 0!==r?r:(n+a)/2)?16711680+256*(l=Math.floor(255*Math.sqrt((o-n)/(c-n))))+l:65536*(l=Math.floor(255*Math.sqrt(1-(o-c)/(a-c))))+256*l+255},this.range=function(){return void 0!==e&&void 0!==t?[e,t]:null}},$3Dmol.Gradient.ROYGB=function(e,t){void 0===t&&Array.isArray(e)&&e.length>=2&&(t=e[1],e=e[0]),this.valueToHex=function(r,o){var i,n;if(r*=1,o?(i=o[0],n=o[1]):(i=e,n=t),void 0===r)return 16777215;var a=$3Dmol.Gradient.normalizeValue(i,n,r),s=((i=a.lo)+(n=a.hi))/2,l=(i+s)/2,c=(s+n)/2;return(r=a.val)<l?16711680+256*Math.floor(255*Math.sqrt((r-i)/(l-i)))+0:r<s?65536*Math.floor(255*Math.sqrt(1-(r-l)/(s-l)))+65280+0:r<c?65280+1*Math.floor(255*Math.sqrt((r-s)/(c-s))):0+256*Math.floor(255*Math.sqrt(1-(r-c)/(n-c)))+255},this.range=function(){return void 0!==e&&void 0!==t?[e,t]:null}},$3Dmol.Gradient.Sinebow=function(e,t){var r=1;void 0===t&&Array.isArray(e)&&e.length>=2&&(t=e[1],e=e[0]),t<e&&(r=-1,e*=-1,t*=-1),this.valueToHex=function(o,i){var n,a;if(o*=r,i?(n=i[0],a=i[1]):(n=e,a=t),void 0===o)return 16777215;var s=$3Dmol.Gradient.normalizeValue(n,a,o);n=s.lo,a=s.hi;var l=5*(((o=s.val)-n)/(a-n))/6+.5,c=Math.sin(Math.PI*l);c*=255*c;var u=Math.sin(Math.PI*(l+1/3));u*=255*u;var h=Math.sin(Math.PI*(l+2/3));return h*=255*h,65536*Math.floor(c)+256*Math.floor(h)+1*Math.floor(u)},this.range=function(){return void 0!==e&&void 0!==t?[e,t]:null}},$3Dmol.Gradient.builtinGradients={rwb:$3Dmol.Gradient.RWB,roygb:$3Dmol.Gradient.ROYGB,sinebow:$3Dmol.Gradient.Sinebow},$3Dmol.LabelCount=0,$3Dmol.Label=function(e,t){this.id=$3Dmol.LabelCount++,this.stylespec=t||{},this.canvas=document.createElement("canvas"),this.canvas.width=134,this.canvas.height=35,this.context=this.canvas.getContext("2d"),this.sprite=new $3Dmol.Sprite,this.text=e,this.frame=this.stylespec.frame},$3Dmol.Label.prototype={constructor:$3Dmol.Label,getStyle:function(){return this.stylespec},setContext:function(){var e=function(e,t,r){var o=r;return void 0!==e&&(e instanceof $3Dmol.Color?o=e.scaled():void 0!==(o=$3Dmol.CC.color(e)).scaled&&(o=o.scaled())),void 0!==t&&(o.a=parseFloat(t)),o};return function(){var t=this.stylespec,r=void 0!==t.useScreen&&t.useScreen,o=t.showBackground;"0"!==o&&"false"!==o||(o=!1),void 0===o&&(o=!0);var i=t.font?t.font:"sans-serif",n=parseInt(t.fontSize)?parseInt(t.fontSize):18,a=e(t.fontColor,t.fontOpacity,{r:255,g:255,b:255,a:1}),s=t.padding?t.padding:4,l=t.borderThickness?t.borderThickness:0,c=e(t.backgroundColor,t.backgroundOpacity,{r:0,g:0,b:0,a:1}),u=e(t.borderColor,t.borderOpacity,c),h=t.position?t.position:{x:-10,y:1,z:1},f=void 0===t.inFront||t.inFront;"false"!==f&&"0"!==f||(f=!1);var d=t.alignment||$3Dmol.SpriteAlignment.topLeft;"string"==typeof d&&d in $3Dmol.SpriteAlignment&&(d=$3Dmol.SpriteAlignment[d]);var p="";t.bold&&(p="bold "),this.context.font=p+n+"px  "+i;var m=this.context.measureText(this.text).width;o||(l=0);var v=m+2.5*l+2*s,g=1.25*n+2*l+2*s;if(t.backgroundImage){var y=t.backgroundImage,b=t.backgroundWidth?t.backgroundWidth:y.width,x=t.backgroundHeight?t.backgroundHeight:y.height;b>v&&(v=b),x>g&&(g=x)}if(this.canvas.width=v,this.canvas.height=g,this.context.clearRect(0,0,this.canvas.width,this.canvas.height),p="",t.bold&&(p="bold "),this.context.font=p+n+"px  "+i,this.context.fillStyle="rgba("+c.r+","+c.g+","+c.b+","+c.a+")",this.context.strokeStyle="rgba("+u.r+","+u.g+","+u.b+","+u.a+")",this.context.lineWidth=l,o&&function(e,t,r,o,i,n,a){e.beginPath(),e.moveTo(t+n,r),e.lineTo(t+o-n,r),e.quadraticCurveTo(t+o,r,t+o,r+n),e.lineTo(t+o,r+i-n),e.quadraticCurveTo(t+o,r+i,t+o-n,r+i),e.lineTo(t+n,r+i),e.quadraticCurveTo(t,r+i,t,r+i-n),e.lineTo(t,r+n),e.quadraticCurveTo(t,r,t+n,r),e.closePath(),e.fill(),a&&e.stroke()}(this.context,l,l,v-2*l,g-2*l,6,l>0),t.backgroundImage){let e=t.backgroundImage,r=t.backgroundWidth?t.backgroundWidth:e.width,o=t.backgroundHeight?t.backgroundHeight:e.height;this.context.drawImage(e,0,0,r,o)}this.context.fillStyle="rgba("+a.r+","+a.g+","+a.b+","+a.a+")",this.context.fillText(this.text,l+s,n+l+s,m);var w=new $3Dmol.Texture(this.canvas);w.needsUpdate=!0,this.sprite.material=new $3Dmol.SpriteMaterial({map:w,useScreenCoordinates:r,alignment:d,depthTest:!f}),this.sprite.scale.set(1,1,1),this.sprite.position.set(h.x,h.y,h.z)}}(),dispose:function(){void 0!==this.sprite.material.map&&this.sprite.material.map.dispose(),void 0!==this.sprite.material&&this.sprite.material.dispose()}},$3Dmol=$3Dmol||{},$3Dmol.MarchingCubeInitializer=function(){var e,t,r,o,i={};return i.march=function(i,n,a,s){var l=!!s.fulltable,c=s.hasOwnProperty("origin")&&s.origin.hasOwnProperty("x")?s.origin:{x:0,y:0,z:0},u=!!s.voxel,h=s.matrix,f=s.nX||0,d=s.nY||0,p=s.nZ||0,m=s.scale||1,v=null;v=s.unitCube?s.unitCube:{x:m,y:m,z:m};var g,y,b=new Int32Array(f*d*p);for(g=0,y=b.length;g<y;++g)b[g]=-1;var x=function(e,t,r,o,i,a){var s={x:0,y:0,z:0},l=i;!!!(o&1<<i)&&!!(o&1<<a)&&(l=a),1&l&&r++,2&l&&t++,4&l&&e++,h?s={x:(s=(s=new $3Dmol.Vector3(e,t,r)).applyMatrix4(h)).x,y:s.y,z:s.z}:(s.x=c.x+v.x*e,s.y=c.y+v.y*t,s.z=c.z+v.z*r);var f=(d*e+t)*p+r;return u?(n.push(s),n.length-1):(b[f]<0&&(b[f]=n.length,n.push(s)),b[f])},w=new Int32Array(12),D=l?t:e,C=l?o:r;for(g=0;g<f-1;++g)for(var A=0;A<d-1;++A)for(var S=0;S<p-1;++S){for(var $=0,M=0;M<8;++M){$|=!!(2&i[(d*(g+((4&M)>>2))+A+((2&M)>>1))*p+S+(1&M)])<<M}if(0!==$&&255!==$){var _=D[$];if(0!==_){var T=C[$];1&_&&(w[0]=x(g,A,S,$,0,1)),2&_&&(w[1]=x(g,A,S,$,1,3)),4&_&&(w[2]=x(g,A,S,$,3,2)),8&_&&(w[3]=x(g,A,S,$,2,0)),16&_&&(w[4]=x(g,A,S,$,4,5)),32&_&&(w[5]=x(g,A,S,$,5,7)),64&_&&(w[6]=x(g,A,S,$,7,6)),128&_&&(w[7]=x(g,A,S,$,6,4)),256&_&&(w[8]=x(g,A,S,$,0,4)),512&_&&(w[9]=x(g,A,S,$,1,5)),1024&_&&(w[10]=x(g,A,S,$,3,7)),2048&_&&(w[11]=x(g,A,S,$,2,6));for(var z=0;z<T.length;z+=3){var E=w[T[z]],L=w[T[z+1]],F=w[T[z+2]];u&&z>=3&&(n.push(n[E]),E=n.length-1,n.push(n[L]),L=n.length-1,n.push(n[F]),F=n.length-1),a.push(E),a.push(L),a.push(F)}}}}},i.laplacianSmooth=function(e,t,r){var o,i,n,a,s,l=new Array(t.length);for(o=0,i=t.length;o<i;o++)l[o]={x:0,y:0,z:0};var c,u=new Array(20);for(o=0;o<20;o++)u[o]=new Array(t.length);for(o=0,i=t.length;o<i;o++)u[0][o]=0;for(o=0,i=r.length/3;o<i;o++){var h=3*o,f=3*o+1,d=3*o+2;for(c=!0,n=0,a=u[0][r[h]];n<a;n++)if(r[f]==u[n+1][r[h]]){c=!1;break}for(c&&(u[0][r[h]]++,u[u[0][r[h]]][r[h]]=r[f]),c=!0,n=0,a=u[0][r[h]];n<a;n++)if(r[d]==u[n+1][r[h]]){c=!1;break}for(c&&(u[0][r[h]]++,u[u[0][r[h]]][r[h]]=r[d]),c=!0,n=0,a=u[0][r[f]];n<a;n++)if(r[h]==u[n+1][r[f]]){c=!1;break}for(c&&(u[0][r[f]]++,u[u[0][r[f]]][r[f]]=r[h]),c=!0,n=0,a=u[0][r[f]];n<a;n++)if(r[d]==u[n+1][r[f]]){c=!1;break}for(c&&(u[0][r[f]]++,u[u[0][r[f]]][r[f]]=r[d]),c=!0,n=0;n<u[0][r[d]];n++)if(r[h]==u[n+1][r[d]]){c=!1;break}for(c&&(u[0][r[d]]++,u[u[0][r[d]]][r[d]]=r[h]),c=!0,n=0,a=u[0][r[d]];n<a;n++)if(r[f]==u[n+1][r[d]]){c=!1;break}c&&(u[0][r[d]]++,u[u[0][r[d]]][r[d]]=r[f])}var p=.5;for(s=0;s<e;s++){for(o=0,i=t.length;o<i;o++)if(u[0][o]<3)l[o].x=t[o].x,l[o].y=t[o].y,l[o].z=t[o].z;else if(3==u[0][o]||4==u[0][o]){for(l[o].x=0,l[o].y=0,l[o].z=0,n=0,a=u[0][o];n<a;n++)l[o].x+=t[u[n+1][o]].x,l[o].y+=t[u[n+1][o]].y,l[o].z+=t[u[n+1][o]].z;l[o].x+=p*t[o].x,l[o].y+=p*t[o].y,l[o].z+=p*t[o].z,l[o].x/=p+u[0][o],l[o].y/=p+u[0][o],l[o].z/=p+u[0][o]}else{for(l[o].x=0,l[o].y=0,l[o].z=0,n=0,a=u[0][o];n<a;n++)l[o].x+=t[u[n+1][o]].x,l[o].y+=t[u[n+1][o]].y,l[o].z+=t[u[n+1][o]].z;l[o].x+=1*t[o].x,l[o].y+=1*t[o].y,l[o].z+=1*t[o].z,l[o].x/=1+u[0][o],l[o].y/=1+u[0][o],l[o].z/=1+u[0][o]}for(o=0,i=t.length;o<i;o++)t[o].x=l[o].x,t[o].y=l[o].y,t[o].z=l[o].z}},i.edgeTable=[0,0,0,0,0,0,0,2816,0,0,0,1792,0,3328,3584,3840,0,0,0,138,0,21,0,134,0,0,0,652,0,2067,3865,3600,0,0,0,42,0,0,0,294,0,0,21,28,0,3875,1049,3360,0,168,162,170,0,645,2475,2210,0,687,293,172,4010,3747,3497,3232,0,0,0,0,0,69,0,900,0,0,0,1792,138,131,1608,1920,0,81,0,2074,84,85,84,86,0,81,0,3676,330,1105,1881,1616,0,0,0,42,0,69,0,502,0,0,21,3580,138,2035,1273,1520,2816,104,2337,106,840,581,367,102,2816,3695,3429,3180,1898,1635,1385,1120,0,0,0,0,0,0,0,3910,0,0,69,588,42,2083,41,2880,0,0,0,1722,0,2293,4095,3830,0,255,757,764,2538,2291,3065,2800,0,0,81,338,0,3925,1119,3414,84,855,85,340,2130,2899,89,2384,1792,712,194,1162,4036,3781,3535,3270,708,719,197,204,3018,2755,2505,2240,0,0,0,0,168,420,168,1958,162,162,676,2988,170,163,680,928,3328,3096,3328,3642,52,53,1855,1590,2340,2111,2869,2620,298,51,825,560,3584,3584,3090,3482,1668,1941,1183,1430,146,2975,2069,2460,154,915,153,400,3840,3592,3329,3082,1796,1541,1295,1030,2818,2575,2309,2060,778,515,265,0],e=new Uint32Array(i.edgeTable),r=i.triTable=[[],[],[],[],[],[],[],[11,9,8],[],[],[],[8,10,9],[],[10,8,11],[9,11,10],[8,10,9,8,11,10],[],[],[],[1,7,3],[],[4,2,0],[],[2,1,7],[],[],[],[2,7,3,2,9,7],[],[1,4,11,1,0,4],[3,8,0,11,9,4,11,10,9],[4,11,9,11,10,9],[],[],[],[5,3,1],[],[],[],[2,5,8,2,1,5],[],[],[2,4,0],[3,2,4],[],[0,9,1,8,10,5,8,11,10],[3,4,0,3,10,4],[5,8,10,8,11,10],[],[3,5,7],[7,1,5],[1,7,3,1,5,7],[],[9,2,0,9,7,2],[0,3,8,1,7,11,1,5,7],[11,1,7,1,5,7],[],[9,1,0,5,3,2,5,7,3],[8,2,5,8,0,2],[2,5,3,5,7,3],[3,9,1,3,8,9,7,11,10,7,10,5],[9,1,0,10,7,11,10,5,7],[3,8,0,7,10,5,7,11,10],[11,5,7,11,10,5],[],[],[],[],[],[0,6,2],[],[7,2,9,7,9,8],[],[],[],[8,10,9],[7,1,3],[7,1,0],[6,9,3,6,10,9],[7,10,8,10,9,8],[],[6,0,4],[],[11,1,4,11,3,1],[2,4,6],[2,0,4,2,4,6],[2,4,6],[1,4,2,4,6,2],[],[6,0,4],[],[2,11,3,6,9,4,6,10,9],[8,6,1,8,1,3],[10,0,6,0,4,6],[8,0,3,9,6,10,9,4,6],[10,4,6,10,9,4],[],[],[],[5,3,1],[],[0,6,2],[],[7,4,8,5,2,1,5,6,2],[],[],[2,4,0],[7,4,8,2,11,3,10,5,6],[7,1,3],[5,6,10,0,9,1,8,7,4],[5,6,10,7,0,3,7,4,0],[10,5,6,4,8,7],[9,11,8],[3,5,6],[0,5,11,0,11,8],[6,3,5,3,1,5],[3,9,6,3,8,9],[9,6,0,6,2,0],[0,3,8,2,5,6,2,1,5],[1,6,2,1,5,6],[9,11,8],[1,0,9,6,10,5,11,3,2],[6,10,5,2,8,0,2,11,8],[3,2,11,10,5,6],[10,5,6,9,3,8,9,1,3],[0,9,1,5,6,10],[8,0,3,10,5,6],[10,5,6],[],[],[],[],[],[],[],[1,10,2,9,11,6,9,8,11],[],[],[6,0,2],[3,6,9,3,2,6],[3,5,1],[0,5,1,0,11,5],[0,3,5],[6,9,11,9,8,11],[],[],[],[4,5,9,7,1,10,7,3,1],[],[11,6,7,2,4,5,2,0,4],[11,6,7,8,0,3,1,10,2,9,4,5],[6,7,11,1,10,2,9,4,5],[],[4,1,0,4,5,1,6,7,3,6,3,2],[9,4,5,0,6,7,0,2,6],[4,5,9,6,3,2,6,7,3],[6,7,11,5,3,8,5,1,3],[6,7,11,4,1,0,4,5,1],[4,5,9,3,8,0,11,6,7],[9,4,5,7,11,6],[],[],[0,6,4],[8,6,4,8,1,6],[],[0,10,2,0,9,10,4,8,11,4,11,6],[10,2,1,6,0,3,6,4,0],[10,2,1,11,4,8,11,6,4],[4,2,6],[1,0,9,2,4,8,2,6,4],[2,4,0,2,6,4],[8,2,4,2,6,4],[11,4,1,11,6,4],[0,9,1,4,11,6,4,8,11],[3,6,0,6,4,0],[8,6,4,8,11,6],[10,8,9],[6,3,9,6,7,3],[6,7,1],[10,7,1,7,3,1],[7,11,6,8,10,2,8,9,10],[11,6,7,10,0,9,10,2,0],[2,1,10,7,11,6,8,0,3],[1,10,2,6,7,11],[7,2,6,7,9,2],[1,0,9,3,6,7,3,2,6],[7,0,6,0,2,6],[2,7,3,2,6,7],[7,11,6,3,9,1,3,8,9],[9,1,0,11,6,7],[0,3,8,11,6,7],[11,6,7],[],[],[],[],[5,3,7],[8,5,2,8,7,5],[5,3,7],[1,10,2,5,8,7,5,9,8],[1,7,5],[1,7,5],[9,2,7,9,7,5],[11,3,2,8,5,9,8,7,5],[1,3,7,1,7,5],[0,7,1,7,5,1],[9,3,5,3,7,5],[9,7,5,9,8,7],[8,10,11],[3,4,10,3,10,11],[8,10,11],[5,9,4,1,11,3,1,10,11],[2,4,5],[5,2,4,2,0,4],[0,3,8,5,9,4,10,2,1],[2,1,10,9,4,5],[2,8,5,2,11,8],[3,2,11,1,4,5,1,0,4],[9,4,5,8,2,11,8,0,2],[11,3,2,9,4,5],[8,5,3,5,1,3],[5,0,4,5,1,0],[3,8,0,4,5,9],[9,4,5],[11,9,10],[11,9,10],[1,11,4,1,10,11],[8,7,4,11,1,10,11,3,1],[2,7,9,2,9,10],[4,8,7,0,10,2,0,9,10],[2,1,10,0,7,4,0,3,7],[10,2,1,8,7,4],[1,7,4],[3,2,11,4,8,7,9,1,0],[11,4,2,4,0,2],[2,11,3,7,4,8],[4,1,7,1,3,7],[1,0,9,8,7,4],[3,4,0,3,7,4],[8,7,4],[8,9,10,8,10,11],[3,9,11,9,10,11],[0,10,8,10,11,8],[10,3,1,10,11,3],[2,8,10,8,9,10],[9,2,0,9,10,2],[8,0,3,1,10,2],[10,2,1],[1,11,9,11,8,9],[11,3,2,0,9,1],[11,0,2,11,8,0],[11,3,2],[8,1,3,8,9,1],[9,1,0],[8,0,3],[]],t=[0,265,515,778,2060,2309,2575,2822,1030,1295,1541,1804,3082,3331,3593,3840,400,153,915,666,2460,2197,2975,2710,1430,1183,1941,1692,3482,3219,3993,3728,560,825,51,314,2620,2869,2111,2358,1590,1855,1077,1340,3642,3891,3129,3376,928,681,419,170,2988,2725,2479,2214,1958,1711,1445,1196,4010,3747,3497,3232,2240,2505,2755,3018,204,453,719,966,3270,3535,3781,4044,1226,1475,1737,1984,2384,2137,2899,2650,348,85,863,598,3414,3167,3925,3676,1370,1107,1881,1616,2800,3065,2291,2554,764,1013,255,502,3830,4095,3317,3580,1786,2035,1273,1520,2912,2665,2403,2154,876,613,367,102,3942,3695,3429,3180,1898,1635,1385,1120,1120,1385,1635,1898,3180,3429,3695,3942,102,367,613,876,2154,2403,2665,2912,1520,1273,2035,1786,3580,3317,4095,3830,502,255,1013,764,2554,2291,3065,2800,1616,1881,1107,1370,3676,3925,3167,3414,598,863,85,348,2650,2899,2137,2384,1984,1737,1475,1226,4044,3781,3535,3270,966,719,453,204,3018,2755,2505,2240,3232,3497,3747,4010,1196,1445,1711,1958,2214,2479,2725,2988,170,419,681,928,3376,3129,3891,3642,1340,1077,1855,1590,2358,2111,2869,2620,314,51,825,560,3728,3993,3219,3482,1692,1941,1183,1430,2710,2975,2197,2460,666,915,153,400,3840,3593,3331,3082,1804,1541,1295,1030,2822,2575,2309,2060,778,515,265,0],o=[[],[8,3,0],[9,0,1],[8,3,1,8,1,9],[11,2,3],[11,2,0,11,0,8],[11,2,3,0,1,9],[2,1,11,1,9,11,11,9,8],[10,1,2],[8,3,0,1,2,10],[9,0,2,9,2,10],[3,2,8,2,10,8,8,10,9],[10,1,3,10,3,11],[1,0,10,0,8,10,10,8,11],[0,3,9,3,11,9,9,11,10],[8,10,9,8,11,10],[8,4,7],[3,0,4,3,4,7],[1,9,0,8,4,7],[9,4,1,4,7,1,1,7,3],[2,3,11,7,8,4],[7,11,4,11,2,4,4,2,0],[3,11,2,4,7,8,9,0,1],[2,7,11,2,1,7,1,4,7,1,9,4],[10,1,2,8,4,7],[2,10,1,0,4,7,0,7,3],[4,7,8,0,2,10,0,10,9],[2,7,3,2,9,7,7,9,4,2,10,9],[8,4,7,11,10,1,11,1,3],[11,4,7,1,4,11,1,11,10,1,0,4],[3,8,0,7,11,4,11,9,4,11,10,9],[7,11,4,4,11,9,11,10,9],[9,5,4],[3,0,8,4,9,5],[5,4,0,5,0,1],[4,8,5,8,3,5,5,3,1],[11,2,3,9,5,4],[9,5,4,8,11,2,8,2,0],[3,11,2,1,5,4,1,4,0],[8,5,4,2,5,8,2,8,11,2,1,5],[2,10,1,9,5,4],[0,8,3,5,4,9,10,1,2],[10,5,2,5,4,2,2,4,0],[3,4,8,3,2,4,2,5,4,2,10,5],[5,4,9,1,3,11,1,11,10],[0,9,1,4,8,5,8,10,5,8,11,10],[3,4,0,3,10,4,4,10,5,3,11,10],[4,8,5,5,8,10,8,11,10],[9,5,7,9,7,8],[0,9,3,9,5,3,3,5,7],[8,0,7,0,1,7,7,1,5],[1,7,3,1,5,7],[11,2,3,8,9,5,8,5,7],[9,2,0,9,7,2,2,7,11,9,5,7],[0,3,8,2,1,11,1,7,11,1,5,7],[2,1,11,11,1,7,1,5,7],[1,2,10,5,7,8,5,8,9],[9,1,0,10,5,2,5,3,2,5,7,3],[5,2,10,8,2,5,8,5,7,8,0,2],[10,5,2,2,5,3,5,7,3],[3,9,1,3,8,9,7,11,10,7,10,5],[9,1,0,10,7,11,10,5,7],[3,8,0,7,10,5,7,11,10],[11,5,7,11,10,5],[11,7,6],[0,8,3,11,7,6],[9,0,1,11,7,6],[7,6,11,3,1,9,3,9,8],[2,3,7,2,7,6],[8,7,0,7,6,0,0,6,2],[1,9,0,3,7,6,3,6,2],[7,6,2,7,2,9,2,1,9,7,9,8],[1,2,10,6,11,7],[2,10,1,7,6,11,8,3,0],[11,7,6,10,9,0,10,0,2],[7,6,11,3,2,8,8,2,10,8,10,9],[6,10,7,10,1,7,7,1,3],[6,10,1,6,1,7,7,1,0,7,0,8],[9,0,3,6,9,3,6,10,9,6,3,7],[6,10,7,7,10,8,10,9,8],[8,4,6,8,6,11],[11,3,6,3,0,6,6,0,4],[0,1,9,4,6,11,4,11,8],[1,9,4,11,1,4,11,3,1,11,4,6],[3,8,2,8,4,2,2,4,6],[2,0,4,2,4,6],[1,9,0,3,8,2,2,8,4,2,4,6],[9,4,1,1,4,2,4,6,2],[10,1,2,11,8,4,11,4,6],[10,1,2,11,3,6,6,3,0,6,0,4],[0,2,10,0,10,9,4,11,8,4,6,11],[2,11,3,6,9,4,6,10,9],[8,4,6,8,6,1,6,10,1,8,1,3],[1,0,10,10,0,6,0,4,6],[8,0,3,9,6,10,9,4,6],[10,4,6,10,9,4],[9,5,4,7,6,11],[4,9,5,3,0,8,11,7,6],[6,11,7,4,0,1,4,1,5],[6,11,7,4,8,5,5,8,3,5,3,1],[4,9,5,6,2,3,6,3,7],[9,5,4,8,7,0,0,7,6,0,6,2],[4,0,1,4,1,5,6,3,7,6,2,3],[7,4,8,5,2,1,5,6,2],[6,11,7,1,2,10,9,5,4],[11,7,6,8,3,0,1,2,10,9,5,4],[11,7,6,10,5,2,2,5,4,2,4,0],[7,4,8,2,11,3,10,5,6],[4,9,5,6,10,7,7,10,1,7,1,3],[5,6,10,0,9,1,8,7,4],[5,6,10,7,0,3,7,4,0],[10,5,6,4,8,7],[5,6,9,6,11,9,9,11,8],[0,9,5,0,5,3,3,5,6,3,6,11],[0,1,5,0,5,11,5,6,11,0,11,8],[11,3,6,6,3,5,3,1,5],[9,5,6,3,9,6,3,8,9,3,6,2],[5,6,9,9,6,0,6,2,0],[0,3,8,2,5,6,2,1,5],[1,6,2,1,5,6],[1,2,10,5,6,9,9,6,11,9,11,8],[1,0,9,6,10,5,11,3,2],[6,10,5,2,8,0,2,11,8],[3,2,11,10,5,6],[10,5,6,9,3,8,9,1,3],[0,9,1,5,6,10],[8,0,3,10,5,6],[10,5,6],[10,6,5],[8,3,0,10,6,5],[0,1,9,5,10,6],[10,6,5,9,8,3,9,3,1],[3,11,2,10,6,5],[6,5,10,2,0,8,2,8,11],[1,9,0,6,5,10,11,2,3],[1,10,2,5,9,6,9,11,6,9,8,11],[1,2,6,1,6,5],[0,8,3,2,6,5,2,5,1],[5,9,6,9,0,6,6,0,2],[9,6,5,3,6,9,3,9,8,3,2,6],[11,6,3,6,5,3,3,5,1],[0,5,1,0,11,5,5,11,6,0,8,11],[0,5,9,0,3,5,3,6,5,3,11,6],[5,9,6,6,9,11,9,8,11],[10,6,5,4,7,8],[5,10,6,7,3,0,7,0,4],[5,10,6,0,1,9,8,4,7],[4,5,9,6,7,10,7,1,10,7,3,1],[7,8,4,2,3,11,10,6,5],[11,6,7,10,2,5,2,4,5,2,0,4],[11,6,7,8,0,3,1,10,2,9,4,5],[6,7,11,1,10,2,9,4,5],[7,8,4,5,1,2,5,2,6],[4,1,0,4,5,1,6,7,3,6,3,2],[9,4,5,8,0,7,0,6,7,0,2,6],[4,5,9,6,3,2,6,7,3],[6,7,11,4,5,8,5,3,8,5,1,3],[6,7,11,4,1,0,4,5,1],[4,5,9,3,8,0,11,6,7],[9,4,5,7,11,6],[10,6,4,10,4,9],[8,3,0,9,10,6,9,6,4],[1,10,0,10,6,0,0,6,4],[8,6,4,8,1,6,6,1,10,8,3,1],[2,3,11,6,4,9,6,9,10],[0,10,2,0,9,10,4,8,11,4,11,6],[10,2,1,11,6,3,6,0,3,6,4,0],[10,2,1,11,4,8,11,6,4],[9,1,4,1,2,4,4,2,6],[1,0,9,3,2,8,2,4,8,2,6,4],[2,4,0,2,6,4],[3,2,8,8,2,4,2,6,4],[1,4,9,11,4,1,11,1,3,11,6,4],[0,9,1,4,11,6,4,8,11],[11,6,3,3,6,0,6,4,0],[8,6,4,8,11,6],[6,7,10,7,8,10,10,8,9],[9,3,0,6,3,9,6,9,10,6,7,3],[6,1,10,6,7,1,7,0,1,7,8,0],[6,7,10,10,7,1,7,3,1],[7,11,6,3,8,2,8,10,2,8,9,10],[11,6,7,10,0,9,10,2,0],[2,1,10,7,11,6,8,0,3],[1,10,2,6,7,11],[7,2,6,7,9,2,2,9,1,7,8,9],[1,0,9,3,6,7,3,2,6],[8,0,7,7,0,6,0,2,6],[2,7,3,2,6,7],[7,11,6,3,9,1,3,8,9],[9,1,0,11,6,7],[0,3,8,11,6,7],[11,6,7],[11,7,5,11,5,10],[3,0,8,7,5,10,7,10,11],[9,0,1,10,11,7,10,7,5],[3,1,9,3,9,8,7,10,11,7,5,10],[10,2,5,2,3,5,5,3,7],[5,10,2,8,5,2,8,7,5,8,2,0],[9,0,1,10,2,5,5,2,3,5,3,7],[1,10,2,5,8,7,5,9,8],[2,11,1,11,7,1,1,7,5],[0,8,3,2,11,1,1,11,7,1,7,5],[9,0,2,9,2,7,2,11,7,9,7,5],[11,3,2,8,5,9,8,7,5],[1,3,7,1,7,5],[8,7,0,0,7,1,7,5,1],[0,3,9,9,3,5,3,7,5],[9,7,5,9,8,7],[4,5,8,5,10,8,8,10,11],[3,0,4,3,4,10,4,5,10,3,10,11],[0,1,9,4,5,8,8,5,10,8,10,11],[5,9,4,1,11,3,1,10,11],[3,8,4,3,4,2,2,4,5,2,5,10],[10,2,5,5,2,4,2,0,4],[0,3,8,5,9,4,10,2,1],[2,1,10,9,4,5],[8,4,5,2,8,5,2,11,8,2,5,1],[3,2,11,1,4,5,1,0,4],[9,4,5,8,2,11,8,0,2],[11,3,2,9,4,5],[4,5,8,8,5,3,5,1,3],[5,0,4,5,1,0],[3,8,0,4,5,9],[9,4,5],[7,4,11,4,9,11,11,9,10],[3,0,8,7,4,11,11,4,9,11,9,10],[11,7,4,1,11,4,1,10,11,1,4,0],[8,7,4,11,1,10,11,3,1],[2,3,7,2,7,9,7,4,9,2,9,10],[4,8,7,0,10,2,0,9,10],[2,1,10,0,7,4,0,3,7],[10,2,1,8,7,4],[2,11,7,2,7,1,1,7,4,1,4,9],[3,2,11,4,8,7,9,1,0],[7,4,11,11,4,2,4,0,2],[2,11,3,7,4,8],[9,1,4,4,1,7,1,3,7],[1,0,9,8,7,4],[3,4,0,3,7,4],[8,7,4],[8,9,10,8,10,11],[0,9,3,3,9,11,9,10,11],[1,10,0,0,10,8,10,11,8],[10,3,1,10,11,3],[3,8,2,2,8,10,8,9,10],[9,2,0,9,10,2],[8,0,3,1,10,2],[10,2,1],[2,11,1,1,11,9,11,8,9],[11,3,2,0,9,1],[11,0,2,11,8,0],[11,3,2],[8,1,3,8,9,1],[9,1,0],[8,0,3],[]],i},$3Dmol.MarchingCube=$3Dmol.MarchingCubeInitializer(),$3Dmol.Parsers=function(){var e={},t={H:.37,He:.32,Li:1.34,Be:.9,B:.82,C:.77,N:.75,O:.73,F:.71,Ne:.69,Na:1.54,Mg:1.3,Al:1.18,Si:1.11,P:1.06,S:1.02,Cl:.99,Ar:.97,K:1.96,Ca:1.74,Sc:1.44,Ti:1.56,V:1.25,Mn:1.39,Fe:1.25,Co:1.26,Ni:1.21,Cu:1.38,Zn:1.31,Ga:1.26,Ge:1.22,Se:1.16,Br:1.14,Kr:1.1,Rb:2.11,Sr:1.92,Y:1.62,Zr:1.48,Nb:1.37,Mo:1.45,Tc:1.56,Ru:1.26,Rh:1.35,Pd:1.31,Ag:1.53,Cd:1.48,In:1.44,Sn:1.41,Sb:1.38,Te:1.35,I:1.33,Xe:1.3,Cs:2.25,Ba:1.98,Lu:1.6,Hf:1.5,Ta:1.38,W:1.46,Re:1.59,Os:1.44,Ir:1.37,Pt:1.28,Au:1.44,Hg:1.49,Tl:1.48,Pb:1.47,Bi:1.46,Rn:1.45},r={1:"H",2:"He",3:"Li",4:"Be",5:"B",6:"C",7:"N",8:"O",9:"F",10:"Ne",11:"Na",12:"Mg",13:"Al",14:"Si",15:"P",16:"S",17:"Cl",18:"Ar",19:"K",20:"Ca",21:"Sc",22:"Ti",23:"V",24:"Cr",25:"Mn",26:"Fe",27:"Co",28:"Ni",29:"Cu",30:"Zn",31:"Ga",32:"Ge",33:"As",34:"Se",35:"Br",36:"Kr",37:"Rb",38:"Sr",39:"Y",40:"Zr",41:"Nb",42:"Mo",43:"Tc",44:"Ru",45:"Rh",46:"Pd",47:"Ag",48:"Cd",49:"In",50:"Sn",51:"Sb",52:"Te",53:"I",54:"Xe",55:"Cs",56:"Ba",71:"Lu",72:"Hf",73:"Ta",74:"W",75:"Re",76:"Os",77:"Ir",78:"Pt",79:"Au",80:"Hg",81:"Tl",82:"Pb",83:"Bi",84:"Po",85:"At",86:"Rn",87:"Fr",88:"Ra",104:"Rf",105:"Db",106:"Sg",107:"Bh",108:"Hs",109:"Mt",110:"Ds",111:"Rg",112:"Cn",113:"Nh",114:"Fl",115:"Mc",116:"Lv",117:"Ts",118:"Og",57:"La",58:"Ce",59:"Pr",60:"Nd",61:"Pm",62:"Sm",63:"Eu",64:"Gd",65:"Tb",66:"Dy",67:"Ho",68:"Er",69:"Tm",70:"Yb",89:"Ac",90:"Th",91:"Pa",92:"U",93:"Np",94:"Pu",95:"Am",96:"Cm",97:"Bk",98:"Cf",99:"Es",100:"Fm",101:"Md",102:"No"},o=function(e){return t[e]||1.6},i=function(e,t){var r=o(e.elem)+o(t.elem);r+=.25,r*=r;var i=e.x-t.x;if((i*=i)>r)return!1;var n=e.y-t.y;if((n*=n)>r)return!1;var a=e.z-t.z;if((a*=a)>r)return!1;var s=i+n+a;return!isNaN(s)&&(!(s<.5)&&(!(s>r)&&(e.altLoc==t.altLoc||" "==e.altLoc||" "==t.altLoc)))},n=function(e){for(var t=0,r=e.length;t<r;t++)e[t].index||(e[t].index=t);for(var o={},n=4.95,a=0;a<e.length;a++){var s=e[a],l=Math.floor(s.x/n),c=Math.floor(s.y/n),u=Math.floor(s.z/n);o[l]||(o[l]={}),o[l][c]||(o[l][c]={}),o[l][c][u]||(o[l][c][u]=[]),o[l][c][u].push(s)}var h=function(e,t){for(var r=0;r<e.length;r++)for(var o=e[r],n=0;n<t.length;n++){var a=t[n];if(i(o,a)){var s=o.bonds.indexOf(a.index),l=a.bonds.indexOf(o.index);-1==s&&-1==l?(o.bonds.push(a.index),o.bondOrder.push(1),a.bonds.push(o.index),a.bondOrder.push(1)):-1==s?(o.bonds.push(a.index),o.bondOrder.push(a.bondOrder[l])):-1==l&&(a.bonds.push(o.index),a.bondOrder.push(o.bondOrder[s]))}}},f=[{x:0,y:0,z:1},{x:0,y:1,z:-1},{x:0,y:1,z:0},{x:0,y:1,z:1},{x:1,y:-1,z:-1},{x:1,y:-1,z:0},{x:1,y:-1,z:1},{x:1,y:0,z:-1},{x:1,y:0,z:0},{x:1,y:0,z:1},{x:1,y:1,z:-1},{x:1,y:1,z:0},{x:1,y:1,z:1}];for(let e in o){e=parseInt(e);for(let t in o[e]){t=parseInt(t);for(let r in o[e][t]){r=parseInt(r);let n=o[e][t][r];for(let e=0;e<n.length;e++){let t=n[e];for(let r=e+1;r<n.length;r++){let e=n[r];i(t,e)&&-1==t.bonds.indexOf(e.index)&&(t.bonds.push(e.index),t.bondOrder.push(1),e.bonds.push(t.index),e.bondOrder.push(1))}}for(let i=0;i<f.length;i++){let a=f[i];o[e+a.x]&&o[e+a.x][t+a.y]&&o[e+a.x][t+a.y][r+a.z]&&h(n,o[e+a.x][t+a.y][r+a.z])}}}}},a=new Set(["ABU","ACD","ALA","ALB","ALI","ARG","AR0","ASN","ASP","ASX","BAS","CYS","CYH","CYX","CSS","CSH","GLN","GLU","GLX","GLY","HIS","HIE","HID","HIP","HYP","ILE","ILU","LEU","LYS","MET","PCA","PGA","PHE","PR0","PRO","PRZ","SER","THR","TYR","VAL","A","1MA","C","5MC","OMC","G","1MG","2MG","M2G","7MG","OMG","YG","I","T","U","+U","H2U","5MU","PSU","ACE","F0R","H2O","HOH","WAT"]),s=function(e){var t,r,o=[],s=[];for(t=0,r=e.length;t<r;t++){var l=e[t];l.index=t,l.hetflag||!a.has(l.resn)?s.push(l):o.push(l)}n(s),o.sort((function(e,t){return e.chain!=t.chain?e.chain<t.chain?-1:1:e.resi-t.resi}));var c,u=-1,h=-1;for(t=0,r=o.length;t<r;t++){var f=o[t];f.resi!==u&&(u=f.resi,c||h++,c=!1),f.reschain=h;for(var d=t+1;d<o.length;d++){var p=o[d];if(p.chain!=f.chain)break;if(p.resi-f.resi>1)break;i(f,p)&&(-1===f.bonds.indexOf(p.index)&&(f.bonds.push(p.index),f.bondOrder.push(1),p.bonds.push(f.index),p.bondOrder.push(1)),f.resi!==p.resi&&(c=!0))}}},l=function(e){!function(e){var t,r,o,i=[];for(t=0,o=e.length;t<o;t++){e[t].index=t;var n=e[t];n.hetflag||"N"!==n.atom&&"O"!==n.atom||(i.push(n),n.hbondOther=null,n.hbondDistanceSq=Number.POSITIVE_INFINITY)}for(i.sort((function(e,t){return e.z-t.z})),t=0,o=i.length;t<o;t++){var a=i[t];for(r=t+1;r<o;r++){var s=i[r],l=s.z-a.z;if(l>3.2)break;if(s.atom!=a.atom){var c=Math.abs(s.y-a.y);if(!(c>3.2)){var u=Math.abs(s.x-a.x);if(!(u>3.2)){var h=u*u+c*c+l*l;h>10.24||s.chain==a.chain&&Math.abs(s.resi-a.resi)<4||(h<a.hbondDistanceSq&&(a.hbondOther=s,a.hbondDistanceSq=h),h<s.hbondDistanceSq&&(s.hbondOther=a,s.hbondDistanceSq=h))}}}}}}(e);var t,r,o,i,n,a,s={};for(t=0,r=e.length;t<r;t++)if(void 0===s[(n=e[t]).chain]&&(s[n.chain]=[]),isFinite(n.hbondDistanceSq)){var l=n.hbondOther;void 0===s[l.chain]&&(s[l.chain]=[]),4===Math.abs(l.resi-n.resi)&&(s[n.chain][n.resi]="h")}for(o in s)for(i=1;i<s[o].length-1;i++){var c=s[o][i-1],u=s[o][i+1];a=s[o][i],"h"==c&&c==u&&a!=c&&(s[o][i]=c)}for(t=0,r=e.length;t<r;t++)n=e[t],isFinite(n.hbondDistanceSq)&&"h"!=s[n.chain][n.resi]&&"h"!=n.ss&&(s[n.chain][n.resi]="maybesheet");for(let t=0,r=e.length;t<r;t++)if(n=e[t],isFinite(n.hbondDistanceSq)&&"maybesheet"==s[n.chain][n.resi]){let e=n.hbondOther,t=s[e.chain][e.resi];"maybesheet"!=t&&"s"!=t||(s[n.chain][n.resi]="s",s[e.chain][e.resi]="s")}for(let e in s){for(let t=1;t<s[e].length-1;t++){let r=s[e][t-1],o=s[e][t+1];a=s[e][t],"s"==r&&r==o&&a!=r&&(s[e][t]=r)}for(let t=0;t<s[e].length;t++){let r=s[e][t];"h"!=r&&"s"!=r||s[e][t-1]!=r&&s[e][t+1]!=r&&delete s[e][t]}}for(t=0,r=e.length;t<r;t++)a=s[(n=e[t]).chain][n.resi],delete n.hbondOther,delete n.hbondDistanceSq,void 0!==a&&"maybesheet"!=a&&(n.ss=a,s[n.chain][n.resi-1]!=a&&(n.ssbegin=!0),s[n.chain][n.resi+1]!=a&&(n.ssend=!0))},c=function(e,t,r,o){var i,n,a,s=!r.duplicateAssemblyAtoms,l=t.length,c=l;let u=-1;if(r.normalizeAssembly&&o){let r=$3Dmol.conversionMatrix3(o.a,o.b,o.c,o.alpha,o.beta,o.gamma),n=new $3Dmol.Matrix3;for(n.getInverse3(r),i=0;i<e.length;i++){let o=new $3Dmol.Vector3(0,0,0);for(a=0;a<l;a++){let r=new $3Dmol.Vector3(t[a].x,t[a].y,t[a].z);r.applyMatrix4(e[i]),r.applyMatrix3(n),o.add(r)}o.divideScalar(l),o=[o.x,o.y,o.z];let s=[0,0,0];for(let e=0;e<3;e++){for(;o[e]<-.001;)o[e]+=1,s[e]+=1;for(;o[e]>1.001;)o[e]-=1,s[e]-=1}s=new $3Dmol.Vector3(s[0],s[1],s[2]),s.applyMatrix3(r),e[i].isNearlyIdentity()&&s.lengthSq()>.001&&(u=i),e[i].translate(s)}}if(s){if(e.length>1)for(i=0;i<t.length;i++){var h=[];for(n=0;n<e.length;n++)if(!e[n].isNearlyIdentity()){var f=new $3Dmol.Vector3;f.set(t[i].x,t[i].y,t[i].z),f.applyMatrix4(e[n]),h.push(f)}t[i].symmetries=h}}else{for(a=0;a<l;a++)t[a].sym=-1;for(i=0;i<e.length;i++)if(e[i].isNearlyIdentity()||u==i)for(a=0;a<l;a++)t[a].sym=i;else{let r=new $3Dmol.Vector3;for(a=0;a<l;a++){var d=[];for(n=0;n<t[a].bonds.length;n++)d.push(t[a].bonds[n]+c);r.set(t[a].x,t[a].y,t[a].z),r.applyMatrix4(e[i]);var p={};for(var m in t[a])p[m]=t[a][m];p.x=r.x,p.y=r.y,p.z=r.z,p.bonds=d,p.sym=i,p.index=t.length,t.push(p)}c=t.length}if(u>=0){let r=new $3Dmol.Vector3;for(a=0;a<l;a++)r.set(t[a].x,t[a].y,t[a].z),r.applyMatrix4(e[u]),t[a].x=r.x,t[a].y=r.y,t[a].z=r.z}e.length=0}};e.vasp=e.VASP=function(e){var t=[[]],r={},o=e.replace(/^\s+/,"").split(/[\n\r]/);if(o.length<3)return t;if(!o[1].match(/\d+/))return console.log("Warning: second line of the vasp structure file must be a number"),t;if(r.length=parseFloat(o[1]),r.length<0)return console.log("Warning: Vasp implementation for negative lattice lengths is not yet available"),t;r.xVec=new Float32Array(o[2].replace(/^\s+/,"").split(/\s+/)),r.yVec=new Float32Array(o[3].replace(/^\s+/,"").split(/\s+/)),r.zVec=new Float32Array(o[4].replace(/^\s+/,"").split(/\s+/));var i=new $3Dmol.Matrix3(r.xVec[0],r.xVec[1],r.xVec[2],r.yVec[0],r.yVec[1],r.yVec[2],r.zVec[0],r.zVec[1],r.zVec[2]);i.multiplyScalar(r.length),t.modelData=[{symmetries:[],cryst:{matrix:i}}];var n=o[5].replace(/\s+/,"").replace(/\s+$/,"").split(/\s+/),a=new Int16Array(o[6].replace(/^\s+/,"").split(/\s+/)),s=o[7].replace(/\s+/,"");if(s.match(/C/))s="cartesian";else{if(!s.match(/D/))return console.log("Warning: Unknown vasp mode in POSCAR file: mode must be either C(artesian) or D(irect)"),t;s="direct"}if(n.length!=a.length)return console.log("Warning: declaration of atomary species wrong:"),console.log(n),console.log(a),t;o.splice(0,8);for(var l=0,c=0,u=n.length;c<u;c++){for(var h=n[c],f=0,d=a[c];f<d;f++){var p=new Float32Array(o[l+f].replace(/^\s+/,"").split(/\s+/)),m={};m.elem=h,"cartesian"==s?(m.x=r.length*p[0],m.y=r.length*p[1],m.z=r.length*p[2]):(m.x=r.length*(p[0]*r.xVec[0]+p[1]*r.yVec[0]+p[2]*r.zVec[0]),m.y=r.length*(p[0]*r.xVec[1]+p[1]*r.yVec[1]+p[2]*r.zVec[1]),m.z=r.length*(p[0]*r.xVec[2]+p[1]*r.yVec[2]+p[2]*r.zVec[2])),m.bonds=[],t[0].push(m)}l+=a[c]}return t},e.cube=e.CUBE=function(e){var t=[[]],o=e.split(/\r?\n/);if(o.length<6)return t;var i=o[2].replace(/^\s+/,"").replace(/\s+/g," ").split(" "),a=Math.abs(parseFloat(i[0]));let s={};var l=s.origin=new $3Dmol.Vector3(parseFloat(i[1]),parseFloat(i[2]),parseFloat(i[3]));i=o[3].replace(/^\s+/,"").replace(/\s+/g," ").split(" ");var c=(i=o[3].replace(/^\s+/,"").replace(/\s+/g," ").split(" "))[0]>0?.529177:1;l.multiplyScalar(c);var u=Math.abs(i[0]),h=new $3Dmol.Vector3(parseFloat(i[1]),parseFloat(i[2]),parseFloat(i[3])).multiplyScalar(c);i=o[4].replace(/^\s+/,"").replace(/\s+/g," ").split(" ");var f=Math.abs(i[0]),d=new $3Dmol.Vector3(parseFloat(i[1]),parseFloat(i[2]),parseFloat(i[3])).multiplyScalar(c);i=o[5].replace(/^\s+/,"").replace(/\s+/g," ").split(" ");var p=Math.abs(i[0]),m=new $3Dmol.Vector3(parseFloat(i[1]),parseFloat(i[2]),parseFloat(i[3])).multiplyScalar(c);if(s.size={x:u,y:f,z:p},s.unit=new $3Dmol.Vector3(h.x,d.y,m.z),0!=h.y||0!=h.z||0!=d.x||0!=d.z||0!=m.x||0!=m.y){s.matrix4=new $3Dmol.Matrix4(h.x,d.x,m.x,0,h.y,d.y,m.y,0,h.z,d.z,m.z,0,0,0,0,1);let e=(new $3Dmol.Matrix4).makeTranslation(l.x,l.y,l.z);s.matrix4=s.matrix4.multiplyMatrices(e,s.matrix4),s.matrix=s.matrix4.matrix3FromTopLeft(),s.origin=new $3Dmol.Vector3(0,0,0),s.unit=new $3Dmol.Vector3(1,1,1)}t.modelData=[{cryst:s}],o=o.splice(6,a);for(var v=t[t.length-1].length,g=v+o.length,y=v;y<g;++y){var b={};b.serial=y;var x=o[y-v].replace(/^\s+/,"").replace(/\s+/g," ").split(" ");b.elem=r[x[0]],b.x=parseFloat(x[2])*c,b.y=parseFloat(x[3])*c,b.z=parseFloat(x[4])*c,b.hetflag=!0,b.bonds=[],b.bondOrder=[],b.properties={},t[t.length-1].push(b)}for(let e=0;e<t.length;e++)n(t[e]);return t},e.xyz=e.XYZ=function(e,t){for(var r=[[]],o=e.split(/\r?\n|\r/);o.length>0&&!(o.length<3);){var i=parseInt(o[0]);if(isNaN(i)||i<=0)break;if(o.length<i+2)break;var a=/Lattice\s*=\s*["\{\}]([^"\{\}]+)["\{\}]\s*/gi.exec(o[1]);if(null!=a&&a.length>1){var s=new Float32Array(a[1].split(/\s+/)),l=new $3Dmol.Matrix3(s[0],s[3],s[6],s[1],s[4],s[7],s[2],s[5],s[8]);r.modelData=[{cryst:{matrix:l}}]}for(var c=2,u=r[r.length-1].length,h=u+i,f=u;f<h;f++){var d=o[c++].replace(/^\s+/,"").replace(/\s+/g," ").split(" "),p={};p.serial=f;var m=d[0];p.atom=p.elem=m[0].toUpperCase()+m.substr(1,1).toLowerCase(),p.x=parseFloat(d[1]),p.y=parseFloat(d[2]),p.z=parseFloat(d[3]),p.hetflag=!0,p.bonds=[],p.bondOrder=[],p.properties={},r[r.length-1][f]=p,d.length>=7&&(p.dx=parseFloat(d[4]),p.dy=parseFloat(d[5]),p.dz=parseFloat(d[6]))}if(!t.multimodel)break;r.push([]),o.splice(0,c)}for(let e=0;e<r.length;e++)n(r[e]);if(t.onemol){var v=r;(r=[]).push(v[0]);for(let e=1;e<v.length;e++){let t=r[0].length;for(let o=0;o<v[e].length;o++){let i=v[e][o];for(let e=0;e<i.bonds.length;e++)i.bonds[e]=i.bonds[e]+t;i.index=r[0].length,i.serial=r[0].length,r[0].push(i)}}}return r};e.sdf=e.SDF=function(e,t){var r="V2000",o=e.split(/\r?\n|\r/);return o.length>3&&o[3].length>38&&(r=o[3].substr(34,5)),"V2000"===r?function(e,t){var r=[[]],o=!1;for(void 0!==t.keepH&&(o=!t.keepH);e.length>0&&!(e.length<4);){var i=parseInt(e[3].substr(0,3));if(isNaN(i)||i<=0)break;var n=parseInt(e[3].substr(3,3)),a=4;if(e.length<4+i+n)break;var s,l,c=[],u=r[r.length-1].length,h=u+i;for(s=u;s<h;s++,a++){var f={},d=(l=e[a]).substr(31,3).replace(/ /g,"");f.atom=f.elem=d[0].toUpperCase()+d.substr(1).toLowerCase(),"H"===f.elem&&o||(f.serial=s,c[s]=r[r.length-1].length,f.x=parseFloat(l.substr(0,10)),f.y=parseFloat(l.substr(10,10)),f.z=parseFloat(l.substr(20,10)),f.hetflag=!0,f.bonds=[],f.bondOrder=[],f.properties={},f.index=r[r.length-1].length,r[r.length-1].push(f))}for(s=0;s<n;s++,a++){l=e[a];var p=c[parseInt(l.substr(0,3))-1+u],m=c[parseInt(l.substr(3,3))-1+u],v=parseInt(l.substr(6,3));void 0!==p&&void 0!==m&&(r[r.length-1][p].bonds.push(m),r[r.length-1][p].bondOrder.push(v),r[r.length-1][m].bonds.push(p),r[r.length-1][m].bondOrder.push(v))}if(!t.multimodel)break;for(t.onemol||r.push([]);"$$$$"!==e[a];)a++;e.splice(0,++a)}return r}(o,t):"V3000"===r?function(e,t){var r=[[]],o=!1;for(void 0!==t.keepH&&(o=!t.keepH);e.length>0&&!(e.length<8)&&e[4].startsWith("M  V30 BEGIN CTAB")&&e[5].startsWith("M  V30 COUNTS")&&!(e[5].length<14);){var i=e[5].substr(13).match(/\S+/g);if(i.length<2)break;var n=parseInt(i[0]);if(isNaN(n)||n<=0)break;var a=parseInt(i[1]),s=7;if(e.length<8+n+a)break;var l,c=[],u=r[r.length-1].length,h=u+n;for(l=u;l<h;l++,s++){var f=e[s].substr(6).match(/\S+/g);if(f.length>4){var d={},p=f[1].replace(/ /g,"");d.atom=d.elem=p[0].toUpperCase()+p.substr(1).toLowerCase(),"H"===d.elem&&o||(d.serial=l,c[l]=r[r.length-1].length,d.x=parseFloat(f[2]),d.y=parseFloat(f[3]),d.z=parseFloat(f[4]),d.hetflag=!0,d.bonds=[],d.bondOrder=[],d.properties={},d.index=r[r.length-1].length,r[r.length-1].push(d))}}if("M  V30 END ATOM"!==e[s])break;if(s++,0===a||"M  V30 BEGIN BOND"!==e[s])break;for(s++,l=0;l<a;l++,s++){var m=e[s].substr(6).match(/\S+/g);if(m.length>3){var v=c[parseInt(m[2])-1+u],g=c[parseInt(m[3])-1+u],y=parseInt(m[1]);void 0!==v&&void 0!==g&&(r[r.length-1][v].bonds.push(g),r[r.length-1][v].bondOrder.push(y),r[r.length-1][g].bonds.push(v),r[r.length-1][g].bondOrder.push(y))}}if(!t.multimodel)break;for(t.onemol||r.push([]);"$$$$"!==e[s];)s++;e.splice(0,++s)}return r}(o,t):[[]]},e.cdjson=e.json=function(e,t){var r=[[]];"string"==typeof e&&(e=JSON.parse(e));for(var o=e.m,i=o[0].a,n=o[0].b,a=o[0].s,s=void 0!==t&&void 0!==t.parseStyle?t.parseStyle:void 0!==a,l=r[r.length-1].length,c=0;c<i.length;c++){var u=i[c],h={};h.id=u.i,h.x=u.x,h.y=u.y,h.z=u.z||0,h.bonds=[],h.bondOrder=[];var f=u.l||"C";h.elem=f[0].toUpperCase()+f.substr(1).toLowerCase(),h.serial=r[r.length-1].length,s&&(h.style=a[u.s||0]),r[r.length-1].push(h)}for(let e=0;e<n.length;e++){let t=n[e],o=t.b+l,i=t.e+l,a=t.o||1,s=r[r.length-1][o],c=r[r.length-1][i];s.bonds.push(i),s.bondOrder.push(a),c.bonds.push(o),c.bondOrder.push(a)}return r},e.mcif=e.cif=function(e,t){var r=[],o=!t.doAssembly,i=r.modelData=[];function a(e,t){for(var r=[],o=0,i=0;i<e.length;){for(;e.substr(i,t.length)!==t&&i<e.length;){if("'"===e[i])for(i++;i<e.length&&"'"!==e[i];)i++;else if('"'===e[i])for(i++;i<e.length&&'"'!==e[i];)i++;i++}r.push(e.substr(o,i-o)),o=i+=t.length}return r}var s=e.split(/\r?\n|\r/),u=[],h=!1;for(let e=0;e<s.length;e++){var f=s[e].split("#")[0];if(h?";"===f[0]&&(h=!1):";"===f[0]&&(h=!0),h||""!==f){if(!h&&"_"===(f=f.trim())[0]){var d=f.split(/\s/)[0].indexOf(".");d>-1&&(f[d]="_",f=f.substr(0,d)+"_"+f.substr(d+1))}u.push(f)}}for(var p,m,v,g,y=0;y<u.length;){for(;!u[y].startsWith("data_")||"data_global"===u[y];)y++;y++;for(var b={};y<u.length&&!u[y].startsWith("data_");)if(void 0===u[y][0])y++;else if("_"===u[y][0]){var x=u[y].split(/\s/)[0].toLowerCase(),w=b[x]=b[x]||[],D=u[y].substr(u[y].indexOf(x)+x.length);if(""===D)if(";"===u[++y][0]){var C=u[y].substr(1);for(y++;";"!==u[y];)C=C+"\n"+u[y],y++;w.push(C)}else w.push(u[y]);else w.push(D.trim());y++}else if("loop_"===u[y].substr(0,5)){y++;for(var A=[];""===u[y]||"_"===u[y][0];){if(""!==u[y]){let e=u[y].split(/\s/)[0].toLowerCase(),t=b[e]=b[e]||[];A.push(t)}y++}for(var S=0;y<u.length&&"_"!==u[y][0]&&!u[y].startsWith("loop_")&&!u[y].startsWith("data_");){let e=a(u[y]," ");for(var $=0;$<e.length;$++)""!==e[$]&&(A[S].push(e[$]),S=(S+1)%A.length);y++}}else y++;i.push({symmetries:[]}),r.push([]);var M,_=void 0!==b._atom_site_id?b._atom_site_id.length:b._atom_site_label.length;if(void 0!==b._cell_length_a){var T=parseFloat(b._cell_length_a),z=parseFloat(b._cell_length_b),E=parseFloat(b._cell_length_c),L=parseFloat(b._cell_angle_alpha)||90,F=parseFloat(b._cell_angle_beta)||90,I=parseFloat(b._cell_angle_gamma)||90;M=$3Dmol.conversionMatrix3(T,z,E,L,F,I),i[i.length-1].cryst={a:T,b:z,c:E,alpha:L,beta:F,gamma:I}}for(var R=0;R<_;R++)if(void 0===b._atom_site_group_pdb||"TER"!==b._atom_site_group_pdb[R]){var O={};if(void 0!==b._atom_site_cartn_x)O.x=parseFloat(b._atom_site_cartn_x[R]),O.y=parseFloat(b._atom_site_cartn_y[R]),O.z=parseFloat(b._atom_site_cartn_z[R]);else{var k=(p=M,m=parseFloat(b._atom_site_fract_x[R]),v=parseFloat(b._atom_site_fract_y[R]),g=parseFloat(b._atom_site_fract_z[R]),new $3Dmol.Vector3(m,v,g).applyMatrix3(p));O.x=k.x,O.y=k.y,O.z=k.z}O.chain=b._atom_site_auth_asym_id?b._atom_site_auth_asym_id[R]:void 0,O.resi=b._atom_site_auth_seq_id?parseInt(b._atom_site_auth_seq_id[R]):void 0,O.resn=b._atom_site_auth_comp_id?b._atom_site_auth_comp_id[R].trim():void 0,O.atom=b._atom_site_auth_atom_id?b._atom_site_auth_atom_id[R].replace(/"/gm,""):void 0,O.hetflag=!b._atom_site_group_pdb||"HETA"===b._atom_site_group_pdb[R]||"HETATM"===b._atom_site_group_pdb[R];var N="X";b._atom_site_type_symbol?N=b._atom_site_type_symbol[R].replace(/\(?\+?\d+.*/,""):b._atom_site_label&&(N=b._atom_site_label[R].split("_")[0].replace(/\(?\d+.*/,"")),O.elem=N[0].toUpperCase()+N.substr(1,1).toLowerCase(),O.bonds=[],O.ss="c",O.serial=R,O.bondOrder=[],O.properties={},r[r.length-1].push(O)}if(void 0!==b._pdbx_struct_oper_list_id&&!o)for(let e=0;e<b._pdbx_struct_oper_list_id.length;e++){var P=parseFloat(b["_pdbx_struct_oper_list_matrix[1][1]"][e]),V=parseFloat(b["_pdbx_struct_oper_list_matrix[1][2]"][e]),U=parseFloat(b["_pdbx_struct_oper_list_matrix[1][3]"][e]),B=parseFloat(b["_pdbx_struct_oper_list_vector[1]"][e]),j=parseFloat(b["_pdbx_struct_oper_list_matrix[2][1]"][e]),G=parseFloat(b["_pdbx_struct_oper_list_matrix[2][2]"][e]),H=parseFloat(b["_pdbx_struct_oper_list_matrix[2][3]"][e]),q=parseFloat(b["_pdbx_struct_oper_list_vector[2]"][e]),W=parseFloat(b["_pdbx_struct_oper_list_matrix[3][1]"][e]),Y=parseFloat(b["_pdbx_struct_oper_list_matrix[3][2]"][e]),X=parseFloat(b["_pdbx_struct_oper_list_matrix[3][3]"][e]),Z=parseFloat(b["_pdbx_struct_oper_list_vector[3]"][e]),Q=new $3Dmol.Matrix4(P,V,U,B,j,G,H,q,W,Y,X,Z);i[i.length-1].symmetries.push(Q)}var K=function(e){var t,r=e.match("-"),o=(e=e.replace(/[-xyz]/g,"")).split("/");return t=void 0===o[1]?1:parseInt(o[1]),(""===o[0]?1:parseInt(o[0]))/t*(r?-1:1)};if(void 0!==b._symmetry_equiv_pos_as_xyz&&!o)for(var J=0;J<b._symmetry_equiv_pos_as_xyz.length;J++){var ee=b._symmetry_equiv_pos_as_xyz[J].replace(/["' ]/g,"").split(",").map((function(e){return e.replace(/-/g,"+-")}));let e=new $3Dmol.Matrix4(0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,1);for(let t=0;t<3;t++){var te=ee[t].split("+");for(let r=0;r<te.length;r++){var re=te[r];if(""!==re){var oe=K(re);re.match("x")?e.elements[t+0]=oe:re.match("y")?e.elements[t+4]=oe:re.match("z")?e.elements[t+8]=oe:e.elements[t+12]=oe}}}var ie=M.getMatrix4(),ne=(new $3Dmol.Matrix4).getInverse(ie,!0);e=(new $3Dmol.Matrix4).multiplyMatrices(e,ne),e=(new $3Dmol.Matrix4).multiplyMatrices(ie,e),i[i.length-1].symmetries.push(e)}}for(let e=0;e<r.length;e++)n(r[e]),l(r[e]),c(i[e].symmetries,r[e],t,i[e].cryst),t.duplicateAssemblyAtoms&&!t.dontConnectDuplicatedAtoms&&n(r[e]);return r},e.mol2=e.MOL2=function(e,t){var r=[[]],o=!1;void 0!==t.keepH&&(o=!t.keepH);var i=e.search(/@<TRIPOS>MOLECULE/),n=e.search(/@<TRIPOS>ATOM/);if(-1==i||-1==n)return r;for(var a=e.substr(i,e.length).split(/\r?\n|\r/);a.length>0;){var s=[],l=a[2].replace(/^\s+/,"").replace(/\s+/g," ").split(" "),c=parseInt(l[0]),u=0;l.length>1&&(u=parseInt(l[1]));var h,f=4;for(h=3;h<a.length;h++)if("@<TRIPOS>ATOM"==a[h]){f=h+1;break}var d=r[r.length-1].length,p=d+c;for(h=d;h<p;h++){var m={},v=(l=a[f++].replace(/^\s+/,"").replace(/\s+/g," ").split(" "))[5].split(".")[0];if(m.atom=m.elem=v[0].toUpperCase()+v.substr(1).toLowerCase(),"H"==m.elem&&o);else{var g=r[r.length-1].length,y=parseInt(l[0]);m.serial=y,m.x=parseFloat(l[2]),m.y=parseFloat(l[3]),m.z=parseFloat(l[4]),m.atom=l[5];var b=parseFloat(l[8]);m.index=g,m.bonds=[],m.bondOrder=[],m.properties={charge:b,partialCharge:b},s[y]=g,r[r.length-1].push(m)}}for(var x=!1;f<a.length;)if("@<TRIPOS>BOND"==a[f++]){x=!0;break}if(x&&u)for(h=0;h<u;h++){l=a[f++].replace(/^\s+/,"").replace(/\s+/g," ").split(" ");var w=parseInt(l[1]),D=r[r.length-1][s[w]],C=parseInt(l[2]),A=r[r.length-1][s[C]],S=parseInt(l[3]);isNaN(S)&&(S=1),void 0!==D&&void 0!==A&&(D.bonds.push(s[C]),D.bondOrder.push(S),A.bonds.push(s[w]),A.bondOrder.push(S))}if(!t.multimodel)break;t.onemol||r.push([]),a.splice(0,f),e=a.join("\n")}return r};var u=function(e,r){var o=e.replace(/ /g,"");return o.length>0&&"H"==o[0]&&"Hg"!=o&&"He"!=o&&"Hf"!=o&&"Hs"!=o&&"Ho"!=o&&(o="H"),o.length>1&&(o=o[0].toUpperCase()+o.substr(1).toLowerCase(),void 0===t[o]?o=o[0]:r&&("Ca"==o||"Cd"==o)&&(o="C")),o},h=function(e,r,o){var i,n,a=[],h=!r.keepH,f=!!r.noSecondaryStructure,d=!r.noComputeSecondaryStructure,p=!r.doAssembly,m=r.altLoc?r.altLoc:"A",v={symmetries:[]},g=[],y=[],b={};for(let r=0;r<e.length;r++){var x,w,D,C=(n=e[r].replace(/^\s*/,"")).substr(0,6);if(0==C.indexOf("END")){if(g=e.slice(r+1),"END"==C)for(var A in o)o.hasOwnProperty(A)&&delete o[A];break}if("ATOM  "==C||"HETATM"==C){var S,$,M,_,T,z,E,L,F,I,R,O;if(" "!=(R=n.substr(16,1))&&R!=m&&"*"!=m)continue;if(I=parseInt(n.substr(6,5)),i=n.substr(12,4).replace(/ /g,""),S=n.substr(17,3).replace(/ /g,""),$=n.substr(21,1),M=parseInt(n.substr(22,4)),_=n.substr(26,1),T=parseFloat(n.substr(30,8)),z=parseFloat(n.substr(38,8)),E=parseFloat(n.substr(46,8)),O=parseFloat(n.substr(60,8)),"H"==(F=""===(F=n.substr(76,2).replace(/ /g,""))||void 0===t[F]?u(n.substr(12,2),"A"==n[0]):F[0].toUpperCase()+F.substr(1).toLowerCase())&&h)continue;L="H"==C[0],y[I]=a.length,a.push({resn:S,x:T,y:z,z:E,elem:F,hetflag:L,altLoc:R,chain:$,resi:M,icode:_,rescode:M+(" "!=_?"^"+_:""),serial:I,atom:i,bonds:[],ss:"c",bondOrder:[],properties:{},b:O,pdbline:n})}else if("SHEET "==C){!0,x=n.substr(21,1),w=parseInt(n.substr(22,4)),n.substr(32,1),D=parseInt(n.substr(33,4)),x in o||(o[x]={}),o[x][w]="s1";for(var k=w+1;k<D;k++)o[x][k]="s";o[x][D]="s2"}else if("CONECT"==C){var N=y[parseInt(n.substr(6,5))],P=a[N],V=[11,16,21,26];for(let e=0;e<4;e++){var U=y[parseInt(n.substr(V[e],5))],B=a[U];if(void 0!==P&&void 0!==B)if(b[[N,U]]){b[[N,U]]+=1;for(let e=0;e<P.bonds.length;e++)if(P.bonds[e]==U){var j=b[[N,U]];P.bondOrder[e]=j>=4?1:j}}else b[[N,U]]=1,0!=P.bonds.length&&P.bonds[P.bonds.length-1]==U||(P.bonds.push(U),P.bondOrder.push(1))}}else if("HELIX "==C){!0,x=n.substr(19,1),w=parseInt(n.substr(21,4)),n.substr(31,1),D=parseInt(n.substr(33,4)),x in o||(o[x]={}),o[x][w]="h1";for(let e=w+1;e<D;e++)o[x][e]="h";o[x][D]="h2"}else if(p||"REMARK"!=C||"BIOMT"!=n.substr(13,5)){if("CRYST1"==C){let e,t,r,o,i,a;e=parseFloat(n.substr(7,8)),t=parseFloat(n.substr(16,8)),r=parseFloat(n.substr(25,8)),o=parseFloat(n.substr(34,6)),i=parseFloat(n.substr(41,6)),a=parseFloat(n.substr(48,6)),v.cryst={a:e,b:t,c:r,alpha:o,beta:i,gamma:a}}else if("ANISOU"==C){var G=a[y[parseInt(n.substr(6,5))]];if(G){var H=n.substr(30).trim().split(/\s+/),q={u11:parseInt(H[0]),u22:parseInt(H[1]),u33:parseInt(H[2]),u12:parseInt(H[3]),u13:parseInt(H[4]),u23:parseInt(H[5])};G.uMat=q}}}else{var W,Y=new $3Dmol.Matrix4;for(W=1;W<=3;W++)if(n=e[r].replace(/^\s*/,""),parseInt(n.substr(18,1))==W)Y.elements[W-1]=parseFloat(n.substr(23,10)),Y.elements[W-1+4]=parseFloat(n.substr(33,10)),Y.elements[W-1+8]=parseFloat(n.substr(43,10)),Y.elements[W-1+12]=parseFloat(n.substr(53)),r++;else for(;"BIOMT"==n.substr(13,5);)r++,n=e[r].replace(/^\s*/,"");Y.elements[3]=0,Y.elements[7]=0,Y.elements[11]=0,Y.elements[15]=1,v.symmetries.push(Y),r--}}(new Date).getTime();if(function(e,t){for(var r=0,o=e.length;r<o;r++)for(var i=e[r],n=0;n<i.bonds.length;n++){var a=e[i.bonds[n]],s=t[i.serial];a&&s&&a.bonds.indexOf(s)<0&&(a.bonds.push(s),a.bondOrder.push(i.bondOrder[n]))}}(a,y),s(a),p||c(v.symmetries,a,r,v.cryst),d&&!f&&((new Date).getTime(),l(a)),(new Date).getTime(),!function(e){var t;for(t in e)return!1;return!0}(o))for(let e=0;e<a.length;e++)if(void 0!==(i=a[e])&&i.chain in o&&i.resi in o[i.chain]){var X=o[i.chain][i.resi];i.ss=X[0],X.length>1&&("1"==X[1]?i.ssbegin=!0:"2"==X[1]&&(i.ssend=!0))}return[a,v,g]};e.pdb=e.PDB=e.pdbqt=e.PDBQT=function(e,t){var r=[],o={};r.modelData=[];for(var i=e.split(/\r?\n|\r/);i.length>0;){var n=h(i,t,o),a=n[0],s=n[1];if(i=n[2],0!=a.length){if(t.multimodel&&t.onemol&&r.length>0)for(var l=r[0].length,c=0;c<a.length;c++){var u=a[c];u.index=c;for(var f=0;f<u.bonds.length;f++)u.bonds[f]+=l;r[0].push(u)}else r.modelData.push(s),r.push(a);if(!t.multimodel)break}}return r},e.pqr=e.PQR=function(e,t){var r=[[]],o=!t.noSecondaryStructure;r.modelData=[{symmetries:[]}];var i,n=[],a=e.split(/\r?\n|\r/);for(let e=0;e<a.length;e++){var c=(i=a[e].replace(/^\s*/,"")).substr(0,6);if(0==c.indexOf("END")){if(t.multimodel){t.onemol||r.push([]);continue}break}if("ATOM  "==c||"HETATM"==c){var u;let e=parseInt(i.substr(6,5)),t=i.substr(12,4).replace(/ /g,""),o=i.substr(17,3).trim(),a=i.substr(21,1),s=parseInt(i.substr(22,4));var h=i.substr(30).trim().split(/\s+/),f=parseFloat(h[0]),d=parseFloat(h[1]),p=parseFloat(h[2]),m=parseFloat(h[3]),v=parseFloat(h[4]),g=t[0];t.length>1&&t[1].toUpperCase()!=t[1]&&(g=t.substr(0,2)),u="H"==i[0],n[e]=r[r.length-1].length,r[r.length-1].push({resn:o,x:f,y:d,z:p,elem:g,hetflag:u,chain:a,resi:s,serial:e,atom:t,bonds:[],ss:"c",bondOrder:[],properties:{charge:m,partialCharge:m,radius:v},pdbline:i})}else if("CONECT"==c){var y=parseInt(i.substr(6,5)),b=r[r.length-1][n[y]];for(let e=0;e<4;e++){var x=parseInt(i.substr([11,16,21,26][e],5)),w=r[r.length-1][n[x]];void 0!==b&&void 0!==w&&(b.bonds.push(n[x]),b.bondOrder.push(1))}}}for(let e=0;e<r.length;e++)s(r[e]),o&&l(r[e]);return r};var f=function(e){return String.fromCharCode.apply(null,e).replace(/\0/g,"")},d=function(e){return 0==e||2==e||4==e?"h":3==e?"s":"c"};let p=new Set(["D-SACCHARIDE","D-SACCHARIDE 1,4 AND 1,4 LINKING","D-SACCHARIDE 1,4 AND 1,6 LINKING","L-SACCHARIDE","L-SACCHARIDE 1,4 AND 1,4 LINKING","L-SACCHARIDE 1,4 AND 1,6 LINKING","NON-POLYMER","OTHER","PEPTIDE-LIKE","SACCHARIDE"]);return e.mmtf=e.MMTF=function(e,t){var r=!t.keepH,o=t.altLoc?t.altLoc:"A",i=!!t.noSecondaryStructure,n=!t.noComputeSecondaryStructure,a=!t.doAssembly,s=t.assemblyIndex?t.assemblyIndex:0;"string"==typeof e&&(e=$3Dmol.base64ToArray(e));var u,h,m,v,g,y,b=MMTF.decode(e),x=[[]],w=x.modelData=[],D=0,C=0,A=0,S=b.secStructList,$=b.insCodeList,M=b.sequenceIndexList,_=b.bFactorList,T=b.altLocList,z=b.occupancyList,E=b.bondAtomList,L=b.bondOrderList,F=b.numModels;if(0==F)return x;t.multimodel||(F=1);var I=[];if(!a&&b.bioAssemblyList&&b.bioAssemblyList.length>0){var R=b.bioAssemblyList[s].transformList;for(u=0,y=R.length;u<y;u++){var O=new $3Dmol.Matrix4(R[u].matrix);O.transpose(),I.push(O)}}var k=null;if(b.unitCell){var N=b.unitCell;k={a:N[0],b:N[1],c:N[2],alpha:N[3],beta:N[4],gamma:N[5]}}let P=[];b.entityList.forEach((e=>{e.chainIndexList.forEach((t=>{P[t]="polymer"==e.type}))}));var V=0;for(g=0;g<F;g++){var U=b.chainsPerModel[g],B=x[x.length-1],j=[];for(w.push({symmetries:I,cryst:k}),u=0;u<U;++u){var G=b.groupsPerChain[D],H=f(b.chainIdList.subarray(4*D,4*D+4));b.chainNameList&&(H=f(b.chainNameList.subarray(4*D,4*D+4)));var q=C,W="";for(h=0;h<G;++h){var Y=b.groupList[b.groupTypeList[C]],X=Y.atomNameList.length,Z=0,Q=!1,K=!1;if(S){Z=S[C];var J=d(Z);0!=C&&J==W||(Q=!0),W=J;var ee=C+1;(ee>=S.length||d(S[ee]!=J))&&(K=!0)}b.insCodeList&&String.fromCharCode($[C]);M&&M[C];var te=b.groupIdList[C],re=Y.groupName;let e=Y.chemCompType;var oe=A;let t=p.has(e)||!P[D];for(m=0;m<X;++m){var ie=Y.elementList[m];if(r&&"H"==ie)A+=1;else{var ne="";_&&(ne=_[A]);var ae="";T&&T[A]&&(ae=String.fromCharCode(T[A]));var se="";if(z&&(se=z[A]),""==ae||ae==o||"*"==o){var le=b.atomIdList[A],ce=Y.atomNameList[m],ue=0;Y.atomChargeList&&(ue=Y.atomChargeList[m]);var he=b.xCoordList[A],fe=b.yCoordList[A],de=b.zCoordList[A];j[A]=B.length,B.push({resn:re,x:he,y:fe,z:de,elem:ie,hetflag:t,chain:H,resi:te,icode:ae,rescode:te+(" "!=ae?"^"+ae:""),serial:le,altLoc:ae,index:A,atom:ce,bonds:[],ss:d(Z),ssbegin:Q,ssend:K,bondOrder:[],properties:{charge:ue,occupancy:se},b:ne}),A+=1}else A+=1}}var pe=Y.bondAtomList;for(m=0,v=Y.bondOrderList.length;m<v;++m){var me=oe+pe[2*m],ve=oe+pe[2*m+1],ge=Y.bondOrderList[m],ye=j[me],be=j[ve],xe=B[ye],we=B[be];xe&&we&&(xe.bonds.push(be),xe.bondOrder.push(ge),we.bonds.push(ye),we.bondOrder.push(ge))}C+=1}for(C=q,h=0;h<G;++h)C+=1;D+=1}if(E)for(let e=V,t=E.length;e<t;e+=2){let t=E[e],r=E[e+1],o=L?L[e/2]:1;if(t>=A){V=e;break}let i=j[t],n=j[r],a=B[i],s=B[n];a&&s&&(a.bonds.push(n),a.bondOrder.push(o),s.bonds.push(i),s.bondOrder.push(o))}t.multimodel&&(t.onemol||x.push([])),1}if(!a)for(let e=0;e<x.length;e++)c(w[e].symmetries,x[e],t,w[e].cryst);return n&&!i&&l(x),x},e.prmtop=e.PRMTOP=function(e){var t,r=[],o=0,i=e.split(/\r?\n|\r/);if(!(i.length>0&&i[0].includes("VERSION")))return[];var n=i.filter((function(e){return e.includes("POINTERS")||e.includes("ATOM_NAME")||e.includes("CHARGE")||e.includes("RADII")||e.includes("BONDS_INC_HYDROGEN")||e.includes("BONDS_WITHOUT_HYDROGEN")})),a=u("POINTERS");if(-1==a)return[];var s=h(a),l=parseInt(i[a+1].slice(0,s[1]));if(isNaN(l)||l<=0)return[];if(-1==(a=u("ATOM_NAME")))return[];var c=(s=h(a))[0];for(let e=0;e<l/s[0];e++){e==parseInt(l/s[0])&&(c=l%s[0]);for(let e=0;e<c;e++){let t={},n={charge:"",radii:""};t.serial=o,t.x=0,t.y=0,t.z=0,t.atom=i[a+1].slice(s[1]*e,s[1]*(e+1)),t.elem=i[a+1].slice(s[1]*e,s[1]*e+1),t.properties=n,t.bonds=[],t.bondOrder=[],r.push(t),o++}a++}if(-1!=(a=u("CHARGE"))){o=0,c=(s=h(a))[0];for(let e=0;e<l/s[0];e++){e==parseInt(l/s[0])&&(c=l%s[0]);for(let e=0;e<c;e++)r[o].properties.charge=parseFloat(i[a+1].slice(s[1]*e,s[1]*(e+1))),o++;a++}}if(-1!=(a=u("RADII"))){o=0,c=(s=h(a))[0];for(let e=0;e<l/s[0];e++){e==parseInt(l/s[0])&&(c=l%s[0]);for(let e=0;e<c;e++)r[o].properties.radii=parseFloat(i[a+1].slice(s[1]*e,s[1]*(e+1))),o++;a++}}if(-1!=(a=u("BONDS_WITHOUT_HYDROGEN")))for(o=0,c=(s=h(a))[0],a+=1;!i[a].match(/^%FLAG/);){i[a+1].match(/^%FLAG/)&&(c=l%s[0]);for(let e=0;e<c;e++)o%3==0?t=parseInt(i[a].slice(s[1]*e,s[1]*(e+1))/3):o%3==1&&r[t].bonds.push(parseInt(i[a].slice(s[1]*e,s[1]*(e+1))/3)),o++;a++}if(-1!=(a=u("BONDS_INC_HYDROGEN")))for(o=0,c=(s=h(a))[0],a+=1;!i[a].match(/^%FLAG/);){i[a+1].match(/^%FLAG/)&&(c=l%s[0]);for(let e=0;e<c;e++)o%3==0?t=parseInt(i[a].slice(s[1]*e,s[1]*(e+1))/3):o%3==1&&r[t].bonds.push(parseInt(i[a].slice(s[1]*e,s[1]*(e+1))/3)),o++;a++}function u(e){var t=i.indexOf(n.filter((function(t){return t.includes(e)}))[0]);if(Number.isInteger(t)&&t>0){for(;!i[t].includes("FORMAT");)t++;return t}return-1}function h(e){var t=i[e].match(/\((\d*)\S*/),r=i[e].match(/[a-zA-Z](\d*)\)\s*/);return null==r&&(r=i[e].match(/[a-zA-Z](\d*)\.\d*\)\s*/)),[t[1],r[1]]}return[r]},e.gro=e.GRO=function(e){for(var t=[],r=e.split(/\r?\n|\r/);r.length>0&&!(r.length<3);){var o=parseInt(r[1]);if(isNaN(o)||o<=0)break;if(r.length<o+3)break;var i=[];t.push(i);for(var n=2,a=i.length,l=a+o,c=a;c<l;c++){var h=r[n++],f={};f.serial=c,f.atom=h.slice(10,15).trim(),f.elem=u(f.atom,!0),f.x=10*parseFloat(h.slice(20,28)),f.y=10*parseFloat(h.slice(28,36)),f.z=10*parseFloat(h.slice(36,44)),f.resi=parseInt(h.slice(0,5)),f.resn=h.slice(5,10).trim(),f.bonds=[],f.bondOrder=[],f.properties={},h.length>44&&(f.dx=10*parseFloat(h.slice(44,52)),f.dy=10*parseFloat(h.slice(52,60)),f.dz=10*parseFloat(h.slice(60,68))),i[c]=f}if(r.length<=n+3){var d=r[n++].trim().split(/\s+/);if(3==d.length){for(var p=0;p<3;p++)d[p]=10*parseFloat(d[p]);t.box=d}}r.splice(0,++n)}for(let e=0;e<t.length;e++)s(t[e]);return t},e.lammpstrj=e.LAMMPSTRJ=function(e,t){for(var r=[],o={id:"serial",type:"atom",element:"elem",q:"charge",radius:"radius",x:"x",xu:"x",xs:"x",xsu:"x",y:"y",yu:"y",ys:"y",ysu:"y",z:"z",zu:"z",zs:"z",zsu:"z"},i=e.split(/\r?\n|\r/),a=0,s=0,l=0;l<i.length-9;){for(var c=l;c<i.length;c++)if(i[c].match(/ITEM: NUMBER OF ATOMS/)&&(s=parseInt(i[c+1])),i[c].match(/ITEM: ATOMS/)){a=c+1;break}var u=i[a-1].replace("ITEM: ATOMS ","").split(" ");r.push([]);for(let e=a;e<a+s;e++){for(var h={},f={},d=i[e].split(" "),p=0;p<d.length;p++){var m=o[u[p]];null!=m&&("serial"==m?h[m]=parseInt(d[p]):"x"==m||"y"==m||"z"===m?h[m]=parseFloat(d[p]):"charge"==m||"radius"==m?f[m]=parseFloat(d[p]):h[m]=d[p]),h.properties=f,h.bonds=[],h.bondOrder=[]}r[r.length-1][e-a]=h}l=a+s-1}if(t.assignbonds)for(var v=0;v<r.length;v++)n(r[v]);return r},e}();var $3Dmol=$3Dmol||{};$3Dmol.partialCharges={"ALA:N":-.15,"ALA:CA":.1,"ALA:CB":0,"ALA:C":.6,"ALA:O":-.55,"ARG:N":-.15,"ARG:CA":.1,"ARG:CB":0,"ARG:CG":0,"ARG:CD":.1,"ARG:NE":-.1,"ARG:CZ":.5,"ARG:NH1":.25,"ARG:NH2":.25,"ARG:C":.6,"ARG:O":-.55,"ASN:N":-.15,"ASN:CA":.1,"ASN:CB":0,"ASN:CG":.55,"ASN:OD1":-.55,"ASN:ND2":0,"ASN:C":.6,"ASN:O":-.55,"ASP:N":-.15,"ASP:CA":.1,"ASP:CB":0,"ASP:CG":.14,"ASP:OD1":-.57,"ASP:OD2":-.57,"ASP:C":.6,"ASP:O":-.55,"CYS:N":-.15,"CYS:CA":.1,"CYS:CB":.19,"CYS:SG":-.19,"CYS:C":.6,"CYS:O":-.55,"GLN:N":-.15,"GLN:CA":.1,"GLN:CB":0,"GLN:CG":0,"GLN:CD":.55,"GLN:OE1":-.55,"GLN:NE2":0,"GLN:C":.6,"GLN:O":-.55,"GLU:N":-.15,"GLU:CA":.1,"GLU:CB":0,"GLU:CG":0,"GLU:CD":.14,"GLU:OE1":-.57,"GLU:OE2":-.57,"GLU:C":.6,"GLU:O":-.55,"GLY:N":-.15,"GLY:CA":.1,"GLY:C":.6,"GLY:O":-.55,"HIS:N":-.15,"HIS:CA":.1,"HIS:CB":0,"HIS:CG":.1,"HIS:ND1":-.1,"HIS:CD2":.1,"HIS:NE2":-.4,"HIS:CE1":.3,"HIS:C":.6,"HIS:O":-.55,"ILE:N":-.15,"ILE:CA":.1,"ILE:CB":0,"ILE:CG2":0,"ILE:CG1":0,"ILE:CD":0,"ILE:C":.6,"ILE:O":-.55,"LEU:N":-.15,"LEU:CA":.1,"LEU:CB":0,"LEU:CG":0,"LEU:CD1":0,"LEU:CD2":0,"LEU:C":.6,"LEU:O":-.55,"LYS:N":-.15,"LYS:CA":.1,"LYS:CB":0,"LYS:CG":0,"LYS:CD":0,"LYS:CE":.25,"LYS:NZ":.75,"LYS:C":.6,"LYS:O":-.55,"MET:N":-.15,"MET:CA":.1,"MET:CB":0,"MET:CG":.06,"MET:SD":-.12,"MET:CE":.06,"MET:C":.6,"MET:O":-.55,"PHE:N":-.15,"PHE:CA":.1,"PHE:CB":0,"PHE:CG":0,"PHE:CD1":0,"PHE:CD2":0,"PHE:CE1":0,"PHE:CE2":0,"PHE:CZ":0,"PHE:C":.6,"PHE:O":-.55,"PRO:N":-.25,"PRO:CD":.1,"PRO:CA":.1,"PRO:CB":0,"PRO:CG":0,"PRO:C":.6,"PRO:O":-.55,"SER:N":-.15,"SER:CA":.1,"SER:CB":.25,"SER:OG":-.25,"SER:C":.6,"SER:O":-.55,"THR:N":-.15,"THR:CA":.1,"THR:CB":.25,"THR:OG1":-.25,"THR:CG2":0,"THR:C":.6,"THR:O":-.55,"TRP:N":-.15,"TRP:CA":.1,"TRP:CB":0,"TRP:CG":-.03,"TRP:CD2":.1,"TRP:CE2":-.04,"TRP:CE3":-.03,"TRP:CD1":.06,"TRP:NE1":-.06,"TRP:CZ2":0,"TRP:CZ3":0,"TRP:CH2":0,"TRP:C":.6,"TRP:O":-.55,"TYR:N":-.15,"TYR:CA":.1,"TYR:CB":0,"TYR:CG":0,"TYR:CD1":0,"TYR:CE1":0,"TYR:CD2":0,"TYR:CE2":0,"TYR:CZ":.25,"TYR:OH":-.25,"TYR:C":.6,"TYR:O":-.55,"VAL:N":-.15,"VAL:CA":.1,"VAL:CB":0,"VAL:CG1":0,"VAL:CG2":0,"VAL:C":.6,"VAL:O":-.55},$3Dmol.applyPartialCharges=function(e,t){if((!t||void 0===e.partialCharge)&&e.resn&&e.atom){var r=e.resn+":"+e.atom;e.properties.partialCharge=$3Dmol.partialCharges[r]}},$3Dmol.VolumeData=function(e,t,r){if(this.unit={x:1,y:1,z:1},this.origin={x:0,y:0,z:0},this.size={x:0,y:0,z:0},this.data=new Float32Array([]),this.matrix=null,t=t.toLowerCase(),/\.gz$/.test(t)){t=t.replace(/\.gz$/,"");try{this[t]&&this[t].isbinary?("string"==typeof e&&(e=$3Dmol.base64ToArray(e)),e=pako.inflate(e)):e=new TextDecoder("utf-8").decode(pako.inflate(e))}catch(e){console.log(e)}}if(this[t]&&(this[t].isbinary&&"string"==typeof e&&(e=$3Dmol.base64ToArray(e)),this[t](e)),r){if(r.negate)for(let e=0,t=this.data.length;e<t;e++)this.data[e]=-this.data[e];if(r.normalize){var o=0;for(let e=0,t=this.data.length;e<t;e++)o+=this.data[e];var i=o/this.data.length;console.log("computed mean: "+i),o=0;for(let e=0,t=this.data.length;e<t;e++){var n=this.data[e]-i;o+=n*n}var a=o/this.data.length;for(let e=0,t=this.data.length;e<t;e++)this.data[e]=(this.data[e]-i)/a}}},$3Dmol.VolumeData.prototype.getIndex=function(e,t,r){if(this.matrix){this.inversematrix||(this.inversematrix=(new $3Dmol.Matrix4).getInverse(this.matrix));var o=new $3Dmol.Vector3(e,t,r);e=(o=o.applyMatrix4(this.inversematrix)).x,t=o.y,r=o.z}else e-=this.origin.x,t-=this.origin.y,r-=this.origin.z,e/=this.unit.x,t/=this.unit.y,r/=this.unit.z;return e=Math.round(e),t=Math.round(t),r=Math.round(r),e<0||e>=this.size.x||t<0||t>=this.size.y||r<0||r>=this.size.z?-1:e*this.size.y*this.size.z+t*this.size.z+r},$3Dmol.VolumeData.prototype.getVal=function(e,t,r){let o=this.getIndex(e,t,r);return o<0?0:this.data[o]},$3Dmol.VolumeData.prototype.getCoordinates=function(e){var t=e/(this.size.y*this.size.z),r=e%(this.size.y*this.size.z),o=e%this.size.z;return t*=this.unit.x,r*=this.unit.y,o*=this.unit.z,{x:t+=this.origin.x,y:r+=this.origin.y,z:o+=this.origin.z}},$3Dmol.VolumeData.prototype.vasp=function(e){var t=e.replace(/^\s+/,"").split(/[\n\r]/),r=$3Dmol.Parsers.vasp(e)[0].length;if(0==r)return console.log("No good formating of CHG or CHGCAR file, not atomic information provided in the file."),void(this.data=[]);var o,i=1.889725992,n=parseFloat(t[1]);o=t[2].replace(/^\s+/,"").split(/\s+/);var a=new $3Dmol.Vector3(parseFloat(o[0]),parseFloat(o[1]),parseFloat(o[2])).multiplyScalar(n*i);o=t[3].replace(/^\s+/,"").split(/\s+/);var s=new $3Dmol.Vector3(parseFloat(o[0]),parseFloat(o[1]),parseFloat(o[2])).multiplyScalar(n*i);o=t[4].replace(/^\s+/,"").split(/\s+/);var l=new $3Dmol.Vector3(parseFloat(o[0]),parseFloat(o[1]),parseFloat(o[2])).multiplyScalar(n*i),c=a.x*(s.y*l.z-l.y*s.z)-s.x*(a.y*l.z-l.y*a.z)+l.x*(a.y*s.z-s.y*a.z),u=1/(c=Math.abs(c)/Math.pow(i,3));t.splice(0,8+r+1);var h=t[0].replace(/^\s+/,"").replace(/\s+/g," ").split(" "),f=Math.abs(h[0]),d=Math.abs(h[1]),p=Math.abs(h[2]),m=this.origin=new $3Dmol.Vector3(0,0,0);this.size={x:f,y:d,z:p},this.unit=new $3Dmol.Vector3(a.x,s.y,l.z),a=a.multiplyScalar(1/(i*f)),s=s.multiplyScalar(1/(i*d)),l=l.multiplyScalar(1/(i*p)),0==a.y&&0==a.z&&0==s.x&&0==s.z&&0==l.x&&0==l.y||(this.matrix=new $3Dmol.Matrix4(a.x,s.x,l.x,0,a.y,s.y,l.y,0,a.z,s.z,l.z,0,0,0,0,1),this.matrix=this.matrix.multiplyMatrices(this.matrix,(new $3Dmol.Matrix4).makeTranslation(m.x,m.y,m.z)),this.origin=new $3Dmol.Vector3(0,0,0),this.unit=new $3Dmol.Vector3(1,1,1)),t.splice(0,1);var v=t.join(" ");(v=(v=v.replace(/^\s+/,"")).split(/[\s\r]+/)).splice(f*d*p+1);for(var g=new Float32Array(v),y=0;y<g.length;y++)g[y]=g[y]*u*.036749309;this.data=g},$3Dmol.VolumeData.prototype.dx=function(e){var t,r,o=e.split(/[\n\r]+/),i=/gridpositions\s+counts\s+(\d+)\s+(\d+)\s+(\d+)/,n=/^origin\s+(\S+)\s+(\S+)\s+(\S+)/,a=/^delta\s+(\S+)\s+(\S+)\s+(\S+)/,s=/data follows/;for(t=0;t<o.length;t++){var l=o[t];if(r=i.exec(l)){var c=parseInt(r[1]),u=parseInt(r[2]),h=parseInt(r[3]);this.size={x:c,y:u,z:h}}else if(r=a.exec(l)){var f=parseFloat(r[1]);if(0==parseFloat(r[2])&&0==parseFloat(r[3])||console.log("Non-orthogonal delta matrix not currently supported in dx format"),l=o[t+=1],null==(r=a.exec(l)))return void console.log("Parse error in dx delta matrix");var d=parseFloat(r[2]);if(0==parseFloat(r[1])&&0==parseFloat(r[3])||console.log("Non-orthogonal delta matrix not currently supported in dx format"),l=o[t+=1],null==(r=a.exec(l)))return void console.log("Parse error in dx delta matrix");var p=parseFloat(r[3]);0==parseFloat(r[1])&&0==parseFloat(r[2])||console.log("Non-orthogonal delta matrix not currently supported in dx format"),this.unit=new $3Dmol.Vector3(f,d,p)}else if(r=n.exec(l)){var m=parseFloat(r[1]),v=parseFloat(r[2]),g=parseFloat(r[3]);this.origin=new $3Dmol.Vector3(m,v,g)}else if(r=s.exec(l))break}if(t+=1,this.size&&this.origin&&this.unit&&this.size){var y=o.splice(t).join(" ");y=y.split(/[\s\r]+/),this.data=new Float32Array(y)}else console.log("Error parsing dx format")},$3Dmol.VolumeData.prototype.cube=function(e){var t=e.split(/\r?\n/);if(!(t.length<6)){var r=$3Dmol.Parsers.cube(e).modelData[0].cryst,o=t[2].replace(/^\s+/,"").replace(/\s+/g," ").split(" "),i=parseFloat(o[0]),n=Math.abs(i);this.origin=r.origin,this.size=r.size,this.unit=r.unit,this.matrix=r.matrix4;var a=6;i<0&&a++;var s=t.splice(n+a).join(" ");s=(s=s.replace(/^\s+/,"")).split(/[\s\r]+/),this.data=new Float32Array(s)}},$3Dmol.VolumeData.prototype.ccp4=function(e){var t={};e=new Int8Array(e);var r=new Int32Array(e.buffer,0,56),o=new Float32Array(e.buffer,0,56),i=new DataView(e.buffer);if(t.MAP=String.fromCharCode(i.getUint8(208),i.getUint8(209),i.getUint8(210),i.getUint8(211)),t.MACHST=[i.getUint8(212),i.getUint8(213)],17===t.MACHST[0]&&17===t.MACHST[1])for(var n=e.byteLength,a=0;a<n;a+=4)i.setFloat32(a,i.getFloat32(a),!0);t.NX=r[0],t.NY=r[1],t.NZ=r[2],t.MODE=r[3],t.NXSTART=r[4],t.NYSTART=r[5],t.NZSTART=r[6],t.MX=r[7],t.MY=r[8],t.MZ=r[9],t.xlen=o[10],t.ylen=o[11],t.zlen=o[12],t.alpha=o[13],t.beta=o[14],t.gamma=o[15],t.MAPC=r[16],t.MAPR=r[17],t.MAPS=r[18],t.DMIN=o[19],t.DMAX=o[20],t.DMEAN=o[21],t.ISPG=r[22],t.NSYMBT=r[23],t.LSKFLG=r[24],t.originX=o[49],t.originY=o[50],t.originZ=o[51],t.ARMS=o[54];var s=t,l=[s.xlen,0,0],c=[s.ylen*Math.cos(Math.PI/180*s.gamma),s.ylen*Math.sin(Math.PI/180*s.gamma),0],u=[s.zlen*Math.cos(Math.PI/180*s.beta),s.zlen*(Math.cos(Math.PI/180*s.alpha)-Math.cos(Math.PI/180*s.gamma)*Math.cos(Math.PI/180*s.beta))/Math.sin(Math.PI/180*s.gamma),0];u[2]=Math.sqrt(s.zlen*s.zlen*Math.sin(Math.PI/180*s.beta)*Math.sin(Math.PI/180*s.beta)-u[1]*u[1]);var h=[0,l,c,u],f=[0,s.MX,s.MY,s.MZ],d=[0,s.MAPC,s.MAPR,s.MAPS];this.matrix=new $3Dmol.Matrix4,this.matrix.set(h[d[1]][0]/f[d[1]],h[d[2]][0]/f[d[2]],h[d[3]][0]/f[d[3]],0,h[d[1]][1]/f[d[1]],h[d[2]][1]/f[d[2]],h[d[3]][1]/f[d[3]],0,h[d[1]][2]/f[d[1]],h[d[2]][2]/f[d[2]],h[d[3]][2]/f[d[3]],0,0,0,0,1),this.matrix=this.matrix.multiplyMatrices(this.matrix,(new $3Dmol.Matrix4).makeTranslation(s.NXSTART+s.originX,s.NYSTART+s.originY,s.NZSTART+s.originZ)),this.origin=new $3Dmol.Vector3(0,0,0),this.unit=new $3Dmol.Vector3(1,1,1),this.size={x:t.NX,y:t.NY,z:t.NZ},this.dimensionorder=[t.MAPC,t.MAPR,t.MAPS];var p=new Float32Array(e.buffer,1024+t.NSYMBT),m=t.NX,v=t.NY,g=t.NZ;this.data=new Float32Array(m*v*g);for(let e=0;e<m;e++)for(let t=0;t<v;t++)for(let r=0;r<g;r++)this.data[(e*v+t)*g+r]=p[(r*v+t)*m+e]},$3Dmol.VolumeData.prototype.ccp4.isbinary=!0,$3Dmol.GLVolumetricRender=function(){function e(e,t){function r(e,t,r){return e+(t-e)*r}var o=[],i=(e.length-1)/(t-1);o[0]=e[0];for(var n=1;n<t-1;n++){var a=n*i,s=Math.floor(a).toFixed(),l=Math.ceil(a).toFixed(),c=a-s;o[n]=r(e[s],e[l],c)}return o[t-1]=e[e.length-1],o}function t(t,r){r=r||{};var o=Object.assign([],r.transferfn),i=null,n=null,a=r.subsamples||5;var s=[];o.forEach((function(e){e.value=parseFloat(e.value)})),o.sort((function(e,t){return e.value-t.value}));let l=o[0].value;0==o.length&&o.push(o[0]);let c=o[o.length-1].value;var u,h,f,d,p,m,v,g,y,b;for(let t=0;t<o.length-1;t++)if(f=$3Dmol.CC.color(o[t].color),d=$3Dmol.CC.color(o[t+1].color),y=o[t].opacity,b=o[t+1].opacity,(u=Math.floor(256*(o[t].value-l)/(c-l)))!=(h=Math.floor(256*(o[t+1].value-l)/(c-l)))){p=e([255*f.r,255*d.r],h-u),m=e([255*f.g,255*d.g],h-u),v=e([255*f.b,255*d.b],h-u),g=e([255*y,255*b],h-u);for(let e=0;e<p.length;e++)s.push(p[e]),s.push(m[e]),s.push(v[e]),s.push(g[e])}s=new Uint8ClampedArray(s);var x=(new $3Dmol.Matrix4).identity(),w=t.unit.x*t.size.x,D=t.unit.y*t.size.y,C=t.unit.z*t.size.z;x.makeTranslation(-t.origin.x/w,-t.origin.y/D,-t.origin.z/C),x.scale({x:1/w,y:1/D,z:1/C});var A=Math.min(Math.min(t.unit.x,t.unit.y),t.unit.z),S=[[t.origin.x,t.origin.y,t.origin.z],[t.origin.x+w,t.origin.y+D,t.origin.z+C]],$=Math.sqrt(w*w+D*D+C*C),M=new $3Dmol.GLShape;t.matrix?console.log("ERROR: Non-orthonombic boxes (or file formats that specify transformation matrices) are not supported with volumetric rendering yet."):M.addBox({corner:t.origin,dimensions:{w:w,h:D,d:C}});var _=M.finalize();this.boundingSphere=new $3Dmol.Sphere,this.boundingSphere.center={x:t.origin.x+w/2,y:t.origin.y+D/2,z:t.origin.z+C/2},this.boundingSphere.radius=Math.sqrt(w*w+D*D+C*C)/2,void 0!==r.coords&&r.seldist,this.globj=function(e){if(n&&(e.remove(n),n=null),!this.hidden){i=new $3Dmol.Object3D;var r,o=new $3Dmol.Texture(t,!0),u=new $3Dmol.Texture(s,!1);o.needsUpdate=!0,u.needsUpdate=!0,u.flipY=!1,r=new $3Dmol.VolumetricMaterial({transferfn:u,transfermin:l,transfermax:c,map:o,extent:S,maxdepth:$,texmatrix:x,unit:A,subsamples:a});var h=new $3Dmol.Mesh(_,r);i.add(h),n=i.clone(),e.add(n)}},this.removegl=function(e){n&&(void 0!==n.geometry&&n.geometry.dispose(),void 0!==n.material&&n.material.dispose(),e.remove(n),n=null),i=null}}return Object.defineProperty(t.prototype,"position",{get:function(){return this.boundingSphere.center}}),Object.defineProperty(t.prototype,"x",{get:function(){return this.boundingSphere.center.x}}),Object.defineProperty(t.prototype,"y",{get:function(){return this.boundingSphere.center.y}}),Object.defineProperty(t.prototype,"z",{get:function(){return this.boundingSphere.center.z}}),t}(),$3Dmol.workerString=function(){self.onmessage=function(e){var t=e.data,r=t.type;if(r<0)self.atomData=t.atoms,self.volume=t.volume,self.ps=new ProteinSurface;else{var o=self.ps;o.initparm(t.expandedExtent,1!=r,self.volume),o.fillvoxels(self.atomData,t.extendedAtoms),o.buildboundary(),4!==r&&2!==r||(o.fastdistancemap(),o.boundingatom(!1),o.fillvoxelswaals(self.atomData,t.extendedAtoms)),o.marchingcube(r);var i=o.getFacesAndVertices(t.atomsToShow);self.postMessage(i)}}}.toString().replace(/(^.*?\{|\}$)/g,""),$3Dmol.workerString+="; var ProteinSurface="+$3Dmol.ProteinSurface.toString().replace(/[a-zA-Z_$]{1}[0-9a-zA-Z_$]*.MarchingCube./g,"MarchingCube."),$3Dmol.workerString+=",MarchingCube=("+$3Dmol.MarchingCubeInitializer.toString()+")();",$3Dmol.SurfaceWorker=window.URL?window.URL.createObjectURL(new Blob([$3Dmol.workerString],{type:"text/javascript"})):{postMessage:function(){}},$3Dmol.workerString=$3Dmol.workerString,$3Dmol.SurfaceWorker=$3Dmol.SurfaceWorker;
\ No newline at end of file
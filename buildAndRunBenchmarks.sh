@@ -0,0 +1,5 @@
+ant compile package
+cd benchmark
+ant buildall
+ant run
+cd ..
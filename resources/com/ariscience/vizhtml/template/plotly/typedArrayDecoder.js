@@ -0,0 +1,10 @@
+
+// decodes base64 little endian typed array data written by NumericData (see VizHTMLEnums.DataEncoding)
+function decodeTypedArray(type, data) {
+  var binary = atob(data);
+  var bytes = new Uint8Array(binary.length);
+  for (var i = 0; i < binary.length; i++) {
+    bytes[i] = binary.charCodeAt(i);
+  }
+  return type === 'f32' ? new Float32Array(bytes.buffer) : new Float64Array(bytes.buffer);
+}
\ No newline at end of file
@@ -0,0 +1,658 @@
+package com.ariscience.vizhtml;
+
+import com.ariscience.vizhtml.error.InconsistentDataException;
+import com.ariscience.vizhtml.error.NullLabelException;
+import com.ariscience.vizhtml.template.DoubleFormatter;
+import com.ariscience.vizhtml.template.JSWriter;
+import com.ariscience.vizhtml.template.Template;
+import com.ariscience.vizhtml.template.TemplateRegistry;
+import com.ariscience.vizhtml.template.TokenWriter;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * <pre>
+ * Common HTML generation for all chart providers (gchart, plotly and d3)
+ *
+ * A chart checks its data, supplies a writer for each template token and the template is rendered straight
+ * into the output. Data tokens are serialized while the page is written, so writing to an Appendable or
+ * OutputStream needs memory proportional to the output buffer rather than the page size.
+ *
+ * In compressed mode (see {@link #setCompressed(boolean)}) the chart page is deflated and base64 encoded into
+ * template/compressedTemplate.html, which inflates it in the browser with DecompressionStream and writes it into
+ * the document. This works for every chart template as the page is compressed as a whole.
+ *
+ * Registered {@link GenerationListener}s receive the {@link GenerationStats} (phase timings, sizes and allocated
+ * bytes) of every generation. Without listeners nothing is measured.
+ * </pre>
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+public abstract class ChartBase {
+
+    /**
+     * buffer size used when writing to an OutputStream
+     */
+    private static final int S_STREAM_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * default estimate of the serialized data length in chars
+     */
+    protected static final int S_DEFAULT_DATA_LENGTH = 1024;
+
+    /**
+     * rough number of chars per serialized value (digits, quotes and separator) used for estimates
+     */
+    protected static final int S_CHARS_PER_VALUE = 12;
+
+    /**
+     * bootstrap page of compressed mode (inflates and writes the chart page)
+     */
+    public static final String S_COMPRESSED_TEMPLATE = "com/ariscience/vizhtml/template/compressedTemplate.html";
+
+    /**
+     * rough compression ratio of chart pages used to presize the buffer in compressed mode
+     */
+    private static final int S_COMPRESSION_RATIO = 4;
+
+    /**
+     * listeners receiving the stats of every generation (nothing is measured while empty)
+     */
+    private static final List<GenerationListener> s_listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * max significant digits of the numbers in the chart data (0 for shortest round trip)
+     */
+    private int m_significantDigits;
+
+    /**
+     * true to generate a self decompressing page
+     */
+    private boolean m_compressed;
+
+    /**
+     * This function is used before generating chart string to check null and
+     * inconsistent data
+     *
+     * @throws NullLabelException        Exception for null labels
+     * @throws InconsistentDataException Exception for inconsistent data
+     */
+    protected abstract void checkData() throws NullLabelException, InconsistentDataException;
+
+    /**
+     * Gets the template registered for this chart class (see {@link TemplateRegistry})
+     *
+     * @return the template for this chart
+     */
+    protected Template getTemplate() {
+        return TemplateRegistry.getTemplate(getClass());
+    }
+
+    /**
+     * Map of template tokens (without the '$' delimiters) to writers of the corresponding values.
+     * Called after {@link #checkData()} succeeded.
+     *
+     * @return token name to value writer map
+     */
+    protected abstract Map<String, TokenWriter> getTokenWriters();
+
+    /**
+     * Number of data points of the chart, reported in {@link GenerationStats}.
+     * Called after {@link #checkData()} succeeded and only if a listener is registered.
+     *
+     * @return number of data points (values of all series), -1 if unknown
+     */
+    protected long getPointCount() {
+        return -1;
+    }
+
+    /**
+     * @param data chart data (rows may be null)
+     * @return number of values of all rows
+     */
+    protected static long countValues(final Object[][] data) {
+        long count = 0;
+        for (Object[] row : data) {
+            count += row == null ? 0 : row.length;
+        }
+        return count;
+    }
+
+    /**
+     * Estimate of the length (in chars) of the serialized data tokens. Used to presize the buffer of
+     * {@link #generate()} so large charts are not copied while the buffer grows.
+     * Called after {@link #checkData()} succeeded.
+     *
+     * @return estimated data length in chars
+     */
+    protected int estimateDataLength() {
+        return S_DEFAULT_DATA_LENGTH;
+    }
+
+    /**
+     * Sets the max number of significant digits of the numbers in the chart data e.g. with 4 digits 3.14159 is
+     * written as 3.142. Rounding makes the page smaller for display only charts.
+     *
+     * @param significantDigits 1 ... 17, or 0 for the shortest decimal that reads back as the same value (default)
+     */
+    public void setSignificantDigits(final int significantDigits) {
+        if (significantDigits < 0 || significantDigits > DoubleFormatter.S_MAX_DIGITS) {
+            throw new IllegalArgumentException("significant digits must be between 0 and " + DoubleFormatter.S_MAX_DIGITS);
+        }
+        m_significantDigits = significantDigits;
+    }
+
+    /**
+     * @return max number of significant digits of the numbers in the chart data (0 for shortest round trip)
+     */
+    public int getSignificantDigits() {
+        return m_significantDigits;
+    }
+
+    /**
+     * Sets compressed mode: the chart page is deflate compressed and embedded as base64 in a small page that
+     * inflates it in the browser (DecompressionStream, supported by current browsers) before the chart is drawn.
+     * Repetitive labels and info strings typically compress 10x or more, which matters when pages are archived.
+     *
+     * @param compressed true to generate a self decompressing page, false for the plain chart page (default)
+     */
+    public void setCompressed(final boolean compressed) {
+        m_compressed = compressed;
+    }
+
+    /**
+     * @return true if a self decompressing page is generated
+     */
+    public boolean isCompressed() {
+        return m_compressed;
+    }
+
+    /**
+     * Registers a listener that receives the stats of every chart generation (of all charts)
+     *
+     * @param listener the listener
+     */
+    public static void addGenerationListener(final GenerationListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("listener cannot be null");
+        }
+        s_listeners.add(listener);
+    }
+
+    /**
+     * @param listener a listener registered with {@link #addGenerationListener(GenerationListener)}
+     */
+    public static void removeGenerationListener(final GenerationListener listener) {
+        s_listeners.remove(listener);
+    }
+
+    /**
+     * Generates the chart html string
+     *
+     * @return chart html string
+     * @throws NullLabelException        if label not specified
+     * @throws InconsistentDataException if data provided is inconsistent for chart type
+     */
+    public String generate() throws NullLabelException, InconsistentDataException {
+        final Recorder recorder = s_listeners.isEmpty() ? null : new Recorder();
+        checkData();
+        if (recorder != null) {
+            recorder.checked();
+        }
+
+        final Template template = getTemplate();
+        long capacity = (long) template.getLiteralLength() + estimateDataLength();
+        if (m_compressed) {
+            capacity = capacity / S_COMPRESSION_RATIO + TemplateRegistry.getTemplate(S_COMPRESSED_TEMPLATE).getLiteralLength();
+        }
+        final JSWriter out = new JSWriter((int) Math.min(capacity, Integer.MAX_VALUE - 8));
+        try {
+            render(out, recorder);
+        } catch (IOException e) {
+            //in memory writer does not throw IOException
+            throw new RuntimeException("Could not generate due to IOE:" + e.getMessage());
+        }
+        if (recorder == null) {
+            return out.toString();
+        }
+        final long start = System.nanoTime();
+        final String html = out.toString();
+        recorder.m_outputNanos += System.nanoTime() - start;
+        recorder.m_outputSize = html.length();
+        report(recorder);
+        return html;
+    }
+
+    /**
+     * Generates the chart html directly into the specified output (e.g. a Writer or StringBuilder).
+     * Data is serialized while it is written, so the full page is never held in memory.
+     *
+     * @param out where to write the chart html
+     * @throws NullLabelException        if label not specified
+     * @throws InconsistentDataException if data provided is inconsistent for chart type
+     * @throws IOException               on IO error from the output
+     */
+    public void generate(final Appendable out) throws NullLabelException, InconsistentDataException, IOException {
+        final Recorder recorder = s_listeners.isEmpty() ? null : new Recorder();
+        checkData();
+        if (recorder != null) {
+            recorder.checked();
+        }
+        if (out instanceof JSWriter) {
+            if (recorder != null) {
+                recorder.m_outputSize = -1;
+            }
+            render((JSWriter) out, recorder);
+        } else {
+            final JSWriter writer = new JSWriter(recorder == null ? out : new TimedWriter(out, recorder));
+            render(writer, recorder);
+            writer.flush();
+        }
+        if (recorder != null) {
+            report(recorder);
+        }
+    }
+
+    /**
+     * Generates the chart html as UTF-8 directly into the specified stream.
+     * The stream is flushed but NOT closed.
+     *
+     * @param out where to write the chart html
+     * @throws NullLabelException        if label not specified
+     * @throws InconsistentDataException if data provided is inconsistent for chart type
+     * @throws IOException               on IO error from the output
+     */
+    public void generate(final OutputStream out) throws NullLabelException, InconsistentDataException, IOException {
+        final Recorder recorder = s_listeners.isEmpty() ? null : new Recorder();
+        checkData();
+        if (recorder != null) {
+            recorder.checked();
+        }
+        final OutputStream stream = recorder == null ? out : new TimedOutputStream(out, recorder);
+        final JSWriter writer = new JSWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), S_STREAM_BUFFER_SIZE);
+        render(writer, recorder);
+        writer.flush();
+        if (recorder != null) {
+            report(recorder);
+        }
+    }
+
+    /**
+     * Generates the chart html as UTF-8 directly into the specified stream (e.g. System.out).
+     * Only exists as PrintStream is both an OutputStream and an Appendable.
+     *
+     * @param out where to write the chart html
+     * @throws NullLabelException        if label not specified
+     * @throws InconsistentDataException if data provided is inconsistent for chart type
+     * @throws IOException               on IO error from the output
+     */
+    public void generate(final PrintStream out) throws NullLabelException, InconsistentDataException, IOException {
+        generate((OutputStream) out);
+    }
+
+    /**
+     * Renders the chart page (or the self decompressing page in compressed mode) with this chart's
+     * significant digits. Called after {@link #checkData()} succeeded.
+     *
+     * @param out where to write
+     * @param recorder stats of this generation, null if not recorded
+     * @throws IOException on IO error from the output
+     */
+    private void render(final JSWriter out, final Recorder recorder) throws IOException {
+        if (m_compressed) {
+            final Map<String, TokenWriter> replaceMap = Collections.singletonMap("COMPRESSED_HTML", o -> writeCompressed(o, recorder));
+            TemplateRegistry.getTemplate(S_COMPRESSED_TEMPLATE).render(replaceMap, out);
+            return;
+        }
+        final int significantDigits = out.getSignificantDigits();
+        out.setSignificantDigits(m_significantDigits);
+        try {
+            getTemplate().render(getTokenWriters(recorder), out);
+        } finally {
+            out.setSignificantDigits(significantDigits);
+        }
+    }
+
+    /**
+     * Writes the chart page as base64 of its deflate (zlib) compressed UTF-8 bytes.
+     * The page is compressed and encoded while it is rendered, so it is never held in memory.
+     *
+     * @param out where to write
+     * @param recorder stats of this generation, null if not recorded
+     * @throws IOException on IO error from the output
+     */
+    private void writeCompressed(final JSWriter out, final Recorder recorder) throws IOException {
+        final Deflater deflater = new Deflater();
+        try {
+            final Base64Stream base64 = new Base64Stream(out);
+            final DeflaterOutputStream deflate = new DeflaterOutputStream(base64, deflater, S_STREAM_BUFFER_SIZE);
+            final JSWriter page = new JSWriter(new OutputStreamWriter(deflate, StandardCharsets.UTF_8), S_STREAM_BUFFER_SIZE);
+            page.setSignificantDigits(m_significantDigits);
+            getTemplate().render(getTokenWriters(recorder), page);
+            page.flush();
+            deflate.finish();
+            base64.close();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Token writers of the chart, timed if the generation is recorded
+     *
+     * @param recorder stats of this generation, null if not recorded
+     * @return token name to value writer map
+     */
+    private Map<String, TokenWriter> getTokenWriters(final Recorder recorder) {
+        final Map<String, TokenWriter> tokenWriters = getTokenWriters();
+        if (recorder == null) {
+            return tokenWriters;
+        }
+        final Map<String, TokenWriter> timed = new HashMap<>(tokenWriters.size() * 2);
+        for (Map.Entry<String, TokenWriter> entry : tokenWriters.entrySet()) {
+            final TokenWriter writer = entry.getValue();
+            timed.put(entry.getKey(), writer == null ? null : out -> {
+                // output written while the token is serialized (a buffer flush) is not serialization time
+                final long outputNanos = recorder.m_outputNanos;
+                final long start = System.nanoTime();
+                writer.write(out);
+                recorder.m_serializationNanos += System.nanoTime() - start - (recorder.m_outputNanos - outputNanos);
+            });
+        }
+        return timed;
+    }
+
+    /**
+     * Sends the stats of a finished generation to the listeners
+     *
+     * @param recorder stats of this generation
+     */
+    private void report(final Recorder recorder) {
+        final GenerationStats stats = recorder.finish(getClass(), getPointCount());
+        for (GenerationListener listener : s_listeners) {
+            listener.generated(stats);
+        }
+    }
+
+    /**
+     * Measurements of one generation, only created while listeners are registered
+     */
+    private static final class Recorder {
+
+        /**
+         * thread MXBean supporting allocated bytes per thread, null if the JVM does not support it
+         */
+        private static final com.sun.management.ThreadMXBean S_THREAD_BEAN = getAllocationBean();
+
+        /**
+         * start of the generation (ns)
+         */
+        private final long m_start;
+
+        /**
+         * bytes allocated by the thread before the generation, -1 if not supported
+         */
+        private final long m_startAllocated;
+
+        /**
+         * end of checkData (ns)
+         */
+        private long m_checked;
+
+        /**
+         * time spent serializing data tokens (ns)
+         */
+        private long m_serializationNanos;
+
+        /**
+         * time spent writing to the destination (ns)
+         */
+        private long m_outputNanos;
+
+        /**
+         * chars or bytes written to the destination, -1 if unknown
+         */
+        private long m_outputSize;
+
+        /**
+         * Starts recording
+         */
+        private Recorder() {
+            m_startAllocated = allocatedBytes();
+            m_start = System.nanoTime();
+        }
+
+        /**
+         * Marks the end of checkData
+         */
+        private void checked() {
+            m_checked = System.nanoTime();
+        }
+
+        /**
+         * @param chartClass class of the generated chart
+         * @param points number of data points
+         * @return the stats of the generation
+         */
+        private GenerationStats finish(final Class<? extends ChartBase> chartClass, final long points) {
+            final long end = System.nanoTime();
+            final long allocated = m_startAllocated < 0 ? -1 : allocatedBytes() - m_startAllocated;
+            final long renderNanos = end - m_checked - m_serializationNanos - m_outputNanos;
+            return new GenerationStats(chartClass, m_checked - m_start, m_serializationNanos, renderNanos, m_outputNanos,
+                    end - m_start, points, m_outputSize, allocated);
+        }
+
+        /**
+         * @return bytes allocated by the current thread so far, -1 if not supported
+         */
+        private static long allocatedBytes() {
+            return S_THREAD_BEAN == null ? -1 : S_THREAD_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+
+        /**
+         * @return the thread MXBean if it supports allocated bytes per thread, otherwise null
+         */
+        private static com.sun.management.ThreadMXBean getAllocationBean() {
+            final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean
+                    && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+                return (com.sun.management.ThreadMXBean) bean;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Writer that times and counts what is written to the destination Appendable
+     */
+    private static final class TimedWriter extends Writer {
+
+        /**
+         * the destination
+         */
+        private final Appendable m_out;
+
+        /**
+         * where time and size are recorded
+         */
+        private final Recorder m_recorder;
+
+        /**
+         * @param out the destination
+         * @param recorder where time and size are recorded
+         */
+        private TimedWriter(final Appendable out, final Recorder recorder) {
+            m_out = out;
+            m_recorder = recorder;
+        }
+
+        @Override
+        public void write(final char[] chars, final int offset, final int length) throws IOException {
+            final long start = System.nanoTime();
+            if (m_out instanceof Writer) {
+                ((Writer) m_out).write(chars, offset, length);
+            } else {
+                m_out.append(CharBuffer.wrap(chars, offset, length));
+            }
+            m_recorder.m_outputNanos += System.nanoTime() - start;
+            m_recorder.m_outputSize += length;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (m_out instanceof Flushable) {
+                final long start = System.nanoTime();
+                ((Flushable) m_out).flush();
+                m_recorder.m_outputNanos += System.nanoTime() - start;
+            }
+        }
+
+        /**
+         * Does not close the destination
+         */
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * Stream that times and counts what is written to the destination stream
+     */
+    private static final class TimedOutputStream extends OutputStream {
+
+        /**
+         * the destination
+         */
+        private final OutputStream m_out;
+
+        /**
+         * where time and size are recorded
+         */
+        private final Recorder m_recorder;
+
+        /**
+         * @param out the destination
+         * @param recorder where time and size are recorded
+         */
+        private TimedOutputStream(final OutputStream out, final Recorder recorder) {
+            m_out = out;
+            m_recorder = recorder;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            final long start = System.nanoTime();
+            m_out.write(b);
+            m_recorder.m_outputNanos += System.nanoTime() - start;
+            m_recorder.m_outputSize++;
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+            final long start = System.nanoTime();
+            m_out.write(bytes, offset, length);
+            m_recorder.m_outputNanos += System.nanoTime() - start;
+            m_recorder.m_outputSize += length;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            final long start = System.nanoTime();
+            m_out.flush();
+            m_recorder.m_outputNanos += System.nanoTime() - start;
+        }
+
+        /**
+         * Does not close the destination
+         */
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * Stream that base64 encodes the bytes written to it into a JSWriter.
+     * Bytes are encoded in blocks of a multiple of 3 so padding only appears at the end (on close).
+     */
+    private static final class Base64Stream extends OutputStream {
+
+        /**
+         * where the base64 chars are written
+         */
+        private final JSWriter m_out;
+
+        /**
+         * bytes not yet encoded
+         */
+        private final byte[] m_buffer = new byte[3 * 4096];
+
+        /**
+         * number of bytes in m_buffer
+         */
+        private int m_length;
+
+        /**
+         * @param out where the base64 chars are written
+         */
+        private Base64Stream(final JSWriter out) {
+            m_out = out;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            if (m_length == m_buffer.length) {
+                encodeBuffer();
+            }
+            m_buffer[m_length++] = (byte) b;
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+            int i = offset;
+            final int end = offset + length;
+            while (i < end) {
+                if (m_length == m_buffer.length) {
+                    encodeBuffer();
+                }
+                final int count = Math.min(end - i, m_buffer.length - m_length);
+                System.arraycopy(bytes, i, m_buffer, m_length, count);
+                m_length += count;
+                i += count;
+            }
+        }
+
+        /**
+         * Encodes the remaining bytes (with padding). Does not close the JSWriter.
+         *
+         * @throws IOException on IO error from the output
+         */
+        @Override
+        public void close() throws IOException {
+            encodeBuffer();
+        }
+
+        /**
+         * @throws IOException on IO error from the output
+         */
+        private void encodeBuffer() throws IOException {
+            m_out.writeBase64(m_buffer, 0, m_length);
+            m_length = 0;
+        }
+    }
+}
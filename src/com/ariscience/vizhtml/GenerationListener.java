@@ -0,0 +1,23 @@
+package com.ariscience.vizhtml;
+
+/**
+ * <pre>
+ * Receives the {@link GenerationStats} of every successful chart generation
+ *
+ * Registered with {@link ChartBase#addGenerationListener(GenerationListener)}. Called on the generating thread
+ * right after the chart was written, so implementations should be quick (e.g. record to a metrics registry or
+ * log slow charts) and thread safe if charts are generated concurrently.
+ * </pre>
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+@FunctionalInterface
+public interface GenerationListener {
+
+    /**
+     * Called after a chart was generated
+     *
+     * @param stats timings and sizes of the generation
+     */
+    void generated(GenerationStats stats);
+}
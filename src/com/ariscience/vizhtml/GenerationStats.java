@@ -0,0 +1,160 @@
+package com.ariscience.vizhtml;
+
+/**
+ * <pre>
+ * Timings and sizes of one chart generation, reported to {@link GenerationListener}s
+ *
+ * Rendering is streamed, so the phases interleave: data serialization is the time spent in the data token
+ * writers, template rendering the rest of the rendering (literal text and token map) and output writing the
+ * time spent writing to the destination (the Appendable or OutputStream passed to generate, or creating the
+ * String of generate()). Output written by a JSWriter passed to generate is not timed separately.
+ * In compressed mode the compression is part of the serialization and rendering times.
+ * </pre>
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+public final class GenerationStats {
+
+    /**
+     * class of the generated chart
+     */
+    private final Class<? extends ChartBase> m_chartClass;
+
+    /**
+     * time spent in checkData (ns)
+     */
+    private final long m_checkDataNanos;
+
+    /**
+     * time spent serializing data tokens (ns)
+     */
+    private final long m_serializationNanos;
+
+    /**
+     * time spent rendering the template without data serialization and output writing (ns)
+     */
+    private final long m_renderNanos;
+
+    /**
+     * time spent writing to the destination (ns)
+     */
+    private final long m_outputNanos;
+
+    /**
+     * total generation time (ns)
+     */
+    private final long m_totalNanos;
+
+    /**
+     * number of data points of the chart
+     */
+    private final long m_points;
+
+    /**
+     * size of the output, -1 if unknown
+     */
+    private final long m_outputSize;
+
+    /**
+     * bytes allocated by the generating thread, -1 if not supported by the JVM
+     */
+    private final long m_allocatedBytes;
+
+    /**
+     * Internal constructor (created by ChartBase)
+     *
+     * @param chartClass class of the generated chart
+     * @param checkDataNanos time spent in checkData (ns)
+     * @param serializationNanos time spent serializing data tokens (ns)
+     * @param renderNanos time spent rendering the template without data serialization and output writing (ns)
+     * @param outputNanos time spent writing to the destination (ns)
+     * @param totalNanos total generation time (ns)
+     * @param points number of data points of the chart
+     * @param outputSize size of the output, -1 if unknown
+     * @param allocatedBytes bytes allocated by the generating thread, -1 if not supported by the JVM
+     */
+    GenerationStats(final Class<? extends ChartBase> chartClass, final long checkDataNanos, final long serializationNanos,
+                    final long renderNanos, final long outputNanos, final long totalNanos, final long points,
+                    final long outputSize, final long allocatedBytes) {
+        m_chartClass = chartClass;
+        m_checkDataNanos = checkDataNanos;
+        m_serializationNanos = serializationNanos;
+        m_renderNanos = renderNanos;
+        m_outputNanos = outputNanos;
+        m_totalNanos = totalNanos;
+        m_points = points;
+        m_outputSize = outputSize;
+        m_allocatedBytes = allocatedBytes;
+    }
+
+    /**
+     * @return class of the generated chart
+     */
+    public Class<? extends ChartBase> getChartClass() {
+        return m_chartClass;
+    }
+
+    /**
+     * @return time spent in checkData (ns)
+     */
+    public long getCheckDataNanos() {
+        return m_checkDataNanos;
+    }
+
+    /**
+     * @return time spent serializing data tokens (ns)
+     */
+    public long getSerializationNanos() {
+        return m_serializationNanos;
+    }
+
+    /**
+     * @return time spent rendering the template without data serialization and output writing (ns)
+     */
+    public long getRenderNanos() {
+        return m_renderNanos;
+    }
+
+    /**
+     * @return time spent writing to the destination (ns)
+     */
+    public long getOutputNanos() {
+        return m_outputNanos;
+    }
+
+    /**
+     * @return total generation time (ns)
+     */
+    public long getTotalNanos() {
+        return m_totalNanos;
+    }
+
+    /**
+     * @return number of data points of the chart (see ChartBase.getPointCount()), -1 if unknown
+     */
+    public long getPoints() {
+        return m_points;
+    }
+
+    /**
+     * @return size of the output: bytes when generating to an OutputStream, chars otherwise, -1 if unknown
+     */
+    public long getOutputSize() {
+        return m_outputSize;
+    }
+
+    /**
+     * @return bytes allocated by the generating thread during generation, -1 if not supported by the JVM
+     */
+    public long getAllocatedBytes() {
+        return m_allocatedBytes;
+    }
+
+    @Override
+    public String toString() {
+        return m_chartClass.getSimpleName() + " points:" + m_points + " output:" + m_outputSize
+                + " allocated:" + m_allocatedBytes + " total:" + m_totalNanos / 1000 + "us checkData:" + m_checkDataNanos / 1000
+                + "us serialization:" + m_serializationNanos / 1000 + "us render:" + m_renderNanos / 1000
+                + "us output:" + m_outputNanos / 1000 + "us";
+    }
+}
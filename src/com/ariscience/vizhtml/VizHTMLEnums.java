@@ -55,6 +55,323 @@ public class VizHTMLEnums {
         }
     }
 
+    /**
+     * <pre>
+     * How numeric data columns are embedded in the generated javascript
+     *
+     * TEXT writes decimal literals e.g. [1.5,2.25]. FLOAT32 and FLOAT64 write the values as base64 encoded little
+     * endian typed arrays which a small decoder in the template turns into Float32Array / Float64Array, i.e. about
+     * 5.3 (FLOAT32) or 10.7 (FLOAT64) bytes per value and no number parsing in the browser.
+     * FLOAT32 keeps about 7 significant digits which is plenty for plotting.
+     * </pre>
+     */
+    public enum DataEncoding{
+
+        TEXT(100,"Decimal text"),
+        FLOAT32(200,"Base64 little endian Float32Array"),
+        FLOAT64(300,"Base64 little endian Float64Array");
+
+        /**
+         * the value of the enum (may or may not correspond to ordinal value)
+         */
+        private final int m_value;
+
+        /**
+         * the description of the enum
+         */
+        private final String m_description;
+
+        /**
+         * Internal constructor
+         *
+         * @param value a value associate with the enum (not necessarily ordinal value)
+         * @param description description of the enum
+         */
+        private DataEncoding(final int value, final String description)
+        {
+            m_description = description;
+            m_value = value;
+        }
+
+        /**
+         * @return the enum description
+         */
+        public String getDescription() {
+            return m_description;
+        }
+    }
+
+    /**
+     * <pre>
+     * How line chart series are reduced to a point budget before they are written
+     *
+     * NONE writes every point. LTTB (Largest-Triangle-Three-Buckets) keeps one point per bucket, the one forming
+     * the largest triangle with its neighbours, which preserves the visual shape of the line. M4 keeps the first,
+     * last, min and max point of every pixel column, so the drawn line is pixel identical to the full line.
+     * </pre>
+     */
+    public enum LineReduction{
+
+        NONE(100,"No reduction"),
+        LTTB(200,"Largest-Triangle-Three-Buckets downsampling"),
+        M4(300,"First, last, min and max per pixel column");
+
+        /**
+         * the value of the enum (may or may not correspond to ordinal value)
+         */
+        private final int m_value;
+
+        /**
+         * the description of the enum
+         */
+        private final String m_description;
+
+        /**
+         * Internal constructor
+         *
+         * @param value a value associate with the enum (not necessarily ordinal value)
+         * @param description description of the enum
+         */
+        private LineReduction(final int value, final String description)
+        {
+            m_description = description;
+            m_value = value;
+        }
+
+        /**
+         * @return the enum description
+         */
+        public String getDescription() {
+            return m_description;
+        }
+    }
+
+    /**
+     * <pre>
+     * Where and how histogram values are binned
+     *
+     * CLIENT writes every value and lets the browser bin them. The other methods count the values per bin in java
+     * and only write the bin edges and counts: FIXED_WIDTH uses a number of equal width bins, FREEDMAN_DIACONIS
+     * derives the bin width from the interquartile range (2 IQR / cbrt(n)) and EDGES uses the edges set on the chart.
+     * </pre>
+     */
+    public enum HistogramBinning{
+
+        CLIENT(100,"Binned by the browser"),
+        FIXED_WIDTH(200,"Equal width bins"),
+        FREEDMAN_DIACONIS(300,"Freedman-Diaconis bin width"),
+        EDGES(400,"User defined bin edges");
+
+        /**
+         * the value of the enum (may or may not correspond to ordinal value)
+         */
+        private final int m_value;
+
+        /**
+         * the description of the enum
+         */
+        private final String m_description;
+
+        /**
+         * Internal constructor
+         *
+         * @param value a value associate with the enum (not necessarily ordinal value)
+         * @param description description of the enum
+         */
+        private HistogramBinning(final int value, final String description)
+        {
+            m_description = description;
+            m_value = value;
+        }
+
+        /**
+         * @return the enum description
+         */
+        public String getDescription() {
+            return m_description;
+        }
+    }
+
+    /**
+     * <pre>
+     * How blocks of matrix cells are combined when a heatmap is downscaled to its pixel size
+     *
+     * NONE writes every cell. The other methods split the matrix into at most width x height blocks and write one
+     * cell per block with the mean, max, min or sum of its values (null / NaN values are skipped).
+     * </pre>
+     */
+    public enum CellAggregation{
+
+        NONE(100,"No downscaling"),
+        MEAN(200,"Mean of the block"),
+        MAX(300,"Max of the block"),
+        MIN(400,"Min of the block"),
+        SUM(500,"Sum of the block");
+
+        /**
+         * the value of the enum (may or may not correspond to ordinal value)
+         */
+        private final int m_value;
+
+        /**
+         * the description of the enum
+         */
+        private final String m_description;
+
+        /**
+         * Internal constructor
+         *
+         * @param value a value associate with the enum (not necessarily ordinal value)
+         * @param description description of the enum
+         */
+        private CellAggregation(final int value, final String description)
+        {
+            m_description = description;
+            m_value = value;
+        }
+
+        /**
+         * @return the enum description
+         */
+        public String getDescription() {
+            return m_description;
+        }
+    }
+
+    /**
+     * <pre>
+     * How scatter charts with too many points are drawn as a point density grid
+     *
+     * NONE always draws every point. RECTANGULAR counts the points per square cell and HEXAGONAL per hexagonal
+     * cell of a few pixels, and the chart draws the cells colored by their count instead of the points.
+     * </pre>
+     */
+    public enum DensityBinning{
+
+        NONE(100,"Every point is drawn"),
+        RECTANGULAR(200,"Points per square cell"),
+        HEXAGONAL(300,"Points per hexagonal cell");
+
+        /**
+         * the value of the enum (may or may not correspond to ordinal value)
+         */
+        private final int m_value;
+
+        /**
+         * the description of the enum
+         */
+        private final String m_description;
+
+        /**
+         * Internal constructor
+         *
+         * @param value a value associate with the enum (not necessarily ordinal value)
+         * @param description description of the enum
+         */
+        private DensityBinning(final int value, final String description)
+        {
+            m_description = description;
+            m_value = value;
+        }
+
+        /**
+         * @return the enum description
+         */
+        public String getDescription() {
+            return m_description;
+        }
+    }
+
+    /**
+     * <pre>
+     * How the values of the records of a category and series are combined into one bar (see GroupByAggregator)
+     *
+     * COUNT is the number of values, the others combine the values. Null (NaN) values are skipped.
+     * </pre>
+     */
+    public enum GroupAggregation{
+
+        SUM(100,"Sum"),
+        COUNT(200,"Count"),
+        MEAN(300,"Mean"),
+        MIN(400,"Min"),
+        MAX(500,"Max");
+
+        /**
+         * the value of the enum (may or may not correspond to ordinal value)
+         */
+        private final int m_value;
+
+        /**
+         * the description of the enum
+         */
+        private final String m_description;
+
+        /**
+         * Internal constructor
+         *
+         * @param value a value associate with the enum (not necessarily ordinal value)
+         * @param description description of the enum
+         */
+        private GroupAggregation(final int value, final String description)
+        {
+            m_description = description;
+            m_value = value;
+        }
+
+        /**
+         * @return the enum description
+         */
+        public String getDescription() {
+            return m_description;
+        }
+    }
+
+    /**
+     * <pre>
+     * How 3D scatter charts of large point clouds are decimated
+     *
+     * NONE draws every point. The other values snap the points into a 3D grid of voxels and draw one marker per
+     * voxel, sized by the number of points of the voxel: REPRESENTATIVE at the first point of the voxel,
+     * CENTROID at the mean of its points.
+     * </pre>
+     */
+    public enum VoxelReduction{
+
+        NONE(100,"Every point is drawn"),
+        REPRESENTATIVE(200,"First point of each voxel"),
+        CENTROID(300,"Centroid of each voxel");
+
+        /**
+         * the value of the enum (may or may not correspond to ordinal value)
+         */
+        private final int m_value;
+
+        /**
+         * the description of the enum
+         */
+        private final String m_description;
+
+        /**
+         * Internal constructor
+         *
+         * @param value a value associate with the enum (not necessarily ordinal value)
+         * @param description description of the enum
+         */
+        private VoxelReduction(final int value, final String description)
+        {
+            m_description = description;
+            m_value = value;
+        }
+
+        /**
+         * @return the enum description
+         */
+        public String getDescription() {
+            return m_description;
+        }
+    }
+
     /**
      * <pre>
      * Simple encapsulation of tokens
@@ -81,7 +398,10 @@ public class VizHTMLEnums {
         TITLE_Z(1400,"Z Axis Title",""),
         BUBBLE_TEXT(1500,"Bubble Text for Plotly Bubble Chart",""),
         NODES(1600,"Nodes for D3 Graph",""),
-        LINKS(1400,"Links for D3 Graph","");
+        LINKS(1400,"Links for D3 Graph",""),
+        DECODER(1700,"Typed array decoder","Javascript function that decodes base64 typed array data, empty for DataEncoding.TEXT"),
+        COMPRESSED_HTML(1800,"Compressed chart html","Base64 deflate compressed chart page for template/compressedTemplate.html"),
+        CELL_SIZE(1900,"Density cell size (px)","Side of square cells, radius of hexagonal cells of a density grid");
 
         /**
          * the value of the enum (may or may not correspond to ordinal value)
@@ -1,9 +1,9 @@
 package com.ariscience.vizhtml;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 
 /**
@@ -19,8 +19,15 @@ public final class VizHTMLUtils {
     private VizHTMLUtils() {
     }
 
+    /**
+     * buffer size for reading streams
+     */
+    private static final int S_READ_BUFFER_SIZE = 8 * 1024;
+
     /**
      * This function reads template file and returns content as String.
+     * Line terminators (\n, \r\n or \r) are converted to System.lineSeparator() and the last line is
+     * always terminated.
      *
      * @param inputStream the input stream to read (and subsequently close)
      * @return template file string content
@@ -28,19 +35,36 @@ public final class VizHTMLUtils {
      */
     public static String readFullyAndClose(final InputStream inputStream) throws IOException {
 
-        final InputStreamReader isr = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
-        final BufferedReader br = new BufferedReader(isr);
+        final String lineSeparator = System.lineSeparator();
+        final char[] buffer = new char[S_READ_BUFFER_SIZE];
 
-        StringBuilder content = new StringBuilder(512);
+        final StringBuilder content = new StringBuilder(Math.max(inputStream.available(), 512));
 
-        try {
-            String line = null;
-            while ((line = br.readLine()) != null) {
-                content.append(line).append(System.lineSeparator());
+        try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+            char last = '\n';
+            boolean any = false;
+            int read;
+            while ((read = reader.read(buffer)) >= 0) {
+                int start = 0;
+                for (int i = 0; i < read; i++) {
+                    final char c = buffer[i];
+                    if (c == '\n' || c == '\r') {
+                        content.append(buffer, start, i - start);
+                        //\r\n is a single line terminator
+                        if (c == '\r' || last != '\r') {
+                            content.append(lineSeparator);
+                        }
+                        start = i + 1;
+                    }
+                    last = c;
+                }
+                content.append(buffer, start, read - start);
+                any |= read > 0;
+            }
+            if (any && last != '\n' && last != '\r') {
+                content.append(lineSeparator);
             }
-        }finally{
-            br.close();
-            isr.close();
+        } finally {
             inputStream.close();
         }
 
@@ -0,0 +1,180 @@
+package com.ariscience.vizhtml.aggregate;
+
+import com.ariscience.vizhtml.common.LongIntHashMap;
+import com.ariscience.vizhtml.data.NumericData;
+
+import java.util.Arrays;
+
+/**
+ * <pre>
+ * Merges bubbles of a bubble chart whose footprints overlap at the chart size (see {@link MergedBubbles})
+ *
+ * The footprint of a bubble is a circle around its pixel position whose area is proportional to its size, the
+ * largest bubble having maxRadius pixels (bubbles are drawn at least S_MIN_RADIUS pixels). Bubbles are taken
+ * from the largest to the smallest: a bubble overlapping a merged bubble is added to the nearest one, otherwise
+ * it starts a new merged bubble. Merged bubbles are indexed in a grid of 2 * maxRadius pixel cells (a primitive
+ * long keyed hash of the non empty cells), so only the 3 x 3 neighbouring cells are searched and the pass takes
+ * O(n log n) for sorting the bubbles by size and O(n) for merging them.
+ * Bubbles of different groups (e.g. gchart series labels, which set the bubble color) are never merged.
+ * </pre>
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+public final class BubbleMerger {
+
+    /**
+     * default radius of the largest bubble (px), about the size drawn by plotly and gchart
+     */
+    public static final int S_MAX_RADIUS = 30;
+
+    /**
+     * radius of the smallest bubbles (px)
+     */
+    public static final int S_MIN_RADIUS = 2;
+
+    /**
+     * prevent external instantiation
+     */
+    private BubbleMerger() {
+    }
+
+    /**
+     * Merges the overlapping bubbles of a series
+     *
+     * @param x x values
+     * @param y y values
+     * @param z bubble sizes
+     * @param series series of x, y and z to merge
+     * @param groups group of each bubble, bubbles of different groups are not merged (null for one group)
+     * @param width width of the chart area (px)
+     * @param height height of the chart area (px)
+     * @param maxRadius radius of the largest bubble (px)
+     * @return the merged bubbles, the largest first
+     */
+    public static MergedBubbles merge(final NumericData x, final NumericData y, final NumericData z, final int series,
+                                      final int[] groups, final int width, final int height, final double maxRadius) {
+        if (!(maxRadius >= S_MIN_RADIUS)) {
+            throw new IllegalArgumentException("max radius must be at least " + S_MIN_RADIUS);
+        }
+        final int length = Math.min(x.getLength(series), Math.min(y.getLength(series), z.getLength(series)));
+        final double[] range = new double[]{Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+                Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        double zMax = 0;
+        for (int i = 0; i < length; i++) {
+            final double xValue = x.getDouble(series, i);
+            final double yValue = y.getDouble(series, i);
+            if (Double.isFinite(xValue) && Double.isFinite(yValue)) {
+                range[0] = Math.min(range[0], xValue);
+                range[1] = Math.max(range[1], xValue);
+                range[2] = Math.min(range[2], yValue);
+                range[3] = Math.max(range[3], yValue);
+                zMax = Math.max(zMax, sizeOf(z.getDouble(series, i)));
+            }
+        }
+        final double xScale = range[1] > range[0] ? Math.max(width, 1) / (range[1] - range[0]) : 0;
+        final double yScale = range[3] > range[2] ? Math.max(height, 1) / (range[3] - range[2]) : 0;
+        final double cellSize = 2 * maxRadius;
+        final long columns = (long) Math.ceil(Math.max(width, 1) / cellSize) + 1;
+        final long cells = columns * ((long) Math.ceil(Math.max(height, 1) / cellSize) + 1);
+
+        // merged bubbles: pixel position and radius of the anchor, next merged bubble of the same cell
+        final int[] order = sortBySize(z, series, length);
+        final double[] px = new double[length];
+        final double[] py = new double[length];
+        final double[] radius = new double[length];
+        final int[] next = new int[length];
+        final int[] anchors = new int[length];
+        final int[] counts = new int[length];
+        final double[] sums = new double[length];
+        final int[] mergedOf = new int[length];
+        Arrays.fill(mergedOf, -1);
+        final LongIntHashMap cellHeads = new LongIntHashMap(Math.min(length, 1 << 16), -1);
+        int size = 0;
+
+        for (int bubble : order) {
+            final double xValue = x.getDouble(series, bubble);
+            final double yValue = y.getDouble(series, bubble);
+            if (!Double.isFinite(xValue) || !Double.isFinite(yValue)) {
+                continue;
+            }
+            final double bx = (xValue - range[0]) * xScale;
+            final double by = (yValue - range[2]) * yScale;
+            final double zValue = z.getDouble(series, bubble);
+            final double r = zMax > 0 ? Math.max(S_MIN_RADIUS, maxRadius * Math.sqrt(sizeOf(zValue) / zMax)) : S_MIN_RADIUS;
+            final long column = (long) (bx / cellSize);
+            final long row = (long) (by / cellSize);
+            final long groupOffset = groups == null ? 0 : groups[bubble] * cells;
+
+            // nearest merged bubble overlapping this one, in the neighbouring cells
+            int nearest = -1;
+            double nearestDistance = Double.POSITIVE_INFINITY;
+            for (long r2 = Math.max(0, row - 1); r2 <= row + 1; r2++) {
+                for (long c2 = Math.max(0, column - 1); c2 <= Math.min(columns - 1, column + 1); c2++) {
+                    for (int m = cellHeads.get(groupOffset + r2 * columns + c2); m >= 0; m = next[m]) {
+                        final double dx = px[m] - bx;
+                        final double dy = py[m] - by;
+                        final double distance = dx * dx + dy * dy;
+                        final double touching = radius[m] + r;
+                        if (distance < touching * touching && distance < nearestDistance) {
+                            nearest = m;
+                            nearestDistance = distance;
+                        }
+                    }
+                }
+            }
+
+            if (nearest < 0) {
+                nearest = size++;
+                px[nearest] = bx;
+                py[nearest] = by;
+                radius[nearest] = r;
+                anchors[nearest] = bubble;
+                next[nearest] = cellHeads.put(groupOffset + row * columns + column, nearest);
+            }
+            counts[nearest]++;
+            sums[nearest] += Double.isFinite(zValue) ? zValue : 0;
+            mergedOf[bubble] = nearest;
+        }
+
+        final double[] mergedX = new double[size];
+        final double[] mergedY = new double[size];
+        for (int i = 0; i < size; i++) {
+            mergedX[i] = x.getDouble(series, anchors[i]);
+            mergedY[i] = y.getDouble(series, anchors[i]);
+        }
+        return new MergedBubbles(mergedX, mergedY, Arrays.copyOf(sums, size), Arrays.copyOf(counts, size),
+                Arrays.copyOf(anchors, size), mergedOf);
+    }
+
+    /**
+     * @param value bubble size
+     * @return size used for the footprint: the absolute value, 0 for null (NaN) or infinite values
+     */
+    private static double sizeOf(final double value) {
+        return Double.isFinite(value) ? Math.abs(value) : 0;
+    }
+
+    /**
+     * Sorts the bubbles by size, the largest first, as longs (size as sortable float bits and index) so the
+     * sort is a primitive parallel sort
+     *
+     * @param z bubble sizes
+     * @param series series of z
+     * @param length number of bubbles
+     * @return bubble indices, largest bubble first
+     */
+    private static int[] sortBySize(final NumericData z, final int series, final int length) {
+        final long[] keys = new long[length];
+        for (int i = 0; i < length; i++) {
+            // sizes are >= 0, so their float bits sort as ints; negated for descending order
+            final int bits = Float.floatToIntBits((float) sizeOf(z.getDouble(series, i)));
+            keys[i] = ((long) -bits << 32) | i;
+        }
+        Arrays.parallelSort(keys);
+        final int[] order = new int[length];
+        for (int i = 0; i < length; i++) {
+            order[i] = (int) keys[i];
+        }
+        return order;
+    }
+}
@@ -0,0 +1,192 @@
+package com.ariscience.vizhtml.aggregate;
+
+import com.ariscience.vizhtml.VizHTMLEnums.DensityBinning;
+import com.ariscience.vizhtml.data.NumericData;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.IntStream;
+
+/**
+ * <pre>
+ * Counts the points of a scatter plot per cell of a {@link DensityGrid} (see {@link DensityBinning})
+ *
+ * Runs in parallel: a pass for the data range, a fork-join counting pass where every task counts its range of
+ * points into its own int[] grid (merged when the tasks are joined, a few tasks per thread) and, if sparse cells
+ * are drawn as points, a pass collecting the indices of their points. Values are read with NumericData.getDouble,
+ * so primitive data is binned without boxing or per point allocation.
+ * Points with a null (NaN) or infinite value are not counted.
+ * </pre>
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+public final class DensityBinner {
+
+    /**
+     * default cell size (px)
+     */
+    public static final int S_CELL_SIZE = 5;
+
+    /**
+     * min number of points counted by a task (smaller ranges are not split)
+     */
+    private static final int S_MIN_SPLIT = 1 << 15;
+
+    /**
+     * number of tasks per worker thread, so threads finishing early can steal work
+     */
+    private static final int S_TASKS_PER_THREAD = 4;
+
+    /**
+     * prevent external instantiation
+     */
+    private DensityBinner() {
+    }
+
+    /**
+     * Counts the points of a series per cell
+     *
+     * @param binning cell shape (not NONE)
+     * @param x x values
+     * @param y y values
+     * @param series series of x and y to bin
+     * @param width width of the chart area (px)
+     * @param height height of the chart area (px)
+     * @param cellSize cell size (px): side of square cells, radius of hexagonal cells
+     * @param outlierCount points of cells with at most this many points are also returned as outliers (0 for none)
+     * @return the density grid
+     */
+    public static DensityGrid bin(final DensityBinning binning, final NumericData x, final NumericData y, final int series,
+                                  final int width, final int height, final double cellSize, final int outlierCount) {
+        if (binning == null || binning == DensityBinning.NONE) {
+            throw new IllegalArgumentException("Unsupported density binning " + binning);
+        }
+        final int length = Math.min(x.getLength(series), y.getLength(series));
+        final DoubleSummaryStatistics xRange = getRange(x, series, length);
+        final DoubleSummaryStatistics yRange = getRange(y, series, length);
+        final DensityGrid grid = new DensityGrid(binning == DensityBinning.HEXAGONAL, cellSize, width, height,
+                xRange.getMin(), xRange.getMax(), yRange.getMin(), yRange.getMax());
+
+        final int split = Math.max(S_MIN_SPLIT, length / (S_TASKS_PER_THREAD * ForkJoinPool.getCommonPoolParallelism()));
+        final int[] counts = ForkJoinPool.commonPool().invoke(new CountTask(grid, x, y, series, 0, length, split));
+        grid.setCounts(counts);
+
+        if (outlierCount > 0) {
+            grid.setOutliers(IntStream.range(0, length).parallel()
+                    .filter(i -> {
+                        final int cell = grid.cellOf(x.getDouble(series, i), y.getDouble(series, i));
+                        return cell >= 0 && counts[cell] <= outlierCount;
+                    })
+                    .toArray());
+        }
+        return grid;
+    }
+
+    /**
+     * @param data values
+     * @param series series index
+     * @param length number of values
+     * @return min and max of the finite values (parallel)
+     */
+    private static DoubleSummaryStatistics getRange(final NumericData data, final int series, final int length) {
+        final DoubleSummaryStatistics range = IntStream.range(0, length).parallel()
+                .mapToDouble(i -> data.getDouble(series, i))
+                .filter(Double::isFinite)
+                .summaryStatistics();
+        if (range.getCount() == 0) {
+            range.accept(0);
+        }
+        return range;
+    }
+
+    /**
+     * Counts the points of a range, splitting large ranges into subtasks
+     */
+    private static final class CountTask extends RecursiveTask<int[]> {
+
+        /**
+         * serialization version (ForkJoinTask is Serializable)
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * the grid
+         */
+        private final DensityGrid m_grid;
+
+        /**
+         * x values
+         */
+        private final NumericData m_x;
+
+        /**
+         * y values
+         */
+        private final NumericData m_y;
+
+        /**
+         * series to count
+         */
+        private final int m_series;
+
+        /**
+         * first index of the range
+         */
+        private final int m_from;
+
+        /**
+         * index after the range
+         */
+        private final int m_to;
+
+        /**
+         * max range counted without splitting
+         */
+        private final int m_split;
+
+        /**
+         * @param grid the grid
+         * @param x x values
+         * @param y y values
+         * @param series series to count
+         * @param from first index of the range
+         * @param to index after the range
+         * @param split max range counted without splitting
+         */
+        CountTask(final DensityGrid grid, final NumericData x, final NumericData y, final int series,
+                  final int from, final int to, final int split) {
+            m_grid = grid;
+            m_x = x;
+            m_y = y;
+            m_series = series;
+            m_from = from;
+            m_to = to;
+            m_split = split;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (m_to - m_from > m_split) {
+                final int middle = (m_from + m_to) >>> 1;
+                final CountTask left = new CountTask(m_grid, m_x, m_y, m_series, m_from, middle, m_split);
+                left.fork();
+                final int[] counts = new CountTask(m_grid, m_x, m_y, m_series, middle, m_to, m_split).compute();
+                final int[] leftCounts = left.join();
+                for (int i = 0; i < counts.length; i++) {
+                    counts[i] += leftCounts[i];
+                }
+                return counts;
+            }
+
+            final int[] counts = new int[m_grid.getCellCount()];
+            for (int i = m_from; i < m_to; i++) {
+                final int cell = m_grid.cellOf(m_x.getDouble(m_series, i), m_y.getDouble(m_series, i));
+                if (cell >= 0) {
+                    counts[cell]++;
+                }
+            }
+            return counts;
+        }
+    }
+}
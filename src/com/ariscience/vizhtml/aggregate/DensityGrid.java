@@ -0,0 +1,250 @@
+package com.ariscience.vizhtml.aggregate;
+
+/**
+ * <pre>
+ * Point density of a scatter plot: the number of points per square or hexagonal cell of a grid laid over the
+ * chart area (see {@link DensityBinner})
+ *
+ * The grid is defined in pixels, cellSize pixels per square cell (the radius of hexagonal cells), and mapped to
+ * the data range, so the cells look the same whatever the data. Hexagons are pointy topped, odd rows are shifted
+ * by half a hexagon. Cells are numbered row by row (cell = row * columns + column), row 0 at the lowest y.
+ * </pre>
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+public final class DensityGrid {
+
+    /**
+     * sqrt(3), width of a pointy topped hexagon of radius 1
+     */
+    private static final double S_SQRT3 = Math.sqrt(3);
+
+    /**
+     * true for hexagonal, false for square cells
+     */
+    private final boolean m_hexagonal;
+
+    /**
+     * cell size (px): side of square cells, radius of hexagonal cells
+     */
+    private final double m_cellSize;
+
+    /**
+     * number of cell columns
+     */
+    private final int m_columns;
+
+    /**
+     * number of cell rows
+     */
+    private final int m_rows;
+
+    /**
+     * smallest x value
+     */
+    private final double m_xMin;
+
+    /**
+     * smallest y value
+     */
+    private final double m_yMin;
+
+    /**
+     * pixels per unit of x
+     */
+    private final double m_xScale;
+
+    /**
+     * pixels per unit of y
+     */
+    private final double m_yScale;
+
+    /**
+     * horizontal distance of cell centers (px)
+     */
+    private final double m_columnWidth;
+
+    /**
+     * vertical distance of cell centers (px)
+     */
+    private final double m_rowHeight;
+
+    /**
+     * number of points per cell
+     */
+    private int[] m_counts;
+
+    /**
+     * indices of the points drawn individually
+     */
+    private int[] m_outliers = new int[0];
+
+    /**
+     * Constructor of an empty grid
+     *
+     * @param hexagonal true for hexagonal, false for square cells
+     * @param cellSize cell size (px): side of square cells, radius of hexagonal cells
+     * @param width width of the chart area (px)
+     * @param height height of the chart area (px)
+     * @param xMin smallest x value
+     * @param xMax largest x value
+     * @param yMin smallest y value
+     * @param yMax largest y value
+     */
+    DensityGrid(final boolean hexagonal, final double cellSize, final int width, final int height,
+                final double xMin, final double xMax, final double yMin, final double yMax) {
+        if (!(cellSize > 0)) {
+            throw new IllegalArgumentException("cell size must be positive");
+        }
+        m_hexagonal = hexagonal;
+        m_cellSize = cellSize;
+        m_xMin = xMin;
+        m_yMin = yMin;
+        m_xScale = xMax > xMin ? Math.max(width, 1) / (xMax - xMin) : 1;
+        m_yScale = yMax > yMin ? Math.max(height, 1) / (yMax - yMin) : 1;
+        m_columnWidth = hexagonal ? cellSize * S_SQRT3 : cellSize;
+        m_rowHeight = hexagonal ? cellSize * 1.5 : cellSize;
+        // hexagon centers are on the edges: an extra column on the left (shifted rows) and a row / column beyond
+        final int extra = hexagonal ? 2 : 0;
+        m_columns = (int) Math.ceil(Math.max(width, 1) / m_columnWidth) + extra;
+        m_rows = (int) Math.ceil(Math.max(height, 1) / m_rowHeight) + extra;
+    }
+
+    /**
+     * @return true for hexagonal, false for square cells
+     */
+    public boolean isHexagonal() {
+        return m_hexagonal;
+    }
+
+    /**
+     * @return cell size (px): side of square cells, radius of hexagonal cells
+     */
+    public double getCellSize() {
+        return m_cellSize;
+    }
+
+    /**
+     * @return number of cell columns
+     */
+    public int getColumns() {
+        return m_columns;
+    }
+
+    /**
+     * @return number of cell rows
+     */
+    public int getRows() {
+        return m_rows;
+    }
+
+    /**
+     * @return number of cells
+     */
+    public int getCellCount() {
+        return m_columns * m_rows;
+    }
+
+    /**
+     * @param cell cell index
+     * @return number of points in the cell
+     */
+    public int getCount(final int cell) {
+        return m_counts[cell];
+    }
+
+    /**
+     * @return largest number of points in a cell
+     */
+    public int getMaxCount() {
+        int max = 0;
+        for (int count : m_counts) {
+            max = Math.max(max, count);
+        }
+        return max;
+    }
+
+    /**
+     * @param column cell column
+     * @param row cell row
+     * @return x value of the center of the cell
+     */
+    public double getCenterX(final int column, final int row) {
+        final double x = m_hexagonal ? (column - 1 + (row & 1) / 2.0) * m_columnWidth : (column + 0.5) * m_columnWidth;
+        return m_xMin + x / m_xScale;
+    }
+
+    /**
+     * @param row cell row
+     * @return y value of the center of the cells of the row
+     */
+    public double getCenterY(final int row) {
+        final double y = m_hexagonal ? row * m_rowHeight : (row + 0.5) * m_rowHeight;
+        return m_yMin + y / m_yScale;
+    }
+
+    /**
+     * @return indices of the points in sparse cells, drawn individually (ascending)
+     */
+    public int[] getOutliers() {
+        return m_outliers;
+    }
+
+    /**
+     * @param counts number of points per cell
+     */
+    void setCounts(final int[] counts) {
+        m_counts = counts;
+    }
+
+    /**
+     * @param outliers indices of the points drawn individually
+     */
+    void setOutliers(final int[] outliers) {
+        m_outliers = outliers;
+    }
+
+    /**
+     * @param x x value
+     * @param y y value
+     * @return the cell of the point, -1 if a value is not finite
+     */
+    int cellOf(final double x, final double y) {
+        if (!Double.isFinite(x) || !Double.isFinite(y)) {
+            return -1;
+        }
+        final double px = (x - m_xMin) * m_xScale / m_columnWidth;
+        final double py = (y - m_yMin) * m_yScale / m_rowHeight;
+        if (!m_hexagonal) {
+            return clamp((int) py, m_rows) * m_columns + clamp((int) px, m_columns);
+        }
+
+        // nearest hexagon center (as d3-hexbin): row and column by rounding, then the neighbour row if closer
+        int row = (int) Math.floor(py + 0.5);
+        double column = Math.floor(px - (row & 1) / 2.0 + 0.5);
+        final double dy = py - row;
+        if (Math.abs(dy) * 3 > 1) {
+            final double shifted = px - (row & 1) / 2.0;
+            final double dx = shifted - column;
+            final int row2 = row + (py < row ? -1 : 1);
+            final double column2 = Math.floor(px - (row2 & 1) / 2.0 + 0.5);
+            final double dx2 = px - (row2 & 1) / 2.0 - column2;
+            final double dy2 = py - row2;
+            // squared distances in units of the radius: a column is sqrt(3) radii wide, a row 1.5 radii high
+            if (dx * dx * 3 + dy * dy * 2.25 > dx2 * dx2 * 3 + dy2 * dy2 * 2.25) {
+                row = row2;
+                column = column2;
+            }
+        }
+        return clamp(row, m_rows) * m_columns + clamp((int) column + 1, m_columns);
+    }
+
+    /**
+     * @param index row or column
+     * @param length number of rows or columns
+     * @return the index within [0, length)
+     */
+    private static int clamp(final int index, final int length) {
+        return Math.max(0, Math.min(index, length - 1));
+    }
+}
@@ -0,0 +1,54 @@
+package com.ariscience.vizhtml.aggregate;
+
+/**
+ * {@link HistogramAccumulator} with equal width bins
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+final class FixedWidthAccumulator extends HistogramAccumulator {
+
+    /**
+     * first edge
+     */
+    private final double m_min;
+
+    /**
+     * bins per unit of value
+     */
+    private final double m_scale;
+
+    /**
+     * @param min first edge
+     * @param max last edge
+     * @param binCount number of bins
+     */
+    FixedWidthAccumulator(final double min, final double max, final int binCount) {
+        super(getEdges(min, max, binCount));
+        m_min = min;
+        m_scale = binCount / (max - min);
+    }
+
+    @Override
+    int estimateIndex(final double value) {
+        return (int) ((value - m_min) * m_scale);
+    }
+
+    /**
+     * @param min first edge
+     * @param max last edge
+     * @param binCount number of bins
+     * @return equal width edges
+     */
+    private static double[] getEdges(final double min, final double max, final int binCount) {
+        if (binCount < 1) {
+            throw new IllegalArgumentException("bin count must be at least 1");
+        }
+        final double[] edges = new double[binCount + 1];
+        final double width = (max - min) / binCount;
+        for (int i = 0; i < binCount; i++) {
+            edges[i] = min + i * width;
+        }
+        edges[binCount] = max;
+        return edges;
+    }
+}
@@ -0,0 +1,301 @@
+package com.ariscience.vizhtml.aggregate;
+
+import com.ariscience.vizhtml.VizHTMLEnums.GroupAggregation;
+import com.ariscience.vizhtml.common.LongIntHashMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+/**
+ * <pre>
+ * Aggregates raw records (category, series and value of each record) into bar chart data (see {@link GroupedData})
+ *
+ * e.g. sales per region and product:
+ *     GroupByAggregator&lt;Sale&gt; aggregator = new GroupByAggregator&lt;&gt;(Sale::getRegion, Sale::getProduct, Sale::getAmount);
+ *     aggregator.setAggregation(GroupAggregation.MEAN);
+ *     GroupedData data = aggregator.aggregate(sales.parallelStream());
+ *
+ * Category and series labels are numbered once, then every record updates a primitive cell (a double and a
+ * count) found through a long keyed hash of its category and series numbers, so no object is created per
+ * record. Streams are aggregated by a collector: a parallel stream aggregates each split into its own
+ * partial result and the partial results are merged, in encounter order, at the end.
+ * </pre>
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ *
+ * @param <T> record type
+ */
+public final class GroupByAggregator<T> {
+
+    /**
+     * initial number of cells of a partial result
+     */
+    private static final int S_INITIAL_CELLS = 64;
+
+    /**
+     * category label of a record
+     */
+    private final Function<? super T, String> m_category;
+
+    /**
+     * series label of a record, null for one series
+     */
+    private final Function<? super T, String> m_series;
+
+    /**
+     * value of a record
+     */
+    private final ToDoubleFunction<? super T> m_value;
+
+    /**
+     * how the values of a category and series are combined
+     */
+    private GroupAggregation m_aggregation = GroupAggregation.SUM;
+
+    /**
+     * Constructor for one series, labeled with the aggregation (e.g. "Sum")
+     *
+     * @param category category label of a record
+     * @param value value of a record
+     */
+    public GroupByAggregator(final Function<? super T, String> category, final ToDoubleFunction<? super T> value) {
+        this(category, null, value);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param category category label of a record
+     * @param series series label of a record (null for one series)
+     * @param value value of a record
+     */
+    public GroupByAggregator(final Function<? super T, String> category, final Function<? super T, String> series,
+                             final ToDoubleFunction<? super T> value) {
+        if (category == null || value == null) {
+            throw new IllegalArgumentException("category and value functions cannot be null");
+        }
+        m_category = category;
+        m_series = series;
+        m_value = value;
+    }
+
+    /**
+     * Sets how the values of the records of a category and series are combined
+     *
+     * @param aggregation aggregation (null for SUM, the default)
+     */
+    public void setAggregation(final GroupAggregation aggregation) {
+        m_aggregation = aggregation == null ? GroupAggregation.SUM : aggregation;
+    }
+
+    /**
+     * Aggregates records one by one
+     *
+     * @param records records
+     * @return bar chart data
+     */
+    public GroupedData aggregate(final Iterator<? extends T> records) {
+        final Partial partial = new Partial();
+        while (records.hasNext()) {
+            partial.add(records.next());
+        }
+        return partial.toData();
+    }
+
+    /**
+     * Aggregates a stream of records, in parallel for parallel streams
+     *
+     * @param records records
+     * @return bar chart data
+     */
+    public GroupedData aggregate(final Stream<? extends T> records) {
+        return records.collect(Collector.of(Partial::new, Partial::add, Partial::merge, Partial::toData));
+    }
+
+    /**
+     * Aggregate of the records seen by one thread
+     */
+    private final class Partial {
+
+        /**
+         * number of each category label
+         */
+        private final Map<String, Integer> m_categoryIndex = new HashMap<>();
+
+        /**
+         * category labels in order of first occurrence
+         */
+        private final List<String> m_categories = new ArrayList<>();
+
+        /**
+         * number of each series label
+         */
+        private final Map<String, Integer> m_seriesIndex = new HashMap<>();
+
+        /**
+         * series labels in order of first occurrence
+         */
+        private final List<String> m_seriesLabels = new ArrayList<>();
+
+        /**
+         * cell of each category and series number (category &lt;&lt; 32 | series)
+         */
+        private final LongIntHashMap m_cells = new LongIntHashMap(S_INITIAL_CELLS, -1);
+
+        /**
+         * category number of each cell
+         */
+        private int[] m_cellCategory = new int[S_INITIAL_CELLS];
+
+        /**
+         * series number of each cell
+         */
+        private int[] m_cellSeries = new int[S_INITIAL_CELLS];
+
+        /**
+         * number of values of each cell
+         */
+        private long[] m_counts = new long[S_INITIAL_CELLS];
+
+        /**
+         * sum, min or max of the values of each cell
+         */
+        private double[] m_values = new double[S_INITIAL_CELLS];
+
+        /**
+         * number of cells
+         */
+        private int m_size;
+
+        /**
+         * @param record record to aggregate
+         */
+        void add(final T record) {
+            final int category = indexOf(m_category.apply(record), m_categoryIndex, m_categories);
+            final int series = indexOf(m_series == null ? m_aggregation.getDescription() : m_series.apply(record),
+                    m_seriesIndex, m_seriesLabels);
+            final int cell = cellOf(category, series);
+            final double value = m_value.applyAsDouble(record);
+            if (value == value) {
+                accumulate(cell, value, 1);
+            }
+        }
+
+        /**
+         * Adds the cells of another partial result, its new labels after the labels of this one
+         *
+         * @param other partial result of the records after the records of this one
+         * @return this partial result
+         */
+        Partial merge(final Partial other) {
+            final int[] categories = new int[other.m_categories.size()];
+            for (int i = 0; i < categories.length; i++) {
+                categories[i] = indexOf(other.m_categories.get(i), m_categoryIndex, m_categories);
+            }
+            final int[] series = new int[other.m_seriesLabels.size()];
+            for (int i = 0; i < series.length; i++) {
+                series[i] = indexOf(other.m_seriesLabels.get(i), m_seriesIndex, m_seriesLabels);
+            }
+            for (int i = 0; i < other.m_size; i++) {
+                final int cell = cellOf(categories[other.m_cellCategory[i]], series[other.m_cellSeries[i]]);
+                if (other.m_counts[i] > 0) {
+                    accumulate(cell, other.m_values[i], other.m_counts[i]);
+                }
+            }
+            return this;
+        }
+
+        /**
+         * @return bar chart data of the cells
+         */
+        GroupedData toData() {
+            final Number[][] data = new Number[m_seriesLabels.size()][m_categories.size()];
+            final Number empty = m_aggregation == GroupAggregation.SUM ? (Number) 0.0
+                    : m_aggregation == GroupAggregation.COUNT ? (Number) 0L : null;
+            for (Number[] row : data) {
+                Arrays.fill(row, empty);
+            }
+            for (int i = 0; i < m_size; i++) {
+                if (m_counts[i] == 0) {
+                    continue;
+                }
+                final Number value;
+                if (m_aggregation == GroupAggregation.COUNT) {
+                    value = m_counts[i];
+                } else if (m_aggregation == GroupAggregation.MEAN) {
+                    value = m_values[i] / m_counts[i];
+                } else {
+                    value = m_values[i];
+                }
+                data[m_cellSeries[i]][m_cellCategory[i]] = value;
+            }
+            return new GroupedData(m_categories.toArray(new String[0]), m_seriesLabels.toArray(new String[0]), data);
+        }
+
+        /**
+         * Combines values into a cell
+         *
+         * @param cell cell
+         * @param value value, or the sum, min or max of count values
+         * @param count number of values
+         */
+        private void accumulate(final int cell, final double value, final long count) {
+            if (m_counts[cell] == 0) {
+                m_values[cell] = value;
+            } else if (m_aggregation == GroupAggregation.MIN) {
+                m_values[cell] = Math.min(m_values[cell], value);
+            } else if (m_aggregation == GroupAggregation.MAX) {
+                m_values[cell] = Math.max(m_values[cell], value);
+            } else {
+                m_values[cell] += value;
+            }
+            m_counts[cell] += count;
+        }
+
+        /**
+         * @param category category number
+         * @param series series number
+         * @return the cell of the category and series, added if new
+         */
+        private int cellOf(final int category, final int series) {
+            final int cell = m_cells.putIfAbsent((long) category << 32 | series, m_size);
+            if (cell >= 0) {
+                return cell;
+            }
+            if (m_size == m_counts.length) {
+                final int grown = m_size * 2;
+                m_cellCategory = Arrays.copyOf(m_cellCategory, grown);
+                m_cellSeries = Arrays.copyOf(m_cellSeries, grown);
+                m_counts = Arrays.copyOf(m_counts, grown);
+                m_values = Arrays.copyOf(m_values, grown);
+            }
+            m_cellCategory[m_size] = category;
+            m_cellSeries[m_size] = series;
+            return m_size++;
+        }
+
+        /**
+         * @param label category or series label
+         * @param index number of each label
+         * @param labels labels in order of first occurrence
+         * @return the number of the label, added if new
+         */
+        private int indexOf(final String label, final Map<String, Integer> index, final List<String> labels) {
+            final Integer found = index.get(label);
+            if (found != null) {
+                return found;
+            }
+            index.put(label, labels.size());
+            labels.add(label);
+            return labels.size() - 1;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.ariscience.vizhtml.aggregate;
+
+/**
+ * <pre>
+ * Bar chart data aggregated by a {@link GroupByAggregator}, in the layout the bar charts take e.g.
+ * new BarVerticalChart(data.getXLabels(), data.getData(), data.getSeriesLabels())
+ *
+ * Categories and series are in the order they first occur in the records.
+ * </pre>
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+public final class GroupedData {
+
+    /**
+     * category labels
+     */
+    private final String[] m_categories;
+
+    /**
+     * series labels
+     */
+    private final String[] m_series;
+
+    /**
+     * aggregated value of each series and category (data[series][category])
+     */
+    private final Number[][] m_data;
+
+    /**
+     * @param categories category labels
+     * @param series series labels
+     * @param data aggregated value of each series and category
+     */
+    GroupedData(final String[] categories, final String[] series, final Number[][] data) {
+        m_categories = categories;
+        m_series = series;
+        m_data = data;
+    }
+
+    /**
+     * @return category labels as the charts take them (one row: X labels of vertical, Y labels of horizontal bars)
+     */
+    public String[][] getXLabels() {
+        return new String[][]{m_categories};
+    }
+
+    /**
+     * @return aggregated value of each series and category (data[series][category]), null for a mean, min or
+     * max without values
+     */
+    public Number[][] getData() {
+        return m_data;
+    }
+
+    /**
+     * @return series labels
+     */
+    public String[] getSeriesLabels() {
+        return m_series;
+    }
+}
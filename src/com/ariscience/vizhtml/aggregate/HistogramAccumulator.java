@@ -0,0 +1,254 @@
+package com.ariscience.vizhtml.aggregate;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.DoubleStream;
+
+/**
+ * <pre>
+ * Thread safe, mergeable histogram of a stream of values
+ *
+ * Counts values into fixed bins as they arrive, so histograms of unbounded sources (iterators, streams or
+ * add calls from many threads) are charted without keeping the values. Every bin is a LongAdder, so threads
+ * adding values to the same bin do not contend. Accumulators with the same bins can be merged
+ * (e.g. one per thread, partition or host) and turned into {@link HistogramBins} for the histogram charts.
+ *
+ * {@link #ofFixedWidth(double, double, int)} creates equal width bins. {@link #ofLogBuckets(double, double, int)}
+ * creates HDR style buckets for heavy tailed data such as latencies: every power of 2 is split into the same
+ * number of equal width sub buckets, so the relative bin width is the same from microseconds to minutes.
+ *
+ * Values outside the bins are counted as underflow / overflow, null (NaN) values are ignored.
+ * </pre>
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+public abstract class HistogramAccumulator {
+
+    /**
+     * bin edges in ascending order
+     */
+    private final double[] m_edges;
+
+    /**
+     * count per bin
+     */
+    private final LongAdder[] m_counts;
+
+    /**
+     * count of values below the first edge
+     */
+    private final LongAdder m_underflow = new LongAdder();
+
+    /**
+     * count of values above the last edge
+     */
+    private final LongAdder m_overflow = new LongAdder();
+
+    /**
+     * @param edges bin edges in ascending order
+     */
+    HistogramAccumulator(final double[] edges) {
+        HistogramBinner.checkEdges(edges);
+        m_edges = edges;
+        m_counts = new LongAdder[edges.length - 1];
+        for (int i = 0; i < m_counts.length; i++) {
+            m_counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Equal width bins
+     *
+     * @param min first edge
+     * @param max last edge
+     * @param binCount number of bins
+     * @return an empty accumulator
+     */
+    public static HistogramAccumulator ofFixedWidth(final double min, final double max, final int binCount) {
+        return new FixedWidthAccumulator(min, max, binCount);
+    }
+
+    /**
+     * HDR style buckets from 0 to highest: a first bin [0, lowest) then subBuckets equal width bins per power of 2
+     * from lowest up to (at least) highest, so bins are at most 1 / subBuckets of their value wide
+     *
+     * @param lowest smallest value told apart from 0 e.g. 1 (microsecond)
+     * @param highest largest value counted
+     * @param subBuckets number of bins per power of 2 e.g. 32 for about 3% relative bin width
+     * @return an empty accumulator
+     */
+    public static HistogramAccumulator ofLogBuckets(final double lowest, final double highest, final int subBuckets) {
+        return new LogBucketAccumulator(lowest, highest, subBuckets);
+    }
+
+    /**
+     * Adds a value (thread safe)
+     *
+     * @param value value to count
+     */
+    public void add(final double value) {
+        add(value, 1);
+    }
+
+    /**
+     * Adds a value several times (thread safe)
+     *
+     * @param value value to count
+     * @param count number of times to count it
+     */
+    public void add(final double value, final long count) {
+        if (value < m_edges[0]) {
+            m_underflow.add(count);
+        } else if (value > m_edges[m_edges.length - 1]) {
+            m_overflow.add(count);
+        } else if (value == value) {
+            m_counts[indexOf(value)].add(count);
+        }
+    }
+
+    /**
+     * Adds all values of a stream (parallel streams are counted in parallel)
+     *
+     * @param values values to count
+     * @return this accumulator
+     */
+    public HistogramAccumulator addAll(final DoubleStream values) {
+        values.forEach(this::add);
+        return this;
+    }
+
+    /**
+     * Adds all values of an iterator (PrimitiveIterator.OfDouble values are not boxed, null values are ignored)
+     *
+     * @param values values to count
+     * @return this accumulator
+     */
+    public HistogramAccumulator addAll(final Iterator<? extends Number> values) {
+        if (values instanceof PrimitiveIterator.OfDouble) {
+            final PrimitiveIterator.OfDouble doubles = (PrimitiveIterator.OfDouble) values;
+            while (doubles.hasNext()) {
+                add(doubles.nextDouble());
+            }
+            return this;
+        }
+        while (values.hasNext()) {
+            final Number value = values.next();
+            if (value != null) {
+                add(value.doubleValue());
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Adds the counts of another accumulator with the same bins (thread safe, the other accumulator may still be
+     * updated while merging)
+     *
+     * @param other accumulator to merge into this one
+     * @return this accumulator
+     */
+    public HistogramAccumulator merge(final HistogramAccumulator other) {
+        if (!Arrays.equals(m_edges, other.m_edges)) {
+            throw new IllegalArgumentException("Only accumulators with the same bins can be merged");
+        }
+        for (int i = 0; i < m_counts.length; i++) {
+            m_counts[i].add(other.m_counts[i].sum());
+        }
+        m_underflow.add(other.m_underflow.sum());
+        m_overflow.add(other.m_overflow.sum());
+        return this;
+    }
+
+    /**
+     * @return bin edges in ascending order
+     */
+    public double[] getEdges() {
+        return m_edges.clone();
+    }
+
+    /**
+     * @return current count per bin
+     */
+    public long[] getCounts() {
+        final long[] counts = new long[m_counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = m_counts[i].sum();
+        }
+        return counts;
+    }
+
+    /**
+     * @return number of values counted in the bins
+     */
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bin : m_counts) {
+            count += bin.sum();
+        }
+        return count;
+    }
+
+    /**
+     * @return number of values below the first edge
+     */
+    public long getUnderflow() {
+        return m_underflow.sum();
+    }
+
+    /**
+     * @return number of values above the last edge
+     */
+    public long getOverflow() {
+        return m_overflow.sum();
+    }
+
+    /**
+     * @return snapshot of the bins as a single series
+     */
+    public HistogramBins toBins() {
+        return toBins(new HistogramAccumulator[]{this});
+    }
+
+    /**
+     * Snapshot of several accumulators with the same bins, one series each
+     *
+     * @param series accumulator of each series
+     * @return edges and counts per series
+     */
+    public static HistogramBins toBins(final HistogramAccumulator[] series) {
+        if (series == null || series.length == 0) {
+            throw new IllegalArgumentException("At least one accumulator is required");
+        }
+        final long[][] counts = new long[series.length][];
+        for (int s = 0; s < series.length; s++) {
+            if (!Arrays.equals(series[0].m_edges, series[s].m_edges)) {
+                throw new IllegalArgumentException("All series must have the same bins");
+            }
+            counts[s] = series[s].getCounts();
+        }
+        return new HistogramBins(series[0].getEdges(), counts);
+    }
+
+    /**
+     * @param value finite value between the first and last edge
+     * @return the bin of the value: the edges decide, the estimate may be off by one due to rounding
+     */
+    private int indexOf(final double value) {
+        final int last = m_counts.length - 1;
+        int bin = Math.max(0, Math.min(estimateIndex(value), last));
+        if (value < m_edges[bin]) {
+            bin--;
+        } else if (bin < last && value >= m_edges[bin + 1]) {
+            bin++;
+        }
+        return bin;
+    }
+
+    /**
+     * @param value finite value between the first and last edge
+     * @return the bin of the value, computed without searching the edges (may be off by one)
+     */
+    abstract int estimateIndex(double value);
+}
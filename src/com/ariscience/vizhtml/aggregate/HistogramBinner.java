@@ -0,0 +1,364 @@
+package com.ariscience.vizhtml.aggregate;
+
+import com.ariscience.vizhtml.VizHTMLEnums.HistogramBinning;
+import com.ariscience.vizhtml.data.NumericData;
+
+import java.util.Arrays;
+import java.util.DoubleSummaryStatistics;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+/**
+ * <pre>
+ * Bins histogram values in java (see {@link HistogramBinning}) so charts write bin edges and counts instead of
+ * every value
+ *
+ * Counting is a fork-join pass over the data: the values are split into ranges, each task counts its range into
+ * its own bin array and the arrays are added up when the tasks are joined, so there is no contention between
+ * threads. Values are read with NumericData.getDouble, so primitive data is binned without boxing.
+ * Null (NaN) and infinite values are not counted, nor are values outside the edges.
+ * </pre>
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+public final class HistogramBinner {
+
+    /**
+     * max number of bins of computed edges (Freedman-Diaconis on data with extreme outliers)
+     */
+    public static final int S_MAX_BINS = 10000;
+
+    /**
+     * min number of values counted by a task (smaller ranges are not split)
+     */
+    private static final int S_MIN_SPLIT = 1 << 14;
+
+    /**
+     * number of tasks per worker thread, so threads finishing early can steal work
+     */
+    private static final int S_TASKS_PER_THREAD = 4;
+
+    /**
+     * prevent external instantiation
+     */
+    private HistogramBinner() {
+    }
+
+    /**
+     * Bins all series of the data with the same edges
+     *
+     * @param binning binning method (not CLIENT)
+     * @param data values to bin
+     * @param binCount number of bins for FIXED_WIDTH, 0 for Sturges' rule (log2(n) + 1)
+     * @param edges bin edges for EDGES
+     * @return edges and counts per series
+     */
+    public static HistogramBins bin(final HistogramBinning binning, final NumericData data, final int binCount, final double[] edges) {
+        final double[] binEdges;
+        switch (binning) {
+            case FIXED_WIDTH:
+                binEdges = getFixedWidthEdges(data, binCount);
+                break;
+            case FREEDMAN_DIACONIS:
+                binEdges = getFreedmanDiaconisEdges(data);
+                break;
+            case EDGES:
+                checkEdges(edges);
+                binEdges = edges;
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported histogram binning " + binning);
+        }
+        final long[][] counts = new long[data.getSeriesCount()][];
+        for (int s = 0; s < counts.length; s++) {
+            counts[s] = count(data, s, binEdges);
+        }
+        return new HistogramBins(binEdges, counts);
+    }
+
+    /**
+     * Equal width bins from the min to the max value of all series
+     *
+     * @param data values to bin
+     * @param binCount number of bins, 0 for Sturges' rule (log2(n) + 1)
+     * @return bin edges
+     */
+    public static double[] getFixedWidthEdges(final NumericData data, final int binCount) {
+        if (binCount < 0) {
+            throw new IllegalArgumentException("bin count cannot be negative");
+        }
+        final DoubleSummaryStatistics statistics = new DoubleSummaryStatistics();
+        for (int s = 0; s < data.getSeriesCount(); s++) {
+            statistics.combine(finiteValues(data, s).summaryStatistics());
+        }
+        final int bins = binCount > 0 ? binCount : getSturgesBinCount(statistics.getCount());
+        return getEdges(statistics, bins);
+    }
+
+    /**
+     * Bins of width 2 IQR / cbrt(n) from the min to the max value of all series (n is the number of finite values),
+     * at most {@link #S_MAX_BINS}. Falls back to Sturges' rule if the interquartile range is 0.
+     * Sorts a primitive copy of the finite values to find the quartiles.
+     *
+     * @param data values to bin
+     * @return bin edges
+     */
+    public static double[] getFreedmanDiaconisEdges(final NumericData data) {
+        final double[][] values = new double[data.getSeriesCount()][];
+        int count = 0;
+        for (int s = 0; s < values.length; s++) {
+            values[s] = finiteValues(data, s).toArray();
+            count += values[s].length;
+        }
+        final double[] sorted = new double[count];
+        count = 0;
+        for (double[] series : values) {
+            System.arraycopy(series, 0, sorted, count, series.length);
+            count += series.length;
+        }
+        Arrays.parallelSort(sorted);
+        final DoubleSummaryStatistics statistics = new DoubleSummaryStatistics();
+        if (sorted.length > 0) {
+            statistics.accept(sorted[0]);
+            statistics.accept(sorted[sorted.length - 1]);
+        }
+
+        final double width = 2 * (quantile(sorted, 0.75) - quantile(sorted, 0.25)) / Math.cbrt(sorted.length);
+        final double range = statistics.getMax() - statistics.getMin();
+        final int bins = width > 0 && range > 0
+                ? (int) Math.min(S_MAX_BINS, Math.max(1, Math.ceil(range / width)))
+                : getSturgesBinCount(sorted.length);
+        return getEdges(statistics, bins);
+    }
+
+    /**
+     * Counts the values of a series per bin in parallel
+     *
+     * @param data values to bin
+     * @param series series index
+     * @param edges bin edges in ascending order
+     * @return number of values per bin
+     */
+    public static long[] count(final NumericData data, final int series, final double[] edges) {
+        checkEdges(edges);
+        final int length = data.getLength(series);
+        final int split = Math.max(S_MIN_SPLIT, length / (S_TASKS_PER_THREAD * ForkJoinPool.getCommonPoolParallelism()));
+        return ForkJoinPool.commonPool().invoke(new CountTask(data, series, new BinIndex(edges), 0, length, split));
+    }
+
+    /**
+     * @param edges bin edges
+     * @throws IllegalArgumentException if there is no bin or the edges are not finite and strictly ascending
+     */
+    public static void checkEdges(final double[] edges) {
+        if (edges == null || edges.length < 2) {
+            throw new IllegalArgumentException("At least two bin edges are required");
+        }
+        for (int i = 0; i < edges.length; i++) {
+            if (!Double.isFinite(edges[i]) || (i > 0 && edges[i] <= edges[i - 1])) {
+                throw new IllegalArgumentException("Bin edges must be finite and strictly ascending");
+            }
+        }
+    }
+
+    /**
+     * @param data values
+     * @param series series index
+     * @return the finite values of the series (parallel)
+     */
+    private static DoubleStream finiteValues(final NumericData data, final int series) {
+        return IntStream.range(0, data.getLength(series)).parallel()
+                .mapToDouble(i -> data.getDouble(series, i))
+                .filter(Double::isFinite);
+    }
+
+    /**
+     * @param count number of values
+     * @return number of bins by Sturges' rule
+     */
+    private static int getSturgesBinCount(final long count) {
+        return count < 2 ? 1 : 64 - Long.numberOfLeadingZeros(count - 1) + 1;
+    }
+
+    /**
+     * @param sorted values in ascending order
+     * @param p probability (0 to 1)
+     * @return the linearly interpolated quantile, 0 if there is no value
+     */
+    private static double quantile(final double[] sorted, final double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        final double position = (sorted.length - 1) * p;
+        final int index = (int) position;
+        if (index + 1 >= sorted.length) {
+            return sorted[index];
+        }
+        return sorted[index] + (position - index) * (sorted[index + 1] - sorted[index]);
+    }
+
+    /**
+     * @param statistics min and max of the values
+     * @param bins number of bins
+     * @return equal width edges from min to max (a unit bin around the value if all values are equal, [0,1] if there is none)
+     */
+    private static double[] getEdges(final DoubleSummaryStatistics statistics, final int bins) {
+        double min = statistics.getCount() == 0 ? 0 : statistics.getMin();
+        double max = statistics.getCount() == 0 ? 1 : statistics.getMax();
+        if (max <= min) {
+            min -= 0.5;
+            max += 0.5;
+        }
+        final double[] edges = new double[bins + 1];
+        final double width = (max - min) / bins;
+        for (int i = 0; i < bins; i++) {
+            edges[i] = min + i * width;
+        }
+        edges[bins] = max;
+        return edges;
+    }
+
+    /**
+     * Finds the bin of a value: computed directly for equal width bins, by binary search otherwise
+     */
+    private static final class BinIndex {
+
+        /**
+         * bin edges
+         */
+        private final double[] m_edges;
+
+        /**
+         * bins per unit of value if the bins have equal width, otherwise 0
+         */
+        private final double m_scale;
+
+        /**
+         * @param edges bin edges in ascending order
+         */
+        BinIndex(final double[] edges) {
+            m_edges = edges;
+            final int bins = edges.length - 1;
+            final double width = (edges[bins] - edges[0]) / bins;
+            boolean equalWidth = true;
+            for (int i = 1; i < bins && equalWidth; i++) {
+                equalWidth = Math.abs(edges[i] - (edges[0] + i * width)) <= width * 1e-9;
+            }
+            m_scale = equalWidth ? bins / (edges[bins] - edges[0]) : 0;
+        }
+
+        /**
+         * @return number of bins
+         */
+        int getBinCount() {
+            return m_edges.length - 1;
+        }
+
+        /**
+         * @param value value
+         * @return the bin of the value or -1 if it is outside the edges (or NaN)
+         */
+        int indexOf(final double value) {
+            final int last = m_edges.length - 1;
+            if (!(value >= m_edges[0] && value <= m_edges[last])) {
+                return -1;
+            }
+            if (m_scale == 0) {
+                final int found = Arrays.binarySearch(m_edges, value);
+                return Math.min(found >= 0 ? found : -found - 2, last - 1);
+            }
+            // the computed bin can be off by one due to rounding, the edges decide
+            int bin = Math.min((int) ((value - m_edges[0]) * m_scale), last - 1);
+            if (value < m_edges[bin]) {
+                bin--;
+            } else if (bin < last - 1 && value >= m_edges[bin + 1]) {
+                bin++;
+            }
+            return bin;
+        }
+    }
+
+    /**
+     * Counts the values of a range of a series, splitting large ranges into subtasks
+     */
+    private static final class CountTask extends RecursiveTask<long[]> {
+
+        /**
+         * serialization version (ForkJoinTask is Serializable)
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * values
+         */
+        private final NumericData m_data;
+
+        /**
+         * series to count
+         */
+        private final int m_series;
+
+        /**
+         * bin lookup
+         */
+        private final BinIndex m_index;
+
+        /**
+         * first index of the range
+         */
+        private final int m_from;
+
+        /**
+         * index after the range
+         */
+        private final int m_to;
+
+        /**
+         * max range counted without splitting
+         */
+        private final int m_split;
+
+        /**
+         * @param data values
+         * @param series series to count
+         * @param index bin lookup
+         * @param from first index of the range
+         * @param to index after the range
+         * @param split max range counted without splitting
+         */
+        CountTask(final NumericData data, final int series, final BinIndex index, final int from, final int to, final int split) {
+            m_data = data;
+            m_series = series;
+            m_index = index;
+            m_from = from;
+            m_to = to;
+            m_split = split;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (m_to - m_from > m_split) {
+                final int middle = (m_from + m_to) >>> 1;
+                final CountTask left = new CountTask(m_data, m_series, m_index, m_from, middle, m_split);
+                left.fork();
+                final long[] counts = new CountTask(m_data, m_series, m_index, middle, m_to, m_split).compute();
+                final long[] leftCounts = left.join();
+                for (int i = 0; i < counts.length; i++) {
+                    counts[i] += leftCounts[i];
+                }
+                return counts;
+            }
+
+            final long[] counts = new long[m_index.getBinCount()];
+            for (int i = m_from; i < m_to; i++) {
+                final int bin = m_index.indexOf(m_data.getDouble(m_series, i));
+                if (bin >= 0) {
+                    counts[bin]++;
+                }
+            }
+            return counts;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.ariscience.vizhtml.aggregate;
+
+import com.ariscience.vizhtml.template.JSWriter;
+
+import java.io.IOException;
+
+/**
+ * <pre>
+ * Binned histogram data - bin edges shared by all series and the number of values per bin of each series
+ *
+ * Bin i holds the values v with edges[i] &lt;= v &lt; edges[i + 1], the last bin also holds values equal to the
+ * last edge. Charts write only the edges and counts, so the page size depends on the number of bins and not on
+ * the number of values.
+ * </pre>
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+public final class HistogramBins {
+
+    /**
+     * bin edges in ascending order (one more than the number of bins)
+     */
+    private final double[] m_edges;
+
+    /**
+     * number of values per bin (m_counts[series][bin])
+     */
+    private final long[][] m_counts;
+
+    /**
+     * Constructor (the arrays are not copied)
+     *
+     * @param edges bin edges in ascending order
+     * @param counts number of values per bin of each series
+     */
+    public HistogramBins(final double[] edges, final long[][] counts) {
+        if (edges == null || counts == null) {
+            throw new IllegalArgumentException("edges and counts cannot be null");
+        }
+        for (long[] series : counts) {
+            if (series.length != edges.length - 1) {
+                throw new IllegalArgumentException("Every series must have one count per bin");
+            }
+        }
+        m_edges = edges;
+        m_counts = counts;
+    }
+
+    /**
+     * @return bin edges in ascending order
+     */
+    public double[] getEdges() {
+        return m_edges;
+    }
+
+    /**
+     * @return number of bins
+     */
+    public int getBinCount() {
+        return m_edges.length - 1;
+    }
+
+    /**
+     * @return number of series
+     */
+    public int getSeriesCount() {
+        return m_counts.length;
+    }
+
+    /**
+     * @param series series index
+     * @return number of values per bin of the series
+     */
+    public long[] getCounts(final int series) {
+        return m_counts[series];
+    }
+
+    /**
+     * @return number of binned values of all series
+     */
+    public long getTotalCount() {
+        long total = 0;
+        for (long[] series : m_counts) {
+            for (long count : series) {
+                total += count;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Writes the edges as a javascript array e.g. [0.0,0.5,1.0]
+     *
+     * @param out where to write
+     * @throws IOException on IO error from the output
+     */
+    public void writeEdges(final JSWriter out) throws IOException {
+        out.writeArray(m_edges);
+    }
+
+    /**
+     * Writes the counts of all series as a javascript array of arrays e.g. [[3,5],[0,2]]
+     *
+     * @param out where to write
+     * @throws IOException on IO error from the output
+     */
+    public void writeCounts(final JSWriter out) throws IOException {
+        out.append('[');
+        for (int s = 0; s < m_counts.length; s++) {
+            if (s > 0) {
+                out.append(',');
+            }
+            out.writeArray(m_counts[s]);
+        }
+        out.append(']');
+    }
+}
@@ -0,0 +1,105 @@
+package com.ariscience.vizhtml.aggregate;
+
+import com.ariscience.vizhtml.data.NumericData;
+
+import java.util.stream.IntStream;
+
+/**
+ * <pre>
+ * Largest-Triangle-Three-Buckets downsampling of line series (Steinarsson 2013)
+ *
+ * The first and last points are always kept. The points in between are split into threshold - 2 buckets and from
+ * each bucket the point forming the largest triangle with the previously kept point and the average of the next
+ * bucket is kept. Peaks and troughs survive, so the reduced line looks like the full line.
+ * X values must be sorted. Points with a null (NaN) value are left out of the averages and the triangles, so they
+ * are only kept if a whole bucket is null (or the previously kept point is null, then the first point of the bucket
+ * is kept).
+ * </pre>
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+public final class LTTB {
+
+    /**
+     * smallest useful threshold (first, one bucket and last point)
+     */
+    public static final int S_MIN_THRESHOLD = 3;
+
+    /**
+     * prevent external instantiation
+     */
+    private LTTB() {
+    }
+
+    /**
+     * Selects the points of a series to keep
+     *
+     * @param x x values (series 0 is used for every series) or null if the x value is the index
+     * @param y y values
+     * @param series series of y to reduce
+     * @param threshold max number of points to keep (at least {@link #S_MIN_THRESHOLD})
+     * @return indices of the kept points in ascending order (all indices if the series is not longer than threshold)
+     */
+    public static int[] select(final NumericData x, final NumericData y, final int series, final int threshold) {
+        if (threshold < S_MIN_THRESHOLD) {
+            throw new IllegalArgumentException("threshold must be at least " + S_MIN_THRESHOLD);
+        }
+        final int length = y.getLength(series);
+        if (length <= threshold) {
+            return IntStream.range(0, length).toArray();
+        }
+
+        final int[] selected = new int[threshold];
+        final double every = (double) (length - 2) / (threshold - 2);
+        int a = 0;
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            // average of the finite points of the next bucket (the last point for the last bucket)
+            final int averageStart = (int) ((bucket + 1) * every) + 1;
+            final int averageEnd = Math.min((int) ((bucket + 2) * every) + 1, length);
+            double averageX = 0;
+            double averageY = 0;
+            int count = 0;
+            for (int i = averageStart; i < averageEnd; i++) {
+                final double pointX = x(x, i);
+                final double pointY = y.getDouble(series, i);
+                if (Double.isFinite(pointX) && Double.isFinite(pointY)) {
+                    averageX += pointX;
+                    averageY += pointY;
+                    count++;
+                }
+            }
+            // NaN if the whole next bucket is null: no area is finite and the first point is kept
+            averageX /= count;
+            averageY /= count;
+
+            // finite point of this bucket forming the largest triangle with point a and the average (the first point
+            // if there is none or a is null)
+            final int rangeStart = (int) (bucket * every) + 1;
+            final int rangeEnd = (int) ((bucket + 1) * every) + 1;
+            final double ax = x(x, a);
+            final double ay = y.getDouble(series, a);
+            double maxArea = -1;
+            int next = rangeStart;
+            for (int i = rangeStart; i < rangeEnd; i++) {
+                final double area = Math.abs((ax - averageX) * (y.getDouble(series, i) - ay) - (ax - x(x, i)) * (averageY - ay));
+                if (Double.isFinite(area) && area > maxArea) {
+                    maxArea = area;
+                    next = i;
+                }
+            }
+            selected[bucket + 1] = next;
+            a = next;
+        }
+        selected[threshold - 1] = length - 1;
+        return selected;
+    }
+
+    /**
+     * @param x x values or null if the x value is the index
+     * @param index point index
+     * @return x value of the point
+     */
+    private static double x(final NumericData x, final int index) {
+        return x == null ? index : x.getDouble(0, index);
+    }
+}
@@ -0,0 +1,130 @@
+package com.ariscience.vizhtml.aggregate;
+
+import com.ariscience.vizhtml.VizHTMLEnums.LineReduction;
+import com.ariscience.vizhtml.data.NumericData;
+
+import java.util.stream.IntStream;
+
+/**
+ * <pre>
+ * Reduces line chart series to a point budget before they are written (see {@link LineReduction})
+ *
+ * Charts select the indices of the points to keep and write a view of their data at those indices
+ * (NumericData.select), so the data itself is never copied.
+ * </pre>
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+public final class LineReducer {
+
+    /**
+     * default point budget per pixel of chart width
+     */
+    public static final int S_POINTS_PER_PIXEL = 2;
+
+    /**
+     * prevent external instantiation
+     */
+    private LineReducer() {
+    }
+
+    /**
+     * @param pointBudget point budget set on the chart, 0 for the default
+     * @param width chart width (px)
+     * @return the LTTB point budget to use
+     */
+    public static int getPointBudget(final int pointBudget, final int width) {
+        return pointBudget > 0 ? pointBudget : S_POINTS_PER_PIXEL * Math.max(width, 1);
+    }
+
+    /**
+     * @param reduction reduction method
+     * @param pointBudget point budget set on the chart, 0 for the default
+     * @param width chart width (px)
+     * @return max number of points per series kept by the reduction (e.g. for estimates)
+     */
+    public static int getMaxPoints(final LineReduction reduction, final int pointBudget, final int width) {
+        if (reduction == LineReduction.LTTB) {
+            return Math.max(getPointBudget(pointBudget, width), LTTB.S_MIN_THRESHOLD);
+        }
+        if (reduction == LineReduction.M4) {
+            return M4.S_POINTS_PER_COLUMN * Math.max(width, 1);
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Selects the points of a series to keep
+     *
+     * @param reduction reduction method
+     * @param x x values (series 0 is used for every series) or null if the x value is the index
+     * @param y y values
+     * @param series series of y to reduce
+     * @param pointBudget LTTB point budget set on the chart, 0 for the default
+     * @param width chart width (px), the number of M4 pixel columns
+     * @return indices of the kept points in ascending order, null if all points are kept
+     */
+    public static int[] select(final LineReduction reduction, final NumericData x, final NumericData y, final int series,
+                               final int pointBudget, final int width) {
+        if (reduction == null || y.getLength(series) <= getMaxPoints(reduction, pointBudget, width)) {
+            return null;
+        }
+        switch (reduction) {
+            case LTTB:
+                return LTTB.select(x, y, series, getMaxPoints(reduction, pointBudget, width));
+            case M4:
+                return M4.select(x, y, series, Math.max(width, 1));
+            default:
+                throw new IllegalArgumentException("Unsupported line reduction " + reduction);
+        }
+    }
+
+    /**
+     * Selects the points to keep of all series sharing the same x values (e.g. the rows of a data table):
+     * the series are reduced in parallel and the union of their kept points is returned
+     *
+     * @param reduction reduction method
+     * @param x x values or null if the x value is the index
+     * @param y y values, all series of the same length
+     * @param pointBudget LTTB point budget set on the chart, 0 for the default
+     * @param width chart width (px), the number of M4 pixel columns
+     * @return indices of the kept points in ascending order, null if all points are kept (also for no series)
+     */
+    public static int[] selectUnion(final LineReduction reduction, final NumericData x, final NumericData y, final int pointBudget,
+                                    final int width) {
+        final int series = y.getSeriesCount();
+        if (reduction == null || reduction == LineReduction.NONE || series == 0) {
+            return null;
+        }
+        if (series == 1) {
+            return select(reduction, x, y, 0, pointBudget, width);
+        }
+        final int[][] selected = IntStream.range(0, series).parallel()
+                .mapToObj(s -> select(reduction, x, y, s, pointBudget, width))
+                .toArray(int[][]::new);
+
+        final boolean[] kept = new boolean[y.getLength(0)];
+        for (int[] indices : selected) {
+            if (indices == null) {
+                return null;
+            }
+            for (int index : indices) {
+                kept[index] = true;
+            }
+        }
+        return IntStream.range(0, kept.length).filter(i -> kept[i]).toArray();
+    }
+
+    /**
+     * @param values values per point e.g. info strings (may be shorter than the data)
+     * @param indices indices of the kept points
+     * @return the values of the kept points ("" where values is too short)
+     */
+    public static String[] select(final String[] values, final int[] indices) {
+        final String[] selected = new String[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            selected[i] = indices[i] < values.length ? values[indices[i]] : "";
+        }
+        return selected;
+    }
+}
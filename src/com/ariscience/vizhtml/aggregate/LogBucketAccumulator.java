@@ -0,0 +1,77 @@
+package com.ariscience.vizhtml.aggregate;
+
+/**
+ * {@link HistogramAccumulator} with HDR style buckets: [0, lowest) and then the same number of equal width
+ * sub buckets per power of 2, so the bucket of a value is found from its binary exponent
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+final class LogBucketAccumulator extends HistogramAccumulator {
+
+    /**
+     * max number of buckets
+     */
+    private static final int S_MAX_BUCKETS = 1 << 20;
+
+    /**
+     * smallest value told apart from 0 (edge of the first power of 2)
+     */
+    private final double m_lowest;
+
+    /**
+     * number of buckets per power of 2
+     */
+    private final int m_subBuckets;
+
+    /**
+     * @param lowest smallest value told apart from 0
+     * @param highest largest value counted
+     * @param subBuckets number of buckets per power of 2
+     */
+    LogBucketAccumulator(final double lowest, final double highest, final int subBuckets) {
+        super(getEdges(lowest, highest, subBuckets));
+        m_lowest = lowest;
+        m_subBuckets = subBuckets;
+    }
+
+    @Override
+    int estimateIndex(final double value) {
+        if (value < m_lowest) {
+            return 0;
+        }
+        final double ratio = value / m_lowest;
+        final int exponent = Math.getExponent(ratio);
+        return 1 + exponent * m_subBuckets + (int) ((Math.scalb(ratio, -exponent) - 1) * m_subBuckets);
+    }
+
+    /**
+     * @param lowest smallest value told apart from 0
+     * @param highest largest value counted
+     * @param subBuckets number of buckets per power of 2
+     * @return 0, lowest and the sub bucket edges of every power of 2 up to highest
+     */
+    private static double[] getEdges(final double lowest, final double highest, final int subBuckets) {
+        if (!(lowest > 0 && highest > lowest) || Double.isInfinite(highest)) {
+            throw new IllegalArgumentException("0 < lowest < highest is required");
+        }
+        if (subBuckets < 1) {
+            throw new IllegalArgumentException("sub buckets must be at least 1");
+        }
+        int octaves = Math.max(1, (int) Math.ceil(Math.log(highest / lowest) / Math.log(2)));
+        while (Math.scalb(lowest, octaves) < highest) {
+            octaves++;
+        }
+        if ((long) octaves * subBuckets + 1 > S_MAX_BUCKETS) {
+            throw new IllegalArgumentException("Too many buckets, use fewer sub buckets or a larger lowest value");
+        }
+
+        final double[] edges = new double[octaves * subBuckets + 2];
+        for (int octave = 0; octave < octaves; octave++) {
+            for (int sub = 0; sub < subBuckets; sub++) {
+                edges[1 + octave * subBuckets + sub] = Math.scalb(lowest * (1 + (double) sub / subBuckets), octave);
+            }
+        }
+        edges[edges.length - 1] = Math.scalb(lowest, octaves);
+        return edges;
+    }
+}
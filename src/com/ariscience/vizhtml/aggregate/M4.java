@@ -0,0 +1,129 @@
+package com.ariscience.vizhtml.aggregate;
+
+import com.ariscience.vizhtml.data.NumericData;
+
+import java.util.Arrays;
+
+/**
+ * <pre>
+ * M4 aggregation of line series (Jugel et al. 2014)
+ *
+ * The x range is split into one column per horizontal pixel and the first, last, min and max point of every
+ * column is kept. A line drawn through the kept points covers exactly the pixels of the line through all points,
+ * with at most 4 points per pixel column however long the series is.
+ * Runs in a single pass over the series without intermediate arrays. X values must be sorted.
+ * Points with a null (NaN) value are only kept as first or last point of a column.
+ * </pre>
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+public final class M4 {
+
+    /**
+     * max number of points kept per pixel column
+     */
+    public static final int S_POINTS_PER_COLUMN = 4;
+
+    /**
+     * prevent external instantiation
+     */
+    private M4() {
+    }
+
+    /**
+     * Selects the points of a series to keep
+     *
+     * @param x x values (series 0 is used for every series) or null if the x value is the index
+     * @param y y values
+     * @param series series of y to reduce
+     * @param columns number of pixel columns (chart width)
+     * @return indices of the kept points in ascending order
+     */
+    public static int[] select(final NumericData x, final NumericData y, final int series, final int columns) {
+        if (columns < 1) {
+            throw new IllegalArgumentException("columns must be at least 1");
+        }
+        final int length = y.getLength(series);
+        int[] selected = new int[Math.min(length, S_POINTS_PER_COLUMN * columns)];
+        if (length == 0) {
+            return selected;
+        }
+
+        final double xStart = x == null ? 0 : x.getDouble(0, 0);
+        final double xRange = x == null ? length : x.getDouble(0, length - 1) - xStart;
+        final double scale = xRange > 0 ? columns / xRange : 0;
+
+        int count = 0;
+        int column = -1;
+        int first = 0;
+        int last = 0;
+        int min = 0;
+        int max = 0;
+        double minValue = 0;
+        double maxValue = 0;
+        for (int i = 0; i < length; i++) {
+            final double xValue = x == null ? i : x.getDouble(0, i);
+            final int c = Math.max(0, Math.min((int) ((xValue - xStart) * scale), columns - 1));
+            final double value = y.getDouble(series, i);
+            if (c != column) {
+                if (column >= 0) {
+                    if (count + S_POINTS_PER_COLUMN > selected.length) {
+                        // only if x is not sorted
+                        selected = Arrays.copyOf(selected, 2 * selected.length);
+                    }
+                    count = add(selected, count, first, min, max, last);
+                }
+                column = c;
+                first = i;
+                min = i;
+                max = i;
+                minValue = value;
+                maxValue = value;
+            } else {
+                if (value < minValue || minValue != minValue) {
+                    min = i;
+                    minValue = value;
+                }
+                if (value > maxValue || maxValue != maxValue) {
+                    max = i;
+                    maxValue = value;
+                }
+            }
+            last = i;
+        }
+        if (count + S_POINTS_PER_COLUMN > selected.length) {
+            selected = Arrays.copyOf(selected, count + S_POINTS_PER_COLUMN);
+        }
+        count = add(selected, count, first, min, max, last);
+        return count == selected.length ? selected : Arrays.copyOf(selected, count);
+    }
+
+    /**
+     * Adds the distinct kept points of a column in ascending order
+     *
+     * @param selected kept points
+     * @param count number of kept points so far
+     * @param first index of the first point of the column
+     * @param min index of the min point of the column
+     * @param max index of the max point of the column
+     * @param last index of the last point of the column
+     * @return number of kept points
+     */
+    private static int add(final int[] selected, final int count, final int first, final int min, final int max, final int last) {
+        // first <= low <= high <= last
+        final int low = Math.min(min, max);
+        final int high = Math.max(min, max);
+        int position = count;
+        selected[position++] = first;
+        if (low != first) {
+            selected[position++] = low;
+        }
+        if (high != low) {
+            selected[position++] = high;
+        }
+        if (last != high) {
+            selected[position++] = last;
+        }
+        return position;
+    }
+}
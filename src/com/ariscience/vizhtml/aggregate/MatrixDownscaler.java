@@ -0,0 +1,266 @@
+package com.ariscience.vizhtml.aggregate;
+
+import com.ariscience.vizhtml.VizHTMLEnums.CellAggregation;
+import com.ariscience.vizhtml.data.NumericData;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * <pre>
+ * Downscales a matrix (e.g. heatmap z data, m_data[row][column]) to at most maxRows x maxColumns blocks
+ *
+ * Block i of n over length values covers [i * length / n, (i + 1) * length / n), so blocks differ in size by at
+ * most one row or column. Values are combined per block with a {@link CellAggregation}, labels become ranges
+ * e.g. "chr1:0 - chr1:40000" and info strings are summarized.
+ * The output rows are computed in parallel: a fork-join pass over stripes of rows, each output row written
+ * by one task, so no locking or merging is needed.
+ * </pre>
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+public final class MatrixDownscaler {
+
+    /**
+     * number of tasks per worker thread, so threads finishing early can steal work
+     */
+    private static final int S_TASKS_PER_THREAD = 4;
+
+    /**
+     * first row of each block and the number of rows at the end
+     */
+    private final int[] m_rowStart;
+
+    /**
+     * first column of each block and the number of columns at the end
+     */
+    private final int[] m_columnStart;
+
+    /**
+     * Constructor
+     *
+     * @param rows number of matrix rows
+     * @param columns number of matrix columns
+     * @param maxRows max number of rows after downscaling
+     * @param maxColumns max number of columns after downscaling
+     */
+    public MatrixDownscaler(final int rows, final int columns, final int maxRows, final int maxColumns) {
+        if (maxRows < 1 || maxColumns < 1) {
+            throw new IllegalArgumentException("max rows and columns must be at least 1");
+        }
+        m_rowStart = getBlockStarts(rows, Math.min(rows, maxRows));
+        m_columnStart = getBlockStarts(columns, Math.min(columns, maxColumns));
+    }
+
+    /**
+     * @return number of rows after downscaling
+     */
+    public int getRows() {
+        return m_rowStart.length - 1;
+    }
+
+    /**
+     * @return number of columns after downscaling
+     */
+    public int getColumns() {
+        return m_columnStart.length - 1;
+    }
+
+    /**
+     * @return true if the matrix is smaller than the max size (nothing to downscale)
+     */
+    public boolean isIdentity() {
+        return getRows() == m_rowStart[getRows()] && getColumns() == m_columnStart[getColumns()];
+    }
+
+    /**
+     * Combines the values of each block
+     *
+     * @param data matrix, one series per row
+     * @param aggregation how to combine the values of a block (not NONE)
+     * @return downscaled matrix, NaN for blocks without a value
+     */
+    public double[][] downscale(final NumericData data, final CellAggregation aggregation) {
+        if (aggregation == null || aggregation == CellAggregation.NONE) {
+            throw new IllegalArgumentException("Unsupported cell aggregation " + aggregation);
+        }
+        final double[][] result = new double[getRows()][getColumns()];
+        forEachRow(row -> {
+            final double[] values = result[row];
+            final long[] counts = new long[values.length];
+            for (int r = m_rowStart[row]; r < m_rowStart[row + 1]; r++) {
+                for (int column = 0; column < values.length; column++) {
+                    for (int c = m_columnStart[column]; c < m_columnStart[column + 1]; c++) {
+                        final double value = data.getDouble(r, c);
+                        if (value != value) {
+                            continue;
+                        }
+                        if (counts[column]++ == 0) {
+                            values[column] = value;
+                        } else if (aggregation == CellAggregation.MAX) {
+                            values[column] = Math.max(values[column], value);
+                        } else if (aggregation == CellAggregation.MIN) {
+                            values[column] = Math.min(values[column], value);
+                        } else {
+                            values[column] += value;
+                        }
+                    }
+                }
+            }
+            for (int column = 0; column < values.length; column++) {
+                if (counts[column] == 0) {
+                    values[column] = Double.NaN;
+                } else if (aggregation == CellAggregation.MEAN) {
+                    values[column] /= counts[column];
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * @param labels column labels
+     * @return one label per column block: the label, or the range of labels e.g. "a - d"
+     */
+    public String[] downscaleColumnLabels(final String[] labels) {
+        return downscaleLabels(labels, m_columnStart);
+    }
+
+    /**
+     * @param labels row labels
+     * @return one label per row block: the label, or the range of labels e.g. "a - d"
+     */
+    public String[] downscaleRowLabels(final String[] labels) {
+        return downscaleLabels(labels, m_rowStart);
+    }
+
+    /**
+     * Summarizes the info strings of each block as the first non empty string of the block, followed by the
+     * number of other non empty strings if they differ from it e.g. "peak at 5 (+12 more)"
+     *
+     * @param info info string of each cell (info[row][column])
+     * @return summary of each block
+     */
+    public String[][] summarize(final String[][] info) {
+        final String[][] result = new String[getRows()][getColumns()];
+        forEachRow(row -> {
+            for (int column = 0; column < result[row].length; column++) {
+                String first = null;
+                long others = 0;
+                for (int r = m_rowStart[row]; r < m_rowStart[row + 1]; r++) {
+                    for (int c = m_columnStart[column]; c < m_columnStart[column + 1]; c++) {
+                        final String value = info[r][c];
+                        if (value == null || value.isEmpty()) {
+                            continue;
+                        }
+                        if (first == null) {
+                            first = value;
+                        } else if (!first.equals(value)) {
+                            others++;
+                        }
+                    }
+                }
+                result[row][column] = first == null ? "" : others == 0 ? first : first + " (+" + others + " more)";
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Runs the action for every output row, in parallel over stripes of rows
+     *
+     * @param action computes one output row
+     */
+    private void forEachRow(final IntConsumer action) {
+        final int stripe = Math.max(1, getRows() / (S_TASKS_PER_THREAD * ForkJoinPool.getCommonPoolParallelism()));
+        ForkJoinPool.commonPool().invoke(new StripeTask(action, 0, getRows(), stripe));
+    }
+
+    /**
+     * @param labels labels of the rows or columns
+     * @param starts first index of each block and the length at the end
+     * @return one label per block
+     */
+    private static String[] downscaleLabels(final String[] labels, final int[] starts) {
+        final String[] result = new String[starts.length - 1];
+        for (int i = 0; i < result.length; i++) {
+            final int first = starts[i];
+            final int last = starts[i + 1] - 1;
+            result[i] = first == last ? labels[first] : labels[first] + " - " + labels[last];
+        }
+        return result;
+    }
+
+    /**
+     * @param length number of rows or columns
+     * @param blocks number of blocks
+     * @return first index of each block and length at the end
+     */
+    private static int[] getBlockStarts(final int length, final int blocks) {
+        final int[] starts = new int[blocks + 1];
+        if (blocks == 0) {
+            return starts;
+        }
+        for (int i = 0; i <= blocks; i++) {
+            starts[i] = (int) ((long) i * length / blocks);
+        }
+        return starts;
+    }
+
+    /**
+     * Computes a stripe of output rows, splitting large stripes into subtasks
+     */
+    private static final class StripeTask extends RecursiveAction {
+
+        /**
+         * serialization version (ForkJoinTask is Serializable)
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * computes one output row
+         */
+        private final IntConsumer m_action;
+
+        /**
+         * first row of the stripe
+         */
+        private final int m_from;
+
+        /**
+         * row after the stripe
+         */
+        private final int m_to;
+
+        /**
+         * max rows computed without splitting
+         */
+        private final int m_stripe;
+
+        /**
+         * @param action computes one output row
+         * @param from first row of the stripe
+         * @param to row after the stripe
+         * @param stripe max rows computed without splitting
+         */
+        StripeTask(final IntConsumer action, final int from, final int to, final int stripe) {
+            m_action = action;
+            m_from = from;
+            m_to = to;
+            m_stripe = stripe;
+        }
+
+        @Override
+        protected void compute() {
+            if (m_to - m_from > m_stripe) {
+                final int middle = (m_from + m_to) >>> 1;
+                invokeAll(new StripeTask(m_action, m_from, middle, m_stripe), new StripeTask(m_action, middle, m_to, m_stripe));
+                return;
+            }
+            for (int row = m_from; row < m_to; row++) {
+                m_action.accept(row);
+            }
+        }
+    }
+}
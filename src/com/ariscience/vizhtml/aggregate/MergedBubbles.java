@@ -0,0 +1,142 @@
+package com.ariscience.vizhtml.aggregate;
+
+/**
+ * Bubbles merged by a {@link BubbleMerger}: each merged bubble is drawn at its largest bubble (the anchor), its
+ * size is the sum of the sizes of its bubbles
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+public final class MergedBubbles {
+
+    /**
+     * x value of each merged bubble
+     */
+    private final double[] m_x;
+
+    /**
+     * y value of each merged bubble
+     */
+    private final double[] m_y;
+
+    /**
+     * sum of the sizes of the bubbles of each merged bubble
+     */
+    private final double[] m_z;
+
+    /**
+     * number of bubbles of each merged bubble
+     */
+    private final int[] m_counts;
+
+    /**
+     * index of the largest bubble of each merged bubble
+     */
+    private final int[] m_anchors;
+
+    /**
+     * merged bubble of each input bubble, -1 for bubbles skipped (null or infinite x or y)
+     */
+    private final int[] m_mergedOf;
+
+    /**
+     * @param x x value of each merged bubble
+     * @param y y value of each merged bubble
+     * @param z sum of the sizes of each merged bubble
+     * @param counts number of bubbles of each merged bubble
+     * @param anchors index of the largest bubble of each merged bubble
+     * @param mergedOf merged bubble of each input bubble, -1 for skipped bubbles
+     */
+    MergedBubbles(final double[] x, final double[] y, final double[] z, final int[] counts, final int[] anchors,
+                  final int[] mergedOf) {
+        m_x = x;
+        m_y = y;
+        m_z = z;
+        m_counts = counts;
+        m_anchors = anchors;
+        m_mergedOf = mergedOf;
+    }
+
+    /**
+     * @return number of merged bubbles
+     */
+    public int getLength() {
+        return m_counts.length;
+    }
+
+    /**
+     * @return x value of each merged bubble
+     */
+    public double[] getX() {
+        return m_x;
+    }
+
+    /**
+     * @return y value of each merged bubble
+     */
+    public double[] getY() {
+        return m_y;
+    }
+
+    /**
+     * @return sum of the sizes of the bubbles of each merged bubble
+     */
+    public double[] getZ() {
+        return m_z;
+    }
+
+    /**
+     * @return number of bubbles of each merged bubble
+     */
+    public int[] getCounts() {
+        return m_counts;
+    }
+
+    /**
+     * @return index of the largest bubble of each merged bubble
+     */
+    public int[] getAnchors() {
+        return m_anchors;
+    }
+
+    /**
+     * @param bubble index of an input bubble
+     * @return its merged bubble, -1 if it was skipped (null or infinite x or y)
+     */
+    public int getMergedOf(final int bubble) {
+        return m_mergedOf[bubble];
+    }
+
+    /**
+     * @param labels label of each input bubble
+     * @return label of the anchor of each merged bubble
+     */
+    public String[] selectAnchors(final String[] labels) {
+        final String[] result = new String[m_anchors.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = labels[m_anchors[i]];
+        }
+        return result;
+    }
+
+    /**
+     * Summarizes the info strings of each merged bubble as the info of its anchor (or its first non empty info)
+     * followed by the number of other bubbles e.g. "Turkey (+12 more)"
+     *
+     * @param info info string of each input bubble
+     * @return summary of each merged bubble
+     */
+    public String[] summarize(final String[] info) {
+        final String[] first = selectAnchors(info);
+        for (int bubble = 0; bubble < m_mergedOf.length; bubble++) {
+            final int merged = m_mergedOf[bubble];
+            if (merged >= 0 && (first[merged] == null || first[merged].isEmpty())) {
+                first[merged] = info[bubble];
+            }
+        }
+        for (int i = 0; i < first.length; i++) {
+            final String value = first[i] == null ? "" : first[i];
+            first[i] = m_counts[i] == 1 ? value : value.isEmpty() ? m_counts[i] + " bubbles" : value + " (+" + (m_counts[i] - 1) + " more)";
+        }
+        return first;
+    }
+}
@@ -0,0 +1,266 @@
+package com.ariscience.vizhtml.aggregate;
+
+import java.util.Arrays;
+
+/**
+ * <pre>
+ * The K largest slices of a pie chart and the sum of the other slices, drawn as one "Other" slice
+ *
+ * The largest values are selected with a bounded min heap of K indices (primitive arrays), so selecting from
+ * n categories takes O(n log K) time. The sum of the other values is exact for integer values
+ * (Integer, Long, Short, Byte), summed as a long, and compensated (Neumaier) for floating point values, so it
+ * does not drift with millions of small slices. Null and NaN values are neither selected nor summed.
+ * </pre>
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+public final class TopSlices {
+
+    /**
+     * default label of the other slice
+     */
+    public static final String S_OTHER_LABEL = "Other";
+
+    /**
+     * indices of the largest values, the largest first
+     */
+    private final int[] m_indices;
+
+    /**
+     * sum of the other values (Long if they are all integers, otherwise Double), null if there is none
+     */
+    private final Number m_other;
+
+    /**
+     * number of other values
+     */
+    private final int m_otherCount;
+
+    /**
+     * @param indices indices of the largest values, the largest first
+     * @param other sum of the other values, null if there is none
+     * @param otherCount number of other values
+     */
+    private TopSlices(final int[] indices, final Number other, final int otherCount) {
+        m_indices = indices;
+        m_other = other;
+        m_otherCount = otherCount;
+    }
+
+    /**
+     * Selects the largest values
+     *
+     * @param values slice values
+     * @param k max number of slices (at least 1)
+     * @return the largest values and the sum of the others
+     */
+    public static TopSlices of(final Number[] values, final int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("number of slices must be at least 1");
+        }
+        // min heap of the largest values seen: heap[0] is the smallest of them, replaced by larger values
+        final int capacity = Math.min(k, values.length);
+        final int[] heap = new int[capacity];
+        final double[] heapValues = new double[capacity];
+        int size = 0;
+        for (int i = 0; i < values.length; i++) {
+            final double value = valueOf(values[i]);
+            if (value != value) {
+                continue;
+            }
+            if (size < capacity) {
+                heap[size] = i;
+                heapValues[size] = value;
+                siftUp(heap, heapValues, size++);
+            } else if (value > heapValues[0]) {
+                heap[0] = i;
+                heapValues[0] = value;
+                siftDown(heap, heapValues, size);
+            }
+        }
+
+        // largest first: repeatedly move the smallest to the end
+        final int[] indices = Arrays.copyOf(heap, size);
+        for (int last = size - 1; last > 0; last--) {
+            indices[last] = heap[0];
+            heap[0] = heap[last];
+            heapValues[0] = heapValues[last];
+            siftDown(heap, heapValues, last);
+        }
+        if (size > 0) {
+            indices[0] = heap[0];
+        }
+        return new TopSlices(indices, null, 0).withOther(values);
+    }
+
+    /**
+     * @return indices of the largest values, the largest first
+     */
+    public int[] getIndices() {
+        return m_indices;
+    }
+
+    /**
+     * @return sum of the other values (Long if they are all integers, otherwise Double), null if there is none
+     */
+    public Number getOther() {
+        return m_other;
+    }
+
+    /**
+     * @return number of values summed in the other slice
+     */
+    public int getOtherCount() {
+        return m_otherCount;
+    }
+
+    /**
+     * @param labels label (or info) of each value
+     * @param other label of the other slice
+     * @return labels of the largest values, the largest first, followed by the other label if there is an
+     * other slice
+     */
+    public String[] select(final String[] labels, final String other) {
+        final String[] result = new String[m_indices.length + (m_other == null ? 0 : 1)];
+        for (int i = 0; i < m_indices.length; i++) {
+            result[i] = labels[m_indices[i]];
+        }
+        if (m_other != null) {
+            result[m_indices.length] = other;
+        }
+        return result;
+    }
+
+    /**
+     * @param values slice values
+     * @return the largest values, the largest first, followed by the sum of the others if there is an other slice
+     */
+    public Number[] select(final Number[] values) {
+        final Number[] result = new Number[m_indices.length + (m_other == null ? 0 : 1)];
+        for (int i = 0; i < m_indices.length; i++) {
+            result[i] = values[m_indices[i]];
+        }
+        if (m_other != null) {
+            result[m_indices.length] = m_other;
+        }
+        return result;
+    }
+
+    /**
+     * @param values slice values
+     * @return these slices with the sum of the values not selected
+     */
+    private TopSlices withOther(final Number[] values) {
+        final boolean[] selected = new boolean[values.length];
+        for (int index : m_indices) {
+            selected[index] = true;
+        }
+        boolean integers = true;
+        long longSum = 0;
+        double sum = 0;
+        double compensation = 0;
+        int count = 0;
+        for (int i = 0; i < values.length; i++) {
+            final Number value = values[i];
+            final double doubleValue = valueOf(value);
+            if (selected[i] || doubleValue != doubleValue) {
+                continue;
+            }
+            count++;
+            if (integers && isInteger(value)) {
+                final long total = longSum + value.longValue();
+                if (((longSum ^ total) & (value.longValue() ^ total)) >= 0) {
+                    longSum = total;
+                    continue;
+                }
+            }
+            // long overflow or floating point values: compensated double sum from here on
+            integers = false;
+            final double total = sum + doubleValue;
+            compensation += Math.abs(sum) >= Math.abs(doubleValue) ? (sum - total) + doubleValue : (doubleValue - total) + sum;
+            sum = total;
+        }
+        if (count == 0) {
+            return this;
+        }
+        return new TopSlices(m_indices, integers ? (Number) longSum : (Number) (sum + compensation + longSum), count);
+    }
+
+    /**
+     * @param value value
+     * @return true for integer types
+     */
+    private static boolean isInteger(final Number value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+
+    /**
+     * @param value value
+     * @return the value as double, NaN for null
+     */
+    private static double valueOf(final Number value) {
+        return value == null ? Double.NaN : value.doubleValue();
+    }
+
+    /**
+     * Moves a heap entry up to its place
+     *
+     * @param heap value indices
+     * @param values heap values
+     * @param position entry to move
+     */
+    private static void siftUp(final int[] heap, final double[] values, int position) {
+        final int index = heap[position];
+        final double value = values[position];
+        while (position > 0) {
+            final int parent = (position - 1) >>> 1;
+            if (!isSmaller(value, index, values[parent], heap[parent])) {
+                break;
+            }
+            heap[position] = heap[parent];
+            values[position] = values[parent];
+            position = parent;
+        }
+        heap[position] = index;
+        values[position] = value;
+    }
+
+    /**
+     * Moves the root of a heap down to its place
+     *
+     * @param heap value indices
+     * @param values heap values
+     * @param size heap size
+     */
+    private static void siftDown(final int[] heap, final double[] values, final int size) {
+        final int index = heap[0];
+        final double value = values[0];
+        int position = 0;
+        for (int child = 1; child < size; child = 2 * position + 1) {
+            if (child + 1 < size && isSmaller(values[child + 1], heap[child + 1], values[child], heap[child])) {
+                child++;
+            }
+            if (!isSmaller(values[child], heap[child], value, index)) {
+                break;
+            }
+            heap[position] = heap[child];
+            values[position] = values[child];
+            position = child;
+        }
+        heap[position] = index;
+        values[position] = value;
+    }
+
+    /**
+     * Heap order: smaller values first, of equal values the later one first (so earlier categories are kept)
+     *
+     * @param value first value
+     * @param index index of the first value
+     * @param other second value
+     * @param otherIndex index of the second value
+     * @return true if the first value comes before the second
+     */
+    private static boolean isSmaller(final double value, final int index, final double other, final int otherIndex) {
+        return value < other || (value == other && index > otherIndex);
+    }
+}
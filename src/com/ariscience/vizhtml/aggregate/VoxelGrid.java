@@ -0,0 +1,217 @@
+package com.ariscience.vizhtml.aggregate;
+
+import com.ariscience.vizhtml.VizHTMLEnums.VoxelReduction;
+import com.ariscience.vizhtml.common.LongIntHashMap;
+import com.ariscience.vizhtml.data.NumericData;
+
+import java.util.Arrays;
+import java.util.DoubleSummaryStatistics;
+import java.util.stream.IntStream;
+
+/**
+ * <pre>
+ * Decimates 3D point clouds: the bounding box of the points is cut into voxelsPerAxis^3 voxels and every voxel
+ * keeps one point (see {@link VoxelReduction}) and the number of its points
+ *
+ * The box is computed over all series, so the voxels of different series line up. The voxel of a point is
+ * found arithmetically and its index (x + y * n + z * n^2) is looked up in a primitive long to int hash map,
+ * so the memory used grows with the number of non empty voxels, not with the grid. Series are decimated in
+ * parallel, the points of a series in order, so the first point of a voxel is the same on every run.
+ * Points with a null (NaN) or infinite value are skipped.
+ * </pre>
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+public final class VoxelGrid {
+
+    /**
+     * default number of voxels per axis
+     */
+    public static final int S_VOXELS_PER_AXIS = 100;
+
+    /**
+     * max number of voxels per axis (the voxel index of a point fits in a long)
+     */
+    public static final int S_MAX_VOXELS_PER_AXIS = 1 << 20;
+
+    /**
+     * initial capacity of the voxel arrays and map of a series
+     */
+    private static final int S_INITIAL_CAPACITY = 1 << 12;
+
+    /**
+     * x values
+     */
+    private final NumericData m_x;
+
+    /**
+     * y values
+     */
+    private final NumericData m_y;
+
+    /**
+     * z values
+     */
+    private final NumericData m_z;
+
+    /**
+     * number of voxels per axis
+     */
+    private final int m_voxelsPerAxis;
+
+    /**
+     * smallest x, y and z value
+     */
+    private final double[] m_min = new double[3];
+
+    /**
+     * voxels per unit of x, y and z
+     */
+    private final double[] m_scale = new double[3];
+
+    /**
+     * Constructor, computes the bounding box of all series (in parallel)
+     *
+     * @param x x values
+     * @param y y values
+     * @param z z values
+     * @param voxelsPerAxis number of voxels per axis (1 ... S_MAX_VOXELS_PER_AXIS)
+     */
+    public VoxelGrid(final NumericData x, final NumericData y, final NumericData z, final int voxelsPerAxis) {
+        if (voxelsPerAxis < 1 || voxelsPerAxis > S_MAX_VOXELS_PER_AXIS) {
+            throw new IllegalArgumentException("voxels per axis must be between 1 and " + S_MAX_VOXELS_PER_AXIS);
+        }
+        m_x = x;
+        m_y = y;
+        m_z = z;
+        m_voxelsPerAxis = voxelsPerAxis;
+        final NumericData[] axes = {x, y, z};
+        for (int axis = 0; axis < axes.length; axis++) {
+            final DoubleSummaryStatistics range = getRange(axes[axis]);
+            m_min[axis] = range.getMin();
+            m_scale[axis] = range.getMax() > range.getMin() ? voxelsPerAxis / (range.getMax() - range.getMin()) : 0;
+        }
+    }
+
+    /**
+     * @return number of voxels per axis
+     */
+    public int getVoxelsPerAxis() {
+        return m_voxelsPerAxis;
+    }
+
+    /**
+     * Decimates all series, in parallel
+     *
+     * @param reduction point kept per voxel (not NONE)
+     * @return the voxel points of each series
+     */
+    public VoxelPoints[] decimateAll(final VoxelReduction reduction) {
+        checkReduction(reduction);
+        final VoxelPoints[] result = new VoxelPoints[m_x.getSeriesCount()];
+        IntStream.range(0, result.length).parallel().forEach(s -> result[s] = decimate(s, reduction));
+        return result;
+    }
+
+    /**
+     * Decimates a series
+     *
+     * @param series series index
+     * @param reduction point kept per voxel (not NONE)
+     * @return the voxel points of the series
+     */
+    public VoxelPoints decimate(final int series, final VoxelReduction reduction) {
+        checkReduction(reduction);
+        final boolean centroid = reduction == VoxelReduction.CENTROID;
+        final int length = Math.min(m_x.getLength(series), Math.min(m_y.getLength(series), m_z.getLength(series)));
+        final int capacity = Math.min(length, S_INITIAL_CAPACITY);
+        final LongIntHashMap voxels = new LongIntHashMap(capacity, -1);
+        double[] x = new double[capacity];
+        double[] y = new double[capacity];
+        double[] z = new double[capacity];
+        int[] counts = new int[capacity];
+        int[] first = new int[capacity];
+        int size = 0;
+
+        for (int i = 0; i < length; i++) {
+            final double xValue = m_x.getDouble(series, i);
+            final double yValue = m_y.getDouble(series, i);
+            final double zValue = m_z.getDouble(series, i);
+            if (!Double.isFinite(xValue) || !Double.isFinite(yValue) || !Double.isFinite(zValue)) {
+                continue;
+            }
+            final long key = voxelOf(xValue, 0) + m_voxelsPerAxis * (voxelOf(yValue, 1) + (long) m_voxelsPerAxis * voxelOf(zValue, 2));
+            final int voxel = voxels.putIfAbsent(key, size);
+            if (voxel >= 0) {
+                counts[voxel]++;
+                if (centroid) {
+                    x[voxel] += xValue;
+                    y[voxel] += yValue;
+                    z[voxel] += zValue;
+                }
+                continue;
+            }
+            if (size == counts.length) {
+                final int grown = Math.max(1, size * 2);
+                x = Arrays.copyOf(x, grown);
+                y = Arrays.copyOf(y, grown);
+                z = Arrays.copyOf(z, grown);
+                counts = Arrays.copyOf(counts, grown);
+                first = Arrays.copyOf(first, grown);
+            }
+            x[size] = xValue;
+            y[size] = yValue;
+            z[size] = zValue;
+            counts[size] = 1;
+            first[size] = i;
+            size++;
+        }
+
+        if (centroid) {
+            for (int voxel = 0; voxel < size; voxel++) {
+                x[voxel] /= counts[voxel];
+                y[voxel] /= counts[voxel];
+                z[voxel] /= counts[voxel];
+            }
+        }
+        return new VoxelPoints(Arrays.copyOf(x, size), Arrays.copyOf(y, size), Arrays.copyOf(z, size),
+                Arrays.copyOf(counts, size), Arrays.copyOf(first, size));
+    }
+
+    /**
+     * @param value finite value
+     * @param axis 0 for x, 1 for y, 2 for z
+     * @return voxel of the value along the axis
+     */
+    private int voxelOf(final double value, final int axis) {
+        return Math.min((int) ((value - m_min[axis]) * m_scale[axis]), m_voxelsPerAxis - 1);
+    }
+
+    /**
+     * @param reduction point kept per voxel
+     */
+    private static void checkReduction(final VoxelReduction reduction) {
+        if (reduction == null || reduction == VoxelReduction.NONE) {
+            throw new IllegalArgumentException("Unsupported voxel reduction " + reduction);
+        }
+    }
+
+    /**
+     * @param data values
+     * @return min and max of the finite values of all series (parallel)
+     */
+    private static DoubleSummaryStatistics getRange(final NumericData data) {
+        final DoubleSummaryStatistics range = new DoubleSummaryStatistics();
+        for (int s = 0; s < data.getSeriesCount(); s++) {
+            final int series = s;
+            range.combine(IntStream.range(0, data.getLength(series)).parallel()
+                    .mapToDouble(i -> data.getDouble(series, i))
+                    .filter(Double::isFinite)
+                    .summaryStatistics());
+        }
+        if (range.getCount() == 0) {
+            range.accept(0);
+        }
+        return range;
+    }
+}
@@ -0,0 +1,103 @@
+package com.ariscience.vizhtml.aggregate;
+
+/**
+ * Points of a series decimated by a {@link VoxelGrid}: one point per non empty voxel, in the order the voxels
+ * were first hit, with the number of points of the voxel and the index of its first point (e.g. for its info)
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+public final class VoxelPoints {
+
+    /**
+     * x value of each voxel point
+     */
+    private final double[] m_x;
+
+    /**
+     * y value of each voxel point
+     */
+    private final double[] m_y;
+
+    /**
+     * z value of each voxel point
+     */
+    private final double[] m_z;
+
+    /**
+     * number of points of each voxel
+     */
+    private final int[] m_counts;
+
+    /**
+     * index of the first point of each voxel
+     */
+    private final int[] m_first;
+
+    /**
+     * @param x x value of each voxel point
+     * @param y y value of each voxel point
+     * @param z z value of each voxel point
+     * @param counts number of points of each voxel
+     * @param first index of the first point of each voxel
+     */
+    VoxelPoints(final double[] x, final double[] y, final double[] z, final int[] counts, final int[] first) {
+        m_x = x;
+        m_y = y;
+        m_z = z;
+        m_counts = counts;
+        m_first = first;
+    }
+
+    /**
+     * @return number of voxel points
+     */
+    public int getLength() {
+        return m_counts.length;
+    }
+
+    /**
+     * @return x value of each voxel point
+     */
+    public double[] getX() {
+        return m_x;
+    }
+
+    /**
+     * @return y value of each voxel point
+     */
+    public double[] getY() {
+        return m_y;
+    }
+
+    /**
+     * @return z value of each voxel point
+     */
+    public double[] getZ() {
+        return m_z;
+    }
+
+    /**
+     * @return number of points of each voxel
+     */
+    public int[] getCounts() {
+        return m_counts;
+    }
+
+    /**
+     * @return index of the first point of each voxel in the series
+     */
+    public int[] getFirst() {
+        return m_first;
+    }
+
+    /**
+     * @return largest number of points of a voxel (0 if there is none)
+     */
+    public int getMaxCount() {
+        int max = 0;
+        for (int count : m_counts) {
+            max = Math.max(max, count);
+        }
+        return max;
+    }
+}
@@ -35,6 +35,13 @@ public abstract class EdgeBase {
      */
     protected final long m_edgeID = s_sequentialIDGenerator.getAndIncrement();
 
+    /**
+     * @return the auto assigned sequential ID of this edge
+     */
+    public long getEdgeID() {
+        return m_edgeID;
+    }
+
     /**
      * @return preferred color (if any). null means use default color.
      */
@@ -0,0 +1,744 @@
+package com.ariscience.vizhtml.common;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * <pre>
+ * Loads a {@link GraphD} or {@link GraphU} from an edge list file, one edge per line:
+ *     source TAB target [TAB weight [TAB color [TAB information]]]
+ * e.g.
+ *     Ankara	Istanbul	450.5	#FF0000	highway
+ *
+ * Vertices are named by their keys (the source and target strings, kept as the vertex information) and created
+ * once per key, in the order they first occur in the file. Empty weights are 1, empty colors and information null;
+ * colors are anything {@link Color#decode(String)} takes, e.g. #FF0000. Fields are not trimmed, empty lines
+ * and lines starting with # are skipped, and columns after the information are ignored.
+ *
+ * The file is memory mapped in chunks of whole lines that are parsed in parallel: each chunk numbers the distinct
+ * keys, colors and information strings it meets in place in the mapped bytes, so a string is created once per
+ * distinct value and chunk rather than once per line, and weights are parsed from the bytes. The chunk results are
+ * then merged in file order (so vertex and edge IDs follow the file) and the edges of each chunk are added to
+ * the graph in parallel. Edges of a vertex met in several chunks may be indexed in any order of the chunks.
+ *
+ * For a compact snapshot of the loaded graph use {@link GraphCSR#of(GraphD)} or {@link GraphCSR#of(GraphU)}.
+ * </pre>
+ *
+ * (c) 2018-2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+public final class EdgeListLoader {
+
+    /**
+     * default field separator
+     */
+    public static final char S_SEPARATOR = '\t';
+
+    /**
+     * default number of bytes per chunk (a chunk ends at the end of the line at this size)
+     */
+    public static final int S_CHUNK_BYTES = 64 << 20;
+
+    /**
+     * number of fields used: source, target, weight, color, information
+     */
+    private static final int S_FIELDS = 5;
+
+    /**
+     * exact powers of ten as doubles
+     */
+    private static final double[] S_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    /**
+     * field separator
+     */
+    private byte m_separator = (byte) S_SEPARATOR;
+
+    /**
+     * number of bytes per chunk
+     */
+    private int m_chunkBytes = S_CHUNK_BYTES;
+
+    /**
+     * true to skip the first line (a header)
+     */
+    private boolean m_skipHeader = false;
+
+    /**
+     * Sets the field separator (tab by default)
+     *
+     * @param separator an ASCII character other than a line break
+     */
+    public void setSeparator(final char separator) {
+        if (separator > 127 || separator == '\n' || separator == '\r') {
+            throw new IllegalArgumentException("separator must be an ASCII character other than a line break");
+        }
+        m_separator = (byte) separator;
+    }
+
+    /**
+     * Sets the size of the chunks parsed in parallel
+     *
+     * @param chunkBytes number of bytes per chunk (at least 1)
+     */
+    public void setChunkBytes(final int chunkBytes) {
+        if (chunkBytes < 1) {
+            throw new IllegalArgumentException("chunk size must be at least 1 byte");
+        }
+        m_chunkBytes = chunkBytes;
+    }
+
+    /**
+     * @param skipHeader true to skip the first line of the file (false by default)
+     */
+    public void setSkipHeader(final boolean skipHeader) {
+        m_skipHeader = skipHeader;
+    }
+
+    /**
+     * Loads a directed graph, each line an edge from its source to its target
+     *
+     * @param file edge list file
+     * @param name name of the graph
+     * @return the graph
+     * @throws IOException on IO error reading the file
+     */
+    public GraphD loadDirected(final Path file, final String name) throws IOException {
+        final Loaded loaded = load(file);
+        final GraphD graph = new GraphD(name);
+        loaded.m_vertices.forEach(graph::addVertex);
+        final EdgeD[][] edges = new EdgeD[loaded.m_chunks.length][];
+        for (int c = 0; c < edges.length; c++) {
+            final Chunk chunk = loaded.m_chunks[c];
+            edges[c] = new EdgeD[chunk.m_size];
+            for (int i = 0; i < chunk.m_size; i++) {
+                edges[c][i] = new EdgeD(loaded.getSource(c, i), loaded.getTarget(c, i),
+                        loaded.getColor(c, i), loaded.getInformation(c, i));
+                edges[c][i].setWeight(chunk.m_weights[i]);
+            }
+        }
+        IntStream.range(0, edges.length).parallel().forEach(c -> {
+            for (EdgeD edge : edges[c]) {
+                graph.addEdge(edge, false);
+            }
+        });
+        return graph;
+    }
+
+    /**
+     * Loads an undirected graph, each line an edge between its source and its target
+     *
+     * @param file edge list file
+     * @param name name of the graph
+     * @return the graph
+     * @throws IOException on IO error reading the file
+     */
+    public GraphU loadUndirected(final Path file, final String name) throws IOException {
+        final Loaded loaded = load(file);
+        final GraphU graph = new GraphU(name);
+        loaded.m_vertices.forEach(graph::addVertex);
+        final EdgeU[][] edges = new EdgeU[loaded.m_chunks.length][];
+        for (int c = 0; c < edges.length; c++) {
+            final Chunk chunk = loaded.m_chunks[c];
+            edges[c] = new EdgeU[chunk.m_size];
+            for (int i = 0; i < chunk.m_size; i++) {
+                edges[c][i] = new EdgeU(loaded.getSource(c, i), loaded.getTarget(c, i),
+                        loaded.getColor(c, i), loaded.getInformation(c, i));
+                edges[c][i].setWeight(chunk.m_weights[i]);
+            }
+        }
+        IntStream.range(0, edges.length).parallel().forEach(c -> {
+            for (EdgeU edge : edges[c]) {
+                graph.addEdge(edge, false);
+            }
+        });
+        return graph;
+    }
+
+    /**
+     * Parses the chunks of a file in parallel and merges their strings
+     *
+     * @param file edge list file
+     * @return vertices, colors, information strings and the edges of each chunk
+     * @throws IOException on IO error reading the file
+     */
+    private Loaded load(final Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long[] starts = split(channel);
+            final Chunk[] chunks;
+            try {
+                chunks = IntStream.range(0, starts.length - 1).parallel()
+                        .mapToObj(c -> parse(channel, starts[c], starts[c + 1], c == 0 && m_skipHeader))
+                        .toArray(Chunk[]::new);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            return new Loaded(chunks);
+        }
+    }
+
+    /**
+     * Splits a file into chunks of whole lines
+     *
+     * @param channel the file
+     * @return start of each chunk and the file size at the end
+     * @throws IOException on IO error reading the file
+     */
+    private long[] split(final FileChannel channel) throws IOException {
+        final long size = channel.size();
+        final List<Long> starts = new ArrayList<>();
+        starts.add(0L);
+        final ByteBuffer buffer = ByteBuffer.allocate(8192);
+        long start = 0;
+        while (size - start > m_chunkBytes) {
+            // the next chunk starts after the first line break at or after the chunk size
+            long position = start + m_chunkBytes - 1;
+            long next = size;
+            while (position < size && next == size) {
+                buffer.clear();
+                final int read = channel.read(buffer, position);
+                if (read <= 0) {
+                    break;
+                }
+                for (int i = 0; i < read; i++) {
+                    if (buffer.get(i) == '\n') {
+                        next = position + i + 1;
+                        break;
+                    }
+                }
+                position += read;
+            }
+            if (next - start > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("line too long at byte " + start);
+            }
+            if (next >= size) {
+                break;
+            }
+            starts.add(next);
+            start = next;
+        }
+        if (size - start > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("line too long at byte " + start);
+        }
+        final long[] result = new long[starts.size() + 1];
+        for (int i = 0; i < starts.size(); i++) {
+            result[i] = starts.get(i);
+        }
+        result[starts.size()] = size;
+        return result;
+    }
+
+    /**
+     * Parses the lines of a chunk
+     *
+     * @param channel the file
+     * @param start first byte of the chunk
+     * @param end byte after the chunk
+     * @param skipFirst true to skip the first line
+     * @return the edges of the chunk
+     */
+    private Chunk parse(final FileChannel channel, final long start, final long end, final boolean skipFirst) {
+        final MappedByteBuffer buffer;
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        final int length = buffer.limit();
+        final Chunk chunk = new Chunk(buffer, length / 32 + 16);
+        final int[] fieldStart = new int[S_FIELDS];
+        final int[] fieldEnd = new int[S_FIELDS];
+        int lineStart = 0;
+        boolean skip = skipFirst;
+        while (lineStart < length) {
+            int lineEnd = lineStart;
+            while (lineEnd < length && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            final int next = lineEnd + 1;
+            if (lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r') {
+                lineEnd--;
+            }
+            if (skip || lineEnd == lineStart || buffer.get(lineStart) == '#') {
+                skip = false;
+                lineStart = next;
+                continue;
+            }
+
+            // fields of the line (missing fields are empty)
+            int fields = 0;
+            fieldStart[0] = lineStart;
+            for (int i = lineStart; i < lineEnd && fields < S_FIELDS - 1; i++) {
+                if (buffer.get(i) == m_separator) {
+                    fieldEnd[fields++] = i;
+                    fieldStart[fields] = i + 1;
+                }
+            }
+            fieldEnd[fields] = fields == S_FIELDS - 1 ? indexOf(buffer, m_separator, fieldStart[fields], lineEnd) : lineEnd;
+            if (fields == 0) {
+                throw new IllegalArgumentException("edge needs a source and a target at byte " + (start + lineStart));
+            }
+            for (int f = fields + 1; f < S_FIELDS; f++) {
+                fieldStart[f] = lineEnd;
+                fieldEnd[f] = lineEnd;
+            }
+
+            chunk.add(chunk.m_keys.codeOf(fieldStart[0], fieldEnd[0]),
+                    chunk.m_keys.codeOf(fieldStart[1], fieldEnd[1]),
+                    parseWeight(buffer, fieldStart[2], fieldEnd[2], start),
+                    fieldEnd[3] > fieldStart[3] ? chunk.m_colors.codeOf(fieldStart[3], fieldEnd[3]) : -1,
+                    fieldEnd[4] > fieldStart[4] ? chunk.m_information.codeOf(fieldStart[4], fieldEnd[4]) : -1);
+            lineStart = next;
+        }
+        return chunk;
+    }
+
+    /**
+     * @param buffer chunk bytes
+     * @param value byte to find
+     * @param from first byte to look at
+     * @param to byte after the last byte to look at
+     * @return index of the first byte equal to the value, to if there is none
+     */
+    private static int indexOf(final ByteBuffer buffer, final byte value, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == value) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    /**
+     * Parses a weight: plain decimals (e.g. -12.75) directly from the bytes, anything else through
+     * {@link Double#parseDouble(String)}
+     *
+     * @param buffer chunk bytes
+     * @param from first byte of the field
+     * @param to byte after the field
+     * @param chunkStart file position of the chunk (for errors)
+     * @return the weight, 1 for an empty field
+     */
+    private static double parseWeight(final ByteBuffer buffer, final int from, final int to, final long chunkStart) {
+        if (from == to) {
+            return 1d;
+        }
+        int i = from;
+        final boolean negative = buffer.get(i) == '-';
+        if (negative || buffer.get(i) == '+') {
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean point = false;
+        for (; i < to; i++) {
+            final byte b = buffer.get(i);
+            if (b >= '0' && b <= '9') {
+                mantissa = mantissa * 10 + (b - '0');
+                digits++;
+                if (point) {
+                    scale++;
+                }
+                if (mantissa >= 1L << 53 || scale >= S_POWERS_OF_TEN.length) {
+                    break;
+                }
+            } else if (b == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        if (i == to && digits > 0) {
+            // both exact doubles, so the division is correctly rounded like parseDouble
+            final double value = mantissa / S_POWERS_OF_TEN[scale];
+            return negative ? -value : value;
+        }
+        final String text = decode(buffer, from, to);
+        try {
+            return Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid weight '" + text + "' at byte " + (chunkStart + from), e);
+        }
+    }
+
+    /**
+     * @param buffer chunk bytes
+     * @param from first byte
+     * @param to byte after the last byte
+     * @return the bytes as UTF-8 string
+     */
+    private static String decode(final ByteBuffer buffer, final int from, final int to) {
+        final byte[] bytes = new byte[to - from];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(from + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Edges of a chunk, with the keys, colors and information strings numbered per chunk
+     */
+    private static final class Chunk {
+
+        /**
+         * vertex keys of the chunk
+         */
+        private final ByteKeyTable m_keys;
+
+        /**
+         * colors of the chunk
+         */
+        private final ByteKeyTable m_colors;
+
+        /**
+         * information strings of the chunk
+         */
+        private final ByteKeyTable m_information;
+
+        /**
+         * source key of each edge
+         */
+        private int[] m_sources;
+
+        /**
+         * target key of each edge
+         */
+        private int[] m_targets;
+
+        /**
+         * weight of each edge
+         */
+        private double[] m_weights;
+
+        /**
+         * color of each edge (-1 for none)
+         */
+        private int[] m_colorCodes;
+
+        /**
+         * information of each edge (-1 for none)
+         */
+        private int[] m_informationCodes;
+
+        /**
+         * number of edges
+         */
+        private int m_size;
+
+        /**
+         * @param buffer chunk bytes
+         * @param capacity initial number of edges
+         */
+        Chunk(final ByteBuffer buffer, final int capacity) {
+            m_keys = new ByteKeyTable(buffer);
+            m_colors = new ByteKeyTable(buffer);
+            m_information = new ByteKeyTable(buffer);
+            m_sources = new int[capacity];
+            m_targets = new int[capacity];
+            m_weights = new double[capacity];
+            m_colorCodes = new int[capacity];
+            m_informationCodes = new int[capacity];
+        }
+
+        /**
+         * @param source source key
+         * @param target target key
+         * @param weight weight
+         * @param color color (-1 for none)
+         * @param information information (-1 for none)
+         */
+        void add(final int source, final int target, final double weight, final int color, final int information) {
+            if (m_size == m_sources.length) {
+                final int grown = m_size * 2;
+                m_sources = Arrays.copyOf(m_sources, grown);
+                m_targets = Arrays.copyOf(m_targets, grown);
+                m_weights = Arrays.copyOf(m_weights, grown);
+                m_colorCodes = Arrays.copyOf(m_colorCodes, grown);
+                m_informationCodes = Arrays.copyOf(m_informationCodes, grown);
+            }
+            m_sources[m_size] = source;
+            m_targets[m_size] = target;
+            m_weights[m_size] = weight;
+            m_colorCodes[m_size] = color;
+            m_informationCodes[m_size] = information;
+            m_size++;
+        }
+    }
+
+    /**
+     * Chunks merged in file order: one vertex per key, one Color and one String per distinct color and information
+     */
+    private static final class Loaded {
+
+        /**
+         * chunks in file order
+         */
+        private final Chunk[] m_chunks;
+
+        /**
+         * vertices in order of first occurrence
+         */
+        private final List<Vertex> m_vertices = new ArrayList<>();
+
+        /**
+         * vertex of each key of each chunk
+         */
+        private final Vertex[][] m_chunkVertices;
+
+        /**
+         * color of each color of each chunk
+         */
+        private final Color[][] m_chunkColors;
+
+        /**
+         * string of each information of each chunk
+         */
+        private final String[][] m_chunkInformation;
+
+        /**
+         * @param chunks chunks in file order
+         */
+        Loaded(final Chunk[] chunks) {
+            m_chunks = chunks;
+            m_chunkVertices = new Vertex[chunks.length][];
+            m_chunkColors = new Color[chunks.length][];
+            m_chunkInformation = new String[chunks.length][];
+            final Map<String, Vertex> vertices = new HashMap<>();
+            final Map<String, Color> colors = new HashMap<>();
+            final Map<String, String> information = new HashMap<>();
+            for (int c = 0; c < chunks.length; c++) {
+                final String[] keys = chunks[c].m_keys.getValues();
+                m_chunkVertices[c] = new Vertex[keys.length];
+                for (int k = 0; k < keys.length; k++) {
+                    Vertex vertex = vertices.get(keys[k]);
+                    if (vertex == null) {
+                        vertex = new Vertex(keys[k], null);
+                        vertices.put(keys[k], vertex);
+                        m_vertices.add(vertex);
+                    }
+                    m_chunkVertices[c][k] = vertex;
+                }
+                final String[] colorKeys = chunks[c].m_colors.getValues();
+                m_chunkColors[c] = new Color[colorKeys.length];
+                for (int k = 0; k < colorKeys.length; k++) {
+                    m_chunkColors[c][k] = colors.computeIfAbsent(colorKeys[k], EdgeListLoader::decodeColor);
+                }
+                final String[] informationKeys = chunks[c].m_information.getValues();
+                m_chunkInformation[c] = new String[informationKeys.length];
+                for (int k = 0; k < informationKeys.length; k++) {
+                    m_chunkInformation[c][k] = information.computeIfAbsent(informationKeys[k], key -> key);
+                }
+            }
+        }
+
+        /**
+         * @param chunk chunk number
+         * @param edge edge of the chunk
+         * @return source vertex of the edge
+         */
+        Vertex getSource(final int chunk, final int edge) {
+            return m_chunkVertices[chunk][m_chunks[chunk].m_sources[edge]];
+        }
+
+        /**
+         * @param chunk chunk number
+         * @param edge edge of the chunk
+         * @return target vertex of the edge
+         */
+        Vertex getTarget(final int chunk, final int edge) {
+            return m_chunkVertices[chunk][m_chunks[chunk].m_targets[edge]];
+        }
+
+        /**
+         * @param chunk chunk number
+         * @param edge edge of the chunk
+         * @return color of the edge (may be null)
+         */
+        Color getColor(final int chunk, final int edge) {
+            final int code = m_chunks[chunk].m_colorCodes[edge];
+            return code < 0 ? null : m_chunkColors[chunk][code];
+        }
+
+        /**
+         * @param chunk chunk number
+         * @param edge edge of the chunk
+         * @return information of the edge (may be null)
+         */
+        String getInformation(final int chunk, final int edge) {
+            final int code = m_chunks[chunk].m_informationCodes[edge];
+            return code < 0 ? null : m_chunkInformation[chunk][code];
+        }
+    }
+
+    /**
+     * @param color color string e.g. #FF0000
+     * @return the color
+     */
+    private static Color decodeColor(final String color) {
+        try {
+            return Color.decode(color);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid color '" + color + "'", e);
+        }
+    }
+
+    /**
+     * <pre>
+     * Numbers distinct byte strings of a buffer, compared in place
+     *
+     * Open addressing with linear probing; the table is a power of 2 and at most half full.
+     * A string is created only for the first occurrence of each byte string.
+     * </pre>
+     */
+    private static final class ByteKeyTable {
+
+        /**
+         * buffer holding the byte strings
+         */
+        private final ByteBuffer m_buffer;
+
+        /**
+         * code + 1 of each slot (0 for a free slot)
+         */
+        private int[] m_slots = new int[16];
+
+        /**
+         * hash of each code
+         */
+        private int[] m_hashes = new int[8];
+
+        /**
+         * first byte of the first occurrence of each code
+         */
+        private int[] m_starts = new int[8];
+
+        /**
+         * byte length of each code
+         */
+        private int[] m_lengths = new int[8];
+
+        /**
+         * string of each code
+         */
+        private String[] m_values = new String[8];
+
+        /**
+         * number of codes
+         */
+        private int m_size;
+
+        /**
+         * @param buffer buffer holding the byte strings
+         */
+        ByteKeyTable(final ByteBuffer buffer) {
+            m_buffer = buffer;
+        }
+
+        /**
+         * @param from first byte
+         * @param to byte after the last byte
+         * @return the code of the byte string, added if new
+         */
+        int codeOf(final int from, final int to) {
+            int hash = 0;
+            for (int i = from; i < to; i++) {
+                hash = 31 * hash + m_buffer.get(i);
+            }
+            hash *= 0x9E3779B9;
+            hash ^= hash >>> 16;
+            final int mask = m_slots.length - 1;
+            for (int slot = hash & mask; ; slot = slot + 1 & mask) {
+                final int code = m_slots[slot] - 1;
+                if (code < 0) {
+                    return insert(slot, hash, from, to);
+                }
+                if (m_hashes[code] == hash && matches(code, from, to)) {
+                    return code;
+                }
+            }
+        }
+
+        /**
+         * @return string of each code
+         */
+        String[] getValues() {
+            return Arrays.copyOf(m_values, m_size);
+        }
+
+        /**
+         * @param code a code
+         * @param from first byte
+         * @param to byte after the last byte
+         * @return true if the byte string of the code equals the bytes
+         */
+        private boolean matches(final int code, final int from, final int to) {
+            if (m_lengths[code] != to - from) {
+                return false;
+            }
+            final int start = m_starts[code];
+            for (int i = 0; i < to - from; i++) {
+                if (m_buffer.get(start + i) != m_buffer.get(from + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * @param slot free slot
+         * @param hash hash of the bytes
+         * @param from first byte
+         * @param to byte after the last byte
+         * @return the new code
+         */
+        private int insert(final int slot, final int hash, final int from, final int to) {
+            if (m_size == m_hashes.length) {
+                final int grown = m_size * 2;
+                m_hashes = Arrays.copyOf(m_hashes, grown);
+                m_starts = Arrays.copyOf(m_starts, grown);
+                m_lengths = Arrays.copyOf(m_lengths, grown);
+                m_values = Arrays.copyOf(m_values, grown);
+            }
+            final int code = m_size++;
+            m_hashes[code] = hash;
+            m_starts[code] = from;
+            m_lengths[code] = to - from;
+            m_values[code] = decode(m_buffer, from, to);
+            m_slots[slot] = code + 1;
+            if (m_size * 2 > m_slots.length) {
+                rehash();
+            }
+            return code;
+        }
+
+        /**
+         * Doubles the table
+         */
+        private void rehash() {
+            m_slots = new int[m_slots.length * 2];
+            final int mask = m_slots.length - 1;
+            for (int code = 0; code < m_size; code++) {
+                int slot = m_hashes[code] & mask;
+                while (m_slots[slot] != 0) {
+                    slot = slot + 1 & mask;
+                }
+                m_slots[slot] = code + 1;
+            }
+        }
+    }
+}
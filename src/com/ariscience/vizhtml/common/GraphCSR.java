@@ -0,0 +1,445 @@
+package com.ariscience.vizhtml.common;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+/**
+ * <pre>
+ * Immutable compressed sparse row (CSR) snapshot of a {@link GraphD} or {@link GraphU}
+ *
+ * Vertices are numbered 0 ... n-1 in vertex ID order. The edges leaving vertex v are the slots
+ * getOffset(v) ... getOffset(v + 1) - 1, in edge order; slot s leads to vertex getTarget(s) and has the
+ * weight, information and color of its edge. Undirected edges are stored in the rows of both vertices
+ * (self loops once), so every row lists all the neighbours of its vertex.
+ *
+ * Everything is held in primitive arrays: information strings and colors are dictionary encoded (each
+ * distinct value stored once, an int code per vertex or slot), so a snapshot takes a fraction of the memory of
+ * the Vertex and Edge objects and is iterated without chasing references.
+ * Edges without both vertices, or with a vertex not in the graph, are left out.
+ * </pre>
+ *
+ * (c) 2018-2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+public final class GraphCSR {
+
+    /**
+     * true for a snapshot of a directed graph
+     */
+    private final boolean m_directed;
+
+    /**
+     * vertex ID of each vertex
+     */
+    private final long[] m_vertexIDs;
+
+    /**
+     * vertex number of each vertex ID
+     */
+    private final LongIntHashMap m_vertexIndex;
+
+    /**
+     * preferred x of each vertex
+     */
+    private final double[] m_x;
+
+    /**
+     * preferred y of each vertex
+     */
+    private final double[] m_y;
+
+    /**
+     * preferred z of each vertex
+     */
+    private final double[] m_z;
+
+    /**
+     * preferred radius of each vertex
+     */
+    private final double[] m_radius;
+
+    /**
+     * information code of each vertex (-1 for null)
+     */
+    private final int[] m_vertexInformation;
+
+    /**
+     * color code of each vertex (-1 for null)
+     */
+    private final int[] m_vertexColor;
+
+    /**
+     * first slot of each vertex and the number of slots at the end
+     */
+    private final int[] m_offsets;
+
+    /**
+     * target vertex of each slot
+     */
+    private final int[] m_targets;
+
+    /**
+     * weight of the edge of each slot
+     */
+    private final double[] m_weights;
+
+    /**
+     * information code of the edge of each slot (-1 for null)
+     */
+    private final int[] m_edgeInformation;
+
+    /**
+     * color code of the edge of each slot (-1 for null)
+     */
+    private final int[] m_edgeColor;
+
+    /**
+     * number of edges in the snapshot
+     */
+    private final int m_edgeCount;
+
+    /**
+     * distinct information strings of vertices and edges
+     */
+    private final String[] m_informationDictionary;
+
+    /**
+     * distinct colors of vertices and edges
+     */
+    private final Color[] m_colorDictionary;
+
+    /**
+     * Builds the snapshot
+     *
+     * @param vertices vertices of the graph
+     * @param edges edges of the graph
+     * @param start start (one) vertex of an edge
+     * @param end end (other) vertex of an edge
+     * @param directed true for a directed graph
+     * @param <E> edge type
+     */
+    private <E extends EdgeBase> GraphCSR(final NavigableSet<Vertex> vertices, final NavigableSet<E> edges,
+                                          final Function<E, Vertex> start, final Function<E, Vertex> end,
+                                          final boolean directed) {
+        m_directed = directed;
+        final Dictionary<String> information = new Dictionary<>();
+        final Dictionary<Color> colors = new Dictionary<>();
+
+        // the graph may change meanwhile: both passes over the edges must see the same edges
+        final List<Vertex> vertexList = new ArrayList<>(vertices);
+        final List<E> edgeList = new ArrayList<>(edges);
+
+        final int count = vertexList.size();
+        m_vertexIDs = new long[count];
+        m_vertexIndex = new LongIntHashMap(count, -1);
+        m_x = new double[count];
+        m_y = new double[count];
+        m_z = new double[count];
+        m_radius = new double[count];
+        m_vertexInformation = new int[count];
+        m_vertexColor = new int[count];
+        int index = 0;
+        for (Vertex vertex : vertexList) {
+            m_vertexIDs[index] = vertex.getVertexID();
+            m_vertexIndex.put(vertex.getVertexID(), index);
+            m_x[index] = vertex.getPreferredX();
+            m_y[index] = vertex.getPreferredY();
+            m_z[index] = vertex.getPreferredZ();
+            m_radius[index] = vertex.getPreferredRadius();
+            m_vertexInformation[index] = information.codeOf(vertex.getInformation());
+            m_vertexColor[index] = colors.codeOf(vertex.getPreferredColor());
+            index++;
+        }
+
+        // first pass: number of slots of each vertex, second pass: fill the slots (counting sort)
+        m_offsets = new int[m_vertexIDs.length + 1];
+        int edgeCount = 0;
+        for (E edge : edgeList) {
+            final int from = indexOf(start.apply(edge));
+            final int to = indexOf(end.apply(edge));
+            if (from < 0 || to < 0) {
+                continue;
+            }
+            edgeCount++;
+            m_offsets[from + 1]++;
+            if (!directed && from != to) {
+                m_offsets[to + 1]++;
+            }
+        }
+        m_edgeCount = edgeCount;
+        for (int v = 0; v < m_vertexIDs.length; v++) {
+            m_offsets[v + 1] += m_offsets[v];
+        }
+
+        final int slots = m_offsets[m_vertexIDs.length];
+        m_targets = new int[slots];
+        m_weights = new double[slots];
+        m_edgeInformation = new int[slots];
+        m_edgeColor = new int[slots];
+        final int[] next = new int[m_vertexIDs.length];
+        System.arraycopy(m_offsets, 0, next, 0, next.length);
+        for (E edge : edgeList) {
+            final int from = indexOf(start.apply(edge));
+            final int to = indexOf(end.apply(edge));
+            if (from < 0 || to < 0) {
+                continue;
+            }
+            final int informationCode = information.codeOf(edge.getInformation());
+            final int colorCode = colors.codeOf(edge.getPreferredColor());
+            setSlot(next[from]++, to, edge.getWeight(), informationCode, colorCode);
+            if (!directed && from != to) {
+                setSlot(next[to]++, from, edge.getWeight(), informationCode, colorCode);
+            }
+        }
+
+        m_informationDictionary = information.getValues().toArray(new String[0]);
+        m_colorDictionary = colors.getValues().toArray(new Color[0]);
+    }
+
+    /**
+     * @param graph directed graph
+     * @return snapshot of the graph, one slot per edge in the row of its start vertex
+     */
+    public static GraphCSR of(final GraphD graph) {
+        return new GraphCSR(graph.getVertices(), graph.getEdges(), EdgeD::getVertexStart, EdgeD::getVertexEnd, true);
+    }
+
+    /**
+     * @param graph undirected graph
+     * @return snapshot of the graph, one slot per edge in the rows of both its vertices
+     */
+    public static GraphCSR of(final GraphU graph) {
+        return new GraphCSR(graph.getVertices(), graph.getEdges(), EdgeU::getOneVertex, EdgeU::getOtherVertex, false);
+    }
+
+    /**
+     * @return true for a snapshot of a directed graph
+     */
+    public boolean isDirected() {
+        return m_directed;
+    }
+
+    /**
+     * @return number of vertices
+     */
+    public int getVertexCount() {
+        return m_vertexIDs.length;
+    }
+
+    /**
+     * @return number of edges (undirected edges count once, although they fill two slots)
+     */
+    public int getEdgeCount() {
+        return m_edgeCount;
+    }
+
+    /**
+     * @return number of slots (edges of all rows)
+     */
+    public int getSlotCount() {
+        return m_targets.length;
+    }
+
+    /**
+     * @param vertex vertex number
+     * @return vertex ID of the vertex
+     */
+    public long getVertexID(final int vertex) {
+        return m_vertexIDs[vertex];
+    }
+
+    /**
+     * @param vertexID vertex ID
+     * @return vertex number, -1 if the vertex is not in the snapshot
+     */
+    public int getVertexIndex(final long vertexID) {
+        return m_vertexIndex.get(vertexID);
+    }
+
+    /**
+     * @param vertex vertex number
+     * @return first slot of the vertex (getOffset(vertex + 1) is the slot after its last slot)
+     */
+    public int getOffset(final int vertex) {
+        return m_offsets[vertex];
+    }
+
+    /**
+     * @param vertex vertex number
+     * @return number of slots of the vertex (out degree for directed graphs, degree for undirected graphs)
+     */
+    public int getDegree(final int vertex) {
+        return m_offsets[vertex + 1] - m_offsets[vertex];
+    }
+
+    /**
+     * @param slot slot
+     * @return vertex number the slot leads to
+     */
+    public int getTarget(final int slot) {
+        return m_targets[slot];
+    }
+
+    /**
+     * @param slot slot
+     * @return weight of the edge of the slot
+     */
+    public double getWeight(final int slot) {
+        return m_weights[slot];
+    }
+
+    /**
+     * @param slot slot
+     * @return information of the edge of the slot (may be null)
+     */
+    public String getEdgeInformation(final int slot) {
+        return decode(m_informationDictionary, m_edgeInformation[slot]);
+    }
+
+    /**
+     * @param slot slot
+     * @return preferred color of the edge of the slot (may be null)
+     */
+    public Color getEdgeColor(final int slot) {
+        return decode(m_colorDictionary, m_edgeColor[slot]);
+    }
+
+    /**
+     * Calls the action with the vertex number each slot of a vertex leads to, in edge order
+     *
+     * @param vertex vertex number
+     * @param action called with each neighbour
+     */
+    public void forEachNeighbor(final int vertex, final IntConsumer action) {
+        for (int slot = m_offsets[vertex]; slot < m_offsets[vertex + 1]; slot++) {
+            action.accept(m_targets[slot]);
+        }
+    }
+
+    /**
+     * @param vertex vertex number
+     * @return preferred x of the vertex
+     */
+    public double getX(final int vertex) {
+        return m_x[vertex];
+    }
+
+    /**
+     * @param vertex vertex number
+     * @return preferred y of the vertex
+     */
+    public double getY(final int vertex) {
+        return m_y[vertex];
+    }
+
+    /**
+     * @param vertex vertex number
+     * @return preferred z of the vertex
+     */
+    public double getZ(final int vertex) {
+        return m_z[vertex];
+    }
+
+    /**
+     * @param vertex vertex number
+     * @return preferred radius of the vertex
+     */
+    public double getRadius(final int vertex) {
+        return m_radius[vertex];
+    }
+
+    /**
+     * @param vertex vertex number
+     * @return information of the vertex (may be null)
+     */
+    public String getVertexInformation(final int vertex) {
+        return decode(m_informationDictionary, m_vertexInformation[vertex]);
+    }
+
+    /**
+     * @param vertex vertex number
+     * @return preferred color of the vertex (may be null)
+     */
+    public Color getVertexColor(final int vertex) {
+        return decode(m_colorDictionary, m_vertexColor[vertex]);
+    }
+
+    /**
+     * @param vertex a vertex (may be null)
+     * @return its vertex number, -1 for null or a vertex not in the snapshot
+     */
+    private int indexOf(final Vertex vertex) {
+        return vertex == null ? -1 : m_vertexIndex.get(vertex.getVertexID());
+    }
+
+    /**
+     * @param slot slot
+     * @param target vertex number the slot leads to
+     * @param weight weight of the edge
+     * @param information information code of the edge
+     * @param color color code of the edge
+     */
+    private void setSlot(final int slot, final int target, final double weight, final int information, final int color) {
+        m_targets[slot] = target;
+        m_weights[slot] = weight;
+        m_edgeInformation[slot] = information;
+        m_edgeColor[slot] = color;
+    }
+
+    /**
+     * @param dictionary distinct values
+     * @param code code of a value
+     * @param <T> value type
+     * @return the value, null for code -1
+     */
+    private static <T> T decode(final T[] dictionary, final int code) {
+        return code < 0 ? null : dictionary[code];
+    }
+
+    /**
+     * Codes of distinct values, in order of first occurrence
+     *
+     * @param <T> value type
+     */
+    private static final class Dictionary<T> {
+
+        /**
+         * code of each value
+         */
+        private final Map<T, Integer> m_codes = new HashMap<>();
+
+        /**
+         * value of each code
+         */
+        private final List<T> m_values = new ArrayList<>();
+
+        /**
+         * @param value a value (may be null)
+         * @return the code of the value, added if new, -1 for null
+         */
+        int codeOf(final T value) {
+            if (value == null) {
+                return -1;
+            }
+            final Integer code = m_codes.get(value);
+            if (code != null) {
+                return code;
+            }
+            m_codes.put(value, m_values.size());
+            m_values.add(value);
+            return m_values.size() - 1;
+        }
+
+        /**
+         * @return value of each code
+         */
+        List<T> getValues() {
+            return m_values;
+        }
+    }
+}
@@ -1,12 +1,23 @@
 package com.ariscience.vizhtml.common;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Consumer;
 
 /**
  * <pre>
  * Representation of very simple Directed Graph
  *
  * GraphD stands for Directed Graph
+ *
+ * Edges are also indexed by start vertex and by end vertex, so the edges of a vertex are found in O(degree)
+ * instead of scanning every edge. The forEach methods and degrees read the indexes without copying.
+ *
+ * Vertices and edges are kept in lock-free skip lists and the indexes in concurrent hash maps with one lock per
+ * vertex list, so threads adding vertices and edges at the same time only wait for each other when they touch
+ * the same vertex. Iterating the vertices or edges never throws ConcurrentModificationException and sees the
+ * changes made meanwhile or not (weakly consistent).
  * </pre>
  *
  * (c) 2018-2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
@@ -14,14 +25,44 @@ import java.util.*;
 public class GraphD {
 
     /**
-     * set of vertices in this graph (threadsafe)
+     * number of edge locks (a power of 2)
+     */
+    private static final int S_EDGE_LOCKS = 64;
+
+    /**
+     * set of vertices in this graph (threadsafe, lock-free)
+     */
+    private final NavigableSet<Vertex> m_vertices = new ConcurrentSkipListSet<>();
+
+    /**
+     * set of edges in this graph (threadsafe, lock-free)
+     */
+    private final NavigableSet<EdgeD> m_edges = new ConcurrentSkipListSet<>();
+
+    /**
+     * edges by start vertex in the order they were added, each list guarded by itself
+     */
+    private final Map<Vertex, List<EdgeD>> m_outEdges = new ConcurrentHashMap<>();
+
+    /**
+     * edges by end vertex in the order they were added, each list guarded by itself
+     */
+    private final Map<Vertex, List<EdgeD>> m_inEdges = new ConcurrentHashMap<>();
+
+    /**
+     * edges without start vertex in the order they were added, guarded by itself
      */
-    private final NavigableSet<Vertex> m_vertices = Collections.synchronizedNavigableSet(new TreeSet<>());
+    private final List<EdgeD> m_nullStartEdges = new ArrayList<>();
 
     /**
-     * set of edges in this graph (threadsafe)
+     * edges without end vertex in the order they were added, guarded by itself
      */
-    private final NavigableSet<EdgeD> m_edges = Collections.synchronizedNavigableSet(new TreeSet<>());
+    private final List<EdgeD> m_nullEndEdges = new ArrayList<>();
+
+    /**
+     * locks keeping the edge set and the indexes in step for one edge, striped by edge ID
+     */
+    private final Object[] m_edgeLocks = new Object[S_EDGE_LOCKS];
 
     /**
      * optional name of the graph
@@ -33,6 +74,9 @@ public class GraphD {
      */
     public GraphD(String name) {
         m_name = name;
+        for (int i = 0; i < m_edgeLocks.length; i++) {
+            m_edgeLocks[i] = new Object();
+        }
     }
 
     /**
@@ -48,9 +92,10 @@ public class GraphD {
     }
 
     /**
-     * Adds specified edge to graph
+     * Adds specified edge to graph (safe to call from several threads at once)
      *
      * @param edge the edge to add
+     * @param autoAddVertex true to add the vertices of the edge too, false to require them in the graph
      */
     public void addEdge(final EdgeD edge, boolean autoAddVertex) {
         if(edge==null){
@@ -67,33 +112,62 @@ public class GraphD {
             if(edge.getVertexEnd()!=null){
                 m_vertices.add(edge.getVertexEnd());
             }
+        }else{
+            //make sure vertices exist
+            if(edge.getVertexStart()!=null){
+                if(!m_vertices.contains(edge.getVertexStart())){
+                    throw new IllegalArgumentException("start vertex of edge not in graph:"+edge.getVertexStart());
+                }
+            }
+            if(edge.getVertexEnd()!=null){
+                if(!m_vertices.contains(edge.getVertexEnd())){
+                    throw new IllegalArgumentException("end vertex of edge not in graph"+edge.getVertexEnd());
+                }
+            }
         }
 
-        //make sure vertices exist
-        if(edge.getVertexStart()!=null){
-            if(!m_vertices.contains(edge.getVertexStart())){
-                throw new IllegalArgumentException("start vertex of edge not in graph:"+edge.getVertexStart());
+        //all good to add, with the adjacency indexes (the vertices of the edge must not change afterwards);
+        //locking the edge keeps the set and the indexes in step when the same edge is added and removed at once
+        synchronized (getEdgeLock(edge)) {
+            if (m_edges.add(edge)) {
+                index(getIndexList(m_outEdges, m_nullStartEdges, edge.getVertexStart(), true), edge);
+                index(getIndexList(m_inEdges, m_nullEndEdges, edge.getVertexEnd(), true), edge);
             }
         }
-        if(edge.getVertexEnd()!=null){
-            if(!m_vertices.contains(edge.getVertexEnd())){
-                throw new IllegalArgumentException("end vertex of edge not in graph"+edge.getVertexEnd());
+    }
+
+    /**
+     * Removes specified edge from graph
+     *
+     * @param edge the edge to remove
+     * @return true if the edge was in the graph
+     */
+    public boolean removeEdge(final EdgeD edge) {
+        if(edge==null){
+            throw new IllegalArgumentException("edge cannot be null");
+        }
+        synchronized (getEdgeLock(edge)) {
+            if (!m_edges.remove(edge)) {
+                return false;
             }
+            unindex(getIndexList(m_outEdges, m_nullStartEdges, edge.getVertexStart(), false), edge);
+            unindex(getIndexList(m_inEdges, m_nullEndEdges, edge.getVertexEnd(), false), edge);
+            return true;
         }
-
-        //all good to add
-        m_edges.add(edge);
     }
 
     /**
-     * @return the vertices in this graph (NOTE this is the underlying data structure - use carefully)
+     * @return the vertices in this graph (NOTE this is the underlying data structure - use carefully, its size()
+     * counts the vertices)
      */
     public NavigableSet<Vertex> getVertices() {
         return m_vertices;
     }
 
     /**
-     * @return the edges in this graph (NOTE this is the underlying data structure - use carefully)
+     * @return the edges in this graph (NOTE this is the underlying data structure - use carefully, its size() counts
+     * the edges and edges added or removed through it are missing from the adjacency indexes: use addEdge and
+     * removeEdge)
      */
     public NavigableSet<EdgeD> getEdges() {
         return m_edges;
@@ -113,32 +187,10 @@ public class GraphD {
 
         final TreeSet<EdgeD> returnval = new TreeSet<>();
 
-        m_edges.forEach(edge->{
-            boolean skip = false;
-            if((startVertex==null && edge.getVertexStart()!=null) || (startVertex!=null && edge.getVertexStart()==null) ){
-               //no match
-               skip = true;
-            }else if((endVertex==null && edge.getVertexEnd()!=null) || (endVertex!=null && edge.getVertexEnd()==null)){
-               //no match
-               skip = true;
-            }
-
-            if(skip){
-                //do nothing
-            }else {
-                boolean startMatches = false;
-                if ((startVertex == null && edge.getVertexStart() == null) || startVertex.equals(edge.getVertexStart())) {
-                    startMatches = true;
-                }
-
-                boolean endMatches = false;
-                if ((endVertex == null && edge.getVertexEnd() == null) || endVertex.equals(edge.getVertexEnd())) {
-                    endMatches = true;
-                }
-
-                if(startMatches && endMatches){
-                    returnval.add(edge);
-                }
+        //only the edges leaving the start vertex can match
+        forEachOutEdge(startVertex, edge->{
+            if(Objects.equals(endVertex, edge.getVertexEnd())){
+                returnval.add(edge);
             }
         });
 
@@ -154,17 +206,8 @@ public class GraphD {
     public NavigableSet<EdgeD> getVertexEdges(final Vertex vertex){
         final TreeSet<EdgeD> returnval = new TreeSet<>();
 
-        m_edges.forEach(edge->{
-            if(vertex==null){
-                if(edge.getVertexStart()==null || edge.getVertexEnd()==null) {
-                    returnval.add(edge);
-                }
-            }else{
-                if(vertex.equals(edge.getVertexStart()) || vertex.equals(edge.getVertexEnd())){
-                    returnval.add(edge);
-                }
-            }
-        });
+        addAll(returnval, getIndexList(m_outEdges, m_nullStartEdges, vertex, false));
+        addAll(returnval, getIndexList(m_inEdges, m_nullEndEdges, vertex, false));
 
         return returnval;
     }
@@ -178,17 +221,7 @@ public class GraphD {
     public NavigableSet<EdgeD> getVertexEdgesMatchStart(final Vertex vertex){
         final TreeSet<EdgeD> returnval = new TreeSet<>();
 
-        m_edges.forEach(edge->{
-            if(vertex==null){
-                if(edge.getVertexStart()==null) {
-                    returnval.add(edge);
-                }
-            }else{
-                if(vertex.equals(edge.getVertexStart())){
-                    returnval.add(edge);
-                }
-            }
-        });
+        addAll(returnval, getIndexList(m_outEdges, m_nullStartEdges, vertex, false));
 
         return returnval;
     }
@@ -202,19 +235,170 @@ public class GraphD {
     public NavigableSet<EdgeD> getVertexEdgesMatchEnd(final Vertex vertex){
         final TreeSet<EdgeD> returnval = new TreeSet<>();
 
-        m_edges.forEach(edge->{
-            if(vertex==null){
-                if(edge.getVertexEnd()==null) {
-                    returnval.add(edge);
-                }
-            }else{
-                if(vertex.equals(edge.getVertexEnd())){
-                    returnval.add(edge);
-                }
+        addAll(returnval, getIndexList(m_inEdges, m_nullEndEdges, vertex, false));
+
+        return returnval;
+    }
+
+    /**
+     * Calls the action for every edge starting at a vertex (in the order they were added), without copying the edges.
+     * The edges of the vertex are locked while the action runs, so the action must not add or remove edges.
+     *
+     * @param vertex start vertex to match (if null, matches edges with null start vertex)
+     * @param action called with each edge
+     */
+    public void forEachOutEdge(final Vertex vertex, final Consumer<? super EdgeD> action){
+        forEach(getIndexList(m_outEdges, m_nullStartEdges, vertex, false), action);
+    }
+
+    /**
+     * Calls the action for every edge ending at a vertex (in the order they were added), without copying the edges.
+     * The edges of the vertex are locked while the action runs, so the action must not add or remove edges.
+     *
+     * @param vertex end vertex to match (if null, matches edges with null end vertex)
+     * @param action called with each edge
+     */
+    public void forEachInEdge(final Vertex vertex, final Consumer<? super EdgeD> action){
+        forEach(getIndexList(m_inEdges, m_nullEndEdges, vertex, false), action);
+    }
+
+    /**
+     * Calls the action for the end vertex of every edge starting at a vertex (once per edge, so vertices
+     * connected by several edges are passed several times; edges without end vertex are skipped)
+     *
+     * @param vertex start vertex
+     * @param action called with each successor
+     */
+    public void forEachSuccessor(final Vertex vertex, final Consumer<? super Vertex> action){
+        forEachOutEdge(vertex, edge->{
+            if(edge.getVertexEnd()!=null){
+                action.accept(edge.getVertexEnd());
             }
         });
+    }
 
-        return returnval;
+    /**
+     * Calls the action for the start vertex of every edge ending at a vertex (once per edge, so vertices
+     * connected by several edges are passed several times; edges without start vertex are skipped)
+     *
+     * @param vertex end vertex
+     * @param action called with each predecessor
+     */
+    public void forEachPredecessor(final Vertex vertex, final Consumer<? super Vertex> action){
+        forEachInEdge(vertex, edge->{
+            if(edge.getVertexStart()!=null){
+                action.accept(edge.getVertexStart());
+            }
+        });
+    }
+
+    /**
+     * @param vertex start vertex (if null, counts edges with null start vertex)
+     * @return number of edges starting at the vertex
+     */
+    public int getOutDegree(final Vertex vertex){
+        return size(getIndexList(m_outEdges, m_nullStartEdges, vertex, false));
+    }
+
+    /**
+     * @param vertex end vertex (if null, counts edges with null end vertex)
+     * @return number of edges ending at the vertex
+     */
+    public int getInDegree(final Vertex vertex){
+        return size(getIndexList(m_inEdges, m_nullEndEdges, vertex, false));
+    }
+
+    /**
+     * @param edge an edge
+     * @return the lock of the edge (private to the graph, so callers locking their edges cannot block it)
+     */
+    private Object getEdgeLock(final EdgeD edge) {
+        return m_edgeLocks[(int) (edge.getEdgeID() & (S_EDGE_LOCKS - 1))];
+    }
+
+    /**
+     * Finds the edge list of a vertex in an adjacency index. Lists are never removed from an index (they may be
+     * empty), so a list found stays the list of its vertex.
+     *
+     * @param index out or in adjacency index
+     * @param nullEdges edges of the index without start or end vertex
+     * @param vertex start or end vertex (may be null)
+     * @param create true to add a list for a vertex without one
+     * @return the edge list of the vertex (null if it has none and create is false)
+     */
+    private static List<EdgeD> getIndexList(final Map<Vertex, List<EdgeD>> index, final List<EdgeD> nullEdges,
+                                            final Vertex vertex, final boolean create) {
+        if (vertex == null) {
+            return nullEdges;
+        }
+        final List<EdgeD> edges = index.get(vertex);
+        if (edges != null || !create) {
+            return edges;
+        }
+        return index.computeIfAbsent(vertex, key -> new ArrayList<>(2));
+    }
+
+    /**
+     * Adds an edge to an adjacency list
+     *
+     * @param edges edge list of a vertex
+     * @param edge the edge
+     */
+    private static void index(final List<EdgeD> edges, final EdgeD edge) {
+        synchronized (edges) {
+            edges.add(edge);
+        }
+    }
+
+    /**
+     * Removes an edge from an adjacency list
+     *
+     * @param edges edge list of a vertex (may be null)
+     * @param edge the edge
+     */
+    private static void unindex(final List<EdgeD> edges, final EdgeD edge) {
+        if (edges != null) {
+            synchronized (edges) {
+                edges.remove(edge);
+            }
+        }
+    }
+
+    /**
+     * @param edges edge list of a vertex (may be null)
+     * @param action called with each edge while the list is locked
+     */
+    private static void forEach(final List<EdgeD> edges, final Consumer<? super EdgeD> action) {
+        if (edges != null) {
+            synchronized (edges) {
+                edges.forEach(action);
+            }
+        }
+    }
+
+    /**
+     * @param edges edge list of a vertex (may be null)
+     * @return number of edges in the list
+     */
+    private static int size(final List<EdgeD> edges) {
+        if (edges == null) {
+            return 0;
+        }
+        synchronized (edges) {
+            return edges.size();
+        }
+    }
+
+    /**
+     * @param target set to add to
+     * @param edges edge list of a vertex (may be null)
+     */
+    private static void addAll(final NavigableSet<EdgeD> target, final List<EdgeD> edges) {
+        if (edges != null) {
+            synchronized (edges) {
+                target.addAll(edges);
+            }
+        }
     }
 
     /**
@@ -1,14 +1,18 @@
 package com.ariscience.vizhtml.common;
 
-import java.util.Collections;
 import java.util.NavigableSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 /**
  * <pre>
  * Representation of very simple Undirected Graph
  *
  * GraphU stands for Undirected Graph
+ *
+ * Vertices and edges are kept in lock-free skip lists, so threads adding vertices and edges at the same time do
+ * not wait for each other. Iterating the vertices or edges never throws ConcurrentModificationException and sees
+ * the changes made meanwhile or not (weakly consistent).
  * </pre>
  *
  * (c) 2018-2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
@@ -16,14 +20,14 @@ import java.util.TreeSet;
 public class GraphU {
 
     /**
-     * set of vertices in this graph (threadsafe)
+     * set of vertices in this graph (threadsafe, lock-free)
      */
-    private final NavigableSet<Vertex> m_vertices = Collections.synchronizedNavigableSet(new TreeSet<>());
+    private final NavigableSet<Vertex> m_vertices = new ConcurrentSkipListSet<>();
 
     /**
-     * set of edges in this graph (threadsafe)
+     * set of edges in this graph (threadsafe, lock-free)
      */
-    private final NavigableSet<EdgeU> m_edges = Collections.synchronizedNavigableSet(new TreeSet<>());
+    private final NavigableSet<EdgeU> m_edges = new ConcurrentSkipListSet<>();
 
     /**
      * optional name of the graph
@@ -50,9 +54,10 @@ public class GraphU {
     }
 
     /**
-     * Adds specified edge to graph
+     * Adds specified edge to graph (safe to call from several threads at once)
      *
      * @param edge the edge to add
+     * @param autoAddVertex true to add the vertices of the edge too, false to require them in the graph
      */
     public void addEdge(final EdgeU edge, boolean autoAddVertex) {
         if(edge==null){
@@ -69,17 +74,17 @@ public class GraphU {
             if(edge.getOtherVertex()!=null){
                 m_vertices.add(edge.getOtherVertex());
             }
-        }
-
-        //make sure vertices exist
-        if(edge.getOneVertex()!=null){
-            if(!m_vertices.contains(edge.getOneVertex())){
-                throw new IllegalArgumentException("start vertex of edge not in graph:"+edge.getOneVertex());
+        }else{
+            //make sure vertices exist
+            if(edge.getOneVertex()!=null){
+                if(!m_vertices.contains(edge.getOneVertex())){
+                    throw new IllegalArgumentException("start vertex of edge not in graph:"+edge.getOneVertex());
+                }
             }
-        }
-        if(edge.getOtherVertex()!=null){
-            if(!m_vertices.contains(edge.getOtherVertex())){
-                throw new IllegalArgumentException("end vertex of edge not in graph"+edge.getOtherVertex());
+            if(edge.getOtherVertex()!=null){
+                if(!m_vertices.contains(edge.getOtherVertex())){
+                    throw new IllegalArgumentException("end vertex of edge not in graph"+edge.getOtherVertex());
+                }
             }
         }
 
@@ -88,14 +93,16 @@ public class GraphU {
     }
 
     /**
-     * @return the vertices in this graph (NOTE this is the underlying data structure - use carefully)
+     * @return the vertices in this graph (NOTE this is the underlying data structure - use carefully, its size()
+     * counts the vertices)
      */
     public NavigableSet<Vertex> getVertices() {
         return m_vertices;
     }
 
     /**
-     * @return the edges in this graph (NOTE this is the underlying data structure - use carefully)
+     * @return the edges in this graph (NOTE this is the underlying data structure - use carefully, its size()
+     * counts the edges)
      */
     public NavigableSet<EdgeU> getEdges() {
         return m_edges;
@@ -0,0 +1,243 @@
+package com.ariscience.vizhtml.common;
+
+import java.util.Arrays;
+
+/**
+ * <pre>
+ * Hash map of primitive long keys to primitive int values (e.g. cell or vertex ids to array indices)
+ *
+ * Open addressing with linear probing in two parallel arrays, so no object is created per entry and lookups
+ * touch one or two cache lines. The table is a power of 2 and at most half full; it doubles when needed.
+ * Key 0 marks free slots, so the value of key 0 is kept in a separate field.
+ * Lookups of absent keys return the missing value set in the constructor.
+ *
+ * Not thread safe: use one map per thread and combine the results.
+ * </pre>
+ *
+ * (c) 2018-2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+public final class LongIntHashMap {
+
+    /**
+     * min table size
+     */
+    private static final int S_MIN_CAPACITY = 16;
+
+    /**
+     * max table size
+     */
+    private static final int S_MAX_CAPACITY = 1 << 30;
+
+    /**
+     * 2^64 / golden ratio, spreads the key bits over the table index
+     */
+    private static final long S_HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    /**
+     * value returned for absent keys
+     */
+    private final int m_missingValue;
+
+    /**
+     * keys (0 for a free slot)
+     */
+    private long[] m_keys;
+
+    /**
+     * values of the keys
+     */
+    private int[] m_values;
+
+    /**
+     * m_keys.length - 1
+     */
+    private int m_mask;
+
+    /**
+     * number of entries (without key 0)
+     */
+    private int m_size;
+
+    /**
+     * true if key 0 is present
+     */
+    private boolean m_hasZeroKey;
+
+    /**
+     * value of key 0
+     */
+    private int m_zeroValue;
+
+    /**
+     * Constructor
+     *
+     * @param expectedSize expected number of entries (the map grows beyond it if needed)
+     * @param missingValue value returned for absent keys e.g. -1
+     */
+    public LongIntHashMap(final int expectedSize, final int missingValue) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expected size cannot be negative");
+        }
+        m_missingValue = missingValue;
+        allocate(getCapacity(expectedSize));
+    }
+
+    /**
+     * @param key key
+     * @return the value of the key, or the missing value if the key is absent
+     */
+    public int get(final long key) {
+        if (key == 0) {
+            return m_hasZeroKey ? m_zeroValue : m_missingValue;
+        }
+        for (int slot = slotOf(key); ; slot = (slot + 1) & m_mask) {
+            final long found = m_keys[slot];
+            if (found == key) {
+                return m_values[slot];
+            }
+            if (found == 0) {
+                return m_missingValue;
+            }
+        }
+    }
+
+    /**
+     * @param key key
+     * @return true if the key is present
+     */
+    public boolean containsKey(final long key) {
+        if (key == 0) {
+            return m_hasZeroKey;
+        }
+        for (int slot = slotOf(key); ; slot = (slot + 1) & m_mask) {
+            final long found = m_keys[slot];
+            if (found == key) {
+                return true;
+            }
+            if (found == 0) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Sets the value of a key
+     *
+     * @param key key
+     * @param value value
+     * @return the previous value of the key, or the missing value if the key was absent
+     */
+    public int put(final long key, final int value) {
+        return put(key, value, true);
+    }
+
+    /**
+     * Adds a key unless it is present (a single lookup for e.g. assigning indices to new keys)
+     *
+     * @param key key
+     * @param value value of the key if it is absent
+     * @return the value of the key if present (unchanged), or the missing value if the key was added
+     */
+    public int putIfAbsent(final long key, final int value) {
+        return put(key, value, false);
+    }
+
+    /**
+     * @return number of entries
+     */
+    public int size() {
+        return m_size + (m_hasZeroKey ? 1 : 0);
+    }
+
+    /**
+     * Removes all entries (keeps the table size)
+     */
+    public void clear() {
+        Arrays.fill(m_keys, 0);
+        m_size = 0;
+        m_hasZeroKey = false;
+    }
+
+    /**
+     * @param key key
+     * @param value value
+     * @param replace true to replace the value of a present key
+     * @return the previous value of the key, or the missing value if the key was absent
+     */
+    private int put(final long key, final int value, final boolean replace) {
+        if (key == 0) {
+            final int previous = m_hasZeroKey ? m_zeroValue : m_missingValue;
+            if (replace || !m_hasZeroKey) {
+                m_zeroValue = value;
+            }
+            m_hasZeroKey = true;
+            return previous;
+        }
+        int slot = slotOf(key);
+        for (long found = m_keys[slot]; found != 0; found = m_keys[slot]) {
+            if (found == key) {
+                final int previous = m_values[slot];
+                if (replace) {
+                    m_values[slot] = value;
+                }
+                return previous;
+            }
+            slot = (slot + 1) & m_mask;
+        }
+        m_keys[slot] = key;
+        m_values[slot] = value;
+        if (++m_size > m_keys.length / 2) {
+            grow();
+        }
+        return m_missingValue;
+    }
+
+    /**
+     * @param key key (not 0)
+     * @return first slot to probe for the key
+     */
+    private int slotOf(final long key) {
+        final long hash = key * S_HASH_MULTIPLIER;
+        return (int) (hash ^ (hash >>> 32)) & m_mask;
+    }
+
+    /**
+     * Doubles the table and reinserts the entries
+     */
+    private void grow() {
+        if (m_keys.length == S_MAX_CAPACITY) {
+            throw new IllegalStateException("LongIntHashMap cannot grow beyond " + S_MAX_CAPACITY / 2 + " entries");
+        }
+        final long[] keys = m_keys;
+        final int[] values = m_values;
+        allocate(keys.length * 2);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                int slot = slotOf(keys[i]);
+                while (m_keys[slot] != 0) {
+                    slot = (slot + 1) & m_mask;
+                }
+                m_keys[slot] = keys[i];
+                m_values[slot] = values[i];
+            }
+        }
+    }
+
+    /**
+     * @param capacity table size (power of 2)
+     */
+    private void allocate(final int capacity) {
+        m_keys = new long[capacity];
+        m_values = new int[capacity];
+        m_mask = capacity - 1;
+    }
+
+    /**
+     * @param expectedSize expected number of entries
+     * @return power of 2 table size keeping the table at most half full
+     */
+    private static int getCapacity(final int expectedSize) {
+        final long needed = Math.max(S_MIN_CAPACITY, 2L * expectedSize);
+        return (int) Math.min(S_MAX_CAPACITY, Long.highestOneBit(needed - 1) << 1);
+    }
+}
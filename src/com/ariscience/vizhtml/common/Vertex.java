@@ -164,6 +164,13 @@ public class Vertex implements Comparable<Vertex> {
         m_preferredColor = preferredColor;
     }
 
+    /**
+     * @return unique id of the vertex (sequential in order of creation)
+     */
+    public long getVertexID() {
+        return m_vertexID;
+    }
+
     /**
      * Comparable API
      *
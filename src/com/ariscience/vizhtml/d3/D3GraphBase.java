@@ -1,6 +1,7 @@
 package com.ariscience.vizhtml.d3;
 
 import com.ariscience.vizhtml.common.GraphD;
+import com.ariscience.vizhtml.ChartBase;
 
 /**
  * <pre>
@@ -9,7 +10,7 @@ import com.ariscience.vizhtml.common.GraphD;
  *
  * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
  */
-public class D3GraphBase{
+public abstract class D3GraphBase extends ChartBase {
 
     /**
      * Chart default width
@@ -36,11 +37,6 @@ public class D3GraphBase{
      */
     private String m_footnote;
 
-    /**
-     * Chart template string
-     */
-    private static String m_templateString;
-
     /**
      * Sets Chart Footnote
      *
@@ -58,20 +54,4 @@ public class D3GraphBase{
     public String getFootnote() {
         return m_footnote;
     }
-
-    /**
-     * Gets Chart Template String
-     * @return Template String
-     */
-    public static String getTemplateString() {
-        return m_templateString;
-    }
-
-    /**
-     * Sets Chart Template String
-     * @param templateString set the template string to use
-     */
-    public static void setTemplateString(String templateString) {
-        m_templateString = templateString;
-    }
 }
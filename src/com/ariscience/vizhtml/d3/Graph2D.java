@@ -1,14 +1,17 @@
 package com.ariscience.vizhtml.d3;
 
-import com.ariscience.vizhtml.VizHTMLUtils;
 import com.ariscience.vizhtml.common.EdgeD;
+import com.ariscience.vizhtml.common.GraphCSR;
 import com.ariscience.vizhtml.common.GraphD;
+import com.ariscience.vizhtml.common.LongIntHashMap;
 import com.ariscience.vizhtml.common.Vertex;
 import com.ariscience.vizhtml.error.InconsistentDataException;
 import com.ariscience.vizhtml.error.NullLabelException;
+import com.ariscience.vizhtml.template.JSWriter;
+import com.ariscience.vizhtml.template.TemplateRegistry;
+import com.ariscience.vizhtml.template.TokenWriter;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.NavigableSet;
@@ -24,6 +27,11 @@ public class Graph2D extends D3GraphBase{
 
     private GraphD m_graphD;
 
+    /**
+     * CSR snapshot to render instead of a graph (null when rendering m_graphD)
+     */
+    private GraphCSR m_graphCSR;
+
     /**
      * Chart title
      */
@@ -40,17 +48,8 @@ public class Graph2D extends D3GraphBase{
     private int m_height;
 
     static {
-
-        try {
-            // Get template
-            InputStream inputStream = Graph2D.class.getClassLoader().getResourceAsStream("com/ariscience/vizhtml/template/d3/graph2D.html");
-
-            // Read template file and close stream
-            setTemplateString(VizHTMLUtils.readFullyAndClose(inputStream));
-        } catch (IOException e) {
-            throw new RuntimeException("Could not instantiate due to IOE:"+e.getMessage());
-        }
-
+        // Register template (read and parsed on first use)
+        TemplateRegistry.register(Graph2D.class, "com/ariscience/vizhtml/template/d3/graph2D.html");
     }
 
     /**
@@ -70,6 +69,17 @@ public class Graph2D extends D3GraphBase{
         setFootnote(S_FOOTNOTE);
     }
 
+    /**
+     * Constructor for a CSR snapshot of a directed or undirected graph (see {@link GraphCSR}), drawn with one
+     * link per edge; undirected edges are drawn from their lower numbered vertex
+     *
+     * @param graphCSR the graph snapshot to render
+     */
+    public Graph2D(GraphCSR graphCSR) {
+        this((GraphD) null);
+        m_graphCSR = graphCSR;
+    }
+
     /**
      *
      * @param title
@@ -101,76 +111,153 @@ public class Graph2D extends D3GraphBase{
      * @throws NullLabelException        Exception for null labels
      * @throws InconsistentDataException Exception for inconsistent data
      */
-    private void checkData() throws NullLabelException, InconsistentDataException {
+    @Override
+    protected void checkData() throws NullLabelException, InconsistentDataException {
 
 
     }
 
     /**
-     * Generates 2D Graph String based on template/d3/graph2D.html
+     * Vertices
      *
-     * Tokens in template file is replaced with corresponding value
-     *
-     * @return chart html string
-     * @throws NullLabelException if label not specified
-     * @throws InconsistentDataException if data provided is inconsistent for chart type
+     * @return number of data points
      */
-    public String generate() throws NullLabelException, InconsistentDataException {
-
-        String chartStr = getTemplateString();
-
-        checkData();
+    @Override
+    protected long getPointCount() {
+        return m_graphCSR != null ? m_graphCSR.getVertexCount() : m_graphD.getVertices().size();
+    }
 
-        String nodes = "[";
-        String links = "[";
+    /**
+     * Token values for template/d3/graph2D.html
+     *
+     * @return token name to value writer map
+     */
+    @Override
+    protected Map<String, TokenWriter> getTokenWriters() {
+        // Map for replace tokens in template html file
+        final Map<String, TokenWriter> replaceMap = new HashMap<>();
+        replaceMap.put("NODES", this::writeNodes);
+        replaceMap.put("LINKS", this::writeLinks);
+        replaceMap.put("WIDTH", TokenWriter.of(String.valueOf(m_width)));
+        replaceMap.put("HEIGHT", TokenWriter.of(String.valueOf(m_height)));
+        replaceMap.put("TITLE_CHART", TokenWriter.of(m_title));
+        replaceMap.put("FOOTNOTE", TokenWriter.of(getFootnote()));
+
+        return replaceMap;
+    }
 
-        NavigableSet<Vertex> vertices = m_graphD.getVertices();
-        NavigableSet<EdgeD> edges = m_graphD.getEdges();
+    /**
+     * Writes one node per vertex with its preferred coordinates
+     *
+     * @param out where to write
+     * @throws IOException on IO error from the output
+     */
+    private void writeNodes(final JSWriter out) throws IOException {
+        if (m_graphCSR != null) {
+            writeNodes(out, m_graphCSR);
+            return;
+        }
+        final NavigableSet<Vertex> vertices = m_graphD.getVertices();
 
         //FEEDBACK: D3 library can automatically determine "optimal" vertex positions. So you have to handle that case where x and y coordinates of the vertex is NaN (i.e. signal to use D3's force based layout)
-        for (Vertex vertex:vertices) {
-            nodes += "{'x':" + vertex.getPreferredX() + ", 'y':" +vertex.getPreferredY()+"},";
+        out.append('[');
+        boolean first = true;
+        for (Vertex vertex : vertices) {
+            if (!first) {
+                out.append(',');
+            }
+            first = false;
+            out.append("{'x':").writeDouble(vertex.getPreferredX()).append(", 'y':").writeDouble(vertex.getPreferredY()).append('}');
         }
+        out.append(']');
+    }
 
-        nodes = nodes.substring(0, nodes.length() - 1)+"]";
+    /**
+     * Writes one link per edge referring to the node indices
+     *
+     * @param out where to write
+     * @throws IOException on IO error from the output
+     */
+    private void writeLinks(final JSWriter out) throws IOException {
+        if (m_graphCSR != null) {
+            writeLinks(out, m_graphCSR);
+            return;
+        }
+        final NavigableSet<Vertex> vertices = m_graphD.getVertices();
+        final NavigableSet<EdgeD> edges = m_graphD.getEdges();
 
-        Object[] vertexArray =  vertices.toArray();
-        for (EdgeD edge:edges) {
-            int start = getVertexIndex(vertexArray,edge.getVertexStart());
-            int end = getVertexIndex(vertexArray,edge.getVertexEnd());
+        //node index of each vertex id, in the order of writeNodes
+        final LongIntHashMap vertexIndex = new LongIntHashMap(vertices.size(), -1);
+        for (Vertex vertex : vertices) {
+            vertexIndex.put(vertex.getVertexID(), vertexIndex.size());
+        }
+        out.append('[');
+        boolean first = true;
+        for (EdgeD edge : edges) {
+            if (!first) {
+                out.append(',');
+            }
+            first = false;
+            final int start = getVertexIndex(vertexIndex, edge.getVertexStart());
+            final int end = getVertexIndex(vertexIndex, edge.getVertexEnd());
 
-            links += "{'target':" +start+ ", 'source':" +end +"},";
+            out.append("{'target':").writeLong(start).append(", 'source':").writeLong(end).append('}');
         }
+        out.append(']');
+    }
 
-        links = links.substring(0, links.length() - 1)+"]";
+    /**
+     * @param vertexIndex node index of each vertex id
+     * @param vertex vertex of an edge (may be null)
+     * @return node index of the vertex, -1 if the edge has no such vertex or the vertex is not in the graph
+     */
+    private static int getVertexIndex(final LongIntHashMap vertexIndex, final Vertex vertex) {
+        return vertex == null ? -1 : vertexIndex.get(vertex.getVertexID());
+    }
 
-        // Map for replace tokens in template html file
-        final Map<String, String> replaceMap = new HashMap<>();
-        replaceMap.put("NODES", nodes);
-        replaceMap.put("LINKS", links);
-        replaceMap.put("WIDTH", String.valueOf(m_width));
-        replaceMap.put("HEIGHT", String.valueOf(m_height));
-        replaceMap.put("TITLE_CHART", m_title);
-        replaceMap.put("FOOTNOTE",getFootnote());
-
-        // Replace each map key in template file with map value
-        for (Map.Entry<String, String> e : replaceMap.entrySet()) {
-            chartStr = chartStr.replaceAll("\\$" + e.getKey() + "\\$", e.getValue());
+    /**
+     * Writes one node per vertex of a snapshot with its preferred coordinates
+     *
+     * @param out where to write
+     * @param graph graph snapshot
+     * @throws IOException on IO error from the output
+     */
+    private static void writeNodes(final JSWriter out, final GraphCSR graph) throws IOException {
+        out.append('[');
+        for (int vertex = 0; vertex < graph.getVertexCount(); vertex++) {
+            if (vertex > 0) {
+                out.append(',');
+            }
+            out.append("{'x':").writeDouble(graph.getX(vertex)).append(", 'y':").writeDouble(graph.getY(vertex)).append('}');
         }
-
-        return chartStr;
+        out.append(']');
     }
 
-    private int getVertexIndex(Object[] vertexArray, Vertex vertexStart) {
-        int index=0;
-        for (Object o:vertexArray) {
-            Vertex v=(Vertex) o;
-            if (v.getPreferredX()==vertexStart.getPreferredX() && v.getPreferredY()==vertexStart.getPreferredY()){
-                return index;
+    /**
+     * Writes one link per edge of a snapshot, row by row, with the same target/source order as for a graph
+     *
+     * @param out where to write
+     * @param graph graph snapshot
+     * @throws IOException on IO error from the output
+     */
+    private static void writeLinks(final JSWriter out, final GraphCSR graph) throws IOException {
+        out.append('[');
+        boolean first = true;
+        for (int vertex = 0; vertex < graph.getVertexCount(); vertex++) {
+            for (int slot = graph.getOffset(vertex); slot < graph.getOffset(vertex + 1); slot++) {
+                final int target = graph.getTarget(slot);
+                if (!graph.isDirected() && target < vertex) {
+                    // the other slot of an undirected edge
+                    continue;
+                }
+                if (!first) {
+                    out.append(',');
+                }
+                first = false;
+                out.append("{'target':").writeLong(vertex).append(", 'source':").writeLong(target).append('}');
             }
-            index++;
         }
-        return -1;
+        out.append(']');
     }
 
 
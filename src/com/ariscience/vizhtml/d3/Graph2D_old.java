@@ -1,11 +1,12 @@
 package com.ariscience.vizhtml.d3;
 
-import com.ariscience.vizhtml.VizHTMLUtils;
 import com.ariscience.vizhtml.error.InconsistentDataException;
 import com.ariscience.vizhtml.error.NullLabelException;
+import com.ariscience.vizhtml.template.JSWriter;
+import com.ariscience.vizhtml.template.TemplateRegistry;
+import com.ariscience.vizhtml.template.TokenWriter;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -49,17 +50,8 @@ public class Graph2D_old extends D3GraphBase{
     private int m_height;
 
     static {
-
-        try {
-            // Get template
-            InputStream inputStream = Graph2D_old.class.getClassLoader().getResourceAsStream("com/ariscience/vizhtml/template/d3/graph2D.html");
-
-            // Read template file and close stream
-            setTemplateString(VizHTMLUtils.readFullyAndClose(inputStream));
-        } catch (IOException e) {
-            throw new RuntimeException("Could not instantiate due to IOE:"+e.getMessage());
-        }
-
+        // Register template (read and parsed on first use)
+        TemplateRegistry.register(Graph2D_old.class, "com/ariscience/vizhtml/template/d3/graph2D.html");
     }
 
     /**
@@ -112,7 +104,8 @@ public class Graph2D_old extends D3GraphBase{
      * @throws NullLabelException        Exception for null labels
      * @throws InconsistentDataException Exception for inconsistent data
      */
-    private void checkData() throws NullLabelException, InconsistentDataException {
+    @Override
+    protected void checkData() throws NullLabelException, InconsistentDataException {
 
         if (m_xData == null) {
             throw new NullLabelException("Y Data cannot be null!");
@@ -129,50 +122,56 @@ public class Graph2D_old extends D3GraphBase{
     }
 
     /**
-     * Generates 2D Graph String based on template/d3/graph2D.html
-     *
-     * Tokens in template file is replaced with corresponding value
+     * Token values for template/d3/graph2D.html
      *
-     * @return chart html string
-     * @throws NullLabelException if label not specified
-     * @throws InconsistentDataException if data provided is inconsistent for chart type
+     * @return token name to value writer map
      */
-    public String generate() throws NullLabelException, InconsistentDataException {
-
-        String chartStr = getTemplateString();
-
-        checkData();
-
-        String nodes = "[";
-        String links = "[";
+    @Override
+    protected Map<String, TokenWriter> getTokenWriters() {
+        // Map for replace tokens in template html file
+        final Map<String, TokenWriter> replaceMap = new HashMap<>();
+        replaceMap.put("NODES", this::writeNodes);
+        replaceMap.put("LINKS", this::writeLinks);
+        replaceMap.put("WIDTH", TokenWriter.of(String.valueOf(m_width)));
+        replaceMap.put("HEIGHT", TokenWriter.of(String.valueOf(m_height)));
+        replaceMap.put("TITLE_CHART", TokenWriter.of(m_title));
+        replaceMap.put("FOOTNOTE", TokenWriter.of(getFootnote()));
+
+        return replaceMap;
+    }
 
+    /**
+     * Writes one node per X/Y data point
+     *
+     * @param out where to write
+     * @throws IOException on IO error from the output
+     */
+    private void writeNodes(final JSWriter out) throws IOException {
+        out.append('[');
         for (int i = 0; i < m_xData[0].length; i++) {
-            nodes += "{'x':" + m_xData[0][i] + ", 'y':" + m_yData[0][i] +"},";
+            if (i > 0) {
+                out.append(',');
+            }
+            out.append("{'x':").writeNumber(m_xData[0][i]).append(", 'y':").writeNumber(m_yData[0][i]).append('}');
         }
+        out.append(']');
+    }
 
-        nodes = nodes.substring(0, nodes.length() - 1)+"]";
-
+    /**
+     * Writes one link per target/source pair
+     *
+     * @param out where to write
+     * @throws IOException on IO error from the output
+     */
+    private void writeLinks(final JSWriter out) throws IOException {
+        out.append('[');
         for (int i = 0; i < m_links.length; i++) {
-            links += "{'target':" + m_links[i][0] + ", 'source':" + m_links[i][1] +"},";
+            if (i > 0) {
+                out.append(',');
+            }
+            out.append("{'target':").writeNumber(m_links[i][0]).append(", 'source':").writeNumber(m_links[i][1]).append('}');
         }
-
-        links = links.substring(0, links.length() - 1)+"]";
-
-        // Map for replace tokens in template html file
-        final Map<String, String> replaceMap = new HashMap<>();
-        replaceMap.put("NODES", nodes);
-        replaceMap.put("LINKS", links);
-        replaceMap.put("WIDTH", String.valueOf(m_width));
-        replaceMap.put("HEIGHT", String.valueOf(m_height));
-        replaceMap.put("TITLE_CHART", m_title);
-        replaceMap.put("FOOTNOTE",getFootnote());
-
-        // Replace each map key in template file with map value
-        for (Map.Entry<String, String> e : replaceMap.entrySet()) {
-            chartStr = chartStr.replaceAll("\\$" + e.getKey() + "\\$", e.getValue());
-        }
-
-        return chartStr;
+        out.append(']');
     }
 
 }
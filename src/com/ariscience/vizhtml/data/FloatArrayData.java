@@ -0,0 +1,50 @@
+package com.ariscience.vizhtml.data;
+
+import com.ariscience.vizhtml.template.JSWriter;
+
+import java.io.IOException;
+
+/**
+ * {@link NumericData} backed by float[][] (values are written with float precision e.g. 0.1 rather than 0.10000000149011612)
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+final class FloatArrayData extends NumericData {
+
+    /**
+     * the wrapped data (not copied)
+     */
+    private final float[][] m_data;
+
+    /**
+     * @param data the data to wrap
+     */
+    FloatArrayData(final float[][] data) {
+        m_data = data;
+    }
+
+    @Override
+    public int getSeriesCount() {
+        return m_data.length;
+    }
+
+    @Override
+    public int getLength(final int series) {
+        return m_data[series].length;
+    }
+
+    @Override
+    public double getDouble(final int series, final int index) {
+        return m_data[series][index];
+    }
+
+    @Override
+    public void write(final JSWriter out, final int series, final int index) throws IOException {
+        out.writeFloat(m_data[series][index]);
+    }
+
+    @Override
+    public void writeSeries(final JSWriter out, final int series) throws IOException {
+        out.writeArray(m_data[series]);
+    }
+}
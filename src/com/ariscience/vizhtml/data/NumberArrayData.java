@@ -0,0 +1,46 @@
+package com.ariscience.vizhtml.data;
+
+import com.ariscience.vizhtml.template.JSWriter;
+
+import java.io.IOException;
+
+/**
+ * {@link NumericData} backed by Number[][] (values may be null, written as null)
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+final class NumberArrayData extends NumericData {
+
+    /**
+     * the wrapped data (not copied)
+     */
+    private final Number[][] m_data;
+
+    /**
+     * @param data the data to wrap
+     */
+    NumberArrayData(final Number[][] data) {
+        m_data = data;
+    }
+
+    @Override
+    public int getSeriesCount() {
+        return m_data.length;
+    }
+
+    @Override
+    public int getLength(final int series) {
+        return m_data[series].length;
+    }
+
+    @Override
+    public double getDouble(final int series, final int index) {
+        final Number value = m_data[series][index];
+        return value == null ? Double.NaN : value.doubleValue();
+    }
+
+    @Override
+    public void write(final JSWriter out, final int series, final int index) throws IOException {
+        out.writeNumber(m_data[series][index]);
+    }
+}
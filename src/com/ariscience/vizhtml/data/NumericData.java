@@ -0,0 +1,261 @@
+package com.ariscience.vizhtml.data;
+
+import com.ariscience.vizhtml.VizHTMLEnums.DataEncoding;
+import com.ariscience.vizhtml.template.JSWriter;
+
+import java.io.IOException;
+
+/**
+ * <pre>
+ * Numeric chart data - one or more series of numbers
+ *
+ * Wraps the caller's arrays (no copy) so charts can take boxed (Number[][]) or primitive (double[][], float[][],
+ * long[][]) data. Primitive data is serialized straight from the arrays, so large charts do not need a boxed
+ * object per value and no String is created per value.
+ *
+ * Series are addressed as data[series][index], just like the Number[][] the charts take.
+ *
+ * Series can also be written as base64 typed arrays (see {@link DataEncoding}) which the javascript function
+ * decodeTypedArray (template/plotly/typedArrayDecoder.js) turns into Float32Array / Float64Array.
+ * </pre>
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+public abstract class NumericData {
+
+    /**
+     * name of the javascript function that decodes base64 typed arrays (see template/plotly/typedArrayDecoder.js)
+     */
+    public static final String S_DECODE_FUNCTION = "decodeTypedArray";
+
+    /**
+     * number of values encoded per chunk (chunk sizes in bytes are a multiple of 3, so base64 needs no padding)
+     */
+    private static final int S_ENCODE_CHUNK = 384;
+
+    /**
+     * @param data boxed data (values may be null)
+     * @return wrapped data or null if data is null
+     */
+    public static NumericData of(final Number[][] data) {
+        return data == null ? null : new NumberArrayData(data);
+    }
+
+    /**
+     * @param data primitive data
+     * @return wrapped data or null if data is null
+     */
+    public static NumericData of(final double[][] data) {
+        return data == null ? null : new DoubleArrayData(data);
+    }
+
+    /**
+     * @param data primitive data
+     * @return wrapped data or null if data is null
+     */
+    public static NumericData of(final float[][] data) {
+        return data == null ? null : new FloatArrayData(data);
+    }
+
+    /**
+     * @param data primitive data
+     * @return wrapped data or null if data is null
+     */
+    public static NumericData of(final long[][] data) {
+        return data == null ? null : new LongArrayData(data);
+    }
+
+    /**
+     * View of the values at the specified indices of every series (e.g. the points kept by downsampling).
+     * Values are written exactly as by this data.
+     *
+     * @param indices indices to keep, in output order
+     * @return the selected data (not copied)
+     */
+    public NumericData select(final int[] indices) {
+        return new SelectedData(this, indices);
+    }
+
+    /**
+     * @return number of series
+     */
+    public abstract int getSeriesCount();
+
+    /**
+     * @param series series index
+     * @return number of values in the series
+     */
+    public abstract int getLength(int series);
+
+    /**
+     * @return number of values of all series
+     */
+    public long getValueCount() {
+        long count = 0;
+        for (int s = 0; s < getSeriesCount(); s++) {
+            count += getLength(s);
+        }
+        return count;
+    }
+
+    /**
+     * @param series series index
+     * @param index value index
+     * @return the value as double (NaN for a null value)
+     */
+    public abstract double getDouble(int series, int index);
+
+    /**
+     * Writes a single value as a javascript number
+     *
+     * @param out where to write
+     * @param series series index
+     * @param index value index
+     * @throws IOException on IO error from the output
+     */
+    public abstract void write(JSWriter out, int series, int index) throws IOException;
+
+    /**
+     * Writes a series as a javascript array e.g. [1,2.5,3]
+     *
+     * @param out where to write
+     * @param series series index
+     * @throws IOException on IO error from the output
+     */
+    public void writeSeries(final JSWriter out, final int series) throws IOException {
+        final int length = getLength(series);
+        out.append('[');
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            write(out, series, i);
+        }
+        out.append(']');
+    }
+
+    /**
+     * Writes a series as a javascript array of single quoted numbers e.g. ['1','2.5','3']
+     *
+     * @param out where to write
+     * @param series series index
+     * @throws IOException on IO error from the output
+     */
+    public void writeQuotedSeries(final JSWriter out, final int series) throws IOException {
+        final int length = getLength(series);
+        out.append('[');
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            out.append('\'');
+            write(out, series, i);
+            out.append('\'');
+        }
+        out.append(']');
+    }
+
+    /**
+     * Writes a series in the specified encoding: a javascript array for TEXT, otherwise a call of the template
+     * decoder with the base64 little endian values e.g. decodeTypedArray('f32','AADAPwAAIEA=')
+     * (null values are encoded as NaN and long values beyond 2^53 lose precision)
+     *
+     * @param out where to write
+     * @param series series index
+     * @param encoding how to encode the values (null for TEXT)
+     * @throws IOException on IO error from the output
+     */
+    public void writeSeries(final JSWriter out, final int series, final DataEncoding encoding) throws IOException {
+        if (encoding == null || encoding == DataEncoding.TEXT) {
+            writeSeries(out, series);
+            return;
+        }
+
+        final boolean float32 = encoding == DataEncoding.FLOAT32;
+        final byte[] chunk = new byte[S_ENCODE_CHUNK * (float32 ? Float.BYTES : Double.BYTES)];
+        final int length = getLength(series);
+
+        out.write(S_DECODE_FUNCTION).write(float32 ? "('f32','" : "('f64','");
+        int position = 0;
+        for (int i = 0; i < length; i++) {
+            if (position == chunk.length) {
+                out.writeBase64(chunk, 0, position);
+                position = 0;
+            }
+            if (float32) {
+                position = putLittleEndian(chunk, position, Float.floatToRawIntBits((float) getDouble(series, i)), Float.BYTES);
+            } else {
+                position = putLittleEndian(chunk, position, Double.doubleToRawLongBits(getDouble(series, i)), Double.BYTES);
+            }
+        }
+        out.writeBase64(chunk, 0, position);
+        out.write("')");
+    }
+
+    /**
+     * Writes all series in the specified encoding as a javascript array e.g. [[1,2],[3,4]] for TEXT
+     *
+     * @param out where to write
+     * @param encoding how to encode the values (null for TEXT)
+     * @throws IOException on IO error from the output
+     * @see #writeSeries(JSWriter, int, DataEncoding)
+     */
+    public void writeAll(final JSWriter out, final DataEncoding encoding) throws IOException {
+        out.append('[');
+        for (int s = 0; s < getSeriesCount(); s++) {
+            if (s > 0) {
+                out.append(',');
+            }
+            writeSeries(out, s, encoding);
+        }
+        out.append(']');
+    }
+
+    /**
+     * @param bytes where to write
+     * @param position index of the first byte
+     * @param value value to write
+     * @param size number of (least significant) bytes of value to write
+     * @return index after the last byte written
+     */
+    private static int putLittleEndian(final byte[] bytes, final int position, final long value, final int size) {
+        for (int i = 0; i < size; i++) {
+            bytes[position + i] = (byte) (value >>> (8 * i));
+        }
+        return position + size;
+    }
+
+    /**
+     * Writes all series as a javascript array of arrays e.g. [[1,2],[3,4]]
+     *
+     * @param out where to write
+     * @throws IOException on IO error from the output
+     */
+    public void writeAll(final JSWriter out) throws IOException {
+        out.append('[');
+        for (int s = 0; s < getSeriesCount(); s++) {
+            if (s > 0) {
+                out.append(',');
+            }
+            writeSeries(out, s);
+        }
+        out.append(']');
+    }
+
+    /**
+     * Writes all series as a javascript array of arrays of single quoted numbers e.g. [['1','2'],['3','4']]
+     *
+     * @param out where to write
+     * @throws IOException on IO error from the output
+     */
+    public void writeAllQuoted(final JSWriter out) throws IOException {
+        out.append('[');
+        for (int s = 0; s < getSeriesCount(); s++) {
+            if (s > 0) {
+                out.append(',');
+            }
+            writeQuotedSeries(out, s);
+        }
+        out.append(']');
+    }
+}
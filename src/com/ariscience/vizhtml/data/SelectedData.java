@@ -0,0 +1,52 @@
+package com.ariscience.vizhtml.data;
+
+import com.ariscience.vizhtml.template.JSWriter;
+
+import java.io.IOException;
+
+/**
+ * {@link NumericData} view of selected indices of another NumericData (e.g. the points kept by downsampling)
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+final class SelectedData extends NumericData {
+
+    /**
+     * the underlying data (not copied)
+     */
+    private final NumericData m_data;
+
+    /**
+     * selected indices of the underlying data, the same for every series
+     */
+    private final int[] m_indices;
+
+    /**
+     * @param data the underlying data
+     * @param indices selected indices of the underlying data
+     */
+    SelectedData(final NumericData data, final int[] indices) {
+        m_data = data;
+        m_indices = indices;
+    }
+
+    @Override
+    public int getSeriesCount() {
+        return m_data.getSeriesCount();
+    }
+
+    @Override
+    public int getLength(final int series) {
+        return m_indices.length;
+    }
+
+    @Override
+    public double getDouble(final int series, final int index) {
+        return m_data.getDouble(series, m_indices[index]);
+    }
+
+    @Override
+    public void write(final JSWriter out, final int series, final int index) throws IOException {
+        m_data.write(out, series, m_indices[index]);
+    }
+}
@@ -1,11 +1,12 @@
 package com.ariscience.vizhtml.gchart;
 
-import com.ariscience.vizhtml.VizHTMLUtils;
 import com.ariscience.vizhtml.error.InconsistentDataException;
 import com.ariscience.vizhtml.error.NullLabelException;
+import com.ariscience.vizhtml.template.JSWriter;
+import com.ariscience.vizhtml.template.TemplateRegistry;
+import com.ariscience.vizhtml.template.TokenWriter;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -69,16 +70,9 @@ public class BarVerticalChart extends GChartBase {
      */
     private final String m_type;
 
-    static{
-        try {
-            // Get template
-            InputStream inputStream = BarVerticalChart.class.getClassLoader().getResourceAsStream("com/ariscience/vizhtml/template/gchart/barTemplate.html");
-
-            // Read template file and close stream
-            setTemplateString(VizHTMLUtils.readFullyAndClose(inputStream));
-        } catch (IOException e) {
-            throw new RuntimeException("Could not instantiate due to IOE:"+e.getMessage());
-        }
+    static {
+        // Register template (read and parsed on first use)
+        TemplateRegistry.register(BarVerticalChart.class, "com/ariscience/vizhtml/template/gchart/barTemplate.html");
     }
 
     /**
@@ -193,7 +187,8 @@ public class BarVerticalChart extends GChartBase {
      * @throws NullLabelException        Exception for null labels
      * @throws InconsistentDataException Exception for inconsistent data
      */
-    private void checkData() throws NullLabelException, InconsistentDataException {
+    @Override
+    protected void checkData() throws NullLabelException, InconsistentDataException {
         if (m_xLabels == null) {
             throw new NullLabelException("X Label cannot be null!");
         }
@@ -214,58 +209,80 @@ public class BarVerticalChart extends GChartBase {
     }
 
     /**
-     * Generates Vertical Bar Chart String based on template/gchart/barTemplate.html
+     * One row per X label with a value per series
      *
-     * Tokens in template file is replaced with corresponding value
-     *
-     * @throws NullLabelException if label not specified
-     * @throws InconsistentDataException if data provided is inconsistent for chart type
-     * @return chart html string
+     * @return estimated data length in chars
      */
-    public String generate() throws NullLabelException, InconsistentDataException {
-
-        String chartStr = getTemplateString();
+    @Override
+    protected int estimateDataLength() {
+        return (int) Math.min(Integer.MAX_VALUE / 2, (long) m_xLabels[0].length * (m_yData.length + 1) * S_CHARS_PER_VALUE);
+    }
 
-        checkData();
+    /**
+     * Bars of all series
+     *
+     * @return number of data points
+     */
+    @Override
+    protected long getPointCount() {
+        return countValues(m_yData);
+    }
 
-        String columns = "['" + m_xAxisTitle + "',";
-        String data = "";
+    /**
+     * Token values for template/gchart/barTemplate.html
+     *
+     * @return token name to value writer map
+     */
+    @Override
+    protected Map<String, TokenWriter> getTokenWriters() {
+        // Map for replace tokens in template html file
+        final Map<String, TokenWriter> replaceMap = new HashMap<>();
+        replaceMap.put("TITLE_X", TokenWriter.of(m_xAxisTitle));
+        replaceMap.put("TITLE_Y", TokenWriter.of(m_yAxisTitle));
+        replaceMap.put("COLUMNS", this::writeColumns);
+        replaceMap.put("DATA", this::writeData);
+        replaceMap.put("WIDTH", TokenWriter.of(String.valueOf(m_width)));
+        replaceMap.put("HEIGHT", TokenWriter.of(String.valueOf(m_height)));
+        replaceMap.put("TITLE_CHART", TokenWriter.of(m_title));
+        replaceMap.put("SUBTITLE", TokenWriter.of(m_subtitle));
+        replaceMap.put("TYPE", TokenWriter.of(m_type));
+        replaceMap.put("FOOTNOTE", TokenWriter.of(getFootnote()));
+
+        return replaceMap;
+    }
 
+    /**
+     * Writes the column titles (axis title followed by series labels)
+     *
+     * @param out where to write
+     * @throws IOException on IO error from the output
+     */
+    private void writeColumns(final JSWriter out) throws IOException {
+        out.append("['").append(m_xAxisTitle).append('\'');
         for (String serie : m_seriesLabels) {
-            columns += "'" + serie + "',";
+            out.append(",'").append(serie).append('\'');
         }
-        columns = columns.substring(0, columns.length() - 1) + "]";
+        out.append(']');
+    }
 
+    /**
+     * Writes one row per label with the value of each series
+     *
+     * @param out where to write
+     * @throws IOException on IO error from the output
+     */
+    private void writeData(final JSWriter out) throws IOException {
         for (int i = 0; i < m_xLabels[0].length; i++) {
-            data += "['" + m_xLabels[0][i] + "',";
+            if (i > 0) {
+                out.append(',');
+            }
+            out.append("['").append(m_xLabels[0][i]).append('\'');
 
             for (int j = 0; j < m_yData.length; j++) {
-                data += m_yData[j][i] + ",";
+                out.append(',').writeNumber(m_yData[j][i]);
             }
-            data = data.substring(0, data.length() - 1) + "],";
-        }
-
-        data = data.substring(0, data.length() - 1);
-
-        // Map for replace tokens in template html file
-        final Map<String, String> replaceMap = new HashMap<>();
-        replaceMap.put("TITLE_X", m_xAxisTitle);
-        replaceMap.put("TITLE_Y", m_yAxisTitle);
-        replaceMap.put("COLUMNS", columns);
-        replaceMap.put("DATA", data);
-        replaceMap.put("WIDTH", String.valueOf(m_width));
-        replaceMap.put("HEIGHT", String.valueOf(m_height));
-        replaceMap.put("TITLE_CHART", m_title);
-        replaceMap.put("SUBTITLE", m_subtitle);
-        replaceMap.put("TYPE", m_type);
-        replaceMap.put("FOOTNOTE", getFootnote());
-
-        // Replace each map key in template file with map value
-        for (Map.Entry<String, String> e : replaceMap.entrySet()) {
-            chartStr = chartStr.replaceAll("\\$" + e.getKey() + "\\$", e.getValue());
+            out.append(']');
         }
-
-        return chartStr;
     }
 
 }
@@ -1,11 +1,15 @@
 package com.ariscience.vizhtml.gchart;
 
-import com.ariscience.vizhtml.VizHTMLUtils;
+import com.ariscience.vizhtml.aggregate.BubbleMerger;
+import com.ariscience.vizhtml.aggregate.MergedBubbles;
+import com.ariscience.vizhtml.data.NumericData;
 import com.ariscience.vizhtml.error.InconsistentDataException;
 import com.ariscience.vizhtml.error.NullLabelException;
+import com.ariscience.vizhtml.template.JSWriter;
+import com.ariscience.vizhtml.template.TemplateRegistry;
+import com.ariscience.vizhtml.template.TokenWriter;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -77,18 +81,19 @@ public class BubbleChart extends GChartBase {
      */
     private int m_height;
 
-    static {
-
-        try {
-            // Get template
-            InputStream inputStream = BubbleChart.class.getClassLoader().getResourceAsStream("com/ariscience/vizhtml/template/gchart/bubbleTemplate.html");
+    /**
+     * true to merge overlapping bubbles
+     */
+    private boolean m_mergeOverlapping;
 
-            // Read template file and close stream
-            setTemplateString(VizHTMLUtils.readFullyAndClose(inputStream));
-        } catch (IOException e) {
-            throw new RuntimeException("Could not instantiate due to IOE:"+e.getMessage());
-        }
+    /**
+     * Radius of the largest bubble (px) used to find overlapping bubbles
+     */
+    private int m_maxBubbleRadius = BubbleMerger.S_MAX_RADIUS;
 
+    static {
+        // Register template (read and parsed on first use)
+        TemplateRegistry.register(BubbleChart.class, "com/ariscience/vizhtml/template/gchart/bubbleTemplate.html");
     }
     /**
      * Constructor for Bubble Chart
@@ -277,6 +282,30 @@ public class BubbleChart extends GChartBase {
         m_seriestitle = series_title;
     }
 
+    /**
+     * Sets overlap merging: bubbles of the same series label whose footprints overlap at the chart width and
+     * height are merged into one bubble at the largest of them, with its label and the sum of their Z
+     *
+     * @param mergeOverlapping true to merge overlapping bubbles, false to draw every bubble (default)
+     * @see #setMaxBubbleRadius(int)
+     */
+    public void setMergeOverlapping(final boolean mergeOverlapping) {
+        m_mergeOverlapping = mergeOverlapping;
+    }
+
+    /**
+     * Sets the radius of the largest bubble used to find overlapping bubbles, smaller bubbles have a radius
+     * proportional to the square root of their Z
+     *
+     * @param maxBubbleRadius radius (px, default BubbleMerger.S_MAX_RADIUS)
+     */
+    public void setMaxBubbleRadius(final int maxBubbleRadius) {
+        if (maxBubbleRadius < BubbleMerger.S_MIN_RADIUS) {
+            throw new IllegalArgumentException("max bubble radius must be at least " + BubbleMerger.S_MIN_RADIUS);
+        }
+        m_maxBubbleRadius = maxBubbleRadius;
+    }
+
     /**
      * This function is used before generating chart string to check null and
      * inconsistent data
@@ -284,7 +313,8 @@ public class BubbleChart extends GChartBase {
      * @throws NullLabelException        Exception for null labels
      * @throws InconsistentDataException Exception for inconsistent data
      */
-    private void checkData() throws NullLabelException, InconsistentDataException {
+    @Override
+    protected void checkData() throws NullLabelException, InconsistentDataException {
         if (m_xData == null) {
             throw new NullLabelException("X Label cannot be null!");
         }
@@ -303,51 +333,112 @@ public class BubbleChart extends GChartBase {
     }
 
     /**
-     * Generates Histogram Chart String based on template/gchart/histogramTemplate.html
+     * Bubbles
      *
-     * Tokens in template file is replaced with corresponding value
-     *
-     * @throws NullLabelException if label not specified
-     * @throws InconsistentDataException if data provided is inconsistent for chart type
-     * @return chart html string
+     * @return number of data points
      */
-    public String generate() throws NullLabelException, InconsistentDataException {
-
-        String chartStr = getTemplateString();
+    @Override
+    protected long getPointCount() {
+        return m_xData[0].length;
+    }
 
-        checkData();
+    /**
+     * Token values for template/gchart/bubbleTemplate.html
+     *
+     * @return token name to value writer map
+     */
+    @Override
+    protected Map<String, TokenWriter> getTokenWriters() {
+        // Map for replace tokens in template html file
+        final Map<String, TokenWriter> replaceMap = new HashMap<>();
+        replaceMap.put("TITLE_X", TokenWriter.of(m_xAxisTitle));
+        if (m_mergeOverlapping) {
+            final MergedBubbles merged = BubbleMerger.merge(NumericData.of(m_xData), NumericData.of(m_yData),
+                    NumericData.of(m_zData), 0, getSeriesGroups(), m_width, m_height, m_maxBubbleRadius);
+            replaceMap.put("DATA", out -> writeMergedData(out, merged));
+        } else {
+            replaceMap.put("DATA", this::writeData);
+        }
+        replaceMap.put("WIDTH", TokenWriter.of(String.valueOf(m_width)));
+        replaceMap.put("HEIGHT", TokenWriter.of(String.valueOf(m_height)));
+        replaceMap.put("TITLE_CHART", TokenWriter.of(m_title));
+        replaceMap.put("TITLE_Y", TokenWriter.of(m_yAxisTitle));
+        replaceMap.put("FOOTNOTE", TokenWriter.of(getFootnote()));
 
-        String data = "['Name','" + m_xAxisTitle + "','" + m_yAxisTitle + "','";
+        return replaceMap;
+    }
 
+    /**
+     * Writes the header row followed by one row per bubble
+     *
+     * @param out where to write
+     * @throws IOException on IO error from the output
+     */
+    private void writeData(final JSWriter out) throws IOException {
+        writeHeader(out);
         if (m_seriesLabels == null) {
-            data += m_zAxisTitle + "'],";
             for (int i = 0; i < m_xData[0].length; i++) {
-                data += "['" + m_xLabels[0][i] + "'," + m_xData[0][i] + "," + m_yData[0][i] + "," + m_zData[0][i] + "],";
+                out.append(",['").append(m_xLabels[0][i]).append("',").writeNumber(m_xData[0][i]);
+                out.append(',').writeNumber(m_yData[0][i]).append(',').writeNumber(m_zData[0][i]).append(']');
             }
         } else {
-            data += m_seriestitle + "','" + m_zAxisTitle + "'],";
             for (int i = 0; i < m_xData[0].length; i++) {
-                data += "['" + m_xLabels[0][i] + "'," + m_xData[0][i] + "," + m_yData[0][i] + ",'" + m_seriesLabels[i] + "'," + m_zData[0][i] + "],";
+                out.append(",['").append(m_xLabels[0][i]).append("',").writeNumber(m_xData[0][i]);
+                out.append(',').writeNumber(m_yData[0][i]).append(",'").append(m_seriesLabels[i]).append("',");
+                out.writeNumber(m_zData[0][i]).append(']');
             }
         }
-        data = data.substring(0, data.length() - 1);
+    }
 
-        // Map for replace tokens in template html file
-        final Map<String, String> replaceMap = new HashMap<>();
-        replaceMap.put("TITLE_X", m_xAxisTitle);
-        replaceMap.put("DATA", data);
-        replaceMap.put("WIDTH", String.valueOf(m_width));
-        replaceMap.put("HEIGHT", String.valueOf(m_height));
-        replaceMap.put("TITLE_CHART", m_title);
-        replaceMap.put("TITLE_Y", m_yAxisTitle);
-        replaceMap.put("FOOTNOTE",getFootnote());
-
-        // Replace each map key in template file with map value
-        for (Map.Entry<String, String> e : replaceMap.entrySet()) {
-            chartStr = chartStr.replaceAll("\\$" + e.getKey() + "\\$", e.getValue());
+    /**
+     * Writes the header row followed by one row per merged bubble, with the label of its largest bubble
+     *
+     * @param out where to write
+     * @param merged merged bubbles
+     * @throws IOException on IO error from the output
+     */
+    private void writeMergedData(final JSWriter out, final MergedBubbles merged) throws IOException {
+        writeHeader(out);
+        final int[] anchors = merged.getAnchors();
+        for (int i = 0; i < merged.getLength(); i++) {
+            out.append(",['").append(m_xLabels[0][anchors[i]]).append("',").writeDouble(merged.getX()[i]);
+            out.append(',').writeDouble(merged.getY()[i]).append(',');
+            if (m_seriesLabels != null) {
+                out.append('\'').append(m_seriesLabels[anchors[i]]).append("',");
+            }
+            out.writeDouble(merged.getZ()[i]).append(']');
         }
+    }
+
+    /**
+     * Writes the header row: name, X, Y, series (if series labels are set) and Z titles
+     *
+     * @param out where to write
+     * @throws IOException on IO error from the output
+     */
+    private void writeHeader(final JSWriter out) throws IOException {
+        out.append("['Name','").append(m_xAxisTitle).append("','").append(m_yAxisTitle).append("','");
+        if (m_seriesLabels != null) {
+            out.append(m_seriestitle).append("','");
+        }
+        out.append(m_zAxisTitle).append("']");
+    }
 
-        return chartStr;
+    /**
+     * @return group of each bubble by series label (bubbles of different series are not merged), null without
+     * series labels
+     */
+    private int[] getSeriesGroups() {
+        if (m_seriesLabels == null) {
+            return null;
+        }
+        final Map<String, Integer> groupOf = new HashMap<>();
+        final int[] groups = new int[m_seriesLabels.length];
+        for (int i = 0; i < groups.length; i++) {
+            final Integer group = groupOf.putIfAbsent(m_seriesLabels[i], groupOf.size());
+            groups[i] = group == null ? groupOf.size() - 1 : group;
+        }
+        return groups;
     }
 
 }
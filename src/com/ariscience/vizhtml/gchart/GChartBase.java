@@ -1,9 +1,11 @@
 package com.ariscience.vizhtml.gchart;
 
+import com.ariscience.vizhtml.ChartBase;
+
 /**
  * All chart providers in GChart package extend this class
  */
-public abstract class GChartBase {
+public abstract class GChartBase extends ChartBase {
 
     /**
      * Chart default width
@@ -55,10 +57,6 @@ public abstract class GChartBase {
      */
     private String m_footnote;
 
-    /**
-     * Chart template string
-     */
-    private static String m_templateString;
        /**
      * Sets Chart Footnote
      *
@@ -75,20 +73,4 @@ public abstract class GChartBase {
     public String getFootnote() {
         return m_footnote;
     }
-
-    /**
-     * Gets Chart Template String
-     * @return Template String
-     */
-    public static String getTemplateString() {
-        return m_templateString;
-    }
-
-    /**
-     * Sets Chart Template String
-     * @param templateString set the template string to use
-     */
-    public static void setTemplateString(String templateString) {
-        m_templateString = templateString;
-    }
 }
@@ -1,11 +1,15 @@
 package com.ariscience.vizhtml.gchart;
 
-import com.ariscience.vizhtml.VizHTMLUtils;
+import com.ariscience.vizhtml.aggregate.HistogramAccumulator;
+import com.ariscience.vizhtml.aggregate.HistogramBins;
 import com.ariscience.vizhtml.error.InconsistentDataException;
 import com.ariscience.vizhtml.error.NullLabelException;
+import com.ariscience.vizhtml.template.JSWriter;
+import com.ariscience.vizhtml.template.Template;
+import com.ariscience.vizhtml.template.TemplateRegistry;
+import com.ariscience.vizhtml.template.TokenWriter;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -16,6 +20,11 @@ import java.util.Map;
  */
 public class HistogramChart extends GChartBase {
 
+    /**
+     * Template of binned data (column chart of bin counts)
+     */
+    public static final String S_BINNED_TEMPLATE = "com/ariscience/vizhtml/template/gchart/histogramBinnedTemplate.html";
+
     /**
      * Chart X Data
      */
@@ -51,17 +60,14 @@ public class HistogramChart extends GChartBase {
      */
     private int m_height;
 
-    static {
-        try {
-            // Get template
-            InputStream inputStream = HistogramChart.class.getClassLoader().getResourceAsStream("com/ariscience/vizhtml/template/gchart/histogramTemplate.html");
-
-            // Read template file and close stream
-            setTemplateString(VizHTMLUtils.readFullyAndClose(inputStream));
-        } catch (IOException e) {
-            throw new RuntimeException("Could not instantiate due to IOE:"+e.getMessage());
-        }
+    /**
+     * Binned data (e.g. from an accumulator), written instead of X and Y Data if set
+     */
+    private HistogramBins m_bins;
 
+    static {
+        // Register template (read and parsed on first use)
+        TemplateRegistry.register(HistogramChart.class, "com/ariscience/vizhtml/template/gchart/histogramTemplate.html");
     }
     /**
      * Constructor for Line Chart
@@ -83,6 +89,29 @@ public class HistogramChart extends GChartBase {
 
     }
 
+    /**
+     * Constructor for Histogram Chart of binned data (single series) e.g. HistogramAccumulator.toBins()
+     * Chart title, subtitle, width, height, X axis title, Y axis title are set to default values
+     * Default values can be set through setter functions
+     *
+     * @param bins Bin edges and counts
+     */
+    public HistogramChart(final HistogramBins bins) {
+        this(null, null);
+        m_bins = bins;
+    }
+
+    /**
+     * Constructor for Histogram Chart of streamed data (a snapshot of the accumulator is taken)
+     * Chart title, subtitle, width, height, X axis title, Y axis title are set to default values
+     * Default values can be set through setter functions
+     *
+     * @param accumulator Accumulator of the values
+     */
+    public HistogramChart(final HistogramAccumulator accumulator) {
+        this(accumulator.toBins());
+    }
+
     /**
      * Sets chart X Data
      *
@@ -101,6 +130,15 @@ public class HistogramChart extends GChartBase {
         m_yData = yData;
     }
 
+    /**
+     * Sets binned data, which is written instead of X and Y Data
+     *
+     * @param bins Bin edges and counts (single series, null to write X and Y Data)
+     */
+    public void setBins(final HistogramBins bins) {
+        m_bins = bins;
+    }
+
     /**
      * Sets chart title
      *
@@ -153,7 +191,15 @@ public class HistogramChart extends GChartBase {
      * @throws NullLabelException        Exception for null labels
      * @throws InconsistentDataException Exception for inconsistent data
      */
-    private void checkData() throws NullLabelException, InconsistentDataException {
+    @Override
+    protected void checkData() throws NullLabelException, InconsistentDataException {
+        if (m_bins != null) {
+            if (m_bins.getSeriesCount() != 1) {
+                throw new InconsistentDataException("Bins must have a single series");
+            }
+            return;
+        }
+
         if (m_xData == null) {
             throw new NullLabelException("X Label cannot be null!");
         }
@@ -169,44 +215,75 @@ public class HistogramChart extends GChartBase {
     }
 
     /**
-     * Generates Histogram Chart String based on template/gchart/histogramTemplate.html
-     *
-     * Tokens in template file is replaced with corresponding value
+     * Binned data uses the column chart template {@link #S_BINNED_TEMPLATE}
      *
-     * @return chart html string
-     * @throws NullLabelException if label not specified
-     * @throws InconsistentDataException if data provided is inconsistent for chart type
+     * @return the chart template
      */
-    public String generate() throws NullLabelException, InconsistentDataException {
-
-        String chartStr = getTemplateString();
+    @Override
+    protected Template getTemplate() {
+        return m_bins == null ? super.getTemplate() : TemplateRegistry.getTemplate(S_BINNED_TEMPLATE);
+    }
 
-        checkData();
+    /**
+     * Values (binned values for binned data)
+     *
+     * @return number of data points
+     */
+    @Override
+    protected long getPointCount() {
+        return m_bins != null ? m_bins.getTotalCount() : m_yData[0].length;
+    }
 
-        String data = "";
+    /**
+     * Token values for template/gchart/histogramTemplate.html
+     *
+     * @return token name to value writer map
+     */
+    @Override
+    protected Map<String, TokenWriter> getTokenWriters() {
+        // Map for replace tokens in template html file
+        final Map<String, TokenWriter> replaceMap = new HashMap<>();
+        replaceMap.put("TITLE_X", TokenWriter.of(m_xAxisTitle));
+        replaceMap.put("DATA", m_bins != null ? this::writeBins : this::writeData);
+        replaceMap.put("WIDTH", TokenWriter.of(String.valueOf(m_width)));
+        replaceMap.put("HEIGHT", TokenWriter.of(String.valueOf(m_height)));
+        replaceMap.put("TITLE_CHART", TokenWriter.of(m_title));
+        replaceMap.put("TITLE_Y", TokenWriter.of(m_yAxisTitle));
+        replaceMap.put("FOOTNOTE", TokenWriter.of(getFootnote()));
+
+        return replaceMap;
+    }
 
+    /**
+     * Writes one row per value with its name
+     *
+     * @param out where to write
+     * @throws IOException on IO error from the output
+     */
+    private void writeData(final JSWriter out) throws IOException {
         for (int i = 0; i < m_xData[0].length; i++) {
-            data += "['" + m_xData[0][i] + "'," + m_yData[0][i] + "],";
+            if (i > 0) {
+                out.append(',');
+            }
+            out.append("['").append(m_xData[0][i]).append("',").writeNumber(m_yData[0][i]).append(']');
         }
+    }
 
-        data = data.substring(0, data.length() - 1);
-
-        // Map for replace tokens in template html file
-        final Map<String, String> replaceMap = new HashMap<>();
-        replaceMap.put("TITLE_X", m_xAxisTitle);
-        replaceMap.put("DATA", data);
-        replaceMap.put("WIDTH", String.valueOf(m_width));
-        replaceMap.put("HEIGHT", String.valueOf(m_height));
-        replaceMap.put("TITLE_CHART", m_title);
-        replaceMap.put("TITLE_Y", m_yAxisTitle);
-        replaceMap.put("FOOTNOTE",getFootnote());
-
-        // Replace each map key in template file with map value
-        for (Map.Entry<String, String> e : replaceMap.entrySet()) {
-            chartStr = chartStr.replaceAll("\\$" + e.getKey() + "\\$", e.getValue());
+    /**
+     * Writes one row per bin with its range and count e.g. ['0.5 - 1.0',42]
+     *
+     * @param out where to write
+     * @throws IOException on IO error from the output
+     */
+    private void writeBins(final JSWriter out) throws IOException {
+        final double[] edges = m_bins.getEdges();
+        final long[] counts = m_bins.getCounts(0);
+        for (int i = 0; i < counts.length; i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            out.append("['").writeDouble(edges[i]).append(" - ").writeDouble(edges[i + 1]).append("',").writeLong(counts[i]).append(']');
         }
-
-        return chartStr;
     }
 
 }
@@ -1,11 +1,15 @@
 package com.ariscience.vizhtml.gchart;
 
-import com.ariscience.vizhtml.VizHTMLUtils;
+import com.ariscience.vizhtml.VizHTMLEnums.LineReduction;
+import com.ariscience.vizhtml.aggregate.LineReducer;
+import com.ariscience.vizhtml.data.NumericData;
 import com.ariscience.vizhtml.error.InconsistentDataException;
 import com.ariscience.vizhtml.error.NullLabelException;
+import com.ariscience.vizhtml.template.JSWriter;
+import com.ariscience.vizhtml.template.TemplateRegistry;
+import com.ariscience.vizhtml.template.TokenWriter;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -27,13 +31,16 @@ public class LineChart extends GChartBase {
      * Series1  m_yData[0][]
      * Series2 m_yData[1][]
      */
-    private Number[][] m_yData;
+    private NumericData m_yData;
 
     /**
      * Series labels for multi series charts
      */
     private String[] m_seriesLabels;
 
+    /**
+     * Optional information strings [numberOfSeries][numberOfXLabels] (a null series has no information)
+     */
     private String[][] m_info;
 
     /**
@@ -66,16 +73,24 @@ public class LineChart extends GChartBase {
      */
     private int m_height;
 
+    /**
+     * How the series are reduced before they are written
+     */
+    private LineReduction m_lineReduction = LineReduction.NONE;
+
+    /**
+     * Max number of points per series written when reduced with LTTB, 0 for LineReducer.S_POINTS_PER_PIXEL times the chart width
+     */
+    private int m_pointBudget;
+
+    /**
+     * Number of points dropped by the reduction of the last generation
+     */
+    private long m_droppedPointCount;
+
     static {
-        try {
-            // Get template
-            InputStream inputStream = LineChart.class.getClassLoader().getResourceAsStream("com/ariscience/vizhtml/template/gchart/lineTemplate.html");
-
-            // Read template file and close stream
-            setTemplateString(VizHTMLUtils.readFullyAndClose(inputStream));
-        } catch (IOException e) {
-            throw new RuntimeException("Could not instantiate due to IOE:" + e.getMessage());
-        }
+        // Register template (read and parsed on first use)
+        TemplateRegistry.register(LineChart.class, "com/ariscience/vizhtml/template/gchart/lineTemplate.html");
     }
 
     /**
@@ -88,7 +103,7 @@ public class LineChart extends GChartBase {
      * @param series_Labels Series labels
      * @param info          Optional information strings [numberOfSeries][numberOfXLabels]
      */
-    public LineChart(final String[][] x_Labels, final Number[][] y_Data, String[] series_Labels, String[][] info) {
+    public LineChart(final String[][] x_Labels, final NumericData y_Data, String[] series_Labels, String[][] info) {
         m_xLabels = x_Labels;
         m_yData = y_Data;
         m_seriesLabels = series_Labels;
@@ -102,9 +117,52 @@ public class LineChart extends GChartBase {
         if (info == null){
             this.m_info=new String[m_seriesLabels.length][];
             Arrays.fill(this.m_info, null);
+        } else {
+            this.m_info = info;
         }
     }
 
+    /**
+     * Constructor for Line Chart
+     * Chart title, subtitle, width, height, X axis title, Y axis title are set to default values
+     * Default values can be set through setter functions
+     *
+     * @param x_Labels      Label values on X Axis
+     * @param y_Data        Values for X Axis Labels
+     * @param series_Labels Series labels
+     * @param info          Optional information strings [numberOfSeries][numberOfXLabels]
+     */
+    public LineChart(final String[][] x_Labels, final Number[][] y_Data, String[] series_Labels, String[][] info) {
+        this(x_Labels,NumericData.of(y_Data),series_Labels,info);
+    }
+
+    /**
+     * Constructor for Line Chart
+     * Chart title, subtitle, width, height, X axis title, Y axis title are set to default values
+     * Default values can be set through setter functions
+     *
+     * @param x_Labels      Label values on X Axis
+     * @param y_Data        Values for X Axis Labels
+     * @param series_Labels Series labels
+     * @param info          Optional information strings [numberOfSeries][numberOfXLabels]
+     */
+    public LineChart(final String[][] x_Labels, final double[][] y_Data, String[] series_Labels, String[][] info) {
+        this(x_Labels,NumericData.of(y_Data),series_Labels,info);
+    }
+
+    /**
+     * Constructor for Line Chart
+     * Chart title, subtitle, width, height, X axis title, Y axis title are set to default values
+     * Default values can be set through setter functions
+     *
+     * @param x_Labels      Label values on X Axis
+     * @param y_Data        Values for X Axis Labels
+     * @param series_Labels Series labels
+     */
+    public LineChart(final String[][] x_Labels, final double[][] y_Data, String[] series_Labels) {
+        this(x_Labels,y_Data,series_Labels,null);
+    }
+
     /**
      * Constructor for Line Chart
      * Chart title, subtitle, width, height, X axis title, Y axis title are set to default values
@@ -133,6 +191,24 @@ public class LineChart extends GChartBase {
      * @param yData Chart Y Data
      */
     public void setYData(final Number[][] yData) {
+        m_yData = NumericData.of(yData);
+    }
+
+    /**
+     * Sets chart Y Data
+     *
+     * @param yData Chart Y Data
+     */
+    public void setYData(final double[][] yData) {
+        m_yData = NumericData.of(yData);
+    }
+
+    /**
+     * Sets chart Y Data
+     *
+     * @param yData Chart Y Data (e.g. NumericData.of(float[][]))
+     */
+    public void setYData(final NumericData yData) {
         m_yData = yData;
     }
 
@@ -203,6 +279,38 @@ public class LineChart extends GChartBase {
         m_yAxisTitle = yAxis_title;
     }
 
+    /**
+     * Sets how the series are reduced before they are written. Lines with millions of points freeze the browser:
+     * LTTB keeps the visual shape with a point budget of a few points per pixel, M4 keeps first, last, min and max
+     * of every pixel column of the chart width so the drawn lines are the same as with all points.
+     * Series are reduced in parallel; as all series share the X labels, the rows kept are the union of the points
+     * kept for each series.
+     *
+     * @param lineReduction line reduction (null for NONE)
+     */
+    public void setLineReduction(final LineReduction lineReduction) {
+        m_lineReduction = lineReduction == null ? LineReduction.NONE : lineReduction;
+    }
+
+    /**
+     * Sets the max number of points per series kept when the series are reduced with LTTB
+     *
+     * @param pointBudget max number of points, 0 for LineReducer.S_POINTS_PER_PIXEL times the chart width (default)
+     */
+    public void setPointBudget(final int pointBudget) {
+        if (pointBudget < 0) {
+            throw new IllegalArgumentException("point budget cannot be negative");
+        }
+        m_pointBudget = pointBudget;
+    }
+
+    /**
+     * @return number of points (of all series) dropped by the line reduction of the last generation
+     */
+    public long getDroppedPointCount() {
+        return m_droppedPointCount;
+    }
+
     /**
      * This function is used before generating chart string to check null and
      * inconsistent data
@@ -210,7 +318,8 @@ public class LineChart extends GChartBase {
      * @throws NullLabelException        exception for null label
      * @throws InconsistentDataException exception for inconsistent data
      */
-    private void checkData() throws NullLabelException, InconsistentDataException {
+    @Override
+    protected void checkData() throws NullLabelException, InconsistentDataException {
         if (m_xLabels == null) {
             throw new NullLabelException("X Label cannot be null!");
         }
@@ -219,7 +328,7 @@ public class LineChart extends GChartBase {
             throw new NullLabelException("Y Data cannot be null!");
         }
 
-        if (m_yData.length != m_seriesLabels.length) {
+        if (m_yData.getSeriesCount() != m_seriesLabels.length) {
             throw new InconsistentDataException("Wrong number of Series Label or Data");
         }
 
@@ -227,80 +336,107 @@ public class LineChart extends GChartBase {
             throw new InconsistentDataException("Wrong number of Series Label or information data");
         }
 
-        for (int i = 0; i < m_info.length; i++) {
+        for (int i = 0; m_info != null && i < m_info.length; i++) {
             if (m_info[i] != null && m_info[i].length != m_xLabels[0].length) {
                 throw new InconsistentDataException("Wrong number of xAxis Labels or Information String");
             }
         }
 
-        for (int i = 0; i < m_yData.length; i++) {
-            if (m_yData[i].length != m_xLabels[0].length) {
+        for (int i = 0; i < m_yData.getSeriesCount(); i++) {
+            if (m_yData.getLength(i) != m_xLabels[0].length) {
                 throw new InconsistentDataException("Wrong number of xAxis Labels or Data");
             }
         }
     }
 
     /**
-     * Generates Line Chart String based on template/gchart/lineTemplate.html
-     * <p>
-     * Tokens in template file is replaced with corresponding value
+     * One row per X label with a value and a tooltip (label, series label, value and info) per series
      *
-     * @return chart html string
-     * @throws NullLabelException        if label not specified
-     * @throws InconsistentDataException if data provided is inconsistent for chart type
+     * @return estimated data length in chars
      */
-    public String generate() throws NullLabelException, InconsistentDataException {
-
-        String chartStr = getTemplateString();
+    @Override
+    protected int estimateDataLength() {
+        final long rows = Math.min(m_xLabels[0].length,
+                (long) LineReducer.getMaxPoints(m_lineReduction, m_pointBudget, m_width) * m_yData.getSeriesCount());
+        return (int) Math.min(Integer.MAX_VALUE / 2, rows * m_yData.getSeriesCount() * S_CHARS_PER_VALUE * 4);
+    }
 
-        checkData();
+    /**
+     * Values of all series
+     *
+     * @return number of data points
+     */
+    @Override
+    protected long getPointCount() {
+        return m_yData.getValueCount();
+    }
 
-        String series = "";
-        String data = "";
+    /**
+     * Token values for template/gchart/lineTemplate.html
+     *
+     * @return token name to value writer map
+     */
+    @Override
+    protected Map<String, TokenWriter> getTokenWriters() {
+        // Map for replace tokens in template html file
+        final Map<String, TokenWriter> replaceMap = new HashMap<>();
+        replaceMap.put("TITLE_X", TokenWriter.of(m_xAxisTitle));
+        replaceMap.put("SERIESLABELS", this::writeSeriesLabels);
+        final int[] rows = LineReducer.selectUnion(m_lineReduction, null, m_yData, m_pointBudget, m_width);
+        m_droppedPointCount = rows == null ? 0 : (long) (m_xLabels[0].length - rows.length) * m_yData.getSeriesCount();
+        replaceMap.put("DATA", out -> writeData(out, rows));
+        replaceMap.put("WIDTH", TokenWriter.of(String.valueOf(m_width)));
+        replaceMap.put("HEIGHT", TokenWriter.of(String.valueOf(m_height)));
+        replaceMap.put("TITLE_CHART", TokenWriter.of(m_title));
+        replaceMap.put("SUBTITLE", TokenWriter.of(m_subtitle));
+        replaceMap.put("TITLE_Y", TokenWriter.of(m_yAxisTitle));
+        replaceMap.put("FOOTNOTE", TokenWriter.of(getFootnote()));
+
+        return replaceMap;
+    }
 
-        int index = 0;
+    /**
+     * Writes a number column and a tooltip column for each series
+     *
+     * @param out where to write
+     * @throws IOException on IO error from the output
+     */
+    private void writeSeriesLabels(final JSWriter out) throws IOException {
         for (String serie : m_seriesLabels) {
-            series += "data.addColumn('number', '" + serie + "');" + System.lineSeparator();
-            // if (m_info[index]!=null){
-            series += "data.addColumn({type:'string',role:'tooltip'});" + System.lineSeparator();
-            //}
-            index++;
+            out.append("data.addColumn('number', '").append(serie).append("');").append(System.lineSeparator());
+            out.append("data.addColumn({type:'string',role:'tooltip'});").append(System.lineSeparator());
         }
+    }
 
-        for (int i = 0; i < m_xLabels[0].length; i++) {
-            data += "['" + m_xLabels[0][i] + "',";
-
-            for (int j = 0; j < m_yData.length; j++) {
-                data += m_yData[j][i] + ",";
-                if (m_info[j] != null && m_info[j][i] != null) {
-                    data += "'" + m_xLabels[0][i] + "\\\\n" + m_seriesLabels[j] + " : " + m_yData[j][i] + "\\\\n" + m_info[j][i] + "',";
-                } else {
-                    data += "'" + m_xLabels[0][i] + "\\\\n" + m_seriesLabels[j] + " : " + m_yData[j][i] + "',";
+    /**
+     * Writes one row per X label with the value and tooltip of each series
+     *
+     * @param out where to write
+     * @param rows indices of the X labels to write, null for all
+     * @throws IOException on IO error from the output
+     */
+    private void writeData(final JSWriter out, final int[] rows) throws IOException {
+        final int count = rows == null ? m_xLabels[0].length : rows.length;
+        for (int r = 0; r < count; r++) {
+            final int i = rows == null ? r : rows[r];
+            if (r > 0) {
+                out.append(',');
+            }
+            out.append("['").append(m_xLabels[0][i]).append('\'');
+
+            for (int j = 0; j < m_yData.getSeriesCount(); j++) {
+                out.append(',');
+                m_yData.write(out, j, i);
+                out.append(",'");
+                out.append(m_xLabels[0][i]).append("\\n").append(m_seriesLabels[j]).append(" : ");
+                m_yData.write(out, j, i);
+                if (m_info != null && m_info[j] != null && m_info[j][i] != null) {
+                    out.append("\\n").append(m_info[j][i]);
                 }
+                out.append('\'');
             }
-            data = data.substring(0, data.length() - 1) + "],";
-        }
-
-        data = data.substring(0, data.length() - 1);
-
-        // Map for replace tokens in template html file
-        final Map<String, String> replaceMap = new HashMap<>();
-        replaceMap.put("TITLE_X", m_xAxisTitle);
-        replaceMap.put("SERIESLABELS", series);
-        replaceMap.put("DATA", data);
-        replaceMap.put("WIDTH", String.valueOf(m_width));
-        replaceMap.put("HEIGHT", String.valueOf(m_height));
-        replaceMap.put("TITLE_CHART", m_title);
-        replaceMap.put("SUBTITLE", m_subtitle);
-        replaceMap.put("TITLE_Y", m_yAxisTitle);
-        replaceMap.put("FOOTNOTE", getFootnote());
-
-        // Replace each map key in template file with map value
-        for (Map.Entry<String, String> e : replaceMap.entrySet()) {
-            chartStr = chartStr.replaceAll("\\$" + e.getKey() + "\\$", e.getValue());
+            out.append(']');
         }
-
-        return chartStr;
     }
 
 }
@@ -1,11 +1,13 @@
 package com.ariscience.vizhtml.gchart;
 
-import com.ariscience.vizhtml.VizHTMLUtils;
+import com.ariscience.vizhtml.aggregate.TopSlices;
 import com.ariscience.vizhtml.error.InconsistentDataException;
 import com.ariscience.vizhtml.error.NullLabelException;
+import com.ariscience.vizhtml.template.JSWriter;
+import com.ariscience.vizhtml.template.TemplateRegistry;
+import com.ariscience.vizhtml.template.TokenWriter;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -42,17 +44,19 @@ public class PieChart extends GChartBase {
      */
     private int m_height;
 
-    static {
-        try {
-            // Get template
-            InputStream inputStream = PieChart.class.getClassLoader().getResourceAsStream("com/ariscience/vizhtml/template/gchart/pieTemplate.html");
+    /**
+     * Max number of slices, the smaller ones are drawn as one other slice (0 for every slice)
+     */
+    private int m_topSlices;
 
-            // Read template file and close stream
-            setTemplateString(VizHTMLUtils.readFullyAndClose(inputStream));
-        }
-        catch (IOException e){
-            throw new RuntimeException("Could not instantiate due to IOE:"+e.getMessage());
-        }
+    /**
+     * Label of the other slice
+     */
+    private String m_otherLabel = TopSlices.S_OTHER_LABEL;
+
+    static {
+        // Register template (read and parsed on first use)
+        TemplateRegistry.register(PieChart.class, "com/ariscience/vizhtml/template/gchart/pieTemplate.html");
     }
     /**
      * Constructor for Pie Chart
@@ -125,6 +129,29 @@ public class PieChart extends GChartBase {
         m_height = height;
     }
 
+    /**
+     * Sets top K mode: only the topSlices largest slices are drawn and the others are summed into one other
+     * slice, so pies of millions of categories stay small and legible
+     *
+     * @param topSlices max number of slices drawn besides the other slice (0 to draw every slice, default)
+     * @see #setOtherLabel(String)
+     */
+    public void setTopSlices(final int topSlices) {
+        if (topSlices < 0) {
+            throw new IllegalArgumentException("number of slices cannot be negative");
+        }
+        m_topSlices = topSlices;
+    }
+
+    /**
+     * Sets the label of the slice summing the slices beyond the top slices
+     *
+     * @param otherLabel label (default TopSlices.S_OTHER_LABEL)
+     */
+    public void setOtherLabel(final String otherLabel) {
+        m_otherLabel = otherLabel;
+    }
+
     /**
      * This function is used before generating chart string to check null and
      * inconsistent data
@@ -132,7 +159,8 @@ public class PieChart extends GChartBase {
      * @throws NullLabelException        Exception for null labels
      * @throws InconsistentDataException Exception for inconsistent data
      */
-    private void checkData() throws NullLabelException, InconsistentDataException {
+    @Override
+    protected void checkData() throws NullLabelException, InconsistentDataException {
         if (m_xLabels == null) {
             throw new NullLabelException("X Label cannot be null!");
         }
@@ -151,50 +179,56 @@ public class PieChart extends GChartBase {
     }
 
     /**
-     * Generates Pie Chart String based on template/gchart/pieTemplate.html
-     *
-     * Tokens in template file is replaced with corresponding value
+     * Slices
      *
-     * @return chart html string
-     * @throws NullLabelException if label not specified
-     * @throws InconsistentDataException if data provided is inconsistent for chart type
+     * @return number of data points
      */
-    public String generate() throws NullLabelException, InconsistentDataException {
-
-        String chartStr=getTemplateString();
-
-        checkData();
-
-        String columns = "[";
-        String data = "";
-
-        for (String name : m_xLabels[0]) {
-            columns += "'" + name + "',";
-        }
-
-        columns = columns.substring(0, columns.length() - 1) + "]";
+    @Override
+    protected long getPointCount() {
+        return m_yData[0].length;
+    }
 
-        for (int i = 0; i < m_yLabels[0].length; i++) {
-            data += "['" + m_yLabels[0][i] + "'," + m_yData[0][i] + "], ";
+    /**
+     * Token values for template/gchart/pieTemplate.html
+     *
+     * @return token name to value writer map
+     */
+    @Override
+    protected Map<String, TokenWriter> getTokenWriters() {
+        // Map for replace tokens in template html file
+        final Map<String, TokenWriter> replaceMap = new HashMap<>();
+        replaceMap.put("DATAX", out -> out.writeQuotedArray(m_xLabels[0]));
+        if (m_topSlices > 0 && m_yData[0].length > m_topSlices) {
+            final TopSlices top = TopSlices.of(m_yData[0], m_topSlices);
+            final String[] labels = top.select(m_yLabels[0], m_otherLabel);
+            final Number[] values = top.select(m_yData[0]);
+            replaceMap.put("DATAY", out -> writeData(out, labels, values));
+        } else {
+            replaceMap.put("DATAY", out -> writeData(out, m_yLabels[0], m_yData[0]));
         }
+        replaceMap.put("WIDTH", TokenWriter.of(String.valueOf(m_width)));
+        replaceMap.put("HEIGHT", TokenWriter.of(String.valueOf(m_height)));
+        replaceMap.put("TITLE_CHART", TokenWriter.of(m_title));
+        replaceMap.put("FOOTNOTE", TokenWriter.of(getFootnote()));
 
-        data = data.substring(0, data.length() - 2);
+        return replaceMap;
+    }
 
-        // Map for replace tokens in template html file
-        final Map<String, String> replaceMap = new HashMap<>();
-        replaceMap.put("DATAX", columns);
-        replaceMap.put("DATAY", data);
-        replaceMap.put("WIDTH", String.valueOf(m_width));
-        replaceMap.put("HEIGHT", String.valueOf(m_height));
-        replaceMap.put("TITLE_CHART", m_title);
-        replaceMap.put("FOOTNOTE",getFootnote());
-
-        // Replace each map key in template file with map value
-        for (Map.Entry<String, String> e : replaceMap.entrySet()) {
-            chartStr = chartStr.replaceAll("\\$" + e.getKey() + "\\$", e.getValue());
+    /**
+     * Writes one row per slice with the label and value
+     *
+     * @param out where to write
+     * @param labels slice labels
+     * @param values slice values
+     * @throws IOException on IO error from the output
+     */
+    private static void writeData(final JSWriter out, final String[] labels, final Number[] values) throws IOException {
+        for (int i = 0; i < labels.length; i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            out.append("['").append(labels[i]).append("',").writeNumber(values[i]).append(']');
         }
-
-        return chartStr;
     }
 
 }
@@ -1,11 +1,16 @@
 package com.ariscience.vizhtml.gchart;
 
-import com.ariscience.vizhtml.VizHTMLUtils;
+import com.ariscience.vizhtml.VizHTMLEnums.DensityBinning;
+import com.ariscience.vizhtml.aggregate.DensityBinner;
+import com.ariscience.vizhtml.aggregate.DensityGrid;
+import com.ariscience.vizhtml.data.NumericData;
 import com.ariscience.vizhtml.error.InconsistentDataException;
 import com.ariscience.vizhtml.error.NullLabelException;
+import com.ariscience.vizhtml.template.JSWriter;
+import com.ariscience.vizhtml.template.TemplateRegistry;
+import com.ariscience.vizhtml.template.TokenWriter;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -16,6 +21,21 @@ import java.util.Map;
  */
 public class ScatterChart extends GChartBase {
 
+    /**
+     * Default number of points above which the density is drawn
+     */
+    public static final int S_DENSITY_THRESHOLD = 100000;
+
+    /**
+     * Color of the densest cells (cells are shaded from white to this color by their log count)
+     */
+    private static final int S_DENSITY_COLOR = 0x08306b;
+
+    /**
+     * Lower case hex digits of the density cell colors
+     */
+    private static final char[] S_HEX_DIGITS = "0123456789abcdef".toCharArray();
+
     /**
      * Chart X Axis data
      */
@@ -51,17 +71,29 @@ public class ScatterChart extends GChartBase {
      */
     private int m_height;
 
-    static {
-        try {
-            // Get template
-            InputStream inputStream = ScatterChart.class.getClassLoader().getResourceAsStream("com/ariscience/vizhtml/template/gchart/scatterTemplate.html");
+    /**
+     * Cell shape of the density drawn instead of the points
+     */
+    private DensityBinning m_densityBinning = DensityBinning.NONE;
 
-            // Read template file and close stream
-            setTemplateString(VizHTMLUtils.readFullyAndClose(inputStream));
-        }
-        catch (IOException e){
-            throw new RuntimeException("Could not instantiate due to IOE:"+e.getMessage());
-        }
+    /**
+     * Number of points above which the density is drawn
+     */
+    private int m_densityThreshold = S_DENSITY_THRESHOLD;
+
+    /**
+     * Density cell size (px): side of square cells, radius of hexagonal cells
+     */
+    private int m_cellSize = DensityBinner.S_CELL_SIZE;
+
+    /**
+     * Points of density cells with at most this many points are drawn individually
+     */
+    private int m_outlierCount;
+
+    static {
+        // Register template (read and parsed on first use)
+        TemplateRegistry.register(ScatterChart.class, "com/ariscience/vizhtml/template/gchart/scatterTemplate.html");
     }
 
     /**
@@ -147,6 +179,54 @@ public class ScatterChart extends GChartBase {
         m_yAxisTitle = yAxis_title;
     }
 
+    /**
+     * Sets how charts with more points than the density threshold are drawn: NONE (default) draws every point,
+     * RECTANGULAR / HEXAGONAL count the points per square / hexagonal cell in java and draw one point per non
+     * empty cell, shaded by its count, so the page size depends on the chart size only
+     *
+     * @param densityBinning cell shape (null for NONE)
+     * @see #setDensityThreshold(int)
+     */
+    public void setDensityBinning(final DensityBinning densityBinning) {
+        m_densityBinning = densityBinning == null ? DensityBinning.NONE : densityBinning;
+    }
+
+    /**
+     * Sets the number of points above which the density is drawn instead of the points
+     *
+     * @param densityThreshold number of points (default {@link #S_DENSITY_THRESHOLD})
+     */
+    public void setDensityThreshold(final int densityThreshold) {
+        if (densityThreshold < 0) {
+            throw new IllegalArgumentException("density threshold cannot be negative");
+        }
+        m_densityThreshold = densityThreshold;
+    }
+
+    /**
+     * Sets the size of the density cells
+     *
+     * @param cellSize side of square cells, radius of hexagonal cells (px, default DensityBinner.S_CELL_SIZE)
+     */
+    public void setCellSize(final int cellSize) {
+        if (cellSize < 1) {
+            throw new IllegalArgumentException("cell size must be at least 1");
+        }
+        m_cellSize = cellSize;
+    }
+
+    /**
+     * Sets the max number of points of a density cell whose points are drawn individually over the density
+     *
+     * @param outlierCount max points per cell, 0 (default) to draw no points
+     */
+    public void setOutlierCount(final int outlierCount) {
+        if (outlierCount < 0) {
+            throw new IllegalArgumentException("outlier count cannot be negative");
+        }
+        m_outlierCount = outlierCount;
+    }
+
     /**
      * This function is used before generating chart string to check null and
      * inconsistent data
@@ -154,7 +234,8 @@ public class ScatterChart extends GChartBase {
      * @throws NullLabelException        Exception for null labels
      * @throws InconsistentDataException Exception for inconsistent data
      */
-    private void checkData() throws NullLabelException, InconsistentDataException {
+    @Override
+    protected void checkData() throws NullLabelException, InconsistentDataException {
 
         if (m_yData == null) {
             throw new NullLabelException("Y Data cannot be null!");
@@ -170,45 +251,119 @@ public class ScatterChart extends GChartBase {
     }
 
     /**
-     * Generates Scatter Chart String based on template/gchart/scatterTemplate.html
+     * X, Y points
      *
-     * Tokens in template file is replaced with corresponding value
-     *
-     * @return chart html string
-     * @throws NullLabelException if label not specified
-     * @throws InconsistentDataException if data provided is inconsistent for chart type
+     * @return number of data points
      */
-    public String generate() throws  NullLabelException, InconsistentDataException {
+    @Override
+    protected long getPointCount() {
+        return m_xData[0].length;
+    }
 
-        String chartStr = getTemplateString();
+    /**
+     * Token values for template/gchart/scatterTemplate.html
+     *
+     * @return token name to value writer map
+     */
+    @Override
+    protected Map<String, TokenWriter> getTokenWriters() {
+        // Map for replace tokens in template html file
+        final Map<String, TokenWriter> replaceMap = new HashMap<>();
+        replaceMap.put("TITLE_X", TokenWriter.of(m_xAxisTitle));
+        if (m_densityBinning != DensityBinning.NONE && m_xData[0].length > m_densityThreshold) {
+            final NumericData xData = NumericData.of(m_xData);
+            final NumericData yData = NumericData.of(m_yData);
+            final DensityGrid grid = DensityBinner.bin(m_densityBinning, xData, yData, 0, m_width, m_height, m_cellSize, m_outlierCount);
+            replaceMap.put("COLUMNS", TokenWriter.of("['" + m_xAxisTitle + "','" + m_yAxisTitle + "',{role:'style',type:'string'}]"));
+            replaceMap.put("DATA", out -> writeDensity(out, grid, xData, yData));
+        } else {
+            replaceMap.put("COLUMNS", TokenWriter.of("['" + m_xAxisTitle + "','" + m_yAxisTitle + "']"));
+            replaceMap.put("DATA", this::writeData);
+        }
+        replaceMap.put("WIDTH", TokenWriter.of(String.valueOf(m_width)));
+        replaceMap.put("HEIGHT", TokenWriter.of(String.valueOf(m_height)));
+        replaceMap.put("TITLE_CHART", TokenWriter.of(m_title));
+        replaceMap.put("TITLE_Y", TokenWriter.of(m_yAxisTitle));
+        replaceMap.put("FOOTNOTE", TokenWriter.of(getFootnote()));
 
-        checkData();
+        return replaceMap;
+    }
 
-        String columns = "['" + m_xAxisTitle + "','" + m_yAxisTitle + "']";
-        String data = "";
+    /**
+     * Writes one [x,y] row per point
+     *
+     * @param out where to write
+     * @throws IOException on IO error from the output
+     */
+    private void writeData(final JSWriter out) throws IOException {
         for (int i = 0; i < m_xData[0].length; i++) {
-            data += "[" + m_xData[0][i] + "," + m_yData[0][i] + "],";
+            if (i > 0) {
+                out.append(',');
+            }
+            out.append('[').writeNumber(m_xData[0][i]).append(',').writeNumber(m_yData[0][i]).append(']');
         }
+    }
 
-        data = data.substring(0, data.length() - 1);
-
-        // Map for replace tokens in template html file
-        final Map<String, String> replaceMap = new HashMap<>();
-        replaceMap.put("TITLE_X", m_xAxisTitle);
-        replaceMap.put("COLUMNS", columns);
-        replaceMap.put("DATA", data);
-        replaceMap.put("WIDTH", String.valueOf(m_width));
-        replaceMap.put("HEIGHT", String.valueOf(m_height));
-        replaceMap.put("TITLE_CHART", m_title);
-        replaceMap.put("TITLE_Y", m_yAxisTitle);
-        replaceMap.put("FOOTNOTE",getFootnote());
-
-        // Replace each map key in template file with map value
-        for (Map.Entry<String, String> e : replaceMap.entrySet()) {
-            chartStr = chartStr.replaceAll("\\$" + e.getKey() + "\\$", e.getValue());
+    /**
+     * Writes one [x,y,style] row per non empty density cell, at its center and shaded by its count, then one
+     * [x,y,null] row per outlier point
+     *
+     * @param out where to write
+     * @param grid density grid
+     * @param xData x values
+     * @param yData y values
+     * @throws IOException on IO error from the output
+     */
+    private void writeDensity(final JSWriter out, final DensityGrid grid, final NumericData xData, final NumericData yData) throws IOException {
+        // point size is a diameter: the side of square cells, twice the radius of hexagonal cells
+        final String shape = grid.isHexagonal()
+                ? "point {shape-type: polygon; shape-sides: 6; size: " + 2 * m_cellSize + "; fill-color: #"
+                : "point {shape-type: square; size: " + m_cellSize + "; fill-color: #";
+        final double maxLog = Math.log1p(grid.getMaxCount());
+        boolean first = true;
+        for (int row = 0; row < grid.getRows(); row++) {
+            for (int column = 0; column < grid.getColumns(); column++) {
+                final int count = grid.getCount(row * grid.getColumns() + column);
+                if (count == 0) {
+                    continue;
+                }
+                if (!first) {
+                    out.append(',');
+                }
+                first = false;
+                final double shade = Math.log1p(count) / maxLog;
+                out.append('[').writeDouble(grid.getCenterX(column, row)).append(',').writeDouble(grid.getCenterY(row))
+                        .append(",'").append(shape);
+                writeShadeColor(out, shade);
+                out.append("}']");
+            }
         }
+        for (int index : grid.getOutliers()) {
+            if (!first) {
+                out.append(',');
+            }
+            first = false;
+            out.append('[');
+            xData.write(out, 0, index);
+            out.append(',');
+            yData.write(out, 0, index);
+            out.append(",null]");
+        }
+    }
 
-        return chartStr;
+    /**
+     * Writes the shade color as 6 hex digits
+     *
+     * @param out where to write
+     * @param shade 0 (white) to 1 ({@link #S_DENSITY_COLOR})
+     * @throws IOException on IO error from the output
+     */
+    private static void writeShadeColor(final JSWriter out, final double shade) throws IOException {
+        for (int shift = 16; shift >= 0; shift -= 8) {
+            final int channel = (S_DENSITY_COLOR >> shift) & 0xff;
+            final int value = (int) Math.round(255 - (255 - channel) * shade);
+            out.append(S_HEX_DIGITS[value >> 4]).append(S_HEX_DIGITS[value & 0xf]);
+        }
     }
 
 }
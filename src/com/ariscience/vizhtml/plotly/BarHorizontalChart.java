@@ -1,11 +1,11 @@
 package com.ariscience.vizhtml.plotly;
 
-import com.ariscience.vizhtml.VizHTMLUtils;
 import com.ariscience.vizhtml.error.InconsistentDataException;
 import com.ariscience.vizhtml.error.NullLabelException;
+import com.ariscience.vizhtml.template.JSWriter;
+import com.ariscience.vizhtml.template.TemplateRegistry;
+import com.ariscience.vizhtml.template.TokenWriter;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -65,15 +65,8 @@ public class BarHorizontalChart extends PChartBase {
     private final String m_type;
 
     static {
-        try {
-            // Get template
-            InputStream inputStream = BarHorizontalChart.class.getClassLoader().getResourceAsStream("com/ariscience/vizhtml/template/plotly/barTemplate.html");
-
-            // Read template file and close stream
-            setTemplateString(VizHTMLUtils.readFullyAndClose(inputStream));
-        } catch (IOException e) {
-            throw new RuntimeException("Could not instantiate due to IOE:" + e.getMessage());
-        }
+        // Register template (read and parsed on first use)
+        TemplateRegistry.register(BarHorizontalChart.class, "com/ariscience/vizhtml/template/plotly/barTemplate.html");
     }
 
     /**
@@ -194,7 +187,8 @@ public class BarHorizontalChart extends PChartBase {
      * @throws NullLabelException        Exception for null labels
      * @throws InconsistentDataException Exception for inconsistent data
      */
-    private void checkData() throws NullLabelException, InconsistentDataException {
+    @Override
+    protected void checkData() throws NullLabelException, InconsistentDataException {
         if (m_yLabels == null) {
             throw new NullLabelException("Y Label cannot be null!");
         }
@@ -209,59 +203,36 @@ public class BarHorizontalChart extends PChartBase {
     }
 
     /**
-     * Generates Horizontal Bar Chart String based on template/plotly/barTemplate.html
-     * <p>
-     * Tokens in template file is replaced with corresponding value
+     * Bars
      *
-     * @return chart html string
-     * @throws NullLabelException        if label not specified
-     * @throws InconsistentDataException if data provided is inconsistent for chart type
+     * @return number of data points
      */
-    public String generate() throws NullLabelException, InconsistentDataException {
-
-        String chartStr = getTemplateString();
-
-
-        checkData();
-
-        String columns = "[";
-        String data = "[";
-        String info = "[";
-
-        for (String yLabel : m_yLabels[0]) {
-            columns += "'" + yLabel + "',";
-        }
-        columns = columns.substring(0, columns.length() - 1) + "]";
-
-        for (int i = 0; i < m_xData[0].length; i++) {
-            data += m_xData[0][i] + ",";
-        }
-        data = data.substring(0, data.length() - 1) + "]";
-
-        for (int i = 0; i < m_info[0].length; i++) {
-            info += "'"+m_info[0][i] + "',";
-        }
-        info = info.substring(0, info.length() - 1) + "]";
+    @Override
+    protected long getPointCount() {
+        return m_xData[0].length;
+    }
 
+    /**
+     * Token values for template/plotly/barTemplate.html
+     *
+     * @return token name to value writer map
+     */
+    @Override
+    protected Map<String, TokenWriter> getTokenWriters() {
         // Map for replace tokens in template html file
-        final Map<String, String> replaceMap = new HashMap<>();
-        replaceMap.put("TITLE_X", m_xAxisTitle);
-        replaceMap.put("DATAX", data);
-        replaceMap.put("DATAY", columns);
-        replaceMap.put("INFO", info);
-        replaceMap.put("WIDTH", String.valueOf(m_width));
-        replaceMap.put("HEIGHT", String.valueOf(m_height));
-        replaceMap.put("TITLE_CHART", m_title);
-        replaceMap.put("TITLE_Y", m_yAxisTitle);
-        replaceMap.put("TYPE", m_type);
-        replaceMap.put("FOOTNOTE", getFootnote());
-
-        // Replace each map key in template file with map value
-        for (Map.Entry<String, String> e : replaceMap.entrySet()) {
-            chartStr = chartStr.replaceAll("\\$" + e.getKey() + "\\$", e.getValue());
-        }
-
-        return chartStr;
+        final Map<String, TokenWriter> replaceMap = new HashMap<>();
+        replaceMap.put("TITLE_X", TokenWriter.of(m_xAxisTitle));
+        replaceMap.put("DATAX", out -> out.writeArray(m_xData[0]));
+        replaceMap.put("DATAY", out -> out.writeQuotedArray(m_yLabels[0]));
+        replaceMap.put("INFO", out -> out.writeQuotedArray(m_info[0]));
+        replaceMap.put("WIDTH", TokenWriter.of(String.valueOf(m_width)));
+        replaceMap.put("HEIGHT", TokenWriter.of(String.valueOf(m_height)));
+        replaceMap.put("TITLE_CHART", TokenWriter.of(m_title));
+        replaceMap.put("TITLE_Y", TokenWriter.of(m_yAxisTitle));
+        replaceMap.put("TYPE", TokenWriter.of(m_type));
+        replaceMap.put("FOOTNOTE", TokenWriter.of(getFootnote()));
+
+        return replaceMap;
     }
 
 }
@@ -1,16 +1,15 @@
 package com.ariscience.vizhtml.plotly;
 
-import com.ariscience.vizhtml.VizHTMLUtils;
 import com.ariscience.vizhtml.error.InconsistentDataException;
 import com.ariscience.vizhtml.error.NullLabelException;
+import com.ariscience.vizhtml.template.JSWriter;
+import com.ariscience.vizhtml.template.TemplateRegistry;
+import com.ariscience.vizhtml.template.TokenWriter;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
-
 /**
  * Vertical Bar Chart Class
  * <p>
@@ -60,15 +59,8 @@ public class BarVerticalChart extends PChartBase {
     private final String m_type;
 
     static {
-        try {
-            // Get template
-            InputStream inputStream = BarVerticalChart.class.getClassLoader().getResourceAsStream("com/ariscience/vizhtml/template/plotly/barTemplate.html");
-
-            // Read template file and close stream
-            setTemplateString(VizHTMLUtils.readFullyAndClose(inputStream));
-        } catch (IOException e) {
-            throw new RuntimeException("Could not instantiate due to IOE:" + e.getMessage());
-        }
+        // Register template (read and parsed on first use)
+        TemplateRegistry.register(BarVerticalChart.class, "com/ariscience/vizhtml/template/plotly/barTemplate.html");
     }
 
     /**
@@ -190,7 +182,8 @@ public class BarVerticalChart extends PChartBase {
      * @throws NullLabelException        if label provided is null
      * @throws InconsistentDataException if data provide is inconsistent with chart type
      */
-    private void checkData() throws NullLabelException, InconsistentDataException {
+    @Override
+    protected void checkData() throws NullLabelException, InconsistentDataException {
         if (m_xLabels == null) {
             throw new NullLabelException("X Label cannot be null!");
         }
@@ -209,61 +202,36 @@ public class BarVerticalChart extends PChartBase {
     }
 
     /**
-     * Generates Vertical Bar Chart String based on template/plotly/barTemplate.html
-     * <p>
-     * Tokens in template file is replaced with corresponding value
+     * Bars
      *
-     * @return chart html string
-     * @throws NullLabelException        if label not specified
-     * @throws InconsistentDataException if data provided is inconsistent for chart type
+     * @return number of data points
      */
-    public String generate() throws NullLabelException, InconsistentDataException {
-
-        String chartStr = getTemplateString();
-
-        checkData();
-
-        String columns = "[";
-        String data = "[";
-        String info = "[";
-
-        for (String xLabel : m_xLabels[0]) {
-            columns += "'" + xLabel + "',";
-        }
-        columns = columns.substring(0, columns.length() - 1) + "]";
-
-        for (int i = 0; i < m_yData[0].length; i++) {
-            data += m_yData[0][i] + ",";
-        }
-        data = data.substring(0, data.length() - 1) + "]";
-
-
-        for (int i = 0; i < m_info[0].length; i++) {
-            info += "'"+m_info[0][i] + "',";
-        }
-        info = info.substring(0, info.length() - 1) + "]";
-
+    @Override
+    protected long getPointCount() {
+        return m_yData[0].length;
+    }
 
+    /**
+     * Token values for template/plotly/barTemplate.html
+     *
+     * @return token name to value writer map
+     */
+    @Override
+    protected Map<String, TokenWriter> getTokenWriters() {
         // Map for replace tokens in template html file
-        final Map<String, String> replaceMap = new HashMap<>();
-        replaceMap.put("TITLE_X", m_xAxisTitle);
-        replaceMap.put("DATAX", columns);
-        replaceMap.put("DATAY", data);
-        replaceMap.put("INFO", info);
-        replaceMap.put("WIDTH", String.valueOf(m_width));
-        replaceMap.put("HEIGHT", String.valueOf(m_height));
-        replaceMap.put("TITLE_CHART", m_title);
-        replaceMap.put("TITLE_Y", m_yAxisTitle);
-        replaceMap.put("TYPE", m_type);
-        replaceMap.put("FOOTNOTE", getFootnote());
-
-        // Replace each map key in template file with map value
-        for (Map.Entry<String, String> e : replaceMap.entrySet()) {
-            chartStr = chartStr.replaceAll("\\$" + e.getKey() + "\\$", e.getValue());
-        }
-
-
-        return chartStr;
+        final Map<String, TokenWriter> replaceMap = new HashMap<>();
+        replaceMap.put("TITLE_X", TokenWriter.of(m_xAxisTitle));
+        replaceMap.put("DATAX", out -> out.writeQuotedArray(m_xLabels[0]));
+        replaceMap.put("DATAY", out -> out.writeArray(m_yData[0]));
+        replaceMap.put("INFO", out -> out.writeQuotedArray(m_info[0]));
+        replaceMap.put("WIDTH", TokenWriter.of(String.valueOf(m_width)));
+        replaceMap.put("HEIGHT", TokenWriter.of(String.valueOf(m_height)));
+        replaceMap.put("TITLE_CHART", TokenWriter.of(m_title));
+        replaceMap.put("TITLE_Y", TokenWriter.of(m_yAxisTitle));
+        replaceMap.put("TYPE", TokenWriter.of(m_type));
+        replaceMap.put("FOOTNOTE", TokenWriter.of(getFootnote()));
+
+        return replaceMap;
     }
 
 }
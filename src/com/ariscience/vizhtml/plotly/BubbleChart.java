@@ -1,11 +1,13 @@
 package com.ariscience.vizhtml.plotly;
 
-import com.ariscience.vizhtml.VizHTMLUtils;
+import com.ariscience.vizhtml.aggregate.BubbleMerger;
+import com.ariscience.vizhtml.aggregate.MergedBubbles;
+import com.ariscience.vizhtml.data.NumericData;
 import com.ariscience.vizhtml.error.InconsistentDataException;
 import com.ariscience.vizhtml.error.NullLabelException;
+import com.ariscience.vizhtml.template.TemplateRegistry;
+import com.ariscience.vizhtml.template.TokenWriter;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -26,19 +28,19 @@ public class BubbleChart extends PChartBase {
     /**
      * X data value (1st dimension in bubble chart)
      */
-    private Number[][] m_xData;
+    private NumericData m_xData;
 
     /**
      * Data values for bubble chart
      * m_yData[0][] is Y axis data values (2nd dimension in bubble chart)
      */
-    private Number[][] m_yData;
+    private NumericData m_yData;
 
     /**
      * Data values for bubble chart
      * m_zData[0][] is Z axis data values (4th dimension in bubble chart)
      */
-    private Number[][] m_zData;
+    private NumericData m_zData;
 
     private String[][] m_info;
 
@@ -72,16 +74,19 @@ public class BubbleChart extends PChartBase {
      */
     private int m_height;
 
+    /**
+     * true to merge overlapping bubbles
+     */
+    private boolean m_mergeOverlapping;
+
+    /**
+     * Radius of the largest bubble (px) used to find overlapping bubbles
+     */
+    private int m_maxBubbleRadius = BubbleMerger.S_MAX_RADIUS;
+
     static {
-        try {
-            // Get template
-            InputStream inputStream = BubbleChart.class.getClassLoader().getResourceAsStream("com/ariscience/vizhtml/template/plotly/bubbleTemplate.html");
-
-            // Read template file and close stream
-            setTemplateString(VizHTMLUtils.readFullyAndClose(inputStream));
-        } catch (IOException e) {
-            throw new RuntimeException("Could not instantiate due to IOE:" + e.getMessage());
-        }
+        // Register template (read and parsed on first use)
+        TemplateRegistry.register(BubbleChart.class, "com/ariscience/vizhtml/template/plotly/bubbleTemplate.html");
     }
 
     /**
@@ -95,7 +100,7 @@ public class BubbleChart extends PChartBase {
      * @param z_Data   Values for Z Data
      * @param info     Values for optional information strings
      */
-    public BubbleChart(final String[][] x_Labels, Number[][] x_Data, final Number[][] y_Data, final Number[][] z_Data, final String[][] info) {
+    public BubbleChart(final String[][] x_Labels, final NumericData x_Data, final NumericData y_Data, final NumericData z_Data, final String[][] info) {
         m_xLabels = x_Labels;
         m_xData = x_Data;
         m_yData = y_Data;
@@ -108,7 +113,7 @@ public class BubbleChart extends PChartBase {
         m_zAxisTitle = S_ZTITLE;
         setFootnote(S_FOOTNOTE);
         if (info == null) {
-            this.m_info = new String[1][m_xData[0].length];
+            this.m_info = new String[1][m_xData.getLength(0)];
             Arrays.fill(this.m_info[0], "");
         } else {
             this.m_info = info;
@@ -116,6 +121,21 @@ public class BubbleChart extends PChartBase {
 
     }
 
+    /**
+     * Constructor for Bubble Chart
+     * Chart title, width, height, X axis title, Y axis title, Z Axis title are set to default values
+     * Default values can be set through setter functions
+     *
+     * @param x_Labels Labels for data
+     * @param x_Data   Values for X Data
+     * @param y_Data   Values for Y Data
+     * @param z_Data   Values for Z Data
+     * @param info     Values for optional information strings
+     */
+    public BubbleChart(final String[][] x_Labels, Number[][] x_Data, final Number[][] y_Data, final Number[][] z_Data, final String[][] info) {
+        this(x_Labels, NumericData.of(x_Data), NumericData.of(y_Data), NumericData.of(z_Data), info);
+    }
+
     /**
      * Constructor for Bubble Chart
      * Chart title, width, height, X axis title, Y axis title, Z Axis title are set to default values
@@ -130,6 +150,37 @@ public class BubbleChart extends PChartBase {
         this(x_Labels, x_Data, y_Data, z_Data, null);
     }
 
+    /**
+     * Constructor for Bubble Chart
+     * Chart title, width, height, X axis title, Y axis title, Z Axis title are set to default values
+     * Default values can be set through setter functions
+     *
+     * @param x_Labels Labels for data
+     * @param x_Data   Values for X Data
+     * @param y_Data   Values for Y Data
+     * @param z_Data   Values for Z Data
+     * @param info     Values for optional information strings
+     */
+    public BubbleChart(final String[][] x_Labels, final double[][] x_Data, final double[][] y_Data, final double[][] z_Data, final String[][] info) {
+        this(x_Labels, NumericData.of(x_Data), NumericData.of(y_Data), NumericData.of(z_Data), info);
+    }
+
+    /**
+     * Constructor for Bubble Chart without xLabels and series labels
+     * Chart title, width, height, X axis title, Y axis title are set to default values
+     * Default values can be set through setter functions
+     *
+     * @param x_Data Values for X Data
+     * @param y_Data Values for Y Data
+     * @param z_Data Values for Z Data
+     */
+    public BubbleChart(final double[][] x_Data, final double[][] y_Data, final double[][] z_Data) {
+        this(null, x_Data, y_Data, z_Data, null);
+        String[][] xLabels = new String[1][x_Data[0].length];
+        Arrays.fill(xLabels[0], "");
+        m_xLabels = xLabels;
+    }
+
     /**
      * Constructor for Bubble Chart without xLabels and series labels
      * Chart title, width, height, X axis title, Y axis title are set to default values
@@ -169,6 +220,24 @@ public class BubbleChart extends PChartBase {
      * @param xData Chart X Data
      */
     public void setXData(final Number[][] xData) {
+        m_xData = NumericData.of(xData);
+    }
+
+    /**
+     * Sets chart X Data
+     *
+     * @param xData Chart X Data
+     */
+    public void setXData(final double[][] xData) {
+        m_xData = NumericData.of(xData);
+    }
+
+    /**
+     * Sets chart X Data
+     *
+     * @param xData Chart X Data (e.g. NumericData.of(float[][]))
+     */
+    public void setXData(final NumericData xData) {
         m_xData = xData;
     }
 
@@ -178,6 +247,24 @@ public class BubbleChart extends PChartBase {
      * @param yData Chart Y Data
      */
     public void setYData(final Number[][] yData) {
+        m_yData = NumericData.of(yData);
+    }
+
+    /**
+     * Sets chart Y Data
+     *
+     * @param yData Chart Y Data
+     */
+    public void setYData(final double[][] yData) {
+        m_yData = NumericData.of(yData);
+    }
+
+    /**
+     * Sets chart Y Data
+     *
+     * @param yData Chart Y Data (e.g. NumericData.of(float[][]))
+     */
+    public void setYData(final NumericData yData) {
         m_yData = yData;
     }
 
@@ -187,6 +274,24 @@ public class BubbleChart extends PChartBase {
      * @param zData Chart Z Data
      */
     public void setZData(final Number[][] zData) {
+        m_zData = NumericData.of(zData);
+    }
+
+    /**
+     * Sets chart Z Data
+     *
+     * @param zData Chart Z Data
+     */
+    public void setZData(final double[][] zData) {
+        m_zData = NumericData.of(zData);
+    }
+
+    /**
+     * Sets chart Z Data
+     *
+     * @param zData Chart Z Data (e.g. NumericData.of(float[][]))
+     */
+    public void setZData(final NumericData zData) {
         m_zData = zData;
     }
 
@@ -252,6 +357,31 @@ public class BubbleChart extends PChartBase {
         m_zAxisTitle = zAxis_title;
     }
 
+    /**
+     * Sets overlap merging: bubbles whose footprints overlap at the chart width and height are merged into one
+     * bubble at the largest of them, its Z the sum of their Z and its information string the one of the largest
+     * bubble followed by the number of merged bubbles e.g. "Turkey (+12 more)"
+     *
+     * @param mergeOverlapping true to merge overlapping bubbles, false to draw every bubble (default)
+     * @see #setMaxBubbleRadius(int)
+     */
+    public void setMergeOverlapping(final boolean mergeOverlapping) {
+        m_mergeOverlapping = mergeOverlapping;
+    }
+
+    /**
+     * Sets the radius of the largest bubble used to find overlapping bubbles, smaller bubbles have a radius
+     * proportional to the square root of their Z
+     *
+     * @param maxBubbleRadius radius (px, default BubbleMerger.S_MAX_RADIUS)
+     */
+    public void setMaxBubbleRadius(final int maxBubbleRadius) {
+        if (maxBubbleRadius < BubbleMerger.S_MIN_RADIUS) {
+            throw new IllegalArgumentException("max bubble radius must be at least " + BubbleMerger.S_MIN_RADIUS);
+        }
+        m_maxBubbleRadius = maxBubbleRadius;
+    }
+
     /**
      * This function is used before generating chart string to check null and
      * inconsistent data
@@ -259,7 +389,8 @@ public class BubbleChart extends PChartBase {
      * @throws NullLabelException        Exception for null labels
      * @throws InconsistentDataException Exception for inconsistent data
      */
-    private void checkData() throws NullLabelException, InconsistentDataException {
+    @Override
+    protected void checkData() throws NullLabelException, InconsistentDataException {
         if (m_xData == null) {
             throw new NullLabelException("X Label cannot be null!");
         }
@@ -268,82 +399,80 @@ public class BubbleChart extends PChartBase {
             throw new NullLabelException("Y Data cannot be null!");
         }
 
-        if (m_yData[0].length != m_xData[0].length) {
+        if (m_zData == null) {
+            throw new NullLabelException("Z Data cannot be null!");
+        }
+
+        if (m_yData.getLength(0) != m_xData.getLength(0)) {
             throw new InconsistentDataException("Wrong number of xData or yData");
         }
-        if (m_zData[0].length != m_xData[0].length) {
+        if (m_zData.getLength(0) != m_xData.getLength(0)) {
             throw new InconsistentDataException("Wrong number of xData or zData");
         }
 
-        if (m_info[0].length != m_xData[0].length) {
+        if (m_info[0].length != m_xData.getLength(0)) {
             throw new InconsistentDataException("Wrong number of xData or information string");
         }
 
     }
 
     /**
-     * <pre>
-     * Generates Histogram Chart String based on template/gchart/histogramTemplate.html
-     *
-     * Tokens in template file is replaced with corresponding value
-     * </pre>
+     * X, Y, Z and info of each bubble (when merging overlapping bubbles at most about one per merge grid cell of
+     * 2 * max radius at the chart size)
      *
-     * @return chart html string
-     * @throws NullLabelException        if label not specified
-     * @throws InconsistentDataException if data provided is inconsistent for chart type
+     * @return estimated data length in chars
      */
-    public String generate() throws NullLabelException, InconsistentDataException {
-
-        String chartStr = getTemplateString();
-
-        checkData();
-
-        String xdata = "[";
-        String ydata = "[";
-        String zdata = "[";
-        String info = "[";
-
-        for (Number xNumber : m_xData[0]) {
-            xdata += xNumber + ",";
-        }
-        xdata = xdata.substring(0, xdata.length() - 1) + "]";
-
-        for (Number yNumber : m_yData[0]) {
-            ydata += yNumber + ",";
-        }
-        ydata = ydata.substring(0, ydata.length() - 1) + "]";
-
-        for (Number zNumber : m_zData[0]) {
-            zdata += zNumber + ",";
-        }
-        zdata = zdata.substring(0, zdata.length() - 1) + "]";
-
-        for (int i = 0; i < m_info[0].length; i++) {
-            info += "'" + m_info[0][i] + "',";
+    @Override
+    protected int estimateDataLength() {
+        long bubbles = m_xData.getLength(0);
+        if (m_mergeOverlapping) {
+            final int cellSize = 2 * m_maxBubbleRadius;
+            bubbles = Math.min(bubbles, (long) (m_width / cellSize + 2) * (m_height / cellSize + 2));
         }
+        return (int) Math.min(Integer.MAX_VALUE / 2, bubbles * 4 * S_CHARS_PER_VALUE);
+    }
 
-        info= info.substring(0, info.length() - 1) + "]";
+    /**
+     * Bubbles
+     *
+     * @return number of data points
+     */
+    @Override
+    protected long getPointCount() {
+        return m_xData.getLength(0);
+    }
 
+    /**
+     * Token values for template/plotly/bubbleTemplate.html
+     *
+     * @return token name to value writer map
+     */
+    @Override
+    protected Map<String, TokenWriter> getTokenWriters() {
         // Map for replace tokens in template html file
-        final Map<String, String> replaceMap = new HashMap<>();
-        replaceMap.put("TITLE_X", m_xAxisTitle);
-        replaceMap.put("DATAX", xdata);
-        replaceMap.put("DATAY", ydata);
-        replaceMap.put("DATAZ", zdata);
-        replaceMap.put("INFO", info);
-        replaceMap.put("WIDTH", String.valueOf(m_width));
-        replaceMap.put("HEIGHT", String.valueOf(m_height));
-        replaceMap.put("TITLE_CHART", m_title);
-        replaceMap.put("TITLE_Y", m_yAxisTitle);
-        replaceMap.put("TITLE_Z", m_zAxisTitle);
-        replaceMap.put("FOOTNOTE", getFootnote());
-
-        // Replace each map key in template file with map value
-        for (Map.Entry<String, String> e : replaceMap.entrySet()) {
-            chartStr = chartStr.replaceAll("\\$" + e.getKey() + "\\$", e.getValue());
+        final Map<String, TokenWriter> replaceMap = new HashMap<>();
+        replaceMap.put("TITLE_X", TokenWriter.of(m_xAxisTitle));
+        replaceMap.put("DATAX", out -> m_xData.writeSeries(out, 0));
+        replaceMap.put("DATAY", out -> m_yData.writeSeries(out, 0));
+        replaceMap.put("DATAZ", out -> m_zData.writeSeries(out, 0));
+        replaceMap.put("INFO", out -> out.writeQuotedArray(m_info[0]));
+        replaceMap.put("WIDTH", TokenWriter.of(String.valueOf(m_width)));
+        replaceMap.put("HEIGHT", TokenWriter.of(String.valueOf(m_height)));
+        replaceMap.put("TITLE_CHART", TokenWriter.of(m_title));
+        replaceMap.put("TITLE_Y", TokenWriter.of(m_yAxisTitle));
+        replaceMap.put("TITLE_Z", TokenWriter.of(m_zAxisTitle));
+        replaceMap.put("FOOTNOTE", TokenWriter.of(getFootnote()));
+        if (m_mergeOverlapping) {
+            final MergedBubbles merged = BubbleMerger.merge(m_xData, m_yData, m_zData, 0, null, m_width, m_height,
+                    m_maxBubbleRadius);
+            final String[] info = merged.summarize(m_info[0]);
+            replaceMap.put("DATAX", out -> out.writeArray(merged.getX()));
+            replaceMap.put("DATAY", out -> out.writeArray(merged.getY()));
+            replaceMap.put("DATAZ", out -> out.writeArray(merged.getZ()));
+            replaceMap.put("INFO", out -> out.writeQuotedArray(info));
         }
 
-        return chartStr;
+        return replaceMap;
     }
 
 }
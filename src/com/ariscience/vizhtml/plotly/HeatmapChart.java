@@ -1,12 +1,16 @@
 package com.ariscience.vizhtml.plotly;
 
-import com.ariscience.vizhtml.VizHTMLUtils;
+import com.ariscience.vizhtml.VizHTMLEnums.CellAggregation;
+import com.ariscience.vizhtml.VizHTMLEnums.DataEncoding;
+import com.ariscience.vizhtml.aggregate.MatrixDownscaler;
+import com.ariscience.vizhtml.data.NumericData;
 import com.ariscience.vizhtml.error.InconsistentDataException;
 import com.ariscience.vizhtml.error.NullLabelException;
+import com.ariscience.vizhtml.template.JSWriter;
+import com.ariscience.vizhtml.template.TemplateRegistry;
+import com.ariscience.vizhtml.template.TokenWriter;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -28,9 +32,9 @@ public class HeatmapChart extends PChartBase {
     private String[][] m_yLabels;
 
     /**
-     * Char data
+     * Char data (m_zData[y][x])
      */
-    private Number[][] m_zData;
+    private NumericData m_zData;
     /**
      * Optional information string for bar
      */
@@ -50,17 +54,19 @@ public class HeatmapChart extends PChartBase {
      */
     private int m_height;
 
-    static {
-        try{
-            // Get template
-            InputStream inputStream = PChartBase.class.getClassLoader().getResourceAsStream("com/ariscience/vizhtml/template/plotly/heatmapTemplate.html");
+    /**
+     * Encoding of the numeric data in the generated html
+     */
+    private DataEncoding m_dataEncoding = DataEncoding.TEXT;
 
-            // Read template file and close stream
-            setTemplateString(VizHTMLUtils.readFullyAndClose(inputStream));
-        }
-        catch (IOException e){
-            throw new RuntimeException("Could not instantiate due to IOE:"+e.getMessage());
-        }
+    /**
+     * How blocks of cells are combined when the matrix is larger than the chart (NONE writes every cell)
+     */
+    private CellAggregation m_cellAggregation = CellAggregation.NONE;
+
+    static {
+        // Register template (read and parsed on first use)
+        TemplateRegistry.register(HeatmapChart.class, "com/ariscience/vizhtml/template/plotly/heatmapTemplate.html");
     }
     /**
      * Constructor for Heatmap Chart
@@ -69,9 +75,10 @@ public class HeatmapChart extends PChartBase {
      *
      * @param x_Labels Heatmap X Axis labels
      * @param y_Labels  Heatmap Y Axis labels
-     * @param z_Data  Data values
+     * @param z_Data  Data values (one row per Y label)
+     * @param info  Optional information strings
      */
-    public HeatmapChart(final String[][] x_Labels,final String[][] y_Labels, final Number[][] z_Data,String[][] info) {
+    public HeatmapChart(final String[][] x_Labels,final String[][] y_Labels, final NumericData z_Data,String[][] info) {
         m_xLabels = x_Labels;
         m_yLabels = y_Labels;
         m_zData = z_Data;
@@ -79,15 +86,23 @@ public class HeatmapChart extends PChartBase {
         m_width = S_WIDTH;
         m_height = S_HEIGHT;
         setFootnote(S_FOOTNOTE);
-        if (info == null) {
-            this.m_info = new String[m_yLabels[0].length][m_xLabels[0].length];
-            for (int i=0;i<m_info.length;i++) {
-                Arrays.fill(this.m_info[i], "");
-            }
-        } else {
-            this.m_info = info;
-        }
+        // null info is written as empty strings, so large matrices do not need an info array
+        this.m_info = info;
+    }
+    /**
+     * Constructor for Heatmap Chart
+     * Chart title, width and height are set to default values
+     * Default values can be set through setter functions
+     *
+     * @param x_Labels Heatmap X Axis labels
+     * @param y_Labels  Heatmap Y Axis labels
+     * @param z_Data  Data values
+     * @param info  Optional information strings
+     */
+    public HeatmapChart(final String[][] x_Labels,final String[][] y_Labels, final Number[][] z_Data,String[][] info) {
+        this(x_Labels,y_Labels,NumericData.of(z_Data),info);
     }
+
     /**
      * Constructor for Heatmap Chart
      * Chart title, width and height are set to default values
@@ -101,6 +116,33 @@ public class HeatmapChart extends PChartBase {
         this(x_Labels,y_Labels,z_Data,null);
     }
 
+    /**
+     * Constructor for Heatmap Chart
+     * Chart title, width and height are set to default values
+     * Default values can be set through setter functions
+     *
+     * @param x_Labels Heatmap X Axis labels
+     * @param y_Labels  Heatmap Y Axis labels
+     * @param z_Data  Data values
+     * @param info  Optional information strings
+     */
+    public HeatmapChart(final String[][] x_Labels,final String[][] y_Labels, final double[][] z_Data,String[][] info) {
+        this(x_Labels,y_Labels,NumericData.of(z_Data),info);
+    }
+
+    /**
+     * Constructor for Heatmap Chart
+     * Chart title, width and height are set to default values
+     * Default values can be set through setter functions
+     *
+     * @param x_Labels Heatmap X Axis labels
+     * @param y_Labels  Heatmap Y Axis labels
+     * @param z_Data  Data values
+     */
+    public HeatmapChart(final String[][] x_Labels,final String[][] y_Labels, final double[][] z_Data) {
+        this(x_Labels,y_Labels,z_Data,null);
+    }
+
     /**
      * Sets chart X Axis Labels
      *
@@ -118,6 +160,33 @@ public class HeatmapChart extends PChartBase {
     public void setYLabels(final String[][] yLabels) {
         m_yLabels = yLabels;
     }
+
+    /**
+     * Sets chart data
+     *
+     * @param zData Chart data (one row per Y label)
+     */
+    public void setZData(final Number[][] zData) {
+        m_zData = NumericData.of(zData);
+    }
+
+    /**
+     * Sets chart data
+     *
+     * @param zData Chart data (one row per Y label)
+     */
+    public void setZData(final double[][] zData) {
+        m_zData = NumericData.of(zData);
+    }
+
+    /**
+     * Sets chart data
+     *
+     * @param zData Chart data (one row per Y label e.g. NumericData.of(float[][]))
+     */
+    public void setZData(final NumericData zData) {
+        m_zData = zData;
+    }
     /**
      * Sets optional information strings
      * @param m_info Info String
@@ -152,6 +221,27 @@ public class HeatmapChart extends PChartBase {
         m_height = height;
     }
 
+    /**
+     * Sets how Z data is embedded in the html: TEXT (default) writes javascript arrays, FLOAT32 / FLOAT64 write
+     * base64 typed arrays which are smaller and faster to parse for large data (FLOAT32 rounds values to float)
+     *
+     * @param dataEncoding data encoding (null for TEXT)
+     */
+    public void setDataEncoding(final DataEncoding dataEncoding) {
+        m_dataEncoding = dataEncoding == null ? DataEncoding.TEXT : dataEncoding;
+    }
+
+    /**
+     * Sets how a matrix with more cells than the chart has pixels is downscaled: NONE (default) writes every cell,
+     * the other methods write one cell per block of at most width x height blocks, with the mean, max, min or sum
+     * of the block. Labels of the blocks become ranges (e.g. "x0 - x39") and info strings are summarized.
+     *
+     * @param cellAggregation how to combine the cells of a block (null for NONE)
+     */
+    public void setCellAggregation(final CellAggregation cellAggregation) {
+        m_cellAggregation = cellAggregation == null ? CellAggregation.NONE : cellAggregation;
+    }
+
     /**
      * This function is used before generating chart string to check null and
      * inconsistent data
@@ -159,7 +249,8 @@ public class HeatmapChart extends PChartBase {
      * @throws NullLabelException        Exception for null labels
      * @throws InconsistentDataException Exception for inconsistent data
      */
-    private void checkData() throws NullLabelException, InconsistentDataException {
+    @Override
+    protected void checkData() throws NullLabelException, InconsistentDataException {
         if (m_xLabels == null) {
             throw new NullLabelException("X Label cannot be null!");
         }
@@ -167,81 +258,101 @@ public class HeatmapChart extends PChartBase {
         if (m_yLabels == null) {
             throw new NullLabelException("Y Label cannot be null!");
         }
-        if (m_zData[0].length != m_xLabels[0].length) {
+        if (m_zData == null) {
+            throw new NullLabelException("Z Data cannot be null!");
+        }
+        if (m_zData.getLength(0) != m_xLabels[0].length) {
             throw new InconsistentDataException("Wrong number of X Label or Data");
         }
-        if (m_zData.length != m_yLabels[0].length) {
+        if (m_zData.getSeriesCount() != m_yLabels[0].length) {
             throw new InconsistentDataException("Wrong number of Y Label or Data");
         }
 
     }
 
     /**
-     * Generates Heatmap Chart String based on template/plotly/heatmapTemplate.html
-     * Tokens in template file is replaced with corresponding value
+     * Value and info of each cell
      *
-     * @return chart html string
-     * @throws NullLabelException if label not specified
-     * @throws InconsistentDataException if data provided is inconsistent for chart type
+     * @return estimated data length in chars
      */
-    public String generate() throws NullLabelException, InconsistentDataException {
-
-        String chartStr = getTemplateString();
-
-        checkData();
-
-        String columnsX = "[";
-        String columnsY = "[";
-        String data = "[";
-        String info = "[";
-
-        for (String name : m_xLabels[0]) {
-            columnsX += "'" + name + "',";
+    @Override
+    protected int estimateDataLength() {
+        long cells = (long) m_zData.getSeriesCount() * m_zData.getLength(0);
+        if (m_cellAggregation != CellAggregation.NONE) {
+            cells = Math.min(cells, (long) m_width * m_height);
         }
+        return (int) Math.min(Integer.MAX_VALUE / 2, cells * 2 * S_CHARS_PER_VALUE);
+    }
 
-        columnsX = columnsX.substring(0, columnsX.length() - 1) + "]";
+    /**
+     * Cells
+     *
+     * @return number of data points
+     */
+    @Override
+    protected long getPointCount() {
+        return m_zData.getValueCount();
+    }
 
-        for (String name : m_yLabels[0]) {
-            columnsY += "'" + name + "',";
+    /**
+     * Token values for template/plotly/heatmapTemplate.html
+     *
+     * @return token name to value writer map
+     */
+    @Override
+    protected Map<String, TokenWriter> getTokenWriters() {
+        // Map for replace tokens in template html file
+        final Map<String, TokenWriter> replaceMap = new HashMap<>();
+        final MatrixDownscaler downscaler = new MatrixDownscaler(m_zData.getSeriesCount(), m_zData.getLength(0),
+                Math.max(m_height, 1), Math.max(m_width, 1));
+        if (m_cellAggregation == CellAggregation.NONE || downscaler.isIdentity()) {
+            replaceMap.put("DATAX", out -> out.writeQuotedArray(m_xLabels[0]));
+            replaceMap.put("DATAY", out -> out.writeQuotedArray(m_yLabels[0]));
+            replaceMap.put("DATAZ", out -> m_zData.writeAll(out, m_dataEncoding));
+            replaceMap.put("INFO", out -> writeInfo(out, m_info, m_zData.getSeriesCount(), m_zData.getLength(0)));
+        } else {
+            final NumericData zData = NumericData.of(downscaler.downscale(m_zData, m_cellAggregation));
+            final String[][] info = m_info == null ? null : downscaler.summarize(m_info);
+            replaceMap.put("DATAX", out -> out.writeQuotedArray(downscaler.downscaleColumnLabels(m_xLabels[0])));
+            replaceMap.put("DATAY", out -> out.writeQuotedArray(downscaler.downscaleRowLabels(m_yLabels[0])));
+            replaceMap.put("DATAZ", out -> zData.writeAll(out, m_dataEncoding));
+            replaceMap.put("INFO", out -> writeInfo(out, info, downscaler.getRows(), downscaler.getColumns()));
         }
+        replaceMap.put("DECODER", getDecoderWriter(m_dataEncoding));
+        replaceMap.put("WIDTH", TokenWriter.of(String.valueOf(m_width)));
+        replaceMap.put("HEIGHT", TokenWriter.of(String.valueOf(m_height)));
+        replaceMap.put("TITLE_CHART", TokenWriter.of(m_title));
+        replaceMap.put("FOOTNOTE", TokenWriter.of(getFootnote()));
 
-        columnsY = columnsY.substring(0, columnsY.length() - 1) + "]";
+        return replaceMap;
+    }
 
-        for(Number[] dataArray:m_zData){
-            String zData="[";
-            for (Number value:dataArray){
-                zData+=value+",";
-            }
-            zData = zData.substring(0, zData.length() - 1) + "],";
-            data+=zData;
+    /**
+     * Writes info strings, or empty strings if there is no info
+     *
+     * @param out where to write
+     * @param info info strings (info[row][column]) or null
+     * @param rows number of rows
+     * @param columns number of columns
+     * @throws IOException on IO error from the output
+     */
+    private static void writeInfo(final JSWriter out, final String[][] info, final int rows, final int columns) throws IOException {
+        if (info != null) {
+            out.writeQuotedArray(info);
+            return;
         }
-        data = data.substring(0, data.length() - 1) + "]";
-        for (int j=0;j<m_info.length;j++) {
-            info +="[";
-            for (int i = 0; i < m_info[j].length; i++) {
-                info += "'" + m_info[j][i] + "',";
+        out.append('[');
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                out.append(',');
             }
-            info = info.substring(0, info.length() - 1) + "],";
-        }
-        info = info.substring(0, info.length() - 1) + "]";
-
-        // Map for replace tokens in template html file
-        final Map<String, String> replaceMap = new HashMap<>();
-        replaceMap.put("DATAX", columnsX);
-        replaceMap.put("DATAY", columnsY);
-        replaceMap.put("DATAZ", data);
-        replaceMap.put("INFO",info);
-        replaceMap.put("WIDTH", String.valueOf(m_width));
-        replaceMap.put("HEIGHT", String.valueOf(m_height));
-        replaceMap.put("TITLE_CHART", m_title);
-        replaceMap.put("FOOTNOTE",getFootnote());
-
-        // Replace each map key in template file with map value
-        for (Map.Entry<String, String> e : replaceMap.entrySet()) {
-            chartStr = chartStr.replaceAll("\\$" + e.getKey() + "\\$", e.getValue());
+            out.append('[');
+            for (int j = 0; j < columns; j++) {
+                out.write(j > 0 ? ",''" : "''");
+            }
+            out.append(']');
         }
-
-        return chartStr;
+        out.append(']');
     }
 
 }
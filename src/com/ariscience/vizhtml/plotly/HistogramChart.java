@@ -1,11 +1,17 @@
 package com.ariscience.vizhtml.plotly;
 
-import com.ariscience.vizhtml.VizHTMLUtils;
+import com.ariscience.vizhtml.VizHTMLEnums.HistogramBinning;
+import com.ariscience.vizhtml.aggregate.HistogramAccumulator;
+import com.ariscience.vizhtml.aggregate.HistogramBinner;
+import com.ariscience.vizhtml.aggregate.HistogramBins;
+import com.ariscience.vizhtml.data.NumericData;
 import com.ariscience.vizhtml.error.InconsistentDataException;
 import com.ariscience.vizhtml.error.NullLabelException;
+import com.ariscience.vizhtml.template.JSWriter;
+import com.ariscience.vizhtml.template.Template;
+import com.ariscience.vizhtml.template.TemplateRegistry;
+import com.ariscience.vizhtml.template.TokenWriter;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -16,6 +22,11 @@ import java.util.Map;
  * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
  */
 public class HistogramChart extends PChartBase {
+    /**
+     * Template of charts binned in java (bar trace of bin counts)
+     */
+    public static final String S_BINNED_TEMPLATE = "com/ariscience/vizhtml/template/plotly/histogramBinnedTemplate.html";
+
     /**
      * Series labels for multi series charts
      * Series1  m_xData[0][]
@@ -26,7 +37,7 @@ public class HistogramChart extends PChartBase {
     /**
      * Chart X Data
      */
-    private Number[][] m_xData;
+    private NumericData m_xData;
     /**
      * Optional information string
      */
@@ -56,28 +67,42 @@ public class HistogramChart extends PChartBase {
      */
     private int m_height;
 
+    /**
+     * Where and how values are binned
+     */
+    private HistogramBinning m_binning = HistogramBinning.CLIENT;
+
+    /**
+     * Number of bins for FIXED_WIDTH binning, 0 for Sturges' rule
+     */
+    private int m_binCount;
+
+    /**
+     * Bin edges for EDGES binning
+     */
+    private double[] m_binEdges;
+
+    /**
+     * Binned data (e.g. from accumulators), written instead of X Data if set
+     */
+    private HistogramBins m_bins;
+
     static {
-        try {
-            // Get template
-            InputStream inputStream = PChartBase.class.getClassLoader().getResourceAsStream("com/ariscience/vizhtml/template/plotly/histogramTemplate.html");
-
-            // Read template file and close stream
-            setTemplateString(VizHTMLUtils.readFullyAndClose(inputStream));
-        } catch (IOException e) {
-            throw new RuntimeException("Could not instantiate due to IOE:" + e.getMessage());
-        }
+        // Register template (read and parsed on first use)
+        TemplateRegistry.register(HistogramChart.class, "com/ariscience/vizhtml/template/plotly/histogramTemplate.html");
     }
 
     /**
-     * Constructor for Pie Chart
+     * Constructor for Histogram Chart
      * Chart title, width and height are set to default values
      * Default values can be set through setter functions
      *
      * @param x_Data        Data values
      * @param series_Labels Series labels
      * @param info          Optional information strings
+     * @see #setBinning(HistogramBinning)
      */
-    public HistogramChart(final Number[][] x_Data, String[] series_Labels, String[][] info) {
+    public HistogramChart(final NumericData x_Data, String[] series_Labels, String[][] info) {
         m_xData = x_Data;
         m_seriesLabels = series_Labels;
         m_xAxisTitle = S_XTITLE;
@@ -97,18 +122,71 @@ public class HistogramChart extends PChartBase {
     }
 
     /**
-     * Constructor for Pie Chart
+     * Constructor for Histogram Chart
+     * Chart title, width and height are set to default values
+     * Default values can be set through setter functions
+     *
+     * @param x_Data        Data values
+     * @param series_Labels Series labels
+     * @param info          Optional information strings
+     * @see #setBinning(HistogramBinning)
+     */
+    public HistogramChart(final Number[][] x_Data, String[] series_Labels, String[][] info) {
+        this(NumericData.of(x_Data), series_Labels, info);
+    }
+
+    /**
+     * Constructor for Histogram Chart
      * Chart title, width and height are set to default values
      * Default values can be set through setter functions
      *
      * @param x_Data        Data values
      * @param series_Labels Series labels
+     * @see #setBinning(HistogramBinning)
      */
     public HistogramChart(final Number[][] x_Data, String[] series_Labels) {
         this(x_Data, series_Labels, null);
 
     }
 
+    /**
+     * Constructor for Histogram Chart
+     * Chart title, width and height are set to default values
+     * Default values can be set through setter functions
+     *
+     * @param x_Data        Data values
+     * @param series_Labels Series labels
+     * @see #setBinning(HistogramBinning)
+     */
+    public HistogramChart(final double[][] x_Data, String[] series_Labels) {
+        this(NumericData.of(x_Data), series_Labels, null);
+    }
+
+    /**
+     * Constructor for Histogram Chart of binned data e.g. HistogramAccumulator.toBins(accumulators)
+     * Chart title, width and height are set to default values
+     * Default values can be set through setter functions
+     *
+     * @param bins          Bin edges and counts of each series
+     * @param series_Labels Series labels
+     */
+    public HistogramChart(final HistogramBins bins, String[] series_Labels) {
+        this((NumericData) null, series_Labels, null);
+        m_bins = bins;
+    }
+
+    /**
+     * Constructor for Histogram Chart of streamed data (a snapshot of the accumulators is taken)
+     * Chart title, width and height are set to default values
+     * Default values can be set through setter functions
+     *
+     * @param accumulators  Accumulator of each series, all with the same bins
+     * @param series_Labels Series labels
+     */
+    public HistogramChart(final HistogramAccumulator[] accumulators, String[] series_Labels) {
+        this(HistogramAccumulator.toBins(accumulators), series_Labels);
+    }
+
 
     /**
      * Sets chart X Data
@@ -116,9 +194,36 @@ public class HistogramChart extends PChartBase {
      * @param xData Chart X Data
      */
     public void setXData(final Number[][] xData) {
+        m_xData = NumericData.of(xData);
+    }
+
+    /**
+     * Sets chart X Data
+     *
+     * @param xData Chart X Data
+     */
+    public void setXData(final double[][] xData) {
+        m_xData = NumericData.of(xData);
+    }
+
+    /**
+     * Sets chart X Data
+     *
+     * @param xData Chart X Data (e.g. NumericData.of(float[][]))
+     */
+    public void setXData(final NumericData xData) {
         m_xData = xData;
     }
 
+    /**
+     * Sets binned data, which is written instead of X Data
+     *
+     * @param bins Bin edges and counts of each series (null to write X Data)
+     */
+    public void setBins(final HistogramBins bins) {
+        m_bins = bins;
+    }
+
     /**
      * Sets chart series labels
      *
@@ -164,6 +269,41 @@ public class HistogramChart extends PChartBase {
         m_height = height;
     }
 
+    /**
+     * Sets where values are binned: CLIENT (default) writes every value and plotly bins them in the browser,
+     * the other methods bin in java (in parallel) and write only the bin edges and counts as a bar trace,
+     * which keeps the page small for large data (info strings are not shown then)
+     *
+     * @param binning binning method (null for CLIENT)
+     * @see #setBinCount(int)
+     * @see #setBinEdges(double[])
+     */
+    public void setBinning(final HistogramBinning binning) {
+        m_binning = binning == null ? HistogramBinning.CLIENT : binning;
+    }
+
+    /**
+     * Sets the number of bins of FIXED_WIDTH binning
+     *
+     * @param binCount number of bins, 0 (default) for Sturges' rule (log2(n) + 1)
+     */
+    public void setBinCount(final int binCount) {
+        if (binCount < 0) {
+            throw new IllegalArgumentException("bin count cannot be negative");
+        }
+        m_binCount = binCount;
+    }
+
+    /**
+     * Sets the bin edges of EDGES binning
+     *
+     * @param binEdges finite, strictly ascending bin edges (bin i holds edges[i] &lt;= x &lt; edges[i + 1], the last bin includes its upper edge)
+     */
+    public void setBinEdges(final double[] binEdges) {
+        HistogramBinner.checkEdges(binEdges);
+        m_binEdges = binEdges;
+    }
+
     /**
      * This function is used before generating chart string to check null and
      * inconsistent data
@@ -171,76 +311,96 @@ public class HistogramChart extends PChartBase {
      * @throws NullLabelException        Exception for null labels
      * @throws InconsistentDataException Exception for inconsistent data
      */
-    private void checkData() throws NullLabelException, InconsistentDataException {
+    @Override
+    protected void checkData() throws NullLabelException, InconsistentDataException {
+
+        if (m_bins != null) {
+            if (m_bins.getSeriesCount() != m_seriesLabels.length) {
+                throw new InconsistentDataException("Wrong number of Series Label or Bins");
+            }
+            return;
+        }
 
         if (m_xData == null) {
             throw new NullLabelException("X Data cannot be null!");
         }
 
-        if (m_xData.length != m_seriesLabels.length) {
+        if (m_xData.getSeriesCount() != m_seriesLabels.length) {
             throw new InconsistentDataException("Wrong number of Series Label or Data");
         }
+
+        if (m_binning == HistogramBinning.EDGES && m_binEdges == null) {
+            throw new NullLabelException("Bin edges cannot be null!");
+        }
     }
 
     /**
-     * Generates Histogram Chart String based on template/plotly/histogramTemplate.html
-     * Tokens in template file is replaced with corresponding value
+     * Values binned in java use the bar trace template {@link #S_BINNED_TEMPLATE}
      *
-     * @return chart html string
-     * @throws NullLabelException        if label not specified
-     * @throws InconsistentDataException if data provided is inconsistent for chart type
+     * @return the chart template
      */
-    public String generate() throws NullLabelException, InconsistentDataException {
-
-        String chartStr = getTemplateString();
-
-
-        checkData();
-        String info = "[";
-        String data = "[";
-        String series = "[";
-
-        for (int i = 0; i < m_xData.length; i++) {
-            data += "[";
-            for (int j = 0; j < m_xData[i].length; j++) {
-                data += "'" + m_xData[i][j] + "',";
-            }
-            data = data.substring(0, data.length() - 1) + "],";
+    @Override
+    protected Template getTemplate() {
+        if (m_bins == null && m_binning == HistogramBinning.CLIENT) {
+            return super.getTemplate();
         }
-        data = data.substring(0, data.length() - 1) + "]";
+        return TemplateRegistry.getTemplate(S_BINNED_TEMPLATE);
+    }
 
-        for (int i = 0; i < m_seriesLabels.length; i++) {
-            series += "'" + m_seriesLabels[i] + "',";
+    /**
+     * Each value of each series, or edges and counts of each bin
+     *
+     * @return estimated data length in chars
+     */
+    @Override
+    protected int estimateDataLength() {
+        if (m_bins != null) {
+            return (int) Math.min(Integer.MAX_VALUE / 2, (long) (m_bins.getBinCount() + 1) * (m_bins.getSeriesCount() + 1) * S_CHARS_PER_VALUE);
         }
-        series = series.substring(0, series.length() - 1) + "]";
-
-        for (int i = 0; i < m_info.length; i++) {
-            info += "[";
-            for (int j = 0; j < m_info[i].length; j++) {
-                info += "'" + m_info[i][j] + "',";
-            }
-            info = info.substring(0, info.length() - 1) + "],";
+        if (m_binning != HistogramBinning.CLIENT) {
+            final long bins = m_binning == HistogramBinning.EDGES ? m_binEdges.length
+                    : m_binning == HistogramBinning.FIXED_WIDTH && m_binCount > 0 ? m_binCount : HistogramBinner.S_MAX_BINS;
+            return (int) Math.min(Integer.MAX_VALUE / 2, (bins + 1) * (m_xData.getSeriesCount() + 1) * S_CHARS_PER_VALUE);
         }
-        info = info.substring(0, info.length() - 1) + "]";
+        return (int) Math.min(Integer.MAX_VALUE / 2, (long) m_xData.getSeriesCount() * m_xData.getLength(0) * 2 * S_CHARS_PER_VALUE);
+    }
+
+    /**
+     * Values of all series
+     *
+     * @return number of data points
+     */
+    @Override
+    protected long getPointCount() {
+        return m_bins != null ? m_bins.getTotalCount() : m_xData.getValueCount();
+    }
 
+    /**
+     * Token values for template/plotly/histogramTemplate.html (histogramBinnedTemplate.html if binned in java)
+     *
+     * @return token name to value writer map
+     */
+    @Override
+    protected Map<String, TokenWriter> getTokenWriters() {
         // Map for replace tokens in template html file
-        final Map<String, String> replaceMap = new HashMap<>();
-        replaceMap.put("DATAX", data);
-        replaceMap.put("SERIES", series);
-        replaceMap.put("INFO", info);
-        replaceMap.put("TITLE_X", m_xAxisTitle);
-        replaceMap.put("TITLE_Y", m_yAxisTitle);
-        replaceMap.put("WIDTH", String.valueOf(m_width));
-        replaceMap.put("HEIGHT", String.valueOf(m_height));
-        replaceMap.put("TITLE_CHART", m_title);
-        replaceMap.put("FOOTNOTE", getFootnote());
-
-        // Replace each map key in template file with map value
-        for (Map.Entry<String, String> e : replaceMap.entrySet()) {
-            chartStr = chartStr.replaceAll("\\$" + e.getKey() + "\\$", e.getValue());
+        final Map<String, TokenWriter> replaceMap = new HashMap<>();
+        if (m_bins == null && m_binning == HistogramBinning.CLIENT) {
+            replaceMap.put("DATAX", out -> m_xData.writeAllQuoted(out));
+            replaceMap.put("INFO", out -> out.writeQuotedArray(m_info));
+        } else {
+            final HistogramBins bins = m_bins != null ? m_bins : HistogramBinner.bin(m_binning, m_xData, m_binCount, m_binEdges);
+            replaceMap.put("DATAX", bins::writeEdges);
+            replaceMap.put("DATAY", bins::writeCounts);
         }
-
-        return chartStr;
+        replaceMap.put("SERIES", out -> out.writeQuotedArray(m_seriesLabels));
+        replaceMap.put("TITLE_X", TokenWriter.of(m_xAxisTitle));
+        replaceMap.put("TITLE_Y", TokenWriter.of(m_yAxisTitle));
+        replaceMap.put("WIDTH", TokenWriter.of(String.valueOf(m_width)));
+        replaceMap.put("HEIGHT", TokenWriter.of(String.valueOf(m_height)));
+        replaceMap.put("TITLE_CHART", TokenWriter.of(m_title));
+        replaceMap.put("FOOTNOTE", TokenWriter.of(getFootnote()));
+
+        return replaceMap;
     }
 
 }
@@ -1,9 +1,7 @@
 package com.ariscience.vizhtml.plotly;
 
-import com.ariscience.vizhtml.VizHTMLUtils;
-
-import java.io.IOException;
-import java.io.InputStream;
+import com.ariscience.vizhtml.data.NumericData;
+import com.ariscience.vizhtml.template.TemplateRegistry;
 
 /**
  * Line Chart Class
@@ -14,15 +12,8 @@ import java.io.InputStream;
 public class LineChart extends LineScatterChartBase {
 
     static {
-        try {
-            // Get template
-            InputStream inputStream = LineScatterChartBase.class.getClassLoader().getResourceAsStream("com/ariscience/vizhtml/template/plotly/lineScatterTemplate.html");
-
-            // Read template file and close stream
-            setTemplateString(VizHTMLUtils.readFullyAndClose(inputStream));
-        } catch (IOException e) {
-            throw new RuntimeException("Could not instantiate due to IOE:"+e.getMessage());
-        }
+        // Register template (read and parsed on first use)
+        TemplateRegistry.register(LineChart.class, "com/ariscience/vizhtml/template/plotly/lineScatterTemplate.html");
     }
 
     /**
@@ -36,5 +27,26 @@ public class LineChart extends LineScatterChartBase {
         this.setType("lines");
     }
 
+    /**
+     * Constructor for Line Chart
+     * Chart type is set to "lines"
+     * @param x_Data    Values for X Axis
+     * @param y_Data    Values for Y Axis
+     */
+    public LineChart(final double[][] x_Data, final double[][] y_Data) {
+        this(NumericData.of(x_Data), NumericData.of(y_Data));
+    }
+
+    /**
+     * Constructor for Line Chart (e.g. with NumericData.of(float[][]) or NumericData.of(long[][]) data)
+     * Chart type is set to "lines"
+     * @param x_Data    Values for X Axis
+     * @param y_Data    Values for Y Axis
+     */
+    public LineChart(final NumericData x_Data, final NumericData y_Data) {
+        super(x_Data, y_Data, null);
+        this.setType("lines");
+    }
+
 }
 
@@ -1,9 +1,13 @@
 package com.ariscience.vizhtml.plotly;
 
+import com.ariscience.vizhtml.VizHTMLEnums.DataEncoding;
+import com.ariscience.vizhtml.VizHTMLEnums.LineReduction;
+import com.ariscience.vizhtml.aggregate.LineReducer;
+import com.ariscience.vizhtml.data.NumericData;
 import com.ariscience.vizhtml.error.InconsistentDataException;
 import com.ariscience.vizhtml.error.NullLabelException;
+import com.ariscience.vizhtml.template.TokenWriter;
 
-import java.io.IOException;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -18,12 +22,12 @@ public abstract class LineScatterChartBase extends PChartBase {
     /**
      * X Axis data
      */
-    private Number[][] m_xData;
+    private NumericData m_xData;
 
     /**
      * Y Axis data
      */
-    private Number[][] m_yData;
+    private NumericData m_yData;
 
     /**
      * Optional information string
@@ -59,6 +63,26 @@ public abstract class LineScatterChartBase extends PChartBase {
      */
     private String m_type;
 
+    /**
+     * Encoding of the numeric data in the generated html
+     */
+    private DataEncoding m_dataEncoding = DataEncoding.TEXT;
+
+    /**
+     * How the points are reduced before they are written
+     */
+    private LineReduction m_lineReduction = LineReduction.NONE;
+
+    /**
+     * Max number of points written when reduced with LTTB, 0 for LineReducer.S_POINTS_PER_PIXEL times the chart width
+     */
+    private int m_pointBudget;
+
+    /**
+     * Number of points dropped by the reduction of the last generation
+     */
+    private long m_droppedPointCount;
+
     /**
      * Constructor for Line &amp; Scatter Chart
      * <p>
@@ -70,7 +94,7 @@ public abstract class LineScatterChartBase extends PChartBase {
      * @param y_Data Values for Y Axis
      * @param info   Optional information strings
      */
-    public LineScatterChartBase(final Number[][] x_Data, final Number[][] y_Data, String[][] info) {
+    public LineScatterChartBase(final NumericData x_Data, final NumericData y_Data, String[][] info) {
         m_xData = x_Data;
         m_yData = y_Data;
         m_title = S_TITLE;
@@ -80,13 +104,28 @@ public abstract class LineScatterChartBase extends PChartBase {
         m_yAxisTitle = S_YTITLE;
         setFootnote(S_FOOTNOTE);
         if (info == null) {
-            this.m_info = new String[1][m_xData[0].length];
+            this.m_info = new String[1][m_xData.getLength(0)];
             Arrays.fill(this.m_info[0], "");
         } else {
             this.m_info = info;
         }
     }
 
+    /**
+     * Constructor for Line &amp; Scatter Chart
+     * <p>
+     * Chart title, width, height, X axis title, Y axis title are set to default values
+     * <p>
+     * Default values can be set through setter functions
+     *
+     * @param x_Data Values for X Axis
+     * @param y_Data Values for Y Axis
+     * @param info   Optional information strings
+     */
+    public LineScatterChartBase(final Number[][] x_Data, final Number[][] y_Data, String[][] info) {
+        this(NumericData.of(x_Data), NumericData.of(y_Data), info);
+    }
+
     /**
      * Constructor for Line &amp; Scatter Chart
      * <p>
@@ -107,6 +146,24 @@ public abstract class LineScatterChartBase extends PChartBase {
      * @param xData Chart X Data
      */
     public void setXData(final Number[][] xData) {
+        m_xData = NumericData.of(xData);
+    }
+
+    /**
+     * Sets chart X Data
+     *
+     * @param xData Chart X Data
+     */
+    public void setXData(final double[][] xData) {
+        m_xData = NumericData.of(xData);
+    }
+
+    /**
+     * Sets chart X Data
+     *
+     * @param xData Chart X Data (e.g. NumericData.of(float[][]))
+     */
+    public void setXData(final NumericData xData) {
         m_xData = xData;
     }
 
@@ -116,6 +173,24 @@ public abstract class LineScatterChartBase extends PChartBase {
      * @param yData Chart Y Data
      */
     public void setYData(final Number[][] yData) {
+        m_yData = NumericData.of(yData);
+    }
+
+    /**
+     * Sets chart Y Data
+     *
+     * @param yData Chart Y Data
+     */
+    public void setYData(final double[][] yData) {
+        m_yData = NumericData.of(yData);
+    }
+
+    /**
+     * Sets chart Y Data
+     *
+     * @param yData Chart Y Data (e.g. NumericData.of(float[][]))
+     */
+    public void setYData(final NumericData yData) {
         m_yData = yData;
     }
 
@@ -182,6 +257,82 @@ public abstract class LineScatterChartBase extends PChartBase {
         m_type = type;
     }
 
+    /**
+     * Sets how the points are reduced before they are written. Lines with millions of points freeze the browser:
+     * LTTB keeps the visual shape with a point budget of a few points per pixel, M4 keeps first, last, min and max
+     * of every pixel column of the chart width so the drawn line is the same as with all points.
+     * X values must be sorted.
+     *
+     * @param lineReduction line reduction (null for NONE)
+     */
+    public void setLineReduction(final LineReduction lineReduction) {
+        m_lineReduction = lineReduction == null ? LineReduction.NONE : lineReduction;
+    }
+
+    /**
+     * Sets the max number of points written when reduced with LTTB
+     *
+     * @param pointBudget max number of points, 0 for LineReducer.S_POINTS_PER_PIXEL times the chart width (default)
+     */
+    public void setPointBudget(final int pointBudget) {
+        if (pointBudget < 0) {
+            throw new IllegalArgumentException("point budget cannot be negative");
+        }
+        m_pointBudget = pointBudget;
+    }
+
+    /**
+     * @return number of points dropped by the line reduction of the last generation
+     */
+    public long getDroppedPointCount() {
+        return m_droppedPointCount;
+    }
+
+    /**
+     * Sets how X and Y data is embedded in the html: TEXT (default) writes javascript arrays, FLOAT32 / FLOAT64 write
+     * base64 typed arrays which are smaller and faster to parse for large data (FLOAT32 rounds values to float)
+     *
+     * @param dataEncoding data encoding (null for TEXT)
+     */
+    public void setDataEncoding(final DataEncoding dataEncoding) {
+        m_dataEncoding = dataEncoding == null ? DataEncoding.TEXT : dataEncoding;
+    }
+
+    /**
+     * @return chart X Data
+     */
+    protected NumericData getXData() {
+        return m_xData;
+    }
+
+    /**
+     * @return chart Y Data
+     */
+    protected NumericData getYData() {
+        return m_yData;
+    }
+
+    /**
+     * @return optional information strings
+     */
+    protected String[][] getInfo() {
+        return m_info;
+    }
+
+    /**
+     * @return chart width (px)
+     */
+    protected int getWidth() {
+        return m_width;
+    }
+
+    /**
+     * @return chart height (px)
+     */
+    protected int getHeight() {
+        return m_height;
+    }
+
     /**
      * This function is used before generating chart string to check null and
      * inconsistent data
@@ -189,7 +340,8 @@ public abstract class LineScatterChartBase extends PChartBase {
      * @throws NullLabelException        Exception for null labels
      * @throws InconsistentDataException Exception for inconsistent data
      */
-    void checkData() throws NullLabelException, InconsistentDataException {
+    @Override
+    protected void checkData() throws NullLabelException, InconsistentDataException {
         if (m_xData == null) {
             throw new NullLabelException("X Label cannot be null!");
         }
@@ -198,73 +350,75 @@ public abstract class LineScatterChartBase extends PChartBase {
             throw new NullLabelException("Y Data cannot be null!");
         }
 
-        if (m_yData.length != m_xData.length) {
+        if (m_yData.getSeriesCount() != m_xData.getSeriesCount()) {
             throw new InconsistentDataException("Wrong number of Series Label or Data");
         }
 
-        if (m_yData[0].length != m_xData[0].length) {
+        if (m_yData.getLength(0) != m_xData.getLength(0)) {
             throw new InconsistentDataException("Wrong number of xData or yData");
         }
 
     }
 
     /**
-     * <pre>
-     * Generates Chart String based on template/plotly/lineScatterTemplate.html
+     * X, Y and info of each point
      *
-     * Tokens in template file is replaced with corresponding value
-     * </pre>
-     *
-     * @return chart html string
-     * @throws NullLabelException        if label not specified
-     * @throws InconsistentDataException if data provided is inconsistent for chart type
+     * @return estimated data length in chars
      */
-    public String generate() throws NullLabelException, InconsistentDataException {
-
-        String chartStr = getTemplateString();
-
-        checkData();
-
-        String xData = "[";
-        String yData = "[";
-        String info = "[";
-
-        for (int i = 0; i < m_xData[0].length; i++) {
-            xData += m_xData[0][i] + ",";
-        }
-
-        xData = xData.substring(0, xData.length() - 1) + "]";
-
-        for (int i = 0; i < m_yData[0].length; i++) {
-            yData += m_yData[0][i] + ",";
-        }
-
-        yData = yData.substring(0, yData.length() - 1) + "]";
-
-        for (int i = 0; i < m_info[0].length; i++) {
-            info += "'"+m_info[0][i] + "',";
-        }
+    @Override
+    protected int estimateDataLength() {
+        return (int) Math.min(Integer.MAX_VALUE / 2, (long) Math.min(m_xData.getLength(0), LineReducer.getMaxPoints(m_lineReduction, m_pointBudget, m_width)) * 3 * S_CHARS_PER_VALUE);
+    }
 
-        info = info.substring(0, info.length() - 1) + "]";
+    /**
+     * X, Y points
+     *
+     * @return number of data points
+     */
+    @Override
+    protected long getPointCount() {
+        return m_xData.getLength(0);
+    }
 
+    /**
+     * Token values for template/plotly/lineScatterTemplate.html
+     *
+     * @return token name to value writer map
+     */
+    @Override
+    protected Map<String, TokenWriter> getTokenWriters() {
         // Map for replace tokens in template html file
-        final Map<String, String> replaceMap = new HashMap<>();
-        replaceMap.put("TITLE_X", m_xAxisTitle);
-        replaceMap.put("DATAX", xData);
-        replaceMap.put("DATAY", yData);
-        replaceMap.put("INFO",info);
-        replaceMap.put("WIDTH", String.valueOf(m_width));
-        replaceMap.put("HEIGHT", String.valueOf(m_height));
-        replaceMap.put("TITLE_CHART", m_title);
-        replaceMap.put("TITLE_Y", m_yAxisTitle);
-        replaceMap.put("TYPE", m_type);
-        replaceMap.put("FOOTNOTE", getFootnote());
-
-        // Replace each map key in template file with map value
-        for (Map.Entry<String, String> e : replaceMap.entrySet()) {
-            chartStr = chartStr.replaceAll("\\$" + e.getKey() + "\\$", e.getValue());
-        }
+        final Map<String, TokenWriter> replaceMap = getChartTokenWriters();
+        final int[] selected = LineReducer.select(m_lineReduction, m_xData, m_yData, 0, m_pointBudget, m_width);
+        m_droppedPointCount = selected == null ? 0 : m_yData.getLength(0) - selected.length;
+        final NumericData xData = selected == null ? m_xData : m_xData.select(selected);
+        final NumericData yData = selected == null ? m_yData : m_yData.select(selected);
+        final String[] info = selected == null ? m_info[0] : LineReducer.select(m_info[0], selected);
+
+        replaceMap.put("DATAX", out -> xData.writeSeries(out, 0, m_dataEncoding));
+        replaceMap.put("DATAY", out -> yData.writeSeries(out, 0, m_dataEncoding));
+        replaceMap.put("INFO", out -> out.writeQuotedArray(info));
+        return replaceMap;
+    }
 
-        return chartStr;
+    /**
+     * Token values that do not depend on the data points: titles, size, trace type, decoder and footnote.
+     * Resets the dropped point count, which only the line reduction of getTokenWriters() sets
+     *
+     * @return token name to value writer map
+     */
+    protected Map<String, TokenWriter> getChartTokenWriters() {
+        m_droppedPointCount = 0;
+        final Map<String, TokenWriter> replaceMap = new HashMap<>();
+        replaceMap.put("TITLE_X", TokenWriter.of(m_xAxisTitle));
+        replaceMap.put("DECODER", getDecoderWriter(m_dataEncoding));
+        replaceMap.put("WIDTH", TokenWriter.of(String.valueOf(m_width)));
+        replaceMap.put("HEIGHT", TokenWriter.of(String.valueOf(m_height)));
+        replaceMap.put("TITLE_CHART", TokenWriter.of(m_title));
+        replaceMap.put("TITLE_Y", TokenWriter.of(m_yAxisTitle));
+        replaceMap.put("TYPE", TokenWriter.of(m_type));
+        replaceMap.put("FOOTNOTE", TokenWriter.of(getFootnote()));
+
+        return replaceMap;
     }
 }
@@ -1,12 +1,19 @@
 package com.ariscience.vizhtml.plotly;
 
+import com.ariscience.vizhtml.ChartBase;
+import com.ariscience.vizhtml.VizHTMLEnums.DataEncoding;
+import com.ariscience.vizhtml.template.TemplateRegistry;
+import com.ariscience.vizhtml.template.TokenWriter;
+
+import java.util.Collections;
+
 /**
  * All chart providers in plotly package extend this class
  * <p>
  * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
  * </p>
  */
-public abstract class PChartBase {
+public abstract class PChartBase extends ChartBase {
 
     /**
      * Chart default width
@@ -44,14 +51,15 @@ public abstract class PChartBase {
     public static final String S_FOOTNOTE = "Footnote-1";
 
     /**
-     * Chart footnote
+     * Javascript decoder of base64 typed array data (see NumericData.writeSeries(JSWriter, int, DataEncoding))
      */
-    private String m_footnote;
+    public static final String S_DECODER_TEMPLATE = "com/ariscience/vizhtml/template/plotly/typedArrayDecoder.js";
 
     /**
-     * Chart template string
+     * Chart footnote
      */
-    private static String m_templateString;
+    private String m_footnote;
+
     /**
      * Sets Chart Footnote
      *
@@ -70,18 +78,15 @@ public abstract class PChartBase {
     }
 
     /**
-     * Gets Chart Template String
-     * @return Template String
-     */
-    public static String getTemplateString() {
-        return m_templateString;
-    }
-
-    /**
-     * Sets Chart Template String
-     * @param templateString the template string to use for all instances
+     * Writer of the DECODER token: nothing for TEXT data, otherwise the typed array decoder function
+     *
+     * @param encoding data encoding of the chart
+     * @return token writer
      */
-    public static void setTemplateString(String templateString) {
-        m_templateString = templateString;
+    protected static TokenWriter getDecoderWriter(final DataEncoding encoding) {
+        if (encoding == null || encoding == DataEncoding.TEXT) {
+            return TokenWriter.of("");
+        }
+        return out -> TemplateRegistry.getTemplate(S_DECODER_TEMPLATE).render(Collections.emptyMap(), out);
     }
 }
@@ -1,9 +1,17 @@
 package com.ariscience.vizhtml.plotly;
 
-import com.ariscience.vizhtml.VizHTMLUtils;
+import com.ariscience.vizhtml.VizHTMLEnums.DensityBinning;
+import com.ariscience.vizhtml.aggregate.DensityBinner;
+import com.ariscience.vizhtml.aggregate.DensityGrid;
+import com.ariscience.vizhtml.aggregate.LineReducer;
+import com.ariscience.vizhtml.data.NumericData;
+import com.ariscience.vizhtml.template.JSWriter;
+import com.ariscience.vizhtml.template.Template;
+import com.ariscience.vizhtml.template.TemplateRegistry;
+import com.ariscience.vizhtml.template.TokenWriter;
 
 import java.io.IOException;
-import java.io.InputStream;
+import java.util.Map;
 
 /**
  * Scatter Chart Class
@@ -13,16 +21,39 @@ import java.io.InputStream;
  */
 public class ScatterChart extends LineScatterChartBase {
 
-    static {
-        try {
-            // Get template
-            InputStream inputStream = ScatterChart.class.getClassLoader().getResourceAsStream("com/ariscience/vizhtml/template/plotly/lineScatterTemplate.html");
+    /**
+     * Template of charts drawn as point density
+     */
+    public static final String S_DENSITY_TEMPLATE = "com/ariscience/vizhtml/template/plotly/densityTemplate.html";
 
-            // Read template file and close stream
-            setTemplateString(VizHTMLUtils.readFullyAndClose(inputStream));
-        } catch (IOException e) {
-            throw new RuntimeException("Could not instantiate due to IOE:"+e.getMessage());
-        }
+    /**
+     * Default number of points above which the density is drawn
+     */
+    public static final int S_DENSITY_THRESHOLD = 1000000;
+
+    /**
+     * Cell shape of the density drawn instead of the points
+     */
+    private DensityBinning m_densityBinning = DensityBinning.NONE;
+
+    /**
+     * Number of points above which the density is drawn
+     */
+    private int m_densityThreshold = S_DENSITY_THRESHOLD;
+
+    /**
+     * Density cell size (px): side of square cells, radius of hexagonal cells
+     */
+    private int m_cellSize = DensityBinner.S_CELL_SIZE;
+
+    /**
+     * Points of density cells with at most this many points are drawn individually
+     */
+    private int m_outlierCount;
+
+    static {
+        // Register template (read and parsed on first use)
+        TemplateRegistry.register(ScatterChart.class, "com/ariscience/vizhtml/template/plotly/lineScatterTemplate.html");
     }
 
     /**
@@ -38,5 +69,214 @@ public class ScatterChart extends LineScatterChartBase {
         this.setType("markers");
     }
 
+    /**
+     * Constructor for Scatter Chart
+     * Chart type is set to "markers"
+     * @param x_Data    Values for X Axis
+     * @param y_Data    Values for Y Axis
+     */
+    public ScatterChart(final double[][] x_Data, final double[][] y_Data) {
+        this(NumericData.of(x_Data), NumericData.of(y_Data));
+    }
+
+    /**
+     * Constructor for Scatter Chart (e.g. with NumericData.of(float[][]) or NumericData.of(long[][]) data)
+     * Chart type is set to "markers"
+     * @param x_Data    Values for X Axis
+     * @param y_Data    Values for Y Axis
+     */
+    public ScatterChart(final NumericData x_Data, final NumericData y_Data) {
+        super(x_Data, y_Data, null);
+        this.setType("markers");
+    }
+
+    /**
+     * Sets how charts with more points than the density threshold are drawn: NONE (default) draws every point,
+     * RECTANGULAR / HEXAGONAL count the points per square / hexagonal cell in java and draw the cells colored
+     * by their count (a heatmap or hexagon markers), so the page size depends on the chart size only
+     *
+     * @param densityBinning cell shape (null for NONE)
+     * @see #setDensityThreshold(int)
+     */
+    public void setDensityBinning(final DensityBinning densityBinning) {
+        m_densityBinning = densityBinning == null ? DensityBinning.NONE : densityBinning;
+    }
+
+    /**
+     * Sets the number of points above which the density is drawn instead of the points
+     *
+     * @param densityThreshold number of points (default {@link #S_DENSITY_THRESHOLD})
+     */
+    public void setDensityThreshold(final int densityThreshold) {
+        if (densityThreshold < 0) {
+            throw new IllegalArgumentException("density threshold cannot be negative");
+        }
+        m_densityThreshold = densityThreshold;
+    }
+
+    /**
+     * Sets the size of the density cells
+     *
+     * @param cellSize side of square cells, radius of hexagonal cells (px, default DensityBinner.S_CELL_SIZE)
+     */
+    public void setCellSize(final int cellSize) {
+        if (cellSize < 1) {
+            throw new IllegalArgumentException("cell size must be at least 1");
+        }
+        m_cellSize = cellSize;
+    }
+
+    /**
+     * Sets the max number of points of a density cell whose points are drawn individually over the density
+     * (e.g. outliers far from the bulk of the points)
+     *
+     * @param outlierCount max points per cell, 0 (default) to draw no points
+     */
+    public void setOutlierCount(final int outlierCount) {
+        if (outlierCount < 0) {
+            throw new IllegalArgumentException("outlier count cannot be negative");
+        }
+        m_outlierCount = outlierCount;
+    }
+
+    /**
+     * @return true if the density is drawn instead of the points
+     */
+    private boolean isDensity() {
+        return m_densityBinning != DensityBinning.NONE && getXData().getLength(0) > m_densityThreshold;
+    }
+
+    /**
+     * Charts drawn as density use {@link #S_DENSITY_TEMPLATE}
+     *
+     * @return the chart template
+     */
+    @Override
+    protected Template getTemplate() {
+        return isDensity() ? TemplateRegistry.getTemplate(S_DENSITY_TEMPLATE) : super.getTemplate();
+    }
+
+    /**
+     * Density cells (at most one per cell size of the chart area) or X, Y and info of each point
+     *
+     * @return estimated data length in chars
+     */
+    @Override
+    protected int estimateDataLength() {
+        if (isDensity()) {
+            return (int) Math.min(Integer.MAX_VALUE / 2, (long) (getWidth() / m_cellSize + 2) * (getHeight() / m_cellSize + 2) * 3 * S_CHARS_PER_VALUE);
+        }
+        return super.estimateDataLength();
+    }
+
+    /**
+     * Token values for template/plotly/lineScatterTemplate.html or densityTemplate.html
+     *
+     * @return token name to value writer map
+     */
+    @Override
+    protected Map<String, TokenWriter> getTokenWriters() {
+        if (!isDensity()) {
+            return super.getTokenWriters();
+        }
+
+        // the cells stand for all the points: no line reduction
+        final Map<String, TokenWriter> replaceMap = getChartTokenWriters();
+        final DensityGrid grid = DensityBinner.bin(m_densityBinning, getXData(), getYData(), 0, getWidth(), getHeight(),
+                m_cellSize, m_outlierCount);
+        final int[] outliers = grid.getOutliers();
+        final NumericData xOutliers = getXData().select(outliers);
+        final NumericData yOutliers = getYData().select(outliers);
+        final String[] info = LineReducer.select(getInfo()[0], outliers);
+        replaceMap.put("TYPE", TokenWriter.of(grid.isHexagonal() ? "hexagon" : "heatmap"));
+        replaceMap.put("CELL_SIZE", TokenWriter.of(String.valueOf(m_cellSize)));
+        replaceMap.put("DATAX", out -> writeCenters(out, grid, true));
+        replaceMap.put("DATAY", out -> writeCenters(out, grid, false));
+        replaceMap.put("DATAZ", out -> writeCounts(out, grid));
+        replaceMap.put("DATA", out -> {
+            out.append('[');
+            xOutliers.writeSeries(out, 0);
+            out.append(',');
+            yOutliers.writeSeries(out, 0);
+            out.append(']');
+        });
+        replaceMap.put("INFO", out -> out.writeQuotedArray(info));
+        return replaceMap;
+    }
+
+    /**
+     * Writes the x (or y) values of the cell centers: of every column (row) for a heatmap of square cells,
+     * of every non empty cell for hexagonal cells
+     *
+     * @param out where to write
+     * @param grid density grid
+     * @param x true for x values, false for y values
+     * @throws IOException on IO error from the output
+     */
+    private static void writeCenters(final JSWriter out, final DensityGrid grid, final boolean x) throws IOException {
+        out.append('[');
+        if (!grid.isHexagonal()) {
+            final int length = x ? grid.getColumns() : grid.getRows();
+            for (int i = 0; i < length; i++) {
+                if (i > 0) {
+                    out.append(',');
+                }
+                out.writeDouble(x ? grid.getCenterX(i, 0) : grid.getCenterY(i));
+            }
+            out.append(']');
+            return;
+        }
+        boolean first = true;
+        for (int row = 0; row < grid.getRows(); row++) {
+            for (int column = 0; column < grid.getColumns(); column++) {
+                if (grid.getCount(row * grid.getColumns() + column) > 0) {
+                    if (!first) {
+                        out.append(',');
+                    }
+                    first = false;
+                    out.writeDouble(x ? grid.getCenterX(column, row) : grid.getCenterY(row));
+                }
+            }
+        }
+        out.append(']');
+    }
+
+    /**
+     * Writes the counts: rows of counts (null for empty cells) for a heatmap of square cells, the count of
+     * every non empty cell for hexagonal cells
+     *
+     * @param out where to write
+     * @param grid density grid
+     * @throws IOException on IO error from the output
+     */
+    private static void writeCounts(final JSWriter out, final DensityGrid grid) throws IOException {
+        out.append('[');
+        boolean first = true;
+        for (int row = 0; row < grid.getRows(); row++) {
+            if (!grid.isHexagonal()) {
+                out.write(row > 0 ? ",[" : "[");
+                first = true;
+            }
+            for (int column = 0; column < grid.getColumns(); column++) {
+                final int count = grid.getCount(row * grid.getColumns() + column);
+                if (count > 0 || !grid.isHexagonal()) {
+                    if (!first) {
+                        out.append(',');
+                    }
+                    first = false;
+                    if (count > 0) {
+                        out.writeLong(count);
+                    } else {
+                        out.write("null");
+                    }
+                }
+            }
+            if (!grid.isHexagonal()) {
+                out.append(']');
+            }
+        }
+        out.append(']');
+    }
+
 }
 
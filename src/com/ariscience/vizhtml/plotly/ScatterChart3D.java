@@ -1,12 +1,18 @@
 package com.ariscience.vizhtml.plotly;
 
-import com.ariscience.vizhtml.VizHTMLUtils;
+import com.ariscience.vizhtml.VizHTMLEnums.DataEncoding;
+import com.ariscience.vizhtml.VizHTMLEnums.VoxelReduction;
+import com.ariscience.vizhtml.aggregate.VoxelGrid;
+import com.ariscience.vizhtml.aggregate.VoxelPoints;
+import com.ariscience.vizhtml.data.NumericData;
 import com.ariscience.vizhtml.error.InconsistentDataException;
 import com.ariscience.vizhtml.error.NullLabelException;
+import com.ariscience.vizhtml.template.JSWriter;
+import com.ariscience.vizhtml.template.Template;
+import com.ariscience.vizhtml.template.TemplateRegistry;
+import com.ariscience.vizhtml.template.TokenWriter;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -18,34 +24,32 @@ import java.util.Map;
 public class ScatterChart3D extends PChartBase {
 
     static {
-        try {
-            // Get template
-            InputStream inputStream = ScatterChart3D.class.getClassLoader().getResourceAsStream("com/ariscience/vizhtml/template/plotly/scatterPlotTemplate.html");
-
-            // Read template file and close stream
-            setTemplateString(VizHTMLUtils.readFullyAndClose(inputStream));
-        } catch (IOException e) {
-            throw new RuntimeException("Could not instantiate due to IOE:" + e.getMessage());
-        }
+        // Register template (read and parsed on first use)
+        TemplateRegistry.register(ScatterChart3D.class, "com/ariscience/vizhtml/template/plotly/scatterPlotTemplate.html");
     }
 
+    /**
+     * Template of charts decimated into voxels
+     */
+    public static final String S_VOXEL_TEMPLATE = "com/ariscience/vizhtml/template/plotly/scatterPlotVoxelTemplate.html";
+
     /**
      * X Axis data
      */
-    private Number[][] m_xData;
+    private NumericData m_xData;
 
     /**
      * Y Axis data
      */
-    private Number[][] m_yData;
+    private NumericData m_yData;
 
     /**
      * Z Axis data
      */
-    private Number[][] m_zData;
+    private NumericData m_zData;
 
     /**
-     * Optional information string
+     * Optional information strings (null for none)
      */
     private String[][] m_info;
     /**
@@ -78,6 +82,21 @@ public class ScatterChart3D extends PChartBase {
      */
     private int m_height;
 
+    /**
+     * Encoding of the numeric data in the generated html
+     */
+    private DataEncoding m_dataEncoding = DataEncoding.TEXT;
+
+    /**
+     * Point drawn per voxel, NONE to draw every point
+     */
+    private VoxelReduction m_voxelReduction = VoxelReduction.NONE;
+
+    /**
+     * Number of voxels per axis of the bounding box of the points
+     */
+    private int m_voxelsPerAxis = VoxelGrid.S_VOXELS_PER_AXIS;
+
     /**
      * Constructor for 3D Scatter Plot Chart
      * <p>
@@ -88,8 +107,9 @@ public class ScatterChart3D extends PChartBase {
      * @param x_Data Values for X Axis
      * @param y_Data Values for Y Axis
      * @param z_Data Values for Z Axis
+     * @param info   Optional information strings
      */
-    public ScatterChart3D(final Number[][] x_Data, final Number[][] y_Data, final Number[][] z_Data, String[][] info) {
+    public ScatterChart3D(final NumericData x_Data, final NumericData y_Data, final NumericData z_Data, String[][] info) {
         m_xData = x_Data;
         m_yData = y_Data;
         m_zData = z_Data;
@@ -100,14 +120,7 @@ public class ScatterChart3D extends PChartBase {
         m_yAxisTitle = S_YTITLE;
         m_zAxisTitle = S_ZTITLE;
         setFootnote(S_FOOTNOTE);
-        if (info == null) {
-            this.m_info = new String[m_xData.length][m_xData[0].length];
-            for (int i = 0; i < m_xData.length; i++) {
-                Arrays.fill(this.m_info[i], "");
-            }
-        } else {
-            this.m_info = info;
-        }
+        m_info = info;
     }
 
     /**
@@ -126,12 +139,77 @@ public class ScatterChart3D extends PChartBase {
 
     }
 
+    /**
+     * Constructor for 3D Scatter Plot Chart
+     * <p>
+     * Chart title, width, height, X axis title, Y axis title, Z axis title are set to default values
+     * <p>
+     * Default values can be set through setter functions
+     *
+     * @param x_Data Values for X Axis
+     * @param y_Data Values for Y Axis
+     * @param z_Data Values for Z Axis
+     * @param info   Optional information strings
+     */
+    public ScatterChart3D(final Number[][] x_Data, final Number[][] y_Data, final Number[][] z_Data, String[][] info) {
+        this(NumericData.of(x_Data), NumericData.of(y_Data), NumericData.of(z_Data), info);
+    }
+
+    /**
+     * Constructor for 3D Scatter Plot Chart
+     * <p>
+     * Chart title, width, height, X axis title, Y axis title, Z axis title are set to default values
+     * <p>
+     * Default values can be set through setter functions
+     *
+     * @param x_Data Values for X Axis
+     * @param y_Data Values for Y Axis
+     * @param z_Data Values for Z Axis
+     */
+    public ScatterChart3D(final double[][] x_Data, final double[][] y_Data, final double[][] z_Data) {
+        this(x_Data, y_Data, z_Data, null);
+    }
+
+    /**
+     * Constructor for 3D Scatter Plot Chart
+     * <p>
+     * Chart title, width, height, X axis title, Y axis title, Z axis title are set to default values
+     * <p>
+     * Default values can be set through setter functions
+     *
+     * @param x_Data Values for X Axis
+     * @param y_Data Values for Y Axis
+     * @param z_Data Values for Z Axis
+     * @param info   Optional information strings
+     */
+    public ScatterChart3D(final double[][] x_Data, final double[][] y_Data, final double[][] z_Data, String[][] info) {
+        this(NumericData.of(x_Data), NumericData.of(y_Data), NumericData.of(z_Data), info);
+    }
+
     /**
      * Sets chart X Data
      *
      * @param xData Chart X Data
      */
     public void setXData(final Number[][] xData) {
+        m_xData = NumericData.of(xData);
+    }
+
+    /**
+     * Sets chart X Data
+     *
+     * @param xData Chart X Data
+     */
+    public void setXData(final double[][] xData) {
+        m_xData = NumericData.of(xData);
+    }
+
+    /**
+     * Sets chart X Data
+     *
+     * @param xData Chart X Data (e.g. NumericData.of(float[][]))
+     */
+    public void setXData(final NumericData xData) {
         m_xData = xData;
     }
 
@@ -141,6 +219,24 @@ public class ScatterChart3D extends PChartBase {
      * @param yData Chart Y Data
      */
     public void setYData(final Number[][] yData) {
+        m_yData = NumericData.of(yData);
+    }
+
+    /**
+     * Sets chart Y Data
+     *
+     * @param yData Chart Y Data
+     */
+    public void setYData(final double[][] yData) {
+        m_yData = NumericData.of(yData);
+    }
+
+    /**
+     * Sets chart Y Data
+     *
+     * @param yData Chart Y Data (e.g. NumericData.of(float[][]))
+     */
+    public void setYData(final NumericData yData) {
         m_yData = yData;
     }
 
@@ -150,6 +246,24 @@ public class ScatterChart3D extends PChartBase {
      * @param zData Chart Z Data
      */
     public void setZData(final Number[][] zData) {
+        m_zData = NumericData.of(zData);
+    }
+
+    /**
+     * Sets chart Z Data
+     *
+     * @param zData Chart Z Data
+     */
+    public void setZData(final double[][] zData) {
+        m_zData = NumericData.of(zData);
+    }
+
+    /**
+     * Sets chart Z Data
+     *
+     * @param zData Chart Z Data (e.g. NumericData.of(float[][]))
+     */
+    public void setZData(final NumericData zData) {
         m_zData = zData;
     }
 
@@ -207,6 +321,41 @@ public class ScatterChart3D extends PChartBase {
         m_zAxisTitle = zAxis_title;
     }
 
+    /**
+     * Sets how X, Y and Z data is embedded in the html: TEXT (default) writes javascript arrays, FLOAT32 / FLOAT64 write
+     * base64 typed arrays which are smaller and faster to parse for large data (FLOAT32 rounds values to float)
+     *
+     * @param dataEncoding data encoding (null for TEXT)
+     */
+    public void setDataEncoding(final DataEncoding dataEncoding) {
+        m_dataEncoding = dataEncoding == null ? DataEncoding.TEXT : dataEncoding;
+    }
+
+    /**
+     * Sets how large point clouds are decimated: NONE (default) draws every point, REPRESENTATIVE and CENTROID
+     * snap the points into a 3D grid of voxels and draw one marker per voxel (its first point or the centroid of
+     * its points) sized by its number of points, shown on hover
+     *
+     * @param voxelReduction point drawn per voxel (null for NONE)
+     * @see #setVoxelsPerAxis(int)
+     */
+    public void setVoxelReduction(final VoxelReduction voxelReduction) {
+        m_voxelReduction = voxelReduction == null ? VoxelReduction.NONE : voxelReduction;
+    }
+
+    /**
+     * Sets the resolution of the voxel grid: the bounding box of the points is cut into voxelsPerAxis^3 voxels,
+     * so at most that many markers are drawn per series
+     *
+     * @param voxelsPerAxis number of voxels per axis (default VoxelGrid.S_VOXELS_PER_AXIS)
+     */
+    public void setVoxelsPerAxis(final int voxelsPerAxis) {
+        if (voxelsPerAxis < 1 || voxelsPerAxis > VoxelGrid.S_MAX_VOXELS_PER_AXIS) {
+            throw new IllegalArgumentException("voxels per axis must be between 1 and " + VoxelGrid.S_MAX_VOXELS_PER_AXIS);
+        }
+        m_voxelsPerAxis = voxelsPerAxis;
+    }
+
 
     /**
      * This function is used before generating chart string to check null and
@@ -215,7 +364,8 @@ public class ScatterChart3D extends PChartBase {
      * @throws NullLabelException        Exception for null labels
      * @throws InconsistentDataException Exception for inconsistent data
      */
-    void checkData() throws NullLabelException, InconsistentDataException {
+    @Override
+    protected void checkData() throws NullLabelException, InconsistentDataException {
         if (m_xData == null) {
             throw new NullLabelException("X Label cannot be null!");
         }
@@ -228,96 +378,147 @@ public class ScatterChart3D extends PChartBase {
             throw new NullLabelException("Z Data cannot be null!");
         }
 
-        if (m_yData.length != m_xData.length) {
+        if (m_yData.getSeriesCount() != m_xData.getSeriesCount()) {
             throw new InconsistentDataException("Wrong number of Series Label or Data");
         }
 
-        if (m_yData[0].length != m_xData[0].length || m_yData[0].length != m_zData[0].length) {
+        if (m_yData.getLength(0) != m_xData.getLength(0) || m_yData.getLength(0) != m_zData.getLength(0)) {
             throw new InconsistentDataException("Wrong number of xData, yData or zData");
         }
 
     }
 
     /**
-     * <pre>
-     * Generates Chart String based on template/plotly/scatterPlotTemplate.html
-     *
-     * Tokens in template file is replaced with corresponding value
-     * </pre>
+     * X, Y, Z points of all series
      *
-     * @return chart html string
-     * @throws NullLabelException        if label not specified
-     * @throws InconsistentDataException if data provided is inconsistent for chart type
+     * @return number of data points
      */
-    public String generate() throws NullLabelException, InconsistentDataException {
+    @Override
+    protected long getPointCount() {
+        return m_xData.getValueCount();
+    }
 
-        String chartStr = getTemplateString();
+    /**
+     * Decimated charts use {@link #S_VOXEL_TEMPLATE}
+     *
+     * @return the chart template
+     */
+    @Override
+    protected Template getTemplate() {
+        return m_voxelReduction == VoxelReduction.NONE ? super.getTemplate() : TemplateRegistry.getTemplate(S_VOXEL_TEMPLATE);
+    }
 
-        checkData();
+    /**
+     * Token values for template/plotly/scatterPlotTemplate.html or scatterPlotVoxelTemplate.html
+     *
+     * @return token name to value writer map
+     */
+    @Override
+    protected Map<String, TokenWriter> getTokenWriters() {
+        // Map for replace tokens in template html file
+        final Map<String, TokenWriter> replaceMap = new HashMap<>();
+        replaceMap.put("TITLE_X", TokenWriter.of(m_xAxisTitle));
+        replaceMap.put("DECODER", getDecoderWriter(m_dataEncoding));
+        if (m_dataEncoding == DataEncoding.TEXT) {
+            replaceMap.put("DATAX", out -> m_xData.writeAllQuoted(out));
+            replaceMap.put("DATAY", out -> m_yData.writeAllQuoted(out));
+            replaceMap.put("DATAZ", out -> m_zData.writeAllQuoted(out));
+        } else {
+            replaceMap.put("DATAX", out -> m_xData.writeAll(out, m_dataEncoding));
+            replaceMap.put("DATAY", out -> m_yData.writeAll(out, m_dataEncoding));
+            replaceMap.put("DATAZ", out -> m_zData.writeAll(out, m_dataEncoding));
+        }
+        replaceMap.put("INFO", this::writeInfo);
+        replaceMap.put("WIDTH", TokenWriter.of(String.valueOf(m_width)));
+        replaceMap.put("HEIGHT", TokenWriter.of(String.valueOf(m_height)));
+        replaceMap.put("TITLE_CHART", TokenWriter.of(m_title));
+        replaceMap.put("TITLE_Y", TokenWriter.of(m_yAxisTitle));
+        replaceMap.put("TITLE_Z", TokenWriter.of(m_zAxisTitle));
+        replaceMap.put("FOOTNOTE", TokenWriter.of(getFootnote()));
+        if (m_voxelReduction != VoxelReduction.NONE) {
+            putVoxelWriters(replaceMap);
+        }
 
-        String xData = "[";
-        String yData = "[";
-        String zData = "[";
+        return replaceMap;
+    }
 
-        for (int i = 0; i < m_xData.length; i++) {
-            xData += "[";
-            for (int j = 0; j < m_xData[i].length; j++) {
-                xData += "'" + m_xData[i][j] + "',";
+    /**
+     * Replaces the point tokens by the voxel points: X, Y, Z and the info of the first point of each voxel and
+     * the number of points of each voxel (DATA)
+     *
+     * @param replaceMap token name to value writer map
+     */
+    private void putVoxelWriters(final Map<String, TokenWriter> replaceMap) {
+        final VoxelPoints[] voxels = new VoxelGrid(m_xData, m_yData, m_zData, m_voxelsPerAxis).decimateAll(m_voxelReduction);
+        final double[][] x = new double[voxels.length][];
+        final double[][] y = new double[voxels.length][];
+        final double[][] z = new double[voxels.length][];
+        final String[][] info = new String[voxels.length][];
+        for (int s = 0; s < voxels.length; s++) {
+            x[s] = voxels[s].getX();
+            y[s] = voxels[s].getY();
+            z[s] = voxels[s].getZ();
+            info[s] = new String[voxels[s].getLength()];
+            final int[] first = voxels[s].getFirst();
+            for (int i = 0; i < first.length; i++) {
+                info[s][i] = m_info != null && s < m_info.length && first[i] < m_info[s].length ? m_info[s][first[i]] : "";
             }
-            xData = xData.substring(0, xData.length() - 1) + "],";
-
         }
-        xData = xData.substring(0, xData.length() - 1) + "]";
-
-        for (int i = 0; i < m_yData.length; i++) {
-            yData += "[";
-            for (int j = 0; j < m_yData[i].length; j++) {
-                yData += "'" + m_yData[i][j] + "',";
-            }
-            yData = yData.substring(0, yData.length() - 1) + "],";
+        replaceMap.put("DATAX", out -> NumericData.of(x).writeAll(out, m_dataEncoding));
+        replaceMap.put("DATAY", out -> NumericData.of(y).writeAll(out, m_dataEncoding));
+        replaceMap.put("DATAZ", out -> NumericData.of(z).writeAll(out, m_dataEncoding));
+        replaceMap.put("DATA", out -> writeCounts(out, voxels));
+        replaceMap.put("INFO", out -> out.writeQuotedArray(info));
+    }
 
+    /**
+     * Writes the info strings, or an empty string per point of each series if there is no info
+     *
+     * @param out where to write
+     * @throws IOException on IO error from the output
+     */
+    private void writeInfo(final JSWriter out) throws IOException {
+        if (m_info != null) {
+            out.writeQuotedArray(m_info);
+            return;
         }
-        yData = yData.substring(0, yData.length() - 1) + "]";
-
-        for (int i = 0; i < m_zData.length; i++) {
-            zData += "[";
-            for (int j = 0; j < m_xData[i].length; j++) {
-                zData += "'" + m_zData[i][j] + "',";
+        out.append('[');
+        for (int s = 0; s < m_xData.getSeriesCount(); s++) {
+            if (s > 0) {
+                out.append(',');
             }
-            zData = zData.substring(0, zData.length() - 1) + "],";
-
-        }
-        zData = zData.substring(0, zData.length() - 1) + "]";
-
-        String info = "[";
-        for (int i = 0; i < m_info.length; i++) {
-            info += "[";
-            for (int j = 0; j < m_info[i].length; j++) {
-                info += "'" + m_info[i][j] + "',";
+            out.append('[');
+            for (int i = 0; i < m_xData.getLength(s); i++) {
+                out.write(i > 0 ? ",''" : "''");
             }
-            info = info.substring(0, info.length() - 1) + "],";
+            out.append(']');
         }
-        info = info.substring(0, info.length() - 1) + "]";
+        out.append(']');
+    }
 
-        // Map for replace tokens in template html file
-        final Map<String, String> replaceMap = new HashMap<>();
-        replaceMap.put("TITLE_X", m_xAxisTitle);
-        replaceMap.put("DATAX", xData);
-        replaceMap.put("DATAY", yData);
-        replaceMap.put("DATAZ", zData);
-        replaceMap.put("INFO", info);
-        replaceMap.put("WIDTH", String.valueOf(m_width));
-        replaceMap.put("HEIGHT", String.valueOf(m_height));
-        replaceMap.put("TITLE_CHART", m_title);
-        replaceMap.put("TITLE_Y", m_yAxisTitle);
-        replaceMap.put("TITLE_Z", m_zAxisTitle);
-        replaceMap.put("FOOTNOTE", getFootnote());
-
-        // Replace each map key in template file with map value
-        for (Map.Entry<String, String> e : replaceMap.entrySet()) {
-            chartStr = chartStr.replaceAll("\\$" + e.getKey() + "\\$", e.getValue());
+    /**
+     * Writes the number of points of each voxel of each series e.g. [[3,1],[2]]
+     *
+     * @param out where to write
+     * @param voxels voxel points of each series
+     * @throws IOException on IO error from the output
+     */
+    private static void writeCounts(final JSWriter out, final VoxelPoints[] voxels) throws IOException {
+        out.append('[');
+        for (int s = 0; s < voxels.length; s++) {
+            if (s > 0) {
+                out.append(',');
+            }
+            out.append('[');
+            final int[] counts = voxels[s].getCounts();
+            for (int i = 0; i < counts.length; i++) {
+                if (i > 0) {
+                    out.append(',');
+                }
+                out.writeLong(counts[i]);
+            }
+            out.append(']');
         }
-
-        return chartStr;
+        out.append(']');
     }
 }
@@ -0,0 +1,573 @@
+package com.ariscience.vizhtml.template;
+
+import java.math.BigInteger;
+
+/**
+ * <pre>
+ * Allocation free formatting of doubles and floats into a char buffer
+ *
+ * Produces the shortest decimal that rounds back to the same double (Schubfach algorithm by Raffaello Giulietti,
+ * "The Schubfach way to render doubles", the algorithm behind Double.toString since JDK 19). Floats get the shortest
+ * decimal that rounds back to the same float, as Float.toString since JDK 19. The layout is the same
+ * as Double.toString i.e. plain notation (at least one digit after the point e.g. 1.0, 0.001) for
+ * 10^-3 &lt;= |v| &lt; 10^7 and computerized scientific notation (e.g. 1.0E7, 1.5E-5) otherwise. Javascript reads
+ * both forms as the same number.
+ *
+ * Before JDK 19, Double.toString and Float.toString sometimes emit more digits than needed (e.g. 2.0E-3 as 0.0020),
+ * so output of this class can be shorter than theirs on older JDKs but never longer.
+ *
+ * Optionally the shortest decimal is rounded (half up) to a maximum number of significant digits, which is useful
+ * for display-only charts where 17 digit payloads are just noise.
+ *
+ * The table of 128 bit powers of ten is computed once when the class is loaded.
+ * </pre>
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+public final class DoubleFormatter {
+
+    /**
+     * max number of chars written for a double (e.g. -2.2250738585072014E-308)
+     */
+    public static final int S_MAX_LENGTH = 24;
+
+    /**
+     * max number of significant digits of a shortest decimal (i.e. no cap)
+     */
+    public static final int S_MAX_DIGITS = 17;
+
+    /**
+     * precision of double (bits of significand including the hidden bit)
+     */
+    private static final int S_P = 53;
+
+    /**
+     * exponent field width
+     */
+    private static final int S_W = 11;
+
+    /**
+     * min exponent of the integer significand
+     */
+    private static final int S_Q_MIN = -1074;
+
+    /**
+     * threshold below which subnormal significands get an extra digit
+     */
+    private static final int S_C_TINY = 3;
+
+    /**
+     * min and max decimal exponent of the powers of ten table
+     */
+    private static final int S_K_MIN = -324;
+    private static final int S_K_MAX = 292;
+
+    /**
+     * number of digits the decimal significand is normalized to
+     */
+    private static final int S_H = 17;
+
+    /**
+     * min normal integer significand
+     */
+    private static final long S_C_MIN = 1L << (S_P - 1);
+
+    /**
+     * precision of float (bits of significand including the hidden bit)
+     */
+    private static final int S_FLOAT_P = 24;
+
+    /**
+     * float exponent field width
+     */
+    private static final int S_FLOAT_W = 8;
+
+    /**
+     * min exponent of the integer significand of floats
+     */
+    private static final int S_FLOAT_Q_MIN = -149;
+
+    /**
+     * threshold below which subnormal float significands get an extra digit
+     */
+    private static final int S_FLOAT_C_TINY = 8;
+
+    /**
+     * min normal integer significand of floats
+     */
+    private static final int S_FLOAT_C_MIN = 1 << (S_FLOAT_P - 1);
+
+    /**
+     * masks for the float exponent and significand fields
+     */
+    private static final int S_FLOAT_BQ_MASK = (1 << S_FLOAT_W) - 1;
+    private static final int S_FLOAT_T_MASK = (1 << (S_FLOAT_P - 1)) - 1;
+
+    /**
+     * masks for the exponent field, significand field, 63 and 28 bits
+     */
+    private static final int S_BQ_MASK = (1 << S_W) - 1;
+    private static final long S_T_MASK = (1L << (S_P - 1)) - 1;
+    private static final long S_MASK_63 = (1L << 63) - 1;
+    private static final int S_MASK_28 = (1 << 28) - 1;
+
+    /**
+     * 10^0 ... 10^17
+     */
+    private static final long[] S_POW10 = new long[S_H + 1];
+
+    /**
+     * floor(10^-k 2^-r) + 1 split into 63 bit halves (g1, g0) for k = S_K_MIN ... S_K_MAX,
+     * where r is chosen so the value is in [2^125, 2^126)
+     */
+    private static final long[] S_G = new long[2 * (S_K_MAX - S_K_MIN + 1)];
+
+    static {
+        long p = 1;
+        for (int i = 0; i <= S_H; i++) {
+            S_POW10[i] = p;
+            p *= 10;
+        }
+
+        final BigInteger mask63 = BigInteger.ONE.shiftLeft(63).subtract(BigInteger.ONE);
+        for (int k = S_K_MIN; k <= S_K_MAX; k++) {
+            final int r = flog2pow10(-k) - 125;
+            final BigInteger g;
+            if (k <= 0) {
+                final BigInteger pow = BigInteger.TEN.pow(-k);
+                g = (r >= 0 ? pow.shiftRight(r) : pow.shiftLeft(-r)).add(BigInteger.ONE);
+            } else {
+                g = BigInteger.ONE.shiftLeft(-r).divide(BigInteger.TEN.pow(k)).add(BigInteger.ONE);
+            }
+            final int index = 2 * (k - S_K_MIN);
+            S_G[index] = g.shiftRight(63).longValue();
+            S_G[index + 1] = g.and(mask63).longValue();
+        }
+    }
+
+    /**
+     * prevent external instantiation
+     */
+    private DoubleFormatter() {
+    }
+
+    /**
+     * Formats the shortest decimal that rounds back to value
+     *
+     * @param value value to format
+     * @param buffer where to write (needs {@link #S_MAX_LENGTH} chars from position)
+     * @param position index of the first char to write
+     * @return index after the last char written
+     */
+    public static int format(final double value, final char[] buffer, final int position) {
+        return format(value, S_MAX_DIGITS, buffer, position);
+    }
+
+    /**
+     * Formats the shortest decimal that rounds back to value, rounded half up to at most maxDigits significant digits
+     *
+     * @param value value to format
+     * @param maxDigits max number of significant digits (1 ... 17, 17 means no rounding)
+     * @param buffer where to write (needs {@link #S_MAX_LENGTH} chars from position)
+     * @param position index of the first char to write
+     * @return index after the last char written
+     */
+    public static int format(final double value, final int maxDigits, final char[] buffer, final int position) {
+        if (maxDigits < 1 || maxDigits > S_MAX_DIGITS) {
+            throw new IllegalArgumentException("max digits must be between 1 and " + S_MAX_DIGITS);
+        }
+
+        final long bits = Double.doubleToRawLongBits(value);
+        final long t = bits & S_T_MASK;
+        final int bq = (int) (bits >>> (S_P - 1)) & S_BQ_MASK;
+
+        if (bq == S_BQ_MASK) {
+            return t != 0 ? put(buffer, position, "NaN")
+                    : put(buffer, position, bits > 0 ? "Infinity" : "-Infinity");
+        }
+
+        int index = position;
+        if (bits < 0) {
+            buffer[index++] = '-';
+        }
+
+        if (bq != 0) {
+            //normal value, mq = -q
+            final int mq = -S_Q_MIN + 1 - bq;
+            final long c = S_C_MIN | t;
+            //integers with up to 53 bits are their own shortest decimal
+            if (0 < mq && mq < S_P) {
+                final long f = c >> mq;
+                if (f << mq == c) {
+                    return toChars(f, 0, maxDigits, buffer, index);
+                }
+            }
+            return toDecimal(-mq, c, 0, c == S_C_MIN && -mq != S_Q_MIN, maxDigits, buffer, index);
+        }
+        if (t != 0) {
+            //subnormal value
+            return t < S_C_TINY
+                    ? toDecimal(S_Q_MIN, 10 * t, -1, false, maxDigits, buffer, index)
+                    : toDecimal(S_Q_MIN, t, 0, false, maxDigits, buffer, index);
+        }
+        return put(buffer, index, "0.0");
+    }
+
+    /**
+     * Formats the shortest decimal that rounds back to the float value (not to the double of the float)
+     *
+     * @param value value to format
+     * @param buffer where to write (needs {@link #S_MAX_LENGTH} chars from position)
+     * @param position index of the first char to write
+     * @return index after the last char written
+     */
+    public static int formatFloat(final float value, final char[] buffer, final int position) {
+        return formatFloat(value, S_MAX_DIGITS, buffer, position);
+    }
+
+    /**
+     * Formats the shortest decimal that rounds back to the float value, rounded half up to at most maxDigits
+     * significant digits
+     *
+     * @param value value to format
+     * @param maxDigits max number of significant digits (1 ... 17, 9 or more means no rounding)
+     * @param buffer where to write (needs {@link #S_MAX_LENGTH} chars from position)
+     * @param position index of the first char to write
+     * @return index after the last char written
+     */
+    public static int formatFloat(final float value, final int maxDigits, final char[] buffer, final int position) {
+        if (maxDigits < 1 || maxDigits > S_MAX_DIGITS) {
+            throw new IllegalArgumentException("max digits must be between 1 and " + S_MAX_DIGITS);
+        }
+
+        final int bits = Float.floatToRawIntBits(value);
+        final int t = bits & S_FLOAT_T_MASK;
+        final int bq = (bits >>> (S_FLOAT_P - 1)) & S_FLOAT_BQ_MASK;
+
+        if (bq == S_FLOAT_BQ_MASK) {
+            return t != 0 ? put(buffer, position, "NaN")
+                    : put(buffer, position, bits > 0 ? "Infinity" : "-Infinity");
+        }
+
+        int index = position;
+        if (bits < 0) {
+            buffer[index++] = '-';
+        }
+
+        if (bq != 0) {
+            //normal value, mq = -q
+            final int mq = -S_FLOAT_Q_MIN + 1 - bq;
+            final int c = S_FLOAT_C_MIN | t;
+            //integers with up to 24 bits are their own shortest decimal
+            if (0 < mq && mq < S_FLOAT_P) {
+                final int f = c >> mq;
+                if (f << mq == c) {
+                    return toChars(f, 0, maxDigits, buffer, index);
+                }
+            }
+            return toDecimal(-mq, c, 0, c == S_FLOAT_C_MIN && -mq != S_FLOAT_Q_MIN, maxDigits, buffer, index);
+        }
+        if (t != 0) {
+            //subnormal value
+            return t < S_FLOAT_C_TINY
+                    ? toDecimal(S_FLOAT_Q_MIN, 10L * t, -1, false, maxDigits, buffer, index)
+                    : toDecimal(S_FLOAT_Q_MIN, t, 0, false, maxDigits, buffer, index);
+        }
+        return put(buffer, index, "0.0");
+    }
+
+    /**
+     * Computes the shortest decimal in the rounding interval of c 2^q and writes it (for doubles and floats: the
+     * interval only depends on c, q and whether it is asymmetric)
+     *
+     * @param q binary exponent
+     * @param c integer significand
+     * @param dk decimal exponent adjustment
+     * @param asymmetric true if c is the min normal significand above the min exponent (the next lower value is
+     *                   half as far as the next higher value)
+     * @param maxDigits max number of significant digits
+     * @param buffer where to write
+     * @param index where to start writing
+     * @return index after the last char written
+     */
+    private static int toDecimal(final int q, final long c, final int dk, final boolean asymmetric,
+                                 final int maxDigits, final char[] buffer, final int index) {
+        final int out = (int) c & 0x1;
+        final long cb = c << 2;
+        final long cbr = cb + 2;
+        final long cbl;
+        final int k;
+        if (!asymmetric) {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else {
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        final int h = q + flog2pow10(-k) + 2;
+
+        final int g = 2 * (k - S_K_MIN);
+        final long g1 = S_G[g];
+        final long g0 = S_G[g + 1];
+
+        final long vb = rop(g1, g0, cb << h);
+        final long vbl = rop(g1, g0, cbl << h);
+        final long vbr = rop(g1, g0, cbr << h);
+
+        final long s = vb >> 2;
+        if (s >= 100) {
+            //try one digit less: sp10 = 10 floor(s / 10)
+            final long sp10 = 10 * multiplyHigh(s, 115_292_150_460_684_698L << 4);
+            final long tp10 = sp10 + 10;
+            final boolean upin = vbl + out <= sp10 << 2;
+            final boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin) {
+                return toChars(upin ? sp10 : tp10, k, maxDigits, buffer, index);
+            }
+        }
+
+        final long t = s + 1;
+        final boolean uin = vbl + out <= s << 2;
+        final boolean win = (t << 2) + out <= vbr;
+        if (uin != win) {
+            return toChars(uin ? s : t, k + dk, maxDigits, buffer, index);
+        }
+        final long cmp = vb - ((s + t) << 1);
+        return toChars(cmp < 0 || (cmp == 0 && (s & 0x1) == 0) ? s : t, k + dk, maxDigits, buffer, index);
+    }
+
+    /**
+     * Rounding to odd of g cp 2^-127 (g = g1 2^63 + g0)
+     *
+     * @param g1 high bits of g
+     * @param g0 low 63 bits of g
+     * @param cp multiplier
+     * @return rounded product
+     */
+    private static long rop(final long g1, final long g0, final long cp) {
+        final long x1 = multiplyHigh(g0, cp);
+        final long y0 = g1 * cp;
+        final long y1 = multiplyHigh(g1, cp);
+        final long z = (y0 >>> 1) + x1;
+        final long vbp = y1 + (z >>> 63);
+        return vbp | ((z & S_MASK_63) + S_MASK_63) >>> 63;
+    }
+
+    /**
+     * Writes the decimal f 10^e
+     *
+     * @param decimal significand
+     * @param exponent decimal exponent
+     * @param maxDigits max number of significant digits
+     * @param buffer where to write
+     * @param start where to start writing
+     * @return index after the last char written
+     */
+    private static int toChars(final long decimal, final int exponent, final int maxDigits,
+                               final char[] buffer, final int start) {
+        long f = decimal;
+        int e = exponent;
+
+        //10^(len-1) <= f < 10^len
+        int len = flog10pow2(Long.SIZE - Long.numberOfLeadingZeros(f));
+        if (f >= S_POW10[len]) {
+            len += 1;
+        }
+
+        //normalize to 10^(H-1) <= f < 10^H, f 10^(e-H) unchanged
+        f *= S_POW10[S_H - len];
+        e += len;
+
+        if (maxDigits < S_H) {
+            final long unit = S_POW10[S_H - maxDigits];
+            f = (f + unit / 2) / unit;
+            if (f == S_POW10[maxDigits]) {
+                f = S_POW10[maxDigits - 1];
+                e += 1;
+            }
+            f *= unit;
+        }
+
+        //split the 17 digits: h = most significant digit, m = next 8 digits, l = last 8 digits
+        final long hm = multiplyHigh(f, 193_428_131_138_340_668L) >>> 20;
+        final int l = (int) (f - 100_000_000L * hm);
+        final int h = (int) (hm * 1_441_151_881L >>> 57);
+        final int m = (int) (hm - 100_000_000 * h);
+
+        int index = start;
+        if (0 < e && e <= 7) {
+            //plain notation without leading zeroes
+            buffer[index++] = (char) ('0' + h);
+            int y = y(m);
+            int i = 1;
+            for (; i < e; ++i) {
+                final int d = 10 * y;
+                buffer[index++] = (char) ('0' + (d >>> 28));
+                y = d & S_MASK_28;
+            }
+            buffer[index++] = '.';
+            for (; i <= 8; ++i) {
+                final int d = 10 * y;
+                buffer[index++] = (char) ('0' + (d >>> 28));
+                y = d & S_MASK_28;
+            }
+            return lowDigits(l, buffer, index);
+        }
+        if (-3 < e && e <= 0) {
+            //plain notation with leading zeroes
+            buffer[index++] = '0';
+            buffer[index++] = '.';
+            for (; e < 0; ++e) {
+                buffer[index++] = '0';
+            }
+            buffer[index++] = (char) ('0' + h);
+            index = append8Digits(m, buffer, index);
+            return lowDigits(l, buffer, index);
+        }
+        //computerized scientific notation
+        buffer[index++] = (char) ('0' + h);
+        buffer[index++] = '.';
+        index = append8Digits(m, buffer, index);
+        index = lowDigits(l, buffer, index);
+        return exponent(e - 1, buffer, index);
+    }
+
+    /**
+     * Writes the last 8 digits (if not 0) and removes trailing zeroes
+     * (but not the one directly after the decimal point)
+     *
+     * @param l the last 8 digits
+     * @param buffer where to write
+     * @param start where to start writing
+     * @return index after the last char written
+     */
+    private static int lowDigits(final int l, final char[] buffer, final int start) {
+        int index = start;
+        if (l != 0) {
+            index = append8Digits(l, buffer, index);
+        }
+        while (buffer[index - 1] == '0') {
+            --index;
+        }
+        if (buffer[index - 1] == '.') {
+            ++index;
+        }
+        return index;
+    }
+
+    /**
+     * Writes exactly 8 digits (with leading zeroes)
+     *
+     * @param m value &lt; 10^8
+     * @param buffer where to write
+     * @param start where to start writing
+     * @return index after the last char written
+     */
+    private static int append8Digits(final int m, final char[] buffer, final int start) {
+        int index = start;
+        int y = y(m);
+        for (int i = 0; i < 8; ++i) {
+            final int d = 10 * y;
+            buffer[index++] = (char) ('0' + (d >>> 28));
+            y = d & S_MASK_28;
+        }
+        return index;
+    }
+
+    /**
+     * Fixed point representation of a / 10^8 with 28 fractional bits, for left to right digit extraction
+     *
+     * @param a value &lt; 10^8
+     * @return floor((a + 1) 2^28 / 10^8) - 1
+     */
+    private static int y(final int a) {
+        return (int) (multiplyHigh((long) (a + 1) << 28, 193_428_131_138_340_668L) >>> 20) - 1;
+    }
+
+    /**
+     * Writes the exponent part of the scientific notation e.g. E-5
+     *
+     * @param exponent decimal exponent
+     * @param buffer where to write
+     * @param start where to start writing
+     * @return index after the last char written
+     */
+    private static int exponent(final int exponent, final char[] buffer, final int start) {
+        int index = start;
+        int e = exponent;
+        buffer[index++] = 'E';
+        if (e < 0) {
+            buffer[index++] = '-';
+            e = -e;
+        }
+        if (e < 10) {
+            buffer[index++] = (char) ('0' + e);
+            return index;
+        }
+        int d;
+        if (e >= 100) {
+            d = e * 1_311 >>> 17;
+            buffer[index++] = (char) ('0' + d);
+            e -= 100 * d;
+        }
+        d = e * 103 >>> 10;
+        buffer[index++] = (char) ('0' + d);
+        buffer[index++] = (char) ('0' + e - 10 * d);
+        return index;
+    }
+
+    /**
+     * @param buffer where to write
+     * @param start where to start writing
+     * @param s text to write
+     * @return index after the last char written
+     */
+    private static int put(final char[] buffer, final int start, final String s) {
+        s.getChars(0, s.length(), buffer, start);
+        return start + s.length();
+    }
+
+    /**
+     * @param e exponent
+     * @return floor(e log10(2))
+     */
+    private static int flog10pow2(final int e) {
+        return (int) (e * 661_971_961_083L >> 41);
+    }
+
+    /**
+     * @param e exponent
+     * @return floor(e log10(2) + log10(3/4))
+     */
+    private static int flog10threeQuartersPow2(final int e) {
+        return (int) ((e * 661_971_961_083L + -274_743_187_321L) >> 41);
+    }
+
+    /**
+     * @param e exponent
+     * @return floor(e log2(10))
+     */
+    private static int flog2pow10(final int e) {
+        return (int) (e * 913_124_641_741L >> 38);
+    }
+
+    /**
+     * High 64 bits of the signed 128 bit product (Math.multiplyHigh is not available in Java 8)
+     *
+     * @param x first factor
+     * @param y second factor
+     * @return high 64 bits of x * y
+     */
+    private static long multiplyHigh(final long x, final long y) {
+        final long x1 = x >> 32;
+        final long x2 = x & 0xFFFFFFFFL;
+        final long y1 = y >> 32;
+        final long y2 = y & 0xFFFFFFFFL;
+        final long z2 = x2 * y2;
+        final long t = x1 * y2 + (z2 >>> 32);
+        long z1 = t & 0xFFFFFFFFL;
+        final long z0 = t >> 32;
+        z1 += x2 * y1;
+        return x1 * y1 + z0 + (z1 >> 32);
+    }
+}
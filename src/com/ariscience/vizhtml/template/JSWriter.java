@@ -0,0 +1,509 @@
+package com.ariscience.vizhtml.template;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+/**
+ * <pre>
+ * Buffered writer for javascript literals (numbers, quoted strings and arrays of them)
+ *
+ * Characters are collected in a presized char buffer. In memory mode (see {@link #JSWriter(int)}) the buffer
+ * grows and {@link #toString()} returns the content. In stream mode (see {@link #JSWriter(Appendable, int)}) the
+ * buffer is emptied into the output whenever it is full, so memory use does not depend on the data size.
+ *
+ * Numbers are formatted straight into the buffer without creating intermediate Strings. Doubles are written as the
+ * shortest decimal that reads back as the same double (see {@link DoubleFormatter}), optionally rounded to a number
+ * of significant digits (see {@link #setSignificantDigits(int)}).
+ *
+ * Strings are quoted with single quotes and written verbatim (i.e. they are not escaped).
+ * </pre>
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+public final class JSWriter implements Appendable, Flushable {
+
+    /**
+     * default buffer size for stream mode
+     */
+    public static final int S_DEFAULT_BUFFER_SIZE = 8 * 1024;
+
+    /**
+     * max number of chars of a long (Long.MIN_VALUE)
+     */
+    private static final int S_MAX_LONG_LENGTH = 20;
+
+    /**
+     * base64 alphabet
+     */
+    private static final char[] S_BASE64 = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+
+    /**
+     * number of 3 byte groups encoded per buffer capacity check
+     */
+    private static final int S_BASE64_BLOCK = 256;
+
+    /**
+     * output in stream mode, null in memory mode
+     */
+    private final Appendable m_out;
+
+    /**
+     * buffered chars
+     */
+    private char[] m_buffer;
+
+    /**
+     * number of chars in m_buffer
+     */
+    private int m_position;
+
+    /**
+     * max significant digits of doubles and floats (0 for shortest round trip)
+     */
+    private int m_significantDigits;
+
+    /**
+     * Creates an in memory writer. Use {@link #toString()} to get the content.
+     *
+     * @param capacity initial capacity in chars (the buffer grows as needed)
+     */
+    public JSWriter(final int capacity) {
+        m_out = null;
+        m_buffer = new char[Math.max(capacity, 16)];
+    }
+
+    /**
+     * Creates a writer that buffers writes to the specified output.
+     * {@link #flush()} must be called once writing is finished.
+     *
+     * @param out where to write
+     * @param bufferSize buffer size in chars
+     */
+    public JSWriter(final Appendable out, final int bufferSize) {
+        if (out == null) {
+            throw new IllegalArgumentException("output cannot be null");
+        }
+        m_out = out;
+        m_buffer = new char[Math.max(bufferSize, 64)];
+    }
+
+    /**
+     * Creates a writer that buffers writes to the specified output with the default buffer size
+     *
+     * @param out where to write
+     */
+    public JSWriter(final Appendable out) {
+        this(out, S_DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Makes room for the specified number of chars in the buffer
+     *
+     * @param length number of chars about to be written
+     * @throws IOException on IO error from the output
+     */
+    private void ensureCapacity(final int length) throws IOException {
+        if (m_position + length <= m_buffer.length) {
+            return;
+        }
+        if (m_out != null) {
+            flushBuffer();
+            if (length <= m_buffer.length) {
+                return;
+            }
+        }
+        final int required = m_position + length;
+        int capacity = m_buffer.length * 2;
+        if (capacity < required) {
+            capacity = required;
+        }
+        final char[] buffer = new char[capacity];
+        System.arraycopy(m_buffer, 0, buffer, 0, m_position);
+        m_buffer = buffer;
+    }
+
+    /**
+     * Writes buffered chars to the output (stream mode only)
+     *
+     * @throws IOException on IO error from the output
+     */
+    private void flushBuffer() throws IOException {
+        if (m_out == null || m_position == 0) {
+            return;
+        }
+        if (m_out instanceof Writer) {
+            ((Writer) m_out).write(m_buffer, 0, m_position);
+        } else if (m_out instanceof StringBuilder) {
+            ((StringBuilder) m_out).append(m_buffer, 0, m_position);
+        } else {
+            m_out.append(CharBuffer.wrap(m_buffer, 0, m_position));
+        }
+        m_position = 0;
+    }
+
+    /**
+     * Writes all buffered chars to the output and flushes it if it is Flushable.
+     * Does nothing in memory mode.
+     *
+     * @throws IOException on IO error from the output
+     */
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        if (m_out instanceof Flushable) {
+            ((Flushable) m_out).flush();
+        }
+    }
+
+    @Override
+    public JSWriter append(final CharSequence csq) throws IOException {
+        if (csq == null) {
+            return write("null");
+        }
+        if (csq instanceof String) {
+            return write((String) csq);
+        }
+        return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public JSWriter append(final CharSequence csq, final int start, final int end) throws IOException {
+        if (csq == null) {
+            return append("null", start, end);
+        }
+        ensureCapacity(end - start);
+        for (int i = start; i < end; i++) {
+            m_buffer[m_position++] = csq.charAt(i);
+        }
+        return this;
+    }
+
+    @Override
+    public JSWriter append(final char c) throws IOException {
+        if (m_position == m_buffer.length) {
+            ensureCapacity(1);
+        }
+        m_buffer[m_position++] = c;
+        return this;
+    }
+
+    /**
+     * Writes the string verbatim
+     *
+     * @param value string to write ("null" if null)
+     * @return this writer
+     * @throws IOException on IO error from the output
+     */
+    public JSWriter write(final String value) throws IOException {
+        final String s = value == null ? "null" : value;
+        final int length = s.length();
+        if (m_out != null && length > m_buffer.length) {
+            //too large to buffer - write through
+            flushBuffer();
+            m_out.append(s);
+            return this;
+        }
+        ensureCapacity(length);
+        s.getChars(0, length, m_buffer, m_position);
+        m_position += length;
+        return this;
+    }
+
+    /**
+     * Writes the value as a string enclosed in single quotes e.g. 'abc'
+     *
+     * @param value value to write (written as 'null' if null)
+     * @return this writer
+     * @throws IOException on IO error from the output
+     */
+    public JSWriter writeQuoted(final Object value) throws IOException {
+        append('\'');
+        write(String.valueOf(value));
+        return append('\'');
+    }
+
+    /**
+     * Writes an integer in decimal without creating a String
+     *
+     * @param value value to write
+     * @return this writer
+     * @throws IOException on IO error from the output
+     */
+    public JSWriter writeLong(final long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            return write(Long.toString(value));
+        }
+        ensureCapacity(S_MAX_LONG_LENGTH);
+
+        long remaining = value;
+        if (remaining < 0) {
+            m_buffer[m_position++] = '-';
+            remaining = -remaining;
+        }
+
+        int digits = 1;
+        for (long limit = 10; digits < 19 && remaining >= limit; limit *= 10) {
+            digits++;
+        }
+
+        int index = m_position + digits;
+        m_position = index;
+        do {
+            m_buffer[--index] = (char) ('0' + (int) (remaining % 10));
+            remaining /= 10;
+        } while (remaining != 0);
+        return this;
+    }
+
+    /**
+     * Writes a double as the shortest decimal that reads back as the same double, in the layout of Double.toString
+     * (e.g. 1.0, 0.25, 1.0E-5), rounded to the significant digits set with {@link #setSignificantDigits(int)}
+     *
+     * @param value value to write
+     * @return this writer
+     * @throws IOException on IO error from the output
+     */
+    public JSWriter writeDouble(final double value) throws IOException {
+        ensureCapacity(DoubleFormatter.S_MAX_LENGTH);
+        m_position = m_significantDigits == 0
+                ? DoubleFormatter.format(value, m_buffer, m_position)
+                : DoubleFormatter.format(value, m_significantDigits, m_buffer, m_position);
+        return this;
+    }
+
+    /**
+     * Writes a float as the shortest decimal that reads back as the same float, in the layout of Float.toString
+     * (e.g. 1.0, 0.1, 1.0E-5), rounded to the significant digits set with {@link #setSignificantDigits(int)}
+     *
+     * @param value value to write
+     * @return this writer
+     * @throws IOException on IO error from the output
+     */
+    public JSWriter writeFloat(final float value) throws IOException {
+        ensureCapacity(DoubleFormatter.S_MAX_LENGTH);
+        m_position = m_significantDigits == 0
+                ? DoubleFormatter.formatFloat(value, m_buffer, m_position)
+                : DoubleFormatter.formatFloat(value, m_significantDigits, m_buffer, m_position);
+        return this;
+    }
+
+    /**
+     * Writes a number (doubles and floats with {@link #writeDouble(double)} / {@link #writeFloat(float)},
+     * integers in decimal and any other Number with String.valueOf)
+     *
+     * @param value value to write ("null" if null)
+     * @return this writer
+     * @throws IOException on IO error from the output
+     */
+    public JSWriter writeNumber(final Number value) throws IOException {
+        if (value instanceof Double) {
+            return writeDouble(value.doubleValue());
+        }
+        if (value instanceof Float) {
+            return writeFloat(value.floatValue());
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return writeLong(value.longValue());
+        }
+        return write(String.valueOf(value));
+    }
+
+    /**
+     * Writes numbers as a javascript array e.g. [1,2.5,3]
+     *
+     * @param values values to write
+     * @return this writer
+     * @throws IOException on IO error from the output
+     */
+    public JSWriter writeArray(final Number[] values) throws IOException {
+        append('[');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                append(',');
+            }
+            writeNumber(values[i]);
+        }
+        return append(']');
+    }
+
+    /**
+     * Writes numbers as a javascript array e.g. [1.0,2.5,3.0]
+     *
+     * @param values values to write
+     * @return this writer
+     * @throws IOException on IO error from the output
+     */
+    public JSWriter writeArray(final double[] values) throws IOException {
+        append('[');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                append(',');
+            }
+            writeDouble(values[i]);
+        }
+        return append(']');
+    }
+
+    /**
+     * Writes numbers as a javascript array e.g. [1.0,2.5,3.0]
+     *
+     * @param values values to write
+     * @return this writer
+     * @throws IOException on IO error from the output
+     */
+    public JSWriter writeArray(final float[] values) throws IOException {
+        append('[');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                append(',');
+            }
+            writeFloat(values[i]);
+        }
+        return append(']');
+    }
+
+    /**
+     * Writes numbers as a javascript array e.g. [1,2,3]
+     *
+     * @param values values to write
+     * @return this writer
+     * @throws IOException on IO error from the output
+     */
+    public JSWriter writeArray(final long[] values) throws IOException {
+        append('[');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                append(',');
+            }
+            writeLong(values[i]);
+        }
+        return append(']');
+    }
+
+    /**
+     * Writes rows of numbers as a javascript array of arrays e.g. [[1,2],[3,4]]
+     *
+     * @param values values to write
+     * @return this writer
+     * @throws IOException on IO error from the output
+     */
+    public JSWriter writeArray(final Number[][] values) throws IOException {
+        append('[');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                append(',');
+            }
+            writeArray(values[i]);
+        }
+        return append(']');
+    }
+
+    /**
+     * Writes values as a javascript array of single quoted strings e.g. ['a','b','c']
+     *
+     * @param values values to write
+     * @return this writer
+     * @throws IOException on IO error from the output
+     */
+    public JSWriter writeQuotedArray(final Object[] values) throws IOException {
+        append('[');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                append(',');
+            }
+            writeQuoted(values[i]);
+        }
+        return append(']');
+    }
+
+    /**
+     * Writes rows of values as a javascript array of arrays of single quoted strings e.g. [['a','b'],['c']]
+     *
+     * @param values values to write
+     * @return this writer
+     * @throws IOException on IO error from the output
+     */
+    public JSWriter writeQuotedArray(final Object[][] values) throws IOException {
+        append('[');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                append(',');
+            }
+            writeQuotedArray(values[i]);
+        }
+        return append(']');
+    }
+
+    /**
+     * Writes bytes base64 encoded (standard alphabet). Padding is only written if length is not a multiple of 3,
+     * so a long byte sequence can be written in chunks of a multiple of 3 bytes followed by a last chunk of any size.
+     *
+     * @param bytes bytes to encode
+     * @param offset index of the first byte
+     * @param length number of bytes
+     * @return this writer
+     * @throws IOException on IO error from the output
+     */
+    public JSWriter writeBase64(final byte[] bytes, final int offset, final int length) throws IOException {
+        int i = offset;
+        final int end = offset + length;
+        while (end - i >= 3) {
+            final int groups = Math.min((end - i) / 3, S_BASE64_BLOCK);
+            ensureCapacity(groups * 4);
+            final int blockEnd = i + groups * 3;
+            for (; i < blockEnd; i += 3) {
+                final int v = (bytes[i] & 0xff) << 16 | (bytes[i + 1] & 0xff) << 8 | (bytes[i + 2] & 0xff);
+                m_buffer[m_position++] = S_BASE64[v >>> 18];
+                m_buffer[m_position++] = S_BASE64[(v >>> 12) & 0x3f];
+                m_buffer[m_position++] = S_BASE64[(v >>> 6) & 0x3f];
+                m_buffer[m_position++] = S_BASE64[v & 0x3f];
+            }
+        }
+        if (i < end) {
+            ensureCapacity(4);
+            final int v = (bytes[i] & 0xff) << 16 | (i + 1 < end ? (bytes[i + 1] & 0xff) << 8 : 0);
+            m_buffer[m_position++] = S_BASE64[v >>> 18];
+            m_buffer[m_position++] = S_BASE64[(v >>> 12) & 0x3f];
+            m_buffer[m_position++] = i + 1 < end ? S_BASE64[(v >>> 6) & 0x3f] : '=';
+            m_buffer[m_position++] = '=';
+        }
+        return this;
+    }
+
+    /**
+     * Sets the max number of significant digits of doubles and floats e.g. with 4 digits 3.14159 is written as 3.142.
+     * Useful for display only charts where full precision just makes the page larger.
+     *
+     * @param significantDigits 1 ... 17, or 0 for the shortest decimal that reads back as the same value (default)
+     */
+    public void setSignificantDigits(final int significantDigits) {
+        if (significantDigits < 0 || significantDigits > DoubleFormatter.S_MAX_DIGITS) {
+            throw new IllegalArgumentException("significant digits must be between 0 and " + DoubleFormatter.S_MAX_DIGITS);
+        }
+        m_significantDigits = significantDigits;
+    }
+
+    /**
+     * @return max number of significant digits of doubles and floats (0 for shortest round trip)
+     */
+    public int getSignificantDigits() {
+        return m_significantDigits;
+    }
+
+    /**
+     * @return number of chars currently in the buffer
+     */
+    public int length() {
+        return m_position;
+    }
+
+    /**
+     * @return the content in memory mode; the not yet flushed content in stream mode
+     */
+    @Override
+    public String toString() {
+        return new String(m_buffer, 0, m_position);
+    }
+}
@@ -0,0 +1,165 @@
+package com.ariscience.vizhtml.template;
+
+import com.ariscience.vizhtml.VizHTMLUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <pre>
+ * Pre-parsed HTML template
+ *
+ * A template file (see resources/com/ariscience/vizhtml/template/*) is parsed once into a list of literal text
+ * segments and token slots. Tokens are like $DATAX$, $TITLE_CHART$ and so on (upper case letters, digits and
+ * underscore enclosed in '$'). Rendering walks the segment list once and appends each literal or token value
+ * to the output, so no regular expressions are compiled and the page is never copied per token.
+ *
+ * Token values are written verbatim (i.e. '$' and '\' in values have no special meaning).
+ * Tokens without a value are written back unchanged (e.g. $FOO$ stays $FOO$).
+ * </pre>
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+public final class Template {
+
+    /**
+     * token delimiter
+     */
+    private static final char S_DELIMITER = '$';
+
+    /**
+     * literal segments - always one more than the number of tokens
+     * (m_literals[0], m_tokens[0], m_literals[1], m_tokens[1], ... m_literals[n])
+     */
+    private final String[] m_literals;
+
+    /**
+     * token names (without the delimiters) in order of occurrence
+     */
+    private final String[] m_tokens;
+
+    /**
+     * total length of all literal segments
+     */
+    private final int m_literalLength;
+
+    /**
+     * Internal constructor - use {@link #parse(String)} or {@link #load(InputStream)}
+     *
+     * @param literals literal segments
+     * @param tokens token names
+     */
+    private Template(final String[] literals, final String[] tokens) {
+        m_literals = literals;
+        m_tokens = tokens;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        m_literalLength = length;
+    }
+
+    /**
+     * Parses template text into literal segments and token slots
+     *
+     * @param text the template text
+     * @return parsed template
+     */
+    public static Template parse(final String text) {
+        if (text == null) {
+            throw new IllegalArgumentException("template text cannot be null");
+        }
+
+        final List<String> literals = new ArrayList<>();
+        final List<String> tokens = new ArrayList<>();
+
+        int literalStart = 0;
+        int index = text.indexOf(S_DELIMITER);
+        while (index >= 0) {
+            final int tokenEnd = findTokenEnd(text, index);
+            if (tokenEnd < 0) {
+                //just a '$' in the text
+                index = text.indexOf(S_DELIMITER, index + 1);
+            } else {
+                literals.add(text.substring(literalStart, index));
+                tokens.add(text.substring(index + 1, tokenEnd));
+                literalStart = tokenEnd + 1;
+                index = text.indexOf(S_DELIMITER, literalStart);
+            }
+        }
+        literals.add(text.substring(literalStart));
+
+        return new Template(literals.toArray(new String[0]), tokens.toArray(new String[0]));
+    }
+
+    /**
+     * Reads (and closes) the stream and parses the content
+     *
+     * @param inputStream the template stream
+     * @return parsed template
+     * @throws IOException on IO error
+     */
+    public static Template load(final InputStream inputStream) throws IOException {
+        if (inputStream == null) {
+            throw new IOException("template resource not found");
+        }
+        return parse(VizHTMLUtils.readFullyAndClose(inputStream));
+    }
+
+    /**
+     * @param text the template text
+     * @param start index of the opening delimiter
+     * @return index of the closing delimiter, or -1 if there's no valid token at start
+     */
+    private static int findTokenEnd(final String text, final int start) {
+        int i = start + 1;
+        while (i < text.length()) {
+            final char c = text.charAt(i);
+            if (c == S_DELIMITER) {
+                return i > start + 1 ? i : -1;
+            }
+            if (!((c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_')) {
+                return -1;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    /**
+     * Renders the template into the specified output in a single pass
+     *
+     * @param values token name to value writer map (token names without the delimiters)
+     * @param out where to write the rendered template
+     * @throws IOException on IO error from the output
+     */
+    public void render(final Map<String, TokenWriter> values, final JSWriter out) throws IOException {
+        for (int i = 0; i < m_tokens.length; i++) {
+            out.write(m_literals[i]);
+            final TokenWriter value = values.get(m_tokens[i]);
+            if (value == null) {
+                out.append(S_DELIMITER).append(m_tokens[i]).append(S_DELIMITER);
+            } else {
+                value.write(out);
+            }
+        }
+        out.write(m_literals[m_tokens.length]);
+    }
+
+    /**
+     * @return the token names in order of occurrence (a token occurring multiple times is listed multiple times)
+     */
+    public String[] getTokens() {
+        return m_tokens.clone();
+    }
+
+    /**
+     * @return the total length of the literal (non token) text
+     */
+    public int getLiteralLength() {
+        return m_literalLength;
+    }
+}
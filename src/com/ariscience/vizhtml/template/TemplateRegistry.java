@@ -0,0 +1,164 @@
+package com.ariscience.vizhtml.template;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <pre>
+ * Thread safe registry of chart templates
+ *
+ * Each chart class registers the resource path of its template (see resources/com/ariscience/vizhtml/template/*)
+ * in its static initializer. The template file is read and parsed the first time a chart of that class is
+ * generated (or when {@link #warmUp(Class[])} is called) and cached, so a process only pays for the templates
+ * it actually uses. Chart classes sharing a template file share the parsed template.
+ *
+ * A class without its own registration uses the template of its nearest registered superclass.
+ * </pre>
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+public final class TemplateRegistry {
+
+    /**
+     * chart class to template resource path
+     */
+    private static final Map<Class<?>, String> s_paths = new ConcurrentHashMap<>();
+
+    /**
+     * chart class to template explicitly set with {@link #register(Class, Template)}
+     */
+    private static final Map<Class<?>, Template> s_custom = new ConcurrentHashMap<>();
+
+    /**
+     * resource path to parsed template
+     */
+    private static final Map<String, Template> s_loaded = new ConcurrentHashMap<>();
+
+    /**
+     * chart class to resolved template (cache of lookups including superclasses)
+     */
+    private static final Map<Class<?>, Template> s_resolved = new ConcurrentHashMap<>();
+
+    /**
+     * prevent external instantiation
+     */
+    private TemplateRegistry() {
+    }
+
+    /**
+     * Registers the template resource of a chart class. The template is loaded on first use.
+     *
+     * @param chartClass the chart class
+     * @param resourcePath class path resource of the template e.g. com/ariscience/vizhtml/template/gchart/lineTemplate.html
+     */
+    public static void register(final Class<?> chartClass, final String resourcePath) {
+        if (chartClass == null || resourcePath == null) {
+            throw new IllegalArgumentException("chart class and resource path cannot be null");
+        }
+        s_custom.remove(chartClass);
+        s_paths.put(chartClass, resourcePath);
+        s_resolved.clear();
+    }
+
+    /**
+     * Registers a custom template for a chart class (e.g. a modified copy of the default template)
+     *
+     * @param chartClass the chart class
+     * @param template the template to use for the chart class (and subclasses without their own registration)
+     */
+    public static void register(final Class<?> chartClass, final Template template) {
+        if (chartClass == null || template == null) {
+            throw new IllegalArgumentException("chart class and template cannot be null");
+        }
+        s_custom.put(chartClass, template);
+        s_resolved.clear();
+    }
+
+    /**
+     * Gets the template of a chart class, loading it if needed
+     *
+     * @param chartClass the chart class
+     * @return the parsed template
+     * @throws IllegalArgumentException if no template is registered for the class or any of its superclasses
+     */
+    public static Template getTemplate(final Class<?> chartClass) {
+        final Template template = s_resolved.get(chartClass);
+        if (template != null) {
+            return template;
+        }
+        return s_resolved.computeIfAbsent(chartClass, TemplateRegistry::resolve);
+    }
+
+    /**
+     * Gets the template of a resource path, loading it if needed
+     *
+     * @param resourcePath class path resource of the template
+     * @return the parsed template
+     */
+    public static Template getTemplate(final String resourcePath) {
+        final Template template = s_loaded.get(resourcePath);
+        if (template != null) {
+            return template;
+        }
+        return s_loaded.computeIfAbsent(resourcePath, TemplateRegistry::load);
+    }
+
+    /**
+     * Initializes the specified chart classes (so they register their templates) and loads their templates,
+     * e.g. at application startup to avoid the load on the first generate.
+     * Without arguments, loads all templates registered so far.
+     *
+     * @param chartClasses chart classes to warm up
+     */
+    public static void warmUp(final Class<?>... chartClasses) {
+        if (chartClasses.length == 0) {
+            for (Class<?> chartClass : s_paths.keySet()) {
+                getTemplate(chartClass);
+            }
+            return;
+        }
+        for (Class<?> chartClass : chartClasses) {
+            try {
+                Class.forName(chartClass.getName(), true, chartClass.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                throw new RuntimeException("Could not initialize " + chartClass.getName() + ":" + e.getMessage());
+            }
+            getTemplate(chartClass);
+        }
+    }
+
+    /**
+     * Finds the template registered for the class or its nearest registered superclass
+     *
+     * @param chartClass the chart class
+     * @return the parsed template
+     */
+    private static Template resolve(final Class<?> chartClass) {
+        for (Class<?> c = chartClass; c != null; c = c.getSuperclass()) {
+            final Template custom = s_custom.get(c);
+            if (custom != null) {
+                return custom;
+            }
+            final String path = s_paths.get(c);
+            if (path != null) {
+                return getTemplate(path);
+            }
+        }
+        throw new IllegalArgumentException("No template registered for " + chartClass.getName());
+    }
+
+    /**
+     * Reads and parses a template resource
+     *
+     * @param resourcePath class path resource of the template
+     * @return the parsed template
+     */
+    private static Template load(final String resourcePath) {
+        try {
+            return Template.load(TemplateRegistry.class.getClassLoader().getResourceAsStream(resourcePath));
+        } catch (IOException e) {
+            throw new RuntimeException("Could not load template " + resourcePath + " due to IOE:" + e.getMessage());
+        }
+    }
+}
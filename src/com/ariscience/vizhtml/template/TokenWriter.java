@@ -0,0 +1,36 @@
+package com.ariscience.vizhtml.template;
+
+import java.io.IOException;
+
+/**
+ * <pre>
+ * Writes the value of a template token directly to the output
+ *
+ * Lets large data tokens (e.g. $DATA$) be serialized straight into the rendered page instead of being
+ * materialized as a String first. See {@link JSWriter} for the number and array helpers.
+ * </pre>
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+@FunctionalInterface
+public interface TokenWriter {
+
+    /**
+     * Writes the token value
+     *
+     * @param out where to write the value
+     * @throws IOException on IO error from the output
+     */
+    void write(JSWriter out) throws IOException;
+
+    /**
+     * @param value a fixed token value
+     * @return writer that writes the value verbatim, or null if value is null (i.e. token is left as is)
+     */
+    static TokenWriter of(final String value) {
+        if (value == null) {
+            return null;
+        }
+        return out -> out.write(value);
+    }
+}
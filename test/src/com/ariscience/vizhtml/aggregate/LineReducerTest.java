@@ -0,0 +1,69 @@
+package com.ariscience.vizhtml.aggregate;
+
+import com.ariscience.vizhtml.VizHTMLEnums.LineReduction;
+import com.ariscience.vizhtml.data.NumericData;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * <pre>
+ * Tests LineReducer.selectUnion on the data of gchart line charts: no reduction, no series and one series
+ * </pre>
+ *
+ * (c) 2021 Alamgir Research Inc. Proprietary and Confidential. Protected by US and International intellectual property, copyright and trade secret laws. Do not distribute, show or otherwise provide access without written authorization from the President of Alamgir Research Inc.
+ */
+public class LineReducerTest {
+
+    /**
+     * chart width (px) of the tests
+     */
+    private static final int S_WIDTH = 10;
+
+    /**
+     * No reduction keeps all the points without looking at the data
+     */
+    @Test
+    public void testSelectUnionNone() {
+        final NumericData y = NumericData.of(new double[][]{getSeries(1000), getSeries(1000)});
+        assertNull(LineReducer.selectUnion(LineReduction.NONE, null, y, 0, S_WIDTH));
+        assertNull(LineReducer.selectUnion(null, null, y, 0, S_WIDTH));
+    }
+
+    /**
+     * A chart without series keeps all (no) points with every reduction
+     */
+    @Test
+    public void testSelectUnionNoSeries() {
+        final NumericData y = NumericData.of(new Number[0][]);
+        assertNull(LineReducer.selectUnion(LineReduction.NONE, null, y, 0, S_WIDTH));
+        assertNull(LineReducer.selectUnion(LineReduction.LTTB, null, y, 0, S_WIDTH));
+        assertNull(LineReducer.selectUnion(LineReduction.M4, null, y, 0, S_WIDTH));
+    }
+
+    /**
+     * One series is reduced like LineReducer.select
+     */
+    @Test
+    public void testSelectUnionOneSeries() {
+        final NumericData y = NumericData.of(new double[][]{getSeries(1000)});
+        for (LineReduction reduction : new LineReduction[]{LineReduction.LTTB, LineReduction.M4}) {
+            assertArrayEquals(reduction.name(), LineReducer.select(reduction, null, y, 0, 0, S_WIDTH),
+                    LineReducer.selectUnion(reduction, null, y, 0, S_WIDTH));
+        }
+        assertNull(LineReducer.selectUnion(LineReduction.NONE, null, y, 0, S_WIDTH));
+    }
+
+    /**
+     * @param length number of points
+     * @return a series with a spike every 100 points
+     */
+    private static double[] getSeries(final int length) {
+        final double[] series = new double[length];
+        for (int i = 0; i < length; i++) {
+            series[i] = i % 100 == 50 ? 100 : Math.sin(i * 0.1);
+        }
+        return series;
+    }
+}